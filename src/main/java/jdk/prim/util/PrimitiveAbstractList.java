@@ -1,15 +1,4301 @@
 package jdk.prim.util;
 
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
+import jdk.prim.util.stream.PrimitiveStream;
+
 /**
  * A pseudo-package for holding the primitive declaration with functionalities and syntax of {@link java.util.AbstractList AbstractList}
  */
 public final class PrimitiveAbstractList {
-    // public static abstract class OfDouble implements
-    // public static abstract class OfLong implements
-    // public static abstract class OfInt implements
-    // public static abstract class OfFloat implements
-    // public static abstract class OfChar implements
-    // public static abstract class OfShort implements
-    // public static abstract class OfByte implements
-    // public static abstract class OfBoolean implements
+    /**
+     * Created as a base class for generic implementation of {@code double} lists.
+     * To implement an unmodifiable list, the programmer needs only to extend this
+     * class and provide implementations for the {@link #getDouble(int)} and
+     * {@link java.util.Collection#size() size()} methods. A modifiable list
+     * must additionally override {@link #setDouble(int, double)}, and a variable-size
+     * list must also override {@link #addDouble(int, double)} and {@link #removeElementAtIndex(int)}.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractList}
+     */
+    public static abstract class OfDouble extends PrimitiveAbstractCollection.OfDouble implements PrimitiveList.OfDouble {
+        /**
+         * The number of times this list has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         * @see java.util.AbstractList#modCount
+         */
+        protected transient int modCount = 0;
+
+        /** Constructor for subclasses */
+        protected OfDouble() {}
+
+        ///////////// Query operations
+
+        @Override
+        public boolean containsDouble(double value) { return indexOfDouble(value) >= 0; }
+
+        @Override
+        public boolean containsAllDouble(PrimitiveCollection.OfDouble c) {
+            var it = c.iteratorDouble();
+            while(it.hasNext()) if(!containsDouble(it.nextDouble())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public int indexOfDouble(double e) {
+            var it = listIteratorDouble();
+            while(it.hasNext()) {
+                double x = it.nextDouble();
+                if(x == e || java.lang.Double.isNaN(x) && java.lang.Double.isNaN(e)) return it.previousIndex();
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfDouble(double e) {
+            var it = listIteratorDouble(size());
+            while(it.hasPrevious()) {
+                double x = it.previousDouble();
+                if(x == e || java.lang.Double.isNaN(x) && java.lang.Double.isNaN(e)) return it.nextIndex();
+            }
+            return -1;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addDouble(double e) {
+            addDouble(size(), e);
+            return true;
+        }
+
+        @Override
+        public void addDouble(int index, double e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public double setDouble(int index, double e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public double removeElementAtIndex(int i) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeDouble(double e) {
+            int i = indexOfDouble(e);
+            if(i < 0) return false;
+            removeElementAtIndex(i);
+            return true;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllDouble(PrimitiveCollection.OfDouble c) { return addAllDouble(size(), c); }
+
+        @Override
+        public boolean addAllDouble(int index, PrimitiveCollection.OfDouble c) {
+            rangeCheckForAdd(index);
+            boolean modified = false;
+            var it = c.iteratorDouble();
+            while(it.hasNext()) {
+                addDouble(index++, it.nextDouble());
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Double> c) { return addAll(size(), c); }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends java.lang.Double> c) {
+            if(c instanceof PrimitiveCollection.OfDouble p) return addAllDouble(index, p);
+            rangeCheckForAdd(index);
+            boolean modified = false;
+            for(java.lang.Double e : c) {
+                addDouble(index++, e);
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAllDouble(PrimitiveCollection.OfDouble c) {
+            Objects.requireNonNull(c);
+            return removeIfDouble(c::containsDouble);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfDouble(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllDouble(PrimitiveCollection.OfDouble c) {
+            Objects.requireNonNull(c);
+            return removeIfDouble(e -> !c.containsDouble(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfDouble(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() { removeRange(0, size()); }
+
+        /**
+         * Removes from this list all of the elements whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+         * This implementation gets a list iterator positioned before {@code fromIndex},
+         * and repeatedly calls {@code nextDouble} followed by {@code remove}.
+         *
+         * @param fromIndex index of first element to be removed
+         * @param toIndex index after last element to be removed
+         * @see java.util.AbstractList#removeRange(int, int)
+         */
+        protected void removeRange(int fromIndex, int toIndex) {
+            var it = listIteratorDouble(fromIndex);
+            for(int i = 0, n = toIndex - fromIndex; i < n; i++) {
+                it.nextDouble();
+                it.remove();
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public double[] toArrayDouble() {
+            double[] a = new double[size()];
+            var it = iteratorDouble();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextDouble();
+            return a;
+        }
+
+        @Override
+        public double[] toArrayDouble(double[] array) {
+            int size = size();
+            if(array.length < size) return toArrayDouble();
+            var it = iteratorDouble();
+            for(int i = 0; i < size; i++) array[i] = it.nextDouble();
+            return array;
+        }
+
+        @Override
+        public java.lang.Double[] toArray() {
+            double[] a = toArrayDouble();
+            java.lang.Double[] r = new java.lang.Double[a.length];
+            for(int i = 0; i < a.length; i++) r[i] = a[i];
+            return r;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            double[] src = toArrayDouble();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Double.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfDouble iteratorDouble() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfDouble listIteratorDouble() { return listIteratorDouble(0); }
+
+        @Override
+        public PrimitiveListIterator.OfDouble listIteratorDouble(int from) {
+            rangeCheckForAdd(from);
+            return new ListItr(from);
+        }
+
+        @Override
+        public PrimitiveSpliterator.OfDouble spliteratorDouble() {
+            return new PrimitiveCollectionSpliterator.OfDouble(this, Spliterator.ORDERED);
+        }
+
+        @Override
+        public PrimitiveStream.OfDouble streamDouble() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamDouble'");
+        }
+
+        @Override
+        public PrimitiveStream.OfDouble parallelStreamDouble() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamDouble'");
+        }
+
+        private class Itr implements PrimitiveIterator.OfDouble {
+            /** Index of element to be returned by subsequent call to next. */
+            int cursor = 0;
+            /** Index of element returned by most recent call to next or previous. Reset to -1 by a call to remove. */
+            int lastRet = -1;
+            /** The modCount value that the iterator believes that the backing list should have. */
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor != size(); }
+
+            public double nextDouble() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    double next = getDouble(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfDouble.this.removeElementAtIndex(lastRet);
+                    if(lastRet < cursor) cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfDouble {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) { cursor = index; }
+
+            public boolean hasNext() { return cursor != size(); }
+
+            public double nextDouble() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    double next = getDouble(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public double previousDouble() {
+                checkForComodification();
+                try {
+                    int i = cursor - 1;
+                    double previous = getDouble(i);
+                    lastRet = cursor = i;
+                    return previous;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfDouble.this.removeElementAtIndex(lastRet);
+                    if(lastRet < cursor) cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void setDouble(double e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfDouble.this.setDouble(lastRet, e);
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void addDouble(double e) {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    PrimitiveAbstractList.OfDouble.this.addDouble(i, e);
+                    lastRet = -1;
+                    cursor = i + 1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        ///////////// Views
+
+        @Override
+        public PrimitiveList.OfDouble subListDouble(int from, int to) {
+            Objects.checkFromToIndex(from, to, size());
+            return new SubList(this, from, to);
+        }
+
+        private static class SubList extends PrimitiveAbstractList.OfDouble {
+            private final PrimitiveAbstractList.OfDouble root;
+            private final SubList parent;
+            private final int offset;
+            private int size;
+
+            SubList(PrimitiveAbstractList.OfDouble root, int from, int to) {
+                this.root = root;
+                this.parent = null;
+                this.offset = from;
+                this.size = to - from;
+                this.modCount = root.modCount;
+            }
+
+            private SubList(SubList parent, int from, int to) {
+                this.root = parent.root;
+                this.parent = parent;
+                this.offset = parent.offset + from;
+                this.size = to - from;
+                this.modCount = root.modCount;
+            }
+
+            public double getDouble(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.getDouble(offset + index);
+            }
+
+            public double setDouble(int index, double e) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.setDouble(offset + index, e);
+            }
+
+            public int size() {
+                checkForComodification();
+                return size;
+            }
+
+            public void addDouble(int index, double e) {
+                rangeCheckForAdd(index);
+                checkForComodification();
+                root.addDouble(offset + index, e);
+                updateSizeAndModCount(1);
+            }
+
+            public double removeElementAtIndex(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                double result = root.removeElementAtIndex(offset + index);
+                updateSizeAndModCount(-1);
+                return result;
+            }
+
+            protected void removeRange(int fromIndex, int toIndex) {
+                checkForComodification();
+                root.removeRange(offset + fromIndex, offset + toIndex);
+                updateSizeAndModCount(fromIndex - toIndex);
+            }
+
+            public boolean addAllDouble(int index, PrimitiveCollection.OfDouble c) {
+                rangeCheckForAdd(index);
+                int cSize = c.size();
+                if(cSize == 0) return false;
+                checkForComodification();
+                root.addAllDouble(offset + index, c);
+                updateSizeAndModCount(cSize);
+                return true;
+            }
+
+            public PrimitiveListIterator.OfDouble listIteratorDouble(int index) {
+                checkForComodification();
+                rangeCheckForAdd(index);
+                return new PrimitiveListIterator.OfDouble() {
+                    private final PrimitiveListIterator.OfDouble i = root.listIteratorDouble(offset + index);
+
+                    public boolean hasNext() { return nextIndex() < size; }
+
+                    public double nextDouble() {
+                        if(hasNext()) return i.nextDouble();
+                        throw new NoSuchElementException();
+                    }
+
+                    public boolean hasPrevious() { return previousIndex() >= 0; }
+
+                    public double previousDouble() {
+                        if(hasPrevious()) return i.previousDouble();
+                        throw new NoSuchElementException();
+                    }
+
+                    public int nextIndex() { return i.nextIndex() - offset; }
+
+                    public int previousIndex() { return i.previousIndex() - offset; }
+
+                    public void remove() {
+                        i.remove();
+                        updateSizeAndModCount(-1);
+                    }
+
+                    public void setDouble(double e) { i.setDouble(e); }
+
+                    public void addDouble(double e) {
+                        i.addDouble(e);
+                        updateSizeAndModCount(1);
+                    }
+                };
+            }
+
+            public PrimitiveList.OfDouble subListDouble(int from, int to) {
+                Objects.checkFromToIndex(from, to, size);
+                return new SubList(this, from, to);
+            }
+
+            private void checkForComodification() {
+                if(root.modCount != this.modCount) throw new ConcurrentModificationException();
+            }
+
+            private void updateSizeAndModCount(int sizeChange) {
+                SubList slist = this;
+                do {
+                    slist.size += sizeChange;
+                    slist.modCount = root.modCount;
+                    slist = slist.parent;
+                } while (slist != null);
+            }
+        }
+
+        void rangeCheckForAdd(int index) {
+            if(index < 0 || index > size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object obj) {
+            if(obj == this) return true;
+            if(!(obj instanceof List)) return false;
+            var e1 = listIteratorDouble();
+            if(obj instanceof PrimitiveList.OfDouble l) {
+                var e2 = l.listIteratorDouble();
+                while(e1.hasNext() && e2.hasNext()) {
+                    double o1 = e1.nextDouble(), o2 = e2.nextDouble();
+                    if(!((o1 == o2 || java.lang.Double.isNaN(o1) && java.lang.Double.isNaN(o2)))) return false;
+                }
+                return !(e1.hasNext() || e2.hasNext());
+            }
+            var e2 = ((List<?>) obj).listIterator();
+            while(e1.hasNext() && e2.hasNext()) {
+                double o1 = e1.nextDouble();
+                Object o2 = e2.next();
+                if(!java.lang.Double.valueOf(o1).equals(o2)) return false;
+            }
+            return !(e1.hasNext() || e2.hasNext());
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = 1;
+            var it = iteratorDouble();
+            while(it.hasNext()) hashCode = 31 * hashCode + java.lang.Double.hashCode(it.nextDouble());
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            var it = iteratorDouble();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextDouble());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+    /**
+     * Created as a base class for generic implementation of {@code long} lists.
+     * To implement an unmodifiable list, the programmer needs only to extend this
+     * class and provide implementations for the {@link #getLong(int)} and
+     * {@link java.util.Collection#size() size()} methods. A modifiable list
+     * must additionally override {@link #setLong(int, long)}, and a variable-size
+     * list must also override {@link #addLong(int, long)} and {@link #removeElementAtIndex(int)}.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractList}
+     */
+    public static abstract class OfLong extends PrimitiveAbstractCollection.OfLong implements PrimitiveList.OfLong {
+        /**
+         * The number of times this list has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         * @see java.util.AbstractList#modCount
+         */
+        protected transient int modCount = 0;
+
+        /** Constructor for subclasses */
+        protected OfLong() {}
+
+        ///////////// Query operations
+
+        @Override
+        public boolean containsLong(long value) { return indexOfLong(value) >= 0; }
+
+        @Override
+        public boolean containsAllLong(PrimitiveCollection.OfLong c) {
+            var it = c.iteratorLong();
+            while(it.hasNext()) if(!containsLong(it.nextLong())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public int indexOfLong(long e) {
+            var it = listIteratorLong();
+            while(it.hasNext()) if(it.nextLong() == e) return it.previousIndex();
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfLong(long e) {
+            var it = listIteratorLong(size());
+            while(it.hasPrevious()) if(it.previousLong() == e) return it.nextIndex();
+            return -1;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addLong(long e) {
+            addLong(size(), e);
+            return true;
+        }
+
+        @Override
+        public void addLong(int index, long e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public long setLong(int index, long e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public long removeElementAtIndex(int i) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeLong(long e) {
+            int i = indexOfLong(e);
+            if(i < 0) return false;
+            removeElementAtIndex(i);
+            return true;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllLong(PrimitiveCollection.OfLong c) { return addAllLong(size(), c); }
+
+        @Override
+        public boolean addAllLong(int index, PrimitiveCollection.OfLong c) {
+            rangeCheckForAdd(index);
+            boolean modified = false;
+            var it = c.iteratorLong();
+            while(it.hasNext()) {
+                addLong(index++, it.nextLong());
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Long> c) { return addAll(size(), c); }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends java.lang.Long> c) {
+            if(c instanceof PrimitiveCollection.OfLong p) return addAllLong(index, p);
+            rangeCheckForAdd(index);
+            boolean modified = false;
+            for(java.lang.Long e : c) {
+                addLong(index++, e);
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAllLong(PrimitiveCollection.OfLong c) {
+            Objects.requireNonNull(c);
+            return removeIfLong(c::containsLong);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfLong(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllLong(PrimitiveCollection.OfLong c) {
+            Objects.requireNonNull(c);
+            return removeIfLong(e -> !c.containsLong(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfLong(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() { removeRange(0, size()); }
+
+        /**
+         * Removes from this list all of the elements whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+         * This implementation gets a list iterator positioned before {@code fromIndex},
+         * and repeatedly calls {@code nextLong} followed by {@code remove}.
+         *
+         * @param fromIndex index of first element to be removed
+         * @param toIndex index after last element to be removed
+         * @see java.util.AbstractList#removeRange(int, int)
+         */
+        protected void removeRange(int fromIndex, int toIndex) {
+            var it = listIteratorLong(fromIndex);
+            for(int i = 0, n = toIndex - fromIndex; i < n; i++) {
+                it.nextLong();
+                it.remove();
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public long[] toArrayLong() {
+            long[] a = new long[size()];
+            var it = iteratorLong();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextLong();
+            return a;
+        }
+
+        @Override
+        public long[] toArrayLong(long[] array) {
+            int size = size();
+            if(array.length < size) return toArrayLong();
+            var it = iteratorLong();
+            for(int i = 0; i < size; i++) array[i] = it.nextLong();
+            return array;
+        }
+
+        @Override
+        public java.lang.Long[] toArray() {
+            long[] a = toArrayLong();
+            java.lang.Long[] r = new java.lang.Long[a.length];
+            for(int i = 0; i < a.length; i++) r[i] = a[i];
+            return r;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            long[] src = toArrayLong();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Long.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfLong iteratorLong() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfLong listIteratorLong() { return listIteratorLong(0); }
+
+        @Override
+        public PrimitiveListIterator.OfLong listIteratorLong(int from) {
+            rangeCheckForAdd(from);
+            return new ListItr(from);
+        }
+
+        @Override
+        public PrimitiveSpliterator.OfLong spliteratorLong() {
+            return new PrimitiveCollectionSpliterator.OfLong(this, Spliterator.ORDERED);
+        }
+
+        @Override
+        public PrimitiveStream.OfLong streamLong() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamLong'");
+        }
+
+        @Override
+        public PrimitiveStream.OfLong parallelStreamLong() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamLong'");
+        }
+
+        private class Itr implements PrimitiveIterator.OfLong {
+            /** Index of element to be returned by subsequent call to next. */
+            int cursor = 0;
+            /** Index of element returned by most recent call to next or previous. Reset to -1 by a call to remove. */
+            int lastRet = -1;
+            /** The modCount value that the iterator believes that the backing list should have. */
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor != size(); }
+
+            public long nextLong() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    long next = getLong(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfLong.this.removeElementAtIndex(lastRet);
+                    if(lastRet < cursor) cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfLong {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) { cursor = index; }
+
+            public boolean hasNext() { return cursor != size(); }
+
+            public long nextLong() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    long next = getLong(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public long previousLong() {
+                checkForComodification();
+                try {
+                    int i = cursor - 1;
+                    long previous = getLong(i);
+                    lastRet = cursor = i;
+                    return previous;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfLong.this.removeElementAtIndex(lastRet);
+                    if(lastRet < cursor) cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void setLong(long e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfLong.this.setLong(lastRet, e);
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void addLong(long e) {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    PrimitiveAbstractList.OfLong.this.addLong(i, e);
+                    lastRet = -1;
+                    cursor = i + 1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        ///////////// Views
+
+        @Override
+        public PrimitiveList.OfLong subListLong(int from, int to) {
+            Objects.checkFromToIndex(from, to, size());
+            return new SubList(this, from, to);
+        }
+
+        private static class SubList extends PrimitiveAbstractList.OfLong {
+            private final PrimitiveAbstractList.OfLong root;
+            private final SubList parent;
+            private final int offset;
+            private int size;
+
+            SubList(PrimitiveAbstractList.OfLong root, int from, int to) {
+                this.root = root;
+                this.parent = null;
+                this.offset = from;
+                this.size = to - from;
+                this.modCount = root.modCount;
+            }
+
+            private SubList(SubList parent, int from, int to) {
+                this.root = parent.root;
+                this.parent = parent;
+                this.offset = parent.offset + from;
+                this.size = to - from;
+                this.modCount = root.modCount;
+            }
+
+            public long getLong(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.getLong(offset + index);
+            }
+
+            public long setLong(int index, long e) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.setLong(offset + index, e);
+            }
+
+            public int size() {
+                checkForComodification();
+                return size;
+            }
+
+            public void addLong(int index, long e) {
+                rangeCheckForAdd(index);
+                checkForComodification();
+                root.addLong(offset + index, e);
+                updateSizeAndModCount(1);
+            }
+
+            public long removeElementAtIndex(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                long result = root.removeElementAtIndex(offset + index);
+                updateSizeAndModCount(-1);
+                return result;
+            }
+
+            protected void removeRange(int fromIndex, int toIndex) {
+                checkForComodification();
+                root.removeRange(offset + fromIndex, offset + toIndex);
+                updateSizeAndModCount(fromIndex - toIndex);
+            }
+
+            public boolean addAllLong(int index, PrimitiveCollection.OfLong c) {
+                rangeCheckForAdd(index);
+                int cSize = c.size();
+                if(cSize == 0) return false;
+                checkForComodification();
+                root.addAllLong(offset + index, c);
+                updateSizeAndModCount(cSize);
+                return true;
+            }
+
+            public PrimitiveListIterator.OfLong listIteratorLong(int index) {
+                checkForComodification();
+                rangeCheckForAdd(index);
+                return new PrimitiveListIterator.OfLong() {
+                    private final PrimitiveListIterator.OfLong i = root.listIteratorLong(offset + index);
+
+                    public boolean hasNext() { return nextIndex() < size; }
+
+                    public long nextLong() {
+                        if(hasNext()) return i.nextLong();
+                        throw new NoSuchElementException();
+                    }
+
+                    public boolean hasPrevious() { return previousIndex() >= 0; }
+
+                    public long previousLong() {
+                        if(hasPrevious()) return i.previousLong();
+                        throw new NoSuchElementException();
+                    }
+
+                    public int nextIndex() { return i.nextIndex() - offset; }
+
+                    public int previousIndex() { return i.previousIndex() - offset; }
+
+                    public void remove() {
+                        i.remove();
+                        updateSizeAndModCount(-1);
+                    }
+
+                    public void setLong(long e) { i.setLong(e); }
+
+                    public void addLong(long e) {
+                        i.addLong(e);
+                        updateSizeAndModCount(1);
+                    }
+                };
+            }
+
+            public PrimitiveList.OfLong subListLong(int from, int to) {
+                Objects.checkFromToIndex(from, to, size);
+                return new SubList(this, from, to);
+            }
+
+            private void checkForComodification() {
+                if(root.modCount != this.modCount) throw new ConcurrentModificationException();
+            }
+
+            private void updateSizeAndModCount(int sizeChange) {
+                SubList slist = this;
+                do {
+                    slist.size += sizeChange;
+                    slist.modCount = root.modCount;
+                    slist = slist.parent;
+                } while (slist != null);
+            }
+        }
+
+        void rangeCheckForAdd(int index) {
+            if(index < 0 || index > size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object obj) {
+            if(obj == this) return true;
+            if(!(obj instanceof List)) return false;
+            var e1 = listIteratorLong();
+            if(obj instanceof PrimitiveList.OfLong l) {
+                var e2 = l.listIteratorLong();
+                while(e1.hasNext() && e2.hasNext()) {
+                    long o1 = e1.nextLong(), o2 = e2.nextLong();
+                    if(!(o1 == o2)) return false;
+                }
+                return !(e1.hasNext() || e2.hasNext());
+            }
+            var e2 = ((List<?>) obj).listIterator();
+            while(e1.hasNext() && e2.hasNext()) {
+                long o1 = e1.nextLong();
+                Object o2 = e2.next();
+                if(!java.lang.Long.valueOf(o1).equals(o2)) return false;
+            }
+            return !(e1.hasNext() || e2.hasNext());
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = 1;
+            var it = iteratorLong();
+            while(it.hasNext()) hashCode = 31 * hashCode + java.lang.Long.hashCode(it.nextLong());
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            var it = iteratorLong();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextLong());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+    /**
+     * Created as a base class for generic implementation of {@code int} lists.
+     * To implement an unmodifiable list, the programmer needs only to extend this
+     * class and provide implementations for the {@link #getInt(int)} and
+     * {@link java.util.Collection#size() size()} methods. A modifiable list
+     * must additionally override {@link #setInt(int, int)}, and a variable-size
+     * list must also override {@link #addInt(int, int)} and {@link #removeElementAtIndex(int)}.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractList}
+     */
+    public static abstract class OfInt extends PrimitiveAbstractCollection.OfInt implements PrimitiveList.OfInt {
+        /**
+         * The number of times this list has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         * @see java.util.AbstractList#modCount
+         */
+        protected transient int modCount = 0;
+
+        /** Constructor for subclasses */
+        protected OfInt() {}
+
+        ///////////// Query operations
+
+        @Override
+        public boolean containsInt(int value) { return indexOfInt(value) >= 0; }
+
+        @Override
+        public boolean containsAllInt(PrimitiveCollection.OfInt c) {
+            var it = c.iteratorInt();
+            while(it.hasNext()) if(!containsInt(it.nextInt())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public int indexOfInt(int e) {
+            var it = listIteratorInt();
+            while(it.hasNext()) if(it.nextInt() == e) return it.previousIndex();
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfInt(int e) {
+            var it = listIteratorInt(size());
+            while(it.hasPrevious()) if(it.previousInt() == e) return it.nextIndex();
+            return -1;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addInt(int e) {
+            addInt(size(), e);
+            return true;
+        }
+
+        @Override
+        public void addInt(int index, int e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public int setInt(int index, int e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public int removeElementAtIndex(int i) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeInt(int e) {
+            int i = indexOfInt(e);
+            if(i < 0) return false;
+            removeElementAtIndex(i);
+            return true;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllInt(PrimitiveCollection.OfInt c) { return addAllInt(size(), c); }
+
+        @Override
+        public boolean addAllInt(int index, PrimitiveCollection.OfInt c) {
+            rangeCheckForAdd(index);
+            boolean modified = false;
+            var it = c.iteratorInt();
+            while(it.hasNext()) {
+                addInt(index++, it.nextInt());
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Integer> c) { return addAll(size(), c); }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends java.lang.Integer> c) {
+            if(c instanceof PrimitiveCollection.OfInt p) return addAllInt(index, p);
+            rangeCheckForAdd(index);
+            boolean modified = false;
+            for(java.lang.Integer e : c) {
+                addInt(index++, e);
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAllInt(PrimitiveCollection.OfInt c) {
+            Objects.requireNonNull(c);
+            return removeIfInt(c::containsInt);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfInt(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllInt(PrimitiveCollection.OfInt c) {
+            Objects.requireNonNull(c);
+            return removeIfInt(e -> !c.containsInt(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfInt(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() { removeRange(0, size()); }
+
+        /**
+         * Removes from this list all of the elements whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+         * This implementation gets a list iterator positioned before {@code fromIndex},
+         * and repeatedly calls {@code nextInt} followed by {@code remove}.
+         *
+         * @param fromIndex index of first element to be removed
+         * @param toIndex index after last element to be removed
+         * @see java.util.AbstractList#removeRange(int, int)
+         */
+        protected void removeRange(int fromIndex, int toIndex) {
+            var it = listIteratorInt(fromIndex);
+            for(int i = 0, n = toIndex - fromIndex; i < n; i++) {
+                it.nextInt();
+                it.remove();
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public int[] toArrayInt() {
+            int[] a = new int[size()];
+            var it = iteratorInt();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextInt();
+            return a;
+        }
+
+        @Override
+        public int[] toArrayInt(int[] array) {
+            int size = size();
+            if(array.length < size) return toArrayInt();
+            var it = iteratorInt();
+            for(int i = 0; i < size; i++) array[i] = it.nextInt();
+            return array;
+        }
+
+        @Override
+        public java.lang.Integer[] toArray() {
+            int[] a = toArrayInt();
+            java.lang.Integer[] r = new java.lang.Integer[a.length];
+            for(int i = 0; i < a.length; i++) r[i] = a[i];
+            return r;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            int[] src = toArrayInt();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Integer.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfInt iteratorInt() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfInt listIteratorInt() { return listIteratorInt(0); }
+
+        @Override
+        public PrimitiveListIterator.OfInt listIteratorInt(int from) {
+            rangeCheckForAdd(from);
+            return new ListItr(from);
+        }
+
+        @Override
+        public PrimitiveSpliterator.OfInt spliteratorInt() {
+            return new PrimitiveCollectionSpliterator.OfInt(this, Spliterator.ORDERED);
+        }
+
+        @Override
+        public PrimitiveStream.OfInt streamInt() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamInt'");
+        }
+
+        @Override
+        public PrimitiveStream.OfInt parallelStreamInt() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamInt'");
+        }
+
+        private class Itr implements PrimitiveIterator.OfInt {
+            /** Index of element to be returned by subsequent call to next. */
+            int cursor = 0;
+            /** Index of element returned by most recent call to next or previous. Reset to -1 by a call to remove. */
+            int lastRet = -1;
+            /** The modCount value that the iterator believes that the backing list should have. */
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor != size(); }
+
+            public int nextInt() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    int next = getInt(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfInt.this.removeElementAtIndex(lastRet);
+                    if(lastRet < cursor) cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfInt {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) { cursor = index; }
+
+            public boolean hasNext() { return cursor != size(); }
+
+            public int nextInt() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    int next = getInt(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public int previousInt() {
+                checkForComodification();
+                try {
+                    int i = cursor - 1;
+                    int previous = getInt(i);
+                    lastRet = cursor = i;
+                    return previous;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfInt.this.removeElementAtIndex(lastRet);
+                    if(lastRet < cursor) cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void setInt(int e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfInt.this.setInt(lastRet, e);
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void addInt(int e) {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    PrimitiveAbstractList.OfInt.this.addInt(i, e);
+                    lastRet = -1;
+                    cursor = i + 1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        ///////////// Views
+
+        @Override
+        public PrimitiveList.OfInt subListInt(int from, int to) {
+            Objects.checkFromToIndex(from, to, size());
+            return new SubList(this, from, to);
+        }
+
+        private static class SubList extends PrimitiveAbstractList.OfInt {
+            private final PrimitiveAbstractList.OfInt root;
+            private final SubList parent;
+            private final int offset;
+            private int size;
+
+            SubList(PrimitiveAbstractList.OfInt root, int from, int to) {
+                this.root = root;
+                this.parent = null;
+                this.offset = from;
+                this.size = to - from;
+                this.modCount = root.modCount;
+            }
+
+            private SubList(SubList parent, int from, int to) {
+                this.root = parent.root;
+                this.parent = parent;
+                this.offset = parent.offset + from;
+                this.size = to - from;
+                this.modCount = root.modCount;
+            }
+
+            public int getInt(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.getInt(offset + index);
+            }
+
+            public int setInt(int index, int e) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.setInt(offset + index, e);
+            }
+
+            public int size() {
+                checkForComodification();
+                return size;
+            }
+
+            public void addInt(int index, int e) {
+                rangeCheckForAdd(index);
+                checkForComodification();
+                root.addInt(offset + index, e);
+                updateSizeAndModCount(1);
+            }
+
+            public int removeElementAtIndex(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                int result = root.removeElementAtIndex(offset + index);
+                updateSizeAndModCount(-1);
+                return result;
+            }
+
+            protected void removeRange(int fromIndex, int toIndex) {
+                checkForComodification();
+                root.removeRange(offset + fromIndex, offset + toIndex);
+                updateSizeAndModCount(fromIndex - toIndex);
+            }
+
+            public boolean addAllInt(int index, PrimitiveCollection.OfInt c) {
+                rangeCheckForAdd(index);
+                int cSize = c.size();
+                if(cSize == 0) return false;
+                checkForComodification();
+                root.addAllInt(offset + index, c);
+                updateSizeAndModCount(cSize);
+                return true;
+            }
+
+            public PrimitiveListIterator.OfInt listIteratorInt(int index) {
+                checkForComodification();
+                rangeCheckForAdd(index);
+                return new PrimitiveListIterator.OfInt() {
+                    private final PrimitiveListIterator.OfInt i = root.listIteratorInt(offset + index);
+
+                    public boolean hasNext() { return nextIndex() < size; }
+
+                    public int nextInt() {
+                        if(hasNext()) return i.nextInt();
+                        throw new NoSuchElementException();
+                    }
+
+                    public boolean hasPrevious() { return previousIndex() >= 0; }
+
+                    public int previousInt() {
+                        if(hasPrevious()) return i.previousInt();
+                        throw new NoSuchElementException();
+                    }
+
+                    public int nextIndex() { return i.nextIndex() - offset; }
+
+                    public int previousIndex() { return i.previousIndex() - offset; }
+
+                    public void remove() {
+                        i.remove();
+                        updateSizeAndModCount(-1);
+                    }
+
+                    public void setInt(int e) { i.setInt(e); }
+
+                    public void addInt(int e) {
+                        i.addInt(e);
+                        updateSizeAndModCount(1);
+                    }
+                };
+            }
+
+            public PrimitiveList.OfInt subListInt(int from, int to) {
+                Objects.checkFromToIndex(from, to, size);
+                return new SubList(this, from, to);
+            }
+
+            private void checkForComodification() {
+                if(root.modCount != this.modCount) throw new ConcurrentModificationException();
+            }
+
+            private void updateSizeAndModCount(int sizeChange) {
+                SubList slist = this;
+                do {
+                    slist.size += sizeChange;
+                    slist.modCount = root.modCount;
+                    slist = slist.parent;
+                } while (slist != null);
+            }
+        }
+
+        void rangeCheckForAdd(int index) {
+            if(index < 0 || index > size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object obj) {
+            if(obj == this) return true;
+            if(!(obj instanceof List)) return false;
+            var e1 = listIteratorInt();
+            if(obj instanceof PrimitiveList.OfInt l) {
+                var e2 = l.listIteratorInt();
+                while(e1.hasNext() && e2.hasNext()) {
+                    int o1 = e1.nextInt(), o2 = e2.nextInt();
+                    if(!(o1 == o2)) return false;
+                }
+                return !(e1.hasNext() || e2.hasNext());
+            }
+            var e2 = ((List<?>) obj).listIterator();
+            while(e1.hasNext() && e2.hasNext()) {
+                int o1 = e1.nextInt();
+                Object o2 = e2.next();
+                if(!java.lang.Integer.valueOf(o1).equals(o2)) return false;
+            }
+            return !(e1.hasNext() || e2.hasNext());
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = 1;
+            var it = iteratorInt();
+            while(it.hasNext()) hashCode = 31 * hashCode + java.lang.Integer.hashCode(it.nextInt());
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            var it = iteratorInt();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextInt());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+    /**
+     * Created as a base class for generic implementation of {@code float} lists.
+     * To implement an unmodifiable list, the programmer needs only to extend this
+     * class and provide implementations for the {@link #getFloat(int)} and
+     * {@link java.util.Collection#size() size()} methods. A modifiable list
+     * must additionally override {@link #setFloat(int, float)}, and a variable-size
+     * list must also override {@link #addFloat(int, float)} and {@link #removeElementAtIndex(int)}.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractList}
+     */
+    public static abstract class OfFloat extends PrimitiveAbstractCollection.OfFloat implements PrimitiveList.OfFloat {
+        /**
+         * The number of times this list has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         * @see java.util.AbstractList#modCount
+         */
+        protected transient int modCount = 0;
+
+        /** Constructor for subclasses */
+        protected OfFloat() {}
+
+        ///////////// Query operations
+
+        @Override
+        public boolean containsFloat(float value) { return indexOfFloat(value) >= 0; }
+
+        @Override
+        public boolean containsAllFloat(PrimitiveCollection.OfFloat c) {
+            var it = c.iteratorFloat();
+            while(it.hasNext()) if(!containsFloat(it.nextFloat())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public int indexOfFloat(float e) {
+            var it = listIteratorFloat();
+            while(it.hasNext()) {
+                float x = it.nextFloat();
+                if(x == e || java.lang.Float.isNaN(x) && java.lang.Float.isNaN(e)) return it.previousIndex();
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfFloat(float e) {
+            var it = listIteratorFloat(size());
+            while(it.hasPrevious()) {
+                float x = it.previousFloat();
+                if(x == e || java.lang.Float.isNaN(x) && java.lang.Float.isNaN(e)) return it.nextIndex();
+            }
+            return -1;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addFloat(float e) {
+            addFloat(size(), e);
+            return true;
+        }
+
+        @Override
+        public void addFloat(int index, float e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public float setFloat(int index, float e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public float removeElementAtIndex(int i) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeFloat(float e) {
+            int i = indexOfFloat(e);
+            if(i < 0) return false;
+            removeElementAtIndex(i);
+            return true;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllFloat(PrimitiveCollection.OfFloat c) { return addAllFloat(size(), c); }
+
+        @Override
+        public boolean addAllFloat(int index, PrimitiveCollection.OfFloat c) {
+            rangeCheckForAdd(index);
+            boolean modified = false;
+            var it = c.iteratorFloat();
+            while(it.hasNext()) {
+                addFloat(index++, it.nextFloat());
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Float> c) { return addAll(size(), c); }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends java.lang.Float> c) {
+            if(c instanceof PrimitiveCollection.OfFloat p) return addAllFloat(index, p);
+            rangeCheckForAdd(index);
+            boolean modified = false;
+            for(java.lang.Float e : c) {
+                addFloat(index++, e);
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAllFloat(PrimitiveCollection.OfFloat c) {
+            Objects.requireNonNull(c);
+            return removeIfFloat(c::containsFloat);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfFloat(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllFloat(PrimitiveCollection.OfFloat c) {
+            Objects.requireNonNull(c);
+            return removeIfFloat(e -> !c.containsFloat(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfFloat(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() { removeRange(0, size()); }
+
+        /**
+         * Removes from this list all of the elements whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+         * This implementation gets a list iterator positioned before {@code fromIndex},
+         * and repeatedly calls {@code nextFloat} followed by {@code remove}.
+         *
+         * @param fromIndex index of first element to be removed
+         * @param toIndex index after last element to be removed
+         * @see java.util.AbstractList#removeRange(int, int)
+         */
+        protected void removeRange(int fromIndex, int toIndex) {
+            var it = listIteratorFloat(fromIndex);
+            for(int i = 0, n = toIndex - fromIndex; i < n; i++) {
+                it.nextFloat();
+                it.remove();
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public float[] toArrayFloat() {
+            float[] a = new float[size()];
+            var it = iteratorFloat();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextFloat();
+            return a;
+        }
+
+        @Override
+        public float[] toArrayFloat(float[] array) {
+            int size = size();
+            if(array.length < size) return toArrayFloat();
+            var it = iteratorFloat();
+            for(int i = 0; i < size; i++) array[i] = it.nextFloat();
+            return array;
+        }
+
+        @Override
+        public java.lang.Float[] toArray() {
+            float[] a = toArrayFloat();
+            java.lang.Float[] r = new java.lang.Float[a.length];
+            for(int i = 0; i < a.length; i++) r[i] = a[i];
+            return r;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            float[] src = toArrayFloat();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Float.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfFloat iteratorFloat() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfFloat listIteratorFloat() { return listIteratorFloat(0); }
+
+        @Override
+        public PrimitiveListIterator.OfFloat listIteratorFloat(int from) {
+            rangeCheckForAdd(from);
+            return new ListItr(from);
+        }
+
+        @Override
+        public PrimitiveSpliterator.OfFloat spliteratorFloat() {
+            return new PrimitiveCollectionSpliterator.OfFloat(this, Spliterator.ORDERED);
+        }
+
+        @Override
+        public PrimitiveStream.OfFloat streamFloat() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamFloat'");
+        }
+
+        @Override
+        public PrimitiveStream.OfFloat parallelStreamFloat() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamFloat'");
+        }
+
+        private class Itr implements PrimitiveIterator.OfFloat {
+            /** Index of element to be returned by subsequent call to next. */
+            int cursor = 0;
+            /** Index of element returned by most recent call to next or previous. Reset to -1 by a call to remove. */
+            int lastRet = -1;
+            /** The modCount value that the iterator believes that the backing list should have. */
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor != size(); }
+
+            public float nextFloat() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    float next = getFloat(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfFloat.this.removeElementAtIndex(lastRet);
+                    if(lastRet < cursor) cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfFloat {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) { cursor = index; }
+
+            public boolean hasNext() { return cursor != size(); }
+
+            public float nextFloat() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    float next = getFloat(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public float previousFloat() {
+                checkForComodification();
+                try {
+                    int i = cursor - 1;
+                    float previous = getFloat(i);
+                    lastRet = cursor = i;
+                    return previous;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfFloat.this.removeElementAtIndex(lastRet);
+                    if(lastRet < cursor) cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void setFloat(float e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfFloat.this.setFloat(lastRet, e);
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void addFloat(float e) {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    PrimitiveAbstractList.OfFloat.this.addFloat(i, e);
+                    lastRet = -1;
+                    cursor = i + 1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        ///////////// Views
+
+        @Override
+        public PrimitiveList.OfFloat subListFloat(int from, int to) {
+            Objects.checkFromToIndex(from, to, size());
+            return new SubList(this, from, to);
+        }
+
+        private static class SubList extends PrimitiveAbstractList.OfFloat {
+            private final PrimitiveAbstractList.OfFloat root;
+            private final SubList parent;
+            private final int offset;
+            private int size;
+
+            SubList(PrimitiveAbstractList.OfFloat root, int from, int to) {
+                this.root = root;
+                this.parent = null;
+                this.offset = from;
+                this.size = to - from;
+                this.modCount = root.modCount;
+            }
+
+            private SubList(SubList parent, int from, int to) {
+                this.root = parent.root;
+                this.parent = parent;
+                this.offset = parent.offset + from;
+                this.size = to - from;
+                this.modCount = root.modCount;
+            }
+
+            public float getFloat(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.getFloat(offset + index);
+            }
+
+            public float setFloat(int index, float e) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.setFloat(offset + index, e);
+            }
+
+            public int size() {
+                checkForComodification();
+                return size;
+            }
+
+            public void addFloat(int index, float e) {
+                rangeCheckForAdd(index);
+                checkForComodification();
+                root.addFloat(offset + index, e);
+                updateSizeAndModCount(1);
+            }
+
+            public float removeElementAtIndex(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                float result = root.removeElementAtIndex(offset + index);
+                updateSizeAndModCount(-1);
+                return result;
+            }
+
+            protected void removeRange(int fromIndex, int toIndex) {
+                checkForComodification();
+                root.removeRange(offset + fromIndex, offset + toIndex);
+                updateSizeAndModCount(fromIndex - toIndex);
+            }
+
+            public boolean addAllFloat(int index, PrimitiveCollection.OfFloat c) {
+                rangeCheckForAdd(index);
+                int cSize = c.size();
+                if(cSize == 0) return false;
+                checkForComodification();
+                root.addAllFloat(offset + index, c);
+                updateSizeAndModCount(cSize);
+                return true;
+            }
+
+            public PrimitiveListIterator.OfFloat listIteratorFloat(int index) {
+                checkForComodification();
+                rangeCheckForAdd(index);
+                return new PrimitiveListIterator.OfFloat() {
+                    private final PrimitiveListIterator.OfFloat i = root.listIteratorFloat(offset + index);
+
+                    public boolean hasNext() { return nextIndex() < size; }
+
+                    public float nextFloat() {
+                        if(hasNext()) return i.nextFloat();
+                        throw new NoSuchElementException();
+                    }
+
+                    public boolean hasPrevious() { return previousIndex() >= 0; }
+
+                    public float previousFloat() {
+                        if(hasPrevious()) return i.previousFloat();
+                        throw new NoSuchElementException();
+                    }
+
+                    public int nextIndex() { return i.nextIndex() - offset; }
+
+                    public int previousIndex() { return i.previousIndex() - offset; }
+
+                    public void remove() {
+                        i.remove();
+                        updateSizeAndModCount(-1);
+                    }
+
+                    public void setFloat(float e) { i.setFloat(e); }
+
+                    public void addFloat(float e) {
+                        i.addFloat(e);
+                        updateSizeAndModCount(1);
+                    }
+                };
+            }
+
+            public PrimitiveList.OfFloat subListFloat(int from, int to) {
+                Objects.checkFromToIndex(from, to, size);
+                return new SubList(this, from, to);
+            }
+
+            private void checkForComodification() {
+                if(root.modCount != this.modCount) throw new ConcurrentModificationException();
+            }
+
+            private void updateSizeAndModCount(int sizeChange) {
+                SubList slist = this;
+                do {
+                    slist.size += sizeChange;
+                    slist.modCount = root.modCount;
+                    slist = slist.parent;
+                } while (slist != null);
+            }
+        }
+
+        void rangeCheckForAdd(int index) {
+            if(index < 0 || index > size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object obj) {
+            if(obj == this) return true;
+            if(!(obj instanceof List)) return false;
+            var e1 = listIteratorFloat();
+            if(obj instanceof PrimitiveList.OfFloat l) {
+                var e2 = l.listIteratorFloat();
+                while(e1.hasNext() && e2.hasNext()) {
+                    float o1 = e1.nextFloat(), o2 = e2.nextFloat();
+                    if(!((o1 == o2 || java.lang.Float.isNaN(o1) && java.lang.Float.isNaN(o2)))) return false;
+                }
+                return !(e1.hasNext() || e2.hasNext());
+            }
+            var e2 = ((List<?>) obj).listIterator();
+            while(e1.hasNext() && e2.hasNext()) {
+                float o1 = e1.nextFloat();
+                Object o2 = e2.next();
+                if(!java.lang.Float.valueOf(o1).equals(o2)) return false;
+            }
+            return !(e1.hasNext() || e2.hasNext());
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = 1;
+            var it = iteratorFloat();
+            while(it.hasNext()) hashCode = 31 * hashCode + java.lang.Float.hashCode(it.nextFloat());
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            var it = iteratorFloat();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextFloat());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+    /**
+     * Created as a base class for generic implementation of {@code char} lists.
+     * To implement an unmodifiable list, the programmer needs only to extend this
+     * class and provide implementations for the {@link #getChar(int)} and
+     * {@link java.util.Collection#size() size()} methods. A modifiable list
+     * must additionally override {@link #setChar(int, char)}, and a variable-size
+     * list must also override {@link #addChar(int, char)} and {@link #removeElementAtIndex(int)}.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractList}
+     */
+    public static abstract class OfChar extends PrimitiveAbstractCollection.OfChar implements PrimitiveList.OfChar {
+        /**
+         * The number of times this list has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         * @see java.util.AbstractList#modCount
+         */
+        protected transient int modCount = 0;
+
+        /** Constructor for subclasses */
+        protected OfChar() {}
+
+        ///////////// Query operations
+
+        @Override
+        public boolean containsChar(char value) { return indexOfChar(value) >= 0; }
+
+        @Override
+        public boolean containsAllChar(PrimitiveCollection.OfChar c) {
+            var it = c.iteratorChar();
+            while(it.hasNext()) if(!containsChar(it.nextChar())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public int indexOfChar(char e) {
+            var it = listIteratorChar();
+            while(it.hasNext()) if(it.nextChar() == e) return it.previousIndex();
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfChar(char e) {
+            var it = listIteratorChar(size());
+            while(it.hasPrevious()) if(it.previousChar() == e) return it.nextIndex();
+            return -1;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addChar(char e) {
+            addChar(size(), e);
+            return true;
+        }
+
+        @Override
+        public void addChar(int index, char e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public char setChar(int index, char e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public char removeElementAtIndex(int i) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeChar(char e) {
+            int i = indexOfChar(e);
+            if(i < 0) return false;
+            removeElementAtIndex(i);
+            return true;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllChar(PrimitiveCollection.OfChar c) { return addAllChar(size(), c); }
+
+        @Override
+        public boolean addAllChar(int index, PrimitiveCollection.OfChar c) {
+            rangeCheckForAdd(index);
+            boolean modified = false;
+            var it = c.iteratorChar();
+            while(it.hasNext()) {
+                addChar(index++, it.nextChar());
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Character> c) { return addAll(size(), c); }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends java.lang.Character> c) {
+            if(c instanceof PrimitiveCollection.OfChar p) return addAllChar(index, p);
+            rangeCheckForAdd(index);
+            boolean modified = false;
+            for(java.lang.Character e : c) {
+                addChar(index++, e);
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAllChar(PrimitiveCollection.OfChar c) {
+            Objects.requireNonNull(c);
+            return removeIfChar(c::containsChar);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfChar(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllChar(PrimitiveCollection.OfChar c) {
+            Objects.requireNonNull(c);
+            return removeIfChar(e -> !c.containsChar(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfChar(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() { removeRange(0, size()); }
+
+        /**
+         * Removes from this list all of the elements whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+         * This implementation gets a list iterator positioned before {@code fromIndex},
+         * and repeatedly calls {@code nextChar} followed by {@code remove}.
+         *
+         * @param fromIndex index of first element to be removed
+         * @param toIndex index after last element to be removed
+         * @see java.util.AbstractList#removeRange(int, int)
+         */
+        protected void removeRange(int fromIndex, int toIndex) {
+            var it = listIteratorChar(fromIndex);
+            for(int i = 0, n = toIndex - fromIndex; i < n; i++) {
+                it.nextChar();
+                it.remove();
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public char[] toArrayChar() {
+            char[] a = new char[size()];
+            var it = iteratorChar();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextChar();
+            return a;
+        }
+
+        @Override
+        public char[] toArrayChar(char[] array) {
+            int size = size();
+            if(array.length < size) return toArrayChar();
+            var it = iteratorChar();
+            for(int i = 0; i < size; i++) array[i] = it.nextChar();
+            return array;
+        }
+
+        @Override
+        public java.lang.Character[] toArray() {
+            char[] a = toArrayChar();
+            java.lang.Character[] r = new java.lang.Character[a.length];
+            for(int i = 0; i < a.length; i++) r[i] = a[i];
+            return r;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            char[] src = toArrayChar();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Character.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfChar iteratorChar() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfChar listIteratorChar() { return listIteratorChar(0); }
+
+        @Override
+        public PrimitiveListIterator.OfChar listIteratorChar(int from) {
+            rangeCheckForAdd(from);
+            return new ListItr(from);
+        }
+
+        @Override
+        public PrimitiveSpliterator.OfChar spliteratorChar() {
+            return new PrimitiveCollectionSpliterator.OfChar(this, Spliterator.ORDERED);
+        }
+
+        @Override
+        public PrimitiveStream.OfChar streamChar() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamChar'");
+        }
+
+        @Override
+        public PrimitiveStream.OfChar parallelStreamChar() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamChar'");
+        }
+
+        private class Itr implements PrimitiveIterator.OfChar {
+            /** Index of element to be returned by subsequent call to next. */
+            int cursor = 0;
+            /** Index of element returned by most recent call to next or previous. Reset to -1 by a call to remove. */
+            int lastRet = -1;
+            /** The modCount value that the iterator believes that the backing list should have. */
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor != size(); }
+
+            public char nextChar() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    char next = getChar(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfChar.this.removeElementAtIndex(lastRet);
+                    if(lastRet < cursor) cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfChar {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) { cursor = index; }
+
+            public boolean hasNext() { return cursor != size(); }
+
+            public char nextChar() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    char next = getChar(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public char previousChar() {
+                checkForComodification();
+                try {
+                    int i = cursor - 1;
+                    char previous = getChar(i);
+                    lastRet = cursor = i;
+                    return previous;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfChar.this.removeElementAtIndex(lastRet);
+                    if(lastRet < cursor) cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void setChar(char e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfChar.this.setChar(lastRet, e);
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void addChar(char e) {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    PrimitiveAbstractList.OfChar.this.addChar(i, e);
+                    lastRet = -1;
+                    cursor = i + 1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        ///////////// Views
+
+        @Override
+        public PrimitiveList.OfChar subListChar(int from, int to) {
+            Objects.checkFromToIndex(from, to, size());
+            return new SubList(this, from, to);
+        }
+
+        private static class SubList extends PrimitiveAbstractList.OfChar {
+            private final PrimitiveAbstractList.OfChar root;
+            private final SubList parent;
+            private final int offset;
+            private int size;
+
+            SubList(PrimitiveAbstractList.OfChar root, int from, int to) {
+                this.root = root;
+                this.parent = null;
+                this.offset = from;
+                this.size = to - from;
+                this.modCount = root.modCount;
+            }
+
+            private SubList(SubList parent, int from, int to) {
+                this.root = parent.root;
+                this.parent = parent;
+                this.offset = parent.offset + from;
+                this.size = to - from;
+                this.modCount = root.modCount;
+            }
+
+            public char getChar(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.getChar(offset + index);
+            }
+
+            public char setChar(int index, char e) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.setChar(offset + index, e);
+            }
+
+            public int size() {
+                checkForComodification();
+                return size;
+            }
+
+            public void addChar(int index, char e) {
+                rangeCheckForAdd(index);
+                checkForComodification();
+                root.addChar(offset + index, e);
+                updateSizeAndModCount(1);
+            }
+
+            public char removeElementAtIndex(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                char result = root.removeElementAtIndex(offset + index);
+                updateSizeAndModCount(-1);
+                return result;
+            }
+
+            protected void removeRange(int fromIndex, int toIndex) {
+                checkForComodification();
+                root.removeRange(offset + fromIndex, offset + toIndex);
+                updateSizeAndModCount(fromIndex - toIndex);
+            }
+
+            public boolean addAllChar(int index, PrimitiveCollection.OfChar c) {
+                rangeCheckForAdd(index);
+                int cSize = c.size();
+                if(cSize == 0) return false;
+                checkForComodification();
+                root.addAllChar(offset + index, c);
+                updateSizeAndModCount(cSize);
+                return true;
+            }
+
+            public PrimitiveListIterator.OfChar listIteratorChar(int index) {
+                checkForComodification();
+                rangeCheckForAdd(index);
+                return new PrimitiveListIterator.OfChar() {
+                    private final PrimitiveListIterator.OfChar i = root.listIteratorChar(offset + index);
+
+                    public boolean hasNext() { return nextIndex() < size; }
+
+                    public char nextChar() {
+                        if(hasNext()) return i.nextChar();
+                        throw new NoSuchElementException();
+                    }
+
+                    public boolean hasPrevious() { return previousIndex() >= 0; }
+
+                    public char previousChar() {
+                        if(hasPrevious()) return i.previousChar();
+                        throw new NoSuchElementException();
+                    }
+
+                    public int nextIndex() { return i.nextIndex() - offset; }
+
+                    public int previousIndex() { return i.previousIndex() - offset; }
+
+                    public void remove() {
+                        i.remove();
+                        updateSizeAndModCount(-1);
+                    }
+
+                    public void setChar(char e) { i.setChar(e); }
+
+                    public void addChar(char e) {
+                        i.addChar(e);
+                        updateSizeAndModCount(1);
+                    }
+                };
+            }
+
+            public PrimitiveList.OfChar subListChar(int from, int to) {
+                Objects.checkFromToIndex(from, to, size);
+                return new SubList(this, from, to);
+            }
+
+            private void checkForComodification() {
+                if(root.modCount != this.modCount) throw new ConcurrentModificationException();
+            }
+
+            private void updateSizeAndModCount(int sizeChange) {
+                SubList slist = this;
+                do {
+                    slist.size += sizeChange;
+                    slist.modCount = root.modCount;
+                    slist = slist.parent;
+                } while (slist != null);
+            }
+        }
+
+        void rangeCheckForAdd(int index) {
+            if(index < 0 || index > size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object obj) {
+            if(obj == this) return true;
+            if(!(obj instanceof List)) return false;
+            var e1 = listIteratorChar();
+            if(obj instanceof PrimitiveList.OfChar l) {
+                var e2 = l.listIteratorChar();
+                while(e1.hasNext() && e2.hasNext()) {
+                    char o1 = e1.nextChar(), o2 = e2.nextChar();
+                    if(!(o1 == o2)) return false;
+                }
+                return !(e1.hasNext() || e2.hasNext());
+            }
+            var e2 = ((List<?>) obj).listIterator();
+            while(e1.hasNext() && e2.hasNext()) {
+                char o1 = e1.nextChar();
+                Object o2 = e2.next();
+                if(!java.lang.Character.valueOf(o1).equals(o2)) return false;
+            }
+            return !(e1.hasNext() || e2.hasNext());
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = 1;
+            var it = iteratorChar();
+            while(it.hasNext()) hashCode = 31 * hashCode + java.lang.Character.hashCode(it.nextChar());
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            var it = iteratorChar();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextChar());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+    /**
+     * Created as a base class for generic implementation of {@code short} lists.
+     * To implement an unmodifiable list, the programmer needs only to extend this
+     * class and provide implementations for the {@link #getShort(int)} and
+     * {@link java.util.Collection#size() size()} methods. A modifiable list
+     * must additionally override {@link #setShort(int, short)}, and a variable-size
+     * list must also override {@link #addShort(int, short)} and {@link #removeElementAtIndex(int)}.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractList}
+     */
+    public static abstract class OfShort extends PrimitiveAbstractCollection.OfShort implements PrimitiveList.OfShort {
+        /**
+         * The number of times this list has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         * @see java.util.AbstractList#modCount
+         */
+        protected transient int modCount = 0;
+
+        /** Constructor for subclasses */
+        protected OfShort() {}
+
+        ///////////// Query operations
+
+        @Override
+        public boolean containsShort(short value) { return indexOfShort(value) >= 0; }
+
+        @Override
+        public boolean containsAllShort(PrimitiveCollection.OfShort c) {
+            var it = c.iteratorShort();
+            while(it.hasNext()) if(!containsShort(it.nextShort())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public int indexOfShort(short e) {
+            var it = listIteratorShort();
+            while(it.hasNext()) if(it.nextShort() == e) return it.previousIndex();
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfShort(short e) {
+            var it = listIteratorShort(size());
+            while(it.hasPrevious()) if(it.previousShort() == e) return it.nextIndex();
+            return -1;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addShort(short e) {
+            addShort(size(), e);
+            return true;
+        }
+
+        @Override
+        public void addShort(int index, short e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public short setShort(int index, short e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public short removeElementAtIndex(int i) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeShort(short e) {
+            int i = indexOfShort(e);
+            if(i < 0) return false;
+            removeElementAtIndex(i);
+            return true;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllShort(PrimitiveCollection.OfShort c) { return addAllShort(size(), c); }
+
+        @Override
+        public boolean addAllShort(int index, PrimitiveCollection.OfShort c) {
+            rangeCheckForAdd(index);
+            boolean modified = false;
+            var it = c.iteratorShort();
+            while(it.hasNext()) {
+                addShort(index++, it.nextShort());
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Short> c) { return addAll(size(), c); }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends java.lang.Short> c) {
+            if(c instanceof PrimitiveCollection.OfShort p) return addAllShort(index, p);
+            rangeCheckForAdd(index);
+            boolean modified = false;
+            for(java.lang.Short e : c) {
+                addShort(index++, e);
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAllShort(PrimitiveCollection.OfShort c) {
+            Objects.requireNonNull(c);
+            return removeIfShort(c::containsShort);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfShort(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllShort(PrimitiveCollection.OfShort c) {
+            Objects.requireNonNull(c);
+            return removeIfShort(e -> !c.containsShort(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfShort(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() { removeRange(0, size()); }
+
+        /**
+         * Removes from this list all of the elements whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+         * This implementation gets a list iterator positioned before {@code fromIndex},
+         * and repeatedly calls {@code nextShort} followed by {@code remove}.
+         *
+         * @param fromIndex index of first element to be removed
+         * @param toIndex index after last element to be removed
+         * @see java.util.AbstractList#removeRange(int, int)
+         */
+        protected void removeRange(int fromIndex, int toIndex) {
+            var it = listIteratorShort(fromIndex);
+            for(int i = 0, n = toIndex - fromIndex; i < n; i++) {
+                it.nextShort();
+                it.remove();
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public short[] toArrayShort() {
+            short[] a = new short[size()];
+            var it = iteratorShort();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextShort();
+            return a;
+        }
+
+        @Override
+        public short[] toArrayShort(short[] array) {
+            int size = size();
+            if(array.length < size) return toArrayShort();
+            var it = iteratorShort();
+            for(int i = 0; i < size; i++) array[i] = it.nextShort();
+            return array;
+        }
+
+        @Override
+        public java.lang.Short[] toArray() {
+            short[] a = toArrayShort();
+            java.lang.Short[] r = new java.lang.Short[a.length];
+            for(int i = 0; i < a.length; i++) r[i] = a[i];
+            return r;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            short[] src = toArrayShort();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Short.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfShort iteratorShort() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfShort listIteratorShort() { return listIteratorShort(0); }
+
+        @Override
+        public PrimitiveListIterator.OfShort listIteratorShort(int from) {
+            rangeCheckForAdd(from);
+            return new ListItr(from);
+        }
+
+        @Override
+        public PrimitiveSpliterator.OfShort spliteratorShort() {
+            return new PrimitiveCollectionSpliterator.OfShort(this, Spliterator.ORDERED);
+        }
+
+        @Override
+        public PrimitiveStream.OfShort streamShort() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamShort'");
+        }
+
+        @Override
+        public PrimitiveStream.OfShort parallelStreamShort() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamShort'");
+        }
+
+        private class Itr implements PrimitiveIterator.OfShort {
+            /** Index of element to be returned by subsequent call to next. */
+            int cursor = 0;
+            /** Index of element returned by most recent call to next or previous. Reset to -1 by a call to remove. */
+            int lastRet = -1;
+            /** The modCount value that the iterator believes that the backing list should have. */
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor != size(); }
+
+            public short nextShort() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    short next = getShort(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfShort.this.removeElementAtIndex(lastRet);
+                    if(lastRet < cursor) cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfShort {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) { cursor = index; }
+
+            public boolean hasNext() { return cursor != size(); }
+
+            public short nextShort() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    short next = getShort(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public short previousShort() {
+                checkForComodification();
+                try {
+                    int i = cursor - 1;
+                    short previous = getShort(i);
+                    lastRet = cursor = i;
+                    return previous;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfShort.this.removeElementAtIndex(lastRet);
+                    if(lastRet < cursor) cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void setShort(short e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfShort.this.setShort(lastRet, e);
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void addShort(short e) {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    PrimitiveAbstractList.OfShort.this.addShort(i, e);
+                    lastRet = -1;
+                    cursor = i + 1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        ///////////// Views
+
+        @Override
+        public PrimitiveList.OfShort subListShort(int from, int to) {
+            Objects.checkFromToIndex(from, to, size());
+            return new SubList(this, from, to);
+        }
+
+        private static class SubList extends PrimitiveAbstractList.OfShort {
+            private final PrimitiveAbstractList.OfShort root;
+            private final SubList parent;
+            private final int offset;
+            private int size;
+
+            SubList(PrimitiveAbstractList.OfShort root, int from, int to) {
+                this.root = root;
+                this.parent = null;
+                this.offset = from;
+                this.size = to - from;
+                this.modCount = root.modCount;
+            }
+
+            private SubList(SubList parent, int from, int to) {
+                this.root = parent.root;
+                this.parent = parent;
+                this.offset = parent.offset + from;
+                this.size = to - from;
+                this.modCount = root.modCount;
+            }
+
+            public short getShort(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.getShort(offset + index);
+            }
+
+            public short setShort(int index, short e) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.setShort(offset + index, e);
+            }
+
+            public int size() {
+                checkForComodification();
+                return size;
+            }
+
+            public void addShort(int index, short e) {
+                rangeCheckForAdd(index);
+                checkForComodification();
+                root.addShort(offset + index, e);
+                updateSizeAndModCount(1);
+            }
+
+            public short removeElementAtIndex(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                short result = root.removeElementAtIndex(offset + index);
+                updateSizeAndModCount(-1);
+                return result;
+            }
+
+            protected void removeRange(int fromIndex, int toIndex) {
+                checkForComodification();
+                root.removeRange(offset + fromIndex, offset + toIndex);
+                updateSizeAndModCount(fromIndex - toIndex);
+            }
+
+            public boolean addAllShort(int index, PrimitiveCollection.OfShort c) {
+                rangeCheckForAdd(index);
+                int cSize = c.size();
+                if(cSize == 0) return false;
+                checkForComodification();
+                root.addAllShort(offset + index, c);
+                updateSizeAndModCount(cSize);
+                return true;
+            }
+
+            public PrimitiveListIterator.OfShort listIteratorShort(int index) {
+                checkForComodification();
+                rangeCheckForAdd(index);
+                return new PrimitiveListIterator.OfShort() {
+                    private final PrimitiveListIterator.OfShort i = root.listIteratorShort(offset + index);
+
+                    public boolean hasNext() { return nextIndex() < size; }
+
+                    public short nextShort() {
+                        if(hasNext()) return i.nextShort();
+                        throw new NoSuchElementException();
+                    }
+
+                    public boolean hasPrevious() { return previousIndex() >= 0; }
+
+                    public short previousShort() {
+                        if(hasPrevious()) return i.previousShort();
+                        throw new NoSuchElementException();
+                    }
+
+                    public int nextIndex() { return i.nextIndex() - offset; }
+
+                    public int previousIndex() { return i.previousIndex() - offset; }
+
+                    public void remove() {
+                        i.remove();
+                        updateSizeAndModCount(-1);
+                    }
+
+                    public void setShort(short e) { i.setShort(e); }
+
+                    public void addShort(short e) {
+                        i.addShort(e);
+                        updateSizeAndModCount(1);
+                    }
+                };
+            }
+
+            public PrimitiveList.OfShort subListShort(int from, int to) {
+                Objects.checkFromToIndex(from, to, size);
+                return new SubList(this, from, to);
+            }
+
+            private void checkForComodification() {
+                if(root.modCount != this.modCount) throw new ConcurrentModificationException();
+            }
+
+            private void updateSizeAndModCount(int sizeChange) {
+                SubList slist = this;
+                do {
+                    slist.size += sizeChange;
+                    slist.modCount = root.modCount;
+                    slist = slist.parent;
+                } while (slist != null);
+            }
+        }
+
+        void rangeCheckForAdd(int index) {
+            if(index < 0 || index > size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object obj) {
+            if(obj == this) return true;
+            if(!(obj instanceof List)) return false;
+            var e1 = listIteratorShort();
+            if(obj instanceof PrimitiveList.OfShort l) {
+                var e2 = l.listIteratorShort();
+                while(e1.hasNext() && e2.hasNext()) {
+                    short o1 = e1.nextShort(), o2 = e2.nextShort();
+                    if(!(o1 == o2)) return false;
+                }
+                return !(e1.hasNext() || e2.hasNext());
+            }
+            var e2 = ((List<?>) obj).listIterator();
+            while(e1.hasNext() && e2.hasNext()) {
+                short o1 = e1.nextShort();
+                Object o2 = e2.next();
+                if(!java.lang.Short.valueOf(o1).equals(o2)) return false;
+            }
+            return !(e1.hasNext() || e2.hasNext());
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = 1;
+            var it = iteratorShort();
+            while(it.hasNext()) hashCode = 31 * hashCode + java.lang.Short.hashCode(it.nextShort());
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            var it = iteratorShort();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextShort());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+    /**
+     * Created as a base class for generic implementation of {@code byte} lists.
+     * To implement an unmodifiable list, the programmer needs only to extend this
+     * class and provide implementations for the {@link #getByte(int)} and
+     * {@link java.util.Collection#size() size()} methods. A modifiable list
+     * must additionally override {@link #setByte(int, byte)}, and a variable-size
+     * list must also override {@link #addByte(int, byte)} and {@link #removeElementAtIndex(int)}.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractList}
+     */
+    public static abstract class OfByte extends PrimitiveAbstractCollection.OfByte implements PrimitiveList.OfByte {
+        /**
+         * The number of times this list has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         * @see java.util.AbstractList#modCount
+         */
+        protected transient int modCount = 0;
+
+        /** Constructor for subclasses */
+        protected OfByte() {}
+
+        ///////////// Query operations
+
+        @Override
+        public boolean containsByte(byte value) { return indexOfByte(value) >= 0; }
+
+        @Override
+        public boolean containsAllByte(PrimitiveCollection.OfByte c) {
+            var it = c.iteratorByte();
+            while(it.hasNext()) if(!containsByte(it.nextByte())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public int indexOfByte(byte e) {
+            var it = listIteratorByte();
+            while(it.hasNext()) if(it.nextByte() == e) return it.previousIndex();
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfByte(byte e) {
+            var it = listIteratorByte(size());
+            while(it.hasPrevious()) if(it.previousByte() == e) return it.nextIndex();
+            return -1;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addByte(byte e) {
+            addByte(size(), e);
+            return true;
+        }
+
+        @Override
+        public void addByte(int index, byte e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public byte setByte(int index, byte e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public byte removeElementAtIndex(int i) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeByte(byte e) {
+            int i = indexOfByte(e);
+            if(i < 0) return false;
+            removeElementAtIndex(i);
+            return true;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllByte(PrimitiveCollection.OfByte c) { return addAllByte(size(), c); }
+
+        @Override
+        public boolean addAllByte(int index, PrimitiveCollection.OfByte c) {
+            rangeCheckForAdd(index);
+            boolean modified = false;
+            var it = c.iteratorByte();
+            while(it.hasNext()) {
+                addByte(index++, it.nextByte());
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Byte> c) { return addAll(size(), c); }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends java.lang.Byte> c) {
+            if(c instanceof PrimitiveCollection.OfByte p) return addAllByte(index, p);
+            rangeCheckForAdd(index);
+            boolean modified = false;
+            for(java.lang.Byte e : c) {
+                addByte(index++, e);
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAllByte(PrimitiveCollection.OfByte c) {
+            Objects.requireNonNull(c);
+            return removeIfByte(c::containsByte);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfByte(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllByte(PrimitiveCollection.OfByte c) {
+            Objects.requireNonNull(c);
+            return removeIfByte(e -> !c.containsByte(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfByte(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() { removeRange(0, size()); }
+
+        /**
+         * Removes from this list all of the elements whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+         * This implementation gets a list iterator positioned before {@code fromIndex},
+         * and repeatedly calls {@code nextByte} followed by {@code remove}.
+         *
+         * @param fromIndex index of first element to be removed
+         * @param toIndex index after last element to be removed
+         * @see java.util.AbstractList#removeRange(int, int)
+         */
+        protected void removeRange(int fromIndex, int toIndex) {
+            var it = listIteratorByte(fromIndex);
+            for(int i = 0, n = toIndex - fromIndex; i < n; i++) {
+                it.nextByte();
+                it.remove();
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public byte[] toArrayByte() {
+            byte[] a = new byte[size()];
+            var it = iteratorByte();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextByte();
+            return a;
+        }
+
+        @Override
+        public byte[] toArrayByte(byte[] array) {
+            int size = size();
+            if(array.length < size) return toArrayByte();
+            var it = iteratorByte();
+            for(int i = 0; i < size; i++) array[i] = it.nextByte();
+            return array;
+        }
+
+        @Override
+        public java.lang.Byte[] toArray() {
+            byte[] a = toArrayByte();
+            java.lang.Byte[] r = new java.lang.Byte[a.length];
+            for(int i = 0; i < a.length; i++) r[i] = a[i];
+            return r;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            byte[] src = toArrayByte();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Byte.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfByte iteratorByte() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfByte listIteratorByte() { return listIteratorByte(0); }
+
+        @Override
+        public PrimitiveListIterator.OfByte listIteratorByte(int from) {
+            rangeCheckForAdd(from);
+            return new ListItr(from);
+        }
+
+        @Override
+        public PrimitiveSpliterator.OfByte spliteratorByte() {
+            return new PrimitiveCollectionSpliterator.OfByte(this, Spliterator.ORDERED);
+        }
+
+        @Override
+        public PrimitiveStream.OfByte streamByte() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamByte'");
+        }
+
+        @Override
+        public PrimitiveStream.OfByte parallelStreamByte() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamByte'");
+        }
+
+        private class Itr implements PrimitiveIterator.OfByte {
+            /** Index of element to be returned by subsequent call to next. */
+            int cursor = 0;
+            /** Index of element returned by most recent call to next or previous. Reset to -1 by a call to remove. */
+            int lastRet = -1;
+            /** The modCount value that the iterator believes that the backing list should have. */
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor != size(); }
+
+            public byte nextByte() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    byte next = getByte(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfByte.this.removeElementAtIndex(lastRet);
+                    if(lastRet < cursor) cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfByte {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) { cursor = index; }
+
+            public boolean hasNext() { return cursor != size(); }
+
+            public byte nextByte() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    byte next = getByte(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public byte previousByte() {
+                checkForComodification();
+                try {
+                    int i = cursor - 1;
+                    byte previous = getByte(i);
+                    lastRet = cursor = i;
+                    return previous;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfByte.this.removeElementAtIndex(lastRet);
+                    if(lastRet < cursor) cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void setByte(byte e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfByte.this.setByte(lastRet, e);
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void addByte(byte e) {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    PrimitiveAbstractList.OfByte.this.addByte(i, e);
+                    lastRet = -1;
+                    cursor = i + 1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        ///////////// Views
+
+        @Override
+        public PrimitiveList.OfByte subListByte(int from, int to) {
+            Objects.checkFromToIndex(from, to, size());
+            return new SubList(this, from, to);
+        }
+
+        private static class SubList extends PrimitiveAbstractList.OfByte {
+            private final PrimitiveAbstractList.OfByte root;
+            private final SubList parent;
+            private final int offset;
+            private int size;
+
+            SubList(PrimitiveAbstractList.OfByte root, int from, int to) {
+                this.root = root;
+                this.parent = null;
+                this.offset = from;
+                this.size = to - from;
+                this.modCount = root.modCount;
+            }
+
+            private SubList(SubList parent, int from, int to) {
+                this.root = parent.root;
+                this.parent = parent;
+                this.offset = parent.offset + from;
+                this.size = to - from;
+                this.modCount = root.modCount;
+            }
+
+            public byte getByte(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.getByte(offset + index);
+            }
+
+            public byte setByte(int index, byte e) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.setByte(offset + index, e);
+            }
+
+            public int size() {
+                checkForComodification();
+                return size;
+            }
+
+            public void addByte(int index, byte e) {
+                rangeCheckForAdd(index);
+                checkForComodification();
+                root.addByte(offset + index, e);
+                updateSizeAndModCount(1);
+            }
+
+            public byte removeElementAtIndex(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                byte result = root.removeElementAtIndex(offset + index);
+                updateSizeAndModCount(-1);
+                return result;
+            }
+
+            protected void removeRange(int fromIndex, int toIndex) {
+                checkForComodification();
+                root.removeRange(offset + fromIndex, offset + toIndex);
+                updateSizeAndModCount(fromIndex - toIndex);
+            }
+
+            public boolean addAllByte(int index, PrimitiveCollection.OfByte c) {
+                rangeCheckForAdd(index);
+                int cSize = c.size();
+                if(cSize == 0) return false;
+                checkForComodification();
+                root.addAllByte(offset + index, c);
+                updateSizeAndModCount(cSize);
+                return true;
+            }
+
+            public PrimitiveListIterator.OfByte listIteratorByte(int index) {
+                checkForComodification();
+                rangeCheckForAdd(index);
+                return new PrimitiveListIterator.OfByte() {
+                    private final PrimitiveListIterator.OfByte i = root.listIteratorByte(offset + index);
+
+                    public boolean hasNext() { return nextIndex() < size; }
+
+                    public byte nextByte() {
+                        if(hasNext()) return i.nextByte();
+                        throw new NoSuchElementException();
+                    }
+
+                    public boolean hasPrevious() { return previousIndex() >= 0; }
+
+                    public byte previousByte() {
+                        if(hasPrevious()) return i.previousByte();
+                        throw new NoSuchElementException();
+                    }
+
+                    public int nextIndex() { return i.nextIndex() - offset; }
+
+                    public int previousIndex() { return i.previousIndex() - offset; }
+
+                    public void remove() {
+                        i.remove();
+                        updateSizeAndModCount(-1);
+                    }
+
+                    public void setByte(byte e) { i.setByte(e); }
+
+                    public void addByte(byte e) {
+                        i.addByte(e);
+                        updateSizeAndModCount(1);
+                    }
+                };
+            }
+
+            public PrimitiveList.OfByte subListByte(int from, int to) {
+                Objects.checkFromToIndex(from, to, size);
+                return new SubList(this, from, to);
+            }
+
+            private void checkForComodification() {
+                if(root.modCount != this.modCount) throw new ConcurrentModificationException();
+            }
+
+            private void updateSizeAndModCount(int sizeChange) {
+                SubList slist = this;
+                do {
+                    slist.size += sizeChange;
+                    slist.modCount = root.modCount;
+                    slist = slist.parent;
+                } while (slist != null);
+            }
+        }
+
+        void rangeCheckForAdd(int index) {
+            if(index < 0 || index > size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object obj) {
+            if(obj == this) return true;
+            if(!(obj instanceof List)) return false;
+            var e1 = listIteratorByte();
+            if(obj instanceof PrimitiveList.OfByte l) {
+                var e2 = l.listIteratorByte();
+                while(e1.hasNext() && e2.hasNext()) {
+                    byte o1 = e1.nextByte(), o2 = e2.nextByte();
+                    if(!(o1 == o2)) return false;
+                }
+                return !(e1.hasNext() || e2.hasNext());
+            }
+            var e2 = ((List<?>) obj).listIterator();
+            while(e1.hasNext() && e2.hasNext()) {
+                byte o1 = e1.nextByte();
+                Object o2 = e2.next();
+                if(!java.lang.Byte.valueOf(o1).equals(o2)) return false;
+            }
+            return !(e1.hasNext() || e2.hasNext());
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = 1;
+            var it = iteratorByte();
+            while(it.hasNext()) hashCode = 31 * hashCode + java.lang.Byte.hashCode(it.nextByte());
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            var it = iteratorByte();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextByte());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+    /**
+     * Created as a base class for generic implementation of {@code boolean} lists.
+     * To implement an unmodifiable list, the programmer needs only to extend this
+     * class and provide implementations for the {@link #getBoolean(int)} and
+     * {@link java.util.Collection#size() size()} methods. A modifiable list
+     * must additionally override {@link #setBoolean(int, boolean)}, and a variable-size
+     * list must also override {@link #addBoolean(int, boolean)} and {@link #removeElementAtIndex(int)}.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractList}
+     */
+    public static abstract class OfBoolean extends PrimitiveAbstractCollection.OfBoolean implements PrimitiveList.OfBoolean {
+        /**
+         * The number of times this list has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         * @see java.util.AbstractList#modCount
+         */
+        protected transient int modCount = 0;
+
+        /** Constructor for subclasses */
+        protected OfBoolean() {}
+
+        ///////////// Query operations
+
+        @Override
+        public boolean containsBoolean(boolean value) { return indexOfBoolean(value) >= 0; }
+
+        @Override
+        public boolean containsAllBoolean(PrimitiveCollection.OfBoolean c) {
+            var it = c.iteratorBoolean();
+            while(it.hasNext()) if(!containsBoolean(it.nextBoolean())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public int indexOfBoolean(boolean e) {
+            var it = listIteratorBoolean();
+            while(it.hasNext()) if(it.nextBoolean() == e) return it.previousIndex();
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfBoolean(boolean e) {
+            var it = listIteratorBoolean(size());
+            while(it.hasPrevious()) if(it.previousBoolean() == e) return it.nextIndex();
+            return -1;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addBoolean(boolean e) {
+            addBoolean(size(), e);
+            return true;
+        }
+
+        @Override
+        public void addBoolean(int index, boolean e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean setBoolean(int index, boolean e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeElementAtIndex(int i) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeBoolean(boolean e) {
+            int i = indexOfBoolean(e);
+            if(i < 0) return false;
+            removeElementAtIndex(i);
+            return true;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllBoolean(PrimitiveCollection.OfBoolean c) { return addAllBoolean(size(), c); }
+
+        @Override
+        public boolean addAllBoolean(int index, PrimitiveCollection.OfBoolean c) {
+            rangeCheckForAdd(index);
+            boolean modified = false;
+            var it = c.iteratorBoolean();
+            while(it.hasNext()) {
+                addBoolean(index++, it.nextBoolean());
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Boolean> c) { return addAll(size(), c); }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends java.lang.Boolean> c) {
+            if(c instanceof PrimitiveCollection.OfBoolean p) return addAllBoolean(index, p);
+            rangeCheckForAdd(index);
+            boolean modified = false;
+            for(java.lang.Boolean e : c) {
+                addBoolean(index++, e);
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAllBoolean(PrimitiveCollection.OfBoolean c) {
+            Objects.requireNonNull(c);
+            return removeIfBoolean(c::containsBoolean);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfBoolean(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllBoolean(PrimitiveCollection.OfBoolean c) {
+            Objects.requireNonNull(c);
+            return removeIfBoolean(e -> !c.containsBoolean(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfBoolean(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() { removeRange(0, size()); }
+
+        /**
+         * Removes from this list all of the elements whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive.
+         * This implementation gets a list iterator positioned before {@code fromIndex},
+         * and repeatedly calls {@code nextBoolean} followed by {@code remove}.
+         *
+         * @param fromIndex index of first element to be removed
+         * @param toIndex index after last element to be removed
+         * @see java.util.AbstractList#removeRange(int, int)
+         */
+        protected void removeRange(int fromIndex, int toIndex) {
+            var it = listIteratorBoolean(fromIndex);
+            for(int i = 0, n = toIndex - fromIndex; i < n; i++) {
+                it.nextBoolean();
+                it.remove();
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public boolean[] toArrayBoolean() {
+            boolean[] a = new boolean[size()];
+            var it = iteratorBoolean();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextBoolean();
+            return a;
+        }
+
+        @Override
+        public boolean[] toArrayBoolean(boolean[] array) {
+            int size = size();
+            if(array.length < size) return toArrayBoolean();
+            var it = iteratorBoolean();
+            for(int i = 0; i < size; i++) array[i] = it.nextBoolean();
+            return array;
+        }
+
+        @Override
+        public java.lang.Boolean[] toArray() {
+            boolean[] a = toArrayBoolean();
+            java.lang.Boolean[] r = new java.lang.Boolean[a.length];
+            for(int i = 0; i < a.length; i++) r[i] = a[i];
+            return r;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            boolean[] src = toArrayBoolean();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Boolean.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfBoolean iteratorBoolean() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfBoolean listIteratorBoolean() { return listIteratorBoolean(0); }
+
+        @Override
+        public PrimitiveListIterator.OfBoolean listIteratorBoolean(int from) {
+            rangeCheckForAdd(from);
+            return new ListItr(from);
+        }
+
+        @Override
+        public PrimitiveSpliterator.OfBoolean spliteratorBoolean() {
+            return new PrimitiveCollectionSpliterator.OfBoolean(this, Spliterator.ORDERED);
+        }
+
+        @Override
+        public PrimitiveStream.OfBoolean streamBoolean() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamBoolean'");
+        }
+
+        @Override
+        public PrimitiveStream.OfBoolean parallelStreamBoolean() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamBoolean'");
+        }
+
+        private class Itr implements PrimitiveIterator.OfBoolean {
+            /** Index of element to be returned by subsequent call to next. */
+            int cursor = 0;
+            /** Index of element returned by most recent call to next or previous. Reset to -1 by a call to remove. */
+            int lastRet = -1;
+            /** The modCount value that the iterator believes that the backing list should have. */
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor != size(); }
+
+            public boolean nextBoolean() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    boolean next = getBoolean(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfBoolean.this.removeElementAtIndex(lastRet);
+                    if(lastRet < cursor) cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfBoolean {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) { cursor = index; }
+
+            public boolean hasNext() { return cursor != size(); }
+
+            public boolean nextBoolean() {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    boolean next = getBoolean(i);
+                    lastRet = i;
+                    cursor = i + 1;
+                    return next;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public boolean previousBoolean() {
+                checkForComodification();
+                try {
+                    int i = cursor - 1;
+                    boolean previous = getBoolean(i);
+                    lastRet = cursor = i;
+                    return previous;
+                } catch (IndexOutOfBoundsException e) {
+                    checkForComodification();
+                    throw new NoSuchElementException(e);
+                }
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfBoolean.this.removeElementAtIndex(lastRet);
+                    if(lastRet < cursor) cursor--;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException e) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void setBoolean(boolean e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveAbstractList.OfBoolean.this.setBoolean(lastRet, e);
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void addBoolean(boolean e) {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    PrimitiveAbstractList.OfBoolean.this.addBoolean(i, e);
+                    lastRet = -1;
+                    cursor = i + 1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        ///////////// Views
+
+        @Override
+        public PrimitiveList.OfBoolean subListBoolean(int from, int to) {
+            Objects.checkFromToIndex(from, to, size());
+            return new SubList(this, from, to);
+        }
+
+        private static class SubList extends PrimitiveAbstractList.OfBoolean {
+            private final PrimitiveAbstractList.OfBoolean root;
+            private final SubList parent;
+            private final int offset;
+            private int size;
+
+            SubList(PrimitiveAbstractList.OfBoolean root, int from, int to) {
+                this.root = root;
+                this.parent = null;
+                this.offset = from;
+                this.size = to - from;
+                this.modCount = root.modCount;
+            }
+
+            private SubList(SubList parent, int from, int to) {
+                this.root = parent.root;
+                this.parent = parent;
+                this.offset = parent.offset + from;
+                this.size = to - from;
+                this.modCount = root.modCount;
+            }
+
+            public boolean getBoolean(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.getBoolean(offset + index);
+            }
+
+            public boolean setBoolean(int index, boolean e) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                return root.setBoolean(offset + index, e);
+            }
+
+            public int size() {
+                checkForComodification();
+                return size;
+            }
+
+            public void addBoolean(int index, boolean e) {
+                rangeCheckForAdd(index);
+                checkForComodification();
+                root.addBoolean(offset + index, e);
+                updateSizeAndModCount(1);
+            }
+
+            public boolean removeElementAtIndex(int index) {
+                Objects.checkIndex(index, size);
+                checkForComodification();
+                boolean result = root.removeElementAtIndex(offset + index);
+                updateSizeAndModCount(-1);
+                return result;
+            }
+
+            protected void removeRange(int fromIndex, int toIndex) {
+                checkForComodification();
+                root.removeRange(offset + fromIndex, offset + toIndex);
+                updateSizeAndModCount(fromIndex - toIndex);
+            }
+
+            public boolean addAllBoolean(int index, PrimitiveCollection.OfBoolean c) {
+                rangeCheckForAdd(index);
+                int cSize = c.size();
+                if(cSize == 0) return false;
+                checkForComodification();
+                root.addAllBoolean(offset + index, c);
+                updateSizeAndModCount(cSize);
+                return true;
+            }
+
+            public PrimitiveListIterator.OfBoolean listIteratorBoolean(int index) {
+                checkForComodification();
+                rangeCheckForAdd(index);
+                return new PrimitiveListIterator.OfBoolean() {
+                    private final PrimitiveListIterator.OfBoolean i = root.listIteratorBoolean(offset + index);
+
+                    public boolean hasNext() { return nextIndex() < size; }
+
+                    public boolean nextBoolean() {
+                        if(hasNext()) return i.nextBoolean();
+                        throw new NoSuchElementException();
+                    }
+
+                    public boolean hasPrevious() { return previousIndex() >= 0; }
+
+                    public boolean previousBoolean() {
+                        if(hasPrevious()) return i.previousBoolean();
+                        throw new NoSuchElementException();
+                    }
+
+                    public int nextIndex() { return i.nextIndex() - offset; }
+
+                    public int previousIndex() { return i.previousIndex() - offset; }
+
+                    public void remove() {
+                        i.remove();
+                        updateSizeAndModCount(-1);
+                    }
+
+                    public void setBoolean(boolean e) { i.setBoolean(e); }
+
+                    public void addBoolean(boolean e) {
+                        i.addBoolean(e);
+                        updateSizeAndModCount(1);
+                    }
+                };
+            }
+
+            public PrimitiveList.OfBoolean subListBoolean(int from, int to) {
+                Objects.checkFromToIndex(from, to, size);
+                return new SubList(this, from, to);
+            }
+
+            private void checkForComodification() {
+                if(root.modCount != this.modCount) throw new ConcurrentModificationException();
+            }
+
+            private void updateSizeAndModCount(int sizeChange) {
+                SubList slist = this;
+                do {
+                    slist.size += sizeChange;
+                    slist.modCount = root.modCount;
+                    slist = slist.parent;
+                } while (slist != null);
+            }
+        }
+
+        void rangeCheckForAdd(int index) {
+            if(index < 0 || index > size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object obj) {
+            if(obj == this) return true;
+            if(!(obj instanceof List)) return false;
+            var e1 = listIteratorBoolean();
+            if(obj instanceof PrimitiveList.OfBoolean l) {
+                var e2 = l.listIteratorBoolean();
+                while(e1.hasNext() && e2.hasNext()) {
+                    boolean o1 = e1.nextBoolean(), o2 = e2.nextBoolean();
+                    if(!(o1 == o2)) return false;
+                }
+                return !(e1.hasNext() || e2.hasNext());
+            }
+            var e2 = ((List<?>) obj).listIterator();
+            while(e1.hasNext() && e2.hasNext()) {
+                boolean o1 = e1.nextBoolean();
+                Object o2 = e2.next();
+                if(!java.lang.Boolean.valueOf(o1).equals(o2)) return false;
+            }
+            return !(e1.hasNext() || e2.hasNext());
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = 1;
+            var it = iteratorBoolean();
+            while(it.hasNext()) hashCode = 31 * hashCode + java.lang.Boolean.hashCode(it.nextBoolean());
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            var it = iteratorBoolean();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextBoolean());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
 }
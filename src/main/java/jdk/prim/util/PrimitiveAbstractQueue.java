@@ -1,6 +1,1771 @@
 package jdk.prim.util;
 
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import jdk.prim.util.stream.PrimitiveStream;
+
 /**
  * A pseudo-package for holding the primitive declaration with functionalities and syntax of {@link java.util.AbstractQueue AbstractQueue}
  */
-public class PrimitiveAbstractQueue {}
+public final class PrimitiveAbstractQueue {
+    /**
+     * Created as a base class for generic implementation of {@code double} queues.
+     * Implementations need only provide {@link #offerDouble(double)}, {@link #peekDouble()},
+     * {@link #pollDouble()}, {@link #iteratorDouble()} and {@link java.util.Collection#size() size()}.
+     * The unboxed {@code peekDouble} and {@code pollDouble} cannot signal an empty queue, so
+     * the boxed {@link #peek()} and {@link #poll()} check {@link #isEmpty()} first and
+     * return {@code null}, and {@link #elementDouble()} and {@link #remove()} throw.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractQueue}
+     */
+    public static abstract class OfDouble extends PrimitiveAbstractCollection.OfDouble implements PrimitiveQueue.OfDouble {
+        /** Constructor for subclasses */
+        protected OfDouble() {}
+
+        ///////////// Queue operations
+
+        /**
+         * Inserts the specified element into this queue if it is possible to do so
+         * immediately without violating capacity restrictions.
+         * @param e the element to add
+         * @return {@code true}
+         * @throws IllegalStateException if the element cannot be added at this time
+         *         due to capacity restrictions
+         */
+        @Override
+        public boolean addDouble(double e) {
+            if(offerDouble(e)) return true;
+            throw new IllegalStateException("Queue full");
+        }
+
+        /**
+         * Retrieves, but does not remove, the head of this queue.
+         * @return the head of this queue
+         * @throws NoSuchElementException if this queue is empty
+         */
+        @Override
+        public double elementDouble() {
+            if(isEmpty()) throw new NoSuchElementException();
+            return peekDouble();
+        }
+
+        /**
+         * Retrieves and removes the head of this queue.
+         * @return the head of this queue
+         * @throws NoSuchElementException if this queue is empty
+         */
+        @Override
+        public java.lang.Double remove() {
+            if(isEmpty()) throw new NoSuchElementException();
+            return pollDouble();
+        }
+
+        @Override
+        public java.lang.Double peek() { return isEmpty() ? null : peekDouble(); }
+
+        @Override
+        public java.lang.Double poll() { return isEmpty() ? null : pollDouble(); }
+
+        @Override
+        public boolean removeDouble(double e) {
+            var it = iteratorDouble();
+            while(it.hasNext()) {
+                double x = it.nextDouble();
+                if(x == e || java.lang.Double.isNaN(x) && java.lang.Double.isNaN(e)) {
+                    it.remove();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Double e) ? removeDouble(e) : false; }
+
+        /**
+         * Adds all of the elements in the specified collection to this queue by
+         * calling {@link #addDouble(double)} on each of them.
+         * @param c collection containing elements to be added to this queue
+         * @return {@code true} if this queue changed as a result of the call
+         * @throws IllegalArgumentException if {@code c} is this queue
+         */
+        @Override
+        public boolean addAllDouble(PrimitiveCollection.OfDouble c) {
+            Objects.requireNonNull(c);
+            if(c == this) throw new IllegalArgumentException();
+            boolean modified = false;
+            var it = c.iteratorDouble();
+            while(it.hasNext()) if(addDouble(it.nextDouble())) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Double> c) {
+            if(c instanceof PrimitiveCollection.OfDouble p) return addAllDouble(p);
+            if(c == this) throw new IllegalArgumentException();
+            boolean modified = false;
+            for(java.lang.Double e : c) if(addDouble(e)) modified = true;
+            return modified;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllDouble(PrimitiveCollection.OfDouble c) {
+            var it = c.iteratorDouble();
+            while(it.hasNext()) if(!containsDouble(it.nextDouble())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            if(c instanceof PrimitiveCollection.OfDouble p) return containsAllDouble(p);
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean removeAllDouble(PrimitiveCollection.OfDouble c) {
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            if(size() > c.size()) {
+                var it = c.iteratorDouble();
+                while(it.hasNext()) modified |= removeDouble(it.nextDouble());
+            } else {
+                var it = iteratorDouble();
+                while(it.hasNext()) if(c.containsDouble(it.nextDouble())) {
+                    it.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfDouble p) return removeAllDouble(p);
+            return removeIfDouble(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllDouble(PrimitiveCollection.OfDouble c) {
+            Objects.requireNonNull(c);
+            return removeIfDouble(e -> !c.containsDouble(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfDouble p) return retainAllDouble(p);
+            return removeIfDouble(e -> !c.contains(e));
+        }
+
+        /**
+         * Removes all of the elements from this queue by repeatedly polling it
+         * until it is empty.
+         */
+        @Override
+        public void clear() {
+            while(!isEmpty()) pollDouble();
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public double[] toArrayDouble() {
+            double[] a = new double[size()];
+            var it = iteratorDouble();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextDouble();
+            return a;
+        }
+
+        @Override
+        public double[] toArrayDouble(double[] array) {
+            int size = size();
+            if(array.length < size) return toArrayDouble();
+            var it = iteratorDouble();
+            for(int i = 0; i < size; i++) array[i] = it.nextDouble();
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            double[] src = toArrayDouble();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Double.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Streams
+
+        @Override
+        public PrimitiveStream.OfDouble streamDouble() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamDouble'");
+        }
+
+        @Override
+        public PrimitiveStream.OfDouble parallelStreamDouble() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamDouble'");
+        }
+
+        ///////////// String conversion
+
+        @Override
+        public String toString() {
+            var it = iteratorDouble();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextDouble());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+
+    /**
+     * Created as a base class for generic implementation of {@code long} queues.
+     * Implementations need only provide {@link #offerLong(long)}, {@link #peekLong()},
+     * {@link #pollLong()}, {@link #iteratorLong()} and {@link java.util.Collection#size() size()}.
+     * The unboxed {@code peekLong} and {@code pollLong} cannot signal an empty queue, so
+     * the boxed {@link #peek()} and {@link #poll()} check {@link #isEmpty()} first and
+     * return {@code null}, and {@link #elementLong()} and {@link #remove()} throw.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractQueue}
+     */
+    public static abstract class OfLong extends PrimitiveAbstractCollection.OfLong implements PrimitiveQueue.OfLong {
+        /** Constructor for subclasses */
+        protected OfLong() {}
+
+        ///////////// Queue operations
+
+        /**
+         * Inserts the specified element into this queue if it is possible to do so
+         * immediately without violating capacity restrictions.
+         * @param e the element to add
+         * @return {@code true}
+         * @throws IllegalStateException if the element cannot be added at this time
+         *         due to capacity restrictions
+         */
+        @Override
+        public boolean addLong(long e) {
+            if(offerLong(e)) return true;
+            throw new IllegalStateException("Queue full");
+        }
+
+        /**
+         * Retrieves, but does not remove, the head of this queue.
+         * @return the head of this queue
+         * @throws NoSuchElementException if this queue is empty
+         */
+        @Override
+        public long elementLong() {
+            if(isEmpty()) throw new NoSuchElementException();
+            return peekLong();
+        }
+
+        /**
+         * Retrieves and removes the head of this queue.
+         * @return the head of this queue
+         * @throws NoSuchElementException if this queue is empty
+         */
+        @Override
+        public java.lang.Long remove() {
+            if(isEmpty()) throw new NoSuchElementException();
+            return pollLong();
+        }
+
+        @Override
+        public java.lang.Long peek() { return isEmpty() ? null : peekLong(); }
+
+        @Override
+        public java.lang.Long poll() { return isEmpty() ? null : pollLong(); }
+
+        @Override
+        public boolean removeLong(long e) {
+            var it = iteratorLong();
+            while(it.hasNext()) if(it.nextLong() == e) {
+                it.remove();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Long e) ? removeLong(e) : false; }
+
+        /**
+         * Adds all of the elements in the specified collection to this queue by
+         * calling {@link #addLong(long)} on each of them.
+         * @param c collection containing elements to be added to this queue
+         * @return {@code true} if this queue changed as a result of the call
+         * @throws IllegalArgumentException if {@code c} is this queue
+         */
+        @Override
+        public boolean addAllLong(PrimitiveCollection.OfLong c) {
+            Objects.requireNonNull(c);
+            if(c == this) throw new IllegalArgumentException();
+            boolean modified = false;
+            var it = c.iteratorLong();
+            while(it.hasNext()) if(addLong(it.nextLong())) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Long> c) {
+            if(c instanceof PrimitiveCollection.OfLong p) return addAllLong(p);
+            if(c == this) throw new IllegalArgumentException();
+            boolean modified = false;
+            for(java.lang.Long e : c) if(addLong(e)) modified = true;
+            return modified;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllLong(PrimitiveCollection.OfLong c) {
+            var it = c.iteratorLong();
+            while(it.hasNext()) if(!containsLong(it.nextLong())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            if(c instanceof PrimitiveCollection.OfLong p) return containsAllLong(p);
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean removeAllLong(PrimitiveCollection.OfLong c) {
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            if(size() > c.size()) {
+                var it = c.iteratorLong();
+                while(it.hasNext()) modified |= removeLong(it.nextLong());
+            } else {
+                var it = iteratorLong();
+                while(it.hasNext()) if(c.containsLong(it.nextLong())) {
+                    it.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfLong p) return removeAllLong(p);
+            return removeIfLong(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllLong(PrimitiveCollection.OfLong c) {
+            Objects.requireNonNull(c);
+            return removeIfLong(e -> !c.containsLong(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfLong p) return retainAllLong(p);
+            return removeIfLong(e -> !c.contains(e));
+        }
+
+        /**
+         * Removes all of the elements from this queue by repeatedly polling it
+         * until it is empty.
+         */
+        @Override
+        public void clear() {
+            while(!isEmpty()) pollLong();
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public long[] toArrayLong() {
+            long[] a = new long[size()];
+            var it = iteratorLong();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextLong();
+            return a;
+        }
+
+        @Override
+        public long[] toArrayLong(long[] array) {
+            int size = size();
+            if(array.length < size) return toArrayLong();
+            var it = iteratorLong();
+            for(int i = 0; i < size; i++) array[i] = it.nextLong();
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            long[] src = toArrayLong();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Long.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Streams
+
+        @Override
+        public PrimitiveStream.OfLong streamLong() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamLong'");
+        }
+
+        @Override
+        public PrimitiveStream.OfLong parallelStreamLong() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamLong'");
+        }
+
+        ///////////// String conversion
+
+        @Override
+        public String toString() {
+            var it = iteratorLong();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextLong());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+
+    /**
+     * Created as a base class for generic implementation of {@code int} queues.
+     * Implementations need only provide {@link #offerInt(int)}, {@link #peekInt()},
+     * {@link #pollInt()}, {@link #iteratorInt()} and {@link java.util.Collection#size() size()}.
+     * The unboxed {@code peekInt} and {@code pollInt} cannot signal an empty queue, so
+     * the boxed {@link #peek()} and {@link #poll()} check {@link #isEmpty()} first and
+     * return {@code null}, and {@link #elementInt()} and {@link #remove()} throw.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractQueue}
+     */
+    public static abstract class OfInt extends PrimitiveAbstractCollection.OfInt implements PrimitiveQueue.OfInt {
+        /** Constructor for subclasses */
+        protected OfInt() {}
+
+        ///////////// Queue operations
+
+        /**
+         * Inserts the specified element into this queue if it is possible to do so
+         * immediately without violating capacity restrictions.
+         * @param e the element to add
+         * @return {@code true}
+         * @throws IllegalStateException if the element cannot be added at this time
+         *         due to capacity restrictions
+         */
+        @Override
+        public boolean addInt(int e) {
+            if(offerInt(e)) return true;
+            throw new IllegalStateException("Queue full");
+        }
+
+        /**
+         * Retrieves, but does not remove, the head of this queue.
+         * @return the head of this queue
+         * @throws NoSuchElementException if this queue is empty
+         */
+        @Override
+        public int elementInt() {
+            if(isEmpty()) throw new NoSuchElementException();
+            return peekInt();
+        }
+
+        /**
+         * Retrieves and removes the head of this queue.
+         * @return the head of this queue
+         * @throws NoSuchElementException if this queue is empty
+         */
+        @Override
+        public java.lang.Integer remove() {
+            if(isEmpty()) throw new NoSuchElementException();
+            return pollInt();
+        }
+
+        @Override
+        public java.lang.Integer peek() { return isEmpty() ? null : peekInt(); }
+
+        @Override
+        public java.lang.Integer poll() { return isEmpty() ? null : pollInt(); }
+
+        @Override
+        public boolean removeInt(int e) {
+            var it = iteratorInt();
+            while(it.hasNext()) if(it.nextInt() == e) {
+                it.remove();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Integer e) ? removeInt(e) : false; }
+
+        /**
+         * Adds all of the elements in the specified collection to this queue by
+         * calling {@link #addInt(int)} on each of them.
+         * @param c collection containing elements to be added to this queue
+         * @return {@code true} if this queue changed as a result of the call
+         * @throws IllegalArgumentException if {@code c} is this queue
+         */
+        @Override
+        public boolean addAllInt(PrimitiveCollection.OfInt c) {
+            Objects.requireNonNull(c);
+            if(c == this) throw new IllegalArgumentException();
+            boolean modified = false;
+            var it = c.iteratorInt();
+            while(it.hasNext()) if(addInt(it.nextInt())) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Integer> c) {
+            if(c instanceof PrimitiveCollection.OfInt p) return addAllInt(p);
+            if(c == this) throw new IllegalArgumentException();
+            boolean modified = false;
+            for(java.lang.Integer e : c) if(addInt(e)) modified = true;
+            return modified;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllInt(PrimitiveCollection.OfInt c) {
+            var it = c.iteratorInt();
+            while(it.hasNext()) if(!containsInt(it.nextInt())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            if(c instanceof PrimitiveCollection.OfInt p) return containsAllInt(p);
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean removeAllInt(PrimitiveCollection.OfInt c) {
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            if(size() > c.size()) {
+                var it = c.iteratorInt();
+                while(it.hasNext()) modified |= removeInt(it.nextInt());
+            } else {
+                var it = iteratorInt();
+                while(it.hasNext()) if(c.containsInt(it.nextInt())) {
+                    it.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfInt p) return removeAllInt(p);
+            return removeIfInt(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllInt(PrimitiveCollection.OfInt c) {
+            Objects.requireNonNull(c);
+            return removeIfInt(e -> !c.containsInt(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfInt p) return retainAllInt(p);
+            return removeIfInt(e -> !c.contains(e));
+        }
+
+        /**
+         * Removes all of the elements from this queue by repeatedly polling it
+         * until it is empty.
+         */
+        @Override
+        public void clear() {
+            while(!isEmpty()) pollInt();
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public int[] toArrayInt() {
+            int[] a = new int[size()];
+            var it = iteratorInt();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextInt();
+            return a;
+        }
+
+        @Override
+        public int[] toArrayInt(int[] array) {
+            int size = size();
+            if(array.length < size) return toArrayInt();
+            var it = iteratorInt();
+            for(int i = 0; i < size; i++) array[i] = it.nextInt();
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            int[] src = toArrayInt();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Integer.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Streams
+
+        @Override
+        public PrimitiveStream.OfInt streamInt() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamInt'");
+        }
+
+        @Override
+        public PrimitiveStream.OfInt parallelStreamInt() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamInt'");
+        }
+
+        ///////////// String conversion
+
+        @Override
+        public String toString() {
+            var it = iteratorInt();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextInt());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+
+    /**
+     * Created as a base class for generic implementation of {@code float} queues.
+     * Implementations need only provide {@link #offerFloat(float)}, {@link #peekFloat()},
+     * {@link #pollFloat()}, {@link #iteratorFloat()} and {@link java.util.Collection#size() size()}.
+     * The unboxed {@code peekFloat} and {@code pollFloat} cannot signal an empty queue, so
+     * the boxed {@link #peek()} and {@link #poll()} check {@link #isEmpty()} first and
+     * return {@code null}, and {@link #elementFloat()} and {@link #remove()} throw.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractQueue}
+     */
+    public static abstract class OfFloat extends PrimitiveAbstractCollection.OfFloat implements PrimitiveQueue.OfFloat {
+        /** Constructor for subclasses */
+        protected OfFloat() {}
+
+        ///////////// Queue operations
+
+        /**
+         * Inserts the specified element into this queue if it is possible to do so
+         * immediately without violating capacity restrictions.
+         * @param e the element to add
+         * @return {@code true}
+         * @throws IllegalStateException if the element cannot be added at this time
+         *         due to capacity restrictions
+         */
+        @Override
+        public boolean addFloat(float e) {
+            if(offerFloat(e)) return true;
+            throw new IllegalStateException("Queue full");
+        }
+
+        /**
+         * Retrieves, but does not remove, the head of this queue.
+         * @return the head of this queue
+         * @throws NoSuchElementException if this queue is empty
+         */
+        @Override
+        public float elementFloat() {
+            if(isEmpty()) throw new NoSuchElementException();
+            return peekFloat();
+        }
+
+        /**
+         * Retrieves and removes the head of this queue.
+         * @return the head of this queue
+         * @throws NoSuchElementException if this queue is empty
+         */
+        @Override
+        public java.lang.Float remove() {
+            if(isEmpty()) throw new NoSuchElementException();
+            return pollFloat();
+        }
+
+        @Override
+        public java.lang.Float peek() { return isEmpty() ? null : peekFloat(); }
+
+        @Override
+        public java.lang.Float poll() { return isEmpty() ? null : pollFloat(); }
+
+        @Override
+        public boolean removeFloat(float e) {
+            var it = iteratorFloat();
+            while(it.hasNext()) {
+                float x = it.nextFloat();
+                if(x == e || java.lang.Float.isNaN(x) && java.lang.Float.isNaN(e)) {
+                    it.remove();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Float e) ? removeFloat(e) : false; }
+
+        /**
+         * Adds all of the elements in the specified collection to this queue by
+         * calling {@link #addFloat(float)} on each of them.
+         * @param c collection containing elements to be added to this queue
+         * @return {@code true} if this queue changed as a result of the call
+         * @throws IllegalArgumentException if {@code c} is this queue
+         */
+        @Override
+        public boolean addAllFloat(PrimitiveCollection.OfFloat c) {
+            Objects.requireNonNull(c);
+            if(c == this) throw new IllegalArgumentException();
+            boolean modified = false;
+            var it = c.iteratorFloat();
+            while(it.hasNext()) if(addFloat(it.nextFloat())) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Float> c) {
+            if(c instanceof PrimitiveCollection.OfFloat p) return addAllFloat(p);
+            if(c == this) throw new IllegalArgumentException();
+            boolean modified = false;
+            for(java.lang.Float e : c) if(addFloat(e)) modified = true;
+            return modified;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllFloat(PrimitiveCollection.OfFloat c) {
+            var it = c.iteratorFloat();
+            while(it.hasNext()) if(!containsFloat(it.nextFloat())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            if(c instanceof PrimitiveCollection.OfFloat p) return containsAllFloat(p);
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean removeAllFloat(PrimitiveCollection.OfFloat c) {
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            if(size() > c.size()) {
+                var it = c.iteratorFloat();
+                while(it.hasNext()) modified |= removeFloat(it.nextFloat());
+            } else {
+                var it = iteratorFloat();
+                while(it.hasNext()) if(c.containsFloat(it.nextFloat())) {
+                    it.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfFloat p) return removeAllFloat(p);
+            return removeIfFloat(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllFloat(PrimitiveCollection.OfFloat c) {
+            Objects.requireNonNull(c);
+            return removeIfFloat(e -> !c.containsFloat(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfFloat p) return retainAllFloat(p);
+            return removeIfFloat(e -> !c.contains(e));
+        }
+
+        /**
+         * Removes all of the elements from this queue by repeatedly polling it
+         * until it is empty.
+         */
+        @Override
+        public void clear() {
+            while(!isEmpty()) pollFloat();
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public float[] toArrayFloat() {
+            float[] a = new float[size()];
+            var it = iteratorFloat();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextFloat();
+            return a;
+        }
+
+        @Override
+        public float[] toArrayFloat(float[] array) {
+            int size = size();
+            if(array.length < size) return toArrayFloat();
+            var it = iteratorFloat();
+            for(int i = 0; i < size; i++) array[i] = it.nextFloat();
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            float[] src = toArrayFloat();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Float.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Streams
+
+        @Override
+        public PrimitiveStream.OfFloat streamFloat() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamFloat'");
+        }
+
+        @Override
+        public PrimitiveStream.OfFloat parallelStreamFloat() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamFloat'");
+        }
+
+        ///////////// String conversion
+
+        @Override
+        public String toString() {
+            var it = iteratorFloat();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextFloat());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+
+    /**
+     * Created as a base class for generic implementation of {@code char} queues.
+     * Implementations need only provide {@link #offerChar(char)}, {@link #peekChar()},
+     * {@link #pollChar()}, {@link #iteratorChar()} and {@link java.util.Collection#size() size()}.
+     * The unboxed {@code peekChar} and {@code pollChar} cannot signal an empty queue, so
+     * the boxed {@link #peek()} and {@link #poll()} check {@link #isEmpty()} first and
+     * return {@code null}, and {@link #elementChar()} and {@link #remove()} throw.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractQueue}
+     */
+    public static abstract class OfChar extends PrimitiveAbstractCollection.OfChar implements PrimitiveQueue.OfChar {
+        /** Constructor for subclasses */
+        protected OfChar() {}
+
+        ///////////// Queue operations
+
+        /**
+         * Inserts the specified element into this queue if it is possible to do so
+         * immediately without violating capacity restrictions.
+         * @param e the element to add
+         * @return {@code true}
+         * @throws IllegalStateException if the element cannot be added at this time
+         *         due to capacity restrictions
+         */
+        @Override
+        public boolean addChar(char e) {
+            if(offerChar(e)) return true;
+            throw new IllegalStateException("Queue full");
+        }
+
+        /**
+         * Retrieves, but does not remove, the head of this queue.
+         * @return the head of this queue
+         * @throws NoSuchElementException if this queue is empty
+         */
+        @Override
+        public char elementChar() {
+            if(isEmpty()) throw new NoSuchElementException();
+            return peekChar();
+        }
+
+        /**
+         * Retrieves and removes the head of this queue.
+         * @return the head of this queue
+         * @throws NoSuchElementException if this queue is empty
+         */
+        @Override
+        public java.lang.Character remove() {
+            if(isEmpty()) throw new NoSuchElementException();
+            return pollChar();
+        }
+
+        @Override
+        public java.lang.Character peek() { return isEmpty() ? null : peekChar(); }
+
+        @Override
+        public java.lang.Character poll() { return isEmpty() ? null : pollChar(); }
+
+        @Override
+        public boolean removeChar(char e) {
+            var it = iteratorChar();
+            while(it.hasNext()) if(it.nextChar() == e) {
+                it.remove();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Character e) ? removeChar(e) : false; }
+
+        /**
+         * Adds all of the elements in the specified collection to this queue by
+         * calling {@link #addChar(char)} on each of them.
+         * @param c collection containing elements to be added to this queue
+         * @return {@code true} if this queue changed as a result of the call
+         * @throws IllegalArgumentException if {@code c} is this queue
+         */
+        @Override
+        public boolean addAllChar(PrimitiveCollection.OfChar c) {
+            Objects.requireNonNull(c);
+            if(c == this) throw new IllegalArgumentException();
+            boolean modified = false;
+            var it = c.iteratorChar();
+            while(it.hasNext()) if(addChar(it.nextChar())) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Character> c) {
+            if(c instanceof PrimitiveCollection.OfChar p) return addAllChar(p);
+            if(c == this) throw new IllegalArgumentException();
+            boolean modified = false;
+            for(java.lang.Character e : c) if(addChar(e)) modified = true;
+            return modified;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllChar(PrimitiveCollection.OfChar c) {
+            var it = c.iteratorChar();
+            while(it.hasNext()) if(!containsChar(it.nextChar())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            if(c instanceof PrimitiveCollection.OfChar p) return containsAllChar(p);
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean removeAllChar(PrimitiveCollection.OfChar c) {
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            if(size() > c.size()) {
+                var it = c.iteratorChar();
+                while(it.hasNext()) modified |= removeChar(it.nextChar());
+            } else {
+                var it = iteratorChar();
+                while(it.hasNext()) if(c.containsChar(it.nextChar())) {
+                    it.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfChar p) return removeAllChar(p);
+            return removeIfChar(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllChar(PrimitiveCollection.OfChar c) {
+            Objects.requireNonNull(c);
+            return removeIfChar(e -> !c.containsChar(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfChar p) return retainAllChar(p);
+            return removeIfChar(e -> !c.contains(e));
+        }
+
+        /**
+         * Removes all of the elements from this queue by repeatedly polling it
+         * until it is empty.
+         */
+        @Override
+        public void clear() {
+            while(!isEmpty()) pollChar();
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public char[] toArrayChar() {
+            char[] a = new char[size()];
+            var it = iteratorChar();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextChar();
+            return a;
+        }
+
+        @Override
+        public char[] toArrayChar(char[] array) {
+            int size = size();
+            if(array.length < size) return toArrayChar();
+            var it = iteratorChar();
+            for(int i = 0; i < size; i++) array[i] = it.nextChar();
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            char[] src = toArrayChar();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Character.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Streams
+
+        @Override
+        public PrimitiveStream.OfChar streamChar() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamChar'");
+        }
+
+        @Override
+        public PrimitiveStream.OfChar parallelStreamChar() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamChar'");
+        }
+
+        ///////////// String conversion
+
+        @Override
+        public String toString() {
+            var it = iteratorChar();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextChar());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+
+    /**
+     * Created as a base class for generic implementation of {@code short} queues.
+     * Implementations need only provide {@link #offerShort(short)}, {@link #peekShort()},
+     * {@link #pollShort()}, {@link #iteratorShort()} and {@link java.util.Collection#size() size()}.
+     * The unboxed {@code peekShort} and {@code pollShort} cannot signal an empty queue, so
+     * the boxed {@link #peek()} and {@link #poll()} check {@link #isEmpty()} first and
+     * return {@code null}, and {@link #elementShort()} and {@link #remove()} throw.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractQueue}
+     */
+    public static abstract class OfShort extends PrimitiveAbstractCollection.OfShort implements PrimitiveQueue.OfShort {
+        /** Constructor for subclasses */
+        protected OfShort() {}
+
+        ///////////// Queue operations
+
+        /**
+         * Inserts the specified element into this queue if it is possible to do so
+         * immediately without violating capacity restrictions.
+         * @param e the element to add
+         * @return {@code true}
+         * @throws IllegalStateException if the element cannot be added at this time
+         *         due to capacity restrictions
+         */
+        @Override
+        public boolean addShort(short e) {
+            if(offerShort(e)) return true;
+            throw new IllegalStateException("Queue full");
+        }
+
+        /**
+         * Retrieves, but does not remove, the head of this queue.
+         * @return the head of this queue
+         * @throws NoSuchElementException if this queue is empty
+         */
+        @Override
+        public short elementShort() {
+            if(isEmpty()) throw new NoSuchElementException();
+            return peekShort();
+        }
+
+        /**
+         * Retrieves and removes the head of this queue.
+         * @return the head of this queue
+         * @throws NoSuchElementException if this queue is empty
+         */
+        @Override
+        public java.lang.Short remove() {
+            if(isEmpty()) throw new NoSuchElementException();
+            return pollShort();
+        }
+
+        @Override
+        public java.lang.Short peek() { return isEmpty() ? null : peekShort(); }
+
+        @Override
+        public java.lang.Short poll() { return isEmpty() ? null : pollShort(); }
+
+        @Override
+        public boolean removeShort(short e) {
+            var it = iteratorShort();
+            while(it.hasNext()) if(it.nextShort() == e) {
+                it.remove();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Short e) ? removeShort(e) : false; }
+
+        /**
+         * Adds all of the elements in the specified collection to this queue by
+         * calling {@link #addShort(short)} on each of them.
+         * @param c collection containing elements to be added to this queue
+         * @return {@code true} if this queue changed as a result of the call
+         * @throws IllegalArgumentException if {@code c} is this queue
+         */
+        @Override
+        public boolean addAllShort(PrimitiveCollection.OfShort c) {
+            Objects.requireNonNull(c);
+            if(c == this) throw new IllegalArgumentException();
+            boolean modified = false;
+            var it = c.iteratorShort();
+            while(it.hasNext()) if(addShort(it.nextShort())) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Short> c) {
+            if(c instanceof PrimitiveCollection.OfShort p) return addAllShort(p);
+            if(c == this) throw new IllegalArgumentException();
+            boolean modified = false;
+            for(java.lang.Short e : c) if(addShort(e)) modified = true;
+            return modified;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllShort(PrimitiveCollection.OfShort c) {
+            var it = c.iteratorShort();
+            while(it.hasNext()) if(!containsShort(it.nextShort())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            if(c instanceof PrimitiveCollection.OfShort p) return containsAllShort(p);
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean removeAllShort(PrimitiveCollection.OfShort c) {
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            if(size() > c.size()) {
+                var it = c.iteratorShort();
+                while(it.hasNext()) modified |= removeShort(it.nextShort());
+            } else {
+                var it = iteratorShort();
+                while(it.hasNext()) if(c.containsShort(it.nextShort())) {
+                    it.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfShort p) return removeAllShort(p);
+            return removeIfShort(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllShort(PrimitiveCollection.OfShort c) {
+            Objects.requireNonNull(c);
+            return removeIfShort(e -> !c.containsShort(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfShort p) return retainAllShort(p);
+            return removeIfShort(e -> !c.contains(e));
+        }
+
+        /**
+         * Removes all of the elements from this queue by repeatedly polling it
+         * until it is empty.
+         */
+        @Override
+        public void clear() {
+            while(!isEmpty()) pollShort();
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public short[] toArrayShort() {
+            short[] a = new short[size()];
+            var it = iteratorShort();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextShort();
+            return a;
+        }
+
+        @Override
+        public short[] toArrayShort(short[] array) {
+            int size = size();
+            if(array.length < size) return toArrayShort();
+            var it = iteratorShort();
+            for(int i = 0; i < size; i++) array[i] = it.nextShort();
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            short[] src = toArrayShort();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Short.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Streams
+
+        @Override
+        public PrimitiveStream.OfShort streamShort() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamShort'");
+        }
+
+        @Override
+        public PrimitiveStream.OfShort parallelStreamShort() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamShort'");
+        }
+
+        ///////////// String conversion
+
+        @Override
+        public String toString() {
+            var it = iteratorShort();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextShort());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+
+    /**
+     * Created as a base class for generic implementation of {@code byte} queues.
+     * Implementations need only provide {@link #offerByte(byte)}, {@link #peekByte()},
+     * {@link #pollByte()}, {@link #iteratorByte()} and {@link java.util.Collection#size() size()}.
+     * The unboxed {@code peekByte} and {@code pollByte} cannot signal an empty queue, so
+     * the boxed {@link #peek()} and {@link #poll()} check {@link #isEmpty()} first and
+     * return {@code null}, and {@link #elementByte()} and {@link #remove()} throw.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractQueue}
+     */
+    public static abstract class OfByte extends PrimitiveAbstractCollection.OfByte implements PrimitiveQueue.OfByte {
+        /** Constructor for subclasses */
+        protected OfByte() {}
+
+        ///////////// Queue operations
+
+        /**
+         * Inserts the specified element into this queue if it is possible to do so
+         * immediately without violating capacity restrictions.
+         * @param e the element to add
+         * @return {@code true}
+         * @throws IllegalStateException if the element cannot be added at this time
+         *         due to capacity restrictions
+         */
+        @Override
+        public boolean addByte(byte e) {
+            if(offerByte(e)) return true;
+            throw new IllegalStateException("Queue full");
+        }
+
+        /**
+         * Retrieves, but does not remove, the head of this queue.
+         * @return the head of this queue
+         * @throws NoSuchElementException if this queue is empty
+         */
+        @Override
+        public byte elementByte() {
+            if(isEmpty()) throw new NoSuchElementException();
+            return peekByte();
+        }
+
+        /**
+         * Retrieves and removes the head of this queue.
+         * @return the head of this queue
+         * @throws NoSuchElementException if this queue is empty
+         */
+        @Override
+        public java.lang.Byte remove() {
+            if(isEmpty()) throw new NoSuchElementException();
+            return pollByte();
+        }
+
+        @Override
+        public java.lang.Byte peek() { return isEmpty() ? null : peekByte(); }
+
+        @Override
+        public java.lang.Byte poll() { return isEmpty() ? null : pollByte(); }
+
+        @Override
+        public boolean removeByte(byte e) {
+            var it = iteratorByte();
+            while(it.hasNext()) if(it.nextByte() == e) {
+                it.remove();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Byte e) ? removeByte(e) : false; }
+
+        /**
+         * Adds all of the elements in the specified collection to this queue by
+         * calling {@link #addByte(byte)} on each of them.
+         * @param c collection containing elements to be added to this queue
+         * @return {@code true} if this queue changed as a result of the call
+         * @throws IllegalArgumentException if {@code c} is this queue
+         */
+        @Override
+        public boolean addAllByte(PrimitiveCollection.OfByte c) {
+            Objects.requireNonNull(c);
+            if(c == this) throw new IllegalArgumentException();
+            boolean modified = false;
+            var it = c.iteratorByte();
+            while(it.hasNext()) if(addByte(it.nextByte())) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Byte> c) {
+            if(c instanceof PrimitiveCollection.OfByte p) return addAllByte(p);
+            if(c == this) throw new IllegalArgumentException();
+            boolean modified = false;
+            for(java.lang.Byte e : c) if(addByte(e)) modified = true;
+            return modified;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllByte(PrimitiveCollection.OfByte c) {
+            var it = c.iteratorByte();
+            while(it.hasNext()) if(!containsByte(it.nextByte())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            if(c instanceof PrimitiveCollection.OfByte p) return containsAllByte(p);
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean removeAllByte(PrimitiveCollection.OfByte c) {
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            if(size() > c.size()) {
+                var it = c.iteratorByte();
+                while(it.hasNext()) modified |= removeByte(it.nextByte());
+            } else {
+                var it = iteratorByte();
+                while(it.hasNext()) if(c.containsByte(it.nextByte())) {
+                    it.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfByte p) return removeAllByte(p);
+            return removeIfByte(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllByte(PrimitiveCollection.OfByte c) {
+            Objects.requireNonNull(c);
+            return removeIfByte(e -> !c.containsByte(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfByte p) return retainAllByte(p);
+            return removeIfByte(e -> !c.contains(e));
+        }
+
+        /**
+         * Removes all of the elements from this queue by repeatedly polling it
+         * until it is empty.
+         */
+        @Override
+        public void clear() {
+            while(!isEmpty()) pollByte();
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public byte[] toArrayByte() {
+            byte[] a = new byte[size()];
+            var it = iteratorByte();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextByte();
+            return a;
+        }
+
+        @Override
+        public byte[] toArrayByte(byte[] array) {
+            int size = size();
+            if(array.length < size) return toArrayByte();
+            var it = iteratorByte();
+            for(int i = 0; i < size; i++) array[i] = it.nextByte();
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            byte[] src = toArrayByte();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Byte.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Streams
+
+        @Override
+        public PrimitiveStream.OfByte streamByte() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamByte'");
+        }
+
+        @Override
+        public PrimitiveStream.OfByte parallelStreamByte() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamByte'");
+        }
+
+        ///////////// String conversion
+
+        @Override
+        public String toString() {
+            var it = iteratorByte();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextByte());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+
+    /**
+     * Created as a base class for generic implementation of {@code boolean} queues.
+     * Implementations need only provide {@link #offerBoolean(boolean)}, {@link #peekBoolean()},
+     * {@link #pollBoolean()}, {@link #iteratorBoolean()} and {@link java.util.Collection#size() size()}.
+     * The unboxed {@code peekBoolean} and {@code pollBoolean} cannot signal an empty queue, so
+     * the boxed {@link #peek()} and {@link #poll()} check {@link #isEmpty()} first and
+     * return {@code null}, and {@link #elementBoolean()} and {@link #remove()} throw.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractQueue}
+     */
+    public static abstract class OfBoolean extends PrimitiveAbstractCollection.OfBoolean implements PrimitiveQueue.OfBoolean {
+        /** Constructor for subclasses */
+        protected OfBoolean() {}
+
+        ///////////// Queue operations
+
+        /**
+         * Inserts the specified element into this queue if it is possible to do so
+         * immediately without violating capacity restrictions.
+         * @param e the element to add
+         * @return {@code true}
+         * @throws IllegalStateException if the element cannot be added at this time
+         *         due to capacity restrictions
+         */
+        @Override
+        public boolean addBoolean(boolean e) {
+            if(offerBoolean(e)) return true;
+            throw new IllegalStateException("Queue full");
+        }
+
+        /**
+         * Retrieves, but does not remove, the head of this queue.
+         * @return the head of this queue
+         * @throws NoSuchElementException if this queue is empty
+         */
+        @Override
+        public boolean elementBoolean() {
+            if(isEmpty()) throw new NoSuchElementException();
+            return peekBoolean();
+        }
+
+        /**
+         * Retrieves and removes the head of this queue.
+         * @return the head of this queue
+         * @throws NoSuchElementException if this queue is empty
+         */
+        @Override
+        public java.lang.Boolean remove() {
+            if(isEmpty()) throw new NoSuchElementException();
+            return pollBoolean();
+        }
+
+        @Override
+        public java.lang.Boolean peek() { return isEmpty() ? null : peekBoolean(); }
+
+        @Override
+        public java.lang.Boolean poll() { return isEmpty() ? null : pollBoolean(); }
+
+        @Override
+        public boolean removeBoolean(boolean e) {
+            var it = iteratorBoolean();
+            while(it.hasNext()) if(it.nextBoolean() == e) {
+                it.remove();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Boolean e) ? removeBoolean(e) : false; }
+
+        /**
+         * Adds all of the elements in the specified collection to this queue by
+         * calling {@link #addBoolean(boolean)} on each of them.
+         * @param c collection containing elements to be added to this queue
+         * @return {@code true} if this queue changed as a result of the call
+         * @throws IllegalArgumentException if {@code c} is this queue
+         */
+        @Override
+        public boolean addAllBoolean(PrimitiveCollection.OfBoolean c) {
+            Objects.requireNonNull(c);
+            if(c == this) throw new IllegalArgumentException();
+            boolean modified = false;
+            var it = c.iteratorBoolean();
+            while(it.hasNext()) if(addBoolean(it.nextBoolean())) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Boolean> c) {
+            if(c instanceof PrimitiveCollection.OfBoolean p) return addAllBoolean(p);
+            if(c == this) throw new IllegalArgumentException();
+            boolean modified = false;
+            for(java.lang.Boolean e : c) if(addBoolean(e)) modified = true;
+            return modified;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllBoolean(PrimitiveCollection.OfBoolean c) {
+            var it = c.iteratorBoolean();
+            while(it.hasNext()) if(!containsBoolean(it.nextBoolean())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            if(c instanceof PrimitiveCollection.OfBoolean p) return containsAllBoolean(p);
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean removeAllBoolean(PrimitiveCollection.OfBoolean c) {
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            if(size() > c.size()) {
+                var it = c.iteratorBoolean();
+                while(it.hasNext()) modified |= removeBoolean(it.nextBoolean());
+            } else {
+                var it = iteratorBoolean();
+                while(it.hasNext()) if(c.containsBoolean(it.nextBoolean())) {
+                    it.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfBoolean p) return removeAllBoolean(p);
+            return removeIfBoolean(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllBoolean(PrimitiveCollection.OfBoolean c) {
+            Objects.requireNonNull(c);
+            return removeIfBoolean(e -> !c.containsBoolean(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfBoolean p) return retainAllBoolean(p);
+            return removeIfBoolean(e -> !c.contains(e));
+        }
+
+        /**
+         * Removes all of the elements from this queue by repeatedly polling it
+         * until it is empty.
+         */
+        @Override
+        public void clear() {
+            while(!isEmpty()) pollBoolean();
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public boolean[] toArrayBoolean() {
+            boolean[] a = new boolean[size()];
+            var it = iteratorBoolean();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextBoolean();
+            return a;
+        }
+
+        @Override
+        public boolean[] toArrayBoolean(boolean[] array) {
+            int size = size();
+            if(array.length < size) return toArrayBoolean();
+            var it = iteratorBoolean();
+            for(int i = 0; i < size; i++) array[i] = it.nextBoolean();
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            boolean[] src = toArrayBoolean();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Boolean.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Streams
+
+        @Override
+        public PrimitiveStream.OfBoolean streamBoolean() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamBoolean'");
+        }
+
+        @Override
+        public PrimitiveStream.OfBoolean parallelStreamBoolean() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamBoolean'");
+        }
+
+        ///////////// String conversion
+
+        @Override
+        public String toString() {
+            var it = iteratorBoolean();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextBoolean());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+}
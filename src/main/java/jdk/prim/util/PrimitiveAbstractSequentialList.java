@@ -1,6 +1,1063 @@
 package jdk.prim.util;
 
+import java.util.NoSuchElementException;
+
 /**
  * A pseudo-package for holding the primitive declaration with functionalities and syntax of {@link java.util.AbstractSequentialList AbstractSequentialList}
  */
-public final class PrimitiveAbstractSequentialList {}
+public final class PrimitiveAbstractSequentialList {
+    /**
+     * Created as a base class for {@code double} lists backed by a "sequential access" data
+     * store, such as a linked list. For random access data (such as an array),
+     * {@link PrimitiveAbstractList.OfDouble} should be used in preference to this class.
+     * <p>
+     * To implement a list the programmer needs only to extend this class and provide
+     * implementations for the {@link #listIteratorDouble(int)} and {@link java.util.Collection#size() size()}
+     * methods. For an unmodifiable list, only the list iterator's {@code hasNext},
+     * {@code nextDouble}, {@code hasPrevious}, {@code previousDouble} and index methods need be
+     * implemented. A modifiable list must additionally implement the iterator's
+     * {@code setDouble}, and a variable-size list its {@code remove} and {@code addDouble}.
+     * <p>
+     * This is analogous to {@link java.util.AbstractSequentialList}
+     */
+    public static abstract class OfDouble extends PrimitiveAbstractList.OfDouble {
+        /** Constructor for subclasses */
+        protected OfDouble() {}
+
+        /**
+         * Returns the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element and returns it with
+         * {@code nextDouble}.
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public double getDouble(int index) {
+            try {
+                return listIteratorDouble(index).nextDouble();
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Replaces the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element, reads it with
+         * {@code nextDouble} and replaces it with {@code setDouble}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public double setDouble(int index, double e) {
+            try {
+                var it = listIteratorDouble(index);
+                double oldVal = it.nextDouble();
+                it.setDouble(e);
+                return oldVal;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Inserts the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed position and inserts with
+         * {@code addDouble}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public void addDouble(int index, double e) { listIteratorDouble(index).addDouble(e); }
+
+        /**
+         * Removes the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element, reads it with
+         * {@code nextDouble} and removes it with {@code remove}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public double removeElementAtIndex(int index) {
+            try {
+                var it = listIteratorDouble(index);
+                double outCast = it.nextDouble();
+                it.remove();
+                return outCast;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Inserts all of the elements of the specified collection at the specified
+         * position. This implementation gets a list iterator pointing to the indexed
+         * position and inserts the elements one at a time with {@code addDouble}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public boolean addAllDouble(int index, PrimitiveCollection.OfDouble c) {
+            try {
+                boolean modified = false;
+                var e1 = listIteratorDouble(index);
+                var e2 = c.iteratorDouble();
+                while(e2.hasNext()) {
+                    e1.addDouble(e2.nextDouble());
+                    modified = true;
+                }
+                return modified;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Returns an iterator over the elements in this list, which is simply
+         * {@link #listIteratorDouble()}.
+         */
+        @Override
+        public PrimitiveIterator.OfDouble iteratorDouble() {
+            var it = listIteratorDouble();
+            return new PrimitiveIterator.OfDouble() {
+                public boolean hasNext() { return it.hasNext(); }
+
+                public double nextDouble() { return it.nextDouble(); }
+
+                public void remove() { it.remove(); }
+            };
+        }
+
+        /**
+         * Returns a list iterator over the elements in this list, in proper sequence,
+         * starting at the specified position.
+         * @param index index of first element to be returned from the list iterator
+         * @return a list iterator over the elements in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        @Override
+        public abstract PrimitiveListIterator.OfDouble listIteratorDouble(int index);
+    }
+
+
+    /**
+     * Created as a base class for {@code long} lists backed by a "sequential access" data
+     * store, such as a linked list. For random access data (such as an array),
+     * {@link PrimitiveAbstractList.OfLong} should be used in preference to this class.
+     * <p>
+     * To implement a list the programmer needs only to extend this class and provide
+     * implementations for the {@link #listIteratorLong(int)} and {@link java.util.Collection#size() size()}
+     * methods. For an unmodifiable list, only the list iterator's {@code hasNext},
+     * {@code nextLong}, {@code hasPrevious}, {@code previousLong} and index methods need be
+     * implemented. A modifiable list must additionally implement the iterator's
+     * {@code setLong}, and a variable-size list its {@code remove} and {@code addLong}.
+     * <p>
+     * This is analogous to {@link java.util.AbstractSequentialList}
+     */
+    public static abstract class OfLong extends PrimitiveAbstractList.OfLong {
+        /** Constructor for subclasses */
+        protected OfLong() {}
+
+        /**
+         * Returns the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element and returns it with
+         * {@code nextLong}.
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public long getLong(int index) {
+            try {
+                return listIteratorLong(index).nextLong();
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Replaces the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element, reads it with
+         * {@code nextLong} and replaces it with {@code setLong}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public long setLong(int index, long e) {
+            try {
+                var it = listIteratorLong(index);
+                long oldVal = it.nextLong();
+                it.setLong(e);
+                return oldVal;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Inserts the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed position and inserts with
+         * {@code addLong}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public void addLong(int index, long e) { listIteratorLong(index).addLong(e); }
+
+        /**
+         * Removes the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element, reads it with
+         * {@code nextLong} and removes it with {@code remove}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public long removeElementAtIndex(int index) {
+            try {
+                var it = listIteratorLong(index);
+                long outCast = it.nextLong();
+                it.remove();
+                return outCast;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Inserts all of the elements of the specified collection at the specified
+         * position. This implementation gets a list iterator pointing to the indexed
+         * position and inserts the elements one at a time with {@code addLong}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public boolean addAllLong(int index, PrimitiveCollection.OfLong c) {
+            try {
+                boolean modified = false;
+                var e1 = listIteratorLong(index);
+                var e2 = c.iteratorLong();
+                while(e2.hasNext()) {
+                    e1.addLong(e2.nextLong());
+                    modified = true;
+                }
+                return modified;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Returns an iterator over the elements in this list, which is simply
+         * {@link #listIteratorLong()}.
+         */
+        @Override
+        public PrimitiveIterator.OfLong iteratorLong() {
+            var it = listIteratorLong();
+            return new PrimitiveIterator.OfLong() {
+                public boolean hasNext() { return it.hasNext(); }
+
+                public long nextLong() { return it.nextLong(); }
+
+                public void remove() { it.remove(); }
+            };
+        }
+
+        /**
+         * Returns a list iterator over the elements in this list, in proper sequence,
+         * starting at the specified position.
+         * @param index index of first element to be returned from the list iterator
+         * @return a list iterator over the elements in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        @Override
+        public abstract PrimitiveListIterator.OfLong listIteratorLong(int index);
+    }
+
+
+    /**
+     * Created as a base class for {@code int} lists backed by a "sequential access" data
+     * store, such as a linked list. For random access data (such as an array),
+     * {@link PrimitiveAbstractList.OfInt} should be used in preference to this class.
+     * <p>
+     * To implement a list the programmer needs only to extend this class and provide
+     * implementations for the {@link #listIteratorInt(int)} and {@link java.util.Collection#size() size()}
+     * methods. For an unmodifiable list, only the list iterator's {@code hasNext},
+     * {@code nextInt}, {@code hasPrevious}, {@code previousInt} and index methods need be
+     * implemented. A modifiable list must additionally implement the iterator's
+     * {@code setInt}, and a variable-size list its {@code remove} and {@code addInt}.
+     * <p>
+     * This is analogous to {@link java.util.AbstractSequentialList}
+     */
+    public static abstract class OfInt extends PrimitiveAbstractList.OfInt {
+        /** Constructor for subclasses */
+        protected OfInt() {}
+
+        /**
+         * Returns the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element and returns it with
+         * {@code nextInt}.
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public int getInt(int index) {
+            try {
+                return listIteratorInt(index).nextInt();
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Replaces the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element, reads it with
+         * {@code nextInt} and replaces it with {@code setInt}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public int setInt(int index, int e) {
+            try {
+                var it = listIteratorInt(index);
+                int oldVal = it.nextInt();
+                it.setInt(e);
+                return oldVal;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Inserts the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed position and inserts with
+         * {@code addInt}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public void addInt(int index, int e) { listIteratorInt(index).addInt(e); }
+
+        /**
+         * Removes the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element, reads it with
+         * {@code nextInt} and removes it with {@code remove}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public int removeElementAtIndex(int index) {
+            try {
+                var it = listIteratorInt(index);
+                int outCast = it.nextInt();
+                it.remove();
+                return outCast;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Inserts all of the elements of the specified collection at the specified
+         * position. This implementation gets a list iterator pointing to the indexed
+         * position and inserts the elements one at a time with {@code addInt}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public boolean addAllInt(int index, PrimitiveCollection.OfInt c) {
+            try {
+                boolean modified = false;
+                var e1 = listIteratorInt(index);
+                var e2 = c.iteratorInt();
+                while(e2.hasNext()) {
+                    e1.addInt(e2.nextInt());
+                    modified = true;
+                }
+                return modified;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Returns an iterator over the elements in this list, which is simply
+         * {@link #listIteratorInt()}.
+         */
+        @Override
+        public PrimitiveIterator.OfInt iteratorInt() {
+            var it = listIteratorInt();
+            return new PrimitiveIterator.OfInt() {
+                public boolean hasNext() { return it.hasNext(); }
+
+                public int nextInt() { return it.nextInt(); }
+
+                public void remove() { it.remove(); }
+            };
+        }
+
+        /**
+         * Returns a list iterator over the elements in this list, in proper sequence,
+         * starting at the specified position.
+         * @param index index of first element to be returned from the list iterator
+         * @return a list iterator over the elements in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        @Override
+        public abstract PrimitiveListIterator.OfInt listIteratorInt(int index);
+    }
+
+
+    /**
+     * Created as a base class for {@code float} lists backed by a "sequential access" data
+     * store, such as a linked list. For random access data (such as an array),
+     * {@link PrimitiveAbstractList.OfFloat} should be used in preference to this class.
+     * <p>
+     * To implement a list the programmer needs only to extend this class and provide
+     * implementations for the {@link #listIteratorFloat(int)} and {@link java.util.Collection#size() size()}
+     * methods. For an unmodifiable list, only the list iterator's {@code hasNext},
+     * {@code nextFloat}, {@code hasPrevious}, {@code previousFloat} and index methods need be
+     * implemented. A modifiable list must additionally implement the iterator's
+     * {@code setFloat}, and a variable-size list its {@code remove} and {@code addFloat}.
+     * <p>
+     * This is analogous to {@link java.util.AbstractSequentialList}
+     */
+    public static abstract class OfFloat extends PrimitiveAbstractList.OfFloat {
+        /** Constructor for subclasses */
+        protected OfFloat() {}
+
+        /**
+         * Returns the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element and returns it with
+         * {@code nextFloat}.
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public float getFloat(int index) {
+            try {
+                return listIteratorFloat(index).nextFloat();
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Replaces the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element, reads it with
+         * {@code nextFloat} and replaces it with {@code setFloat}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public float setFloat(int index, float e) {
+            try {
+                var it = listIteratorFloat(index);
+                float oldVal = it.nextFloat();
+                it.setFloat(e);
+                return oldVal;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Inserts the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed position and inserts with
+         * {@code addFloat}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public void addFloat(int index, float e) { listIteratorFloat(index).addFloat(e); }
+
+        /**
+         * Removes the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element, reads it with
+         * {@code nextFloat} and removes it with {@code remove}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public float removeElementAtIndex(int index) {
+            try {
+                var it = listIteratorFloat(index);
+                float outCast = it.nextFloat();
+                it.remove();
+                return outCast;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Inserts all of the elements of the specified collection at the specified
+         * position. This implementation gets a list iterator pointing to the indexed
+         * position and inserts the elements one at a time with {@code addFloat}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public boolean addAllFloat(int index, PrimitiveCollection.OfFloat c) {
+            try {
+                boolean modified = false;
+                var e1 = listIteratorFloat(index);
+                var e2 = c.iteratorFloat();
+                while(e2.hasNext()) {
+                    e1.addFloat(e2.nextFloat());
+                    modified = true;
+                }
+                return modified;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Returns an iterator over the elements in this list, which is simply
+         * {@link #listIteratorFloat()}.
+         */
+        @Override
+        public PrimitiveIterator.OfFloat iteratorFloat() {
+            var it = listIteratorFloat();
+            return new PrimitiveIterator.OfFloat() {
+                public boolean hasNext() { return it.hasNext(); }
+
+                public float nextFloat() { return it.nextFloat(); }
+
+                public void remove() { it.remove(); }
+            };
+        }
+
+        /**
+         * Returns a list iterator over the elements in this list, in proper sequence,
+         * starting at the specified position.
+         * @param index index of first element to be returned from the list iterator
+         * @return a list iterator over the elements in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        @Override
+        public abstract PrimitiveListIterator.OfFloat listIteratorFloat(int index);
+    }
+
+
+    /**
+     * Created as a base class for {@code char} lists backed by a "sequential access" data
+     * store, such as a linked list. For random access data (such as an array),
+     * {@link PrimitiveAbstractList.OfChar} should be used in preference to this class.
+     * <p>
+     * To implement a list the programmer needs only to extend this class and provide
+     * implementations for the {@link #listIteratorChar(int)} and {@link java.util.Collection#size() size()}
+     * methods. For an unmodifiable list, only the list iterator's {@code hasNext},
+     * {@code nextChar}, {@code hasPrevious}, {@code previousChar} and index methods need be
+     * implemented. A modifiable list must additionally implement the iterator's
+     * {@code setChar}, and a variable-size list its {@code remove} and {@code addChar}.
+     * <p>
+     * This is analogous to {@link java.util.AbstractSequentialList}
+     */
+    public static abstract class OfChar extends PrimitiveAbstractList.OfChar {
+        /** Constructor for subclasses */
+        protected OfChar() {}
+
+        /**
+         * Returns the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element and returns it with
+         * {@code nextChar}.
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public char getChar(int index) {
+            try {
+                return listIteratorChar(index).nextChar();
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Replaces the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element, reads it with
+         * {@code nextChar} and replaces it with {@code setChar}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public char setChar(int index, char e) {
+            try {
+                var it = listIteratorChar(index);
+                char oldVal = it.nextChar();
+                it.setChar(e);
+                return oldVal;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Inserts the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed position and inserts with
+         * {@code addChar}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public void addChar(int index, char e) { listIteratorChar(index).addChar(e); }
+
+        /**
+         * Removes the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element, reads it with
+         * {@code nextChar} and removes it with {@code remove}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public char removeElementAtIndex(int index) {
+            try {
+                var it = listIteratorChar(index);
+                char outCast = it.nextChar();
+                it.remove();
+                return outCast;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Inserts all of the elements of the specified collection at the specified
+         * position. This implementation gets a list iterator pointing to the indexed
+         * position and inserts the elements one at a time with {@code addChar}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public boolean addAllChar(int index, PrimitiveCollection.OfChar c) {
+            try {
+                boolean modified = false;
+                var e1 = listIteratorChar(index);
+                var e2 = c.iteratorChar();
+                while(e2.hasNext()) {
+                    e1.addChar(e2.nextChar());
+                    modified = true;
+                }
+                return modified;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Returns an iterator over the elements in this list, which is simply
+         * {@link #listIteratorChar()}.
+         */
+        @Override
+        public PrimitiveIterator.OfChar iteratorChar() {
+            var it = listIteratorChar();
+            return new PrimitiveIterator.OfChar() {
+                public boolean hasNext() { return it.hasNext(); }
+
+                public char nextChar() { return it.nextChar(); }
+
+                public void remove() { it.remove(); }
+            };
+        }
+
+        /**
+         * Returns a list iterator over the elements in this list, in proper sequence,
+         * starting at the specified position.
+         * @param index index of first element to be returned from the list iterator
+         * @return a list iterator over the elements in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        @Override
+        public abstract PrimitiveListIterator.OfChar listIteratorChar(int index);
+    }
+
+
+    /**
+     * Created as a base class for {@code short} lists backed by a "sequential access" data
+     * store, such as a linked list. For random access data (such as an array),
+     * {@link PrimitiveAbstractList.OfShort} should be used in preference to this class.
+     * <p>
+     * To implement a list the programmer needs only to extend this class and provide
+     * implementations for the {@link #listIteratorShort(int)} and {@link java.util.Collection#size() size()}
+     * methods. For an unmodifiable list, only the list iterator's {@code hasNext},
+     * {@code nextShort}, {@code hasPrevious}, {@code previousShort} and index methods need be
+     * implemented. A modifiable list must additionally implement the iterator's
+     * {@code setShort}, and a variable-size list its {@code remove} and {@code addShort}.
+     * <p>
+     * This is analogous to {@link java.util.AbstractSequentialList}
+     */
+    public static abstract class OfShort extends PrimitiveAbstractList.OfShort {
+        /** Constructor for subclasses */
+        protected OfShort() {}
+
+        /**
+         * Returns the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element and returns it with
+         * {@code nextShort}.
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public short getShort(int index) {
+            try {
+                return listIteratorShort(index).nextShort();
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Replaces the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element, reads it with
+         * {@code nextShort} and replaces it with {@code setShort}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public short setShort(int index, short e) {
+            try {
+                var it = listIteratorShort(index);
+                short oldVal = it.nextShort();
+                it.setShort(e);
+                return oldVal;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Inserts the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed position and inserts with
+         * {@code addShort}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public void addShort(int index, short e) { listIteratorShort(index).addShort(e); }
+
+        /**
+         * Removes the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element, reads it with
+         * {@code nextShort} and removes it with {@code remove}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public short removeElementAtIndex(int index) {
+            try {
+                var it = listIteratorShort(index);
+                short outCast = it.nextShort();
+                it.remove();
+                return outCast;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Inserts all of the elements of the specified collection at the specified
+         * position. This implementation gets a list iterator pointing to the indexed
+         * position and inserts the elements one at a time with {@code addShort}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public boolean addAllShort(int index, PrimitiveCollection.OfShort c) {
+            try {
+                boolean modified = false;
+                var e1 = listIteratorShort(index);
+                var e2 = c.iteratorShort();
+                while(e2.hasNext()) {
+                    e1.addShort(e2.nextShort());
+                    modified = true;
+                }
+                return modified;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Returns an iterator over the elements in this list, which is simply
+         * {@link #listIteratorShort()}.
+         */
+        @Override
+        public PrimitiveIterator.OfShort iteratorShort() {
+            var it = listIteratorShort();
+            return new PrimitiveIterator.OfShort() {
+                public boolean hasNext() { return it.hasNext(); }
+
+                public short nextShort() { return it.nextShort(); }
+
+                public void remove() { it.remove(); }
+            };
+        }
+
+        /**
+         * Returns a list iterator over the elements in this list, in proper sequence,
+         * starting at the specified position.
+         * @param index index of first element to be returned from the list iterator
+         * @return a list iterator over the elements in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        @Override
+        public abstract PrimitiveListIterator.OfShort listIteratorShort(int index);
+    }
+
+
+    /**
+     * Created as a base class for {@code byte} lists backed by a "sequential access" data
+     * store, such as a linked list. For random access data (such as an array),
+     * {@link PrimitiveAbstractList.OfByte} should be used in preference to this class.
+     * <p>
+     * To implement a list the programmer needs only to extend this class and provide
+     * implementations for the {@link #listIteratorByte(int)} and {@link java.util.Collection#size() size()}
+     * methods. For an unmodifiable list, only the list iterator's {@code hasNext},
+     * {@code nextByte}, {@code hasPrevious}, {@code previousByte} and index methods need be
+     * implemented. A modifiable list must additionally implement the iterator's
+     * {@code setByte}, and a variable-size list its {@code remove} and {@code addByte}.
+     * <p>
+     * This is analogous to {@link java.util.AbstractSequentialList}
+     */
+    public static abstract class OfByte extends PrimitiveAbstractList.OfByte {
+        /** Constructor for subclasses */
+        protected OfByte() {}
+
+        /**
+         * Returns the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element and returns it with
+         * {@code nextByte}.
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public byte getByte(int index) {
+            try {
+                return listIteratorByte(index).nextByte();
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Replaces the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element, reads it with
+         * {@code nextByte} and replaces it with {@code setByte}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public byte setByte(int index, byte e) {
+            try {
+                var it = listIteratorByte(index);
+                byte oldVal = it.nextByte();
+                it.setByte(e);
+                return oldVal;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Inserts the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed position and inserts with
+         * {@code addByte}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public void addByte(int index, byte e) { listIteratorByte(index).addByte(e); }
+
+        /**
+         * Removes the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element, reads it with
+         * {@code nextByte} and removes it with {@code remove}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public byte removeElementAtIndex(int index) {
+            try {
+                var it = listIteratorByte(index);
+                byte outCast = it.nextByte();
+                it.remove();
+                return outCast;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Inserts all of the elements of the specified collection at the specified
+         * position. This implementation gets a list iterator pointing to the indexed
+         * position and inserts the elements one at a time with {@code addByte}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public boolean addAllByte(int index, PrimitiveCollection.OfByte c) {
+            try {
+                boolean modified = false;
+                var e1 = listIteratorByte(index);
+                var e2 = c.iteratorByte();
+                while(e2.hasNext()) {
+                    e1.addByte(e2.nextByte());
+                    modified = true;
+                }
+                return modified;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Returns an iterator over the elements in this list, which is simply
+         * {@link #listIteratorByte()}.
+         */
+        @Override
+        public PrimitiveIterator.OfByte iteratorByte() {
+            var it = listIteratorByte();
+            return new PrimitiveIterator.OfByte() {
+                public boolean hasNext() { return it.hasNext(); }
+
+                public byte nextByte() { return it.nextByte(); }
+
+                public void remove() { it.remove(); }
+            };
+        }
+
+        /**
+         * Returns a list iterator over the elements in this list, in proper sequence,
+         * starting at the specified position.
+         * @param index index of first element to be returned from the list iterator
+         * @return a list iterator over the elements in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        @Override
+        public abstract PrimitiveListIterator.OfByte listIteratorByte(int index);
+    }
+
+
+    /**
+     * Created as a base class for {@code boolean} lists backed by a "sequential access" data
+     * store, such as a linked list. For random access data (such as an array),
+     * {@link PrimitiveAbstractList.OfBoolean} should be used in preference to this class.
+     * <p>
+     * To implement a list the programmer needs only to extend this class and provide
+     * implementations for the {@link #listIteratorBoolean(int)} and {@link java.util.Collection#size() size()}
+     * methods. For an unmodifiable list, only the list iterator's {@code hasNext},
+     * {@code nextBoolean}, {@code hasPrevious}, {@code previousBoolean} and index methods need be
+     * implemented. A modifiable list must additionally implement the iterator's
+     * {@code setBoolean}, and a variable-size list its {@code remove} and {@code addBoolean}.
+     * <p>
+     * This is analogous to {@link java.util.AbstractSequentialList}
+     */
+    public static abstract class OfBoolean extends PrimitiveAbstractList.OfBoolean {
+        /** Constructor for subclasses */
+        protected OfBoolean() {}
+
+        /**
+         * Returns the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element and returns it with
+         * {@code nextBoolean}.
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public boolean getBoolean(int index) {
+            try {
+                return listIteratorBoolean(index).nextBoolean();
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Replaces the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element, reads it with
+         * {@code nextBoolean} and replaces it with {@code setBoolean}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public boolean setBoolean(int index, boolean e) {
+            try {
+                var it = listIteratorBoolean(index);
+                boolean oldVal = it.nextBoolean();
+                it.setBoolean(e);
+                return oldVal;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Inserts the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed position and inserts with
+         * {@code addBoolean}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public void addBoolean(int index, boolean e) { listIteratorBoolean(index).addBoolean(e); }
+
+        /**
+         * Removes the element at the specified position in this list. This implementation
+         * gets a list iterator pointing to the indexed element, reads it with
+         * {@code nextBoolean} and removes it with {@code remove}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public boolean removeElementAtIndex(int index) {
+            try {
+                var it = listIteratorBoolean(index);
+                boolean outCast = it.nextBoolean();
+                it.remove();
+                return outCast;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Inserts all of the elements of the specified collection at the specified
+         * position. This implementation gets a list iterator pointing to the indexed
+         * position and inserts the elements one at a time with {@code addBoolean}.
+         * @throws UnsupportedOperationException {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public boolean addAllBoolean(int index, PrimitiveCollection.OfBoolean c) {
+            try {
+                boolean modified = false;
+                var e1 = listIteratorBoolean(index);
+                var e2 = c.iteratorBoolean();
+                while(e2.hasNext()) {
+                    e1.addBoolean(e2.nextBoolean());
+                    modified = true;
+                }
+                return modified;
+            } catch (NoSuchElementException exc) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+        }
+
+        /**
+         * Returns an iterator over the elements in this list, which is simply
+         * {@link #listIteratorBoolean()}.
+         */
+        @Override
+        public PrimitiveIterator.OfBoolean iteratorBoolean() {
+            var it = listIteratorBoolean();
+            return new PrimitiveIterator.OfBoolean() {
+                public boolean hasNext() { return it.hasNext(); }
+
+                public boolean nextBoolean() { return it.nextBoolean(); }
+
+                public void remove() { it.remove(); }
+            };
+        }
+
+        /**
+         * Returns a list iterator over the elements in this list, in proper sequence,
+         * starting at the specified position.
+         * @param index index of first element to be returned from the list iterator
+         * @return a list iterator over the elements in this list
+         * @throws IndexOutOfBoundsException if the index is out of range
+         */
+        @Override
+        public abstract PrimitiveListIterator.OfBoolean listIteratorBoolean(int index);
+    }
+}
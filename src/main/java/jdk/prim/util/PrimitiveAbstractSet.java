@@ -1,6 +1,1518 @@
 package jdk.prim.util;
 
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+import jdk.prim.util.stream.PrimitiveStream;
+
 /**
  * A pseudo-package for holding the primitive declaration with functionalities and syntax of {@link java.util.AbstractSet AbstractSet}
  */
-public final class PrimitiveAbstractSet {}
+public final class PrimitiveAbstractSet {
+    /**
+     * Created as a base class for generic implementation of {@code double} sets.
+     * Implementations need only provide {@link #iteratorDouble()} and
+     * {@link java.util.Collection#size() size()}; modifiable ones additionally
+     * override {@link #addDouble(double)} and the iterator's {@code remove} method.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractSet}
+     */
+    public static abstract class OfDouble extends PrimitiveAbstractCollection.OfDouble implements PrimitiveSet.OfDouble {
+        /** Constructor for subclasses */
+        protected OfDouble() {}
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addDouble(double e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeDouble(double e) {
+            var it = iteratorDouble();
+            while(it.hasNext()) if(java.lang.Double.doubleToLongBits(it.nextDouble()) == java.lang.Double.doubleToLongBits(e)) {
+                it.remove();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Double e) ? removeDouble(e) : false; }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllDouble(PrimitiveCollection.OfDouble c) {
+            var it = c.iteratorDouble();
+            while(it.hasNext()) if(!containsDouble(it.nextDouble())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            if(c instanceof PrimitiveCollection.OfDouble p) return containsAllDouble(p);
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean addAllDouble(PrimitiveCollection.OfDouble c) {
+            boolean modified = false;
+            var it = c.iteratorDouble();
+            while(it.hasNext()) if(addDouble(it.nextDouble())) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Double> c) {
+            if(c instanceof PrimitiveCollection.OfDouble p) return addAllDouble(p);
+            boolean modified = false;
+            for(java.lang.Double e : c) if(addDouble(e)) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean removeAllDouble(PrimitiveCollection.OfDouble c) {
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            if(size() > c.size()) {
+                var it = c.iteratorDouble();
+                while(it.hasNext()) modified |= removeDouble(it.nextDouble());
+            } else {
+                var it = iteratorDouble();
+                while(it.hasNext()) if(c.containsDouble(it.nextDouble())) {
+                    it.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfDouble p) return removeAllDouble(p);
+            return removeIfDouble(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllDouble(PrimitiveCollection.OfDouble c) {
+            Objects.requireNonNull(c);
+            return removeIfDouble(e -> !c.containsDouble(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfDouble p) return retainAllDouble(p);
+            return removeIfDouble(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() {
+            var it = iteratorDouble();
+            while(it.hasNext()) {
+                it.nextDouble();
+                it.remove();
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public double[] toArrayDouble() {
+            double[] a = new double[size()];
+            var it = iteratorDouble();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextDouble();
+            return a;
+        }
+
+        @Override
+        public double[] toArrayDouble(double[] array) {
+            int size = size();
+            if(array.length < size) return toArrayDouble();
+            var it = iteratorDouble();
+            for(int i = 0; i < size; i++) array[i] = it.nextDouble();
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            double[] src = toArrayDouble();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Double.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Streams
+
+        @Override
+        public PrimitiveStream.OfDouble streamDouble() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamDouble'");
+        }
+
+        @Override
+        public PrimitiveStream.OfDouble parallelStreamDouble() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamDouble'");
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(!(o instanceof Set<?> s)) return false;
+            if(s.size() != size()) return false;
+            if(o instanceof PrimitiveCollection.OfDouble c) return containsAllDouble(c);
+            try {
+                return containsAll(s);
+            } catch (ClassCastException | NullPointerException unused) {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            var it = iteratorDouble();
+            while(it.hasNext()) h += java.lang.Double.hashCode(it.nextDouble());
+            return h;
+        }
+
+        @Override
+        public String toString() {
+            var it = iteratorDouble();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextDouble());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+    /**
+     * Created as a base class for generic implementation of {@code long} sets.
+     * Implementations need only provide {@link #iteratorLong()} and
+     * {@link java.util.Collection#size() size()}; modifiable ones additionally
+     * override {@link #addLong(long)} and the iterator's {@code remove} method.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractSet}
+     */
+    public static abstract class OfLong extends PrimitiveAbstractCollection.OfLong implements PrimitiveSet.OfLong {
+        /** Constructor for subclasses */
+        protected OfLong() {}
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addLong(long e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeLong(long e) {
+            var it = iteratorLong();
+            while(it.hasNext()) if(it.nextLong() == e) {
+                it.remove();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Long e) ? removeLong(e) : false; }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllLong(PrimitiveCollection.OfLong c) {
+            var it = c.iteratorLong();
+            while(it.hasNext()) if(!containsLong(it.nextLong())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            if(c instanceof PrimitiveCollection.OfLong p) return containsAllLong(p);
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean addAllLong(PrimitiveCollection.OfLong c) {
+            boolean modified = false;
+            var it = c.iteratorLong();
+            while(it.hasNext()) if(addLong(it.nextLong())) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Long> c) {
+            if(c instanceof PrimitiveCollection.OfLong p) return addAllLong(p);
+            boolean modified = false;
+            for(java.lang.Long e : c) if(addLong(e)) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean removeAllLong(PrimitiveCollection.OfLong c) {
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            if(size() > c.size()) {
+                var it = c.iteratorLong();
+                while(it.hasNext()) modified |= removeLong(it.nextLong());
+            } else {
+                var it = iteratorLong();
+                while(it.hasNext()) if(c.containsLong(it.nextLong())) {
+                    it.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfLong p) return removeAllLong(p);
+            return removeIfLong(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllLong(PrimitiveCollection.OfLong c) {
+            Objects.requireNonNull(c);
+            return removeIfLong(e -> !c.containsLong(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfLong p) return retainAllLong(p);
+            return removeIfLong(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() {
+            var it = iteratorLong();
+            while(it.hasNext()) {
+                it.nextLong();
+                it.remove();
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public long[] toArrayLong() {
+            long[] a = new long[size()];
+            var it = iteratorLong();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextLong();
+            return a;
+        }
+
+        @Override
+        public long[] toArrayLong(long[] array) {
+            int size = size();
+            if(array.length < size) return toArrayLong();
+            var it = iteratorLong();
+            for(int i = 0; i < size; i++) array[i] = it.nextLong();
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            long[] src = toArrayLong();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Long.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Streams
+
+        @Override
+        public PrimitiveStream.OfLong streamLong() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamLong'");
+        }
+
+        @Override
+        public PrimitiveStream.OfLong parallelStreamLong() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamLong'");
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(!(o instanceof Set<?> s)) return false;
+            if(s.size() != size()) return false;
+            if(o instanceof PrimitiveCollection.OfLong c) return containsAllLong(c);
+            try {
+                return containsAll(s);
+            } catch (ClassCastException | NullPointerException unused) {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            var it = iteratorLong();
+            while(it.hasNext()) h += java.lang.Long.hashCode(it.nextLong());
+            return h;
+        }
+
+        @Override
+        public String toString() {
+            var it = iteratorLong();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextLong());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+    /**
+     * Created as a base class for generic implementation of {@code int} sets.
+     * Implementations need only provide {@link #iteratorInt()} and
+     * {@link java.util.Collection#size() size()}; modifiable ones additionally
+     * override {@link #addInt(int)} and the iterator's {@code remove} method.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractSet}
+     */
+    public static abstract class OfInt extends PrimitiveAbstractCollection.OfInt implements PrimitiveSet.OfInt {
+        /** Constructor for subclasses */
+        protected OfInt() {}
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addInt(int e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeInt(int e) {
+            var it = iteratorInt();
+            while(it.hasNext()) if(it.nextInt() == e) {
+                it.remove();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Integer e) ? removeInt(e) : false; }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllInt(PrimitiveCollection.OfInt c) {
+            var it = c.iteratorInt();
+            while(it.hasNext()) if(!containsInt(it.nextInt())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            if(c instanceof PrimitiveCollection.OfInt p) return containsAllInt(p);
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean addAllInt(PrimitiveCollection.OfInt c) {
+            boolean modified = false;
+            var it = c.iteratorInt();
+            while(it.hasNext()) if(addInt(it.nextInt())) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Integer> c) {
+            if(c instanceof PrimitiveCollection.OfInt p) return addAllInt(p);
+            boolean modified = false;
+            for(java.lang.Integer e : c) if(addInt(e)) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean removeAllInt(PrimitiveCollection.OfInt c) {
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            if(size() > c.size()) {
+                var it = c.iteratorInt();
+                while(it.hasNext()) modified |= removeInt(it.nextInt());
+            } else {
+                var it = iteratorInt();
+                while(it.hasNext()) if(c.containsInt(it.nextInt())) {
+                    it.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfInt p) return removeAllInt(p);
+            return removeIfInt(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllInt(PrimitiveCollection.OfInt c) {
+            Objects.requireNonNull(c);
+            return removeIfInt(e -> !c.containsInt(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfInt p) return retainAllInt(p);
+            return removeIfInt(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() {
+            var it = iteratorInt();
+            while(it.hasNext()) {
+                it.nextInt();
+                it.remove();
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public int[] toArrayInt() {
+            int[] a = new int[size()];
+            var it = iteratorInt();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextInt();
+            return a;
+        }
+
+        @Override
+        public int[] toArrayInt(int[] array) {
+            int size = size();
+            if(array.length < size) return toArrayInt();
+            var it = iteratorInt();
+            for(int i = 0; i < size; i++) array[i] = it.nextInt();
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            int[] src = toArrayInt();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Integer.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Streams
+
+        @Override
+        public PrimitiveStream.OfInt streamInt() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamInt'");
+        }
+
+        @Override
+        public PrimitiveStream.OfInt parallelStreamInt() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamInt'");
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(!(o instanceof Set<?> s)) return false;
+            if(s.size() != size()) return false;
+            if(o instanceof PrimitiveCollection.OfInt c) return containsAllInt(c);
+            try {
+                return containsAll(s);
+            } catch (ClassCastException | NullPointerException unused) {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            var it = iteratorInt();
+            while(it.hasNext()) h += java.lang.Integer.hashCode(it.nextInt());
+            return h;
+        }
+
+        @Override
+        public String toString() {
+            var it = iteratorInt();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextInt());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+    /**
+     * Created as a base class for generic implementation of {@code float} sets.
+     * Implementations need only provide {@link #iteratorFloat()} and
+     * {@link java.util.Collection#size() size()}; modifiable ones additionally
+     * override {@link #addFloat(float)} and the iterator's {@code remove} method.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractSet}
+     */
+    public static abstract class OfFloat extends PrimitiveAbstractCollection.OfFloat implements PrimitiveSet.OfFloat {
+        /** Constructor for subclasses */
+        protected OfFloat() {}
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addFloat(float e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeFloat(float e) {
+            var it = iteratorFloat();
+            while(it.hasNext()) if(java.lang.Float.floatToIntBits(it.nextFloat()) == java.lang.Float.floatToIntBits(e)) {
+                it.remove();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Float e) ? removeFloat(e) : false; }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllFloat(PrimitiveCollection.OfFloat c) {
+            var it = c.iteratorFloat();
+            while(it.hasNext()) if(!containsFloat(it.nextFloat())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            if(c instanceof PrimitiveCollection.OfFloat p) return containsAllFloat(p);
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean addAllFloat(PrimitiveCollection.OfFloat c) {
+            boolean modified = false;
+            var it = c.iteratorFloat();
+            while(it.hasNext()) if(addFloat(it.nextFloat())) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Float> c) {
+            if(c instanceof PrimitiveCollection.OfFloat p) return addAllFloat(p);
+            boolean modified = false;
+            for(java.lang.Float e : c) if(addFloat(e)) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean removeAllFloat(PrimitiveCollection.OfFloat c) {
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            if(size() > c.size()) {
+                var it = c.iteratorFloat();
+                while(it.hasNext()) modified |= removeFloat(it.nextFloat());
+            } else {
+                var it = iteratorFloat();
+                while(it.hasNext()) if(c.containsFloat(it.nextFloat())) {
+                    it.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfFloat p) return removeAllFloat(p);
+            return removeIfFloat(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllFloat(PrimitiveCollection.OfFloat c) {
+            Objects.requireNonNull(c);
+            return removeIfFloat(e -> !c.containsFloat(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfFloat p) return retainAllFloat(p);
+            return removeIfFloat(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() {
+            var it = iteratorFloat();
+            while(it.hasNext()) {
+                it.nextFloat();
+                it.remove();
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public float[] toArrayFloat() {
+            float[] a = new float[size()];
+            var it = iteratorFloat();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextFloat();
+            return a;
+        }
+
+        @Override
+        public float[] toArrayFloat(float[] array) {
+            int size = size();
+            if(array.length < size) return toArrayFloat();
+            var it = iteratorFloat();
+            for(int i = 0; i < size; i++) array[i] = it.nextFloat();
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            float[] src = toArrayFloat();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Float.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Streams
+
+        @Override
+        public PrimitiveStream.OfFloat streamFloat() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamFloat'");
+        }
+
+        @Override
+        public PrimitiveStream.OfFloat parallelStreamFloat() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamFloat'");
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(!(o instanceof Set<?> s)) return false;
+            if(s.size() != size()) return false;
+            if(o instanceof PrimitiveCollection.OfFloat c) return containsAllFloat(c);
+            try {
+                return containsAll(s);
+            } catch (ClassCastException | NullPointerException unused) {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            var it = iteratorFloat();
+            while(it.hasNext()) h += java.lang.Float.hashCode(it.nextFloat());
+            return h;
+        }
+
+        @Override
+        public String toString() {
+            var it = iteratorFloat();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextFloat());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+    /**
+     * Created as a base class for generic implementation of {@code char} sets.
+     * Implementations need only provide {@link #iteratorChar()} and
+     * {@link java.util.Collection#size() size()}; modifiable ones additionally
+     * override {@link #addChar(char)} and the iterator's {@code remove} method.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractSet}
+     */
+    public static abstract class OfChar extends PrimitiveAbstractCollection.OfChar implements PrimitiveSet.OfChar {
+        /** Constructor for subclasses */
+        protected OfChar() {}
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addChar(char e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeChar(char e) {
+            var it = iteratorChar();
+            while(it.hasNext()) if(it.nextChar() == e) {
+                it.remove();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Character e) ? removeChar(e) : false; }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllChar(PrimitiveCollection.OfChar c) {
+            var it = c.iteratorChar();
+            while(it.hasNext()) if(!containsChar(it.nextChar())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            if(c instanceof PrimitiveCollection.OfChar p) return containsAllChar(p);
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean addAllChar(PrimitiveCollection.OfChar c) {
+            boolean modified = false;
+            var it = c.iteratorChar();
+            while(it.hasNext()) if(addChar(it.nextChar())) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Character> c) {
+            if(c instanceof PrimitiveCollection.OfChar p) return addAllChar(p);
+            boolean modified = false;
+            for(java.lang.Character e : c) if(addChar(e)) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean removeAllChar(PrimitiveCollection.OfChar c) {
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            if(size() > c.size()) {
+                var it = c.iteratorChar();
+                while(it.hasNext()) modified |= removeChar(it.nextChar());
+            } else {
+                var it = iteratorChar();
+                while(it.hasNext()) if(c.containsChar(it.nextChar())) {
+                    it.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfChar p) return removeAllChar(p);
+            return removeIfChar(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllChar(PrimitiveCollection.OfChar c) {
+            Objects.requireNonNull(c);
+            return removeIfChar(e -> !c.containsChar(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfChar p) return retainAllChar(p);
+            return removeIfChar(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() {
+            var it = iteratorChar();
+            while(it.hasNext()) {
+                it.nextChar();
+                it.remove();
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public char[] toArrayChar() {
+            char[] a = new char[size()];
+            var it = iteratorChar();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextChar();
+            return a;
+        }
+
+        @Override
+        public char[] toArrayChar(char[] array) {
+            int size = size();
+            if(array.length < size) return toArrayChar();
+            var it = iteratorChar();
+            for(int i = 0; i < size; i++) array[i] = it.nextChar();
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            char[] src = toArrayChar();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Character.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Streams
+
+        @Override
+        public PrimitiveStream.OfChar streamChar() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamChar'");
+        }
+
+        @Override
+        public PrimitiveStream.OfChar parallelStreamChar() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamChar'");
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(!(o instanceof Set<?> s)) return false;
+            if(s.size() != size()) return false;
+            if(o instanceof PrimitiveCollection.OfChar c) return containsAllChar(c);
+            try {
+                return containsAll(s);
+            } catch (ClassCastException | NullPointerException unused) {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            var it = iteratorChar();
+            while(it.hasNext()) h += java.lang.Character.hashCode(it.nextChar());
+            return h;
+        }
+
+        @Override
+        public String toString() {
+            var it = iteratorChar();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextChar());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+    /**
+     * Created as a base class for generic implementation of {@code short} sets.
+     * Implementations need only provide {@link #iteratorShort()} and
+     * {@link java.util.Collection#size() size()}; modifiable ones additionally
+     * override {@link #addShort(short)} and the iterator's {@code remove} method.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractSet}
+     */
+    public static abstract class OfShort extends PrimitiveAbstractCollection.OfShort implements PrimitiveSet.OfShort {
+        /** Constructor for subclasses */
+        protected OfShort() {}
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addShort(short e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeShort(short e) {
+            var it = iteratorShort();
+            while(it.hasNext()) if(it.nextShort() == e) {
+                it.remove();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Short e) ? removeShort(e) : false; }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllShort(PrimitiveCollection.OfShort c) {
+            var it = c.iteratorShort();
+            while(it.hasNext()) if(!containsShort(it.nextShort())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            if(c instanceof PrimitiveCollection.OfShort p) return containsAllShort(p);
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean addAllShort(PrimitiveCollection.OfShort c) {
+            boolean modified = false;
+            var it = c.iteratorShort();
+            while(it.hasNext()) if(addShort(it.nextShort())) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Short> c) {
+            if(c instanceof PrimitiveCollection.OfShort p) return addAllShort(p);
+            boolean modified = false;
+            for(java.lang.Short e : c) if(addShort(e)) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean removeAllShort(PrimitiveCollection.OfShort c) {
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            if(size() > c.size()) {
+                var it = c.iteratorShort();
+                while(it.hasNext()) modified |= removeShort(it.nextShort());
+            } else {
+                var it = iteratorShort();
+                while(it.hasNext()) if(c.containsShort(it.nextShort())) {
+                    it.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfShort p) return removeAllShort(p);
+            return removeIfShort(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllShort(PrimitiveCollection.OfShort c) {
+            Objects.requireNonNull(c);
+            return removeIfShort(e -> !c.containsShort(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfShort p) return retainAllShort(p);
+            return removeIfShort(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() {
+            var it = iteratorShort();
+            while(it.hasNext()) {
+                it.nextShort();
+                it.remove();
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public short[] toArrayShort() {
+            short[] a = new short[size()];
+            var it = iteratorShort();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextShort();
+            return a;
+        }
+
+        @Override
+        public short[] toArrayShort(short[] array) {
+            int size = size();
+            if(array.length < size) return toArrayShort();
+            var it = iteratorShort();
+            for(int i = 0; i < size; i++) array[i] = it.nextShort();
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            short[] src = toArrayShort();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Short.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Streams
+
+        @Override
+        public PrimitiveStream.OfShort streamShort() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamShort'");
+        }
+
+        @Override
+        public PrimitiveStream.OfShort parallelStreamShort() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamShort'");
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(!(o instanceof Set<?> s)) return false;
+            if(s.size() != size()) return false;
+            if(o instanceof PrimitiveCollection.OfShort c) return containsAllShort(c);
+            try {
+                return containsAll(s);
+            } catch (ClassCastException | NullPointerException unused) {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            var it = iteratorShort();
+            while(it.hasNext()) h += java.lang.Short.hashCode(it.nextShort());
+            return h;
+        }
+
+        @Override
+        public String toString() {
+            var it = iteratorShort();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextShort());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+    /**
+     * Created as a base class for generic implementation of {@code byte} sets.
+     * Implementations need only provide {@link #iteratorByte()} and
+     * {@link java.util.Collection#size() size()}; modifiable ones additionally
+     * override {@link #addByte(byte)} and the iterator's {@code remove} method.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractSet}
+     */
+    public static abstract class OfByte extends PrimitiveAbstractCollection.OfByte implements PrimitiveSet.OfByte {
+        /** Constructor for subclasses */
+        protected OfByte() {}
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addByte(byte e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeByte(byte e) {
+            var it = iteratorByte();
+            while(it.hasNext()) if(it.nextByte() == e) {
+                it.remove();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Byte e) ? removeByte(e) : false; }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllByte(PrimitiveCollection.OfByte c) {
+            var it = c.iteratorByte();
+            while(it.hasNext()) if(!containsByte(it.nextByte())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            if(c instanceof PrimitiveCollection.OfByte p) return containsAllByte(p);
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean addAllByte(PrimitiveCollection.OfByte c) {
+            boolean modified = false;
+            var it = c.iteratorByte();
+            while(it.hasNext()) if(addByte(it.nextByte())) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Byte> c) {
+            if(c instanceof PrimitiveCollection.OfByte p) return addAllByte(p);
+            boolean modified = false;
+            for(java.lang.Byte e : c) if(addByte(e)) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean removeAllByte(PrimitiveCollection.OfByte c) {
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            if(size() > c.size()) {
+                var it = c.iteratorByte();
+                while(it.hasNext()) modified |= removeByte(it.nextByte());
+            } else {
+                var it = iteratorByte();
+                while(it.hasNext()) if(c.containsByte(it.nextByte())) {
+                    it.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfByte p) return removeAllByte(p);
+            return removeIfByte(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllByte(PrimitiveCollection.OfByte c) {
+            Objects.requireNonNull(c);
+            return removeIfByte(e -> !c.containsByte(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfByte p) return retainAllByte(p);
+            return removeIfByte(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() {
+            var it = iteratorByte();
+            while(it.hasNext()) {
+                it.nextByte();
+                it.remove();
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public byte[] toArrayByte() {
+            byte[] a = new byte[size()];
+            var it = iteratorByte();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextByte();
+            return a;
+        }
+
+        @Override
+        public byte[] toArrayByte(byte[] array) {
+            int size = size();
+            if(array.length < size) return toArrayByte();
+            var it = iteratorByte();
+            for(int i = 0; i < size; i++) array[i] = it.nextByte();
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            byte[] src = toArrayByte();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Byte.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Streams
+
+        @Override
+        public PrimitiveStream.OfByte streamByte() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamByte'");
+        }
+
+        @Override
+        public PrimitiveStream.OfByte parallelStreamByte() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamByte'");
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(!(o instanceof Set<?> s)) return false;
+            if(s.size() != size()) return false;
+            if(o instanceof PrimitiveCollection.OfByte c) return containsAllByte(c);
+            try {
+                return containsAll(s);
+            } catch (ClassCastException | NullPointerException unused) {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            var it = iteratorByte();
+            while(it.hasNext()) h += java.lang.Byte.hashCode(it.nextByte());
+            return h;
+        }
+
+        @Override
+        public String toString() {
+            var it = iteratorByte();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextByte());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+    /**
+     * Created as a base class for generic implementation of {@code boolean} sets.
+     * Implementations need only provide {@link #iteratorBoolean()} and
+     * {@link java.util.Collection#size() size()}; modifiable ones additionally
+     * override {@link #addBoolean(boolean)} and the iterator's {@code remove} method.
+     *
+     * <p>
+     * This is analogous to {@link java.util.AbstractSet}
+     */
+    public static abstract class OfBoolean extends PrimitiveAbstractCollection.OfBoolean implements PrimitiveSet.OfBoolean {
+        /** Constructor for subclasses */
+        protected OfBoolean() {}
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addBoolean(boolean e) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public boolean removeBoolean(boolean e) {
+            var it = iteratorBoolean();
+            while(it.hasNext()) if(it.nextBoolean() == e) {
+                it.remove();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Boolean e) ? removeBoolean(e) : false; }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllBoolean(PrimitiveCollection.OfBoolean c) {
+            var it = c.iteratorBoolean();
+            while(it.hasNext()) if(!containsBoolean(it.nextBoolean())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            if(c instanceof PrimitiveCollection.OfBoolean p) return containsAllBoolean(p);
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        @Override
+        public boolean addAllBoolean(PrimitiveCollection.OfBoolean c) {
+            boolean modified = false;
+            var it = c.iteratorBoolean();
+            while(it.hasNext()) if(addBoolean(it.nextBoolean())) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Boolean> c) {
+            if(c instanceof PrimitiveCollection.OfBoolean p) return addAllBoolean(p);
+            boolean modified = false;
+            for(java.lang.Boolean e : c) if(addBoolean(e)) modified = true;
+            return modified;
+        }
+
+        @Override
+        public boolean removeAllBoolean(PrimitiveCollection.OfBoolean c) {
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            if(size() > c.size()) {
+                var it = c.iteratorBoolean();
+                while(it.hasNext()) modified |= removeBoolean(it.nextBoolean());
+            } else {
+                var it = iteratorBoolean();
+                while(it.hasNext()) if(c.containsBoolean(it.nextBoolean())) {
+                    it.remove();
+                    modified = true;
+                }
+            }
+            return modified;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfBoolean p) return removeAllBoolean(p);
+            return removeIfBoolean(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllBoolean(PrimitiveCollection.OfBoolean c) {
+            Objects.requireNonNull(c);
+            return removeIfBoolean(e -> !c.containsBoolean(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveCollection.OfBoolean p) return retainAllBoolean(p);
+            return removeIfBoolean(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() {
+            var it = iteratorBoolean();
+            while(it.hasNext()) {
+                it.nextBoolean();
+                it.remove();
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public boolean[] toArrayBoolean() {
+            boolean[] a = new boolean[size()];
+            var it = iteratorBoolean();
+            for(int i = 0; i < a.length; i++) a[i] = it.nextBoolean();
+            return a;
+        }
+
+        @Override
+        public boolean[] toArrayBoolean(boolean[] array) {
+            int size = size();
+            if(array.length < size) return toArrayBoolean();
+            var it = iteratorBoolean();
+            for(int i = 0; i < size; i++) array[i] = it.nextBoolean();
+            return array;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            boolean[] src = toArrayBoolean();
+            T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+            for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Boolean.valueOf(src[i]);
+            if(r.length > src.length) r[src.length] = null;
+            return r;
+        }
+
+        ///////////// Streams
+
+        @Override
+        public PrimitiveStream.OfBoolean streamBoolean() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamBoolean'");
+        }
+
+        @Override
+        public PrimitiveStream.OfBoolean parallelStreamBoolean() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamBoolean'");
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(!(o instanceof Set<?> s)) return false;
+            if(s.size() != size()) return false;
+            if(o instanceof PrimitiveCollection.OfBoolean c) return containsAllBoolean(c);
+            try {
+                return containsAll(s);
+            } catch (ClassCastException | NullPointerException unused) {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            var it = iteratorBoolean();
+            while(it.hasNext()) h += java.lang.Boolean.hashCode(it.nextBoolean());
+            return h;
+        }
+
+        @Override
+        public String toString() {
+            var it = iteratorBoolean();
+            if(!it.hasNext()) return "[]";
+            StringBuilder sb = new StringBuilder();
+            sb.append('[');
+            for (;;) {
+                sb.append(it.nextBoolean());
+                if(!it.hasNext()) return sb.append(']').toString();
+                sb.append(',').append(' ');
+            }
+        }
+    }
+}
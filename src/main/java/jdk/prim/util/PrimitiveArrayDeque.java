@@ -0,0 +1,6816 @@
+package jdk.prim.util;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
+import jdk.prim.util.function.PrimitiveConsumer;
+import jdk.prim.util.function.PrimitivePredicate;
+import jdk.prim.util.stream.PrimitiveStream;
+
+/**
+ * A pseudo-package for holding the primitive declaration with functionalities and syntax of {@link java.util.ArrayDeque ArrayDeque}
+ */
+public final class PrimitiveArrayDeque {
+    /**
+     * Initial capacity of a deque created without a size hint.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The smallest backing array allocated.
+     */
+    private static final int MIN_CAPACITY = 8;
+
+    /**
+     * The largest power-of-two array length.
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private PrimitiveArrayDeque() {}
+
+    /**
+     * Returns the smallest power of two, no less than {@link #MIN_CAPACITY}, that is
+     * at least {@code n}.
+     * @param n the number of elements to hold
+     * @return the array length
+     * @throws OutOfMemoryError if {@code n} exceeds {@link #MAX_CAPACITY}
+     */
+    static int capacityFor(int n) {
+        if(n > MAX_CAPACITY) throw new OutOfMemoryError("Required deque capacity " + n + " is too large");
+        if(n <= MIN_CAPACITY) return MIN_CAPACITY;
+        return java.lang.Integer.highestOneBit(n - 1) << 1;
+    }
+
+    /**
+     * Resizable circular-array implementation of the {@link PrimitiveDeque.OfDouble} interface.
+     * Elements are stored unboxed in a {@code double[]} whose length is always a power of
+     * two, so the physical slot of a logical index is found with a single mask instead
+     * of a division or a branch. The array doubles whenever an insertion would overflow it.
+     * Most operations run in amortized constant time; bulk insertion and removal at the
+     * ends, {@link #offerLastAll(double[], int, int)} and {@link #pollFirstAll(double[])}, move
+     * at most two contiguous runs with {@link System#arraycopy}.
+     * <p>
+     * The empty-deque results of the unboxed {@code peek} and {@code poll} methods are
+     * {@code 0.0}; the boxed ones return {@code null} as {@link java.util.Deque} requires.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.ArrayDeque}
+     */
+    public static class OfDouble extends PrimitiveAbstractCollection.OfDouble implements PrimitiveDeque.OfDouble, Cloneable {
+        /**
+         * The array in which the elements of the deque are stored. Its length is a
+         * power of two and the deque occupies {@link #size} slots starting at {@link #head},
+         * wrapping around the end of the array.
+         */
+        transient double[] elements;
+
+        /**
+         * The physical index of the element at the head of the deque.
+         */
+        transient int head;
+
+        /**
+         * The number of elements in the deque.
+         */
+        private int size;
+
+        /**
+         * The number of times this deque has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         */
+        transient int modCount;
+
+        private transient PrimitiveDeque.OfDouble reversedView;
+
+        /**
+         * Constructs an empty deque with room for at least the specified number of elements.
+         * @param numElements lower bound on the initial capacity of the deque
+         * @throws IllegalArgumentException if the specified number of elements is negative
+         */
+        public OfDouble(int numElements) {
+            if(numElements < 0) throw new IllegalArgumentException("Illegal Capacity: " + numElements);
+            elements = new double[capacityFor(numElements)];
+        }
+
+        /**
+         * Constructs an empty deque with an initial capacity of sixteen.
+         */
+        public OfDouble() { elements = new double[DEFAULT_CAPACITY]; }
+
+        /**
+         * Constructs a deque containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this deque
+         */
+        public OfDouble(PrimitiveCollection.OfDouble c) {
+            double[] a = c.toArrayDouble();
+            elements = new double[capacityFor(a.length)];
+            System.arraycopy(a, 0, elements, 0, a.length);
+            size = a.length;
+        }
+
+        /**
+         * Increases the capacity of this deque, if necessary, so that it can hold at
+         * least the number of elements specified by the argument without growing.
+         * @param minCapacity the desired minimum capacity
+         */
+        public void ensureCapacity(int minCapacity) {
+            if(minCapacity > elements.length) resize(capacityFor(minCapacity));
+        }
+
+        /**
+         * Shrinks the backing array to the smallest power of two able to hold the
+         * current elements.
+         */
+        public void trimToSize() {
+            int cap = capacityFor(size);
+            if(cap < elements.length) resize(cap);
+        }
+
+        /**
+         * Makes room for {@code needed} more elements.
+         */
+        private void grow(int needed) {
+            int minCapacity = size + needed;
+            if(minCapacity < 0 || minCapacity > MAX_CAPACITY) throw new OutOfMemoryError("Required deque capacity " + size + " + " + needed + " is too large");
+            resize(capacityFor(java.lang.Math.max(minCapacity, elements.length << 1)));
+        }
+
+        /**
+         * Copies the elements into a new array of length {@code newCapacity}, unwrapping
+         * them so the head lands at index 0.
+         */
+        private void resize(int newCapacity) {
+            double[] a = new double[newCapacity];
+            copyOut(a, 0, size);
+            elements = a;
+            head = 0;
+        }
+
+        /**
+         * Copies the first {@code n} elements of the deque to {@code dst} starting at
+         * {@code off}, in at most two {@link System#arraycopy} calls.
+         */
+        private void copyOut(double[] dst, int off, int n) {
+            final double[] es = elements;
+            int first = java.lang.Math.min(n, es.length - head);
+            System.arraycopy(es, head, dst, off, first);
+            System.arraycopy(es, 0, dst, off + first, n - first);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsDouble(double e) { return indexOf(e) >= 0; }
+
+        @Override
+        public boolean containsAllDouble(PrimitiveCollection.OfDouble c) {
+            var it = c.iteratorDouble();
+            while(it.hasNext()) if(!containsDouble(it.nextDouble())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        /**
+         * Returns the logical index of the first occurrence of {@code e}, or -1.
+         */
+        private int indexOf(double e) {
+            final double[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < size; i++) if((es[(h + i) & mask] == e || java.lang.Double.isNaN(es[(h + i) & mask]) && java.lang.Double.isNaN(e))) return i;
+            return -1;
+        }
+
+        /**
+         * Returns the logical index of the last occurrence of {@code e}, or -1.
+         */
+        private int lastIndexOf(double e) {
+            final double[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = size; i-- != 0;) if((es[(h + i) & mask] == e || java.lang.Double.isNaN(es[(h + i) & mask]) && java.lang.Double.isNaN(e))) return i;
+            return -1;
+        }
+
+        ///////////// Insertion
+
+        @Override
+        public void addFirstDouble(double e) {
+            if(size == elements.length) grow(1);
+            final double[] es = elements;
+            es[head = (head - 1) & (es.length - 1)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public void addLastDouble(double e) {
+            if(size == elements.length) grow(1);
+            final double[] es = elements;
+            es[(head + size) & (es.length - 1)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public boolean offerFirstDouble(double e) {
+            addFirstDouble(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerLastDouble(double e) {
+            addLastDouble(e);
+            return true;
+        }
+
+        @Override
+        public boolean addDouble(double e) {
+            addLastDouble(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerDouble(double e) {
+            addLastDouble(e);
+            return true;
+        }
+
+        /**
+         * Pushes an element onto the stack represented by this deque, that is, inserts
+         * it at the front of this deque.
+         * @param e the element to push
+         * @see java.util.Deque#push(Object)
+         */
+        public void pushDouble(double e) { addFirstDouble(e); }
+
+        @Override
+        public void push(java.lang.Double e) { addFirstDouble(e); }
+
+        /**
+         * Inserts {@code len} elements of the specified array, starting at {@code off},
+         * at the end of this deque in array order. The elements are moved with at most
+         * two {@link System#arraycopy} calls.
+         * @param a the array holding the elements to insert
+         * @param off the index of the first element to insert
+         * @param len the number of elements to insert
+         * @return {@code true}
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean offerLastAll(double[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            if(len == 0) return true;
+            if(len > elements.length - size) grow(len);
+            final double[] es = elements;
+            int tail = (head + size) & (es.length - 1);
+            int first = java.lang.Math.min(len, es.length - tail);
+            System.arraycopy(a, off, es, tail, first);
+            System.arraycopy(a, off + first, es, 0, len - first);
+            size += len;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean addAllDouble(PrimitiveCollection.OfDouble c) {
+            double[] a = c.toArrayDouble();
+            if(a.length == 0) return false;
+            return offerLastAll(a, 0, a.length);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Double> c) {
+            if(c instanceof PrimitiveCollection.OfDouble p) return addAllDouble(p);
+            int n = c.size();
+            if(n == 0) return false;
+            if(n > elements.length - size) grow(n);
+            for(java.lang.Double e : c) addLastDouble(e);
+            return true;
+        }
+
+        ///////////// Removal
+
+        @Override
+        public double removeFirstDouble() {
+            if(size == 0) throw new NoSuchElementException();
+            return pollFirstDouble();
+        }
+
+        @Override
+        public double removeLastDouble() {
+            if(size == 0) throw new NoSuchElementException();
+            return pollLastDouble();
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0.0} if this deque is empty
+         */
+        @Override
+        public double pollFirstDouble() {
+            if(size == 0) return 0.0;
+            final double[] es = elements;
+            double e = es[head];
+            head = (head + 1) & (es.length - 1);
+            size--;
+            modCount++;
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the tail of this deque, or {@code 0.0} if this deque is empty
+         */
+        @Override
+        public double pollLastDouble() {
+            if(size == 0) return 0.0;
+            final double[] es = elements;
+            double e = es[(head + --size) & (es.length - 1)];
+            modCount++;
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0.0} if this deque is empty
+         */
+        @Override
+        public double pollDouble() { return pollFirstDouble(); }
+
+        @Override
+        public java.lang.Double pollFirst() { return size == 0 ? null : pollFirstDouble(); }
+
+        @Override
+        public java.lang.Double pollLast() { return size == 0 ? null : pollLastDouble(); }
+
+        @Override
+        public java.lang.Double poll() { return size == 0 ? null : pollFirstDouble(); }
+
+        /**
+         * Pops an element from the stack represented by this deque, that is, removes
+         * and returns the first element of this deque.
+         * @return the element at the front of this deque
+         * @throws NoSuchElementException if this deque is empty
+         * @see java.util.Deque#pop()
+         */
+        public double popDouble() { return removeFirstDouble(); }
+
+        @Override
+        public java.lang.Double pop() { return removeFirstDouble(); }
+
+        @Override
+        public java.lang.Double remove() { return removeFirstDouble(); }
+
+        /**
+         * Removes up to {@code dst.length} elements from the head of this deque into
+         * {@code dst}, in deque order. The elements are moved with at most two
+         * {@link System#arraycopy} calls.
+         * @param dst the array into which the elements are to be stored
+         * @return the number of elements removed, which is
+         *         {@code min(size(), dst.length)}
+         */
+        public int pollFirstAll(double[] dst) {
+            int n = java.lang.Math.min(size, dst.length);
+            if(n == 0) return 0;
+            copyOut(dst, 0, n);
+            head = (head + n) & (elements.length - 1);
+            size -= n;
+            modCount++;
+            return n;
+        }
+
+        @Override
+        public boolean removeFirstOccurrenceDouble(double e) {
+            int i = indexOf(e);
+            if(i < 0) return false;
+            delete(i);
+            return true;
+        }
+
+        @Override
+        public boolean removeLastOccurrenceDouble(double e) {
+            int i = lastIndexOf(e);
+            if(i < 0) return false;
+            delete(i);
+            return true;
+        }
+
+        @Override
+        public boolean removeDouble(double e) { return removeFirstOccurrenceDouble(e); }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Double e) ? removeFirstOccurrenceDouble(e) : false; }
+
+        /**
+         * Removes the element at logical index {@code i}, closing the gap by moving
+         * whichever side of it is shorter. Elements after {@code i} end up one
+         * logical index lower either way.
+         */
+        void delete(int i) {
+            final double[] es = elements;
+            final int mask = es.length - 1, h = head;
+            if(i < size - i - 1) {
+                for(int j = i; j > 0; j--) es[(h + j) & mask] = es[(h + j - 1) & mask];
+                head = (h + 1) & mask;
+            } else {
+                for(int j = i, last = size - 1; j < last; j++) es[(h + j) & mask] = es[(h + j + 1) & mask];
+            }
+            size--;
+            modCount++;
+        }
+
+        @Override
+        public boolean removeIfDouble(PrimitivePredicate.OfDouble filter) {
+            Objects.requireNonNull(filter);
+            final int expectedModCount = modCount;
+            final double[] es = elements;
+            final int mask = es.length - 1, h = head, n = size;
+            // test every element before moving any, so a throwing predicate leaves the deque as it was
+            final long[] deathRow = PrimitiveArrayList.nBits(Math.max(n, 1));
+            boolean removed = false;
+            for(int r = 0; r < n; r++) {
+                if(filter.testDouble(es[(h + r) & mask])) {
+                    PrimitiveArrayList.setBit(deathRow, r);
+                    removed = true;
+                }
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(!removed) return false;
+            int w = 0;
+            for(int r = 0; r < n; r++) if(PrimitiveArrayList.isClear(deathRow, r)) es[(h + w++) & mask] = es[(h + r) & mask];
+            size = w;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeAllDouble(PrimitiveCollection.OfDouble c) {
+            Objects.requireNonNull(c);
+            return removeIfDouble(c::containsDouble);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfDouble(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllDouble(PrimitiveCollection.OfDouble c) {
+            Objects.requireNonNull(c);
+            return removeIfDouble(e -> !c.containsDouble(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfDouble(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            head = 0;
+            size = 0;
+        }
+
+        ///////////// Examination
+
+        @Override
+        public double getFirstDouble() {
+            if(size == 0) throw new NoSuchElementException();
+            return elements[head];
+        }
+
+        @Override
+        public double getLastDouble() {
+            if(size == 0) throw new NoSuchElementException();
+            final double[] es = elements;
+            return es[(head + size - 1) & (es.length - 1)];
+        }
+
+        @Override
+        public double elementDouble() { return getFirstDouble(); }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0.0} if this deque is empty
+         */
+        @Override
+        public double peekFirstDouble() { return size == 0 ? 0.0 : elements[head]; }
+
+        /**
+         * {@inheritDoc}
+         * @return the tail of this deque, or {@code 0.0} if this deque is empty
+         */
+        @Override
+        public double peekLastDouble() { return size == 0 ? 0.0 : getLastDouble(); }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0.0} if this deque is empty
+         */
+        @Override
+        public double peekDouble() { return peekFirstDouble(); }
+
+        @Override
+        public java.lang.Double peekFirst() { return size == 0 ? null : elements[head]; }
+
+        @Override
+        public java.lang.Double peekLast() { return size == 0 ? null : getLastDouble(); }
+
+        @Override
+        public java.lang.Double peek() { return peekFirst(); }
+
+        ///////////// Array operations
+
+        @Override
+        public double[] toArrayDouble() {
+            double[] a = new double[size];
+            copyOut(a, 0, size);
+            return a;
+        }
+
+        @Override
+        public double[] toArrayDouble(double[] array) {
+            if(array.length < size) return toArrayDouble();
+            copyOut(array, 0, size);
+            return array;
+        }
+
+        @Override
+        public java.lang.Double[] toArray() {
+            java.lang.Double[] r = new java.lang.Double[size];
+            final double[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < r.length; i++) r[i] = es[(h + i) & mask];
+            return r;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            final int n = size;
+            T[] r = a.length >= n ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), n);
+            final double[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < n; i++) r[i] = (T) java.lang.Double.valueOf(es[(h + i) & mask]);
+            if(r.length > n) r[n] = null;
+            return r;
+        }
+
+        ///////////// Traversal
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfDouble action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final double[] es = elements;
+            final int h = head, n = size, first = java.lang.Math.min(n, es.length - h);
+            for(int i = h, end = h + first; i < end; i++) action.acceptDouble(es[i]);
+            for(int i = 0, end = n - first; i < end; i++) action.acceptDouble(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public PrimitiveIterator.OfDouble iteratorDouble() { return new Itr(); }
+
+        @Override
+        public PrimitiveIterator.OfDouble descendingIteratorDouble() { return new DescendingItr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this deque. The spliterator splits by logical index range and reports
+         * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+         * @return a spliterator over the elements in this deque
+         */
+        @Override
+        public PrimitiveSpliterator.OfDouble spliteratorDouble() { return new Spliter(0, -1, 0, false); }
+
+        @Override
+        public PrimitiveStream.OfDouble streamDouble() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamDouble'");
+        }
+
+        @Override
+        public PrimitiveStream.OfDouble parallelStreamDouble() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamDouble'");
+        }
+
+        private class Itr implements PrimitiveIterator.OfDouble {
+            int cursor;       // logical index of next element to return
+            int lastRet = -1; // logical index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor < size; }
+
+            public double nextDouble() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                final double[] es = elements;
+                return es[(head + (lastRet = i)) & (es.length - 1)];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                delete(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        private class DescendingItr implements PrimitiveIterator.OfDouble {
+            int cursor = size - 1; // logical index of next element to return
+            int lastRet = -1;      // logical index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor >= 0; }
+
+            public double nextDouble() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int i = cursor;
+                if(i < 0) throw new NoSuchElementException();
+                cursor = i - 1;
+                final double[] es = elements;
+                return es[(head + (lastRet = i)) & (es.length - 1)];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                delete(lastRet);
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        /**
+         * Splits by logical index range. A descending spliterator walks the same range
+         * from the top down and hands the upper half off on a split.
+         */
+        private final class Spliter implements PrimitiveSpliterator.OfDouble {
+            private int index;            // next logical index for ascending, one past it for descending
+            private int fence;            // -1 until used; then the other end of the range
+            private int expectedModCount; // initialized when fence set
+            private final boolean descending;
+
+            Spliter(int origin, int fence, int expectedModCount, boolean descending) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+                this.descending = descending;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    if(descending) {
+                        index = size;
+                        hi = fence = 0;
+                    } else hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int f = getFence();
+                if(descending) {
+                    int hi = index, mid = (f + hi) >>> 1;
+                    return (mid <= f) ? null : new Spliter(hi, index = mid, expectedModCount, true);
+                }
+                int lo = index, mid = (lo + f) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount, false);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfDouble action) {
+                if(action == null) throw new NullPointerException();
+                int f = getFence(), i = index;
+                final double[] es = elements;
+                if(descending ? i <= f : i >= f) return false;
+                double e = es[(head + (descending ? (index = i - 1) : i)) & (es.length - 1)];
+                if(!descending) index = i + 1;
+                action.acceptDouble(e);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfDouble action) {
+                if(action == null) throw new NullPointerException();
+                int f = getFence(), i = index;
+                final double[] es = elements;
+                final int mask = es.length - 1, h = head;
+                index = f;
+                if(descending) while(i > f) action.acceptDouble(es[(h + --i) & mask]);
+                else while(i < f) action.acceptDouble(es[(h + i++) & mask]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() {
+                int f = getFence();
+                return descending ? index - f : f - index;
+            }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        ///////////// Reverse-ordered view
+
+        /**
+         * Returns a reverse-ordered view of this deque. The view reads and writes the
+         * backing array directly, so its operations cost the same as those of this deque.
+         * @return a reverse-ordered view of this deque
+         */
+        @Override
+        public PrimitiveDeque.OfDouble reversedDouble() {
+            PrimitiveDeque.OfDouble r;
+            return (r = reversedView) == null ? (reversedView = new Reversed()) : r;
+        }
+
+        private final class Reversed extends PrimitiveAbstractCollection.OfDouble implements PrimitiveDeque.OfDouble {
+            private final PrimitiveArrayDeque.OfDouble d = PrimitiveArrayDeque.OfDouble.this;
+
+            public int size() { return size; }
+            public boolean isEmpty() { return size == 0; }
+            public boolean containsDouble(double e) { return d.containsDouble(e); }
+            public boolean containsAllDouble(PrimitiveCollection.OfDouble c) { return d.containsAllDouble(c); }
+            public boolean containsAll(Collection<?> c) { return d.containsAll(c); }
+
+            public void addFirstDouble(double e) { d.addLastDouble(e); }
+            public void addLastDouble(double e) { d.addFirstDouble(e); }
+            public boolean offerFirstDouble(double e) { d.addLastDouble(e); return true; }
+            public boolean offerLastDouble(double e) { d.addFirstDouble(e); return true; }
+            public boolean addDouble(double e) { d.addFirstDouble(e); return true; }
+            public boolean offerDouble(double e) { d.addFirstDouble(e); return true; }
+            public void push(java.lang.Double e) { d.addLastDouble(e); }
+            public boolean addAllDouble(PrimitiveCollection.OfDouble c) {
+                var it = c.iteratorDouble();
+                boolean modified = false;
+                while(it.hasNext()) {
+                    d.addFirstDouble(it.nextDouble());
+                    modified = true;
+                }
+                return modified;
+            }
+            public boolean addAll(Collection<? extends java.lang.Double> c) {
+                boolean modified = false;
+                for(java.lang.Double e : c) {
+                    d.addFirstDouble(e);
+                    modified = true;
+                }
+                return modified;
+            }
+
+            public double removeFirstDouble() { return d.removeLastDouble(); }
+            public double removeLastDouble() { return d.removeFirstDouble(); }
+            public double pollFirstDouble() { return d.pollLastDouble(); }
+            public double pollLastDouble() { return d.pollFirstDouble(); }
+            public double pollDouble() { return d.pollLastDouble(); }
+            public java.lang.Double pollFirst() { return d.pollLast(); }
+            public java.lang.Double pollLast() { return d.pollFirst(); }
+            public java.lang.Double poll() { return d.pollLast(); }
+            public java.lang.Double pop() { return d.removeLastDouble(); }
+            public java.lang.Double remove() { return d.removeLastDouble(); }
+            public boolean removeFirstOccurrenceDouble(double e) { return d.removeLastOccurrenceDouble(e); }
+            public boolean removeLastOccurrenceDouble(double e) { return d.removeFirstOccurrenceDouble(e); }
+            public boolean removeDouble(double e) { return d.removeLastOccurrenceDouble(e); }
+            public boolean remove(Object o) { return (o instanceof java.lang.Double e) ? d.removeLastOccurrenceDouble(e) : false; }
+            public boolean removeIfDouble(PrimitivePredicate.OfDouble filter) { return d.removeIfDouble(filter); }
+            public boolean removeAllDouble(PrimitiveCollection.OfDouble c) { return d.removeAllDouble(c); }
+            public boolean removeAll(Collection<?> c) { return d.removeAll(c); }
+            public boolean retainAllDouble(PrimitiveCollection.OfDouble c) { return d.retainAllDouble(c); }
+            public boolean retainAll(Collection<?> c) { return d.retainAll(c); }
+            public void clear() { d.clear(); }
+
+            public double getFirstDouble() { return d.getLastDouble(); }
+            public double getLastDouble() { return d.getFirstDouble(); }
+            public double elementDouble() { return d.getLastDouble(); }
+            public double peekFirstDouble() { return d.peekLastDouble(); }
+            public double peekLastDouble() { return d.peekFirstDouble(); }
+            public double peekDouble() { return d.peekLastDouble(); }
+            public java.lang.Double peekFirst() { return d.peekLast(); }
+            public java.lang.Double peekLast() { return d.peekFirst(); }
+            public java.lang.Double peek() { return d.peekLast(); }
+
+            public double[] toArrayDouble() { return toArrayDouble(new double[size]); }
+            public double[] toArrayDouble(double[] array) {
+                final int n = size;
+                if(array.length < n) array = new double[n];
+                final double[] es = elements;
+                final int mask = es.length - 1, h = head;
+                for(int i = 0; i < n; i++) array[i] = es[(h + n - 1 - i) & mask];
+                return array;
+            }
+            public java.lang.Double[] toArray() {
+                double[] a = toArrayDouble();
+                java.lang.Double[] r = new java.lang.Double[a.length];
+                for(int i = 0; i < a.length; i++) r[i] = a[i];
+                return r;
+            }
+            @SuppressWarnings("unchecked")
+            public <T> T[] toArray(T[] a) {
+                double[] src = toArrayDouble();
+                T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+                for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Double.valueOf(src[i]);
+                if(r.length > src.length) r[src.length] = null;
+                return r;
+            }
+
+            public void forEach(PrimitiveConsumer.OfDouble action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final double[] es = elements;
+                final int mask = es.length - 1, h = head;
+                for(int i = size; i-- != 0;) action.acceptDouble(es[(h + i) & mask]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+            public PrimitiveIterator.OfDouble iteratorDouble() { return d.descendingIteratorDouble(); }
+            public PrimitiveIterator.OfDouble descendingIteratorDouble() { return d.iteratorDouble(); }
+            public PrimitiveSpliterator.OfDouble spliteratorDouble() { return new Spliter(0, -1, 0, true); }
+            public PrimitiveStream.OfDouble streamDouble() {
+                // TODO Will be implemented when primitive streams and splitterator are implemented
+                throw new UnsupportedOperationException("Unimplemented method 'streamDouble'");
+            }
+            public PrimitiveStream.OfDouble parallelStreamDouble() {
+                // TODO Will be implemented when primitive streams and splitterator are implemented
+                throw new UnsupportedOperationException("Unimplemented method 'parallelStreamDouble'");
+            }
+
+            public PrimitiveDeque.OfDouble reversedDouble() { return d; }
+
+            @Override
+            public String toString() { return Arrays.toString(toArrayDouble()); }
+        }
+
+        ///////////// Object methods
+
+        /**
+         * Returns a copy of this deque.
+         * @return a copy of this deque
+         */
+        @Override
+        public PrimitiveArrayDeque.OfDouble clone() {
+            try {
+                var c = (PrimitiveArrayDeque.OfDouble) super.clone();
+                c.elements = elements.clone();
+                c.reversedView = null;
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public String toString() { return Arrays.toString(toArrayDouble()); }
+    }
+
+    /**
+     * Resizable circular-array implementation of the {@link PrimitiveDeque.OfLong} interface.
+     * Elements are stored unboxed in a {@code long[]} whose length is always a power of
+     * two, so the physical slot of a logical index is found with a single mask instead
+     * of a division or a branch. The array doubles whenever an insertion would overflow it.
+     * Most operations run in amortized constant time; bulk insertion and removal at the
+     * ends, {@link #offerLastAll(long[], int, int)} and {@link #pollFirstAll(long[])}, move
+     * at most two contiguous runs with {@link System#arraycopy}.
+     * <p>
+     * The empty-deque results of the unboxed {@code peek} and {@code poll} methods are
+     * {@code 0L}; the boxed ones return {@code null} as {@link java.util.Deque} requires.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.ArrayDeque}
+     */
+    public static class OfLong extends PrimitiveAbstractCollection.OfLong implements PrimitiveDeque.OfLong, Cloneable {
+        /**
+         * The array in which the elements of the deque are stored. Its length is a
+         * power of two and the deque occupies {@link #size} slots starting at {@link #head},
+         * wrapping around the end of the array.
+         */
+        transient long[] elements;
+
+        /**
+         * The physical index of the element at the head of the deque.
+         */
+        transient int head;
+
+        /**
+         * The number of elements in the deque.
+         */
+        private int size;
+
+        /**
+         * The number of times this deque has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         */
+        transient int modCount;
+
+        private transient PrimitiveDeque.OfLong reversedView;
+
+        /**
+         * Constructs an empty deque with room for at least the specified number of elements.
+         * @param numElements lower bound on the initial capacity of the deque
+         * @throws IllegalArgumentException if the specified number of elements is negative
+         */
+        public OfLong(int numElements) {
+            if(numElements < 0) throw new IllegalArgumentException("Illegal Capacity: " + numElements);
+            elements = new long[capacityFor(numElements)];
+        }
+
+        /**
+         * Constructs an empty deque with an initial capacity of sixteen.
+         */
+        public OfLong() { elements = new long[DEFAULT_CAPACITY]; }
+
+        /**
+         * Constructs a deque containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this deque
+         */
+        public OfLong(PrimitiveCollection.OfLong c) {
+            long[] a = c.toArrayLong();
+            elements = new long[capacityFor(a.length)];
+            System.arraycopy(a, 0, elements, 0, a.length);
+            size = a.length;
+        }
+
+        /**
+         * Increases the capacity of this deque, if necessary, so that it can hold at
+         * least the number of elements specified by the argument without growing.
+         * @param minCapacity the desired minimum capacity
+         */
+        public void ensureCapacity(int minCapacity) {
+            if(minCapacity > elements.length) resize(capacityFor(minCapacity));
+        }
+
+        /**
+         * Shrinks the backing array to the smallest power of two able to hold the
+         * current elements.
+         */
+        public void trimToSize() {
+            int cap = capacityFor(size);
+            if(cap < elements.length) resize(cap);
+        }
+
+        /**
+         * Makes room for {@code needed} more elements.
+         */
+        private void grow(int needed) {
+            int minCapacity = size + needed;
+            if(minCapacity < 0 || minCapacity > MAX_CAPACITY) throw new OutOfMemoryError("Required deque capacity " + size + " + " + needed + " is too large");
+            resize(capacityFor(java.lang.Math.max(minCapacity, elements.length << 1)));
+        }
+
+        /**
+         * Copies the elements into a new array of length {@code newCapacity}, unwrapping
+         * them so the head lands at index 0.
+         */
+        private void resize(int newCapacity) {
+            long[] a = new long[newCapacity];
+            copyOut(a, 0, size);
+            elements = a;
+            head = 0;
+        }
+
+        /**
+         * Copies the first {@code n} elements of the deque to {@code dst} starting at
+         * {@code off}, in at most two {@link System#arraycopy} calls.
+         */
+        private void copyOut(long[] dst, int off, int n) {
+            final long[] es = elements;
+            int first = java.lang.Math.min(n, es.length - head);
+            System.arraycopy(es, head, dst, off, first);
+            System.arraycopy(es, 0, dst, off + first, n - first);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsLong(long e) { return indexOf(e) >= 0; }
+
+        @Override
+        public boolean containsAllLong(PrimitiveCollection.OfLong c) {
+            var it = c.iteratorLong();
+            while(it.hasNext()) if(!containsLong(it.nextLong())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        /**
+         * Returns the logical index of the first occurrence of {@code e}, or -1.
+         */
+        private int indexOf(long e) {
+            final long[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < size; i++) if(es[(h + i) & mask] == e) return i;
+            return -1;
+        }
+
+        /**
+         * Returns the logical index of the last occurrence of {@code e}, or -1.
+         */
+        private int lastIndexOf(long e) {
+            final long[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = size; i-- != 0;) if(es[(h + i) & mask] == e) return i;
+            return -1;
+        }
+
+        ///////////// Insertion
+
+        @Override
+        public void addFirstLong(long e) {
+            if(size == elements.length) grow(1);
+            final long[] es = elements;
+            es[head = (head - 1) & (es.length - 1)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public void addLastLong(long e) {
+            if(size == elements.length) grow(1);
+            final long[] es = elements;
+            es[(head + size) & (es.length - 1)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public boolean offerFirstLong(long e) {
+            addFirstLong(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerLastLong(long e) {
+            addLastLong(e);
+            return true;
+        }
+
+        @Override
+        public boolean addLong(long e) {
+            addLastLong(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerLong(long e) {
+            addLastLong(e);
+            return true;
+        }
+
+        /**
+         * Pushes an element onto the stack represented by this deque, that is, inserts
+         * it at the front of this deque.
+         * @param e the element to push
+         * @see java.util.Deque#push(Object)
+         */
+        public void pushLong(long e) { addFirstLong(e); }
+
+        @Override
+        public void push(java.lang.Long e) { addFirstLong(e); }
+
+        /**
+         * Inserts {@code len} elements of the specified array, starting at {@code off},
+         * at the end of this deque in array order. The elements are moved with at most
+         * two {@link System#arraycopy} calls.
+         * @param a the array holding the elements to insert
+         * @param off the index of the first element to insert
+         * @param len the number of elements to insert
+         * @return {@code true}
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean offerLastAll(long[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            if(len == 0) return true;
+            if(len > elements.length - size) grow(len);
+            final long[] es = elements;
+            int tail = (head + size) & (es.length - 1);
+            int first = java.lang.Math.min(len, es.length - tail);
+            System.arraycopy(a, off, es, tail, first);
+            System.arraycopy(a, off + first, es, 0, len - first);
+            size += len;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean addAllLong(PrimitiveCollection.OfLong c) {
+            long[] a = c.toArrayLong();
+            if(a.length == 0) return false;
+            return offerLastAll(a, 0, a.length);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Long> c) {
+            if(c instanceof PrimitiveCollection.OfLong p) return addAllLong(p);
+            int n = c.size();
+            if(n == 0) return false;
+            if(n > elements.length - size) grow(n);
+            for(java.lang.Long e : c) addLastLong(e);
+            return true;
+        }
+
+        ///////////// Removal
+
+        @Override
+        public long removeFirstLong() {
+            if(size == 0) throw new NoSuchElementException();
+            return pollFirstLong();
+        }
+
+        @Override
+        public long removeLastLong() {
+            if(size == 0) throw new NoSuchElementException();
+            return pollLastLong();
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0L} if this deque is empty
+         */
+        @Override
+        public long pollFirstLong() {
+            if(size == 0) return 0L;
+            final long[] es = elements;
+            long e = es[head];
+            head = (head + 1) & (es.length - 1);
+            size--;
+            modCount++;
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the tail of this deque, or {@code 0L} if this deque is empty
+         */
+        @Override
+        public long pollLastLong() {
+            if(size == 0) return 0L;
+            final long[] es = elements;
+            long e = es[(head + --size) & (es.length - 1)];
+            modCount++;
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0L} if this deque is empty
+         */
+        @Override
+        public long pollLong() { return pollFirstLong(); }
+
+        @Override
+        public java.lang.Long pollFirst() { return size == 0 ? null : pollFirstLong(); }
+
+        @Override
+        public java.lang.Long pollLast() { return size == 0 ? null : pollLastLong(); }
+
+        @Override
+        public java.lang.Long poll() { return size == 0 ? null : pollFirstLong(); }
+
+        /**
+         * Pops an element from the stack represented by this deque, that is, removes
+         * and returns the first element of this deque.
+         * @return the element at the front of this deque
+         * @throws NoSuchElementException if this deque is empty
+         * @see java.util.Deque#pop()
+         */
+        public long popLong() { return removeFirstLong(); }
+
+        @Override
+        public java.lang.Long pop() { return removeFirstLong(); }
+
+        @Override
+        public java.lang.Long remove() { return removeFirstLong(); }
+
+        /**
+         * Removes up to {@code dst.length} elements from the head of this deque into
+         * {@code dst}, in deque order. The elements are moved with at most two
+         * {@link System#arraycopy} calls.
+         * @param dst the array into which the elements are to be stored
+         * @return the number of elements removed, which is
+         *         {@code min(size(), dst.length)}
+         */
+        public int pollFirstAll(long[] dst) {
+            int n = java.lang.Math.min(size, dst.length);
+            if(n == 0) return 0;
+            copyOut(dst, 0, n);
+            head = (head + n) & (elements.length - 1);
+            size -= n;
+            modCount++;
+            return n;
+        }
+
+        @Override
+        public boolean removeFirstOccurrenceLong(long e) {
+            int i = indexOf(e);
+            if(i < 0) return false;
+            delete(i);
+            return true;
+        }
+
+        @Override
+        public boolean removeLastOccurrenceLong(long e) {
+            int i = lastIndexOf(e);
+            if(i < 0) return false;
+            delete(i);
+            return true;
+        }
+
+        @Override
+        public boolean removeLong(long e) { return removeFirstOccurrenceLong(e); }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Long e) ? removeFirstOccurrenceLong(e) : false; }
+
+        /**
+         * Removes the element at logical index {@code i}, closing the gap by moving
+         * whichever side of it is shorter. Elements after {@code i} end up one
+         * logical index lower either way.
+         */
+        void delete(int i) {
+            final long[] es = elements;
+            final int mask = es.length - 1, h = head;
+            if(i < size - i - 1) {
+                for(int j = i; j > 0; j--) es[(h + j) & mask] = es[(h + j - 1) & mask];
+                head = (h + 1) & mask;
+            } else {
+                for(int j = i, last = size - 1; j < last; j++) es[(h + j) & mask] = es[(h + j + 1) & mask];
+            }
+            size--;
+            modCount++;
+        }
+
+        @Override
+        public boolean removeIfLong(PrimitivePredicate.OfLong filter) {
+            Objects.requireNonNull(filter);
+            final int expectedModCount = modCount;
+            final long[] es = elements;
+            final int mask = es.length - 1, h = head, n = size;
+            // test every element before moving any, so a throwing predicate leaves the deque as it was
+            final long[] deathRow = PrimitiveArrayList.nBits(Math.max(n, 1));
+            boolean removed = false;
+            for(int r = 0; r < n; r++) {
+                if(filter.testLong(es[(h + r) & mask])) {
+                    PrimitiveArrayList.setBit(deathRow, r);
+                    removed = true;
+                }
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(!removed) return false;
+            int w = 0;
+            for(int r = 0; r < n; r++) if(PrimitiveArrayList.isClear(deathRow, r)) es[(h + w++) & mask] = es[(h + r) & mask];
+            size = w;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeAllLong(PrimitiveCollection.OfLong c) {
+            Objects.requireNonNull(c);
+            return removeIfLong(c::containsLong);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfLong(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllLong(PrimitiveCollection.OfLong c) {
+            Objects.requireNonNull(c);
+            return removeIfLong(e -> !c.containsLong(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfLong(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            head = 0;
+            size = 0;
+        }
+
+        ///////////// Examination
+
+        @Override
+        public long getFirstLong() {
+            if(size == 0) throw new NoSuchElementException();
+            return elements[head];
+        }
+
+        @Override
+        public long getLastLong() {
+            if(size == 0) throw new NoSuchElementException();
+            final long[] es = elements;
+            return es[(head + size - 1) & (es.length - 1)];
+        }
+
+        @Override
+        public long elementLong() { return getFirstLong(); }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0L} if this deque is empty
+         */
+        @Override
+        public long peekFirstLong() { return size == 0 ? 0L : elements[head]; }
+
+        /**
+         * {@inheritDoc}
+         * @return the tail of this deque, or {@code 0L} if this deque is empty
+         */
+        @Override
+        public long peekLastLong() { return size == 0 ? 0L : getLastLong(); }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0L} if this deque is empty
+         */
+        @Override
+        public long peekLong() { return peekFirstLong(); }
+
+        @Override
+        public java.lang.Long peekFirst() { return size == 0 ? null : elements[head]; }
+
+        @Override
+        public java.lang.Long peekLast() { return size == 0 ? null : getLastLong(); }
+
+        @Override
+        public java.lang.Long peek() { return peekFirst(); }
+
+        ///////////// Array operations
+
+        @Override
+        public long[] toArrayLong() {
+            long[] a = new long[size];
+            copyOut(a, 0, size);
+            return a;
+        }
+
+        @Override
+        public long[] toArrayLong(long[] array) {
+            if(array.length < size) return toArrayLong();
+            copyOut(array, 0, size);
+            return array;
+        }
+
+        @Override
+        public java.lang.Long[] toArray() {
+            java.lang.Long[] r = new java.lang.Long[size];
+            final long[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < r.length; i++) r[i] = es[(h + i) & mask];
+            return r;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            final int n = size;
+            T[] r = a.length >= n ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), n);
+            final long[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < n; i++) r[i] = (T) java.lang.Long.valueOf(es[(h + i) & mask]);
+            if(r.length > n) r[n] = null;
+            return r;
+        }
+
+        ///////////// Traversal
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfLong action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final long[] es = elements;
+            final int h = head, n = size, first = java.lang.Math.min(n, es.length - h);
+            for(int i = h, end = h + first; i < end; i++) action.acceptLong(es[i]);
+            for(int i = 0, end = n - first; i < end; i++) action.acceptLong(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public PrimitiveIterator.OfLong iteratorLong() { return new Itr(); }
+
+        @Override
+        public PrimitiveIterator.OfLong descendingIteratorLong() { return new DescendingItr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this deque. The spliterator splits by logical index range and reports
+         * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+         * @return a spliterator over the elements in this deque
+         */
+        @Override
+        public PrimitiveSpliterator.OfLong spliteratorLong() { return new Spliter(0, -1, 0, false); }
+
+        @Override
+        public PrimitiveStream.OfLong streamLong() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamLong'");
+        }
+
+        @Override
+        public PrimitiveStream.OfLong parallelStreamLong() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamLong'");
+        }
+
+        private class Itr implements PrimitiveIterator.OfLong {
+            int cursor;       // logical index of next element to return
+            int lastRet = -1; // logical index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor < size; }
+
+            public long nextLong() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                final long[] es = elements;
+                return es[(head + (lastRet = i)) & (es.length - 1)];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                delete(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        private class DescendingItr implements PrimitiveIterator.OfLong {
+            int cursor = size - 1; // logical index of next element to return
+            int lastRet = -1;      // logical index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor >= 0; }
+
+            public long nextLong() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int i = cursor;
+                if(i < 0) throw new NoSuchElementException();
+                cursor = i - 1;
+                final long[] es = elements;
+                return es[(head + (lastRet = i)) & (es.length - 1)];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                delete(lastRet);
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        /**
+         * Splits by logical index range. A descending spliterator walks the same range
+         * from the top down and hands the upper half off on a split.
+         */
+        private final class Spliter implements PrimitiveSpliterator.OfLong {
+            private int index;            // next logical index for ascending, one past it for descending
+            private int fence;            // -1 until used; then the other end of the range
+            private int expectedModCount; // initialized when fence set
+            private final boolean descending;
+
+            Spliter(int origin, int fence, int expectedModCount, boolean descending) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+                this.descending = descending;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    if(descending) {
+                        index = size;
+                        hi = fence = 0;
+                    } else hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int f = getFence();
+                if(descending) {
+                    int hi = index, mid = (f + hi) >>> 1;
+                    return (mid <= f) ? null : new Spliter(hi, index = mid, expectedModCount, true);
+                }
+                int lo = index, mid = (lo + f) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount, false);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfLong action) {
+                if(action == null) throw new NullPointerException();
+                int f = getFence(), i = index;
+                final long[] es = elements;
+                if(descending ? i <= f : i >= f) return false;
+                long e = es[(head + (descending ? (index = i - 1) : i)) & (es.length - 1)];
+                if(!descending) index = i + 1;
+                action.acceptLong(e);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfLong action) {
+                if(action == null) throw new NullPointerException();
+                int f = getFence(), i = index;
+                final long[] es = elements;
+                final int mask = es.length - 1, h = head;
+                index = f;
+                if(descending) while(i > f) action.acceptLong(es[(h + --i) & mask]);
+                else while(i < f) action.acceptLong(es[(h + i++) & mask]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() {
+                int f = getFence();
+                return descending ? index - f : f - index;
+            }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        ///////////// Reverse-ordered view
+
+        /**
+         * Returns a reverse-ordered view of this deque. The view reads and writes the
+         * backing array directly, so its operations cost the same as those of this deque.
+         * @return a reverse-ordered view of this deque
+         */
+        @Override
+        public PrimitiveDeque.OfLong reversedLong() {
+            PrimitiveDeque.OfLong r;
+            return (r = reversedView) == null ? (reversedView = new Reversed()) : r;
+        }
+
+        private final class Reversed extends PrimitiveAbstractCollection.OfLong implements PrimitiveDeque.OfLong {
+            private final PrimitiveArrayDeque.OfLong d = PrimitiveArrayDeque.OfLong.this;
+
+            public int size() { return size; }
+            public boolean isEmpty() { return size == 0; }
+            public boolean containsLong(long e) { return d.containsLong(e); }
+            public boolean containsAllLong(PrimitiveCollection.OfLong c) { return d.containsAllLong(c); }
+            public boolean containsAll(Collection<?> c) { return d.containsAll(c); }
+
+            public void addFirstLong(long e) { d.addLastLong(e); }
+            public void addLastLong(long e) { d.addFirstLong(e); }
+            public boolean offerFirstLong(long e) { d.addLastLong(e); return true; }
+            public boolean offerLastLong(long e) { d.addFirstLong(e); return true; }
+            public boolean addLong(long e) { d.addFirstLong(e); return true; }
+            public boolean offerLong(long e) { d.addFirstLong(e); return true; }
+            public void push(java.lang.Long e) { d.addLastLong(e); }
+            public boolean addAllLong(PrimitiveCollection.OfLong c) {
+                var it = c.iteratorLong();
+                boolean modified = false;
+                while(it.hasNext()) {
+                    d.addFirstLong(it.nextLong());
+                    modified = true;
+                }
+                return modified;
+            }
+            public boolean addAll(Collection<? extends java.lang.Long> c) {
+                boolean modified = false;
+                for(java.lang.Long e : c) {
+                    d.addFirstLong(e);
+                    modified = true;
+                }
+                return modified;
+            }
+
+            public long removeFirstLong() { return d.removeLastLong(); }
+            public long removeLastLong() { return d.removeFirstLong(); }
+            public long pollFirstLong() { return d.pollLastLong(); }
+            public long pollLastLong() { return d.pollFirstLong(); }
+            public long pollLong() { return d.pollLastLong(); }
+            public java.lang.Long pollFirst() { return d.pollLast(); }
+            public java.lang.Long pollLast() { return d.pollFirst(); }
+            public java.lang.Long poll() { return d.pollLast(); }
+            public java.lang.Long pop() { return d.removeLastLong(); }
+            public java.lang.Long remove() { return d.removeLastLong(); }
+            public boolean removeFirstOccurrenceLong(long e) { return d.removeLastOccurrenceLong(e); }
+            public boolean removeLastOccurrenceLong(long e) { return d.removeFirstOccurrenceLong(e); }
+            public boolean removeLong(long e) { return d.removeLastOccurrenceLong(e); }
+            public boolean remove(Object o) { return (o instanceof java.lang.Long e) ? d.removeLastOccurrenceLong(e) : false; }
+            public boolean removeIfLong(PrimitivePredicate.OfLong filter) { return d.removeIfLong(filter); }
+            public boolean removeAllLong(PrimitiveCollection.OfLong c) { return d.removeAllLong(c); }
+            public boolean removeAll(Collection<?> c) { return d.removeAll(c); }
+            public boolean retainAllLong(PrimitiveCollection.OfLong c) { return d.retainAllLong(c); }
+            public boolean retainAll(Collection<?> c) { return d.retainAll(c); }
+            public void clear() { d.clear(); }
+
+            public long getFirstLong() { return d.getLastLong(); }
+            public long getLastLong() { return d.getFirstLong(); }
+            public long elementLong() { return d.getLastLong(); }
+            public long peekFirstLong() { return d.peekLastLong(); }
+            public long peekLastLong() { return d.peekFirstLong(); }
+            public long peekLong() { return d.peekLastLong(); }
+            public java.lang.Long peekFirst() { return d.peekLast(); }
+            public java.lang.Long peekLast() { return d.peekFirst(); }
+            public java.lang.Long peek() { return d.peekLast(); }
+
+            public long[] toArrayLong() { return toArrayLong(new long[size]); }
+            public long[] toArrayLong(long[] array) {
+                final int n = size;
+                if(array.length < n) array = new long[n];
+                final long[] es = elements;
+                final int mask = es.length - 1, h = head;
+                for(int i = 0; i < n; i++) array[i] = es[(h + n - 1 - i) & mask];
+                return array;
+            }
+            public java.lang.Long[] toArray() {
+                long[] a = toArrayLong();
+                java.lang.Long[] r = new java.lang.Long[a.length];
+                for(int i = 0; i < a.length; i++) r[i] = a[i];
+                return r;
+            }
+            @SuppressWarnings("unchecked")
+            public <T> T[] toArray(T[] a) {
+                long[] src = toArrayLong();
+                T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+                for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Long.valueOf(src[i]);
+                if(r.length > src.length) r[src.length] = null;
+                return r;
+            }
+
+            public void forEach(PrimitiveConsumer.OfLong action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final long[] es = elements;
+                final int mask = es.length - 1, h = head;
+                for(int i = size; i-- != 0;) action.acceptLong(es[(h + i) & mask]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+            public PrimitiveIterator.OfLong iteratorLong() { return d.descendingIteratorLong(); }
+            public PrimitiveIterator.OfLong descendingIteratorLong() { return d.iteratorLong(); }
+            public PrimitiveSpliterator.OfLong spliteratorLong() { return new Spliter(0, -1, 0, true); }
+            public PrimitiveStream.OfLong streamLong() {
+                // TODO Will be implemented when primitive streams and splitterator are implemented
+                throw new UnsupportedOperationException("Unimplemented method 'streamLong'");
+            }
+            public PrimitiveStream.OfLong parallelStreamLong() {
+                // TODO Will be implemented when primitive streams and splitterator are implemented
+                throw new UnsupportedOperationException("Unimplemented method 'parallelStreamLong'");
+            }
+
+            public PrimitiveDeque.OfLong reversedLong() { return d; }
+
+            @Override
+            public String toString() { return Arrays.toString(toArrayLong()); }
+        }
+
+        ///////////// Object methods
+
+        /**
+         * Returns a copy of this deque.
+         * @return a copy of this deque
+         */
+        @Override
+        public PrimitiveArrayDeque.OfLong clone() {
+            try {
+                var c = (PrimitiveArrayDeque.OfLong) super.clone();
+                c.elements = elements.clone();
+                c.reversedView = null;
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public String toString() { return Arrays.toString(toArrayLong()); }
+    }
+
+    /**
+     * Resizable circular-array implementation of the {@link PrimitiveDeque.OfInt} interface.
+     * Elements are stored unboxed in a {@code int[]} whose length is always a power of
+     * two, so the physical slot of a logical index is found with a single mask instead
+     * of a division or a branch. The array doubles whenever an insertion would overflow it.
+     * Most operations run in amortized constant time; bulk insertion and removal at the
+     * ends, {@link #offerLastAll(int[], int, int)} and {@link #pollFirstAll(int[])}, move
+     * at most two contiguous runs with {@link System#arraycopy}.
+     * <p>
+     * The empty-deque results of the unboxed {@code peek} and {@code poll} methods are
+     * {@code 0}; the boxed ones return {@code null} as {@link java.util.Deque} requires.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.ArrayDeque}
+     */
+    public static class OfInt extends PrimitiveAbstractCollection.OfInt implements PrimitiveDeque.OfInt, Cloneable {
+        /**
+         * The array in which the elements of the deque are stored. Its length is a
+         * power of two and the deque occupies {@link #size} slots starting at {@link #head},
+         * wrapping around the end of the array.
+         */
+        transient int[] elements;
+
+        /**
+         * The physical index of the element at the head of the deque.
+         */
+        transient int head;
+
+        /**
+         * The number of elements in the deque.
+         */
+        private int size;
+
+        /**
+         * The number of times this deque has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         */
+        transient int modCount;
+
+        private transient PrimitiveDeque.OfInt reversedView;
+
+        /**
+         * Constructs an empty deque with room for at least the specified number of elements.
+         * @param numElements lower bound on the initial capacity of the deque
+         * @throws IllegalArgumentException if the specified number of elements is negative
+         */
+        public OfInt(int numElements) {
+            if(numElements < 0) throw new IllegalArgumentException("Illegal Capacity: " + numElements);
+            elements = new int[capacityFor(numElements)];
+        }
+
+        /**
+         * Constructs an empty deque with an initial capacity of sixteen.
+         */
+        public OfInt() { elements = new int[DEFAULT_CAPACITY]; }
+
+        /**
+         * Constructs a deque containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this deque
+         */
+        public OfInt(PrimitiveCollection.OfInt c) {
+            int[] a = c.toArrayInt();
+            elements = new int[capacityFor(a.length)];
+            System.arraycopy(a, 0, elements, 0, a.length);
+            size = a.length;
+        }
+
+        /**
+         * Increases the capacity of this deque, if necessary, so that it can hold at
+         * least the number of elements specified by the argument without growing.
+         * @param minCapacity the desired minimum capacity
+         */
+        public void ensureCapacity(int minCapacity) {
+            if(minCapacity > elements.length) resize(capacityFor(minCapacity));
+        }
+
+        /**
+         * Shrinks the backing array to the smallest power of two able to hold the
+         * current elements.
+         */
+        public void trimToSize() {
+            int cap = capacityFor(size);
+            if(cap < elements.length) resize(cap);
+        }
+
+        /**
+         * Makes room for {@code needed} more elements.
+         */
+        private void grow(int needed) {
+            int minCapacity = size + needed;
+            if(minCapacity < 0 || minCapacity > MAX_CAPACITY) throw new OutOfMemoryError("Required deque capacity " + size + " + " + needed + " is too large");
+            resize(capacityFor(java.lang.Math.max(minCapacity, elements.length << 1)));
+        }
+
+        /**
+         * Copies the elements into a new array of length {@code newCapacity}, unwrapping
+         * them so the head lands at index 0.
+         */
+        private void resize(int newCapacity) {
+            int[] a = new int[newCapacity];
+            copyOut(a, 0, size);
+            elements = a;
+            head = 0;
+        }
+
+        /**
+         * Copies the first {@code n} elements of the deque to {@code dst} starting at
+         * {@code off}, in at most two {@link System#arraycopy} calls.
+         */
+        private void copyOut(int[] dst, int off, int n) {
+            final int[] es = elements;
+            int first = java.lang.Math.min(n, es.length - head);
+            System.arraycopy(es, head, dst, off, first);
+            System.arraycopy(es, 0, dst, off + first, n - first);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsInt(int e) { return indexOf(e) >= 0; }
+
+        @Override
+        public boolean containsAllInt(PrimitiveCollection.OfInt c) {
+            var it = c.iteratorInt();
+            while(it.hasNext()) if(!containsInt(it.nextInt())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        /**
+         * Returns the logical index of the first occurrence of {@code e}, or -1.
+         */
+        private int indexOf(int e) {
+            final int[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < size; i++) if(es[(h + i) & mask] == e) return i;
+            return -1;
+        }
+
+        /**
+         * Returns the logical index of the last occurrence of {@code e}, or -1.
+         */
+        private int lastIndexOf(int e) {
+            final int[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = size; i-- != 0;) if(es[(h + i) & mask] == e) return i;
+            return -1;
+        }
+
+        ///////////// Insertion
+
+        @Override
+        public void addFirstInt(int e) {
+            if(size == elements.length) grow(1);
+            final int[] es = elements;
+            es[head = (head - 1) & (es.length - 1)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public void addLastInt(int e) {
+            if(size == elements.length) grow(1);
+            final int[] es = elements;
+            es[(head + size) & (es.length - 1)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public boolean offerFirstInt(int e) {
+            addFirstInt(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerLastInt(int e) {
+            addLastInt(e);
+            return true;
+        }
+
+        @Override
+        public boolean addInt(int e) {
+            addLastInt(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerInt(int e) {
+            addLastInt(e);
+            return true;
+        }
+
+        /**
+         * Pushes an element onto the stack represented by this deque, that is, inserts
+         * it at the front of this deque.
+         * @param e the element to push
+         * @see java.util.Deque#push(Object)
+         */
+        public void pushInt(int e) { addFirstInt(e); }
+
+        @Override
+        public void push(java.lang.Integer e) { addFirstInt(e); }
+
+        /**
+         * Inserts {@code len} elements of the specified array, starting at {@code off},
+         * at the end of this deque in array order. The elements are moved with at most
+         * two {@link System#arraycopy} calls.
+         * @param a the array holding the elements to insert
+         * @param off the index of the first element to insert
+         * @param len the number of elements to insert
+         * @return {@code true}
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean offerLastAll(int[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            if(len == 0) return true;
+            if(len > elements.length - size) grow(len);
+            final int[] es = elements;
+            int tail = (head + size) & (es.length - 1);
+            int first = java.lang.Math.min(len, es.length - tail);
+            System.arraycopy(a, off, es, tail, first);
+            System.arraycopy(a, off + first, es, 0, len - first);
+            size += len;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean addAllInt(PrimitiveCollection.OfInt c) {
+            int[] a = c.toArrayInt();
+            if(a.length == 0) return false;
+            return offerLastAll(a, 0, a.length);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Integer> c) {
+            if(c instanceof PrimitiveCollection.OfInt p) return addAllInt(p);
+            int n = c.size();
+            if(n == 0) return false;
+            if(n > elements.length - size) grow(n);
+            for(java.lang.Integer e : c) addLastInt(e);
+            return true;
+        }
+
+        ///////////// Removal
+
+        @Override
+        public int removeFirstInt() {
+            if(size == 0) throw new NoSuchElementException();
+            return pollFirstInt();
+        }
+
+        @Override
+        public int removeLastInt() {
+            if(size == 0) throw new NoSuchElementException();
+            return pollLastInt();
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public int pollFirstInt() {
+            if(size == 0) return 0;
+            final int[] es = elements;
+            int e = es[head];
+            head = (head + 1) & (es.length - 1);
+            size--;
+            modCount++;
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the tail of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public int pollLastInt() {
+            if(size == 0) return 0;
+            final int[] es = elements;
+            int e = es[(head + --size) & (es.length - 1)];
+            modCount++;
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public int pollInt() { return pollFirstInt(); }
+
+        @Override
+        public java.lang.Integer pollFirst() { return size == 0 ? null : pollFirstInt(); }
+
+        @Override
+        public java.lang.Integer pollLast() { return size == 0 ? null : pollLastInt(); }
+
+        @Override
+        public java.lang.Integer poll() { return size == 0 ? null : pollFirstInt(); }
+
+        /**
+         * Pops an element from the stack represented by this deque, that is, removes
+         * and returns the first element of this deque.
+         * @return the element at the front of this deque
+         * @throws NoSuchElementException if this deque is empty
+         * @see java.util.Deque#pop()
+         */
+        public int popInt() { return removeFirstInt(); }
+
+        @Override
+        public java.lang.Integer pop() { return removeFirstInt(); }
+
+        @Override
+        public java.lang.Integer remove() { return removeFirstInt(); }
+
+        /**
+         * Removes up to {@code dst.length} elements from the head of this deque into
+         * {@code dst}, in deque order. The elements are moved with at most two
+         * {@link System#arraycopy} calls.
+         * @param dst the array into which the elements are to be stored
+         * @return the number of elements removed, which is
+         *         {@code min(size(), dst.length)}
+         */
+        public int pollFirstAll(int[] dst) {
+            int n = java.lang.Math.min(size, dst.length);
+            if(n == 0) return 0;
+            copyOut(dst, 0, n);
+            head = (head + n) & (elements.length - 1);
+            size -= n;
+            modCount++;
+            return n;
+        }
+
+        @Override
+        public boolean removeFirstOccurrenceInt(int e) {
+            int i = indexOf(e);
+            if(i < 0) return false;
+            delete(i);
+            return true;
+        }
+
+        @Override
+        public boolean removeLastOccurrenceInt(int e) {
+            int i = lastIndexOf(e);
+            if(i < 0) return false;
+            delete(i);
+            return true;
+        }
+
+        @Override
+        public boolean removeInt(int e) { return removeFirstOccurrenceInt(e); }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Integer e) ? removeFirstOccurrenceInt(e) : false; }
+
+        /**
+         * Removes the element at logical index {@code i}, closing the gap by moving
+         * whichever side of it is shorter. Elements after {@code i} end up one
+         * logical index lower either way.
+         */
+        void delete(int i) {
+            final int[] es = elements;
+            final int mask = es.length - 1, h = head;
+            if(i < size - i - 1) {
+                for(int j = i; j > 0; j--) es[(h + j) & mask] = es[(h + j - 1) & mask];
+                head = (h + 1) & mask;
+            } else {
+                for(int j = i, last = size - 1; j < last; j++) es[(h + j) & mask] = es[(h + j + 1) & mask];
+            }
+            size--;
+            modCount++;
+        }
+
+        @Override
+        public boolean removeIfInt(PrimitivePredicate.OfInt filter) {
+            Objects.requireNonNull(filter);
+            final int expectedModCount = modCount;
+            final int[] es = elements;
+            final int mask = es.length - 1, h = head, n = size;
+            // test every element before moving any, so a throwing predicate leaves the deque as it was
+            final long[] deathRow = PrimitiveArrayList.nBits(Math.max(n, 1));
+            boolean removed = false;
+            for(int r = 0; r < n; r++) {
+                if(filter.testInt(es[(h + r) & mask])) {
+                    PrimitiveArrayList.setBit(deathRow, r);
+                    removed = true;
+                }
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(!removed) return false;
+            int w = 0;
+            for(int r = 0; r < n; r++) if(PrimitiveArrayList.isClear(deathRow, r)) es[(h + w++) & mask] = es[(h + r) & mask];
+            size = w;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeAllInt(PrimitiveCollection.OfInt c) {
+            Objects.requireNonNull(c);
+            return removeIfInt(c::containsInt);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfInt(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllInt(PrimitiveCollection.OfInt c) {
+            Objects.requireNonNull(c);
+            return removeIfInt(e -> !c.containsInt(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfInt(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            head = 0;
+            size = 0;
+        }
+
+        ///////////// Examination
+
+        @Override
+        public int getFirstInt() {
+            if(size == 0) throw new NoSuchElementException();
+            return elements[head];
+        }
+
+        @Override
+        public int getLastInt() {
+            if(size == 0) throw new NoSuchElementException();
+            final int[] es = elements;
+            return es[(head + size - 1) & (es.length - 1)];
+        }
+
+        @Override
+        public int elementInt() { return getFirstInt(); }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public int peekFirstInt() { return size == 0 ? 0 : elements[head]; }
+
+        /**
+         * {@inheritDoc}
+         * @return the tail of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public int peekLastInt() { return size == 0 ? 0 : getLastInt(); }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public int peekInt() { return peekFirstInt(); }
+
+        @Override
+        public java.lang.Integer peekFirst() { return size == 0 ? null : elements[head]; }
+
+        @Override
+        public java.lang.Integer peekLast() { return size == 0 ? null : getLastInt(); }
+
+        @Override
+        public java.lang.Integer peek() { return peekFirst(); }
+
+        ///////////// Array operations
+
+        @Override
+        public int[] toArrayInt() {
+            int[] a = new int[size];
+            copyOut(a, 0, size);
+            return a;
+        }
+
+        @Override
+        public int[] toArrayInt(int[] array) {
+            if(array.length < size) return toArrayInt();
+            copyOut(array, 0, size);
+            return array;
+        }
+
+        @Override
+        public java.lang.Integer[] toArray() {
+            java.lang.Integer[] r = new java.lang.Integer[size];
+            final int[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < r.length; i++) r[i] = es[(h + i) & mask];
+            return r;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            final int n = size;
+            T[] r = a.length >= n ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), n);
+            final int[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < n; i++) r[i] = (T) java.lang.Integer.valueOf(es[(h + i) & mask]);
+            if(r.length > n) r[n] = null;
+            return r;
+        }
+
+        ///////////// Traversal
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfInt action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final int[] es = elements;
+            final int h = head, n = size, first = java.lang.Math.min(n, es.length - h);
+            for(int i = h, end = h + first; i < end; i++) action.acceptInt(es[i]);
+            for(int i = 0, end = n - first; i < end; i++) action.acceptInt(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt iteratorInt() { return new Itr(); }
+
+        @Override
+        public PrimitiveIterator.OfInt descendingIteratorInt() { return new DescendingItr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this deque. The spliterator splits by logical index range and reports
+         * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+         * @return a spliterator over the elements in this deque
+         */
+        @Override
+        public PrimitiveSpliterator.OfInt spliteratorInt() { return new Spliter(0, -1, 0, false); }
+
+        @Override
+        public PrimitiveStream.OfInt streamInt() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamInt'");
+        }
+
+        @Override
+        public PrimitiveStream.OfInt parallelStreamInt() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamInt'");
+        }
+
+        private class Itr implements PrimitiveIterator.OfInt {
+            int cursor;       // logical index of next element to return
+            int lastRet = -1; // logical index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor < size; }
+
+            public int nextInt() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                final int[] es = elements;
+                return es[(head + (lastRet = i)) & (es.length - 1)];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                delete(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        private class DescendingItr implements PrimitiveIterator.OfInt {
+            int cursor = size - 1; // logical index of next element to return
+            int lastRet = -1;      // logical index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor >= 0; }
+
+            public int nextInt() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int i = cursor;
+                if(i < 0) throw new NoSuchElementException();
+                cursor = i - 1;
+                final int[] es = elements;
+                return es[(head + (lastRet = i)) & (es.length - 1)];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                delete(lastRet);
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        /**
+         * Splits by logical index range. A descending spliterator walks the same range
+         * from the top down and hands the upper half off on a split.
+         */
+        private final class Spliter implements PrimitiveSpliterator.OfInt {
+            private int index;            // next logical index for ascending, one past it for descending
+            private int fence;            // -1 until used; then the other end of the range
+            private int expectedModCount; // initialized when fence set
+            private final boolean descending;
+
+            Spliter(int origin, int fence, int expectedModCount, boolean descending) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+                this.descending = descending;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    if(descending) {
+                        index = size;
+                        hi = fence = 0;
+                    } else hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int f = getFence();
+                if(descending) {
+                    int hi = index, mid = (f + hi) >>> 1;
+                    return (mid <= f) ? null : new Spliter(hi, index = mid, expectedModCount, true);
+                }
+                int lo = index, mid = (lo + f) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount, false);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfInt action) {
+                if(action == null) throw new NullPointerException();
+                int f = getFence(), i = index;
+                final int[] es = elements;
+                if(descending ? i <= f : i >= f) return false;
+                int e = es[(head + (descending ? (index = i - 1) : i)) & (es.length - 1)];
+                if(!descending) index = i + 1;
+                action.acceptInt(e);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfInt action) {
+                if(action == null) throw new NullPointerException();
+                int f = getFence(), i = index;
+                final int[] es = elements;
+                final int mask = es.length - 1, h = head;
+                index = f;
+                if(descending) while(i > f) action.acceptInt(es[(h + --i) & mask]);
+                else while(i < f) action.acceptInt(es[(h + i++) & mask]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() {
+                int f = getFence();
+                return descending ? index - f : f - index;
+            }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        ///////////// Reverse-ordered view
+
+        /**
+         * Returns a reverse-ordered view of this deque. The view reads and writes the
+         * backing array directly, so its operations cost the same as those of this deque.
+         * @return a reverse-ordered view of this deque
+         */
+        @Override
+        public PrimitiveDeque.OfInt reversedInt() {
+            PrimitiveDeque.OfInt r;
+            return (r = reversedView) == null ? (reversedView = new Reversed()) : r;
+        }
+
+        private final class Reversed extends PrimitiveAbstractCollection.OfInt implements PrimitiveDeque.OfInt {
+            private final PrimitiveArrayDeque.OfInt d = PrimitiveArrayDeque.OfInt.this;
+
+            public int size() { return size; }
+            public boolean isEmpty() { return size == 0; }
+            public boolean containsInt(int e) { return d.containsInt(e); }
+            public boolean containsAllInt(PrimitiveCollection.OfInt c) { return d.containsAllInt(c); }
+            public boolean containsAll(Collection<?> c) { return d.containsAll(c); }
+
+            public void addFirstInt(int e) { d.addLastInt(e); }
+            public void addLastInt(int e) { d.addFirstInt(e); }
+            public boolean offerFirstInt(int e) { d.addLastInt(e); return true; }
+            public boolean offerLastInt(int e) { d.addFirstInt(e); return true; }
+            public boolean addInt(int e) { d.addFirstInt(e); return true; }
+            public boolean offerInt(int e) { d.addFirstInt(e); return true; }
+            public void push(java.lang.Integer e) { d.addLastInt(e); }
+            public boolean addAllInt(PrimitiveCollection.OfInt c) {
+                var it = c.iteratorInt();
+                boolean modified = false;
+                while(it.hasNext()) {
+                    d.addFirstInt(it.nextInt());
+                    modified = true;
+                }
+                return modified;
+            }
+            public boolean addAll(Collection<? extends java.lang.Integer> c) {
+                boolean modified = false;
+                for(java.lang.Integer e : c) {
+                    d.addFirstInt(e);
+                    modified = true;
+                }
+                return modified;
+            }
+
+            public int removeFirstInt() { return d.removeLastInt(); }
+            public int removeLastInt() { return d.removeFirstInt(); }
+            public int pollFirstInt() { return d.pollLastInt(); }
+            public int pollLastInt() { return d.pollFirstInt(); }
+            public int pollInt() { return d.pollLastInt(); }
+            public java.lang.Integer pollFirst() { return d.pollLast(); }
+            public java.lang.Integer pollLast() { return d.pollFirst(); }
+            public java.lang.Integer poll() { return d.pollLast(); }
+            public java.lang.Integer pop() { return d.removeLastInt(); }
+            public java.lang.Integer remove() { return d.removeLastInt(); }
+            public boolean removeFirstOccurrenceInt(int e) { return d.removeLastOccurrenceInt(e); }
+            public boolean removeLastOccurrenceInt(int e) { return d.removeFirstOccurrenceInt(e); }
+            public boolean removeInt(int e) { return d.removeLastOccurrenceInt(e); }
+            public boolean remove(Object o) { return (o instanceof java.lang.Integer e) ? d.removeLastOccurrenceInt(e) : false; }
+            public boolean removeIfInt(PrimitivePredicate.OfInt filter) { return d.removeIfInt(filter); }
+            public boolean removeAllInt(PrimitiveCollection.OfInt c) { return d.removeAllInt(c); }
+            public boolean removeAll(Collection<?> c) { return d.removeAll(c); }
+            public boolean retainAllInt(PrimitiveCollection.OfInt c) { return d.retainAllInt(c); }
+            public boolean retainAll(Collection<?> c) { return d.retainAll(c); }
+            public void clear() { d.clear(); }
+
+            public int getFirstInt() { return d.getLastInt(); }
+            public int getLastInt() { return d.getFirstInt(); }
+            public int elementInt() { return d.getLastInt(); }
+            public int peekFirstInt() { return d.peekLastInt(); }
+            public int peekLastInt() { return d.peekFirstInt(); }
+            public int peekInt() { return d.peekLastInt(); }
+            public java.lang.Integer peekFirst() { return d.peekLast(); }
+            public java.lang.Integer peekLast() { return d.peekFirst(); }
+            public java.lang.Integer peek() { return d.peekLast(); }
+
+            public int[] toArrayInt() { return toArrayInt(new int[size]); }
+            public int[] toArrayInt(int[] array) {
+                final int n = size;
+                if(array.length < n) array = new int[n];
+                final int[] es = elements;
+                final int mask = es.length - 1, h = head;
+                for(int i = 0; i < n; i++) array[i] = es[(h + n - 1 - i) & mask];
+                return array;
+            }
+            public java.lang.Integer[] toArray() {
+                int[] a = toArrayInt();
+                java.lang.Integer[] r = new java.lang.Integer[a.length];
+                for(int i = 0; i < a.length; i++) r[i] = a[i];
+                return r;
+            }
+            @SuppressWarnings("unchecked")
+            public <T> T[] toArray(T[] a) {
+                int[] src = toArrayInt();
+                T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+                for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Integer.valueOf(src[i]);
+                if(r.length > src.length) r[src.length] = null;
+                return r;
+            }
+
+            public void forEach(PrimitiveConsumer.OfInt action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final int[] es = elements;
+                final int mask = es.length - 1, h = head;
+                for(int i = size; i-- != 0;) action.acceptInt(es[(h + i) & mask]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+            public PrimitiveIterator.OfInt iteratorInt() { return d.descendingIteratorInt(); }
+            public PrimitiveIterator.OfInt descendingIteratorInt() { return d.iteratorInt(); }
+            public PrimitiveSpliterator.OfInt spliteratorInt() { return new Spliter(0, -1, 0, true); }
+            public PrimitiveStream.OfInt streamInt() {
+                // TODO Will be implemented when primitive streams and splitterator are implemented
+                throw new UnsupportedOperationException("Unimplemented method 'streamInt'");
+            }
+            public PrimitiveStream.OfInt parallelStreamInt() {
+                // TODO Will be implemented when primitive streams and splitterator are implemented
+                throw new UnsupportedOperationException("Unimplemented method 'parallelStreamInt'");
+            }
+
+            public PrimitiveDeque.OfInt reversedInt() { return d; }
+
+            @Override
+            public String toString() { return Arrays.toString(toArrayInt()); }
+        }
+
+        ///////////// Object methods
+
+        /**
+         * Returns a copy of this deque.
+         * @return a copy of this deque
+         */
+        @Override
+        public PrimitiveArrayDeque.OfInt clone() {
+            try {
+                var c = (PrimitiveArrayDeque.OfInt) super.clone();
+                c.elements = elements.clone();
+                c.reversedView = null;
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public String toString() { return Arrays.toString(toArrayInt()); }
+    }
+
+    /**
+     * Resizable circular-array implementation of the {@link PrimitiveDeque.OfFloat} interface.
+     * Elements are stored unboxed in a {@code float[]} whose length is always a power of
+     * two, so the physical slot of a logical index is found with a single mask instead
+     * of a division or a branch. The array doubles whenever an insertion would overflow it.
+     * Most operations run in amortized constant time; bulk insertion and removal at the
+     * ends, {@link #offerLastAll(float[], int, int)} and {@link #pollFirstAll(float[])}, move
+     * at most two contiguous runs with {@link System#arraycopy}.
+     * <p>
+     * The empty-deque results of the unboxed {@code peek} and {@code poll} methods are
+     * {@code 0.0f}; the boxed ones return {@code null} as {@link java.util.Deque} requires.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.ArrayDeque}
+     */
+    public static class OfFloat extends PrimitiveAbstractCollection.OfFloat implements PrimitiveDeque.OfFloat, Cloneable {
+        /**
+         * The array in which the elements of the deque are stored. Its length is a
+         * power of two and the deque occupies {@link #size} slots starting at {@link #head},
+         * wrapping around the end of the array.
+         */
+        transient float[] elements;
+
+        /**
+         * The physical index of the element at the head of the deque.
+         */
+        transient int head;
+
+        /**
+         * The number of elements in the deque.
+         */
+        private int size;
+
+        /**
+         * The number of times this deque has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         */
+        transient int modCount;
+
+        private transient PrimitiveDeque.OfFloat reversedView;
+
+        /**
+         * Constructs an empty deque with room for at least the specified number of elements.
+         * @param numElements lower bound on the initial capacity of the deque
+         * @throws IllegalArgumentException if the specified number of elements is negative
+         */
+        public OfFloat(int numElements) {
+            if(numElements < 0) throw new IllegalArgumentException("Illegal Capacity: " + numElements);
+            elements = new float[capacityFor(numElements)];
+        }
+
+        /**
+         * Constructs an empty deque with an initial capacity of sixteen.
+         */
+        public OfFloat() { elements = new float[DEFAULT_CAPACITY]; }
+
+        /**
+         * Constructs a deque containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this deque
+         */
+        public OfFloat(PrimitiveCollection.OfFloat c) {
+            float[] a = c.toArrayFloat();
+            elements = new float[capacityFor(a.length)];
+            System.arraycopy(a, 0, elements, 0, a.length);
+            size = a.length;
+        }
+
+        /**
+         * Increases the capacity of this deque, if necessary, so that it can hold at
+         * least the number of elements specified by the argument without growing.
+         * @param minCapacity the desired minimum capacity
+         */
+        public void ensureCapacity(int minCapacity) {
+            if(minCapacity > elements.length) resize(capacityFor(minCapacity));
+        }
+
+        /**
+         * Shrinks the backing array to the smallest power of two able to hold the
+         * current elements.
+         */
+        public void trimToSize() {
+            int cap = capacityFor(size);
+            if(cap < elements.length) resize(cap);
+        }
+
+        /**
+         * Makes room for {@code needed} more elements.
+         */
+        private void grow(int needed) {
+            int minCapacity = size + needed;
+            if(minCapacity < 0 || minCapacity > MAX_CAPACITY) throw new OutOfMemoryError("Required deque capacity " + size + " + " + needed + " is too large");
+            resize(capacityFor(java.lang.Math.max(minCapacity, elements.length << 1)));
+        }
+
+        /**
+         * Copies the elements into a new array of length {@code newCapacity}, unwrapping
+         * them so the head lands at index 0.
+         */
+        private void resize(int newCapacity) {
+            float[] a = new float[newCapacity];
+            copyOut(a, 0, size);
+            elements = a;
+            head = 0;
+        }
+
+        /**
+         * Copies the first {@code n} elements of the deque to {@code dst} starting at
+         * {@code off}, in at most two {@link System#arraycopy} calls.
+         */
+        private void copyOut(float[] dst, int off, int n) {
+            final float[] es = elements;
+            int first = java.lang.Math.min(n, es.length - head);
+            System.arraycopy(es, head, dst, off, first);
+            System.arraycopy(es, 0, dst, off + first, n - first);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsFloat(float e) { return indexOf(e) >= 0; }
+
+        @Override
+        public boolean containsAllFloat(PrimitiveCollection.OfFloat c) {
+            var it = c.iteratorFloat();
+            while(it.hasNext()) if(!containsFloat(it.nextFloat())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        /**
+         * Returns the logical index of the first occurrence of {@code e}, or -1.
+         */
+        private int indexOf(float e) {
+            final float[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < size; i++) if((es[(h + i) & mask] == e || java.lang.Float.isNaN(es[(h + i) & mask]) && java.lang.Float.isNaN(e))) return i;
+            return -1;
+        }
+
+        /**
+         * Returns the logical index of the last occurrence of {@code e}, or -1.
+         */
+        private int lastIndexOf(float e) {
+            final float[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = size; i-- != 0;) if((es[(h + i) & mask] == e || java.lang.Float.isNaN(es[(h + i) & mask]) && java.lang.Float.isNaN(e))) return i;
+            return -1;
+        }
+
+        ///////////// Insertion
+
+        @Override
+        public void addFirstFloat(float e) {
+            if(size == elements.length) grow(1);
+            final float[] es = elements;
+            es[head = (head - 1) & (es.length - 1)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public void addLastFloat(float e) {
+            if(size == elements.length) grow(1);
+            final float[] es = elements;
+            es[(head + size) & (es.length - 1)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public boolean offerFirstFloat(float e) {
+            addFirstFloat(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerLastFloat(float e) {
+            addLastFloat(e);
+            return true;
+        }
+
+        @Override
+        public boolean addFloat(float e) {
+            addLastFloat(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerFloat(float e) {
+            addLastFloat(e);
+            return true;
+        }
+
+        /**
+         * Pushes an element onto the stack represented by this deque, that is, inserts
+         * it at the front of this deque.
+         * @param e the element to push
+         * @see java.util.Deque#push(Object)
+         */
+        public void pushFloat(float e) { addFirstFloat(e); }
+
+        @Override
+        public void push(java.lang.Float e) { addFirstFloat(e); }
+
+        /**
+         * Inserts {@code len} elements of the specified array, starting at {@code off},
+         * at the end of this deque in array order. The elements are moved with at most
+         * two {@link System#arraycopy} calls.
+         * @param a the array holding the elements to insert
+         * @param off the index of the first element to insert
+         * @param len the number of elements to insert
+         * @return {@code true}
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean offerLastAll(float[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            if(len == 0) return true;
+            if(len > elements.length - size) grow(len);
+            final float[] es = elements;
+            int tail = (head + size) & (es.length - 1);
+            int first = java.lang.Math.min(len, es.length - tail);
+            System.arraycopy(a, off, es, tail, first);
+            System.arraycopy(a, off + first, es, 0, len - first);
+            size += len;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean addAllFloat(PrimitiveCollection.OfFloat c) {
+            float[] a = c.toArrayFloat();
+            if(a.length == 0) return false;
+            return offerLastAll(a, 0, a.length);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Float> c) {
+            if(c instanceof PrimitiveCollection.OfFloat p) return addAllFloat(p);
+            int n = c.size();
+            if(n == 0) return false;
+            if(n > elements.length - size) grow(n);
+            for(java.lang.Float e : c) addLastFloat(e);
+            return true;
+        }
+
+        ///////////// Removal
+
+        @Override
+        public float removeFirstFloat() {
+            if(size == 0) throw new NoSuchElementException();
+            return pollFirstFloat();
+        }
+
+        @Override
+        public float removeLastFloat() {
+            if(size == 0) throw new NoSuchElementException();
+            return pollLastFloat();
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0.0f} if this deque is empty
+         */
+        @Override
+        public float pollFirstFloat() {
+            if(size == 0) return 0.0f;
+            final float[] es = elements;
+            float e = es[head];
+            head = (head + 1) & (es.length - 1);
+            size--;
+            modCount++;
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the tail of this deque, or {@code 0.0f} if this deque is empty
+         */
+        @Override
+        public float pollLastFloat() {
+            if(size == 0) return 0.0f;
+            final float[] es = elements;
+            float e = es[(head + --size) & (es.length - 1)];
+            modCount++;
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0.0f} if this deque is empty
+         */
+        @Override
+        public float pollFloat() { return pollFirstFloat(); }
+
+        @Override
+        public java.lang.Float pollFirst() { return size == 0 ? null : pollFirstFloat(); }
+
+        @Override
+        public java.lang.Float pollLast() { return size == 0 ? null : pollLastFloat(); }
+
+        @Override
+        public java.lang.Float poll() { return size == 0 ? null : pollFirstFloat(); }
+
+        /**
+         * Pops an element from the stack represented by this deque, that is, removes
+         * and returns the first element of this deque.
+         * @return the element at the front of this deque
+         * @throws NoSuchElementException if this deque is empty
+         * @see java.util.Deque#pop()
+         */
+        public float popFloat() { return removeFirstFloat(); }
+
+        @Override
+        public java.lang.Float pop() { return removeFirstFloat(); }
+
+        @Override
+        public java.lang.Float remove() { return removeFirstFloat(); }
+
+        /**
+         * Removes up to {@code dst.length} elements from the head of this deque into
+         * {@code dst}, in deque order. The elements are moved with at most two
+         * {@link System#arraycopy} calls.
+         * @param dst the array into which the elements are to be stored
+         * @return the number of elements removed, which is
+         *         {@code min(size(), dst.length)}
+         */
+        public int pollFirstAll(float[] dst) {
+            int n = java.lang.Math.min(size, dst.length);
+            if(n == 0) return 0;
+            copyOut(dst, 0, n);
+            head = (head + n) & (elements.length - 1);
+            size -= n;
+            modCount++;
+            return n;
+        }
+
+        @Override
+        public boolean removeFirstOccurrenceFloat(float e) {
+            int i = indexOf(e);
+            if(i < 0) return false;
+            delete(i);
+            return true;
+        }
+
+        @Override
+        public boolean removeLastOccurrenceFloat(float e) {
+            int i = lastIndexOf(e);
+            if(i < 0) return false;
+            delete(i);
+            return true;
+        }
+
+        @Override
+        public boolean removeFloat(float e) { return removeFirstOccurrenceFloat(e); }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Float e) ? removeFirstOccurrenceFloat(e) : false; }
+
+        /**
+         * Removes the element at logical index {@code i}, closing the gap by moving
+         * whichever side of it is shorter. Elements after {@code i} end up one
+         * logical index lower either way.
+         */
+        void delete(int i) {
+            final float[] es = elements;
+            final int mask = es.length - 1, h = head;
+            if(i < size - i - 1) {
+                for(int j = i; j > 0; j--) es[(h + j) & mask] = es[(h + j - 1) & mask];
+                head = (h + 1) & mask;
+            } else {
+                for(int j = i, last = size - 1; j < last; j++) es[(h + j) & mask] = es[(h + j + 1) & mask];
+            }
+            size--;
+            modCount++;
+        }
+
+        @Override
+        public boolean removeIfFloat(PrimitivePredicate.OfFloat filter) {
+            Objects.requireNonNull(filter);
+            final int expectedModCount = modCount;
+            final float[] es = elements;
+            final int mask = es.length - 1, h = head, n = size;
+            // test every element before moving any, so a throwing predicate leaves the deque as it was
+            final long[] deathRow = PrimitiveArrayList.nBits(Math.max(n, 1));
+            boolean removed = false;
+            for(int r = 0; r < n; r++) {
+                if(filter.testFloat(es[(h + r) & mask])) {
+                    PrimitiveArrayList.setBit(deathRow, r);
+                    removed = true;
+                }
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(!removed) return false;
+            int w = 0;
+            for(int r = 0; r < n; r++) if(PrimitiveArrayList.isClear(deathRow, r)) es[(h + w++) & mask] = es[(h + r) & mask];
+            size = w;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeAllFloat(PrimitiveCollection.OfFloat c) {
+            Objects.requireNonNull(c);
+            return removeIfFloat(c::containsFloat);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfFloat(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllFloat(PrimitiveCollection.OfFloat c) {
+            Objects.requireNonNull(c);
+            return removeIfFloat(e -> !c.containsFloat(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfFloat(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            head = 0;
+            size = 0;
+        }
+
+        ///////////// Examination
+
+        @Override
+        public float getFirstFloat() {
+            if(size == 0) throw new NoSuchElementException();
+            return elements[head];
+        }
+
+        @Override
+        public float getLastFloat() {
+            if(size == 0) throw new NoSuchElementException();
+            final float[] es = elements;
+            return es[(head + size - 1) & (es.length - 1)];
+        }
+
+        @Override
+        public float elementFloat() { return getFirstFloat(); }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0.0f} if this deque is empty
+         */
+        @Override
+        public float peekFirstFloat() { return size == 0 ? 0.0f : elements[head]; }
+
+        /**
+         * {@inheritDoc}
+         * @return the tail of this deque, or {@code 0.0f} if this deque is empty
+         */
+        @Override
+        public float peekLastFloat() { return size == 0 ? 0.0f : getLastFloat(); }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0.0f} if this deque is empty
+         */
+        @Override
+        public float peekFloat() { return peekFirstFloat(); }
+
+        @Override
+        public java.lang.Float peekFirst() { return size == 0 ? null : elements[head]; }
+
+        @Override
+        public java.lang.Float peekLast() { return size == 0 ? null : getLastFloat(); }
+
+        @Override
+        public java.lang.Float peek() { return peekFirst(); }
+
+        ///////////// Array operations
+
+        @Override
+        public float[] toArrayFloat() {
+            float[] a = new float[size];
+            copyOut(a, 0, size);
+            return a;
+        }
+
+        @Override
+        public float[] toArrayFloat(float[] array) {
+            if(array.length < size) return toArrayFloat();
+            copyOut(array, 0, size);
+            return array;
+        }
+
+        @Override
+        public java.lang.Float[] toArray() {
+            java.lang.Float[] r = new java.lang.Float[size];
+            final float[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < r.length; i++) r[i] = es[(h + i) & mask];
+            return r;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            final int n = size;
+            T[] r = a.length >= n ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), n);
+            final float[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < n; i++) r[i] = (T) java.lang.Float.valueOf(es[(h + i) & mask]);
+            if(r.length > n) r[n] = null;
+            return r;
+        }
+
+        ///////////// Traversal
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfFloat action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final float[] es = elements;
+            final int h = head, n = size, first = java.lang.Math.min(n, es.length - h);
+            for(int i = h, end = h + first; i < end; i++) action.acceptFloat(es[i]);
+            for(int i = 0, end = n - first; i < end; i++) action.acceptFloat(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public PrimitiveIterator.OfFloat iteratorFloat() { return new Itr(); }
+
+        @Override
+        public PrimitiveIterator.OfFloat descendingIteratorFloat() { return new DescendingItr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this deque. The spliterator splits by logical index range and reports
+         * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+         * @return a spliterator over the elements in this deque
+         */
+        @Override
+        public PrimitiveSpliterator.OfFloat spliteratorFloat() { return new Spliter(0, -1, 0, false); }
+
+        @Override
+        public PrimitiveStream.OfFloat streamFloat() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamFloat'");
+        }
+
+        @Override
+        public PrimitiveStream.OfFloat parallelStreamFloat() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamFloat'");
+        }
+
+        private class Itr implements PrimitiveIterator.OfFloat {
+            int cursor;       // logical index of next element to return
+            int lastRet = -1; // logical index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor < size; }
+
+            public float nextFloat() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                final float[] es = elements;
+                return es[(head + (lastRet = i)) & (es.length - 1)];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                delete(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        private class DescendingItr implements PrimitiveIterator.OfFloat {
+            int cursor = size - 1; // logical index of next element to return
+            int lastRet = -1;      // logical index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor >= 0; }
+
+            public float nextFloat() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int i = cursor;
+                if(i < 0) throw new NoSuchElementException();
+                cursor = i - 1;
+                final float[] es = elements;
+                return es[(head + (lastRet = i)) & (es.length - 1)];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                delete(lastRet);
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        /**
+         * Splits by logical index range. A descending spliterator walks the same range
+         * from the top down and hands the upper half off on a split.
+         */
+        private final class Spliter implements PrimitiveSpliterator.OfFloat {
+            private int index;            // next logical index for ascending, one past it for descending
+            private int fence;            // -1 until used; then the other end of the range
+            private int expectedModCount; // initialized when fence set
+            private final boolean descending;
+
+            Spliter(int origin, int fence, int expectedModCount, boolean descending) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+                this.descending = descending;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    if(descending) {
+                        index = size;
+                        hi = fence = 0;
+                    } else hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int f = getFence();
+                if(descending) {
+                    int hi = index, mid = (f + hi) >>> 1;
+                    return (mid <= f) ? null : new Spliter(hi, index = mid, expectedModCount, true);
+                }
+                int lo = index, mid = (lo + f) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount, false);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfFloat action) {
+                if(action == null) throw new NullPointerException();
+                int f = getFence(), i = index;
+                final float[] es = elements;
+                if(descending ? i <= f : i >= f) return false;
+                float e = es[(head + (descending ? (index = i - 1) : i)) & (es.length - 1)];
+                if(!descending) index = i + 1;
+                action.acceptFloat(e);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfFloat action) {
+                if(action == null) throw new NullPointerException();
+                int f = getFence(), i = index;
+                final float[] es = elements;
+                final int mask = es.length - 1, h = head;
+                index = f;
+                if(descending) while(i > f) action.acceptFloat(es[(h + --i) & mask]);
+                else while(i < f) action.acceptFloat(es[(h + i++) & mask]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() {
+                int f = getFence();
+                return descending ? index - f : f - index;
+            }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        ///////////// Reverse-ordered view
+
+        /**
+         * Returns a reverse-ordered view of this deque. The view reads and writes the
+         * backing array directly, so its operations cost the same as those of this deque.
+         * @return a reverse-ordered view of this deque
+         */
+        @Override
+        public PrimitiveDeque.OfFloat reversedFloat() {
+            PrimitiveDeque.OfFloat r;
+            return (r = reversedView) == null ? (reversedView = new Reversed()) : r;
+        }
+
+        private final class Reversed extends PrimitiveAbstractCollection.OfFloat implements PrimitiveDeque.OfFloat {
+            private final PrimitiveArrayDeque.OfFloat d = PrimitiveArrayDeque.OfFloat.this;
+
+            public int size() { return size; }
+            public boolean isEmpty() { return size == 0; }
+            public boolean containsFloat(float e) { return d.containsFloat(e); }
+            public boolean containsAllFloat(PrimitiveCollection.OfFloat c) { return d.containsAllFloat(c); }
+            public boolean containsAll(Collection<?> c) { return d.containsAll(c); }
+
+            public void addFirstFloat(float e) { d.addLastFloat(e); }
+            public void addLastFloat(float e) { d.addFirstFloat(e); }
+            public boolean offerFirstFloat(float e) { d.addLastFloat(e); return true; }
+            public boolean offerLastFloat(float e) { d.addFirstFloat(e); return true; }
+            public boolean addFloat(float e) { d.addFirstFloat(e); return true; }
+            public boolean offerFloat(float e) { d.addFirstFloat(e); return true; }
+            public void push(java.lang.Float e) { d.addLastFloat(e); }
+            public boolean addAllFloat(PrimitiveCollection.OfFloat c) {
+                var it = c.iteratorFloat();
+                boolean modified = false;
+                while(it.hasNext()) {
+                    d.addFirstFloat(it.nextFloat());
+                    modified = true;
+                }
+                return modified;
+            }
+            public boolean addAll(Collection<? extends java.lang.Float> c) {
+                boolean modified = false;
+                for(java.lang.Float e : c) {
+                    d.addFirstFloat(e);
+                    modified = true;
+                }
+                return modified;
+            }
+
+            public float removeFirstFloat() { return d.removeLastFloat(); }
+            public float removeLastFloat() { return d.removeFirstFloat(); }
+            public float pollFirstFloat() { return d.pollLastFloat(); }
+            public float pollLastFloat() { return d.pollFirstFloat(); }
+            public float pollFloat() { return d.pollLastFloat(); }
+            public java.lang.Float pollFirst() { return d.pollLast(); }
+            public java.lang.Float pollLast() { return d.pollFirst(); }
+            public java.lang.Float poll() { return d.pollLast(); }
+            public java.lang.Float pop() { return d.removeLastFloat(); }
+            public java.lang.Float remove() { return d.removeLastFloat(); }
+            public boolean removeFirstOccurrenceFloat(float e) { return d.removeLastOccurrenceFloat(e); }
+            public boolean removeLastOccurrenceFloat(float e) { return d.removeFirstOccurrenceFloat(e); }
+            public boolean removeFloat(float e) { return d.removeLastOccurrenceFloat(e); }
+            public boolean remove(Object o) { return (o instanceof java.lang.Float e) ? d.removeLastOccurrenceFloat(e) : false; }
+            public boolean removeIfFloat(PrimitivePredicate.OfFloat filter) { return d.removeIfFloat(filter); }
+            public boolean removeAllFloat(PrimitiveCollection.OfFloat c) { return d.removeAllFloat(c); }
+            public boolean removeAll(Collection<?> c) { return d.removeAll(c); }
+            public boolean retainAllFloat(PrimitiveCollection.OfFloat c) { return d.retainAllFloat(c); }
+            public boolean retainAll(Collection<?> c) { return d.retainAll(c); }
+            public void clear() { d.clear(); }
+
+            public float getFirstFloat() { return d.getLastFloat(); }
+            public float getLastFloat() { return d.getFirstFloat(); }
+            public float elementFloat() { return d.getLastFloat(); }
+            public float peekFirstFloat() { return d.peekLastFloat(); }
+            public float peekLastFloat() { return d.peekFirstFloat(); }
+            public float peekFloat() { return d.peekLastFloat(); }
+            public java.lang.Float peekFirst() { return d.peekLast(); }
+            public java.lang.Float peekLast() { return d.peekFirst(); }
+            public java.lang.Float peek() { return d.peekLast(); }
+
+            public float[] toArrayFloat() { return toArrayFloat(new float[size]); }
+            public float[] toArrayFloat(float[] array) {
+                final int n = size;
+                if(array.length < n) array = new float[n];
+                final float[] es = elements;
+                final int mask = es.length - 1, h = head;
+                for(int i = 0; i < n; i++) array[i] = es[(h + n - 1 - i) & mask];
+                return array;
+            }
+            public java.lang.Float[] toArray() {
+                float[] a = toArrayFloat();
+                java.lang.Float[] r = new java.lang.Float[a.length];
+                for(int i = 0; i < a.length; i++) r[i] = a[i];
+                return r;
+            }
+            @SuppressWarnings("unchecked")
+            public <T> T[] toArray(T[] a) {
+                float[] src = toArrayFloat();
+                T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+                for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Float.valueOf(src[i]);
+                if(r.length > src.length) r[src.length] = null;
+                return r;
+            }
+
+            public void forEach(PrimitiveConsumer.OfFloat action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final float[] es = elements;
+                final int mask = es.length - 1, h = head;
+                for(int i = size; i-- != 0;) action.acceptFloat(es[(h + i) & mask]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+            public PrimitiveIterator.OfFloat iteratorFloat() { return d.descendingIteratorFloat(); }
+            public PrimitiveIterator.OfFloat descendingIteratorFloat() { return d.iteratorFloat(); }
+            public PrimitiveSpliterator.OfFloat spliteratorFloat() { return new Spliter(0, -1, 0, true); }
+            public PrimitiveStream.OfFloat streamFloat() {
+                // TODO Will be implemented when primitive streams and splitterator are implemented
+                throw new UnsupportedOperationException("Unimplemented method 'streamFloat'");
+            }
+            public PrimitiveStream.OfFloat parallelStreamFloat() {
+                // TODO Will be implemented when primitive streams and splitterator are implemented
+                throw new UnsupportedOperationException("Unimplemented method 'parallelStreamFloat'");
+            }
+
+            public PrimitiveDeque.OfFloat reversedFloat() { return d; }
+
+            @Override
+            public String toString() { return Arrays.toString(toArrayFloat()); }
+        }
+
+        ///////////// Object methods
+
+        /**
+         * Returns a copy of this deque.
+         * @return a copy of this deque
+         */
+        @Override
+        public PrimitiveArrayDeque.OfFloat clone() {
+            try {
+                var c = (PrimitiveArrayDeque.OfFloat) super.clone();
+                c.elements = elements.clone();
+                c.reversedView = null;
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public String toString() { return Arrays.toString(toArrayFloat()); }
+    }
+
+    /**
+     * Resizable circular-array implementation of the {@link PrimitiveDeque.OfChar} interface.
+     * Elements are stored unboxed in a {@code char[]} whose length is always a power of
+     * two, so the physical slot of a logical index is found with a single mask instead
+     * of a division or a branch. The array doubles whenever an insertion would overflow it.
+     * Most operations run in amortized constant time; bulk insertion and removal at the
+     * ends, {@link #offerLastAll(char[], int, int)} and {@link #pollFirstAll(char[])}, move
+     * at most two contiguous runs with {@link System#arraycopy}.
+     * <p>
+     * The empty-deque results of the unboxed {@code peek} and {@code poll} methods are
+     * {@code (char) 0}; the boxed ones return {@code null} as {@link java.util.Deque} requires.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.ArrayDeque}
+     */
+    public static class OfChar extends PrimitiveAbstractCollection.OfChar implements PrimitiveDeque.OfChar, Cloneable {
+        /**
+         * The array in which the elements of the deque are stored. Its length is a
+         * power of two and the deque occupies {@link #size} slots starting at {@link #head},
+         * wrapping around the end of the array.
+         */
+        transient char[] elements;
+
+        /**
+         * The physical index of the element at the head of the deque.
+         */
+        transient int head;
+
+        /**
+         * The number of elements in the deque.
+         */
+        private int size;
+
+        /**
+         * The number of times this deque has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         */
+        transient int modCount;
+
+        private transient PrimitiveDeque.OfChar reversedView;
+
+        /**
+         * Constructs an empty deque with room for at least the specified number of elements.
+         * @param numElements lower bound on the initial capacity of the deque
+         * @throws IllegalArgumentException if the specified number of elements is negative
+         */
+        public OfChar(int numElements) {
+            if(numElements < 0) throw new IllegalArgumentException("Illegal Capacity: " + numElements);
+            elements = new char[capacityFor(numElements)];
+        }
+
+        /**
+         * Constructs an empty deque with an initial capacity of sixteen.
+         */
+        public OfChar() { elements = new char[DEFAULT_CAPACITY]; }
+
+        /**
+         * Constructs a deque containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this deque
+         */
+        public OfChar(PrimitiveCollection.OfChar c) {
+            char[] a = c.toArrayChar();
+            elements = new char[capacityFor(a.length)];
+            System.arraycopy(a, 0, elements, 0, a.length);
+            size = a.length;
+        }
+
+        /**
+         * Increases the capacity of this deque, if necessary, so that it can hold at
+         * least the number of elements specified by the argument without growing.
+         * @param minCapacity the desired minimum capacity
+         */
+        public void ensureCapacity(int minCapacity) {
+            if(minCapacity > elements.length) resize(capacityFor(minCapacity));
+        }
+
+        /**
+         * Shrinks the backing array to the smallest power of two able to hold the
+         * current elements.
+         */
+        public void trimToSize() {
+            int cap = capacityFor(size);
+            if(cap < elements.length) resize(cap);
+        }
+
+        /**
+         * Makes room for {@code needed} more elements.
+         */
+        private void grow(int needed) {
+            int minCapacity = size + needed;
+            if(minCapacity < 0 || minCapacity > MAX_CAPACITY) throw new OutOfMemoryError("Required deque capacity " + size + " + " + needed + " is too large");
+            resize(capacityFor(java.lang.Math.max(minCapacity, elements.length << 1)));
+        }
+
+        /**
+         * Copies the elements into a new array of length {@code newCapacity}, unwrapping
+         * them so the head lands at index 0.
+         */
+        private void resize(int newCapacity) {
+            char[] a = new char[newCapacity];
+            copyOut(a, 0, size);
+            elements = a;
+            head = 0;
+        }
+
+        /**
+         * Copies the first {@code n} elements of the deque to {@code dst} starting at
+         * {@code off}, in at most two {@link System#arraycopy} calls.
+         */
+        private void copyOut(char[] dst, int off, int n) {
+            final char[] es = elements;
+            int first = java.lang.Math.min(n, es.length - head);
+            System.arraycopy(es, head, dst, off, first);
+            System.arraycopy(es, 0, dst, off + first, n - first);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsChar(char e) { return indexOf(e) >= 0; }
+
+        @Override
+        public boolean containsAllChar(PrimitiveCollection.OfChar c) {
+            var it = c.iteratorChar();
+            while(it.hasNext()) if(!containsChar(it.nextChar())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        /**
+         * Returns the logical index of the first occurrence of {@code e}, or -1.
+         */
+        private int indexOf(char e) {
+            final char[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < size; i++) if(es[(h + i) & mask] == e) return i;
+            return -1;
+        }
+
+        /**
+         * Returns the logical index of the last occurrence of {@code e}, or -1.
+         */
+        private int lastIndexOf(char e) {
+            final char[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = size; i-- != 0;) if(es[(h + i) & mask] == e) return i;
+            return -1;
+        }
+
+        ///////////// Insertion
+
+        @Override
+        public void addFirstChar(char e) {
+            if(size == elements.length) grow(1);
+            final char[] es = elements;
+            es[head = (head - 1) & (es.length - 1)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public void addLastChar(char e) {
+            if(size == elements.length) grow(1);
+            final char[] es = elements;
+            es[(head + size) & (es.length - 1)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public boolean offerFirstChar(char e) {
+            addFirstChar(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerLastChar(char e) {
+            addLastChar(e);
+            return true;
+        }
+
+        @Override
+        public boolean addChar(char e) {
+            addLastChar(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerChar(char e) {
+            addLastChar(e);
+            return true;
+        }
+
+        /**
+         * Pushes an element onto the stack represented by this deque, that is, inserts
+         * it at the front of this deque.
+         * @param e the element to push
+         * @see java.util.Deque#push(Object)
+         */
+        public void pushChar(char e) { addFirstChar(e); }
+
+        @Override
+        public void push(java.lang.Character e) { addFirstChar(e); }
+
+        /**
+         * Inserts {@code len} elements of the specified array, starting at {@code off},
+         * at the end of this deque in array order. The elements are moved with at most
+         * two {@link System#arraycopy} calls.
+         * @param a the array holding the elements to insert
+         * @param off the index of the first element to insert
+         * @param len the number of elements to insert
+         * @return {@code true}
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean offerLastAll(char[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            if(len == 0) return true;
+            if(len > elements.length - size) grow(len);
+            final char[] es = elements;
+            int tail = (head + size) & (es.length - 1);
+            int first = java.lang.Math.min(len, es.length - tail);
+            System.arraycopy(a, off, es, tail, first);
+            System.arraycopy(a, off + first, es, 0, len - first);
+            size += len;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean addAllChar(PrimitiveCollection.OfChar c) {
+            char[] a = c.toArrayChar();
+            if(a.length == 0) return false;
+            return offerLastAll(a, 0, a.length);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Character> c) {
+            if(c instanceof PrimitiveCollection.OfChar p) return addAllChar(p);
+            int n = c.size();
+            if(n == 0) return false;
+            if(n > elements.length - size) grow(n);
+            for(java.lang.Character e : c) addLastChar(e);
+            return true;
+        }
+
+        ///////////// Removal
+
+        @Override
+        public char removeFirstChar() {
+            if(size == 0) throw new NoSuchElementException();
+            return pollFirstChar();
+        }
+
+        @Override
+        public char removeLastChar() {
+            if(size == 0) throw new NoSuchElementException();
+            return pollLastChar();
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code (char) 0} if this deque is empty
+         */
+        @Override
+        public char pollFirstChar() {
+            if(size == 0) return (char) 0;
+            final char[] es = elements;
+            char e = es[head];
+            head = (head + 1) & (es.length - 1);
+            size--;
+            modCount++;
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the tail of this deque, or {@code (char) 0} if this deque is empty
+         */
+        @Override
+        public char pollLastChar() {
+            if(size == 0) return (char) 0;
+            final char[] es = elements;
+            char e = es[(head + --size) & (es.length - 1)];
+            modCount++;
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code (char) 0} if this deque is empty
+         */
+        @Override
+        public char pollChar() { return pollFirstChar(); }
+
+        @Override
+        public java.lang.Character pollFirst() { return size == 0 ? null : pollFirstChar(); }
+
+        @Override
+        public java.lang.Character pollLast() { return size == 0 ? null : pollLastChar(); }
+
+        @Override
+        public java.lang.Character poll() { return size == 0 ? null : pollFirstChar(); }
+
+        /**
+         * Pops an element from the stack represented by this deque, that is, removes
+         * and returns the first element of this deque.
+         * @return the element at the front of this deque
+         * @throws NoSuchElementException if this deque is empty
+         * @see java.util.Deque#pop()
+         */
+        public char popChar() { return removeFirstChar(); }
+
+        @Override
+        public java.lang.Character pop() { return removeFirstChar(); }
+
+        @Override
+        public java.lang.Character remove() { return removeFirstChar(); }
+
+        /**
+         * Removes up to {@code dst.length} elements from the head of this deque into
+         * {@code dst}, in deque order. The elements are moved with at most two
+         * {@link System#arraycopy} calls.
+         * @param dst the array into which the elements are to be stored
+         * @return the number of elements removed, which is
+         *         {@code min(size(), dst.length)}
+         */
+        public int pollFirstAll(char[] dst) {
+            int n = java.lang.Math.min(size, dst.length);
+            if(n == 0) return 0;
+            copyOut(dst, 0, n);
+            head = (head + n) & (elements.length - 1);
+            size -= n;
+            modCount++;
+            return n;
+        }
+
+        @Override
+        public boolean removeFirstOccurrenceChar(char e) {
+            int i = indexOf(e);
+            if(i < 0) return false;
+            delete(i);
+            return true;
+        }
+
+        @Override
+        public boolean removeLastOccurrenceChar(char e) {
+            int i = lastIndexOf(e);
+            if(i < 0) return false;
+            delete(i);
+            return true;
+        }
+
+        @Override
+        public boolean removeChar(char e) { return removeFirstOccurrenceChar(e); }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Character e) ? removeFirstOccurrenceChar(e) : false; }
+
+        /**
+         * Removes the element at logical index {@code i}, closing the gap by moving
+         * whichever side of it is shorter. Elements after {@code i} end up one
+         * logical index lower either way.
+         */
+        void delete(int i) {
+            final char[] es = elements;
+            final int mask = es.length - 1, h = head;
+            if(i < size - i - 1) {
+                for(int j = i; j > 0; j--) es[(h + j) & mask] = es[(h + j - 1) & mask];
+                head = (h + 1) & mask;
+            } else {
+                for(int j = i, last = size - 1; j < last; j++) es[(h + j) & mask] = es[(h + j + 1) & mask];
+            }
+            size--;
+            modCount++;
+        }
+
+        @Override
+        public boolean removeIfChar(PrimitivePredicate.OfChar filter) {
+            Objects.requireNonNull(filter);
+            final int expectedModCount = modCount;
+            final char[] es = elements;
+            final int mask = es.length - 1, h = head, n = size;
+            // test every element before moving any, so a throwing predicate leaves the deque as it was
+            final long[] deathRow = PrimitiveArrayList.nBits(Math.max(n, 1));
+            boolean removed = false;
+            for(int r = 0; r < n; r++) {
+                if(filter.testChar(es[(h + r) & mask])) {
+                    PrimitiveArrayList.setBit(deathRow, r);
+                    removed = true;
+                }
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(!removed) return false;
+            int w = 0;
+            for(int r = 0; r < n; r++) if(PrimitiveArrayList.isClear(deathRow, r)) es[(h + w++) & mask] = es[(h + r) & mask];
+            size = w;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeAllChar(PrimitiveCollection.OfChar c) {
+            Objects.requireNonNull(c);
+            return removeIfChar(c::containsChar);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfChar(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllChar(PrimitiveCollection.OfChar c) {
+            Objects.requireNonNull(c);
+            return removeIfChar(e -> !c.containsChar(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfChar(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            head = 0;
+            size = 0;
+        }
+
+        ///////////// Examination
+
+        @Override
+        public char getFirstChar() {
+            if(size == 0) throw new NoSuchElementException();
+            return elements[head];
+        }
+
+        @Override
+        public char getLastChar() {
+            if(size == 0) throw new NoSuchElementException();
+            final char[] es = elements;
+            return es[(head + size - 1) & (es.length - 1)];
+        }
+
+        @Override
+        public char elementChar() { return getFirstChar(); }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code (char) 0} if this deque is empty
+         */
+        @Override
+        public char peekFirstChar() { return size == 0 ? (char) 0 : elements[head]; }
+
+        /**
+         * {@inheritDoc}
+         * @return the tail of this deque, or {@code (char) 0} if this deque is empty
+         */
+        @Override
+        public char peekLastChar() { return size == 0 ? (char) 0 : getLastChar(); }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code (char) 0} if this deque is empty
+         */
+        @Override
+        public char peekChar() { return peekFirstChar(); }
+
+        @Override
+        public java.lang.Character peekFirst() { return size == 0 ? null : elements[head]; }
+
+        @Override
+        public java.lang.Character peekLast() { return size == 0 ? null : getLastChar(); }
+
+        @Override
+        public java.lang.Character peek() { return peekFirst(); }
+
+        ///////////// Array operations
+
+        @Override
+        public char[] toArrayChar() {
+            char[] a = new char[size];
+            copyOut(a, 0, size);
+            return a;
+        }
+
+        @Override
+        public char[] toArrayChar(char[] array) {
+            if(array.length < size) return toArrayChar();
+            copyOut(array, 0, size);
+            return array;
+        }
+
+        @Override
+        public java.lang.Character[] toArray() {
+            java.lang.Character[] r = new java.lang.Character[size];
+            final char[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < r.length; i++) r[i] = es[(h + i) & mask];
+            return r;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            final int n = size;
+            T[] r = a.length >= n ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), n);
+            final char[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < n; i++) r[i] = (T) java.lang.Character.valueOf(es[(h + i) & mask]);
+            if(r.length > n) r[n] = null;
+            return r;
+        }
+
+        ///////////// Traversal
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfChar action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final char[] es = elements;
+            final int h = head, n = size, first = java.lang.Math.min(n, es.length - h);
+            for(int i = h, end = h + first; i < end; i++) action.acceptChar(es[i]);
+            for(int i = 0, end = n - first; i < end; i++) action.acceptChar(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public PrimitiveIterator.OfChar iteratorChar() { return new Itr(); }
+
+        @Override
+        public PrimitiveIterator.OfChar descendingIteratorChar() { return new DescendingItr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this deque. The spliterator splits by logical index range and reports
+         * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+         * @return a spliterator over the elements in this deque
+         */
+        @Override
+        public PrimitiveSpliterator.OfChar spliteratorChar() { return new Spliter(0, -1, 0, false); }
+
+        @Override
+        public PrimitiveStream.OfChar streamChar() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamChar'");
+        }
+
+        @Override
+        public PrimitiveStream.OfChar parallelStreamChar() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamChar'");
+        }
+
+        private class Itr implements PrimitiveIterator.OfChar {
+            int cursor;       // logical index of next element to return
+            int lastRet = -1; // logical index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor < size; }
+
+            public char nextChar() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                final char[] es = elements;
+                return es[(head + (lastRet = i)) & (es.length - 1)];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                delete(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        private class DescendingItr implements PrimitiveIterator.OfChar {
+            int cursor = size - 1; // logical index of next element to return
+            int lastRet = -1;      // logical index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor >= 0; }
+
+            public char nextChar() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int i = cursor;
+                if(i < 0) throw new NoSuchElementException();
+                cursor = i - 1;
+                final char[] es = elements;
+                return es[(head + (lastRet = i)) & (es.length - 1)];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                delete(lastRet);
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        /**
+         * Splits by logical index range. A descending spliterator walks the same range
+         * from the top down and hands the upper half off on a split.
+         */
+        private final class Spliter implements PrimitiveSpliterator.OfChar {
+            private int index;            // next logical index for ascending, one past it for descending
+            private int fence;            // -1 until used; then the other end of the range
+            private int expectedModCount; // initialized when fence set
+            private final boolean descending;
+
+            Spliter(int origin, int fence, int expectedModCount, boolean descending) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+                this.descending = descending;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    if(descending) {
+                        index = size;
+                        hi = fence = 0;
+                    } else hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int f = getFence();
+                if(descending) {
+                    int hi = index, mid = (f + hi) >>> 1;
+                    return (mid <= f) ? null : new Spliter(hi, index = mid, expectedModCount, true);
+                }
+                int lo = index, mid = (lo + f) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount, false);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfChar action) {
+                if(action == null) throw new NullPointerException();
+                int f = getFence(), i = index;
+                final char[] es = elements;
+                if(descending ? i <= f : i >= f) return false;
+                char e = es[(head + (descending ? (index = i - 1) : i)) & (es.length - 1)];
+                if(!descending) index = i + 1;
+                action.acceptChar(e);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfChar action) {
+                if(action == null) throw new NullPointerException();
+                int f = getFence(), i = index;
+                final char[] es = elements;
+                final int mask = es.length - 1, h = head;
+                index = f;
+                if(descending) while(i > f) action.acceptChar(es[(h + --i) & mask]);
+                else while(i < f) action.acceptChar(es[(h + i++) & mask]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() {
+                int f = getFence();
+                return descending ? index - f : f - index;
+            }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        ///////////// Reverse-ordered view
+
+        /**
+         * Returns a reverse-ordered view of this deque. The view reads and writes the
+         * backing array directly, so its operations cost the same as those of this deque.
+         * @return a reverse-ordered view of this deque
+         */
+        @Override
+        public PrimitiveDeque.OfChar reversedChar() {
+            PrimitiveDeque.OfChar r;
+            return (r = reversedView) == null ? (reversedView = new Reversed()) : r;
+        }
+
+        private final class Reversed extends PrimitiveAbstractCollection.OfChar implements PrimitiveDeque.OfChar {
+            private final PrimitiveArrayDeque.OfChar d = PrimitiveArrayDeque.OfChar.this;
+
+            public int size() { return size; }
+            public boolean isEmpty() { return size == 0; }
+            public boolean containsChar(char e) { return d.containsChar(e); }
+            public boolean containsAllChar(PrimitiveCollection.OfChar c) { return d.containsAllChar(c); }
+            public boolean containsAll(Collection<?> c) { return d.containsAll(c); }
+
+            public void addFirstChar(char e) { d.addLastChar(e); }
+            public void addLastChar(char e) { d.addFirstChar(e); }
+            public boolean offerFirstChar(char e) { d.addLastChar(e); return true; }
+            public boolean offerLastChar(char e) { d.addFirstChar(e); return true; }
+            public boolean addChar(char e) { d.addFirstChar(e); return true; }
+            public boolean offerChar(char e) { d.addFirstChar(e); return true; }
+            public void push(java.lang.Character e) { d.addLastChar(e); }
+            public boolean addAllChar(PrimitiveCollection.OfChar c) {
+                var it = c.iteratorChar();
+                boolean modified = false;
+                while(it.hasNext()) {
+                    d.addFirstChar(it.nextChar());
+                    modified = true;
+                }
+                return modified;
+            }
+            public boolean addAll(Collection<? extends java.lang.Character> c) {
+                boolean modified = false;
+                for(java.lang.Character e : c) {
+                    d.addFirstChar(e);
+                    modified = true;
+                }
+                return modified;
+            }
+
+            public char removeFirstChar() { return d.removeLastChar(); }
+            public char removeLastChar() { return d.removeFirstChar(); }
+            public char pollFirstChar() { return d.pollLastChar(); }
+            public char pollLastChar() { return d.pollFirstChar(); }
+            public char pollChar() { return d.pollLastChar(); }
+            public java.lang.Character pollFirst() { return d.pollLast(); }
+            public java.lang.Character pollLast() { return d.pollFirst(); }
+            public java.lang.Character poll() { return d.pollLast(); }
+            public java.lang.Character pop() { return d.removeLastChar(); }
+            public java.lang.Character remove() { return d.removeLastChar(); }
+            public boolean removeFirstOccurrenceChar(char e) { return d.removeLastOccurrenceChar(e); }
+            public boolean removeLastOccurrenceChar(char e) { return d.removeFirstOccurrenceChar(e); }
+            public boolean removeChar(char e) { return d.removeLastOccurrenceChar(e); }
+            public boolean remove(Object o) { return (o instanceof java.lang.Character e) ? d.removeLastOccurrenceChar(e) : false; }
+            public boolean removeIfChar(PrimitivePredicate.OfChar filter) { return d.removeIfChar(filter); }
+            public boolean removeAllChar(PrimitiveCollection.OfChar c) { return d.removeAllChar(c); }
+            public boolean removeAll(Collection<?> c) { return d.removeAll(c); }
+            public boolean retainAllChar(PrimitiveCollection.OfChar c) { return d.retainAllChar(c); }
+            public boolean retainAll(Collection<?> c) { return d.retainAll(c); }
+            public void clear() { d.clear(); }
+
+            public char getFirstChar() { return d.getLastChar(); }
+            public char getLastChar() { return d.getFirstChar(); }
+            public char elementChar() { return d.getLastChar(); }
+            public char peekFirstChar() { return d.peekLastChar(); }
+            public char peekLastChar() { return d.peekFirstChar(); }
+            public char peekChar() { return d.peekLastChar(); }
+            public java.lang.Character peekFirst() { return d.peekLast(); }
+            public java.lang.Character peekLast() { return d.peekFirst(); }
+            public java.lang.Character peek() { return d.peekLast(); }
+
+            public char[] toArrayChar() { return toArrayChar(new char[size]); }
+            public char[] toArrayChar(char[] array) {
+                final int n = size;
+                if(array.length < n) array = new char[n];
+                final char[] es = elements;
+                final int mask = es.length - 1, h = head;
+                for(int i = 0; i < n; i++) array[i] = es[(h + n - 1 - i) & mask];
+                return array;
+            }
+            public java.lang.Character[] toArray() {
+                char[] a = toArrayChar();
+                java.lang.Character[] r = new java.lang.Character[a.length];
+                for(int i = 0; i < a.length; i++) r[i] = a[i];
+                return r;
+            }
+            @SuppressWarnings("unchecked")
+            public <T> T[] toArray(T[] a) {
+                char[] src = toArrayChar();
+                T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+                for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Character.valueOf(src[i]);
+                if(r.length > src.length) r[src.length] = null;
+                return r;
+            }
+
+            public void forEach(PrimitiveConsumer.OfChar action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final char[] es = elements;
+                final int mask = es.length - 1, h = head;
+                for(int i = size; i-- != 0;) action.acceptChar(es[(h + i) & mask]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+            public PrimitiveIterator.OfChar iteratorChar() { return d.descendingIteratorChar(); }
+            public PrimitiveIterator.OfChar descendingIteratorChar() { return d.iteratorChar(); }
+            public PrimitiveSpliterator.OfChar spliteratorChar() { return new Spliter(0, -1, 0, true); }
+            public PrimitiveStream.OfChar streamChar() {
+                // TODO Will be implemented when primitive streams and splitterator are implemented
+                throw new UnsupportedOperationException("Unimplemented method 'streamChar'");
+            }
+            public PrimitiveStream.OfChar parallelStreamChar() {
+                // TODO Will be implemented when primitive streams and splitterator are implemented
+                throw new UnsupportedOperationException("Unimplemented method 'parallelStreamChar'");
+            }
+
+            public PrimitiveDeque.OfChar reversedChar() { return d; }
+
+            @Override
+            public String toString() { return Arrays.toString(toArrayChar()); }
+        }
+
+        ///////////// Object methods
+
+        /**
+         * Returns a copy of this deque.
+         * @return a copy of this deque
+         */
+        @Override
+        public PrimitiveArrayDeque.OfChar clone() {
+            try {
+                var c = (PrimitiveArrayDeque.OfChar) super.clone();
+                c.elements = elements.clone();
+                c.reversedView = null;
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public String toString() { return Arrays.toString(toArrayChar()); }
+    }
+
+    /**
+     * Resizable circular-array implementation of the {@link PrimitiveDeque.OfShort} interface.
+     * Elements are stored unboxed in a {@code short[]} whose length is always a power of
+     * two, so the physical slot of a logical index is found with a single mask instead
+     * of a division or a branch. The array doubles whenever an insertion would overflow it.
+     * Most operations run in amortized constant time; bulk insertion and removal at the
+     * ends, {@link #offerLastAll(short[], int, int)} and {@link #pollFirstAll(short[])}, move
+     * at most two contiguous runs with {@link System#arraycopy}.
+     * <p>
+     * The empty-deque results of the unboxed {@code peek} and {@code poll} methods are
+     * {@code 0}; the boxed ones return {@code null} as {@link java.util.Deque} requires.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.ArrayDeque}
+     */
+    public static class OfShort extends PrimitiveAbstractCollection.OfShort implements PrimitiveDeque.OfShort, Cloneable {
+        /**
+         * The array in which the elements of the deque are stored. Its length is a
+         * power of two and the deque occupies {@link #size} slots starting at {@link #head},
+         * wrapping around the end of the array.
+         */
+        transient short[] elements;
+
+        /**
+         * The physical index of the element at the head of the deque.
+         */
+        transient int head;
+
+        /**
+         * The number of elements in the deque.
+         */
+        private int size;
+
+        /**
+         * The number of times this deque has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         */
+        transient int modCount;
+
+        private transient PrimitiveDeque.OfShort reversedView;
+
+        /**
+         * Constructs an empty deque with room for at least the specified number of elements.
+         * @param numElements lower bound on the initial capacity of the deque
+         * @throws IllegalArgumentException if the specified number of elements is negative
+         */
+        public OfShort(int numElements) {
+            if(numElements < 0) throw new IllegalArgumentException("Illegal Capacity: " + numElements);
+            elements = new short[capacityFor(numElements)];
+        }
+
+        /**
+         * Constructs an empty deque with an initial capacity of sixteen.
+         */
+        public OfShort() { elements = new short[DEFAULT_CAPACITY]; }
+
+        /**
+         * Constructs a deque containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this deque
+         */
+        public OfShort(PrimitiveCollection.OfShort c) {
+            short[] a = c.toArrayShort();
+            elements = new short[capacityFor(a.length)];
+            System.arraycopy(a, 0, elements, 0, a.length);
+            size = a.length;
+        }
+
+        /**
+         * Increases the capacity of this deque, if necessary, so that it can hold at
+         * least the number of elements specified by the argument without growing.
+         * @param minCapacity the desired minimum capacity
+         */
+        public void ensureCapacity(int minCapacity) {
+            if(minCapacity > elements.length) resize(capacityFor(minCapacity));
+        }
+
+        /**
+         * Shrinks the backing array to the smallest power of two able to hold the
+         * current elements.
+         */
+        public void trimToSize() {
+            int cap = capacityFor(size);
+            if(cap < elements.length) resize(cap);
+        }
+
+        /**
+         * Makes room for {@code needed} more elements.
+         */
+        private void grow(int needed) {
+            int minCapacity = size + needed;
+            if(minCapacity < 0 || minCapacity > MAX_CAPACITY) throw new OutOfMemoryError("Required deque capacity " + size + " + " + needed + " is too large");
+            resize(capacityFor(java.lang.Math.max(minCapacity, elements.length << 1)));
+        }
+
+        /**
+         * Copies the elements into a new array of length {@code newCapacity}, unwrapping
+         * them so the head lands at index 0.
+         */
+        private void resize(int newCapacity) {
+            short[] a = new short[newCapacity];
+            copyOut(a, 0, size);
+            elements = a;
+            head = 0;
+        }
+
+        /**
+         * Copies the first {@code n} elements of the deque to {@code dst} starting at
+         * {@code off}, in at most two {@link System#arraycopy} calls.
+         */
+        private void copyOut(short[] dst, int off, int n) {
+            final short[] es = elements;
+            int first = java.lang.Math.min(n, es.length - head);
+            System.arraycopy(es, head, dst, off, first);
+            System.arraycopy(es, 0, dst, off + first, n - first);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsShort(short e) { return indexOf(e) >= 0; }
+
+        @Override
+        public boolean containsAllShort(PrimitiveCollection.OfShort c) {
+            var it = c.iteratorShort();
+            while(it.hasNext()) if(!containsShort(it.nextShort())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        /**
+         * Returns the logical index of the first occurrence of {@code e}, or -1.
+         */
+        private int indexOf(short e) {
+            final short[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < size; i++) if(es[(h + i) & mask] == e) return i;
+            return -1;
+        }
+
+        /**
+         * Returns the logical index of the last occurrence of {@code e}, or -1.
+         */
+        private int lastIndexOf(short e) {
+            final short[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = size; i-- != 0;) if(es[(h + i) & mask] == e) return i;
+            return -1;
+        }
+
+        ///////////// Insertion
+
+        @Override
+        public void addFirstShort(short e) {
+            if(size == elements.length) grow(1);
+            final short[] es = elements;
+            es[head = (head - 1) & (es.length - 1)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public void addLastShort(short e) {
+            if(size == elements.length) grow(1);
+            final short[] es = elements;
+            es[(head + size) & (es.length - 1)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public boolean offerFirstShort(short e) {
+            addFirstShort(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerLastShort(short e) {
+            addLastShort(e);
+            return true;
+        }
+
+        @Override
+        public boolean addShort(short e) {
+            addLastShort(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerShort(short e) {
+            addLastShort(e);
+            return true;
+        }
+
+        /**
+         * Pushes an element onto the stack represented by this deque, that is, inserts
+         * it at the front of this deque.
+         * @param e the element to push
+         * @see java.util.Deque#push(Object)
+         */
+        public void pushShort(short e) { addFirstShort(e); }
+
+        @Override
+        public void push(java.lang.Short e) { addFirstShort(e); }
+
+        /**
+         * Inserts {@code len} elements of the specified array, starting at {@code off},
+         * at the end of this deque in array order. The elements are moved with at most
+         * two {@link System#arraycopy} calls.
+         * @param a the array holding the elements to insert
+         * @param off the index of the first element to insert
+         * @param len the number of elements to insert
+         * @return {@code true}
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean offerLastAll(short[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            if(len == 0) return true;
+            if(len > elements.length - size) grow(len);
+            final short[] es = elements;
+            int tail = (head + size) & (es.length - 1);
+            int first = java.lang.Math.min(len, es.length - tail);
+            System.arraycopy(a, off, es, tail, first);
+            System.arraycopy(a, off + first, es, 0, len - first);
+            size += len;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean addAllShort(PrimitiveCollection.OfShort c) {
+            short[] a = c.toArrayShort();
+            if(a.length == 0) return false;
+            return offerLastAll(a, 0, a.length);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Short> c) {
+            if(c instanceof PrimitiveCollection.OfShort p) return addAllShort(p);
+            int n = c.size();
+            if(n == 0) return false;
+            if(n > elements.length - size) grow(n);
+            for(java.lang.Short e : c) addLastShort(e);
+            return true;
+        }
+
+        ///////////// Removal
+
+        @Override
+        public short removeFirstShort() {
+            if(size == 0) throw new NoSuchElementException();
+            return pollFirstShort();
+        }
+
+        @Override
+        public short removeLastShort() {
+            if(size == 0) throw new NoSuchElementException();
+            return pollLastShort();
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public short pollFirstShort() {
+            if(size == 0) return 0;
+            final short[] es = elements;
+            short e = es[head];
+            head = (head + 1) & (es.length - 1);
+            size--;
+            modCount++;
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the tail of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public short pollLastShort() {
+            if(size == 0) return 0;
+            final short[] es = elements;
+            short e = es[(head + --size) & (es.length - 1)];
+            modCount++;
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public short pollShort() { return pollFirstShort(); }
+
+        @Override
+        public java.lang.Short pollFirst() { return size == 0 ? null : pollFirstShort(); }
+
+        @Override
+        public java.lang.Short pollLast() { return size == 0 ? null : pollLastShort(); }
+
+        @Override
+        public java.lang.Short poll() { return size == 0 ? null : pollFirstShort(); }
+
+        /**
+         * Pops an element from the stack represented by this deque, that is, removes
+         * and returns the first element of this deque.
+         * @return the element at the front of this deque
+         * @throws NoSuchElementException if this deque is empty
+         * @see java.util.Deque#pop()
+         */
+        public short popShort() { return removeFirstShort(); }
+
+        @Override
+        public java.lang.Short pop() { return removeFirstShort(); }
+
+        @Override
+        public java.lang.Short remove() { return removeFirstShort(); }
+
+        /**
+         * Removes up to {@code dst.length} elements from the head of this deque into
+         * {@code dst}, in deque order. The elements are moved with at most two
+         * {@link System#arraycopy} calls.
+         * @param dst the array into which the elements are to be stored
+         * @return the number of elements removed, which is
+         *         {@code min(size(), dst.length)}
+         */
+        public int pollFirstAll(short[] dst) {
+            int n = java.lang.Math.min(size, dst.length);
+            if(n == 0) return 0;
+            copyOut(dst, 0, n);
+            head = (head + n) & (elements.length - 1);
+            size -= n;
+            modCount++;
+            return n;
+        }
+
+        @Override
+        public boolean removeFirstOccurrenceShort(short e) {
+            int i = indexOf(e);
+            if(i < 0) return false;
+            delete(i);
+            return true;
+        }
+
+        @Override
+        public boolean removeLastOccurrenceShort(short e) {
+            int i = lastIndexOf(e);
+            if(i < 0) return false;
+            delete(i);
+            return true;
+        }
+
+        @Override
+        public boolean removeShort(short e) { return removeFirstOccurrenceShort(e); }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Short e) ? removeFirstOccurrenceShort(e) : false; }
+
+        /**
+         * Removes the element at logical index {@code i}, closing the gap by moving
+         * whichever side of it is shorter. Elements after {@code i} end up one
+         * logical index lower either way.
+         */
+        void delete(int i) {
+            final short[] es = elements;
+            final int mask = es.length - 1, h = head;
+            if(i < size - i - 1) {
+                for(int j = i; j > 0; j--) es[(h + j) & mask] = es[(h + j - 1) & mask];
+                head = (h + 1) & mask;
+            } else {
+                for(int j = i, last = size - 1; j < last; j++) es[(h + j) & mask] = es[(h + j + 1) & mask];
+            }
+            size--;
+            modCount++;
+        }
+
+        @Override
+        public boolean removeIfShort(PrimitivePredicate.OfShort filter) {
+            Objects.requireNonNull(filter);
+            final int expectedModCount = modCount;
+            final short[] es = elements;
+            final int mask = es.length - 1, h = head, n = size;
+            // test every element before moving any, so a throwing predicate leaves the deque as it was
+            final long[] deathRow = PrimitiveArrayList.nBits(Math.max(n, 1));
+            boolean removed = false;
+            for(int r = 0; r < n; r++) {
+                if(filter.testShort(es[(h + r) & mask])) {
+                    PrimitiveArrayList.setBit(deathRow, r);
+                    removed = true;
+                }
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(!removed) return false;
+            int w = 0;
+            for(int r = 0; r < n; r++) if(PrimitiveArrayList.isClear(deathRow, r)) es[(h + w++) & mask] = es[(h + r) & mask];
+            size = w;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeAllShort(PrimitiveCollection.OfShort c) {
+            Objects.requireNonNull(c);
+            return removeIfShort(c::containsShort);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfShort(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllShort(PrimitiveCollection.OfShort c) {
+            Objects.requireNonNull(c);
+            return removeIfShort(e -> !c.containsShort(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfShort(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            head = 0;
+            size = 0;
+        }
+
+        ///////////// Examination
+
+        @Override
+        public short getFirstShort() {
+            if(size == 0) throw new NoSuchElementException();
+            return elements[head];
+        }
+
+        @Override
+        public short getLastShort() {
+            if(size == 0) throw new NoSuchElementException();
+            final short[] es = elements;
+            return es[(head + size - 1) & (es.length - 1)];
+        }
+
+        @Override
+        public short elementShort() { return getFirstShort(); }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public short peekFirstShort() { return size == 0 ? 0 : elements[head]; }
+
+        /**
+         * {@inheritDoc}
+         * @return the tail of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public short peekLastShort() { return size == 0 ? 0 : getLastShort(); }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public short peekShort() { return peekFirstShort(); }
+
+        @Override
+        public java.lang.Short peekFirst() { return size == 0 ? null : elements[head]; }
+
+        @Override
+        public java.lang.Short peekLast() { return size == 0 ? null : getLastShort(); }
+
+        @Override
+        public java.lang.Short peek() { return peekFirst(); }
+
+        ///////////// Array operations
+
+        @Override
+        public short[] toArrayShort() {
+            short[] a = new short[size];
+            copyOut(a, 0, size);
+            return a;
+        }
+
+        @Override
+        public short[] toArrayShort(short[] array) {
+            if(array.length < size) return toArrayShort();
+            copyOut(array, 0, size);
+            return array;
+        }
+
+        @Override
+        public java.lang.Short[] toArray() {
+            java.lang.Short[] r = new java.lang.Short[size];
+            final short[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < r.length; i++) r[i] = es[(h + i) & mask];
+            return r;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            final int n = size;
+            T[] r = a.length >= n ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), n);
+            final short[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < n; i++) r[i] = (T) java.lang.Short.valueOf(es[(h + i) & mask]);
+            if(r.length > n) r[n] = null;
+            return r;
+        }
+
+        ///////////// Traversal
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfShort action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final short[] es = elements;
+            final int h = head, n = size, first = java.lang.Math.min(n, es.length - h);
+            for(int i = h, end = h + first; i < end; i++) action.acceptShort(es[i]);
+            for(int i = 0, end = n - first; i < end; i++) action.acceptShort(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public PrimitiveIterator.OfShort iteratorShort() { return new Itr(); }
+
+        @Override
+        public PrimitiveIterator.OfShort descendingIteratorShort() { return new DescendingItr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this deque. The spliterator splits by logical index range and reports
+         * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+         * @return a spliterator over the elements in this deque
+         */
+        @Override
+        public PrimitiveSpliterator.OfShort spliteratorShort() { return new Spliter(0, -1, 0, false); }
+
+        @Override
+        public PrimitiveStream.OfShort streamShort() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamShort'");
+        }
+
+        @Override
+        public PrimitiveStream.OfShort parallelStreamShort() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamShort'");
+        }
+
+        private class Itr implements PrimitiveIterator.OfShort {
+            int cursor;       // logical index of next element to return
+            int lastRet = -1; // logical index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor < size; }
+
+            public short nextShort() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                final short[] es = elements;
+                return es[(head + (lastRet = i)) & (es.length - 1)];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                delete(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        private class DescendingItr implements PrimitiveIterator.OfShort {
+            int cursor = size - 1; // logical index of next element to return
+            int lastRet = -1;      // logical index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor >= 0; }
+
+            public short nextShort() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int i = cursor;
+                if(i < 0) throw new NoSuchElementException();
+                cursor = i - 1;
+                final short[] es = elements;
+                return es[(head + (lastRet = i)) & (es.length - 1)];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                delete(lastRet);
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        /**
+         * Splits by logical index range. A descending spliterator walks the same range
+         * from the top down and hands the upper half off on a split.
+         */
+        private final class Spliter implements PrimitiveSpliterator.OfShort {
+            private int index;            // next logical index for ascending, one past it for descending
+            private int fence;            // -1 until used; then the other end of the range
+            private int expectedModCount; // initialized when fence set
+            private final boolean descending;
+
+            Spliter(int origin, int fence, int expectedModCount, boolean descending) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+                this.descending = descending;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    if(descending) {
+                        index = size;
+                        hi = fence = 0;
+                    } else hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int f = getFence();
+                if(descending) {
+                    int hi = index, mid = (f + hi) >>> 1;
+                    return (mid <= f) ? null : new Spliter(hi, index = mid, expectedModCount, true);
+                }
+                int lo = index, mid = (lo + f) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount, false);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfShort action) {
+                if(action == null) throw new NullPointerException();
+                int f = getFence(), i = index;
+                final short[] es = elements;
+                if(descending ? i <= f : i >= f) return false;
+                short e = es[(head + (descending ? (index = i - 1) : i)) & (es.length - 1)];
+                if(!descending) index = i + 1;
+                action.acceptShort(e);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfShort action) {
+                if(action == null) throw new NullPointerException();
+                int f = getFence(), i = index;
+                final short[] es = elements;
+                final int mask = es.length - 1, h = head;
+                index = f;
+                if(descending) while(i > f) action.acceptShort(es[(h + --i) & mask]);
+                else while(i < f) action.acceptShort(es[(h + i++) & mask]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() {
+                int f = getFence();
+                return descending ? index - f : f - index;
+            }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        ///////////// Reverse-ordered view
+
+        /**
+         * Returns a reverse-ordered view of this deque. The view reads and writes the
+         * backing array directly, so its operations cost the same as those of this deque.
+         * @return a reverse-ordered view of this deque
+         */
+        @Override
+        public PrimitiveDeque.OfShort reversedShort() {
+            PrimitiveDeque.OfShort r;
+            return (r = reversedView) == null ? (reversedView = new Reversed()) : r;
+        }
+
+        private final class Reversed extends PrimitiveAbstractCollection.OfShort implements PrimitiveDeque.OfShort {
+            private final PrimitiveArrayDeque.OfShort d = PrimitiveArrayDeque.OfShort.this;
+
+            public int size() { return size; }
+            public boolean isEmpty() { return size == 0; }
+            public boolean containsShort(short e) { return d.containsShort(e); }
+            public boolean containsAllShort(PrimitiveCollection.OfShort c) { return d.containsAllShort(c); }
+            public boolean containsAll(Collection<?> c) { return d.containsAll(c); }
+
+            public void addFirstShort(short e) { d.addLastShort(e); }
+            public void addLastShort(short e) { d.addFirstShort(e); }
+            public boolean offerFirstShort(short e) { d.addLastShort(e); return true; }
+            public boolean offerLastShort(short e) { d.addFirstShort(e); return true; }
+            public boolean addShort(short e) { d.addFirstShort(e); return true; }
+            public boolean offerShort(short e) { d.addFirstShort(e); return true; }
+            public void push(java.lang.Short e) { d.addLastShort(e); }
+            public boolean addAllShort(PrimitiveCollection.OfShort c) {
+                var it = c.iteratorShort();
+                boolean modified = false;
+                while(it.hasNext()) {
+                    d.addFirstShort(it.nextShort());
+                    modified = true;
+                }
+                return modified;
+            }
+            public boolean addAll(Collection<? extends java.lang.Short> c) {
+                boolean modified = false;
+                for(java.lang.Short e : c) {
+                    d.addFirstShort(e);
+                    modified = true;
+                }
+                return modified;
+            }
+
+            public short removeFirstShort() { return d.removeLastShort(); }
+            public short removeLastShort() { return d.removeFirstShort(); }
+            public short pollFirstShort() { return d.pollLastShort(); }
+            public short pollLastShort() { return d.pollFirstShort(); }
+            public short pollShort() { return d.pollLastShort(); }
+            public java.lang.Short pollFirst() { return d.pollLast(); }
+            public java.lang.Short pollLast() { return d.pollFirst(); }
+            public java.lang.Short poll() { return d.pollLast(); }
+            public java.lang.Short pop() { return d.removeLastShort(); }
+            public java.lang.Short remove() { return d.removeLastShort(); }
+            public boolean removeFirstOccurrenceShort(short e) { return d.removeLastOccurrenceShort(e); }
+            public boolean removeLastOccurrenceShort(short e) { return d.removeFirstOccurrenceShort(e); }
+            public boolean removeShort(short e) { return d.removeLastOccurrenceShort(e); }
+            public boolean remove(Object o) { return (o instanceof java.lang.Short e) ? d.removeLastOccurrenceShort(e) : false; }
+            public boolean removeIfShort(PrimitivePredicate.OfShort filter) { return d.removeIfShort(filter); }
+            public boolean removeAllShort(PrimitiveCollection.OfShort c) { return d.removeAllShort(c); }
+            public boolean removeAll(Collection<?> c) { return d.removeAll(c); }
+            public boolean retainAllShort(PrimitiveCollection.OfShort c) { return d.retainAllShort(c); }
+            public boolean retainAll(Collection<?> c) { return d.retainAll(c); }
+            public void clear() { d.clear(); }
+
+            public short getFirstShort() { return d.getLastShort(); }
+            public short getLastShort() { return d.getFirstShort(); }
+            public short elementShort() { return d.getLastShort(); }
+            public short peekFirstShort() { return d.peekLastShort(); }
+            public short peekLastShort() { return d.peekFirstShort(); }
+            public short peekShort() { return d.peekLastShort(); }
+            public java.lang.Short peekFirst() { return d.peekLast(); }
+            public java.lang.Short peekLast() { return d.peekFirst(); }
+            public java.lang.Short peek() { return d.peekLast(); }
+
+            public short[] toArrayShort() { return toArrayShort(new short[size]); }
+            public short[] toArrayShort(short[] array) {
+                final int n = size;
+                if(array.length < n) array = new short[n];
+                final short[] es = elements;
+                final int mask = es.length - 1, h = head;
+                for(int i = 0; i < n; i++) array[i] = es[(h + n - 1 - i) & mask];
+                return array;
+            }
+            public java.lang.Short[] toArray() {
+                short[] a = toArrayShort();
+                java.lang.Short[] r = new java.lang.Short[a.length];
+                for(int i = 0; i < a.length; i++) r[i] = a[i];
+                return r;
+            }
+            @SuppressWarnings("unchecked")
+            public <T> T[] toArray(T[] a) {
+                short[] src = toArrayShort();
+                T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+                for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Short.valueOf(src[i]);
+                if(r.length > src.length) r[src.length] = null;
+                return r;
+            }
+
+            public void forEach(PrimitiveConsumer.OfShort action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final short[] es = elements;
+                final int mask = es.length - 1, h = head;
+                for(int i = size; i-- != 0;) action.acceptShort(es[(h + i) & mask]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+            public PrimitiveIterator.OfShort iteratorShort() { return d.descendingIteratorShort(); }
+            public PrimitiveIterator.OfShort descendingIteratorShort() { return d.iteratorShort(); }
+            public PrimitiveSpliterator.OfShort spliteratorShort() { return new Spliter(0, -1, 0, true); }
+            public PrimitiveStream.OfShort streamShort() {
+                // TODO Will be implemented when primitive streams and splitterator are implemented
+                throw new UnsupportedOperationException("Unimplemented method 'streamShort'");
+            }
+            public PrimitiveStream.OfShort parallelStreamShort() {
+                // TODO Will be implemented when primitive streams and splitterator are implemented
+                throw new UnsupportedOperationException("Unimplemented method 'parallelStreamShort'");
+            }
+
+            public PrimitiveDeque.OfShort reversedShort() { return d; }
+
+            @Override
+            public String toString() { return Arrays.toString(toArrayShort()); }
+        }
+
+        ///////////// Object methods
+
+        /**
+         * Returns a copy of this deque.
+         * @return a copy of this deque
+         */
+        @Override
+        public PrimitiveArrayDeque.OfShort clone() {
+            try {
+                var c = (PrimitiveArrayDeque.OfShort) super.clone();
+                c.elements = elements.clone();
+                c.reversedView = null;
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public String toString() { return Arrays.toString(toArrayShort()); }
+    }
+
+    /**
+     * Resizable circular-array implementation of the {@link PrimitiveDeque.OfByte} interface.
+     * Elements are stored unboxed in a {@code byte[]} whose length is always a power of
+     * two, so the physical slot of a logical index is found with a single mask instead
+     * of a division or a branch. The array doubles whenever an insertion would overflow it.
+     * Most operations run in amortized constant time; bulk insertion and removal at the
+     * ends, {@link #offerLastAll(byte[], int, int)} and {@link #pollFirstAll(byte[])}, move
+     * at most two contiguous runs with {@link System#arraycopy}.
+     * <p>
+     * The empty-deque results of the unboxed {@code peek} and {@code poll} methods are
+     * {@code 0}; the boxed ones return {@code null} as {@link java.util.Deque} requires.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.ArrayDeque}
+     */
+    public static class OfByte extends PrimitiveAbstractCollection.OfByte implements PrimitiveDeque.OfByte, Cloneable {
+        /**
+         * The array in which the elements of the deque are stored. Its length is a
+         * power of two and the deque occupies {@link #size} slots starting at {@link #head},
+         * wrapping around the end of the array.
+         */
+        transient byte[] elements;
+
+        /**
+         * The physical index of the element at the head of the deque.
+         */
+        transient int head;
+
+        /**
+         * The number of elements in the deque.
+         */
+        private int size;
+
+        /**
+         * The number of times this deque has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         */
+        transient int modCount;
+
+        private transient PrimitiveDeque.OfByte reversedView;
+
+        /**
+         * Constructs an empty deque with room for at least the specified number of elements.
+         * @param numElements lower bound on the initial capacity of the deque
+         * @throws IllegalArgumentException if the specified number of elements is negative
+         */
+        public OfByte(int numElements) {
+            if(numElements < 0) throw new IllegalArgumentException("Illegal Capacity: " + numElements);
+            elements = new byte[capacityFor(numElements)];
+        }
+
+        /**
+         * Constructs an empty deque with an initial capacity of sixteen.
+         */
+        public OfByte() { elements = new byte[DEFAULT_CAPACITY]; }
+
+        /**
+         * Constructs a deque containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this deque
+         */
+        public OfByte(PrimitiveCollection.OfByte c) {
+            byte[] a = c.toArrayByte();
+            elements = new byte[capacityFor(a.length)];
+            System.arraycopy(a, 0, elements, 0, a.length);
+            size = a.length;
+        }
+
+        /**
+         * Increases the capacity of this deque, if necessary, so that it can hold at
+         * least the number of elements specified by the argument without growing.
+         * @param minCapacity the desired minimum capacity
+         */
+        public void ensureCapacity(int minCapacity) {
+            if(minCapacity > elements.length) resize(capacityFor(minCapacity));
+        }
+
+        /**
+         * Shrinks the backing array to the smallest power of two able to hold the
+         * current elements.
+         */
+        public void trimToSize() {
+            int cap = capacityFor(size);
+            if(cap < elements.length) resize(cap);
+        }
+
+        /**
+         * Makes room for {@code needed} more elements.
+         */
+        private void grow(int needed) {
+            int minCapacity = size + needed;
+            if(minCapacity < 0 || minCapacity > MAX_CAPACITY) throw new OutOfMemoryError("Required deque capacity " + size + " + " + needed + " is too large");
+            resize(capacityFor(java.lang.Math.max(minCapacity, elements.length << 1)));
+        }
+
+        /**
+         * Copies the elements into a new array of length {@code newCapacity}, unwrapping
+         * them so the head lands at index 0.
+         */
+        private void resize(int newCapacity) {
+            byte[] a = new byte[newCapacity];
+            copyOut(a, 0, size);
+            elements = a;
+            head = 0;
+        }
+
+        /**
+         * Copies the first {@code n} elements of the deque to {@code dst} starting at
+         * {@code off}, in at most two {@link System#arraycopy} calls.
+         */
+        private void copyOut(byte[] dst, int off, int n) {
+            final byte[] es = elements;
+            int first = java.lang.Math.min(n, es.length - head);
+            System.arraycopy(es, head, dst, off, first);
+            System.arraycopy(es, 0, dst, off + first, n - first);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsByte(byte e) { return indexOf(e) >= 0; }
+
+        @Override
+        public boolean containsAllByte(PrimitiveCollection.OfByte c) {
+            var it = c.iteratorByte();
+            while(it.hasNext()) if(!containsByte(it.nextByte())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        /**
+         * Returns the logical index of the first occurrence of {@code e}, or -1.
+         */
+        private int indexOf(byte e) {
+            final byte[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < size; i++) if(es[(h + i) & mask] == e) return i;
+            return -1;
+        }
+
+        /**
+         * Returns the logical index of the last occurrence of {@code e}, or -1.
+         */
+        private int lastIndexOf(byte e) {
+            final byte[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = size; i-- != 0;) if(es[(h + i) & mask] == e) return i;
+            return -1;
+        }
+
+        ///////////// Insertion
+
+        @Override
+        public void addFirstByte(byte e) {
+            if(size == elements.length) grow(1);
+            final byte[] es = elements;
+            es[head = (head - 1) & (es.length - 1)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public void addLastByte(byte e) {
+            if(size == elements.length) grow(1);
+            final byte[] es = elements;
+            es[(head + size) & (es.length - 1)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public boolean offerFirstByte(byte e) {
+            addFirstByte(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerLastByte(byte e) {
+            addLastByte(e);
+            return true;
+        }
+
+        @Override
+        public boolean addByte(byte e) {
+            addLastByte(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerByte(byte e) {
+            addLastByte(e);
+            return true;
+        }
+
+        /**
+         * Pushes an element onto the stack represented by this deque, that is, inserts
+         * it at the front of this deque.
+         * @param e the element to push
+         * @see java.util.Deque#push(Object)
+         */
+        public void pushByte(byte e) { addFirstByte(e); }
+
+        @Override
+        public void push(java.lang.Byte e) { addFirstByte(e); }
+
+        /**
+         * Inserts {@code len} elements of the specified array, starting at {@code off},
+         * at the end of this deque in array order. The elements are moved with at most
+         * two {@link System#arraycopy} calls.
+         * @param a the array holding the elements to insert
+         * @param off the index of the first element to insert
+         * @param len the number of elements to insert
+         * @return {@code true}
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean offerLastAll(byte[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            if(len == 0) return true;
+            if(len > elements.length - size) grow(len);
+            final byte[] es = elements;
+            int tail = (head + size) & (es.length - 1);
+            int first = java.lang.Math.min(len, es.length - tail);
+            System.arraycopy(a, off, es, tail, first);
+            System.arraycopy(a, off + first, es, 0, len - first);
+            size += len;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean addAllByte(PrimitiveCollection.OfByte c) {
+            byte[] a = c.toArrayByte();
+            if(a.length == 0) return false;
+            return offerLastAll(a, 0, a.length);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Byte> c) {
+            if(c instanceof PrimitiveCollection.OfByte p) return addAllByte(p);
+            int n = c.size();
+            if(n == 0) return false;
+            if(n > elements.length - size) grow(n);
+            for(java.lang.Byte e : c) addLastByte(e);
+            return true;
+        }
+
+        ///////////// Removal
+
+        @Override
+        public byte removeFirstByte() {
+            if(size == 0) throw new NoSuchElementException();
+            return pollFirstByte();
+        }
+
+        @Override
+        public byte removeLastByte() {
+            if(size == 0) throw new NoSuchElementException();
+            return pollLastByte();
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public byte pollFirstByte() {
+            if(size == 0) return 0;
+            final byte[] es = elements;
+            byte e = es[head];
+            head = (head + 1) & (es.length - 1);
+            size--;
+            modCount++;
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the tail of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public byte pollLastByte() {
+            if(size == 0) return 0;
+            final byte[] es = elements;
+            byte e = es[(head + --size) & (es.length - 1)];
+            modCount++;
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public byte pollByte() { return pollFirstByte(); }
+
+        @Override
+        public java.lang.Byte pollFirst() { return size == 0 ? null : pollFirstByte(); }
+
+        @Override
+        public java.lang.Byte pollLast() { return size == 0 ? null : pollLastByte(); }
+
+        @Override
+        public java.lang.Byte poll() { return size == 0 ? null : pollFirstByte(); }
+
+        /**
+         * Pops an element from the stack represented by this deque, that is, removes
+         * and returns the first element of this deque.
+         * @return the element at the front of this deque
+         * @throws NoSuchElementException if this deque is empty
+         * @see java.util.Deque#pop()
+         */
+        public byte popByte() { return removeFirstByte(); }
+
+        @Override
+        public java.lang.Byte pop() { return removeFirstByte(); }
+
+        @Override
+        public java.lang.Byte remove() { return removeFirstByte(); }
+
+        /**
+         * Removes up to {@code dst.length} elements from the head of this deque into
+         * {@code dst}, in deque order. The elements are moved with at most two
+         * {@link System#arraycopy} calls.
+         * @param dst the array into which the elements are to be stored
+         * @return the number of elements removed, which is
+         *         {@code min(size(), dst.length)}
+         */
+        public int pollFirstAll(byte[] dst) {
+            int n = java.lang.Math.min(size, dst.length);
+            if(n == 0) return 0;
+            copyOut(dst, 0, n);
+            head = (head + n) & (elements.length - 1);
+            size -= n;
+            modCount++;
+            return n;
+        }
+
+        @Override
+        public boolean removeFirstOccurrenceByte(byte e) {
+            int i = indexOf(e);
+            if(i < 0) return false;
+            delete(i);
+            return true;
+        }
+
+        @Override
+        public boolean removeLastOccurrenceByte(byte e) {
+            int i = lastIndexOf(e);
+            if(i < 0) return false;
+            delete(i);
+            return true;
+        }
+
+        @Override
+        public boolean removeByte(byte e) { return removeFirstOccurrenceByte(e); }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Byte e) ? removeFirstOccurrenceByte(e) : false; }
+
+        /**
+         * Removes the element at logical index {@code i}, closing the gap by moving
+         * whichever side of it is shorter. Elements after {@code i} end up one
+         * logical index lower either way.
+         */
+        void delete(int i) {
+            final byte[] es = elements;
+            final int mask = es.length - 1, h = head;
+            if(i < size - i - 1) {
+                for(int j = i; j > 0; j--) es[(h + j) & mask] = es[(h + j - 1) & mask];
+                head = (h + 1) & mask;
+            } else {
+                for(int j = i, last = size - 1; j < last; j++) es[(h + j) & mask] = es[(h + j + 1) & mask];
+            }
+            size--;
+            modCount++;
+        }
+
+        @Override
+        public boolean removeIfByte(PrimitivePredicate.OfByte filter) {
+            Objects.requireNonNull(filter);
+            final int expectedModCount = modCount;
+            final byte[] es = elements;
+            final int mask = es.length - 1, h = head, n = size;
+            // test every element before moving any, so a throwing predicate leaves the deque as it was
+            final long[] deathRow = PrimitiveArrayList.nBits(Math.max(n, 1));
+            boolean removed = false;
+            for(int r = 0; r < n; r++) {
+                if(filter.testByte(es[(h + r) & mask])) {
+                    PrimitiveArrayList.setBit(deathRow, r);
+                    removed = true;
+                }
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(!removed) return false;
+            int w = 0;
+            for(int r = 0; r < n; r++) if(PrimitiveArrayList.isClear(deathRow, r)) es[(h + w++) & mask] = es[(h + r) & mask];
+            size = w;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeAllByte(PrimitiveCollection.OfByte c) {
+            Objects.requireNonNull(c);
+            return removeIfByte(c::containsByte);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfByte(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllByte(PrimitiveCollection.OfByte c) {
+            Objects.requireNonNull(c);
+            return removeIfByte(e -> !c.containsByte(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfByte(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            head = 0;
+            size = 0;
+        }
+
+        ///////////// Examination
+
+        @Override
+        public byte getFirstByte() {
+            if(size == 0) throw new NoSuchElementException();
+            return elements[head];
+        }
+
+        @Override
+        public byte getLastByte() {
+            if(size == 0) throw new NoSuchElementException();
+            final byte[] es = elements;
+            return es[(head + size - 1) & (es.length - 1)];
+        }
+
+        @Override
+        public byte elementByte() { return getFirstByte(); }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public byte peekFirstByte() { return size == 0 ? 0 : elements[head]; }
+
+        /**
+         * {@inheritDoc}
+         * @return the tail of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public byte peekLastByte() { return size == 0 ? 0 : getLastByte(); }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code 0} if this deque is empty
+         */
+        @Override
+        public byte peekByte() { return peekFirstByte(); }
+
+        @Override
+        public java.lang.Byte peekFirst() { return size == 0 ? null : elements[head]; }
+
+        @Override
+        public java.lang.Byte peekLast() { return size == 0 ? null : getLastByte(); }
+
+        @Override
+        public java.lang.Byte peek() { return peekFirst(); }
+
+        ///////////// Array operations
+
+        @Override
+        public byte[] toArrayByte() {
+            byte[] a = new byte[size];
+            copyOut(a, 0, size);
+            return a;
+        }
+
+        @Override
+        public byte[] toArrayByte(byte[] array) {
+            if(array.length < size) return toArrayByte();
+            copyOut(array, 0, size);
+            return array;
+        }
+
+        @Override
+        public java.lang.Byte[] toArray() {
+            java.lang.Byte[] r = new java.lang.Byte[size];
+            final byte[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < r.length; i++) r[i] = es[(h + i) & mask];
+            return r;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            final int n = size;
+            T[] r = a.length >= n ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), n);
+            final byte[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < n; i++) r[i] = (T) java.lang.Byte.valueOf(es[(h + i) & mask]);
+            if(r.length > n) r[n] = null;
+            return r;
+        }
+
+        ///////////// Traversal
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfByte action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final byte[] es = elements;
+            final int h = head, n = size, first = java.lang.Math.min(n, es.length - h);
+            for(int i = h, end = h + first; i < end; i++) action.acceptByte(es[i]);
+            for(int i = 0, end = n - first; i < end; i++) action.acceptByte(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public PrimitiveIterator.OfByte iteratorByte() { return new Itr(); }
+
+        @Override
+        public PrimitiveIterator.OfByte descendingIteratorByte() { return new DescendingItr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this deque. The spliterator splits by logical index range and reports
+         * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+         * @return a spliterator over the elements in this deque
+         */
+        @Override
+        public PrimitiveSpliterator.OfByte spliteratorByte() { return new Spliter(0, -1, 0, false); }
+
+        @Override
+        public PrimitiveStream.OfByte streamByte() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamByte'");
+        }
+
+        @Override
+        public PrimitiveStream.OfByte parallelStreamByte() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamByte'");
+        }
+
+        private class Itr implements PrimitiveIterator.OfByte {
+            int cursor;       // logical index of next element to return
+            int lastRet = -1; // logical index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor < size; }
+
+            public byte nextByte() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                final byte[] es = elements;
+                return es[(head + (lastRet = i)) & (es.length - 1)];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                delete(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        private class DescendingItr implements PrimitiveIterator.OfByte {
+            int cursor = size - 1; // logical index of next element to return
+            int lastRet = -1;      // logical index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor >= 0; }
+
+            public byte nextByte() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int i = cursor;
+                if(i < 0) throw new NoSuchElementException();
+                cursor = i - 1;
+                final byte[] es = elements;
+                return es[(head + (lastRet = i)) & (es.length - 1)];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                delete(lastRet);
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        /**
+         * Splits by logical index range. A descending spliterator walks the same range
+         * from the top down and hands the upper half off on a split.
+         */
+        private final class Spliter implements PrimitiveSpliterator.OfByte {
+            private int index;            // next logical index for ascending, one past it for descending
+            private int fence;            // -1 until used; then the other end of the range
+            private int expectedModCount; // initialized when fence set
+            private final boolean descending;
+
+            Spliter(int origin, int fence, int expectedModCount, boolean descending) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+                this.descending = descending;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    if(descending) {
+                        index = size;
+                        hi = fence = 0;
+                    } else hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int f = getFence();
+                if(descending) {
+                    int hi = index, mid = (f + hi) >>> 1;
+                    return (mid <= f) ? null : new Spliter(hi, index = mid, expectedModCount, true);
+                }
+                int lo = index, mid = (lo + f) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount, false);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfByte action) {
+                if(action == null) throw new NullPointerException();
+                int f = getFence(), i = index;
+                final byte[] es = elements;
+                if(descending ? i <= f : i >= f) return false;
+                byte e = es[(head + (descending ? (index = i - 1) : i)) & (es.length - 1)];
+                if(!descending) index = i + 1;
+                action.acceptByte(e);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfByte action) {
+                if(action == null) throw new NullPointerException();
+                int f = getFence(), i = index;
+                final byte[] es = elements;
+                final int mask = es.length - 1, h = head;
+                index = f;
+                if(descending) while(i > f) action.acceptByte(es[(h + --i) & mask]);
+                else while(i < f) action.acceptByte(es[(h + i++) & mask]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() {
+                int f = getFence();
+                return descending ? index - f : f - index;
+            }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        ///////////// Reverse-ordered view
+
+        /**
+         * Returns a reverse-ordered view of this deque. The view reads and writes the
+         * backing array directly, so its operations cost the same as those of this deque.
+         * @return a reverse-ordered view of this deque
+         */
+        @Override
+        public PrimitiveDeque.OfByte reversedByte() {
+            PrimitiveDeque.OfByte r;
+            return (r = reversedView) == null ? (reversedView = new Reversed()) : r;
+        }
+
+        private final class Reversed extends PrimitiveAbstractCollection.OfByte implements PrimitiveDeque.OfByte {
+            private final PrimitiveArrayDeque.OfByte d = PrimitiveArrayDeque.OfByte.this;
+
+            public int size() { return size; }
+            public boolean isEmpty() { return size == 0; }
+            public boolean containsByte(byte e) { return d.containsByte(e); }
+            public boolean containsAllByte(PrimitiveCollection.OfByte c) { return d.containsAllByte(c); }
+            public boolean containsAll(Collection<?> c) { return d.containsAll(c); }
+
+            public void addFirstByte(byte e) { d.addLastByte(e); }
+            public void addLastByte(byte e) { d.addFirstByte(e); }
+            public boolean offerFirstByte(byte e) { d.addLastByte(e); return true; }
+            public boolean offerLastByte(byte e) { d.addFirstByte(e); return true; }
+            public boolean addByte(byte e) { d.addFirstByte(e); return true; }
+            public boolean offerByte(byte e) { d.addFirstByte(e); return true; }
+            public void push(java.lang.Byte e) { d.addLastByte(e); }
+            public boolean addAllByte(PrimitiveCollection.OfByte c) {
+                var it = c.iteratorByte();
+                boolean modified = false;
+                while(it.hasNext()) {
+                    d.addFirstByte(it.nextByte());
+                    modified = true;
+                }
+                return modified;
+            }
+            public boolean addAll(Collection<? extends java.lang.Byte> c) {
+                boolean modified = false;
+                for(java.lang.Byte e : c) {
+                    d.addFirstByte(e);
+                    modified = true;
+                }
+                return modified;
+            }
+
+            public byte removeFirstByte() { return d.removeLastByte(); }
+            public byte removeLastByte() { return d.removeFirstByte(); }
+            public byte pollFirstByte() { return d.pollLastByte(); }
+            public byte pollLastByte() { return d.pollFirstByte(); }
+            public byte pollByte() { return d.pollLastByte(); }
+            public java.lang.Byte pollFirst() { return d.pollLast(); }
+            public java.lang.Byte pollLast() { return d.pollFirst(); }
+            public java.lang.Byte poll() { return d.pollLast(); }
+            public java.lang.Byte pop() { return d.removeLastByte(); }
+            public java.lang.Byte remove() { return d.removeLastByte(); }
+            public boolean removeFirstOccurrenceByte(byte e) { return d.removeLastOccurrenceByte(e); }
+            public boolean removeLastOccurrenceByte(byte e) { return d.removeFirstOccurrenceByte(e); }
+            public boolean removeByte(byte e) { return d.removeLastOccurrenceByte(e); }
+            public boolean remove(Object o) { return (o instanceof java.lang.Byte e) ? d.removeLastOccurrenceByte(e) : false; }
+            public boolean removeIfByte(PrimitivePredicate.OfByte filter) { return d.removeIfByte(filter); }
+            public boolean removeAllByte(PrimitiveCollection.OfByte c) { return d.removeAllByte(c); }
+            public boolean removeAll(Collection<?> c) { return d.removeAll(c); }
+            public boolean retainAllByte(PrimitiveCollection.OfByte c) { return d.retainAllByte(c); }
+            public boolean retainAll(Collection<?> c) { return d.retainAll(c); }
+            public void clear() { d.clear(); }
+
+            public byte getFirstByte() { return d.getLastByte(); }
+            public byte getLastByte() { return d.getFirstByte(); }
+            public byte elementByte() { return d.getLastByte(); }
+            public byte peekFirstByte() { return d.peekLastByte(); }
+            public byte peekLastByte() { return d.peekFirstByte(); }
+            public byte peekByte() { return d.peekLastByte(); }
+            public java.lang.Byte peekFirst() { return d.peekLast(); }
+            public java.lang.Byte peekLast() { return d.peekFirst(); }
+            public java.lang.Byte peek() { return d.peekLast(); }
+
+            public byte[] toArrayByte() { return toArrayByte(new byte[size]); }
+            public byte[] toArrayByte(byte[] array) {
+                final int n = size;
+                if(array.length < n) array = new byte[n];
+                final byte[] es = elements;
+                final int mask = es.length - 1, h = head;
+                for(int i = 0; i < n; i++) array[i] = es[(h + n - 1 - i) & mask];
+                return array;
+            }
+            public java.lang.Byte[] toArray() {
+                byte[] a = toArrayByte();
+                java.lang.Byte[] r = new java.lang.Byte[a.length];
+                for(int i = 0; i < a.length; i++) r[i] = a[i];
+                return r;
+            }
+            @SuppressWarnings("unchecked")
+            public <T> T[] toArray(T[] a) {
+                byte[] src = toArrayByte();
+                T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+                for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Byte.valueOf(src[i]);
+                if(r.length > src.length) r[src.length] = null;
+                return r;
+            }
+
+            public void forEach(PrimitiveConsumer.OfByte action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final byte[] es = elements;
+                final int mask = es.length - 1, h = head;
+                for(int i = size; i-- != 0;) action.acceptByte(es[(h + i) & mask]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+            public PrimitiveIterator.OfByte iteratorByte() { return d.descendingIteratorByte(); }
+            public PrimitiveIterator.OfByte descendingIteratorByte() { return d.iteratorByte(); }
+            public PrimitiveSpliterator.OfByte spliteratorByte() { return new Spliter(0, -1, 0, true); }
+            public PrimitiveStream.OfByte streamByte() {
+                // TODO Will be implemented when primitive streams and splitterator are implemented
+                throw new UnsupportedOperationException("Unimplemented method 'streamByte'");
+            }
+            public PrimitiveStream.OfByte parallelStreamByte() {
+                // TODO Will be implemented when primitive streams and splitterator are implemented
+                throw new UnsupportedOperationException("Unimplemented method 'parallelStreamByte'");
+            }
+
+            public PrimitiveDeque.OfByte reversedByte() { return d; }
+
+            @Override
+            public String toString() { return Arrays.toString(toArrayByte()); }
+        }
+
+        ///////////// Object methods
+
+        /**
+         * Returns a copy of this deque.
+         * @return a copy of this deque
+         */
+        @Override
+        public PrimitiveArrayDeque.OfByte clone() {
+            try {
+                var c = (PrimitiveArrayDeque.OfByte) super.clone();
+                c.elements = elements.clone();
+                c.reversedView = null;
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public String toString() { return Arrays.toString(toArrayByte()); }
+    }
+
+    /**
+     * Resizable circular-array implementation of the {@link PrimitiveDeque.OfBoolean} interface.
+     * Elements are stored unboxed in a {@code boolean[]} whose length is always a power of
+     * two, so the physical slot of a logical index is found with a single mask instead
+     * of a division or a branch. The array doubles whenever an insertion would overflow it.
+     * Most operations run in amortized constant time; bulk insertion and removal at the
+     * ends, {@link #offerLastAll(boolean[], int, int)} and {@link #pollFirstAll(boolean[])}, move
+     * at most two contiguous runs with {@link System#arraycopy}.
+     * <p>
+     * The empty-deque results of the unboxed {@code peek} and {@code poll} methods are
+     * {@code false}; the boxed ones return {@code null} as {@link java.util.Deque} requires.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.ArrayDeque}
+     */
+    public static class OfBoolean extends PrimitiveAbstractCollection.OfBoolean implements PrimitiveDeque.OfBoolean, Cloneable {
+        /**
+         * The array in which the elements of the deque are stored. Its length is a
+         * power of two and the deque occupies {@link #size} slots starting at {@link #head},
+         * wrapping around the end of the array.
+         */
+        transient boolean[] elements;
+
+        /**
+         * The physical index of the element at the head of the deque.
+         */
+        transient int head;
+
+        /**
+         * The number of elements in the deque.
+         */
+        private int size;
+
+        /**
+         * The number of times this deque has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         */
+        transient int modCount;
+
+        private transient PrimitiveDeque.OfBoolean reversedView;
+
+        /**
+         * Constructs an empty deque with room for at least the specified number of elements.
+         * @param numElements lower bound on the initial capacity of the deque
+         * @throws IllegalArgumentException if the specified number of elements is negative
+         */
+        public OfBoolean(int numElements) {
+            if(numElements < 0) throw new IllegalArgumentException("Illegal Capacity: " + numElements);
+            elements = new boolean[capacityFor(numElements)];
+        }
+
+        /**
+         * Constructs an empty deque with an initial capacity of sixteen.
+         */
+        public OfBoolean() { elements = new boolean[DEFAULT_CAPACITY]; }
+
+        /**
+         * Constructs a deque containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this deque
+         */
+        public OfBoolean(PrimitiveCollection.OfBoolean c) {
+            boolean[] a = c.toArrayBoolean();
+            elements = new boolean[capacityFor(a.length)];
+            System.arraycopy(a, 0, elements, 0, a.length);
+            size = a.length;
+        }
+
+        /**
+         * Increases the capacity of this deque, if necessary, so that it can hold at
+         * least the number of elements specified by the argument without growing.
+         * @param minCapacity the desired minimum capacity
+         */
+        public void ensureCapacity(int minCapacity) {
+            if(minCapacity > elements.length) resize(capacityFor(minCapacity));
+        }
+
+        /**
+         * Shrinks the backing array to the smallest power of two able to hold the
+         * current elements.
+         */
+        public void trimToSize() {
+            int cap = capacityFor(size);
+            if(cap < elements.length) resize(cap);
+        }
+
+        /**
+         * Makes room for {@code needed} more elements.
+         */
+        private void grow(int needed) {
+            int minCapacity = size + needed;
+            if(minCapacity < 0 || minCapacity > MAX_CAPACITY) throw new OutOfMemoryError("Required deque capacity " + size + " + " + needed + " is too large");
+            resize(capacityFor(java.lang.Math.max(minCapacity, elements.length << 1)));
+        }
+
+        /**
+         * Copies the elements into a new array of length {@code newCapacity}, unwrapping
+         * them so the head lands at index 0.
+         */
+        private void resize(int newCapacity) {
+            boolean[] a = new boolean[newCapacity];
+            copyOut(a, 0, size);
+            elements = a;
+            head = 0;
+        }
+
+        /**
+         * Copies the first {@code n} elements of the deque to {@code dst} starting at
+         * {@code off}, in at most two {@link System#arraycopy} calls.
+         */
+        private void copyOut(boolean[] dst, int off, int n) {
+            final boolean[] es = elements;
+            int first = java.lang.Math.min(n, es.length - head);
+            System.arraycopy(es, head, dst, off, first);
+            System.arraycopy(es, 0, dst, off + first, n - first);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsBoolean(boolean e) { return indexOf(e) >= 0; }
+
+        @Override
+        public boolean containsAllBoolean(PrimitiveCollection.OfBoolean c) {
+            var it = c.iteratorBoolean();
+            while(it.hasNext()) if(!containsBoolean(it.nextBoolean())) return false;
+            return true;
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> c) {
+            for(Object o : c) if(!contains(o)) return false;
+            return true;
+        }
+
+        /**
+         * Returns the logical index of the first occurrence of {@code e}, or -1.
+         */
+        private int indexOf(boolean e) {
+            final boolean[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < size; i++) if(es[(h + i) & mask] == e) return i;
+            return -1;
+        }
+
+        /**
+         * Returns the logical index of the last occurrence of {@code e}, or -1.
+         */
+        private int lastIndexOf(boolean e) {
+            final boolean[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = size; i-- != 0;) if(es[(h + i) & mask] == e) return i;
+            return -1;
+        }
+
+        ///////////// Insertion
+
+        @Override
+        public void addFirstBoolean(boolean e) {
+            if(size == elements.length) grow(1);
+            final boolean[] es = elements;
+            es[head = (head - 1) & (es.length - 1)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public void addLastBoolean(boolean e) {
+            if(size == elements.length) grow(1);
+            final boolean[] es = elements;
+            es[(head + size) & (es.length - 1)] = e;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public boolean offerFirstBoolean(boolean e) {
+            addFirstBoolean(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerLastBoolean(boolean e) {
+            addLastBoolean(e);
+            return true;
+        }
+
+        @Override
+        public boolean addBoolean(boolean e) {
+            addLastBoolean(e);
+            return true;
+        }
+
+        @Override
+        public boolean offerBoolean(boolean e) {
+            addLastBoolean(e);
+            return true;
+        }
+
+        /**
+         * Pushes an element onto the stack represented by this deque, that is, inserts
+         * it at the front of this deque.
+         * @param e the element to push
+         * @see java.util.Deque#push(Object)
+         */
+        public void pushBoolean(boolean e) { addFirstBoolean(e); }
+
+        @Override
+        public void push(java.lang.Boolean e) { addFirstBoolean(e); }
+
+        /**
+         * Inserts {@code len} elements of the specified array, starting at {@code off},
+         * at the end of this deque in array order. The elements are moved with at most
+         * two {@link System#arraycopy} calls.
+         * @param a the array holding the elements to insert
+         * @param off the index of the first element to insert
+         * @param len the number of elements to insert
+         * @return {@code true}
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean offerLastAll(boolean[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            if(len == 0) return true;
+            if(len > elements.length - size) grow(len);
+            final boolean[] es = elements;
+            int tail = (head + size) & (es.length - 1);
+            int first = java.lang.Math.min(len, es.length - tail);
+            System.arraycopy(a, off, es, tail, first);
+            System.arraycopy(a, off + first, es, 0, len - first);
+            size += len;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean addAllBoolean(PrimitiveCollection.OfBoolean c) {
+            boolean[] a = c.toArrayBoolean();
+            if(a.length == 0) return false;
+            return offerLastAll(a, 0, a.length);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Boolean> c) {
+            if(c instanceof PrimitiveCollection.OfBoolean p) return addAllBoolean(p);
+            int n = c.size();
+            if(n == 0) return false;
+            if(n > elements.length - size) grow(n);
+            for(java.lang.Boolean e : c) addLastBoolean(e);
+            return true;
+        }
+
+        ///////////// Removal
+
+        @Override
+        public boolean removeFirstBoolean() {
+            if(size == 0) throw new NoSuchElementException();
+            return pollFirstBoolean();
+        }
+
+        @Override
+        public boolean removeLastBoolean() {
+            if(size == 0) throw new NoSuchElementException();
+            return pollLastBoolean();
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code false} if this deque is empty
+         */
+        @Override
+        public boolean pollFirstBoolean() {
+            if(size == 0) return false;
+            final boolean[] es = elements;
+            boolean e = es[head];
+            head = (head + 1) & (es.length - 1);
+            size--;
+            modCount++;
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the tail of this deque, or {@code false} if this deque is empty
+         */
+        @Override
+        public boolean pollLastBoolean() {
+            if(size == 0) return false;
+            final boolean[] es = elements;
+            boolean e = es[(head + --size) & (es.length - 1)];
+            modCount++;
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code false} if this deque is empty
+         */
+        @Override
+        public boolean pollBoolean() { return pollFirstBoolean(); }
+
+        @Override
+        public java.lang.Boolean pollFirst() { return size == 0 ? null : pollFirstBoolean(); }
+
+        @Override
+        public java.lang.Boolean pollLast() { return size == 0 ? null : pollLastBoolean(); }
+
+        @Override
+        public java.lang.Boolean poll() { return size == 0 ? null : pollFirstBoolean(); }
+
+        /**
+         * Pops an element from the stack represented by this deque, that is, removes
+         * and returns the first element of this deque.
+         * @return the element at the front of this deque
+         * @throws NoSuchElementException if this deque is empty
+         * @see java.util.Deque#pop()
+         */
+        public boolean popBoolean() { return removeFirstBoolean(); }
+
+        @Override
+        public java.lang.Boolean pop() { return removeFirstBoolean(); }
+
+        @Override
+        public java.lang.Boolean remove() { return removeFirstBoolean(); }
+
+        /**
+         * Removes up to {@code dst.length} elements from the head of this deque into
+         * {@code dst}, in deque order. The elements are moved with at most two
+         * {@link System#arraycopy} calls.
+         * @param dst the array into which the elements are to be stored
+         * @return the number of elements removed, which is
+         *         {@code min(size(), dst.length)}
+         */
+        public int pollFirstAll(boolean[] dst) {
+            int n = java.lang.Math.min(size, dst.length);
+            if(n == 0) return 0;
+            copyOut(dst, 0, n);
+            head = (head + n) & (elements.length - 1);
+            size -= n;
+            modCount++;
+            return n;
+        }
+
+        @Override
+        public boolean removeFirstOccurrenceBoolean(boolean e) {
+            int i = indexOf(e);
+            if(i < 0) return false;
+            delete(i);
+            return true;
+        }
+
+        @Override
+        public boolean removeLastOccurrenceBoolean(boolean e) {
+            int i = lastIndexOf(e);
+            if(i < 0) return false;
+            delete(i);
+            return true;
+        }
+
+        @Override
+        public boolean removeBoolean(boolean e) { return removeFirstOccurrenceBoolean(e); }
+
+        @Override
+        public boolean remove(Object o) { return (o instanceof java.lang.Boolean e) ? removeFirstOccurrenceBoolean(e) : false; }
+
+        /**
+         * Removes the element at logical index {@code i}, closing the gap by moving
+         * whichever side of it is shorter. Elements after {@code i} end up one
+         * logical index lower either way.
+         */
+        void delete(int i) {
+            final boolean[] es = elements;
+            final int mask = es.length - 1, h = head;
+            if(i < size - i - 1) {
+                for(int j = i; j > 0; j--) es[(h + j) & mask] = es[(h + j - 1) & mask];
+                head = (h + 1) & mask;
+            } else {
+                for(int j = i, last = size - 1; j < last; j++) es[(h + j) & mask] = es[(h + j + 1) & mask];
+            }
+            size--;
+            modCount++;
+        }
+
+        @Override
+        public boolean removeIfBoolean(PrimitivePredicate.OfBoolean filter) {
+            Objects.requireNonNull(filter);
+            final int expectedModCount = modCount;
+            final boolean[] es = elements;
+            final int mask = es.length - 1, h = head, n = size;
+            // test every element before moving any, so a throwing predicate leaves the deque as it was
+            final long[] deathRow = PrimitiveArrayList.nBits(Math.max(n, 1));
+            boolean removed = false;
+            for(int r = 0; r < n; r++) {
+                if(filter.testBoolean(es[(h + r) & mask])) {
+                    PrimitiveArrayList.setBit(deathRow, r);
+                    removed = true;
+                }
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(!removed) return false;
+            int w = 0;
+            for(int r = 0; r < n; r++) if(PrimitiveArrayList.isClear(deathRow, r)) es[(h + w++) & mask] = es[(h + r) & mask];
+            size = w;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeAllBoolean(PrimitiveCollection.OfBoolean c) {
+            Objects.requireNonNull(c);
+            return removeIfBoolean(c::containsBoolean);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfBoolean(e -> c.contains(e));
+        }
+
+        @Override
+        public boolean retainAllBoolean(PrimitiveCollection.OfBoolean c) {
+            Objects.requireNonNull(c);
+            return removeIfBoolean(e -> !c.containsBoolean(e));
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfBoolean(e -> !c.contains(e));
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            head = 0;
+            size = 0;
+        }
+
+        ///////////// Examination
+
+        @Override
+        public boolean getFirstBoolean() {
+            if(size == 0) throw new NoSuchElementException();
+            return elements[head];
+        }
+
+        @Override
+        public boolean getLastBoolean() {
+            if(size == 0) throw new NoSuchElementException();
+            final boolean[] es = elements;
+            return es[(head + size - 1) & (es.length - 1)];
+        }
+
+        @Override
+        public boolean elementBoolean() { return getFirstBoolean(); }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code false} if this deque is empty
+         */
+        @Override
+        public boolean peekFirstBoolean() { return size == 0 ? false : elements[head]; }
+
+        /**
+         * {@inheritDoc}
+         * @return the tail of this deque, or {@code false} if this deque is empty
+         */
+        @Override
+        public boolean peekLastBoolean() { return size == 0 ? false : getLastBoolean(); }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this deque, or {@code false} if this deque is empty
+         */
+        @Override
+        public boolean peekBoolean() { return peekFirstBoolean(); }
+
+        @Override
+        public java.lang.Boolean peekFirst() { return size == 0 ? null : elements[head]; }
+
+        @Override
+        public java.lang.Boolean peekLast() { return size == 0 ? null : getLastBoolean(); }
+
+        @Override
+        public java.lang.Boolean peek() { return peekFirst(); }
+
+        ///////////// Array operations
+
+        @Override
+        public boolean[] toArrayBoolean() {
+            boolean[] a = new boolean[size];
+            copyOut(a, 0, size);
+            return a;
+        }
+
+        @Override
+        public boolean[] toArrayBoolean(boolean[] array) {
+            if(array.length < size) return toArrayBoolean();
+            copyOut(array, 0, size);
+            return array;
+        }
+
+        @Override
+        public java.lang.Boolean[] toArray() {
+            java.lang.Boolean[] r = new java.lang.Boolean[size];
+            final boolean[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < r.length; i++) r[i] = es[(h + i) & mask];
+            return r;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] a) {
+            final int n = size;
+            T[] r = a.length >= n ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), n);
+            final boolean[] es = elements;
+            final int mask = es.length - 1, h = head;
+            for(int i = 0; i < n; i++) r[i] = (T) java.lang.Boolean.valueOf(es[(h + i) & mask]);
+            if(r.length > n) r[n] = null;
+            return r;
+        }
+
+        ///////////// Traversal
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfBoolean action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final boolean[] es = elements;
+            final int h = head, n = size, first = java.lang.Math.min(n, es.length - h);
+            for(int i = h, end = h + first; i < end; i++) action.acceptBoolean(es[i]);
+            for(int i = 0, end = n - first; i < end; i++) action.acceptBoolean(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public PrimitiveIterator.OfBoolean iteratorBoolean() { return new Itr(); }
+
+        @Override
+        public PrimitiveIterator.OfBoolean descendingIteratorBoolean() { return new DescendingItr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this deque. The spliterator splits by logical index range and reports
+         * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+         * @return a spliterator over the elements in this deque
+         */
+        @Override
+        public PrimitiveSpliterator.OfBoolean spliteratorBoolean() { return new Spliter(0, -1, 0, false); }
+
+        @Override
+        public PrimitiveStream.OfBoolean streamBoolean() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'streamBoolean'");
+        }
+
+        @Override
+        public PrimitiveStream.OfBoolean parallelStreamBoolean() {
+            // TODO Will be implemented when primitive streams and splitterator are implemented
+            throw new UnsupportedOperationException("Unimplemented method 'parallelStreamBoolean'");
+        }
+
+        private class Itr implements PrimitiveIterator.OfBoolean {
+            int cursor;       // logical index of next element to return
+            int lastRet = -1; // logical index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor < size; }
+
+            public boolean nextBoolean() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                final boolean[] es = elements;
+                return es[(head + (lastRet = i)) & (es.length - 1)];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                delete(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        private class DescendingItr implements PrimitiveIterator.OfBoolean {
+            int cursor = size - 1; // logical index of next element to return
+            int lastRet = -1;      // logical index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor >= 0; }
+
+            public boolean nextBoolean() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int i = cursor;
+                if(i < 0) throw new NoSuchElementException();
+                cursor = i - 1;
+                final boolean[] es = elements;
+                return es[(head + (lastRet = i)) & (es.length - 1)];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                delete(lastRet);
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        /**
+         * Splits by logical index range. A descending spliterator walks the same range
+         * from the top down and hands the upper half off on a split.
+         */
+        private final class Spliter implements PrimitiveSpliterator.OfBoolean {
+            private int index;            // next logical index for ascending, one past it for descending
+            private int fence;            // -1 until used; then the other end of the range
+            private int expectedModCount; // initialized when fence set
+            private final boolean descending;
+
+            Spliter(int origin, int fence, int expectedModCount, boolean descending) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+                this.descending = descending;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    if(descending) {
+                        index = size;
+                        hi = fence = 0;
+                    } else hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int f = getFence();
+                if(descending) {
+                    int hi = index, mid = (f + hi) >>> 1;
+                    return (mid <= f) ? null : new Spliter(hi, index = mid, expectedModCount, true);
+                }
+                int lo = index, mid = (lo + f) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount, false);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfBoolean action) {
+                if(action == null) throw new NullPointerException();
+                int f = getFence(), i = index;
+                final boolean[] es = elements;
+                if(descending ? i <= f : i >= f) return false;
+                boolean e = es[(head + (descending ? (index = i - 1) : i)) & (es.length - 1)];
+                if(!descending) index = i + 1;
+                action.acceptBoolean(e);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfBoolean action) {
+                if(action == null) throw new NullPointerException();
+                int f = getFence(), i = index;
+                final boolean[] es = elements;
+                final int mask = es.length - 1, h = head;
+                index = f;
+                if(descending) while(i > f) action.acceptBoolean(es[(h + --i) & mask]);
+                else while(i < f) action.acceptBoolean(es[(h + i++) & mask]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() {
+                int f = getFence();
+                return descending ? index - f : f - index;
+            }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        ///////////// Reverse-ordered view
+
+        /**
+         * Returns a reverse-ordered view of this deque. The view reads and writes the
+         * backing array directly, so its operations cost the same as those of this deque.
+         * @return a reverse-ordered view of this deque
+         */
+        @Override
+        public PrimitiveDeque.OfBoolean reversedBoolean() {
+            PrimitiveDeque.OfBoolean r;
+            return (r = reversedView) == null ? (reversedView = new Reversed()) : r;
+        }
+
+        private final class Reversed extends PrimitiveAbstractCollection.OfBoolean implements PrimitiveDeque.OfBoolean {
+            private final PrimitiveArrayDeque.OfBoolean d = PrimitiveArrayDeque.OfBoolean.this;
+
+            public int size() { return size; }
+            public boolean isEmpty() { return size == 0; }
+            public boolean containsBoolean(boolean e) { return d.containsBoolean(e); }
+            public boolean containsAllBoolean(PrimitiveCollection.OfBoolean c) { return d.containsAllBoolean(c); }
+            public boolean containsAll(Collection<?> c) { return d.containsAll(c); }
+
+            public void addFirstBoolean(boolean e) { d.addLastBoolean(e); }
+            public void addLastBoolean(boolean e) { d.addFirstBoolean(e); }
+            public boolean offerFirstBoolean(boolean e) { d.addLastBoolean(e); return true; }
+            public boolean offerLastBoolean(boolean e) { d.addFirstBoolean(e); return true; }
+            public boolean addBoolean(boolean e) { d.addFirstBoolean(e); return true; }
+            public boolean offerBoolean(boolean e) { d.addFirstBoolean(e); return true; }
+            public void push(java.lang.Boolean e) { d.addLastBoolean(e); }
+            public boolean addAllBoolean(PrimitiveCollection.OfBoolean c) {
+                var it = c.iteratorBoolean();
+                boolean modified = false;
+                while(it.hasNext()) {
+                    d.addFirstBoolean(it.nextBoolean());
+                    modified = true;
+                }
+                return modified;
+            }
+            public boolean addAll(Collection<? extends java.lang.Boolean> c) {
+                boolean modified = false;
+                for(java.lang.Boolean e : c) {
+                    d.addFirstBoolean(e);
+                    modified = true;
+                }
+                return modified;
+            }
+
+            public boolean removeFirstBoolean() { return d.removeLastBoolean(); }
+            public boolean removeLastBoolean() { return d.removeFirstBoolean(); }
+            public boolean pollFirstBoolean() { return d.pollLastBoolean(); }
+            public boolean pollLastBoolean() { return d.pollFirstBoolean(); }
+            public boolean pollBoolean() { return d.pollLastBoolean(); }
+            public java.lang.Boolean pollFirst() { return d.pollLast(); }
+            public java.lang.Boolean pollLast() { return d.pollFirst(); }
+            public java.lang.Boolean poll() { return d.pollLast(); }
+            public java.lang.Boolean pop() { return d.removeLastBoolean(); }
+            public java.lang.Boolean remove() { return d.removeLastBoolean(); }
+            public boolean removeFirstOccurrenceBoolean(boolean e) { return d.removeLastOccurrenceBoolean(e); }
+            public boolean removeLastOccurrenceBoolean(boolean e) { return d.removeFirstOccurrenceBoolean(e); }
+            public boolean removeBoolean(boolean e) { return d.removeLastOccurrenceBoolean(e); }
+            public boolean remove(Object o) { return (o instanceof java.lang.Boolean e) ? d.removeLastOccurrenceBoolean(e) : false; }
+            public boolean removeIfBoolean(PrimitivePredicate.OfBoolean filter) { return d.removeIfBoolean(filter); }
+            public boolean removeAllBoolean(PrimitiveCollection.OfBoolean c) { return d.removeAllBoolean(c); }
+            public boolean removeAll(Collection<?> c) { return d.removeAll(c); }
+            public boolean retainAllBoolean(PrimitiveCollection.OfBoolean c) { return d.retainAllBoolean(c); }
+            public boolean retainAll(Collection<?> c) { return d.retainAll(c); }
+            public void clear() { d.clear(); }
+
+            public boolean getFirstBoolean() { return d.getLastBoolean(); }
+            public boolean getLastBoolean() { return d.getFirstBoolean(); }
+            public boolean elementBoolean() { return d.getLastBoolean(); }
+            public boolean peekFirstBoolean() { return d.peekLastBoolean(); }
+            public boolean peekLastBoolean() { return d.peekFirstBoolean(); }
+            public boolean peekBoolean() { return d.peekLastBoolean(); }
+            public java.lang.Boolean peekFirst() { return d.peekLast(); }
+            public java.lang.Boolean peekLast() { return d.peekFirst(); }
+            public java.lang.Boolean peek() { return d.peekLast(); }
+
+            public boolean[] toArrayBoolean() { return toArrayBoolean(new boolean[size]); }
+            public boolean[] toArrayBoolean(boolean[] array) {
+                final int n = size;
+                if(array.length < n) array = new boolean[n];
+                final boolean[] es = elements;
+                final int mask = es.length - 1, h = head;
+                for(int i = 0; i < n; i++) array[i] = es[(h + n - 1 - i) & mask];
+                return array;
+            }
+            public java.lang.Boolean[] toArray() {
+                boolean[] a = toArrayBoolean();
+                java.lang.Boolean[] r = new java.lang.Boolean[a.length];
+                for(int i = 0; i < a.length; i++) r[i] = a[i];
+                return r;
+            }
+            @SuppressWarnings("unchecked")
+            public <T> T[] toArray(T[] a) {
+                boolean[] src = toArrayBoolean();
+                T[] r = a.length >= src.length ? a : (T[]) Array.newInstance(a.getClass().getComponentType(), src.length);
+                for(int i = 0; i < src.length; i++) r[i] = (T) java.lang.Boolean.valueOf(src[i]);
+                if(r.length > src.length) r[src.length] = null;
+                return r;
+            }
+
+            public void forEach(PrimitiveConsumer.OfBoolean action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final boolean[] es = elements;
+                final int mask = es.length - 1, h = head;
+                for(int i = size; i-- != 0;) action.acceptBoolean(es[(h + i) & mask]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+            public PrimitiveIterator.OfBoolean iteratorBoolean() { return d.descendingIteratorBoolean(); }
+            public PrimitiveIterator.OfBoolean descendingIteratorBoolean() { return d.iteratorBoolean(); }
+            public PrimitiveSpliterator.OfBoolean spliteratorBoolean() { return new Spliter(0, -1, 0, true); }
+            public PrimitiveStream.OfBoolean streamBoolean() {
+                // TODO Will be implemented when primitive streams and splitterator are implemented
+                throw new UnsupportedOperationException("Unimplemented method 'streamBoolean'");
+            }
+            public PrimitiveStream.OfBoolean parallelStreamBoolean() {
+                // TODO Will be implemented when primitive streams and splitterator are implemented
+                throw new UnsupportedOperationException("Unimplemented method 'parallelStreamBoolean'");
+            }
+
+            public PrimitiveDeque.OfBoolean reversedBoolean() { return d; }
+
+            @Override
+            public String toString() { return Arrays.toString(toArrayBoolean()); }
+        }
+
+        ///////////// Object methods
+
+        /**
+         * Returns a copy of this deque.
+         * @return a copy of this deque
+         */
+        @Override
+        public PrimitiveArrayDeque.OfBoolean clone() {
+            try {
+                var c = (PrimitiveArrayDeque.OfBoolean) super.clone();
+                c.elements = elements.clone();
+                c.reversedView = null;
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public String toString() { return Arrays.toString(toArrayBoolean()); }
+    }
+}
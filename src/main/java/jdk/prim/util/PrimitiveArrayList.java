@@ -0,0 +1,5085 @@
+package jdk.prim.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+import jdk.prim.util.function.PrimitiveConsumer;
+import jdk.prim.util.function.PrimitiveFunction;
+import jdk.prim.util.function.PrimitivePredicate;
+
+/**
+ * A pseudo-package for holding the primitive declaration with functionalities and syntax of {@link java.util.ArrayList ArrayList}
+ */
+public final class PrimitiveArrayList {
+    /**
+     * Default initial capacity, allocated lazily on the first insertion into an empty list.
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * The largest array length that growth will ask for unless a larger minimum is required.
+     * Some VMs reserve header words in an array.
+     */
+    private static final int SOFT_MAX_ARRAY_LENGTH = java.lang.Integer.MAX_VALUE - 8;
+
+    private PrimitiveArrayList() {}
+
+    /**
+     * Computes a new array length given an array's current length, a minimum growth
+     * amount, and a preferred growth amount. This mirrors {@code jdk.internal.util.ArraysSupport.newLength}.
+     * @param oldLength current length of the array (must be nonnegative)
+     * @param minGrowth minimum required growth amount (must be positive)
+     * @param prefGrowth preferred growth amount
+     * @return the new array length
+     * @throws OutOfMemoryError if the new length would exceed {@link java.lang.Integer#MAX_VALUE}
+     */
+    static int newLength(int oldLength, int minGrowth, int prefGrowth) {
+        int prefLength = oldLength + Math.max(minGrowth, prefGrowth); // might overflow
+        if(0 < prefLength && prefLength <= SOFT_MAX_ARRAY_LENGTH) return prefLength;
+        int minLength = oldLength + minGrowth;
+        if(minLength < 0) throw new OutOfMemoryError("Required array length " + oldLength + " + " + minGrowth + " is too large");
+        return Math.max(minLength, SOFT_MAX_ARRAY_LENGTH);
+    }
+
+    /** Returns a bit set of at least {@code n} bits, used to mark the elements a bulk removal deletes. */
+    static long[] nBits(int n) { return new long[((n - 1) >> 6) + 1]; }
+    static void setBit(long[] bits, int i) { bits[i >> 6] |= 1L << i; }
+    static boolean isClear(long[] bits, int i) { return (bits[i >> 6] & (1L << i)) == 0; }
+
+    /**
+     * Resizable-array implementation of the {@link PrimitiveList.OfDouble} interface.
+     * Elements are stored unboxed in a {@code double[]} which grows by half of its
+     * current length whenever an insertion would overflow it, so appends run in
+     * amortized constant time. The {@code getDouble}, {@code setDouble}, {@code iteratorDouble}
+     * and {@code listIteratorDouble} operations run in constant time.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.ArrayList}
+     */
+    public static class OfDouble extends PrimitiveAbstractList.OfDouble implements RandomAccess, Cloneable {
+        private static final double[] EMPTY_ELEMENTDATA = {};
+
+        /**
+         * The array buffer into which the elements are stored. Only the first
+         * {@link #size} slots are live.
+         */
+        transient double[] elementData;
+
+        /**
+         * The number of elements this list contains.
+         */
+        private int size;
+
+        /**
+         * Constructs an empty list with the specified initial capacity.
+         * @param initialCapacity the initial capacity of the list
+         * @throws IllegalArgumentException if the specified initial capacity is negative
+         */
+        public OfDouble(int initialCapacity) {
+            if(initialCapacity > 0) elementData = new double[initialCapacity];
+            else if(initialCapacity == 0) elementData = EMPTY_ELEMENTDATA;
+            else throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+
+        /**
+         * Constructs an empty list with an initial capacity of ten.
+         */
+        public OfDouble() {
+            elementData = EMPTY_ELEMENTDATA;
+        }
+
+        /**
+         * Constructs a list containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this list
+         */
+        public OfDouble(PrimitiveCollection.OfDouble c) {
+            double[] a = c.toArrayDouble();
+            elementData = a.length == 0 ? EMPTY_ELEMENTDATA : a;
+            size = a.length;
+        }
+
+        /**
+         * Constructs a list containing {@code len} elements of the specified array,
+         * starting at {@code off}.
+         * @param a the array whose elements are to be placed into this list
+         * @param off the index of the first element to copy
+         * @param len the number of elements to copy
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfDouble(double[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            elementData = Arrays.copyOfRange(a, off, off + len);
+            size = len;
+        }
+
+        /**
+         * Trims the capacity of this list to be the list's current size.
+         */
+        public void trimToSize() {
+            modCount++;
+            if(size < elementData.length) elementData = size == 0 ? EMPTY_ELEMENTDATA : Arrays.copyOf(elementData, size);
+        }
+
+        /**
+         * Increases the capacity of this list, if necessary, to ensure that it can
+         * hold at least the number of elements specified by the minimum capacity argument.
+         * @param minCapacity the desired minimum capacity
+         */
+        public void ensureCapacity(int minCapacity) {
+            if(minCapacity > elementData.length) {
+                modCount++;
+                grow(minCapacity);
+            }
+        }
+
+        private double[] grow(int minCapacity) {
+            int oldCapacity = elementData.length;
+            if(oldCapacity > 0) {
+                int newCapacity = newLength(oldCapacity, minCapacity - oldCapacity, oldCapacity >> 1);
+                return elementData = Arrays.copyOf(elementData, newCapacity);
+            }
+            return elementData = new double[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+
+        private double[] grow() { return grow(size + 1); }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsDouble(double value) { return indexOfRange(value, 0, size) >= 0; }
+
+        @Override
+        public int indexOfDouble(double e) { return indexOfRange(e, 0, size); }
+
+        int indexOfRange(double e, int start, int end) {
+            double[] es = elementData;
+            for(int i = start; i < end; i++) if((es[i] == e || java.lang.Double.isNaN(es[i]) && java.lang.Double.isNaN(e))) return i;
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfDouble(double e) { return lastIndexOfRange(e, 0, size); }
+
+        int lastIndexOfRange(double e, int start, int end) {
+            double[] es = elementData;
+            for(int i = end - 1; i >= start; i--) if((es[i] == e || java.lang.Double.isNaN(es[i]) && java.lang.Double.isNaN(e))) return i;
+            return -1;
+        }
+
+        @Override
+        public double getDouble(int index) {
+            Objects.checkIndex(index, size);
+            return elementData[index];
+        }
+
+        @Override
+        public double getFirstDouble() {
+            if(size == 0) throw new NoSuchElementException();
+            return elementData[0];
+        }
+
+        @Override
+        public double getLastDouble() {
+            int last = size - 1;
+            if(last < 0) throw new NoSuchElementException();
+            return elementData[last];
+        }
+
+        /**
+         * Returns a shallow copy of this list.
+         * @return a clone of this list
+         */
+        @Override
+        public PrimitiveArrayList.OfDouble clone() {
+            try {
+                var v = (PrimitiveArrayList.OfDouble) super.clone();
+                v.elementData = Arrays.copyOf(elementData, size);
+                v.modCount = 0;
+                return v;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public double[] toArrayDouble() { return Arrays.copyOf(elementData, size); }
+
+        @Override
+        public double[] toArrayDouble(double[] array) {
+            if(array.length < size) return Arrays.copyOf(elementData, size);
+            System.arraycopy(elementData, 0, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public java.lang.Double[] toArray() {
+            double[] es = elementData;
+            java.lang.Double[] r = new java.lang.Double[size];
+            for(int i = 0; i < r.length; i++) r[i] = es[i];
+            return r;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public double setDouble(int index, double e) {
+            Objects.checkIndex(index, size);
+            double oldValue = elementData[index];
+            elementData[index] = e;
+            return oldValue;
+        }
+
+        @Override
+        public boolean addDouble(double e) {
+            modCount++;
+            int s = size;
+            double[] es = elementData;
+            if(s == es.length) es = grow();
+            es[s] = e;
+            size = s + 1;
+            return true;
+        }
+
+        @Override
+        public void addDouble(int index, double e) {
+            rangeCheckForAdd(index);
+            modCount++;
+            final int s;
+            double[] es;
+            if((s = size) == (es = elementData).length) es = grow();
+            System.arraycopy(es, index, es, index + 1, s - index);
+            es[index] = e;
+            size = s + 1;
+        }
+
+        @Override
+        public double removeElementAtIndex(int i) {
+            Objects.checkIndex(i, size);
+            double oldValue = elementData[i];
+            fastRemove(elementData, i);
+            return oldValue;
+        }
+
+        @Override
+        public double removeFirstDouble() {
+            if(size == 0) throw new NoSuchElementException();
+            double oldValue = elementData[0];
+            fastRemove(elementData, 0);
+            return oldValue;
+        }
+
+        @Override
+        public double removeLastDouble() {
+            int last = size - 1;
+            if(last < 0) throw new NoSuchElementException();
+            double oldValue = elementData[last];
+            fastRemove(elementData, last);
+            return oldValue;
+        }
+
+        @Override
+        public boolean removeDouble(double e) {
+            int i = indexOfRange(e, 0, size);
+            if(i < 0) return false;
+            fastRemove(elementData, i);
+            return true;
+        }
+
+        private void fastRemove(double[] es, int i) {
+            modCount++;
+            final int newSize;
+            if((newSize = size - 1) > i) System.arraycopy(es, i + 1, es, i, newSize - i);
+            size = newSize;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            size = 0;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllDouble(PrimitiveCollection.OfDouble c) {
+            if(c instanceof PrimitiveArrayList.OfDouble l) return addAllDouble(size, l.elementData, 0, l.size);
+            double[] a = c.toArrayDouble();
+            return addAllDouble(size, a, 0, a.length);
+        }
+
+        @Override
+        public boolean addAllDouble(int index, PrimitiveCollection.OfDouble c) {
+            rangeCheckForAdd(index);
+            if(c instanceof PrimitiveArrayList.OfDouble l) return addAllDouble(index, l.elementData, 0, l.size);
+            double[] a = c.toArrayDouble();
+            return addAllDouble(index, a, 0, a.length);
+        }
+
+        /**
+         * Appends {@code len} elements of the specified array, starting at {@code off},
+         * to the end of this list. The elements are copied with a single
+         * {@link System#arraycopy(Object, int, Object, int, int) arraycopy}.
+         * @param a the array containing the elements to be added
+         * @param off the index of the first element of {@code a} to add
+         * @param len the number of elements to add
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean addAllDouble(double[] a, int off, int len) { return addAllDouble(size, a, off, len); }
+
+        /**
+         * Inserts {@code len} elements of the specified array, starting at {@code off},
+         * into this list at the specified position. Elements currently at or after
+         * that position are shifted right with a single
+         * {@link System#arraycopy(Object, int, Object, int, int) arraycopy}.
+         * @param index index at which to insert the first element
+         * @param a the array containing the elements to be added
+         * @param off the index of the first element of {@code a} to add
+         * @param len the number of elements to add
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException if {@code index} is out of range
+         *         or the range is out of the bounds of {@code a}
+         */
+        public boolean addAllDouble(int index, double[] a, int off, int len) {
+            rangeCheckForAdd(index);
+            Objects.checkFromIndexSize(off, len, a.length);
+            modCount++;
+            if(len == 0) return false;
+            double[] es = elementData;
+            final int s = size;
+            if(len > es.length - s) es = grow(s + len);
+            int numMoved = s - index;
+            if(numMoved > 0) System.arraycopy(es, index, es, index + len, numMoved);
+            System.arraycopy(a, off, es, index, len);
+            size = s + len;
+            return true;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if(fromIndex > toIndex) throw new IndexOutOfBoundsException("From Index: " + fromIndex + " > To Index: " + toIndex);
+            modCount++;
+            System.arraycopy(elementData, toIndex, elementData, fromIndex, size - toIndex);
+            size -= toIndex - fromIndex;
+        }
+
+        @Override
+        public boolean removeAllDouble(PrimitiveCollection.OfDouble c) {
+            Objects.requireNonNull(c);
+            return removeIfDouble(c::containsDouble, 0, size);
+        }
+
+        @Override
+        public boolean retainAllDouble(PrimitiveCollection.OfDouble c) {
+            Objects.requireNonNull(c);
+            return removeIfDouble(e -> !c.containsDouble(e), 0, size);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfDouble(e -> c.contains(e), 0, size);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfDouble(e -> !c.contains(e), 0, size);
+        }
+
+        @Override
+        public boolean removeIfDouble(PrimitivePredicate.OfDouble filter) { return removeIfDouble(filter, 0, size); }
+
+        boolean removeIfDouble(PrimitivePredicate.OfDouble filter, int i, final int end) {
+            Objects.requireNonNull(filter);
+            int expectedModCount = modCount;
+            final double[] es = elementData;
+            // optimize for an initial run of survivors
+            for(; i < end && !filter.testDouble(es[i]); i++);
+            if(i == end) {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return false;
+            }
+            // test every element before moving any, so a throwing predicate leaves the list as it was
+            final int beg = i;
+            final long[] deathRow = nBits(end - beg);
+            deathRow[0] = 1L;
+            for(i = beg + 1; i < end; i++) if(filter.testDouble(es[i])) setBit(deathRow, i - beg);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+            int w = beg;
+            for(i = beg; i < end; i++) if(isClear(deathRow, i - beg)) es[w++] = es[i];
+            System.arraycopy(es, end, es, w, size - end);
+            size -= end - w;
+            return true;
+        }
+
+        @Override
+        public void replaceAllDouble(PrimitiveFunction.ToDouble.OfDouble operator) {
+            Objects.requireNonNull(operator);
+            final int expectedModCount = modCount;
+            final double[] es = elementData;
+            for(int i = 0; modCount == expectedModCount && i < size; i++) es[i] = operator.applyDouble(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+        }
+
+        @Override
+        public void sortDouble(PrimitiveComparator.OfDouble c) {
+            final int expectedModCount = modCount;
+            jdk.prim.util.sort.dualpivot.OfDouble.sort(elementData, c == null ? PrimitiveComparator.naturalOrderDouble() : c, 0, 0, size);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfDouble action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final double[] es = elementData;
+            final int size = this.size;
+            for(int i = 0; modCount == expectedModCount && i < size; i++) action.acceptDouble(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfDouble iteratorDouble() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfDouble listIteratorDouble() { return new ListItr(0); }
+
+        @Override
+        public PrimitiveListIterator.OfDouble listIteratorDouble(int from) {
+            rangeCheckForAdd(from);
+            return new ListItr(from);
+        }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this list. The spliterator splits by index and reports
+         * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+         * @return a spliterator over the elements in this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfDouble spliteratorDouble() { return new Spliter(0, -1, 0); }
+
+        private class Itr implements PrimitiveIterator.OfDouble {
+            int cursor;       // index of next element to return
+            int lastRet = -1; // index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public double nextDouble() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                double[] es = PrimitiveArrayList.OfDouble.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return es[lastRet = i];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfDouble.this.removeElementAtIndex(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfDouble {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) { cursor = index; }
+
+            public boolean hasNext() { return cursor != size; }
+
+            public double nextDouble() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                double[] es = PrimitiveArrayList.OfDouble.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return es[lastRet = i];
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public double previousDouble() {
+                checkForComodification();
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                double[] es = PrimitiveArrayList.OfDouble.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i;
+                return es[lastRet = i];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfDouble.this.removeElementAtIndex(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void setDouble(double e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfDouble.this.setDouble(lastRet, e);
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void addDouble(double e) {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    PrimitiveArrayList.OfDouble.this.addDouble(i, e);
+                    cursor = i + 1;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfDouble {
+            private int index;            // current index, modified on advance/split
+            private int fence;            // -1 until used; then one past last index
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfDouble action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                if(i < hi) {
+                    index = i + 1;
+                    action.acceptDouble(elementData[i]);
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfDouble action) {
+                int i, hi, mc; // hoist accesses and checks from loop
+                double[] a;
+                if(action == null) throw new NullPointerException();
+                if((a = elementData) != null) {
+                    if((hi = fence) < 0) {
+                        mc = modCount;
+                        hi = size;
+                    } else mc = expectedModCount;
+                    if((i = index) >= 0 && (index = hi) <= a.length) {
+                        for(; i < hi; ++i) action.acceptDouble(a[i]);
+                        if(modCount == mc) return;
+                    }
+                }
+                throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return getFence() - index; }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(o instanceof PrimitiveArrayList.OfDouble other) {
+                final int expectedModCount = modCount;
+                boolean equal = other.size == size && Arrays.equals(elementData, 0, size, other.elementData, 0, size);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return equal;
+            }
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            final int expectedModCount = modCount;
+            final double[] es = elementData;
+            int hashCode = 1;
+            for(int i = 0; i < size; i++) hashCode = 31 * hashCode + java.lang.Double.hashCode(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            return hashCode;
+        }
+    }
+
+    /**
+     * Resizable-array implementation of the {@link PrimitiveList.OfLong} interface.
+     * Elements are stored unboxed in a {@code long[]} which grows by half of its
+     * current length whenever an insertion would overflow it, so appends run in
+     * amortized constant time. The {@code getLong}, {@code setLong}, {@code iteratorLong}
+     * and {@code listIteratorLong} operations run in constant time.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.ArrayList}
+     */
+    public static class OfLong extends PrimitiveAbstractList.OfLong implements RandomAccess, Cloneable {
+        private static final long[] EMPTY_ELEMENTDATA = {};
+
+        /**
+         * The array buffer into which the elements are stored. Only the first
+         * {@link #size} slots are live.
+         */
+        transient long[] elementData;
+
+        /**
+         * The number of elements this list contains.
+         */
+        private int size;
+
+        /**
+         * Constructs an empty list with the specified initial capacity.
+         * @param initialCapacity the initial capacity of the list
+         * @throws IllegalArgumentException if the specified initial capacity is negative
+         */
+        public OfLong(int initialCapacity) {
+            if(initialCapacity > 0) elementData = new long[initialCapacity];
+            else if(initialCapacity == 0) elementData = EMPTY_ELEMENTDATA;
+            else throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+
+        /**
+         * Constructs an empty list with an initial capacity of ten.
+         */
+        public OfLong() {
+            elementData = EMPTY_ELEMENTDATA;
+        }
+
+        /**
+         * Constructs a list containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this list
+         */
+        public OfLong(PrimitiveCollection.OfLong c) {
+            long[] a = c.toArrayLong();
+            elementData = a.length == 0 ? EMPTY_ELEMENTDATA : a;
+            size = a.length;
+        }
+
+        /**
+         * Constructs a list containing {@code len} elements of the specified array,
+         * starting at {@code off}.
+         * @param a the array whose elements are to be placed into this list
+         * @param off the index of the first element to copy
+         * @param len the number of elements to copy
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfLong(long[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            elementData = Arrays.copyOfRange(a, off, off + len);
+            size = len;
+        }
+
+        /**
+         * Trims the capacity of this list to be the list's current size.
+         */
+        public void trimToSize() {
+            modCount++;
+            if(size < elementData.length) elementData = size == 0 ? EMPTY_ELEMENTDATA : Arrays.copyOf(elementData, size);
+        }
+
+        /**
+         * Increases the capacity of this list, if necessary, to ensure that it can
+         * hold at least the number of elements specified by the minimum capacity argument.
+         * @param minCapacity the desired minimum capacity
+         */
+        public void ensureCapacity(int minCapacity) {
+            if(minCapacity > elementData.length) {
+                modCount++;
+                grow(minCapacity);
+            }
+        }
+
+        private long[] grow(int minCapacity) {
+            int oldCapacity = elementData.length;
+            if(oldCapacity > 0) {
+                int newCapacity = newLength(oldCapacity, minCapacity - oldCapacity, oldCapacity >> 1);
+                return elementData = Arrays.copyOf(elementData, newCapacity);
+            }
+            return elementData = new long[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+
+        private long[] grow() { return grow(size + 1); }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsLong(long value) { return indexOfRange(value, 0, size) >= 0; }
+
+        @Override
+        public int indexOfLong(long e) { return indexOfRange(e, 0, size); }
+
+        int indexOfRange(long e, int start, int end) {
+            long[] es = elementData;
+            for(int i = start; i < end; i++) if(es[i] == e) return i;
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfLong(long e) { return lastIndexOfRange(e, 0, size); }
+
+        int lastIndexOfRange(long e, int start, int end) {
+            long[] es = elementData;
+            for(int i = end - 1; i >= start; i--) if(es[i] == e) return i;
+            return -1;
+        }
+
+        @Override
+        public long getLong(int index) {
+            Objects.checkIndex(index, size);
+            return elementData[index];
+        }
+
+        @Override
+        public long getFirstLong() {
+            if(size == 0) throw new NoSuchElementException();
+            return elementData[0];
+        }
+
+        @Override
+        public long getLastLong() {
+            int last = size - 1;
+            if(last < 0) throw new NoSuchElementException();
+            return elementData[last];
+        }
+
+        /**
+         * Returns a shallow copy of this list.
+         * @return a clone of this list
+         */
+        @Override
+        public PrimitiveArrayList.OfLong clone() {
+            try {
+                var v = (PrimitiveArrayList.OfLong) super.clone();
+                v.elementData = Arrays.copyOf(elementData, size);
+                v.modCount = 0;
+                return v;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public long[] toArrayLong() { return Arrays.copyOf(elementData, size); }
+
+        @Override
+        public long[] toArrayLong(long[] array) {
+            if(array.length < size) return Arrays.copyOf(elementData, size);
+            System.arraycopy(elementData, 0, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public java.lang.Long[] toArray() {
+            long[] es = elementData;
+            java.lang.Long[] r = new java.lang.Long[size];
+            for(int i = 0; i < r.length; i++) r[i] = es[i];
+            return r;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public long setLong(int index, long e) {
+            Objects.checkIndex(index, size);
+            long oldValue = elementData[index];
+            elementData[index] = e;
+            return oldValue;
+        }
+
+        @Override
+        public boolean addLong(long e) {
+            modCount++;
+            int s = size;
+            long[] es = elementData;
+            if(s == es.length) es = grow();
+            es[s] = e;
+            size = s + 1;
+            return true;
+        }
+
+        @Override
+        public void addLong(int index, long e) {
+            rangeCheckForAdd(index);
+            modCount++;
+            final int s;
+            long[] es;
+            if((s = size) == (es = elementData).length) es = grow();
+            System.arraycopy(es, index, es, index + 1, s - index);
+            es[index] = e;
+            size = s + 1;
+        }
+
+        @Override
+        public long removeElementAtIndex(int i) {
+            Objects.checkIndex(i, size);
+            long oldValue = elementData[i];
+            fastRemove(elementData, i);
+            return oldValue;
+        }
+
+        @Override
+        public long removeFirstLong() {
+            if(size == 0) throw new NoSuchElementException();
+            long oldValue = elementData[0];
+            fastRemove(elementData, 0);
+            return oldValue;
+        }
+
+        @Override
+        public long removeLastLong() {
+            int last = size - 1;
+            if(last < 0) throw new NoSuchElementException();
+            long oldValue = elementData[last];
+            fastRemove(elementData, last);
+            return oldValue;
+        }
+
+        @Override
+        public boolean removeLong(long e) {
+            int i = indexOfRange(e, 0, size);
+            if(i < 0) return false;
+            fastRemove(elementData, i);
+            return true;
+        }
+
+        private void fastRemove(long[] es, int i) {
+            modCount++;
+            final int newSize;
+            if((newSize = size - 1) > i) System.arraycopy(es, i + 1, es, i, newSize - i);
+            size = newSize;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            size = 0;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllLong(PrimitiveCollection.OfLong c) {
+            if(c instanceof PrimitiveArrayList.OfLong l) return addAllLong(size, l.elementData, 0, l.size);
+            long[] a = c.toArrayLong();
+            return addAllLong(size, a, 0, a.length);
+        }
+
+        @Override
+        public boolean addAllLong(int index, PrimitiveCollection.OfLong c) {
+            rangeCheckForAdd(index);
+            if(c instanceof PrimitiveArrayList.OfLong l) return addAllLong(index, l.elementData, 0, l.size);
+            long[] a = c.toArrayLong();
+            return addAllLong(index, a, 0, a.length);
+        }
+
+        /**
+         * Appends {@code len} elements of the specified array, starting at {@code off},
+         * to the end of this list. The elements are copied with a single
+         * {@link System#arraycopy(Object, int, Object, int, int) arraycopy}.
+         * @param a the array containing the elements to be added
+         * @param off the index of the first element of {@code a} to add
+         * @param len the number of elements to add
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean addAllLong(long[] a, int off, int len) { return addAllLong(size, a, off, len); }
+
+        /**
+         * Inserts {@code len} elements of the specified array, starting at {@code off},
+         * into this list at the specified position. Elements currently at or after
+         * that position are shifted right with a single
+         * {@link System#arraycopy(Object, int, Object, int, int) arraycopy}.
+         * @param index index at which to insert the first element
+         * @param a the array containing the elements to be added
+         * @param off the index of the first element of {@code a} to add
+         * @param len the number of elements to add
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException if {@code index} is out of range
+         *         or the range is out of the bounds of {@code a}
+         */
+        public boolean addAllLong(int index, long[] a, int off, int len) {
+            rangeCheckForAdd(index);
+            Objects.checkFromIndexSize(off, len, a.length);
+            modCount++;
+            if(len == 0) return false;
+            long[] es = elementData;
+            final int s = size;
+            if(len > es.length - s) es = grow(s + len);
+            int numMoved = s - index;
+            if(numMoved > 0) System.arraycopy(es, index, es, index + len, numMoved);
+            System.arraycopy(a, off, es, index, len);
+            size = s + len;
+            return true;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if(fromIndex > toIndex) throw new IndexOutOfBoundsException("From Index: " + fromIndex + " > To Index: " + toIndex);
+            modCount++;
+            System.arraycopy(elementData, toIndex, elementData, fromIndex, size - toIndex);
+            size -= toIndex - fromIndex;
+        }
+
+        @Override
+        public boolean removeAllLong(PrimitiveCollection.OfLong c) {
+            Objects.requireNonNull(c);
+            return removeIfLong(c::containsLong, 0, size);
+        }
+
+        @Override
+        public boolean retainAllLong(PrimitiveCollection.OfLong c) {
+            Objects.requireNonNull(c);
+            return removeIfLong(e -> !c.containsLong(e), 0, size);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfLong(e -> c.contains(e), 0, size);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfLong(e -> !c.contains(e), 0, size);
+        }
+
+        @Override
+        public boolean removeIfLong(PrimitivePredicate.OfLong filter) { return removeIfLong(filter, 0, size); }
+
+        boolean removeIfLong(PrimitivePredicate.OfLong filter, int i, final int end) {
+            Objects.requireNonNull(filter);
+            int expectedModCount = modCount;
+            final long[] es = elementData;
+            // optimize for an initial run of survivors
+            for(; i < end && !filter.testLong(es[i]); i++);
+            if(i == end) {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return false;
+            }
+            // test every element before moving any, so a throwing predicate leaves the list as it was
+            final int beg = i;
+            final long[] deathRow = nBits(end - beg);
+            deathRow[0] = 1L;
+            for(i = beg + 1; i < end; i++) if(filter.testLong(es[i])) setBit(deathRow, i - beg);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+            int w = beg;
+            for(i = beg; i < end; i++) if(isClear(deathRow, i - beg)) es[w++] = es[i];
+            System.arraycopy(es, end, es, w, size - end);
+            size -= end - w;
+            return true;
+        }
+
+        @Override
+        public void replaceAllLong(PrimitiveFunction.ToLong.OfLong operator) {
+            Objects.requireNonNull(operator);
+            final int expectedModCount = modCount;
+            final long[] es = elementData;
+            for(int i = 0; modCount == expectedModCount && i < size; i++) es[i] = operator.applyLong(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+        }
+
+        @Override
+        public void sortLong(PrimitiveComparator.OfLong c) {
+            final int expectedModCount = modCount;
+            jdk.prim.util.sort.dualpivot.OfLong.sort(elementData, c == null ? PrimitiveComparator.naturalOrderLong() : c, 0, 0, size);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfLong action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final long[] es = elementData;
+            final int size = this.size;
+            for(int i = 0; modCount == expectedModCount && i < size; i++) action.acceptLong(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfLong iteratorLong() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfLong listIteratorLong() { return new ListItr(0); }
+
+        @Override
+        public PrimitiveListIterator.OfLong listIteratorLong(int from) {
+            rangeCheckForAdd(from);
+            return new ListItr(from);
+        }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this list. The spliterator splits by index and reports
+         * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+         * @return a spliterator over the elements in this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfLong spliteratorLong() { return new Spliter(0, -1, 0); }
+
+        private class Itr implements PrimitiveIterator.OfLong {
+            int cursor;       // index of next element to return
+            int lastRet = -1; // index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public long nextLong() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                long[] es = PrimitiveArrayList.OfLong.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return es[lastRet = i];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfLong.this.removeElementAtIndex(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfLong {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) { cursor = index; }
+
+            public boolean hasNext() { return cursor != size; }
+
+            public long nextLong() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                long[] es = PrimitiveArrayList.OfLong.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return es[lastRet = i];
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public long previousLong() {
+                checkForComodification();
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                long[] es = PrimitiveArrayList.OfLong.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i;
+                return es[lastRet = i];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfLong.this.removeElementAtIndex(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void setLong(long e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfLong.this.setLong(lastRet, e);
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void addLong(long e) {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    PrimitiveArrayList.OfLong.this.addLong(i, e);
+                    cursor = i + 1;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfLong {
+            private int index;            // current index, modified on advance/split
+            private int fence;            // -1 until used; then one past last index
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfLong action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                if(i < hi) {
+                    index = i + 1;
+                    action.acceptLong(elementData[i]);
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfLong action) {
+                int i, hi, mc; // hoist accesses and checks from loop
+                long[] a;
+                if(action == null) throw new NullPointerException();
+                if((a = elementData) != null) {
+                    if((hi = fence) < 0) {
+                        mc = modCount;
+                        hi = size;
+                    } else mc = expectedModCount;
+                    if((i = index) >= 0 && (index = hi) <= a.length) {
+                        for(; i < hi; ++i) action.acceptLong(a[i]);
+                        if(modCount == mc) return;
+                    }
+                }
+                throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return getFence() - index; }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(o instanceof PrimitiveArrayList.OfLong other) {
+                final int expectedModCount = modCount;
+                boolean equal = other.size == size && Arrays.equals(elementData, 0, size, other.elementData, 0, size);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return equal;
+            }
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            final int expectedModCount = modCount;
+            final long[] es = elementData;
+            int hashCode = 1;
+            for(int i = 0; i < size; i++) hashCode = 31 * hashCode + java.lang.Long.hashCode(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            return hashCode;
+        }
+    }
+
+    /**
+     * Resizable-array implementation of the {@link PrimitiveList.OfInt} interface.
+     * Elements are stored unboxed in a {@code int[]} which grows by half of its
+     * current length whenever an insertion would overflow it, so appends run in
+     * amortized constant time. The {@code getInt}, {@code setInt}, {@code iteratorInt}
+     * and {@code listIteratorInt} operations run in constant time.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.ArrayList}
+     */
+    public static class OfInt extends PrimitiveAbstractList.OfInt implements RandomAccess, Cloneable {
+        private static final int[] EMPTY_ELEMENTDATA = {};
+
+        /**
+         * The array buffer into which the elements are stored. Only the first
+         * {@link #size} slots are live.
+         */
+        transient int[] elementData;
+
+        /**
+         * The number of elements this list contains.
+         */
+        private int size;
+
+        /**
+         * Constructs an empty list with the specified initial capacity.
+         * @param initialCapacity the initial capacity of the list
+         * @throws IllegalArgumentException if the specified initial capacity is negative
+         */
+        public OfInt(int initialCapacity) {
+            if(initialCapacity > 0) elementData = new int[initialCapacity];
+            else if(initialCapacity == 0) elementData = EMPTY_ELEMENTDATA;
+            else throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+
+        /**
+         * Constructs an empty list with an initial capacity of ten.
+         */
+        public OfInt() {
+            elementData = EMPTY_ELEMENTDATA;
+        }
+
+        /**
+         * Constructs a list containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this list
+         */
+        public OfInt(PrimitiveCollection.OfInt c) {
+            int[] a = c.toArrayInt();
+            elementData = a.length == 0 ? EMPTY_ELEMENTDATA : a;
+            size = a.length;
+        }
+
+        /**
+         * Constructs a list containing {@code len} elements of the specified array,
+         * starting at {@code off}.
+         * @param a the array whose elements are to be placed into this list
+         * @param off the index of the first element to copy
+         * @param len the number of elements to copy
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfInt(int[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            elementData = Arrays.copyOfRange(a, off, off + len);
+            size = len;
+        }
+
+        /**
+         * Trims the capacity of this list to be the list's current size.
+         */
+        public void trimToSize() {
+            modCount++;
+            if(size < elementData.length) elementData = size == 0 ? EMPTY_ELEMENTDATA : Arrays.copyOf(elementData, size);
+        }
+
+        /**
+         * Increases the capacity of this list, if necessary, to ensure that it can
+         * hold at least the number of elements specified by the minimum capacity argument.
+         * @param minCapacity the desired minimum capacity
+         */
+        public void ensureCapacity(int minCapacity) {
+            if(minCapacity > elementData.length) {
+                modCount++;
+                grow(minCapacity);
+            }
+        }
+
+        private int[] grow(int minCapacity) {
+            int oldCapacity = elementData.length;
+            if(oldCapacity > 0) {
+                int newCapacity = newLength(oldCapacity, minCapacity - oldCapacity, oldCapacity >> 1);
+                return elementData = Arrays.copyOf(elementData, newCapacity);
+            }
+            return elementData = new int[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+
+        private int[] grow() { return grow(size + 1); }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsInt(int value) { return indexOfRange(value, 0, size) >= 0; }
+
+        @Override
+        public int indexOfInt(int e) { return indexOfRange(e, 0, size); }
+
+        int indexOfRange(int e, int start, int end) {
+            int[] es = elementData;
+            for(int i = start; i < end; i++) if(es[i] == e) return i;
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfInt(int e) { return lastIndexOfRange(e, 0, size); }
+
+        int lastIndexOfRange(int e, int start, int end) {
+            int[] es = elementData;
+            for(int i = end - 1; i >= start; i--) if(es[i] == e) return i;
+            return -1;
+        }
+
+        @Override
+        public int getInt(int index) {
+            Objects.checkIndex(index, size);
+            return elementData[index];
+        }
+
+        @Override
+        public int getFirstInt() {
+            if(size == 0) throw new NoSuchElementException();
+            return elementData[0];
+        }
+
+        @Override
+        public int getLastInt() {
+            int last = size - 1;
+            if(last < 0) throw new NoSuchElementException();
+            return elementData[last];
+        }
+
+        /**
+         * Returns a shallow copy of this list.
+         * @return a clone of this list
+         */
+        @Override
+        public PrimitiveArrayList.OfInt clone() {
+            try {
+                var v = (PrimitiveArrayList.OfInt) super.clone();
+                v.elementData = Arrays.copyOf(elementData, size);
+                v.modCount = 0;
+                return v;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public int[] toArrayInt() { return Arrays.copyOf(elementData, size); }
+
+        @Override
+        public int[] toArrayInt(int[] array) {
+            if(array.length < size) return Arrays.copyOf(elementData, size);
+            System.arraycopy(elementData, 0, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public java.lang.Integer[] toArray() {
+            int[] es = elementData;
+            java.lang.Integer[] r = new java.lang.Integer[size];
+            for(int i = 0; i < r.length; i++) r[i] = es[i];
+            return r;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public int setInt(int index, int e) {
+            Objects.checkIndex(index, size);
+            int oldValue = elementData[index];
+            elementData[index] = e;
+            return oldValue;
+        }
+
+        @Override
+        public boolean addInt(int e) {
+            modCount++;
+            int s = size;
+            int[] es = elementData;
+            if(s == es.length) es = grow();
+            es[s] = e;
+            size = s + 1;
+            return true;
+        }
+
+        @Override
+        public void addInt(int index, int e) {
+            rangeCheckForAdd(index);
+            modCount++;
+            final int s;
+            int[] es;
+            if((s = size) == (es = elementData).length) es = grow();
+            System.arraycopy(es, index, es, index + 1, s - index);
+            es[index] = e;
+            size = s + 1;
+        }
+
+        @Override
+        public int removeElementAtIndex(int i) {
+            Objects.checkIndex(i, size);
+            int oldValue = elementData[i];
+            fastRemove(elementData, i);
+            return oldValue;
+        }
+
+        @Override
+        public int removeFirstInt() {
+            if(size == 0) throw new NoSuchElementException();
+            int oldValue = elementData[0];
+            fastRemove(elementData, 0);
+            return oldValue;
+        }
+
+        @Override
+        public int removeLastInt() {
+            int last = size - 1;
+            if(last < 0) throw new NoSuchElementException();
+            int oldValue = elementData[last];
+            fastRemove(elementData, last);
+            return oldValue;
+        }
+
+        @Override
+        public boolean removeInt(int e) {
+            int i = indexOfRange(e, 0, size);
+            if(i < 0) return false;
+            fastRemove(elementData, i);
+            return true;
+        }
+
+        private void fastRemove(int[] es, int i) {
+            modCount++;
+            final int newSize;
+            if((newSize = size - 1) > i) System.arraycopy(es, i + 1, es, i, newSize - i);
+            size = newSize;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            size = 0;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllInt(PrimitiveCollection.OfInt c) {
+            if(c instanceof PrimitiveArrayList.OfInt l) return addAllInt(size, l.elementData, 0, l.size);
+            int[] a = c.toArrayInt();
+            return addAllInt(size, a, 0, a.length);
+        }
+
+        @Override
+        public boolean addAllInt(int index, PrimitiveCollection.OfInt c) {
+            rangeCheckForAdd(index);
+            if(c instanceof PrimitiveArrayList.OfInt l) return addAllInt(index, l.elementData, 0, l.size);
+            int[] a = c.toArrayInt();
+            return addAllInt(index, a, 0, a.length);
+        }
+
+        /**
+         * Appends {@code len} elements of the specified array, starting at {@code off},
+         * to the end of this list. The elements are copied with a single
+         * {@link System#arraycopy(Object, int, Object, int, int) arraycopy}.
+         * @param a the array containing the elements to be added
+         * @param off the index of the first element of {@code a} to add
+         * @param len the number of elements to add
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean addAllInt(int[] a, int off, int len) { return addAllInt(size, a, off, len); }
+
+        /**
+         * Inserts {@code len} elements of the specified array, starting at {@code off},
+         * into this list at the specified position. Elements currently at or after
+         * that position are shifted right with a single
+         * {@link System#arraycopy(Object, int, Object, int, int) arraycopy}.
+         * @param index index at which to insert the first element
+         * @param a the array containing the elements to be added
+         * @param off the index of the first element of {@code a} to add
+         * @param len the number of elements to add
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException if {@code index} is out of range
+         *         or the range is out of the bounds of {@code a}
+         */
+        public boolean addAllInt(int index, int[] a, int off, int len) {
+            rangeCheckForAdd(index);
+            Objects.checkFromIndexSize(off, len, a.length);
+            modCount++;
+            if(len == 0) return false;
+            int[] es = elementData;
+            final int s = size;
+            if(len > es.length - s) es = grow(s + len);
+            int numMoved = s - index;
+            if(numMoved > 0) System.arraycopy(es, index, es, index + len, numMoved);
+            System.arraycopy(a, off, es, index, len);
+            size = s + len;
+            return true;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if(fromIndex > toIndex) throw new IndexOutOfBoundsException("From Index: " + fromIndex + " > To Index: " + toIndex);
+            modCount++;
+            System.arraycopy(elementData, toIndex, elementData, fromIndex, size - toIndex);
+            size -= toIndex - fromIndex;
+        }
+
+        @Override
+        public boolean removeAllInt(PrimitiveCollection.OfInt c) {
+            Objects.requireNonNull(c);
+            return removeIfInt(c::containsInt, 0, size);
+        }
+
+        @Override
+        public boolean retainAllInt(PrimitiveCollection.OfInt c) {
+            Objects.requireNonNull(c);
+            return removeIfInt(e -> !c.containsInt(e), 0, size);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfInt(e -> c.contains(e), 0, size);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfInt(e -> !c.contains(e), 0, size);
+        }
+
+        @Override
+        public boolean removeIfInt(PrimitivePredicate.OfInt filter) { return removeIfInt(filter, 0, size); }
+
+        boolean removeIfInt(PrimitivePredicate.OfInt filter, int i, final int end) {
+            Objects.requireNonNull(filter);
+            int expectedModCount = modCount;
+            final int[] es = elementData;
+            // optimize for an initial run of survivors
+            for(; i < end && !filter.testInt(es[i]); i++);
+            if(i == end) {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return false;
+            }
+            // test every element before moving any, so a throwing predicate leaves the list as it was
+            final int beg = i;
+            final long[] deathRow = nBits(end - beg);
+            deathRow[0] = 1L;
+            for(i = beg + 1; i < end; i++) if(filter.testInt(es[i])) setBit(deathRow, i - beg);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+            int w = beg;
+            for(i = beg; i < end; i++) if(isClear(deathRow, i - beg)) es[w++] = es[i];
+            System.arraycopy(es, end, es, w, size - end);
+            size -= end - w;
+            return true;
+        }
+
+        @Override
+        public void replaceAllInt(PrimitiveFunction.ToInt.OfInt operator) {
+            Objects.requireNonNull(operator);
+            final int expectedModCount = modCount;
+            final int[] es = elementData;
+            for(int i = 0; modCount == expectedModCount && i < size; i++) es[i] = operator.applyInt(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+        }
+
+        @Override
+        public void sortInt(PrimitiveComparator.OfInt c) {
+            final int expectedModCount = modCount;
+            jdk.prim.util.sort.dualpivot.OfInt.sort(elementData, c == null ? PrimitiveComparator.naturalOrderInt() : c, 0, 0, size);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfInt action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final int[] es = elementData;
+            final int size = this.size;
+            for(int i = 0; modCount == expectedModCount && i < size; i++) action.acceptInt(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfInt iteratorInt() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfInt listIteratorInt() { return new ListItr(0); }
+
+        @Override
+        public PrimitiveListIterator.OfInt listIteratorInt(int from) {
+            rangeCheckForAdd(from);
+            return new ListItr(from);
+        }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this list. The spliterator splits by index and reports
+         * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+         * @return a spliterator over the elements in this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfInt spliteratorInt() { return new Spliter(0, -1, 0); }
+
+        private class Itr implements PrimitiveIterator.OfInt {
+            int cursor;       // index of next element to return
+            int lastRet = -1; // index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public int nextInt() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                int[] es = PrimitiveArrayList.OfInt.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return es[lastRet = i];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfInt.this.removeElementAtIndex(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfInt {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) { cursor = index; }
+
+            public boolean hasNext() { return cursor != size; }
+
+            public int nextInt() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                int[] es = PrimitiveArrayList.OfInt.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return es[lastRet = i];
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public int previousInt() {
+                checkForComodification();
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                int[] es = PrimitiveArrayList.OfInt.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i;
+                return es[lastRet = i];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfInt.this.removeElementAtIndex(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void setInt(int e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfInt.this.setInt(lastRet, e);
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void addInt(int e) {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    PrimitiveArrayList.OfInt.this.addInt(i, e);
+                    cursor = i + 1;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfInt {
+            private int index;            // current index, modified on advance/split
+            private int fence;            // -1 until used; then one past last index
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfInt action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                if(i < hi) {
+                    index = i + 1;
+                    action.acceptInt(elementData[i]);
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfInt action) {
+                int i, hi, mc; // hoist accesses and checks from loop
+                int[] a;
+                if(action == null) throw new NullPointerException();
+                if((a = elementData) != null) {
+                    if((hi = fence) < 0) {
+                        mc = modCount;
+                        hi = size;
+                    } else mc = expectedModCount;
+                    if((i = index) >= 0 && (index = hi) <= a.length) {
+                        for(; i < hi; ++i) action.acceptInt(a[i]);
+                        if(modCount == mc) return;
+                    }
+                }
+                throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return getFence() - index; }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(o instanceof PrimitiveArrayList.OfInt other) {
+                final int expectedModCount = modCount;
+                boolean equal = other.size == size && Arrays.equals(elementData, 0, size, other.elementData, 0, size);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return equal;
+            }
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            final int expectedModCount = modCount;
+            final int[] es = elementData;
+            int hashCode = 1;
+            for(int i = 0; i < size; i++) hashCode = 31 * hashCode + java.lang.Integer.hashCode(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            return hashCode;
+        }
+    }
+
+    /**
+     * Resizable-array implementation of the {@link PrimitiveList.OfFloat} interface.
+     * Elements are stored unboxed in a {@code float[]} which grows by half of its
+     * current length whenever an insertion would overflow it, so appends run in
+     * amortized constant time. The {@code getFloat}, {@code setFloat}, {@code iteratorFloat}
+     * and {@code listIteratorFloat} operations run in constant time.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.ArrayList}
+     */
+    public static class OfFloat extends PrimitiveAbstractList.OfFloat implements RandomAccess, Cloneable {
+        private static final float[] EMPTY_ELEMENTDATA = {};
+
+        /**
+         * The array buffer into which the elements are stored. Only the first
+         * {@link #size} slots are live.
+         */
+        transient float[] elementData;
+
+        /**
+         * The number of elements this list contains.
+         */
+        private int size;
+
+        /**
+         * Constructs an empty list with the specified initial capacity.
+         * @param initialCapacity the initial capacity of the list
+         * @throws IllegalArgumentException if the specified initial capacity is negative
+         */
+        public OfFloat(int initialCapacity) {
+            if(initialCapacity > 0) elementData = new float[initialCapacity];
+            else if(initialCapacity == 0) elementData = EMPTY_ELEMENTDATA;
+            else throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+
+        /**
+         * Constructs an empty list with an initial capacity of ten.
+         */
+        public OfFloat() {
+            elementData = EMPTY_ELEMENTDATA;
+        }
+
+        /**
+         * Constructs a list containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this list
+         */
+        public OfFloat(PrimitiveCollection.OfFloat c) {
+            float[] a = c.toArrayFloat();
+            elementData = a.length == 0 ? EMPTY_ELEMENTDATA : a;
+            size = a.length;
+        }
+
+        /**
+         * Constructs a list containing {@code len} elements of the specified array,
+         * starting at {@code off}.
+         * @param a the array whose elements are to be placed into this list
+         * @param off the index of the first element to copy
+         * @param len the number of elements to copy
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfFloat(float[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            elementData = Arrays.copyOfRange(a, off, off + len);
+            size = len;
+        }
+
+        /**
+         * Trims the capacity of this list to be the list's current size.
+         */
+        public void trimToSize() {
+            modCount++;
+            if(size < elementData.length) elementData = size == 0 ? EMPTY_ELEMENTDATA : Arrays.copyOf(elementData, size);
+        }
+
+        /**
+         * Increases the capacity of this list, if necessary, to ensure that it can
+         * hold at least the number of elements specified by the minimum capacity argument.
+         * @param minCapacity the desired minimum capacity
+         */
+        public void ensureCapacity(int minCapacity) {
+            if(minCapacity > elementData.length) {
+                modCount++;
+                grow(minCapacity);
+            }
+        }
+
+        private float[] grow(int minCapacity) {
+            int oldCapacity = elementData.length;
+            if(oldCapacity > 0) {
+                int newCapacity = newLength(oldCapacity, minCapacity - oldCapacity, oldCapacity >> 1);
+                return elementData = Arrays.copyOf(elementData, newCapacity);
+            }
+            return elementData = new float[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+
+        private float[] grow() { return grow(size + 1); }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsFloat(float value) { return indexOfRange(value, 0, size) >= 0; }
+
+        @Override
+        public int indexOfFloat(float e) { return indexOfRange(e, 0, size); }
+
+        int indexOfRange(float e, int start, int end) {
+            float[] es = elementData;
+            for(int i = start; i < end; i++) if((es[i] == e || java.lang.Float.isNaN(es[i]) && java.lang.Float.isNaN(e))) return i;
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfFloat(float e) { return lastIndexOfRange(e, 0, size); }
+
+        int lastIndexOfRange(float e, int start, int end) {
+            float[] es = elementData;
+            for(int i = end - 1; i >= start; i--) if((es[i] == e || java.lang.Float.isNaN(es[i]) && java.lang.Float.isNaN(e))) return i;
+            return -1;
+        }
+
+        @Override
+        public float getFloat(int index) {
+            Objects.checkIndex(index, size);
+            return elementData[index];
+        }
+
+        @Override
+        public float getFirstFloat() {
+            if(size == 0) throw new NoSuchElementException();
+            return elementData[0];
+        }
+
+        @Override
+        public float getLastFloat() {
+            int last = size - 1;
+            if(last < 0) throw new NoSuchElementException();
+            return elementData[last];
+        }
+
+        /**
+         * Returns a shallow copy of this list.
+         * @return a clone of this list
+         */
+        @Override
+        public PrimitiveArrayList.OfFloat clone() {
+            try {
+                var v = (PrimitiveArrayList.OfFloat) super.clone();
+                v.elementData = Arrays.copyOf(elementData, size);
+                v.modCount = 0;
+                return v;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public float[] toArrayFloat() { return Arrays.copyOf(elementData, size); }
+
+        @Override
+        public float[] toArrayFloat(float[] array) {
+            if(array.length < size) return Arrays.copyOf(elementData, size);
+            System.arraycopy(elementData, 0, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public java.lang.Float[] toArray() {
+            float[] es = elementData;
+            java.lang.Float[] r = new java.lang.Float[size];
+            for(int i = 0; i < r.length; i++) r[i] = es[i];
+            return r;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public float setFloat(int index, float e) {
+            Objects.checkIndex(index, size);
+            float oldValue = elementData[index];
+            elementData[index] = e;
+            return oldValue;
+        }
+
+        @Override
+        public boolean addFloat(float e) {
+            modCount++;
+            int s = size;
+            float[] es = elementData;
+            if(s == es.length) es = grow();
+            es[s] = e;
+            size = s + 1;
+            return true;
+        }
+
+        @Override
+        public void addFloat(int index, float e) {
+            rangeCheckForAdd(index);
+            modCount++;
+            final int s;
+            float[] es;
+            if((s = size) == (es = elementData).length) es = grow();
+            System.arraycopy(es, index, es, index + 1, s - index);
+            es[index] = e;
+            size = s + 1;
+        }
+
+        @Override
+        public float removeElementAtIndex(int i) {
+            Objects.checkIndex(i, size);
+            float oldValue = elementData[i];
+            fastRemove(elementData, i);
+            return oldValue;
+        }
+
+        @Override
+        public float removeFirstFloat() {
+            if(size == 0) throw new NoSuchElementException();
+            float oldValue = elementData[0];
+            fastRemove(elementData, 0);
+            return oldValue;
+        }
+
+        @Override
+        public float removeLastFloat() {
+            int last = size - 1;
+            if(last < 0) throw new NoSuchElementException();
+            float oldValue = elementData[last];
+            fastRemove(elementData, last);
+            return oldValue;
+        }
+
+        @Override
+        public boolean removeFloat(float e) {
+            int i = indexOfRange(e, 0, size);
+            if(i < 0) return false;
+            fastRemove(elementData, i);
+            return true;
+        }
+
+        private void fastRemove(float[] es, int i) {
+            modCount++;
+            final int newSize;
+            if((newSize = size - 1) > i) System.arraycopy(es, i + 1, es, i, newSize - i);
+            size = newSize;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            size = 0;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllFloat(PrimitiveCollection.OfFloat c) {
+            if(c instanceof PrimitiveArrayList.OfFloat l) return addAllFloat(size, l.elementData, 0, l.size);
+            float[] a = c.toArrayFloat();
+            return addAllFloat(size, a, 0, a.length);
+        }
+
+        @Override
+        public boolean addAllFloat(int index, PrimitiveCollection.OfFloat c) {
+            rangeCheckForAdd(index);
+            if(c instanceof PrimitiveArrayList.OfFloat l) return addAllFloat(index, l.elementData, 0, l.size);
+            float[] a = c.toArrayFloat();
+            return addAllFloat(index, a, 0, a.length);
+        }
+
+        /**
+         * Appends {@code len} elements of the specified array, starting at {@code off},
+         * to the end of this list. The elements are copied with a single
+         * {@link System#arraycopy(Object, int, Object, int, int) arraycopy}.
+         * @param a the array containing the elements to be added
+         * @param off the index of the first element of {@code a} to add
+         * @param len the number of elements to add
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean addAllFloat(float[] a, int off, int len) { return addAllFloat(size, a, off, len); }
+
+        /**
+         * Inserts {@code len} elements of the specified array, starting at {@code off},
+         * into this list at the specified position. Elements currently at or after
+         * that position are shifted right with a single
+         * {@link System#arraycopy(Object, int, Object, int, int) arraycopy}.
+         * @param index index at which to insert the first element
+         * @param a the array containing the elements to be added
+         * @param off the index of the first element of {@code a} to add
+         * @param len the number of elements to add
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException if {@code index} is out of range
+         *         or the range is out of the bounds of {@code a}
+         */
+        public boolean addAllFloat(int index, float[] a, int off, int len) {
+            rangeCheckForAdd(index);
+            Objects.checkFromIndexSize(off, len, a.length);
+            modCount++;
+            if(len == 0) return false;
+            float[] es = elementData;
+            final int s = size;
+            if(len > es.length - s) es = grow(s + len);
+            int numMoved = s - index;
+            if(numMoved > 0) System.arraycopy(es, index, es, index + len, numMoved);
+            System.arraycopy(a, off, es, index, len);
+            size = s + len;
+            return true;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if(fromIndex > toIndex) throw new IndexOutOfBoundsException("From Index: " + fromIndex + " > To Index: " + toIndex);
+            modCount++;
+            System.arraycopy(elementData, toIndex, elementData, fromIndex, size - toIndex);
+            size -= toIndex - fromIndex;
+        }
+
+        @Override
+        public boolean removeAllFloat(PrimitiveCollection.OfFloat c) {
+            Objects.requireNonNull(c);
+            return removeIfFloat(c::containsFloat, 0, size);
+        }
+
+        @Override
+        public boolean retainAllFloat(PrimitiveCollection.OfFloat c) {
+            Objects.requireNonNull(c);
+            return removeIfFloat(e -> !c.containsFloat(e), 0, size);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfFloat(e -> c.contains(e), 0, size);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfFloat(e -> !c.contains(e), 0, size);
+        }
+
+        @Override
+        public boolean removeIfFloat(PrimitivePredicate.OfFloat filter) { return removeIfFloat(filter, 0, size); }
+
+        boolean removeIfFloat(PrimitivePredicate.OfFloat filter, int i, final int end) {
+            Objects.requireNonNull(filter);
+            int expectedModCount = modCount;
+            final float[] es = elementData;
+            // optimize for an initial run of survivors
+            for(; i < end && !filter.testFloat(es[i]); i++);
+            if(i == end) {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return false;
+            }
+            // test every element before moving any, so a throwing predicate leaves the list as it was
+            final int beg = i;
+            final long[] deathRow = nBits(end - beg);
+            deathRow[0] = 1L;
+            for(i = beg + 1; i < end; i++) if(filter.testFloat(es[i])) setBit(deathRow, i - beg);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+            int w = beg;
+            for(i = beg; i < end; i++) if(isClear(deathRow, i - beg)) es[w++] = es[i];
+            System.arraycopy(es, end, es, w, size - end);
+            size -= end - w;
+            return true;
+        }
+
+        @Override
+        public void replaceAllFloat(PrimitiveFunction.ToFloat.OfFloat operator) {
+            Objects.requireNonNull(operator);
+            final int expectedModCount = modCount;
+            final float[] es = elementData;
+            for(int i = 0; modCount == expectedModCount && i < size; i++) es[i] = operator.applyFloat(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+        }
+
+        @Override
+        public void sortFloat(PrimitiveComparator.OfFloat c) {
+            final int expectedModCount = modCount;
+            jdk.prim.util.sort.dualpivot.OfFloat.sort(elementData, c == null ? PrimitiveComparator.naturalOrderFloat() : c, 0, 0, size);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfFloat action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final float[] es = elementData;
+            final int size = this.size;
+            for(int i = 0; modCount == expectedModCount && i < size; i++) action.acceptFloat(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfFloat iteratorFloat() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfFloat listIteratorFloat() { return new ListItr(0); }
+
+        @Override
+        public PrimitiveListIterator.OfFloat listIteratorFloat(int from) {
+            rangeCheckForAdd(from);
+            return new ListItr(from);
+        }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this list. The spliterator splits by index and reports
+         * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+         * @return a spliterator over the elements in this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfFloat spliteratorFloat() { return new Spliter(0, -1, 0); }
+
+        private class Itr implements PrimitiveIterator.OfFloat {
+            int cursor;       // index of next element to return
+            int lastRet = -1; // index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public float nextFloat() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                float[] es = PrimitiveArrayList.OfFloat.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return es[lastRet = i];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfFloat.this.removeElementAtIndex(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfFloat {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) { cursor = index; }
+
+            public boolean hasNext() { return cursor != size; }
+
+            public float nextFloat() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                float[] es = PrimitiveArrayList.OfFloat.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return es[lastRet = i];
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public float previousFloat() {
+                checkForComodification();
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                float[] es = PrimitiveArrayList.OfFloat.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i;
+                return es[lastRet = i];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfFloat.this.removeElementAtIndex(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void setFloat(float e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfFloat.this.setFloat(lastRet, e);
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void addFloat(float e) {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    PrimitiveArrayList.OfFloat.this.addFloat(i, e);
+                    cursor = i + 1;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfFloat {
+            private int index;            // current index, modified on advance/split
+            private int fence;            // -1 until used; then one past last index
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfFloat action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                if(i < hi) {
+                    index = i + 1;
+                    action.acceptFloat(elementData[i]);
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfFloat action) {
+                int i, hi, mc; // hoist accesses and checks from loop
+                float[] a;
+                if(action == null) throw new NullPointerException();
+                if((a = elementData) != null) {
+                    if((hi = fence) < 0) {
+                        mc = modCount;
+                        hi = size;
+                    } else mc = expectedModCount;
+                    if((i = index) >= 0 && (index = hi) <= a.length) {
+                        for(; i < hi; ++i) action.acceptFloat(a[i]);
+                        if(modCount == mc) return;
+                    }
+                }
+                throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return getFence() - index; }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(o instanceof PrimitiveArrayList.OfFloat other) {
+                final int expectedModCount = modCount;
+                boolean equal = other.size == size && Arrays.equals(elementData, 0, size, other.elementData, 0, size);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return equal;
+            }
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            final int expectedModCount = modCount;
+            final float[] es = elementData;
+            int hashCode = 1;
+            for(int i = 0; i < size; i++) hashCode = 31 * hashCode + java.lang.Float.hashCode(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            return hashCode;
+        }
+    }
+
+    /**
+     * Resizable-array implementation of the {@link PrimitiveList.OfChar} interface.
+     * Elements are stored unboxed in a {@code char[]} which grows by half of its
+     * current length whenever an insertion would overflow it, so appends run in
+     * amortized constant time. The {@code getChar}, {@code setChar}, {@code iteratorChar}
+     * and {@code listIteratorChar} operations run in constant time.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.ArrayList}
+     */
+    public static class OfChar extends PrimitiveAbstractList.OfChar implements RandomAccess, Cloneable {
+        private static final char[] EMPTY_ELEMENTDATA = {};
+
+        /**
+         * The array buffer into which the elements are stored. Only the first
+         * {@link #size} slots are live.
+         */
+        transient char[] elementData;
+
+        /**
+         * The number of elements this list contains.
+         */
+        private int size;
+
+        /**
+         * Constructs an empty list with the specified initial capacity.
+         * @param initialCapacity the initial capacity of the list
+         * @throws IllegalArgumentException if the specified initial capacity is negative
+         */
+        public OfChar(int initialCapacity) {
+            if(initialCapacity > 0) elementData = new char[initialCapacity];
+            else if(initialCapacity == 0) elementData = EMPTY_ELEMENTDATA;
+            else throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+
+        /**
+         * Constructs an empty list with an initial capacity of ten.
+         */
+        public OfChar() {
+            elementData = EMPTY_ELEMENTDATA;
+        }
+
+        /**
+         * Constructs a list containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this list
+         */
+        public OfChar(PrimitiveCollection.OfChar c) {
+            char[] a = c.toArrayChar();
+            elementData = a.length == 0 ? EMPTY_ELEMENTDATA : a;
+            size = a.length;
+        }
+
+        /**
+         * Constructs a list containing {@code len} elements of the specified array,
+         * starting at {@code off}.
+         * @param a the array whose elements are to be placed into this list
+         * @param off the index of the first element to copy
+         * @param len the number of elements to copy
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfChar(char[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            elementData = Arrays.copyOfRange(a, off, off + len);
+            size = len;
+        }
+
+        /**
+         * Trims the capacity of this list to be the list's current size.
+         */
+        public void trimToSize() {
+            modCount++;
+            if(size < elementData.length) elementData = size == 0 ? EMPTY_ELEMENTDATA : Arrays.copyOf(elementData, size);
+        }
+
+        /**
+         * Increases the capacity of this list, if necessary, to ensure that it can
+         * hold at least the number of elements specified by the minimum capacity argument.
+         * @param minCapacity the desired minimum capacity
+         */
+        public void ensureCapacity(int minCapacity) {
+            if(minCapacity > elementData.length) {
+                modCount++;
+                grow(minCapacity);
+            }
+        }
+
+        private char[] grow(int minCapacity) {
+            int oldCapacity = elementData.length;
+            if(oldCapacity > 0) {
+                int newCapacity = newLength(oldCapacity, minCapacity - oldCapacity, oldCapacity >> 1);
+                return elementData = Arrays.copyOf(elementData, newCapacity);
+            }
+            return elementData = new char[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+
+        private char[] grow() { return grow(size + 1); }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsChar(char value) { return indexOfRange(value, 0, size) >= 0; }
+
+        @Override
+        public int indexOfChar(char e) { return indexOfRange(e, 0, size); }
+
+        int indexOfRange(char e, int start, int end) {
+            char[] es = elementData;
+            for(int i = start; i < end; i++) if(es[i] == e) return i;
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfChar(char e) { return lastIndexOfRange(e, 0, size); }
+
+        int lastIndexOfRange(char e, int start, int end) {
+            char[] es = elementData;
+            for(int i = end - 1; i >= start; i--) if(es[i] == e) return i;
+            return -1;
+        }
+
+        @Override
+        public char getChar(int index) {
+            Objects.checkIndex(index, size);
+            return elementData[index];
+        }
+
+        @Override
+        public char getFirstChar() {
+            if(size == 0) throw new NoSuchElementException();
+            return elementData[0];
+        }
+
+        @Override
+        public char getLastChar() {
+            int last = size - 1;
+            if(last < 0) throw new NoSuchElementException();
+            return elementData[last];
+        }
+
+        /**
+         * Returns a shallow copy of this list.
+         * @return a clone of this list
+         */
+        @Override
+        public PrimitiveArrayList.OfChar clone() {
+            try {
+                var v = (PrimitiveArrayList.OfChar) super.clone();
+                v.elementData = Arrays.copyOf(elementData, size);
+                v.modCount = 0;
+                return v;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public char[] toArrayChar() { return Arrays.copyOf(elementData, size); }
+
+        @Override
+        public char[] toArrayChar(char[] array) {
+            if(array.length < size) return Arrays.copyOf(elementData, size);
+            System.arraycopy(elementData, 0, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public java.lang.Character[] toArray() {
+            char[] es = elementData;
+            java.lang.Character[] r = new java.lang.Character[size];
+            for(int i = 0; i < r.length; i++) r[i] = es[i];
+            return r;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public char setChar(int index, char e) {
+            Objects.checkIndex(index, size);
+            char oldValue = elementData[index];
+            elementData[index] = e;
+            return oldValue;
+        }
+
+        @Override
+        public boolean addChar(char e) {
+            modCount++;
+            int s = size;
+            char[] es = elementData;
+            if(s == es.length) es = grow();
+            es[s] = e;
+            size = s + 1;
+            return true;
+        }
+
+        @Override
+        public void addChar(int index, char e) {
+            rangeCheckForAdd(index);
+            modCount++;
+            final int s;
+            char[] es;
+            if((s = size) == (es = elementData).length) es = grow();
+            System.arraycopy(es, index, es, index + 1, s - index);
+            es[index] = e;
+            size = s + 1;
+        }
+
+        @Override
+        public char removeElementAtIndex(int i) {
+            Objects.checkIndex(i, size);
+            char oldValue = elementData[i];
+            fastRemove(elementData, i);
+            return oldValue;
+        }
+
+        @Override
+        public char removeFirstChar() {
+            if(size == 0) throw new NoSuchElementException();
+            char oldValue = elementData[0];
+            fastRemove(elementData, 0);
+            return oldValue;
+        }
+
+        @Override
+        public char removeLastChar() {
+            int last = size - 1;
+            if(last < 0) throw new NoSuchElementException();
+            char oldValue = elementData[last];
+            fastRemove(elementData, last);
+            return oldValue;
+        }
+
+        @Override
+        public boolean removeChar(char e) {
+            int i = indexOfRange(e, 0, size);
+            if(i < 0) return false;
+            fastRemove(elementData, i);
+            return true;
+        }
+
+        private void fastRemove(char[] es, int i) {
+            modCount++;
+            final int newSize;
+            if((newSize = size - 1) > i) System.arraycopy(es, i + 1, es, i, newSize - i);
+            size = newSize;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            size = 0;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllChar(PrimitiveCollection.OfChar c) {
+            if(c instanceof PrimitiveArrayList.OfChar l) return addAllChar(size, l.elementData, 0, l.size);
+            char[] a = c.toArrayChar();
+            return addAllChar(size, a, 0, a.length);
+        }
+
+        @Override
+        public boolean addAllChar(int index, PrimitiveCollection.OfChar c) {
+            rangeCheckForAdd(index);
+            if(c instanceof PrimitiveArrayList.OfChar l) return addAllChar(index, l.elementData, 0, l.size);
+            char[] a = c.toArrayChar();
+            return addAllChar(index, a, 0, a.length);
+        }
+
+        /**
+         * Appends {@code len} elements of the specified array, starting at {@code off},
+         * to the end of this list. The elements are copied with a single
+         * {@link System#arraycopy(Object, int, Object, int, int) arraycopy}.
+         * @param a the array containing the elements to be added
+         * @param off the index of the first element of {@code a} to add
+         * @param len the number of elements to add
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean addAllChar(char[] a, int off, int len) { return addAllChar(size, a, off, len); }
+
+        /**
+         * Inserts {@code len} elements of the specified array, starting at {@code off},
+         * into this list at the specified position. Elements currently at or after
+         * that position are shifted right with a single
+         * {@link System#arraycopy(Object, int, Object, int, int) arraycopy}.
+         * @param index index at which to insert the first element
+         * @param a the array containing the elements to be added
+         * @param off the index of the first element of {@code a} to add
+         * @param len the number of elements to add
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException if {@code index} is out of range
+         *         or the range is out of the bounds of {@code a}
+         */
+        public boolean addAllChar(int index, char[] a, int off, int len) {
+            rangeCheckForAdd(index);
+            Objects.checkFromIndexSize(off, len, a.length);
+            modCount++;
+            if(len == 0) return false;
+            char[] es = elementData;
+            final int s = size;
+            if(len > es.length - s) es = grow(s + len);
+            int numMoved = s - index;
+            if(numMoved > 0) System.arraycopy(es, index, es, index + len, numMoved);
+            System.arraycopy(a, off, es, index, len);
+            size = s + len;
+            return true;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if(fromIndex > toIndex) throw new IndexOutOfBoundsException("From Index: " + fromIndex + " > To Index: " + toIndex);
+            modCount++;
+            System.arraycopy(elementData, toIndex, elementData, fromIndex, size - toIndex);
+            size -= toIndex - fromIndex;
+        }
+
+        @Override
+        public boolean removeAllChar(PrimitiveCollection.OfChar c) {
+            Objects.requireNonNull(c);
+            return removeIfChar(c::containsChar, 0, size);
+        }
+
+        @Override
+        public boolean retainAllChar(PrimitiveCollection.OfChar c) {
+            Objects.requireNonNull(c);
+            return removeIfChar(e -> !c.containsChar(e), 0, size);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfChar(e -> c.contains(e), 0, size);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfChar(e -> !c.contains(e), 0, size);
+        }
+
+        @Override
+        public boolean removeIfChar(PrimitivePredicate.OfChar filter) { return removeIfChar(filter, 0, size); }
+
+        boolean removeIfChar(PrimitivePredicate.OfChar filter, int i, final int end) {
+            Objects.requireNonNull(filter);
+            int expectedModCount = modCount;
+            final char[] es = elementData;
+            // optimize for an initial run of survivors
+            for(; i < end && !filter.testChar(es[i]); i++);
+            if(i == end) {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return false;
+            }
+            // test every element before moving any, so a throwing predicate leaves the list as it was
+            final int beg = i;
+            final long[] deathRow = nBits(end - beg);
+            deathRow[0] = 1L;
+            for(i = beg + 1; i < end; i++) if(filter.testChar(es[i])) setBit(deathRow, i - beg);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+            int w = beg;
+            for(i = beg; i < end; i++) if(isClear(deathRow, i - beg)) es[w++] = es[i];
+            System.arraycopy(es, end, es, w, size - end);
+            size -= end - w;
+            return true;
+        }
+
+        @Override
+        public void replaceAllChar(PrimitiveFunction.ToChar.OfChar operator) {
+            Objects.requireNonNull(operator);
+            final int expectedModCount = modCount;
+            final char[] es = elementData;
+            for(int i = 0; modCount == expectedModCount && i < size; i++) es[i] = operator.applyChar(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+        }
+
+        @Override
+        public void sortChar(PrimitiveComparator.OfChar c) {
+            final int expectedModCount = modCount;
+            jdk.prim.util.sort.dualpivot.OfChar.sort(elementData, c == null ? PrimitiveComparator.naturalOrderChar() : c, 0, 0, size);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfChar action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final char[] es = elementData;
+            final int size = this.size;
+            for(int i = 0; modCount == expectedModCount && i < size; i++) action.acceptChar(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfChar iteratorChar() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfChar listIteratorChar() { return new ListItr(0); }
+
+        @Override
+        public PrimitiveListIterator.OfChar listIteratorChar(int from) {
+            rangeCheckForAdd(from);
+            return new ListItr(from);
+        }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this list. The spliterator splits by index and reports
+         * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+         * @return a spliterator over the elements in this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfChar spliteratorChar() { return new Spliter(0, -1, 0); }
+
+        private class Itr implements PrimitiveIterator.OfChar {
+            int cursor;       // index of next element to return
+            int lastRet = -1; // index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public char nextChar() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                char[] es = PrimitiveArrayList.OfChar.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return es[lastRet = i];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfChar.this.removeElementAtIndex(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfChar {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) { cursor = index; }
+
+            public boolean hasNext() { return cursor != size; }
+
+            public char nextChar() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                char[] es = PrimitiveArrayList.OfChar.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return es[lastRet = i];
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public char previousChar() {
+                checkForComodification();
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                char[] es = PrimitiveArrayList.OfChar.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i;
+                return es[lastRet = i];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfChar.this.removeElementAtIndex(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void setChar(char e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfChar.this.setChar(lastRet, e);
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void addChar(char e) {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    PrimitiveArrayList.OfChar.this.addChar(i, e);
+                    cursor = i + 1;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfChar {
+            private int index;            // current index, modified on advance/split
+            private int fence;            // -1 until used; then one past last index
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfChar action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                if(i < hi) {
+                    index = i + 1;
+                    action.acceptChar(elementData[i]);
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfChar action) {
+                int i, hi, mc; // hoist accesses and checks from loop
+                char[] a;
+                if(action == null) throw new NullPointerException();
+                if((a = elementData) != null) {
+                    if((hi = fence) < 0) {
+                        mc = modCount;
+                        hi = size;
+                    } else mc = expectedModCount;
+                    if((i = index) >= 0 && (index = hi) <= a.length) {
+                        for(; i < hi; ++i) action.acceptChar(a[i]);
+                        if(modCount == mc) return;
+                    }
+                }
+                throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return getFence() - index; }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(o instanceof PrimitiveArrayList.OfChar other) {
+                final int expectedModCount = modCount;
+                boolean equal = other.size == size && Arrays.equals(elementData, 0, size, other.elementData, 0, size);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return equal;
+            }
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            final int expectedModCount = modCount;
+            final char[] es = elementData;
+            int hashCode = 1;
+            for(int i = 0; i < size; i++) hashCode = 31 * hashCode + java.lang.Character.hashCode(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            return hashCode;
+        }
+    }
+
+    /**
+     * Resizable-array implementation of the {@link PrimitiveList.OfShort} interface.
+     * Elements are stored unboxed in a {@code short[]} which grows by half of its
+     * current length whenever an insertion would overflow it, so appends run in
+     * amortized constant time. The {@code getShort}, {@code setShort}, {@code iteratorShort}
+     * and {@code listIteratorShort} operations run in constant time.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.ArrayList}
+     */
+    public static class OfShort extends PrimitiveAbstractList.OfShort implements RandomAccess, Cloneable {
+        private static final short[] EMPTY_ELEMENTDATA = {};
+
+        /**
+         * The array buffer into which the elements are stored. Only the first
+         * {@link #size} slots are live.
+         */
+        transient short[] elementData;
+
+        /**
+         * The number of elements this list contains.
+         */
+        private int size;
+
+        /**
+         * Constructs an empty list with the specified initial capacity.
+         * @param initialCapacity the initial capacity of the list
+         * @throws IllegalArgumentException if the specified initial capacity is negative
+         */
+        public OfShort(int initialCapacity) {
+            if(initialCapacity > 0) elementData = new short[initialCapacity];
+            else if(initialCapacity == 0) elementData = EMPTY_ELEMENTDATA;
+            else throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+
+        /**
+         * Constructs an empty list with an initial capacity of ten.
+         */
+        public OfShort() {
+            elementData = EMPTY_ELEMENTDATA;
+        }
+
+        /**
+         * Constructs a list containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this list
+         */
+        public OfShort(PrimitiveCollection.OfShort c) {
+            short[] a = c.toArrayShort();
+            elementData = a.length == 0 ? EMPTY_ELEMENTDATA : a;
+            size = a.length;
+        }
+
+        /**
+         * Constructs a list containing {@code len} elements of the specified array,
+         * starting at {@code off}.
+         * @param a the array whose elements are to be placed into this list
+         * @param off the index of the first element to copy
+         * @param len the number of elements to copy
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfShort(short[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            elementData = Arrays.copyOfRange(a, off, off + len);
+            size = len;
+        }
+
+        /**
+         * Trims the capacity of this list to be the list's current size.
+         */
+        public void trimToSize() {
+            modCount++;
+            if(size < elementData.length) elementData = size == 0 ? EMPTY_ELEMENTDATA : Arrays.copyOf(elementData, size);
+        }
+
+        /**
+         * Increases the capacity of this list, if necessary, to ensure that it can
+         * hold at least the number of elements specified by the minimum capacity argument.
+         * @param minCapacity the desired minimum capacity
+         */
+        public void ensureCapacity(int minCapacity) {
+            if(minCapacity > elementData.length) {
+                modCount++;
+                grow(minCapacity);
+            }
+        }
+
+        private short[] grow(int minCapacity) {
+            int oldCapacity = elementData.length;
+            if(oldCapacity > 0) {
+                int newCapacity = newLength(oldCapacity, minCapacity - oldCapacity, oldCapacity >> 1);
+                return elementData = Arrays.copyOf(elementData, newCapacity);
+            }
+            return elementData = new short[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+
+        private short[] grow() { return grow(size + 1); }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsShort(short value) { return indexOfRange(value, 0, size) >= 0; }
+
+        @Override
+        public int indexOfShort(short e) { return indexOfRange(e, 0, size); }
+
+        int indexOfRange(short e, int start, int end) {
+            short[] es = elementData;
+            for(int i = start; i < end; i++) if(es[i] == e) return i;
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfShort(short e) { return lastIndexOfRange(e, 0, size); }
+
+        int lastIndexOfRange(short e, int start, int end) {
+            short[] es = elementData;
+            for(int i = end - 1; i >= start; i--) if(es[i] == e) return i;
+            return -1;
+        }
+
+        @Override
+        public short getShort(int index) {
+            Objects.checkIndex(index, size);
+            return elementData[index];
+        }
+
+        @Override
+        public short getFirstShort() {
+            if(size == 0) throw new NoSuchElementException();
+            return elementData[0];
+        }
+
+        @Override
+        public short getLastShort() {
+            int last = size - 1;
+            if(last < 0) throw new NoSuchElementException();
+            return elementData[last];
+        }
+
+        /**
+         * Returns a shallow copy of this list.
+         * @return a clone of this list
+         */
+        @Override
+        public PrimitiveArrayList.OfShort clone() {
+            try {
+                var v = (PrimitiveArrayList.OfShort) super.clone();
+                v.elementData = Arrays.copyOf(elementData, size);
+                v.modCount = 0;
+                return v;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public short[] toArrayShort() { return Arrays.copyOf(elementData, size); }
+
+        @Override
+        public short[] toArrayShort(short[] array) {
+            if(array.length < size) return Arrays.copyOf(elementData, size);
+            System.arraycopy(elementData, 0, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public java.lang.Short[] toArray() {
+            short[] es = elementData;
+            java.lang.Short[] r = new java.lang.Short[size];
+            for(int i = 0; i < r.length; i++) r[i] = es[i];
+            return r;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public short setShort(int index, short e) {
+            Objects.checkIndex(index, size);
+            short oldValue = elementData[index];
+            elementData[index] = e;
+            return oldValue;
+        }
+
+        @Override
+        public boolean addShort(short e) {
+            modCount++;
+            int s = size;
+            short[] es = elementData;
+            if(s == es.length) es = grow();
+            es[s] = e;
+            size = s + 1;
+            return true;
+        }
+
+        @Override
+        public void addShort(int index, short e) {
+            rangeCheckForAdd(index);
+            modCount++;
+            final int s;
+            short[] es;
+            if((s = size) == (es = elementData).length) es = grow();
+            System.arraycopy(es, index, es, index + 1, s - index);
+            es[index] = e;
+            size = s + 1;
+        }
+
+        @Override
+        public short removeElementAtIndex(int i) {
+            Objects.checkIndex(i, size);
+            short oldValue = elementData[i];
+            fastRemove(elementData, i);
+            return oldValue;
+        }
+
+        @Override
+        public short removeFirstShort() {
+            if(size == 0) throw new NoSuchElementException();
+            short oldValue = elementData[0];
+            fastRemove(elementData, 0);
+            return oldValue;
+        }
+
+        @Override
+        public short removeLastShort() {
+            int last = size - 1;
+            if(last < 0) throw new NoSuchElementException();
+            short oldValue = elementData[last];
+            fastRemove(elementData, last);
+            return oldValue;
+        }
+
+        @Override
+        public boolean removeShort(short e) {
+            int i = indexOfRange(e, 0, size);
+            if(i < 0) return false;
+            fastRemove(elementData, i);
+            return true;
+        }
+
+        private void fastRemove(short[] es, int i) {
+            modCount++;
+            final int newSize;
+            if((newSize = size - 1) > i) System.arraycopy(es, i + 1, es, i, newSize - i);
+            size = newSize;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            size = 0;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllShort(PrimitiveCollection.OfShort c) {
+            if(c instanceof PrimitiveArrayList.OfShort l) return addAllShort(size, l.elementData, 0, l.size);
+            short[] a = c.toArrayShort();
+            return addAllShort(size, a, 0, a.length);
+        }
+
+        @Override
+        public boolean addAllShort(int index, PrimitiveCollection.OfShort c) {
+            rangeCheckForAdd(index);
+            if(c instanceof PrimitiveArrayList.OfShort l) return addAllShort(index, l.elementData, 0, l.size);
+            short[] a = c.toArrayShort();
+            return addAllShort(index, a, 0, a.length);
+        }
+
+        /**
+         * Appends {@code len} elements of the specified array, starting at {@code off},
+         * to the end of this list. The elements are copied with a single
+         * {@link System#arraycopy(Object, int, Object, int, int) arraycopy}.
+         * @param a the array containing the elements to be added
+         * @param off the index of the first element of {@code a} to add
+         * @param len the number of elements to add
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean addAllShort(short[] a, int off, int len) { return addAllShort(size, a, off, len); }
+
+        /**
+         * Inserts {@code len} elements of the specified array, starting at {@code off},
+         * into this list at the specified position. Elements currently at or after
+         * that position are shifted right with a single
+         * {@link System#arraycopy(Object, int, Object, int, int) arraycopy}.
+         * @param index index at which to insert the first element
+         * @param a the array containing the elements to be added
+         * @param off the index of the first element of {@code a} to add
+         * @param len the number of elements to add
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException if {@code index} is out of range
+         *         or the range is out of the bounds of {@code a}
+         */
+        public boolean addAllShort(int index, short[] a, int off, int len) {
+            rangeCheckForAdd(index);
+            Objects.checkFromIndexSize(off, len, a.length);
+            modCount++;
+            if(len == 0) return false;
+            short[] es = elementData;
+            final int s = size;
+            if(len > es.length - s) es = grow(s + len);
+            int numMoved = s - index;
+            if(numMoved > 0) System.arraycopy(es, index, es, index + len, numMoved);
+            System.arraycopy(a, off, es, index, len);
+            size = s + len;
+            return true;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if(fromIndex > toIndex) throw new IndexOutOfBoundsException("From Index: " + fromIndex + " > To Index: " + toIndex);
+            modCount++;
+            System.arraycopy(elementData, toIndex, elementData, fromIndex, size - toIndex);
+            size -= toIndex - fromIndex;
+        }
+
+        @Override
+        public boolean removeAllShort(PrimitiveCollection.OfShort c) {
+            Objects.requireNonNull(c);
+            return removeIfShort(c::containsShort, 0, size);
+        }
+
+        @Override
+        public boolean retainAllShort(PrimitiveCollection.OfShort c) {
+            Objects.requireNonNull(c);
+            return removeIfShort(e -> !c.containsShort(e), 0, size);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfShort(e -> c.contains(e), 0, size);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfShort(e -> !c.contains(e), 0, size);
+        }
+
+        @Override
+        public boolean removeIfShort(PrimitivePredicate.OfShort filter) { return removeIfShort(filter, 0, size); }
+
+        boolean removeIfShort(PrimitivePredicate.OfShort filter, int i, final int end) {
+            Objects.requireNonNull(filter);
+            int expectedModCount = modCount;
+            final short[] es = elementData;
+            // optimize for an initial run of survivors
+            for(; i < end && !filter.testShort(es[i]); i++);
+            if(i == end) {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return false;
+            }
+            // test every element before moving any, so a throwing predicate leaves the list as it was
+            final int beg = i;
+            final long[] deathRow = nBits(end - beg);
+            deathRow[0] = 1L;
+            for(i = beg + 1; i < end; i++) if(filter.testShort(es[i])) setBit(deathRow, i - beg);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+            int w = beg;
+            for(i = beg; i < end; i++) if(isClear(deathRow, i - beg)) es[w++] = es[i];
+            System.arraycopy(es, end, es, w, size - end);
+            size -= end - w;
+            return true;
+        }
+
+        @Override
+        public void replaceAllShort(PrimitiveFunction.ToShort.OfShort operator) {
+            Objects.requireNonNull(operator);
+            final int expectedModCount = modCount;
+            final short[] es = elementData;
+            for(int i = 0; modCount == expectedModCount && i < size; i++) es[i] = operator.applyShort(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+        }
+
+        @Override
+        public void sortShort(PrimitiveComparator.OfShort c) {
+            final int expectedModCount = modCount;
+            jdk.prim.util.sort.dualpivot.OfShort.sort(elementData, c == null ? PrimitiveComparator.naturalOrderShort() : c, 0, 0, size);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfShort action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final short[] es = elementData;
+            final int size = this.size;
+            for(int i = 0; modCount == expectedModCount && i < size; i++) action.acceptShort(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfShort iteratorShort() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfShort listIteratorShort() { return new ListItr(0); }
+
+        @Override
+        public PrimitiveListIterator.OfShort listIteratorShort(int from) {
+            rangeCheckForAdd(from);
+            return new ListItr(from);
+        }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this list. The spliterator splits by index and reports
+         * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+         * @return a spliterator over the elements in this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfShort spliteratorShort() { return new Spliter(0, -1, 0); }
+
+        private class Itr implements PrimitiveIterator.OfShort {
+            int cursor;       // index of next element to return
+            int lastRet = -1; // index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public short nextShort() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                short[] es = PrimitiveArrayList.OfShort.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return es[lastRet = i];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfShort.this.removeElementAtIndex(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfShort {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) { cursor = index; }
+
+            public boolean hasNext() { return cursor != size; }
+
+            public short nextShort() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                short[] es = PrimitiveArrayList.OfShort.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return es[lastRet = i];
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public short previousShort() {
+                checkForComodification();
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                short[] es = PrimitiveArrayList.OfShort.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i;
+                return es[lastRet = i];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfShort.this.removeElementAtIndex(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void setShort(short e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfShort.this.setShort(lastRet, e);
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void addShort(short e) {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    PrimitiveArrayList.OfShort.this.addShort(i, e);
+                    cursor = i + 1;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfShort {
+            private int index;            // current index, modified on advance/split
+            private int fence;            // -1 until used; then one past last index
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfShort action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                if(i < hi) {
+                    index = i + 1;
+                    action.acceptShort(elementData[i]);
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfShort action) {
+                int i, hi, mc; // hoist accesses and checks from loop
+                short[] a;
+                if(action == null) throw new NullPointerException();
+                if((a = elementData) != null) {
+                    if((hi = fence) < 0) {
+                        mc = modCount;
+                        hi = size;
+                    } else mc = expectedModCount;
+                    if((i = index) >= 0 && (index = hi) <= a.length) {
+                        for(; i < hi; ++i) action.acceptShort(a[i]);
+                        if(modCount == mc) return;
+                    }
+                }
+                throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return getFence() - index; }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(o instanceof PrimitiveArrayList.OfShort other) {
+                final int expectedModCount = modCount;
+                boolean equal = other.size == size && Arrays.equals(elementData, 0, size, other.elementData, 0, size);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return equal;
+            }
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            final int expectedModCount = modCount;
+            final short[] es = elementData;
+            int hashCode = 1;
+            for(int i = 0; i < size; i++) hashCode = 31 * hashCode + java.lang.Short.hashCode(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            return hashCode;
+        }
+    }
+
+    /**
+     * Resizable-array implementation of the {@link PrimitiveList.OfByte} interface.
+     * Elements are stored unboxed in a {@code byte[]} which grows by half of its
+     * current length whenever an insertion would overflow it, so appends run in
+     * amortized constant time. The {@code getByte}, {@code setByte}, {@code iteratorByte}
+     * and {@code listIteratorByte} operations run in constant time.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.ArrayList}
+     */
+    public static class OfByte extends PrimitiveAbstractList.OfByte implements RandomAccess, Cloneable {
+        private static final byte[] EMPTY_ELEMENTDATA = {};
+
+        /**
+         * The array buffer into which the elements are stored. Only the first
+         * {@link #size} slots are live.
+         */
+        transient byte[] elementData;
+
+        /**
+         * The number of elements this list contains.
+         */
+        private int size;
+
+        /**
+         * Constructs an empty list with the specified initial capacity.
+         * @param initialCapacity the initial capacity of the list
+         * @throws IllegalArgumentException if the specified initial capacity is negative
+         */
+        public OfByte(int initialCapacity) {
+            if(initialCapacity > 0) elementData = new byte[initialCapacity];
+            else if(initialCapacity == 0) elementData = EMPTY_ELEMENTDATA;
+            else throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+
+        /**
+         * Constructs an empty list with an initial capacity of ten.
+         */
+        public OfByte() {
+            elementData = EMPTY_ELEMENTDATA;
+        }
+
+        /**
+         * Constructs a list containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this list
+         */
+        public OfByte(PrimitiveCollection.OfByte c) {
+            byte[] a = c.toArrayByte();
+            elementData = a.length == 0 ? EMPTY_ELEMENTDATA : a;
+            size = a.length;
+        }
+
+        /**
+         * Constructs a list containing {@code len} elements of the specified array,
+         * starting at {@code off}.
+         * @param a the array whose elements are to be placed into this list
+         * @param off the index of the first element to copy
+         * @param len the number of elements to copy
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfByte(byte[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            elementData = Arrays.copyOfRange(a, off, off + len);
+            size = len;
+        }
+
+        /**
+         * Trims the capacity of this list to be the list's current size.
+         */
+        public void trimToSize() {
+            modCount++;
+            if(size < elementData.length) elementData = size == 0 ? EMPTY_ELEMENTDATA : Arrays.copyOf(elementData, size);
+        }
+
+        /**
+         * Increases the capacity of this list, if necessary, to ensure that it can
+         * hold at least the number of elements specified by the minimum capacity argument.
+         * @param minCapacity the desired minimum capacity
+         */
+        public void ensureCapacity(int minCapacity) {
+            if(minCapacity > elementData.length) {
+                modCount++;
+                grow(minCapacity);
+            }
+        }
+
+        private byte[] grow(int minCapacity) {
+            int oldCapacity = elementData.length;
+            if(oldCapacity > 0) {
+                int newCapacity = newLength(oldCapacity, minCapacity - oldCapacity, oldCapacity >> 1);
+                return elementData = Arrays.copyOf(elementData, newCapacity);
+            }
+            return elementData = new byte[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+
+        private byte[] grow() { return grow(size + 1); }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsByte(byte value) { return indexOfRange(value, 0, size) >= 0; }
+
+        @Override
+        public int indexOfByte(byte e) { return indexOfRange(e, 0, size); }
+
+        int indexOfRange(byte e, int start, int end) {
+            byte[] es = elementData;
+            for(int i = start; i < end; i++) if(es[i] == e) return i;
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfByte(byte e) { return lastIndexOfRange(e, 0, size); }
+
+        int lastIndexOfRange(byte e, int start, int end) {
+            byte[] es = elementData;
+            for(int i = end - 1; i >= start; i--) if(es[i] == e) return i;
+            return -1;
+        }
+
+        @Override
+        public byte getByte(int index) {
+            Objects.checkIndex(index, size);
+            return elementData[index];
+        }
+
+        @Override
+        public byte getFirstByte() {
+            if(size == 0) throw new NoSuchElementException();
+            return elementData[0];
+        }
+
+        @Override
+        public byte getLastByte() {
+            int last = size - 1;
+            if(last < 0) throw new NoSuchElementException();
+            return elementData[last];
+        }
+
+        /**
+         * Returns a shallow copy of this list.
+         * @return a clone of this list
+         */
+        @Override
+        public PrimitiveArrayList.OfByte clone() {
+            try {
+                var v = (PrimitiveArrayList.OfByte) super.clone();
+                v.elementData = Arrays.copyOf(elementData, size);
+                v.modCount = 0;
+                return v;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public byte[] toArrayByte() { return Arrays.copyOf(elementData, size); }
+
+        @Override
+        public byte[] toArrayByte(byte[] array) {
+            if(array.length < size) return Arrays.copyOf(elementData, size);
+            System.arraycopy(elementData, 0, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public java.lang.Byte[] toArray() {
+            byte[] es = elementData;
+            java.lang.Byte[] r = new java.lang.Byte[size];
+            for(int i = 0; i < r.length; i++) r[i] = es[i];
+            return r;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public byte setByte(int index, byte e) {
+            Objects.checkIndex(index, size);
+            byte oldValue = elementData[index];
+            elementData[index] = e;
+            return oldValue;
+        }
+
+        @Override
+        public boolean addByte(byte e) {
+            modCount++;
+            int s = size;
+            byte[] es = elementData;
+            if(s == es.length) es = grow();
+            es[s] = e;
+            size = s + 1;
+            return true;
+        }
+
+        @Override
+        public void addByte(int index, byte e) {
+            rangeCheckForAdd(index);
+            modCount++;
+            final int s;
+            byte[] es;
+            if((s = size) == (es = elementData).length) es = grow();
+            System.arraycopy(es, index, es, index + 1, s - index);
+            es[index] = e;
+            size = s + 1;
+        }
+
+        @Override
+        public byte removeElementAtIndex(int i) {
+            Objects.checkIndex(i, size);
+            byte oldValue = elementData[i];
+            fastRemove(elementData, i);
+            return oldValue;
+        }
+
+        @Override
+        public byte removeFirstByte() {
+            if(size == 0) throw new NoSuchElementException();
+            byte oldValue = elementData[0];
+            fastRemove(elementData, 0);
+            return oldValue;
+        }
+
+        @Override
+        public byte removeLastByte() {
+            int last = size - 1;
+            if(last < 0) throw new NoSuchElementException();
+            byte oldValue = elementData[last];
+            fastRemove(elementData, last);
+            return oldValue;
+        }
+
+        @Override
+        public boolean removeByte(byte e) {
+            int i = indexOfRange(e, 0, size);
+            if(i < 0) return false;
+            fastRemove(elementData, i);
+            return true;
+        }
+
+        private void fastRemove(byte[] es, int i) {
+            modCount++;
+            final int newSize;
+            if((newSize = size - 1) > i) System.arraycopy(es, i + 1, es, i, newSize - i);
+            size = newSize;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            size = 0;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllByte(PrimitiveCollection.OfByte c) {
+            if(c instanceof PrimitiveArrayList.OfByte l) return addAllByte(size, l.elementData, 0, l.size);
+            byte[] a = c.toArrayByte();
+            return addAllByte(size, a, 0, a.length);
+        }
+
+        @Override
+        public boolean addAllByte(int index, PrimitiveCollection.OfByte c) {
+            rangeCheckForAdd(index);
+            if(c instanceof PrimitiveArrayList.OfByte l) return addAllByte(index, l.elementData, 0, l.size);
+            byte[] a = c.toArrayByte();
+            return addAllByte(index, a, 0, a.length);
+        }
+
+        /**
+         * Appends {@code len} elements of the specified array, starting at {@code off},
+         * to the end of this list. The elements are copied with a single
+         * {@link System#arraycopy(Object, int, Object, int, int) arraycopy}.
+         * @param a the array containing the elements to be added
+         * @param off the index of the first element of {@code a} to add
+         * @param len the number of elements to add
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean addAllByte(byte[] a, int off, int len) { return addAllByte(size, a, off, len); }
+
+        /**
+         * Inserts {@code len} elements of the specified array, starting at {@code off},
+         * into this list at the specified position. Elements currently at or after
+         * that position are shifted right with a single
+         * {@link System#arraycopy(Object, int, Object, int, int) arraycopy}.
+         * @param index index at which to insert the first element
+         * @param a the array containing the elements to be added
+         * @param off the index of the first element of {@code a} to add
+         * @param len the number of elements to add
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException if {@code index} is out of range
+         *         or the range is out of the bounds of {@code a}
+         */
+        public boolean addAllByte(int index, byte[] a, int off, int len) {
+            rangeCheckForAdd(index);
+            Objects.checkFromIndexSize(off, len, a.length);
+            modCount++;
+            if(len == 0) return false;
+            byte[] es = elementData;
+            final int s = size;
+            if(len > es.length - s) es = grow(s + len);
+            int numMoved = s - index;
+            if(numMoved > 0) System.arraycopy(es, index, es, index + len, numMoved);
+            System.arraycopy(a, off, es, index, len);
+            size = s + len;
+            return true;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if(fromIndex > toIndex) throw new IndexOutOfBoundsException("From Index: " + fromIndex + " > To Index: " + toIndex);
+            modCount++;
+            System.arraycopy(elementData, toIndex, elementData, fromIndex, size - toIndex);
+            size -= toIndex - fromIndex;
+        }
+
+        @Override
+        public boolean removeAllByte(PrimitiveCollection.OfByte c) {
+            Objects.requireNonNull(c);
+            return removeIfByte(c::containsByte, 0, size);
+        }
+
+        @Override
+        public boolean retainAllByte(PrimitiveCollection.OfByte c) {
+            Objects.requireNonNull(c);
+            return removeIfByte(e -> !c.containsByte(e), 0, size);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfByte(e -> c.contains(e), 0, size);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfByte(e -> !c.contains(e), 0, size);
+        }
+
+        @Override
+        public boolean removeIfByte(PrimitivePredicate.OfByte filter) { return removeIfByte(filter, 0, size); }
+
+        boolean removeIfByte(PrimitivePredicate.OfByte filter, int i, final int end) {
+            Objects.requireNonNull(filter);
+            int expectedModCount = modCount;
+            final byte[] es = elementData;
+            // optimize for an initial run of survivors
+            for(; i < end && !filter.testByte(es[i]); i++);
+            if(i == end) {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return false;
+            }
+            // test every element before moving any, so a throwing predicate leaves the list as it was
+            final int beg = i;
+            final long[] deathRow = nBits(end - beg);
+            deathRow[0] = 1L;
+            for(i = beg + 1; i < end; i++) if(filter.testByte(es[i])) setBit(deathRow, i - beg);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+            int w = beg;
+            for(i = beg; i < end; i++) if(isClear(deathRow, i - beg)) es[w++] = es[i];
+            System.arraycopy(es, end, es, w, size - end);
+            size -= end - w;
+            return true;
+        }
+
+        @Override
+        public void replaceAllByte(PrimitiveFunction.ToByte.OfByte operator) {
+            Objects.requireNonNull(operator);
+            final int expectedModCount = modCount;
+            final byte[] es = elementData;
+            for(int i = 0; modCount == expectedModCount && i < size; i++) es[i] = operator.applyByte(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+        }
+
+        @Override
+        public void sortByte(PrimitiveComparator.OfByte c) {
+            final int expectedModCount = modCount;
+            jdk.prim.util.sort.dualpivot.OfByte.sort(elementData, c == null ? PrimitiveComparator.naturalOrderByte() : c, 0, 0, size);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfByte action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final byte[] es = elementData;
+            final int size = this.size;
+            for(int i = 0; modCount == expectedModCount && i < size; i++) action.acceptByte(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfByte iteratorByte() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfByte listIteratorByte() { return new ListItr(0); }
+
+        @Override
+        public PrimitiveListIterator.OfByte listIteratorByte(int from) {
+            rangeCheckForAdd(from);
+            return new ListItr(from);
+        }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this list. The spliterator splits by index and reports
+         * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+         * @return a spliterator over the elements in this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfByte spliteratorByte() { return new Spliter(0, -1, 0); }
+
+        private class Itr implements PrimitiveIterator.OfByte {
+            int cursor;       // index of next element to return
+            int lastRet = -1; // index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public byte nextByte() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                byte[] es = PrimitiveArrayList.OfByte.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return es[lastRet = i];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfByte.this.removeElementAtIndex(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfByte {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) { cursor = index; }
+
+            public boolean hasNext() { return cursor != size; }
+
+            public byte nextByte() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                byte[] es = PrimitiveArrayList.OfByte.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return es[lastRet = i];
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public byte previousByte() {
+                checkForComodification();
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                byte[] es = PrimitiveArrayList.OfByte.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i;
+                return es[lastRet = i];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfByte.this.removeElementAtIndex(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void setByte(byte e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfByte.this.setByte(lastRet, e);
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void addByte(byte e) {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    PrimitiveArrayList.OfByte.this.addByte(i, e);
+                    cursor = i + 1;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfByte {
+            private int index;            // current index, modified on advance/split
+            private int fence;            // -1 until used; then one past last index
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfByte action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                if(i < hi) {
+                    index = i + 1;
+                    action.acceptByte(elementData[i]);
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfByte action) {
+                int i, hi, mc; // hoist accesses and checks from loop
+                byte[] a;
+                if(action == null) throw new NullPointerException();
+                if((a = elementData) != null) {
+                    if((hi = fence) < 0) {
+                        mc = modCount;
+                        hi = size;
+                    } else mc = expectedModCount;
+                    if((i = index) >= 0 && (index = hi) <= a.length) {
+                        for(; i < hi; ++i) action.acceptByte(a[i]);
+                        if(modCount == mc) return;
+                    }
+                }
+                throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return getFence() - index; }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(o instanceof PrimitiveArrayList.OfByte other) {
+                final int expectedModCount = modCount;
+                boolean equal = other.size == size && Arrays.equals(elementData, 0, size, other.elementData, 0, size);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return equal;
+            }
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            final int expectedModCount = modCount;
+            final byte[] es = elementData;
+            int hashCode = 1;
+            for(int i = 0; i < size; i++) hashCode = 31 * hashCode + java.lang.Byte.hashCode(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            return hashCode;
+        }
+    }
+
+    /**
+     * Resizable-array implementation of the {@link PrimitiveList.OfBoolean} interface.
+     * Elements are stored unboxed in a {@code boolean[]} which grows by half of its
+     * current length whenever an insertion would overflow it, so appends run in
+     * amortized constant time. The {@code getBoolean}, {@code setBoolean}, {@code iteratorBoolean}
+     * and {@code listIteratorBoolean} operations run in constant time.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.ArrayList}
+     */
+    public static class OfBoolean extends PrimitiveAbstractList.OfBoolean implements RandomAccess, Cloneable {
+        private static final boolean[] EMPTY_ELEMENTDATA = {};
+
+        /**
+         * The array buffer into which the elements are stored. Only the first
+         * {@link #size} slots are live.
+         */
+        transient boolean[] elementData;
+
+        /**
+         * The number of elements this list contains.
+         */
+        private int size;
+
+        /**
+         * Constructs an empty list with the specified initial capacity.
+         * @param initialCapacity the initial capacity of the list
+         * @throws IllegalArgumentException if the specified initial capacity is negative
+         */
+        public OfBoolean(int initialCapacity) {
+            if(initialCapacity > 0) elementData = new boolean[initialCapacity];
+            else if(initialCapacity == 0) elementData = EMPTY_ELEMENTDATA;
+            else throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+        }
+
+        /**
+         * Constructs an empty list with an initial capacity of ten.
+         */
+        public OfBoolean() {
+            elementData = EMPTY_ELEMENTDATA;
+        }
+
+        /**
+         * Constructs a list containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this list
+         */
+        public OfBoolean(PrimitiveCollection.OfBoolean c) {
+            boolean[] a = c.toArrayBoolean();
+            elementData = a.length == 0 ? EMPTY_ELEMENTDATA : a;
+            size = a.length;
+        }
+
+        /**
+         * Constructs a list containing {@code len} elements of the specified array,
+         * starting at {@code off}.
+         * @param a the array whose elements are to be placed into this list
+         * @param off the index of the first element to copy
+         * @param len the number of elements to copy
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfBoolean(boolean[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            elementData = Arrays.copyOfRange(a, off, off + len);
+            size = len;
+        }
+
+        /**
+         * Trims the capacity of this list to be the list's current size.
+         */
+        public void trimToSize() {
+            modCount++;
+            if(size < elementData.length) elementData = size == 0 ? EMPTY_ELEMENTDATA : Arrays.copyOf(elementData, size);
+        }
+
+        /**
+         * Increases the capacity of this list, if necessary, to ensure that it can
+         * hold at least the number of elements specified by the minimum capacity argument.
+         * @param minCapacity the desired minimum capacity
+         */
+        public void ensureCapacity(int minCapacity) {
+            if(minCapacity > elementData.length) {
+                modCount++;
+                grow(minCapacity);
+            }
+        }
+
+        private boolean[] grow(int minCapacity) {
+            int oldCapacity = elementData.length;
+            if(oldCapacity > 0) {
+                int newCapacity = newLength(oldCapacity, minCapacity - oldCapacity, oldCapacity >> 1);
+                return elementData = Arrays.copyOf(elementData, newCapacity);
+            }
+            return elementData = new boolean[Math.max(DEFAULT_CAPACITY, minCapacity)];
+        }
+
+        private boolean[] grow() { return grow(size + 1); }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsBoolean(boolean value) { return indexOfRange(value, 0, size) >= 0; }
+
+        @Override
+        public int indexOfBoolean(boolean e) { return indexOfRange(e, 0, size); }
+
+        int indexOfRange(boolean e, int start, int end) {
+            boolean[] es = elementData;
+            for(int i = start; i < end; i++) if(es[i] == e) return i;
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfBoolean(boolean e) { return lastIndexOfRange(e, 0, size); }
+
+        int lastIndexOfRange(boolean e, int start, int end) {
+            boolean[] es = elementData;
+            for(int i = end - 1; i >= start; i--) if(es[i] == e) return i;
+            return -1;
+        }
+
+        @Override
+        public boolean getBoolean(int index) {
+            Objects.checkIndex(index, size);
+            return elementData[index];
+        }
+
+        @Override
+        public boolean getFirstBoolean() {
+            if(size == 0) throw new NoSuchElementException();
+            return elementData[0];
+        }
+
+        @Override
+        public boolean getLastBoolean() {
+            int last = size - 1;
+            if(last < 0) throw new NoSuchElementException();
+            return elementData[last];
+        }
+
+        /**
+         * Returns a shallow copy of this list.
+         * @return a clone of this list
+         */
+        @Override
+        public PrimitiveArrayList.OfBoolean clone() {
+            try {
+                var v = (PrimitiveArrayList.OfBoolean) super.clone();
+                v.elementData = Arrays.copyOf(elementData, size);
+                v.modCount = 0;
+                return v;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public boolean[] toArrayBoolean() { return Arrays.copyOf(elementData, size); }
+
+        @Override
+        public boolean[] toArrayBoolean(boolean[] array) {
+            if(array.length < size) return Arrays.copyOf(elementData, size);
+            System.arraycopy(elementData, 0, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public java.lang.Boolean[] toArray() {
+            boolean[] es = elementData;
+            java.lang.Boolean[] r = new java.lang.Boolean[size];
+            for(int i = 0; i < r.length; i++) r[i] = es[i];
+            return r;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean setBoolean(int index, boolean e) {
+            Objects.checkIndex(index, size);
+            boolean oldValue = elementData[index];
+            elementData[index] = e;
+            return oldValue;
+        }
+
+        @Override
+        public boolean addBoolean(boolean e) {
+            modCount++;
+            int s = size;
+            boolean[] es = elementData;
+            if(s == es.length) es = grow();
+            es[s] = e;
+            size = s + 1;
+            return true;
+        }
+
+        @Override
+        public void addBoolean(int index, boolean e) {
+            rangeCheckForAdd(index);
+            modCount++;
+            final int s;
+            boolean[] es;
+            if((s = size) == (es = elementData).length) es = grow();
+            System.arraycopy(es, index, es, index + 1, s - index);
+            es[index] = e;
+            size = s + 1;
+        }
+
+        @Override
+        public boolean removeElementAtIndex(int i) {
+            Objects.checkIndex(i, size);
+            boolean oldValue = elementData[i];
+            fastRemove(elementData, i);
+            return oldValue;
+        }
+
+        @Override
+        public boolean removeFirstBoolean() {
+            if(size == 0) throw new NoSuchElementException();
+            boolean oldValue = elementData[0];
+            fastRemove(elementData, 0);
+            return oldValue;
+        }
+
+        @Override
+        public boolean removeLastBoolean() {
+            int last = size - 1;
+            if(last < 0) throw new NoSuchElementException();
+            boolean oldValue = elementData[last];
+            fastRemove(elementData, last);
+            return oldValue;
+        }
+
+        @Override
+        public boolean removeBoolean(boolean e) {
+            int i = indexOfRange(e, 0, size);
+            if(i < 0) return false;
+            fastRemove(elementData, i);
+            return true;
+        }
+
+        private void fastRemove(boolean[] es, int i) {
+            modCount++;
+            final int newSize;
+            if((newSize = size - 1) > i) System.arraycopy(es, i + 1, es, i, newSize - i);
+            size = newSize;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            size = 0;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllBoolean(PrimitiveCollection.OfBoolean c) {
+            if(c instanceof PrimitiveArrayList.OfBoolean l) return addAllBoolean(size, l.elementData, 0, l.size);
+            boolean[] a = c.toArrayBoolean();
+            return addAllBoolean(size, a, 0, a.length);
+        }
+
+        @Override
+        public boolean addAllBoolean(int index, PrimitiveCollection.OfBoolean c) {
+            rangeCheckForAdd(index);
+            if(c instanceof PrimitiveArrayList.OfBoolean l) return addAllBoolean(index, l.elementData, 0, l.size);
+            boolean[] a = c.toArrayBoolean();
+            return addAllBoolean(index, a, 0, a.length);
+        }
+
+        /**
+         * Appends {@code len} elements of the specified array, starting at {@code off},
+         * to the end of this list. The elements are copied with a single
+         * {@link System#arraycopy(Object, int, Object, int, int) arraycopy}.
+         * @param a the array containing the elements to be added
+         * @param off the index of the first element of {@code a} to add
+         * @param len the number of elements to add
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean addAllBoolean(boolean[] a, int off, int len) { return addAllBoolean(size, a, off, len); }
+
+        /**
+         * Inserts {@code len} elements of the specified array, starting at {@code off},
+         * into this list at the specified position. Elements currently at or after
+         * that position are shifted right with a single
+         * {@link System#arraycopy(Object, int, Object, int, int) arraycopy}.
+         * @param index index at which to insert the first element
+         * @param a the array containing the elements to be added
+         * @param off the index of the first element of {@code a} to add
+         * @param len the number of elements to add
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException if {@code index} is out of range
+         *         or the range is out of the bounds of {@code a}
+         */
+        public boolean addAllBoolean(int index, boolean[] a, int off, int len) {
+            rangeCheckForAdd(index);
+            Objects.checkFromIndexSize(off, len, a.length);
+            modCount++;
+            if(len == 0) return false;
+            boolean[] es = elementData;
+            final int s = size;
+            if(len > es.length - s) es = grow(s + len);
+            int numMoved = s - index;
+            if(numMoved > 0) System.arraycopy(es, index, es, index + len, numMoved);
+            System.arraycopy(a, off, es, index, len);
+            size = s + len;
+            return true;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if(fromIndex > toIndex) throw new IndexOutOfBoundsException("From Index: " + fromIndex + " > To Index: " + toIndex);
+            modCount++;
+            System.arraycopy(elementData, toIndex, elementData, fromIndex, size - toIndex);
+            size -= toIndex - fromIndex;
+        }
+
+        @Override
+        public boolean removeAllBoolean(PrimitiveCollection.OfBoolean c) {
+            Objects.requireNonNull(c);
+            return removeIfBoolean(c::containsBoolean, 0, size);
+        }
+
+        @Override
+        public boolean retainAllBoolean(PrimitiveCollection.OfBoolean c) {
+            Objects.requireNonNull(c);
+            return removeIfBoolean(e -> !c.containsBoolean(e), 0, size);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfBoolean(e -> c.contains(e), 0, size);
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            Objects.requireNonNull(c);
+            return removeIfBoolean(e -> !c.contains(e), 0, size);
+        }
+
+        @Override
+        public boolean removeIfBoolean(PrimitivePredicate.OfBoolean filter) { return removeIfBoolean(filter, 0, size); }
+
+        boolean removeIfBoolean(PrimitivePredicate.OfBoolean filter, int i, final int end) {
+            Objects.requireNonNull(filter);
+            int expectedModCount = modCount;
+            final boolean[] es = elementData;
+            // optimize for an initial run of survivors
+            for(; i < end && !filter.testBoolean(es[i]); i++);
+            if(i == end) {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return false;
+            }
+            // test every element before moving any, so a throwing predicate leaves the list as it was
+            final int beg = i;
+            final long[] deathRow = nBits(end - beg);
+            deathRow[0] = 1L;
+            for(i = beg + 1; i < end; i++) if(filter.testBoolean(es[i])) setBit(deathRow, i - beg);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+            int w = beg;
+            for(i = beg; i < end; i++) if(isClear(deathRow, i - beg)) es[w++] = es[i];
+            System.arraycopy(es, end, es, w, size - end);
+            size -= end - w;
+            return true;
+        }
+
+        @Override
+        public void replaceAllBoolean(PrimitiveFunction.ToBoolean.OfBoolean operator) {
+            Objects.requireNonNull(operator);
+            final int expectedModCount = modCount;
+            final boolean[] es = elementData;
+            for(int i = 0; modCount == expectedModCount && i < size; i++) es[i] = operator.applyBoolean(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+        }
+
+        @Override
+        public void sortBoolean(PrimitiveComparator.OfBoolean c) {
+            final int expectedModCount = modCount;
+            jdk.prim.util.sort.dualpivot.OfBoolean.sort(elementData, c == null ? PrimitiveComparator.naturalOrderBoolean() : c, 0, 0, size);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            modCount++;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfBoolean action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final boolean[] es = elementData;
+            final int size = this.size;
+            for(int i = 0; modCount == expectedModCount && i < size; i++) action.acceptBoolean(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfBoolean iteratorBoolean() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfBoolean listIteratorBoolean() { return new ListItr(0); }
+
+        @Override
+        public PrimitiveListIterator.OfBoolean listIteratorBoolean(int from) {
+            rangeCheckForAdd(from);
+            return new ListItr(from);
+        }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this list. The spliterator splits by index and reports
+         * {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED} and {@link Spliterator#ORDERED}.
+         * @return a spliterator over the elements in this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfBoolean spliteratorBoolean() { return new Spliter(0, -1, 0); }
+
+        private class Itr implements PrimitiveIterator.OfBoolean {
+            int cursor;       // index of next element to return
+            int lastRet = -1; // index of last element returned; -1 if no such
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public boolean nextBoolean() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                boolean[] es = PrimitiveArrayList.OfBoolean.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return es[lastRet = i];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfBoolean.this.removeElementAtIndex(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfBoolean {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) { cursor = index; }
+
+            public boolean hasNext() { return cursor != size; }
+
+            public boolean nextBoolean() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                boolean[] es = PrimitiveArrayList.OfBoolean.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i + 1;
+                return es[lastRet = i];
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public boolean previousBoolean() {
+                checkForComodification();
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                boolean[] es = PrimitiveArrayList.OfBoolean.this.elementData;
+                if(i >= es.length) throw new ConcurrentModificationException();
+                cursor = i;
+                return es[lastRet = i];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfBoolean.this.removeElementAtIndex(lastRet);
+                    cursor = lastRet;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void setBoolean(boolean e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                try {
+                    PrimitiveArrayList.OfBoolean.this.setBoolean(lastRet, e);
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            public void addBoolean(boolean e) {
+                checkForComodification();
+                try {
+                    int i = cursor;
+                    PrimitiveArrayList.OfBoolean.this.addBoolean(i, e);
+                    cursor = i + 1;
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                } catch (IndexOutOfBoundsException ex) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfBoolean {
+            private int index;            // current index, modified on advance/split
+            private int fence;            // -1 until used; then one past last index
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfBoolean action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                if(i < hi) {
+                    index = i + 1;
+                    action.acceptBoolean(elementData[i]);
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfBoolean action) {
+                int i, hi, mc; // hoist accesses and checks from loop
+                boolean[] a;
+                if(action == null) throw new NullPointerException();
+                if((a = elementData) != null) {
+                    if((hi = fence) < 0) {
+                        mc = modCount;
+                        hi = size;
+                    } else mc = expectedModCount;
+                    if((i = index) >= 0 && (index = hi) <= a.length) {
+                        for(; i < hi; ++i) action.acceptBoolean(a[i]);
+                        if(modCount == mc) return;
+                    }
+                }
+                throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return getFence() - index; }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(o instanceof PrimitiveArrayList.OfBoolean other) {
+                final int expectedModCount = modCount;
+                boolean equal = other.size == size && Arrays.equals(elementData, 0, size, other.elementData, 0, size);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return equal;
+            }
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            final int expectedModCount = modCount;
+            final boolean[] es = elementData;
+            int hashCode = 1;
+            for(int i = 0; i < size; i++) hashCode = 31 * hashCode + java.lang.Boolean.hashCode(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            return hashCode;
+        }
+    }
+}
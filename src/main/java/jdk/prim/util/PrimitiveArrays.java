@@ -4833,6 +4833,28 @@ public final class PrimitiveArrays {
         jdk.prim.util.sort.PrimitiveDualPivot.ofDouble(ForkJoinPool.getCommonPoolParallelism()).sort(array, comparator, null);
         // jdk.prim.util.dpqs.OfDouble.sort(array, ForkJoinPool.getCommonPoolParallelism(), 0, array.length, comparator);
     }
+    /**
+     * Parallel sort operation that supports a comparator and sorts with the given algorithm.
+     * {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#RADIX RADIX} radix sorts when the comparator is
+     * {@code null} or the natural or reverse order, {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#QUICK QUICK}
+     * sorts with dual pivot quick sort and {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#MERGE MERGE}
+     * sorts stably, keeping the elements that compare equal in the order they were in.
+     * @param array the array to be sorted
+     * @param comparator the comparator that defines the ordering of the elements of the array
+     * @param algorithm the algorithm to sort with
+     * @throws IllegalArgumentException if {@code double} arrays cannot be sorted with {@code algorithm}
+     * 
+     * @see {@link java.util.Arrays#parallelSort(Object[], java.util.Comparator)}
+     */
+    public static void parallelSort(double[] array, PrimitiveComparator.OfDouble comparator, jdk.prim.util.sort.PrimitiveSorter.Algorithm algorithm) {
+        final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        switch(algorithm) {
+            case QUICK -> jdk.prim.util.sort.PrimitiveDualPivot.ofDouble(parallelism).sort(array, comparator, null);
+            case MERGE -> jdk.prim.util.sort.PrimitiveMergeSort.ofDouble(parallelism).sort(array, comparator, null);
+            case RADIX -> jdk.prim.util.sort.PrimitiveRadixSort.ofDouble(parallelism).sort(array, comparator, null);
+            default -> throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+        }
+    }
     /**
      * Parallel range sort operator that supports a comparator
      * @param array the array to be sorted
@@ -4886,6 +4908,28 @@ public final class PrimitiveArrays {
         jdk.prim.util.sort.PrimitiveDualPivot.ofLong(ForkJoinPool.getCommonPoolParallelism()).sort(array, comparator, null);
         // jdk.prim.util.dpqs.OfLong.sort(array, ForkJoinPool.getCommonPoolParallelism(), 0, array.length, comparator);
     }
+    /**
+     * Parallel sort operation that supports a comparator and sorts with the given algorithm.
+     * {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#RADIX RADIX} radix sorts when the comparator is
+     * {@code null} or the natural or reverse order, {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#QUICK QUICK}
+     * sorts with dual pivot quick sort and {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#MERGE MERGE}
+     * sorts stably, keeping the elements that compare equal in the order they were in.
+     * @param array the array to be sorted
+     * @param comparator the comparator that defines the ordering of the elements of the array
+     * @param algorithm the algorithm to sort with
+     * @throws IllegalArgumentException if {@code long} arrays cannot be sorted with {@code algorithm}
+     * 
+     * @see {@link java.util.Arrays#parallelSort(Object[], java.util.Comparator)}
+     */
+    public static void parallelSort(long[] array, PrimitiveComparator.OfLong comparator, jdk.prim.util.sort.PrimitiveSorter.Algorithm algorithm) {
+        final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        switch(algorithm) {
+            case QUICK -> jdk.prim.util.sort.PrimitiveDualPivot.ofLong(parallelism).sort(array, comparator, null);
+            case MERGE -> jdk.prim.util.sort.PrimitiveMergeSort.ofLong(parallelism).sort(array, comparator, null);
+            case RADIX -> jdk.prim.util.sort.PrimitiveRadixSort.ofLong(parallelism).sort(array, comparator, null);
+            default -> throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+        }
+    }
     /**
      * Parallel range sort operator that supports a comparator
      * @param array the array to be sorted
@@ -4939,6 +4983,28 @@ public final class PrimitiveArrays {
         jdk.prim.util.sort.PrimitiveDualPivot.ofInt(ForkJoinPool.getCommonPoolParallelism()).sort(array, comparator, null);
         // jdk.prim.util.dpqs.OfInt.sort(array, ForkJoinPool.getCommonPoolParallelism(), 0, array.length, comparator);
     }
+    /**
+     * Parallel sort operation that supports a comparator and sorts with the given algorithm.
+     * {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#RADIX RADIX} radix sorts when the comparator is
+     * {@code null} or the natural or reverse order, {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#QUICK QUICK}
+     * sorts with dual pivot quick sort and {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#MERGE MERGE}
+     * sorts stably, keeping the elements that compare equal in the order they were in.
+     * @param array the array to be sorted
+     * @param comparator the comparator that defines the ordering of the elements of the array
+     * @param algorithm the algorithm to sort with
+     * @throws IllegalArgumentException if {@code int} arrays cannot be sorted with {@code algorithm}
+     * 
+     * @see {@link java.util.Arrays#parallelSort(Object[], java.util.Comparator)}
+     */
+    public static void parallelSort(int[] array, PrimitiveComparator.OfInt comparator, jdk.prim.util.sort.PrimitiveSorter.Algorithm algorithm) {
+        final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        switch(algorithm) {
+            case QUICK -> jdk.prim.util.sort.PrimitiveDualPivot.ofInt(parallelism).sort(array, comparator, null);
+            case MERGE -> jdk.prim.util.sort.PrimitiveMergeSort.ofInt(parallelism).sort(array, comparator, null);
+            case RADIX -> jdk.prim.util.sort.PrimitiveRadixSort.ofInt(parallelism).sort(array, comparator, null);
+            default -> throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+        }
+    }
     /**
      * Parallel range sort operator that supports a comparator
      * @param array the array to be sorted
@@ -4992,6 +5058,28 @@ public final class PrimitiveArrays {
         jdk.prim.util.sort.PrimitiveDualPivot.ofFloat(ForkJoinPool.getCommonPoolParallelism()).sort(array, comparator, null);
         // jdk.prim.util.dpqs.OfFloat.sort(array, ForkJoinPool.getCommonPoolParallelism(), 0, array.length, comparator);
     }
+    /**
+     * Parallel sort operation that supports a comparator and sorts with the given algorithm.
+     * {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#RADIX RADIX} radix sorts when the comparator is
+     * {@code null} or the natural or reverse order, {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#QUICK QUICK}
+     * sorts with dual pivot quick sort and {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#MERGE MERGE}
+     * sorts stably, keeping the elements that compare equal in the order they were in.
+     * @param array the array to be sorted
+     * @param comparator the comparator that defines the ordering of the elements of the array
+     * @param algorithm the algorithm to sort with
+     * @throws IllegalArgumentException if {@code float} arrays cannot be sorted with {@code algorithm}
+     * 
+     * @see {@link java.util.Arrays#parallelSort(Object[], java.util.Comparator)}
+     */
+    public static void parallelSort(float[] array, PrimitiveComparator.OfFloat comparator, jdk.prim.util.sort.PrimitiveSorter.Algorithm algorithm) {
+        final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        switch(algorithm) {
+            case QUICK -> jdk.prim.util.sort.PrimitiveDualPivot.ofFloat(parallelism).sort(array, comparator, null);
+            case MERGE -> jdk.prim.util.sort.PrimitiveMergeSort.ofFloat(parallelism).sort(array, comparator, null);
+            case RADIX -> jdk.prim.util.sort.PrimitiveRadixSort.ofFloat(parallelism).sort(array, comparator, null);
+            default -> throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+        }
+    }
     /**
      * Parallel range sort operator that supports a comparator
      * @param array the array to be sorted
@@ -5045,6 +5133,25 @@ public final class PrimitiveArrays {
         jdk.prim.util.sort.PrimitiveDualPivot.ofChar(ForkJoinPool.getCommonPoolParallelism()).sort(array, comparator, null);
         // jdk.prim.util.dpqs.OfChar.sort(array, ForkJoinPool.getCommonPoolParallelism(), 0, array.length, comparator);
     }
+    /**
+     * Parallel sort operation that supports a comparator and sorts with the given algorithm.
+     * {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#QUICK QUICK} sorts with dual pivot quick sort and {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#MERGE MERGE}
+     * sorts stably, keeping the elements that compare equal in the order they were in.
+     * @param array the array to be sorted
+     * @param comparator the comparator that defines the ordering of the elements of the array
+     * @param algorithm the algorithm to sort with
+     * @throws IllegalArgumentException if {@code char} arrays cannot be sorted with {@code algorithm}
+     * 
+     * @see {@link java.util.Arrays#parallelSort(Object[], java.util.Comparator)}
+     */
+    public static void parallelSort(char[] array, PrimitiveComparator.OfChar comparator, jdk.prim.util.sort.PrimitiveSorter.Algorithm algorithm) {
+        final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        switch(algorithm) {
+            case QUICK -> jdk.prim.util.sort.PrimitiveDualPivot.ofChar(parallelism).sort(array, comparator, null);
+            case MERGE -> jdk.prim.util.sort.PrimitiveMergeSort.ofChar(parallelism).sort(array, comparator, null);
+            default -> throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+        }
+    }
     /**
      * Parallel range sort operator that supports a comparator
      * @param array the array to be sorted
@@ -5098,6 +5205,25 @@ public final class PrimitiveArrays {
         jdk.prim.util.sort.PrimitiveDualPivot.ofShort(ForkJoinPool.getCommonPoolParallelism()).sort(array, comparator, null);
         // jdk.prim.util.dpqs.OfShort.sort(array, ForkJoinPool.getCommonPoolParallelism(), 0, array.length, comparator);
     }
+    /**
+     * Parallel sort operation that supports a comparator and sorts with the given algorithm.
+     * {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#QUICK QUICK} sorts with dual pivot quick sort and {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#MERGE MERGE}
+     * sorts stably, keeping the elements that compare equal in the order they were in.
+     * @param array the array to be sorted
+     * @param comparator the comparator that defines the ordering of the elements of the array
+     * @param algorithm the algorithm to sort with
+     * @throws IllegalArgumentException if {@code short} arrays cannot be sorted with {@code algorithm}
+     * 
+     * @see {@link java.util.Arrays#parallelSort(Object[], java.util.Comparator)}
+     */
+    public static void parallelSort(short[] array, PrimitiveComparator.OfShort comparator, jdk.prim.util.sort.PrimitiveSorter.Algorithm algorithm) {
+        final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        switch(algorithm) {
+            case QUICK -> jdk.prim.util.sort.PrimitiveDualPivot.ofShort(parallelism).sort(array, comparator, null);
+            case MERGE -> jdk.prim.util.sort.PrimitiveMergeSort.ofShort(parallelism).sort(array, comparator, null);
+            default -> throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+        }
+    }
     /**
      * Parallel range sort operator that supports a comparator
      * @param array the array to be sorted
@@ -5151,6 +5277,25 @@ public final class PrimitiveArrays {
         jdk.prim.util.sort.PrimitiveDualPivot.ofByte(ForkJoinPool.getCommonPoolParallelism()).sort(array, comparator, null);
         // jdk.prim.util.dpqs.OfByte.sort(array, ForkJoinPool.getCommonPoolParallelism(), 0, array.length, comparator);
     }
+    /**
+     * Parallel sort operation that supports a comparator and sorts with the given algorithm.
+     * {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#QUICK QUICK} sorts with dual pivot quick sort and {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#MERGE MERGE}
+     * sorts stably, keeping the elements that compare equal in the order they were in.
+     * @param array the array to be sorted
+     * @param comparator the comparator that defines the ordering of the elements of the array
+     * @param algorithm the algorithm to sort with
+     * @throws IllegalArgumentException if {@code byte} arrays cannot be sorted with {@code algorithm}
+     * 
+     * @see {@link java.util.Arrays#parallelSort(Object[], java.util.Comparator)}
+     */
+    public static void parallelSort(byte[] array, PrimitiveComparator.OfByte comparator, jdk.prim.util.sort.PrimitiveSorter.Algorithm algorithm) {
+        final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        switch(algorithm) {
+            case QUICK -> jdk.prim.util.sort.PrimitiveDualPivot.ofByte(parallelism).sort(array, comparator, null);
+            case MERGE -> jdk.prim.util.sort.PrimitiveMergeSort.ofByte(parallelism).sort(array, comparator, null);
+            default -> throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+        }
+    }
     /**
      * Parallel range sort operator that supports a comparator
      * @param array the array to be sorted
@@ -5204,6 +5349,25 @@ public final class PrimitiveArrays {
         jdk.prim.util.sort.PrimitiveDualPivot.ofBoolean(ForkJoinPool.getCommonPoolParallelism()).sort(array, comparator, null);
         // jdk.prim.util.dpqs.OfBoolean.sort(array, ForkJoinPool.getCommonPoolParallelism(), 0, array.length, comparator);
     }
+    /**
+     * Parallel sort operation that supports a comparator and sorts with the given algorithm.
+     * {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#QUICK QUICK} sorts with dual pivot quick sort and {@link jdk.prim.util.sort.PrimitiveSorter.Algorithm#MERGE MERGE}
+     * sorts stably, keeping the elements that compare equal in the order they were in.
+     * @param array the array to be sorted
+     * @param comparator the comparator that defines the ordering of the elements of the array
+     * @param algorithm the algorithm to sort with
+     * @throws IllegalArgumentException if {@code boolean} arrays cannot be sorted with {@code algorithm}
+     * 
+     * @see {@link java.util.Arrays#parallelSort(Object[], java.util.Comparator)}
+     */
+    public static void parallelSort(boolean[] array, PrimitiveComparator.OfBoolean comparator, jdk.prim.util.sort.PrimitiveSorter.Algorithm algorithm) {
+        final int parallelism = ForkJoinPool.getCommonPoolParallelism();
+        switch(algorithm) {
+            case QUICK -> jdk.prim.util.sort.PrimitiveDualPivot.ofBoolean(parallelism).sort(array, comparator, null);
+            case MERGE -> jdk.prim.util.sort.PrimitiveMergeSort.ofBoolean(parallelism).sort(array, comparator, null);
+            default -> throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+        }
+    }
     /**
      * Parallel range sort operator that supports a comparator
      * @param array the array to be sorted
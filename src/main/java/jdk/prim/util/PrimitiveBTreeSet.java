@@ -0,0 +1,2341 @@
+package jdk.prim.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
+import jdk.prim.util.function.PrimitiveConsumer;
+
+/**
+ * A pseudo-package for holding B+-tree implementations of {@link PrimitiveNavigableSet}
+ * for {@code long} and {@code int}
+ */
+public final class PrimitiveBTreeSet {
+    private PrimitiveBTreeSet() {}
+
+    /**
+     * A {@link PrimitiveNavigableSet.OfLong} kept in a B+-tree whose nodes hold their keys
+     * in flat {@code long[]} arrays. Elements are ordered by a {@link PrimitiveComparator.OfLong},
+     * or naturally when none (or {@link PrimitiveComparator#naturalOrderLong()}) is given, in
+     * which case keys are compared inline.
+     * <p>
+     * All elements live in leaves of up to {@value #LEAF_CAPACITY} keys that are linked to
+     * their neighbours, so ordered traversal walks arrays instead of chasing a pointer per
+     * element, and the whole set costs a few bytes per element on top of the key itself.
+     * Inner nodes keep the element count of their subtree, which makes
+     * {@link #subSetLong(long, boolean, long, boolean) range views} cost O(log n) to create and to
+     * {@link java.util.Collection#size() size}. {@code addLong}, {@code removeLong},
+     * {@code containsLong} and the navigation methods take O(log n) time.
+     * <p>
+     * The unboxed {@code ceilingLong}, {@code floorLong}, {@code higherLong} and {@code lowerLong}
+     * throw {@link NoSuchElementException} when there is no such element, where the boxed
+     * ones return {@code null}; the unboxed {@code pollFirstLong} and {@code pollLastLong}
+     * return {@code 0} on an empty set.
+     * <p>
+     * The iterators of this class and of its views are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.TreeSet}
+     */
+    public static class OfLong extends PrimitiveAbstractSet.OfLong implements PrimitiveNavigableSet.OfLong, Cloneable {
+        /**
+         * The most keys a leaf holds.
+         */
+        public static final int LEAF_CAPACITY = 64;
+
+        /**
+         * The most children an inner node holds.
+         */
+        public static final int INNER_CAPACITY = 64;
+
+        /** The fewest keys a non-root leaf holds before it is merged or refilled. */
+        private static final int LEAF_MIN = LEAF_CAPACITY / 4;
+
+        /** The fewest children a non-root inner node holds before it is merged or refilled. */
+        private static final int INNER_MIN = INNER_CAPACITY / 4;
+
+        private static abstract class Node {
+            /** The number of elements in this subtree. */
+            int size;
+        }
+
+        private static final class Leaf extends Node {
+            /** The keys, sorted; {@code size} are live and one slot is kept for an overflowing insert. */
+            final long[] keys = new long[LEAF_CAPACITY + 1];
+            Leaf prev, next;
+        }
+
+        private static final class Inner extends Node {
+            /** {@code keys[i]} is greater than every key of {@code children[i]} and at most the least key of {@code children[i + 1]}. */
+            final long[] keys = new long[INNER_CAPACITY];
+            final Node[] children = new Node[INNER_CAPACITY + 1];
+            /** The number of children. */
+            int n;
+        }
+
+        private transient Node root;
+        private transient Leaf first, last;
+        private final PrimitiveComparator.OfLong comparator;
+        private final boolean natural;
+        transient int modCount;
+
+        /** Set by an insert that split a node: the new right sibling and the key separating it. */
+        private transient Node splitRight;
+        private transient long splitKey;
+
+        /**
+         * Constructs an empty set ordered naturally.
+         */
+        public OfLong() { this((PrimitiveComparator.OfLong) null); }
+
+        /**
+         * Constructs an empty set ordered by the specified comparator.
+         * @param comparator the comparator that will be used to order this set, or
+         *        {@code null} for natural ordering
+         */
+        public OfLong(PrimitiveComparator.OfLong comparator) {
+            this.comparator = comparator;
+            this.natural = comparator == null || comparator == PrimitiveComparator.naturalOrderLong();
+        }
+
+        /**
+         * Constructs a set containing the elements of the specified collection, ordered naturally.
+         * @param c the collection whose elements will comprise the new set
+         */
+        public OfLong(PrimitiveCollection.OfLong c) {
+            this((PrimitiveComparator.OfLong) null);
+            addAllLong(c);
+        }
+
+        ///////////// Tree internals
+
+        private int cmp(long a, long b) { return natural ? java.lang.Long.compare(a, b) : comparator.compareLong(a, b); }
+
+        /**
+         * Binary search of {@code k} among the first {@code n} keys.
+         * @return the index of {@code k}, or {@code -(insertion point + 1)}
+         */
+        private int search(long[] keys, int n, long k) {
+            int lo = 0, hi = n - 1;
+            if(natural) {
+                while(lo <= hi) {
+                    int mid = (lo + hi) >>> 1;
+                    long m = keys[mid];
+                    if(m < k) lo = mid + 1;
+                    else if(m > k) hi = mid - 1;
+                    else return mid;
+                }
+            } else {
+                final PrimitiveComparator.OfLong c = comparator;
+                while(lo <= hi) {
+                    int mid = (lo + hi) >>> 1;
+                    int r = c.compareLong(keys[mid], k);
+                    if(r < 0) lo = mid + 1;
+                    else if(r > 0) hi = mid - 1;
+                    else return mid;
+                }
+            }
+            return -(lo + 1);
+        }
+
+        /**
+         * Returns the child of {@code in} whose range holds {@code k}: the first one whose
+         * right separator is greater than {@code k}.
+         */
+        private int childIndex(Inner in, long k) {
+            final long[] keys = in.keys;
+            int lo = 0, hi = in.n - 1;
+            if(natural) {
+                while(lo < hi) {
+                    int mid = (lo + hi) >>> 1;
+                    if(keys[mid] > k) hi = mid;
+                    else lo = mid + 1;
+                }
+            } else {
+                while(lo < hi) {
+                    int mid = (lo + hi) >>> 1;
+                    if(comparator.compareLong(keys[mid], k) > 0) hi = mid;
+                    else lo = mid + 1;
+                }
+            }
+            return lo;
+        }
+
+        private Leaf findLeaf(long k) {
+            Node x = root;
+            while(x instanceof Inner in) x = in.children[childIndex(in, k)];
+            return (Leaf) x;
+        }
+
+        /**
+         * Returns the leaf holding the least element greater than (or equal to, if
+         * {@code inclusive}) {@code k}, or {@code null}. The element is at
+         * {@link #ceilingIndex(Leaf, long, boolean)}.
+         */
+        Leaf ceilingLeaf(long k, boolean inclusive) {
+            if(root == null) return null;
+            Leaf l = findLeaf(k);
+            return ceilingIndex(l, k, inclusive) < l.size ? l : l.next;
+        }
+
+        int ceilingIndex(Leaf l, long k, boolean inclusive) {
+            int i = search(l.keys, l.size, k);
+            return i >= 0 ? (inclusive ? i : i + 1) : -i - 1;
+        }
+
+        /**
+         * Returns the leaf holding the greatest element less than (or equal to, if
+         * {@code inclusive}) {@code k}, or {@code null}. The element is at
+         * {@link #floorIndex(Leaf, long, boolean)}.
+         */
+        Leaf floorLeaf(long k, boolean inclusive) {
+            if(root == null) return null;
+            Leaf l = findLeaf(k);
+            return floorIndex(l, k, inclusive) >= 0 ? l : l.prev;
+        }
+
+        int floorIndex(Leaf l, long k, boolean inclusive) {
+            int i = search(l.keys, l.size, k);
+            return i >= 0 ? (inclusive ? i : i - 1) : -i - 2;
+        }
+
+        /**
+         * Returns the number of elements less than (or equal to, if {@code inclusive}) {@code k}.
+         */
+        int rank(long k, boolean inclusive) {
+            Node x = root;
+            if(x == null) return 0;
+            int r = 0;
+            while(x instanceof Inner in) {
+                int c = childIndex(in, k);
+                final Node[] ch = in.children;
+                for(int j = 0; j < c; j++) r += ch[j].size;
+                x = ch[c];
+            }
+            Leaf l = (Leaf) x;
+            int i = search(l.keys, l.size, k);
+            return r + (i >= 0 ? (inclusive ? i + 1 : i) : -i - 1);
+        }
+
+        private boolean insert(Node x, long k) {
+            if(x instanceof Leaf l) {
+                int i = search(l.keys, l.size, k);
+                if(i >= 0) return false;
+                i = -i - 1;
+                System.arraycopy(l.keys, i, l.keys, i + 1, l.size - i);
+                l.keys[i] = k;
+                l.size++;
+                return true;
+            }
+            Inner in = (Inner) x;
+            int c = childIndex(in, k);
+            Node child = in.children[c];
+            if(!insert(child, k)) return false;
+            in.size++;
+            if(child instanceof Leaf l && l.size > LEAF_CAPACITY && !spill(in, c, l)) splitLeaf(l, k);
+            Node right = splitRight;
+            if(right != null) {
+                splitRight = null;
+                System.arraycopy(in.keys, c, in.keys, c + 1, in.n - 1 - c);
+                System.arraycopy(in.children, c + 1, in.children, c + 2, in.n - 1 - c);
+                in.keys[c] = splitKey;
+                in.children[c + 1] = right;
+                if(++in.n > INNER_CAPACITY) splitInner(in);
+            }
+            return true;
+        }
+
+        /**
+         * Moves keys from the overflowing child {@code c} of {@code in} into a sibling with
+         * room, evening the two out. Spilling before splitting keeps leaves about
+         * {@code 4/5} full under random inserts rather than {@code 2/3}.
+         * @return {@code false} if both siblings are full
+         */
+        private static boolean spill(Inner in, int c, Leaf l) {
+            if(c + 1 < in.n && in.children[c + 1] instanceof Leaf r && r.size < LEAF_CAPACITY) {
+                int m = (l.size - r.size + 1) >>> 1;
+                System.arraycopy(r.keys, 0, r.keys, m, r.size);
+                System.arraycopy(l.keys, l.size - m, r.keys, 0, m);
+                l.size -= m;
+                r.size += m;
+                in.keys[c] = r.keys[0];
+                return true;
+            }
+            if(c > 0 && in.children[c - 1] instanceof Leaf left && left.size < LEAF_CAPACITY) {
+                int m = (l.size - left.size + 1) >>> 1;
+                System.arraycopy(l.keys, 0, left.keys, left.size, m);
+                System.arraycopy(l.keys, m, l.keys, 0, l.size - m);
+                left.size += m;
+                l.size -= m;
+                in.keys[c - 1] = l.keys[0];
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Splits an overflowing leaf in two. An insert of {@code k} at the very end of the set
+         * keeps the left leaf full, so ascending bulk loads pack leaves densely.
+         */
+        private void splitLeaf(Leaf l, long k) {
+            Leaf r = new Leaf();
+            int n = l.size, h = (l.next == null && cmp(l.keys[n - 1], k) == 0) ? LEAF_CAPACITY : n >>> 1;
+            System.arraycopy(l.keys, h, r.keys, 0, n - h);
+            r.size = n - h;
+            l.size = h;
+            if((r.next = l.next) != null) r.next.prev = r;
+            else last = r;
+            l.next = r;
+            r.prev = l;
+            splitKey = r.keys[0];
+            splitRight = r;
+        }
+
+        private void splitInner(Inner in) {
+            Inner r = new Inner();
+            int n = in.n, h = n >>> 1;
+            splitKey = in.keys[h - 1];
+            System.arraycopy(in.keys, h, r.keys, 0, n - 1 - h);
+            System.arraycopy(in.children, h, r.children, 0, n - h);
+            Arrays.fill(in.children, h, n, null);
+            r.n = n - h;
+            in.n = h;
+            int moved = 0;
+            for(int j = 0; j < r.n; j++) moved += r.children[j].size;
+            r.size = moved;
+            in.size -= moved;
+            splitRight = r;
+        }
+
+        private boolean delete(Node x, long k) {
+            if(x instanceof Leaf l) {
+                int i = search(l.keys, l.size, k);
+                if(i < 0) return false;
+                System.arraycopy(l.keys, i + 1, l.keys, i, --l.size - i);
+                return true;
+            }
+            Inner in = (Inner) x;
+            int c = childIndex(in, k);
+            Node child = in.children[c];
+            if(!delete(child, k)) return false;
+            in.size--;
+            if(child instanceof Leaf l ? l.size < LEAF_MIN : ((Inner) child).n < INNER_MIN) rebalance(in, c);
+            return true;
+        }
+
+        /**
+         * Refills the underflowing child {@code c} of {@code in} from a sibling, or merges
+         * the two when they fit in one node.
+         */
+        private void rebalance(Inner in, int c) {
+            int li = c + 1 < in.n ? c : c - 1;
+            if(li < 0) return;
+            if(in.children[li] instanceof Leaf left) {
+                Leaf right = (Leaf) in.children[li + 1];
+                int t = left.size + right.size;
+                if(t <= LEAF_CAPACITY) {
+                    System.arraycopy(right.keys, 0, left.keys, left.size, right.size);
+                    left.size = t;
+                    if((left.next = right.next) != null) left.next.prev = left;
+                    else last = left;
+                    removeChild(in, li);
+                    return;
+                }
+                int h = t >>> 1;
+                if(left.size < h) {
+                    int m = h - left.size;
+                    System.arraycopy(right.keys, 0, left.keys, left.size, m);
+                    System.arraycopy(right.keys, m, right.keys, 0, right.size - m);
+                    left.size = h;
+                    right.size -= m;
+                } else {
+                    int m = left.size - h;
+                    System.arraycopy(right.keys, 0, right.keys, m, right.size);
+                    System.arraycopy(left.keys, h, right.keys, 0, m);
+                    left.size = h;
+                    right.size += m;
+                }
+                in.keys[li] = right.keys[0];
+                return;
+            }
+            Inner left = (Inner) in.children[li], right = (Inner) in.children[li + 1];
+            long sep = in.keys[li];
+            if(left.n + right.n <= INNER_CAPACITY) {
+                left.keys[left.n - 1] = sep;
+                System.arraycopy(right.keys, 0, left.keys, left.n, right.n - 1);
+                System.arraycopy(right.children, 0, left.children, left.n, right.n);
+                left.n += right.n;
+                left.size += right.size;
+                removeChild(in, li);
+                return;
+            }
+            int h = (left.n + right.n) >>> 1, moved = 0;
+            if(left.n < h) {
+                int m = h - left.n;
+                left.keys[left.n - 1] = sep;
+                System.arraycopy(right.keys, 0, left.keys, left.n, m - 1);
+                System.arraycopy(right.children, 0, left.children, left.n, m);
+                in.keys[li] = right.keys[m - 1];
+                System.arraycopy(right.keys, m, right.keys, 0, right.n - 1 - m);
+                System.arraycopy(right.children, m, right.children, 0, right.n - m);
+                Arrays.fill(right.children, right.n - m, right.n, null);
+                for(int j = left.n; j < h; j++) moved += left.children[j].size;
+                left.n = h;
+                right.n -= m;
+                left.size += moved;
+                right.size -= moved;
+            } else {
+                int m = left.n - h;
+                System.arraycopy(right.keys, 0, right.keys, m, right.n - 1);
+                System.arraycopy(right.children, 0, right.children, m, right.n);
+                right.keys[m - 1] = sep;
+                System.arraycopy(left.keys, h, right.keys, 0, m - 1);
+                System.arraycopy(left.children, h, right.children, 0, m);
+                in.keys[li] = left.keys[h - 1];
+                Arrays.fill(left.children, h, left.n, null);
+                for(int j = 0; j < m; j++) moved += right.children[j].size;
+                left.n = h;
+                right.n += m;
+                left.size -= moved;
+                right.size += moved;
+            }
+        }
+
+        /** Removes separator {@code li} and child {@code li + 1} of {@code in}. */
+        private static void removeChild(Inner in, int li) {
+            System.arraycopy(in.keys, li + 1, in.keys, li, in.n - 2 - li);
+            System.arraycopy(in.children, li + 2, in.children, li + 1, in.n - 2 - li);
+            in.children[--in.n] = null;
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return root == null ? 0 : root.size; }
+
+        @Override
+        public boolean isEmpty() { return root == null; }
+
+        @Override
+        public boolean containsLong(long e) {
+            if(root == null) return false;
+            Leaf l = findLeaf(e);
+            return search(l.keys, l.size, e) >= 0;
+        }
+
+        @Override
+        public PrimitiveComparator.OfLong comparatorLong() { return comparator; }
+
+        @Override
+        public Comparator<java.lang.Long> comparator() { return comparator; }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addLong(long e) {
+            if(root == null) {
+                Leaf l = new Leaf();
+                l.keys[0] = e;
+                l.size = 1;
+                root = first = last = l;
+                modCount++;
+                return true;
+            }
+            if(!insert(root, e)) return false;
+            if(root instanceof Leaf l && l.size > LEAF_CAPACITY) splitLeaf(l, e);
+            Node right = splitRight;
+            if(right != null) {
+                splitRight = null;
+                Inner r = new Inner();
+                r.children[0] = root;
+                r.children[1] = right;
+                r.keys[0] = splitKey;
+                r.n = 2;
+                r.size = root.size + right.size;
+                root = r;
+            }
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeLong(long e) {
+            if(root == null || !delete(root, e)) return false;
+            while(root instanceof Inner in && in.n == 1) root = in.children[0];
+            if(root.size == 0) root = first = last = null;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            root = first = last = null;
+        }
+
+        ///////////// Navigation
+
+        @Override
+        public long firstLong() {
+            if(first == null) throw new NoSuchElementException();
+            return first.keys[0];
+        }
+
+        @Override
+        public long lastLong() {
+            if(last == null) throw new NoSuchElementException();
+            return last.keys[last.size - 1];
+        }
+
+        @Override
+        public java.lang.Long first() { return firstLong(); }
+
+        @Override
+        public java.lang.Long last() { return lastLong(); }
+
+        @Override
+        public java.lang.Long getFirst() { return firstLong(); }
+
+        @Override
+        public java.lang.Long getLast() { return lastLong(); }
+
+        @Override
+        public long ceilingLong(long e) {
+            Leaf l = ceilingLeaf(e, true);
+            if(l == null) throw new NoSuchElementException();
+            return l.keys[ceilingIndex(l, e, true)];
+        }
+
+        @Override
+        public long higherLong(long e) {
+            Leaf l = ceilingLeaf(e, false);
+            if(l == null) throw new NoSuchElementException();
+            return l.keys[ceilingIndex(l, e, false)];
+        }
+
+        @Override
+        public long floorLong(long e) {
+            Leaf l = floorLeaf(e, true);
+            if(l == null) throw new NoSuchElementException();
+            return l.keys[floorIndex(l, e, true)];
+        }
+
+        @Override
+        public long lowerLong(long e) {
+            Leaf l = floorLeaf(e, false);
+            if(l == null) throw new NoSuchElementException();
+            return l.keys[floorIndex(l, e, false)];
+        }
+
+        @Override
+        public java.lang.Long ceiling(java.lang.Long e) {
+            Leaf l = ceilingLeaf(e, true);
+            return l == null ? null : l.keys[ceilingIndex(l, e, true)];
+        }
+
+        @Override
+        public java.lang.Long higher(java.lang.Long e) {
+            Leaf l = ceilingLeaf(e, false);
+            return l == null ? null : l.keys[ceilingIndex(l, e, false)];
+        }
+
+        @Override
+        public java.lang.Long floor(java.lang.Long e) {
+            Leaf l = floorLeaf(e, true);
+            return l == null ? null : l.keys[floorIndex(l, e, true)];
+        }
+
+        @Override
+        public java.lang.Long lower(java.lang.Long e) {
+            Leaf l = floorLeaf(e, false);
+            return l == null ? null : l.keys[floorIndex(l, e, false)];
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the first element, or {@code 0} if this set is empty
+         */
+        @Override
+        public long pollFirstLong() {
+            if(first == null) return 0;
+            long e = first.keys[0];
+            removeLong(e);
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the last element, or {@code 0} if this set is empty
+         */
+        @Override
+        public long pollLastLong() {
+            if(last == null) return 0;
+            long e = last.keys[last.size - 1];
+            removeLong(e);
+            return e;
+        }
+
+        @Override
+        public java.lang.Long pollFirst() { return first == null ? null : pollFirstLong(); }
+
+        @Override
+        public java.lang.Long pollLast() { return last == null ? null : pollLastLong(); }
+
+        @Override
+        public long removeFirstLong() {
+            long e = firstLong();
+            removeLong(e);
+            return e;
+        }
+
+        @Override
+        public long removeLastLong() {
+            long e = lastLong();
+            removeLong(e);
+            return e;
+        }
+
+        @Override
+        public java.lang.Long removeFirst() { return removeFirstLong(); }
+
+        @Override
+        public java.lang.Long removeLast() { return removeLastLong(); }
+
+        ///////////// Views
+
+        @Override
+        public PrimitiveNavigableSet.OfLong subSetLong(long fromElement, boolean fromInclusive, long toElement, boolean toInclusive) {
+            if(cmp(fromElement, toElement) > 0) throw new IllegalArgumentException("fromKey > toKey");
+            return new SubSet(false, fromElement, fromInclusive, false, toElement, toInclusive, false);
+        }
+
+        @Override
+        public PrimitiveNavigableSet.OfLong headSetLong(long toElement, boolean inclusive) {
+            return new SubSet(true, toElement, true, false, toElement, inclusive, false);
+        }
+
+        @Override
+        public PrimitiveNavigableSet.OfLong tailSetLong(long fromElement, boolean inclusive) {
+            return new SubSet(false, fromElement, inclusive, true, fromElement, true, false);
+        }
+
+        @Override
+        public PrimitiveSortedSet.OfLong subSetLong(long fromElement, long toElement) { return subSetLong(fromElement, true, toElement, false); }
+
+        @Override
+        public PrimitiveSortedSet.OfLong headSetLong(long toElement) { return headSetLong(toElement, false); }
+
+        @Override
+        public PrimitiveSortedSet.OfLong tailSetLong(long fromElement) { return tailSetLong(fromElement, true); }
+
+        @Override
+        public PrimitiveNavigableSet.OfLong descendingSetLong() { return new SubSet(true, 0, true, true, 0, true, true); }
+
+        @Override
+        public PrimitiveNavigableSet.OfLong reversedLong() { return descendingSetLong(); }
+
+        ///////////// Traversal
+
+        @Override
+        public Iterator<java.lang.Long> iterator() { return iteratorLong(); }
+
+        @Override
+        public PrimitiveIterator.OfLong iteratorLong() { return new Itr(first, 0, size(), false); }
+
+        @Override
+        public PrimitiveIterator.OfLong descendingIteratorLong() {
+            Leaf l = last;
+            return new Itr(l, l == null ? 0 : l.size - 1, size(), true);
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfLong action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            for(Leaf l = first; l != null; l = l.next) {
+                final long[] keys = l.keys;
+                for(int i = 0, n = l.size; i < n; i++) action.acceptLong(keys[i]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long[] toArrayLong() {
+            long[] a = new long[size()];
+            int off = 0;
+            for(Leaf l = first; l != null; l = l.next) {
+                System.arraycopy(l.keys, 0, a, off, l.size);
+                off += l.size;
+            }
+            return a;
+        }
+
+        @Override
+        public long[] toArrayLong(long[] array) {
+            if(array.length < size()) return toArrayLong();
+            int off = 0;
+            for(Leaf l = first; l != null; l = l.next) {
+                System.arraycopy(l.keys, 0, array, off, l.size);
+                off += l.size;
+            }
+            return array;
+        }
+
+        /**
+         * Creates a <em>fail-fast</em> spliterator over the
+         * elements in this set, in ascending order. It reports {@link Spliterator#SORTED},
+         * {@link Spliterator#ORDERED}, {@link Spliterator#DISTINCT} and {@link Spliterator#SIZED},
+         * and splits off array-backed prefixes.
+         * @return a spliterator over the elements in this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfLong spliteratorLong() { return new Spliter(first, 0, size(), false); }
+
+        /**
+         * Walks {@code remaining} elements along the leaf chain starting at {@code keys[index]}
+         * of {@code leaf}, forwards or backwards.
+         */
+        private final class Itr implements PrimitiveIterator.OfLong {
+            private Leaf leaf;
+            private int index;
+            private int remaining;
+            private final boolean descending;
+            private long lastRet;
+            private boolean canRemove;
+            private int expectedModCount = modCount;
+
+            Itr(Leaf leaf, int index, int remaining, boolean descending) {
+                this.leaf = leaf;
+                this.index = index;
+                this.remaining = remaining;
+                this.descending = descending;
+            }
+
+            public boolean hasNext() { return remaining > 0; }
+
+            public long nextLong() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(remaining <= 0) throw new NoSuchElementException();
+                remaining--;
+                if(descending) {
+                    if(index < 0) index = (leaf = leaf.prev).size - 1;
+                    lastRet = leaf.keys[index--];
+                } else {
+                    if(index >= leaf.size) {
+                        leaf = leaf.next;
+                        index = 0;
+                    }
+                    lastRet = leaf.keys[index++];
+                }
+                canRemove = true;
+                return lastRet;
+            }
+
+            public void remove() {
+                if(!canRemove) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                canRemove = false;
+                removeLong(lastRet);
+                expectedModCount = modCount;
+                // the removal may have merged or refilled leaves, so find the position again
+                if(remaining > 0) {
+                    if(descending) index = floorIndex(leaf = floorLeaf(lastRet, false), lastRet, false);
+                    else index = ceilingIndex(leaf = ceilingLeaf(lastRet, false), lastRet, false);
+                }
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfLong {
+            private static final int MAX_BATCH = 1 << 12;
+            private Leaf leaf;
+            private int index;
+            private int remaining;
+            private final boolean descending;
+            private final int expectedModCount = modCount;
+
+            Spliter(Leaf leaf, int index, int remaining, boolean descending) {
+                this.leaf = leaf;
+                this.index = index;
+                this.remaining = remaining;
+                this.descending = descending;
+            }
+
+            @Override
+            public PrimitiveSpliterator.OfLong trySplit() {
+                int n = java.lang.Math.min(remaining >>> 1, MAX_BATCH);
+                if(n < LEAF_CAPACITY) return null;
+                long[] a = new long[n];
+                int[] i = {0};
+                for(int j = 0; j < n; j++) tryAdvance((PrimitiveConsumer.OfLong) e -> a[i[0]++] = e);
+                return new ArraySpliterator.OfLong(a, 0, n, characteristics() & ~(natural ? 0 : Spliterator.SORTED));
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfLong action) {
+                if(action == null) throw new NullPointerException();
+                if(remaining <= 0) return false;
+                remaining--;
+                long e;
+                if(descending) {
+                    if(index < 0) index = (leaf = leaf.prev).size - 1;
+                    e = leaf.keys[index--];
+                } else {
+                    if(index >= leaf.size) {
+                        leaf = leaf.next;
+                        index = 0;
+                    }
+                    e = leaf.keys[index++];
+                }
+                action.acceptLong(e);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfLong action) {
+                if(action == null) throw new NullPointerException();
+                int r = remaining;
+                if(r <= 0) return;
+                remaining = 0;
+                Leaf l = leaf;
+                int i = index;
+                if(descending) {
+                    for(;;) {
+                        if(i < 0) i = (l = l.prev).size - 1;
+                        int take = java.lang.Math.min(r, i + 1);
+                        for(int end = i - take; i > end; i--) action.acceptLong(l.keys[i]);
+                        if((r -= take) == 0) break;
+                    }
+                } else {
+                    for(;;) {
+                        if(i >= l.size) {
+                            l = l.next;
+                            i = 0;
+                        }
+                        int take = java.lang.Math.min(r, l.size - i);
+                        for(int end = i + take; i < end; i++) action.acceptLong(l.keys[i]);
+                        if((r -= take) == 0) break;
+                    }
+                }
+                leaf = l;
+                index = i;
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return remaining; }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SIZED | Spliterator.SUBSIZED | (descending ? 0 : Spliterator.SORTED);
+            }
+
+            @Override
+            public PrimitiveComparator.OfLong getComparator() {
+                if(descending) throw new IllegalStateException();
+                return natural ? null : comparator;
+            }
+        }
+
+        /**
+         * A range of the set, possibly in descending order. The bounds are in the set's own
+         * ascending order; {@code lo} is ignored when {@code fromStart} and {@code hi} when
+         * {@code toEnd}.
+         */
+        private final class SubSet extends PrimitiveAbstractSet.OfLong implements PrimitiveNavigableSet.OfLong {
+            private final boolean fromStart, loInclusive, toEnd, hiInclusive, descending;
+            private final long lo, hi;
+
+            SubSet(boolean fromStart, long lo, boolean loInclusive, boolean toEnd, long hi, boolean hiInclusive, boolean descending) {
+                this.fromStart = fromStart;
+                this.lo = lo;
+                this.loInclusive = loInclusive;
+                this.toEnd = toEnd;
+                this.hi = hi;
+                this.hiInclusive = hiInclusive;
+                this.descending = descending;
+            }
+
+            private boolean tooLow(long k) {
+                if(fromStart) return false;
+                int c = cmp(k, lo);
+                return c < 0 || (c == 0 && !loInclusive);
+            }
+
+            private boolean tooHigh(long k) {
+                if(toEnd) return false;
+                int c = cmp(k, hi);
+                return c > 0 || (c == 0 && !hiInclusive);
+            }
+
+            private boolean inRange(long k) { return !tooLow(k) && !tooHigh(k); }
+
+            /** Whether {@code k} may bound a view of this one. */
+            private boolean inRange(long k, boolean inclusive) {
+                if(inclusive) return inRange(k);
+                return (fromStart || cmp(k, lo) >= 0) && (toEnd || cmp(hi, k) >= 0);
+            }
+
+            // The abs* methods navigate in the set's ascending order within the bounds. Each
+            // returns the leaf of the answer, or null, and has an index companion that finds
+            // the answer within that leaf.
+
+            private Leaf absLowestLeaf() {
+                Leaf l = fromStart ? first : ceilingLeaf(lo, loInclusive);
+                return l == null || tooHigh(l.keys[absLowestIndex(l)]) ? null : l;
+            }
+
+            private int absLowestIndex(Leaf l) { return fromStart ? 0 : ceilingIndex(l, lo, loInclusive); }
+
+            private Leaf absHighestLeaf() {
+                Leaf l = toEnd ? last : floorLeaf(hi, hiInclusive);
+                return l == null || tooLow(l.keys[absHighestIndex(l)]) ? null : l;
+            }
+
+            private int absHighestIndex(Leaf l) { return toEnd ? l.size - 1 : floorIndex(l, hi, hiInclusive); }
+
+            private Leaf absCeilingLeaf(long k, boolean inclusive) {
+                if(tooLow(k)) return absLowestLeaf();
+                Leaf l = ceilingLeaf(k, inclusive);
+                return l == null || tooHigh(l.keys[ceilingIndex(l, k, inclusive)]) ? null : l;
+            }
+
+            private int absCeilingIndex(Leaf l, long k, boolean inclusive) { return tooLow(k) ? absLowestIndex(l) : ceilingIndex(l, k, inclusive); }
+
+            private Leaf absFloorLeaf(long k, boolean inclusive) {
+                if(tooHigh(k)) return absHighestLeaf();
+                Leaf l = floorLeaf(k, inclusive);
+                return l == null || tooLow(l.keys[floorIndex(l, k, inclusive)]) ? null : l;
+            }
+
+            private int absFloorIndex(Leaf l, long k, boolean inclusive) { return tooHigh(k) ? absHighestIndex(l) : floorIndex(l, k, inclusive); }
+
+            /** Whether the view has an element at or after (at or before, if {@code floor}) {@code k}. */
+            private boolean has(long k, boolean floor, boolean inclusive) {
+                return (floor ? absFloorLeaf(k, inclusive) : absCeilingLeaf(k, inclusive)) != null;
+            }
+
+            /** Navigates in view order: {@code up} finds the ceiling (or higher) in view order, otherwise the floor (or lower). */
+            private long nav(long k, boolean up, boolean inclusive) {
+                if(up != descending) {
+                    Leaf l = absCeilingLeaf(k, inclusive);
+                    if(l == null) throw new NoSuchElementException();
+                    return l.keys[absCeilingIndex(l, k, inclusive)];
+                }
+                Leaf l = absFloorLeaf(k, inclusive);
+                if(l == null) throw new NoSuchElementException();
+                return l.keys[absFloorIndex(l, k, inclusive)];
+            }
+
+            private long end(boolean high) {
+                if(high) {
+                    Leaf l = absHighestLeaf();
+                    if(l == null) throw new NoSuchElementException();
+                    return l.keys[absHighestIndex(l)];
+                }
+                Leaf l = absLowestLeaf();
+                if(l == null) throw new NoSuchElementException();
+                return l.keys[absLowestIndex(l)];
+            }
+
+            ///////////// Query operations
+
+            @Override
+            public int size() {
+                int from = fromStart ? 0 : rank(lo, !loInclusive);
+                int to = toEnd ? PrimitiveBTreeSet.OfLong.this.size() : rank(hi, hiInclusive);
+                return java.lang.Math.max(0, to - from);
+            }
+
+            @Override
+            public boolean isEmpty() { return absLowestLeaf() == null; }
+
+            @Override
+            public boolean containsLong(long e) { return inRange(e) && PrimitiveBTreeSet.OfLong.this.containsLong(e); }
+
+            @Override
+            public PrimitiveComparator.OfLong comparatorLong() {
+                if(!descending) return comparator;
+                return comparator == null ? PrimitiveComparator.reverseOrderLong() : comparator.reversedLong();
+            }
+
+            @Override
+            public Comparator<java.lang.Long> comparator() {
+                return descending || !natural ? comparatorLong() : null;
+            }
+
+            ///////////// Modification operations
+
+            @Override
+            public boolean addLong(long e) {
+                if(!inRange(e)) throw new IllegalArgumentException("key out of range");
+                return PrimitiveBTreeSet.OfLong.this.addLong(e);
+            }
+
+            @Override
+            public boolean removeLong(long e) { return inRange(e) && PrimitiveBTreeSet.OfLong.this.removeLong(e); }
+
+            ///////////// Navigation
+
+            @Override
+            public long firstLong() { return end(descending); }
+
+            @Override
+            public long lastLong() { return end(!descending); }
+
+            @Override
+            public java.lang.Long first() { return firstLong(); }
+
+            @Override
+            public java.lang.Long last() { return lastLong(); }
+
+            @Override
+            public java.lang.Long getFirst() { return firstLong(); }
+
+            @Override
+            public java.lang.Long getLast() { return lastLong(); }
+
+            @Override
+            public long ceilingLong(long e) { return nav(e, true, true); }
+
+            @Override
+            public long higherLong(long e) { return nav(e, true, false); }
+
+            @Override
+            public long floorLong(long e) { return nav(e, false, true); }
+
+            @Override
+            public long lowerLong(long e) { return nav(e, false, false); }
+
+            @Override
+            public java.lang.Long ceiling(java.lang.Long e) { return has(e, descending, true) ? nav(e, true, true) : null; }
+
+            @Override
+            public java.lang.Long higher(java.lang.Long e) { return has(e, descending, false) ? nav(e, true, false) : null; }
+
+            @Override
+            public java.lang.Long floor(java.lang.Long e) { return has(e, !descending, true) ? nav(e, false, true) : null; }
+
+            @Override
+            public java.lang.Long lower(java.lang.Long e) { return has(e, !descending, false) ? nav(e, false, false) : null; }
+
+            /**
+             * {@inheritDoc}
+             * @return the first element, or {@code 0} if this set is empty
+             */
+            @Override
+            public long pollFirstLong() {
+                if(isEmpty()) return 0;
+                long e = firstLong();
+                PrimitiveBTreeSet.OfLong.this.removeLong(e);
+                return e;
+            }
+
+            /**
+             * {@inheritDoc}
+             * @return the last element, or {@code 0} if this set is empty
+             */
+            @Override
+            public long pollLastLong() {
+                if(isEmpty()) return 0;
+                long e = lastLong();
+                PrimitiveBTreeSet.OfLong.this.removeLong(e);
+                return e;
+            }
+
+            @Override
+            public java.lang.Long pollFirst() { return isEmpty() ? null : pollFirstLong(); }
+
+            @Override
+            public java.lang.Long pollLast() { return isEmpty() ? null : pollLastLong(); }
+
+            @Override
+            public long removeFirstLong() {
+                long e = firstLong();
+                PrimitiveBTreeSet.OfLong.this.removeLong(e);
+                return e;
+            }
+
+            @Override
+            public long removeLastLong() {
+                long e = lastLong();
+                PrimitiveBTreeSet.OfLong.this.removeLong(e);
+                return e;
+            }
+
+            @Override
+            public java.lang.Long removeFirst() { return removeFirstLong(); }
+
+            @Override
+            public java.lang.Long removeLast() { return removeLastLong(); }
+
+            ///////////// Views
+
+            @Override
+            public PrimitiveNavigableSet.OfLong subSetLong(long fromElement, boolean fromInclusive, long toElement, boolean toInclusive) {
+                if(!inRange(fromElement, fromInclusive)) throw new IllegalArgumentException("fromKey out of range");
+                if(!inRange(toElement, toInclusive)) throw new IllegalArgumentException("toKey out of range");
+                if(descending) {
+                    if(cmp(fromElement, toElement) < 0) throw new IllegalArgumentException("fromKey > toKey");
+                    return new SubSet(false, toElement, toInclusive, false, fromElement, fromInclusive, true);
+                }
+                if(cmp(fromElement, toElement) > 0) throw new IllegalArgumentException("fromKey > toKey");
+                return new SubSet(false, fromElement, fromInclusive, false, toElement, toInclusive, false);
+            }
+
+            @Override
+            public PrimitiveNavigableSet.OfLong headSetLong(long toElement, boolean inclusive) {
+                if(!inRange(toElement, inclusive)) throw new IllegalArgumentException("toKey out of range");
+                if(descending) return new SubSet(false, toElement, inclusive, toEnd, hi, hiInclusive, true);
+                return new SubSet(fromStart, lo, loInclusive, false, toElement, inclusive, false);
+            }
+
+            @Override
+            public PrimitiveNavigableSet.OfLong tailSetLong(long fromElement, boolean inclusive) {
+                if(!inRange(fromElement, inclusive)) throw new IllegalArgumentException("fromKey out of range");
+                if(descending) return new SubSet(fromStart, lo, loInclusive, false, fromElement, inclusive, true);
+                return new SubSet(false, fromElement, inclusive, toEnd, hi, hiInclusive, false);
+            }
+
+            @Override
+            public PrimitiveSortedSet.OfLong subSetLong(long fromElement, long toElement) { return subSetLong(fromElement, true, toElement, false); }
+
+            @Override
+            public PrimitiveSortedSet.OfLong headSetLong(long toElement) { return headSetLong(toElement, false); }
+
+            @Override
+            public PrimitiveSortedSet.OfLong tailSetLong(long fromElement) { return tailSetLong(fromElement, true); }
+
+            @Override
+            public PrimitiveNavigableSet.OfLong descendingSetLong() {
+                if(fromStart && toEnd && descending) return PrimitiveBTreeSet.OfLong.this;
+                return new SubSet(fromStart, lo, loInclusive, toEnd, hi, hiInclusive, !descending);
+            }
+
+            @Override
+            public PrimitiveNavigableSet.OfLong reversedLong() { return descendingSetLong(); }
+
+            ///////////// Traversal
+
+            @Override
+            public Iterator<java.lang.Long> iterator() { return iteratorLong(); }
+
+            @Override
+            public PrimitiveIterator.OfLong iteratorLong() { return iterator(descending); }
+
+            @Override
+            public PrimitiveIterator.OfLong descendingIteratorLong() { return iterator(!descending); }
+
+            private PrimitiveIterator.OfLong iterator(boolean backwards) {
+                int n = size();
+                if(n == 0) return new Itr(null, 0, 0, backwards);
+                if(backwards) {
+                    Leaf l = absHighestLeaf();
+                    return new Itr(l, absHighestIndex(l), n, true);
+                }
+                Leaf l = absLowestLeaf();
+                return new Itr(l, absLowestIndex(l), n, false);
+            }
+
+            @Override
+            public PrimitiveSpliterator.OfLong spliteratorLong() {
+                int n = size();
+                if(n == 0) return new Spliter(null, 0, 0, descending);
+                if(descending) {
+                    Leaf l = absHighestLeaf();
+                    return new Spliter(l, absHighestIndex(l), n, true);
+                }
+                Leaf l = absLowestLeaf();
+                return new Spliter(l, absLowestIndex(l), n, false);
+            }
+
+            @Override
+            public void forEach(PrimitiveConsumer.OfLong action) { spliteratorLong().forEachRemaining(action); }
+        }
+
+        ///////////// Copying
+
+        /**
+         * Returns a shallow copy of this set. The copy is built by a bulk load of the
+         * elements in order, so its leaves are packed.
+         * @return a copy of this set
+         */
+        @Override
+        public PrimitiveBTreeSet.OfLong clone() {
+            PrimitiveBTreeSet.OfLong c;
+            try {
+                c = (PrimitiveBTreeSet.OfLong) super.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+            c.root = c.first = c.last = null;
+            c.modCount = 0;
+            for(Leaf l = first; l != null; l = l.next) for(int i = 0; i < l.size; i++) c.addLong(l.keys[i]);
+            return c;
+        }
+    }
+
+    /**
+     * A {@link PrimitiveNavigableSet.OfInt} kept in a B+-tree whose nodes hold their keys
+     * in flat {@code int[]} arrays. Elements are ordered by a {@link PrimitiveComparator.OfInt},
+     * or naturally when none (or {@link PrimitiveComparator#naturalOrderInt()}) is given, in
+     * which case keys are compared inline.
+     * <p>
+     * All elements live in leaves of up to {@value #LEAF_CAPACITY} keys that are linked to
+     * their neighbours, so ordered traversal walks arrays instead of chasing a pointer per
+     * element, and the whole set costs a few bytes per element on top of the key itself.
+     * Inner nodes keep the element count of their subtree, which makes
+     * {@link #subSetInt(int, boolean, int, boolean) range views} cost O(log n) to create and to
+     * {@link java.util.Collection#size() size}. {@code addInt}, {@code removeInt},
+     * {@code containsInt} and the navigation methods take O(log n) time.
+     * <p>
+     * The unboxed {@code ceilingInt}, {@code floorInt}, {@code higherInt} and {@code lowerInt}
+     * throw {@link NoSuchElementException} when there is no such element, where the boxed
+     * ones return {@code null}; the unboxed {@code pollFirstInt} and {@code pollLastInt}
+     * return {@code 0} on an empty set.
+     * <p>
+     * The iterators of this class and of its views are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.TreeSet}
+     */
+    public static class OfInt extends PrimitiveAbstractSet.OfInt implements PrimitiveNavigableSet.OfInt, Cloneable {
+        /**
+         * The most keys a leaf holds.
+         */
+        public static final int LEAF_CAPACITY = 64;
+
+        /**
+         * The most children an inner node holds.
+         */
+        public static final int INNER_CAPACITY = 64;
+
+        /** The fewest keys a non-root leaf holds before it is merged or refilled. */
+        private static final int LEAF_MIN = LEAF_CAPACITY / 4;
+
+        /** The fewest children a non-root inner node holds before it is merged or refilled. */
+        private static final int INNER_MIN = INNER_CAPACITY / 4;
+
+        private static abstract class Node {
+            /** The number of elements in this subtree. */
+            int size;
+        }
+
+        private static final class Leaf extends Node {
+            /** The keys, sorted; {@code size} are live and one slot is kept for an overflowing insert. */
+            final int[] keys = new int[LEAF_CAPACITY + 1];
+            Leaf prev, next;
+        }
+
+        private static final class Inner extends Node {
+            /** {@code keys[i]} is greater than every key of {@code children[i]} and at most the least key of {@code children[i + 1]}. */
+            final int[] keys = new int[INNER_CAPACITY];
+            final Node[] children = new Node[INNER_CAPACITY + 1];
+            /** The number of children. */
+            int n;
+        }
+
+        private transient Node root;
+        private transient Leaf first, last;
+        private final PrimitiveComparator.OfInt comparator;
+        private final boolean natural;
+        transient int modCount;
+
+        /** Set by an insert that split a node: the new right sibling and the key separating it. */
+        private transient Node splitRight;
+        private transient int splitKey;
+
+        /**
+         * Constructs an empty set ordered naturally.
+         */
+        public OfInt() { this((PrimitiveComparator.OfInt) null); }
+
+        /**
+         * Constructs an empty set ordered by the specified comparator.
+         * @param comparator the comparator that will be used to order this set, or
+         *        {@code null} for natural ordering
+         */
+        public OfInt(PrimitiveComparator.OfInt comparator) {
+            this.comparator = comparator;
+            this.natural = comparator == null || comparator == PrimitiveComparator.naturalOrderInt();
+        }
+
+        /**
+         * Constructs a set containing the elements of the specified collection, ordered naturally.
+         * @param c the collection whose elements will comprise the new set
+         */
+        public OfInt(PrimitiveCollection.OfInt c) {
+            this((PrimitiveComparator.OfInt) null);
+            addAllInt(c);
+        }
+
+        ///////////// Tree internals
+
+        private int cmp(int a, int b) { return natural ? java.lang.Integer.compare(a, b) : comparator.compareInt(a, b); }
+
+        /**
+         * Binary search of {@code k} among the first {@code n} keys.
+         * @return the index of {@code k}, or {@code -(insertion point + 1)}
+         */
+        private int search(int[] keys, int n, int k) {
+            int lo = 0, hi = n - 1;
+            if(natural) {
+                while(lo <= hi) {
+                    int mid = (lo + hi) >>> 1;
+                    int m = keys[mid];
+                    if(m < k) lo = mid + 1;
+                    else if(m > k) hi = mid - 1;
+                    else return mid;
+                }
+            } else {
+                final PrimitiveComparator.OfInt c = comparator;
+                while(lo <= hi) {
+                    int mid = (lo + hi) >>> 1;
+                    int r = c.compareInt(keys[mid], k);
+                    if(r < 0) lo = mid + 1;
+                    else if(r > 0) hi = mid - 1;
+                    else return mid;
+                }
+            }
+            return -(lo + 1);
+        }
+
+        /**
+         * Returns the child of {@code in} whose range holds {@code k}: the first one whose
+         * right separator is greater than {@code k}.
+         */
+        private int childIndex(Inner in, int k) {
+            final int[] keys = in.keys;
+            int lo = 0, hi = in.n - 1;
+            if(natural) {
+                while(lo < hi) {
+                    int mid = (lo + hi) >>> 1;
+                    if(keys[mid] > k) hi = mid;
+                    else lo = mid + 1;
+                }
+            } else {
+                while(lo < hi) {
+                    int mid = (lo + hi) >>> 1;
+                    if(comparator.compareInt(keys[mid], k) > 0) hi = mid;
+                    else lo = mid + 1;
+                }
+            }
+            return lo;
+        }
+
+        private Leaf findLeaf(int k) {
+            Node x = root;
+            while(x instanceof Inner in) x = in.children[childIndex(in, k)];
+            return (Leaf) x;
+        }
+
+        /**
+         * Returns the leaf holding the least element greater than (or equal to, if
+         * {@code inclusive}) {@code k}, or {@code null}. The element is at
+         * {@link #ceilingIndex(Leaf, int, boolean)}.
+         */
+        Leaf ceilingLeaf(int k, boolean inclusive) {
+            if(root == null) return null;
+            Leaf l = findLeaf(k);
+            return ceilingIndex(l, k, inclusive) < l.size ? l : l.next;
+        }
+
+        int ceilingIndex(Leaf l, int k, boolean inclusive) {
+            int i = search(l.keys, l.size, k);
+            return i >= 0 ? (inclusive ? i : i + 1) : -i - 1;
+        }
+
+        /**
+         * Returns the leaf holding the greatest element less than (or equal to, if
+         * {@code inclusive}) {@code k}, or {@code null}. The element is at
+         * {@link #floorIndex(Leaf, int, boolean)}.
+         */
+        Leaf floorLeaf(int k, boolean inclusive) {
+            if(root == null) return null;
+            Leaf l = findLeaf(k);
+            return floorIndex(l, k, inclusive) >= 0 ? l : l.prev;
+        }
+
+        int floorIndex(Leaf l, int k, boolean inclusive) {
+            int i = search(l.keys, l.size, k);
+            return i >= 0 ? (inclusive ? i : i - 1) : -i - 2;
+        }
+
+        /**
+         * Returns the number of elements less than (or equal to, if {@code inclusive}) {@code k}.
+         */
+        int rank(int k, boolean inclusive) {
+            Node x = root;
+            if(x == null) return 0;
+            int r = 0;
+            while(x instanceof Inner in) {
+                int c = childIndex(in, k);
+                final Node[] ch = in.children;
+                for(int j = 0; j < c; j++) r += ch[j].size;
+                x = ch[c];
+            }
+            Leaf l = (Leaf) x;
+            int i = search(l.keys, l.size, k);
+            return r + (i >= 0 ? (inclusive ? i + 1 : i) : -i - 1);
+        }
+
+        private boolean insert(Node x, int k) {
+            if(x instanceof Leaf l) {
+                int i = search(l.keys, l.size, k);
+                if(i >= 0) return false;
+                i = -i - 1;
+                System.arraycopy(l.keys, i, l.keys, i + 1, l.size - i);
+                l.keys[i] = k;
+                l.size++;
+                return true;
+            }
+            Inner in = (Inner) x;
+            int c = childIndex(in, k);
+            Node child = in.children[c];
+            if(!insert(child, k)) return false;
+            in.size++;
+            if(child instanceof Leaf l && l.size > LEAF_CAPACITY && !spill(in, c, l)) splitLeaf(l, k);
+            Node right = splitRight;
+            if(right != null) {
+                splitRight = null;
+                System.arraycopy(in.keys, c, in.keys, c + 1, in.n - 1 - c);
+                System.arraycopy(in.children, c + 1, in.children, c + 2, in.n - 1 - c);
+                in.keys[c] = splitKey;
+                in.children[c + 1] = right;
+                if(++in.n > INNER_CAPACITY) splitInner(in);
+            }
+            return true;
+        }
+
+        /**
+         * Moves keys from the overflowing child {@code c} of {@code in} into a sibling with
+         * room, evening the two out. Spilling before splitting keeps leaves about
+         * {@code 4/5} full under random inserts rather than {@code 2/3}.
+         * @return {@code false} if both siblings are full
+         */
+        private static boolean spill(Inner in, int c, Leaf l) {
+            if(c + 1 < in.n && in.children[c + 1] instanceof Leaf r && r.size < LEAF_CAPACITY) {
+                int m = (l.size - r.size + 1) >>> 1;
+                System.arraycopy(r.keys, 0, r.keys, m, r.size);
+                System.arraycopy(l.keys, l.size - m, r.keys, 0, m);
+                l.size -= m;
+                r.size += m;
+                in.keys[c] = r.keys[0];
+                return true;
+            }
+            if(c > 0 && in.children[c - 1] instanceof Leaf left && left.size < LEAF_CAPACITY) {
+                int m = (l.size - left.size + 1) >>> 1;
+                System.arraycopy(l.keys, 0, left.keys, left.size, m);
+                System.arraycopy(l.keys, m, l.keys, 0, l.size - m);
+                left.size += m;
+                l.size -= m;
+                in.keys[c - 1] = l.keys[0];
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Splits an overflowing leaf in two. An insert of {@code k} at the very end of the set
+         * keeps the left leaf full, so ascending bulk loads pack leaves densely.
+         */
+        private void splitLeaf(Leaf l, int k) {
+            Leaf r = new Leaf();
+            int n = l.size, h = (l.next == null && cmp(l.keys[n - 1], k) == 0) ? LEAF_CAPACITY : n >>> 1;
+            System.arraycopy(l.keys, h, r.keys, 0, n - h);
+            r.size = n - h;
+            l.size = h;
+            if((r.next = l.next) != null) r.next.prev = r;
+            else last = r;
+            l.next = r;
+            r.prev = l;
+            splitKey = r.keys[0];
+            splitRight = r;
+        }
+
+        private void splitInner(Inner in) {
+            Inner r = new Inner();
+            int n = in.n, h = n >>> 1;
+            splitKey = in.keys[h - 1];
+            System.arraycopy(in.keys, h, r.keys, 0, n - 1 - h);
+            System.arraycopy(in.children, h, r.children, 0, n - h);
+            Arrays.fill(in.children, h, n, null);
+            r.n = n - h;
+            in.n = h;
+            int moved = 0;
+            for(int j = 0; j < r.n; j++) moved += r.children[j].size;
+            r.size = moved;
+            in.size -= moved;
+            splitRight = r;
+        }
+
+        private boolean delete(Node x, int k) {
+            if(x instanceof Leaf l) {
+                int i = search(l.keys, l.size, k);
+                if(i < 0) return false;
+                System.arraycopy(l.keys, i + 1, l.keys, i, --l.size - i);
+                return true;
+            }
+            Inner in = (Inner) x;
+            int c = childIndex(in, k);
+            Node child = in.children[c];
+            if(!delete(child, k)) return false;
+            in.size--;
+            if(child instanceof Leaf l ? l.size < LEAF_MIN : ((Inner) child).n < INNER_MIN) rebalance(in, c);
+            return true;
+        }
+
+        /**
+         * Refills the underflowing child {@code c} of {@code in} from a sibling, or merges
+         * the two when they fit in one node.
+         */
+        private void rebalance(Inner in, int c) {
+            int li = c + 1 < in.n ? c : c - 1;
+            if(li < 0) return;
+            if(in.children[li] instanceof Leaf left) {
+                Leaf right = (Leaf) in.children[li + 1];
+                int t = left.size + right.size;
+                if(t <= LEAF_CAPACITY) {
+                    System.arraycopy(right.keys, 0, left.keys, left.size, right.size);
+                    left.size = t;
+                    if((left.next = right.next) != null) left.next.prev = left;
+                    else last = left;
+                    removeChild(in, li);
+                    return;
+                }
+                int h = t >>> 1;
+                if(left.size < h) {
+                    int m = h - left.size;
+                    System.arraycopy(right.keys, 0, left.keys, left.size, m);
+                    System.arraycopy(right.keys, m, right.keys, 0, right.size - m);
+                    left.size = h;
+                    right.size -= m;
+                } else {
+                    int m = left.size - h;
+                    System.arraycopy(right.keys, 0, right.keys, m, right.size);
+                    System.arraycopy(left.keys, h, right.keys, 0, m);
+                    left.size = h;
+                    right.size += m;
+                }
+                in.keys[li] = right.keys[0];
+                return;
+            }
+            Inner left = (Inner) in.children[li], right = (Inner) in.children[li + 1];
+            int sep = in.keys[li];
+            if(left.n + right.n <= INNER_CAPACITY) {
+                left.keys[left.n - 1] = sep;
+                System.arraycopy(right.keys, 0, left.keys, left.n, right.n - 1);
+                System.arraycopy(right.children, 0, left.children, left.n, right.n);
+                left.n += right.n;
+                left.size += right.size;
+                removeChild(in, li);
+                return;
+            }
+            int h = (left.n + right.n) >>> 1, moved = 0;
+            if(left.n < h) {
+                int m = h - left.n;
+                left.keys[left.n - 1] = sep;
+                System.arraycopy(right.keys, 0, left.keys, left.n, m - 1);
+                System.arraycopy(right.children, 0, left.children, left.n, m);
+                in.keys[li] = right.keys[m - 1];
+                System.arraycopy(right.keys, m, right.keys, 0, right.n - 1 - m);
+                System.arraycopy(right.children, m, right.children, 0, right.n - m);
+                Arrays.fill(right.children, right.n - m, right.n, null);
+                for(int j = left.n; j < h; j++) moved += left.children[j].size;
+                left.n = h;
+                right.n -= m;
+                left.size += moved;
+                right.size -= moved;
+            } else {
+                int m = left.n - h;
+                System.arraycopy(right.keys, 0, right.keys, m, right.n - 1);
+                System.arraycopy(right.children, 0, right.children, m, right.n);
+                right.keys[m - 1] = sep;
+                System.arraycopy(left.keys, h, right.keys, 0, m - 1);
+                System.arraycopy(left.children, h, right.children, 0, m);
+                in.keys[li] = left.keys[h - 1];
+                Arrays.fill(left.children, h, left.n, null);
+                for(int j = 0; j < m; j++) moved += right.children[j].size;
+                left.n = h;
+                right.n += m;
+                left.size -= moved;
+                right.size += moved;
+            }
+        }
+
+        /** Removes separator {@code li} and child {@code li + 1} of {@code in}. */
+        private static void removeChild(Inner in, int li) {
+            System.arraycopy(in.keys, li + 1, in.keys, li, in.n - 2 - li);
+            System.arraycopy(in.children, li + 2, in.children, li + 1, in.n - 2 - li);
+            in.children[--in.n] = null;
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return root == null ? 0 : root.size; }
+
+        @Override
+        public boolean isEmpty() { return root == null; }
+
+        @Override
+        public boolean containsInt(int e) {
+            if(root == null) return false;
+            Leaf l = findLeaf(e);
+            return search(l.keys, l.size, e) >= 0;
+        }
+
+        @Override
+        public PrimitiveComparator.OfInt comparatorInt() { return comparator; }
+
+        @Override
+        public Comparator<java.lang.Integer> comparator() { return comparator; }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addInt(int e) {
+            if(root == null) {
+                Leaf l = new Leaf();
+                l.keys[0] = e;
+                l.size = 1;
+                root = first = last = l;
+                modCount++;
+                return true;
+            }
+            if(!insert(root, e)) return false;
+            if(root instanceof Leaf l && l.size > LEAF_CAPACITY) splitLeaf(l, e);
+            Node right = splitRight;
+            if(right != null) {
+                splitRight = null;
+                Inner r = new Inner();
+                r.children[0] = root;
+                r.children[1] = right;
+                r.keys[0] = splitKey;
+                r.n = 2;
+                r.size = root.size + right.size;
+                root = r;
+            }
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeInt(int e) {
+            if(root == null || !delete(root, e)) return false;
+            while(root instanceof Inner in && in.n == 1) root = in.children[0];
+            if(root.size == 0) root = first = last = null;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            root = first = last = null;
+        }
+
+        ///////////// Navigation
+
+        @Override
+        public int firstInt() {
+            if(first == null) throw new NoSuchElementException();
+            return first.keys[0];
+        }
+
+        @Override
+        public int lastInt() {
+            if(last == null) throw new NoSuchElementException();
+            return last.keys[last.size - 1];
+        }
+
+        @Override
+        public java.lang.Integer first() { return firstInt(); }
+
+        @Override
+        public java.lang.Integer last() { return lastInt(); }
+
+        @Override
+        public java.lang.Integer getFirst() { return firstInt(); }
+
+        @Override
+        public java.lang.Integer getLast() { return lastInt(); }
+
+        @Override
+        public int ceilingInt(int e) {
+            Leaf l = ceilingLeaf(e, true);
+            if(l == null) throw new NoSuchElementException();
+            return l.keys[ceilingIndex(l, e, true)];
+        }
+
+        @Override
+        public int higherInt(int e) {
+            Leaf l = ceilingLeaf(e, false);
+            if(l == null) throw new NoSuchElementException();
+            return l.keys[ceilingIndex(l, e, false)];
+        }
+
+        @Override
+        public int floorInt(int e) {
+            Leaf l = floorLeaf(e, true);
+            if(l == null) throw new NoSuchElementException();
+            return l.keys[floorIndex(l, e, true)];
+        }
+
+        @Override
+        public int lowerInt(int e) {
+            Leaf l = floorLeaf(e, false);
+            if(l == null) throw new NoSuchElementException();
+            return l.keys[floorIndex(l, e, false)];
+        }
+
+        @Override
+        public java.lang.Integer ceiling(java.lang.Integer e) {
+            Leaf l = ceilingLeaf(e, true);
+            return l == null ? null : l.keys[ceilingIndex(l, e, true)];
+        }
+
+        @Override
+        public java.lang.Integer higher(java.lang.Integer e) {
+            Leaf l = ceilingLeaf(e, false);
+            return l == null ? null : l.keys[ceilingIndex(l, e, false)];
+        }
+
+        @Override
+        public java.lang.Integer floor(java.lang.Integer e) {
+            Leaf l = floorLeaf(e, true);
+            return l == null ? null : l.keys[floorIndex(l, e, true)];
+        }
+
+        @Override
+        public java.lang.Integer lower(java.lang.Integer e) {
+            Leaf l = floorLeaf(e, false);
+            return l == null ? null : l.keys[floorIndex(l, e, false)];
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the first element, or {@code 0} if this set is empty
+         */
+        @Override
+        public int pollFirstInt() {
+            if(first == null) return 0;
+            int e = first.keys[0];
+            removeInt(e);
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the last element, or {@code 0} if this set is empty
+         */
+        @Override
+        public int pollLastInt() {
+            if(last == null) return 0;
+            int e = last.keys[last.size - 1];
+            removeInt(e);
+            return e;
+        }
+
+        @Override
+        public java.lang.Integer pollFirst() { return first == null ? null : pollFirstInt(); }
+
+        @Override
+        public java.lang.Integer pollLast() { return last == null ? null : pollLastInt(); }
+
+        @Override
+        public int removeFirstInt() {
+            int e = firstInt();
+            removeInt(e);
+            return e;
+        }
+
+        @Override
+        public int removeLastInt() {
+            int e = lastInt();
+            removeInt(e);
+            return e;
+        }
+
+        @Override
+        public java.lang.Integer removeFirst() { return removeFirstInt(); }
+
+        @Override
+        public java.lang.Integer removeLast() { return removeLastInt(); }
+
+        ///////////// Views
+
+        @Override
+        public PrimitiveNavigableSet.OfInt subSetInt(int fromElement, boolean fromInclusive, int toElement, boolean toInclusive) {
+            if(cmp(fromElement, toElement) > 0) throw new IllegalArgumentException("fromKey > toKey");
+            return new SubSet(false, fromElement, fromInclusive, false, toElement, toInclusive, false);
+        }
+
+        @Override
+        public PrimitiveNavigableSet.OfInt headSetInt(int toElement, boolean inclusive) {
+            return new SubSet(true, toElement, true, false, toElement, inclusive, false);
+        }
+
+        @Override
+        public PrimitiveNavigableSet.OfInt tailSetInt(int fromElement, boolean inclusive) {
+            return new SubSet(false, fromElement, inclusive, true, fromElement, true, false);
+        }
+
+        @Override
+        public PrimitiveSortedSet.OfInt subSetInt(int fromElement, int toElement) { return subSetInt(fromElement, true, toElement, false); }
+
+        @Override
+        public PrimitiveSortedSet.OfInt headSetInt(int toElement) { return headSetInt(toElement, false); }
+
+        @Override
+        public PrimitiveSortedSet.OfInt tailSetInt(int fromElement) { return tailSetInt(fromElement, true); }
+
+        @Override
+        public PrimitiveNavigableSet.OfInt descendingSetInt() { return new SubSet(true, 0, true, true, 0, true, true); }
+
+        @Override
+        public PrimitiveNavigableSet.OfInt reversedInt() { return descendingSetInt(); }
+
+        ///////////// Traversal
+
+        @Override
+        public Iterator<java.lang.Integer> iterator() { return iteratorInt(); }
+
+        @Override
+        public PrimitiveIterator.OfInt iteratorInt() { return new Itr(first, 0, size(), false); }
+
+        @Override
+        public PrimitiveIterator.OfInt descendingIteratorInt() {
+            Leaf l = last;
+            return new Itr(l, l == null ? 0 : l.size - 1, size(), true);
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfInt action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            for(Leaf l = first; l != null; l = l.next) {
+                final int[] keys = l.keys;
+                for(int i = 0, n = l.size; i < n; i++) action.acceptInt(keys[i]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public int[] toArrayInt() {
+            int[] a = new int[size()];
+            int off = 0;
+            for(Leaf l = first; l != null; l = l.next) {
+                System.arraycopy(l.keys, 0, a, off, l.size);
+                off += l.size;
+            }
+            return a;
+        }
+
+        @Override
+        public int[] toArrayInt(int[] array) {
+            if(array.length < size()) return toArrayInt();
+            int off = 0;
+            for(Leaf l = first; l != null; l = l.next) {
+                System.arraycopy(l.keys, 0, array, off, l.size);
+                off += l.size;
+            }
+            return array;
+        }
+
+        /**
+         * Creates a <em>fail-fast</em> spliterator over the
+         * elements in this set, in ascending order. It reports {@link Spliterator#SORTED},
+         * {@link Spliterator#ORDERED}, {@link Spliterator#DISTINCT} and {@link Spliterator#SIZED},
+         * and splits off array-backed prefixes.
+         * @return a spliterator over the elements in this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfInt spliteratorInt() { return new Spliter(first, 0, size(), false); }
+
+        /**
+         * Walks {@code remaining} elements along the leaf chain starting at {@code keys[index]}
+         * of {@code leaf}, forwards or backwards.
+         */
+        private final class Itr implements PrimitiveIterator.OfInt {
+            private Leaf leaf;
+            private int index;
+            private int remaining;
+            private final boolean descending;
+            private int lastRet;
+            private boolean canRemove;
+            private int expectedModCount = modCount;
+
+            Itr(Leaf leaf, int index, int remaining, boolean descending) {
+                this.leaf = leaf;
+                this.index = index;
+                this.remaining = remaining;
+                this.descending = descending;
+            }
+
+            public boolean hasNext() { return remaining > 0; }
+
+            public int nextInt() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(remaining <= 0) throw new NoSuchElementException();
+                remaining--;
+                if(descending) {
+                    if(index < 0) index = (leaf = leaf.prev).size - 1;
+                    lastRet = leaf.keys[index--];
+                } else {
+                    if(index >= leaf.size) {
+                        leaf = leaf.next;
+                        index = 0;
+                    }
+                    lastRet = leaf.keys[index++];
+                }
+                canRemove = true;
+                return lastRet;
+            }
+
+            public void remove() {
+                if(!canRemove) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                canRemove = false;
+                removeInt(lastRet);
+                expectedModCount = modCount;
+                // the removal may have merged or refilled leaves, so find the position again
+                if(remaining > 0) {
+                    if(descending) index = floorIndex(leaf = floorLeaf(lastRet, false), lastRet, false);
+                    else index = ceilingIndex(leaf = ceilingLeaf(lastRet, false), lastRet, false);
+                }
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfInt {
+            private static final int MAX_BATCH = 1 << 12;
+            private Leaf leaf;
+            private int index;
+            private int remaining;
+            private final boolean descending;
+            private final int expectedModCount = modCount;
+
+            Spliter(Leaf leaf, int index, int remaining, boolean descending) {
+                this.leaf = leaf;
+                this.index = index;
+                this.remaining = remaining;
+                this.descending = descending;
+            }
+
+            @Override
+            public PrimitiveSpliterator.OfInt trySplit() {
+                int n = java.lang.Math.min(remaining >>> 1, MAX_BATCH);
+                if(n < LEAF_CAPACITY) return null;
+                int[] a = new int[n];
+                int[] i = {0};
+                for(int j = 0; j < n; j++) tryAdvance((PrimitiveConsumer.OfInt) e -> a[i[0]++] = e);
+                return new ArraySpliterator.OfInt(a, 0, n, characteristics() & ~(natural ? 0 : Spliterator.SORTED));
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfInt action) {
+                if(action == null) throw new NullPointerException();
+                if(remaining <= 0) return false;
+                remaining--;
+                int e;
+                if(descending) {
+                    if(index < 0) index = (leaf = leaf.prev).size - 1;
+                    e = leaf.keys[index--];
+                } else {
+                    if(index >= leaf.size) {
+                        leaf = leaf.next;
+                        index = 0;
+                    }
+                    e = leaf.keys[index++];
+                }
+                action.acceptInt(e);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfInt action) {
+                if(action == null) throw new NullPointerException();
+                int r = remaining;
+                if(r <= 0) return;
+                remaining = 0;
+                Leaf l = leaf;
+                int i = index;
+                if(descending) {
+                    for(;;) {
+                        if(i < 0) i = (l = l.prev).size - 1;
+                        int take = java.lang.Math.min(r, i + 1);
+                        for(int end = i - take; i > end; i--) action.acceptInt(l.keys[i]);
+                        if((r -= take) == 0) break;
+                    }
+                } else {
+                    for(;;) {
+                        if(i >= l.size) {
+                            l = l.next;
+                            i = 0;
+                        }
+                        int take = java.lang.Math.min(r, l.size - i);
+                        for(int end = i + take; i < end; i++) action.acceptInt(l.keys[i]);
+                        if((r -= take) == 0) break;
+                    }
+                }
+                leaf = l;
+                index = i;
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return remaining; }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SIZED | Spliterator.SUBSIZED | (descending ? 0 : Spliterator.SORTED);
+            }
+
+            @Override
+            public PrimitiveComparator.OfInt getComparator() {
+                if(descending) throw new IllegalStateException();
+                return natural ? null : comparator;
+            }
+        }
+
+        /**
+         * A range of the set, possibly in descending order. The bounds are in the set's own
+         * ascending order; {@code lo} is ignored when {@code fromStart} and {@code hi} when
+         * {@code toEnd}.
+         */
+        private final class SubSet extends PrimitiveAbstractSet.OfInt implements PrimitiveNavigableSet.OfInt {
+            private final boolean fromStart, loInclusive, toEnd, hiInclusive, descending;
+            private final int lo, hi;
+
+            SubSet(boolean fromStart, int lo, boolean loInclusive, boolean toEnd, int hi, boolean hiInclusive, boolean descending) {
+                this.fromStart = fromStart;
+                this.lo = lo;
+                this.loInclusive = loInclusive;
+                this.toEnd = toEnd;
+                this.hi = hi;
+                this.hiInclusive = hiInclusive;
+                this.descending = descending;
+            }
+
+            private boolean tooLow(int k) {
+                if(fromStart) return false;
+                int c = cmp(k, lo);
+                return c < 0 || (c == 0 && !loInclusive);
+            }
+
+            private boolean tooHigh(int k) {
+                if(toEnd) return false;
+                int c = cmp(k, hi);
+                return c > 0 || (c == 0 && !hiInclusive);
+            }
+
+            private boolean inRange(int k) { return !tooLow(k) && !tooHigh(k); }
+
+            /** Whether {@code k} may bound a view of this one. */
+            private boolean inRange(int k, boolean inclusive) {
+                if(inclusive) return inRange(k);
+                return (fromStart || cmp(k, lo) >= 0) && (toEnd || cmp(hi, k) >= 0);
+            }
+
+            // The abs* methods navigate in the set's ascending order within the bounds. Each
+            // returns the leaf of the answer, or null, and has an index companion that finds
+            // the answer within that leaf.
+
+            private Leaf absLowestLeaf() {
+                Leaf l = fromStart ? first : ceilingLeaf(lo, loInclusive);
+                return l == null || tooHigh(l.keys[absLowestIndex(l)]) ? null : l;
+            }
+
+            private int absLowestIndex(Leaf l) { return fromStart ? 0 : ceilingIndex(l, lo, loInclusive); }
+
+            private Leaf absHighestLeaf() {
+                Leaf l = toEnd ? last : floorLeaf(hi, hiInclusive);
+                return l == null || tooLow(l.keys[absHighestIndex(l)]) ? null : l;
+            }
+
+            private int absHighestIndex(Leaf l) { return toEnd ? l.size - 1 : floorIndex(l, hi, hiInclusive); }
+
+            private Leaf absCeilingLeaf(int k, boolean inclusive) {
+                if(tooLow(k)) return absLowestLeaf();
+                Leaf l = ceilingLeaf(k, inclusive);
+                return l == null || tooHigh(l.keys[ceilingIndex(l, k, inclusive)]) ? null : l;
+            }
+
+            private int absCeilingIndex(Leaf l, int k, boolean inclusive) { return tooLow(k) ? absLowestIndex(l) : ceilingIndex(l, k, inclusive); }
+
+            private Leaf absFloorLeaf(int k, boolean inclusive) {
+                if(tooHigh(k)) return absHighestLeaf();
+                Leaf l = floorLeaf(k, inclusive);
+                return l == null || tooLow(l.keys[floorIndex(l, k, inclusive)]) ? null : l;
+            }
+
+            private int absFloorIndex(Leaf l, int k, boolean inclusive) { return tooHigh(k) ? absHighestIndex(l) : floorIndex(l, k, inclusive); }
+
+            /** Whether the view has an element at or after (at or before, if {@code floor}) {@code k}. */
+            private boolean has(int k, boolean floor, boolean inclusive) {
+                return (floor ? absFloorLeaf(k, inclusive) : absCeilingLeaf(k, inclusive)) != null;
+            }
+
+            /** Navigates in view order: {@code up} finds the ceiling (or higher) in view order, otherwise the floor (or lower). */
+            private int nav(int k, boolean up, boolean inclusive) {
+                if(up != descending) {
+                    Leaf l = absCeilingLeaf(k, inclusive);
+                    if(l == null) throw new NoSuchElementException();
+                    return l.keys[absCeilingIndex(l, k, inclusive)];
+                }
+                Leaf l = absFloorLeaf(k, inclusive);
+                if(l == null) throw new NoSuchElementException();
+                return l.keys[absFloorIndex(l, k, inclusive)];
+            }
+
+            private int end(boolean high) {
+                if(high) {
+                    Leaf l = absHighestLeaf();
+                    if(l == null) throw new NoSuchElementException();
+                    return l.keys[absHighestIndex(l)];
+                }
+                Leaf l = absLowestLeaf();
+                if(l == null) throw new NoSuchElementException();
+                return l.keys[absLowestIndex(l)];
+            }
+
+            ///////////// Query operations
+
+            @Override
+            public int size() {
+                int from = fromStart ? 0 : rank(lo, !loInclusive);
+                int to = toEnd ? PrimitiveBTreeSet.OfInt.this.size() : rank(hi, hiInclusive);
+                return java.lang.Math.max(0, to - from);
+            }
+
+            @Override
+            public boolean isEmpty() { return absLowestLeaf() == null; }
+
+            @Override
+            public boolean containsInt(int e) { return inRange(e) && PrimitiveBTreeSet.OfInt.this.containsInt(e); }
+
+            @Override
+            public PrimitiveComparator.OfInt comparatorInt() {
+                if(!descending) return comparator;
+                return comparator == null ? PrimitiveComparator.reverseOrderInt() : comparator.reversedInt();
+            }
+
+            @Override
+            public Comparator<java.lang.Integer> comparator() {
+                return descending || !natural ? comparatorInt() : null;
+            }
+
+            ///////////// Modification operations
+
+            @Override
+            public boolean addInt(int e) {
+                if(!inRange(e)) throw new IllegalArgumentException("key out of range");
+                return PrimitiveBTreeSet.OfInt.this.addInt(e);
+            }
+
+            @Override
+            public boolean removeInt(int e) { return inRange(e) && PrimitiveBTreeSet.OfInt.this.removeInt(e); }
+
+            ///////////// Navigation
+
+            @Override
+            public int firstInt() { return end(descending); }
+
+            @Override
+            public int lastInt() { return end(!descending); }
+
+            @Override
+            public java.lang.Integer first() { return firstInt(); }
+
+            @Override
+            public java.lang.Integer last() { return lastInt(); }
+
+            @Override
+            public java.lang.Integer getFirst() { return firstInt(); }
+
+            @Override
+            public java.lang.Integer getLast() { return lastInt(); }
+
+            @Override
+            public int ceilingInt(int e) { return nav(e, true, true); }
+
+            @Override
+            public int higherInt(int e) { return nav(e, true, false); }
+
+            @Override
+            public int floorInt(int e) { return nav(e, false, true); }
+
+            @Override
+            public int lowerInt(int e) { return nav(e, false, false); }
+
+            @Override
+            public java.lang.Integer ceiling(java.lang.Integer e) { return has(e, descending, true) ? nav(e, true, true) : null; }
+
+            @Override
+            public java.lang.Integer higher(java.lang.Integer e) { return has(e, descending, false) ? nav(e, true, false) : null; }
+
+            @Override
+            public java.lang.Integer floor(java.lang.Integer e) { return has(e, !descending, true) ? nav(e, false, true) : null; }
+
+            @Override
+            public java.lang.Integer lower(java.lang.Integer e) { return has(e, !descending, false) ? nav(e, false, false) : null; }
+
+            /**
+             * {@inheritDoc}
+             * @return the first element, or {@code 0} if this set is empty
+             */
+            @Override
+            public int pollFirstInt() {
+                if(isEmpty()) return 0;
+                int e = firstInt();
+                PrimitiveBTreeSet.OfInt.this.removeInt(e);
+                return e;
+            }
+
+            /**
+             * {@inheritDoc}
+             * @return the last element, or {@code 0} if this set is empty
+             */
+            @Override
+            public int pollLastInt() {
+                if(isEmpty()) return 0;
+                int e = lastInt();
+                PrimitiveBTreeSet.OfInt.this.removeInt(e);
+                return e;
+            }
+
+            @Override
+            public java.lang.Integer pollFirst() { return isEmpty() ? null : pollFirstInt(); }
+
+            @Override
+            public java.lang.Integer pollLast() { return isEmpty() ? null : pollLastInt(); }
+
+            @Override
+            public int removeFirstInt() {
+                int e = firstInt();
+                PrimitiveBTreeSet.OfInt.this.removeInt(e);
+                return e;
+            }
+
+            @Override
+            public int removeLastInt() {
+                int e = lastInt();
+                PrimitiveBTreeSet.OfInt.this.removeInt(e);
+                return e;
+            }
+
+            @Override
+            public java.lang.Integer removeFirst() { return removeFirstInt(); }
+
+            @Override
+            public java.lang.Integer removeLast() { return removeLastInt(); }
+
+            ///////////// Views
+
+            @Override
+            public PrimitiveNavigableSet.OfInt subSetInt(int fromElement, boolean fromInclusive, int toElement, boolean toInclusive) {
+                if(!inRange(fromElement, fromInclusive)) throw new IllegalArgumentException("fromKey out of range");
+                if(!inRange(toElement, toInclusive)) throw new IllegalArgumentException("toKey out of range");
+                if(descending) {
+                    if(cmp(fromElement, toElement) < 0) throw new IllegalArgumentException("fromKey > toKey");
+                    return new SubSet(false, toElement, toInclusive, false, fromElement, fromInclusive, true);
+                }
+                if(cmp(fromElement, toElement) > 0) throw new IllegalArgumentException("fromKey > toKey");
+                return new SubSet(false, fromElement, fromInclusive, false, toElement, toInclusive, false);
+            }
+
+            @Override
+            public PrimitiveNavigableSet.OfInt headSetInt(int toElement, boolean inclusive) {
+                if(!inRange(toElement, inclusive)) throw new IllegalArgumentException("toKey out of range");
+                if(descending) return new SubSet(false, toElement, inclusive, toEnd, hi, hiInclusive, true);
+                return new SubSet(fromStart, lo, loInclusive, false, toElement, inclusive, false);
+            }
+
+            @Override
+            public PrimitiveNavigableSet.OfInt tailSetInt(int fromElement, boolean inclusive) {
+                if(!inRange(fromElement, inclusive)) throw new IllegalArgumentException("fromKey out of range");
+                if(descending) return new SubSet(fromStart, lo, loInclusive, false, fromElement, inclusive, true);
+                return new SubSet(false, fromElement, inclusive, toEnd, hi, hiInclusive, false);
+            }
+
+            @Override
+            public PrimitiveSortedSet.OfInt subSetInt(int fromElement, int toElement) { return subSetInt(fromElement, true, toElement, false); }
+
+            @Override
+            public PrimitiveSortedSet.OfInt headSetInt(int toElement) { return headSetInt(toElement, false); }
+
+            @Override
+            public PrimitiveSortedSet.OfInt tailSetInt(int fromElement) { return tailSetInt(fromElement, true); }
+
+            @Override
+            public PrimitiveNavigableSet.OfInt descendingSetInt() {
+                if(fromStart && toEnd && descending) return PrimitiveBTreeSet.OfInt.this;
+                return new SubSet(fromStart, lo, loInclusive, toEnd, hi, hiInclusive, !descending);
+            }
+
+            @Override
+            public PrimitiveNavigableSet.OfInt reversedInt() { return descendingSetInt(); }
+
+            ///////////// Traversal
+
+            @Override
+            public Iterator<java.lang.Integer> iterator() { return iteratorInt(); }
+
+            @Override
+            public PrimitiveIterator.OfInt iteratorInt() { return iterator(descending); }
+
+            @Override
+            public PrimitiveIterator.OfInt descendingIteratorInt() { return iterator(!descending); }
+
+            private PrimitiveIterator.OfInt iterator(boolean backwards) {
+                int n = size();
+                if(n == 0) return new Itr(null, 0, 0, backwards);
+                if(backwards) {
+                    Leaf l = absHighestLeaf();
+                    return new Itr(l, absHighestIndex(l), n, true);
+                }
+                Leaf l = absLowestLeaf();
+                return new Itr(l, absLowestIndex(l), n, false);
+            }
+
+            @Override
+            public PrimitiveSpliterator.OfInt spliteratorInt() {
+                int n = size();
+                if(n == 0) return new Spliter(null, 0, 0, descending);
+                if(descending) {
+                    Leaf l = absHighestLeaf();
+                    return new Spliter(l, absHighestIndex(l), n, true);
+                }
+                Leaf l = absLowestLeaf();
+                return new Spliter(l, absLowestIndex(l), n, false);
+            }
+
+            @Override
+            public void forEach(PrimitiveConsumer.OfInt action) { spliteratorInt().forEachRemaining(action); }
+        }
+
+        ///////////// Copying
+
+        /**
+         * Returns a shallow copy of this set. The copy is built by a bulk load of the
+         * elements in order, so its leaves are packed.
+         * @return a copy of this set
+         */
+        @Override
+        public PrimitiveBTreeSet.OfInt clone() {
+            PrimitiveBTreeSet.OfInt c;
+            try {
+                c = (PrimitiveBTreeSet.OfInt) super.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+            c.root = c.first = c.last = null;
+            c.modCount = 0;
+            for(Leaf l = first; l != null; l = l.next) for(int i = 0; i < l.size; i++) c.addInt(l.keys[i]);
+            return c;
+        }
+    }
+}
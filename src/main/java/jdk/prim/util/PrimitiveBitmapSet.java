@@ -0,0 +1,1221 @@
+package jdk.prim.util;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
+import jdk.prim.util.function.PrimitiveConsumer;
+import jdk.prim.util.function.PrimitivePredicate;
+
+/**
+ * A pseudo-package for holding direct-address bitmap implementations of {@link PrimitiveSet}
+ * for the small {@code char}, {@code short} and {@code byte} domains
+ */
+public final class PrimitiveBitmapSet {
+    private PrimitiveBitmapSet() {}
+
+    /**
+     * A set of {@code char} values kept as a bitmap with one bit for each of the
+     * {@value #BITS} possible values.
+     * <p>
+     * The set always occupies {@code 8192} bytes, whatever it holds. In return
+     * {@link #containsChar(char)}, {@link #addChar(char)} and {@link #removeChar(char)} are a single
+     * word operation, and bulk operations between two bitmap sets ({@code addAll},
+     * {@code retainAll}, {@code removeAll}, {@code containsAll} and {@code equals}) combine
+     * whole words and count the result with {@link java.lang.Long#bitCount(long)}. The
+     * other bulk operations load their argument into a scratch bitmap first, which makes them
+     * linear in its size rather than in the size of this set.
+     * <p>
+     * Elements are iterated in ascending numeric order, and the spliterator reports
+     * {@link Spliterator#SORTED} with natural order. The iterators of this class are
+     * <i>fail-fast</i>.
+     */
+    public static class OfChar extends PrimitiveAbstractSet.OfChar implements Cloneable {
+        /**
+         * The number of distinct {@code char} values, one bit each.
+         */
+        public static final int BITS = 65536;
+
+        private static final int WORDS = BITS >>> 6;
+
+        /** Bit {@code e} is set when {@code e} is a member. */
+        private long[] words = new long[WORDS];
+        /** The number of set bits. */
+        private int size;
+        /** The number of times this set has been structurally modified. */
+        private transient int modCount;
+
+        /**
+         * Constructs an empty set.
+         */
+        public OfChar() {}
+
+        /**
+         * Constructs a set containing the elements of the specified collection.
+         * @param c the collection whose elements are to be placed into this set
+         */
+        public OfChar(PrimitiveCollection.OfChar c) { addAllChar(c); }
+
+        private static int index(char e) { return e; }
+
+        private static char value(int i) { return (char) i; }
+
+        /** Counts the set bits of {@code w}. */
+        private static int count(long[] w) {
+            int n = 0;
+            for(int i = 0; i < WORDS; i++) n += java.lang.Long.bitCount(w[i]);
+            return n;
+        }
+
+        /** Loads the elements of {@code c} into a bitmap, sharing the words of a bitmap set. */
+        private static long[] bitmapOf(PrimitiveCollection.OfChar c) {
+            if(c instanceof PrimitiveBitmapSet.OfChar b) return b.words;
+            final long[] w = new long[WORDS];
+            c.forEach((PrimitiveConsumer.OfChar) e -> {
+                int i = index(e);
+                w[i >>> 6] |= 1L << i;
+            });
+            return w;
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsChar(char e) {
+            int i = index(e);
+            return (words[i >>> 6] & (1L << i)) != 0;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addChar(char e) {
+            int i = index(e);
+            long w = words[i >>> 6], b = 1L << i;
+            if((w & b) != 0) return false;
+            words[i >>> 6] = w | b;
+            size++;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeChar(char e) {
+            int i = index(e);
+            long w = words[i >>> 6], b = 1L << i;
+            if((w & b) == 0) return false;
+            words[i >>> 6] = w & ~b;
+            size--;
+            modCount++;
+            return true;
+        }
+
+        /**
+         * Adds every value of {@code [from, to)} to this set, a word at a time. Like the
+         * ranges of {@link java.util.BitSet#set(int, int)}, {@code to} itself is not added,
+         * so {@link Character#MAX_VALUE} is only added by {@link #addChar(char)}.
+         * @param from the first value to add
+         * @param to the value after the last value to add
+         * @return {@code true} if this set changed as a result of the call
+         * @throws IllegalArgumentException if {@code from > to}
+         */
+        public boolean addRangeChar(char from, char to) {
+            int lo = index(from), hi = index(to) - 1;
+            if(lo > hi + 1) throw new IllegalArgumentException("from > to");
+            if(lo > hi) return false;
+            final long[] w = words;
+            int loWord = lo >>> 6, hiWord = hi >>> 6, old = size;
+            long loMask = -1L << lo, hiMask = -1L >>> (63 - (hi & 63));
+            if(loWord == hiWord) w[loWord] |= loMask & hiMask;
+            else {
+                w[loWord] |= loMask;
+                for(int i = loWord + 1; i < hiWord; i++) w[i] = -1L;
+                w[hiWord] |= hiMask;
+            }
+            if((size = count(w)) == old) return false;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(words, 0);
+            size = 0;
+            modCount++;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllChar(PrimitiveCollection.OfChar c) {
+            if(!(c instanceof PrimitiveBitmapSet.OfChar b)) return super.containsAllChar(c);
+            final long[] w = words, o = b.words;
+            for(int i = 0; i < WORDS; i++) if((o[i] & ~w[i]) != 0) return false;
+            return true;
+        }
+
+        @Override
+        public boolean addAllChar(PrimitiveCollection.OfChar c) {
+            final long[] w = words, o = bitmapOf(c);
+            for(int i = 0; i < WORDS; i++) w[i] |= o[i];
+            return updateSize();
+        }
+
+        @Override
+        public boolean retainAllChar(PrimitiveCollection.OfChar c) {
+            final long[] w = words, o = bitmapOf(c);
+            for(int i = 0; i < WORDS; i++) w[i] &= o[i];
+            return updateSize();
+        }
+
+        @Override
+        public boolean removeAllChar(PrimitiveCollection.OfChar c) {
+            final long[] w = words, o = bitmapOf(c);
+            for(int i = 0; i < WORDS; i++) w[i] &= ~o[i];
+            return updateSize();
+        }
+
+        /**
+         * Removes every element that is not in this set and the specified one, and adds every
+         * element of the specified set that is not in this one.
+         * @param c the set to combine with this one
+         * @return {@code true} if this set changed as a result of the call
+         */
+        public boolean xorAllChar(PrimitiveCollection.OfChar c) {
+            final long[] w = words, o = bitmapOf(c);
+            for(int i = 0; i < WORDS; i++) w[i] ^= o[i];
+            return updateSize();
+        }
+
+        /**
+         * Recounts the elements after a bulk operation.
+         * @return whether the operation changed the size
+         */
+        private boolean updateSize() {
+            int old = size;
+            if((size = count(words)) == old) return false;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeIfChar(PrimitivePredicate.OfChar filter) {
+            Objects.requireNonNull(filter);
+            final long[] w = words;
+            int removed = 0;
+            for(int i = 0; i < WORDS; i++) {
+                long bits = w[i], clear = 0;
+                while(bits != 0) {
+                    long low = bits & -bits;
+                    if(filter.testChar(value((i << 6) | java.lang.Long.numberOfTrailingZeros(low)))) clear |= low;
+                    bits ^= low;
+                }
+                if(clear != 0) {
+                    w[i] &= ~clear;
+                    removed += java.lang.Long.bitCount(clear);
+                }
+            }
+            if(removed == 0) return false;
+            size -= removed;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public char[] toArrayChar() {
+            char[] a = new char[size];
+            final long[] w = words;
+            for(int i = 0, j = 0; j < a.length; i++) for(long bits = w[i]; bits != 0; bits &= bits - 1) a[j++] = value((i << 6) | java.lang.Long.numberOfTrailingZeros(bits));
+            return a;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfChar action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final long[] w = words;
+            for(int i = 0; i < WORDS && modCount == expectedModCount; i++) for(long bits = w[i]; bits != 0; bits &= bits - 1) action.acceptChar(value((i << 6) | java.lang.Long.numberOfTrailingZeros(bits)));
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfChar iteratorChar() { return new Itr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the elements
+         * in this set, in ascending order. The spliterator splits the bitmap by word range,
+         * counting the bits of each half, and reports {@link Spliterator#SORTED},
+         * {@link Spliterator#ORDERED}, {@link Spliterator#DISTINCT}, {@link Spliterator#SIZED}
+         * and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements in this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfChar spliteratorChar() { return new Spliter(0, -1, 0, 0); }
+
+        private class Itr implements PrimitiveIterator.OfChar {
+            /** The word being scanned. */
+            int word = -1;
+            /** Its bits not yet returned. */
+            long bits;
+            /** The bit of the last returned element, or {@code -1} if none. */
+            int lastRet = -1;
+            /** The number of elements still to be returned. */
+            int count = size;
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return count != 0; }
+
+            public char nextChar() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(count == 0) throw new NoSuchElementException();
+                count--;
+                long b = bits;
+                while(b == 0) b = words[++word];
+                bits = b & (b - 1);
+                return value(lastRet = (word << 6) | java.lang.Long.numberOfTrailingZeros(b));
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                words[lastRet >>> 6] &= ~(1L << lastRet);
+                size--;
+                lastRet = -1;
+                expectedModCount = ++modCount;
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfChar {
+            /** The next bit to visit. */
+            private int index;
+            private int fence;            // -1 until first use; then one past last word
+            private int est;              // exact number of elements left
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int est, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.est = est;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    est = size;
+                    expectedModCount = modCount;
+                    hi = fence = WORDS;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = (index + 63) >>> 6, mid = (lo + hi) >>> 1;
+                if(lo >= mid || est < 2) return null;
+                int n = 0;
+                final long[] w = words;
+                for(int i = mid; i < hi; i++) n += java.lang.Long.bitCount(w[i]);
+                Spliter prefix = new Spliter(index, mid, est - n, expectedModCount);
+                index = mid << 6;
+                est = n;
+                return prefix;
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfChar action) {
+                if(action == null) throw new NullPointerException();
+                int end = getFence() << 6, i = index;
+                if(i >= end) return false;
+                final long[] w = words;
+                int wi = i >>> 6;
+                long bits = w[wi] & (-1L << i);
+                while(bits == 0) {
+                    if(++wi << 6 >= end) {
+                        index = end;
+                        return false;
+                    }
+                    bits = w[wi];
+                }
+                int bit = (wi << 6) | java.lang.Long.numberOfTrailingZeros(bits);
+                index = bit + 1;
+                est--;
+                action.acceptChar(value(bit));
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfChar action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                index = hi << 6;
+                est = 0;
+                if(i >= hi << 6) return;
+                final long[] w = words;
+                int wi = i >>> 6;
+                for(long bits = w[wi] & (-1L << i); bits != 0; bits &= bits - 1) action.acceptChar(value((wi << 6) | java.lang.Long.numberOfTrailingZeros(bits)));
+                while(++wi < hi) for(long bits = w[wi]; bits != 0; bits &= bits - 1) action.acceptChar(value((wi << 6) | java.lang.Long.numberOfTrailingZeros(bits)));
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() {
+                getFence();
+                return (long) est;
+            }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.SORTED | Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SIZED | Spliterator.SUBSIZED;
+            }
+
+            @Override
+            public PrimitiveComparator.OfChar getComparator() { return null; }
+        }
+
+        ///////////// Copying, comparison and hashing
+
+        /**
+         * Returns a shallow copy of this set.
+         * @return a clone of this set
+         */
+        @Override
+        public PrimitiveBitmapSet.OfChar clone() {
+            try {
+                var c = (PrimitiveBitmapSet.OfChar) super.clone();
+                c.words = words.clone();
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof PrimitiveBitmapSet.OfChar b) return Arrays.equals(words, b.words);
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            final long[] w = words;
+            for(int i = 0; i < WORDS; i++) for(long bits = w[i]; bits != 0; bits &= bits - 1) h += java.lang.Character.hashCode(value((i << 6) | java.lang.Long.numberOfTrailingZeros(bits)));
+            return h;
+        }
+    }
+
+    /**
+     * A set of {@code short} values kept as a bitmap with one bit for each of the
+     * {@value #BITS} possible values.
+     * <p>
+     * The set always occupies {@code 8192} bytes, whatever it holds. In return
+     * {@link #containsShort(short)}, {@link #addShort(short)} and {@link #removeShort(short)} are a single
+     * word operation, and bulk operations between two bitmap sets ({@code addAll},
+     * {@code retainAll}, {@code removeAll}, {@code containsAll} and {@code equals}) combine
+     * whole words and count the result with {@link java.lang.Long#bitCount(long)}. The
+     * other bulk operations load their argument into a scratch bitmap first, which makes them
+     * linear in its size rather than in the size of this set.
+     * <p>
+     * Elements are iterated in ascending numeric order, and the spliterator reports
+     * {@link Spliterator#SORTED} with natural order. The iterators of this class are
+     * <i>fail-fast</i>.
+     */
+    public static class OfShort extends PrimitiveAbstractSet.OfShort implements Cloneable {
+        /**
+         * The number of distinct {@code short} values, one bit each.
+         */
+        public static final int BITS = 65536;
+
+        private static final int WORDS = BITS >>> 6;
+
+        /** Bit {@code e - Short.MIN_VALUE} is set when {@code e} is a member. */
+        private long[] words = new long[WORDS];
+        /** The number of set bits. */
+        private int size;
+        /** The number of times this set has been structurally modified. */
+        private transient int modCount;
+
+        /**
+         * Constructs an empty set.
+         */
+        public OfShort() {}
+
+        /**
+         * Constructs a set containing the elements of the specified collection.
+         * @param c the collection whose elements are to be placed into this set
+         */
+        public OfShort(PrimitiveCollection.OfShort c) { addAllShort(c); }
+
+        private static int index(short e) { return e - java.lang.Short.MIN_VALUE; }
+
+        private static short value(int i) { return (short) (i + java.lang.Short.MIN_VALUE); }
+
+        /** Counts the set bits of {@code w}. */
+        private static int count(long[] w) {
+            int n = 0;
+            for(int i = 0; i < WORDS; i++) n += java.lang.Long.bitCount(w[i]);
+            return n;
+        }
+
+        /** Loads the elements of {@code c} into a bitmap, sharing the words of a bitmap set. */
+        private static long[] bitmapOf(PrimitiveCollection.OfShort c) {
+            if(c instanceof PrimitiveBitmapSet.OfShort b) return b.words;
+            final long[] w = new long[WORDS];
+            c.forEach((PrimitiveConsumer.OfShort) e -> {
+                int i = index(e);
+                w[i >>> 6] |= 1L << i;
+            });
+            return w;
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsShort(short e) {
+            int i = index(e);
+            return (words[i >>> 6] & (1L << i)) != 0;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addShort(short e) {
+            int i = index(e);
+            long w = words[i >>> 6], b = 1L << i;
+            if((w & b) != 0) return false;
+            words[i >>> 6] = w | b;
+            size++;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeShort(short e) {
+            int i = index(e);
+            long w = words[i >>> 6], b = 1L << i;
+            if((w & b) == 0) return false;
+            words[i >>> 6] = w & ~b;
+            size--;
+            modCount++;
+            return true;
+        }
+
+        /**
+         * Adds every value of {@code [from, to)} to this set, a word at a time. Like the
+         * ranges of {@link java.util.BitSet#set(int, int)}, {@code to} itself is not added,
+         * so {@link Short#MAX_VALUE} is only added by {@link #addShort(short)}.
+         * @param from the first value to add
+         * @param to the value after the last value to add
+         * @return {@code true} if this set changed as a result of the call
+         * @throws IllegalArgumentException if {@code from > to}
+         */
+        public boolean addRangeShort(short from, short to) {
+            int lo = index(from), hi = index(to) - 1;
+            if(lo > hi + 1) throw new IllegalArgumentException("from > to");
+            if(lo > hi) return false;
+            final long[] w = words;
+            int loWord = lo >>> 6, hiWord = hi >>> 6, old = size;
+            long loMask = -1L << lo, hiMask = -1L >>> (63 - (hi & 63));
+            if(loWord == hiWord) w[loWord] |= loMask & hiMask;
+            else {
+                w[loWord] |= loMask;
+                for(int i = loWord + 1; i < hiWord; i++) w[i] = -1L;
+                w[hiWord] |= hiMask;
+            }
+            if((size = count(w)) == old) return false;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(words, 0);
+            size = 0;
+            modCount++;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllShort(PrimitiveCollection.OfShort c) {
+            if(!(c instanceof PrimitiveBitmapSet.OfShort b)) return super.containsAllShort(c);
+            final long[] w = words, o = b.words;
+            for(int i = 0; i < WORDS; i++) if((o[i] & ~w[i]) != 0) return false;
+            return true;
+        }
+
+        @Override
+        public boolean addAllShort(PrimitiveCollection.OfShort c) {
+            final long[] w = words, o = bitmapOf(c);
+            for(int i = 0; i < WORDS; i++) w[i] |= o[i];
+            return updateSize();
+        }
+
+        @Override
+        public boolean retainAllShort(PrimitiveCollection.OfShort c) {
+            final long[] w = words, o = bitmapOf(c);
+            for(int i = 0; i < WORDS; i++) w[i] &= o[i];
+            return updateSize();
+        }
+
+        @Override
+        public boolean removeAllShort(PrimitiveCollection.OfShort c) {
+            final long[] w = words, o = bitmapOf(c);
+            for(int i = 0; i < WORDS; i++) w[i] &= ~o[i];
+            return updateSize();
+        }
+
+        /**
+         * Removes every element that is not in this set and the specified one, and adds every
+         * element of the specified set that is not in this one.
+         * @param c the set to combine with this one
+         * @return {@code true} if this set changed as a result of the call
+         */
+        public boolean xorAllShort(PrimitiveCollection.OfShort c) {
+            final long[] w = words, o = bitmapOf(c);
+            for(int i = 0; i < WORDS; i++) w[i] ^= o[i];
+            return updateSize();
+        }
+
+        /**
+         * Recounts the elements after a bulk operation.
+         * @return whether the operation changed the size
+         */
+        private boolean updateSize() {
+            int old = size;
+            if((size = count(words)) == old) return false;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeIfShort(PrimitivePredicate.OfShort filter) {
+            Objects.requireNonNull(filter);
+            final long[] w = words;
+            int removed = 0;
+            for(int i = 0; i < WORDS; i++) {
+                long bits = w[i], clear = 0;
+                while(bits != 0) {
+                    long low = bits & -bits;
+                    if(filter.testShort(value((i << 6) | java.lang.Long.numberOfTrailingZeros(low)))) clear |= low;
+                    bits ^= low;
+                }
+                if(clear != 0) {
+                    w[i] &= ~clear;
+                    removed += java.lang.Long.bitCount(clear);
+                }
+            }
+            if(removed == 0) return false;
+            size -= removed;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public short[] toArrayShort() {
+            short[] a = new short[size];
+            final long[] w = words;
+            for(int i = 0, j = 0; j < a.length; i++) for(long bits = w[i]; bits != 0; bits &= bits - 1) a[j++] = value((i << 6) | java.lang.Long.numberOfTrailingZeros(bits));
+            return a;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfShort action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final long[] w = words;
+            for(int i = 0; i < WORDS && modCount == expectedModCount; i++) for(long bits = w[i]; bits != 0; bits &= bits - 1) action.acceptShort(value((i << 6) | java.lang.Long.numberOfTrailingZeros(bits)));
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfShort iteratorShort() { return new Itr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the elements
+         * in this set, in ascending order. The spliterator splits the bitmap by word range,
+         * counting the bits of each half, and reports {@link Spliterator#SORTED},
+         * {@link Spliterator#ORDERED}, {@link Spliterator#DISTINCT}, {@link Spliterator#SIZED}
+         * and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements in this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfShort spliteratorShort() { return new Spliter(0, -1, 0, 0); }
+
+        private class Itr implements PrimitiveIterator.OfShort {
+            /** The word being scanned. */
+            int word = -1;
+            /** Its bits not yet returned. */
+            long bits;
+            /** The bit of the last returned element, or {@code -1} if none. */
+            int lastRet = -1;
+            /** The number of elements still to be returned. */
+            int count = size;
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return count != 0; }
+
+            public short nextShort() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(count == 0) throw new NoSuchElementException();
+                count--;
+                long b = bits;
+                while(b == 0) b = words[++word];
+                bits = b & (b - 1);
+                return value(lastRet = (word << 6) | java.lang.Long.numberOfTrailingZeros(b));
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                words[lastRet >>> 6] &= ~(1L << lastRet);
+                size--;
+                lastRet = -1;
+                expectedModCount = ++modCount;
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfShort {
+            /** The next bit to visit. */
+            private int index;
+            private int fence;            // -1 until first use; then one past last word
+            private int est;              // exact number of elements left
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int est, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.est = est;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    est = size;
+                    expectedModCount = modCount;
+                    hi = fence = WORDS;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = (index + 63) >>> 6, mid = (lo + hi) >>> 1;
+                if(lo >= mid || est < 2) return null;
+                int n = 0;
+                final long[] w = words;
+                for(int i = mid; i < hi; i++) n += java.lang.Long.bitCount(w[i]);
+                Spliter prefix = new Spliter(index, mid, est - n, expectedModCount);
+                index = mid << 6;
+                est = n;
+                return prefix;
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfShort action) {
+                if(action == null) throw new NullPointerException();
+                int end = getFence() << 6, i = index;
+                if(i >= end) return false;
+                final long[] w = words;
+                int wi = i >>> 6;
+                long bits = w[wi] & (-1L << i);
+                while(bits == 0) {
+                    if(++wi << 6 >= end) {
+                        index = end;
+                        return false;
+                    }
+                    bits = w[wi];
+                }
+                int bit = (wi << 6) | java.lang.Long.numberOfTrailingZeros(bits);
+                index = bit + 1;
+                est--;
+                action.acceptShort(value(bit));
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfShort action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                index = hi << 6;
+                est = 0;
+                if(i >= hi << 6) return;
+                final long[] w = words;
+                int wi = i >>> 6;
+                for(long bits = w[wi] & (-1L << i); bits != 0; bits &= bits - 1) action.acceptShort(value((wi << 6) | java.lang.Long.numberOfTrailingZeros(bits)));
+                while(++wi < hi) for(long bits = w[wi]; bits != 0; bits &= bits - 1) action.acceptShort(value((wi << 6) | java.lang.Long.numberOfTrailingZeros(bits)));
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() {
+                getFence();
+                return (long) est;
+            }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.SORTED | Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SIZED | Spliterator.SUBSIZED;
+            }
+
+            @Override
+            public PrimitiveComparator.OfShort getComparator() { return null; }
+        }
+
+        ///////////// Copying, comparison and hashing
+
+        /**
+         * Returns a shallow copy of this set.
+         * @return a clone of this set
+         */
+        @Override
+        public PrimitiveBitmapSet.OfShort clone() {
+            try {
+                var c = (PrimitiveBitmapSet.OfShort) super.clone();
+                c.words = words.clone();
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof PrimitiveBitmapSet.OfShort b) return Arrays.equals(words, b.words);
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            final long[] w = words;
+            for(int i = 0; i < WORDS; i++) for(long bits = w[i]; bits != 0; bits &= bits - 1) h += java.lang.Short.hashCode(value((i << 6) | java.lang.Long.numberOfTrailingZeros(bits)));
+            return h;
+        }
+    }
+
+    /**
+     * A set of {@code byte} values kept as a bitmap with one bit for each of the
+     * {@value #BITS} possible values.
+     * <p>
+     * The set always occupies {@code 32} bytes, whatever it holds. In return
+     * {@link #containsByte(byte)}, {@link #addByte(byte)} and {@link #removeByte(byte)} are a single
+     * word operation, and bulk operations between two bitmap sets ({@code addAll},
+     * {@code retainAll}, {@code removeAll}, {@code containsAll} and {@code equals}) combine
+     * whole words and count the result with {@link java.lang.Long#bitCount(long)}. The
+     * other bulk operations load their argument into a scratch bitmap first, which makes them
+     * linear in its size rather than in the size of this set.
+     * <p>
+     * Elements are iterated in ascending numeric order, and the spliterator reports
+     * {@link Spliterator#SORTED} with natural order. The iterators of this class are
+     * <i>fail-fast</i>.
+     */
+    public static class OfByte extends PrimitiveAbstractSet.OfByte implements Cloneable {
+        /**
+         * The number of distinct {@code byte} values, one bit each.
+         */
+        public static final int BITS = 256;
+
+        private static final int WORDS = BITS >>> 6;
+
+        /** Bit {@code e - Byte.MIN_VALUE} is set when {@code e} is a member. */
+        private long[] words = new long[WORDS];
+        /** The number of set bits. */
+        private int size;
+        /** The number of times this set has been structurally modified. */
+        private transient int modCount;
+
+        /**
+         * Constructs an empty set.
+         */
+        public OfByte() {}
+
+        /**
+         * Constructs a set containing the elements of the specified collection.
+         * @param c the collection whose elements are to be placed into this set
+         */
+        public OfByte(PrimitiveCollection.OfByte c) { addAllByte(c); }
+
+        private static int index(byte e) { return e - java.lang.Byte.MIN_VALUE; }
+
+        private static byte value(int i) { return (byte) (i + java.lang.Byte.MIN_VALUE); }
+
+        /** Counts the set bits of {@code w}. */
+        private static int count(long[] w) {
+            int n = 0;
+            for(int i = 0; i < WORDS; i++) n += java.lang.Long.bitCount(w[i]);
+            return n;
+        }
+
+        /** Loads the elements of {@code c} into a bitmap, sharing the words of a bitmap set. */
+        private static long[] bitmapOf(PrimitiveCollection.OfByte c) {
+            if(c instanceof PrimitiveBitmapSet.OfByte b) return b.words;
+            final long[] w = new long[WORDS];
+            c.forEach((PrimitiveConsumer.OfByte) e -> {
+                int i = index(e);
+                w[i >>> 6] |= 1L << i;
+            });
+            return w;
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsByte(byte e) {
+            int i = index(e);
+            return (words[i >>> 6] & (1L << i)) != 0;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addByte(byte e) {
+            int i = index(e);
+            long w = words[i >>> 6], b = 1L << i;
+            if((w & b) != 0) return false;
+            words[i >>> 6] = w | b;
+            size++;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeByte(byte e) {
+            int i = index(e);
+            long w = words[i >>> 6], b = 1L << i;
+            if((w & b) == 0) return false;
+            words[i >>> 6] = w & ~b;
+            size--;
+            modCount++;
+            return true;
+        }
+
+        /**
+         * Adds every value of {@code [from, to)} to this set, a word at a time. Like the
+         * ranges of {@link java.util.BitSet#set(int, int)}, {@code to} itself is not added,
+         * so {@link Byte#MAX_VALUE} is only added by {@link #addByte(byte)}.
+         * @param from the first value to add
+         * @param to the value after the last value to add
+         * @return {@code true} if this set changed as a result of the call
+         * @throws IllegalArgumentException if {@code from > to}
+         */
+        public boolean addRangeByte(byte from, byte to) {
+            int lo = index(from), hi = index(to) - 1;
+            if(lo > hi + 1) throw new IllegalArgumentException("from > to");
+            if(lo > hi) return false;
+            final long[] w = words;
+            int loWord = lo >>> 6, hiWord = hi >>> 6, old = size;
+            long loMask = -1L << lo, hiMask = -1L >>> (63 - (hi & 63));
+            if(loWord == hiWord) w[loWord] |= loMask & hiMask;
+            else {
+                w[loWord] |= loMask;
+                for(int i = loWord + 1; i < hiWord; i++) w[i] = -1L;
+                w[hiWord] |= hiMask;
+            }
+            if((size = count(w)) == old) return false;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(words, 0);
+            size = 0;
+            modCount++;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllByte(PrimitiveCollection.OfByte c) {
+            if(!(c instanceof PrimitiveBitmapSet.OfByte b)) return super.containsAllByte(c);
+            final long[] w = words, o = b.words;
+            for(int i = 0; i < WORDS; i++) if((o[i] & ~w[i]) != 0) return false;
+            return true;
+        }
+
+        @Override
+        public boolean addAllByte(PrimitiveCollection.OfByte c) {
+            final long[] w = words, o = bitmapOf(c);
+            for(int i = 0; i < WORDS; i++) w[i] |= o[i];
+            return updateSize();
+        }
+
+        @Override
+        public boolean retainAllByte(PrimitiveCollection.OfByte c) {
+            final long[] w = words, o = bitmapOf(c);
+            for(int i = 0; i < WORDS; i++) w[i] &= o[i];
+            return updateSize();
+        }
+
+        @Override
+        public boolean removeAllByte(PrimitiveCollection.OfByte c) {
+            final long[] w = words, o = bitmapOf(c);
+            for(int i = 0; i < WORDS; i++) w[i] &= ~o[i];
+            return updateSize();
+        }
+
+        /**
+         * Removes every element that is not in this set and the specified one, and adds every
+         * element of the specified set that is not in this one.
+         * @param c the set to combine with this one
+         * @return {@code true} if this set changed as a result of the call
+         */
+        public boolean xorAllByte(PrimitiveCollection.OfByte c) {
+            final long[] w = words, o = bitmapOf(c);
+            for(int i = 0; i < WORDS; i++) w[i] ^= o[i];
+            return updateSize();
+        }
+
+        /**
+         * Recounts the elements after a bulk operation.
+         * @return whether the operation changed the size
+         */
+        private boolean updateSize() {
+            int old = size;
+            if((size = count(words)) == old) return false;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeIfByte(PrimitivePredicate.OfByte filter) {
+            Objects.requireNonNull(filter);
+            final long[] w = words;
+            int removed = 0;
+            for(int i = 0; i < WORDS; i++) {
+                long bits = w[i], clear = 0;
+                while(bits != 0) {
+                    long low = bits & -bits;
+                    if(filter.testByte(value((i << 6) | java.lang.Long.numberOfTrailingZeros(low)))) clear |= low;
+                    bits ^= low;
+                }
+                if(clear != 0) {
+                    w[i] &= ~clear;
+                    removed += java.lang.Long.bitCount(clear);
+                }
+            }
+            if(removed == 0) return false;
+            size -= removed;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public byte[] toArrayByte() {
+            byte[] a = new byte[size];
+            final long[] w = words;
+            for(int i = 0, j = 0; j < a.length; i++) for(long bits = w[i]; bits != 0; bits &= bits - 1) a[j++] = value((i << 6) | java.lang.Long.numberOfTrailingZeros(bits));
+            return a;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfByte action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final long[] w = words;
+            for(int i = 0; i < WORDS && modCount == expectedModCount; i++) for(long bits = w[i]; bits != 0; bits &= bits - 1) action.acceptByte(value((i << 6) | java.lang.Long.numberOfTrailingZeros(bits)));
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfByte iteratorByte() { return new Itr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the elements
+         * in this set, in ascending order. The spliterator splits the bitmap by word range,
+         * counting the bits of each half, and reports {@link Spliterator#SORTED},
+         * {@link Spliterator#ORDERED}, {@link Spliterator#DISTINCT}, {@link Spliterator#SIZED}
+         * and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements in this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfByte spliteratorByte() { return new Spliter(0, -1, 0, 0); }
+
+        private class Itr implements PrimitiveIterator.OfByte {
+            /** The word being scanned. */
+            int word = -1;
+            /** Its bits not yet returned. */
+            long bits;
+            /** The bit of the last returned element, or {@code -1} if none. */
+            int lastRet = -1;
+            /** The number of elements still to be returned. */
+            int count = size;
+            int expectedModCount = modCount;
+
+            public boolean hasNext() { return count != 0; }
+
+            public byte nextByte() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(count == 0) throw new NoSuchElementException();
+                count--;
+                long b = bits;
+                while(b == 0) b = words[++word];
+                bits = b & (b - 1);
+                return value(lastRet = (word << 6) | java.lang.Long.numberOfTrailingZeros(b));
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                words[lastRet >>> 6] &= ~(1L << lastRet);
+                size--;
+                lastRet = -1;
+                expectedModCount = ++modCount;
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfByte {
+            /** The next bit to visit. */
+            private int index;
+            private int fence;            // -1 until first use; then one past last word
+            private int est;              // exact number of elements left
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int est, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.est = est;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    est = size;
+                    expectedModCount = modCount;
+                    hi = fence = WORDS;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = (index + 63) >>> 6, mid = (lo + hi) >>> 1;
+                if(lo >= mid || est < 2) return null;
+                int n = 0;
+                final long[] w = words;
+                for(int i = mid; i < hi; i++) n += java.lang.Long.bitCount(w[i]);
+                Spliter prefix = new Spliter(index, mid, est - n, expectedModCount);
+                index = mid << 6;
+                est = n;
+                return prefix;
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfByte action) {
+                if(action == null) throw new NullPointerException();
+                int end = getFence() << 6, i = index;
+                if(i >= end) return false;
+                final long[] w = words;
+                int wi = i >>> 6;
+                long bits = w[wi] & (-1L << i);
+                while(bits == 0) {
+                    if(++wi << 6 >= end) {
+                        index = end;
+                        return false;
+                    }
+                    bits = w[wi];
+                }
+                int bit = (wi << 6) | java.lang.Long.numberOfTrailingZeros(bits);
+                index = bit + 1;
+                est--;
+                action.acceptByte(value(bit));
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfByte action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                index = hi << 6;
+                est = 0;
+                if(i >= hi << 6) return;
+                final long[] w = words;
+                int wi = i >>> 6;
+                for(long bits = w[wi] & (-1L << i); bits != 0; bits &= bits - 1) action.acceptByte(value((wi << 6) | java.lang.Long.numberOfTrailingZeros(bits)));
+                while(++wi < hi) for(long bits = w[wi]; bits != 0; bits &= bits - 1) action.acceptByte(value((wi << 6) | java.lang.Long.numberOfTrailingZeros(bits)));
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() {
+                getFence();
+                return (long) est;
+            }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.SORTED | Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SIZED | Spliterator.SUBSIZED;
+            }
+
+            @Override
+            public PrimitiveComparator.OfByte getComparator() { return null; }
+        }
+
+        ///////////// Copying, comparison and hashing
+
+        /**
+         * Returns a shallow copy of this set.
+         * @return a clone of this set
+         */
+        @Override
+        public PrimitiveBitmapSet.OfByte clone() {
+            try {
+                var c = (PrimitiveBitmapSet.OfByte) super.clone();
+                c.words = words.clone();
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof PrimitiveBitmapSet.OfByte b) return Arrays.equals(words, b.words);
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            final long[] w = words;
+            for(int i = 0; i < WORDS; i++) for(long bits = w[i]; bits != 0; bits &= bits - 1) h += java.lang.Byte.hashCode(value((i << 6) | java.lang.Long.numberOfTrailingZeros(bits)));
+            return h;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package jdk.prim.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import jdk.prim.util.function.PrimitiveConsumer;
+
+/**
+ * A pseudo-package for holding gap buffers: array lists that keep their free capacity as a
+ * movable gap at the last edit position instead of at the end of the array.
+ */
+public final class PrimitiveGapBuffer {
+    /**
+     * Default initial capacity, allocated lazily on the first insertion into an empty buffer.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private PrimitiveGapBuffer() {}
+
+    /**
+     * Gap buffer implementation of the {@link PrimitiveList.OfChar} interface, suited to text
+     * that is edited in bursts around a cursor. The elements are kept unboxed in a single
+     * {@code char[]} with the unused capacity held as a gap between the elements before and
+     * after the most recent edit. Insertion and removal move the gap to the edit position,
+     * copying only the characters between the old and new positions, and then grow or shrink
+     * the gap in place, so a run of edits at one spot costs nothing beyond the characters
+     * inserted. The {@code getChar} and {@code setChar} operations run in constant time.
+     * <p>
+     * {@link #asCharSequence()} exposes the buffer as a {@link CharSequence} without copying it.
+     * <p>
+     * The iterators of this class are <i>fail-fast</i>.
+     */
+    public static class OfChar extends PrimitiveAbstractList.OfChar implements RandomAccess, Cloneable {
+        private static final char[] EMPTY_BUFFER = {};
+
+        /**
+         * The characters before the gap occupy {@code [0, gapStart)} and those after it
+         * {@code [gapEnd, buf.length)}.
+         */
+        private transient char[] buf;
+        private int gapStart, gapEnd;
+
+        /**
+         * Constructs an empty buffer.
+         */
+        public OfChar() { buf = EMPTY_BUFFER; }
+
+        /**
+         * Constructs an empty buffer with the specified initial capacity.
+         * @param initialCapacity the initial capacity of the buffer
+         * @throws IllegalArgumentException if the specified initial capacity is negative
+         */
+        public OfChar(int initialCapacity) {
+            if(initialCapacity < 0) throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+            buf = initialCapacity == 0 ? EMPTY_BUFFER : new char[initialCapacity];
+            gapEnd = initialCapacity;
+        }
+
+        /**
+         * Constructs a buffer containing the characters of the specified sequence.
+         * @param s the characters to be placed into this buffer
+         */
+        public OfChar(CharSequence s) {
+            buf = s.toString().toCharArray();
+            gapStart = gapEnd = buf.length;
+        }
+
+        /**
+         * Constructs a buffer containing {@code len} characters of the specified array,
+         * starting at {@code off}.
+         * @param a the array whose characters are to be placed into this buffer
+         * @param off the index of the first character to copy
+         * @param len the number of characters to copy
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfChar(char[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            buf = Arrays.copyOfRange(a, off, off + len);
+            gapStart = gapEnd = len;
+        }
+
+        /**
+         * Constructs a buffer containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this buffer
+         */
+        public OfChar(PrimitiveCollection.OfChar c) {
+            buf = c.toArrayChar();
+            gapStart = gapEnd = buf.length;
+        }
+
+        ///////////// Gap management
+
+        /** Maps an index of the list to an index of {@link #buf}. */
+        private int raw(int index) { return index < gapStart ? index : index + (gapEnd - gapStart); }
+
+        /** Moves the gap so that it starts at {@code index}. */
+        private void moveGap(int index) {
+            final char[] b = buf;
+            if(index < gapStart) {
+                int n = gapStart - index;
+                System.arraycopy(b, index, b, gapEnd - n, n);
+                gapStart = index;
+                gapEnd -= n;
+            } else if(index > gapStart) {
+                int n = index - gapStart;
+                System.arraycopy(b, gapEnd, b, gapStart, n);
+                gapStart = index;
+                gapEnd += n;
+            }
+        }
+
+        /** Grows the array, if necessary, so that the gap holds at least {@code n} characters. */
+        private void ensureGap(int n) {
+            final int gap = gapEnd - gapStart, cap = buf.length;
+            if(gap >= n) return;
+            int newCapacity = cap == 0 ? Math.max(DEFAULT_CAPACITY, n) : PrimitiveArrayList.newLength(cap, n - gap, cap >> 1);
+            char[] b = new char[newCapacity];
+            int tail = cap - gapEnd;
+            System.arraycopy(buf, 0, b, 0, gapStart);
+            System.arraycopy(buf, gapEnd, b, newCapacity - tail, tail);
+            buf = b;
+            gapEnd = newCapacity - tail;
+        }
+
+        /**
+         * Trims the capacity of this buffer to its current size, closing the gap.
+         */
+        public void trimToSize() {
+            modCount++;
+            int size = size();
+            if(size < buf.length) {
+                buf = size == 0 ? EMPTY_BUFFER : toArrayChar();
+                gapStart = gapEnd = size;
+            }
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return buf.length - (gapEnd - gapStart); }
+
+        @Override
+        public boolean isEmpty() { return size() == 0; }
+
+        @Override
+        public char getChar(int index) {
+            Objects.checkIndex(index, size());
+            return buf[raw(index)];
+        }
+
+        @Override
+        public char setChar(int index, char e) {
+            Objects.checkIndex(index, size());
+            int i = raw(index);
+            char oldValue = buf[i];
+            buf[i] = e;
+            return oldValue;
+        }
+
+        @Override
+        public char getFirstChar() {
+            if(size() == 0) throw new NoSuchElementException();
+            return buf[raw(0)];
+        }
+
+        @Override
+        public char getLastChar() {
+            int last = size() - 1;
+            if(last < 0) throw new NoSuchElementException();
+            return buf[raw(last)];
+        }
+
+        @Override
+        public int indexOfChar(char e) {
+            final char[] b = buf;
+            for(int i = 0; i < gapStart; i++) if(b[i] == e) return i;
+            for(int i = gapEnd; i < b.length; i++) if(b[i] == e) return i - (gapEnd - gapStart);
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfChar(char e) {
+            final char[] b = buf;
+            for(int i = b.length - 1; i >= gapEnd; i--) if(b[i] == e) return i - (gapEnd - gapStart);
+            for(int i = gapStart - 1; i >= 0; i--) if(b[i] == e) return i;
+            return -1;
+        }
+
+        @Override
+        public boolean containsChar(char e) { return indexOfChar(e) >= 0; }
+
+        /**
+         * Returns a copy of this buffer.
+         * @return a clone of this buffer
+         */
+        @Override
+        public PrimitiveGapBuffer.OfChar clone() {
+            try {
+                var v = (PrimitiveGapBuffer.OfChar) super.clone();
+                v.buf = buf.clone();
+                v.modCount = 0;
+                return v;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addChar(char e) {
+            addChar(size(), e);
+            return true;
+        }
+
+        @Override
+        public void addChar(int index, char e) {
+            rangeCheckForAdd(index);
+            modCount++;
+            ensureGap(1);
+            moveGap(index);
+            buf[gapStart++] = e;
+        }
+
+        /**
+         * Inserts {@code len} characters of the specified array, starting at {@code off},
+         * at the specified position in this buffer. The gap is moved there once and the
+         * characters are copied into it in one block.
+         * @param index index at which to insert the first character
+         * @param src the array holding the characters to insert
+         * @param off the index in {@code src} of the first character to insert
+         * @param len the number of characters to insert
+         * @throws IndexOutOfBoundsException if {@code index} is out of range
+         *         ({@code index < 0 || index > size()}) or the source range is out of the
+         *         bounds of {@code src}
+         */
+        public void insertChars(int index, char[] src, int off, int len) {
+            rangeCheckForAdd(index);
+            Objects.checkFromIndexSize(off, len, src.length);
+            if(len == 0) return;
+            modCount++;
+            ensureGap(len);
+            moveGap(index);
+            System.arraycopy(src, off, buf, gapStart, len);
+            gapStart += len;
+        }
+
+        @Override
+        public boolean addAllChar(int index, PrimitiveCollection.OfChar c) {
+            char[] a = c.toArrayChar();
+            insertChars(index, a, 0, a.length);
+            return a.length != 0;
+        }
+
+        @Override
+        public boolean addAllChar(PrimitiveCollection.OfChar c) { return addAllChar(size(), c); }
+
+        @Override
+        public char removeElementAtIndex(int index) {
+            Objects.checkIndex(index, size());
+            modCount++;
+            moveGap(index);
+            return buf[gapEnd++];
+        }
+
+        @Override
+        public char removeFirstChar() {
+            if(size() == 0) throw new NoSuchElementException();
+            return removeElementAtIndex(0);
+        }
+
+        @Override
+        public char removeLastChar() {
+            int last = size() - 1;
+            if(last < 0) throw new NoSuchElementException();
+            return removeElementAtIndex(last);
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            gapStart = 0;
+            gapEnd = buf.length;
+        }
+
+        /**
+         * Removes from this buffer all of the characters whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive, by moving the gap to
+         * {@code fromIndex} and widening it over the range.
+         * @param fromIndex index of first character to be removed
+         * @param toIndex index after last character to be removed
+         */
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if(fromIndex >= toIndex) return;
+            modCount++;
+            moveGap(fromIndex);
+            gapEnd += toIndex - fromIndex;
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public char[] toArrayChar() { return toArrayChar(0, size(), EMPTY_BUFFER); }
+
+        @Override
+        public char[] toArrayChar(char[] array) { return toArrayChar(0, size(), array); }
+
+        /**
+         * Copies the characters between {@code from}, inclusive, and {@code to}, exclusive,
+         * into the start of the specified array if they fit, or else into a new array of
+         * exactly that length.
+         * @param from index of the first character to copy
+         * @param to index after the last character to copy
+         * @param dst the array into which the characters are to be stored, if it is big enough
+         * @return the array containing the characters
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        public char[] toArrayChar(int from, int to, char[] dst) {
+            Objects.checkFromToIndex(from, to, size());
+            int n = to - from;
+            if(dst.length < n) dst = new char[n];
+            int k = 0;
+            if(from < gapStart) {
+                k = Math.min(to, gapStart) - from;
+                System.arraycopy(buf, from, dst, 0, k);
+            }
+            if(to > gapStart) {
+                int s = Math.max(from, gapStart);
+                System.arraycopy(buf, s + (gapEnd - gapStart), dst, k, to - s);
+            }
+            return dst;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfChar action) {
+            Objects.requireNonNull(action);
+            final char[] b = buf;
+            for(int i = 0, n = gapStart; i < n; i++) action.acceptChar(b[i]);
+            for(int i = gapEnd; i < b.length; i++) action.acceptChar(b[i]);
+        }
+
+        ///////////// Views
+
+        /**
+         * Returns a {@link CharSequence} that reads this buffer in place. The sequence is
+         * live: it sees every later edit, and its {@code length()} follows the size of the
+         * buffer. A {@link CharSequence#subSequence(int, int) sub-sequence} of it covers a fixed
+         * range of indices and is equally live. Only {@code toString()} copies.
+         * @return a character sequence view of this buffer
+         */
+        public CharSequence asCharSequence() { return new Text(0, -1); }
+
+        private final class Text implements CharSequence {
+            /** The range of the buffer seen, where a negative {@code to} means the end. */
+            private final int from, to;
+
+            Text(int from, int to) {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            public int length() { return (to < 0 ? size() : to) - from; }
+
+            @Override
+            public char charAt(int index) {
+                Objects.checkIndex(index, length());
+                return buf[raw(from + index)];
+            }
+
+            @Override
+            public CharSequence subSequence(int start, int end) {
+                Objects.checkFromToIndex(start, end, length());
+                return new Text(from + start, from + end);
+            }
+
+            @Override
+            public String toString() {
+                int end = to < 0 ? size() : to;
+                return new String(toArrayChar(from, end, EMPTY_BUFFER));
+            }
+        }
+    }
+}
@@ -0,0 +1,1796 @@
+package jdk.prim.util;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
+import jdk.prim.util.function.PrimitiveConsumer;
+import jdk.prim.util.function.PrimitivePredicate;
+
+/**
+ * A pseudo-package for holding the primitive declaration with functionalities and syntax of {@link java.util.HashSet HashSet}
+ * for the {@code double}, {@code long}, {@code int} and {@code float} types
+ */
+public final class PrimitiveHashSet {
+    /** The load factor used when none is specified. */
+    static final float DEFAULT_LOAD_FACTOR = .75f;
+    /** The number of expected elements used when none is specified. */
+    static final int DEFAULT_EXPECTED = 16;
+    /** The largest power-of-two table length. */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private PrimitiveHashSet() {}
+
+    /**
+     * Returns the power-of-two table length needed to hold {@code expected}
+     * elements under the load factor {@code f}.
+     * @param expected the expected number of elements
+     * @param f the load factor
+     * @return the table length
+     * @throws IllegalArgumentException if the table would be too large
+     */
+    static int tableSize(int expected, float f) {
+        long s = Math.max(2, Long.highestOneBit((long) Math.ceil(expected / f) - 1) << 1);
+        if(s > MAXIMUM_CAPACITY) throw new IllegalArgumentException("Too large (" + expected + " expected elements with load factor " + f + ")");
+        return (int) s;
+    }
+
+    /**
+     * Returns the number of slots that may be occupied in a table of length
+     * {@code n} before it must grow. At least one slot is always left free so
+     * that probing terminates.
+     * @param n the table length
+     * @param f the load factor
+     * @return the maximum fill
+     */
+    static int maxFill(int n, float f) { return Math.min((int) Math.ceil(n * f), n - 1); }
+
+    /**
+     * Scrambles the bits of a {@code long} key so that keys differing only in
+     * their high bits still land in different slots of a power-of-two table.
+     * @param x the key
+     * @return a well-mixed hash of {@code x}
+     */
+    static int mix(long x) {
+        long h = x * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+
+    /**
+     * Scrambles the bits of an {@code int} key so that keys differing only in
+     * their high bits still land in different slots of a power-of-two table.
+     * @param x the key
+     * @return a well-mixed hash of {@code x}
+     */
+    static int mix(int x) {
+        int h = x * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * An open-addressing hash set of {@code double} values.
+     * <p>
+     * Elements are stored unboxed in a single flat {@code long[]} table whose length
+     * is a power of two, collisions are resolved by linear probing and removals
+     * use backward-shift deletion, so no tombstones are ever left behind. A slot
+     * holding {@code 0} is free; the element whose stored form is {@code 0} is
+     * tracked by a separate flag instead. Members are compared by
+     * {@link java.lang.Double#doubleToLongBits(double) bit pattern}, exactly as
+     * {@link java.lang.Double#equals(Object)} does, so every {@code NaN} is the same
+     * element while {@code 0.0} and {@code -0.0} are distinct; {@code 0.0} is the element
+     * held by the flag.
+     * <p>
+     * {@link #containsDouble(double)}, {@link #addDouble(double)} and {@link #removeDouble(double)} do not
+     * allocate. The iterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.HashSet}
+     */
+    public static class OfDouble extends PrimitiveAbstractSet.OfDouble implements Cloneable {
+        /** The hash table; {@code 0} marks a free slot. */
+        private transient long[] keys;
+        /** Whether the element stored as {@code 0} is a member of this set. */
+        private transient boolean containsZero;
+        /** {@code keys.length - 1}. */
+        private transient int mask;
+        /** The number of elements, including the zero element if present. */
+        private int size;
+        /** The number of table slots that may be occupied before the table is doubled. */
+        private transient int maxFill;
+        /** The load factor of the table. */
+        private final float loadFactor;
+        /** The number of times this set has been structurally modified. */
+        private transient int modCount;
+
+        /**
+         * Constructs an empty set able to hold {@code expected} elements
+         * without rehashing, using the given load factor.
+         * @param expected the expected number of elements
+         * @param loadFactor the load factor, in the range (0, 1)
+         * @throws IllegalArgumentException if {@code expected} is negative or
+         *         {@code loadFactor} is not in (0, 1)
+         */
+        public OfDouble(int expected, float loadFactor) {
+            if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+            if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+            this.loadFactor = loadFactor;
+            int n = tableSize(expected, loadFactor);
+            keys = new long[n];
+            mask = n - 1;
+            maxFill = maxFill(n, loadFactor);
+        }
+
+        /**
+         * Constructs an empty set able to hold {@code expected} elements
+         * without rehashing, using the default load factor.
+         * @param expected the expected number of elements
+         */
+        public OfDouble(int expected) { this(expected, DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs an empty set with the default capacity and load factor.
+         */
+        public OfDouble() { this(DEFAULT_EXPECTED, DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs a set containing the elements of the specified collection.
+         * @param c the collection whose elements are to be placed into this set
+         */
+        public OfDouble(PrimitiveCollection.OfDouble c) {
+            this(c.size(), DEFAULT_LOAD_FACTOR);
+            addAllDouble(c);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsDouble(double value) {
+            final long k = java.lang.Double.doubleToLongBits(value);
+            if(k == 0) return containsZero;
+            final long[] key = keys;
+            long curr;
+            int pos;
+            if((curr = key[pos = mix(k) & mask]) == 0) return false;
+            if(k == curr) return true;
+            while(true) {
+                if((curr = key[pos = (pos + 1) & mask]) == 0) return false;
+                if(k == curr) return true;
+            }
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addDouble(double e) {
+            final long k = java.lang.Double.doubleToLongBits(e);
+            if(k == 0) {
+                if(containsZero) return false;
+                containsZero = true;
+            } else {
+                final long[] key = keys;
+                long curr;
+                int pos;
+                if((curr = key[pos = mix(k) & mask]) != 0) {
+                    if(curr == k) return false;
+                    while((curr = key[pos = (pos + 1) & mask]) != 0) if(curr == k) return false;
+                }
+                key[pos] = k;
+            }
+            modCount++;
+            if(size++ >= maxFill) rehash(tableSize(size + 1, loadFactor));
+            return true;
+        }
+
+        @Override
+        public boolean removeDouble(double e) {
+            final long k = java.lang.Double.doubleToLongBits(e);
+            if(k == 0) {
+                if(!containsZero) return false;
+                containsZero = false;
+                modCount++;
+                size--;
+                return true;
+            }
+            final long[] key = keys;
+            long curr;
+            int pos;
+            if((curr = key[pos = mix(k) & mask]) == 0) return false;
+            while(curr != k) if((curr = key[pos = (pos + 1) & mask]) == 0) return false;
+            modCount++;
+            size--;
+            shiftKeys(pos);
+            return true;
+        }
+
+        /**
+         * Closes the gap left at {@code pos} by moving back every following entry
+         * of the probe run that would otherwise become unreachable.
+         */
+        private void shiftKeys(int pos) {
+            final long[] key = keys;
+            int last, slot;
+            long curr;
+            for(;;) {
+                pos = ((last = pos) + 1) & mask;
+                for(;;) {
+                    if((curr = key[pos]) == 0) {
+                        key[last] = 0;
+                        return;
+                    }
+                    slot = mix(curr) & mask;
+                    // move curr back only if its home slot is not cyclically within (last, pos]
+                    if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                    pos = (pos + 1) & mask;
+                }
+                key[last] = curr;
+            }
+        }
+
+        @Override
+        public void clear() {
+            if(size == 0) return;
+            modCount++;
+            size = 0;
+            containsZero = false;
+            Arrays.fill(keys, (long) 0);
+        }
+
+        /**
+         * Ensures that this set can hold at least {@code expected} elements
+         * without rehashing.
+         * @param expected the expected number of elements
+         */
+        public void ensureCapacity(int expected) {
+            int n = tableSize(expected, loadFactor);
+            if(n > keys.length) rehash(n);
+        }
+
+        /**
+         * Shrinks the table to the smallest size able to hold the current
+         * elements under the load factor.
+         */
+        public void trimToSize() {
+            int n = tableSize(size, loadFactor);
+            if(n < keys.length) rehash(n);
+        }
+
+        private void rehash(int newN) {
+            final long[] key = keys;
+            final long[] newKey = new long[newN];
+            final int newMask = newN - 1;
+            for(int i = key.length, j = containsZero ? size - 1 : size; j-- != 0;) {
+                while(key[--i] == 0);
+                int pos;
+                if(newKey[pos = mix(key[i]) & newMask] != 0) while(newKey[pos = (pos + 1) & newMask] != 0);
+                newKey[pos] = key[i];
+            }
+            keys = newKey;
+            mask = newMask;
+            maxFill = maxFill(newN, loadFactor);
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllDouble(PrimitiveCollection.OfDouble c) {
+            if(loadFactor <= .5f) ensureCapacity(c.size());
+            else ensureCapacity(size + c.size());
+            return super.addAllDouble(c);
+        }
+
+        @Override
+        public boolean removeIfDouble(PrimitivePredicate.OfDouble filter) {
+            Objects.requireNonNull(filter);
+            boolean modified = false;
+            var it = iteratorDouble();
+            while(it.hasNext()) if(filter.testDouble(it.nextDouble())) {
+                it.remove();
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public double[] toArrayDouble() {
+            double[] a = new double[size];
+            int j = 0;
+            if(containsZero) a[j++] = 0.0;
+            final long[] key = keys;
+            for(int i = 0; j < a.length; i++) if(key[i] != 0) a[j++] = java.lang.Double.longBitsToDouble(key[i]);
+            return a;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfDouble action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            if(containsZero) action.acceptDouble(0.0);
+            final long[] key = keys;
+            for(int i = 0; i < key.length && modCount == expectedModCount; i++) if(key[i] != 0) action.acceptDouble(java.lang.Double.longBitsToDouble(key[i]));
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfDouble iteratorDouble() { return new Itr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over
+         * the elements in this set. The spliterator splits the table by slot range
+         * and reports {@link Spliterator#DISTINCT}, and {@link Spliterator#SIZED}
+         * until it is split.
+         * @return a spliterator over the elements in this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfDouble spliteratorDouble() { return new Spliter(0, -1, 0, 0); }
+
+        private class Itr implements PrimitiveIterator.OfDouble {
+            /**
+             * Iteration starts just after a free slot, so no probe run straddles the
+             * starting point and backward shifts only ever pull elements from
+             * slots this iterator has not reached yet.
+             */
+            final int start;
+            /** The number of slots still to be scanned. */
+            int remaining;
+            /** The slot to scan next, relative to {@link #start}. */
+            int cursor;
+            /** The slot of the last returned element, {@code -1} if none, {@code -2} for the zero element. */
+            int lastRet = -1;
+            /** Whether the zero element is still to be returned. */
+            boolean zeroPending = containsZero;
+            /** The number of elements still to be returned. */
+            int count = size;
+            int expectedModCount = modCount;
+
+            Itr() {
+                final long[] key = keys;
+                int s = 0;
+                while(key[s] != 0) s++;
+                start = s;
+                remaining = key.length;
+            }
+
+            public boolean hasNext() { return count != 0; }
+
+            public double nextDouble() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(count == 0) throw new NoSuchElementException();
+                count--;
+                if(zeroPending) {
+                    zeroPending = false;
+                    lastRet = -2;
+                    return 0.0;
+                }
+                final long[] key = keys;
+                for(;;) {
+                    if(remaining-- == 0) throw new ConcurrentModificationException();
+                    int pos = (start + cursor++) & mask;
+                    if(key[pos] != 0) return java.lang.Double.longBitsToDouble(key[lastRet = pos]);
+                }
+            }
+
+            public void remove() {
+                if(lastRet == -1) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(lastRet == -2) containsZero = false;
+                else {
+                    shiftKeys(lastRet);
+                    // rescan the vacated slot, an unvisited element may have been moved into it
+                    if(keys[lastRet] != 0) {
+                        cursor--;
+                        remaining++;
+                    }
+                }
+                size--;
+                lastRet = -1;
+                expectedModCount = ++modCount;
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfDouble {
+            /** Slot {@code keys.length} stands for the zero element. */
+            private int index;
+            private int fence;            // -1 until first use; then one past last slot
+            private int est;              // size estimate
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int est, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.est = est;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    est = size;
+                    expectedModCount = modCount;
+                    hi = fence = keys.length + 1;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, est >>>= 1, expectedModCount);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfDouble action) {
+                if(action == null) throw new NullPointerException();
+                final long[] key = keys;
+                int hi = getFence();
+                while(index < hi) {
+                    int i = index++;
+                    if(i == key.length) {
+                        if(containsZero) {
+                            action.acceptDouble(0.0);
+                            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                            return true;
+                        }
+                    } else if(key[i] != 0) {
+                        action.acceptDouble(java.lang.Double.longBitsToDouble(key[i]));
+                        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfDouble action) {
+                if(action == null) throw new NullPointerException();
+                final long[] key = keys;
+                int hi = getFence(), i = index;
+                index = hi;
+                if(hi > key.length) {
+                    hi = key.length;
+                    for(; i < hi; i++) if(key[i] != 0) action.acceptDouble(java.lang.Double.longBitsToDouble(key[i]));
+                    if(containsZero) action.acceptDouble(0.0);
+                } else for(; i < hi; i++) if(key[i] != 0) action.acceptDouble(java.lang.Double.longBitsToDouble(key[i]));
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() {
+                getFence();
+                return (long) est;
+            }
+
+            @Override
+            public int characteristics() {
+                return (fence < 0 || est == size ? Spliterator.SIZED : 0) | Spliterator.DISTINCT;
+            }
+        }
+
+        ///////////// Copying and hashing
+
+        /**
+         * Returns a shallow copy of this set.
+         * @return a clone of this set
+         */
+        @Override
+        public PrimitiveHashSet.OfDouble clone() {
+            try {
+                var c = (PrimitiveHashSet.OfDouble) super.clone();
+                c.keys = keys.clone();
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            if(containsZero) h += java.lang.Double.hashCode(0.0);
+            final long[] key = keys;
+            for(int i = 0; i < key.length; i++) if(key[i] != 0) h += java.lang.Double.hashCode(java.lang.Double.longBitsToDouble(key[i]));
+            return h;
+        }
+    }
+
+    /**
+     * An open-addressing hash set of {@code long} values.
+     * <p>
+     * Elements are stored unboxed in a single flat {@code long[]} table whose length
+     * is a power of two, collisions are resolved by linear probing and removals
+     * use backward-shift deletion, so no tombstones are ever left behind. A slot
+     * holding {@code 0} is free; the element whose stored form is {@code 0} is
+     * tracked by a separate flag instead. The element {@code 0L} is the one held by the flag.
+     * <p>
+     * {@link #containsLong(long)}, {@link #addLong(long)} and {@link #removeLong(long)} do not
+     * allocate. The iterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.HashSet}
+     */
+    public static class OfLong extends PrimitiveAbstractSet.OfLong implements Cloneable {
+        /** The hash table; {@code 0} marks a free slot. */
+        private transient long[] keys;
+        /** Whether the element stored as {@code 0} is a member of this set. */
+        private transient boolean containsZero;
+        /** {@code keys.length - 1}. */
+        private transient int mask;
+        /** The number of elements, including the zero element if present. */
+        private int size;
+        /** The number of table slots that may be occupied before the table is doubled. */
+        private transient int maxFill;
+        /** The load factor of the table. */
+        private final float loadFactor;
+        /** The number of times this set has been structurally modified. */
+        private transient int modCount;
+
+        /**
+         * Constructs an empty set able to hold {@code expected} elements
+         * without rehashing, using the given load factor.
+         * @param expected the expected number of elements
+         * @param loadFactor the load factor, in the range (0, 1)
+         * @throws IllegalArgumentException if {@code expected} is negative or
+         *         {@code loadFactor} is not in (0, 1)
+         */
+        public OfLong(int expected, float loadFactor) {
+            if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+            if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+            this.loadFactor = loadFactor;
+            int n = tableSize(expected, loadFactor);
+            keys = new long[n];
+            mask = n - 1;
+            maxFill = maxFill(n, loadFactor);
+        }
+
+        /**
+         * Constructs an empty set able to hold {@code expected} elements
+         * without rehashing, using the default load factor.
+         * @param expected the expected number of elements
+         */
+        public OfLong(int expected) { this(expected, DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs an empty set with the default capacity and load factor.
+         */
+        public OfLong() { this(DEFAULT_EXPECTED, DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs a set containing the elements of the specified collection.
+         * @param c the collection whose elements are to be placed into this set
+         */
+        public OfLong(PrimitiveCollection.OfLong c) {
+            this(c.size(), DEFAULT_LOAD_FACTOR);
+            addAllLong(c);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsLong(long value) {
+            final long k = value;
+            if(k == 0) return containsZero;
+            final long[] key = keys;
+            long curr;
+            int pos;
+            if((curr = key[pos = mix(k) & mask]) == 0) return false;
+            if(k == curr) return true;
+            while(true) {
+                if((curr = key[pos = (pos + 1) & mask]) == 0) return false;
+                if(k == curr) return true;
+            }
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addLong(long e) {
+            final long k = e;
+            if(k == 0) {
+                if(containsZero) return false;
+                containsZero = true;
+            } else {
+                final long[] key = keys;
+                long curr;
+                int pos;
+                if((curr = key[pos = mix(k) & mask]) != 0) {
+                    if(curr == k) return false;
+                    while((curr = key[pos = (pos + 1) & mask]) != 0) if(curr == k) return false;
+                }
+                key[pos] = k;
+            }
+            modCount++;
+            if(size++ >= maxFill) rehash(tableSize(size + 1, loadFactor));
+            return true;
+        }
+
+        @Override
+        public boolean removeLong(long e) {
+            final long k = e;
+            if(k == 0) {
+                if(!containsZero) return false;
+                containsZero = false;
+                modCount++;
+                size--;
+                return true;
+            }
+            final long[] key = keys;
+            long curr;
+            int pos;
+            if((curr = key[pos = mix(k) & mask]) == 0) return false;
+            while(curr != k) if((curr = key[pos = (pos + 1) & mask]) == 0) return false;
+            modCount++;
+            size--;
+            shiftKeys(pos);
+            return true;
+        }
+
+        /**
+         * Closes the gap left at {@code pos} by moving back every following entry
+         * of the probe run that would otherwise become unreachable.
+         */
+        private void shiftKeys(int pos) {
+            final long[] key = keys;
+            int last, slot;
+            long curr;
+            for(;;) {
+                pos = ((last = pos) + 1) & mask;
+                for(;;) {
+                    if((curr = key[pos]) == 0) {
+                        key[last] = 0;
+                        return;
+                    }
+                    slot = mix(curr) & mask;
+                    // move curr back only if its home slot is not cyclically within (last, pos]
+                    if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                    pos = (pos + 1) & mask;
+                }
+                key[last] = curr;
+            }
+        }
+
+        @Override
+        public void clear() {
+            if(size == 0) return;
+            modCount++;
+            size = 0;
+            containsZero = false;
+            Arrays.fill(keys, (long) 0);
+        }
+
+        /**
+         * Ensures that this set can hold at least {@code expected} elements
+         * without rehashing.
+         * @param expected the expected number of elements
+         */
+        public void ensureCapacity(int expected) {
+            int n = tableSize(expected, loadFactor);
+            if(n > keys.length) rehash(n);
+        }
+
+        /**
+         * Shrinks the table to the smallest size able to hold the current
+         * elements under the load factor.
+         */
+        public void trimToSize() {
+            int n = tableSize(size, loadFactor);
+            if(n < keys.length) rehash(n);
+        }
+
+        private void rehash(int newN) {
+            final long[] key = keys;
+            final long[] newKey = new long[newN];
+            final int newMask = newN - 1;
+            for(int i = key.length, j = containsZero ? size - 1 : size; j-- != 0;) {
+                while(key[--i] == 0);
+                int pos;
+                if(newKey[pos = mix(key[i]) & newMask] != 0) while(newKey[pos = (pos + 1) & newMask] != 0);
+                newKey[pos] = key[i];
+            }
+            keys = newKey;
+            mask = newMask;
+            maxFill = maxFill(newN, loadFactor);
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllLong(PrimitiveCollection.OfLong c) {
+            if(loadFactor <= .5f) ensureCapacity(c.size());
+            else ensureCapacity(size + c.size());
+            return super.addAllLong(c);
+        }
+
+        @Override
+        public boolean removeIfLong(PrimitivePredicate.OfLong filter) {
+            Objects.requireNonNull(filter);
+            boolean modified = false;
+            var it = iteratorLong();
+            while(it.hasNext()) if(filter.testLong(it.nextLong())) {
+                it.remove();
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public long[] toArrayLong() {
+            long[] a = new long[size];
+            int j = 0;
+            if(containsZero) a[j++] = 0L;
+            final long[] key = keys;
+            for(int i = 0; j < a.length; i++) if(key[i] != 0) a[j++] = key[i];
+            return a;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfLong action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            if(containsZero) action.acceptLong(0L);
+            final long[] key = keys;
+            for(int i = 0; i < key.length && modCount == expectedModCount; i++) if(key[i] != 0) action.acceptLong(key[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfLong iteratorLong() { return new Itr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over
+         * the elements in this set. The spliterator splits the table by slot range
+         * and reports {@link Spliterator#DISTINCT}, and {@link Spliterator#SIZED}
+         * until it is split.
+         * @return a spliterator over the elements in this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfLong spliteratorLong() { return new Spliter(0, -1, 0, 0); }
+
+        private class Itr implements PrimitiveIterator.OfLong {
+            /**
+             * Iteration starts just after a free slot, so no probe run straddles the
+             * starting point and backward shifts only ever pull elements from
+             * slots this iterator has not reached yet.
+             */
+            final int start;
+            /** The number of slots still to be scanned. */
+            int remaining;
+            /** The slot to scan next, relative to {@link #start}. */
+            int cursor;
+            /** The slot of the last returned element, {@code -1} if none, {@code -2} for the zero element. */
+            int lastRet = -1;
+            /** Whether the zero element is still to be returned. */
+            boolean zeroPending = containsZero;
+            /** The number of elements still to be returned. */
+            int count = size;
+            int expectedModCount = modCount;
+
+            Itr() {
+                final long[] key = keys;
+                int s = 0;
+                while(key[s] != 0) s++;
+                start = s;
+                remaining = key.length;
+            }
+
+            public boolean hasNext() { return count != 0; }
+
+            public long nextLong() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(count == 0) throw new NoSuchElementException();
+                count--;
+                if(zeroPending) {
+                    zeroPending = false;
+                    lastRet = -2;
+                    return 0L;
+                }
+                final long[] key = keys;
+                for(;;) {
+                    if(remaining-- == 0) throw new ConcurrentModificationException();
+                    int pos = (start + cursor++) & mask;
+                    if(key[pos] != 0) return key[lastRet = pos];
+                }
+            }
+
+            public void remove() {
+                if(lastRet == -1) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(lastRet == -2) containsZero = false;
+                else {
+                    shiftKeys(lastRet);
+                    // rescan the vacated slot, an unvisited element may have been moved into it
+                    if(keys[lastRet] != 0) {
+                        cursor--;
+                        remaining++;
+                    }
+                }
+                size--;
+                lastRet = -1;
+                expectedModCount = ++modCount;
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfLong {
+            /** Slot {@code keys.length} stands for the zero element. */
+            private int index;
+            private int fence;            // -1 until first use; then one past last slot
+            private int est;              // size estimate
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int est, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.est = est;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    est = size;
+                    expectedModCount = modCount;
+                    hi = fence = keys.length + 1;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, est >>>= 1, expectedModCount);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfLong action) {
+                if(action == null) throw new NullPointerException();
+                final long[] key = keys;
+                int hi = getFence();
+                while(index < hi) {
+                    int i = index++;
+                    if(i == key.length) {
+                        if(containsZero) {
+                            action.acceptLong(0L);
+                            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                            return true;
+                        }
+                    } else if(key[i] != 0) {
+                        action.acceptLong(key[i]);
+                        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfLong action) {
+                if(action == null) throw new NullPointerException();
+                final long[] key = keys;
+                int hi = getFence(), i = index;
+                index = hi;
+                if(hi > key.length) {
+                    hi = key.length;
+                    for(; i < hi; i++) if(key[i] != 0) action.acceptLong(key[i]);
+                    if(containsZero) action.acceptLong(0L);
+                } else for(; i < hi; i++) if(key[i] != 0) action.acceptLong(key[i]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() {
+                getFence();
+                return (long) est;
+            }
+
+            @Override
+            public int characteristics() {
+                return (fence < 0 || est == size ? Spliterator.SIZED : 0) | Spliterator.DISTINCT;
+            }
+        }
+
+        ///////////// Copying and hashing
+
+        /**
+         * Returns a shallow copy of this set.
+         * @return a clone of this set
+         */
+        @Override
+        public PrimitiveHashSet.OfLong clone() {
+            try {
+                var c = (PrimitiveHashSet.OfLong) super.clone();
+                c.keys = keys.clone();
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            if(containsZero) h += java.lang.Long.hashCode(0L);
+            final long[] key = keys;
+            for(int i = 0; i < key.length; i++) if(key[i] != 0) h += java.lang.Long.hashCode(key[i]);
+            return h;
+        }
+    }
+
+    /**
+     * An open-addressing hash set of {@code int} values.
+     * <p>
+     * Elements are stored unboxed in a single flat {@code int[]} table whose length
+     * is a power of two, collisions are resolved by linear probing and removals
+     * use backward-shift deletion, so no tombstones are ever left behind. A slot
+     * holding {@code 0} is free; the element whose stored form is {@code 0} is
+     * tracked by a separate flag instead. The element {@code 0} is the one held by the flag.
+     * <p>
+     * {@link #containsInt(int)}, {@link #addInt(int)} and {@link #removeInt(int)} do not
+     * allocate. The iterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.HashSet}
+     */
+    public static class OfInt extends PrimitiveAbstractSet.OfInt implements Cloneable {
+        /** The hash table; {@code 0} marks a free slot. */
+        private transient int[] keys;
+        /** Whether the element stored as {@code 0} is a member of this set. */
+        private transient boolean containsZero;
+        /** {@code keys.length - 1}. */
+        private transient int mask;
+        /** The number of elements, including the zero element if present. */
+        private int size;
+        /** The number of table slots that may be occupied before the table is doubled. */
+        private transient int maxFill;
+        /** The load factor of the table. */
+        private final float loadFactor;
+        /** The number of times this set has been structurally modified. */
+        private transient int modCount;
+
+        /**
+         * Constructs an empty set able to hold {@code expected} elements
+         * without rehashing, using the given load factor.
+         * @param expected the expected number of elements
+         * @param loadFactor the load factor, in the range (0, 1)
+         * @throws IllegalArgumentException if {@code expected} is negative or
+         *         {@code loadFactor} is not in (0, 1)
+         */
+        public OfInt(int expected, float loadFactor) {
+            if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+            if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+            this.loadFactor = loadFactor;
+            int n = tableSize(expected, loadFactor);
+            keys = new int[n];
+            mask = n - 1;
+            maxFill = maxFill(n, loadFactor);
+        }
+
+        /**
+         * Constructs an empty set able to hold {@code expected} elements
+         * without rehashing, using the default load factor.
+         * @param expected the expected number of elements
+         */
+        public OfInt(int expected) { this(expected, DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs an empty set with the default capacity and load factor.
+         */
+        public OfInt() { this(DEFAULT_EXPECTED, DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs a set containing the elements of the specified collection.
+         * @param c the collection whose elements are to be placed into this set
+         */
+        public OfInt(PrimitiveCollection.OfInt c) {
+            this(c.size(), DEFAULT_LOAD_FACTOR);
+            addAllInt(c);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsInt(int value) {
+            final int k = value;
+            if(k == 0) return containsZero;
+            final int[] key = keys;
+            int curr;
+            int pos;
+            if((curr = key[pos = mix(k) & mask]) == 0) return false;
+            if(k == curr) return true;
+            while(true) {
+                if((curr = key[pos = (pos + 1) & mask]) == 0) return false;
+                if(k == curr) return true;
+            }
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addInt(int e) {
+            final int k = e;
+            if(k == 0) {
+                if(containsZero) return false;
+                containsZero = true;
+            } else {
+                final int[] key = keys;
+                int curr;
+                int pos;
+                if((curr = key[pos = mix(k) & mask]) != 0) {
+                    if(curr == k) return false;
+                    while((curr = key[pos = (pos + 1) & mask]) != 0) if(curr == k) return false;
+                }
+                key[pos] = k;
+            }
+            modCount++;
+            if(size++ >= maxFill) rehash(tableSize(size + 1, loadFactor));
+            return true;
+        }
+
+        @Override
+        public boolean removeInt(int e) {
+            final int k = e;
+            if(k == 0) {
+                if(!containsZero) return false;
+                containsZero = false;
+                modCount++;
+                size--;
+                return true;
+            }
+            final int[] key = keys;
+            int curr;
+            int pos;
+            if((curr = key[pos = mix(k) & mask]) == 0) return false;
+            while(curr != k) if((curr = key[pos = (pos + 1) & mask]) == 0) return false;
+            modCount++;
+            size--;
+            shiftKeys(pos);
+            return true;
+        }
+
+        /**
+         * Closes the gap left at {@code pos} by moving back every following entry
+         * of the probe run that would otherwise become unreachable.
+         */
+        private void shiftKeys(int pos) {
+            final int[] key = keys;
+            int last, slot;
+            int curr;
+            for(;;) {
+                pos = ((last = pos) + 1) & mask;
+                for(;;) {
+                    if((curr = key[pos]) == 0) {
+                        key[last] = 0;
+                        return;
+                    }
+                    slot = mix(curr) & mask;
+                    // move curr back only if its home slot is not cyclically within (last, pos]
+                    if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                    pos = (pos + 1) & mask;
+                }
+                key[last] = curr;
+            }
+        }
+
+        @Override
+        public void clear() {
+            if(size == 0) return;
+            modCount++;
+            size = 0;
+            containsZero = false;
+            Arrays.fill(keys, 0);
+        }
+
+        /**
+         * Ensures that this set can hold at least {@code expected} elements
+         * without rehashing.
+         * @param expected the expected number of elements
+         */
+        public void ensureCapacity(int expected) {
+            int n = tableSize(expected, loadFactor);
+            if(n > keys.length) rehash(n);
+        }
+
+        /**
+         * Shrinks the table to the smallest size able to hold the current
+         * elements under the load factor.
+         */
+        public void trimToSize() {
+            int n = tableSize(size, loadFactor);
+            if(n < keys.length) rehash(n);
+        }
+
+        private void rehash(int newN) {
+            final int[] key = keys;
+            final int[] newKey = new int[newN];
+            final int newMask = newN - 1;
+            for(int i = key.length, j = containsZero ? size - 1 : size; j-- != 0;) {
+                while(key[--i] == 0);
+                int pos;
+                if(newKey[pos = mix(key[i]) & newMask] != 0) while(newKey[pos = (pos + 1) & newMask] != 0);
+                newKey[pos] = key[i];
+            }
+            keys = newKey;
+            mask = newMask;
+            maxFill = maxFill(newN, loadFactor);
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllInt(PrimitiveCollection.OfInt c) {
+            if(loadFactor <= .5f) ensureCapacity(c.size());
+            else ensureCapacity(size + c.size());
+            return super.addAllInt(c);
+        }
+
+        @Override
+        public boolean removeIfInt(PrimitivePredicate.OfInt filter) {
+            Objects.requireNonNull(filter);
+            boolean modified = false;
+            var it = iteratorInt();
+            while(it.hasNext()) if(filter.testInt(it.nextInt())) {
+                it.remove();
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public int[] toArrayInt() {
+            int[] a = new int[size];
+            int j = 0;
+            if(containsZero) a[j++] = 0;
+            final int[] key = keys;
+            for(int i = 0; j < a.length; i++) if(key[i] != 0) a[j++] = key[i];
+            return a;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfInt action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            if(containsZero) action.acceptInt(0);
+            final int[] key = keys;
+            for(int i = 0; i < key.length && modCount == expectedModCount; i++) if(key[i] != 0) action.acceptInt(key[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfInt iteratorInt() { return new Itr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over
+         * the elements in this set. The spliterator splits the table by slot range
+         * and reports {@link Spliterator#DISTINCT}, and {@link Spliterator#SIZED}
+         * until it is split.
+         * @return a spliterator over the elements in this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfInt spliteratorInt() { return new Spliter(0, -1, 0, 0); }
+
+        private class Itr implements PrimitiveIterator.OfInt {
+            /**
+             * Iteration starts just after a free slot, so no probe run straddles the
+             * starting point and backward shifts only ever pull elements from
+             * slots this iterator has not reached yet.
+             */
+            final int start;
+            /** The number of slots still to be scanned. */
+            int remaining;
+            /** The slot to scan next, relative to {@link #start}. */
+            int cursor;
+            /** The slot of the last returned element, {@code -1} if none, {@code -2} for the zero element. */
+            int lastRet = -1;
+            /** Whether the zero element is still to be returned. */
+            boolean zeroPending = containsZero;
+            /** The number of elements still to be returned. */
+            int count = size;
+            int expectedModCount = modCount;
+
+            Itr() {
+                final int[] key = keys;
+                int s = 0;
+                while(key[s] != 0) s++;
+                start = s;
+                remaining = key.length;
+            }
+
+            public boolean hasNext() { return count != 0; }
+
+            public int nextInt() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(count == 0) throw new NoSuchElementException();
+                count--;
+                if(zeroPending) {
+                    zeroPending = false;
+                    lastRet = -2;
+                    return 0;
+                }
+                final int[] key = keys;
+                for(;;) {
+                    if(remaining-- == 0) throw new ConcurrentModificationException();
+                    int pos = (start + cursor++) & mask;
+                    if(key[pos] != 0) return key[lastRet = pos];
+                }
+            }
+
+            public void remove() {
+                if(lastRet == -1) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(lastRet == -2) containsZero = false;
+                else {
+                    shiftKeys(lastRet);
+                    // rescan the vacated slot, an unvisited element may have been moved into it
+                    if(keys[lastRet] != 0) {
+                        cursor--;
+                        remaining++;
+                    }
+                }
+                size--;
+                lastRet = -1;
+                expectedModCount = ++modCount;
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfInt {
+            /** Slot {@code keys.length} stands for the zero element. */
+            private int index;
+            private int fence;            // -1 until first use; then one past last slot
+            private int est;              // size estimate
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int est, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.est = est;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    est = size;
+                    expectedModCount = modCount;
+                    hi = fence = keys.length + 1;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, est >>>= 1, expectedModCount);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfInt action) {
+                if(action == null) throw new NullPointerException();
+                final int[] key = keys;
+                int hi = getFence();
+                while(index < hi) {
+                    int i = index++;
+                    if(i == key.length) {
+                        if(containsZero) {
+                            action.acceptInt(0);
+                            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                            return true;
+                        }
+                    } else if(key[i] != 0) {
+                        action.acceptInt(key[i]);
+                        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfInt action) {
+                if(action == null) throw new NullPointerException();
+                final int[] key = keys;
+                int hi = getFence(), i = index;
+                index = hi;
+                if(hi > key.length) {
+                    hi = key.length;
+                    for(; i < hi; i++) if(key[i] != 0) action.acceptInt(key[i]);
+                    if(containsZero) action.acceptInt(0);
+                } else for(; i < hi; i++) if(key[i] != 0) action.acceptInt(key[i]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() {
+                getFence();
+                return (long) est;
+            }
+
+            @Override
+            public int characteristics() {
+                return (fence < 0 || est == size ? Spliterator.SIZED : 0) | Spliterator.DISTINCT;
+            }
+        }
+
+        ///////////// Copying and hashing
+
+        /**
+         * Returns a shallow copy of this set.
+         * @return a clone of this set
+         */
+        @Override
+        public PrimitiveHashSet.OfInt clone() {
+            try {
+                var c = (PrimitiveHashSet.OfInt) super.clone();
+                c.keys = keys.clone();
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            if(containsZero) h += java.lang.Integer.hashCode(0);
+            final int[] key = keys;
+            for(int i = 0; i < key.length; i++) if(key[i] != 0) h += java.lang.Integer.hashCode(key[i]);
+            return h;
+        }
+    }
+
+    /**
+     * An open-addressing hash set of {@code float} values.
+     * <p>
+     * Elements are stored unboxed in a single flat {@code int[]} table whose length
+     * is a power of two, collisions are resolved by linear probing and removals
+     * use backward-shift deletion, so no tombstones are ever left behind. A slot
+     * holding {@code 0} is free; the element whose stored form is {@code 0} is
+     * tracked by a separate flag instead. Members are compared by
+     * {@link java.lang.Float#floatToIntBits(float) bit pattern}, exactly as
+     * {@link java.lang.Float#equals(Object)} does, so every {@code NaN} is the same
+     * element while {@code 0.0f} and {@code -0.0f} are distinct; {@code 0.0f} is the element
+     * held by the flag.
+     * <p>
+     * {@link #containsFloat(float)}, {@link #addFloat(float)} and {@link #removeFloat(float)} do not
+     * allocate. The iterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.HashSet}
+     */
+    public static class OfFloat extends PrimitiveAbstractSet.OfFloat implements Cloneable {
+        /** The hash table; {@code 0} marks a free slot. */
+        private transient int[] keys;
+        /** Whether the element stored as {@code 0} is a member of this set. */
+        private transient boolean containsZero;
+        /** {@code keys.length - 1}. */
+        private transient int mask;
+        /** The number of elements, including the zero element if present. */
+        private int size;
+        /** The number of table slots that may be occupied before the table is doubled. */
+        private transient int maxFill;
+        /** The load factor of the table. */
+        private final float loadFactor;
+        /** The number of times this set has been structurally modified. */
+        private transient int modCount;
+
+        /**
+         * Constructs an empty set able to hold {@code expected} elements
+         * without rehashing, using the given load factor.
+         * @param expected the expected number of elements
+         * @param loadFactor the load factor, in the range (0, 1)
+         * @throws IllegalArgumentException if {@code expected} is negative or
+         *         {@code loadFactor} is not in (0, 1)
+         */
+        public OfFloat(int expected, float loadFactor) {
+            if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+            if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+            this.loadFactor = loadFactor;
+            int n = tableSize(expected, loadFactor);
+            keys = new int[n];
+            mask = n - 1;
+            maxFill = maxFill(n, loadFactor);
+        }
+
+        /**
+         * Constructs an empty set able to hold {@code expected} elements
+         * without rehashing, using the default load factor.
+         * @param expected the expected number of elements
+         */
+        public OfFloat(int expected) { this(expected, DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs an empty set with the default capacity and load factor.
+         */
+        public OfFloat() { this(DEFAULT_EXPECTED, DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs a set containing the elements of the specified collection.
+         * @param c the collection whose elements are to be placed into this set
+         */
+        public OfFloat(PrimitiveCollection.OfFloat c) {
+            this(c.size(), DEFAULT_LOAD_FACTOR);
+            addAllFloat(c);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsFloat(float value) {
+            final int k = java.lang.Float.floatToIntBits(value);
+            if(k == 0) return containsZero;
+            final int[] key = keys;
+            int curr;
+            int pos;
+            if((curr = key[pos = mix(k) & mask]) == 0) return false;
+            if(k == curr) return true;
+            while(true) {
+                if((curr = key[pos = (pos + 1) & mask]) == 0) return false;
+                if(k == curr) return true;
+            }
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addFloat(float e) {
+            final int k = java.lang.Float.floatToIntBits(e);
+            if(k == 0) {
+                if(containsZero) return false;
+                containsZero = true;
+            } else {
+                final int[] key = keys;
+                int curr;
+                int pos;
+                if((curr = key[pos = mix(k) & mask]) != 0) {
+                    if(curr == k) return false;
+                    while((curr = key[pos = (pos + 1) & mask]) != 0) if(curr == k) return false;
+                }
+                key[pos] = k;
+            }
+            modCount++;
+            if(size++ >= maxFill) rehash(tableSize(size + 1, loadFactor));
+            return true;
+        }
+
+        @Override
+        public boolean removeFloat(float e) {
+            final int k = java.lang.Float.floatToIntBits(e);
+            if(k == 0) {
+                if(!containsZero) return false;
+                containsZero = false;
+                modCount++;
+                size--;
+                return true;
+            }
+            final int[] key = keys;
+            int curr;
+            int pos;
+            if((curr = key[pos = mix(k) & mask]) == 0) return false;
+            while(curr != k) if((curr = key[pos = (pos + 1) & mask]) == 0) return false;
+            modCount++;
+            size--;
+            shiftKeys(pos);
+            return true;
+        }
+
+        /**
+         * Closes the gap left at {@code pos} by moving back every following entry
+         * of the probe run that would otherwise become unreachable.
+         */
+        private void shiftKeys(int pos) {
+            final int[] key = keys;
+            int last, slot;
+            int curr;
+            for(;;) {
+                pos = ((last = pos) + 1) & mask;
+                for(;;) {
+                    if((curr = key[pos]) == 0) {
+                        key[last] = 0;
+                        return;
+                    }
+                    slot = mix(curr) & mask;
+                    // move curr back only if its home slot is not cyclically within (last, pos]
+                    if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                    pos = (pos + 1) & mask;
+                }
+                key[last] = curr;
+            }
+        }
+
+        @Override
+        public void clear() {
+            if(size == 0) return;
+            modCount++;
+            size = 0;
+            containsZero = false;
+            Arrays.fill(keys, 0);
+        }
+
+        /**
+         * Ensures that this set can hold at least {@code expected} elements
+         * without rehashing.
+         * @param expected the expected number of elements
+         */
+        public void ensureCapacity(int expected) {
+            int n = tableSize(expected, loadFactor);
+            if(n > keys.length) rehash(n);
+        }
+
+        /**
+         * Shrinks the table to the smallest size able to hold the current
+         * elements under the load factor.
+         */
+        public void trimToSize() {
+            int n = tableSize(size, loadFactor);
+            if(n < keys.length) rehash(n);
+        }
+
+        private void rehash(int newN) {
+            final int[] key = keys;
+            final int[] newKey = new int[newN];
+            final int newMask = newN - 1;
+            for(int i = key.length, j = containsZero ? size - 1 : size; j-- != 0;) {
+                while(key[--i] == 0);
+                int pos;
+                if(newKey[pos = mix(key[i]) & newMask] != 0) while(newKey[pos = (pos + 1) & newMask] != 0);
+                newKey[pos] = key[i];
+            }
+            keys = newKey;
+            mask = newMask;
+            maxFill = maxFill(newN, loadFactor);
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllFloat(PrimitiveCollection.OfFloat c) {
+            if(loadFactor <= .5f) ensureCapacity(c.size());
+            else ensureCapacity(size + c.size());
+            return super.addAllFloat(c);
+        }
+
+        @Override
+        public boolean removeIfFloat(PrimitivePredicate.OfFloat filter) {
+            Objects.requireNonNull(filter);
+            boolean modified = false;
+            var it = iteratorFloat();
+            while(it.hasNext()) if(filter.testFloat(it.nextFloat())) {
+                it.remove();
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public float[] toArrayFloat() {
+            float[] a = new float[size];
+            int j = 0;
+            if(containsZero) a[j++] = 0.0f;
+            final int[] key = keys;
+            for(int i = 0; j < a.length; i++) if(key[i] != 0) a[j++] = java.lang.Float.intBitsToFloat(key[i]);
+            return a;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfFloat action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            if(containsZero) action.acceptFloat(0.0f);
+            final int[] key = keys;
+            for(int i = 0; i < key.length && modCount == expectedModCount; i++) if(key[i] != 0) action.acceptFloat(java.lang.Float.intBitsToFloat(key[i]));
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfFloat iteratorFloat() { return new Itr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over
+         * the elements in this set. The spliterator splits the table by slot range
+         * and reports {@link Spliterator#DISTINCT}, and {@link Spliterator#SIZED}
+         * until it is split.
+         * @return a spliterator over the elements in this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfFloat spliteratorFloat() { return new Spliter(0, -1, 0, 0); }
+
+        private class Itr implements PrimitiveIterator.OfFloat {
+            /**
+             * Iteration starts just after a free slot, so no probe run straddles the
+             * starting point and backward shifts only ever pull elements from
+             * slots this iterator has not reached yet.
+             */
+            final int start;
+            /** The number of slots still to be scanned. */
+            int remaining;
+            /** The slot to scan next, relative to {@link #start}. */
+            int cursor;
+            /** The slot of the last returned element, {@code -1} if none, {@code -2} for the zero element. */
+            int lastRet = -1;
+            /** Whether the zero element is still to be returned. */
+            boolean zeroPending = containsZero;
+            /** The number of elements still to be returned. */
+            int count = size;
+            int expectedModCount = modCount;
+
+            Itr() {
+                final int[] key = keys;
+                int s = 0;
+                while(key[s] != 0) s++;
+                start = s;
+                remaining = key.length;
+            }
+
+            public boolean hasNext() { return count != 0; }
+
+            public float nextFloat() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(count == 0) throw new NoSuchElementException();
+                count--;
+                if(zeroPending) {
+                    zeroPending = false;
+                    lastRet = -2;
+                    return 0.0f;
+                }
+                final int[] key = keys;
+                for(;;) {
+                    if(remaining-- == 0) throw new ConcurrentModificationException();
+                    int pos = (start + cursor++) & mask;
+                    if(key[pos] != 0) return java.lang.Float.intBitsToFloat(key[lastRet = pos]);
+                }
+            }
+
+            public void remove() {
+                if(lastRet == -1) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(lastRet == -2) containsZero = false;
+                else {
+                    shiftKeys(lastRet);
+                    // rescan the vacated slot, an unvisited element may have been moved into it
+                    if(keys[lastRet] != 0) {
+                        cursor--;
+                        remaining++;
+                    }
+                }
+                size--;
+                lastRet = -1;
+                expectedModCount = ++modCount;
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfFloat {
+            /** Slot {@code keys.length} stands for the zero element. */
+            private int index;
+            private int fence;            // -1 until first use; then one past last slot
+            private int est;              // size estimate
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int est, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.est = est;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    est = size;
+                    expectedModCount = modCount;
+                    hi = fence = keys.length + 1;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, est >>>= 1, expectedModCount);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfFloat action) {
+                if(action == null) throw new NullPointerException();
+                final int[] key = keys;
+                int hi = getFence();
+                while(index < hi) {
+                    int i = index++;
+                    if(i == key.length) {
+                        if(containsZero) {
+                            action.acceptFloat(0.0f);
+                            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                            return true;
+                        }
+                    } else if(key[i] != 0) {
+                        action.acceptFloat(java.lang.Float.intBitsToFloat(key[i]));
+                        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfFloat action) {
+                if(action == null) throw new NullPointerException();
+                final int[] key = keys;
+                int hi = getFence(), i = index;
+                index = hi;
+                if(hi > key.length) {
+                    hi = key.length;
+                    for(; i < hi; i++) if(key[i] != 0) action.acceptFloat(java.lang.Float.intBitsToFloat(key[i]));
+                    if(containsZero) action.acceptFloat(0.0f);
+                } else for(; i < hi; i++) if(key[i] != 0) action.acceptFloat(java.lang.Float.intBitsToFloat(key[i]));
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() {
+                getFence();
+                return (long) est;
+            }
+
+            @Override
+            public int characteristics() {
+                return (fence < 0 || est == size ? Spliterator.SIZED : 0) | Spliterator.DISTINCT;
+            }
+        }
+
+        ///////////// Copying and hashing
+
+        /**
+         * Returns a shallow copy of this set.
+         * @return a clone of this set
+         */
+        @Override
+        public PrimitiveHashSet.OfFloat clone() {
+            try {
+                var c = (PrimitiveHashSet.OfFloat) super.clone();
+                c.keys = keys.clone();
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            if(containsZero) h += java.lang.Float.hashCode(0.0f);
+            final int[] key = keys;
+            for(int i = 0; i < key.length; i++) if(key[i] != 0) h += java.lang.Float.hashCode(java.lang.Float.intBitsToFloat(key[i]));
+            return h;
+        }
+    }
+}
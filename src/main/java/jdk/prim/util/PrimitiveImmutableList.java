@@ -0,0 +1,2102 @@
+package jdk.prim.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+import jdk.prim.util.function.PrimitiveConsumer;
+import jdk.prim.util.function.PrimitiveFunction;
+import jdk.prim.util.function.PrimitivePredicate;
+
+/**
+ * A pseudo-package for holding the array-backed unmodifiable lists returned by the
+ * {@code PrimitiveList.OfXxx.of} and {@code copyOf} factories. This corresponds to the
+ * list part of {@code java.util.ImmutableCollections}
+ */
+final class PrimitiveImmutableList {
+    private PrimitiveImmutableList() {}
+
+    static UnsupportedOperationException uoe() { return new UnsupportedOperationException(); }
+
+    /**
+     * An unmodifiable list of {@code double} elements backed by a range of an array that no
+     * one else can reach. The array and range are final, so the list needs no
+     * modification count and {@link #subListDouble(int, int)} returns another view of the same
+     * array in constant time.
+     */
+    static final class OfDouble extends PrimitiveAbstractList.OfDouble implements RandomAccess {
+        static final PrimitiveImmutableList.OfDouble EMPTY = new PrimitiveImmutableList.OfDouble(new double[0], 0, 0);
+
+        private final double[] a;
+        private final int offset, size;
+
+        private OfDouble(double[] a, int offset, int size) {
+            this.a = a;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        /**
+         * Returns a list of a copy of the specified range of the array.
+         */
+        static PrimitiveList.OfDouble copyOf(double[] array, int from, int to) {
+            Objects.checkFromToIndex(from, to, array.length);
+            return from == to ? EMPTY : new PrimitiveImmutableList.OfDouble(Arrays.copyOfRange(array, from, to), 0, to - from);
+        }
+
+        /**
+         * Returns an unmodifiable list of the elements of {@code c}, or {@code c} itself if
+         * it is already such a list.
+         */
+        static PrimitiveList.OfDouble copyOf(PrimitiveCollection.OfDouble c) {
+            if(c instanceof PrimitiveImmutableList.OfDouble l) return l;
+            double[] array = c.toArrayDouble();
+            return array.length == 0 ? EMPTY : new PrimitiveImmutableList.OfDouble(array, 0, array.length);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public double getDouble(int index) { return a[offset + Objects.checkIndex(index, size)]; }
+
+        @Override
+        public int indexOfDouble(double e) {
+            final double[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) if((es[i] == e || java.lang.Double.isNaN(es[i]) && java.lang.Double.isNaN(e))) return i - offset;
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfDouble(double e) {
+            final double[] es = a;
+            for(int i = offset + size - 1; i >= offset; i--) if((es[i] == e || java.lang.Double.isNaN(es[i]) && java.lang.Double.isNaN(e))) return i - offset;
+            return -1;
+        }
+
+        @Override
+        public boolean containsDouble(double e) { return indexOfDouble(e) >= 0; }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public boolean addDouble(double e) { throw uoe(); }
+
+        @Override
+        public void addDouble(int index, double e) { throw uoe(); }
+
+        @Override
+        public boolean addAllDouble(PrimitiveCollection.OfDouble c) { throw uoe(); }
+
+        @Override
+        public boolean addAllDouble(int index, PrimitiveCollection.OfDouble c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Double> c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends java.lang.Double> c) { throw uoe(); }
+
+        @Override
+        public void addFirstDouble(double e) { throw uoe(); }
+
+        @Override
+        public void addLastDouble(double e) { throw uoe(); }
+
+        @Override
+        public void addLast(java.lang.Double e) { throw uoe(); }
+
+        @Override
+        public double setDouble(int index, double e) { throw uoe(); }
+
+        @Override
+        public double removeElementAtIndex(int i) { throw uoe(); }
+
+        @Override
+        public boolean removeDouble(double e) { throw uoe(); }
+
+        @Override
+        public double removeFirstDouble() { throw uoe(); }
+
+        @Override
+        public double removeLastDouble() { throw uoe(); }
+
+        @Override
+        public boolean removeAllDouble(PrimitiveCollection.OfDouble c) { throw uoe(); }
+
+        @Override
+        public boolean removeAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean retainAllDouble(PrimitiveCollection.OfDouble c) { throw uoe(); }
+
+        @Override
+        public boolean retainAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean removeIfDouble(PrimitivePredicate.OfDouble filter) { throw uoe(); }
+
+        @Override
+        public void replaceAllDouble(PrimitiveFunction.ToDouble.OfDouble fn) { throw uoe(); }
+
+        @Override
+        public void sortDouble(PrimitiveComparator.OfDouble c) { throw uoe(); }
+
+        @Override
+        public void clear() { throw uoe(); }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) { throw uoe(); }
+
+        ///////////// Bulk access
+
+        @Override
+        public double[] toArrayDouble() { return Arrays.copyOfRange(a, offset, offset + size); }
+
+        @Override
+        public double[] toArrayDouble(double[] array) {
+            if(array.length < size) return toArrayDouble();
+            System.arraycopy(a, offset, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfDouble action) {
+            Objects.requireNonNull(action);
+            final double[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) action.acceptDouble(es[i]);
+        }
+
+        ///////////// Iterators and views
+
+        @Override
+        public PrimitiveIterator.OfDouble iteratorDouble() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfDouble listIteratorDouble() { return new ListItr(0); }
+
+        @Override
+        public PrimitiveListIterator.OfDouble listIteratorDouble(int from) {
+            Objects.checkIndex(from, size + 1);
+            return new ListItr(from);
+        }
+
+        /**
+         * Returns a spliterator over the elements of this list that reports
+         * {@link Spliterator#ORDERED}, {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED}
+         * and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements of this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfDouble spliteratorDouble() { return new ArraySpliterator.OfDouble(a, offset, offset + size, Spliterator.ORDERED | Spliterator.IMMUTABLE); }
+
+        /**
+         * Returns a view of the specified range of this list, sharing its array.
+         * @param from low endpoint (inclusive) of the subList
+         * @param to high endpoint (exclusive) of the subList
+         * @return a view of the specified range within this list
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        @Override
+        public PrimitiveList.OfDouble subListDouble(int from, int to) {
+            Objects.checkFromToIndex(from, to, size);
+            return from == to ? EMPTY : new PrimitiveImmutableList.OfDouble(a, offset + from, to - from);
+        }
+
+        private final class Itr implements PrimitiveIterator.OfDouble {
+            private int cursor;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public double nextDouble() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return a[offset + i];
+            }
+
+            public void remove() { throw uoe(); }
+        }
+
+        private final class ListItr implements PrimitiveListIterator.OfDouble {
+            private int cursor;
+
+            ListItr(int cursor) { this.cursor = cursor; }
+
+            public boolean hasNext() { return cursor != size; }
+
+            public double nextDouble() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return a[offset + i];
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public double previousDouble() {
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                cursor = i;
+                return a[offset + i];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() { throw uoe(); }
+
+            public void setDouble(double e) { throw uoe(); }
+
+            public void addDouble(double e) { throw uoe(); }
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof PrimitiveImmutableList.OfDouble l)) return super.equals(o);
+            if(size != l.size) return false;
+            final double[] x = a, y = l.a;
+            for(int i = 0; i < size; i++) if(!((x[offset + i] == y[l.offset + i] || java.lang.Double.isNaN(x[offset + i]) && java.lang.Double.isNaN(y[l.offset + i])))) return false;
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 1;
+            final double[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) h = 31 * h + java.lang.Double.hashCode(es[i]);
+            return h;
+        }
+    }
+
+
+    /**
+     * An unmodifiable list of {@code long} elements backed by a range of an array that no
+     * one else can reach. The array and range are final, so the list needs no
+     * modification count and {@link #subListLong(int, int)} returns another view of the same
+     * array in constant time.
+     */
+    static final class OfLong extends PrimitiveAbstractList.OfLong implements RandomAccess {
+        static final PrimitiveImmutableList.OfLong EMPTY = new PrimitiveImmutableList.OfLong(new long[0], 0, 0);
+
+        private final long[] a;
+        private final int offset, size;
+
+        private OfLong(long[] a, int offset, int size) {
+            this.a = a;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        /**
+         * Returns a list of a copy of the specified range of the array.
+         */
+        static PrimitiveList.OfLong copyOf(long[] array, int from, int to) {
+            Objects.checkFromToIndex(from, to, array.length);
+            return from == to ? EMPTY : new PrimitiveImmutableList.OfLong(Arrays.copyOfRange(array, from, to), 0, to - from);
+        }
+
+        /**
+         * Returns an unmodifiable list of the elements of {@code c}, or {@code c} itself if
+         * it is already such a list.
+         */
+        static PrimitiveList.OfLong copyOf(PrimitiveCollection.OfLong c) {
+            if(c instanceof PrimitiveImmutableList.OfLong l) return l;
+            long[] array = c.toArrayLong();
+            return array.length == 0 ? EMPTY : new PrimitiveImmutableList.OfLong(array, 0, array.length);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public long getLong(int index) { return a[offset + Objects.checkIndex(index, size)]; }
+
+        @Override
+        public int indexOfLong(long e) {
+            final long[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) if(es[i] == e) return i - offset;
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfLong(long e) {
+            final long[] es = a;
+            for(int i = offset + size - 1; i >= offset; i--) if(es[i] == e) return i - offset;
+            return -1;
+        }
+
+        @Override
+        public boolean containsLong(long e) { return indexOfLong(e) >= 0; }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public boolean addLong(long e) { throw uoe(); }
+
+        @Override
+        public void addLong(int index, long e) { throw uoe(); }
+
+        @Override
+        public boolean addAllLong(PrimitiveCollection.OfLong c) { throw uoe(); }
+
+        @Override
+        public boolean addAllLong(int index, PrimitiveCollection.OfLong c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Long> c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends java.lang.Long> c) { throw uoe(); }
+
+        @Override
+        public void addFirstLong(long e) { throw uoe(); }
+
+        @Override
+        public void addLastLong(long e) { throw uoe(); }
+
+        @Override
+        public void addLast(java.lang.Long e) { throw uoe(); }
+
+        @Override
+        public long setLong(int index, long e) { throw uoe(); }
+
+        @Override
+        public long removeElementAtIndex(int i) { throw uoe(); }
+
+        @Override
+        public boolean removeLong(long e) { throw uoe(); }
+
+        @Override
+        public long removeFirstLong() { throw uoe(); }
+
+        @Override
+        public long removeLastLong() { throw uoe(); }
+
+        @Override
+        public boolean removeAllLong(PrimitiveCollection.OfLong c) { throw uoe(); }
+
+        @Override
+        public boolean removeAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean retainAllLong(PrimitiveCollection.OfLong c) { throw uoe(); }
+
+        @Override
+        public boolean retainAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean removeIfLong(PrimitivePredicate.OfLong filter) { throw uoe(); }
+
+        @Override
+        public void replaceAllLong(PrimitiveFunction.ToLong.OfLong fn) { throw uoe(); }
+
+        @Override
+        public void sortLong(PrimitiveComparator.OfLong c) { throw uoe(); }
+
+        @Override
+        public void clear() { throw uoe(); }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) { throw uoe(); }
+
+        ///////////// Bulk access
+
+        @Override
+        public long[] toArrayLong() { return Arrays.copyOfRange(a, offset, offset + size); }
+
+        @Override
+        public long[] toArrayLong(long[] array) {
+            if(array.length < size) return toArrayLong();
+            System.arraycopy(a, offset, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfLong action) {
+            Objects.requireNonNull(action);
+            final long[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) action.acceptLong(es[i]);
+        }
+
+        ///////////// Iterators and views
+
+        @Override
+        public PrimitiveIterator.OfLong iteratorLong() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfLong listIteratorLong() { return new ListItr(0); }
+
+        @Override
+        public PrimitiveListIterator.OfLong listIteratorLong(int from) {
+            Objects.checkIndex(from, size + 1);
+            return new ListItr(from);
+        }
+
+        /**
+         * Returns a spliterator over the elements of this list that reports
+         * {@link Spliterator#ORDERED}, {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED}
+         * and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements of this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfLong spliteratorLong() { return new ArraySpliterator.OfLong(a, offset, offset + size, Spliterator.ORDERED | Spliterator.IMMUTABLE); }
+
+        /**
+         * Returns a view of the specified range of this list, sharing its array.
+         * @param from low endpoint (inclusive) of the subList
+         * @param to high endpoint (exclusive) of the subList
+         * @return a view of the specified range within this list
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        @Override
+        public PrimitiveList.OfLong subListLong(int from, int to) {
+            Objects.checkFromToIndex(from, to, size);
+            return from == to ? EMPTY : new PrimitiveImmutableList.OfLong(a, offset + from, to - from);
+        }
+
+        private final class Itr implements PrimitiveIterator.OfLong {
+            private int cursor;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public long nextLong() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return a[offset + i];
+            }
+
+            public void remove() { throw uoe(); }
+        }
+
+        private final class ListItr implements PrimitiveListIterator.OfLong {
+            private int cursor;
+
+            ListItr(int cursor) { this.cursor = cursor; }
+
+            public boolean hasNext() { return cursor != size; }
+
+            public long nextLong() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return a[offset + i];
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public long previousLong() {
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                cursor = i;
+                return a[offset + i];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() { throw uoe(); }
+
+            public void setLong(long e) { throw uoe(); }
+
+            public void addLong(long e) { throw uoe(); }
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof PrimitiveImmutableList.OfLong l)) return super.equals(o);
+            if(size != l.size) return false;
+            final long[] x = a, y = l.a;
+            for(int i = 0; i < size; i++) if(!(x[offset + i] == y[l.offset + i])) return false;
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 1;
+            final long[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) h = 31 * h + java.lang.Long.hashCode(es[i]);
+            return h;
+        }
+    }
+
+
+    /**
+     * An unmodifiable list of {@code int} elements backed by a range of an array that no
+     * one else can reach. The array and range are final, so the list needs no
+     * modification count and {@link #subListInt(int, int)} returns another view of the same
+     * array in constant time.
+     */
+    static final class OfInt extends PrimitiveAbstractList.OfInt implements RandomAccess {
+        static final PrimitiveImmutableList.OfInt EMPTY = new PrimitiveImmutableList.OfInt(new int[0], 0, 0);
+
+        private final int[] a;
+        private final int offset, size;
+
+        private OfInt(int[] a, int offset, int size) {
+            this.a = a;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        /**
+         * Returns a list of a copy of the specified range of the array.
+         */
+        static PrimitiveList.OfInt copyOf(int[] array, int from, int to) {
+            Objects.checkFromToIndex(from, to, array.length);
+            return from == to ? EMPTY : new PrimitiveImmutableList.OfInt(Arrays.copyOfRange(array, from, to), 0, to - from);
+        }
+
+        /**
+         * Returns an unmodifiable list of the elements of {@code c}, or {@code c} itself if
+         * it is already such a list.
+         */
+        static PrimitiveList.OfInt copyOf(PrimitiveCollection.OfInt c) {
+            if(c instanceof PrimitiveImmutableList.OfInt l) return l;
+            int[] array = c.toArrayInt();
+            return array.length == 0 ? EMPTY : new PrimitiveImmutableList.OfInt(array, 0, array.length);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public int getInt(int index) { return a[offset + Objects.checkIndex(index, size)]; }
+
+        @Override
+        public int indexOfInt(int e) {
+            final int[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) if(es[i] == e) return i - offset;
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfInt(int e) {
+            final int[] es = a;
+            for(int i = offset + size - 1; i >= offset; i--) if(es[i] == e) return i - offset;
+            return -1;
+        }
+
+        @Override
+        public boolean containsInt(int e) { return indexOfInt(e) >= 0; }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public boolean addInt(int e) { throw uoe(); }
+
+        @Override
+        public void addInt(int index, int e) { throw uoe(); }
+
+        @Override
+        public boolean addAllInt(PrimitiveCollection.OfInt c) { throw uoe(); }
+
+        @Override
+        public boolean addAllInt(int index, PrimitiveCollection.OfInt c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Integer> c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends java.lang.Integer> c) { throw uoe(); }
+
+        @Override
+        public void addFirstInt(int e) { throw uoe(); }
+
+        @Override
+        public void addLastInt(int e) { throw uoe(); }
+
+        @Override
+        public void addLast(java.lang.Integer e) { throw uoe(); }
+
+        @Override
+        public int setInt(int index, int e) { throw uoe(); }
+
+        @Override
+        public int removeElementAtIndex(int i) { throw uoe(); }
+
+        @Override
+        public boolean removeInt(int e) { throw uoe(); }
+
+        @Override
+        public int removeFirstInt() { throw uoe(); }
+
+        @Override
+        public int removeLastInt() { throw uoe(); }
+
+        @Override
+        public boolean removeAllInt(PrimitiveCollection.OfInt c) { throw uoe(); }
+
+        @Override
+        public boolean removeAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean retainAllInt(PrimitiveCollection.OfInt c) { throw uoe(); }
+
+        @Override
+        public boolean retainAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean removeIfInt(PrimitivePredicate.OfInt filter) { throw uoe(); }
+
+        @Override
+        public void replaceAllInt(PrimitiveFunction.ToInt.OfInt fn) { throw uoe(); }
+
+        @Override
+        public void sortInt(PrimitiveComparator.OfInt c) { throw uoe(); }
+
+        @Override
+        public void clear() { throw uoe(); }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) { throw uoe(); }
+
+        ///////////// Bulk access
+
+        @Override
+        public int[] toArrayInt() { return Arrays.copyOfRange(a, offset, offset + size); }
+
+        @Override
+        public int[] toArrayInt(int[] array) {
+            if(array.length < size) return toArrayInt();
+            System.arraycopy(a, offset, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfInt action) {
+            Objects.requireNonNull(action);
+            final int[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) action.acceptInt(es[i]);
+        }
+
+        ///////////// Iterators and views
+
+        @Override
+        public PrimitiveIterator.OfInt iteratorInt() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfInt listIteratorInt() { return new ListItr(0); }
+
+        @Override
+        public PrimitiveListIterator.OfInt listIteratorInt(int from) {
+            Objects.checkIndex(from, size + 1);
+            return new ListItr(from);
+        }
+
+        /**
+         * Returns a spliterator over the elements of this list that reports
+         * {@link Spliterator#ORDERED}, {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED}
+         * and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements of this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfInt spliteratorInt() { return new ArraySpliterator.OfInt(a, offset, offset + size, Spliterator.ORDERED | Spliterator.IMMUTABLE); }
+
+        /**
+         * Returns a view of the specified range of this list, sharing its array.
+         * @param from low endpoint (inclusive) of the subList
+         * @param to high endpoint (exclusive) of the subList
+         * @return a view of the specified range within this list
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        @Override
+        public PrimitiveList.OfInt subListInt(int from, int to) {
+            Objects.checkFromToIndex(from, to, size);
+            return from == to ? EMPTY : new PrimitiveImmutableList.OfInt(a, offset + from, to - from);
+        }
+
+        private final class Itr implements PrimitiveIterator.OfInt {
+            private int cursor;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public int nextInt() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return a[offset + i];
+            }
+
+            public void remove() { throw uoe(); }
+        }
+
+        private final class ListItr implements PrimitiveListIterator.OfInt {
+            private int cursor;
+
+            ListItr(int cursor) { this.cursor = cursor; }
+
+            public boolean hasNext() { return cursor != size; }
+
+            public int nextInt() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return a[offset + i];
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public int previousInt() {
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                cursor = i;
+                return a[offset + i];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() { throw uoe(); }
+
+            public void setInt(int e) { throw uoe(); }
+
+            public void addInt(int e) { throw uoe(); }
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof PrimitiveImmutableList.OfInt l)) return super.equals(o);
+            if(size != l.size) return false;
+            final int[] x = a, y = l.a;
+            for(int i = 0; i < size; i++) if(!(x[offset + i] == y[l.offset + i])) return false;
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 1;
+            final int[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) h = 31 * h + java.lang.Integer.hashCode(es[i]);
+            return h;
+        }
+    }
+
+
+    /**
+     * An unmodifiable list of {@code float} elements backed by a range of an array that no
+     * one else can reach. The array and range are final, so the list needs no
+     * modification count and {@link #subListFloat(int, int)} returns another view of the same
+     * array in constant time.
+     */
+    static final class OfFloat extends PrimitiveAbstractList.OfFloat implements RandomAccess {
+        static final PrimitiveImmutableList.OfFloat EMPTY = new PrimitiveImmutableList.OfFloat(new float[0], 0, 0);
+
+        private final float[] a;
+        private final int offset, size;
+
+        private OfFloat(float[] a, int offset, int size) {
+            this.a = a;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        /**
+         * Returns a list of a copy of the specified range of the array.
+         */
+        static PrimitiveList.OfFloat copyOf(float[] array, int from, int to) {
+            Objects.checkFromToIndex(from, to, array.length);
+            return from == to ? EMPTY : new PrimitiveImmutableList.OfFloat(Arrays.copyOfRange(array, from, to), 0, to - from);
+        }
+
+        /**
+         * Returns an unmodifiable list of the elements of {@code c}, or {@code c} itself if
+         * it is already such a list.
+         */
+        static PrimitiveList.OfFloat copyOf(PrimitiveCollection.OfFloat c) {
+            if(c instanceof PrimitiveImmutableList.OfFloat l) return l;
+            float[] array = c.toArrayFloat();
+            return array.length == 0 ? EMPTY : new PrimitiveImmutableList.OfFloat(array, 0, array.length);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public float getFloat(int index) { return a[offset + Objects.checkIndex(index, size)]; }
+
+        @Override
+        public int indexOfFloat(float e) {
+            final float[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) if((es[i] == e || java.lang.Float.isNaN(es[i]) && java.lang.Float.isNaN(e))) return i - offset;
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfFloat(float e) {
+            final float[] es = a;
+            for(int i = offset + size - 1; i >= offset; i--) if((es[i] == e || java.lang.Float.isNaN(es[i]) && java.lang.Float.isNaN(e))) return i - offset;
+            return -1;
+        }
+
+        @Override
+        public boolean containsFloat(float e) { return indexOfFloat(e) >= 0; }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public boolean addFloat(float e) { throw uoe(); }
+
+        @Override
+        public void addFloat(int index, float e) { throw uoe(); }
+
+        @Override
+        public boolean addAllFloat(PrimitiveCollection.OfFloat c) { throw uoe(); }
+
+        @Override
+        public boolean addAllFloat(int index, PrimitiveCollection.OfFloat c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Float> c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends java.lang.Float> c) { throw uoe(); }
+
+        @Override
+        public void addFirstFloat(float e) { throw uoe(); }
+
+        @Override
+        public void addLastFloat(float e) { throw uoe(); }
+
+        @Override
+        public void addLast(java.lang.Float e) { throw uoe(); }
+
+        @Override
+        public float setFloat(int index, float e) { throw uoe(); }
+
+        @Override
+        public float removeElementAtIndex(int i) { throw uoe(); }
+
+        @Override
+        public boolean removeFloat(float e) { throw uoe(); }
+
+        @Override
+        public float removeFirstFloat() { throw uoe(); }
+
+        @Override
+        public float removeLastFloat() { throw uoe(); }
+
+        @Override
+        public boolean removeAllFloat(PrimitiveCollection.OfFloat c) { throw uoe(); }
+
+        @Override
+        public boolean removeAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean retainAllFloat(PrimitiveCollection.OfFloat c) { throw uoe(); }
+
+        @Override
+        public boolean retainAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean removeIfFloat(PrimitivePredicate.OfFloat filter) { throw uoe(); }
+
+        @Override
+        public void replaceAllFloat(PrimitiveFunction.ToFloat.OfFloat fn) { throw uoe(); }
+
+        @Override
+        public void sortFloat(PrimitiveComparator.OfFloat c) { throw uoe(); }
+
+        @Override
+        public void clear() { throw uoe(); }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) { throw uoe(); }
+
+        ///////////// Bulk access
+
+        @Override
+        public float[] toArrayFloat() { return Arrays.copyOfRange(a, offset, offset + size); }
+
+        @Override
+        public float[] toArrayFloat(float[] array) {
+            if(array.length < size) return toArrayFloat();
+            System.arraycopy(a, offset, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfFloat action) {
+            Objects.requireNonNull(action);
+            final float[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) action.acceptFloat(es[i]);
+        }
+
+        ///////////// Iterators and views
+
+        @Override
+        public PrimitiveIterator.OfFloat iteratorFloat() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfFloat listIteratorFloat() { return new ListItr(0); }
+
+        @Override
+        public PrimitiveListIterator.OfFloat listIteratorFloat(int from) {
+            Objects.checkIndex(from, size + 1);
+            return new ListItr(from);
+        }
+
+        /**
+         * Returns a spliterator over the elements of this list that reports
+         * {@link Spliterator#ORDERED}, {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED}
+         * and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements of this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfFloat spliteratorFloat() { return new ArraySpliterator.OfFloat(a, offset, offset + size, Spliterator.ORDERED | Spliterator.IMMUTABLE); }
+
+        /**
+         * Returns a view of the specified range of this list, sharing its array.
+         * @param from low endpoint (inclusive) of the subList
+         * @param to high endpoint (exclusive) of the subList
+         * @return a view of the specified range within this list
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        @Override
+        public PrimitiveList.OfFloat subListFloat(int from, int to) {
+            Objects.checkFromToIndex(from, to, size);
+            return from == to ? EMPTY : new PrimitiveImmutableList.OfFloat(a, offset + from, to - from);
+        }
+
+        private final class Itr implements PrimitiveIterator.OfFloat {
+            private int cursor;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public float nextFloat() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return a[offset + i];
+            }
+
+            public void remove() { throw uoe(); }
+        }
+
+        private final class ListItr implements PrimitiveListIterator.OfFloat {
+            private int cursor;
+
+            ListItr(int cursor) { this.cursor = cursor; }
+
+            public boolean hasNext() { return cursor != size; }
+
+            public float nextFloat() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return a[offset + i];
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public float previousFloat() {
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                cursor = i;
+                return a[offset + i];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() { throw uoe(); }
+
+            public void setFloat(float e) { throw uoe(); }
+
+            public void addFloat(float e) { throw uoe(); }
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof PrimitiveImmutableList.OfFloat l)) return super.equals(o);
+            if(size != l.size) return false;
+            final float[] x = a, y = l.a;
+            for(int i = 0; i < size; i++) if(!((x[offset + i] == y[l.offset + i] || java.lang.Float.isNaN(x[offset + i]) && java.lang.Float.isNaN(y[l.offset + i])))) return false;
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 1;
+            final float[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) h = 31 * h + java.lang.Float.hashCode(es[i]);
+            return h;
+        }
+    }
+
+
+    /**
+     * An unmodifiable list of {@code char} elements backed by a range of an array that no
+     * one else can reach. The array and range are final, so the list needs no
+     * modification count and {@link #subListChar(int, int)} returns another view of the same
+     * array in constant time.
+     */
+    static final class OfChar extends PrimitiveAbstractList.OfChar implements RandomAccess {
+        static final PrimitiveImmutableList.OfChar EMPTY = new PrimitiveImmutableList.OfChar(new char[0], 0, 0);
+
+        private final char[] a;
+        private final int offset, size;
+
+        private OfChar(char[] a, int offset, int size) {
+            this.a = a;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        /**
+         * Returns a list of a copy of the specified range of the array.
+         */
+        static PrimitiveList.OfChar copyOf(char[] array, int from, int to) {
+            Objects.checkFromToIndex(from, to, array.length);
+            return from == to ? EMPTY : new PrimitiveImmutableList.OfChar(Arrays.copyOfRange(array, from, to), 0, to - from);
+        }
+
+        /**
+         * Returns an unmodifiable list of the elements of {@code c}, or {@code c} itself if
+         * it is already such a list.
+         */
+        static PrimitiveList.OfChar copyOf(PrimitiveCollection.OfChar c) {
+            if(c instanceof PrimitiveImmutableList.OfChar l) return l;
+            char[] array = c.toArrayChar();
+            return array.length == 0 ? EMPTY : new PrimitiveImmutableList.OfChar(array, 0, array.length);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public char getChar(int index) { return a[offset + Objects.checkIndex(index, size)]; }
+
+        @Override
+        public int indexOfChar(char e) {
+            final char[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) if(es[i] == e) return i - offset;
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfChar(char e) {
+            final char[] es = a;
+            for(int i = offset + size - 1; i >= offset; i--) if(es[i] == e) return i - offset;
+            return -1;
+        }
+
+        @Override
+        public boolean containsChar(char e) { return indexOfChar(e) >= 0; }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public boolean addChar(char e) { throw uoe(); }
+
+        @Override
+        public void addChar(int index, char e) { throw uoe(); }
+
+        @Override
+        public boolean addAllChar(PrimitiveCollection.OfChar c) { throw uoe(); }
+
+        @Override
+        public boolean addAllChar(int index, PrimitiveCollection.OfChar c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Character> c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends java.lang.Character> c) { throw uoe(); }
+
+        @Override
+        public void addFirstChar(char e) { throw uoe(); }
+
+        @Override
+        public void addLastChar(char e) { throw uoe(); }
+
+        @Override
+        public void addLast(java.lang.Character e) { throw uoe(); }
+
+        @Override
+        public char setChar(int index, char e) { throw uoe(); }
+
+        @Override
+        public char removeElementAtIndex(int i) { throw uoe(); }
+
+        @Override
+        public boolean removeChar(char e) { throw uoe(); }
+
+        @Override
+        public char removeFirstChar() { throw uoe(); }
+
+        @Override
+        public char removeLastChar() { throw uoe(); }
+
+        @Override
+        public boolean removeAllChar(PrimitiveCollection.OfChar c) { throw uoe(); }
+
+        @Override
+        public boolean removeAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean retainAllChar(PrimitiveCollection.OfChar c) { throw uoe(); }
+
+        @Override
+        public boolean retainAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean removeIfChar(PrimitivePredicate.OfChar filter) { throw uoe(); }
+
+        @Override
+        public void replaceAllChar(PrimitiveFunction.ToChar.OfChar fn) { throw uoe(); }
+
+        @Override
+        public void sortChar(PrimitiveComparator.OfChar c) { throw uoe(); }
+
+        @Override
+        public void clear() { throw uoe(); }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) { throw uoe(); }
+
+        ///////////// Bulk access
+
+        @Override
+        public char[] toArrayChar() { return Arrays.copyOfRange(a, offset, offset + size); }
+
+        @Override
+        public char[] toArrayChar(char[] array) {
+            if(array.length < size) return toArrayChar();
+            System.arraycopy(a, offset, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfChar action) {
+            Objects.requireNonNull(action);
+            final char[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) action.acceptChar(es[i]);
+        }
+
+        ///////////// Iterators and views
+
+        @Override
+        public PrimitiveIterator.OfChar iteratorChar() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfChar listIteratorChar() { return new ListItr(0); }
+
+        @Override
+        public PrimitiveListIterator.OfChar listIteratorChar(int from) {
+            Objects.checkIndex(from, size + 1);
+            return new ListItr(from);
+        }
+
+        /**
+         * Returns a spliterator over the elements of this list that reports
+         * {@link Spliterator#ORDERED}, {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED}
+         * and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements of this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfChar spliteratorChar() { return new ArraySpliterator.OfChar(a, offset, offset + size, Spliterator.ORDERED | Spliterator.IMMUTABLE); }
+
+        /**
+         * Returns a view of the specified range of this list, sharing its array.
+         * @param from low endpoint (inclusive) of the subList
+         * @param to high endpoint (exclusive) of the subList
+         * @return a view of the specified range within this list
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        @Override
+        public PrimitiveList.OfChar subListChar(int from, int to) {
+            Objects.checkFromToIndex(from, to, size);
+            return from == to ? EMPTY : new PrimitiveImmutableList.OfChar(a, offset + from, to - from);
+        }
+
+        private final class Itr implements PrimitiveIterator.OfChar {
+            private int cursor;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public char nextChar() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return a[offset + i];
+            }
+
+            public void remove() { throw uoe(); }
+        }
+
+        private final class ListItr implements PrimitiveListIterator.OfChar {
+            private int cursor;
+
+            ListItr(int cursor) { this.cursor = cursor; }
+
+            public boolean hasNext() { return cursor != size; }
+
+            public char nextChar() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return a[offset + i];
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public char previousChar() {
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                cursor = i;
+                return a[offset + i];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() { throw uoe(); }
+
+            public void setChar(char e) { throw uoe(); }
+
+            public void addChar(char e) { throw uoe(); }
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof PrimitiveImmutableList.OfChar l)) return super.equals(o);
+            if(size != l.size) return false;
+            final char[] x = a, y = l.a;
+            for(int i = 0; i < size; i++) if(!(x[offset + i] == y[l.offset + i])) return false;
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 1;
+            final char[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) h = 31 * h + java.lang.Character.hashCode(es[i]);
+            return h;
+        }
+    }
+
+
+    /**
+     * An unmodifiable list of {@code short} elements backed by a range of an array that no
+     * one else can reach. The array and range are final, so the list needs no
+     * modification count and {@link #subListShort(int, int)} returns another view of the same
+     * array in constant time.
+     */
+    static final class OfShort extends PrimitiveAbstractList.OfShort implements RandomAccess {
+        static final PrimitiveImmutableList.OfShort EMPTY = new PrimitiveImmutableList.OfShort(new short[0], 0, 0);
+
+        private final short[] a;
+        private final int offset, size;
+
+        private OfShort(short[] a, int offset, int size) {
+            this.a = a;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        /**
+         * Returns a list of a copy of the specified range of the array.
+         */
+        static PrimitiveList.OfShort copyOf(short[] array, int from, int to) {
+            Objects.checkFromToIndex(from, to, array.length);
+            return from == to ? EMPTY : new PrimitiveImmutableList.OfShort(Arrays.copyOfRange(array, from, to), 0, to - from);
+        }
+
+        /**
+         * Returns an unmodifiable list of the elements of {@code c}, or {@code c} itself if
+         * it is already such a list.
+         */
+        static PrimitiveList.OfShort copyOf(PrimitiveCollection.OfShort c) {
+            if(c instanceof PrimitiveImmutableList.OfShort l) return l;
+            short[] array = c.toArrayShort();
+            return array.length == 0 ? EMPTY : new PrimitiveImmutableList.OfShort(array, 0, array.length);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public short getShort(int index) { return a[offset + Objects.checkIndex(index, size)]; }
+
+        @Override
+        public int indexOfShort(short e) {
+            final short[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) if(es[i] == e) return i - offset;
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfShort(short e) {
+            final short[] es = a;
+            for(int i = offset + size - 1; i >= offset; i--) if(es[i] == e) return i - offset;
+            return -1;
+        }
+
+        @Override
+        public boolean containsShort(short e) { return indexOfShort(e) >= 0; }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public boolean addShort(short e) { throw uoe(); }
+
+        @Override
+        public void addShort(int index, short e) { throw uoe(); }
+
+        @Override
+        public boolean addAllShort(PrimitiveCollection.OfShort c) { throw uoe(); }
+
+        @Override
+        public boolean addAllShort(int index, PrimitiveCollection.OfShort c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Short> c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends java.lang.Short> c) { throw uoe(); }
+
+        @Override
+        public void addFirstShort(short e) { throw uoe(); }
+
+        @Override
+        public void addLastShort(short e) { throw uoe(); }
+
+        @Override
+        public void addLast(java.lang.Short e) { throw uoe(); }
+
+        @Override
+        public short setShort(int index, short e) { throw uoe(); }
+
+        @Override
+        public short removeElementAtIndex(int i) { throw uoe(); }
+
+        @Override
+        public boolean removeShort(short e) { throw uoe(); }
+
+        @Override
+        public short removeFirstShort() { throw uoe(); }
+
+        @Override
+        public short removeLastShort() { throw uoe(); }
+
+        @Override
+        public boolean removeAllShort(PrimitiveCollection.OfShort c) { throw uoe(); }
+
+        @Override
+        public boolean removeAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean retainAllShort(PrimitiveCollection.OfShort c) { throw uoe(); }
+
+        @Override
+        public boolean retainAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean removeIfShort(PrimitivePredicate.OfShort filter) { throw uoe(); }
+
+        @Override
+        public void replaceAllShort(PrimitiveFunction.ToShort.OfShort fn) { throw uoe(); }
+
+        @Override
+        public void sortShort(PrimitiveComparator.OfShort c) { throw uoe(); }
+
+        @Override
+        public void clear() { throw uoe(); }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) { throw uoe(); }
+
+        ///////////// Bulk access
+
+        @Override
+        public short[] toArrayShort() { return Arrays.copyOfRange(a, offset, offset + size); }
+
+        @Override
+        public short[] toArrayShort(short[] array) {
+            if(array.length < size) return toArrayShort();
+            System.arraycopy(a, offset, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfShort action) {
+            Objects.requireNonNull(action);
+            final short[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) action.acceptShort(es[i]);
+        }
+
+        ///////////// Iterators and views
+
+        @Override
+        public PrimitiveIterator.OfShort iteratorShort() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfShort listIteratorShort() { return new ListItr(0); }
+
+        @Override
+        public PrimitiveListIterator.OfShort listIteratorShort(int from) {
+            Objects.checkIndex(from, size + 1);
+            return new ListItr(from);
+        }
+
+        /**
+         * Returns a spliterator over the elements of this list that reports
+         * {@link Spliterator#ORDERED}, {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED}
+         * and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements of this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfShort spliteratorShort() { return new ArraySpliterator.OfShort(a, offset, offset + size, Spliterator.ORDERED | Spliterator.IMMUTABLE); }
+
+        /**
+         * Returns a view of the specified range of this list, sharing its array.
+         * @param from low endpoint (inclusive) of the subList
+         * @param to high endpoint (exclusive) of the subList
+         * @return a view of the specified range within this list
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        @Override
+        public PrimitiveList.OfShort subListShort(int from, int to) {
+            Objects.checkFromToIndex(from, to, size);
+            return from == to ? EMPTY : new PrimitiveImmutableList.OfShort(a, offset + from, to - from);
+        }
+
+        private final class Itr implements PrimitiveIterator.OfShort {
+            private int cursor;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public short nextShort() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return a[offset + i];
+            }
+
+            public void remove() { throw uoe(); }
+        }
+
+        private final class ListItr implements PrimitiveListIterator.OfShort {
+            private int cursor;
+
+            ListItr(int cursor) { this.cursor = cursor; }
+
+            public boolean hasNext() { return cursor != size; }
+
+            public short nextShort() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return a[offset + i];
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public short previousShort() {
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                cursor = i;
+                return a[offset + i];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() { throw uoe(); }
+
+            public void setShort(short e) { throw uoe(); }
+
+            public void addShort(short e) { throw uoe(); }
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof PrimitiveImmutableList.OfShort l)) return super.equals(o);
+            if(size != l.size) return false;
+            final short[] x = a, y = l.a;
+            for(int i = 0; i < size; i++) if(!(x[offset + i] == y[l.offset + i])) return false;
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 1;
+            final short[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) h = 31 * h + java.lang.Short.hashCode(es[i]);
+            return h;
+        }
+    }
+
+
+    /**
+     * An unmodifiable list of {@code byte} elements backed by a range of an array that no
+     * one else can reach. The array and range are final, so the list needs no
+     * modification count and {@link #subListByte(int, int)} returns another view of the same
+     * array in constant time.
+     */
+    static final class OfByte extends PrimitiveAbstractList.OfByte implements RandomAccess {
+        static final PrimitiveImmutableList.OfByte EMPTY = new PrimitiveImmutableList.OfByte(new byte[0], 0, 0);
+
+        private final byte[] a;
+        private final int offset, size;
+
+        private OfByte(byte[] a, int offset, int size) {
+            this.a = a;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        /**
+         * Returns a list of a copy of the specified range of the array.
+         */
+        static PrimitiveList.OfByte copyOf(byte[] array, int from, int to) {
+            Objects.checkFromToIndex(from, to, array.length);
+            return from == to ? EMPTY : new PrimitiveImmutableList.OfByte(Arrays.copyOfRange(array, from, to), 0, to - from);
+        }
+
+        /**
+         * Returns an unmodifiable list of the elements of {@code c}, or {@code c} itself if
+         * it is already such a list.
+         */
+        static PrimitiveList.OfByte copyOf(PrimitiveCollection.OfByte c) {
+            if(c instanceof PrimitiveImmutableList.OfByte l) return l;
+            byte[] array = c.toArrayByte();
+            return array.length == 0 ? EMPTY : new PrimitiveImmutableList.OfByte(array, 0, array.length);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public byte getByte(int index) { return a[offset + Objects.checkIndex(index, size)]; }
+
+        @Override
+        public int indexOfByte(byte e) {
+            final byte[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) if(es[i] == e) return i - offset;
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfByte(byte e) {
+            final byte[] es = a;
+            for(int i = offset + size - 1; i >= offset; i--) if(es[i] == e) return i - offset;
+            return -1;
+        }
+
+        @Override
+        public boolean containsByte(byte e) { return indexOfByte(e) >= 0; }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public boolean addByte(byte e) { throw uoe(); }
+
+        @Override
+        public void addByte(int index, byte e) { throw uoe(); }
+
+        @Override
+        public boolean addAllByte(PrimitiveCollection.OfByte c) { throw uoe(); }
+
+        @Override
+        public boolean addAllByte(int index, PrimitiveCollection.OfByte c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Byte> c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends java.lang.Byte> c) { throw uoe(); }
+
+        @Override
+        public void addFirstByte(byte e) { throw uoe(); }
+
+        @Override
+        public void addLastByte(byte e) { throw uoe(); }
+
+        @Override
+        public void addLast(java.lang.Byte e) { throw uoe(); }
+
+        @Override
+        public byte setByte(int index, byte e) { throw uoe(); }
+
+        @Override
+        public byte removeElementAtIndex(int i) { throw uoe(); }
+
+        @Override
+        public boolean removeByte(byte e) { throw uoe(); }
+
+        @Override
+        public byte removeFirstByte() { throw uoe(); }
+
+        @Override
+        public byte removeLastByte() { throw uoe(); }
+
+        @Override
+        public boolean removeAllByte(PrimitiveCollection.OfByte c) { throw uoe(); }
+
+        @Override
+        public boolean removeAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean retainAllByte(PrimitiveCollection.OfByte c) { throw uoe(); }
+
+        @Override
+        public boolean retainAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean removeIfByte(PrimitivePredicate.OfByte filter) { throw uoe(); }
+
+        @Override
+        public void replaceAllByte(PrimitiveFunction.ToByte.OfByte fn) { throw uoe(); }
+
+        @Override
+        public void sortByte(PrimitiveComparator.OfByte c) { throw uoe(); }
+
+        @Override
+        public void clear() { throw uoe(); }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) { throw uoe(); }
+
+        ///////////// Bulk access
+
+        @Override
+        public byte[] toArrayByte() { return Arrays.copyOfRange(a, offset, offset + size); }
+
+        @Override
+        public byte[] toArrayByte(byte[] array) {
+            if(array.length < size) return toArrayByte();
+            System.arraycopy(a, offset, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfByte action) {
+            Objects.requireNonNull(action);
+            final byte[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) action.acceptByte(es[i]);
+        }
+
+        ///////////// Iterators and views
+
+        @Override
+        public PrimitiveIterator.OfByte iteratorByte() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfByte listIteratorByte() { return new ListItr(0); }
+
+        @Override
+        public PrimitiveListIterator.OfByte listIteratorByte(int from) {
+            Objects.checkIndex(from, size + 1);
+            return new ListItr(from);
+        }
+
+        /**
+         * Returns a spliterator over the elements of this list that reports
+         * {@link Spliterator#ORDERED}, {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED}
+         * and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements of this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfByte spliteratorByte() { return new ArraySpliterator.OfByte(a, offset, offset + size, Spliterator.ORDERED | Spliterator.IMMUTABLE); }
+
+        /**
+         * Returns a view of the specified range of this list, sharing its array.
+         * @param from low endpoint (inclusive) of the subList
+         * @param to high endpoint (exclusive) of the subList
+         * @return a view of the specified range within this list
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        @Override
+        public PrimitiveList.OfByte subListByte(int from, int to) {
+            Objects.checkFromToIndex(from, to, size);
+            return from == to ? EMPTY : new PrimitiveImmutableList.OfByte(a, offset + from, to - from);
+        }
+
+        private final class Itr implements PrimitiveIterator.OfByte {
+            private int cursor;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public byte nextByte() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return a[offset + i];
+            }
+
+            public void remove() { throw uoe(); }
+        }
+
+        private final class ListItr implements PrimitiveListIterator.OfByte {
+            private int cursor;
+
+            ListItr(int cursor) { this.cursor = cursor; }
+
+            public boolean hasNext() { return cursor != size; }
+
+            public byte nextByte() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return a[offset + i];
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public byte previousByte() {
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                cursor = i;
+                return a[offset + i];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() { throw uoe(); }
+
+            public void setByte(byte e) { throw uoe(); }
+
+            public void addByte(byte e) { throw uoe(); }
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof PrimitiveImmutableList.OfByte l)) return super.equals(o);
+            if(size != l.size) return false;
+            final byte[] x = a, y = l.a;
+            for(int i = 0; i < size; i++) if(!(x[offset + i] == y[l.offset + i])) return false;
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 1;
+            final byte[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) h = 31 * h + java.lang.Byte.hashCode(es[i]);
+            return h;
+        }
+    }
+
+
+    /**
+     * An unmodifiable list of {@code boolean} elements backed by a range of an array that no
+     * one else can reach. The array and range are final, so the list needs no
+     * modification count and {@link #subListBoolean(int, int)} returns another view of the same
+     * array in constant time.
+     */
+    static final class OfBoolean extends PrimitiveAbstractList.OfBoolean implements RandomAccess {
+        static final PrimitiveImmutableList.OfBoolean EMPTY = new PrimitiveImmutableList.OfBoolean(new boolean[0], 0, 0);
+
+        private final boolean[] a;
+        private final int offset, size;
+
+        private OfBoolean(boolean[] a, int offset, int size) {
+            this.a = a;
+            this.offset = offset;
+            this.size = size;
+        }
+
+        /**
+         * Returns a list of a copy of the specified range of the array.
+         */
+        static PrimitiveList.OfBoolean copyOf(boolean[] array, int from, int to) {
+            Objects.checkFromToIndex(from, to, array.length);
+            return from == to ? EMPTY : new PrimitiveImmutableList.OfBoolean(Arrays.copyOfRange(array, from, to), 0, to - from);
+        }
+
+        /**
+         * Returns an unmodifiable list of the elements of {@code c}, or {@code c} itself if
+         * it is already such a list.
+         */
+        static PrimitiveList.OfBoolean copyOf(PrimitiveCollection.OfBoolean c) {
+            if(c instanceof PrimitiveImmutableList.OfBoolean l) return l;
+            boolean[] array = c.toArrayBoolean();
+            return array.length == 0 ? EMPTY : new PrimitiveImmutableList.OfBoolean(array, 0, array.length);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean getBoolean(int index) { return a[offset + Objects.checkIndex(index, size)]; }
+
+        @Override
+        public int indexOfBoolean(boolean e) {
+            final boolean[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) if(es[i] == e) return i - offset;
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfBoolean(boolean e) {
+            final boolean[] es = a;
+            for(int i = offset + size - 1; i >= offset; i--) if(es[i] == e) return i - offset;
+            return -1;
+        }
+
+        @Override
+        public boolean containsBoolean(boolean e) { return indexOfBoolean(e) >= 0; }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public boolean addBoolean(boolean e) { throw uoe(); }
+
+        @Override
+        public void addBoolean(int index, boolean e) { throw uoe(); }
+
+        @Override
+        public boolean addAllBoolean(PrimitiveCollection.OfBoolean c) { throw uoe(); }
+
+        @Override
+        public boolean addAllBoolean(int index, PrimitiveCollection.OfBoolean c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Boolean> c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends java.lang.Boolean> c) { throw uoe(); }
+
+        @Override
+        public void addFirstBoolean(boolean e) { throw uoe(); }
+
+        @Override
+        public void addLastBoolean(boolean e) { throw uoe(); }
+
+        @Override
+        public void addLast(java.lang.Boolean e) { throw uoe(); }
+
+        @Override
+        public boolean setBoolean(int index, boolean e) { throw uoe(); }
+
+        @Override
+        public boolean removeElementAtIndex(int i) { throw uoe(); }
+
+        @Override
+        public boolean removeBoolean(boolean e) { throw uoe(); }
+
+        @Override
+        public boolean removeFirstBoolean() { throw uoe(); }
+
+        @Override
+        public boolean removeLastBoolean() { throw uoe(); }
+
+        @Override
+        public boolean removeAllBoolean(PrimitiveCollection.OfBoolean c) { throw uoe(); }
+
+        @Override
+        public boolean removeAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean retainAllBoolean(PrimitiveCollection.OfBoolean c) { throw uoe(); }
+
+        @Override
+        public boolean retainAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean removeIfBoolean(PrimitivePredicate.OfBoolean filter) { throw uoe(); }
+
+        @Override
+        public void replaceAllBoolean(PrimitiveFunction.ToBoolean.OfBoolean fn) { throw uoe(); }
+
+        @Override
+        public void sortBoolean(PrimitiveComparator.OfBoolean c) { throw uoe(); }
+
+        @Override
+        public void clear() { throw uoe(); }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) { throw uoe(); }
+
+        ///////////// Bulk access
+
+        @Override
+        public boolean[] toArrayBoolean() { return Arrays.copyOfRange(a, offset, offset + size); }
+
+        @Override
+        public boolean[] toArrayBoolean(boolean[] array) {
+            if(array.length < size) return toArrayBoolean();
+            System.arraycopy(a, offset, array, 0, size);
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfBoolean action) {
+            Objects.requireNonNull(action);
+            final boolean[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) action.acceptBoolean(es[i]);
+        }
+
+        ///////////// Iterators and views
+
+        @Override
+        public PrimitiveIterator.OfBoolean iteratorBoolean() { return new Itr(); }
+
+        @Override
+        public PrimitiveListIterator.OfBoolean listIteratorBoolean() { return new ListItr(0); }
+
+        @Override
+        public PrimitiveListIterator.OfBoolean listIteratorBoolean(int from) {
+            Objects.checkIndex(from, size + 1);
+            return new ListItr(from);
+        }
+
+        /**
+         * Returns a spliterator over the elements of this list that reports
+         * {@link Spliterator#ORDERED}, {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED}
+         * and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements of this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfBoolean spliteratorBoolean() { return new ArraySpliterator.OfBoolean(a, offset, offset + size, Spliterator.ORDERED | Spliterator.IMMUTABLE); }
+
+        /**
+         * Returns a view of the specified range of this list, sharing its array.
+         * @param from low endpoint (inclusive) of the subList
+         * @param to high endpoint (exclusive) of the subList
+         * @return a view of the specified range within this list
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        @Override
+        public PrimitiveList.OfBoolean subListBoolean(int from, int to) {
+            Objects.checkFromToIndex(from, to, size);
+            return from == to ? EMPTY : new PrimitiveImmutableList.OfBoolean(a, offset + from, to - from);
+        }
+
+        private final class Itr implements PrimitiveIterator.OfBoolean {
+            private int cursor;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public boolean nextBoolean() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return a[offset + i];
+            }
+
+            public void remove() { throw uoe(); }
+        }
+
+        private final class ListItr implements PrimitiveListIterator.OfBoolean {
+            private int cursor;
+
+            ListItr(int cursor) { this.cursor = cursor; }
+
+            public boolean hasNext() { return cursor != size; }
+
+            public boolean nextBoolean() {
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                cursor = i + 1;
+                return a[offset + i];
+            }
+
+            public boolean hasPrevious() { return cursor != 0; }
+
+            public boolean previousBoolean() {
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                cursor = i;
+                return a[offset + i];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() { throw uoe(); }
+
+            public void setBoolean(boolean e) { throw uoe(); }
+
+            public void addBoolean(boolean e) { throw uoe(); }
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof PrimitiveImmutableList.OfBoolean l)) return super.equals(o);
+            if(size != l.size) return false;
+            final boolean[] x = a, y = l.a;
+            for(int i = 0; i < size; i++) if(!(x[offset + i] == y[l.offset + i])) return false;
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 1;
+            final boolean[] es = a;
+            for(int i = offset, end = offset + size; i < end; i++) h = 31 * h + java.lang.Boolean.hashCode(es[i]);
+            return h;
+        }
+    }
+}
@@ -0,0 +1,1289 @@
+package jdk.prim.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
+import jdk.prim.util.function.PrimitiveConsumer;
+import jdk.prim.util.function.PrimitivePredicate;
+
+/**
+ * A pseudo-package for holding the sorted-array unmodifiable sets returned by the
+ * {@code PrimitiveSet.OfXxx.of} and {@code copyOf} factories. This corresponds to the
+ * set part of {@code java.util.ImmutableCollections}
+ */
+final class PrimitiveImmutableSet {
+    private PrimitiveImmutableSet() {}
+
+    static UnsupportedOperationException uoe() { return new UnsupportedOperationException(); }
+
+    /**
+     * An unmodifiable set of {@code double} elements kept in ascending order in an array that
+     * no one else can reach, and searched by binary search. Iteration follows the order of
+     * the array.
+     */
+    static final class OfDouble extends PrimitiveAbstractSet.OfDouble {
+        static final PrimitiveImmutableSet.OfDouble EMPTY = new PrimitiveImmutableSet.OfDouble(new double[0]);
+
+        /** The elements, sorted and distinct. */
+        private final double[] a;
+
+        private OfDouble(double[] a) { this.a = a; }
+
+        /**
+         * Returns a set of a copy of the specified elements.
+         * @param distinct whether to reject duplicates instead of dropping them
+         * @throws IllegalArgumentException if {@code distinct} and an element is repeated
+         */
+        static PrimitiveSet.OfDouble copyOf(double[] elements, boolean distinct) {
+            if(elements.length == 0) return EMPTY;
+            double[] s = elements.clone();
+            Arrays.sort(s);
+            int n = 1;
+            for(int i = 1; i < s.length; i++) {
+                if(!(java.lang.Double.compare(s[i], s[n - 1]) == 0)) s[n++] = s[i];
+                else if(distinct) throw new IllegalArgumentException("duplicate element: " + s[i]);
+            }
+            return new PrimitiveImmutableSet.OfDouble(n == s.length ? s : Arrays.copyOf(s, n));
+        }
+
+        /**
+         * Returns an unmodifiable set of the elements of {@code c}, or {@code c} itself if
+         * it is already such a set.
+         */
+        static PrimitiveSet.OfDouble copyOf(PrimitiveCollection.OfDouble c) {
+            if(c instanceof PrimitiveImmutableSet.OfDouble s) return s;
+            return copyOf(c.toArrayDouble(), false);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return a.length; }
+
+        @Override
+        public boolean isEmpty() { return a.length == 0; }
+
+        @Override
+        public boolean containsDouble(double e) { return Arrays.binarySearch(a, e) >= 0; }
+
+        @Override
+        public boolean containsAllDouble(PrimitiveCollection.OfDouble c) {
+            if(!(c instanceof PrimitiveImmutableSet.OfDouble s)) return super.containsAllDouble(c);
+            // both arrays are sorted, so one merge pass decides
+            final double[] x = a, y = s.a;
+            int i = 0;
+            for(int j = 0; j < y.length; j++) {
+                while(i < x.length && java.lang.Double.compare(x[i], y[j]) < 0) i++;
+                if(i == x.length || !(java.lang.Double.compare(x[i], y[j]) == 0)) return false;
+            }
+            return true;
+        }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public boolean addDouble(double e) { throw uoe(); }
+
+        @Override
+        public boolean removeDouble(double e) { throw uoe(); }
+
+        @Override
+        public boolean addAllDouble(PrimitiveCollection.OfDouble c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Double> c) { throw uoe(); }
+
+        @Override
+        public boolean removeAllDouble(PrimitiveCollection.OfDouble c) { throw uoe(); }
+
+        @Override
+        public boolean removeAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean retainAllDouble(PrimitiveCollection.OfDouble c) { throw uoe(); }
+
+        @Override
+        public boolean retainAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean removeIfDouble(PrimitivePredicate.OfDouble filter) { throw uoe(); }
+
+        @Override
+        public void clear() { throw uoe(); }
+
+        ///////////// Bulk access
+
+        @Override
+        public double[] toArrayDouble() { return a.clone(); }
+
+        @Override
+        public double[] toArrayDouble(double[] array) {
+            if(array.length < a.length) return toArrayDouble();
+            System.arraycopy(a, 0, array, 0, a.length);
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfDouble action) {
+            Objects.requireNonNull(action);
+            for(double e : a) action.acceptDouble(e);
+        }
+
+        @Override
+        public PrimitiveIterator.OfDouble iteratorDouble() {
+            return new PrimitiveIterator.OfDouble() {
+                private int cursor;
+
+                public boolean hasNext() { return cursor < a.length; }
+
+                public double nextDouble() {
+                    if(cursor >= a.length) throw new NoSuchElementException();
+                    return a[cursor++];
+                }
+
+                public void remove() { throw uoe(); }
+            };
+        }
+
+        /**
+         * Returns a spliterator over the elements of this set, in ascending order. It reports
+         * {@link Spliterator#DISTINCT}, {@link Spliterator#SORTED}, {@link Spliterator#ORDERED},
+         * {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements of this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfDouble spliteratorDouble() {
+            return new ArraySpliterator.OfDouble(a, 0, a.length, Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof PrimitiveImmutableSet.OfDouble s) return Arrays.equals(a, s.a);
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            for(double e : a) h += java.lang.Double.hashCode(e);
+            return h;
+        }
+    }
+
+
+    /**
+     * An unmodifiable set of {@code long} elements kept in ascending order in an array that
+     * no one else can reach, and searched by binary search. Iteration follows the order of
+     * the array.
+     */
+    static final class OfLong extends PrimitiveAbstractSet.OfLong {
+        static final PrimitiveImmutableSet.OfLong EMPTY = new PrimitiveImmutableSet.OfLong(new long[0]);
+
+        /** The elements, sorted and distinct. */
+        private final long[] a;
+
+        private OfLong(long[] a) { this.a = a; }
+
+        /**
+         * Returns a set of a copy of the specified elements.
+         * @param distinct whether to reject duplicates instead of dropping them
+         * @throws IllegalArgumentException if {@code distinct} and an element is repeated
+         */
+        static PrimitiveSet.OfLong copyOf(long[] elements, boolean distinct) {
+            if(elements.length == 0) return EMPTY;
+            long[] s = elements.clone();
+            Arrays.sort(s);
+            int n = 1;
+            for(int i = 1; i < s.length; i++) {
+                if(!(s[i] == s[n - 1])) s[n++] = s[i];
+                else if(distinct) throw new IllegalArgumentException("duplicate element: " + s[i]);
+            }
+            return new PrimitiveImmutableSet.OfLong(n == s.length ? s : Arrays.copyOf(s, n));
+        }
+
+        /**
+         * Returns an unmodifiable set of the elements of {@code c}, or {@code c} itself if
+         * it is already such a set.
+         */
+        static PrimitiveSet.OfLong copyOf(PrimitiveCollection.OfLong c) {
+            if(c instanceof PrimitiveImmutableSet.OfLong s) return s;
+            return copyOf(c.toArrayLong(), false);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return a.length; }
+
+        @Override
+        public boolean isEmpty() { return a.length == 0; }
+
+        @Override
+        public boolean containsLong(long e) { return Arrays.binarySearch(a, e) >= 0; }
+
+        @Override
+        public boolean containsAllLong(PrimitiveCollection.OfLong c) {
+            if(!(c instanceof PrimitiveImmutableSet.OfLong s)) return super.containsAllLong(c);
+            // both arrays are sorted, so one merge pass decides
+            final long[] x = a, y = s.a;
+            int i = 0;
+            for(int j = 0; j < y.length; j++) {
+                while(i < x.length && x[i] < y[j]) i++;
+                if(i == x.length || !(x[i] == y[j])) return false;
+            }
+            return true;
+        }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public boolean addLong(long e) { throw uoe(); }
+
+        @Override
+        public boolean removeLong(long e) { throw uoe(); }
+
+        @Override
+        public boolean addAllLong(PrimitiveCollection.OfLong c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Long> c) { throw uoe(); }
+
+        @Override
+        public boolean removeAllLong(PrimitiveCollection.OfLong c) { throw uoe(); }
+
+        @Override
+        public boolean removeAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean retainAllLong(PrimitiveCollection.OfLong c) { throw uoe(); }
+
+        @Override
+        public boolean retainAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean removeIfLong(PrimitivePredicate.OfLong filter) { throw uoe(); }
+
+        @Override
+        public void clear() { throw uoe(); }
+
+        ///////////// Bulk access
+
+        @Override
+        public long[] toArrayLong() { return a.clone(); }
+
+        @Override
+        public long[] toArrayLong(long[] array) {
+            if(array.length < a.length) return toArrayLong();
+            System.arraycopy(a, 0, array, 0, a.length);
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfLong action) {
+            Objects.requireNonNull(action);
+            for(long e : a) action.acceptLong(e);
+        }
+
+        @Override
+        public PrimitiveIterator.OfLong iteratorLong() {
+            return new PrimitiveIterator.OfLong() {
+                private int cursor;
+
+                public boolean hasNext() { return cursor < a.length; }
+
+                public long nextLong() {
+                    if(cursor >= a.length) throw new NoSuchElementException();
+                    return a[cursor++];
+                }
+
+                public void remove() { throw uoe(); }
+            };
+        }
+
+        /**
+         * Returns a spliterator over the elements of this set, in ascending order. It reports
+         * {@link Spliterator#DISTINCT}, {@link Spliterator#SORTED}, {@link Spliterator#ORDERED},
+         * {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements of this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfLong spliteratorLong() {
+            return new ArraySpliterator.OfLong(a, 0, a.length, Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof PrimitiveImmutableSet.OfLong s) return Arrays.equals(a, s.a);
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            for(long e : a) h += java.lang.Long.hashCode(e);
+            return h;
+        }
+    }
+
+
+    /**
+     * An unmodifiable set of {@code int} elements kept in ascending order in an array that
+     * no one else can reach, and searched by binary search. Iteration follows the order of
+     * the array.
+     */
+    static final class OfInt extends PrimitiveAbstractSet.OfInt {
+        static final PrimitiveImmutableSet.OfInt EMPTY = new PrimitiveImmutableSet.OfInt(new int[0]);
+
+        /** The elements, sorted and distinct. */
+        private final int[] a;
+
+        private OfInt(int[] a) { this.a = a; }
+
+        /**
+         * Returns a set of a copy of the specified elements.
+         * @param distinct whether to reject duplicates instead of dropping them
+         * @throws IllegalArgumentException if {@code distinct} and an element is repeated
+         */
+        static PrimitiveSet.OfInt copyOf(int[] elements, boolean distinct) {
+            if(elements.length == 0) return EMPTY;
+            int[] s = elements.clone();
+            Arrays.sort(s);
+            int n = 1;
+            for(int i = 1; i < s.length; i++) {
+                if(!(s[i] == s[n - 1])) s[n++] = s[i];
+                else if(distinct) throw new IllegalArgumentException("duplicate element: " + s[i]);
+            }
+            return new PrimitiveImmutableSet.OfInt(n == s.length ? s : Arrays.copyOf(s, n));
+        }
+
+        /**
+         * Returns an unmodifiable set of the elements of {@code c}, or {@code c} itself if
+         * it is already such a set.
+         */
+        static PrimitiveSet.OfInt copyOf(PrimitiveCollection.OfInt c) {
+            if(c instanceof PrimitiveImmutableSet.OfInt s) return s;
+            return copyOf(c.toArrayInt(), false);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return a.length; }
+
+        @Override
+        public boolean isEmpty() { return a.length == 0; }
+
+        @Override
+        public boolean containsInt(int e) { return Arrays.binarySearch(a, e) >= 0; }
+
+        @Override
+        public boolean containsAllInt(PrimitiveCollection.OfInt c) {
+            if(!(c instanceof PrimitiveImmutableSet.OfInt s)) return super.containsAllInt(c);
+            // both arrays are sorted, so one merge pass decides
+            final int[] x = a, y = s.a;
+            int i = 0;
+            for(int j = 0; j < y.length; j++) {
+                while(i < x.length && x[i] < y[j]) i++;
+                if(i == x.length || !(x[i] == y[j])) return false;
+            }
+            return true;
+        }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public boolean addInt(int e) { throw uoe(); }
+
+        @Override
+        public boolean removeInt(int e) { throw uoe(); }
+
+        @Override
+        public boolean addAllInt(PrimitiveCollection.OfInt c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Integer> c) { throw uoe(); }
+
+        @Override
+        public boolean removeAllInt(PrimitiveCollection.OfInt c) { throw uoe(); }
+
+        @Override
+        public boolean removeAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean retainAllInt(PrimitiveCollection.OfInt c) { throw uoe(); }
+
+        @Override
+        public boolean retainAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean removeIfInt(PrimitivePredicate.OfInt filter) { throw uoe(); }
+
+        @Override
+        public void clear() { throw uoe(); }
+
+        ///////////// Bulk access
+
+        @Override
+        public int[] toArrayInt() { return a.clone(); }
+
+        @Override
+        public int[] toArrayInt(int[] array) {
+            if(array.length < a.length) return toArrayInt();
+            System.arraycopy(a, 0, array, 0, a.length);
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfInt action) {
+            Objects.requireNonNull(action);
+            for(int e : a) action.acceptInt(e);
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt iteratorInt() {
+            return new PrimitiveIterator.OfInt() {
+                private int cursor;
+
+                public boolean hasNext() { return cursor < a.length; }
+
+                public int nextInt() {
+                    if(cursor >= a.length) throw new NoSuchElementException();
+                    return a[cursor++];
+                }
+
+                public void remove() { throw uoe(); }
+            };
+        }
+
+        /**
+         * Returns a spliterator over the elements of this set, in ascending order. It reports
+         * {@link Spliterator#DISTINCT}, {@link Spliterator#SORTED}, {@link Spliterator#ORDERED},
+         * {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements of this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfInt spliteratorInt() {
+            return new ArraySpliterator.OfInt(a, 0, a.length, Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof PrimitiveImmutableSet.OfInt s) return Arrays.equals(a, s.a);
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            for(int e : a) h += java.lang.Integer.hashCode(e);
+            return h;
+        }
+    }
+
+
+    /**
+     * An unmodifiable set of {@code float} elements kept in ascending order in an array that
+     * no one else can reach, and searched by binary search. Iteration follows the order of
+     * the array.
+     */
+    static final class OfFloat extends PrimitiveAbstractSet.OfFloat {
+        static final PrimitiveImmutableSet.OfFloat EMPTY = new PrimitiveImmutableSet.OfFloat(new float[0]);
+
+        /** The elements, sorted and distinct. */
+        private final float[] a;
+
+        private OfFloat(float[] a) { this.a = a; }
+
+        /**
+         * Returns a set of a copy of the specified elements.
+         * @param distinct whether to reject duplicates instead of dropping them
+         * @throws IllegalArgumentException if {@code distinct} and an element is repeated
+         */
+        static PrimitiveSet.OfFloat copyOf(float[] elements, boolean distinct) {
+            if(elements.length == 0) return EMPTY;
+            float[] s = elements.clone();
+            Arrays.sort(s);
+            int n = 1;
+            for(int i = 1; i < s.length; i++) {
+                if(!(java.lang.Float.compare(s[i], s[n - 1]) == 0)) s[n++] = s[i];
+                else if(distinct) throw new IllegalArgumentException("duplicate element: " + s[i]);
+            }
+            return new PrimitiveImmutableSet.OfFloat(n == s.length ? s : Arrays.copyOf(s, n));
+        }
+
+        /**
+         * Returns an unmodifiable set of the elements of {@code c}, or {@code c} itself if
+         * it is already such a set.
+         */
+        static PrimitiveSet.OfFloat copyOf(PrimitiveCollection.OfFloat c) {
+            if(c instanceof PrimitiveImmutableSet.OfFloat s) return s;
+            return copyOf(c.toArrayFloat(), false);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return a.length; }
+
+        @Override
+        public boolean isEmpty() { return a.length == 0; }
+
+        @Override
+        public boolean containsFloat(float e) { return Arrays.binarySearch(a, e) >= 0; }
+
+        @Override
+        public boolean containsAllFloat(PrimitiveCollection.OfFloat c) {
+            if(!(c instanceof PrimitiveImmutableSet.OfFloat s)) return super.containsAllFloat(c);
+            // both arrays are sorted, so one merge pass decides
+            final float[] x = a, y = s.a;
+            int i = 0;
+            for(int j = 0; j < y.length; j++) {
+                while(i < x.length && java.lang.Float.compare(x[i], y[j]) < 0) i++;
+                if(i == x.length || !(java.lang.Float.compare(x[i], y[j]) == 0)) return false;
+            }
+            return true;
+        }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public boolean addFloat(float e) { throw uoe(); }
+
+        @Override
+        public boolean removeFloat(float e) { throw uoe(); }
+
+        @Override
+        public boolean addAllFloat(PrimitiveCollection.OfFloat c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Float> c) { throw uoe(); }
+
+        @Override
+        public boolean removeAllFloat(PrimitiveCollection.OfFloat c) { throw uoe(); }
+
+        @Override
+        public boolean removeAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean retainAllFloat(PrimitiveCollection.OfFloat c) { throw uoe(); }
+
+        @Override
+        public boolean retainAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean removeIfFloat(PrimitivePredicate.OfFloat filter) { throw uoe(); }
+
+        @Override
+        public void clear() { throw uoe(); }
+
+        ///////////// Bulk access
+
+        @Override
+        public float[] toArrayFloat() { return a.clone(); }
+
+        @Override
+        public float[] toArrayFloat(float[] array) {
+            if(array.length < a.length) return toArrayFloat();
+            System.arraycopy(a, 0, array, 0, a.length);
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfFloat action) {
+            Objects.requireNonNull(action);
+            for(float e : a) action.acceptFloat(e);
+        }
+
+        @Override
+        public PrimitiveIterator.OfFloat iteratorFloat() {
+            return new PrimitiveIterator.OfFloat() {
+                private int cursor;
+
+                public boolean hasNext() { return cursor < a.length; }
+
+                public float nextFloat() {
+                    if(cursor >= a.length) throw new NoSuchElementException();
+                    return a[cursor++];
+                }
+
+                public void remove() { throw uoe(); }
+            };
+        }
+
+        /**
+         * Returns a spliterator over the elements of this set, in ascending order. It reports
+         * {@link Spliterator#DISTINCT}, {@link Spliterator#SORTED}, {@link Spliterator#ORDERED},
+         * {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements of this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfFloat spliteratorFloat() {
+            return new ArraySpliterator.OfFloat(a, 0, a.length, Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof PrimitiveImmutableSet.OfFloat s) return Arrays.equals(a, s.a);
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            for(float e : a) h += java.lang.Float.hashCode(e);
+            return h;
+        }
+    }
+
+
+    /**
+     * An unmodifiable set of {@code char} elements kept in ascending order in an array that
+     * no one else can reach, and searched by binary search. Iteration follows the order of
+     * the array.
+     */
+    static final class OfChar extends PrimitiveAbstractSet.OfChar {
+        static final PrimitiveImmutableSet.OfChar EMPTY = new PrimitiveImmutableSet.OfChar(new char[0]);
+
+        /** The elements, sorted and distinct. */
+        private final char[] a;
+
+        private OfChar(char[] a) { this.a = a; }
+
+        /**
+         * Returns a set of a copy of the specified elements.
+         * @param distinct whether to reject duplicates instead of dropping them
+         * @throws IllegalArgumentException if {@code distinct} and an element is repeated
+         */
+        static PrimitiveSet.OfChar copyOf(char[] elements, boolean distinct) {
+            if(elements.length == 0) return EMPTY;
+            char[] s = elements.clone();
+            Arrays.sort(s);
+            int n = 1;
+            for(int i = 1; i < s.length; i++) {
+                if(!(s[i] == s[n - 1])) s[n++] = s[i];
+                else if(distinct) throw new IllegalArgumentException("duplicate element: " + s[i]);
+            }
+            return new PrimitiveImmutableSet.OfChar(n == s.length ? s : Arrays.copyOf(s, n));
+        }
+
+        /**
+         * Returns an unmodifiable set of the elements of {@code c}, or {@code c} itself if
+         * it is already such a set.
+         */
+        static PrimitiveSet.OfChar copyOf(PrimitiveCollection.OfChar c) {
+            if(c instanceof PrimitiveImmutableSet.OfChar s) return s;
+            return copyOf(c.toArrayChar(), false);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return a.length; }
+
+        @Override
+        public boolean isEmpty() { return a.length == 0; }
+
+        @Override
+        public boolean containsChar(char e) { return Arrays.binarySearch(a, e) >= 0; }
+
+        @Override
+        public boolean containsAllChar(PrimitiveCollection.OfChar c) {
+            if(!(c instanceof PrimitiveImmutableSet.OfChar s)) return super.containsAllChar(c);
+            // both arrays are sorted, so one merge pass decides
+            final char[] x = a, y = s.a;
+            int i = 0;
+            for(int j = 0; j < y.length; j++) {
+                while(i < x.length && x[i] < y[j]) i++;
+                if(i == x.length || !(x[i] == y[j])) return false;
+            }
+            return true;
+        }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public boolean addChar(char e) { throw uoe(); }
+
+        @Override
+        public boolean removeChar(char e) { throw uoe(); }
+
+        @Override
+        public boolean addAllChar(PrimitiveCollection.OfChar c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Character> c) { throw uoe(); }
+
+        @Override
+        public boolean removeAllChar(PrimitiveCollection.OfChar c) { throw uoe(); }
+
+        @Override
+        public boolean removeAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean retainAllChar(PrimitiveCollection.OfChar c) { throw uoe(); }
+
+        @Override
+        public boolean retainAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean removeIfChar(PrimitivePredicate.OfChar filter) { throw uoe(); }
+
+        @Override
+        public void clear() { throw uoe(); }
+
+        ///////////// Bulk access
+
+        @Override
+        public char[] toArrayChar() { return a.clone(); }
+
+        @Override
+        public char[] toArrayChar(char[] array) {
+            if(array.length < a.length) return toArrayChar();
+            System.arraycopy(a, 0, array, 0, a.length);
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfChar action) {
+            Objects.requireNonNull(action);
+            for(char e : a) action.acceptChar(e);
+        }
+
+        @Override
+        public PrimitiveIterator.OfChar iteratorChar() {
+            return new PrimitiveIterator.OfChar() {
+                private int cursor;
+
+                public boolean hasNext() { return cursor < a.length; }
+
+                public char nextChar() {
+                    if(cursor >= a.length) throw new NoSuchElementException();
+                    return a[cursor++];
+                }
+
+                public void remove() { throw uoe(); }
+            };
+        }
+
+        /**
+         * Returns a spliterator over the elements of this set, in ascending order. It reports
+         * {@link Spliterator#DISTINCT}, {@link Spliterator#SORTED}, {@link Spliterator#ORDERED},
+         * {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements of this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfChar spliteratorChar() {
+            return new ArraySpliterator.OfChar(a, 0, a.length, Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof PrimitiveImmutableSet.OfChar s) return Arrays.equals(a, s.a);
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            for(char e : a) h += java.lang.Character.hashCode(e);
+            return h;
+        }
+    }
+
+
+    /**
+     * An unmodifiable set of {@code short} elements kept in ascending order in an array that
+     * no one else can reach, and searched by binary search. Iteration follows the order of
+     * the array.
+     */
+    static final class OfShort extends PrimitiveAbstractSet.OfShort {
+        static final PrimitiveImmutableSet.OfShort EMPTY = new PrimitiveImmutableSet.OfShort(new short[0]);
+
+        /** The elements, sorted and distinct. */
+        private final short[] a;
+
+        private OfShort(short[] a) { this.a = a; }
+
+        /**
+         * Returns a set of a copy of the specified elements.
+         * @param distinct whether to reject duplicates instead of dropping them
+         * @throws IllegalArgumentException if {@code distinct} and an element is repeated
+         */
+        static PrimitiveSet.OfShort copyOf(short[] elements, boolean distinct) {
+            if(elements.length == 0) return EMPTY;
+            short[] s = elements.clone();
+            Arrays.sort(s);
+            int n = 1;
+            for(int i = 1; i < s.length; i++) {
+                if(!(s[i] == s[n - 1])) s[n++] = s[i];
+                else if(distinct) throw new IllegalArgumentException("duplicate element: " + s[i]);
+            }
+            return new PrimitiveImmutableSet.OfShort(n == s.length ? s : Arrays.copyOf(s, n));
+        }
+
+        /**
+         * Returns an unmodifiable set of the elements of {@code c}, or {@code c} itself if
+         * it is already such a set.
+         */
+        static PrimitiveSet.OfShort copyOf(PrimitiveCollection.OfShort c) {
+            if(c instanceof PrimitiveImmutableSet.OfShort s) return s;
+            return copyOf(c.toArrayShort(), false);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return a.length; }
+
+        @Override
+        public boolean isEmpty() { return a.length == 0; }
+
+        @Override
+        public boolean containsShort(short e) { return Arrays.binarySearch(a, e) >= 0; }
+
+        @Override
+        public boolean containsAllShort(PrimitiveCollection.OfShort c) {
+            if(!(c instanceof PrimitiveImmutableSet.OfShort s)) return super.containsAllShort(c);
+            // both arrays are sorted, so one merge pass decides
+            final short[] x = a, y = s.a;
+            int i = 0;
+            for(int j = 0; j < y.length; j++) {
+                while(i < x.length && x[i] < y[j]) i++;
+                if(i == x.length || !(x[i] == y[j])) return false;
+            }
+            return true;
+        }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public boolean addShort(short e) { throw uoe(); }
+
+        @Override
+        public boolean removeShort(short e) { throw uoe(); }
+
+        @Override
+        public boolean addAllShort(PrimitiveCollection.OfShort c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Short> c) { throw uoe(); }
+
+        @Override
+        public boolean removeAllShort(PrimitiveCollection.OfShort c) { throw uoe(); }
+
+        @Override
+        public boolean removeAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean retainAllShort(PrimitiveCollection.OfShort c) { throw uoe(); }
+
+        @Override
+        public boolean retainAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean removeIfShort(PrimitivePredicate.OfShort filter) { throw uoe(); }
+
+        @Override
+        public void clear() { throw uoe(); }
+
+        ///////////// Bulk access
+
+        @Override
+        public short[] toArrayShort() { return a.clone(); }
+
+        @Override
+        public short[] toArrayShort(short[] array) {
+            if(array.length < a.length) return toArrayShort();
+            System.arraycopy(a, 0, array, 0, a.length);
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfShort action) {
+            Objects.requireNonNull(action);
+            for(short e : a) action.acceptShort(e);
+        }
+
+        @Override
+        public PrimitiveIterator.OfShort iteratorShort() {
+            return new PrimitiveIterator.OfShort() {
+                private int cursor;
+
+                public boolean hasNext() { return cursor < a.length; }
+
+                public short nextShort() {
+                    if(cursor >= a.length) throw new NoSuchElementException();
+                    return a[cursor++];
+                }
+
+                public void remove() { throw uoe(); }
+            };
+        }
+
+        /**
+         * Returns a spliterator over the elements of this set, in ascending order. It reports
+         * {@link Spliterator#DISTINCT}, {@link Spliterator#SORTED}, {@link Spliterator#ORDERED},
+         * {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements of this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfShort spliteratorShort() {
+            return new ArraySpliterator.OfShort(a, 0, a.length, Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof PrimitiveImmutableSet.OfShort s) return Arrays.equals(a, s.a);
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            for(short e : a) h += java.lang.Short.hashCode(e);
+            return h;
+        }
+    }
+
+
+    /**
+     * An unmodifiable set of {@code byte} elements kept in ascending order in an array that
+     * no one else can reach, and searched by binary search. Iteration follows the order of
+     * the array.
+     */
+    static final class OfByte extends PrimitiveAbstractSet.OfByte {
+        static final PrimitiveImmutableSet.OfByte EMPTY = new PrimitiveImmutableSet.OfByte(new byte[0]);
+
+        /** The elements, sorted and distinct. */
+        private final byte[] a;
+
+        private OfByte(byte[] a) { this.a = a; }
+
+        /**
+         * Returns a set of a copy of the specified elements.
+         * @param distinct whether to reject duplicates instead of dropping them
+         * @throws IllegalArgumentException if {@code distinct} and an element is repeated
+         */
+        static PrimitiveSet.OfByte copyOf(byte[] elements, boolean distinct) {
+            if(elements.length == 0) return EMPTY;
+            byte[] s = elements.clone();
+            Arrays.sort(s);
+            int n = 1;
+            for(int i = 1; i < s.length; i++) {
+                if(!(s[i] == s[n - 1])) s[n++] = s[i];
+                else if(distinct) throw new IllegalArgumentException("duplicate element: " + s[i]);
+            }
+            return new PrimitiveImmutableSet.OfByte(n == s.length ? s : Arrays.copyOf(s, n));
+        }
+
+        /**
+         * Returns an unmodifiable set of the elements of {@code c}, or {@code c} itself if
+         * it is already such a set.
+         */
+        static PrimitiveSet.OfByte copyOf(PrimitiveCollection.OfByte c) {
+            if(c instanceof PrimitiveImmutableSet.OfByte s) return s;
+            return copyOf(c.toArrayByte(), false);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return a.length; }
+
+        @Override
+        public boolean isEmpty() { return a.length == 0; }
+
+        @Override
+        public boolean containsByte(byte e) { return Arrays.binarySearch(a, e) >= 0; }
+
+        @Override
+        public boolean containsAllByte(PrimitiveCollection.OfByte c) {
+            if(!(c instanceof PrimitiveImmutableSet.OfByte s)) return super.containsAllByte(c);
+            // both arrays are sorted, so one merge pass decides
+            final byte[] x = a, y = s.a;
+            int i = 0;
+            for(int j = 0; j < y.length; j++) {
+                while(i < x.length && x[i] < y[j]) i++;
+                if(i == x.length || !(x[i] == y[j])) return false;
+            }
+            return true;
+        }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public boolean addByte(byte e) { throw uoe(); }
+
+        @Override
+        public boolean removeByte(byte e) { throw uoe(); }
+
+        @Override
+        public boolean addAllByte(PrimitiveCollection.OfByte c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Byte> c) { throw uoe(); }
+
+        @Override
+        public boolean removeAllByte(PrimitiveCollection.OfByte c) { throw uoe(); }
+
+        @Override
+        public boolean removeAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean retainAllByte(PrimitiveCollection.OfByte c) { throw uoe(); }
+
+        @Override
+        public boolean retainAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean removeIfByte(PrimitivePredicate.OfByte filter) { throw uoe(); }
+
+        @Override
+        public void clear() { throw uoe(); }
+
+        ///////////// Bulk access
+
+        @Override
+        public byte[] toArrayByte() { return a.clone(); }
+
+        @Override
+        public byte[] toArrayByte(byte[] array) {
+            if(array.length < a.length) return toArrayByte();
+            System.arraycopy(a, 0, array, 0, a.length);
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfByte action) {
+            Objects.requireNonNull(action);
+            for(byte e : a) action.acceptByte(e);
+        }
+
+        @Override
+        public PrimitiveIterator.OfByte iteratorByte() {
+            return new PrimitiveIterator.OfByte() {
+                private int cursor;
+
+                public boolean hasNext() { return cursor < a.length; }
+
+                public byte nextByte() {
+                    if(cursor >= a.length) throw new NoSuchElementException();
+                    return a[cursor++];
+                }
+
+                public void remove() { throw uoe(); }
+            };
+        }
+
+        /**
+         * Returns a spliterator over the elements of this set, in ascending order. It reports
+         * {@link Spliterator#DISTINCT}, {@link Spliterator#SORTED}, {@link Spliterator#ORDERED},
+         * {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements of this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfByte spliteratorByte() {
+            return new ArraySpliterator.OfByte(a, 0, a.length, Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof PrimitiveImmutableSet.OfByte s) return Arrays.equals(a, s.a);
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            for(byte e : a) h += java.lang.Byte.hashCode(e);
+            return h;
+        }
+    }
+
+
+    /**
+     * An unmodifiable set of {@code boolean} elements kept in ascending order in an array that
+     * no one else can reach, and searched by binary search. Iteration follows the order of
+     * the array.
+     */
+    static final class OfBoolean extends PrimitiveAbstractSet.OfBoolean {
+        static final PrimitiveImmutableSet.OfBoolean EMPTY = new PrimitiveImmutableSet.OfBoolean(new boolean[0]);
+
+        /** The elements, sorted and distinct. */
+        private final boolean[] a;
+
+        private OfBoolean(boolean[] a) { this.a = a; }
+
+        /**
+         * Returns a set of a copy of the specified elements.
+         * @param distinct whether to reject duplicates instead of dropping them
+         * @throws IllegalArgumentException if {@code distinct} and an element is repeated
+         */
+        static PrimitiveSet.OfBoolean copyOf(boolean[] elements, boolean distinct) {
+            if(elements.length == 0) return EMPTY;
+            boolean[] s = elements.clone();
+            sort(s);
+            int n = 1;
+            for(int i = 1; i < s.length; i++) {
+                if(!(s[i] == s[n - 1])) s[n++] = s[i];
+                else if(distinct) throw new IllegalArgumentException("duplicate element: " + s[i]);
+            }
+            return new PrimitiveImmutableSet.OfBoolean(n == s.length ? s : Arrays.copyOf(s, n));
+        }
+
+        /**
+         * Returns an unmodifiable set of the elements of {@code c}, or {@code c} itself if
+         * it is already such a set.
+         */
+        static PrimitiveSet.OfBoolean copyOf(PrimitiveCollection.OfBoolean c) {
+            if(c instanceof PrimitiveImmutableSet.OfBoolean s) return s;
+            return copyOf(c.toArrayBoolean(), false);
+        }
+
+        /** Sorts {@code false} before {@code true}. */
+        private static void sort(boolean[] a) {
+            int f = 0;
+            for(boolean b : a) if(!b) f++;
+            Arrays.fill(a, 0, f, false);
+            Arrays.fill(a, f, a.length, true);
+        }
+
+        private static int search(boolean[] a, boolean e) {
+            for(int i = 0; i < a.length; i++) if(a[i] == e) return i;
+            return -1;
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return a.length; }
+
+        @Override
+        public boolean isEmpty() { return a.length == 0; }
+
+        @Override
+        public boolean containsBoolean(boolean e) { return search(a, e) >= 0; }
+
+        @Override
+        public boolean containsAllBoolean(PrimitiveCollection.OfBoolean c) {
+            if(!(c instanceof PrimitiveImmutableSet.OfBoolean s)) return super.containsAllBoolean(c);
+            // both arrays are sorted, so one merge pass decides
+            final boolean[] x = a, y = s.a;
+            int i = 0;
+            for(int j = 0; j < y.length; j++) {
+                while(i < x.length && !x[i] && y[j]) i++;
+                if(i == x.length || !(x[i] == y[j])) return false;
+            }
+            return true;
+        }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public boolean addBoolean(boolean e) { throw uoe(); }
+
+        @Override
+        public boolean removeBoolean(boolean e) { throw uoe(); }
+
+        @Override
+        public boolean addAllBoolean(PrimitiveCollection.OfBoolean c) { throw uoe(); }
+
+        @Override
+        public boolean addAll(Collection<? extends java.lang.Boolean> c) { throw uoe(); }
+
+        @Override
+        public boolean removeAllBoolean(PrimitiveCollection.OfBoolean c) { throw uoe(); }
+
+        @Override
+        public boolean removeAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean retainAllBoolean(PrimitiveCollection.OfBoolean c) { throw uoe(); }
+
+        @Override
+        public boolean retainAll(Collection<?> c) { throw uoe(); }
+
+        @Override
+        public boolean removeIfBoolean(PrimitivePredicate.OfBoolean filter) { throw uoe(); }
+
+        @Override
+        public void clear() { throw uoe(); }
+
+        ///////////// Bulk access
+
+        @Override
+        public boolean[] toArrayBoolean() { return a.clone(); }
+
+        @Override
+        public boolean[] toArrayBoolean(boolean[] array) {
+            if(array.length < a.length) return toArrayBoolean();
+            System.arraycopy(a, 0, array, 0, a.length);
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfBoolean action) {
+            Objects.requireNonNull(action);
+            for(boolean e : a) action.acceptBoolean(e);
+        }
+
+        @Override
+        public PrimitiveIterator.OfBoolean iteratorBoolean() {
+            return new PrimitiveIterator.OfBoolean() {
+                private int cursor;
+
+                public boolean hasNext() { return cursor < a.length; }
+
+                public boolean nextBoolean() {
+                    if(cursor >= a.length) throw new NoSuchElementException();
+                    return a[cursor++];
+                }
+
+                public void remove() { throw uoe(); }
+            };
+        }
+
+        /**
+         * Returns a spliterator over the elements of this set, in ascending order. It reports
+         * {@link Spliterator#DISTINCT}, {@link Spliterator#SORTED}, {@link Spliterator#ORDERED},
+         * {@link Spliterator#IMMUTABLE}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements of this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfBoolean spliteratorBoolean() {
+            return new ArraySpliterator.OfBoolean(a, 0, a.length, Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.ORDERED | Spliterator.IMMUTABLE);
+        }
+
+        ///////////// Comparison and hashing
+
+        @Override
+        public boolean equals(Object o) {
+            if(o instanceof PrimitiveImmutableSet.OfBoolean s) return Arrays.equals(a, s.a);
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            for(boolean e : a) h += java.lang.Boolean.hashCode(e);
+            return h;
+        }
+    }
+}
@@ -0,0 +1,706 @@
+package jdk.prim.util;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A pseudo-package for holding indexed priority queues: heaps of dense {@code int} ids
+ * keyed by {@code double} or {@code long} priorities that track the position of every id,
+ * so the priority of a queued id can be changed in place
+ */
+public final class PrimitiveIndexedPriorityQueue {
+    private PrimitiveIndexedPriorityQueue() {}
+
+    /**
+     * A min-priority queue of dense {@code int} ids in {@code [0, capacity())}, each
+     * carrying a {@code double} priority. The queue tracks the heap position of every id,
+     * so besides offering and polling it can test membership, read, lower, raise or
+     * remove the priority of any id. Priorities are ordered by a
+     * {@link PrimitiveComparator.OfDouble}, or naturally when none (or
+     * {@link PrimitiveComparator#naturalOrderDouble()}) is given, in which case they are
+     * compared inline.
+     * <p>
+     * The heap is {@value #ARITY}-ary and stores ids only; priorities and positions live
+     * in arrays indexed by id. {@link #contains(int)}, {@link #priorityOf(int)},
+     * {@link #peekMinId()} and {@link #size()} take constant time, and {@link #insert(int, double)},
+     * {@link #decreaseKey(int, double)}, {@link #increaseKey(int, double)}, {@link #remove(int)}
+     * and {@link #pollMinId()} take O(log n) time. None of them allocate; the arrays only
+     * grow through {@link #ensureCapacity(int)}.
+     * <p>
+     * This class is not thread-safe.
+     */
+    public static class OfDouble {
+        /**
+         * The number of children of each node of the heap.
+         */
+        public static final int ARITY = 4;
+
+        /** The heap of ids; only the first {@link #size} slots are live. */
+        private int[] heap;
+        /** The heap slot of each id, or -1 if the id is not queued. */
+        private int[] pos;
+        /** The priority of each queued id. */
+        private double[] prio;
+        /** The number of queued ids. */
+        private int size;
+        /** The comparator given at construction, or {@code null}. */
+        private final PrimitiveComparator.OfDouble comparator;
+        /** Whether priorities are ordered naturally and can be compared inline. */
+        private final boolean natural;
+
+        /**
+         * Constructs an empty queue for the ids {@code 0} through {@code capacity - 1}
+         * whose priorities are ordered naturally.
+         * @param capacity the number of distinct ids
+         * @throws IllegalArgumentException if {@code capacity} is negative
+         */
+        public OfDouble(int capacity) { this(capacity, null); }
+
+        /**
+         * Constructs an empty queue for the ids {@code 0} through {@code capacity - 1}
+         * whose priorities are ordered by the specified comparator.
+         * @param capacity the number of distinct ids
+         * @param comparator the comparator that will be used to order priorities, or
+         *        {@code null} for natural ordering
+         * @throws IllegalArgumentException if {@code capacity} is negative
+         */
+        public OfDouble(int capacity, PrimitiveComparator.OfDouble comparator) {
+            if(capacity < 0) throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+            heap = new int[capacity];
+            pos = new int[capacity];
+            prio = new double[capacity];
+            Arrays.fill(pos, -1);
+            this.comparator = comparator;
+            this.natural = comparator == null || comparator == PrimitiveComparator.naturalOrderDouble();
+        }
+
+        /**
+         * Returns the comparator used to order priorities, or {@code null} if they are
+         * ordered naturally.
+         * @return the comparator given at construction, or {@code null}
+         */
+        public PrimitiveComparator.OfDouble comparator() { return comparator; }
+
+        /**
+         * Returns the number of distinct ids this queue accepts.
+         * @return one more than the largest id this queue accepts
+         */
+        public int capacity() { return pos.length; }
+
+        /**
+         * Grows this queue, if necessary, so that it accepts the ids {@code 0} through
+         * {@code capacity - 1}.
+         * @param capacity the desired number of distinct ids
+         */
+        public void ensureCapacity(int capacity) {
+            int old = pos.length;
+            if(capacity <= old) return;
+            heap = Arrays.copyOf(heap, capacity);
+            pos = Arrays.copyOf(pos, capacity);
+            prio = Arrays.copyOf(prio, capacity);
+            Arrays.fill(pos, old, capacity, -1);
+        }
+
+        /**
+         * Returns the number of ids in this queue.
+         * @return the number of ids in this queue
+         */
+        public int size() { return size; }
+
+        /**
+         * Returns {@code true} if this queue holds no ids.
+         * @return {@code true} if this queue holds no ids
+         */
+        public boolean isEmpty() { return size == 0; }
+
+        /**
+         * Returns {@code true} if the specified id is in this queue.
+         * @param id the id to test
+         * @return {@code true} if the specified id is in this queue
+         * @throws IndexOutOfBoundsException if {@code id} is not in {@code [0, capacity())}
+         */
+        public boolean contains(int id) { return pos[Objects.checkIndex(id, pos.length)] >= 0; }
+
+        /**
+         * Returns the priority of the specified id.
+         * @param id the id whose priority is to be returned
+         * @return the priority of the specified id
+         * @throws NoSuchElementException if the id is not in this queue
+         * @throws IndexOutOfBoundsException if {@code id} is not in {@code [0, capacity())}
+         */
+        public double priorityOf(int id) {
+            checkQueued(id);
+            return prio[id];
+        }
+
+        ///////////// Modification operations
+
+        /**
+         * Adds the specified id with the specified priority.
+         * @param id the id to add
+         * @param priority the priority of the id
+         * @throws IllegalArgumentException if the id is already in this queue
+         * @throws IndexOutOfBoundsException if {@code id} is not in {@code [0, capacity())}
+         */
+        public void insert(int id, double priority) {
+            if(pos[Objects.checkIndex(id, pos.length)] >= 0) throw new IllegalArgumentException("id " + id + " is already queued");
+            prio[id] = priority;
+            siftUp(size++, id);
+        }
+
+        /**
+         * Lowers the priority of the specified id.
+         * @param id the id whose priority is to be lowered
+         * @param priority the new priority, not greater than the current one
+         * @throws IllegalArgumentException if {@code priority} is greater than the current
+         *         priority of the id
+         * @throws NoSuchElementException if the id is not in this queue
+         * @throws IndexOutOfBoundsException if {@code id} is not in {@code [0, capacity())}
+         */
+        public void decreaseKey(int id, double priority) {
+            checkQueued(id);
+            if(less(prio[id], priority)) throw new IllegalArgumentException("priority " + priority + " is greater than " + prio[id]);
+            prio[id] = priority;
+            siftUp(pos[id], id);
+        }
+
+        /**
+         * Raises the priority of the specified id.
+         * @param id the id whose priority is to be raised
+         * @param priority the new priority, not less than the current one
+         * @throws IllegalArgumentException if {@code priority} is less than the current
+         *         priority of the id
+         * @throws NoSuchElementException if the id is not in this queue
+         * @throws IndexOutOfBoundsException if {@code id} is not in {@code [0, capacity())}
+         */
+        public void increaseKey(int id, double priority) {
+            checkQueued(id);
+            if(less(priority, prio[id])) throw new IllegalArgumentException("priority " + priority + " is less than " + prio[id]);
+            prio[id] = priority;
+            siftDown(pos[id], id);
+        }
+
+        /**
+         * Adds the specified id with the specified priority, or lowers its priority if it
+         * is queued with a greater one. This is the relaxation step of shortest-path searches.
+         * @param id the id to add or update
+         * @param priority the candidate priority of the id
+         * @return {@code true} if the id was added or its priority lowered
+         * @throws IndexOutOfBoundsException if {@code id} is not in {@code [0, capacity())}
+         */
+        public boolean insertOrDecrease(int id, double priority) {
+            int i = pos[Objects.checkIndex(id, pos.length)];
+            if(i < 0) {
+                prio[id] = priority;
+                siftUp(size++, id);
+                return true;
+            }
+            if(!less(priority, prio[id])) return false;
+            prio[id] = priority;
+            siftUp(i, id);
+            return true;
+        }
+
+        /**
+         * Removes the specified id from this queue if it is present.
+         * @param id the id to remove
+         * @return {@code true} if the id was in this queue
+         * @throws IndexOutOfBoundsException if {@code id} is not in {@code [0, capacity())}
+         */
+        public boolean remove(int id) {
+            int i = pos[Objects.checkIndex(id, pos.length)];
+            if(i < 0) return false;
+            pos[id] = -1;
+            int s = --size;
+            if(i != s) {
+                int moved = heap[s];
+                siftDown(i, moved);
+                if(pos[moved] == i) siftUp(i, moved);
+            }
+            return true;
+        }
+
+        /**
+         * Returns the id with the least priority without removing it.
+         * @return the id with the least priority
+         * @throws NoSuchElementException if this queue is empty
+         */
+        public int peekMinId() {
+            if(size == 0) throw new NoSuchElementException();
+            return heap[0];
+        }
+
+        /**
+         * Returns the least priority in this queue.
+         * @return the priority of {@link #peekMinId()}
+         * @throws NoSuchElementException if this queue is empty
+         */
+        public double peekMinPriority() {
+            if(size == 0) throw new NoSuchElementException();
+            return prio[heap[0]];
+        }
+
+        /**
+         * Removes and returns the id with the least priority. Its priority stays readable
+         * through {@link #priorityOf(int)} only until it is inserted again; read it first with
+         * {@link #peekMinPriority()} if needed.
+         * @return the id with the least priority
+         * @throws NoSuchElementException if this queue is empty
+         */
+        public int pollMinId() {
+            if(size == 0) throw new NoSuchElementException();
+            final int[] h = heap;
+            int min = h[0];
+            pos[min] = -1;
+            int s = --size;
+            if(s > 0) siftDown(0, h[s]);
+            return min;
+        }
+
+        /**
+         * Removes all ids from this queue, in time proportional to its size.
+         */
+        public void clear() {
+            final int[] h = heap;
+            for(int i = 0, n = size; i < n; i++) pos[h[i]] = -1;
+            size = 0;
+        }
+
+        ///////////// Heap maintenance
+
+        private void checkQueued(int id) {
+            if(pos[Objects.checkIndex(id, pos.length)] < 0) throw new NoSuchElementException("id " + id + " is not queued");
+        }
+
+        private boolean less(double a, double b) { return natural ? java.lang.Double.compare(a, b) < 0 : comparator.compareDouble(a, b) < 0; }
+
+        /**
+         * Moves {@code id} up from slot {@code k} until the priority of its parent is not greater.
+         */
+        private void siftUp(int k, int id) {
+            final int[] h = heap, p = pos;
+            final double[] pr = prio;
+            final double x = pr[id];
+            if(natural) {
+                while(k > 0) {
+                    int parent = (k - 1) >>> 2, e = h[parent];
+                    if(!(java.lang.Double.compare(x, pr[e]) < 0)) break;
+                    p[h[k] = e] = k;
+                    k = parent;
+                }
+            } else {
+                final PrimitiveComparator.OfDouble cmp = comparator;
+                while(k > 0) {
+                    int parent = (k - 1) >>> 2, e = h[parent];
+                    if(cmp.compareDouble(x, pr[e]) >= 0) break;
+                    p[h[k] = e] = k;
+                    k = parent;
+                }
+            }
+            p[h[k] = id] = k;
+        }
+
+        /**
+         * Moves {@code id} down from slot {@code k} until no child has a lesser priority.
+         */
+        private void siftDown(int k, int id) {
+            final int[] h = heap, p = pos;
+            final double[] pr = prio;
+            final double x = pr[id];
+            final int n = size, limit = (n + 2) >>> 2; // k has a child exactly when ARITY * k + 1 < n
+            if(natural) {
+                while(k < limit) {
+                    int c = (k << 2) + 1, end = java.lang.Math.min(c + ARITY, n), m = h[c];
+                    double mp = pr[m];
+                    for(int j = c + 1; j < end; j++) {
+                        double jp = pr[h[j]];
+                        if(java.lang.Double.compare(jp, mp) < 0) {
+                            mp = jp;
+                            m = h[c = j];
+                        }
+                    }
+                    if(!(java.lang.Double.compare(mp, x) < 0)) break;
+                    p[h[k] = m] = k;
+                    k = c;
+                }
+            } else {
+                final PrimitiveComparator.OfDouble cmp = comparator;
+                while(k < limit) {
+                    int c = (k << 2) + 1, end = java.lang.Math.min(c + ARITY, n), m = h[c];
+                    double mp = pr[m];
+                    for(int j = c + 1; j < end; j++) {
+                        double jp = pr[h[j]];
+                        if(cmp.compareDouble(jp, mp) < 0) {
+                            mp = jp;
+                            m = h[c = j];
+                        }
+                    }
+                    if(cmp.compareDouble(mp, x) >= 0) break;
+                    p[h[k] = m] = k;
+                    k = c;
+                }
+            }
+            p[h[k] = id] = k;
+        }
+
+        @Override
+        public String toString() {
+            if(size == 0) return "{}";
+            StringBuilder sb = new StringBuilder();
+            sb.append('{');
+            for(int i = 0; i < size; i++) {
+                if(i > 0) sb.append(',').append(' ');
+                int id = heap[i];
+                sb.append(id).append('=').append(prio[id]);
+            }
+            return sb.append('}').toString();
+        }
+    }
+
+    /**
+     * A min-priority queue of dense {@code int} ids in {@code [0, capacity())}, each
+     * carrying a {@code long} priority. The queue tracks the heap position of every id,
+     * so besides offering and polling it can test membership, read, lower, raise or
+     * remove the priority of any id. Priorities are ordered by a
+     * {@link PrimitiveComparator.OfLong}, or naturally when none (or
+     * {@link PrimitiveComparator#naturalOrderLong()}) is given, in which case they are
+     * compared inline.
+     * <p>
+     * The heap is {@value #ARITY}-ary and stores ids only; priorities and positions live
+     * in arrays indexed by id. {@link #contains(int)}, {@link #priorityOf(int)},
+     * {@link #peekMinId()} and {@link #size()} take constant time, and {@link #insert(int, long)},
+     * {@link #decreaseKey(int, long)}, {@link #increaseKey(int, long)}, {@link #remove(int)}
+     * and {@link #pollMinId()} take O(log n) time. None of them allocate; the arrays only
+     * grow through {@link #ensureCapacity(int)}.
+     * <p>
+     * This class is not thread-safe.
+     */
+    public static class OfLong {
+        /**
+         * The number of children of each node of the heap.
+         */
+        public static final int ARITY = 4;
+
+        /** The heap of ids; only the first {@link #size} slots are live. */
+        private int[] heap;
+        /** The heap slot of each id, or -1 if the id is not queued. */
+        private int[] pos;
+        /** The priority of each queued id. */
+        private long[] prio;
+        /** The number of queued ids. */
+        private int size;
+        /** The comparator given at construction, or {@code null}. */
+        private final PrimitiveComparator.OfLong comparator;
+        /** Whether priorities are ordered naturally and can be compared inline. */
+        private final boolean natural;
+
+        /**
+         * Constructs an empty queue for the ids {@code 0} through {@code capacity - 1}
+         * whose priorities are ordered naturally.
+         * @param capacity the number of distinct ids
+         * @throws IllegalArgumentException if {@code capacity} is negative
+         */
+        public OfLong(int capacity) { this(capacity, null); }
+
+        /**
+         * Constructs an empty queue for the ids {@code 0} through {@code capacity - 1}
+         * whose priorities are ordered by the specified comparator.
+         * @param capacity the number of distinct ids
+         * @param comparator the comparator that will be used to order priorities, or
+         *        {@code null} for natural ordering
+         * @throws IllegalArgumentException if {@code capacity} is negative
+         */
+        public OfLong(int capacity, PrimitiveComparator.OfLong comparator) {
+            if(capacity < 0) throw new IllegalArgumentException("Illegal Capacity: " + capacity);
+            heap = new int[capacity];
+            pos = new int[capacity];
+            prio = new long[capacity];
+            Arrays.fill(pos, -1);
+            this.comparator = comparator;
+            this.natural = comparator == null || comparator == PrimitiveComparator.naturalOrderLong();
+        }
+
+        /**
+         * Returns the comparator used to order priorities, or {@code null} if they are
+         * ordered naturally.
+         * @return the comparator given at construction, or {@code null}
+         */
+        public PrimitiveComparator.OfLong comparator() { return comparator; }
+
+        /**
+         * Returns the number of distinct ids this queue accepts.
+         * @return one more than the largest id this queue accepts
+         */
+        public int capacity() { return pos.length; }
+
+        /**
+         * Grows this queue, if necessary, so that it accepts the ids {@code 0} through
+         * {@code capacity - 1}.
+         * @param capacity the desired number of distinct ids
+         */
+        public void ensureCapacity(int capacity) {
+            int old = pos.length;
+            if(capacity <= old) return;
+            heap = Arrays.copyOf(heap, capacity);
+            pos = Arrays.copyOf(pos, capacity);
+            prio = Arrays.copyOf(prio, capacity);
+            Arrays.fill(pos, old, capacity, -1);
+        }
+
+        /**
+         * Returns the number of ids in this queue.
+         * @return the number of ids in this queue
+         */
+        public int size() { return size; }
+
+        /**
+         * Returns {@code true} if this queue holds no ids.
+         * @return {@code true} if this queue holds no ids
+         */
+        public boolean isEmpty() { return size == 0; }
+
+        /**
+         * Returns {@code true} if the specified id is in this queue.
+         * @param id the id to test
+         * @return {@code true} if the specified id is in this queue
+         * @throws IndexOutOfBoundsException if {@code id} is not in {@code [0, capacity())}
+         */
+        public boolean contains(int id) { return pos[Objects.checkIndex(id, pos.length)] >= 0; }
+
+        /**
+         * Returns the priority of the specified id.
+         * @param id the id whose priority is to be returned
+         * @return the priority of the specified id
+         * @throws NoSuchElementException if the id is not in this queue
+         * @throws IndexOutOfBoundsException if {@code id} is not in {@code [0, capacity())}
+         */
+        public long priorityOf(int id) {
+            checkQueued(id);
+            return prio[id];
+        }
+
+        ///////////// Modification operations
+
+        /**
+         * Adds the specified id with the specified priority.
+         * @param id the id to add
+         * @param priority the priority of the id
+         * @throws IllegalArgumentException if the id is already in this queue
+         * @throws IndexOutOfBoundsException if {@code id} is not in {@code [0, capacity())}
+         */
+        public void insert(int id, long priority) {
+            if(pos[Objects.checkIndex(id, pos.length)] >= 0) throw new IllegalArgumentException("id " + id + " is already queued");
+            prio[id] = priority;
+            siftUp(size++, id);
+        }
+
+        /**
+         * Lowers the priority of the specified id.
+         * @param id the id whose priority is to be lowered
+         * @param priority the new priority, not greater than the current one
+         * @throws IllegalArgumentException if {@code priority} is greater than the current
+         *         priority of the id
+         * @throws NoSuchElementException if the id is not in this queue
+         * @throws IndexOutOfBoundsException if {@code id} is not in {@code [0, capacity())}
+         */
+        public void decreaseKey(int id, long priority) {
+            checkQueued(id);
+            if(less(prio[id], priority)) throw new IllegalArgumentException("priority " + priority + " is greater than " + prio[id]);
+            prio[id] = priority;
+            siftUp(pos[id], id);
+        }
+
+        /**
+         * Raises the priority of the specified id.
+         * @param id the id whose priority is to be raised
+         * @param priority the new priority, not less than the current one
+         * @throws IllegalArgumentException if {@code priority} is less than the current
+         *         priority of the id
+         * @throws NoSuchElementException if the id is not in this queue
+         * @throws IndexOutOfBoundsException if {@code id} is not in {@code [0, capacity())}
+         */
+        public void increaseKey(int id, long priority) {
+            checkQueued(id);
+            if(less(priority, prio[id])) throw new IllegalArgumentException("priority " + priority + " is less than " + prio[id]);
+            prio[id] = priority;
+            siftDown(pos[id], id);
+        }
+
+        /**
+         * Adds the specified id with the specified priority, or lowers its priority if it
+         * is queued with a greater one. This is the relaxation step of shortest-path searches.
+         * @param id the id to add or update
+         * @param priority the candidate priority of the id
+         * @return {@code true} if the id was added or its priority lowered
+         * @throws IndexOutOfBoundsException if {@code id} is not in {@code [0, capacity())}
+         */
+        public boolean insertOrDecrease(int id, long priority) {
+            int i = pos[Objects.checkIndex(id, pos.length)];
+            if(i < 0) {
+                prio[id] = priority;
+                siftUp(size++, id);
+                return true;
+            }
+            if(!less(priority, prio[id])) return false;
+            prio[id] = priority;
+            siftUp(i, id);
+            return true;
+        }
+
+        /**
+         * Removes the specified id from this queue if it is present.
+         * @param id the id to remove
+         * @return {@code true} if the id was in this queue
+         * @throws IndexOutOfBoundsException if {@code id} is not in {@code [0, capacity())}
+         */
+        public boolean remove(int id) {
+            int i = pos[Objects.checkIndex(id, pos.length)];
+            if(i < 0) return false;
+            pos[id] = -1;
+            int s = --size;
+            if(i != s) {
+                int moved = heap[s];
+                siftDown(i, moved);
+                if(pos[moved] == i) siftUp(i, moved);
+            }
+            return true;
+        }
+
+        /**
+         * Returns the id with the least priority without removing it.
+         * @return the id with the least priority
+         * @throws NoSuchElementException if this queue is empty
+         */
+        public int peekMinId() {
+            if(size == 0) throw new NoSuchElementException();
+            return heap[0];
+        }
+
+        /**
+         * Returns the least priority in this queue.
+         * @return the priority of {@link #peekMinId()}
+         * @throws NoSuchElementException if this queue is empty
+         */
+        public long peekMinPriority() {
+            if(size == 0) throw new NoSuchElementException();
+            return prio[heap[0]];
+        }
+
+        /**
+         * Removes and returns the id with the least priority. Its priority stays readable
+         * through {@link #priorityOf(int)} only until it is inserted again; read it first with
+         * {@link #peekMinPriority()} if needed.
+         * @return the id with the least priority
+         * @throws NoSuchElementException if this queue is empty
+         */
+        public int pollMinId() {
+            if(size == 0) throw new NoSuchElementException();
+            final int[] h = heap;
+            int min = h[0];
+            pos[min] = -1;
+            int s = --size;
+            if(s > 0) siftDown(0, h[s]);
+            return min;
+        }
+
+        /**
+         * Removes all ids from this queue, in time proportional to its size.
+         */
+        public void clear() {
+            final int[] h = heap;
+            for(int i = 0, n = size; i < n; i++) pos[h[i]] = -1;
+            size = 0;
+        }
+
+        ///////////// Heap maintenance
+
+        private void checkQueued(int id) {
+            if(pos[Objects.checkIndex(id, pos.length)] < 0) throw new NoSuchElementException("id " + id + " is not queued");
+        }
+
+        private boolean less(long a, long b) { return natural ? a < b : comparator.compareLong(a, b) < 0; }
+
+        /**
+         * Moves {@code id} up from slot {@code k} until the priority of its parent is not greater.
+         */
+        private void siftUp(int k, int id) {
+            final int[] h = heap, p = pos;
+            final long[] pr = prio;
+            final long x = pr[id];
+            if(natural) {
+                while(k > 0) {
+                    int parent = (k - 1) >>> 2, e = h[parent];
+                    if(!(x < pr[e])) break;
+                    p[h[k] = e] = k;
+                    k = parent;
+                }
+            } else {
+                final PrimitiveComparator.OfLong cmp = comparator;
+                while(k > 0) {
+                    int parent = (k - 1) >>> 2, e = h[parent];
+                    if(cmp.compareLong(x, pr[e]) >= 0) break;
+                    p[h[k] = e] = k;
+                    k = parent;
+                }
+            }
+            p[h[k] = id] = k;
+        }
+
+        /**
+         * Moves {@code id} down from slot {@code k} until no child has a lesser priority.
+         */
+        private void siftDown(int k, int id) {
+            final int[] h = heap, p = pos;
+            final long[] pr = prio;
+            final long x = pr[id];
+            final int n = size, limit = (n + 2) >>> 2; // k has a child exactly when ARITY * k + 1 < n
+            if(natural) {
+                while(k < limit) {
+                    int c = (k << 2) + 1, end = java.lang.Math.min(c + ARITY, n), m = h[c];
+                    long mp = pr[m];
+                    for(int j = c + 1; j < end; j++) {
+                        long jp = pr[h[j]];
+                        if(jp < mp) {
+                            mp = jp;
+                            m = h[c = j];
+                        }
+                    }
+                    if(!(mp < x)) break;
+                    p[h[k] = m] = k;
+                    k = c;
+                }
+            } else {
+                final PrimitiveComparator.OfLong cmp = comparator;
+                while(k < limit) {
+                    int c = (k << 2) + 1, end = java.lang.Math.min(c + ARITY, n), m = h[c];
+                    long mp = pr[m];
+                    for(int j = c + 1; j < end; j++) {
+                        long jp = pr[h[j]];
+                        if(cmp.compareLong(jp, mp) < 0) {
+                            mp = jp;
+                            m = h[c = j];
+                        }
+                    }
+                    if(cmp.compareLong(mp, x) >= 0) break;
+                    p[h[k] = m] = k;
+                    k = c;
+                }
+            }
+            p[h[k] = id] = k;
+        }
+
+        @Override
+        public String toString() {
+            if(size == 0) return "{}";
+            StringBuilder sb = new StringBuilder();
+            sb.append('{');
+            for(int i = 0; i < size; i++) {
+                if(i > 0) sb.append(',').append(' ');
+                int id = heap[i];
+                sb.append(id).append('=').append(prio[id]);
+            }
+            return sb.append('}').toString();
+        }
+    }
+}
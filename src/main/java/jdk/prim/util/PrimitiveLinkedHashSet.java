@@ -0,0 +1,2341 @@
+package jdk.prim.util;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
+import jdk.prim.util.function.PrimitiveConsumer;
+import jdk.prim.util.function.PrimitivePredicate;
+
+/**
+ * A pseudo-package for holding the primitive declaration with functionalities and syntax of {@link java.util.LinkedHashSet LinkedHashSet}
+ * for the {@code double}, {@code long}, {@code int} and {@code float} types
+ */
+public final class PrimitiveLinkedHashSet {
+    private PrimitiveLinkedHashSet() {}
+
+    /**
+     * A hash set of {@code double} values that remembers the order in which they were added.
+     * <p>
+     * Elements are kept unboxed in a flat {@code long[]} of entries, and the order is a doubly
+     * linked list threaded through parallel {@code int[]} arrays of previous and next entry
+     * indices, so no node objects are ever allocated. The hash table is a power-of-two
+     * {@code int[]} of entry indices, probed linearly; removals use backward-shift deletion on
+     * the table and recycle the entry through a free list, so entries never move. Members are compared by
+     * {@link java.lang.Double#doubleToLongBits(double) bit pattern}, exactly as
+     * {@link java.lang.Double#equals(Object)} does.
+     * <p>
+     * {@link #containsDouble(double)}, {@link #addDouble(double)}, {@link #removeDouble(double)},
+     * {@link #removeFirstDouble()} and {@link #removeLastDouble()} take expected constant time.
+     * {@link #addFirstDouble(double)} and {@link #addLastDouble(double)} move an element that is already
+     * present to the requested end. {@link #reversedDouble()} is a live view whose own
+     * {@code reversedDouble()} is this set. The iterators of this class and of its view are
+     * <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.LinkedHashSet}
+     */
+    public static class OfDouble extends PrimitiveAbstractSet.OfDouble implements PrimitiveSequencedSet.OfDouble, Cloneable {
+        /** The stored form of each entry's element. */
+        private transient long[] keys;
+        /** The previous and next entry in order, {@code -1} at the ends. A free entry links the free list through {@code next}. */
+        private transient int[] prev, next;
+        /** The first and last entry in order, {@code -1} if empty. */
+        private transient int head = -1, tail = -1;
+        /** The head of the list of free entries below {@link #used}, or {@code -1}. */
+        private transient int free = -1;
+        /** The number of entries ever handed out; entries at and above it are unused. */
+        private transient int used;
+        /** The hash table of entry indices plus one; {@code 0} marks a free slot. */
+        private transient int[] table;
+        /** {@code table.length - 1}. */
+        private transient int mask;
+        /** The number of elements. */
+        private int size;
+        /** The number of elements the table may hold before it is doubled. */
+        private transient int maxFill;
+        /** The load factor of the table. */
+        private final float loadFactor;
+        /** The number of times this set has been structurally modified. */
+        private transient int modCount;
+        /** The reverse-ordered view, created on first use. */
+        private transient Reversed reversed;
+
+        /**
+         * Constructs an empty set able to hold {@code expected} elements
+         * without rehashing, using the given load factor.
+         * @param expected the expected number of elements
+         * @param loadFactor the load factor, in the range (0, 1)
+         * @throws IllegalArgumentException if {@code expected} is negative or
+         *         {@code loadFactor} is not in (0, 1)
+         */
+        public OfDouble(int expected, float loadFactor) {
+            if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+            if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+            this.loadFactor = loadFactor;
+            int n = PrimitiveHashSet.tableSize(expected, loadFactor);
+            table = new int[n];
+            mask = n - 1;
+            maxFill = PrimitiveHashSet.maxFill(n, loadFactor);
+            int cap = java.lang.Math.max(expected, 2);
+            keys = new long[cap];
+            prev = new int[cap];
+            next = new int[cap];
+        }
+
+        /**
+         * Constructs an empty set able to hold {@code expected} elements
+         * without rehashing, using the default load factor.
+         * @param expected the expected number of elements
+         */
+        public OfDouble(int expected) { this(expected, PrimitiveHashSet.DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs an empty set with the default capacity and load factor.
+         */
+        public OfDouble() { this(PrimitiveHashSet.DEFAULT_EXPECTED, PrimitiveHashSet.DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs a set containing the elements of the specified collection, in the
+         * order its iterator returns them.
+         * @param c the collection whose elements are to be placed into this set
+         */
+        public OfDouble(PrimitiveCollection.OfDouble c) {
+            this(c.size(), PrimitiveHashSet.DEFAULT_LOAD_FACTOR);
+            addAllDouble(c);
+        }
+
+        ///////////// Table and entry maintenance
+
+        /**
+         * Returns the table slot holding {@code k}, or {@code ~slot} of the free slot where
+         * it would go.
+         */
+        private int find(long k) {
+            final int[] t = table;
+            final long[] key = keys;
+            int pos = PrimitiveHashSet.mix(k) & mask, e;
+            while((e = t[pos]) != 0) {
+                if(key[e - 1] == k) return pos;
+                pos = (pos + 1) & mask;
+            }
+            return ~pos;
+        }
+
+        /**
+         * Closes the gap left at table slot {@code pos} by moving back every following
+         * entry of the probe run that would otherwise become unreachable.
+         */
+        private void shiftSlots(int pos) {
+            final int[] t = table;
+            final long[] key = keys;
+            int last, slot, curr;
+            for(;;) {
+                pos = ((last = pos) + 1) & mask;
+                for(;;) {
+                    if((curr = t[pos]) == 0) {
+                        t[last] = 0;
+                        return;
+                    }
+                    slot = PrimitiveHashSet.mix(key[curr - 1]) & mask;
+                    // move curr back only if its home slot is not cyclically within (last, pos]
+                    if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                    pos = (pos + 1) & mask;
+                }
+                t[last] = curr;
+            }
+        }
+
+        /** Takes an entry off the free list, or a fresh one, for {@code k}. */
+        private int allocate(long k) {
+            int e = free;
+            if(e >= 0) free = next[e];
+            else {
+                if(used == keys.length) {
+                    int cap = PrimitiveArrayList.newLength(used, 1, used >> 1);
+                    keys = Arrays.copyOf(keys, cap);
+                    prev = Arrays.copyOf(prev, cap);
+                    next = Arrays.copyOf(next, cap);
+                }
+                e = used++;
+            }
+            keys[e] = k;
+            return e;
+        }
+
+        private void linkLast(int e) {
+            prev[e] = tail;
+            next[e] = -1;
+            if(tail >= 0) next[tail] = e;
+            else head = e;
+            tail = e;
+        }
+
+        private void linkFirst(int e) {
+            next[e] = head;
+            prev[e] = -1;
+            if(head >= 0) prev[head] = e;
+            else tail = e;
+            head = e;
+        }
+
+        private void unlink(int e) {
+            int p = prev[e], n = next[e];
+            if(p >= 0) next[p] = n;
+            else head = n;
+            if(n >= 0) prev[n] = p;
+            else tail = p;
+        }
+
+        /** Inserts {@code k}, known to be absent, at table slot {@code ~slot}, linking it first or last. */
+        private void insert(long k, int slot, boolean first) {
+            int e = allocate(k);
+            table[~slot] = e + 1;
+            if(first) linkFirst(e);
+            else linkLast(e);
+            modCount++;
+            if(size++ >= maxFill) rehash(PrimitiveHashSet.tableSize(size + 1, loadFactor));
+        }
+
+        /** Removes the entry at table slot {@code pos}. */
+        private void removeSlot(int pos) {
+            int e = table[pos] - 1;
+            shiftSlots(pos);
+            unlink(e);
+            next[e] = free;
+            free = e;
+            size--;
+            modCount++;
+        }
+
+        private void rehash(int newN) {
+            final int[] t = new int[newN];
+            final int newMask = newN - 1;
+            final long[] key = keys;
+            for(int e = head; e >= 0; e = next[e]) {
+                int pos = PrimitiveHashSet.mix(key[e]) & newMask;
+                while(t[pos] != 0) pos = (pos + 1) & newMask;
+                t[pos] = e + 1;
+            }
+            table = t;
+            mask = newMask;
+            maxFill = PrimitiveHashSet.maxFill(newN, loadFactor);
+        }
+
+        /**
+         * Ensures that this set can hold at least {@code expected} elements
+         * without rehashing.
+         * @param expected the expected number of elements
+         */
+        public void ensureCapacity(int expected) {
+            int n = PrimitiveHashSet.tableSize(expected, loadFactor);
+            if(n > table.length) rehash(n);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsDouble(double e) { return find(java.lang.Double.doubleToLongBits(e)) >= 0; }
+
+        ///////////// Modification operations
+
+        /**
+         * Adds the specified element at the end of this set if it is not already present.
+         * An element that is present keeps its place.
+         * @param e element to be added to this set
+         * @return {@code true} if this set did not already contain the element
+         */
+        @Override
+        public boolean addDouble(double e) {
+            final long k = java.lang.Double.doubleToLongBits(e);
+            int slot = find(k);
+            if(slot >= 0) return false;
+            insert(k, slot, false);
+            return true;
+        }
+
+        /**
+         * Adds the specified element at the front of this set, moving it there if it is
+         * already present.
+         * @param e the element to be placed first
+         */
+        @Override
+        public void addFirstDouble(double e) {
+            final long k = java.lang.Double.doubleToLongBits(e);
+            int slot = find(k);
+            if(slot < 0) insert(k, slot, true);
+            else {
+                int x = table[slot] - 1;
+                if(x == head) return;
+                unlink(x);
+                linkFirst(x);
+                modCount++;
+            }
+        }
+
+        /**
+         * Adds the specified element at the end of this set, moving it there if it is
+         * already present.
+         * @param e the element to be placed last
+         */
+        @Override
+        public void addLastDouble(double e) {
+            final long k = java.lang.Double.doubleToLongBits(e);
+            int slot = find(k);
+            if(slot < 0) insert(k, slot, false);
+            else {
+                int x = table[slot] - 1;
+                if(x == tail) return;
+                unlink(x);
+                linkLast(x);
+                modCount++;
+            }
+        }
+
+        @Override
+        public void addLast(java.lang.Double e) { addLastDouble(e); }
+
+        @Override
+        public boolean removeDouble(double e) {
+            int slot = find(java.lang.Double.doubleToLongBits(e));
+            if(slot < 0) return false;
+            removeSlot(slot);
+            return true;
+        }
+
+        @Override
+        public double getFirstDouble() {
+            if(head < 0) throw new NoSuchElementException();
+            return java.lang.Double.longBitsToDouble(keys[head]);
+        }
+
+        @Override
+        public double getLastDouble() {
+            if(tail < 0) throw new NoSuchElementException();
+            return java.lang.Double.longBitsToDouble(keys[tail]);
+        }
+
+        @Override
+        public double removeFirstDouble() {
+            if(head < 0) throw new NoSuchElementException();
+            long k = keys[head];
+            removeSlot(find(k));
+            return java.lang.Double.longBitsToDouble(k);
+        }
+
+        @Override
+        public double removeLastDouble() {
+            if(tail < 0) throw new NoSuchElementException();
+            long k = keys[tail];
+            removeSlot(find(k));
+            return java.lang.Double.longBitsToDouble(k);
+        }
+
+        @Override
+        public void clear() {
+            if(size == 0 && used == 0) return;
+            modCount++;
+            Arrays.fill(table, 0);
+            head = tail = free = -1;
+            used = size = 0;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllDouble(PrimitiveCollection.OfDouble c) {
+            ensureCapacity(size + c.size());
+            return super.addAllDouble(c);
+        }
+
+        @Override
+        public boolean removeIfDouble(PrimitivePredicate.OfDouble filter) {
+            Objects.requireNonNull(filter);
+            boolean modified = false;
+            var it = iteratorDouble();
+            while(it.hasNext()) if(filter.testDouble(it.nextDouble())) {
+                it.remove();
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public double[] toArrayDouble() {
+            double[] a = new double[size];
+            final long[] key = keys;
+            for(int e = head, j = 0; e >= 0; e = next[e]) a[j++] = java.lang.Double.longBitsToDouble(key[e]);
+            return a;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfDouble action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final long[] key = keys;
+            final int[] n = next;
+            for(int e = head; e >= 0 && modCount == expectedModCount; e = n[e]) action.acceptDouble(java.lang.Double.longBitsToDouble(key[e]));
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators and views
+
+        @Override
+        public PrimitiveIterator.OfDouble iteratorDouble() { return new Itr(false); }
+
+        /**
+         * Creates a <em>fail-fast</em> spliterator over the elements in this set, in order.
+         * It reports {@link Spliterator#ORDERED}, {@link Spliterator#DISTINCT} and
+         * {@link Spliterator#SIZED}, and splits off array-backed prefixes.
+         * @return a spliterator over the elements in this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfDouble spliteratorDouble() { return new Spliter(head, size, false); }
+
+        @Override
+        public PrimitiveSequencedSet.OfDouble reversedDouble() {
+            Reversed r = reversed;
+            return r != null ? r : (reversed = new Reversed());
+        }
+
+        private final class Itr implements PrimitiveIterator.OfDouble {
+            private final boolean descending;
+            private int nextEntry;
+            private int lastRet = -1;
+            private int expectedModCount = modCount;
+
+            Itr(boolean descending) {
+                this.descending = descending;
+                nextEntry = descending ? tail : head;
+            }
+
+            public boolean hasNext() { return nextEntry >= 0; }
+
+            public double nextDouble() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int e = nextEntry;
+                if(e < 0) throw new NoSuchElementException();
+                nextEntry = descending ? prev[e] : next[e];
+                return java.lang.Double.longBitsToDouble(keys[lastRet = e]);
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                removeSlot(find(keys[lastRet]));
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfDouble {
+            private static final int MAX_BATCH = 1 << 12;
+            private int entry;
+            private int remaining;
+            private final boolean descending;
+            private final int expectedModCount = modCount;
+
+            Spliter(int entry, int remaining, boolean descending) {
+                this.entry = entry;
+                this.remaining = remaining;
+                this.descending = descending;
+            }
+
+            @Override
+            public PrimitiveSpliterator.OfDouble trySplit() {
+                int n = java.lang.Math.min(remaining >>> 1, MAX_BATCH);
+                if(n < 64) return null;
+                double[] a = new double[n];
+                final long[] key = keys;
+                final int[] link = descending ? prev : next;
+                int e = entry;
+                for(int j = 0; j < n; j++, e = link[e]) a[j] = java.lang.Double.longBitsToDouble(key[e]);
+                entry = e;
+                remaining -= n;
+                return new ArraySpliterator.OfDouble(a, 0, n, Spliterator.ORDERED | Spliterator.DISTINCT);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfDouble action) {
+                if(action == null) throw new NullPointerException();
+                if(remaining <= 0) return false;
+                int e = entry;
+                entry = descending ? prev[e] : next[e];
+                remaining--;
+                action.acceptDouble(java.lang.Double.longBitsToDouble(keys[e]));
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfDouble action) {
+                if(action == null) throw new NullPointerException();
+                final long[] key = keys;
+                final int[] link = descending ? prev : next;
+                int e = entry;
+                for(int r = remaining; r > 0; r--, e = link[e]) action.acceptDouble(java.lang.Double.longBitsToDouble(key[e]));
+                entry = e;
+                remaining = 0;
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return remaining; }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        /**
+         * The reverse-ordered view of the set, in the manner of {@code jdk.prim.util.rolv}:
+         * every operation maps onto the set with the ends swapped, and reversing it again
+         * gives back the set itself rather than another wrapper.
+         */
+        private final class Reversed extends PrimitiveAbstractSet.OfDouble implements PrimitiveSequencedSet.OfDouble {
+            @Override
+            public int size() { return size; }
+
+            @Override
+            public boolean isEmpty() { return size == 0; }
+
+            @Override
+            public boolean containsDouble(double e) { return PrimitiveLinkedHashSet.OfDouble.this.containsDouble(e); }
+
+            @Override
+            public boolean addDouble(double e) { return PrimitiveLinkedHashSet.OfDouble.this.addDouble(e); }
+
+            @Override
+            public boolean removeDouble(double e) { return PrimitiveLinkedHashSet.OfDouble.this.removeDouble(e); }
+
+            @Override
+            public void clear() { PrimitiveLinkedHashSet.OfDouble.this.clear(); }
+
+            @Override
+            public void addFirstDouble(double e) { PrimitiveLinkedHashSet.OfDouble.this.addLastDouble(e); }
+
+            @Override
+            public void addLastDouble(double e) { PrimitiveLinkedHashSet.OfDouble.this.addFirstDouble(e); }
+
+            @Override
+            public void addLast(java.lang.Double e) { addLastDouble(e); }
+
+            @Override
+            public double getFirstDouble() { return PrimitiveLinkedHashSet.OfDouble.this.getLastDouble(); }
+
+            @Override
+            public double getLastDouble() { return PrimitiveLinkedHashSet.OfDouble.this.getFirstDouble(); }
+
+            @Override
+            public double removeFirstDouble() { return PrimitiveLinkedHashSet.OfDouble.this.removeLastDouble(); }
+
+            @Override
+            public double removeLastDouble() { return PrimitiveLinkedHashSet.OfDouble.this.removeFirstDouble(); }
+
+            @Override
+            public PrimitiveSequencedSet.OfDouble reversedDouble() { return PrimitiveLinkedHashSet.OfDouble.this; }
+
+            @Override
+            public PrimitiveIterator.OfDouble iteratorDouble() { return new Itr(true); }
+
+            @Override
+            public PrimitiveSpliterator.OfDouble spliteratorDouble() { return new Spliter(tail, size, true); }
+
+            @Override
+            public double[] toArrayDouble() {
+                double[] a = new double[size];
+                final long[] key = keys;
+                for(int e = tail, j = 0; e >= 0; e = prev[e]) a[j++] = java.lang.Double.longBitsToDouble(key[e]);
+                return a;
+            }
+
+            @Override
+            public void forEach(PrimitiveConsumer.OfDouble action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final long[] key = keys;
+                final int[] p = prev;
+                for(int e = tail; e >= 0 && modCount == expectedModCount; e = p[e]) action.acceptDouble(java.lang.Double.longBitsToDouble(key[e]));
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        ///////////// Copying and hashing
+
+        /**
+         * Returns a shallow copy of this set, with the same order.
+         * @return a clone of this set
+         */
+        @Override
+        public PrimitiveLinkedHashSet.OfDouble clone() {
+            try {
+                var c = (PrimitiveLinkedHashSet.OfDouble) super.clone();
+                c.keys = keys.clone();
+                c.prev = prev.clone();
+                c.next = next.clone();
+                c.table = table.clone();
+                c.reversed = null;
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            final long[] key = keys;
+            for(int e = head; e >= 0; e = next[e]) h += java.lang.Double.hashCode(java.lang.Double.longBitsToDouble(key[e]));
+            return h;
+        }
+    }
+
+
+    /**
+     * A hash set of {@code long} values that remembers the order in which they were added.
+     * <p>
+     * Elements are kept unboxed in a flat {@code long[]} of entries, and the order is a doubly
+     * linked list threaded through parallel {@code int[]} arrays of previous and next entry
+     * indices, so no node objects are ever allocated. The hash table is a power-of-two
+     * {@code int[]} of entry indices, probed linearly; removals use backward-shift deletion on
+     * the table and recycle the entry through a free list, so entries never move.
+     * <p>
+     * {@link #containsLong(long)}, {@link #addLong(long)}, {@link #removeLong(long)},
+     * {@link #removeFirstLong()} and {@link #removeLastLong()} take expected constant time.
+     * {@link #addFirstLong(long)} and {@link #addLastLong(long)} move an element that is already
+     * present to the requested end. {@link #reversedLong()} is a live view whose own
+     * {@code reversedLong()} is this set. The iterators of this class and of its view are
+     * <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.LinkedHashSet}
+     */
+    public static class OfLong extends PrimitiveAbstractSet.OfLong implements PrimitiveSequencedSet.OfLong, Cloneable {
+        /** The stored form of each entry's element. */
+        private transient long[] keys;
+        /** The previous and next entry in order, {@code -1} at the ends. A free entry links the free list through {@code next}. */
+        private transient int[] prev, next;
+        /** The first and last entry in order, {@code -1} if empty. */
+        private transient int head = -1, tail = -1;
+        /** The head of the list of free entries below {@link #used}, or {@code -1}. */
+        private transient int free = -1;
+        /** The number of entries ever handed out; entries at and above it are unused. */
+        private transient int used;
+        /** The hash table of entry indices plus one; {@code 0} marks a free slot. */
+        private transient int[] table;
+        /** {@code table.length - 1}. */
+        private transient int mask;
+        /** The number of elements. */
+        private int size;
+        /** The number of elements the table may hold before it is doubled. */
+        private transient int maxFill;
+        /** The load factor of the table. */
+        private final float loadFactor;
+        /** The number of times this set has been structurally modified. */
+        private transient int modCount;
+        /** The reverse-ordered view, created on first use. */
+        private transient Reversed reversed;
+
+        /**
+         * Constructs an empty set able to hold {@code expected} elements
+         * without rehashing, using the given load factor.
+         * @param expected the expected number of elements
+         * @param loadFactor the load factor, in the range (0, 1)
+         * @throws IllegalArgumentException if {@code expected} is negative or
+         *         {@code loadFactor} is not in (0, 1)
+         */
+        public OfLong(int expected, float loadFactor) {
+            if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+            if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+            this.loadFactor = loadFactor;
+            int n = PrimitiveHashSet.tableSize(expected, loadFactor);
+            table = new int[n];
+            mask = n - 1;
+            maxFill = PrimitiveHashSet.maxFill(n, loadFactor);
+            int cap = java.lang.Math.max(expected, 2);
+            keys = new long[cap];
+            prev = new int[cap];
+            next = new int[cap];
+        }
+
+        /**
+         * Constructs an empty set able to hold {@code expected} elements
+         * without rehashing, using the default load factor.
+         * @param expected the expected number of elements
+         */
+        public OfLong(int expected) { this(expected, PrimitiveHashSet.DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs an empty set with the default capacity and load factor.
+         */
+        public OfLong() { this(PrimitiveHashSet.DEFAULT_EXPECTED, PrimitiveHashSet.DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs a set containing the elements of the specified collection, in the
+         * order its iterator returns them.
+         * @param c the collection whose elements are to be placed into this set
+         */
+        public OfLong(PrimitiveCollection.OfLong c) {
+            this(c.size(), PrimitiveHashSet.DEFAULT_LOAD_FACTOR);
+            addAllLong(c);
+        }
+
+        ///////////// Table and entry maintenance
+
+        /**
+         * Returns the table slot holding {@code k}, or {@code ~slot} of the free slot where
+         * it would go.
+         */
+        private int find(long k) {
+            final int[] t = table;
+            final long[] key = keys;
+            int pos = PrimitiveHashSet.mix(k) & mask, e;
+            while((e = t[pos]) != 0) {
+                if(key[e - 1] == k) return pos;
+                pos = (pos + 1) & mask;
+            }
+            return ~pos;
+        }
+
+        /**
+         * Closes the gap left at table slot {@code pos} by moving back every following
+         * entry of the probe run that would otherwise become unreachable.
+         */
+        private void shiftSlots(int pos) {
+            final int[] t = table;
+            final long[] key = keys;
+            int last, slot, curr;
+            for(;;) {
+                pos = ((last = pos) + 1) & mask;
+                for(;;) {
+                    if((curr = t[pos]) == 0) {
+                        t[last] = 0;
+                        return;
+                    }
+                    slot = PrimitiveHashSet.mix(key[curr - 1]) & mask;
+                    // move curr back only if its home slot is not cyclically within (last, pos]
+                    if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                    pos = (pos + 1) & mask;
+                }
+                t[last] = curr;
+            }
+        }
+
+        /** Takes an entry off the free list, or a fresh one, for {@code k}. */
+        private int allocate(long k) {
+            int e = free;
+            if(e >= 0) free = next[e];
+            else {
+                if(used == keys.length) {
+                    int cap = PrimitiveArrayList.newLength(used, 1, used >> 1);
+                    keys = Arrays.copyOf(keys, cap);
+                    prev = Arrays.copyOf(prev, cap);
+                    next = Arrays.copyOf(next, cap);
+                }
+                e = used++;
+            }
+            keys[e] = k;
+            return e;
+        }
+
+        private void linkLast(int e) {
+            prev[e] = tail;
+            next[e] = -1;
+            if(tail >= 0) next[tail] = e;
+            else head = e;
+            tail = e;
+        }
+
+        private void linkFirst(int e) {
+            next[e] = head;
+            prev[e] = -1;
+            if(head >= 0) prev[head] = e;
+            else tail = e;
+            head = e;
+        }
+
+        private void unlink(int e) {
+            int p = prev[e], n = next[e];
+            if(p >= 0) next[p] = n;
+            else head = n;
+            if(n >= 0) prev[n] = p;
+            else tail = p;
+        }
+
+        /** Inserts {@code k}, known to be absent, at table slot {@code ~slot}, linking it first or last. */
+        private void insert(long k, int slot, boolean first) {
+            int e = allocate(k);
+            table[~slot] = e + 1;
+            if(first) linkFirst(e);
+            else linkLast(e);
+            modCount++;
+            if(size++ >= maxFill) rehash(PrimitiveHashSet.tableSize(size + 1, loadFactor));
+        }
+
+        /** Removes the entry at table slot {@code pos}. */
+        private void removeSlot(int pos) {
+            int e = table[pos] - 1;
+            shiftSlots(pos);
+            unlink(e);
+            next[e] = free;
+            free = e;
+            size--;
+            modCount++;
+        }
+
+        private void rehash(int newN) {
+            final int[] t = new int[newN];
+            final int newMask = newN - 1;
+            final long[] key = keys;
+            for(int e = head; e >= 0; e = next[e]) {
+                int pos = PrimitiveHashSet.mix(key[e]) & newMask;
+                while(t[pos] != 0) pos = (pos + 1) & newMask;
+                t[pos] = e + 1;
+            }
+            table = t;
+            mask = newMask;
+            maxFill = PrimitiveHashSet.maxFill(newN, loadFactor);
+        }
+
+        /**
+         * Ensures that this set can hold at least {@code expected} elements
+         * without rehashing.
+         * @param expected the expected number of elements
+         */
+        public void ensureCapacity(int expected) {
+            int n = PrimitiveHashSet.tableSize(expected, loadFactor);
+            if(n > table.length) rehash(n);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsLong(long e) { return find(e) >= 0; }
+
+        ///////////// Modification operations
+
+        /**
+         * Adds the specified element at the end of this set if it is not already present.
+         * An element that is present keeps its place.
+         * @param e element to be added to this set
+         * @return {@code true} if this set did not already contain the element
+         */
+        @Override
+        public boolean addLong(long e) {
+            final long k = e;
+            int slot = find(k);
+            if(slot >= 0) return false;
+            insert(k, slot, false);
+            return true;
+        }
+
+        /**
+         * Adds the specified element at the front of this set, moving it there if it is
+         * already present.
+         * @param e the element to be placed first
+         */
+        @Override
+        public void addFirstLong(long e) {
+            final long k = e;
+            int slot = find(k);
+            if(slot < 0) insert(k, slot, true);
+            else {
+                int x = table[slot] - 1;
+                if(x == head) return;
+                unlink(x);
+                linkFirst(x);
+                modCount++;
+            }
+        }
+
+        /**
+         * Adds the specified element at the end of this set, moving it there if it is
+         * already present.
+         * @param e the element to be placed last
+         */
+        @Override
+        public void addLastLong(long e) {
+            final long k = e;
+            int slot = find(k);
+            if(slot < 0) insert(k, slot, false);
+            else {
+                int x = table[slot] - 1;
+                if(x == tail) return;
+                unlink(x);
+                linkLast(x);
+                modCount++;
+            }
+        }
+
+        @Override
+        public void addLast(java.lang.Long e) { addLastLong(e); }
+
+        @Override
+        public boolean removeLong(long e) {
+            int slot = find(e);
+            if(slot < 0) return false;
+            removeSlot(slot);
+            return true;
+        }
+
+        @Override
+        public long getFirstLong() {
+            if(head < 0) throw new NoSuchElementException();
+            return keys[head];
+        }
+
+        @Override
+        public long getLastLong() {
+            if(tail < 0) throw new NoSuchElementException();
+            return keys[tail];
+        }
+
+        @Override
+        public long removeFirstLong() {
+            if(head < 0) throw new NoSuchElementException();
+            long k = keys[head];
+            removeSlot(find(k));
+            return k;
+        }
+
+        @Override
+        public long removeLastLong() {
+            if(tail < 0) throw new NoSuchElementException();
+            long k = keys[tail];
+            removeSlot(find(k));
+            return k;
+        }
+
+        @Override
+        public void clear() {
+            if(size == 0 && used == 0) return;
+            modCount++;
+            Arrays.fill(table, 0);
+            head = tail = free = -1;
+            used = size = 0;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllLong(PrimitiveCollection.OfLong c) {
+            ensureCapacity(size + c.size());
+            return super.addAllLong(c);
+        }
+
+        @Override
+        public boolean removeIfLong(PrimitivePredicate.OfLong filter) {
+            Objects.requireNonNull(filter);
+            boolean modified = false;
+            var it = iteratorLong();
+            while(it.hasNext()) if(filter.testLong(it.nextLong())) {
+                it.remove();
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public long[] toArrayLong() {
+            long[] a = new long[size];
+            final long[] key = keys;
+            for(int e = head, j = 0; e >= 0; e = next[e]) a[j++] = key[e];
+            return a;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfLong action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final long[] key = keys;
+            final int[] n = next;
+            for(int e = head; e >= 0 && modCount == expectedModCount; e = n[e]) action.acceptLong(key[e]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators and views
+
+        @Override
+        public PrimitiveIterator.OfLong iteratorLong() { return new Itr(false); }
+
+        /**
+         * Creates a <em>fail-fast</em> spliterator over the elements in this set, in order.
+         * It reports {@link Spliterator#ORDERED}, {@link Spliterator#DISTINCT} and
+         * {@link Spliterator#SIZED}, and splits off array-backed prefixes.
+         * @return a spliterator over the elements in this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfLong spliteratorLong() { return new Spliter(head, size, false); }
+
+        @Override
+        public PrimitiveSequencedSet.OfLong reversedLong() {
+            Reversed r = reversed;
+            return r != null ? r : (reversed = new Reversed());
+        }
+
+        private final class Itr implements PrimitiveIterator.OfLong {
+            private final boolean descending;
+            private int nextEntry;
+            private int lastRet = -1;
+            private int expectedModCount = modCount;
+
+            Itr(boolean descending) {
+                this.descending = descending;
+                nextEntry = descending ? tail : head;
+            }
+
+            public boolean hasNext() { return nextEntry >= 0; }
+
+            public long nextLong() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int e = nextEntry;
+                if(e < 0) throw new NoSuchElementException();
+                nextEntry = descending ? prev[e] : next[e];
+                return keys[lastRet = e];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                removeSlot(find(keys[lastRet]));
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfLong {
+            private static final int MAX_BATCH = 1 << 12;
+            private int entry;
+            private int remaining;
+            private final boolean descending;
+            private final int expectedModCount = modCount;
+
+            Spliter(int entry, int remaining, boolean descending) {
+                this.entry = entry;
+                this.remaining = remaining;
+                this.descending = descending;
+            }
+
+            @Override
+            public PrimitiveSpliterator.OfLong trySplit() {
+                int n = java.lang.Math.min(remaining >>> 1, MAX_BATCH);
+                if(n < 64) return null;
+                long[] a = new long[n];
+                final long[] key = keys;
+                final int[] link = descending ? prev : next;
+                int e = entry;
+                for(int j = 0; j < n; j++, e = link[e]) a[j] = key[e];
+                entry = e;
+                remaining -= n;
+                return new ArraySpliterator.OfLong(a, 0, n, Spliterator.ORDERED | Spliterator.DISTINCT);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfLong action) {
+                if(action == null) throw new NullPointerException();
+                if(remaining <= 0) return false;
+                int e = entry;
+                entry = descending ? prev[e] : next[e];
+                remaining--;
+                action.acceptLong(keys[e]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfLong action) {
+                if(action == null) throw new NullPointerException();
+                final long[] key = keys;
+                final int[] link = descending ? prev : next;
+                int e = entry;
+                for(int r = remaining; r > 0; r--, e = link[e]) action.acceptLong(key[e]);
+                entry = e;
+                remaining = 0;
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return remaining; }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        /**
+         * The reverse-ordered view of the set, in the manner of {@code jdk.prim.util.rolv}:
+         * every operation maps onto the set with the ends swapped, and reversing it again
+         * gives back the set itself rather than another wrapper.
+         */
+        private final class Reversed extends PrimitiveAbstractSet.OfLong implements PrimitiveSequencedSet.OfLong {
+            @Override
+            public int size() { return size; }
+
+            @Override
+            public boolean isEmpty() { return size == 0; }
+
+            @Override
+            public boolean containsLong(long e) { return PrimitiveLinkedHashSet.OfLong.this.containsLong(e); }
+
+            @Override
+            public boolean addLong(long e) { return PrimitiveLinkedHashSet.OfLong.this.addLong(e); }
+
+            @Override
+            public boolean removeLong(long e) { return PrimitiveLinkedHashSet.OfLong.this.removeLong(e); }
+
+            @Override
+            public void clear() { PrimitiveLinkedHashSet.OfLong.this.clear(); }
+
+            @Override
+            public void addFirstLong(long e) { PrimitiveLinkedHashSet.OfLong.this.addLastLong(e); }
+
+            @Override
+            public void addLastLong(long e) { PrimitiveLinkedHashSet.OfLong.this.addFirstLong(e); }
+
+            @Override
+            public void addLast(java.lang.Long e) { addLastLong(e); }
+
+            @Override
+            public long getFirstLong() { return PrimitiveLinkedHashSet.OfLong.this.getLastLong(); }
+
+            @Override
+            public long getLastLong() { return PrimitiveLinkedHashSet.OfLong.this.getFirstLong(); }
+
+            @Override
+            public long removeFirstLong() { return PrimitiveLinkedHashSet.OfLong.this.removeLastLong(); }
+
+            @Override
+            public long removeLastLong() { return PrimitiveLinkedHashSet.OfLong.this.removeFirstLong(); }
+
+            @Override
+            public PrimitiveSequencedSet.OfLong reversedLong() { return PrimitiveLinkedHashSet.OfLong.this; }
+
+            @Override
+            public PrimitiveIterator.OfLong iteratorLong() { return new Itr(true); }
+
+            @Override
+            public PrimitiveSpliterator.OfLong spliteratorLong() { return new Spliter(tail, size, true); }
+
+            @Override
+            public long[] toArrayLong() {
+                long[] a = new long[size];
+                final long[] key = keys;
+                for(int e = tail, j = 0; e >= 0; e = prev[e]) a[j++] = key[e];
+                return a;
+            }
+
+            @Override
+            public void forEach(PrimitiveConsumer.OfLong action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final long[] key = keys;
+                final int[] p = prev;
+                for(int e = tail; e >= 0 && modCount == expectedModCount; e = p[e]) action.acceptLong(key[e]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        ///////////// Copying and hashing
+
+        /**
+         * Returns a shallow copy of this set, with the same order.
+         * @return a clone of this set
+         */
+        @Override
+        public PrimitiveLinkedHashSet.OfLong clone() {
+            try {
+                var c = (PrimitiveLinkedHashSet.OfLong) super.clone();
+                c.keys = keys.clone();
+                c.prev = prev.clone();
+                c.next = next.clone();
+                c.table = table.clone();
+                c.reversed = null;
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            final long[] key = keys;
+            for(int e = head; e >= 0; e = next[e]) h += java.lang.Long.hashCode(key[e]);
+            return h;
+        }
+    }
+
+
+    /**
+     * A hash set of {@code int} values that remembers the order in which they were added.
+     * <p>
+     * Elements are kept unboxed in a flat {@code int[]} of entries, and the order is a doubly
+     * linked list threaded through parallel {@code int[]} arrays of previous and next entry
+     * indices, so no node objects are ever allocated. The hash table is a power-of-two
+     * {@code int[]} of entry indices, probed linearly; removals use backward-shift deletion on
+     * the table and recycle the entry through a free list, so entries never move.
+     * <p>
+     * {@link #containsInt(int)}, {@link #addInt(int)}, {@link #removeInt(int)},
+     * {@link #removeFirstInt()} and {@link #removeLastInt()} take expected constant time.
+     * {@link #addFirstInt(int)} and {@link #addLastInt(int)} move an element that is already
+     * present to the requested end. {@link #reversedInt()} is a live view whose own
+     * {@code reversedInt()} is this set. The iterators of this class and of its view are
+     * <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.LinkedHashSet}
+     */
+    public static class OfInt extends PrimitiveAbstractSet.OfInt implements PrimitiveSequencedSet.OfInt, Cloneable {
+        /** The stored form of each entry's element. */
+        private transient int[] keys;
+        /** The previous and next entry in order, {@code -1} at the ends. A free entry links the free list through {@code next}. */
+        private transient int[] prev, next;
+        /** The first and last entry in order, {@code -1} if empty. */
+        private transient int head = -1, tail = -1;
+        /** The head of the list of free entries below {@link #used}, or {@code -1}. */
+        private transient int free = -1;
+        /** The number of entries ever handed out; entries at and above it are unused. */
+        private transient int used;
+        /** The hash table of entry indices plus one; {@code 0} marks a free slot. */
+        private transient int[] table;
+        /** {@code table.length - 1}. */
+        private transient int mask;
+        /** The number of elements. */
+        private int size;
+        /** The number of elements the table may hold before it is doubled. */
+        private transient int maxFill;
+        /** The load factor of the table. */
+        private final float loadFactor;
+        /** The number of times this set has been structurally modified. */
+        private transient int modCount;
+        /** The reverse-ordered view, created on first use. */
+        private transient Reversed reversed;
+
+        /**
+         * Constructs an empty set able to hold {@code expected} elements
+         * without rehashing, using the given load factor.
+         * @param expected the expected number of elements
+         * @param loadFactor the load factor, in the range (0, 1)
+         * @throws IllegalArgumentException if {@code expected} is negative or
+         *         {@code loadFactor} is not in (0, 1)
+         */
+        public OfInt(int expected, float loadFactor) {
+            if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+            if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+            this.loadFactor = loadFactor;
+            int n = PrimitiveHashSet.tableSize(expected, loadFactor);
+            table = new int[n];
+            mask = n - 1;
+            maxFill = PrimitiveHashSet.maxFill(n, loadFactor);
+            int cap = java.lang.Math.max(expected, 2);
+            keys = new int[cap];
+            prev = new int[cap];
+            next = new int[cap];
+        }
+
+        /**
+         * Constructs an empty set able to hold {@code expected} elements
+         * without rehashing, using the default load factor.
+         * @param expected the expected number of elements
+         */
+        public OfInt(int expected) { this(expected, PrimitiveHashSet.DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs an empty set with the default capacity and load factor.
+         */
+        public OfInt() { this(PrimitiveHashSet.DEFAULT_EXPECTED, PrimitiveHashSet.DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs a set containing the elements of the specified collection, in the
+         * order its iterator returns them.
+         * @param c the collection whose elements are to be placed into this set
+         */
+        public OfInt(PrimitiveCollection.OfInt c) {
+            this(c.size(), PrimitiveHashSet.DEFAULT_LOAD_FACTOR);
+            addAllInt(c);
+        }
+
+        ///////////// Table and entry maintenance
+
+        /**
+         * Returns the table slot holding {@code k}, or {@code ~slot} of the free slot where
+         * it would go.
+         */
+        private int find(int k) {
+            final int[] t = table;
+            final int[] key = keys;
+            int pos = PrimitiveHashSet.mix(k) & mask, e;
+            while((e = t[pos]) != 0) {
+                if(key[e - 1] == k) return pos;
+                pos = (pos + 1) & mask;
+            }
+            return ~pos;
+        }
+
+        /**
+         * Closes the gap left at table slot {@code pos} by moving back every following
+         * entry of the probe run that would otherwise become unreachable.
+         */
+        private void shiftSlots(int pos) {
+            final int[] t = table;
+            final int[] key = keys;
+            int last, slot, curr;
+            for(;;) {
+                pos = ((last = pos) + 1) & mask;
+                for(;;) {
+                    if((curr = t[pos]) == 0) {
+                        t[last] = 0;
+                        return;
+                    }
+                    slot = PrimitiveHashSet.mix(key[curr - 1]) & mask;
+                    // move curr back only if its home slot is not cyclically within (last, pos]
+                    if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                    pos = (pos + 1) & mask;
+                }
+                t[last] = curr;
+            }
+        }
+
+        /** Takes an entry off the free list, or a fresh one, for {@code k}. */
+        private int allocate(int k) {
+            int e = free;
+            if(e >= 0) free = next[e];
+            else {
+                if(used == keys.length) {
+                    int cap = PrimitiveArrayList.newLength(used, 1, used >> 1);
+                    keys = Arrays.copyOf(keys, cap);
+                    prev = Arrays.copyOf(prev, cap);
+                    next = Arrays.copyOf(next, cap);
+                }
+                e = used++;
+            }
+            keys[e] = k;
+            return e;
+        }
+
+        private void linkLast(int e) {
+            prev[e] = tail;
+            next[e] = -1;
+            if(tail >= 0) next[tail] = e;
+            else head = e;
+            tail = e;
+        }
+
+        private void linkFirst(int e) {
+            next[e] = head;
+            prev[e] = -1;
+            if(head >= 0) prev[head] = e;
+            else tail = e;
+            head = e;
+        }
+
+        private void unlink(int e) {
+            int p = prev[e], n = next[e];
+            if(p >= 0) next[p] = n;
+            else head = n;
+            if(n >= 0) prev[n] = p;
+            else tail = p;
+        }
+
+        /** Inserts {@code k}, known to be absent, at table slot {@code ~slot}, linking it first or last. */
+        private void insert(int k, int slot, boolean first) {
+            int e = allocate(k);
+            table[~slot] = e + 1;
+            if(first) linkFirst(e);
+            else linkLast(e);
+            modCount++;
+            if(size++ >= maxFill) rehash(PrimitiveHashSet.tableSize(size + 1, loadFactor));
+        }
+
+        /** Removes the entry at table slot {@code pos}. */
+        private void removeSlot(int pos) {
+            int e = table[pos] - 1;
+            shiftSlots(pos);
+            unlink(e);
+            next[e] = free;
+            free = e;
+            size--;
+            modCount++;
+        }
+
+        private void rehash(int newN) {
+            final int[] t = new int[newN];
+            final int newMask = newN - 1;
+            final int[] key = keys;
+            for(int e = head; e >= 0; e = next[e]) {
+                int pos = PrimitiveHashSet.mix(key[e]) & newMask;
+                while(t[pos] != 0) pos = (pos + 1) & newMask;
+                t[pos] = e + 1;
+            }
+            table = t;
+            mask = newMask;
+            maxFill = PrimitiveHashSet.maxFill(newN, loadFactor);
+        }
+
+        /**
+         * Ensures that this set can hold at least {@code expected} elements
+         * without rehashing.
+         * @param expected the expected number of elements
+         */
+        public void ensureCapacity(int expected) {
+            int n = PrimitiveHashSet.tableSize(expected, loadFactor);
+            if(n > table.length) rehash(n);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsInt(int e) { return find(e) >= 0; }
+
+        ///////////// Modification operations
+
+        /**
+         * Adds the specified element at the end of this set if it is not already present.
+         * An element that is present keeps its place.
+         * @param e element to be added to this set
+         * @return {@code true} if this set did not already contain the element
+         */
+        @Override
+        public boolean addInt(int e) {
+            final int k = e;
+            int slot = find(k);
+            if(slot >= 0) return false;
+            insert(k, slot, false);
+            return true;
+        }
+
+        /**
+         * Adds the specified element at the front of this set, moving it there if it is
+         * already present.
+         * @param e the element to be placed first
+         */
+        @Override
+        public void addFirstInt(int e) {
+            final int k = e;
+            int slot = find(k);
+            if(slot < 0) insert(k, slot, true);
+            else {
+                int x = table[slot] - 1;
+                if(x == head) return;
+                unlink(x);
+                linkFirst(x);
+                modCount++;
+            }
+        }
+
+        /**
+         * Adds the specified element at the end of this set, moving it there if it is
+         * already present.
+         * @param e the element to be placed last
+         */
+        @Override
+        public void addLastInt(int e) {
+            final int k = e;
+            int slot = find(k);
+            if(slot < 0) insert(k, slot, false);
+            else {
+                int x = table[slot] - 1;
+                if(x == tail) return;
+                unlink(x);
+                linkLast(x);
+                modCount++;
+            }
+        }
+
+        @Override
+        public void addLast(java.lang.Integer e) { addLastInt(e); }
+
+        @Override
+        public boolean removeInt(int e) {
+            int slot = find(e);
+            if(slot < 0) return false;
+            removeSlot(slot);
+            return true;
+        }
+
+        @Override
+        public int getFirstInt() {
+            if(head < 0) throw new NoSuchElementException();
+            return keys[head];
+        }
+
+        @Override
+        public int getLastInt() {
+            if(tail < 0) throw new NoSuchElementException();
+            return keys[tail];
+        }
+
+        @Override
+        public int removeFirstInt() {
+            if(head < 0) throw new NoSuchElementException();
+            int k = keys[head];
+            removeSlot(find(k));
+            return k;
+        }
+
+        @Override
+        public int removeLastInt() {
+            if(tail < 0) throw new NoSuchElementException();
+            int k = keys[tail];
+            removeSlot(find(k));
+            return k;
+        }
+
+        @Override
+        public void clear() {
+            if(size == 0 && used == 0) return;
+            modCount++;
+            Arrays.fill(table, 0);
+            head = tail = free = -1;
+            used = size = 0;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllInt(PrimitiveCollection.OfInt c) {
+            ensureCapacity(size + c.size());
+            return super.addAllInt(c);
+        }
+
+        @Override
+        public boolean removeIfInt(PrimitivePredicate.OfInt filter) {
+            Objects.requireNonNull(filter);
+            boolean modified = false;
+            var it = iteratorInt();
+            while(it.hasNext()) if(filter.testInt(it.nextInt())) {
+                it.remove();
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public int[] toArrayInt() {
+            int[] a = new int[size];
+            final int[] key = keys;
+            for(int e = head, j = 0; e >= 0; e = next[e]) a[j++] = key[e];
+            return a;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfInt action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final int[] key = keys;
+            final int[] n = next;
+            for(int e = head; e >= 0 && modCount == expectedModCount; e = n[e]) action.acceptInt(key[e]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators and views
+
+        @Override
+        public PrimitiveIterator.OfInt iteratorInt() { return new Itr(false); }
+
+        /**
+         * Creates a <em>fail-fast</em> spliterator over the elements in this set, in order.
+         * It reports {@link Spliterator#ORDERED}, {@link Spliterator#DISTINCT} and
+         * {@link Spliterator#SIZED}, and splits off array-backed prefixes.
+         * @return a spliterator over the elements in this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfInt spliteratorInt() { return new Spliter(head, size, false); }
+
+        @Override
+        public PrimitiveSequencedSet.OfInt reversedInt() {
+            Reversed r = reversed;
+            return r != null ? r : (reversed = new Reversed());
+        }
+
+        private final class Itr implements PrimitiveIterator.OfInt {
+            private final boolean descending;
+            private int nextEntry;
+            private int lastRet = -1;
+            private int expectedModCount = modCount;
+
+            Itr(boolean descending) {
+                this.descending = descending;
+                nextEntry = descending ? tail : head;
+            }
+
+            public boolean hasNext() { return nextEntry >= 0; }
+
+            public int nextInt() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int e = nextEntry;
+                if(e < 0) throw new NoSuchElementException();
+                nextEntry = descending ? prev[e] : next[e];
+                return keys[lastRet = e];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                removeSlot(find(keys[lastRet]));
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfInt {
+            private static final int MAX_BATCH = 1 << 12;
+            private int entry;
+            private int remaining;
+            private final boolean descending;
+            private final int expectedModCount = modCount;
+
+            Spliter(int entry, int remaining, boolean descending) {
+                this.entry = entry;
+                this.remaining = remaining;
+                this.descending = descending;
+            }
+
+            @Override
+            public PrimitiveSpliterator.OfInt trySplit() {
+                int n = java.lang.Math.min(remaining >>> 1, MAX_BATCH);
+                if(n < 64) return null;
+                int[] a = new int[n];
+                final int[] key = keys;
+                final int[] link = descending ? prev : next;
+                int e = entry;
+                for(int j = 0; j < n; j++, e = link[e]) a[j] = key[e];
+                entry = e;
+                remaining -= n;
+                return new ArraySpliterator.OfInt(a, 0, n, Spliterator.ORDERED | Spliterator.DISTINCT);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfInt action) {
+                if(action == null) throw new NullPointerException();
+                if(remaining <= 0) return false;
+                int e = entry;
+                entry = descending ? prev[e] : next[e];
+                remaining--;
+                action.acceptInt(keys[e]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfInt action) {
+                if(action == null) throw new NullPointerException();
+                final int[] key = keys;
+                final int[] link = descending ? prev : next;
+                int e = entry;
+                for(int r = remaining; r > 0; r--, e = link[e]) action.acceptInt(key[e]);
+                entry = e;
+                remaining = 0;
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return remaining; }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        /**
+         * The reverse-ordered view of the set, in the manner of {@code jdk.prim.util.rolv}:
+         * every operation maps onto the set with the ends swapped, and reversing it again
+         * gives back the set itself rather than another wrapper.
+         */
+        private final class Reversed extends PrimitiveAbstractSet.OfInt implements PrimitiveSequencedSet.OfInt {
+            @Override
+            public int size() { return size; }
+
+            @Override
+            public boolean isEmpty() { return size == 0; }
+
+            @Override
+            public boolean containsInt(int e) { return PrimitiveLinkedHashSet.OfInt.this.containsInt(e); }
+
+            @Override
+            public boolean addInt(int e) { return PrimitiveLinkedHashSet.OfInt.this.addInt(e); }
+
+            @Override
+            public boolean removeInt(int e) { return PrimitiveLinkedHashSet.OfInt.this.removeInt(e); }
+
+            @Override
+            public void clear() { PrimitiveLinkedHashSet.OfInt.this.clear(); }
+
+            @Override
+            public void addFirstInt(int e) { PrimitiveLinkedHashSet.OfInt.this.addLastInt(e); }
+
+            @Override
+            public void addLastInt(int e) { PrimitiveLinkedHashSet.OfInt.this.addFirstInt(e); }
+
+            @Override
+            public void addLast(java.lang.Integer e) { addLastInt(e); }
+
+            @Override
+            public int getFirstInt() { return PrimitiveLinkedHashSet.OfInt.this.getLastInt(); }
+
+            @Override
+            public int getLastInt() { return PrimitiveLinkedHashSet.OfInt.this.getFirstInt(); }
+
+            @Override
+            public int removeFirstInt() { return PrimitiveLinkedHashSet.OfInt.this.removeLastInt(); }
+
+            @Override
+            public int removeLastInt() { return PrimitiveLinkedHashSet.OfInt.this.removeFirstInt(); }
+
+            @Override
+            public PrimitiveSequencedSet.OfInt reversedInt() { return PrimitiveLinkedHashSet.OfInt.this; }
+
+            @Override
+            public PrimitiveIterator.OfInt iteratorInt() { return new Itr(true); }
+
+            @Override
+            public PrimitiveSpliterator.OfInt spliteratorInt() { return new Spliter(tail, size, true); }
+
+            @Override
+            public int[] toArrayInt() {
+                int[] a = new int[size];
+                final int[] key = keys;
+                for(int e = tail, j = 0; e >= 0; e = prev[e]) a[j++] = key[e];
+                return a;
+            }
+
+            @Override
+            public void forEach(PrimitiveConsumer.OfInt action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final int[] key = keys;
+                final int[] p = prev;
+                for(int e = tail; e >= 0 && modCount == expectedModCount; e = p[e]) action.acceptInt(key[e]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        ///////////// Copying and hashing
+
+        /**
+         * Returns a shallow copy of this set, with the same order.
+         * @return a clone of this set
+         */
+        @Override
+        public PrimitiveLinkedHashSet.OfInt clone() {
+            try {
+                var c = (PrimitiveLinkedHashSet.OfInt) super.clone();
+                c.keys = keys.clone();
+                c.prev = prev.clone();
+                c.next = next.clone();
+                c.table = table.clone();
+                c.reversed = null;
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            final int[] key = keys;
+            for(int e = head; e >= 0; e = next[e]) h += java.lang.Integer.hashCode(key[e]);
+            return h;
+        }
+    }
+
+
+    /**
+     * A hash set of {@code float} values that remembers the order in which they were added.
+     * <p>
+     * Elements are kept unboxed in a flat {@code int[]} of entries, and the order is a doubly
+     * linked list threaded through parallel {@code int[]} arrays of previous and next entry
+     * indices, so no node objects are ever allocated. The hash table is a power-of-two
+     * {@code int[]} of entry indices, probed linearly; removals use backward-shift deletion on
+     * the table and recycle the entry through a free list, so entries never move. Members are compared by
+     * {@link java.lang.Float#floatToIntBits(float) bit pattern}, exactly as
+     * {@link java.lang.Float#equals(Object)} does.
+     * <p>
+     * {@link #containsFloat(float)}, {@link #addFloat(float)}, {@link #removeFloat(float)},
+     * {@link #removeFirstFloat()} and {@link #removeLastFloat()} take expected constant time.
+     * {@link #addFirstFloat(float)} and {@link #addLastFloat(float)} move an element that is already
+     * present to the requested end. {@link #reversedFloat()} is a live view whose own
+     * {@code reversedFloat()} is this set. The iterators of this class and of its view are
+     * <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.LinkedHashSet}
+     */
+    public static class OfFloat extends PrimitiveAbstractSet.OfFloat implements PrimitiveSequencedSet.OfFloat, Cloneable {
+        /** The stored form of each entry's element. */
+        private transient int[] keys;
+        /** The previous and next entry in order, {@code -1} at the ends. A free entry links the free list through {@code next}. */
+        private transient int[] prev, next;
+        /** The first and last entry in order, {@code -1} if empty. */
+        private transient int head = -1, tail = -1;
+        /** The head of the list of free entries below {@link #used}, or {@code -1}. */
+        private transient int free = -1;
+        /** The number of entries ever handed out; entries at and above it are unused. */
+        private transient int used;
+        /** The hash table of entry indices plus one; {@code 0} marks a free slot. */
+        private transient int[] table;
+        /** {@code table.length - 1}. */
+        private transient int mask;
+        /** The number of elements. */
+        private int size;
+        /** The number of elements the table may hold before it is doubled. */
+        private transient int maxFill;
+        /** The load factor of the table. */
+        private final float loadFactor;
+        /** The number of times this set has been structurally modified. */
+        private transient int modCount;
+        /** The reverse-ordered view, created on first use. */
+        private transient Reversed reversed;
+
+        /**
+         * Constructs an empty set able to hold {@code expected} elements
+         * without rehashing, using the given load factor.
+         * @param expected the expected number of elements
+         * @param loadFactor the load factor, in the range (0, 1)
+         * @throws IllegalArgumentException if {@code expected} is negative or
+         *         {@code loadFactor} is not in (0, 1)
+         */
+        public OfFloat(int expected, float loadFactor) {
+            if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+            if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+            this.loadFactor = loadFactor;
+            int n = PrimitiveHashSet.tableSize(expected, loadFactor);
+            table = new int[n];
+            mask = n - 1;
+            maxFill = PrimitiveHashSet.maxFill(n, loadFactor);
+            int cap = java.lang.Math.max(expected, 2);
+            keys = new int[cap];
+            prev = new int[cap];
+            next = new int[cap];
+        }
+
+        /**
+         * Constructs an empty set able to hold {@code expected} elements
+         * without rehashing, using the default load factor.
+         * @param expected the expected number of elements
+         */
+        public OfFloat(int expected) { this(expected, PrimitiveHashSet.DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs an empty set with the default capacity and load factor.
+         */
+        public OfFloat() { this(PrimitiveHashSet.DEFAULT_EXPECTED, PrimitiveHashSet.DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs a set containing the elements of the specified collection, in the
+         * order its iterator returns them.
+         * @param c the collection whose elements are to be placed into this set
+         */
+        public OfFloat(PrimitiveCollection.OfFloat c) {
+            this(c.size(), PrimitiveHashSet.DEFAULT_LOAD_FACTOR);
+            addAllFloat(c);
+        }
+
+        ///////////// Table and entry maintenance
+
+        /**
+         * Returns the table slot holding {@code k}, or {@code ~slot} of the free slot where
+         * it would go.
+         */
+        private int find(int k) {
+            final int[] t = table;
+            final int[] key = keys;
+            int pos = PrimitiveHashSet.mix(k) & mask, e;
+            while((e = t[pos]) != 0) {
+                if(key[e - 1] == k) return pos;
+                pos = (pos + 1) & mask;
+            }
+            return ~pos;
+        }
+
+        /**
+         * Closes the gap left at table slot {@code pos} by moving back every following
+         * entry of the probe run that would otherwise become unreachable.
+         */
+        private void shiftSlots(int pos) {
+            final int[] t = table;
+            final int[] key = keys;
+            int last, slot, curr;
+            for(;;) {
+                pos = ((last = pos) + 1) & mask;
+                for(;;) {
+                    if((curr = t[pos]) == 0) {
+                        t[last] = 0;
+                        return;
+                    }
+                    slot = PrimitiveHashSet.mix(key[curr - 1]) & mask;
+                    // move curr back only if its home slot is not cyclically within (last, pos]
+                    if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                    pos = (pos + 1) & mask;
+                }
+                t[last] = curr;
+            }
+        }
+
+        /** Takes an entry off the free list, or a fresh one, for {@code k}. */
+        private int allocate(int k) {
+            int e = free;
+            if(e >= 0) free = next[e];
+            else {
+                if(used == keys.length) {
+                    int cap = PrimitiveArrayList.newLength(used, 1, used >> 1);
+                    keys = Arrays.copyOf(keys, cap);
+                    prev = Arrays.copyOf(prev, cap);
+                    next = Arrays.copyOf(next, cap);
+                }
+                e = used++;
+            }
+            keys[e] = k;
+            return e;
+        }
+
+        private void linkLast(int e) {
+            prev[e] = tail;
+            next[e] = -1;
+            if(tail >= 0) next[tail] = e;
+            else head = e;
+            tail = e;
+        }
+
+        private void linkFirst(int e) {
+            next[e] = head;
+            prev[e] = -1;
+            if(head >= 0) prev[head] = e;
+            else tail = e;
+            head = e;
+        }
+
+        private void unlink(int e) {
+            int p = prev[e], n = next[e];
+            if(p >= 0) next[p] = n;
+            else head = n;
+            if(n >= 0) prev[n] = p;
+            else tail = p;
+        }
+
+        /** Inserts {@code k}, known to be absent, at table slot {@code ~slot}, linking it first or last. */
+        private void insert(int k, int slot, boolean first) {
+            int e = allocate(k);
+            table[~slot] = e + 1;
+            if(first) linkFirst(e);
+            else linkLast(e);
+            modCount++;
+            if(size++ >= maxFill) rehash(PrimitiveHashSet.tableSize(size + 1, loadFactor));
+        }
+
+        /** Removes the entry at table slot {@code pos}. */
+        private void removeSlot(int pos) {
+            int e = table[pos] - 1;
+            shiftSlots(pos);
+            unlink(e);
+            next[e] = free;
+            free = e;
+            size--;
+            modCount++;
+        }
+
+        private void rehash(int newN) {
+            final int[] t = new int[newN];
+            final int newMask = newN - 1;
+            final int[] key = keys;
+            for(int e = head; e >= 0; e = next[e]) {
+                int pos = PrimitiveHashSet.mix(key[e]) & newMask;
+                while(t[pos] != 0) pos = (pos + 1) & newMask;
+                t[pos] = e + 1;
+            }
+            table = t;
+            mask = newMask;
+            maxFill = PrimitiveHashSet.maxFill(newN, loadFactor);
+        }
+
+        /**
+         * Ensures that this set can hold at least {@code expected} elements
+         * without rehashing.
+         * @param expected the expected number of elements
+         */
+        public void ensureCapacity(int expected) {
+            int n = PrimitiveHashSet.tableSize(expected, loadFactor);
+            if(n > table.length) rehash(n);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public boolean containsFloat(float e) { return find(java.lang.Float.floatToIntBits(e)) >= 0; }
+
+        ///////////// Modification operations
+
+        /**
+         * Adds the specified element at the end of this set if it is not already present.
+         * An element that is present keeps its place.
+         * @param e element to be added to this set
+         * @return {@code true} if this set did not already contain the element
+         */
+        @Override
+        public boolean addFloat(float e) {
+            final int k = java.lang.Float.floatToIntBits(e);
+            int slot = find(k);
+            if(slot >= 0) return false;
+            insert(k, slot, false);
+            return true;
+        }
+
+        /**
+         * Adds the specified element at the front of this set, moving it there if it is
+         * already present.
+         * @param e the element to be placed first
+         */
+        @Override
+        public void addFirstFloat(float e) {
+            final int k = java.lang.Float.floatToIntBits(e);
+            int slot = find(k);
+            if(slot < 0) insert(k, slot, true);
+            else {
+                int x = table[slot] - 1;
+                if(x == head) return;
+                unlink(x);
+                linkFirst(x);
+                modCount++;
+            }
+        }
+
+        /**
+         * Adds the specified element at the end of this set, moving it there if it is
+         * already present.
+         * @param e the element to be placed last
+         */
+        @Override
+        public void addLastFloat(float e) {
+            final int k = java.lang.Float.floatToIntBits(e);
+            int slot = find(k);
+            if(slot < 0) insert(k, slot, false);
+            else {
+                int x = table[slot] - 1;
+                if(x == tail) return;
+                unlink(x);
+                linkLast(x);
+                modCount++;
+            }
+        }
+
+        @Override
+        public void addLast(java.lang.Float e) { addLastFloat(e); }
+
+        @Override
+        public boolean removeFloat(float e) {
+            int slot = find(java.lang.Float.floatToIntBits(e));
+            if(slot < 0) return false;
+            removeSlot(slot);
+            return true;
+        }
+
+        @Override
+        public float getFirstFloat() {
+            if(head < 0) throw new NoSuchElementException();
+            return java.lang.Float.intBitsToFloat(keys[head]);
+        }
+
+        @Override
+        public float getLastFloat() {
+            if(tail < 0) throw new NoSuchElementException();
+            return java.lang.Float.intBitsToFloat(keys[tail]);
+        }
+
+        @Override
+        public float removeFirstFloat() {
+            if(head < 0) throw new NoSuchElementException();
+            int k = keys[head];
+            removeSlot(find(k));
+            return java.lang.Float.intBitsToFloat(k);
+        }
+
+        @Override
+        public float removeLastFloat() {
+            if(tail < 0) throw new NoSuchElementException();
+            int k = keys[tail];
+            removeSlot(find(k));
+            return java.lang.Float.intBitsToFloat(k);
+        }
+
+        @Override
+        public void clear() {
+            if(size == 0 && used == 0) return;
+            modCount++;
+            Arrays.fill(table, 0);
+            head = tail = free = -1;
+            used = size = 0;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean addAllFloat(PrimitiveCollection.OfFloat c) {
+            ensureCapacity(size + c.size());
+            return super.addAllFloat(c);
+        }
+
+        @Override
+        public boolean removeIfFloat(PrimitivePredicate.OfFloat filter) {
+            Objects.requireNonNull(filter);
+            boolean modified = false;
+            var it = iteratorFloat();
+            while(it.hasNext()) if(filter.testFloat(it.nextFloat())) {
+                it.remove();
+                modified = true;
+            }
+            return modified;
+        }
+
+        @Override
+        public float[] toArrayFloat() {
+            float[] a = new float[size];
+            final int[] key = keys;
+            for(int e = head, j = 0; e >= 0; e = next[e]) a[j++] = java.lang.Float.intBitsToFloat(key[e]);
+            return a;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfFloat action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final int[] key = keys;
+            final int[] n = next;
+            for(int e = head; e >= 0 && modCount == expectedModCount; e = n[e]) action.acceptFloat(java.lang.Float.intBitsToFloat(key[e]));
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators and views
+
+        @Override
+        public PrimitiveIterator.OfFloat iteratorFloat() { return new Itr(false); }
+
+        /**
+         * Creates a <em>fail-fast</em> spliterator over the elements in this set, in order.
+         * It reports {@link Spliterator#ORDERED}, {@link Spliterator#DISTINCT} and
+         * {@link Spliterator#SIZED}, and splits off array-backed prefixes.
+         * @return a spliterator over the elements in this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfFloat spliteratorFloat() { return new Spliter(head, size, false); }
+
+        @Override
+        public PrimitiveSequencedSet.OfFloat reversedFloat() {
+            Reversed r = reversed;
+            return r != null ? r : (reversed = new Reversed());
+        }
+
+        private final class Itr implements PrimitiveIterator.OfFloat {
+            private final boolean descending;
+            private int nextEntry;
+            private int lastRet = -1;
+            private int expectedModCount = modCount;
+
+            Itr(boolean descending) {
+                this.descending = descending;
+                nextEntry = descending ? tail : head;
+            }
+
+            public boolean hasNext() { return nextEntry >= 0; }
+
+            public float nextFloat() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int e = nextEntry;
+                if(e < 0) throw new NoSuchElementException();
+                nextEntry = descending ? prev[e] : next[e];
+                return java.lang.Float.intBitsToFloat(keys[lastRet = e]);
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                removeSlot(find(keys[lastRet]));
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfFloat {
+            private static final int MAX_BATCH = 1 << 12;
+            private int entry;
+            private int remaining;
+            private final boolean descending;
+            private final int expectedModCount = modCount;
+
+            Spliter(int entry, int remaining, boolean descending) {
+                this.entry = entry;
+                this.remaining = remaining;
+                this.descending = descending;
+            }
+
+            @Override
+            public PrimitiveSpliterator.OfFloat trySplit() {
+                int n = java.lang.Math.min(remaining >>> 1, MAX_BATCH);
+                if(n < 64) return null;
+                float[] a = new float[n];
+                final int[] key = keys;
+                final int[] link = descending ? prev : next;
+                int e = entry;
+                for(int j = 0; j < n; j++, e = link[e]) a[j] = java.lang.Float.intBitsToFloat(key[e]);
+                entry = e;
+                remaining -= n;
+                return new ArraySpliterator.OfFloat(a, 0, n, Spliterator.ORDERED | Spliterator.DISTINCT);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfFloat action) {
+                if(action == null) throw new NullPointerException();
+                if(remaining <= 0) return false;
+                int e = entry;
+                entry = descending ? prev[e] : next[e];
+                remaining--;
+                action.acceptFloat(java.lang.Float.intBitsToFloat(keys[e]));
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfFloat action) {
+                if(action == null) throw new NullPointerException();
+                final int[] key = keys;
+                final int[] link = descending ? prev : next;
+                int e = entry;
+                for(int r = remaining; r > 0; r--, e = link[e]) action.acceptFloat(java.lang.Float.intBitsToFloat(key[e]));
+                entry = e;
+                remaining = 0;
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return remaining; }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+
+        /**
+         * The reverse-ordered view of the set, in the manner of {@code jdk.prim.util.rolv}:
+         * every operation maps onto the set with the ends swapped, and reversing it again
+         * gives back the set itself rather than another wrapper.
+         */
+        private final class Reversed extends PrimitiveAbstractSet.OfFloat implements PrimitiveSequencedSet.OfFloat {
+            @Override
+            public int size() { return size; }
+
+            @Override
+            public boolean isEmpty() { return size == 0; }
+
+            @Override
+            public boolean containsFloat(float e) { return PrimitiveLinkedHashSet.OfFloat.this.containsFloat(e); }
+
+            @Override
+            public boolean addFloat(float e) { return PrimitiveLinkedHashSet.OfFloat.this.addFloat(e); }
+
+            @Override
+            public boolean removeFloat(float e) { return PrimitiveLinkedHashSet.OfFloat.this.removeFloat(e); }
+
+            @Override
+            public void clear() { PrimitiveLinkedHashSet.OfFloat.this.clear(); }
+
+            @Override
+            public void addFirstFloat(float e) { PrimitiveLinkedHashSet.OfFloat.this.addLastFloat(e); }
+
+            @Override
+            public void addLastFloat(float e) { PrimitiveLinkedHashSet.OfFloat.this.addFirstFloat(e); }
+
+            @Override
+            public void addLast(java.lang.Float e) { addLastFloat(e); }
+
+            @Override
+            public float getFirstFloat() { return PrimitiveLinkedHashSet.OfFloat.this.getLastFloat(); }
+
+            @Override
+            public float getLastFloat() { return PrimitiveLinkedHashSet.OfFloat.this.getFirstFloat(); }
+
+            @Override
+            public float removeFirstFloat() { return PrimitiveLinkedHashSet.OfFloat.this.removeLastFloat(); }
+
+            @Override
+            public float removeLastFloat() { return PrimitiveLinkedHashSet.OfFloat.this.removeFirstFloat(); }
+
+            @Override
+            public PrimitiveSequencedSet.OfFloat reversedFloat() { return PrimitiveLinkedHashSet.OfFloat.this; }
+
+            @Override
+            public PrimitiveIterator.OfFloat iteratorFloat() { return new Itr(true); }
+
+            @Override
+            public PrimitiveSpliterator.OfFloat spliteratorFloat() { return new Spliter(tail, size, true); }
+
+            @Override
+            public float[] toArrayFloat() {
+                float[] a = new float[size];
+                final int[] key = keys;
+                for(int e = tail, j = 0; e >= 0; e = prev[e]) a[j++] = java.lang.Float.intBitsToFloat(key[e]);
+                return a;
+            }
+
+            @Override
+            public void forEach(PrimitiveConsumer.OfFloat action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final int[] key = keys;
+                final int[] p = prev;
+                for(int e = tail; e >= 0 && modCount == expectedModCount; e = p[e]) action.acceptFloat(java.lang.Float.intBitsToFloat(key[e]));
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        ///////////// Copying and hashing
+
+        /**
+         * Returns a shallow copy of this set, with the same order.
+         * @return a clone of this set
+         */
+        @Override
+        public PrimitiveLinkedHashSet.OfFloat clone() {
+            try {
+                var c = (PrimitiveLinkedHashSet.OfFloat) super.clone();
+                c.keys = keys.clone();
+                c.prev = prev.clone();
+                c.next = next.clone();
+                c.table = table.clone();
+                c.reversed = null;
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            int h = 0;
+            final int[] key = keys;
+            for(int e = head; e >= 0; e = next[e]) h += java.lang.Float.hashCode(java.lang.Float.intBitsToFloat(key[e]));
+            return h;
+        }
+    }
+}
@@ -191,6 +191,45 @@ public interface PrimitiveList<T, T_CONS> extends PrimitiveSequencedCollection<T
         default List<java.lang.Double> subList(int from, int to) { return subListDouble(from, to); }
         @Override
         java.lang.Double[] toArray();
+
+        ///////////////// Factories
+
+        /**
+         * Returns an unmodifiable list containing the specified elements, in order. The list
+         * keeps a private copy of the array, so later writes to {@code elements} do not show
+         * through, and its {@link #subListDouble(int, int) sub-lists} share that copy.
+         * @param elements the elements to be contained in the list
+         * @return a {@code PrimitiveList.OfDouble} containing the specified elements
+         * @see List#of(Object...)
+         */
+        static PrimitiveList.OfDouble of(double... elements) { return PrimitiveImmutableList.OfDouble.copyOf(elements, 0, elements.length); }
+
+        /**
+         * Returns an unmodifiable list containing the elements of the specified array, in order.
+         * @param elements the array whose elements are to be contained in the list
+         * @return a {@code PrimitiveList.OfDouble} containing the elements of the array
+         */
+        static PrimitiveList.OfDouble copyOf(double[] elements) { return PrimitiveImmutableList.OfDouble.copyOf(elements, 0, elements.length); }
+
+        /**
+         * Returns an unmodifiable list containing the specified range of the array, in order.
+         * @param elements the array whose elements are to be contained in the list
+         * @param from the index of the first element, inclusive
+         * @param to the index of the last element, exclusive
+         * @return a {@code PrimitiveList.OfDouble} containing the range of the array
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        static PrimitiveList.OfDouble copyOf(double[] elements, int from, int to) { return PrimitiveImmutableList.OfDouble.copyOf(elements, from, to); }
+
+        /**
+         * Returns an unmodifiable list containing the elements of the specified collection, in
+         * its iteration order. A list that was itself returned by one of these factories is
+         * returned as is.
+         * @param c the collection from which elements are drawn
+         * @return a {@code PrimitiveList.OfDouble} containing the elements of the collection
+         * @see List#copyOf(java.util.Collection)
+         */
+        static PrimitiveList.OfDouble copyOf(PrimitiveCollection.OfDouble c) { return PrimitiveImmutableList.OfDouble.copyOf(c); }
     }
     /**
      * A list of {@code long} elements
@@ -361,6 +400,45 @@ public interface PrimitiveList<T, T_CONS> extends PrimitiveSequencedCollection<T
         default List<java.lang.Long> subList(int from, int to) { return subListLong(from, to); }
         @Override
         java.lang.Long[] toArray();
+
+        ///////////////// Factories
+
+        /**
+         * Returns an unmodifiable list containing the specified elements, in order. The list
+         * keeps a private copy of the array, so later writes to {@code elements} do not show
+         * through, and its {@link #subListLong(int, int) sub-lists} share that copy.
+         * @param elements the elements to be contained in the list
+         * @return a {@code PrimitiveList.OfLong} containing the specified elements
+         * @see List#of(Object...)
+         */
+        static PrimitiveList.OfLong of(long... elements) { return PrimitiveImmutableList.OfLong.copyOf(elements, 0, elements.length); }
+
+        /**
+         * Returns an unmodifiable list containing the elements of the specified array, in order.
+         * @param elements the array whose elements are to be contained in the list
+         * @return a {@code PrimitiveList.OfLong} containing the elements of the array
+         */
+        static PrimitiveList.OfLong copyOf(long[] elements) { return PrimitiveImmutableList.OfLong.copyOf(elements, 0, elements.length); }
+
+        /**
+         * Returns an unmodifiable list containing the specified range of the array, in order.
+         * @param elements the array whose elements are to be contained in the list
+         * @param from the index of the first element, inclusive
+         * @param to the index of the last element, exclusive
+         * @return a {@code PrimitiveList.OfLong} containing the range of the array
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        static PrimitiveList.OfLong copyOf(long[] elements, int from, int to) { return PrimitiveImmutableList.OfLong.copyOf(elements, from, to); }
+
+        /**
+         * Returns an unmodifiable list containing the elements of the specified collection, in
+         * its iteration order. A list that was itself returned by one of these factories is
+         * returned as is.
+         * @param c the collection from which elements are drawn
+         * @return a {@code PrimitiveList.OfLong} containing the elements of the collection
+         * @see List#copyOf(java.util.Collection)
+         */
+        static PrimitiveList.OfLong copyOf(PrimitiveCollection.OfLong c) { return PrimitiveImmutableList.OfLong.copyOf(c); }
     }
     /**
      * A list of {@code int} elements
@@ -531,6 +609,45 @@ public interface PrimitiveList<T, T_CONS> extends PrimitiveSequencedCollection<T
         default List<java.lang.Integer> subList(int from, int to) { return subListInt(from, to); }
         @Override
         java.lang.Integer[] toArray();
+
+        ///////////////// Factories
+
+        /**
+         * Returns an unmodifiable list containing the specified elements, in order. The list
+         * keeps a private copy of the array, so later writes to {@code elements} do not show
+         * through, and its {@link #subListInt(int, int) sub-lists} share that copy.
+         * @param elements the elements to be contained in the list
+         * @return a {@code PrimitiveList.OfInt} containing the specified elements
+         * @see List#of(Object...)
+         */
+        static PrimitiveList.OfInt of(int... elements) { return PrimitiveImmutableList.OfInt.copyOf(elements, 0, elements.length); }
+
+        /**
+         * Returns an unmodifiable list containing the elements of the specified array, in order.
+         * @param elements the array whose elements are to be contained in the list
+         * @return a {@code PrimitiveList.OfInt} containing the elements of the array
+         */
+        static PrimitiveList.OfInt copyOf(int[] elements) { return PrimitiveImmutableList.OfInt.copyOf(elements, 0, elements.length); }
+
+        /**
+         * Returns an unmodifiable list containing the specified range of the array, in order.
+         * @param elements the array whose elements are to be contained in the list
+         * @param from the index of the first element, inclusive
+         * @param to the index of the last element, exclusive
+         * @return a {@code PrimitiveList.OfInt} containing the range of the array
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        static PrimitiveList.OfInt copyOf(int[] elements, int from, int to) { return PrimitiveImmutableList.OfInt.copyOf(elements, from, to); }
+
+        /**
+         * Returns an unmodifiable list containing the elements of the specified collection, in
+         * its iteration order. A list that was itself returned by one of these factories is
+         * returned as is.
+         * @param c the collection from which elements are drawn
+         * @return a {@code PrimitiveList.OfInt} containing the elements of the collection
+         * @see List#copyOf(java.util.Collection)
+         */
+        static PrimitiveList.OfInt copyOf(PrimitiveCollection.OfInt c) { return PrimitiveImmutableList.OfInt.copyOf(c); }
     }
     /**
      * A list of {@code float} elements
@@ -701,6 +818,45 @@ public interface PrimitiveList<T, T_CONS> extends PrimitiveSequencedCollection<T
         default List<java.lang.Float> subList(int from, int to) { return subListFloat(from, to); }
         @Override
         java.lang.Float[] toArray();
+
+        ///////////////// Factories
+
+        /**
+         * Returns an unmodifiable list containing the specified elements, in order. The list
+         * keeps a private copy of the array, so later writes to {@code elements} do not show
+         * through, and its {@link #subListFloat(int, int) sub-lists} share that copy.
+         * @param elements the elements to be contained in the list
+         * @return a {@code PrimitiveList.OfFloat} containing the specified elements
+         * @see List#of(Object...)
+         */
+        static PrimitiveList.OfFloat of(float... elements) { return PrimitiveImmutableList.OfFloat.copyOf(elements, 0, elements.length); }
+
+        /**
+         * Returns an unmodifiable list containing the elements of the specified array, in order.
+         * @param elements the array whose elements are to be contained in the list
+         * @return a {@code PrimitiveList.OfFloat} containing the elements of the array
+         */
+        static PrimitiveList.OfFloat copyOf(float[] elements) { return PrimitiveImmutableList.OfFloat.copyOf(elements, 0, elements.length); }
+
+        /**
+         * Returns an unmodifiable list containing the specified range of the array, in order.
+         * @param elements the array whose elements are to be contained in the list
+         * @param from the index of the first element, inclusive
+         * @param to the index of the last element, exclusive
+         * @return a {@code PrimitiveList.OfFloat} containing the range of the array
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        static PrimitiveList.OfFloat copyOf(float[] elements, int from, int to) { return PrimitiveImmutableList.OfFloat.copyOf(elements, from, to); }
+
+        /**
+         * Returns an unmodifiable list containing the elements of the specified collection, in
+         * its iteration order. A list that was itself returned by one of these factories is
+         * returned as is.
+         * @param c the collection from which elements are drawn
+         * @return a {@code PrimitiveList.OfFloat} containing the elements of the collection
+         * @see List#copyOf(java.util.Collection)
+         */
+        static PrimitiveList.OfFloat copyOf(PrimitiveCollection.OfFloat c) { return PrimitiveImmutableList.OfFloat.copyOf(c); }
     }
     /**
      * A list of {@code char} elements
@@ -871,6 +1027,45 @@ public interface PrimitiveList<T, T_CONS> extends PrimitiveSequencedCollection<T
         default List<java.lang.Character> subList(int from, int to) { return subListChar(from, to); }
         @Override
         java.lang.Character[] toArray();
+
+        ///////////////// Factories
+
+        /**
+         * Returns an unmodifiable list containing the specified elements, in order. The list
+         * keeps a private copy of the array, so later writes to {@code elements} do not show
+         * through, and its {@link #subListChar(int, int) sub-lists} share that copy.
+         * @param elements the elements to be contained in the list
+         * @return a {@code PrimitiveList.OfChar} containing the specified elements
+         * @see List#of(Object...)
+         */
+        static PrimitiveList.OfChar of(char... elements) { return PrimitiveImmutableList.OfChar.copyOf(elements, 0, elements.length); }
+
+        /**
+         * Returns an unmodifiable list containing the elements of the specified array, in order.
+         * @param elements the array whose elements are to be contained in the list
+         * @return a {@code PrimitiveList.OfChar} containing the elements of the array
+         */
+        static PrimitiveList.OfChar copyOf(char[] elements) { return PrimitiveImmutableList.OfChar.copyOf(elements, 0, elements.length); }
+
+        /**
+         * Returns an unmodifiable list containing the specified range of the array, in order.
+         * @param elements the array whose elements are to be contained in the list
+         * @param from the index of the first element, inclusive
+         * @param to the index of the last element, exclusive
+         * @return a {@code PrimitiveList.OfChar} containing the range of the array
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        static PrimitiveList.OfChar copyOf(char[] elements, int from, int to) { return PrimitiveImmutableList.OfChar.copyOf(elements, from, to); }
+
+        /**
+         * Returns an unmodifiable list containing the elements of the specified collection, in
+         * its iteration order. A list that was itself returned by one of these factories is
+         * returned as is.
+         * @param c the collection from which elements are drawn
+         * @return a {@code PrimitiveList.OfChar} containing the elements of the collection
+         * @see List#copyOf(java.util.Collection)
+         */
+        static PrimitiveList.OfChar copyOf(PrimitiveCollection.OfChar c) { return PrimitiveImmutableList.OfChar.copyOf(c); }
     }
     /**
      * A list of {@code short} elements
@@ -1041,6 +1236,45 @@ public interface PrimitiveList<T, T_CONS> extends PrimitiveSequencedCollection<T
         default List<java.lang.Short> subList(int from, int to) { return subListShort(from, to); }
         @Override
         java.lang.Short[] toArray();
+
+        ///////////////// Factories
+
+        /**
+         * Returns an unmodifiable list containing the specified elements, in order. The list
+         * keeps a private copy of the array, so later writes to {@code elements} do not show
+         * through, and its {@link #subListShort(int, int) sub-lists} share that copy.
+         * @param elements the elements to be contained in the list
+         * @return a {@code PrimitiveList.OfShort} containing the specified elements
+         * @see List#of(Object...)
+         */
+        static PrimitiveList.OfShort of(short... elements) { return PrimitiveImmutableList.OfShort.copyOf(elements, 0, elements.length); }
+
+        /**
+         * Returns an unmodifiable list containing the elements of the specified array, in order.
+         * @param elements the array whose elements are to be contained in the list
+         * @return a {@code PrimitiveList.OfShort} containing the elements of the array
+         */
+        static PrimitiveList.OfShort copyOf(short[] elements) { return PrimitiveImmutableList.OfShort.copyOf(elements, 0, elements.length); }
+
+        /**
+         * Returns an unmodifiable list containing the specified range of the array, in order.
+         * @param elements the array whose elements are to be contained in the list
+         * @param from the index of the first element, inclusive
+         * @param to the index of the last element, exclusive
+         * @return a {@code PrimitiveList.OfShort} containing the range of the array
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        static PrimitiveList.OfShort copyOf(short[] elements, int from, int to) { return PrimitiveImmutableList.OfShort.copyOf(elements, from, to); }
+
+        /**
+         * Returns an unmodifiable list containing the elements of the specified collection, in
+         * its iteration order. A list that was itself returned by one of these factories is
+         * returned as is.
+         * @param c the collection from which elements are drawn
+         * @return a {@code PrimitiveList.OfShort} containing the elements of the collection
+         * @see List#copyOf(java.util.Collection)
+         */
+        static PrimitiveList.OfShort copyOf(PrimitiveCollection.OfShort c) { return PrimitiveImmutableList.OfShort.copyOf(c); }
     }
     /**
      * A list of {@code byte} elements
@@ -1211,6 +1445,45 @@ public interface PrimitiveList<T, T_CONS> extends PrimitiveSequencedCollection<T
         default List<java.lang.Byte> subList(int from, int to) { return subListByte(from, to); }
         @Override
         java.lang.Byte[] toArray();
+
+        ///////////////// Factories
+
+        /**
+         * Returns an unmodifiable list containing the specified elements, in order. The list
+         * keeps a private copy of the array, so later writes to {@code elements} do not show
+         * through, and its {@link #subListByte(int, int) sub-lists} share that copy.
+         * @param elements the elements to be contained in the list
+         * @return a {@code PrimitiveList.OfByte} containing the specified elements
+         * @see List#of(Object...)
+         */
+        static PrimitiveList.OfByte of(byte... elements) { return PrimitiveImmutableList.OfByte.copyOf(elements, 0, elements.length); }
+
+        /**
+         * Returns an unmodifiable list containing the elements of the specified array, in order.
+         * @param elements the array whose elements are to be contained in the list
+         * @return a {@code PrimitiveList.OfByte} containing the elements of the array
+         */
+        static PrimitiveList.OfByte copyOf(byte[] elements) { return PrimitiveImmutableList.OfByte.copyOf(elements, 0, elements.length); }
+
+        /**
+         * Returns an unmodifiable list containing the specified range of the array, in order.
+         * @param elements the array whose elements are to be contained in the list
+         * @param from the index of the first element, inclusive
+         * @param to the index of the last element, exclusive
+         * @return a {@code PrimitiveList.OfByte} containing the range of the array
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        static PrimitiveList.OfByte copyOf(byte[] elements, int from, int to) { return PrimitiveImmutableList.OfByte.copyOf(elements, from, to); }
+
+        /**
+         * Returns an unmodifiable list containing the elements of the specified collection, in
+         * its iteration order. A list that was itself returned by one of these factories is
+         * returned as is.
+         * @param c the collection from which elements are drawn
+         * @return a {@code PrimitiveList.OfByte} containing the elements of the collection
+         * @see List#copyOf(java.util.Collection)
+         */
+        static PrimitiveList.OfByte copyOf(PrimitiveCollection.OfByte c) { return PrimitiveImmutableList.OfByte.copyOf(c); }
     }
     /**
      * A list of {@code boolean} elements
@@ -1381,5 +1654,44 @@ public interface PrimitiveList<T, T_CONS> extends PrimitiveSequencedCollection<T
         default List<java.lang.Boolean> subList(int from, int to) { return subListBoolean(from, to); }
         @Override
         java.lang.Boolean[] toArray();
+
+        ///////////////// Factories
+
+        /**
+         * Returns an unmodifiable list containing the specified elements, in order. The list
+         * keeps a private copy of the array, so later writes to {@code elements} do not show
+         * through, and its {@link #subListBoolean(int, int) sub-lists} share that copy.
+         * @param elements the elements to be contained in the list
+         * @return a {@code PrimitiveList.OfBoolean} containing the specified elements
+         * @see List#of(Object...)
+         */
+        static PrimitiveList.OfBoolean of(boolean... elements) { return PrimitiveImmutableList.OfBoolean.copyOf(elements, 0, elements.length); }
+
+        /**
+         * Returns an unmodifiable list containing the elements of the specified array, in order.
+         * @param elements the array whose elements are to be contained in the list
+         * @return a {@code PrimitiveList.OfBoolean} containing the elements of the array
+         */
+        static PrimitiveList.OfBoolean copyOf(boolean[] elements) { return PrimitiveImmutableList.OfBoolean.copyOf(elements, 0, elements.length); }
+
+        /**
+         * Returns an unmodifiable list containing the specified range of the array, in order.
+         * @param elements the array whose elements are to be contained in the list
+         * @param from the index of the first element, inclusive
+         * @param to the index of the last element, exclusive
+         * @return a {@code PrimitiveList.OfBoolean} containing the range of the array
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        static PrimitiveList.OfBoolean copyOf(boolean[] elements, int from, int to) { return PrimitiveImmutableList.OfBoolean.copyOf(elements, from, to); }
+
+        /**
+         * Returns an unmodifiable list containing the elements of the specified collection, in
+         * its iteration order. A list that was itself returned by one of these factories is
+         * returned as is.
+         * @param c the collection from which elements are drawn
+         * @return a {@code PrimitiveList.OfBoolean} containing the elements of the collection
+         * @see List#copyOf(java.util.Collection)
+         */
+        static PrimitiveList.OfBoolean copyOf(PrimitiveCollection.OfBoolean c) { return PrimitiveImmutableList.OfBoolean.copyOf(c); }
     }
 }
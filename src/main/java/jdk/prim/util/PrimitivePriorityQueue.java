@@ -0,0 +1,1568 @@
+package jdk.prim.util;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
+import jdk.prim.util.function.PrimitiveConsumer;
+import jdk.prim.util.function.PrimitivePredicate;
+
+/**
+ * A pseudo-package for holding the primitive declaration with functionalities and syntax of {@link java.util.PriorityQueue PriorityQueue}
+ * for {@code double}, {@code long} and {@code int} elements
+ */
+public final class PrimitivePriorityQueue {
+    /**
+     * Initial capacity of a queue created without one.
+     */
+    private static final int DEFAULT_INITIAL_CAPACITY = 11;
+
+    private PrimitivePriorityQueue() {}
+
+    /**
+     * An unbounded priority queue of {@code double} values kept in a {@value #ARITY}-ary
+     * min-heap laid out in a flat {@code double[]}. The head of the queue is the least
+     * element with respect to the queue's {@link PrimitiveComparator.OfDouble}, or to the
+     * natural ordering of {@code double} values when none (or
+     * {@link PrimitiveComparator#naturalOrderDouble()}) is given; in that case elements are
+     * compared inline rather than through the comparator.
+     * <p>
+     * A {@value #ARITY}-ary heap is half as tall as a binary one, and the children of a node
+     * sit next to each other in the array, so a sift touches fewer cache lines. Offering
+     * and polling take O(log n) time, {@link #peekDouble()} and {@link #size()} constant time,
+     * and building a queue from an array with
+     * {@link #OfDouble(double[], int, int, PrimitiveComparator.OfDouble)} linear time.
+     * {@link #drainTo(double[])} removes elements in priority order into an array.
+     * <p>
+     * The iterator and spliterator of this class traverse the elements in heap order,
+     * not priority order, and are <i>fail-fast</i>. The unboxed {@code peekDouble} and
+     * {@code pollDouble} return {@code 0.0} on an empty queue.
+     * <p>
+     * This is analogous to {@link java.util.PriorityQueue}
+     */
+    public static class OfDouble extends PrimitiveAbstractQueue.OfDouble {
+        /**
+         * The number of children of each node of the heap.
+         */
+        public static final int ARITY = 4;
+
+        /**
+         * The heap: the children of {@code queue[k]} are {@code queue[ARITY * k + 1]}
+         * through {@code queue[ARITY * k + ARITY]}. Only the first {@link #size} slots are live.
+         */
+        transient double[] queue;
+
+        /**
+         * The number of elements in the queue.
+         */
+        int size;
+
+        /**
+         * The comparator given at construction, or {@code null}.
+         */
+        private final PrimitiveComparator.OfDouble comparator;
+
+        /**
+         * Whether elements are ordered naturally and can be compared inline.
+         */
+        private final boolean natural;
+
+        /**
+         * The number of times this queue has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         */
+        transient int modCount;
+
+        /**
+         * Constructs an empty queue with an initial capacity of eleven that orders
+         * its elements naturally.
+         */
+        public OfDouble() { this(DEFAULT_INITIAL_CAPACITY, null); }
+
+        /**
+         * Constructs an empty queue with the specified initial capacity that orders
+         * its elements naturally.
+         * @param initialCapacity the initial capacity of this queue
+         * @throws IllegalArgumentException if {@code initialCapacity} is less than 1
+         */
+        public OfDouble(int initialCapacity) { this(initialCapacity, null); }
+
+        /**
+         * Constructs an empty queue with an initial capacity of eleven whose elements
+         * are ordered by the specified comparator.
+         * @param comparator the comparator that will be used to order this queue, or
+         *        {@code null} for natural ordering
+         */
+        public OfDouble(PrimitiveComparator.OfDouble comparator) { this(DEFAULT_INITIAL_CAPACITY, comparator); }
+
+        /**
+         * Constructs an empty queue with the specified initial capacity whose elements
+         * are ordered by the specified comparator.
+         * @param initialCapacity the initial capacity of this queue
+         * @param comparator the comparator that will be used to order this queue, or
+         *        {@code null} for natural ordering
+         * @throws IllegalArgumentException if {@code initialCapacity} is less than 1
+         */
+        public OfDouble(int initialCapacity, PrimitiveComparator.OfDouble comparator) {
+            if(initialCapacity < 1) throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+            this.queue = new double[initialCapacity];
+            this.comparator = comparator;
+            this.natural = comparator == null || comparator == PrimitiveComparator.naturalOrderDouble();
+        }
+
+        /**
+         * Constructs a queue holding {@code len} elements of the specified array, starting
+         * at {@code off}, ordered by the specified comparator. The heap is built bottom-up
+         * in linear time.
+         * @param a the array whose elements are to be placed into this queue
+         * @param off the index of the first element to copy
+         * @param len the number of elements to copy
+         * @param comparator the comparator that will be used to order this queue, or
+         *        {@code null} for natural ordering
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfDouble(double[] a, int off, int len, PrimitiveComparator.OfDouble comparator) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            this.queue = new double[java.lang.Math.max(len, 1)];
+            System.arraycopy(a, off, queue, 0, len);
+            this.size = len;
+            this.comparator = comparator;
+            this.natural = comparator == null || comparator == PrimitiveComparator.naturalOrderDouble();
+            heapify();
+        }
+
+        /**
+         * Constructs a queue containing the elements of the specified collection. If the
+         * collection is a {@code PrimitivePriorityQueue.OfDouble} this queue takes over its
+         * ordering; otherwise elements are ordered naturally.
+         * @param c the collection whose elements are to be placed into this queue
+         */
+        public OfDouble(PrimitiveCollection.OfDouble c) {
+            if(c instanceof PrimitivePriorityQueue.OfDouble pq) {
+                this.comparator = pq.comparator;
+                this.natural = pq.natural;
+                this.queue = Arrays.copyOf(pq.queue, java.lang.Math.max(pq.size, 1));
+                this.size = pq.size;
+            } else {
+                double[] a = c.toArrayDouble();
+                this.comparator = null;
+                this.natural = true;
+                this.queue = a.length == 0 ? new double[1] : a;
+                this.size = a.length;
+                heapify();
+            }
+        }
+
+        /**
+         * Returns the comparator used to order the elements in this queue, or
+         * {@code null} if this queue is ordered by the natural ordering of its elements.
+         * @return the comparator given at construction, or {@code null}
+         */
+        public PrimitiveComparator.OfDouble comparator() { return comparator; }
+
+        ///////////// Heap maintenance
+
+        private void grow(int minCapacity) {
+            int oldCapacity = queue.length;
+            // Double size if small; else grow by 50%
+            int newCapacity = PrimitiveArrayList.newLength(oldCapacity, minCapacity - oldCapacity, oldCapacity < 64 ? oldCapacity + 2 : oldCapacity >> 1);
+            queue = Arrays.copyOf(queue, newCapacity);
+        }
+
+        /**
+         * Moves {@code x} up from slot {@code k} until its parent is not greater.
+         * @return the slot where {@code x} was placed
+         */
+        private int siftUp(int k, double x) {
+            final double[] es = queue;
+            if(natural) {
+                while(k > 0) {
+                    int parent = (k - 1) >>> 2;
+                    double e = es[parent];
+                    if(!(java.lang.Double.compare(x, e) < 0)) break;
+                    es[k] = e;
+                    k = parent;
+                }
+            } else {
+                final PrimitiveComparator.OfDouble cmp = comparator;
+                while(k > 0) {
+                    int parent = (k - 1) >>> 2;
+                    double e = es[parent];
+                    if(cmp.compareDouble(x, e) >= 0) break;
+                    es[k] = e;
+                    k = parent;
+                }
+            }
+            es[k] = x;
+            return k;
+        }
+
+        /**
+         * Moves {@code x} down from slot {@code k} of a heap of {@code n} elements
+         * until none of its children is less.
+         * @return the slot where {@code x} was placed
+         */
+        private int siftDown(int k, double x, int n) {
+            final double[] es = queue;
+            // k has a child exactly when ARITY * k + 1 < n
+            final int limit = (n + 2) >>> 2;
+            if(natural) {
+                while(k < limit) {
+                    int c = (k << 2) + 1, end = java.lang.Math.min(c + ARITY, n);
+                    double m = es[c];
+                    for(int j = c + 1; j < end; j++) if(java.lang.Double.compare(es[j], m) < 0) m = es[c = j];
+                    if(!(java.lang.Double.compare(m, x) < 0)) break;
+                    es[k] = m;
+                    k = c;
+                }
+            } else {
+                final PrimitiveComparator.OfDouble cmp = comparator;
+                while(k < limit) {
+                    int c = (k << 2) + 1, end = java.lang.Math.min(c + ARITY, n);
+                    double m = es[c];
+                    for(int j = c + 1; j < end; j++) if(cmp.compareDouble(es[j], m) < 0) m = es[c = j];
+                    if(cmp.compareDouble(m, x) >= 0) break;
+                    es[k] = m;
+                    k = c;
+                }
+            }
+            es[k] = x;
+            return k;
+        }
+
+        /**
+         * Establishes the heap invariant over the whole array in linear time.
+         */
+        private void heapify() {
+            final double[] es = queue;
+            final int n = size;
+            for(int i = (n - 2) >>> 2; n > 1 && i >= 0; i--) siftDown(i, es[i], n);
+        }
+
+        /**
+         * Removes the element at slot {@code i}, filling the hole with the last element.
+         * @return {@code true} if the last element ended up above slot {@code i}, where an
+         *         iterator that already passed {@code i} will not see it
+         */
+        boolean removeAt(int i) {
+            final double[] es = queue;
+            modCount++;
+            int s = --size;
+            if(s == i) return false;
+            double moved = es[s];
+            return siftDown(i, moved, s) == i && siftUp(i, moved) != i;
+        }
+
+        private int indexOf(double e) {
+            final double[] es = queue;
+            for(int i = 0, n = size; i < n; i++) if((es[i] == e || java.lang.Double.isNaN(es[i]) && java.lang.Double.isNaN(e))) return i;
+            return -1;
+        }
+
+        ///////////// Queue operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean offerDouble(double e) {
+            modCount++;
+            int i = size;
+            if(i >= queue.length) grow(i + 1);
+            siftUp(i, e);
+            size = i + 1;
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this queue, or {@code 0.0} if this queue is empty
+         */
+        @Override
+        public double peekDouble() { return size == 0 ? 0.0 : queue[0]; }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this queue, or {@code 0.0} if this queue is empty
+         */
+        @Override
+        public double pollDouble() {
+            if(size == 0) return 0.0;
+            final double[] es = queue;
+            double result = es[0];
+            modCount++;
+            int n = --size;
+            if(n > 0) siftDown(0, es[n], n);
+            return result;
+        }
+
+        /**
+         * Removes up to {@code dst.length} elements from this queue into {@code dst}, in
+         * priority order.
+         * @param dst the array into which the elements are to be stored
+         * @return the number of elements removed, which is {@code min(size(), dst.length)}
+         */
+        public int drainTo(double[] dst) {
+            final int n = java.lang.Math.min(size, dst.length);
+            if(n == 0) return 0;
+            final double[] es = queue;
+            int s = size;
+            for(int i = 0; i < n; i++) {
+                dst[i] = es[0];
+                if(--s > 0) siftDown(0, es[s], s);
+            }
+            size = s;
+            modCount++;
+            return n;
+        }
+
+        @Override
+        public boolean containsDouble(double e) { return indexOf(e) >= 0; }
+
+        @Override
+        public boolean removeDouble(double e) {
+            int i = indexOf(e);
+            if(i < 0) return false;
+            removeAt(i);
+            return true;
+        }
+
+        /**
+         * Adds {@code len} elements of the specified array, starting at {@code off}, to this
+         * queue. When the batch is larger than the queue it is appended and the heap is
+         * rebuilt in linear time; otherwise each element is sifted up.
+         * @param a the array holding the elements to add
+         * @param off the index of the first element to add
+         * @param len the number of elements to add
+         * @return {@code true} if this queue changed as a result of the call
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean addAllDouble(double[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            if(len == 0) return false;
+            modCount++;
+            int s = size;
+            if(len > queue.length - s) grow(s + len);
+            if(len > s) {
+                System.arraycopy(a, off, queue, s, len);
+                size = s + len;
+                heapify();
+            } else {
+                for(int i = 0; i < len; i++) siftUp(s + i, a[off + i]);
+                size = s + len;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean addAllDouble(PrimitiveCollection.OfDouble c) {
+            Objects.requireNonNull(c);
+            if(c == this) throw new IllegalArgumentException();
+            double[] a = c.toArrayDouble();
+            return addAllDouble(a, 0, a.length);
+        }
+
+        @Override
+        public boolean removeIfDouble(PrimitivePredicate.OfDouble filter) {
+            Objects.requireNonNull(filter);
+            final int expectedModCount = modCount;
+            final double[] es = queue;
+            final int n = size;
+            // test every element before moving any, so a throwing predicate leaves the heap as it was
+            final long[] deathRow = PrimitiveArrayList.nBits(Math.max(n, 1));
+            boolean removed = false;
+            for(int r = 0; r < n; r++) {
+                if(filter.testDouble(es[r])) {
+                    PrimitiveArrayList.setBit(deathRow, r);
+                    removed = true;
+                }
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(!removed) return false;
+            int w = 0;
+            for(int r = 0; r < n; r++) if(PrimitiveArrayList.isClear(deathRow, r)) es[w++] = es[r];
+            modCount++;
+            size = w;
+            heapify();
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            size = 0;
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public double[] toArrayDouble() { return Arrays.copyOf(queue, size); }
+
+        @Override
+        public double[] toArrayDouble(double[] array) {
+            if(array.length < size) return toArrayDouble();
+            System.arraycopy(queue, 0, array, 0, size);
+            return array;
+        }
+
+        ///////////// Traversal
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfDouble action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final double[] es = queue;
+            for(int i = 0, n = size; i < n; i++) action.acceptDouble(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        /**
+         * Returns an iterator over the elements in this queue, in no particular order.
+         * @return an iterator over the elements in this queue
+         */
+        @Override
+        public PrimitiveIterator.OfDouble iteratorDouble() { return new Itr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this queue, in heap order. The spliterator reports
+         * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements in this queue
+         */
+        @Override
+        public PrimitiveSpliterator.OfDouble spliteratorDouble() { return new Spliter(0, -1, 0); }
+
+        private final class Itr implements PrimitiveIterator.OfDouble {
+            /** Index of element to be returned by subsequent call to next. */
+            private int cursor;
+            /** Index of element returned by most recent call to next, unless that element came from the forgetMeNot list. */
+            private int lastRet = -1;
+            /**
+             * Elements that removals moved from the unvisited part of the heap into the
+             * visited part; they are returned after the array is exhausted.
+             */
+            private PrimitiveArrayDeque.OfDouble forgetMeNot;
+            /** Element returned by the most recent call to next if it came from the forgetMeNot list. */
+            private double lastRetElt;
+            private boolean hasLastRetElt;
+            private int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor < size || (forgetMeNot != null && !forgetMeNot.isEmpty()); }
+
+            public double nextDouble() {
+                if(expectedModCount != modCount) throw new ConcurrentModificationException();
+                if(cursor < size) return queue[lastRet = cursor++];
+                if(forgetMeNot != null && !forgetMeNot.isEmpty()) {
+                    lastRet = -1;
+                    hasLastRetElt = true;
+                    return lastRetElt = forgetMeNot.pollFirstDouble();
+                }
+                throw new NoSuchElementException();
+            }
+
+            public void remove() {
+                if(expectedModCount != modCount) throw new ConcurrentModificationException();
+                if(lastRet != -1) {
+                    double moved = queue[size - 1];
+                    if(removeAt(lastRet)) {
+                        if(forgetMeNot == null) forgetMeNot = new PrimitiveArrayDeque.OfDouble();
+                        forgetMeNot.addLastDouble(moved);
+                    } else cursor--;
+                    lastRet = -1;
+                } else if(hasLastRetElt) {
+                    removeAt(indexOf(lastRetElt));
+                    hasLastRetElt = false;
+                } else throw new IllegalStateException();
+                expectedModCount = modCount;
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfDouble {
+            private int index;            // current index, modified on advance/split
+            private int fence;            // -1 until first use
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfDouble action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                if(i < hi) {
+                    index = i + 1;
+                    action.acceptDouble(queue[i]);
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfDouble action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                final double[] es = queue;
+                index = hi;
+                for(; i < hi; i++) action.acceptDouble(es[i]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return getFence() - index; }
+
+            @Override
+            public int characteristics() { return Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+    }
+
+    /**
+     * An unbounded priority queue of {@code long} values kept in a {@value #ARITY}-ary
+     * min-heap laid out in a flat {@code long[]}. The head of the queue is the least
+     * element with respect to the queue's {@link PrimitiveComparator.OfLong}, or to the
+     * natural ordering of {@code long} values when none (or
+     * {@link PrimitiveComparator#naturalOrderLong()}) is given; in that case elements are
+     * compared inline rather than through the comparator.
+     * <p>
+     * A {@value #ARITY}-ary heap is half as tall as a binary one, and the children of a node
+     * sit next to each other in the array, so a sift touches fewer cache lines. Offering
+     * and polling take O(log n) time, {@link #peekLong()} and {@link #size()} constant time,
+     * and building a queue from an array with
+     * {@link #OfLong(long[], int, int, PrimitiveComparator.OfLong)} linear time.
+     * {@link #drainTo(long[])} removes elements in priority order into an array.
+     * <p>
+     * The iterator and spliterator of this class traverse the elements in heap order,
+     * not priority order, and are <i>fail-fast</i>. The unboxed {@code peekLong} and
+     * {@code pollLong} return {@code 0L} on an empty queue.
+     * <p>
+     * This is analogous to {@link java.util.PriorityQueue}
+     */
+    public static class OfLong extends PrimitiveAbstractQueue.OfLong {
+        /**
+         * The number of children of each node of the heap.
+         */
+        public static final int ARITY = 4;
+
+        /**
+         * The heap: the children of {@code queue[k]} are {@code queue[ARITY * k + 1]}
+         * through {@code queue[ARITY * k + ARITY]}. Only the first {@link #size} slots are live.
+         */
+        transient long[] queue;
+
+        /**
+         * The number of elements in the queue.
+         */
+        int size;
+
+        /**
+         * The comparator given at construction, or {@code null}.
+         */
+        private final PrimitiveComparator.OfLong comparator;
+
+        /**
+         * Whether elements are ordered naturally and can be compared inline.
+         */
+        private final boolean natural;
+
+        /**
+         * The number of times this queue has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         */
+        transient int modCount;
+
+        /**
+         * Constructs an empty queue with an initial capacity of eleven that orders
+         * its elements naturally.
+         */
+        public OfLong() { this(DEFAULT_INITIAL_CAPACITY, null); }
+
+        /**
+         * Constructs an empty queue with the specified initial capacity that orders
+         * its elements naturally.
+         * @param initialCapacity the initial capacity of this queue
+         * @throws IllegalArgumentException if {@code initialCapacity} is less than 1
+         */
+        public OfLong(int initialCapacity) { this(initialCapacity, null); }
+
+        /**
+         * Constructs an empty queue with an initial capacity of eleven whose elements
+         * are ordered by the specified comparator.
+         * @param comparator the comparator that will be used to order this queue, or
+         *        {@code null} for natural ordering
+         */
+        public OfLong(PrimitiveComparator.OfLong comparator) { this(DEFAULT_INITIAL_CAPACITY, comparator); }
+
+        /**
+         * Constructs an empty queue with the specified initial capacity whose elements
+         * are ordered by the specified comparator.
+         * @param initialCapacity the initial capacity of this queue
+         * @param comparator the comparator that will be used to order this queue, or
+         *        {@code null} for natural ordering
+         * @throws IllegalArgumentException if {@code initialCapacity} is less than 1
+         */
+        public OfLong(int initialCapacity, PrimitiveComparator.OfLong comparator) {
+            if(initialCapacity < 1) throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+            this.queue = new long[initialCapacity];
+            this.comparator = comparator;
+            this.natural = comparator == null || comparator == PrimitiveComparator.naturalOrderLong();
+        }
+
+        /**
+         * Constructs a queue holding {@code len} elements of the specified array, starting
+         * at {@code off}, ordered by the specified comparator. The heap is built bottom-up
+         * in linear time.
+         * @param a the array whose elements are to be placed into this queue
+         * @param off the index of the first element to copy
+         * @param len the number of elements to copy
+         * @param comparator the comparator that will be used to order this queue, or
+         *        {@code null} for natural ordering
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfLong(long[] a, int off, int len, PrimitiveComparator.OfLong comparator) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            this.queue = new long[java.lang.Math.max(len, 1)];
+            System.arraycopy(a, off, queue, 0, len);
+            this.size = len;
+            this.comparator = comparator;
+            this.natural = comparator == null || comparator == PrimitiveComparator.naturalOrderLong();
+            heapify();
+        }
+
+        /**
+         * Constructs a queue containing the elements of the specified collection. If the
+         * collection is a {@code PrimitivePriorityQueue.OfLong} this queue takes over its
+         * ordering; otherwise elements are ordered naturally.
+         * @param c the collection whose elements are to be placed into this queue
+         */
+        public OfLong(PrimitiveCollection.OfLong c) {
+            if(c instanceof PrimitivePriorityQueue.OfLong pq) {
+                this.comparator = pq.comparator;
+                this.natural = pq.natural;
+                this.queue = Arrays.copyOf(pq.queue, java.lang.Math.max(pq.size, 1));
+                this.size = pq.size;
+            } else {
+                long[] a = c.toArrayLong();
+                this.comparator = null;
+                this.natural = true;
+                this.queue = a.length == 0 ? new long[1] : a;
+                this.size = a.length;
+                heapify();
+            }
+        }
+
+        /**
+         * Returns the comparator used to order the elements in this queue, or
+         * {@code null} if this queue is ordered by the natural ordering of its elements.
+         * @return the comparator given at construction, or {@code null}
+         */
+        public PrimitiveComparator.OfLong comparator() { return comparator; }
+
+        ///////////// Heap maintenance
+
+        private void grow(int minCapacity) {
+            int oldCapacity = queue.length;
+            // Double size if small; else grow by 50%
+            int newCapacity = PrimitiveArrayList.newLength(oldCapacity, minCapacity - oldCapacity, oldCapacity < 64 ? oldCapacity + 2 : oldCapacity >> 1);
+            queue = Arrays.copyOf(queue, newCapacity);
+        }
+
+        /**
+         * Moves {@code x} up from slot {@code k} until its parent is not greater.
+         * @return the slot where {@code x} was placed
+         */
+        private int siftUp(int k, long x) {
+            final long[] es = queue;
+            if(natural) {
+                while(k > 0) {
+                    int parent = (k - 1) >>> 2;
+                    long e = es[parent];
+                    if(!(x < e)) break;
+                    es[k] = e;
+                    k = parent;
+                }
+            } else {
+                final PrimitiveComparator.OfLong cmp = comparator;
+                while(k > 0) {
+                    int parent = (k - 1) >>> 2;
+                    long e = es[parent];
+                    if(cmp.compareLong(x, e) >= 0) break;
+                    es[k] = e;
+                    k = parent;
+                }
+            }
+            es[k] = x;
+            return k;
+        }
+
+        /**
+         * Moves {@code x} down from slot {@code k} of a heap of {@code n} elements
+         * until none of its children is less.
+         * @return the slot where {@code x} was placed
+         */
+        private int siftDown(int k, long x, int n) {
+            final long[] es = queue;
+            // k has a child exactly when ARITY * k + 1 < n
+            final int limit = (n + 2) >>> 2;
+            if(natural) {
+                while(k < limit) {
+                    int c = (k << 2) + 1, end = java.lang.Math.min(c + ARITY, n);
+                    long m = es[c];
+                    for(int j = c + 1; j < end; j++) if(es[j] < m) m = es[c = j];
+                    if(!(m < x)) break;
+                    es[k] = m;
+                    k = c;
+                }
+            } else {
+                final PrimitiveComparator.OfLong cmp = comparator;
+                while(k < limit) {
+                    int c = (k << 2) + 1, end = java.lang.Math.min(c + ARITY, n);
+                    long m = es[c];
+                    for(int j = c + 1; j < end; j++) if(cmp.compareLong(es[j], m) < 0) m = es[c = j];
+                    if(cmp.compareLong(m, x) >= 0) break;
+                    es[k] = m;
+                    k = c;
+                }
+            }
+            es[k] = x;
+            return k;
+        }
+
+        /**
+         * Establishes the heap invariant over the whole array in linear time.
+         */
+        private void heapify() {
+            final long[] es = queue;
+            final int n = size;
+            for(int i = (n - 2) >>> 2; n > 1 && i >= 0; i--) siftDown(i, es[i], n);
+        }
+
+        /**
+         * Removes the element at slot {@code i}, filling the hole with the last element.
+         * @return {@code true} if the last element ended up above slot {@code i}, where an
+         *         iterator that already passed {@code i} will not see it
+         */
+        boolean removeAt(int i) {
+            final long[] es = queue;
+            modCount++;
+            int s = --size;
+            if(s == i) return false;
+            long moved = es[s];
+            return siftDown(i, moved, s) == i && siftUp(i, moved) != i;
+        }
+
+        private int indexOf(long e) {
+            final long[] es = queue;
+            for(int i = 0, n = size; i < n; i++) if(es[i] == e) return i;
+            return -1;
+        }
+
+        ///////////// Queue operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean offerLong(long e) {
+            modCount++;
+            int i = size;
+            if(i >= queue.length) grow(i + 1);
+            siftUp(i, e);
+            size = i + 1;
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this queue, or {@code 0L} if this queue is empty
+         */
+        @Override
+        public long peekLong() { return size == 0 ? 0L : queue[0]; }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this queue, or {@code 0L} if this queue is empty
+         */
+        @Override
+        public long pollLong() {
+            if(size == 0) return 0L;
+            final long[] es = queue;
+            long result = es[0];
+            modCount++;
+            int n = --size;
+            if(n > 0) siftDown(0, es[n], n);
+            return result;
+        }
+
+        /**
+         * Removes up to {@code dst.length} elements from this queue into {@code dst}, in
+         * priority order.
+         * @param dst the array into which the elements are to be stored
+         * @return the number of elements removed, which is {@code min(size(), dst.length)}
+         */
+        public int drainTo(long[] dst) {
+            final int n = java.lang.Math.min(size, dst.length);
+            if(n == 0) return 0;
+            final long[] es = queue;
+            int s = size;
+            for(int i = 0; i < n; i++) {
+                dst[i] = es[0];
+                if(--s > 0) siftDown(0, es[s], s);
+            }
+            size = s;
+            modCount++;
+            return n;
+        }
+
+        @Override
+        public boolean containsLong(long e) { return indexOf(e) >= 0; }
+
+        @Override
+        public boolean removeLong(long e) {
+            int i = indexOf(e);
+            if(i < 0) return false;
+            removeAt(i);
+            return true;
+        }
+
+        /**
+         * Adds {@code len} elements of the specified array, starting at {@code off}, to this
+         * queue. When the batch is larger than the queue it is appended and the heap is
+         * rebuilt in linear time; otherwise each element is sifted up.
+         * @param a the array holding the elements to add
+         * @param off the index of the first element to add
+         * @param len the number of elements to add
+         * @return {@code true} if this queue changed as a result of the call
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean addAllLong(long[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            if(len == 0) return false;
+            modCount++;
+            int s = size;
+            if(len > queue.length - s) grow(s + len);
+            if(len > s) {
+                System.arraycopy(a, off, queue, s, len);
+                size = s + len;
+                heapify();
+            } else {
+                for(int i = 0; i < len; i++) siftUp(s + i, a[off + i]);
+                size = s + len;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean addAllLong(PrimitiveCollection.OfLong c) {
+            Objects.requireNonNull(c);
+            if(c == this) throw new IllegalArgumentException();
+            long[] a = c.toArrayLong();
+            return addAllLong(a, 0, a.length);
+        }
+
+        @Override
+        public boolean removeIfLong(PrimitivePredicate.OfLong filter) {
+            Objects.requireNonNull(filter);
+            final int expectedModCount = modCount;
+            final long[] es = queue;
+            final int n = size;
+            // test every element before moving any, so a throwing predicate leaves the heap as it was
+            final long[] deathRow = PrimitiveArrayList.nBits(Math.max(n, 1));
+            boolean removed = false;
+            for(int r = 0; r < n; r++) {
+                if(filter.testLong(es[r])) {
+                    PrimitiveArrayList.setBit(deathRow, r);
+                    removed = true;
+                }
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(!removed) return false;
+            int w = 0;
+            for(int r = 0; r < n; r++) if(PrimitiveArrayList.isClear(deathRow, r)) es[w++] = es[r];
+            modCount++;
+            size = w;
+            heapify();
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            size = 0;
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public long[] toArrayLong() { return Arrays.copyOf(queue, size); }
+
+        @Override
+        public long[] toArrayLong(long[] array) {
+            if(array.length < size) return toArrayLong();
+            System.arraycopy(queue, 0, array, 0, size);
+            return array;
+        }
+
+        ///////////// Traversal
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfLong action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final long[] es = queue;
+            for(int i = 0, n = size; i < n; i++) action.acceptLong(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        /**
+         * Returns an iterator over the elements in this queue, in no particular order.
+         * @return an iterator over the elements in this queue
+         */
+        @Override
+        public PrimitiveIterator.OfLong iteratorLong() { return new Itr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this queue, in heap order. The spliterator reports
+         * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements in this queue
+         */
+        @Override
+        public PrimitiveSpliterator.OfLong spliteratorLong() { return new Spliter(0, -1, 0); }
+
+        private final class Itr implements PrimitiveIterator.OfLong {
+            /** Index of element to be returned by subsequent call to next. */
+            private int cursor;
+            /** Index of element returned by most recent call to next, unless that element came from the forgetMeNot list. */
+            private int lastRet = -1;
+            /**
+             * Elements that removals moved from the unvisited part of the heap into the
+             * visited part; they are returned after the array is exhausted.
+             */
+            private PrimitiveArrayDeque.OfLong forgetMeNot;
+            /** Element returned by the most recent call to next if it came from the forgetMeNot list. */
+            private long lastRetElt;
+            private boolean hasLastRetElt;
+            private int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor < size || (forgetMeNot != null && !forgetMeNot.isEmpty()); }
+
+            public long nextLong() {
+                if(expectedModCount != modCount) throw new ConcurrentModificationException();
+                if(cursor < size) return queue[lastRet = cursor++];
+                if(forgetMeNot != null && !forgetMeNot.isEmpty()) {
+                    lastRet = -1;
+                    hasLastRetElt = true;
+                    return lastRetElt = forgetMeNot.pollFirstLong();
+                }
+                throw new NoSuchElementException();
+            }
+
+            public void remove() {
+                if(expectedModCount != modCount) throw new ConcurrentModificationException();
+                if(lastRet != -1) {
+                    long moved = queue[size - 1];
+                    if(removeAt(lastRet)) {
+                        if(forgetMeNot == null) forgetMeNot = new PrimitiveArrayDeque.OfLong();
+                        forgetMeNot.addLastLong(moved);
+                    } else cursor--;
+                    lastRet = -1;
+                } else if(hasLastRetElt) {
+                    removeAt(indexOf(lastRetElt));
+                    hasLastRetElt = false;
+                } else throw new IllegalStateException();
+                expectedModCount = modCount;
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfLong {
+            private int index;            // current index, modified on advance/split
+            private int fence;            // -1 until first use
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfLong action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                if(i < hi) {
+                    index = i + 1;
+                    action.acceptLong(queue[i]);
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfLong action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                final long[] es = queue;
+                index = hi;
+                for(; i < hi; i++) action.acceptLong(es[i]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return getFence() - index; }
+
+            @Override
+            public int characteristics() { return Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+    }
+
+    /**
+     * An unbounded priority queue of {@code int} values kept in a {@value #ARITY}-ary
+     * min-heap laid out in a flat {@code int[]}. The head of the queue is the least
+     * element with respect to the queue's {@link PrimitiveComparator.OfInt}, or to the
+     * natural ordering of {@code int} values when none (or
+     * {@link PrimitiveComparator#naturalOrderInt()}) is given; in that case elements are
+     * compared inline rather than through the comparator.
+     * <p>
+     * A {@value #ARITY}-ary heap is half as tall as a binary one, and the children of a node
+     * sit next to each other in the array, so a sift touches fewer cache lines. Offering
+     * and polling take O(log n) time, {@link #peekInt()} and {@link #size()} constant time,
+     * and building a queue from an array with
+     * {@link #OfInt(int[], int, int, PrimitiveComparator.OfInt)} linear time.
+     * {@link #drainTo(int[])} removes elements in priority order into an array.
+     * <p>
+     * The iterator and spliterator of this class traverse the elements in heap order,
+     * not priority order, and are <i>fail-fast</i>. The unboxed {@code peekInt} and
+     * {@code pollInt} return {@code 0} on an empty queue.
+     * <p>
+     * This is analogous to {@link java.util.PriorityQueue}
+     */
+    public static class OfInt extends PrimitiveAbstractQueue.OfInt {
+        /**
+         * The number of children of each node of the heap.
+         */
+        public static final int ARITY = 4;
+
+        /**
+         * The heap: the children of {@code queue[k]} are {@code queue[ARITY * k + 1]}
+         * through {@code queue[ARITY * k + ARITY]}. Only the first {@link #size} slots are live.
+         */
+        transient int[] queue;
+
+        /**
+         * The number of elements in the queue.
+         */
+        int size;
+
+        /**
+         * The comparator given at construction, or {@code null}.
+         */
+        private final PrimitiveComparator.OfInt comparator;
+
+        /**
+         * Whether elements are ordered naturally and can be compared inline.
+         */
+        private final boolean natural;
+
+        /**
+         * The number of times this queue has been <i>structurally modified</i>.
+         * Used by the iterators to provide fail-fast behaviour.
+         */
+        transient int modCount;
+
+        /**
+         * Constructs an empty queue with an initial capacity of eleven that orders
+         * its elements naturally.
+         */
+        public OfInt() { this(DEFAULT_INITIAL_CAPACITY, null); }
+
+        /**
+         * Constructs an empty queue with the specified initial capacity that orders
+         * its elements naturally.
+         * @param initialCapacity the initial capacity of this queue
+         * @throws IllegalArgumentException if {@code initialCapacity} is less than 1
+         */
+        public OfInt(int initialCapacity) { this(initialCapacity, null); }
+
+        /**
+         * Constructs an empty queue with an initial capacity of eleven whose elements
+         * are ordered by the specified comparator.
+         * @param comparator the comparator that will be used to order this queue, or
+         *        {@code null} for natural ordering
+         */
+        public OfInt(PrimitiveComparator.OfInt comparator) { this(DEFAULT_INITIAL_CAPACITY, comparator); }
+
+        /**
+         * Constructs an empty queue with the specified initial capacity whose elements
+         * are ordered by the specified comparator.
+         * @param initialCapacity the initial capacity of this queue
+         * @param comparator the comparator that will be used to order this queue, or
+         *        {@code null} for natural ordering
+         * @throws IllegalArgumentException if {@code initialCapacity} is less than 1
+         */
+        public OfInt(int initialCapacity, PrimitiveComparator.OfInt comparator) {
+            if(initialCapacity < 1) throw new IllegalArgumentException("Illegal Capacity: " + initialCapacity);
+            this.queue = new int[initialCapacity];
+            this.comparator = comparator;
+            this.natural = comparator == null || comparator == PrimitiveComparator.naturalOrderInt();
+        }
+
+        /**
+         * Constructs a queue holding {@code len} elements of the specified array, starting
+         * at {@code off}, ordered by the specified comparator. The heap is built bottom-up
+         * in linear time.
+         * @param a the array whose elements are to be placed into this queue
+         * @param off the index of the first element to copy
+         * @param len the number of elements to copy
+         * @param comparator the comparator that will be used to order this queue, or
+         *        {@code null} for natural ordering
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfInt(int[] a, int off, int len, PrimitiveComparator.OfInt comparator) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            this.queue = new int[java.lang.Math.max(len, 1)];
+            System.arraycopy(a, off, queue, 0, len);
+            this.size = len;
+            this.comparator = comparator;
+            this.natural = comparator == null || comparator == PrimitiveComparator.naturalOrderInt();
+            heapify();
+        }
+
+        /**
+         * Constructs a queue containing the elements of the specified collection. If the
+         * collection is a {@code PrimitivePriorityQueue.OfInt} this queue takes over its
+         * ordering; otherwise elements are ordered naturally.
+         * @param c the collection whose elements are to be placed into this queue
+         */
+        public OfInt(PrimitiveCollection.OfInt c) {
+            if(c instanceof PrimitivePriorityQueue.OfInt pq) {
+                this.comparator = pq.comparator;
+                this.natural = pq.natural;
+                this.queue = Arrays.copyOf(pq.queue, java.lang.Math.max(pq.size, 1));
+                this.size = pq.size;
+            } else {
+                int[] a = c.toArrayInt();
+                this.comparator = null;
+                this.natural = true;
+                this.queue = a.length == 0 ? new int[1] : a;
+                this.size = a.length;
+                heapify();
+            }
+        }
+
+        /**
+         * Returns the comparator used to order the elements in this queue, or
+         * {@code null} if this queue is ordered by the natural ordering of its elements.
+         * @return the comparator given at construction, or {@code null}
+         */
+        public PrimitiveComparator.OfInt comparator() { return comparator; }
+
+        ///////////// Heap maintenance
+
+        private void grow(int minCapacity) {
+            int oldCapacity = queue.length;
+            // Double size if small; else grow by 50%
+            int newCapacity = PrimitiveArrayList.newLength(oldCapacity, minCapacity - oldCapacity, oldCapacity < 64 ? oldCapacity + 2 : oldCapacity >> 1);
+            queue = Arrays.copyOf(queue, newCapacity);
+        }
+
+        /**
+         * Moves {@code x} up from slot {@code k} until its parent is not greater.
+         * @return the slot where {@code x} was placed
+         */
+        private int siftUp(int k, int x) {
+            final int[] es = queue;
+            if(natural) {
+                while(k > 0) {
+                    int parent = (k - 1) >>> 2;
+                    int e = es[parent];
+                    if(!(x < e)) break;
+                    es[k] = e;
+                    k = parent;
+                }
+            } else {
+                final PrimitiveComparator.OfInt cmp = comparator;
+                while(k > 0) {
+                    int parent = (k - 1) >>> 2;
+                    int e = es[parent];
+                    if(cmp.compareInt(x, e) >= 0) break;
+                    es[k] = e;
+                    k = parent;
+                }
+            }
+            es[k] = x;
+            return k;
+        }
+
+        /**
+         * Moves {@code x} down from slot {@code k} of a heap of {@code n} elements
+         * until none of its children is less.
+         * @return the slot where {@code x} was placed
+         */
+        private int siftDown(int k, int x, int n) {
+            final int[] es = queue;
+            // k has a child exactly when ARITY * k + 1 < n
+            final int limit = (n + 2) >>> 2;
+            if(natural) {
+                while(k < limit) {
+                    int c = (k << 2) + 1, end = java.lang.Math.min(c + ARITY, n);
+                    int m = es[c];
+                    for(int j = c + 1; j < end; j++) if(es[j] < m) m = es[c = j];
+                    if(!(m < x)) break;
+                    es[k] = m;
+                    k = c;
+                }
+            } else {
+                final PrimitiveComparator.OfInt cmp = comparator;
+                while(k < limit) {
+                    int c = (k << 2) + 1, end = java.lang.Math.min(c + ARITY, n);
+                    int m = es[c];
+                    for(int j = c + 1; j < end; j++) if(cmp.compareInt(es[j], m) < 0) m = es[c = j];
+                    if(cmp.compareInt(m, x) >= 0) break;
+                    es[k] = m;
+                    k = c;
+                }
+            }
+            es[k] = x;
+            return k;
+        }
+
+        /**
+         * Establishes the heap invariant over the whole array in linear time.
+         */
+        private void heapify() {
+            final int[] es = queue;
+            final int n = size;
+            for(int i = (n - 2) >>> 2; n > 1 && i >= 0; i--) siftDown(i, es[i], n);
+        }
+
+        /**
+         * Removes the element at slot {@code i}, filling the hole with the last element.
+         * @return {@code true} if the last element ended up above slot {@code i}, where an
+         *         iterator that already passed {@code i} will not see it
+         */
+        boolean removeAt(int i) {
+            final int[] es = queue;
+            modCount++;
+            int s = --size;
+            if(s == i) return false;
+            int moved = es[s];
+            return siftDown(i, moved, s) == i && siftUp(i, moved) != i;
+        }
+
+        private int indexOf(int e) {
+            final int[] es = queue;
+            for(int i = 0, n = size; i < n; i++) if(es[i] == e) return i;
+            return -1;
+        }
+
+        ///////////// Queue operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean offerInt(int e) {
+            modCount++;
+            int i = size;
+            if(i >= queue.length) grow(i + 1);
+            siftUp(i, e);
+            size = i + 1;
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this queue, or {@code 0} if this queue is empty
+         */
+        @Override
+        public int peekInt() { return size == 0 ? 0 : queue[0]; }
+
+        /**
+         * {@inheritDoc}
+         * @return the head of this queue, or {@code 0} if this queue is empty
+         */
+        @Override
+        public int pollInt() {
+            if(size == 0) return 0;
+            final int[] es = queue;
+            int result = es[0];
+            modCount++;
+            int n = --size;
+            if(n > 0) siftDown(0, es[n], n);
+            return result;
+        }
+
+        /**
+         * Removes up to {@code dst.length} elements from this queue into {@code dst}, in
+         * priority order.
+         * @param dst the array into which the elements are to be stored
+         * @return the number of elements removed, which is {@code min(size(), dst.length)}
+         */
+        public int drainTo(int[] dst) {
+            final int n = java.lang.Math.min(size, dst.length);
+            if(n == 0) return 0;
+            final int[] es = queue;
+            int s = size;
+            for(int i = 0; i < n; i++) {
+                dst[i] = es[0];
+                if(--s > 0) siftDown(0, es[s], s);
+            }
+            size = s;
+            modCount++;
+            return n;
+        }
+
+        @Override
+        public boolean containsInt(int e) { return indexOf(e) >= 0; }
+
+        @Override
+        public boolean removeInt(int e) {
+            int i = indexOf(e);
+            if(i < 0) return false;
+            removeAt(i);
+            return true;
+        }
+
+        /**
+         * Adds {@code len} elements of the specified array, starting at {@code off}, to this
+         * queue. When the batch is larger than the queue it is appended and the heap is
+         * rebuilt in linear time; otherwise each element is sifted up.
+         * @param a the array holding the elements to add
+         * @param off the index of the first element to add
+         * @param len the number of elements to add
+         * @return {@code true} if this queue changed as a result of the call
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public boolean addAllInt(int[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            if(len == 0) return false;
+            modCount++;
+            int s = size;
+            if(len > queue.length - s) grow(s + len);
+            if(len > s) {
+                System.arraycopy(a, off, queue, s, len);
+                size = s + len;
+                heapify();
+            } else {
+                for(int i = 0; i < len; i++) siftUp(s + i, a[off + i]);
+                size = s + len;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean addAllInt(PrimitiveCollection.OfInt c) {
+            Objects.requireNonNull(c);
+            if(c == this) throw new IllegalArgumentException();
+            int[] a = c.toArrayInt();
+            return addAllInt(a, 0, a.length);
+        }
+
+        @Override
+        public boolean removeIfInt(PrimitivePredicate.OfInt filter) {
+            Objects.requireNonNull(filter);
+            final int expectedModCount = modCount;
+            final int[] es = queue;
+            final int n = size;
+            // test every element before moving any, so a throwing predicate leaves the heap as it was
+            final long[] deathRow = PrimitiveArrayList.nBits(Math.max(n, 1));
+            boolean removed = false;
+            for(int r = 0; r < n; r++) {
+                if(filter.testInt(es[r])) {
+                    PrimitiveArrayList.setBit(deathRow, r);
+                    removed = true;
+                }
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(!removed) return false;
+            int w = 0;
+            for(int r = 0; r < n; r++) if(PrimitiveArrayList.isClear(deathRow, r)) es[w++] = es[r];
+            modCount++;
+            size = w;
+            heapify();
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            size = 0;
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public int[] toArrayInt() { return Arrays.copyOf(queue, size); }
+
+        @Override
+        public int[] toArrayInt(int[] array) {
+            if(array.length < size) return toArrayInt();
+            System.arraycopy(queue, 0, array, 0, size);
+            return array;
+        }
+
+        ///////////// Traversal
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfInt action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final int[] es = queue;
+            for(int i = 0, n = size; i < n; i++) action.acceptInt(es[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        /**
+         * Returns an iterator over the elements in this queue, in no particular order.
+         * @return an iterator over the elements in this queue
+         */
+        @Override
+        public PrimitiveIterator.OfInt iteratorInt() { return new Itr(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the
+         * elements in this queue, in heap order. The spliterator reports
+         * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements in this queue
+         */
+        @Override
+        public PrimitiveSpliterator.OfInt spliteratorInt() { return new Spliter(0, -1, 0); }
+
+        private final class Itr implements PrimitiveIterator.OfInt {
+            /** Index of element to be returned by subsequent call to next. */
+            private int cursor;
+            /** Index of element returned by most recent call to next, unless that element came from the forgetMeNot list. */
+            private int lastRet = -1;
+            /**
+             * Elements that removals moved from the unvisited part of the heap into the
+             * visited part; they are returned after the array is exhausted.
+             */
+            private PrimitiveArrayDeque.OfInt forgetMeNot;
+            /** Element returned by the most recent call to next if it came from the forgetMeNot list. */
+            private int lastRetElt;
+            private boolean hasLastRetElt;
+            private int expectedModCount = modCount;
+
+            public boolean hasNext() { return cursor < size || (forgetMeNot != null && !forgetMeNot.isEmpty()); }
+
+            public int nextInt() {
+                if(expectedModCount != modCount) throw new ConcurrentModificationException();
+                if(cursor < size) return queue[lastRet = cursor++];
+                if(forgetMeNot != null && !forgetMeNot.isEmpty()) {
+                    lastRet = -1;
+                    hasLastRetElt = true;
+                    return lastRetElt = forgetMeNot.pollFirstInt();
+                }
+                throw new NoSuchElementException();
+            }
+
+            public void remove() {
+                if(expectedModCount != modCount) throw new ConcurrentModificationException();
+                if(lastRet != -1) {
+                    int moved = queue[size - 1];
+                    if(removeAt(lastRet)) {
+                        if(forgetMeNot == null) forgetMeNot = new PrimitiveArrayDeque.OfInt();
+                        forgetMeNot.addLastInt(moved);
+                    } else cursor--;
+                    lastRet = -1;
+                } else if(hasLastRetElt) {
+                    removeAt(indexOf(lastRetElt));
+                    hasLastRetElt = false;
+                } else throw new IllegalStateException();
+                expectedModCount = modCount;
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfInt {
+            private int index;            // current index, modified on advance/split
+            private int fence;            // -1 until first use
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                return (lo >= mid) ? null : new Spliter(lo, index = mid, expectedModCount);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfInt action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                if(i < hi) {
+                    index = i + 1;
+                    action.acceptInt(queue[i]);
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfInt action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                final int[] es = queue;
+                index = hi;
+                for(; i < hi; i++) action.acceptInt(es[i]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return getFence() - index; }
+
+            @Override
+            public int characteristics() { return Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+    }
+}
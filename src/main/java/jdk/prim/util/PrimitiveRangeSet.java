@@ -0,0 +1,1037 @@
+package jdk.prim.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import jdk.prim.util.function.PrimitiveBiConsumer;
+import jdk.prim.util.function.PrimitiveConsumer;
+
+/**
+ * A pseudo-package for holding sets that store runs of consecutive values as ranges
+ * instead of one element at a time
+ */
+public final class PrimitiveRangeSet {
+    private PrimitiveRangeSet() {}
+
+    /**
+     * A {@link PrimitiveNavigableSet.OfLong} stored as a sorted array of disjoint ranges, two
+     * {@code long}s per range, so a set of a few ranges may hold billions of elements. Ranges
+     * are added and removed half-open, as {@code [from, to)}, and are coalesced with
+     * overlapping and adjacent ones as they are added, so the stored ranges are always
+     * separated by at least one absent value. Internally, and in {@link #rangeFirstLong(int)}
+     * and {@link #rangeLastLong(int)}, a range is held by its first and last element, which
+     * lets {@link java.lang.Long#MAX_VALUE} be a member.
+     * <p>
+     * {@code containsLong}, {@code containsRange} and the navigation methods take O(log n)
+     * time for n ranges. Adding or removing a range finds its place in O(log n) time and then
+     * moves the ranges after it, which is O(n) at worst but a single {@code arraycopy}.
+     * {@link #union(PrimitiveRangeSet.OfLong) union},
+     * {@link #intersection(PrimitiveRangeSet.OfLong) intersection},
+     * {@link #difference(PrimitiveRangeSet.OfLong) difference} and {@link #complement() complement}
+     * merge the range arrays in O(n + m) time, and {@code addAllLong}, {@code retainAllLong},
+     * {@code removeAllLong} and {@code containsAllLong} use them when given another range set.
+     * <p>
+     * Iteration yields the elements one at a time without expanding any range. Since a set
+     * may hold more elements than an {@code int} can count, {@link #size()} saturates at
+     * {@link Integer#MAX_VALUE} and {@link #sizeLong()} at {@link java.lang.Long#MAX_VALUE};
+     * {@link #hashCode()} is computed per range in closed form and agrees with
+     * {@link java.util.Set#hashCode()}.
+     * <p>
+     * The unboxed {@code ceilingLong}, {@code floorLong}, {@code higherLong} and {@code lowerLong}
+     * throw {@link NoSuchElementException} when there is no such element, where the boxed
+     * ones return {@code null}; the unboxed {@code pollFirstLong} and {@code pollLastLong}
+     * return {@code 0} on an empty set.
+     * <p>
+     * The iterators of this class and of its views are <i>fail-fast</i>.
+     */
+    public static class OfLong extends PrimitiveAbstractSet.OfLong implements PrimitiveNavigableSet.OfLong, Cloneable {
+        private static final long MIN = java.lang.Long.MIN_VALUE;
+        private static final long MAX = java.lang.Long.MAX_VALUE;
+
+        /** The ranges, sorted; range {@code i} is {@code [ranges[2 * i], ranges[2 * i + 1]]}. */
+        private transient long[] ranges;
+        /** The number of ranges. */
+        private transient int count;
+        transient int modCount;
+
+        /**
+         * Constructs an empty set.
+         */
+        public OfLong() { ranges = new long[16]; }
+
+        /**
+         * Constructs a set containing the elements of the specified collection. The ranges of
+         * another range set, or of a view of one, are copied without visiting their elements.
+         * @param c the collection whose elements are to be placed into this set
+         */
+        public OfLong(PrimitiveCollection.OfLong c) {
+            Objects.requireNonNull(c);
+            if(c instanceof PrimitiveRangeSet.OfLong r) {
+                ranges = Arrays.copyOf(r.ranges, java.lang.Math.max(2, 2 * r.count));
+                count = r.count;
+            } else if(c instanceof PrimitiveRangeSet.OfLong.SubSet s) {
+                PrimitiveRangeSet.OfLong r = s.copy();
+                ranges = r.ranges;
+                count = r.count;
+            } else {
+                ranges = new long[16];
+                addAllLong(c);
+            }
+        }
+
+        private OfLong(long[] ranges, int count) {
+            this.ranges = ranges;
+            this.count = count;
+        }
+
+        /**
+         * Returns a set holding the values of {@code [from, to)}.
+         * @param from the first value of the range
+         * @param to the value after the last value of the range
+         * @return a set holding the range
+         * @throws IllegalArgumentException if {@code from > to}
+         */
+        public static PrimitiveRangeSet.OfLong ofRange(long from, long to) {
+            PrimitiveRangeSet.OfLong r = new PrimitiveRangeSet.OfLong();
+            r.addRange(from, to);
+            return r;
+        }
+
+        ///////////// Searching
+
+        /** Returns the index of the first range whose last element is at least {@code e}, or {@code count}. */
+        private int indexAtOrAfter(long e) {
+            int l = 0, h = count;
+            while(l < h) {
+                int m = (l + h) >>> 1;
+                if(ranges[2 * m + 1] < e) l = m + 1;
+                else h = m;
+            }
+            return l;
+        }
+
+        /** Returns the index of the first range whose first element is greater than {@code e}, or {@code count}. */
+        private int indexAfter(long e) {
+            int l = 0, h = count;
+            while(l < h) {
+                int m = (l + h) >>> 1;
+                if(ranges[2 * m] <= e) l = m + 1;
+                else h = m;
+            }
+            return l;
+        }
+
+        /** Returns the index of the range holding the least element of {@code [lo, hi]} at least {@code e}, or {@code -1}. */
+        private int ceilingIndex(long e, long lo, long hi) {
+            if(e < lo) e = lo;
+            if(e > hi) return -1;
+            int i = indexAtOrAfter(e);
+            return i < count && ranges[2 * i] <= hi ? i : -1;
+        }
+
+        /** Returns the index of the range holding the greatest element of {@code [lo, hi]} at most {@code e}, or {@code -1}. */
+        private int floorIndex(long e, long lo, long hi) {
+            if(e > hi) e = hi;
+            if(e < lo) return -1;
+            int i = indexAfter(e) - 1;
+            return i >= 0 && ranges[2 * i + 1] >= lo ? i : -1;
+        }
+
+        /** Whether {@code [lo, hi]} has an element at or after (at or before, unless {@code up}) {@code e}, or strictly so unless {@code inclusive}. */
+        private boolean has(long e, boolean up, boolean inclusive, long lo, long hi) {
+            if(!inclusive) {
+                if(e == (up ? MAX : MIN)) return false;
+                e = up ? e + 1 : e - 1;
+            }
+            return (up ? ceilingIndex(e, lo, hi) : floorIndex(e, lo, hi)) >= 0;
+        }
+
+        /** Returns the element {@link #has} finds, throwing {@link NoSuchElementException} when there is none. */
+        private long nav(long e, boolean up, boolean inclusive, long lo, long hi) {
+            if(!inclusive) {
+                if(e == (up ? MAX : MIN)) throw new NoSuchElementException();
+                e = up ? e + 1 : e - 1;
+            }
+            if(up) {
+                int i = ceilingIndex(e, lo, hi);
+                if(i < 0) throw new NoSuchElementException();
+                return java.lang.Math.max(java.lang.Math.max(e, lo), ranges[2 * i]);
+            }
+            int i = floorIndex(e, lo, hi);
+            if(i < 0) throw new NoSuchElementException();
+            return java.lang.Math.min(java.lang.Math.min(e, hi), ranges[2 * i + 1]);
+        }
+
+        ///////////// Updating
+
+        /** Replaces ranges {@code i} to {@code j - 1} with {@code n} ranges to be filled in by the caller. */
+        private void splice(int i, int j, int n) {
+            int newCount = count - (j - i) + n;
+            if(2 * newCount > ranges.length) ranges = Arrays.copyOf(ranges, java.lang.Math.max(2 * newCount, ranges.length + (ranges.length >> 1)));
+            System.arraycopy(ranges, 2 * j, ranges, 2 * (i + n), 2 * (count - j));
+            count = newCount;
+            modCount++;
+        }
+
+        /** Adds {@code [a, b]}, coalescing it with the ranges it overlaps or touches. */
+        private boolean addClosed(long a, long b) {
+            int i = a == MIN ? 0 : indexAtOrAfter(a - 1);
+            int j = b == MAX ? count : indexAfter(b + 1);
+            if(j - i == 1 && ranges[2 * i] <= a && ranges[2 * i + 1] >= b) return false;
+            if(i < j) {
+                a = java.lang.Math.min(a, ranges[2 * i]);
+                b = java.lang.Math.max(b, ranges[2 * j - 1]);
+            }
+            splice(i, j, 1);
+            ranges[2 * i] = a;
+            ranges[2 * i + 1] = b;
+            return true;
+        }
+
+        /** Removes {@code [a, b]}, trimming or splitting the ranges it overlaps. */
+        private boolean removeClosed(long a, long b) {
+            int i = indexAtOrAfter(a);
+            int j = indexAfter(b);
+            if(i >= j) return false;
+            long f = ranges[2 * i], l = ranges[2 * j - 1];
+            splice(i, j, (f < a ? 1 : 0) + (l > b ? 1 : 0));
+            int k = 2 * i;
+            if(f < a) {
+                ranges[k++] = f;
+                ranges[k++] = a - 1;
+            }
+            if(l > b) {
+                ranges[k++] = b + 1;
+                ranges[k] = l;
+            }
+            return true;
+        }
+
+        /** Makes this set hold the ranges of {@code r}, which it then owns. */
+        private boolean assign(PrimitiveRangeSet.OfLong r) {
+            if(sameRanges(r)) return false;
+            ranges = r.ranges;
+            count = r.count;
+            modCount++;
+            return true;
+        }
+
+        private boolean sameRanges(PrimitiveRangeSet.OfLong r) { return count == r.count && Arrays.equals(ranges, 0, 2 * count, r.ranges, 0, 2 * count); }
+
+        private static void checkRange(long from, long to) {
+            if(from > to) throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+
+        ///////////// Range operations
+
+        /**
+         * Adds every value of {@code [from, to)} to this set.
+         * @param from the first value of the range
+         * @param to the value after the last value of the range
+         * @return {@code true} if this set changed
+         * @throws IllegalArgumentException if {@code from > to}
+         */
+        public boolean addRange(long from, long to) {
+            checkRange(from, to);
+            return from != to && addClosed(from, to - 1);
+        }
+
+        /**
+         * Removes every value of {@code [from, to)} from this set.
+         * @param from the first value of the range
+         * @param to the value after the last value of the range
+         * @return {@code true} if this set changed
+         * @throws IllegalArgumentException if {@code from > to}
+         */
+        public boolean removeRange(long from, long to) {
+            checkRange(from, to);
+            return from != to && removeClosed(from, to - 1);
+        }
+
+        /**
+         * Returns {@code true} if this set contains every value of {@code [from, to)}.
+         * @param from the first value of the range
+         * @param to the value after the last value of the range
+         * @return {@code true} if the range is empty or lies within this set
+         * @throws IllegalArgumentException if {@code from > to}
+         */
+        public boolean containsRange(long from, long to) {
+            checkRange(from, to);
+            if(from == to) return true;
+            int i = indexAtOrAfter(from);
+            return i < count && ranges[2 * i] <= from && ranges[2 * i + 1] >= to - 1;
+        }
+
+        /**
+         * Returns {@code true} if this set contains any value of {@code [from, to)}.
+         * @param from the first value of the range
+         * @param to the value after the last value of the range
+         * @return {@code true} if the range and this set intersect
+         * @throws IllegalArgumentException if {@code from > to}
+         */
+        public boolean intersectsRange(long from, long to) {
+            checkRange(from, to);
+            if(from == to) return false;
+            int i = indexAtOrAfter(from);
+            return i < count && ranges[2 * i] <= to - 1;
+        }
+
+        /**
+         * Returns the number of disjoint ranges this set is stored as.
+         * @return the number of ranges
+         */
+        public int rangeCount() { return count; }
+
+        /**
+         * Returns the first element of the range at {@code index}, counting ranges in
+         * ascending order.
+         * @param index the index of the range
+         * @return the first element of the range
+         * @throws IndexOutOfBoundsException if {@code index} is not in {@code [0, rangeCount())}
+         */
+        public long rangeFirstLong(int index) { return ranges[2 * Objects.checkIndex(index, count)]; }
+
+        /**
+         * Returns the last element of the range at {@code index}, counting ranges in
+         * ascending order. The range is {@code [rangeFirstLong(index), rangeLastLong(index)]}.
+         * @param index the index of the range
+         * @return the last element of the range
+         * @throws IndexOutOfBoundsException if {@code index} is not in {@code [0, rangeCount())}
+         */
+        public long rangeLastLong(int index) { return ranges[2 * Objects.checkIndex(index, count) + 1]; }
+
+        /**
+         * Performs the given action on the first and last element of each range, in
+         * ascending order.
+         * @param action the action to be performed for each range
+         */
+        public void forEachRange(PrimitiveBiConsumer.OfLong.AndLong action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            for(int i = 0; i < count; i++) {
+                action.acceptLong(ranges[2 * i], ranges[2 * i + 1]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        ///////////// Set algebra
+
+        /**
+         * Returns a new set holding the elements of this set and of {@code other}.
+         * @param other the set to unite with
+         * @return the union of the two sets
+         */
+        public PrimitiveRangeSet.OfLong union(PrimitiveRangeSet.OfLong other) {
+            final long[] a = ranges, b = other.ranges;
+            final int na = count, nb = other.count;
+            long[] r = new long[2 * java.lang.Math.max(1, na + nb)];
+            int n = 0, i = 0, j = 0;
+            while(i < na || j < nb) {
+                long f, l;
+                if(j >= nb || (i < na && a[2 * i] <= b[2 * j])) {
+                    f = a[2 * i];
+                    l = a[2 * i++ + 1];
+                } else {
+                    f = b[2 * j];
+                    l = b[2 * j++ + 1];
+                }
+                if(n > 0 && (r[2 * n - 1] == MAX || f <= r[2 * n - 1] + 1)) {
+                    if(l > r[2 * n - 1]) r[2 * n - 1] = l;
+                } else {
+                    r[2 * n] = f;
+                    r[2 * n++ + 1] = l;
+                }
+            }
+            return new PrimitiveRangeSet.OfLong(r, n);
+        }
+
+        /**
+         * Returns a new set holding the elements that are in both this set and {@code other}.
+         * @param other the set to intersect with
+         * @return the intersection of the two sets
+         */
+        public PrimitiveRangeSet.OfLong intersection(PrimitiveRangeSet.OfLong other) {
+            final long[] a = ranges, b = other.ranges;
+            final int na = count, nb = other.count;
+            long[] r = new long[2 * java.lang.Math.max(1, na + nb)];
+            int n = 0, i = 0, j = 0;
+            while(i < na && j < nb) {
+                long f = java.lang.Math.max(a[2 * i], b[2 * j]);
+                long l = java.lang.Math.min(a[2 * i + 1], b[2 * j + 1]);
+                if(f <= l) {
+                    r[2 * n] = f;
+                    r[2 * n++ + 1] = l;
+                }
+                if(a[2 * i + 1] < b[2 * j + 1]) i++;
+                else j++;
+            }
+            return new PrimitiveRangeSet.OfLong(r, n);
+        }
+
+        /**
+         * Returns a new set holding the elements of this set that are not in {@code other}.
+         * @param other the set whose elements are excluded
+         * @return the difference of the two sets
+         */
+        public PrimitiveRangeSet.OfLong difference(PrimitiveRangeSet.OfLong other) { return intersection(other.complement()); }
+
+        /**
+         * Returns a new set holding every {@code long} that is not in this set.
+         * @return the complement of this set
+         */
+        public PrimitiveRangeSet.OfLong complement() {
+            long[] r = new long[2 * (count + 1)];
+            int n = 0;
+            long next = MIN;
+            for(int i = 0; i < count; i++) {
+                long f = ranges[2 * i], l = ranges[2 * i + 1];
+                if(f > next) {
+                    r[2 * n] = next;
+                    r[2 * n++ + 1] = f - 1;
+                }
+                if(l == MAX) return new PrimitiveRangeSet.OfLong(r, n);
+                next = l + 1;
+            }
+            r[2 * n] = next;
+            r[2 * n++ + 1] = MAX;
+            return new PrimitiveRangeSet.OfLong(r, n);
+        }
+
+        ///////////// Query operations
+
+        /** Returns the number of elements of {@code [lo, hi]}, saturated at {@link java.lang.Long#MAX_VALUE}. */
+        private long sizeIn(long lo, long hi) {
+            long size = 0;
+            for(int i = lo > hi ? count : indexAtOrAfter(lo); i < count && ranges[2 * i] <= hi; i++) {
+                long len = java.lang.Math.min(ranges[2 * i + 1], hi) - java.lang.Math.max(ranges[2 * i], lo) + 1;
+                // a range may hold up to 2^64 elements, which wraps to zero or below
+                if(len <= 0 || (size += len) < 0) return MAX;
+            }
+            return size;
+        }
+
+        /**
+         * Returns the number of elements in this set, or {@link java.lang.Long#MAX_VALUE} if there are more.
+         * @return the number of elements in this set
+         */
+        public long sizeLong() { return sizeIn(MIN, MAX); }
+
+        /**
+         * {@inheritDoc} This takes O(n) time for n ranges.
+         * @return {@inheritDoc}, or {@link Integer#MAX_VALUE} if there are more
+         */
+        @Override
+        public int size() { return (int) java.lang.Math.min(sizeLong(), Integer.MAX_VALUE); }
+
+        @Override
+        public boolean isEmpty() { return count == 0; }
+
+        @Override
+        public boolean containsLong(long e) {
+            int i = indexAtOrAfter(e);
+            return i < count && ranges[2 * i] <= e;
+        }
+
+        /**
+         * Returns {@code null}, as elements are in ascending natural order.
+         * @return {@code null}
+         */
+        @Override
+        public PrimitiveComparator.OfLong comparatorLong() { return null; }
+
+        @Override
+        public Comparator<java.lang.Long> comparator() { return null; }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addLong(long e) { return addClosed(e, e); }
+
+        @Override
+        public boolean removeLong(long e) { return removeClosed(e, e); }
+
+        @Override
+        public void clear() {
+            if(count == 0) return;
+            count = 0;
+            modCount++;
+        }
+
+        ///////////// Bulk operations
+
+        @Override
+        public boolean containsAllLong(PrimitiveCollection.OfLong c) {
+            if(c instanceof PrimitiveRangeSet.OfLong r) return r.difference(this).isEmpty();
+            return super.containsAllLong(c);
+        }
+
+        @Override
+        public boolean addAllLong(PrimitiveCollection.OfLong c) {
+            if(c instanceof PrimitiveRangeSet.OfLong r) return assign(union(r));
+            return super.addAllLong(c);
+        }
+
+        @Override
+        public boolean removeAllLong(PrimitiveCollection.OfLong c) {
+            if(c instanceof PrimitiveRangeSet.OfLong r) return assign(difference(r));
+            Objects.requireNonNull(c);
+            boolean modified = false;
+            var it = c.iteratorLong();
+            while(it.hasNext()) modified |= removeLong(it.nextLong());
+            return modified;
+        }
+
+        @Override
+        public boolean retainAllLong(PrimitiveCollection.OfLong c) {
+            if(c instanceof PrimitiveRangeSet.OfLong r) return assign(intersection(r));
+            return super.retainAllLong(c);
+        }
+
+        ///////////// Navigation
+
+        @Override
+        public long firstLong() { return nav(MIN, true, true, MIN, MAX); }
+
+        @Override
+        public long lastLong() { return nav(MAX, false, true, MIN, MAX); }
+
+        @Override
+        public java.lang.Long first() { return firstLong(); }
+
+        @Override
+        public java.lang.Long last() { return lastLong(); }
+
+        @Override
+        public java.lang.Long getFirst() { return firstLong(); }
+
+        @Override
+        public java.lang.Long getLast() { return lastLong(); }
+
+        @Override
+        public long ceilingLong(long e) { return nav(e, true, true, MIN, MAX); }
+
+        @Override
+        public long higherLong(long e) { return nav(e, true, false, MIN, MAX); }
+
+        @Override
+        public long floorLong(long e) { return nav(e, false, true, MIN, MAX); }
+
+        @Override
+        public long lowerLong(long e) { return nav(e, false, false, MIN, MAX); }
+
+        @Override
+        public java.lang.Long ceiling(java.lang.Long e) { return has(e, true, true, MIN, MAX) ? nav(e, true, true, MIN, MAX) : null; }
+
+        @Override
+        public java.lang.Long higher(java.lang.Long e) { return has(e, true, false, MIN, MAX) ? nav(e, true, false, MIN, MAX) : null; }
+
+        @Override
+        public java.lang.Long floor(java.lang.Long e) { return has(e, false, true, MIN, MAX) ? nav(e, false, true, MIN, MAX) : null; }
+
+        @Override
+        public java.lang.Long lower(java.lang.Long e) { return has(e, false, false, MIN, MAX) ? nav(e, false, false, MIN, MAX) : null; }
+
+        /**
+         * {@inheritDoc}
+         * @return the first element, or {@code 0} if this set is empty
+         */
+        @Override
+        public long pollFirstLong() {
+            if(count == 0) return 0;
+            long e = ranges[0];
+            removeClosed(e, e);
+            return e;
+        }
+
+        /**
+         * {@inheritDoc}
+         * @return the last element, or {@code 0} if this set is empty
+         */
+        @Override
+        public long pollLastLong() {
+            if(count == 0) return 0;
+            long e = ranges[2 * count - 1];
+            removeClosed(e, e);
+            return e;
+        }
+
+        @Override
+        public java.lang.Long pollFirst() { return count == 0 ? null : pollFirstLong(); }
+
+        @Override
+        public java.lang.Long pollLast() { return count == 0 ? null : pollLastLong(); }
+
+        @Override
+        public long removeFirstLong() {
+            long e = firstLong();
+            removeClosed(e, e);
+            return e;
+        }
+
+        @Override
+        public long removeLastLong() {
+            long e = lastLong();
+            removeClosed(e, e);
+            return e;
+        }
+
+        @Override
+        public java.lang.Long removeFirst() { return removeFirstLong(); }
+
+        @Override
+        public java.lang.Long removeLast() { return removeLastLong(); }
+
+        ///////////// Views
+
+        /**
+         * Returns a view of {@code [lo, hi]} narrowed to the given bounds, which are in
+         * ascending order. An empty view keeps bounds with {@code lo > hi} next to its
+         * requested ones so that it can still bound views of its own.
+         */
+        private SubSet view(long lo, long hi, long from, boolean fromInclusive, long to, boolean toInclusive, boolean descending) {
+            if(!fromInclusive) {
+                if(from == MAX) return new SubSet(MAX, MAX - 1, descending);
+                from++;
+            }
+            if(!toInclusive) {
+                if(to == MIN) return new SubSet(MIN + 1, MIN, descending);
+                to--;
+            }
+            return new SubSet(java.lang.Math.max(from, lo), java.lang.Math.min(to, hi), descending);
+        }
+
+        @Override
+        public PrimitiveNavigableSet.OfLong subSetLong(long fromElement, boolean fromInclusive, long toElement, boolean toInclusive) {
+            if(fromElement > toElement) throw new IllegalArgumentException("fromKey > toKey");
+            return view(MIN, MAX, fromElement, fromInclusive, toElement, toInclusive, false);
+        }
+
+        @Override
+        public PrimitiveNavigableSet.OfLong headSetLong(long toElement, boolean inclusive) { return view(MIN, MAX, MIN, true, toElement, inclusive, false); }
+
+        @Override
+        public PrimitiveNavigableSet.OfLong tailSetLong(long fromElement, boolean inclusive) { return view(MIN, MAX, fromElement, inclusive, MAX, true, false); }
+
+        @Override
+        public PrimitiveSortedSet.OfLong subSetLong(long fromElement, long toElement) { return subSetLong(fromElement, true, toElement, false); }
+
+        @Override
+        public PrimitiveSortedSet.OfLong headSetLong(long toElement) { return headSetLong(toElement, false); }
+
+        @Override
+        public PrimitiveSortedSet.OfLong tailSetLong(long fromElement) { return tailSetLong(fromElement, true); }
+
+        @Override
+        public PrimitiveNavigableSet.OfLong descendingSetLong() { return new SubSet(MIN, MAX, true); }
+
+        @Override
+        public PrimitiveNavigableSet.OfLong reversedLong() { return descendingSetLong(); }
+
+        ///////////// Traversal
+
+        @Override
+        public Iterator<java.lang.Long> iterator() { return iteratorLong(); }
+
+        @Override
+        public PrimitiveIterator.OfLong iteratorLong() { return new Itr(MIN, MAX, false); }
+
+        @Override
+        public PrimitiveIterator.OfLong descendingIteratorLong() { return new Itr(MIN, MAX, true); }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfLong action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            for(int i = 0; i < count; i++) {
+                for(long e = ranges[2 * i], last = ranges[2 * i + 1];; e++) {
+                    action.acceptLong(e);
+                    if(e == last) break;
+                }
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        /**
+         * Walks the elements of {@code [lo, hi]} one range at a time, stepping within a range
+         * without searching.
+         */
+        private final class Itr implements PrimitiveIterator.OfLong {
+            private final long lo, hi;
+            private final boolean descending;
+            /** The range of {@code next}, or {@code -1} once the iteration is over. */
+            private int index;
+            private long next, end;
+            private long lastRet;
+            private boolean canRemove;
+            private int expectedModCount = modCount;
+
+            Itr(long lo, long hi, boolean descending) {
+                this.lo = lo;
+                this.hi = hi;
+                this.descending = descending;
+                index = descending ? floorIndex(hi, lo, hi) : ceilingIndex(lo, lo, hi);
+                if(index >= 0) enter();
+            }
+
+            /** Moves to the first element of range {@code index} in iteration order. */
+            private void enter() {
+                long f = java.lang.Math.max(ranges[2 * index], lo), l = java.lang.Math.min(ranges[2 * index + 1], hi);
+                if(descending) {
+                    next = l;
+                    end = f;
+                } else {
+                    next = f;
+                    end = l;
+                }
+            }
+
+            public boolean hasNext() { return index >= 0; }
+
+            public long nextLong() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(index < 0) throw new NoSuchElementException();
+                lastRet = next;
+                canRemove = true;
+                if(next != end) next += descending ? -1 : 1;
+                else {
+                    if(descending) {
+                        if(--index >= 0 && ranges[2 * index + 1] < lo) index = -1;
+                    } else if(++index >= count || ranges[2 * index] > hi) index = -1;
+                    if(index >= 0) enter();
+                }
+                return lastRet;
+            }
+
+            public void remove() {
+                if(!canRemove) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                canRemove = false;
+                removeClosed(lastRet, lastRet);
+                expectedModCount = modCount;
+                // the removal may have split or dropped a range, so find the range of next again
+                if(index >= 0) index = descending ? floorIndex(next, lo, hi) : ceilingIndex(next, lo, hi);
+            }
+        }
+
+        ///////////// Copying, comparison and hashing
+
+        /** Returns a new set holding the elements of {@code [lo, hi]}. */
+        private PrimitiveRangeSet.OfLong copyIn(long lo, long hi) {
+            int i = lo > hi ? count : indexAtOrAfter(lo), j = lo > hi ? count : indexAfter(hi);
+            long[] r = new long[java.lang.Math.max(2, 2 * (j - i))];
+            System.arraycopy(ranges, 2 * i, r, 0, 2 * (j - i));
+            if(j > i) {
+                r[0] = java.lang.Math.max(r[0], lo);
+                r[2 * (j - i) - 1] = java.lang.Math.min(r[2 * (j - i) - 1], hi);
+            }
+            return new PrimitiveRangeSet.OfLong(r, j - i);
+        }
+
+        /** Returns the ranges of {@code [lo, hi]} in iteration order, as {@code [1..4, 9]}. */
+        private String toStringIn(long lo, long hi, boolean descending) {
+            int i = lo > hi ? count : indexAtOrAfter(lo), j = lo > hi ? count : indexAfter(hi);
+            StringBuilder sb = new StringBuilder("[");
+            for(int k = 0; k < j - i; k++) {
+                int at = descending ? j - 1 - k : i + k;
+                long f = java.lang.Math.max(ranges[2 * at], lo), l = java.lang.Math.min(ranges[2 * at + 1], hi);
+                if(k > 0) sb.append(", ");
+                sb.append(descending ? l : f);
+                if(f != l) sb.append("..").append(descending ? f : l);
+            }
+            return sb.append(']').toString();
+        }
+
+        /** Returns the sum of the hash codes of the elements of {@code [lo, hi]}. */
+        private int hashIn(long lo, long hi) {
+            int h = 0;
+            for(int i = lo > hi ? count : indexAtOrAfter(lo); i < count && ranges[2 * i] <= hi; i++)
+                h += hashRange(java.lang.Math.max(ranges[2 * i], lo), java.lang.Math.min(ranges[2 * i + 1], hi));
+            return h;
+        }
+
+        /**
+         * Returns the sum of {@link java.lang.Long#hashCode(long)} over {@code [a, b]}. The hash
+         * of {@code e} is its low word xor its high word, so the sum is taken per block of
+         * elements sharing a high word, bit by bit.
+         */
+        static int hashRange(long a, long b) {
+            final long low = 0xFFFFFFFFL;
+            long ha = a >> 32, hb = b >> 32;
+            if(ha == hb) return hashXor(a & low, b & low, (int) ha);
+            int h = hashXor(a & low, low, (int) ha) + hashXor(0, b & low, (int) hb);
+            // every low word occurs once in a whole block, and they sum to 2^31 modulo 2^32
+            return h + ((int) (hb - ha - 1) << 31);
+        }
+
+        /** Returns the sum of {@code l ^ h} over {@code l} in {@code [from, to]}, where {@code 0 <= from <= to < 2^32}. */
+        private static int hashXor(long from, long to, int h) {
+            long n = to - from + 1;
+            int sum = 0;
+            for(int j = 0; j < 32; j++) {
+                long ones = ones(to, j) - ones(from - 1, j);
+                if((h >>> j & 1) != 0) ones = n - ones;
+                sum += (int) (ones << j);
+            }
+            return sum;
+        }
+
+        /** Returns how many of {@code 0} to {@code x} have bit {@code j} set, {@code 0} if {@code x} is {@code -1}. */
+        private static long ones(long x, int j) {
+            long p = x + 1, period = 1L << (j + 1);
+            return (p / period << j) + java.lang.Math.max(0, p % period - (1L << j));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(o == this) return true;
+            if(o instanceof PrimitiveRangeSet.OfLong r) return sameRanges(r);
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() { return hashIn(MIN, MAX); }
+
+        /**
+         * Returns the ranges of this set in ascending order, each as its first element or as
+         * {@code first..last}, for example {@code [1..4, 9]}.
+         * @return a string representation of this set
+         */
+        @Override
+        public String toString() { return toStringIn(MIN, MAX, false); }
+
+        /**
+         * Returns a copy of this set.
+         * @return a copy of this set
+         */
+        @Override
+        public PrimitiveRangeSet.OfLong clone() {
+            try {
+                var c = (PrimitiveRangeSet.OfLong) super.clone();
+                c.ranges = Arrays.copyOf(ranges, java.lang.Math.max(2, 2 * count));
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        /**
+         * The elements of {@code [lo, hi]}, possibly in descending order; the view is empty
+         * when {@code lo > hi}.
+         */
+        private final class SubSet extends PrimitiveAbstractSet.OfLong implements PrimitiveNavigableSet.OfLong {
+            private final long lo, hi;
+            private final boolean descending;
+
+            SubSet(long lo, long hi, boolean descending) {
+                this.lo = lo;
+                this.hi = hi;
+                this.descending = descending;
+            }
+
+            private boolean inRange(long k) { return k >= lo && k <= hi; }
+
+            /** Whether {@code k} may bound a view of this one. */
+            private boolean inRange(long k, boolean inclusive) {
+                if(inclusive) return inRange(k);
+                return (k >= lo || k == lo - 1) && (k <= hi || k == hi + 1);
+            }
+
+            PrimitiveRangeSet.OfLong copy() { return copyIn(lo, hi); }
+
+            ///////////// Query operations
+
+            @Override
+            public int size() { return (int) java.lang.Math.min(sizeIn(lo, hi), Integer.MAX_VALUE); }
+
+            @Override
+            public boolean isEmpty() { return ceilingIndex(lo, lo, hi) < 0; }
+
+            @Override
+            public boolean containsLong(long e) { return inRange(e) && PrimitiveRangeSet.OfLong.this.containsLong(e); }
+
+            @Override
+            public PrimitiveComparator.OfLong comparatorLong() { return descending ? PrimitiveComparator.reverseOrderLong() : null; }
+
+            @Override
+            public Comparator<java.lang.Long> comparator() { return comparatorLong(); }
+
+            ///////////// Modification operations
+
+            @Override
+            public boolean addLong(long e) {
+                if(!inRange(e)) throw new IllegalArgumentException("key out of range");
+                return PrimitiveRangeSet.OfLong.this.addLong(e);
+            }
+
+            @Override
+            public boolean removeLong(long e) { return inRange(e) && PrimitiveRangeSet.OfLong.this.removeLong(e); }
+
+            @Override
+            public void clear() { if(lo <= hi) removeClosed(lo, hi); }
+
+            ///////////// Navigation
+
+            @Override
+            public long firstLong() { return descending ? nav(MAX, false, true, lo, hi) : nav(MIN, true, true, lo, hi); }
+
+            @Override
+            public long lastLong() { return descending ? nav(MIN, true, true, lo, hi) : nav(MAX, false, true, lo, hi); }
+
+            @Override
+            public java.lang.Long first() { return firstLong(); }
+
+            @Override
+            public java.lang.Long last() { return lastLong(); }
+
+            @Override
+            public java.lang.Long getFirst() { return firstLong(); }
+
+            @Override
+            public java.lang.Long getLast() { return lastLong(); }
+
+            @Override
+            public long ceilingLong(long e) { return nav(e, !descending, true, lo, hi); }
+
+            @Override
+            public long higherLong(long e) { return nav(e, !descending, false, lo, hi); }
+
+            @Override
+            public long floorLong(long e) { return nav(e, descending, true, lo, hi); }
+
+            @Override
+            public long lowerLong(long e) { return nav(e, descending, false, lo, hi); }
+
+            @Override
+            public java.lang.Long ceiling(java.lang.Long e) { return has(e, !descending, true, lo, hi) ? ceilingLong(e) : null; }
+
+            @Override
+            public java.lang.Long higher(java.lang.Long e) { return has(e, !descending, false, lo, hi) ? higherLong(e) : null; }
+
+            @Override
+            public java.lang.Long floor(java.lang.Long e) { return has(e, descending, true, lo, hi) ? floorLong(e) : null; }
+
+            @Override
+            public java.lang.Long lower(java.lang.Long e) { return has(e, descending, false, lo, hi) ? lowerLong(e) : null; }
+
+            /**
+             * {@inheritDoc}
+             * @return the first element, or {@code 0} if this set is empty
+             */
+            @Override
+            public long pollFirstLong() {
+                if(isEmpty()) return 0;
+                long e = firstLong();
+                removeClosed(e, e);
+                return e;
+            }
+
+            /**
+             * {@inheritDoc}
+             * @return the last element, or {@code 0} if this set is empty
+             */
+            @Override
+            public long pollLastLong() {
+                if(isEmpty()) return 0;
+                long e = lastLong();
+                removeClosed(e, e);
+                return e;
+            }
+
+            @Override
+            public java.lang.Long pollFirst() { return isEmpty() ? null : pollFirstLong(); }
+
+            @Override
+            public java.lang.Long pollLast() { return isEmpty() ? null : pollLastLong(); }
+
+            @Override
+            public long removeFirstLong() {
+                long e = firstLong();
+                removeClosed(e, e);
+                return e;
+            }
+
+            @Override
+            public long removeLastLong() {
+                long e = lastLong();
+                removeClosed(e, e);
+                return e;
+            }
+
+            @Override
+            public java.lang.Long removeFirst() { return removeFirstLong(); }
+
+            @Override
+            public java.lang.Long removeLast() { return removeLastLong(); }
+
+            ///////////// Views
+
+            @Override
+            public PrimitiveNavigableSet.OfLong subSetLong(long fromElement, boolean fromInclusive, long toElement, boolean toInclusive) {
+                if(!inRange(fromElement, fromInclusive)) throw new IllegalArgumentException("fromKey out of range");
+                if(!inRange(toElement, toInclusive)) throw new IllegalArgumentException("toKey out of range");
+                if(descending) {
+                    if(fromElement < toElement) throw new IllegalArgumentException("fromKey > toKey");
+                    return view(lo, hi, toElement, toInclusive, fromElement, fromInclusive, true);
+                }
+                if(fromElement > toElement) throw new IllegalArgumentException("fromKey > toKey");
+                return view(lo, hi, fromElement, fromInclusive, toElement, toInclusive, false);
+            }
+
+            @Override
+            public PrimitiveNavigableSet.OfLong headSetLong(long toElement, boolean inclusive) {
+                if(!inRange(toElement, inclusive)) throw new IllegalArgumentException("toKey out of range");
+                if(descending) return view(lo, hi, toElement, inclusive, hi, true, true);
+                return view(lo, hi, lo, true, toElement, inclusive, false);
+            }
+
+            @Override
+            public PrimitiveNavigableSet.OfLong tailSetLong(long fromElement, boolean inclusive) {
+                if(!inRange(fromElement, inclusive)) throw new IllegalArgumentException("fromKey out of range");
+                if(descending) return view(lo, hi, lo, true, fromElement, inclusive, true);
+                return view(lo, hi, fromElement, inclusive, hi, true, false);
+            }
+
+            @Override
+            public PrimitiveSortedSet.OfLong subSetLong(long fromElement, long toElement) { return subSetLong(fromElement, true, toElement, false); }
+
+            @Override
+            public PrimitiveSortedSet.OfLong headSetLong(long toElement) { return headSetLong(toElement, false); }
+
+            @Override
+            public PrimitiveSortedSet.OfLong tailSetLong(long fromElement) { return tailSetLong(fromElement, true); }
+
+            @Override
+            public PrimitiveNavigableSet.OfLong descendingSetLong() {
+                if(lo == MIN && hi == MAX && descending) return PrimitiveRangeSet.OfLong.this;
+                return new SubSet(lo, hi, !descending);
+            }
+
+            @Override
+            public PrimitiveNavigableSet.OfLong reversedLong() { return descendingSetLong(); }
+
+            ///////////// Traversal
+
+            @Override
+            public Iterator<java.lang.Long> iterator() { return iteratorLong(); }
+
+            @Override
+            public PrimitiveIterator.OfLong iteratorLong() { return new Itr(lo, hi, descending); }
+
+            @Override
+            public PrimitiveIterator.OfLong descendingIteratorLong() { return new Itr(lo, hi, !descending); }
+
+            ///////////// Comparison and hashing
+
+            @Override
+            public int hashCode() { return hashIn(lo, hi); }
+
+            @Override
+            public String toString() { return toStringIn(lo, hi, descending); }
+        }
+    }
+}
@@ -0,0 +1,1148 @@
+package jdk.prim.util;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+
+import jdk.prim.util.function.PrimitiveConsumer;
+
+/**
+ * A pseudo-package for holding compressed bitmap implementations of {@link PrimitiveSet}
+ * in the style of Roaring bitmaps, for the {@code int} type
+ */
+public final class PrimitiveRoaringSet {
+    private PrimitiveRoaringSet() {}
+
+    /**
+     * A compressed bitmap set of {@code int} values.
+     * <p>
+     * The value space is cut into chunks of {@code 65536} values sharing their high 16 bits.
+     * Each chunk that holds at least one element gets a container of its low 16 bits, in the
+     * most compact of three forms:
+     * <ul>
+     * <li>a sorted {@code char[]} of up to {@value #ARRAY_MAX} values, two bytes each,</li>
+     * <li>a bitmap of {@code 1024} words, a fixed 8 KiB, for denser chunks,</li>
+     * <li>a {@code char[]} of runs of consecutive values, four bytes per run, for chunks
+     * that {@link #runOptimize()} or {@link #addRangeInt(int, int)} find to be clustered.</li>
+     * </ul>
+     * A set of {@code n} scattered elements therefore costs about {@code 2n} bytes, a dense
+     * set about one bit per value, and a set of long runs next to nothing.
+     * {@link #containsInt(int)}, {@link #addInt(int)} and {@link #removeInt(int)} find the
+     * container by binary search over the chunk keys.
+     * <p>
+     * {@link #and(PrimitiveRoaringSet.OfInt, PrimitiveRoaringSet.OfInt)}, {@link #or(PrimitiveRoaringSet.OfInt, PrimitiveRoaringSet.OfInt)}, {@link #andNot(PrimitiveRoaringSet.OfInt, PrimitiveRoaringSet.OfInt)}
+     * and {@link #xor(PrimitiveRoaringSet.OfInt, PrimitiveRoaringSet.OfInt)} combine two sets chunk by chunk, word-parallel between
+     * bitmaps and by merging between arrays; {@code retainAllInt}, {@code addAllInt},
+     * {@code removeAllInt} and {@link #xorAllInt(PrimitiveCollection.OfInt)} do the same in
+     * place when given another set of this class. {@link #rank(int)} and {@link #select(long)}
+     * skip whole chunks by their cardinality, and {@link #batchIterator()} copies elements into
+     * a caller's {@code int[]} a container at a time.
+     * <p>
+     * Elements are iterated in ascending (signed) order, and the spliterator reports
+     * {@link Spliterator#SORTED} with natural order. The iterators of this class are
+     * <i>fail-fast</i>. A set may hold all {@code 2^32} values, in which case {@link #size()}
+     * saturates at {@link java.lang.Integer#MAX_VALUE} and {@link #cardinality()} gives the
+     * exact count.
+     */
+    public static class OfInt extends PrimitiveAbstractSet.OfInt implements Cloneable {
+        /**
+         * The most values an array container holds before it becomes a bitmap.
+         */
+        public static final int ARRAY_MAX = 4096;
+
+        private static final int BITMAP_WORDS = 1024;
+
+        /** The chunk keys in ascending order: the high 16 bits with the sign flipped. */
+        private char[] keys;
+        /** The container of each chunk, never empty. */
+        private Container[] containers;
+        /** The number of chunks. */
+        private int n;
+        /** The number of elements. */
+        private long cardinality;
+        /** The number of times this set has been structurally modified. */
+        private transient int modCount;
+
+        /**
+         * Constructs an empty set.
+         */
+        public OfInt() {
+            keys = new char[4];
+            containers = new Container[4];
+        }
+
+        /**
+         * Constructs a set containing the elements of the specified collection.
+         * @param c the collection whose elements are to be placed into this set
+         */
+        public OfInt(PrimitiveCollection.OfInt c) {
+            this();
+            addAllInt(c);
+        }
+
+        private static char keyOf(int e) { return (char) ((e >>> 16) ^ 0x8000); }
+
+        private static int highOf(int key) { return (key ^ 0x8000) << 16; }
+
+        private int search(int key) {
+            int lo = 0, hi = n - 1;
+            final char[] k = keys;
+            while(lo <= hi) {
+                int mid = (lo + hi) >>> 1, m = k[mid];
+                if(m < key) lo = mid + 1;
+                else if(m > key) hi = mid - 1;
+                else return mid;
+            }
+            return -(lo + 1);
+        }
+
+        private void insertChunk(int i, char key, Container c) {
+            if(n == keys.length) {
+                int len = PrimitiveArrayList.newLength(n, 1, n);
+                keys = Arrays.copyOf(keys, len);
+                containers = Arrays.copyOf(containers, len);
+            }
+            System.arraycopy(keys, i, keys, i + 1, n - i);
+            System.arraycopy(containers, i, containers, i + 1, n - i);
+            keys[i] = key;
+            containers[i] = c;
+            n++;
+        }
+
+        private void removeChunk(int i) {
+            System.arraycopy(keys, i + 1, keys, i, n - 1 - i);
+            System.arraycopy(containers, i + 1, containers, i, n - 1 - i);
+            containers[--n] = null;
+        }
+
+        ///////////// Query operations
+
+        /**
+         * {@inheritDoc}
+         * @return the number of elements, or {@link java.lang.Integer#MAX_VALUE} if it
+         *         does not fit in an {@code int}
+         */
+        @Override
+        public int size() { return (int) java.lang.Math.min(cardinality, java.lang.Integer.MAX_VALUE); }
+
+        /**
+         * Returns the exact number of elements in this set.
+         * @return the number of elements in this set, up to {@code 2^32}
+         */
+        public long cardinality() { return cardinality; }
+
+        @Override
+        public boolean isEmpty() { return cardinality == 0; }
+
+        @Override
+        public boolean containsInt(int e) {
+            int i = search(keyOf(e));
+            return i >= 0 && containers[i].contains(e & 0xFFFF);
+        }
+
+        /**
+         * Returns the number of elements less than or equal to the specified value.
+         * @param e the value to rank
+         * @return the number of elements not greater than {@code e}
+         */
+        public long rank(int e) {
+            int key = keyOf(e);
+            long r = 0;
+            for(int i = 0; i < n; i++) {
+                int k = keys[i];
+                if(k > key) break;
+                Container c = containers[i];
+                r += k < key ? c.cardinality() : c.rank(e & 0xFFFF);
+            }
+            return r;
+        }
+
+        /**
+         * Returns the element with the specified rank, counting from {@code 0}, so that
+         * {@code select(0)} is the least element and {@code rank(select(j)) == j + 1}.
+         * @param j the number of lesser elements
+         * @return the {@code j}th least element
+         * @throws IndexOutOfBoundsException if {@code j} is negative or not less than
+         *         {@link #cardinality()}
+         */
+        public int select(long j) {
+            if(j < 0 || j >= cardinality) throw new IndexOutOfBoundsException("Index " + j + " out of bounds for length " + cardinality);
+            for(int i = 0;; i++) {
+                Container c = containers[i];
+                int card = c.cardinality();
+                if(j < card) return highOf(keys[i]) | c.select((int) j);
+                j -= card;
+            }
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addInt(int e) {
+            char key = keyOf(e);
+            int i = search(key);
+            if(i < 0) {
+                insertChunk(-i - 1, key, new ArrayContainer(e & 0xFFFF));
+            } else {
+                Container c = containers[i];
+                int before = c.cardinality();
+                Container d = containers[i] = c.add(e & 0xFFFF);
+                if(d.cardinality() == before) return false;
+            }
+            cardinality++;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public boolean removeInt(int e) {
+            int i = search(keyOf(e));
+            if(i < 0) return false;
+            Container c = containers[i];
+            int before = c.cardinality();
+            Container d = containers[i] = c.remove(e & 0xFFFF);
+            int after = d.cardinality();
+            if(after == before) return false;
+            if(after == 0) removeChunk(i);
+            cardinality--;
+            modCount++;
+            return true;
+        }
+
+        /**
+         * Adds every value of {@code [from, to)} to this set. Whole chunks become a single
+         * run. Like the ranges of {@link java.util.BitSet#set(int, int)}, {@code to} itself is
+         * not added, so {@link Integer#MAX_VALUE} is only added by {@link #addInt(int)}.
+         * @param from the first value to add
+         * @param to the value after the last value to add
+         * @return {@code true} if this set changed as a result of the call
+         * @throws IllegalArgumentException if {@code from > to}
+         */
+        public boolean addRangeInt(int from, int to) {
+            if(from > to) throw new IllegalArgumentException("from > to");
+            if(from == to) return false;
+            to--;
+            long old = cardinality;
+            int first = keyOf(from), last = keyOf(to);
+            for(int key = first; key <= last; key++) {
+                int lo = key == first ? from & 0xFFFF : 0, hi = key == last ? to & 0xFFFF : 0xFFFF;
+                Container run = new RunContainer(lo, hi);
+                int i = search(key);
+                if(i < 0) {
+                    insertChunk(-i - 1, (char) key, run);
+                    cardinality += run.cardinality();
+                } else {
+                    Container c = containers[i], d = or(c, run);
+                    cardinality += d.cardinality() - c.cardinality();
+                    containers[i] = d;
+                }
+            }
+            if(cardinality == old) return false;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(containers, 0, n, null);
+            n = 0;
+            cardinality = 0;
+            modCount++;
+        }
+
+        /**
+         * Converts each container to runs where that is smaller, and trims array containers
+         * to their size. Worth calling once a set built element by element is complete.
+         */
+        public void runOptimize() {
+            for(int i = 0; i < n; i++) containers[i] = containers[i].optimize();
+        }
+
+        ///////////// Set algebra
+
+        private static final int AND = 0, OR = 1, AND_NOT = 2, XOR = 3;
+
+        private static Container combine(int op, Container a, Container b) {
+            return switch(op) {
+                case AND -> and(a, b);
+                case OR -> or(a, b);
+                case AND_NOT -> andNot(a, b);
+                default -> xor(a, b);
+            };
+        }
+
+        /**
+         * Combines two sets chunk by chunk. Chunks present on one side only are copied when
+         * {@code op} keeps them.
+         */
+        private static void combine(int op, PrimitiveRoaringSet.OfInt a, PrimitiveRoaringSet.OfInt b, PrimitiveRoaringSet.OfInt into) {
+            int na = a.n, nb = b.n, i = 0, j = 0, k = 0;
+            char[] keys = new char[op == AND ? java.lang.Math.min(na, nb) : op == AND_NOT ? na : na + nb];
+            Container[] cs = new Container[java.lang.Math.max(keys.length, 1)];
+            long card = 0;
+            while(i < na || j < nb) {
+                int ka = i < na ? a.keys[i] : 0x10000, kb = j < nb ? b.keys[j] : 0x10000;
+                Container c;
+                int key;
+                if(ka == kb) {
+                    c = combine(op, a.containers[i++], b.containers[j++]);
+                    key = ka;
+                } else if(ka < kb) {
+                    Container x = a.containers[i++];
+                    c = op == AND ? null : into == a ? x : x.copy();
+                    key = ka;
+                } else {
+                    Container y = b.containers[j++];
+                    c = op == OR || op == XOR ? y.copy() : null;
+                    key = kb;
+                }
+                if(c != null && c.cardinality() > 0) {
+                    keys[k] = (char) key;
+                    cs[k++] = c;
+                    card += c.cardinality();
+                }
+            }
+            into.keys = keys.length == 0 ? new char[1] : keys;
+            into.containers = cs;
+            into.n = k;
+            into.cardinality = card;
+        }
+
+        /**
+         * Returns a new set holding the elements in both specified sets.
+         * @param a a set
+         * @param b another set
+         * @return the intersection of {@code a} and {@code b}
+         */
+        public static PrimitiveRoaringSet.OfInt and(PrimitiveRoaringSet.OfInt a, PrimitiveRoaringSet.OfInt b) { return combined(AND, a, b); }
+
+        /**
+         * Returns a new set holding the elements in either specified set.
+         * @param a a set
+         * @param b another set
+         * @return the union of {@code a} and {@code b}
+         */
+        public static PrimitiveRoaringSet.OfInt or(PrimitiveRoaringSet.OfInt a, PrimitiveRoaringSet.OfInt b) { return combined(OR, a, b); }
+
+        /**
+         * Returns a new set holding the elements of the first set that are not in the second.
+         * @param a the set to subtract from
+         * @param b the set of elements to leave out
+         * @return the difference of {@code a} and {@code b}
+         */
+        public static PrimitiveRoaringSet.OfInt andNot(PrimitiveRoaringSet.OfInt a, PrimitiveRoaringSet.OfInt b) { return combined(AND_NOT, a, b); }
+
+        /**
+         * Returns a new set holding the elements in exactly one of the specified sets.
+         * @param a a set
+         * @param b another set
+         * @return the symmetric difference of {@code a} and {@code b}
+         */
+        public static PrimitiveRoaringSet.OfInt xor(PrimitiveRoaringSet.OfInt a, PrimitiveRoaringSet.OfInt b) { return combined(XOR, a, b); }
+
+        private static PrimitiveRoaringSet.OfInt combined(int op, PrimitiveRoaringSet.OfInt a, PrimitiveRoaringSet.OfInt b) {
+            PrimitiveRoaringSet.OfInt r = new PrimitiveRoaringSet.OfInt();
+            combine(op, a, b, r);
+            return r;
+        }
+
+        private boolean combineInPlace(int op, PrimitiveRoaringSet.OfInt other) {
+            long old = cardinality;
+            combine(op, this, other, this);
+            modCount++;
+            return cardinality != old;
+        }
+
+        @Override
+        public boolean addAllInt(PrimitiveCollection.OfInt c) {
+            if(c instanceof PrimitiveRoaringSet.OfInt r) return combineInPlace(OR, r);
+            return super.addAllInt(c);
+        }
+
+        @Override
+        public boolean retainAllInt(PrimitiveCollection.OfInt c) {
+            if(c instanceof PrimitiveRoaringSet.OfInt r) return combineInPlace(AND, r);
+            return super.retainAllInt(c);
+        }
+
+        @Override
+        public boolean removeAllInt(PrimitiveCollection.OfInt c) {
+            if(c instanceof PrimitiveRoaringSet.OfInt r) return combineInPlace(AND_NOT, r);
+            return super.removeAllInt(c);
+        }
+
+        /**
+         * Removes every element that is not in this set and the specified one, and adds every
+         * element of the specified set that is not in this one.
+         * @param c the set to combine with this one
+         * @return {@code true} if this set changed as a result of the call
+         */
+        public boolean xorAllInt(PrimitiveCollection.OfInt c) {
+            return combineInPlace(XOR, c instanceof PrimitiveRoaringSet.OfInt r ? r : new PrimitiveRoaringSet.OfInt(c));
+        }
+
+        @Override
+        public boolean containsAllInt(PrimitiveCollection.OfInt c) {
+            if(!(c instanceof PrimitiveRoaringSet.OfInt r)) return super.containsAllInt(c);
+            if(r.cardinality > cardinality) return false;
+            for(int j = 0; j < r.n; j++) {
+                int i = search(r.keys[j]);
+                if(i < 0) return false;
+                Container y = r.containers[j];
+                if(andNot(y, containers[i]).cardinality() != 0) return false;
+            }
+            return true;
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public int[] toArrayInt() {
+            if(cardinality > java.lang.Integer.MAX_VALUE - 8) throw new OutOfMemoryError("Required array size too large");
+            int[] a = new int[(int) cardinality];
+            int off = 0;
+            for(int i = 0; i < n; i++) off += containers[i].fill(0, highOf(keys[i]), a, off, a.length - off);
+            return a;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfInt action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            for(int i = 0; i < n && modCount == expectedModCount; i++) containers[i].forEach(0, highOf(keys[i]), action);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfInt iteratorInt() { return new Itr(); }
+
+        /**
+         * Returns an iterator that copies the elements of this set into a buffer in ascending
+         * order, a container at a time, which is much cheaper per element than
+         * {@link #iteratorInt()}.
+         * @return a batch iterator over the elements in this set
+         */
+        public BatchIterator batchIterator() { return new BatchIterator(); }
+
+        /**
+         * Creates a <em>late-binding</em> and <em>fail-fast</em> spliterator over the elements
+         * in this set, in ascending order. The spliterator splits by chunk and reports
+         * {@link Spliterator#SORTED}, {@link Spliterator#ORDERED}, {@link Spliterator#DISTINCT},
+         * {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED}.
+         * @return a spliterator over the elements in this set
+         */
+        @Override
+        public PrimitiveSpliterator.OfInt spliteratorInt() { return new Spliter(0, -1, 0, 0); }
+
+        /**
+         * A cursor over the elements of the set that fills caller-supplied buffers. It keeps
+         * its position as a value rather than a slot, so the set may be modified through
+         * {@link Itr#remove()} while it is in use.
+         */
+        public final class BatchIterator {
+            /** The chunk key and low bits of the next element to return, at or after. */
+            private int key, from;
+            private int expectedModCount = modCount;
+
+            private BatchIterator() {}
+
+            /**
+             * Copies the next elements of the set, in ascending order, into the specified buffer.
+             * @param buffer the buffer to fill from index {@code 0}
+             * @return the number of elements copied, which is less than {@code buffer.length}
+             *         only when the set is exhausted
+             * @throws ConcurrentModificationException if the set was modified since the
+             *         iterator was created
+             */
+            public int nextBatch(int[] buffer) {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                int filled = 0, len = buffer.length;
+                while(filled < len && key <= 0xFFFF) {
+                    int i = search(key);
+                    if(i < 0) {
+                        if((i = -i - 1) == n) {
+                            key = 0x10000;
+                            break;
+                        }
+                        key = keys[i];
+                        from = 0;
+                    }
+                    int got = containers[i].fill(from, highOf(key), buffer, filled, len - filled);
+                    filled += got;
+                    if(filled < len || (from = (buffer[filled - 1] & 0xFFFF) + 1) > 0xFFFF) {
+                        key++;
+                        from = 0;
+                    }
+                }
+                return filled;
+            }
+        }
+
+        private final class Itr implements PrimitiveIterator.OfInt {
+            private final BatchIterator batch = new BatchIterator();
+            private final int[] buffer = new int[64];
+            private int index, limit;
+            /** The number of elements still to be returned. */
+            private long remaining = cardinality;
+            private int lastRet;
+            private boolean canRemove;
+
+            public boolean hasNext() { return remaining != 0; }
+
+            public int nextInt() {
+                if(modCount != batch.expectedModCount) throw new ConcurrentModificationException();
+                if(remaining == 0) throw new NoSuchElementException();
+                if(index == limit) {
+                    limit = batch.nextBatch(buffer);
+                    index = 0;
+                }
+                remaining--;
+                canRemove = true;
+                return lastRet = buffer[index++];
+            }
+
+            public void remove() {
+                if(!canRemove) throw new IllegalStateException();
+                if(modCount != batch.expectedModCount) throw new ConcurrentModificationException();
+                canRemove = false;
+                removeInt(lastRet);
+                batch.expectedModCount = modCount;
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfInt {
+            /** The chunk being visited, and the low bits to resume it from. */
+            private int index, from;
+            private int fence;            // -1 until first use; then one past last chunk
+            private long est;             // exact number of elements left
+            private int expectedModCount; // initialized when fence set
+
+            Spliter(int origin, int fence, long est, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.est = est;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    est = cardinality;
+                    expectedModCount = modCount;
+                    hi = fence = n;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index + 1, mid = (lo + hi) >>> 1;
+                if(lo >= mid) return null;
+                long suffix = 0;
+                for(int i = mid; i < hi; i++) suffix += containers[i].cardinality();
+                Spliter prefix = new Spliter(index, mid, est - suffix, expectedModCount);
+                prefix.from = from;
+                index = mid;
+                from = 0;
+                est = suffix;
+                return prefix;
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfInt action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence();
+                while(index < hi) {
+                    int v = from > 0xFFFF ? -1 : containers[index].next(from);
+                    if(v < 0) {
+                        index++;
+                        from = 0;
+                        continue;
+                    }
+                    from = v + 1;
+                    est--;
+                    action.acceptInt(highOf(keys[index]) | v);
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    return true;
+                }
+                return false;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfInt action) {
+                if(action == null) throw new NullPointerException();
+                int hi = getFence(), i = index;
+                index = hi;
+                est = 0;
+                if(i < hi && from <= 0xFFFF) containers[i].forEach(from, highOf(keys[i]), action);
+                while(++i < hi) containers[i].forEach(0, highOf(keys[i]), action);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() {
+                getFence();
+                return est;
+            }
+
+            @Override
+            public int characteristics() {
+                return Spliterator.SORTED | Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.SIZED | Spliterator.SUBSIZED;
+            }
+
+            @Override
+            public PrimitiveComparator.OfInt getComparator() { return null; }
+        }
+
+        ///////////// Copying, comparison and hashing
+
+        /**
+         * Returns a copy of this set.
+         * @return a clone of this set
+         */
+        @Override
+        public PrimitiveRoaringSet.OfInt clone() {
+            try {
+                var c = (PrimitiveRoaringSet.OfInt) super.clone();
+                c.keys = keys.clone();
+                c.containers = containers.clone();
+                for(int i = 0; i < n; i++) c.containers[i] = containers[i].copy();
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(!(o instanceof PrimitiveRoaringSet.OfInt r)) return super.equals(o);
+            if(r.cardinality != cardinality || r.n != n) return false;
+            for(int i = 0; i < n; i++) {
+                if(keys[i] != r.keys[i] || containers[i].cardinality() != r.containers[i].cardinality()) return false;
+                if(xor(containers[i], r.containers[i]).cardinality() != 0) return false;
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int[] h = {0};
+            forEach((PrimitiveConsumer.OfInt) e -> h[0] += e);
+            return h[0];
+        }
+
+        ///////////// Containers
+
+        /**
+         * The low 16 bits of the elements of one chunk, as {@code int}s in {@code [0, 65536)}.
+         * The mutators return the container to keep in place of this one, which may be of
+         * another kind; the binary operations never modify their operands.
+         */
+        private static abstract class Container {
+            abstract int cardinality();
+
+            abstract boolean contains(int x);
+
+            abstract Container add(int x);
+
+            abstract Container remove(int x);
+
+            /** Returns the number of values not greater than {@code x}. */
+            abstract int rank(int x);
+
+            abstract int select(int j);
+
+            /** Returns the least value not less than {@code from}, or {@code -1}. */
+            abstract int next(int from);
+
+            /**
+             * Copies {@code high | v} for at most {@code max} values {@code v >= from} into
+             * {@code buf} from {@code off}.
+             * @return the number of values copied
+             */
+            abstract int fill(int from, int high, int[] buf, int off, int max);
+
+            abstract void forEach(int from, int high, PrimitiveConsumer.OfInt action);
+
+            /** Sets the bits of this container's values in {@code words}. */
+            abstract void orInto(long[] words);
+
+            abstract Container copy();
+
+            /** Returns the smallest representation of this container. */
+            abstract Container optimize();
+
+            /** Returns this container as a bitmap that the caller must not modify. */
+            long[] words() {
+                long[] w = new long[BITMAP_WORDS];
+                orInto(w);
+                return w;
+            }
+
+            /** Counts the runs of consecutive values. */
+            abstract int runCount();
+
+            Container smallest() {
+                int card = cardinality(), runs = runCount();
+                if(runs * 4 < java.lang.Math.min(card * 2, BITMAP_WORDS * 8)) return this instanceof RunContainer ? this : new RunContainer(this, runs);
+                if(card <= ARRAY_MAX) return this instanceof ArrayContainer a ? a.trim() : new ArrayContainer(this);
+                return this instanceof BitmapContainer ? this : new BitmapContainer(words(), card);
+            }
+        }
+
+        /** Makes the container of a bitmap built by a binary operation, or an empty array. */
+        private static Container ofWords(long[] w) {
+            int card = 0;
+            for(int i = 0; i < BITMAP_WORDS; i++) card += java.lang.Long.bitCount(w[i]);
+            return card <= ARRAY_MAX ? new ArrayContainer(w, card) : new BitmapContainer(w, card);
+        }
+
+        private static Container and(Container a, Container b) {
+            if(a instanceof ArrayContainer x) return x.filter(b, true);
+            if(b instanceof ArrayContainer y) return y.filter(a, true);
+            long[] r = new long[BITMAP_WORDS], v = b.words();
+            a.orInto(r);
+            for(int i = 0; i < BITMAP_WORDS; i++) r[i] &= v[i];
+            return ofWords(r);
+        }
+
+        private static Container or(Container a, Container b) {
+            if(a instanceof ArrayContainer x && b instanceof ArrayContainer y && x.card + y.card <= ARRAY_MAX) return x.merge(y, false);
+            long[] r = new long[BITMAP_WORDS];
+            a.orInto(r);
+            b.orInto(r);
+            return ofWords(r);
+        }
+
+        private static Container andNot(Container a, Container b) {
+            if(a instanceof ArrayContainer x) return x.filter(b, false);
+            long[] r = new long[BITMAP_WORDS];
+            a.orInto(r);
+            if(b instanceof ArrayContainer y) for(int i = 0; i < y.card; i++) r[y.content[i] >>> 6] &= ~(1L << y.content[i]);
+            else {
+                long[] v = b.words();
+                for(int i = 0; i < BITMAP_WORDS; i++) r[i] &= ~v[i];
+            }
+            return ofWords(r);
+        }
+
+        private static Container xor(Container a, Container b) {
+            if(a instanceof ArrayContainer x && b instanceof ArrayContainer y && x.card + y.card <= ARRAY_MAX) return x.merge(y, true);
+            long[] r = new long[BITMAP_WORDS];
+            a.orInto(r);
+            if(b instanceof ArrayContainer y) for(int i = 0; i < y.card; i++) r[y.content[i] >>> 6] ^= 1L << y.content[i];
+            else {
+                long[] v = b.words();
+                for(int i = 0; i < BITMAP_WORDS; i++) r[i] ^= v[i];
+            }
+            return ofWords(r);
+        }
+
+        /** Sets the bits {@code lo} through {@code hi}, inclusive. */
+        private static void setRange(long[] w, int lo, int hi) {
+            int loWord = lo >>> 6, hiWord = hi >>> 6;
+            long loMask = -1L << lo, hiMask = -1L >>> (63 - (hi & 63));
+            if(loWord == hiWord) w[loWord] |= loMask & hiMask;
+            else {
+                w[loWord] |= loMask;
+                for(int i = loWord + 1; i < hiWord; i++) w[i] = -1L;
+                w[hiWord] |= hiMask;
+            }
+        }
+
+        private static final class ArrayContainer extends Container {
+            char[] content;
+            int card;
+
+            ArrayContainer(int x) {
+                content = new char[4];
+                content[0] = (char) x;
+                card = 1;
+            }
+
+            ArrayContainer(char[] content, int card) {
+                this.content = content;
+                this.card = card;
+            }
+
+            ArrayContainer(long[] w, int card) {
+                this.content = new char[card];
+                this.card = card;
+                int j = 0;
+                for(int i = 0; j < card; i++) for(long bits = w[i]; bits != 0; bits &= bits - 1) content[j++] = (char) ((i << 6) | java.lang.Long.numberOfTrailingZeros(bits));
+            }
+
+            ArrayContainer(Container c) {
+                this.card = c.cardinality();
+                this.content = new char[card];
+                int[] buf = new int[card];
+                c.fill(0, 0, buf, 0, card);
+                for(int i = 0; i < card; i++) content[i] = (char) buf[i];
+            }
+
+            private int search(int x) { return Arrays.binarySearch(content, 0, card, (char) x); }
+
+            int cardinality() { return card; }
+
+            boolean contains(int x) { return search(x) >= 0; }
+
+            Container add(int x) {
+                int i = search(x);
+                if(i >= 0) return this;
+                if(card == ARRAY_MAX) return new BitmapContainer(words(), card).add(x);
+                i = -i - 1;
+                if(card == content.length) content = Arrays.copyOf(content, java.lang.Math.min(card < 64 ? card * 2 : card * 3 / 2, ARRAY_MAX));
+                System.arraycopy(content, i, content, i + 1, card - i);
+                content[i] = (char) x;
+                card++;
+                return this;
+            }
+
+            Container remove(int x) {
+                int i = search(x);
+                if(i < 0) return this;
+                System.arraycopy(content, i + 1, content, i, --card - i);
+                return this;
+            }
+
+            int rank(int x) {
+                int i = search(x);
+                return i >= 0 ? i + 1 : -i - 1;
+            }
+
+            int select(int j) { return content[j]; }
+
+            int next(int from) {
+                int i = search(from);
+                if(i < 0) i = -i - 1;
+                return i < card ? content[i] : -1;
+            }
+
+            int fill(int from, int high, int[] buf, int off, int max) {
+                int i = from == 0 ? 0 : search(from);
+                if(i < 0) i = -i - 1;
+                int m = java.lang.Math.min(max, card - i);
+                for(int j = 0; j < m; j++) buf[off + j] = high | content[i + j];
+                return m;
+            }
+
+            void forEach(int from, int high, PrimitiveConsumer.OfInt action) {
+                int i = from == 0 ? 0 : search(from);
+                if(i < 0) i = -i - 1;
+                for(; i < card; i++) action.acceptInt(high | content[i]);
+            }
+
+            void orInto(long[] w) {
+                for(int i = 0; i < card; i++) w[content[i] >>> 6] |= 1L << content[i];
+            }
+
+            /** Keeps the values whose membership in {@code other} is {@code keep}. */
+            Container filter(Container other, boolean keep) {
+                char[] r = new char[card];
+                int k = 0;
+                for(int i = 0; i < card; i++) if(other.contains(content[i]) == keep) r[k++] = content[i];
+                return new ArrayContainer(r, k);
+            }
+
+            /** Merges with {@code other} into their union, or their symmetric difference if {@code xor}. */
+            Container merge(ArrayContainer other, boolean xor) {
+                char[] a = content, b = other.content, r = new char[card + other.card];
+                int i = 0, j = 0, k = 0;
+                while(i < card && j < other.card) {
+                    char x = a[i], y = b[j];
+                    if(x < y) r[k++] = a[i++];
+                    else if(x > y) r[k++] = b[j++];
+                    else {
+                        if(!xor) r[k++] = x;
+                        i++;
+                        j++;
+                    }
+                }
+                while(i < card) r[k++] = a[i++];
+                while(j < other.card) r[k++] = b[j++];
+                return new ArrayContainer(r, k);
+            }
+
+            Container copy() { return new ArrayContainer(Arrays.copyOf(content, java.lang.Math.max(card, 1)), card); }
+
+            Container trim() {
+                if(content.length != card) content = Arrays.copyOf(content, card);
+                return this;
+            }
+
+            Container optimize() { return smallest(); }
+
+            int runCount() {
+                int runs = 0;
+                for(int i = 0; i < card; i++) if(i == 0 || content[i] != content[i - 1] + 1) runs++;
+                return runs;
+            }
+        }
+
+        private static final class BitmapContainer extends Container {
+            final long[] words;
+            int card;
+
+            BitmapContainer(long[] words, int card) {
+                this.words = words;
+                this.card = card;
+            }
+
+            int cardinality() { return card; }
+
+            boolean contains(int x) { return (words[x >>> 6] & (1L << x)) != 0; }
+
+            Container add(int x) {
+                long w = words[x >>> 6], b = 1L << x;
+                if((w & b) == 0) {
+                    words[x >>> 6] = w | b;
+                    card++;
+                }
+                return this;
+            }
+
+            Container remove(int x) {
+                long w = words[x >>> 6], b = 1L << x;
+                if((w & b) == 0) return this;
+                words[x >>> 6] = w & ~b;
+                return --card <= ARRAY_MAX ? new ArrayContainer(words, card) : this;
+            }
+
+            int rank(int x) {
+                int wi = x >>> 6, r = 0;
+                for(int i = 0; i < wi; i++) r += java.lang.Long.bitCount(words[i]);
+                return r + java.lang.Long.bitCount(words[wi] & (-1L >>> (63 - (x & 63))));
+            }
+
+            int select(int j) {
+                for(int i = 0;; i++) {
+                    long w = words[i];
+                    int c = java.lang.Long.bitCount(w);
+                    if(j < c) {
+                        for(; j > 0; j--) w &= w - 1;
+                        return (i << 6) | java.lang.Long.numberOfTrailingZeros(w);
+                    }
+                    j -= c;
+                }
+            }
+
+            int next(int from) {
+                int wi = from >>> 6;
+                long bits = words[wi] & (-1L << from);
+                while(bits == 0) {
+                    if(++wi == BITMAP_WORDS) return -1;
+                    bits = words[wi];
+                }
+                return (wi << 6) | java.lang.Long.numberOfTrailingZeros(bits);
+            }
+
+            int fill(int from, int high, int[] buf, int off, int max) {
+                int k = 0, wi = from >>> 6;
+                long bits = words[wi] & (-1L << from);
+                for(;;) {
+                    for(; bits != 0; bits &= bits - 1) {
+                        if(k == max) return k;
+                        buf[off + k++] = high | (wi << 6) | java.lang.Long.numberOfTrailingZeros(bits);
+                    }
+                    if(++wi == BITMAP_WORDS) return k;
+                    bits = words[wi];
+                }
+            }
+
+            void forEach(int from, int high, PrimitiveConsumer.OfInt action) {
+                int wi = from >>> 6;
+                for(long bits = words[wi] & (-1L << from); bits != 0; bits &= bits - 1) action.acceptInt(high | (wi << 6) | java.lang.Long.numberOfTrailingZeros(bits));
+                while(++wi < BITMAP_WORDS) for(long bits = words[wi]; bits != 0; bits &= bits - 1) action.acceptInt(high | (wi << 6) | java.lang.Long.numberOfTrailingZeros(bits));
+            }
+
+            void orInto(long[] w) {
+                for(int i = 0; i < BITMAP_WORDS; i++) w[i] |= words[i];
+            }
+
+            @Override
+            long[] words() { return words; }
+
+            Container copy() { return new BitmapContainer(words.clone(), card); }
+
+            Container optimize() { return smallest(); }
+
+            int runCount() {
+                int runs = 0;
+                long prevTop = 0;
+                for(int i = 0; i < BITMAP_WORDS; i++) {
+                    long w = words[i];
+                    // a run starts at each set bit whose lower neighbour is clear
+                    runs += java.lang.Long.bitCount(w & ~((w << 1) | prevTop));
+                    prevTop = w >>> 63;
+                }
+                return runs;
+            }
+        }
+
+        private static final class RunContainer extends Container {
+            /** {@code runs[2k]} is the first value of run {@code k} and {@code runs[2k + 1]} its length less one. */
+            char[] runs;
+            int nruns;
+            int card;
+
+            RunContainer(int lo, int hi) {
+                runs = new char[] {(char) lo, (char) (hi - lo)};
+                nruns = 1;
+                card = hi - lo + 1;
+            }
+
+            RunContainer(Container c, int count) {
+                runs = new char[count * 2];
+                card = c.cardinality();
+                int v = c.next(0);
+                while(v >= 0) {
+                    int start = v;
+                    while(v < 0xFFFF && c.contains(v + 1)) v++;
+                    runs[nruns * 2] = (char) start;
+                    runs[nruns * 2 + 1] = (char) (v - start);
+                    nruns++;
+                    v = v == 0xFFFF ? -1 : c.next(v + 1);
+                }
+            }
+
+            private RunContainer(char[] runs, int nruns, int card) {
+                this.runs = runs;
+                this.nruns = nruns;
+                this.card = card;
+            }
+
+            private int start(int k) { return runs[k << 1]; }
+
+            private int end(int k) { return runs[k << 1] + runs[(k << 1) + 1]; }
+
+            /** Returns the last run starting at or before {@code x}, or {@code -1}. */
+            private int floorRun(int x) {
+                int lo = 0, hi = nruns - 1;
+                while(lo <= hi) {
+                    int mid = (lo + hi) >>> 1;
+                    if(start(mid) <= x) lo = mid + 1;
+                    else hi = mid - 1;
+                }
+                return hi;
+            }
+
+            private void insertRun(int k, int start, int end) {
+                if((nruns + 1) * 2 > runs.length) runs = Arrays.copyOf(runs, java.lang.Math.max(4, runs.length * 2));
+                System.arraycopy(runs, k * 2, runs, k * 2 + 2, (nruns - k) * 2);
+                runs[k * 2] = (char) start;
+                runs[k * 2 + 1] = (char) (end - start);
+                nruns++;
+            }
+
+            private void deleteRun(int k) {
+                System.arraycopy(runs, k * 2 + 2, runs, k * 2, (nruns - k - 1) * 2);
+                nruns--;
+            }
+
+            /** Falls back to an array or bitmap once runs stop paying for themselves. */
+            private Container check() {
+                return nruns * 4 > java.lang.Math.min(card * 2, BITMAP_WORDS * 8) ? (card <= ARRAY_MAX ? new ArrayContainer(this) : new BitmapContainer(words(), card)) : this;
+            }
+
+            int cardinality() { return card; }
+
+            boolean contains(int x) {
+                int k = floorRun(x);
+                return k >= 0 && x <= end(k);
+            }
+
+            Container add(int x) {
+                int k = floorRun(x);
+                if(k >= 0 && x <= end(k)) return this;
+                boolean left = k >= 0 && end(k) + 1 == x, right = k + 1 < nruns && start(k + 1) == x + 1;
+                if(left && right) {
+                    runs[k * 2 + 1] = (char) (end(k + 1) - start(k));
+                    deleteRun(k + 1);
+                } else if(left) runs[k * 2 + 1]++;
+                else if(right) {
+                    runs[k * 2 + 2] = (char) x;
+                    runs[k * 2 + 3]++;
+                } else insertRun(k + 1, x, x);
+                card++;
+                return check();
+            }
+
+            Container remove(int x) {
+                int k = floorRun(x);
+                if(k < 0 || x > end(k)) return this;
+                int s = start(k), e = end(k);
+                if(s == e) deleteRun(k);
+                else if(x == s) {
+                    runs[k * 2] = (char) (s + 1);
+                    runs[k * 2 + 1]--;
+                } else if(x == e) runs[k * 2 + 1]--;
+                else {
+                    runs[k * 2 + 1] = (char) (x - 1 - s);
+                    insertRun(k + 1, x + 1, e);
+                }
+                card--;
+                return check();
+            }
+
+            int rank(int x) {
+                int r = 0;
+                for(int k = 0; k < nruns; k++) {
+                    int s = start(k);
+                    if(s > x) break;
+                    r += java.lang.Math.min(end(k), x) - s + 1;
+                }
+                return r;
+            }
+
+            int select(int j) {
+                for(int k = 0;; k++) {
+                    int len = runs[k * 2 + 1] + 1;
+                    if(j < len) return start(k) + j;
+                    j -= len;
+                }
+            }
+
+            int next(int from) {
+                int k = floorRun(from);
+                if(k >= 0 && from <= end(k)) return from;
+                return k + 1 < nruns ? start(k + 1) : -1;
+            }
+
+            int fill(int from, int high, int[] buf, int off, int max) {
+                int c = 0;
+                for(int k = java.lang.Math.max(floorRun(from), 0); k < nruns; k++) {
+                    for(int v = java.lang.Math.max(start(k), from), e = end(k); v <= e; v++) {
+                        if(c == max) return c;
+                        buf[off + c++] = high | v;
+                    }
+                }
+                return c;
+            }
+
+            void forEach(int from, int high, PrimitiveConsumer.OfInt action) {
+                for(int k = java.lang.Math.max(floorRun(from), 0); k < nruns; k++) {
+                    for(int v = java.lang.Math.max(start(k), from), e = end(k); v <= e; v++) action.acceptInt(high | v);
+                }
+            }
+
+            void orInto(long[] w) {
+                for(int k = 0; k < nruns; k++) setRange(w, start(k), end(k));
+            }
+
+            Container copy() { return new RunContainer(Arrays.copyOf(runs, nruns * 2), nruns, card); }
+
+            Container optimize() {
+                Container c = smallest();
+                if(c == this && runs.length != nruns * 2) runs = Arrays.copyOf(runs, nruns * 2);
+                return c;
+            }
+
+            int runCount() { return nruns; }
+        }
+    }
+}
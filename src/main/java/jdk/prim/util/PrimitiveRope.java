@@ -0,0 +1,562 @@
+package jdk.prim.util;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import jdk.prim.util.function.PrimitiveConsumer;
+
+/**
+ * A pseudo-package for holding ropes: lists kept as balanced trees of immutable chunks, so
+ * that edits rebuild a logarithmic path instead of moving the elements after them.
+ */
+public final class PrimitiveRope {
+    /**
+     * The most characters a leaf is given when it is built or when two leaves are merged.
+     * Slicing may leave shorter leaves.
+     */
+    public static final int LEAF_CAPACITY = 1024;
+
+    private PrimitiveRope() {}
+
+    /**
+     * Rope implementation of the {@link PrimitiveList.OfChar} interface, suited to documents
+     * too large to shift on every edit. The characters are held in leaves of up to
+     * {@value PrimitiveRope#LEAF_CAPACITY} that are never written once built, joined by
+     * concatenation nodes into a tree balanced by height as in an AVL tree.
+     * <p>
+     * An insertion or removal slices the tree at the edit position and joins the pieces
+     * back together around the new text, which takes {@code O(log n)} new nodes, and a
+     * short insertion is merged into the neighbouring leaf so that typing does not leave a
+     * leaf per character. {@code getChar} and {@code setChar} take {@code O(log n)}.
+     * Because no node is modified after it is built, {@link #clone()}, {@link #asCharSequence()},
+     * and adding one rope to another through {@link #addAllChar(int, PrimitiveCollection.OfChar)}
+     * share structure rather than copy it.
+     * <p>
+     * The iterators of this class are <i>fail-fast</i>.
+     */
+    public static class OfChar extends PrimitiveAbstractList.OfChar implements Cloneable {
+        /** A subtree of the rope, which is never modified once built. */
+        private abstract static class Node {
+            final int length, depth;
+
+            Node(int length, int depth) {
+                this.length = length;
+                this.depth = depth;
+            }
+        }
+
+        /** The characters {@code a[off, off + length)}; {@code a} may be shared with other leaves. */
+        private static final class Leaf extends Node {
+            final char[] a;
+            final int off;
+
+            Leaf(char[] a, int off, int len) {
+                super(len, 0);
+                this.a = a;
+                this.off = off;
+            }
+        }
+
+        private static final class Concat extends Node {
+            final Node left, right;
+
+            Concat(Node left, Node right) {
+                super(left.length + right.length, 1 + Math.max(left.depth, right.depth));
+                this.left = left;
+                this.right = right;
+            }
+        }
+
+        private static final Leaf EMPTY = new Leaf(new char[0], 0, 0);
+
+        /**
+         * A leaf together with the index of its first character, remembered so that
+         * sequential reads descend the tree once per leaf instead of once per character.
+         * Its fields are final, so one can be shared between threads through a racy field.
+         */
+        private static final class Hint {
+            final Leaf leaf;
+            final int start;
+
+            Hint(Leaf leaf, int start) {
+                this.leaf = leaf;
+                this.start = start;
+            }
+        }
+
+        private static final Hint NO_HINT = new Hint(EMPTY, 0);
+
+        private transient Node root = EMPTY;
+
+        /**
+         * Constructs an empty rope.
+         */
+        public OfChar() {}
+
+        /**
+         * Constructs a rope containing the characters of the specified sequence. A sequence
+         * returned by {@link #asCharSequence()} is shared rather than copied.
+         * @param s the characters to be placed into this rope
+         */
+        public OfChar(CharSequence s) {
+            if(s instanceof Text t) root = t.node;
+            else {
+                char[] a = s.toString().toCharArray();
+                root = build(a, 0, a.length);
+            }
+        }
+
+        /**
+         * Constructs a rope containing {@code len} characters of the specified array,
+         * starting at {@code off}.
+         * @param a the array whose characters are to be placed into this rope
+         * @param off the index of the first character to copy
+         * @param len the number of characters to copy
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfChar(char[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            root = build(Arrays.copyOfRange(a, off, off + len), 0, len);
+        }
+
+        /**
+         * Constructs a rope containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this rope
+         */
+        public OfChar(PrimitiveCollection.OfChar c) {
+            if(c instanceof PrimitiveRope.OfChar r) root = r.root;
+            else {
+                char[] a = c.toArrayChar();
+                root = build(a, 0, a.length);
+            }
+        }
+
+        ///////////// Tree operations
+
+        /** Builds a perfectly balanced tree over {@code a[from, to)}, which must not be written again. */
+        private static Node build(char[] a, int from, int to) {
+            int n = to - from;
+            if(n <= LEAF_CAPACITY) return n == 0 ? EMPTY : new Leaf(a, from, n);
+            int mid = from + (n >>> 1);
+            return new Concat(build(a, from, mid), build(a, mid, to));
+        }
+
+        /** Returns the characters of {@code n} in {@code [from, to)}, sharing its leaves' arrays. */
+        private static Node slice(Node n, int from, int to) {
+            if(from == 0 && to == n.length) return n;
+            if(from == to) return EMPTY;
+            if(n instanceof Leaf f) return new Leaf(f.a, f.off + from, to - from);
+            Concat c = (Concat) n;
+            int m = c.left.length;
+            if(to <= m) return slice(c.left, from, to);
+            if(from >= m) return slice(c.right, from - m, to - m);
+            return join(slice(c.left, from, m), slice(c.right, 0, to - m));
+        }
+
+        /** Concatenates two trees, keeping the height balanced. */
+        private static Node join(Node l, Node r) {
+            if(l.length == 0) return r;
+            if(r.length == 0) return l;
+            if(r.length + l.length <= LEAF_CAPACITY && (l.depth | r.depth) == 0) return merge((Leaf) l, (Leaf) r);
+            Node m;
+            if(r instanceof Leaf b && b.length < LEAF_CAPACITY && (m = appendSmall(l, b)) != null) return m;
+            if(l instanceof Leaf a && a.length < LEAF_CAPACITY && (m = prependSmall(a, r)) != null) return m;
+            if(l.depth > r.depth + 1) {
+                Concat c = (Concat) l;
+                return balance(c.left, join(c.right, r));
+            }
+            if(r.depth > l.depth + 1) {
+                Concat c = (Concat) r;
+                return balance(join(l, c.left), c.right);
+            }
+            return new Concat(l, r);
+        }
+
+        /** Joins two subtrees whose heights differ by at most two, rotating once if needed. */
+        private static Node balance(Node l, Node r) {
+            if(l.depth > r.depth + 1) {
+                Concat c = (Concat) l;
+                if(c.left.depth >= c.right.depth) return new Concat(c.left, new Concat(c.right, r));
+                Concat m = (Concat) c.right;
+                return new Concat(new Concat(c.left, m.left), new Concat(m.right, r));
+            }
+            if(r.depth > l.depth + 1) {
+                Concat c = (Concat) r;
+                if(c.right.depth >= c.left.depth) return new Concat(new Concat(l, c.left), c.right);
+                Concat m = (Concat) c.left;
+                return new Concat(new Concat(l, m.left), new Concat(m.right, c.right));
+            }
+            return new Concat(l, r);
+        }
+
+        private static Leaf merge(Leaf a, Leaf b) {
+            char[] c = new char[a.length + b.length];
+            System.arraycopy(a.a, a.off, c, 0, a.length);
+            System.arraycopy(b.a, b.off, c, a.length, b.length);
+            return new Leaf(c, 0, c.length);
+        }
+
+        /**
+         * Appends {@code b} to the last leaf of {@code n} if the two fit in one leaf.
+         * The shape of the tree is unchanged, so it stays balanced.
+         * @return the new tree, or {@code null} if the leaves do not fit together
+         */
+        private static Node appendSmall(Node n, Leaf b) {
+            if(n instanceof Leaf a) return a.length + b.length <= LEAF_CAPACITY ? merge(a, b) : null;
+            Concat c = (Concat) n;
+            Node r = appendSmall(c.right, b);
+            return r == null ? null : new Concat(c.left, r);
+        }
+
+        /**
+         * Prepends {@code a} to the first leaf of {@code n} if the two fit in one leaf.
+         * @return the new tree, or {@code null} if the leaves do not fit together
+         */
+        private static Node prependSmall(Leaf a, Node n) {
+            if(n instanceof Leaf b) return a.length + b.length <= LEAF_CAPACITY ? merge(a, b) : null;
+            Concat c = (Concat) n;
+            Node l = prependSmall(a, c.left);
+            return l == null ? null : new Concat(l, c.right);
+        }
+
+        /** Returns the leaf holding index {@code i} of {@code n}, with its start. */
+        private static Hint locate(Node n, int i) {
+            int s = 0;
+            while(n instanceof Concat c) {
+                int m = c.left.length;
+                if(i - s < m) n = c.left;
+                else {
+                    s += m;
+                    n = c.right;
+                }
+            }
+            return new Hint((Leaf) n, s);
+        }
+
+        private static char charAt(Node n, int i) {
+            while(n instanceof Concat c) {
+                int m = c.left.length;
+                if(i < m) n = c.left;
+                else {
+                    i -= m;
+                    n = c.right;
+                }
+            }
+            Leaf f = (Leaf) n;
+            return f.a[f.off + i];
+        }
+
+        /** Returns {@code n} with index {@code i} replaced, copying the one leaf that changes. */
+        private static Node with(Node n, int i, char e) {
+            if(n instanceof Leaf f) {
+                char[] a = Arrays.copyOfRange(f.a, f.off, f.off + f.length);
+                a[i] = e;
+                return new Leaf(a, 0, a.length);
+            }
+            Concat c = (Concat) n;
+            int m = c.left.length;
+            return i < m ? new Concat(with(c.left, i, e), c.right) : new Concat(c.left, with(c.right, i - m, e));
+        }
+
+        /** Copies the characters of {@code n} in {@code [from, to)} into {@code dst} at {@code at}. */
+        private static void copy(Node n, int from, int to, char[] dst, int at) {
+            if(from == to) return;
+            if(n instanceof Leaf f) {
+                System.arraycopy(f.a, f.off + from, dst, at, to - from);
+                return;
+            }
+            Concat c = (Concat) n;
+            int m = c.left.length;
+            if(from < m) copy(c.left, from, Math.min(to, m), dst, at);
+            if(to > m) copy(c.right, Math.max(from, m) - m, to - m, dst, at + Math.max(m - from, 0));
+        }
+
+        private static void forEach(Node n, PrimitiveConsumer.OfChar action) {
+            if(n instanceof Concat c) {
+                forEach(c.left, action);
+                forEach(c.right, action);
+            } else {
+                Leaf f = (Leaf) n;
+                final char[] a = f.a;
+                for(int i = f.off, end = f.off + f.length; i < end; i++) action.acceptChar(a[i]);
+            }
+        }
+
+        /** Replaces the characters in {@code [from, to)} with {@code m}. */
+        private void replace(int from, int to, Node m) {
+            Node r = root;
+            root = join(join(slice(r, 0, from), m), slice(r, to, r.length));
+            modCount++;
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return root.length; }
+
+        @Override
+        public boolean isEmpty() { return root.length == 0; }
+
+        @Override
+        public char getChar(int index) {
+            Objects.checkIndex(index, root.length);
+            return charAt(root, index);
+        }
+
+        @Override
+        public char setChar(int index, char e) {
+            Objects.checkIndex(index, root.length);
+            char oldValue = charAt(root, index);
+            root = with(root, index, e);
+            return oldValue;
+        }
+
+        @Override
+        public char getFirstChar() {
+            if(root.length == 0) throw new NoSuchElementException();
+            return charAt(root, 0);
+        }
+
+        @Override
+        public char getLastChar() {
+            if(root.length == 0) throw new NoSuchElementException();
+            return charAt(root, root.length - 1);
+        }
+
+        /**
+         * Returns a copy of this rope in constant time. The two share their nodes, which
+         * is safe because nodes are never modified.
+         * @return a clone of this rope
+         */
+        @Override
+        public PrimitiveRope.OfChar clone() {
+            try {
+                var v = (PrimitiveRope.OfChar) super.clone();
+                v.modCount = 0;
+                return v;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addChar(char e) {
+            addChar(root.length, e);
+            return true;
+        }
+
+        @Override
+        public void addChar(int index, char e) {
+            rangeCheckForAdd(index);
+            replace(index, index, new Leaf(new char[] { e }, 0, 1));
+        }
+
+        /**
+         * Inserts {@code len} characters of the specified array, starting at {@code off},
+         * at the specified position in this rope. The characters are copied once into new
+         * leaves that are joined in at the position.
+         * @param index index at which to insert the first character
+         * @param src the array holding the characters to insert
+         * @param off the index in {@code src} of the first character to insert
+         * @param len the number of characters to insert
+         * @throws IndexOutOfBoundsException if {@code index} is out of range
+         *         ({@code index < 0 || index > size()}) or the source range is out of the
+         *         bounds of {@code src}
+         */
+        public void insertChars(int index, char[] src, int off, int len) {
+            rangeCheckForAdd(index);
+            Objects.checkFromIndexSize(off, len, src.length);
+            if(len == 0) return;
+            replace(index, index, build(Arrays.copyOfRange(src, off, off + len), 0, len));
+        }
+
+        /**
+         * Inserts all of the elements of the specified collection at the specified position.
+         * If the collection is itself a rope its tree is joined in without being copied.
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public boolean addAllChar(int index, PrimitiveCollection.OfChar c) {
+            rangeCheckForAdd(index);
+            Node m;
+            if(c instanceof PrimitiveRope.OfChar r) m = r.root;
+            else {
+                char[] a = c.toArrayChar();
+                m = build(a, 0, a.length);
+            }
+            if(m.length == 0) return false;
+            replace(index, index, m);
+            return true;
+        }
+
+        @Override
+        public boolean addAllChar(PrimitiveCollection.OfChar c) { return addAllChar(root.length, c); }
+
+        @Override
+        public char removeElementAtIndex(int index) {
+            Objects.checkIndex(index, root.length);
+            char oldValue = charAt(root, index);
+            replace(index, index + 1, EMPTY);
+            return oldValue;
+        }
+
+        @Override
+        public char removeFirstChar() {
+            if(root.length == 0) throw new NoSuchElementException();
+            return removeElementAtIndex(0);
+        }
+
+        @Override
+        public char removeLastChar() {
+            if(root.length == 0) throw new NoSuchElementException();
+            return removeElementAtIndex(root.length - 1);
+        }
+
+        @Override
+        public void clear() {
+            root = EMPTY;
+            modCount++;
+        }
+
+        /**
+         * Removes from this rope all of the characters whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive, by joining the
+         * parts of the tree on either side of the range.
+         * @param fromIndex index of first character to be removed
+         * @param toIndex index after last character to be removed
+         */
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if(fromIndex >= toIndex) return;
+            replace(fromIndex, toIndex, EMPTY);
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public char[] toArrayChar() { return toArrayChar(0, root.length, EMPTY.a); }
+
+        @Override
+        public char[] toArrayChar(char[] array) { return toArrayChar(0, root.length, array); }
+
+        /**
+         * Copies the characters between {@code from}, inclusive, and {@code to}, exclusive,
+         * into the start of the specified array if they fit, or else into a new array of
+         * exactly that length. Each leaf in the range is copied with one array copy.
+         * @param from index of the first character to copy
+         * @param to index after the last character to copy
+         * @param dst the array into which the characters are to be stored, if it is big enough
+         * @return the array containing the characters
+         * @throws IndexOutOfBoundsException if the range is out of bounds
+         */
+        public char[] toArrayChar(int from, int to, char[] dst) {
+            Objects.checkFromToIndex(from, to, root.length);
+            if(dst.length < to - from) dst = new char[to - from];
+            copy(root, from, to, dst, 0);
+            return dst;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfChar action) {
+            Objects.requireNonNull(action);
+            forEach(root, action);
+        }
+
+        @Override
+        public int hashCode() {
+            int[] h = { 1 };
+            forEach(root, e -> h[0] = 31 * h[0] + java.lang.Character.hashCode(e));
+            return h[0];
+        }
+
+        ///////////// Iterators and views
+
+        @Override
+        public PrimitiveIterator.OfChar iteratorChar() { return new Itr(); }
+
+        private class Itr implements PrimitiveIterator.OfChar {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+            /** The tree that {@link #hint} was taken from, which {@code setChar} replaces. */
+            Node seen;
+            Hint hint = NO_HINT;
+
+            public boolean hasNext() { return cursor < root.length; }
+
+            public char nextChar() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= root.length) throw new NoSuchElementException();
+                Hint h = hint;
+                if(seen != root || i - h.start >= h.leaf.length) hint = h = locate(seen = root, i);
+                cursor = i + 1;
+                return h.leaf.a[h.leaf.off + (lastRet = i) - h.start];
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                PrimitiveRope.OfChar.this.removeElementAtIndex(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                hint = NO_HINT;
+                expectedModCount = modCount;
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        /**
+         * Returns a {@link CharSequence} of the current contents of this rope in constant
+         * time. The sequence shares this rope's nodes and, since nodes are never modified, it
+         * is a snapshot: later edits to the rope do not show through.
+         * {@link CharSequence#subSequence(int, int) Sub-sequences} are slices of the tree and
+         * also share its leaves. Only {@code toString()} copies.
+         * @return a character sequence snapshot of this rope
+         */
+        public CharSequence asCharSequence() { return new Text(root); }
+
+        private static final class Text implements CharSequence {
+            final Node node;
+            private Hint hint = NO_HINT;
+
+            Text(Node node) { this.node = node; }
+
+            @Override
+            public int length() { return node.length; }
+
+            @Override
+            public char charAt(int index) {
+                Objects.checkIndex(index, node.length);
+                Hint h = hint;
+                int i = index - h.start;
+                if(i < 0 || i >= h.leaf.length) {
+                    hint = h = locate(node, index);
+                    i = index - h.start;
+                }
+                return h.leaf.a[h.leaf.off + i];
+            }
+
+            @Override
+            public CharSequence subSequence(int start, int end) {
+                Objects.checkFromToIndex(start, end, node.length);
+                return new Text(slice(node, start, end));
+            }
+
+            @Override
+            public String toString() {
+                char[] a = new char[node.length];
+                copy(node, 0, a.length, a, 0);
+                return new String(a);
+            }
+        }
+    }
+}
@@ -44,6 +44,34 @@ public interface PrimitiveSet<E, E_CONS> extends Set<E>, PrimitiveCollection<E,
         /////////////// double overrides
         
         @Override default PrimitiveSpliterator.OfDouble spliteratorDouble() { return new PrimitiveCollectionSpliterator.OfDouble(this, PrimitiveSpliterator.DISTINCT); }
+
+        ///////////////// Factories
+
+        /**
+         * Returns an unmodifiable set containing the specified elements. The set keeps a
+         * sorted private copy of the array and looks elements up by binary search.
+         * @param elements the elements to be contained in the set
+         * @return a {@code PrimitiveSet.OfDouble} containing the specified elements
+         * @throws IllegalArgumentException if there are any duplicate elements
+         * @see Set#of(Object...)
+         */
+        static PrimitiveSet.OfDouble of(double... elements) { return PrimitiveImmutableSet.OfDouble.copyOf(elements, true); }
+
+        /**
+         * Returns an unmodifiable set containing the distinct elements of the specified array.
+         * @param elements the array whose elements are to be contained in the set
+         * @return a {@code PrimitiveSet.OfDouble} containing the elements of the array
+         */
+        static PrimitiveSet.OfDouble copyOf(double[] elements) { return PrimitiveImmutableSet.OfDouble.copyOf(elements, false); }
+
+        /**
+         * Returns an unmodifiable set containing the distinct elements of the specified
+         * collection. A set that was itself returned by one of these factories is returned as is.
+         * @param c the collection from which elements are drawn
+         * @return a {@code PrimitiveSet.OfDouble} containing the elements of the collection
+         * @see Set#copyOf(java.util.Collection)
+         */
+        static PrimitiveSet.OfDouble copyOf(PrimitiveCollection.OfDouble c) { return PrimitiveImmutableSet.OfDouble.copyOf(c); }
     }
     /**
      * The {@code long} equivalent of a {@link java.util.Set set}
@@ -79,6 +107,34 @@ public interface PrimitiveSet<E, E_CONS> extends Set<E>, PrimitiveCollection<E,
         /////////////// long overrides
         
         @Override default PrimitiveSpliterator.OfLong spliteratorLong() { return new PrimitiveCollectionSpliterator.OfLong(this, PrimitiveSpliterator.DISTINCT); }
+
+        ///////////////// Factories
+
+        /**
+         * Returns an unmodifiable set containing the specified elements. The set keeps a
+         * sorted private copy of the array and looks elements up by binary search.
+         * @param elements the elements to be contained in the set
+         * @return a {@code PrimitiveSet.OfLong} containing the specified elements
+         * @throws IllegalArgumentException if there are any duplicate elements
+         * @see Set#of(Object...)
+         */
+        static PrimitiveSet.OfLong of(long... elements) { return PrimitiveImmutableSet.OfLong.copyOf(elements, true); }
+
+        /**
+         * Returns an unmodifiable set containing the distinct elements of the specified array.
+         * @param elements the array whose elements are to be contained in the set
+         * @return a {@code PrimitiveSet.OfLong} containing the elements of the array
+         */
+        static PrimitiveSet.OfLong copyOf(long[] elements) { return PrimitiveImmutableSet.OfLong.copyOf(elements, false); }
+
+        /**
+         * Returns an unmodifiable set containing the distinct elements of the specified
+         * collection. A set that was itself returned by one of these factories is returned as is.
+         * @param c the collection from which elements are drawn
+         * @return a {@code PrimitiveSet.OfLong} containing the elements of the collection
+         * @see Set#copyOf(java.util.Collection)
+         */
+        static PrimitiveSet.OfLong copyOf(PrimitiveCollection.OfLong c) { return PrimitiveImmutableSet.OfLong.copyOf(c); }
     }
     /**
      * The {@code int} equivalent of a {@link java.util.Set set}
@@ -114,6 +170,34 @@ public interface PrimitiveSet<E, E_CONS> extends Set<E>, PrimitiveCollection<E,
         /////////////// int overrides
         
         @Override default PrimitiveSpliterator.OfInt spliteratorInt() { return new PrimitiveCollectionSpliterator.OfInt(this, PrimitiveSpliterator.DISTINCT); }
+
+        ///////////////// Factories
+
+        /**
+         * Returns an unmodifiable set containing the specified elements. The set keeps a
+         * sorted private copy of the array and looks elements up by binary search.
+         * @param elements the elements to be contained in the set
+         * @return a {@code PrimitiveSet.OfInt} containing the specified elements
+         * @throws IllegalArgumentException if there are any duplicate elements
+         * @see Set#of(Object...)
+         */
+        static PrimitiveSet.OfInt of(int... elements) { return PrimitiveImmutableSet.OfInt.copyOf(elements, true); }
+
+        /**
+         * Returns an unmodifiable set containing the distinct elements of the specified array.
+         * @param elements the array whose elements are to be contained in the set
+         * @return a {@code PrimitiveSet.OfInt} containing the elements of the array
+         */
+        static PrimitiveSet.OfInt copyOf(int[] elements) { return PrimitiveImmutableSet.OfInt.copyOf(elements, false); }
+
+        /**
+         * Returns an unmodifiable set containing the distinct elements of the specified
+         * collection. A set that was itself returned by one of these factories is returned as is.
+         * @param c the collection from which elements are drawn
+         * @return a {@code PrimitiveSet.OfInt} containing the elements of the collection
+         * @see Set#copyOf(java.util.Collection)
+         */
+        static PrimitiveSet.OfInt copyOf(PrimitiveCollection.OfInt c) { return PrimitiveImmutableSet.OfInt.copyOf(c); }
     }
     /**
      * The {@code float} equivalent of a {@link java.util.Set set}
@@ -149,6 +233,34 @@ public interface PrimitiveSet<E, E_CONS> extends Set<E>, PrimitiveCollection<E,
         /////////////// float overrides
         
         @Override default PrimitiveSpliterator.OfFloat spliteratorFloat() { return new PrimitiveCollectionSpliterator.OfFloat(this, PrimitiveSpliterator.DISTINCT); }
+
+        ///////////////// Factories
+
+        /**
+         * Returns an unmodifiable set containing the specified elements. The set keeps a
+         * sorted private copy of the array and looks elements up by binary search.
+         * @param elements the elements to be contained in the set
+         * @return a {@code PrimitiveSet.OfFloat} containing the specified elements
+         * @throws IllegalArgumentException if there are any duplicate elements
+         * @see Set#of(Object...)
+         */
+        static PrimitiveSet.OfFloat of(float... elements) { return PrimitiveImmutableSet.OfFloat.copyOf(elements, true); }
+
+        /**
+         * Returns an unmodifiable set containing the distinct elements of the specified array.
+         * @param elements the array whose elements are to be contained in the set
+         * @return a {@code PrimitiveSet.OfFloat} containing the elements of the array
+         */
+        static PrimitiveSet.OfFloat copyOf(float[] elements) { return PrimitiveImmutableSet.OfFloat.copyOf(elements, false); }
+
+        /**
+         * Returns an unmodifiable set containing the distinct elements of the specified
+         * collection. A set that was itself returned by one of these factories is returned as is.
+         * @param c the collection from which elements are drawn
+         * @return a {@code PrimitiveSet.OfFloat} containing the elements of the collection
+         * @see Set#copyOf(java.util.Collection)
+         */
+        static PrimitiveSet.OfFloat copyOf(PrimitiveCollection.OfFloat c) { return PrimitiveImmutableSet.OfFloat.copyOf(c); }
     }
     /**
      * The {@code char} equivalent of a {@link java.util.Set set}
@@ -184,6 +296,34 @@ public interface PrimitiveSet<E, E_CONS> extends Set<E>, PrimitiveCollection<E,
         /////////////// char overrides
         
         @Override default PrimitiveSpliterator.OfChar spliteratorChar() { return new PrimitiveCollectionSpliterator.OfChar(this, PrimitiveSpliterator.DISTINCT); }
+
+        ///////////////// Factories
+
+        /**
+         * Returns an unmodifiable set containing the specified elements. The set keeps a
+         * sorted private copy of the array and looks elements up by binary search.
+         * @param elements the elements to be contained in the set
+         * @return a {@code PrimitiveSet.OfChar} containing the specified elements
+         * @throws IllegalArgumentException if there are any duplicate elements
+         * @see Set#of(Object...)
+         */
+        static PrimitiveSet.OfChar of(char... elements) { return PrimitiveImmutableSet.OfChar.copyOf(elements, true); }
+
+        /**
+         * Returns an unmodifiable set containing the distinct elements of the specified array.
+         * @param elements the array whose elements are to be contained in the set
+         * @return a {@code PrimitiveSet.OfChar} containing the elements of the array
+         */
+        static PrimitiveSet.OfChar copyOf(char[] elements) { return PrimitiveImmutableSet.OfChar.copyOf(elements, false); }
+
+        /**
+         * Returns an unmodifiable set containing the distinct elements of the specified
+         * collection. A set that was itself returned by one of these factories is returned as is.
+         * @param c the collection from which elements are drawn
+         * @return a {@code PrimitiveSet.OfChar} containing the elements of the collection
+         * @see Set#copyOf(java.util.Collection)
+         */
+        static PrimitiveSet.OfChar copyOf(PrimitiveCollection.OfChar c) { return PrimitiveImmutableSet.OfChar.copyOf(c); }
     }
     /**
      * The {@code short} equivalent of a {@link java.util.Set set}
@@ -219,6 +359,34 @@ public interface PrimitiveSet<E, E_CONS> extends Set<E>, PrimitiveCollection<E,
         /////////////// short overrides
         
         @Override default PrimitiveSpliterator.OfShort spliteratorShort() { return new PrimitiveCollectionSpliterator.OfShort(this, PrimitiveSpliterator.DISTINCT); }
+
+        ///////////////// Factories
+
+        /**
+         * Returns an unmodifiable set containing the specified elements. The set keeps a
+         * sorted private copy of the array and looks elements up by binary search.
+         * @param elements the elements to be contained in the set
+         * @return a {@code PrimitiveSet.OfShort} containing the specified elements
+         * @throws IllegalArgumentException if there are any duplicate elements
+         * @see Set#of(Object...)
+         */
+        static PrimitiveSet.OfShort of(short... elements) { return PrimitiveImmutableSet.OfShort.copyOf(elements, true); }
+
+        /**
+         * Returns an unmodifiable set containing the distinct elements of the specified array.
+         * @param elements the array whose elements are to be contained in the set
+         * @return a {@code PrimitiveSet.OfShort} containing the elements of the array
+         */
+        static PrimitiveSet.OfShort copyOf(short[] elements) { return PrimitiveImmutableSet.OfShort.copyOf(elements, false); }
+
+        /**
+         * Returns an unmodifiable set containing the distinct elements of the specified
+         * collection. A set that was itself returned by one of these factories is returned as is.
+         * @param c the collection from which elements are drawn
+         * @return a {@code PrimitiveSet.OfShort} containing the elements of the collection
+         * @see Set#copyOf(java.util.Collection)
+         */
+        static PrimitiveSet.OfShort copyOf(PrimitiveCollection.OfShort c) { return PrimitiveImmutableSet.OfShort.copyOf(c); }
     }
     /**
      * The {@code byte} equivalent of a {@link java.util.Set set}
@@ -254,6 +422,34 @@ public interface PrimitiveSet<E, E_CONS> extends Set<E>, PrimitiveCollection<E,
         /////////////// byte overrides
         
         @Override default PrimitiveSpliterator.OfByte spliteratorByte() { return new PrimitiveCollectionSpliterator.OfByte(this, PrimitiveSpliterator.DISTINCT); }
+
+        ///////////////// Factories
+
+        /**
+         * Returns an unmodifiable set containing the specified elements. The set keeps a
+         * sorted private copy of the array and looks elements up by binary search.
+         * @param elements the elements to be contained in the set
+         * @return a {@code PrimitiveSet.OfByte} containing the specified elements
+         * @throws IllegalArgumentException if there are any duplicate elements
+         * @see Set#of(Object...)
+         */
+        static PrimitiveSet.OfByte of(byte... elements) { return PrimitiveImmutableSet.OfByte.copyOf(elements, true); }
+
+        /**
+         * Returns an unmodifiable set containing the distinct elements of the specified array.
+         * @param elements the array whose elements are to be contained in the set
+         * @return a {@code PrimitiveSet.OfByte} containing the elements of the array
+         */
+        static PrimitiveSet.OfByte copyOf(byte[] elements) { return PrimitiveImmutableSet.OfByte.copyOf(elements, false); }
+
+        /**
+         * Returns an unmodifiable set containing the distinct elements of the specified
+         * collection. A set that was itself returned by one of these factories is returned as is.
+         * @param c the collection from which elements are drawn
+         * @return a {@code PrimitiveSet.OfByte} containing the elements of the collection
+         * @see Set#copyOf(java.util.Collection)
+         */
+        static PrimitiveSet.OfByte copyOf(PrimitiveCollection.OfByte c) { return PrimitiveImmutableSet.OfByte.copyOf(c); }
     }
     /**
      * The {@code boolean} equivalent of a {@link java.util.Set set}
@@ -289,5 +485,33 @@ public interface PrimitiveSet<E, E_CONS> extends Set<E>, PrimitiveCollection<E,
         /////////////// boolean overrides
         
         @Override default PrimitiveSpliterator.OfBoolean spliteratorBoolean() { return new PrimitiveCollectionSpliterator.OfBoolean(this, PrimitiveSpliterator.DISTINCT); }
+
+        ///////////////// Factories
+
+        /**
+         * Returns an unmodifiable set containing the specified elements. The set keeps a
+         * sorted private copy of the array and looks elements up by binary search.
+         * @param elements the elements to be contained in the set
+         * @return a {@code PrimitiveSet.OfBoolean} containing the specified elements
+         * @throws IllegalArgumentException if there are any duplicate elements
+         * @see Set#of(Object...)
+         */
+        static PrimitiveSet.OfBoolean of(boolean... elements) { return PrimitiveImmutableSet.OfBoolean.copyOf(elements, true); }
+
+        /**
+         * Returns an unmodifiable set containing the distinct elements of the specified array.
+         * @param elements the array whose elements are to be contained in the set
+         * @return a {@code PrimitiveSet.OfBoolean} containing the elements of the array
+         */
+        static PrimitiveSet.OfBoolean copyOf(boolean[] elements) { return PrimitiveImmutableSet.OfBoolean.copyOf(elements, false); }
+
+        /**
+         * Returns an unmodifiable set containing the distinct elements of the specified
+         * collection. A set that was itself returned by one of these factories is returned as is.
+         * @param c the collection from which elements are drawn
+         * @return a {@code PrimitiveSet.OfBoolean} containing the elements of the collection
+         * @see Set#copyOf(java.util.Collection)
+         */
+        static PrimitiveSet.OfBoolean copyOf(PrimitiveCollection.OfBoolean c) { return PrimitiveImmutableSet.OfBoolean.copyOf(c); }
     }
 }
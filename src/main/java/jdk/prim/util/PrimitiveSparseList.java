@@ -0,0 +1,589 @@
+package jdk.prim.util;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+import jdk.prim.util.function.PrimitiveConsumer;
+
+/**
+ * A pseudo-package for holding sparse lists: lists in which most elements share one default
+ * value and only the others are stored.
+ */
+public final class PrimitiveSparseList {
+    /**
+     * Initial capacity of the entry arrays, allocated lazily on the first stored element.
+     */
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private PrimitiveSparseList() {}
+
+    /**
+     * Sparse implementation of the {@link PrimitiveList.OfDouble} interface for vectors whose
+     * elements are mostly one {@link #defaultValue() default value}, {@code 0.0} unless
+     * another is given. Only the other elements are stored: their positions in a sorted
+     * {@code int[]} and their values in a parallel {@code double[]}. An element is treated as
+     * the default when it has the same bits, so {@code -0.0} is stored under a default of
+     * {@code 0.0}.
+     * <p>
+     * {@code getDouble} and {@code setDouble} binary-search the positions and run in
+     * {@code O(log m)}, where {@code m} is the number of stored elements, and appending runs
+     * in amortized constant time. Inserting or removing elsewhere renumbers the stored
+     * positions after it, in {@code O(m)}.
+     * <p>
+     * The stored elements can be visited directly, skipping the default runs between them,
+     * through {@link #nonDefaultCount()}, {@link #indexAt(int)} and {@link #valueAt(int)}, or
+     * {@link #nextNonDefaultIndex(int)}. The {@code dot} and {@code axpy} operations against
+     * dense arrays and other sparse lists touch only stored elements when the defaults are
+     * {@code 0.0}.
+     * <p>
+     * The iterators and spliterators of this class are <i>fail-fast</i>.
+     */
+    public static class OfDouble extends PrimitiveAbstractList.OfDouble implements RandomAccess, Cloneable {
+        private static final int[] EMPTY_INDICES = {};
+        private static final double[] EMPTY_VALUES = {};
+
+        /** The positions of the stored elements, ascending in {@code [0, nnz)}. */
+        private int[] idx;
+        /** The stored elements, parallel to {@link #idx}. */
+        private double[] val;
+        /** The number of stored elements. */
+        private int nnz;
+        /** The number of elements, stored or not. */
+        private int size;
+        private double defaultValue;
+        /**
+         * Counts changes to the entry arrays that {@code setDouble} makes without a
+         * structural modification, so that iterators know to search for their entry again.
+         */
+        private transient int layout;
+
+        /**
+         * Constructs an empty list whose default value is {@code 0.0}.
+         */
+        public OfDouble() { this(0, 0.0); }
+
+        /**
+         * Constructs a list of {@code size} elements that all have the default value
+         * {@code 0.0}.
+         * @param size the number of elements
+         * @throws IllegalArgumentException if {@code size} is negative
+         */
+        public OfDouble(int size) { this(size, 0.0); }
+
+        /**
+         * Constructs a list of {@code size} elements that all have the specified default value.
+         * @param size the number of elements
+         * @param defaultValue the value of every element that is not stored
+         * @throws IllegalArgumentException if {@code size} is negative
+         */
+        public OfDouble(int size, double defaultValue) {
+            if(size < 0) throw new IllegalArgumentException("Illegal Size: " + size);
+            this.size = size;
+            this.defaultValue = defaultValue;
+            idx = EMPTY_INDICES;
+            val = EMPTY_VALUES;
+        }
+
+        /**
+         * Constructs a list with the elements of the specified dense array, storing only
+         * those that differ from the specified default value.
+         * @param dense the elements of the list
+         * @param defaultValue the value of every element that is not stored
+         */
+        public OfDouble(double[] dense, double defaultValue) {
+            this(dense.length, defaultValue);
+            int m = 0;
+            for(double e : dense) if(!isDefault(e)) m++;
+            if(m == 0) return;
+            idx = new int[m];
+            val = new double[m];
+            for(int i = 0; i < dense.length; i++) {
+                if(!isDefault(dense[i])) {
+                    idx[nnz] = i;
+                    val[nnz++] = dense[i];
+                }
+            }
+        }
+
+        ///////////// Entry operations
+
+        private boolean isDefault(double e) { return java.lang.Double.doubleToLongBits(e) == java.lang.Double.doubleToLongBits(defaultValue); }
+
+        /** Returns the entry at position {@code index}, or {@code -(insertion point) - 1}. */
+        private int find(int index) { return Arrays.binarySearch(idx, 0, nnz, index); }
+
+        /** Returns the first entry at or after position {@code index}. */
+        private int ceilingEntry(int index) {
+            int k = find(index);
+            return k >= 0 ? k : -k - 1;
+        }
+
+        private void insertEntry(int k, int index, double e) {
+            if(nnz == idx.length) {
+                int capacity = nnz == 0 ? DEFAULT_CAPACITY : PrimitiveArrayList.newLength(nnz, 1, nnz >> 1);
+                idx = Arrays.copyOf(idx, capacity);
+                val = Arrays.copyOf(val, capacity);
+            }
+            System.arraycopy(idx, k, idx, k + 1, nnz - k);
+            System.arraycopy(val, k, val, k + 1, nnz - k);
+            idx[k] = index;
+            val[k] = e;
+            nnz++;
+            layout++;
+        }
+
+        private void removeEntries(int from, int to) {
+            System.arraycopy(idx, to, idx, from, nnz - to);
+            System.arraycopy(val, to, val, from, nnz - to);
+            nnz -= to - from;
+            layout++;
+        }
+
+        /** Adds {@code delta} to the positions of the entries from {@code k} on. */
+        private void shiftEntries(int k, int delta) {
+            final int[] es = idx;
+            for(int n = nnz; k < n; k++) es[k] += delta;
+        }
+
+        /**
+         * Returns the value of every element that is not stored.
+         * @return the default value of this list
+         */
+        public double defaultValue() { return defaultValue; }
+
+        /**
+         * Returns the number of stored elements, which are those that differ from the
+         * default value.
+         * @return the number of stored elements
+         */
+        public int nonDefaultCount() { return nnz; }
+
+        /**
+         * Returns the position in this list of the {@code k}-th stored element. Positions
+         * increase with {@code k}.
+         * @param k the rank of the stored element, from {@code 0} to {@code nonDefaultCount() - 1}
+         * @return the index of the element in this list
+         * @throws IndexOutOfBoundsException if {@code k} is out of range
+         */
+        public int indexAt(int k) { return idx[Objects.checkIndex(k, nnz)]; }
+
+        /**
+         * Returns the value of the {@code k}-th stored element.
+         * @param k the rank of the stored element, from {@code 0} to {@code nonDefaultCount() - 1}
+         * @return the value of the element
+         * @throws IndexOutOfBoundsException if {@code k} is out of range
+         */
+        public double valueAt(int k) { return val[Objects.checkIndex(k, nnz)]; }
+
+        /**
+         * Returns the smallest index at or after {@code from} whose element differs from the
+         * default value, or {@code -1} if there is none. This skips a run of default
+         * elements in {@code O(log m)}.
+         * @param from the index to start at, which may be {@code size()}
+         * @return the index of the next stored element, or {@code -1}
+         * @throws IndexOutOfBoundsException if {@code from} is out of range
+         */
+        public int nextNonDefaultIndex(int from) {
+            Objects.checkIndex(from, size + 1);
+            int k = ceilingEntry(from);
+            return k < nnz ? idx[k] : -1;
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public double getDouble(int index) {
+            Objects.checkIndex(index, size);
+            int k = find(index);
+            return k >= 0 ? val[k] : defaultValue;
+        }
+
+        @Override
+        public double setDouble(int index, double e) {
+            Objects.checkIndex(index, size);
+            int k = find(index);
+            double oldValue = k >= 0 ? val[k] : defaultValue;
+            if(isDefault(e)) {
+                if(k >= 0) removeEntries(k, k + 1);
+            } else if(k >= 0) val[k] = e;
+            else insertEntry(-k - 1, index, e);
+            return oldValue;
+        }
+
+        @Override
+        public int indexOfDouble(double e) {
+            int first = -1;
+            if((defaultValue == e || java.lang.Double.isNaN(defaultValue) && java.lang.Double.isNaN(e)) && nnz < size) {
+                // the first position not taken by an entry
+                first = 0;
+                for(int k = 0; k < nnz && idx[k] == first; k++) first++;
+            }
+            for(int k = 0; k < nnz && (first < 0 || idx[k] < first); k++) {
+                if((val[k] == e || java.lang.Double.isNaN(val[k]) && java.lang.Double.isNaN(e))) return idx[k];
+            }
+            return first;
+        }
+
+        @Override
+        public int lastIndexOfDouble(double e) {
+            int last = -1;
+            if((defaultValue == e || java.lang.Double.isNaN(defaultValue) && java.lang.Double.isNaN(e)) && nnz < size) {
+                last = size - 1;
+                for(int k = nnz - 1; k >= 0 && idx[k] == last; k--) last--;
+            }
+            for(int k = nnz - 1; k >= 0 && idx[k] > last; k--) {
+                if((val[k] == e || java.lang.Double.isNaN(val[k]) && java.lang.Double.isNaN(e))) return idx[k];
+            }
+            return last;
+        }
+
+        @Override
+        public boolean containsDouble(double e) { return indexOfDouble(e) >= 0; }
+
+        /**
+         * Returns a copy of this list.
+         * @return a clone of this list
+         */
+        @Override
+        public PrimitiveSparseList.OfDouble clone() {
+            try {
+                var v = (PrimitiveSparseList.OfDouble) super.clone();
+                v.idx = Arrays.copyOf(idx, nnz);
+                v.val = Arrays.copyOf(val, nnz);
+                v.modCount = 0;
+                return v;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addDouble(double e) {
+            modCount++;
+            if(!isDefault(e)) insertEntry(nnz, size, e);
+            size++;
+            return true;
+        }
+
+        @Override
+        public void addDouble(int index, double e) {
+            rangeCheckForAdd(index);
+            modCount++;
+            int k = ceilingEntry(index);
+            shiftEntries(k, 1);
+            if(!isDefault(e)) insertEntry(k, index, e);
+            size++;
+        }
+
+        @Override
+        public double removeElementAtIndex(int index) {
+            Objects.checkIndex(index, size);
+            modCount++;
+            int k = find(index);
+            double oldValue = defaultValue;
+            if(k >= 0) {
+                oldValue = val[k];
+                removeEntries(k, k + 1);
+            } else k = -k - 1;
+            shiftEntries(k, -1);
+            size--;
+            return oldValue;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            nnz = 0;
+            size = 0;
+            layout++;
+        }
+
+        /**
+         * Removes from this list all of the elements whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. Only the stored
+         * elements are visited.
+         * @param fromIndex index of first element to be removed
+         * @param toIndex index after last element to be removed
+         */
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if(fromIndex >= toIndex) return;
+            modCount++;
+            int from = ceilingEntry(fromIndex), to = ceilingEntry(toIndex);
+            removeEntries(from, to);
+            shiftEntries(from, fromIndex - toIndex);
+            size -= toIndex - fromIndex;
+        }
+
+        ///////////// Vector operations
+
+        /**
+         * Returns the dot product of this list and the specified dense vector. When the
+         * default value is {@code 0.0} only the stored elements are read.
+         * @param y a dense vector of the same length as this list
+         * @return the sum of {@code getDouble(i) * y[i]} over every index
+         * @throws IllegalArgumentException if the lengths differ
+         */
+        public double dot(double[] y) {
+            checkLength(y.length);
+            final int[] is = idx;
+            final double[] vs = val;
+            double s = 0;
+            for(int k = 0, n = nnz; k < n; k++) s += vs[k] * y[is[k]];
+            if(defaultValue != 0) {
+                double r = 0;
+                for(int i = 0, k = 0; i < size; i++) {
+                    if(k < nnz && is[k] == i) k++;
+                    else r += y[i];
+                }
+                s += defaultValue * r;
+            }
+            return s;
+        }
+
+        /**
+         * Returns the dot product of this list and the specified sparse vector, found by
+         * merging the two sets of stored positions in {@code O(m + y.nonDefaultCount())}.
+         * @param y a sparse vector of the same length as this list
+         * @return the sum of {@code getDouble(i) * y.getDouble(i)} over every index
+         * @throws IllegalArgumentException if the lengths differ
+         */
+        public double dot(PrimitiveSparseList.OfDouble y) {
+            checkLength(y.size);
+            final int[] ia = idx, ib = y.idx;
+            final double[] va = val, vb = y.val;
+            final double da = defaultValue, db = y.defaultValue;
+            final int na = nnz, nb = y.nnz;
+            double s = 0;
+            int i = 0, j = 0, union = 0;
+            for(; i < na || j < nb; union++) {
+                if(j == nb || i < na && ia[i] < ib[j]) s += va[i++] * db;
+                else if(i == na || ib[j] < ia[i]) s += da * vb[j++];
+                else s += va[i++] * vb[j++];
+            }
+            if(size > union) s += (size - union) * (da * db);
+            return s;
+        }
+
+        /**
+         * Adds {@code alpha} times this list to the specified dense vector, in place. When the
+         * default value is {@code 0.0} only the stored elements are read.
+         * @param alpha the multiplier of this list
+         * @param y a dense vector of the same length as this list, which receives the result
+         * @throws IllegalArgumentException if the lengths differ
+         */
+        public void axpy(double alpha, double[] y) {
+            checkLength(y.length);
+            final int[] is = idx;
+            final double[] vs = val;
+            for(int k = 0, n = nnz; k < n; k++) y[is[k]] += alpha * vs[k];
+            if(defaultValue != 0) {
+                final double d = alpha * defaultValue;
+                for(int i = 0, k = 0; i < size; i++) {
+                    if(k < nnz && is[k] == i) k++;
+                    else y[i] += d;
+                }
+            }
+        }
+
+        /**
+         * Adds {@code alpha} times this list to the specified sparse vector, in place, by
+         * merging the two sets of stored positions in {@code O(m + y.nonDefaultCount())}.
+         * The default value of {@code y} becomes {@code alpha * defaultValue() + y.defaultValue()},
+         * and results equal to it are no longer stored.
+         * @param alpha the multiplier of this list
+         * @param y a sparse vector of the same length as this list, which receives the result
+         * @throws IllegalArgumentException if the lengths differ
+         */
+        public void axpy(double alpha, PrimitiveSparseList.OfDouble y) {
+            checkLength(y.size);
+            final int[] ia = idx, ib = y.idx;
+            final double[] va = val, vb = y.val;
+            final double da = alpha * defaultValue, db = y.defaultValue;
+            final int na = nnz, nb = y.nnz;
+            int[] is = new int[na + nb];
+            double[] vs = new double[na + nb];
+            y.defaultValue = da + db;
+            int i = 0, j = 0, m = 0;
+            while(i < na || j < nb) {
+                int at;
+                double e;
+                if(j == nb || i < na && ia[i] < ib[j]) {
+                    at = ia[i];
+                    e = alpha * va[i++] + db;
+                } else if(i == na || ib[j] < ia[i]) {
+                    at = ib[j];
+                    e = da + vb[j++];
+                } else {
+                    at = ia[i];
+                    e = alpha * va[i++] + vb[j++];
+                }
+                if(!y.isDefault(e)) {
+                    is[m] = at;
+                    vs[m++] = e;
+                }
+            }
+            y.idx = is;
+            y.val = vs;
+            y.nnz = m;
+            y.layout++;
+        }
+
+        private void checkLength(int length) {
+            if(length != size) throw new IllegalArgumentException("Length mismatch: " + length + " != " + size);
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public double[] toArrayDouble() { return toArrayDouble(new double[size]); }
+
+        @Override
+        public double[] toArrayDouble(double[] array) {
+            if(array.length < size) array = new double[size];
+            Arrays.fill(array, 0, size, defaultValue);
+            for(int k = 0; k < nnz; k++) array[idx[k]] = val[k];
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfDouble action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final double d = defaultValue;
+            for(int i = 0, k = 0; i < size && modCount == expectedModCount; i++) {
+                if(k < nnz && idx[k] == i) action.acceptDouble(val[k++]);
+                else action.acceptDouble(d);
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveIterator.OfDouble iteratorDouble() { return new Itr(); }
+
+        /**
+         * Returns a spliterator over every element of this list, stored or not. It reports
+         * {@link Spliterator#ORDERED}, {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED},
+         * and splits by halving the index range.
+         * @return a spliterator over the elements of this list
+         */
+        @Override
+        public PrimitiveSpliterator.OfDouble spliteratorDouble() { return new Spliter(0, -1, 0); }
+
+        private class Itr implements PrimitiveIterator.OfDouble {
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+            /** The first entry at or after {@link #cursor}, valid while {@link #layout} is unchanged. */
+            int entry;
+            int expectedLayout = layout;
+
+            public boolean hasNext() { return cursor != size; }
+
+            public double nextDouble() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                if(expectedLayout != layout) {
+                    entry = ceilingEntry(i);
+                    expectedLayout = layout;
+                }
+                cursor = i + 1;
+                lastRet = i;
+                int k = entry;
+                if(k < nnz && idx[k] == i) {
+                    entry = k + 1;
+                    return val[k];
+                }
+                return defaultValue;
+            }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                PrimitiveSparseList.OfDouble.this.removeElementAtIndex(lastRet);
+                cursor = lastRet;
+                lastRet = -1;
+                expectedModCount = modCount;
+                entry = ceilingEntry(cursor);
+                expectedLayout = layout;
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+
+        private final class Spliter implements PrimitiveSpliterator.OfDouble {
+            private int index;
+            private int fence;
+            private int expectedModCount;
+
+            Spliter(int origin, int fence, int expectedModCount) {
+                this.index = origin;
+                this.fence = fence;
+                this.expectedModCount = expectedModCount;
+            }
+
+            private int getFence() {
+                int hi;
+                if((hi = fence) < 0) {
+                    expectedModCount = modCount;
+                    hi = fence = size;
+                }
+                return hi;
+            }
+
+            @Override
+            public Spliter trySplit() {
+                int hi = getFence(), lo = index, mid = (lo + hi) >>> 1;
+                return lo >= mid ? null : new Spliter(lo, index = mid, expectedModCount);
+            }
+
+            @Override
+            public boolean tryAdvance(PrimitiveConsumer.OfDouble action) {
+                Objects.requireNonNull(action);
+                int hi = getFence(), i = index;
+                if(i >= hi) return false;
+                index = i + 1;
+                action.acceptDouble(getDouble(i));
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                return true;
+            }
+
+            @Override
+            public void forEachRemaining(PrimitiveConsumer.OfDouble action) {
+                Objects.requireNonNull(action);
+                int hi = getFence(), i = index;
+                if(i >= hi) return;
+                index = hi;
+                final double d = defaultValue;
+                for(int k = ceilingEntry(i); i < hi; i++) {
+                    if(k < nnz && idx[k] == i) action.acceptDouble(val[k++]);
+                    else action.acceptDouble(d);
+                }
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public long estimateSize() { return getFence() - index; }
+
+            @Override
+            public int characteristics() { return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED; }
+        }
+    }
+}
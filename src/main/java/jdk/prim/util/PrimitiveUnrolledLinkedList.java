@@ -0,0 +1,2034 @@
+package jdk.prim.util;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import jdk.prim.util.function.PrimitiveConsumer;
+import jdk.prim.util.function.PrimitivePredicate;
+
+/**
+ * A pseudo-package for holding unrolled linked lists: sequential-access lists whose nodes
+ * each hold a small array of elements rather than a single one.
+ */
+public final class PrimitiveUnrolledLinkedList {
+    /**
+     * The number of elements a node can hold. 64 elements of a {@code long} fill eight
+     * 64-byte cache lines, which keeps a node's array well ahead of the per-node header and
+     * links while leaving mid-node shifts short.
+     */
+    public static final int NODE_CAPACITY = 64;
+
+    private PrimitiveUnrolledLinkedList() {}
+
+    /**
+     * Unrolled doubly-linked list implementation of the {@link PrimitiveList.OfDouble} interface.
+     * Elements are stored unboxed in a chain of nodes that each hold up to
+     * {@value PrimitiveUnrolledLinkedList#NODE_CAPACITY} consecutive elements in a
+     * {@code double[]}, so iteration walks arrays rather than chasing a pointer per element.
+     * <p>
+     * Insertion and removal through a {@link #listIteratorDouble(int) list iterator} shift at
+     * most one node's worth of elements: a full node is split in half and a node that drops
+     * to at most half capacity together with its successor is merged into it. Positional
+     * access walks from whichever end of the list is nearer, node by node.
+     * {@link #addAllDouble(int, PrimitiveCollection.OfDouble)} cuts the node at the insertion point
+     * and links in fully packed nodes, and {@link #removeRange(int, int)} unlinks whole nodes,
+     * so splicing {@code m} elements into the middle costs {@code O(m + size / NODE_CAPACITY)}.
+     * <p>
+     * The iterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.LinkedList}
+     */
+    public static class OfDouble extends PrimitiveAbstractSequentialList.OfDouble implements Cloneable {
+        private static final class Node {
+            final double[] a = new double[NODE_CAPACITY];
+            int n;
+            Node prev, next;
+        }
+
+        private transient Node head, tail;
+        private int size;
+
+        /**
+         * Constructs an empty list.
+         */
+        public OfDouble() {}
+
+        /**
+         * Constructs a list containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this list
+         */
+        public OfDouble(PrimitiveCollection.OfDouble c) {
+            double[] a = c.toArrayDouble();
+            splice(0, a, 0, a.length);
+        }
+
+        /**
+         * Constructs a list containing {@code len} elements of the specified array,
+         * starting at {@code off}.
+         * @param a the array whose elements are to be placed into this list
+         * @param off the index of the first element to copy
+         * @param len the number of elements to copy
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfDouble(double[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            splice(0, a, off, len);
+        }
+
+        ///////////// Node operations
+
+        /** Links a new empty node after {@code x}, or at the head if {@code x} is null. */
+        private Node linkAfter(Node x) {
+            Node y = new Node(), q = x == null ? head : x.next;
+            y.prev = x;
+            y.next = q;
+            if(x == null) head = y;
+            else x.next = y;
+            if(q == null) tail = y;
+            else q.prev = y;
+            return y;
+        }
+
+        private void unlink(Node x) {
+            Node p = x.prev, q = x.next;
+            if(p == null) head = q;
+            else p.next = q;
+            if(q == null) tail = p;
+            else q.prev = p;
+        }
+
+        /**
+         * Inserts {@code e} before {@code x.a[off]}, making room by moving into the next node
+         * or by splitting {@code x} if it is full.
+         * @return the node that received {@code e}, which is either {@code x} or the node after it
+         */
+        private Node insert(Node x, int off, double e) {
+            if(x == null) x = linkAfter(null);
+            else if(x.n == NODE_CAPACITY) {
+                if(off == NODE_CAPACITY) {
+                    // appending to a full node: a tail node is left full so that appends pack
+                    x = x.next != null && x.next.n < NODE_CAPACITY ? x.next : linkAfter(x);
+                    off = 0;
+                } else {
+                    Node y = linkAfter(x);
+                    final int h = NODE_CAPACITY >>> 1;
+                    System.arraycopy(x.a, h, y.a, 0, NODE_CAPACITY - h);
+                    y.n = NODE_CAPACITY - h;
+                    x.n = h;
+                    if(off > h) {
+                        x = y;
+                        off -= h;
+                    }
+                }
+            }
+            System.arraycopy(x.a, off, x.a, off + 1, x.n - off);
+            x.a[off] = e;
+            x.n++;
+            size++;
+            modCount++;
+            return x;
+        }
+
+        /**
+         * Removes {@code x.a[off]}, unlinking {@code x} if it becomes empty.
+         * @return the node that now holds the position of the removed element, which is
+         *         {@code x} unless it was unlinked, then its successor, then its predecessor
+         */
+        private Node remove(Node x, int off) {
+            System.arraycopy(x.a, off + 1, x.a, off, x.n - off - 1);
+            x.n--;
+            size--;
+            modCount++;
+            if(x.n == 0) {
+                unlink(x);
+                return x.next != null ? x.next : x.prev;
+            }
+            mergeNext(x);
+            return x;
+        }
+
+        /** Moves the successor of {@code x} into it if both fit in half a node. */
+        private void mergeNext(Node x) {
+            Node y = x.next;
+            if(y != null && x.n + y.n <= NODE_CAPACITY >>> 1) {
+                System.arraycopy(y.a, 0, x.a, x.n, y.n);
+                x.n += y.n;
+                unlink(y);
+            }
+        }
+
+        /** Inserts {@code len} elements of {@code src} starting at {@code off} before {@code index}. */
+        private void splice(int index, double[] src, int off, int len) {
+            if(len == 0) return;
+            var it = new ListItr(index);
+            Node x = it.node, before;
+            int at = index - it.start;
+            if(x == null || at == 0) before = x == null ? null : x.prev;
+            else {
+                before = x;
+                if(at < x.n) {
+                    Node y = linkAfter(x);
+                    System.arraycopy(x.a, at, y.a, 0, x.n - at);
+                    y.n = x.n - at;
+                    x.n = at;
+                }
+            }
+            int end = off + len;
+            if(before != null) {
+                int k = Math.min(NODE_CAPACITY - before.n, len);
+                System.arraycopy(src, off, before.a, before.n, k);
+                before.n += k;
+                off += k;
+            }
+            while(off < end) {
+                before = linkAfter(before);
+                int k = Math.min(NODE_CAPACITY, end - off);
+                System.arraycopy(src, off, before.a, 0, k);
+                before.n = k;
+                off += k;
+            }
+            size += len;
+            modCount++;
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public int indexOfDouble(double e) {
+            int base = 0;
+            for(Node x = head; x != null; base += x.n, x = x.next) {
+                final double[] es = x.a;
+                for(int i = 0, n = x.n; i < n; i++) if((es[i] == e || java.lang.Double.isNaN(es[i]) && java.lang.Double.isNaN(e))) return base + i;
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfDouble(double e) {
+            int base = size;
+            for(Node x = tail; x != null; x = x.prev) {
+                base -= x.n;
+                final double[] es = x.a;
+                for(int i = x.n - 1; i >= 0; i--) if((es[i] == e || java.lang.Double.isNaN(es[i]) && java.lang.Double.isNaN(e))) return base + i;
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean containsDouble(double e) { return indexOfDouble(e) >= 0; }
+
+        @Override
+        public double getFirstDouble() {
+            if(size == 0) throw new NoSuchElementException();
+            return head.a[0];
+        }
+
+        @Override
+        public double getLastDouble() {
+            if(size == 0) throw new NoSuchElementException();
+            return tail.a[tail.n - 1];
+        }
+
+        /**
+         * Returns a copy of this list. The nodes are copied, so the copy shares no
+         * storage with this list.
+         * @return a clone of this list
+         */
+        @Override
+        public PrimitiveUnrolledLinkedList.OfDouble clone() {
+            try {
+                var v = (PrimitiveUnrolledLinkedList.OfDouble) super.clone();
+                v.head = v.tail = null;
+                v.size = 0;
+                v.modCount = 0;
+                for(Node x = head; x != null; x = x.next) {
+                    Node y = v.linkAfter(v.tail);
+                    System.arraycopy(x.a, 0, y.a, 0, x.n);
+                    y.n = x.n;
+                }
+                v.size = size;
+                return v;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addDouble(double e) {
+            insert(tail, tail == null ? 0 : tail.n, e);
+            return true;
+        }
+
+        @Override
+        public void addFirstDouble(double e) { insert(head, 0, e); }
+
+        @Override
+        public void addLastDouble(double e) { insert(tail, tail == null ? 0 : tail.n, e); }
+
+        @Override
+        public double removeFirstDouble() {
+            if(size == 0) throw new NoSuchElementException();
+            double e = head.a[0];
+            remove(head, 0);
+            return e;
+        }
+
+        @Override
+        public double removeLastDouble() {
+            if(size == 0) throw new NoSuchElementException();
+            Node x = tail;
+            double e = x.a[x.n - 1];
+            remove(x, x.n - 1);
+            return e;
+        }
+
+        @Override
+        public boolean removeIfDouble(PrimitivePredicate.OfDouble filter) {
+            Objects.requireNonNull(filter);
+            final int expectedModCount = modCount;
+            // test every element before touching any node, so a throwing predicate leaves the list as it was
+            final long[] deathRow = PrimitiveArrayList.nBits(Math.max(size, 1));
+            int removed = 0, k = 0;
+            for(Node x = head; x != null; x = x.next) {
+                final double[] es = x.a;
+                for(int i = 0, n = x.n; i < n; i++, k++) {
+                    if(filter.testDouble(es[i])) {
+                        PrimitiveArrayList.setBit(deathRow, k);
+                        removed++;
+                    }
+                }
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(removed == 0) return false;
+            k = 0;
+            for(Node x = head; x != null; ) {
+                final double[] es = x.a;
+                int w = 0;
+                for(int i = 0, n = x.n; i < n; i++, k++) if(PrimitiveArrayList.isClear(deathRow, k)) es[w++] = es[i];
+                x.n = w;
+                Node next = x.next;
+                if(w == 0) unlink(x);
+                x = next;
+            }
+            size -= removed;
+            for(Node x = head; x != null; x = x.next) mergeNext(x);
+            modCount++;
+            return true;
+        }
+
+        ///////////// Bulk operations
+
+        /**
+         * Inserts all of the elements in the specified collection into this list at the
+         * specified position. The node holding that position is cut in two and the new
+         * elements are linked in between, in nodes that are filled completely.
+         * @param index index at which to insert the first element from the specified collection
+         * @param c collection containing elements to be added to this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public boolean addAllDouble(int index, PrimitiveCollection.OfDouble c) {
+            rangeCheckForAdd(index);
+            double[] a = c.toArrayDouble();
+            splice(index, a, 0, a.length);
+            return a.length != 0;
+        }
+
+        @Override
+        public boolean addAllDouble(PrimitiveCollection.OfDouble c) { return addAllDouble(size, c); }
+
+        @Override
+        public void clear() {
+            head = tail = null;
+            size = 0;
+            modCount++;
+        }
+
+        /**
+         * Removes from this list all of the elements whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. Nodes that lie
+         * wholly inside the range are unlinked without being visited element by element.
+         * @param fromIndex index of first element to be removed
+         * @param toIndex index after last element to be removed
+         */
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            int n = toIndex - fromIndex;
+            if(n <= 0) return;
+            var it = new ListItr(fromIndex);
+            Node x = it.node, kept = x.prev;
+            int off = fromIndex - it.start;
+            if(off == x.n) {
+                kept = x;
+                x = x.next;
+                off = 0;
+            } else if(off > 0) kept = x;
+            size -= n;
+            modCount++;
+            while(n > 0) {
+                int k = Math.min(x.n - off, n);
+                Node next = x.next;
+                if(k == x.n) unlink(x);
+                else {
+                    System.arraycopy(x.a, off + k, x.a, off, x.n - off - k);
+                    x.n -= k;
+                }
+                n -= k;
+                off = 0;
+                x = next;
+            }
+            if(kept != null) mergeNext(kept);
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public double[] toArrayDouble() { return toArrayDouble(new double[size]); }
+
+        @Override
+        public double[] toArrayDouble(double[] array) {
+            if(array.length < size) array = new double[size];
+            int i = 0;
+            for(Node x = head; x != null; x = x.next) {
+                System.arraycopy(x.a, 0, array, i, x.n);
+                i += x.n;
+            }
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfDouble action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            for(Node x = head; x != null && modCount == expectedModCount; x = x.next) {
+                final double[] es = x.a;
+                for(int i = 0, n = x.n; i < n; i++) action.acceptDouble(es[i]);
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveListIterator.OfDouble listIteratorDouble(int index) {
+            rangeCheckForAdd(index);
+            return new ListItr(index);
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfDouble {
+            /** The node holding the cursor, with {@code 0 <= cursor - start <= node.n}. */
+            Node node;
+            /** The index of {@code node.a[0]}. */
+            int start;
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) {
+                cursor = index;
+                Node x;
+                int s;
+                if(index < (size >> 1)) {
+                    for(x = head, s = 0; index - s > x.n; x = x.next) s += x.n;
+                } else if((x = tail) != null) {
+                    for(s = size - x.n; index < s; s -= x.n) x = x.prev;
+                } else s = 0;
+                node = x;
+                start = s;
+            }
+
+            public boolean hasNext() { return cursor < size; }
+
+            public double nextDouble() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                Node x = node;
+                int off = i - start;
+                if(off == x.n) {
+                    start += x.n;
+                    node = x = x.next;
+                    off = 0;
+                }
+                lastRet = i;
+                cursor = i + 1;
+                return x.a[off];
+            }
+
+            public boolean hasPrevious() { return cursor > 0; }
+
+            public double previousDouble() {
+                checkForComodification();
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                Node x = node;
+                int off = i - start;
+                if(off < 0) {
+                    node = x = x.prev;
+                    start -= x.n;
+                    off = x.n - 1;
+                }
+                cursor = lastRet = i;
+                return x.a[off];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                Node x = node, p = x.prev;
+                Node r = PrimitiveUnrolledLinkedList.OfDouble.this.remove(x, lastRet - start);
+                if(r == null) start = 0;
+                else if(r != x && r == p) start -= r.n;
+                node = r;
+                if(lastRet < cursor) cursor--;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+
+            public void setDouble(double e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                node.a[lastRet - start] = e;
+            }
+
+            public void addDouble(double e) {
+                checkForComodification();
+                Node x = node;
+                Node r = insert(x, cursor - start, e);
+                if(x != null && r != x) start += x.n;
+                node = r;
+                cursor++;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+
+    /**
+     * Unrolled doubly-linked list implementation of the {@link PrimitiveList.OfLong} interface.
+     * Elements are stored unboxed in a chain of nodes that each hold up to
+     * {@value PrimitiveUnrolledLinkedList#NODE_CAPACITY} consecutive elements in a
+     * {@code long[]}, so iteration walks arrays rather than chasing a pointer per element.
+     * <p>
+     * Insertion and removal through a {@link #listIteratorLong(int) list iterator} shift at
+     * most one node's worth of elements: a full node is split in half and a node that drops
+     * to at most half capacity together with its successor is merged into it. Positional
+     * access walks from whichever end of the list is nearer, node by node.
+     * {@link #addAllLong(int, PrimitiveCollection.OfLong)} cuts the node at the insertion point
+     * and links in fully packed nodes, and {@link #removeRange(int, int)} unlinks whole nodes,
+     * so splicing {@code m} elements into the middle costs {@code O(m + size / NODE_CAPACITY)}.
+     * <p>
+     * The iterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.LinkedList}
+     */
+    public static class OfLong extends PrimitiveAbstractSequentialList.OfLong implements Cloneable {
+        private static final class Node {
+            final long[] a = new long[NODE_CAPACITY];
+            int n;
+            Node prev, next;
+        }
+
+        private transient Node head, tail;
+        private int size;
+
+        /**
+         * Constructs an empty list.
+         */
+        public OfLong() {}
+
+        /**
+         * Constructs a list containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this list
+         */
+        public OfLong(PrimitiveCollection.OfLong c) {
+            long[] a = c.toArrayLong();
+            splice(0, a, 0, a.length);
+        }
+
+        /**
+         * Constructs a list containing {@code len} elements of the specified array,
+         * starting at {@code off}.
+         * @param a the array whose elements are to be placed into this list
+         * @param off the index of the first element to copy
+         * @param len the number of elements to copy
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfLong(long[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            splice(0, a, off, len);
+        }
+
+        ///////////// Node operations
+
+        /** Links a new empty node after {@code x}, or at the head if {@code x} is null. */
+        private Node linkAfter(Node x) {
+            Node y = new Node(), q = x == null ? head : x.next;
+            y.prev = x;
+            y.next = q;
+            if(x == null) head = y;
+            else x.next = y;
+            if(q == null) tail = y;
+            else q.prev = y;
+            return y;
+        }
+
+        private void unlink(Node x) {
+            Node p = x.prev, q = x.next;
+            if(p == null) head = q;
+            else p.next = q;
+            if(q == null) tail = p;
+            else q.prev = p;
+        }
+
+        /**
+         * Inserts {@code e} before {@code x.a[off]}, making room by moving into the next node
+         * or by splitting {@code x} if it is full.
+         * @return the node that received {@code e}, which is either {@code x} or the node after it
+         */
+        private Node insert(Node x, int off, long e) {
+            if(x == null) x = linkAfter(null);
+            else if(x.n == NODE_CAPACITY) {
+                if(off == NODE_CAPACITY) {
+                    // appending to a full node: a tail node is left full so that appends pack
+                    x = x.next != null && x.next.n < NODE_CAPACITY ? x.next : linkAfter(x);
+                    off = 0;
+                } else {
+                    Node y = linkAfter(x);
+                    final int h = NODE_CAPACITY >>> 1;
+                    System.arraycopy(x.a, h, y.a, 0, NODE_CAPACITY - h);
+                    y.n = NODE_CAPACITY - h;
+                    x.n = h;
+                    if(off > h) {
+                        x = y;
+                        off -= h;
+                    }
+                }
+            }
+            System.arraycopy(x.a, off, x.a, off + 1, x.n - off);
+            x.a[off] = e;
+            x.n++;
+            size++;
+            modCount++;
+            return x;
+        }
+
+        /**
+         * Removes {@code x.a[off]}, unlinking {@code x} if it becomes empty.
+         * @return the node that now holds the position of the removed element, which is
+         *         {@code x} unless it was unlinked, then its successor, then its predecessor
+         */
+        private Node remove(Node x, int off) {
+            System.arraycopy(x.a, off + 1, x.a, off, x.n - off - 1);
+            x.n--;
+            size--;
+            modCount++;
+            if(x.n == 0) {
+                unlink(x);
+                return x.next != null ? x.next : x.prev;
+            }
+            mergeNext(x);
+            return x;
+        }
+
+        /** Moves the successor of {@code x} into it if both fit in half a node. */
+        private void mergeNext(Node x) {
+            Node y = x.next;
+            if(y != null && x.n + y.n <= NODE_CAPACITY >>> 1) {
+                System.arraycopy(y.a, 0, x.a, x.n, y.n);
+                x.n += y.n;
+                unlink(y);
+            }
+        }
+
+        /** Inserts {@code len} elements of {@code src} starting at {@code off} before {@code index}. */
+        private void splice(int index, long[] src, int off, int len) {
+            if(len == 0) return;
+            var it = new ListItr(index);
+            Node x = it.node, before;
+            int at = index - it.start;
+            if(x == null || at == 0) before = x == null ? null : x.prev;
+            else {
+                before = x;
+                if(at < x.n) {
+                    Node y = linkAfter(x);
+                    System.arraycopy(x.a, at, y.a, 0, x.n - at);
+                    y.n = x.n - at;
+                    x.n = at;
+                }
+            }
+            int end = off + len;
+            if(before != null) {
+                int k = Math.min(NODE_CAPACITY - before.n, len);
+                System.arraycopy(src, off, before.a, before.n, k);
+                before.n += k;
+                off += k;
+            }
+            while(off < end) {
+                before = linkAfter(before);
+                int k = Math.min(NODE_CAPACITY, end - off);
+                System.arraycopy(src, off, before.a, 0, k);
+                before.n = k;
+                off += k;
+            }
+            size += len;
+            modCount++;
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public int indexOfLong(long e) {
+            int base = 0;
+            for(Node x = head; x != null; base += x.n, x = x.next) {
+                final long[] es = x.a;
+                for(int i = 0, n = x.n; i < n; i++) if(es[i] == e) return base + i;
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfLong(long e) {
+            int base = size;
+            for(Node x = tail; x != null; x = x.prev) {
+                base -= x.n;
+                final long[] es = x.a;
+                for(int i = x.n - 1; i >= 0; i--) if(es[i] == e) return base + i;
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean containsLong(long e) { return indexOfLong(e) >= 0; }
+
+        @Override
+        public long getFirstLong() {
+            if(size == 0) throw new NoSuchElementException();
+            return head.a[0];
+        }
+
+        @Override
+        public long getLastLong() {
+            if(size == 0) throw new NoSuchElementException();
+            return tail.a[tail.n - 1];
+        }
+
+        /**
+         * Returns a copy of this list. The nodes are copied, so the copy shares no
+         * storage with this list.
+         * @return a clone of this list
+         */
+        @Override
+        public PrimitiveUnrolledLinkedList.OfLong clone() {
+            try {
+                var v = (PrimitiveUnrolledLinkedList.OfLong) super.clone();
+                v.head = v.tail = null;
+                v.size = 0;
+                v.modCount = 0;
+                for(Node x = head; x != null; x = x.next) {
+                    Node y = v.linkAfter(v.tail);
+                    System.arraycopy(x.a, 0, y.a, 0, x.n);
+                    y.n = x.n;
+                }
+                v.size = size;
+                return v;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addLong(long e) {
+            insert(tail, tail == null ? 0 : tail.n, e);
+            return true;
+        }
+
+        @Override
+        public void addFirstLong(long e) { insert(head, 0, e); }
+
+        @Override
+        public void addLastLong(long e) { insert(tail, tail == null ? 0 : tail.n, e); }
+
+        @Override
+        public long removeFirstLong() {
+            if(size == 0) throw new NoSuchElementException();
+            long e = head.a[0];
+            remove(head, 0);
+            return e;
+        }
+
+        @Override
+        public long removeLastLong() {
+            if(size == 0) throw new NoSuchElementException();
+            Node x = tail;
+            long e = x.a[x.n - 1];
+            remove(x, x.n - 1);
+            return e;
+        }
+
+        @Override
+        public boolean removeIfLong(PrimitivePredicate.OfLong filter) {
+            Objects.requireNonNull(filter);
+            final int expectedModCount = modCount;
+            // test every element before touching any node, so a throwing predicate leaves the list as it was
+            final long[] deathRow = PrimitiveArrayList.nBits(Math.max(size, 1));
+            int removed = 0, k = 0;
+            for(Node x = head; x != null; x = x.next) {
+                final long[] es = x.a;
+                for(int i = 0, n = x.n; i < n; i++, k++) {
+                    if(filter.testLong(es[i])) {
+                        PrimitiveArrayList.setBit(deathRow, k);
+                        removed++;
+                    }
+                }
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(removed == 0) return false;
+            k = 0;
+            for(Node x = head; x != null; ) {
+                final long[] es = x.a;
+                int w = 0;
+                for(int i = 0, n = x.n; i < n; i++, k++) if(PrimitiveArrayList.isClear(deathRow, k)) es[w++] = es[i];
+                x.n = w;
+                Node next = x.next;
+                if(w == 0) unlink(x);
+                x = next;
+            }
+            size -= removed;
+            for(Node x = head; x != null; x = x.next) mergeNext(x);
+            modCount++;
+            return true;
+        }
+
+        ///////////// Bulk operations
+
+        /**
+         * Inserts all of the elements in the specified collection into this list at the
+         * specified position. The node holding that position is cut in two and the new
+         * elements are linked in between, in nodes that are filled completely.
+         * @param index index at which to insert the first element from the specified collection
+         * @param c collection containing elements to be added to this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public boolean addAllLong(int index, PrimitiveCollection.OfLong c) {
+            rangeCheckForAdd(index);
+            long[] a = c.toArrayLong();
+            splice(index, a, 0, a.length);
+            return a.length != 0;
+        }
+
+        @Override
+        public boolean addAllLong(PrimitiveCollection.OfLong c) { return addAllLong(size, c); }
+
+        @Override
+        public void clear() {
+            head = tail = null;
+            size = 0;
+            modCount++;
+        }
+
+        /**
+         * Removes from this list all of the elements whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. Nodes that lie
+         * wholly inside the range are unlinked without being visited element by element.
+         * @param fromIndex index of first element to be removed
+         * @param toIndex index after last element to be removed
+         */
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            int n = toIndex - fromIndex;
+            if(n <= 0) return;
+            var it = new ListItr(fromIndex);
+            Node x = it.node, kept = x.prev;
+            int off = fromIndex - it.start;
+            if(off == x.n) {
+                kept = x;
+                x = x.next;
+                off = 0;
+            } else if(off > 0) kept = x;
+            size -= n;
+            modCount++;
+            while(n > 0) {
+                int k = Math.min(x.n - off, n);
+                Node next = x.next;
+                if(k == x.n) unlink(x);
+                else {
+                    System.arraycopy(x.a, off + k, x.a, off, x.n - off - k);
+                    x.n -= k;
+                }
+                n -= k;
+                off = 0;
+                x = next;
+            }
+            if(kept != null) mergeNext(kept);
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public long[] toArrayLong() { return toArrayLong(new long[size]); }
+
+        @Override
+        public long[] toArrayLong(long[] array) {
+            if(array.length < size) array = new long[size];
+            int i = 0;
+            for(Node x = head; x != null; x = x.next) {
+                System.arraycopy(x.a, 0, array, i, x.n);
+                i += x.n;
+            }
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfLong action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            for(Node x = head; x != null && modCount == expectedModCount; x = x.next) {
+                final long[] es = x.a;
+                for(int i = 0, n = x.n; i < n; i++) action.acceptLong(es[i]);
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveListIterator.OfLong listIteratorLong(int index) {
+            rangeCheckForAdd(index);
+            return new ListItr(index);
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfLong {
+            /** The node holding the cursor, with {@code 0 <= cursor - start <= node.n}. */
+            Node node;
+            /** The index of {@code node.a[0]}. */
+            int start;
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) {
+                cursor = index;
+                Node x;
+                int s;
+                if(index < (size >> 1)) {
+                    for(x = head, s = 0; index - s > x.n; x = x.next) s += x.n;
+                } else if((x = tail) != null) {
+                    for(s = size - x.n; index < s; s -= x.n) x = x.prev;
+                } else s = 0;
+                node = x;
+                start = s;
+            }
+
+            public boolean hasNext() { return cursor < size; }
+
+            public long nextLong() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                Node x = node;
+                int off = i - start;
+                if(off == x.n) {
+                    start += x.n;
+                    node = x = x.next;
+                    off = 0;
+                }
+                lastRet = i;
+                cursor = i + 1;
+                return x.a[off];
+            }
+
+            public boolean hasPrevious() { return cursor > 0; }
+
+            public long previousLong() {
+                checkForComodification();
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                Node x = node;
+                int off = i - start;
+                if(off < 0) {
+                    node = x = x.prev;
+                    start -= x.n;
+                    off = x.n - 1;
+                }
+                cursor = lastRet = i;
+                return x.a[off];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                Node x = node, p = x.prev;
+                Node r = PrimitiveUnrolledLinkedList.OfLong.this.remove(x, lastRet - start);
+                if(r == null) start = 0;
+                else if(r != x && r == p) start -= r.n;
+                node = r;
+                if(lastRet < cursor) cursor--;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+
+            public void setLong(long e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                node.a[lastRet - start] = e;
+            }
+
+            public void addLong(long e) {
+                checkForComodification();
+                Node x = node;
+                Node r = insert(x, cursor - start, e);
+                if(x != null && r != x) start += x.n;
+                node = r;
+                cursor++;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+
+    /**
+     * Unrolled doubly-linked list implementation of the {@link PrimitiveList.OfInt} interface.
+     * Elements are stored unboxed in a chain of nodes that each hold up to
+     * {@value PrimitiveUnrolledLinkedList#NODE_CAPACITY} consecutive elements in a
+     * {@code int[]}, so iteration walks arrays rather than chasing a pointer per element.
+     * <p>
+     * Insertion and removal through a {@link #listIteratorInt(int) list iterator} shift at
+     * most one node's worth of elements: a full node is split in half and a node that drops
+     * to at most half capacity together with its successor is merged into it. Positional
+     * access walks from whichever end of the list is nearer, node by node.
+     * {@link #addAllInt(int, PrimitiveCollection.OfInt)} cuts the node at the insertion point
+     * and links in fully packed nodes, and {@link #removeRange(int, int)} unlinks whole nodes,
+     * so splicing {@code m} elements into the middle costs {@code O(m + size / NODE_CAPACITY)}.
+     * <p>
+     * The iterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.LinkedList}
+     */
+    public static class OfInt extends PrimitiveAbstractSequentialList.OfInt implements Cloneable {
+        private static final class Node {
+            final int[] a = new int[NODE_CAPACITY];
+            int n;
+            Node prev, next;
+        }
+
+        private transient Node head, tail;
+        private int size;
+
+        /**
+         * Constructs an empty list.
+         */
+        public OfInt() {}
+
+        /**
+         * Constructs a list containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this list
+         */
+        public OfInt(PrimitiveCollection.OfInt c) {
+            int[] a = c.toArrayInt();
+            splice(0, a, 0, a.length);
+        }
+
+        /**
+         * Constructs a list containing {@code len} elements of the specified array,
+         * starting at {@code off}.
+         * @param a the array whose elements are to be placed into this list
+         * @param off the index of the first element to copy
+         * @param len the number of elements to copy
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfInt(int[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            splice(0, a, off, len);
+        }
+
+        ///////////// Node operations
+
+        /** Links a new empty node after {@code x}, or at the head if {@code x} is null. */
+        private Node linkAfter(Node x) {
+            Node y = new Node(), q = x == null ? head : x.next;
+            y.prev = x;
+            y.next = q;
+            if(x == null) head = y;
+            else x.next = y;
+            if(q == null) tail = y;
+            else q.prev = y;
+            return y;
+        }
+
+        private void unlink(Node x) {
+            Node p = x.prev, q = x.next;
+            if(p == null) head = q;
+            else p.next = q;
+            if(q == null) tail = p;
+            else q.prev = p;
+        }
+
+        /**
+         * Inserts {@code e} before {@code x.a[off]}, making room by moving into the next node
+         * or by splitting {@code x} if it is full.
+         * @return the node that received {@code e}, which is either {@code x} or the node after it
+         */
+        private Node insert(Node x, int off, int e) {
+            if(x == null) x = linkAfter(null);
+            else if(x.n == NODE_CAPACITY) {
+                if(off == NODE_CAPACITY) {
+                    // appending to a full node: a tail node is left full so that appends pack
+                    x = x.next != null && x.next.n < NODE_CAPACITY ? x.next : linkAfter(x);
+                    off = 0;
+                } else {
+                    Node y = linkAfter(x);
+                    final int h = NODE_CAPACITY >>> 1;
+                    System.arraycopy(x.a, h, y.a, 0, NODE_CAPACITY - h);
+                    y.n = NODE_CAPACITY - h;
+                    x.n = h;
+                    if(off > h) {
+                        x = y;
+                        off -= h;
+                    }
+                }
+            }
+            System.arraycopy(x.a, off, x.a, off + 1, x.n - off);
+            x.a[off] = e;
+            x.n++;
+            size++;
+            modCount++;
+            return x;
+        }
+
+        /**
+         * Removes {@code x.a[off]}, unlinking {@code x} if it becomes empty.
+         * @return the node that now holds the position of the removed element, which is
+         *         {@code x} unless it was unlinked, then its successor, then its predecessor
+         */
+        private Node remove(Node x, int off) {
+            System.arraycopy(x.a, off + 1, x.a, off, x.n - off - 1);
+            x.n--;
+            size--;
+            modCount++;
+            if(x.n == 0) {
+                unlink(x);
+                return x.next != null ? x.next : x.prev;
+            }
+            mergeNext(x);
+            return x;
+        }
+
+        /** Moves the successor of {@code x} into it if both fit in half a node. */
+        private void mergeNext(Node x) {
+            Node y = x.next;
+            if(y != null && x.n + y.n <= NODE_CAPACITY >>> 1) {
+                System.arraycopy(y.a, 0, x.a, x.n, y.n);
+                x.n += y.n;
+                unlink(y);
+            }
+        }
+
+        /** Inserts {@code len} elements of {@code src} starting at {@code off} before {@code index}. */
+        private void splice(int index, int[] src, int off, int len) {
+            if(len == 0) return;
+            var it = new ListItr(index);
+            Node x = it.node, before;
+            int at = index - it.start;
+            if(x == null || at == 0) before = x == null ? null : x.prev;
+            else {
+                before = x;
+                if(at < x.n) {
+                    Node y = linkAfter(x);
+                    System.arraycopy(x.a, at, y.a, 0, x.n - at);
+                    y.n = x.n - at;
+                    x.n = at;
+                }
+            }
+            int end = off + len;
+            if(before != null) {
+                int k = Math.min(NODE_CAPACITY - before.n, len);
+                System.arraycopy(src, off, before.a, before.n, k);
+                before.n += k;
+                off += k;
+            }
+            while(off < end) {
+                before = linkAfter(before);
+                int k = Math.min(NODE_CAPACITY, end - off);
+                System.arraycopy(src, off, before.a, 0, k);
+                before.n = k;
+                off += k;
+            }
+            size += len;
+            modCount++;
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public int indexOfInt(int e) {
+            int base = 0;
+            for(Node x = head; x != null; base += x.n, x = x.next) {
+                final int[] es = x.a;
+                for(int i = 0, n = x.n; i < n; i++) if(es[i] == e) return base + i;
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfInt(int e) {
+            int base = size;
+            for(Node x = tail; x != null; x = x.prev) {
+                base -= x.n;
+                final int[] es = x.a;
+                for(int i = x.n - 1; i >= 0; i--) if(es[i] == e) return base + i;
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean containsInt(int e) { return indexOfInt(e) >= 0; }
+
+        @Override
+        public int getFirstInt() {
+            if(size == 0) throw new NoSuchElementException();
+            return head.a[0];
+        }
+
+        @Override
+        public int getLastInt() {
+            if(size == 0) throw new NoSuchElementException();
+            return tail.a[tail.n - 1];
+        }
+
+        /**
+         * Returns a copy of this list. The nodes are copied, so the copy shares no
+         * storage with this list.
+         * @return a clone of this list
+         */
+        @Override
+        public PrimitiveUnrolledLinkedList.OfInt clone() {
+            try {
+                var v = (PrimitiveUnrolledLinkedList.OfInt) super.clone();
+                v.head = v.tail = null;
+                v.size = 0;
+                v.modCount = 0;
+                for(Node x = head; x != null; x = x.next) {
+                    Node y = v.linkAfter(v.tail);
+                    System.arraycopy(x.a, 0, y.a, 0, x.n);
+                    y.n = x.n;
+                }
+                v.size = size;
+                return v;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addInt(int e) {
+            insert(tail, tail == null ? 0 : tail.n, e);
+            return true;
+        }
+
+        @Override
+        public void addFirstInt(int e) { insert(head, 0, e); }
+
+        @Override
+        public void addLastInt(int e) { insert(tail, tail == null ? 0 : tail.n, e); }
+
+        @Override
+        public int removeFirstInt() {
+            if(size == 0) throw new NoSuchElementException();
+            int e = head.a[0];
+            remove(head, 0);
+            return e;
+        }
+
+        @Override
+        public int removeLastInt() {
+            if(size == 0) throw new NoSuchElementException();
+            Node x = tail;
+            int e = x.a[x.n - 1];
+            remove(x, x.n - 1);
+            return e;
+        }
+
+        @Override
+        public boolean removeIfInt(PrimitivePredicate.OfInt filter) {
+            Objects.requireNonNull(filter);
+            final int expectedModCount = modCount;
+            // test every element before touching any node, so a throwing predicate leaves the list as it was
+            final long[] deathRow = PrimitiveArrayList.nBits(Math.max(size, 1));
+            int removed = 0, k = 0;
+            for(Node x = head; x != null; x = x.next) {
+                final int[] es = x.a;
+                for(int i = 0, n = x.n; i < n; i++, k++) {
+                    if(filter.testInt(es[i])) {
+                        PrimitiveArrayList.setBit(deathRow, k);
+                        removed++;
+                    }
+                }
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(removed == 0) return false;
+            k = 0;
+            for(Node x = head; x != null; ) {
+                final int[] es = x.a;
+                int w = 0;
+                for(int i = 0, n = x.n; i < n; i++, k++) if(PrimitiveArrayList.isClear(deathRow, k)) es[w++] = es[i];
+                x.n = w;
+                Node next = x.next;
+                if(w == 0) unlink(x);
+                x = next;
+            }
+            size -= removed;
+            for(Node x = head; x != null; x = x.next) mergeNext(x);
+            modCount++;
+            return true;
+        }
+
+        ///////////// Bulk operations
+
+        /**
+         * Inserts all of the elements in the specified collection into this list at the
+         * specified position. The node holding that position is cut in two and the new
+         * elements are linked in between, in nodes that are filled completely.
+         * @param index index at which to insert the first element from the specified collection
+         * @param c collection containing elements to be added to this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public boolean addAllInt(int index, PrimitiveCollection.OfInt c) {
+            rangeCheckForAdd(index);
+            int[] a = c.toArrayInt();
+            splice(index, a, 0, a.length);
+            return a.length != 0;
+        }
+
+        @Override
+        public boolean addAllInt(PrimitiveCollection.OfInt c) { return addAllInt(size, c); }
+
+        @Override
+        public void clear() {
+            head = tail = null;
+            size = 0;
+            modCount++;
+        }
+
+        /**
+         * Removes from this list all of the elements whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. Nodes that lie
+         * wholly inside the range are unlinked without being visited element by element.
+         * @param fromIndex index of first element to be removed
+         * @param toIndex index after last element to be removed
+         */
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            int n = toIndex - fromIndex;
+            if(n <= 0) return;
+            var it = new ListItr(fromIndex);
+            Node x = it.node, kept = x.prev;
+            int off = fromIndex - it.start;
+            if(off == x.n) {
+                kept = x;
+                x = x.next;
+                off = 0;
+            } else if(off > 0) kept = x;
+            size -= n;
+            modCount++;
+            while(n > 0) {
+                int k = Math.min(x.n - off, n);
+                Node next = x.next;
+                if(k == x.n) unlink(x);
+                else {
+                    System.arraycopy(x.a, off + k, x.a, off, x.n - off - k);
+                    x.n -= k;
+                }
+                n -= k;
+                off = 0;
+                x = next;
+            }
+            if(kept != null) mergeNext(kept);
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public int[] toArrayInt() { return toArrayInt(new int[size]); }
+
+        @Override
+        public int[] toArrayInt(int[] array) {
+            if(array.length < size) array = new int[size];
+            int i = 0;
+            for(Node x = head; x != null; x = x.next) {
+                System.arraycopy(x.a, 0, array, i, x.n);
+                i += x.n;
+            }
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfInt action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            for(Node x = head; x != null && modCount == expectedModCount; x = x.next) {
+                final int[] es = x.a;
+                for(int i = 0, n = x.n; i < n; i++) action.acceptInt(es[i]);
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveListIterator.OfInt listIteratorInt(int index) {
+            rangeCheckForAdd(index);
+            return new ListItr(index);
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfInt {
+            /** The node holding the cursor, with {@code 0 <= cursor - start <= node.n}. */
+            Node node;
+            /** The index of {@code node.a[0]}. */
+            int start;
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) {
+                cursor = index;
+                Node x;
+                int s;
+                if(index < (size >> 1)) {
+                    for(x = head, s = 0; index - s > x.n; x = x.next) s += x.n;
+                } else if((x = tail) != null) {
+                    for(s = size - x.n; index < s; s -= x.n) x = x.prev;
+                } else s = 0;
+                node = x;
+                start = s;
+            }
+
+            public boolean hasNext() { return cursor < size; }
+
+            public int nextInt() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                Node x = node;
+                int off = i - start;
+                if(off == x.n) {
+                    start += x.n;
+                    node = x = x.next;
+                    off = 0;
+                }
+                lastRet = i;
+                cursor = i + 1;
+                return x.a[off];
+            }
+
+            public boolean hasPrevious() { return cursor > 0; }
+
+            public int previousInt() {
+                checkForComodification();
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                Node x = node;
+                int off = i - start;
+                if(off < 0) {
+                    node = x = x.prev;
+                    start -= x.n;
+                    off = x.n - 1;
+                }
+                cursor = lastRet = i;
+                return x.a[off];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                Node x = node, p = x.prev;
+                Node r = PrimitiveUnrolledLinkedList.OfInt.this.remove(x, lastRet - start);
+                if(r == null) start = 0;
+                else if(r != x && r == p) start -= r.n;
+                node = r;
+                if(lastRet < cursor) cursor--;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+
+            public void setInt(int e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                node.a[lastRet - start] = e;
+            }
+
+            public void addInt(int e) {
+                checkForComodification();
+                Node x = node;
+                Node r = insert(x, cursor - start, e);
+                if(x != null && r != x) start += x.n;
+                node = r;
+                cursor++;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+
+    /**
+     * Unrolled doubly-linked list implementation of the {@link PrimitiveList.OfFloat} interface.
+     * Elements are stored unboxed in a chain of nodes that each hold up to
+     * {@value PrimitiveUnrolledLinkedList#NODE_CAPACITY} consecutive elements in a
+     * {@code float[]}, so iteration walks arrays rather than chasing a pointer per element.
+     * <p>
+     * Insertion and removal through a {@link #listIteratorFloat(int) list iterator} shift at
+     * most one node's worth of elements: a full node is split in half and a node that drops
+     * to at most half capacity together with its successor is merged into it. Positional
+     * access walks from whichever end of the list is nearer, node by node.
+     * {@link #addAllFloat(int, PrimitiveCollection.OfFloat)} cuts the node at the insertion point
+     * and links in fully packed nodes, and {@link #removeRange(int, int)} unlinks whole nodes,
+     * so splicing {@code m} elements into the middle costs {@code O(m + size / NODE_CAPACITY)}.
+     * <p>
+     * The iterators of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.LinkedList}
+     */
+    public static class OfFloat extends PrimitiveAbstractSequentialList.OfFloat implements Cloneable {
+        private static final class Node {
+            final float[] a = new float[NODE_CAPACITY];
+            int n;
+            Node prev, next;
+        }
+
+        private transient Node head, tail;
+        private int size;
+
+        /**
+         * Constructs an empty list.
+         */
+        public OfFloat() {}
+
+        /**
+         * Constructs a list containing the elements of the specified collection,
+         * in the order they are returned by the collection's iterator.
+         * @param c the collection whose elements are to be placed into this list
+         */
+        public OfFloat(PrimitiveCollection.OfFloat c) {
+            float[] a = c.toArrayFloat();
+            splice(0, a, 0, a.length);
+        }
+
+        /**
+         * Constructs a list containing {@code len} elements of the specified array,
+         * starting at {@code off}.
+         * @param a the array whose elements are to be placed into this list
+         * @param off the index of the first element to copy
+         * @param len the number of elements to copy
+         * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code a}
+         */
+        public OfFloat(float[] a, int off, int len) {
+            Objects.checkFromIndexSize(off, len, a.length);
+            splice(0, a, off, len);
+        }
+
+        ///////////// Node operations
+
+        /** Links a new empty node after {@code x}, or at the head if {@code x} is null. */
+        private Node linkAfter(Node x) {
+            Node y = new Node(), q = x == null ? head : x.next;
+            y.prev = x;
+            y.next = q;
+            if(x == null) head = y;
+            else x.next = y;
+            if(q == null) tail = y;
+            else q.prev = y;
+            return y;
+        }
+
+        private void unlink(Node x) {
+            Node p = x.prev, q = x.next;
+            if(p == null) head = q;
+            else p.next = q;
+            if(q == null) tail = p;
+            else q.prev = p;
+        }
+
+        /**
+         * Inserts {@code e} before {@code x.a[off]}, making room by moving into the next node
+         * or by splitting {@code x} if it is full.
+         * @return the node that received {@code e}, which is either {@code x} or the node after it
+         */
+        private Node insert(Node x, int off, float e) {
+            if(x == null) x = linkAfter(null);
+            else if(x.n == NODE_CAPACITY) {
+                if(off == NODE_CAPACITY) {
+                    // appending to a full node: a tail node is left full so that appends pack
+                    x = x.next != null && x.next.n < NODE_CAPACITY ? x.next : linkAfter(x);
+                    off = 0;
+                } else {
+                    Node y = linkAfter(x);
+                    final int h = NODE_CAPACITY >>> 1;
+                    System.arraycopy(x.a, h, y.a, 0, NODE_CAPACITY - h);
+                    y.n = NODE_CAPACITY - h;
+                    x.n = h;
+                    if(off > h) {
+                        x = y;
+                        off -= h;
+                    }
+                }
+            }
+            System.arraycopy(x.a, off, x.a, off + 1, x.n - off);
+            x.a[off] = e;
+            x.n++;
+            size++;
+            modCount++;
+            return x;
+        }
+
+        /**
+         * Removes {@code x.a[off]}, unlinking {@code x} if it becomes empty.
+         * @return the node that now holds the position of the removed element, which is
+         *         {@code x} unless it was unlinked, then its successor, then its predecessor
+         */
+        private Node remove(Node x, int off) {
+            System.arraycopy(x.a, off + 1, x.a, off, x.n - off - 1);
+            x.n--;
+            size--;
+            modCount++;
+            if(x.n == 0) {
+                unlink(x);
+                return x.next != null ? x.next : x.prev;
+            }
+            mergeNext(x);
+            return x;
+        }
+
+        /** Moves the successor of {@code x} into it if both fit in half a node. */
+        private void mergeNext(Node x) {
+            Node y = x.next;
+            if(y != null && x.n + y.n <= NODE_CAPACITY >>> 1) {
+                System.arraycopy(y.a, 0, x.a, x.n, y.n);
+                x.n += y.n;
+                unlink(y);
+            }
+        }
+
+        /** Inserts {@code len} elements of {@code src} starting at {@code off} before {@code index}. */
+        private void splice(int index, float[] src, int off, int len) {
+            if(len == 0) return;
+            var it = new ListItr(index);
+            Node x = it.node, before;
+            int at = index - it.start;
+            if(x == null || at == 0) before = x == null ? null : x.prev;
+            else {
+                before = x;
+                if(at < x.n) {
+                    Node y = linkAfter(x);
+                    System.arraycopy(x.a, at, y.a, 0, x.n - at);
+                    y.n = x.n - at;
+                    x.n = at;
+                }
+            }
+            int end = off + len;
+            if(before != null) {
+                int k = Math.min(NODE_CAPACITY - before.n, len);
+                System.arraycopy(src, off, before.a, before.n, k);
+                before.n += k;
+                off += k;
+            }
+            while(off < end) {
+                before = linkAfter(before);
+                int k = Math.min(NODE_CAPACITY, end - off);
+                System.arraycopy(src, off, before.a, 0, k);
+                before.n = k;
+                off += k;
+            }
+            size += len;
+            modCount++;
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public int indexOfFloat(float e) {
+            int base = 0;
+            for(Node x = head; x != null; base += x.n, x = x.next) {
+                final float[] es = x.a;
+                for(int i = 0, n = x.n; i < n; i++) if((es[i] == e || java.lang.Float.isNaN(es[i]) && java.lang.Float.isNaN(e))) return base + i;
+            }
+            return -1;
+        }
+
+        @Override
+        public int lastIndexOfFloat(float e) {
+            int base = size;
+            for(Node x = tail; x != null; x = x.prev) {
+                base -= x.n;
+                final float[] es = x.a;
+                for(int i = x.n - 1; i >= 0; i--) if((es[i] == e || java.lang.Float.isNaN(es[i]) && java.lang.Float.isNaN(e))) return base + i;
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean containsFloat(float e) { return indexOfFloat(e) >= 0; }
+
+        @Override
+        public float getFirstFloat() {
+            if(size == 0) throw new NoSuchElementException();
+            return head.a[0];
+        }
+
+        @Override
+        public float getLastFloat() {
+            if(size == 0) throw new NoSuchElementException();
+            return tail.a[tail.n - 1];
+        }
+
+        /**
+         * Returns a copy of this list. The nodes are copied, so the copy shares no
+         * storage with this list.
+         * @return a clone of this list
+         */
+        @Override
+        public PrimitiveUnrolledLinkedList.OfFloat clone() {
+            try {
+                var v = (PrimitiveUnrolledLinkedList.OfFloat) super.clone();
+                v.head = v.tail = null;
+                v.size = 0;
+                v.modCount = 0;
+                for(Node x = head; x != null; x = x.next) {
+                    Node y = v.linkAfter(v.tail);
+                    System.arraycopy(x.a, 0, y.a, 0, x.n);
+                    y.n = x.n;
+                }
+                v.size = size;
+                return v;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public boolean addFloat(float e) {
+            insert(tail, tail == null ? 0 : tail.n, e);
+            return true;
+        }
+
+        @Override
+        public void addFirstFloat(float e) { insert(head, 0, e); }
+
+        @Override
+        public void addLastFloat(float e) { insert(tail, tail == null ? 0 : tail.n, e); }
+
+        @Override
+        public float removeFirstFloat() {
+            if(size == 0) throw new NoSuchElementException();
+            float e = head.a[0];
+            remove(head, 0);
+            return e;
+        }
+
+        @Override
+        public float removeLastFloat() {
+            if(size == 0) throw new NoSuchElementException();
+            Node x = tail;
+            float e = x.a[x.n - 1];
+            remove(x, x.n - 1);
+            return e;
+        }
+
+        @Override
+        public boolean removeIfFloat(PrimitivePredicate.OfFloat filter) {
+            Objects.requireNonNull(filter);
+            final int expectedModCount = modCount;
+            // test every element before touching any node, so a throwing predicate leaves the list as it was
+            final long[] deathRow = PrimitiveArrayList.nBits(Math.max(size, 1));
+            int removed = 0, k = 0;
+            for(Node x = head; x != null; x = x.next) {
+                final float[] es = x.a;
+                for(int i = 0, n = x.n; i < n; i++, k++) {
+                    if(filter.testFloat(es[i])) {
+                        PrimitiveArrayList.setBit(deathRow, k);
+                        removed++;
+                    }
+                }
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            if(removed == 0) return false;
+            k = 0;
+            for(Node x = head; x != null; ) {
+                final float[] es = x.a;
+                int w = 0;
+                for(int i = 0, n = x.n; i < n; i++, k++) if(PrimitiveArrayList.isClear(deathRow, k)) es[w++] = es[i];
+                x.n = w;
+                Node next = x.next;
+                if(w == 0) unlink(x);
+                x = next;
+            }
+            size -= removed;
+            for(Node x = head; x != null; x = x.next) mergeNext(x);
+            modCount++;
+            return true;
+        }
+
+        ///////////// Bulk operations
+
+        /**
+         * Inserts all of the elements in the specified collection into this list at the
+         * specified position. The node holding that position is cut in two and the new
+         * elements are linked in between, in nodes that are filled completely.
+         * @param index index at which to insert the first element from the specified collection
+         * @param c collection containing elements to be added to this list
+         * @return {@code true} if this list changed as a result of the call
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public boolean addAllFloat(int index, PrimitiveCollection.OfFloat c) {
+            rangeCheckForAdd(index);
+            float[] a = c.toArrayFloat();
+            splice(index, a, 0, a.length);
+            return a.length != 0;
+        }
+
+        @Override
+        public boolean addAllFloat(PrimitiveCollection.OfFloat c) { return addAllFloat(size, c); }
+
+        @Override
+        public void clear() {
+            head = tail = null;
+            size = 0;
+            modCount++;
+        }
+
+        /**
+         * Removes from this list all of the elements whose index is between
+         * {@code fromIndex}, inclusive, and {@code toIndex}, exclusive. Nodes that lie
+         * wholly inside the range are unlinked without being visited element by element.
+         * @param fromIndex index of first element to be removed
+         * @param toIndex index after last element to be removed
+         */
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            int n = toIndex - fromIndex;
+            if(n <= 0) return;
+            var it = new ListItr(fromIndex);
+            Node x = it.node, kept = x.prev;
+            int off = fromIndex - it.start;
+            if(off == x.n) {
+                kept = x;
+                x = x.next;
+                off = 0;
+            } else if(off > 0) kept = x;
+            size -= n;
+            modCount++;
+            while(n > 0) {
+                int k = Math.min(x.n - off, n);
+                Node next = x.next;
+                if(k == x.n) unlink(x);
+                else {
+                    System.arraycopy(x.a, off + k, x.a, off, x.n - off - k);
+                    x.n -= k;
+                }
+                n -= k;
+                off = 0;
+                x = next;
+            }
+            if(kept != null) mergeNext(kept);
+        }
+
+        ///////////// Array operations
+
+        @Override
+        public float[] toArrayFloat() { return toArrayFloat(new float[size]); }
+
+        @Override
+        public float[] toArrayFloat(float[] array) {
+            if(array.length < size) array = new float[size];
+            int i = 0;
+            for(Node x = head; x != null; x = x.next) {
+                System.arraycopy(x.a, 0, array, i, x.n);
+                i += x.n;
+            }
+            return array;
+        }
+
+        @Override
+        public void forEach(PrimitiveConsumer.OfFloat action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            for(Node x = head; x != null && modCount == expectedModCount; x = x.next) {
+                final float[] es = x.a;
+                for(int i = 0, n = x.n; i < n; i++) action.acceptFloat(es[i]);
+            }
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Iterators
+
+        @Override
+        public PrimitiveListIterator.OfFloat listIteratorFloat(int index) {
+            rangeCheckForAdd(index);
+            return new ListItr(index);
+        }
+
+        private class ListItr implements PrimitiveListIterator.OfFloat {
+            /** The node holding the cursor, with {@code 0 <= cursor - start <= node.n}. */
+            Node node;
+            /** The index of {@code node.a[0]}. */
+            int start;
+            int cursor;
+            int lastRet = -1;
+            int expectedModCount = modCount;
+
+            ListItr(int index) {
+                cursor = index;
+                Node x;
+                int s;
+                if(index < (size >> 1)) {
+                    for(x = head, s = 0; index - s > x.n; x = x.next) s += x.n;
+                } else if((x = tail) != null) {
+                    for(s = size - x.n; index < s; s -= x.n) x = x.prev;
+                } else s = 0;
+                node = x;
+                start = s;
+            }
+
+            public boolean hasNext() { return cursor < size; }
+
+            public float nextFloat() {
+                checkForComodification();
+                int i = cursor;
+                if(i >= size) throw new NoSuchElementException();
+                Node x = node;
+                int off = i - start;
+                if(off == x.n) {
+                    start += x.n;
+                    node = x = x.next;
+                    off = 0;
+                }
+                lastRet = i;
+                cursor = i + 1;
+                return x.a[off];
+            }
+
+            public boolean hasPrevious() { return cursor > 0; }
+
+            public float previousFloat() {
+                checkForComodification();
+                int i = cursor - 1;
+                if(i < 0) throw new NoSuchElementException();
+                Node x = node;
+                int off = i - start;
+                if(off < 0) {
+                    node = x = x.prev;
+                    start -= x.n;
+                    off = x.n - 1;
+                }
+                cursor = lastRet = i;
+                return x.a[off];
+            }
+
+            public int nextIndex() { return cursor; }
+
+            public int previousIndex() { return cursor - 1; }
+
+            public void remove() {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                Node x = node, p = x.prev;
+                Node r = PrimitiveUnrolledLinkedList.OfFloat.this.remove(x, lastRet - start);
+                if(r == null) start = 0;
+                else if(r != x && r == p) start -= r.n;
+                node = r;
+                if(lastRet < cursor) cursor--;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+
+            public void setFloat(float e) {
+                if(lastRet < 0) throw new IllegalStateException();
+                checkForComodification();
+                node.a[lastRet - start] = e;
+            }
+
+            public void addFloat(float e) {
+                checkForComodification();
+                Node x = node;
+                Node r = insert(x, cursor - start, e);
+                if(x != null && r != x) start += x.n;
+                node = r;
+                cursor++;
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+
+            final void checkForComodification() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,567 @@
+package jdk.prim.util.map;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import jdk.prim.util.function.PrimitiveBiConsumer;
+import jdk.prim.util.function.PrimitiveFunction;
+
+/**
+ * A pseudo-package for holding size-bounded caches keyed by primitives.
+ */
+public final class PrimitiveCache {
+    /** Marks an entry slot that holds no mapping. */
+    private static final byte FREE = 0;
+    /** The admission window, where every new mapping starts. */
+    private static final byte WINDOW = 1;
+    /** The main region's segment for mappings that were admitted but not reused since. */
+    private static final byte PROBATION = 2;
+    /** The main region's segment for mappings that were reused while on probation. */
+    private static final byte PROTECTED = 3;
+    /** The link value that ends a list. */
+    private static final int NIL = -1;
+
+    private PrimitiveCache() {}
+
+    /**
+     * A cache of {@code long} keys to object values holding at most a fixed number of
+     * mappings, which evicts by the W-TinyLFU policy once it is full.
+     * <p>
+     * A new mapping enters a small LRU <i>window</i> of about one percent of the
+     * capacity. The mapping pushed out of the window then competes with the least
+     * recently used mapping of the <i>main</i> region, and only the one of the two whose
+     * key has been accessed more often stays; the other is evicted. Access frequencies
+     * are estimated by a count-min sketch of 4-bit counters packed into a {@code long[]},
+     * which are halved after every {@code 10 * maximumSize} recorded accesses so that the
+     * estimates age. The main region is a segmented LRU: a mapping hit while on
+     * <i>probation</i> moves to the <i>protected</i> segment (about 80% of the main
+     * region), whose least recent mapping is demoted back to probation when it overflows.
+     * This keeps a frequently used working set resident through scans and bursts of
+     * one-off keys that flush a plain LRU cache.
+     * <p>
+     * All storage is allocated up front: the keys, values and recency links live in
+     * parallel arrays indexed by entry slot, and an open-addressing table maps keys to
+     * slots. {@code getLong}, {@code putLong} and {@code computeIfAbsentLong} do not
+     * allocate, and a hit costs a probe of the table, four sketch counter updates and a
+     * few link writes.
+     * <p>
+     * Null values are not permitted. The eviction listener, if any, is called with the key
+     * and value of each mapping removed to make room, after the cache is consistent again;
+     * it is not called for explicit removals or for values replaced by {@code putLong}.
+     * <p>
+     * This class is not thread-safe. The iterators of its views are <i>fail-fast</i>,
+     * and walk the mappings in no particular order; iteration, {@code containsKeyLong} and
+     * {@code peekLong} leave recency and frequency untouched.
+     *
+     * @param <V> the type of the values
+     */
+    public static class OfLong<V> extends AbstractMap<java.lang.Long, V> implements PrimitiveMap.OfLong<V> {
+        /** The lowest bit of every 4-bit counter in a sketch word. */
+        private static final long ONE_MASK = 0x1111111111111111L;
+        /** Clears the bit shifted into each counter from its neighbour when a word is halved. */
+        private static final long RESET_MASK = 0x7777777777777777L;
+        /** One multiplier per row of the sketch. */
+        private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+
+        private final int maximumSize;
+        /** The maximum number of mappings in the window. */
+        private final int windowMax;
+        /** The maximum number of mappings in the main region. */
+        private final int mainMax;
+        /** The maximum number of mappings in the protected segment. */
+        private final int protectedMax;
+        private final PrimitiveBiConsumer.OfLong<? super V> evictionListener;
+
+        /** The key in each entry slot. */
+        private final long[] keys;
+        /** The value in each entry slot, {@code null} for a free slot. */
+        private final Object[] values;
+        /** The previous and next slots in the slot's list; {@code next} also chains free slots. */
+        private final int[] prev, next;
+        /** The list each slot is in, one of {@link #FREE}, {@link #WINDOW}, {@link #PROBATION} or {@link #PROTECTED}. */
+        private final byte[] region;
+        /** The least recently used slot, the most recently used slot and the length of each list, indexed by region. */
+        private final int[] head = new int[4], tail = new int[4], count = new int[4];
+        /** The first free slot. */
+        private int free;
+
+        /** The open-addressing index of the slots, holding {@code slot + 1} or {@code 0} when empty. */
+        private final int[] table;
+        private final int mask;
+
+        /** The frequency sketch: four rows of 4-bit counters, sixteen to a word. */
+        private final long[] sketch;
+        private final int sketchMask;
+        /** The number of counter increments after which the sketch is halved. */
+        private final int sampleSize;
+        private int samples;
+
+        private int size;
+        private long hits, misses;
+        private int modCount;
+
+        private transient Set<Map.Entry<java.lang.Long, V>> entrySetView;
+
+        /**
+         * Constructs an empty cache holding at most {@code maximumSize} mappings.
+         * @param maximumSize the maximum number of mappings
+         * @throws IllegalArgumentException if {@code maximumSize} is not positive
+         */
+        public OfLong(int maximumSize) { this(maximumSize, null); }
+
+        /**
+         * Constructs an empty cache holding at most {@code maximumSize} mappings, that
+         * reports every mapping evicted to make room to the specified listener.
+         * @param maximumSize the maximum number of mappings
+         * @param evictionListener the listener called with each evicted key and value,
+         *        or {@code null} for none
+         * @throws IllegalArgumentException if {@code maximumSize} is not positive
+         */
+        public OfLong(int maximumSize, PrimitiveBiConsumer.OfLong<? super V> evictionListener) {
+            if(maximumSize <= 0) throw new IllegalArgumentException("Illegal maximum size: " + maximumSize);
+            this.maximumSize = maximumSize;
+            this.evictionListener = evictionListener;
+            windowMax = Math.max(1, maximumSize / 100);
+            mainMax = maximumSize - windowMax;
+            protectedMax = (int) (mainMax * 4L / 5);
+
+            // one spare slot takes the new mapping before the overflowing one is evicted
+            int slots = maximumSize + 1;
+            keys = new long[slots];
+            values = new Object[slots];
+            prev = new int[slots];
+            next = new int[slots];
+            region = new byte[slots];
+            int n = PrimitiveHashMap.tableSize(maximumSize + 1, .5f);
+            table = new int[n];
+            mask = n - 1;
+            int w = Math.max(8, Integer.highestOneBit(maximumSize - 1) << 1);
+            sketch = new long[w];
+            sketchMask = w - 1;
+            sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+            resetLinks();
+        }
+
+        /** Empties every list and chains all slots onto the free list. */
+        private void resetLinks() {
+            for(int r = 0; r < 4; r++) {
+                head[r] = tail[r] = NIL;
+                count[r] = 0;
+            }
+            final int n = next.length;
+            for(int i = 0; i < n; i++) next[i] = i + 1;
+            next[n - 1] = NIL;
+            free = 0;
+        }
+
+        /**
+         * Returns the maximum number of mappings this cache holds.
+         * @return the maximum size
+         */
+        public int maximumSize() { return maximumSize; }
+
+        /**
+         * Returns the number of {@code getLong} and {@code computeIfAbsentLong} calls that
+         * found a mapping.
+         * @return the hit count
+         */
+        public long hitCount() { return hits; }
+
+        /**
+         * Returns the number of {@code getLong} and {@code computeIfAbsentLong} calls that
+         * found no mapping.
+         * @return the miss count
+         */
+        public long missCount() { return misses; }
+
+        ///////////// Frequency sketch
+
+        /** Returns the estimated access frequency of {@code key}, from 0 to 15. */
+        private int frequency(long key) {
+            final int h = PrimitiveHashMap.mix(key), start = (h & 3) << 2;
+            int f = 15;
+            for(int i = 0; i < 4; i++) {
+                int c = (int) (sketch[indexOf(key, i)] >>> ((start + i) << 2)) & 0xf;
+                if(c < f) f = c;
+            }
+            return f;
+        }
+
+        /** Records an access to {@code key}, halving all counters once enough have been recorded. */
+        private void recordAccess(long key) {
+            final int h = PrimitiveHashMap.mix(key), start = (h & 3) << 2;
+            boolean added = false;
+            for(int i = 0; i < 4; i++) {
+                int j = indexOf(key, i);
+                long m = 0xfL << ((start + i) << 2);
+                if((sketch[j] & m) != m) {
+                    sketch[j] += 1L << ((start + i) << 2);
+                    added = true;
+                }
+            }
+            if(added && ++samples == sampleSize) halve();
+        }
+
+        /** Returns the sketch word holding the counter of {@code key} in row {@code i}. */
+        private int indexOf(long key, int i) {
+            long h = (key + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return (int) h & sketchMask;
+        }
+
+        /** Ages the sketch by halving every counter. */
+        private void halve() {
+            int odd = 0;
+            final long[] s = sketch;
+            for(int i = 0; i < s.length; i++) {
+                odd += Long.bitCount(s[i] & ONE_MASK);
+                s[i] = (s[i] >>> 1) & RESET_MASK;
+            }
+            samples = (samples >>> 1) - (odd >>> 2);
+        }
+
+        ///////////// Key index
+
+        /** Returns the slot holding {@code key}, or {@code -1} if there is none. */
+        private int find(long key) {
+            final int[] t = table;
+            for(int i = PrimitiveHashMap.mix(key) & mask;; i = (i + 1) & mask) {
+                int s = t[i];
+                if(s == 0) return -1;
+                if(keys[s - 1] == key) return s - 1;
+            }
+        }
+
+        /** Indexes {@code slot} under its key, which must be absent. */
+        private void index(int slot) {
+            final int[] t = table;
+            int i = PrimitiveHashMap.mix(keys[slot]) & mask;
+            while(t[i] != 0) i = (i + 1) & mask;
+            t[i] = slot + 1;
+        }
+
+        /** Removes {@code slot} from the index, shifting back the entries probed past it. */
+        private void unindex(int slot) {
+            final int[] t = table;
+            int j = PrimitiveHashMap.mix(keys[slot]) & mask;
+            while(t[j] != slot + 1) j = (j + 1) & mask;
+            for(int i = (j + 1) & mask;; i = (i + 1) & mask) {
+                int s = t[i];
+                if(s == 0) break;
+                int k = PrimitiveHashMap.mix(keys[s - 1]) & mask;
+                // leave an entry whose home lies cyclically in (j, i]
+                if(j < i ? (j < k && k <= i) : (j < k || k <= i)) continue;
+                t[j] = s;
+                j = i;
+            }
+            t[j] = 0;
+        }
+
+        ///////////// Recency lists
+
+        /** Appends {@code slot} to the most recent end of list {@code r}. */
+        private void link(int slot, byte r) {
+            int t = tail[r];
+            prev[slot] = t;
+            next[slot] = NIL;
+            if(t == NIL) head[r] = slot;
+            else next[t] = slot;
+            tail[r] = slot;
+            region[slot] = r;
+            count[r]++;
+        }
+
+        /** Takes {@code slot} out of its list, leaving its region in place. */
+        private void unlink(int slot) {
+            final byte r = region[slot];
+            int p = prev[slot], n = next[slot];
+            if(p == NIL) head[r] = n;
+            else next[p] = n;
+            if(n == NIL) tail[r] = p;
+            else prev[n] = p;
+            count[r]--;
+        }
+
+        /** Updates the lists for a hit on {@code slot}. */
+        private void onHit(int slot) {
+            final byte r = region[slot];
+            if(r == PROBATION) {
+                unlink(slot);
+                if(count[PROTECTED] >= protectedMax && count[PROTECTED] > 0) {
+                    int demoted = head[PROTECTED];
+                    unlink(demoted);
+                    link(demoted, PROBATION);
+                }
+                link(slot, protectedMax == 0 ? PROBATION : PROTECTED);
+            } else if(tail[r] != slot) {
+                unlink(slot);
+                link(slot, r);
+            }
+        }
+
+        /** Returns {@code slot} to the free list, dropping its index entry and value. */
+        private void release(int slot) {
+            unindex(slot);
+            values[slot] = null;
+            region[slot] = FREE;
+            next[slot] = free;
+            free = slot;
+            size--;
+        }
+
+        /**
+         * Adds a mapping known to be absent to the window, and if that overflows lets the
+         * window's least recent mapping compete for a place in the main region.
+         */
+        private void insert(long key, V value) {
+            modCount++;
+            int slot = free;
+            free = next[slot];
+            keys[slot] = key;
+            values[slot] = value;
+            index(slot);
+            link(slot, WINDOW);
+            size++;
+            if(count[WINDOW] <= windowMax) return;
+
+            int candidate = head[WINDOW];
+            unlink(candidate);
+            if(count[PROBATION] + count[PROTECTED] < mainMax) {
+                link(candidate, PROBATION);
+                return;
+            }
+            int victim = head[PROBATION] != NIL ? head[PROBATION] : head[PROTECTED];
+            int evicted;
+            if(victim != NIL && frequency(keys[candidate]) > frequency(keys[victim])) {
+                unlink(victim);
+                link(candidate, PROBATION);
+                evicted = victim;
+            } else {
+                evicted = candidate;
+            }
+            long k = keys[evicted];
+            @SuppressWarnings("unchecked")
+            V v = (V) values[evicted];
+            release(evicted);
+            if(evictionListener != null) evictionListener.acceptLong(k, v);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        /**
+         * Returns the value mapped to {@code key}, or {@code null} if there is none,
+         * recording the access for the eviction policy.
+         * @param key the key
+         * @return the value mapped to the key, or {@code null}
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getLong(long key) {
+            recordAccess(key);
+            int slot = find(key);
+            if(slot < 0) {
+                misses++;
+                return null;
+            }
+            hits++;
+            onHit(slot);
+            return (V) values[slot];
+        }
+
+        /**
+         * Returns the value mapped to {@code key}, or {@code null} if there is none,
+         * without recording the access.
+         * @param key the key
+         * @return the value mapped to the key, or {@code null}
+         */
+        @SuppressWarnings("unchecked")
+        public V peekLong(long key) {
+            int slot = find(key);
+            return slot < 0 ? null : (V) values[slot];
+        }
+
+        @Override
+        public boolean containsKeyLong(long key) { return find(key) >= 0; }
+
+        @Override
+        public boolean containsValue(Object value) {
+            if(value == null) return false;
+            for(Object v : values) if(value.equals(v)) return true;
+            return false;
+        }
+
+        @Override
+        public V get(Object key) { return (key instanceof java.lang.Long k) ? getLong(k) : null; }
+
+        @Override
+        public boolean containsKey(Object key) { return (key instanceof java.lang.Long k) && containsKeyLong(k); }
+
+        ///////////// Modification operations
+
+        /**
+         * Maps {@code key} to {@code value}, recording the access for the eviction policy.
+         * A new mapping may cause another, or itself, to be evicted.
+         * @param key the key
+         * @param value the value
+         * @return the value previously mapped to the key, or {@code null}
+         * @throws NullPointerException if {@code value} is {@code null}
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public V putLong(long key, V value) {
+            Objects.requireNonNull(value);
+            recordAccess(key);
+            int slot = find(key);
+            if(slot >= 0) {
+                V old = (V) values[slot];
+                values[slot] = value;
+                onHit(slot);
+                return old;
+            }
+            insert(key, value);
+            return null;
+        }
+
+        /**
+         * Returns the value mapped to {@code key}, first computing it with
+         * {@code mappingFunction} and inserting it if there is none. The access is recorded
+         * for the eviction policy either way. If the function returns {@code null} nothing
+         * is inserted.
+         * @param key the key
+         * @param mappingFunction the function computing a missing value
+         * @return the current or computed value, or {@code null}
+         * @throws ConcurrentModificationException if {@code mappingFunction} modified this cache
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public V computeIfAbsentLong(long key, PrimitiveFunction.OfLong<? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            recordAccess(key);
+            int slot = find(key);
+            if(slot >= 0) {
+                hits++;
+                onHit(slot);
+                return (V) values[slot];
+            }
+            misses++;
+            int mc = modCount;
+            V v = mappingFunction.apply(key);
+            if(mc != modCount) throw new ConcurrentModificationException();
+            if(v != null) insert(key, v);
+            return v;
+        }
+
+        /**
+         * Removes the mapping for {@code key}, without calling the eviction listener.
+         * @param key the key
+         * @return the value that was mapped to the key, or {@code null}
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public V removeLong(long key) {
+            int slot = find(key);
+            if(slot < 0) return null;
+            modCount++;
+            V old = (V) values[slot];
+            unlink(slot);
+            release(slot);
+            return old;
+        }
+
+        @Override
+        public V put(java.lang.Long key, V value) { return putLong(key, value); }
+
+        @Override
+        public V remove(Object key) { return (key instanceof java.lang.Long k) ? removeLong(k) : null; }
+
+        @Override
+        public V computeIfAbsent(java.lang.Long key, Function<? super java.lang.Long, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            return computeIfAbsentLong(key, (PrimitiveFunction.OfLong<? extends V>) mappingFunction::apply);
+        }
+
+        /**
+         * Removes all of the mappings, without calling the eviction listener. The access
+         * frequencies recorded so far are forgotten too.
+         */
+        @Override
+        public void clear() {
+            modCount++;
+            Arrays.fill(table, 0);
+            Arrays.fill(values, null);
+            Arrays.fill(region, FREE);
+            Arrays.fill(sketch, 0);
+            samples = 0;
+            size = 0;
+            resetLinks();
+        }
+
+        ///////////// Views
+
+        @Override
+        public Set<Map.Entry<java.lang.Long, V>> entrySet() {
+            var es = entrySetView;
+            return es == null ? (entrySetView = new EntrySet()) : es;
+        }
+
+        private final class EntrySet extends AbstractSet<Map.Entry<java.lang.Long, V>> {
+            @Override
+            public int size() { return size; }
+
+            @Override
+            public void clear() { PrimitiveCache.OfLong.this.clear(); }
+
+            @Override
+            public boolean contains(Object o) {
+                if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Long k)) return false;
+                V v = peekLong(k);
+                return v != null && v.equals(e.getValue());
+            }
+
+            @Override
+            public Iterator<Map.Entry<java.lang.Long, V>> iterator() {
+                return new Iterator<>() {
+                    private int cursor = advance(0), last = -1, expectedModCount = modCount;
+
+                    private int advance(int i) {
+                        while(i < region.length && region[i] == FREE) i++;
+                        return i;
+                    }
+
+                    public boolean hasNext() { return cursor < region.length; }
+
+                    @SuppressWarnings("unchecked")
+                    public Map.Entry<java.lang.Long, V> next() {
+                        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                        if(cursor >= region.length) throw new NoSuchElementException();
+                        last = cursor;
+                        cursor = advance(cursor + 1);
+                        return new AbstractMap.SimpleImmutableEntry<>(keys[last], (V) values[last]);
+                    }
+
+                    public void remove() {
+                        if(last < 0) throw new IllegalStateException();
+                        if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                        removeLong(keys[last]);
+                        last = -1;
+                        expectedModCount = modCount;
+                    }
+                };
+            }
+        }
+    }
+}
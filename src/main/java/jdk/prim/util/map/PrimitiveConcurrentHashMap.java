@@ -0,0 +1,1863 @@
+package jdk.prim.util.map;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+import jdk.prim.util.PrimitiveAbstractSet;
+import jdk.prim.util.PrimitiveIterator;
+import jdk.prim.util.PrimitiveSet;
+import jdk.prim.util.function.PrimitiveBiConsumer;
+import jdk.prim.util.function.PrimitiveFunction;
+
+/**
+ * A pseudo-package for holding the primitive declaration with functionalities and syntax of
+ * {@link java.util.concurrent.ConcurrentHashMap ConcurrentHashMap} for {@code long} keys.
+ * <p>
+ * The maps here are split into a power-of-two number of segments, chosen by the high bits of
+ * the mixed key hash. Each segment is an open-addressing table of flat parallel arrays with
+ * linear probing, guarded by its own lock for writes. Reads take no lock: a key, once written
+ * to a slot, never moves within that table, and a removal leaves the key behind as a
+ * tombstone that a later insertion of the same key reuses. Tombstones are dropped when the
+ * segment's table is rebuilt.
+ * <p>
+ * A segment that runs out of room is rebuilt into a new table, which readers keep ignoring
+ * until it is complete. The old table is copied in chunks of slots claimed from a shared
+ * counter, and writers that arrive at the segment during the copy claim chunks too instead
+ * of only waiting for its lock.
+ */
+public final class PrimitiveConcurrentHashMap {
+    static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+    static final VarHandle OBJECTS = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    /** The largest number of segments. */
+    private static final int MAX_SEGMENTS = 1 << 16;
+    /** The number of old-table slots claimed at a time when copying a segment. */
+    private static final int TRANSFER_CHUNK = 1024;
+
+    private PrimitiveConcurrentHashMap() {}
+
+    /**
+     * Returns the number of segments for the given concurrency level, the least power of
+     * two not below it.
+     * @param concurrencyLevel the estimated number of concurrently updating threads
+     * @return the number of segments
+     * @throws IllegalArgumentException if {@code concurrencyLevel} is not positive
+     */
+    static int segmentCount(int concurrencyLevel) {
+        if(concurrencyLevel <= 0) throw new IllegalArgumentException("Illegal concurrency level: " + concurrencyLevel);
+        return concurrencyLevel >= MAX_SEGMENTS ? MAX_SEGMENTS : Math.max(1, Integer.highestOneBit(concurrencyLevel - 1) << 1);
+    }
+
+    /** Returns the default concurrency level, four segments per available processor. */
+    static int defaultConcurrency() { return 4 * Runtime.getRuntime().availableProcessors(); }
+
+    /**
+     * Runs {@code action} on every segment index below {@code segments}, in the common
+     * {@link ForkJoinPool} when {@code count} reaches {@code parallelismThreshold}, and in
+     * the calling thread otherwise.
+     */
+    static void forEachSegment(int segments, long count, long parallelismThreshold, IntConsumer action) {
+        if(segments > 1 && count >= parallelismThreshold && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            ForkJoinPool.commonPool().invoke(new SegmentTask(0, segments, action));
+        } else {
+            for(int i = 0; i < segments; i++) action.accept(i);
+        }
+    }
+
+    /** Splits a range of segment indices in halves down to single segments. */
+    @SuppressWarnings("serial")
+    private static final class SegmentTask extends RecursiveAction {
+        private final int lo, hi;
+        private final IntConsumer action;
+
+        SegmentTask(int lo, int hi, IntConsumer action) {
+            this.lo = lo;
+            this.hi = hi;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if(hi - lo == 1) {
+                action.accept(lo);
+            } else {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new SegmentTask(lo, mid, action), new SegmentTask(mid, hi, action));
+            }
+        }
+    }
+
+    /**
+     * Inserts {@code k} into the first free slot of its probe sequence in {@code keys},
+     * which other threads may be filling at the same time, and returns the slot.
+     */
+    static int casInsert(long[] keys, int mask, long k) {
+        int i = PrimitiveHashMap.mix(k) & mask;
+        while(!LONGS.compareAndSet(keys, i, 0L, k)) i = (i + 1) & mask;
+        return i;
+    }
+
+    /**
+     * A concurrent hash map from {@code long} keys to object values, with lock-free reads
+     * and segment-locked writes over flat arrays. No {@code Long} or node object is
+     * allocated per mapping.
+     * <p>
+     * Like {@link java.util.concurrent.ConcurrentHashMap}, this map does not permit
+     * {@code null} values, its views' iterators are <i>weakly consistent</i> and never throw
+     * {@link java.util.ConcurrentModificationException}, and {@code size} is only a snapshot
+     * while the map is being updated. {@link #computeIfAbsentLong}, {@link #mergeLong} and the
+     * other compound operations are atomic: their functions run under the lock of the key's
+     * segment, so they should be short and must not update this map.
+     * {@link #forEachLong(long, PrimitiveBiConsumer.OfLong)} and the {@code reduce*} methods
+     * process segments in parallel once the map holds at least the given number of mappings.
+     *
+     * @param <V> the type of mapped values
+     */
+    public static class OfLong<V> extends AbstractMap<java.lang.Long, V> implements PrimitiveMap.OfLong<V>, ConcurrentMap<java.lang.Long, V> {
+        /** The segments, indexed by the high bits of the mixed key hash. */
+        private final Segment[] segments;
+        private final int segmentShift, segmentMask;
+        /** The table length each segment starts from. */
+        private final int initialLength;
+        private final float loadFactor;
+
+        private transient PrimitiveSet.OfLong keySetView;
+        private transient Collection<V> valuesView;
+        private transient Set<Map.Entry<java.lang.Long, V>> entrySetView;
+
+        /**
+         * A segment's table. Slot {@code n} holds the value of the key {@code 0}, and a key
+         * slot holding {@code 0} is free. A slot whose key is set and whose value is
+         * {@code null} is a tombstone.
+         */
+        private static final class Table {
+            final long[] keys;
+            final Object[] vals;
+            final int n, mask, maxFill;
+
+            Table(int n, float f) {
+                this.n = n;
+                mask = n - 1;
+                maxFill = PrimitiveHashMap.maxFill(n, f);
+                keys = new long[n + 1];
+                vals = new Object[n + 1];
+            }
+
+            /** Returns the value of {@code k} without locking, or {@code null}. */
+            Object get(long k, int h) {
+                if(k == 0) return OBJECTS.getAcquire(vals, n);
+                final long[] key = keys;
+                for(int i = h & mask;; i = (i + 1) & mask) {
+                    long c = (long) LONGS.getAcquire(key, i);
+                    if(c == 0) return null;
+                    if(c == k) return OBJECTS.getAcquire(vals, i);
+                }
+            }
+
+            /**
+             * Returns the slot of {@code k}, live or not, or {@code -(insertion point) - 1}.
+             * Called with the segment locked.
+             */
+            int find(long k, int h) {
+                if(k == 0) return n;
+                final long[] key = keys;
+                for(int i = h & mask;; i = (i + 1) & mask) {
+                    long c = key[i];
+                    if(c == 0) return -i - 1;
+                    if(c == k) return i;
+                }
+            }
+        }
+
+        /** A copy of a segment's table into a larger or tombstone-free one. */
+        private static final class Transfer {
+            final Table from, to;
+            final AtomicInteger claimed = new AtomicInteger(), finished = new AtomicInteger();
+
+            Transfer(Table from, Table to) {
+                this.from = from;
+                this.to = to;
+            }
+
+            /** Copies chunks of {@link #from} until none is left unclaimed. */
+            void help() {
+                final int n = from.n;
+                int start;
+                while((start = claimed.getAndAdd(TRANSFER_CHUNK)) < n) {
+                    int end = Math.min(n, start + TRANSFER_CHUNK);
+                    for(int i = start; i < end; i++) {
+                        Object v = from.vals[i];
+                        if(v != null) to.vals[casInsert(to.keys, to.mask, from.keys[i])] = v;
+                    }
+                    finished.addAndGet(end - start);
+                }
+            }
+        }
+
+        /** A segment: its table, guarded for writes by the lock it extends. */
+        @SuppressWarnings("serial")
+        private static final class Segment extends ReentrantLock {
+            volatile Table table;
+            /** The copy in progress, if the segment is being rebuilt. */
+            volatile Transfer transfer;
+            /** The number of live mappings. */
+            volatile int count;
+            /** The number of key slots in use, tombstones included, but not the slot of the key {@code 0}. */
+            int used;
+            /** The number of structural changes, to detect updates from within a function. */
+            int mods;
+
+            Segment(Table table) { this.table = table; }
+
+            /** Locks this segment, helping with a rebuild in progress while it is held. */
+            void acquire() {
+                if(tryLock()) return;
+                Transfer t = transfer;
+                if(t != null) t.help();
+                lock();
+            }
+        }
+
+        /**
+         * Constructs an empty map able to hold {@code expected} mappings without rebuilding,
+         * using the given load factor and at least {@code concurrencyLevel} segments.
+         * @param expected the expected number of mappings
+         * @param loadFactor the load factor of each segment, in the range (0, 1)
+         * @param concurrencyLevel the estimated number of concurrently updating threads
+         * @throws IllegalArgumentException if {@code expected} is negative, {@code loadFactor}
+         *         is not in (0, 1) or {@code concurrencyLevel} is not positive
+         */
+        public OfLong(int expected, float loadFactor, int concurrencyLevel) {
+            if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+            if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+            int s = segmentCount(concurrencyLevel);
+            this.loadFactor = loadFactor;
+            segmentMask = s - 1;
+            segmentShift = 32 - Integer.numberOfTrailingZeros(s);
+            initialLength = PrimitiveHashMap.tableSize((expected + s - 1) / s, loadFactor);
+            segments = new Segment[s];
+            for(int i = 0; i < s; i++) segments[i] = new Segment(new Table(initialLength, loadFactor));
+        }
+
+        /**
+         * Constructs an empty map able to hold {@code expected} mappings without rebuilding.
+         * @param expected the expected number of mappings
+         * @throws IllegalArgumentException if {@code expected} is negative
+         */
+        public OfLong(int expected) { this(expected, PrimitiveHashMap.DEFAULT_LOAD_FACTOR, defaultConcurrency()); }
+
+        /**
+         * Constructs an empty map.
+         */
+        public OfLong() { this(PrimitiveHashMap.DEFAULT_EXPECTED); }
+
+        private Segment segmentFor(int h) { return segments[(h >>> segmentShift) & segmentMask]; }
+
+        /**
+         * Rebuilds the table of a locked segment, doubling it unless most of its used slots
+         * are tombstones, and returns the new table.
+         */
+        private Table rebuild(Segment s) {
+            final Table old = s.table;
+            int live = s.count - (old.vals[old.n] != null ? 1 : 0);
+            int n = old.n;
+            if(live + 1 > old.maxFill / 2) {
+                if(n >= 1 << 30) throw new IllegalStateException("Segment too large");
+                n <<= 1;
+            }
+            Table t = new Table(n, loadFactor);
+            t.vals[n] = old.vals[old.n];
+            Transfer tr = new Transfer(old, t);
+            s.transfer = tr;
+            tr.help();
+            while(tr.finished.get() < old.n) Thread.onSpinWait();
+            s.table = t;
+            s.transfer = null;
+            s.used = live;
+            return t;
+        }
+
+        /** Adds a mapping for a key absent from the locked segment, given its (negative) find result. */
+        private void insert(Segment s, Table t, int pos, long k, int h, Object v) {
+            if(pos >= 0) {
+                OBJECTS.setRelease(t.vals, pos, v);
+            } else {
+                if(s.used >= t.maxFill) pos = (t = rebuild(s)).find(k, h);
+                pos = -pos - 1;
+                LONGS.setRelease(t.keys, pos, k);
+                OBJECTS.setRelease(t.vals, pos, v);
+                s.used++;
+            }
+            s.count++;
+            s.mods++;
+        }
+
+        /** Removes the live mapping in slot {@code pos} of the locked segment. */
+        private static void delete(Segment s, Table t, int pos) {
+            OBJECTS.setRelease(t.vals, pos, null);
+            s.count--;
+            s.mods++;
+        }
+
+        ///////////// Query operations
+
+        /**
+         * Returns the number of mappings. Prefer this to {@link #size()}, as the count may
+         * exceed {@link Integer#MAX_VALUE}.
+         * @return the number of mappings
+         */
+        public long mappingCount() {
+            long n = 0;
+            for(Segment s : segments) n += s.count;
+            return n;
+        }
+
+        @Override
+        public int size() { return (int) Math.min(mappingCount(), Integer.MAX_VALUE); }
+
+        @Override
+        public boolean isEmpty() {
+            for(Segment s : segments) if(s.count != 0) return false;
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getLong(long key) {
+            int h = PrimitiveHashMap.mix(key);
+            return (V) segmentFor(h).table.get(key, h);
+        }
+
+        @Override
+        public V get(Object key) { return (key instanceof java.lang.Long k) ? getLong(k) : null; }
+
+        @Override
+        public V getOrDefault(Object key, V defaultValue) {
+            V v = get(key);
+            return v == null ? defaultValue : v;
+        }
+
+        @Override
+        public boolean containsKeyLong(long key) { return getLong(key) != null; }
+
+        @Override
+        public boolean containsKey(Object key) { return (key instanceof java.lang.Long k) && containsKeyLong(k); }
+
+        @Override
+        public boolean containsValue(Object value) {
+            Objects.requireNonNull(value);
+            for(Segment s : segments) {
+                final Object[] vals = s.table.vals;
+                for(int i = 0; i < vals.length; i++) if(value.equals(OBJECTS.getAcquire(vals, i))) return true;
+            }
+            return false;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V putLong(long key, V value) {
+            Objects.requireNonNull(value);
+            int h = PrimitiveHashMap.mix(key);
+            Segment s = segmentFor(h);
+            s.acquire();
+            try {
+                Table t = s.table;
+                int pos = t.find(key, h);
+                Object old;
+                if(pos >= 0 && (old = t.vals[pos]) != null) {
+                    OBJECTS.setRelease(t.vals, pos, value);
+                    return (V) old;
+                }
+                insert(s, t, pos, key, h, value);
+                return null;
+            } finally {
+                s.unlock();
+            }
+        }
+
+        /**
+         * Maps {@code key} to {@code value} unless it is already mapped.
+         * @param key the key
+         * @param value the value
+         * @return the value already mapped to {@code key}, or {@code null} if there was none
+         * @throws NullPointerException if {@code value} is {@code null}
+         * @see ConcurrentMap#putIfAbsent(Object, Object)
+         */
+        @SuppressWarnings("unchecked")
+        public V putIfAbsentLong(long key, V value) {
+            Objects.requireNonNull(value);
+            int h = PrimitiveHashMap.mix(key);
+            Segment s = segmentFor(h);
+            s.acquire();
+            try {
+                Table t = s.table;
+                int pos = t.find(key, h);
+                Object old;
+                if(pos >= 0 && (old = t.vals[pos]) != null) return (V) old;
+                insert(s, t, pos, key, h, value);
+                return null;
+            } finally {
+                s.unlock();
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V removeLong(long key) {
+            int h = PrimitiveHashMap.mix(key);
+            Segment s = segmentFor(h);
+            if(s.table.get(key, h) == null) return null;
+            s.acquire();
+            try {
+                Table t = s.table;
+                int pos = t.find(key, h);
+                Object old;
+                if(pos < 0 || (old = t.vals[pos]) == null) return null;
+                delete(s, t, pos);
+                return (V) old;
+            } finally {
+                s.unlock();
+            }
+        }
+
+        /**
+         * Removes the mapping of {@code key} only if it is mapped to {@code value}.
+         * @param key the key
+         * @param value the value expected to be mapped to {@code key}
+         * @return {@code true} if the mapping was removed
+         * @see ConcurrentMap#remove(Object, Object)
+         */
+        public boolean removeLong(long key, Object value) {
+            if(value == null) return false;
+            int h = PrimitiveHashMap.mix(key);
+            Segment s = segmentFor(h);
+            s.acquire();
+            try {
+                Table t = s.table;
+                int pos = t.find(key, h);
+                if(pos < 0 || !value.equals(t.vals[pos])) return false;
+                delete(s, t, pos);
+                return true;
+            } finally {
+                s.unlock();
+            }
+        }
+
+        /**
+         * Replaces the value of {@code key} only if it is mapped.
+         * @param key the key
+         * @param value the new value
+         * @return the previous value of {@code key}, or {@code null} if there was none
+         * @throws NullPointerException if {@code value} is {@code null}
+         * @see ConcurrentMap#replace(Object, Object)
+         */
+        @SuppressWarnings("unchecked")
+        public V replaceLong(long key, V value) {
+            Objects.requireNonNull(value);
+            int h = PrimitiveHashMap.mix(key);
+            Segment s = segmentFor(h);
+            s.acquire();
+            try {
+                Table t = s.table;
+                int pos = t.find(key, h);
+                Object old;
+                if(pos < 0 || (old = t.vals[pos]) == null) return null;
+                OBJECTS.setRelease(t.vals, pos, value);
+                return (V) old;
+            } finally {
+                s.unlock();
+            }
+        }
+
+        /**
+         * Replaces the value of {@code key} only if it is mapped to {@code oldValue}.
+         * @param key the key
+         * @param oldValue the value expected to be mapped to {@code key}
+         * @param newValue the new value
+         * @return {@code true} if the value was replaced
+         * @throws NullPointerException if {@code oldValue} or {@code newValue} is {@code null}
+         * @see ConcurrentMap#replace(Object, Object, Object)
+         */
+        public boolean replaceLong(long key, V oldValue, V newValue) {
+            Objects.requireNonNull(oldValue);
+            Objects.requireNonNull(newValue);
+            int h = PrimitiveHashMap.mix(key);
+            Segment s = segmentFor(h);
+            s.acquire();
+            try {
+                Table t = s.table;
+                int pos = t.find(key, h);
+                if(pos < 0 || !oldValue.equals(t.vals[pos])) return false;
+                OBJECTS.setRelease(t.vals, pos, newValue);
+                return true;
+            } finally {
+                s.unlock();
+            }
+        }
+
+        /**
+         * Returns the value of {@code key}, first computing it and mapping it if there is
+         * none. The lookup takes no lock when the key is mapped; otherwise the function is
+         * applied at most once, under the lock of the key's segment.
+         * @param key the key
+         * @param mappingFunction the function computing a missing value
+         * @return the current or computed value, or {@code null} if the computed value is {@code null}
+         * @throws IllegalStateException if {@code mappingFunction} updated this map
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public V computeIfAbsentLong(long key, PrimitiveFunction.OfLong<? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            int h = PrimitiveHashMap.mix(key);
+            Segment s = segmentFor(h);
+            Object v = s.table.get(key, h);
+            if(v != null) return (V) v;
+            s.acquire();
+            try {
+                Table t = s.table;
+                int pos = t.find(key, h);
+                if(pos >= 0 && (v = t.vals[pos]) != null) return (V) v;
+                int mods = s.mods;
+                V nv = mappingFunction.apply(key);
+                if(s.mods != mods) throw new IllegalStateException("Recursive update");
+                if(nv != null) insert(s, t, pos, key, h, nv);
+                return nv;
+            } finally {
+                s.unlock();
+            }
+        }
+
+        /**
+         * Recomputes the value of {@code key} from its current value if it is mapped,
+         * removing the mapping if the function returns {@code null}. The function runs under
+         * the lock of the key's segment.
+         * @param key the key
+         * @param remappingFunction the function computing the new value
+         * @return the new value, or {@code null} if there is none
+         * @throws IllegalStateException if {@code remappingFunction} updated this map
+         * @see Map#computeIfPresent(Object, BiFunction)
+         */
+        @SuppressWarnings("unchecked")
+        public V computeIfPresentLong(long key, BiFunction<? super java.lang.Long, ? super V, ? extends V> remappingFunction) {
+            Objects.requireNonNull(remappingFunction);
+            int h = PrimitiveHashMap.mix(key);
+            Segment s = segmentFor(h);
+            if(s.table.get(key, h) == null) return null;
+            s.acquire();
+            try {
+                Table t = s.table;
+                int pos = t.find(key, h);
+                Object old;
+                if(pos < 0 || (old = t.vals[pos]) == null) return null;
+                int mods = s.mods;
+                V nv = remappingFunction.apply(key, (V) old);
+                if(s.mods != mods) throw new IllegalStateException("Recursive update");
+                if(nv == null) delete(s, t, pos);
+                else OBJECTS.setRelease(t.vals, pos, nv);
+                return nv;
+            } finally {
+                s.unlock();
+            }
+        }
+
+        /**
+         * Computes the value of {@code key} from its current value, or {@code null} if it is
+         * not mapped, removing the mapping if the function returns {@code null}. The function
+         * runs under the lock of the key's segment.
+         * @param key the key
+         * @param remappingFunction the function computing the new value
+         * @return the new value, or {@code null} if there is none
+         * @throws IllegalStateException if {@code remappingFunction} updated this map
+         * @see Map#compute(Object, BiFunction)
+         */
+        @SuppressWarnings("unchecked")
+        public V computeLong(long key, BiFunction<? super java.lang.Long, ? super V, ? extends V> remappingFunction) {
+            Objects.requireNonNull(remappingFunction);
+            int h = PrimitiveHashMap.mix(key);
+            Segment s = segmentFor(h);
+            s.acquire();
+            try {
+                Table t = s.table;
+                int pos = t.find(key, h);
+                Object old = pos >= 0 ? t.vals[pos] : null;
+                int mods = s.mods;
+                V nv = remappingFunction.apply(key, (V) old);
+                if(s.mods != mods) throw new IllegalStateException("Recursive update");
+                if(old != null) {
+                    if(nv == null) delete(s, t, pos);
+                    else OBJECTS.setRelease(t.vals, pos, nv);
+                } else if(nv != null) {
+                    insert(s, t, pos, key, h, nv);
+                }
+                return nv;
+            } finally {
+                s.unlock();
+            }
+        }
+
+        /**
+         * Maps {@code key} to {@code value} if it is not mapped, and otherwise to the result of
+         * applying the function to its current value and {@code value}, removing the mapping
+         * if that is {@code null}. The function runs under the lock of the key's segment.
+         * @param key the key
+         * @param value the value to map, or to merge with the current one
+         * @param remappingFunction the function merging the current value with {@code value}
+         * @return the new value, or {@code null} if there is none
+         * @throws NullPointerException if {@code value} or {@code remappingFunction} is {@code null}
+         * @throws IllegalStateException if {@code remappingFunction} updated this map
+         * @see Map#merge(Object, Object, BiFunction)
+         */
+        @SuppressWarnings("unchecked")
+        public V mergeLong(long key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+            Objects.requireNonNull(value);
+            Objects.requireNonNull(remappingFunction);
+            int h = PrimitiveHashMap.mix(key);
+            Segment s = segmentFor(h);
+            s.acquire();
+            try {
+                Table t = s.table;
+                int pos = t.find(key, h);
+                Object old = pos >= 0 ? t.vals[pos] : null;
+                if(old == null) {
+                    insert(s, t, pos, key, h, value);
+                    return value;
+                }
+                int mods = s.mods;
+                V nv = remappingFunction.apply((V) old, value);
+                if(s.mods != mods) throw new IllegalStateException("Recursive update");
+                if(nv == null) delete(s, t, pos);
+                else OBJECTS.setRelease(t.vals, pos, nv);
+                return nv;
+            } finally {
+                s.unlock();
+            }
+        }
+
+        @Override
+        public V put(java.lang.Long key, V value) { return putLong(key, value); }
+
+        @Override
+        public V putIfAbsent(java.lang.Long key, V value) { return putIfAbsentLong(key, value); }
+
+        @Override
+        public V remove(Object key) { return (key instanceof java.lang.Long k) ? removeLong(k) : null; }
+
+        @Override
+        public boolean remove(Object key, Object value) { return (key instanceof java.lang.Long k) && removeLong(k, value); }
+
+        @Override
+        public V replace(java.lang.Long key, V value) { return replaceLong(key, value); }
+
+        @Override
+        public boolean replace(java.lang.Long key, V oldValue, V newValue) { return replaceLong(key, oldValue, newValue); }
+
+        @Override
+        public V computeIfAbsent(java.lang.Long key, Function<? super java.lang.Long, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            return computeIfAbsentLong(key, (PrimitiveFunction.OfLong<? extends V>) mappingFunction::apply);
+        }
+
+        @Override
+        public V computeIfPresent(java.lang.Long key, BiFunction<? super java.lang.Long, ? super V, ? extends V> remappingFunction) {
+            return computeIfPresentLong(key, remappingFunction);
+        }
+
+        @Override
+        public V compute(java.lang.Long key, BiFunction<? super java.lang.Long, ? super V, ? extends V> remappingFunction) {
+            return computeLong(key, remappingFunction);
+        }
+
+        @Override
+        public V merge(java.lang.Long key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+            return mergeLong(key, value, remappingFunction);
+        }
+
+        @Override
+        public void clear() {
+            for(Segment s : segments) {
+                s.acquire();
+                try {
+                    if(s.count == 0 && s.used == 0) continue;
+                    s.table = new Table(initialLength, loadFactor);
+                    s.count = 0;
+                    s.used = 0;
+                    s.mods++;
+                } finally {
+                    s.unlock();
+                }
+            }
+        }
+
+        ///////////// Bulk operations
+
+        /** Applies {@code action} to each live mapping of a segment's current table. */
+        @SuppressWarnings("unchecked")
+        private void forEachIn(Segment s, PrimitiveBiConsumer.OfLong<? super V> action) {
+            final Table t = s.table;
+            final long[] keys = t.keys;
+            final Object[] vals = t.vals;
+            Object v;
+            if((v = OBJECTS.getAcquire(vals, t.n)) != null) action.acceptLong(0L, (V) v);
+            for(int i = 0; i < t.n; i++) if((v = OBJECTS.getAcquire(vals, i)) != null) action.acceptLong((long) LONGS.getAcquire(keys, i), (V) v);
+        }
+
+        /**
+         * Performs the given action for each mapping, in the calling thread.
+         * @param action the action to be performed for each mapping
+         */
+        public void forEachLong(PrimitiveBiConsumer.OfLong<? super V> action) {
+            Objects.requireNonNull(action);
+            for(Segment s : segments) forEachIn(s, action);
+        }
+
+        /**
+         * Performs the given action for each mapping, processing segments in parallel in the
+         * common {@link ForkJoinPool} if this map holds at least {@code parallelismThreshold}
+         * mappings. The action may run concurrently in several threads.
+         * @param parallelismThreshold the number of mappings from which to run in parallel;
+         *        {@link java.lang.Long#MAX_VALUE} means never and {@code 1} means always
+         * @param action the action to be performed for each mapping
+         */
+        public void forEachLong(long parallelismThreshold, PrimitiveBiConsumer.OfLong<? super V> action) {
+            Objects.requireNonNull(action);
+            forEachSegment(segments.length, mappingCount(), parallelismThreshold, i -> forEachIn(segments[i], action));
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super java.lang.Long, ? super V> action) {
+            Objects.requireNonNull(action);
+            forEachLong(action::accept);
+        }
+
+        /**
+         * Returns the result of reducing the non-{@code null} transformations of all values
+         * with the given reducer, or {@code null} if there are none. Segments are reduced in
+         * parallel if this map holds at least {@code parallelismThreshold} mappings.
+         * @param <U> the type of the result
+         * @param parallelismThreshold the number of mappings from which to run in parallel
+         * @param transformer the function transforming each value, returning {@code null} to skip it
+         * @param reducer an associative function combining two results
+         * @return the reduction, or {@code null}
+         */
+        @SuppressWarnings("unchecked")
+        public <U> U reduceValues(long parallelismThreshold, Function<? super V, ? extends U> transformer, BiFunction<? super U, ? super U, ? extends U> reducer) {
+            Objects.requireNonNull(transformer);
+            Objects.requireNonNull(reducer);
+            final Object[] partial = new Object[segments.length];
+            forEachSegment(segments.length, mappingCount(), parallelismThreshold, i -> {
+                Object[] acc = new Object[1];
+                forEachIn(segments[i], (k, v) -> {
+                    U u = transformer.apply(v);
+                    if(u != null) acc[0] = acc[0] == null ? u : reducer.apply((U) acc[0], u);
+                });
+                partial[i] = acc[0];
+            });
+            U r = null;
+            for(Object p : partial) if(p != null) r = r == null ? (U) p : reducer.apply(r, (U) p);
+            return r;
+        }
+
+        /**
+         * Returns the result of reducing the transformations of all keys with the given
+         * reducer, starting from {@code basis}. Segments are reduced in parallel if this map
+         * holds at least {@code parallelismThreshold} mappings.
+         * @param parallelismThreshold the number of mappings from which to run in parallel
+         * @param transformer the function transforming each key
+         * @param basis the identity of the reduction
+         * @param reducer an associative function combining two results
+         * @return the reduction
+         */
+        public long reduceKeysToLong(long parallelismThreshold, LongUnaryOperator transformer, long basis, LongBinaryOperator reducer) {
+            Objects.requireNonNull(transformer);
+            Objects.requireNonNull(reducer);
+            final long[] partial = new long[segments.length];
+            forEachSegment(segments.length, mappingCount(), parallelismThreshold, i -> {
+                long[] acc = { basis };
+                forEachIn(segments[i], (k, v) -> acc[0] = reducer.applyAsLong(acc[0], transformer.applyAsLong(k)));
+                partial[i] = acc[0];
+            });
+            long r = basis;
+            for(long p : partial) r = reducer.applyAsLong(r, p);
+            return r;
+        }
+
+        /**
+         * Returns the result of reducing the transformations of all values with the given
+         * reducer, starting from {@code basis}. Segments are reduced in parallel if this map
+         * holds at least {@code parallelismThreshold} mappings.
+         * @param parallelismThreshold the number of mappings from which to run in parallel
+         * @param transformer the function transforming each value
+         * @param basis the identity of the reduction
+         * @param reducer an associative function combining two results
+         * @return the reduction
+         */
+        public long reduceValuesToLong(long parallelismThreshold, ToLongFunction<? super V> transformer, long basis, LongBinaryOperator reducer) {
+            Objects.requireNonNull(transformer);
+            Objects.requireNonNull(reducer);
+            final long[] partial = new long[segments.length];
+            forEachSegment(segments.length, mappingCount(), parallelismThreshold, i -> {
+                long[] acc = { basis };
+                forEachIn(segments[i], (k, v) -> acc[0] = reducer.applyAsLong(acc[0], transformer.applyAsLong(v)));
+                partial[i] = acc[0];
+            });
+            long r = basis;
+            for(long p : partial) r = reducer.applyAsLong(r, p);
+            return r;
+        }
+
+        ///////////// Views
+
+        /**
+         * Returns a {@link PrimitiveSet.OfLong} view of the keys contained in this map.
+         * The set is backed by the map and supports element removal; its iterator is
+         * weakly consistent.
+         * @return a set view of the keys contained in this map
+         */
+        @Override
+        public PrimitiveSet.OfLong keySet() {
+            PrimitiveSet.OfLong ks;
+            return (ks = keySetView) == null ? (keySetView = new KeySet()) : ks;
+        }
+
+        @Override
+        public Collection<V> values() {
+            Collection<V> vs;
+            return (vs = valuesView) == null ? (valuesView = new Values()) : vs;
+        }
+
+        @Override
+        public Set<Map.Entry<java.lang.Long, V>> entrySet() {
+            Set<Map.Entry<java.lang.Long, V>> es;
+            return (es = entrySetView) == null ? (entrySetView = new EntrySet()) : es;
+        }
+
+        private final class KeySet extends PrimitiveAbstractSet.OfLong {
+            public int size() { return PrimitiveConcurrentHashMap.OfLong.this.size(); }
+            public boolean isEmpty() { return PrimitiveConcurrentHashMap.OfLong.this.isEmpty(); }
+            public void clear() { PrimitiveConcurrentHashMap.OfLong.this.clear(); }
+            public PrimitiveIterator.OfLong iteratorLong() { return new KeyIterator(); }
+            public boolean containsLong(long k) { return containsKeyLong(k); }
+            public boolean removeLong(long k) { return PrimitiveConcurrentHashMap.OfLong.this.removeLong(k) != null; }
+        }
+
+        private final class Values extends AbstractCollection<V> {
+            public int size() { return PrimitiveConcurrentHashMap.OfLong.this.size(); }
+            public boolean isEmpty() { return PrimitiveConcurrentHashMap.OfLong.this.isEmpty(); }
+            public void clear() { PrimitiveConcurrentHashMap.OfLong.this.clear(); }
+            public Iterator<V> iterator() { return new ValueIterator(); }
+            public boolean contains(Object o) { return o != null && containsValue(o); }
+        }
+
+        private final class EntrySet extends AbstractSet<Map.Entry<java.lang.Long, V>> {
+            public int size() { return PrimitiveConcurrentHashMap.OfLong.this.size(); }
+            public boolean isEmpty() { return PrimitiveConcurrentHashMap.OfLong.this.isEmpty(); }
+            public void clear() { PrimitiveConcurrentHashMap.OfLong.this.clear(); }
+            public Iterator<Map.Entry<java.lang.Long, V>> iterator() { return new EntryIterator(); }
+            public boolean contains(Object o) {
+                if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Long k)) return false;
+                V v = getLong(k);
+                return v != null && v.equals(e.getValue());
+            }
+            public boolean remove(Object o) {
+                return o instanceof Map.Entry<?, ?> e && e.getKey() instanceof java.lang.Long k && removeLong(k, e.getValue());
+            }
+        }
+
+        /** A snapshot of a mapping whose {@code setValue} writes through to the map. */
+        private final class MapEntry implements Map.Entry<java.lang.Long, V> {
+            final long key;
+            V value;
+            MapEntry(long key, V value) {
+                this.key = key;
+                this.value = value;
+            }
+            public java.lang.Long getKey() { return key; }
+            public V getValue() { return value; }
+            public V setValue(V v) {
+                Objects.requireNonNull(v);
+                V old = value;
+                value = v;
+                putLong(key, v);
+                return old;
+            }
+            @Override
+            public boolean equals(Object o) {
+                return o instanceof Map.Entry<?, ?> e && e.getKey() instanceof java.lang.Long k && k == key && value.equals(e.getValue());
+            }
+            @Override
+            public int hashCode() { return java.lang.Long.hashCode(key) ^ value.hashCode(); }
+            @Override
+            public String toString() { return key + "=" + value; }
+        }
+
+        /**
+         * Walks the segments in order, each through the table it has when the walk reaches
+         * it. Mappings added or removed during the walk may or may not be seen.
+         */
+        private abstract class Traverser {
+            private int segment = -1;
+            private Table table;
+            private int slot;
+            private boolean ready;
+            long nextKey, lastKey;
+            Object nextValue;
+            private boolean canRemove;
+
+            Traverser() { advance(); }
+
+            private void advance() {
+                for(;;) {
+                    final Table t = table;
+                    if(t != null) {
+                        while(slot <= t.n) {
+                            int i = slot++;
+                            Object v = OBJECTS.getAcquire(t.vals, i);
+                            if(v != null) {
+                                nextKey = i == t.n ? 0 : (long) LONGS.getAcquire(t.keys, i);
+                                nextValue = v;
+                                ready = true;
+                                return;
+                            }
+                        }
+                    }
+                    if(++segment == segments.length) {
+                        table = null;
+                        ready = false;
+                        return;
+                    }
+                    table = segments[segment].table;
+                    slot = 0;
+                }
+            }
+
+            public boolean hasNext() { return ready; }
+
+            /** Moves to the next mapping, leaving it in {@link #lastKey} and returning its value. */
+            @SuppressWarnings("unchecked")
+            final V step() {
+                if(!ready) throw new NoSuchElementException();
+                lastKey = nextKey;
+                V v = (V) nextValue;
+                canRemove = true;
+                advance();
+                return v;
+            }
+
+            public void remove() {
+                if(!canRemove) throw new IllegalStateException();
+                canRemove = false;
+                PrimitiveConcurrentHashMap.OfLong.this.removeLong(lastKey);
+            }
+        }
+
+        private final class KeyIterator extends Traverser implements PrimitiveIterator.OfLong {
+            public long nextLong() {
+                step();
+                return lastKey;
+            }
+        }
+
+        private final class ValueIterator extends Traverser implements Iterator<V> {
+            public V next() { return step(); }
+        }
+
+        private final class EntryIterator extends Traverser implements Iterator<Map.Entry<java.lang.Long, V>> {
+            public Map.Entry<java.lang.Long, V> next() {
+                V v = step();
+                return new MapEntry(lastKey, v);
+            }
+        }
+
+        /**
+         * A concurrent hash map from {@code long} keys to {@code long} values, with lock-free
+         * reads and segment-locked writes over flat arrays. No {@code Long} or node object is
+         * allocated per mapping.
+         * <p>
+         * Each slot has an {@code int} stamp next to its key and value that is odd while the
+         * slot holds a live mapping; insertions and removals flip it, and a lock-free read
+         * retries if the stamp changed while it read the value. Compound operations such as
+         * {@link #addToLong(long, long)} and {@link #mergeLong(long, long, LongBinaryOperator)}
+         * are atomic. Iterators are <i>weakly consistent</i>, and {@link #entryCursor()} reuses
+         * one entry object.
+         */
+        public static class AndLong extends AbstractMap<java.lang.Long, java.lang.Long> implements PrimitiveMap.OfLong.AndLong, ConcurrentMap<java.lang.Long, java.lang.Long> {
+            private final Segment[] segments;
+            private final int segmentShift, segmentMask;
+            private final int initialLength;
+            private final float loadFactor;
+
+            private transient PrimitiveSet.OfLong keySetView;
+            private transient Collection<java.lang.Long> valuesView;
+            private transient Set<Map.Entry<java.lang.Long, java.lang.Long>> entrySetView;
+
+            /**
+             * A segment's table. Slot {@code n} holds the value of the key {@code 0}, and a
+             * key slot holding {@code 0} is free. A slot with an even stamp is a tombstone.
+             */
+            private static final class Table {
+                final long[] keys, vals;
+                final int[] stamps;
+                final int n, mask, maxFill;
+
+                Table(int n, float f) {
+                    this.n = n;
+                    mask = n - 1;
+                    maxFill = PrimitiveHashMap.maxFill(n, f);
+                    keys = new long[n + 1];
+                    vals = new long[n + 1];
+                    stamps = new int[n + 1];
+                }
+
+                /** Returns the slot of {@code k}, live or not, without locking, or {@code -1}. */
+                int locate(long k, int h) {
+                    if(k == 0) return n;
+                    final long[] key = keys;
+                    for(int i = h & mask;; i = (i + 1) & mask) {
+                        long c = (long) LONGS.getAcquire(key, i);
+                        if(c == 0) return -1;
+                        if(c == k) return i;
+                    }
+                }
+
+                /** Returns the slot of {@code k}, live or not, or {@code -(insertion point) - 1}. */
+                int find(long k, int h) {
+                    if(k == 0) return n;
+                    final long[] key = keys;
+                    for(int i = h & mask;; i = (i + 1) & mask) {
+                        long c = key[i];
+                        if(c == 0) return -i - 1;
+                        if(c == k) return i;
+                    }
+                }
+
+                boolean live(int pos) { return (stamps[pos] & 1) != 0; }
+            }
+
+            private static final class Transfer {
+                final Table from, to;
+                final AtomicInteger claimed = new AtomicInteger(), finished = new AtomicInteger();
+
+                Transfer(Table from, Table to) {
+                    this.from = from;
+                    this.to = to;
+                }
+
+                void help() {
+                    final int n = from.n;
+                    int start;
+                    while((start = claimed.getAndAdd(TRANSFER_CHUNK)) < n) {
+                        int end = Math.min(n, start + TRANSFER_CHUNK);
+                        for(int i = start; i < end; i++) {
+                            if(!from.live(i)) continue;
+                            int j = casInsert(to.keys, to.mask, from.keys[i]);
+                            to.vals[j] = from.vals[i];
+                            to.stamps[j] = 1;
+                        }
+                        finished.addAndGet(end - start);
+                    }
+                }
+            }
+
+            @SuppressWarnings("serial")
+            private static final class Segment extends ReentrantLock {
+                volatile Table table;
+                volatile Transfer transfer;
+                volatile int count;
+                int used;
+                int mods;
+
+                Segment(Table table) { this.table = table; }
+
+                void acquire() {
+                    if(tryLock()) return;
+                    Transfer t = transfer;
+                    if(t != null) t.help();
+                    lock();
+                }
+            }
+
+            /**
+             * Constructs an empty map able to hold {@code expected} mappings without
+             * rebuilding, using the given load factor and at least {@code concurrencyLevel}
+             * segments.
+             * @param expected the expected number of mappings
+             * @param loadFactor the load factor of each segment, in the range (0, 1)
+             * @param concurrencyLevel the estimated number of concurrently updating threads
+             * @throws IllegalArgumentException if {@code expected} is negative, {@code loadFactor}
+             *         is not in (0, 1) or {@code concurrencyLevel} is not positive
+             */
+            public AndLong(int expected, float loadFactor, int concurrencyLevel) {
+                if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+                if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+                int s = segmentCount(concurrencyLevel);
+                this.loadFactor = loadFactor;
+                segmentMask = s - 1;
+                segmentShift = 32 - Integer.numberOfTrailingZeros(s);
+                initialLength = PrimitiveHashMap.tableSize((expected + s - 1) / s, loadFactor);
+                segments = new Segment[s];
+                for(int i = 0; i < s; i++) segments[i] = new Segment(new Table(initialLength, loadFactor));
+            }
+
+            /**
+             * Constructs an empty map able to hold {@code expected} mappings without rebuilding.
+             * @param expected the expected number of mappings
+             * @throws IllegalArgumentException if {@code expected} is negative
+             */
+            public AndLong(int expected) { this(expected, PrimitiveHashMap.DEFAULT_LOAD_FACTOR, defaultConcurrency()); }
+
+            /**
+             * Constructs an empty map.
+             */
+            public AndLong() { this(PrimitiveHashMap.DEFAULT_EXPECTED); }
+
+            private Segment segmentFor(int h) { return segments[(h >>> segmentShift) & segmentMask]; }
+
+            private Table rebuild(Segment s) {
+                final Table old = s.table;
+                int live = s.count - (old.live(old.n) ? 1 : 0);
+                int n = old.n;
+                if(live + 1 > old.maxFill / 2) {
+                    if(n >= 1 << 30) throw new IllegalStateException("Segment too large");
+                    n <<= 1;
+                }
+                Table t = new Table(n, loadFactor);
+                t.vals[n] = old.vals[old.n];
+                t.stamps[n] = old.stamps[old.n];
+                Transfer tr = new Transfer(old, t);
+                s.transfer = tr;
+                tr.help();
+                while(tr.finished.get() < old.n) Thread.onSpinWait();
+                s.table = t;
+                s.transfer = null;
+                s.used = live;
+                return t;
+            }
+
+            /** Adds a mapping for a key not live in the locked segment, given its find result. */
+            private void insert(Segment s, Table t, int pos, long k, int h, long v) {
+                if(pos >= 0) {
+                    t.vals[pos] = v;
+                    INTS.setRelease(t.stamps, pos, t.stamps[pos] + 1);
+                } else {
+                    if(s.used >= t.maxFill) pos = (t = rebuild(s)).find(k, h);
+                    pos = -pos - 1;
+                    LONGS.setRelease(t.keys, pos, k);
+                    t.vals[pos] = v;
+                    INTS.setRelease(t.stamps, pos, 1);
+                    s.used++;
+                }
+                s.count++;
+                s.mods++;
+            }
+
+            /** Removes the live mapping in slot {@code pos} of the locked segment. */
+            private static void delete(Segment s, Table t, int pos) {
+                INTS.setRelease(t.stamps, pos, t.stamps[pos] + 1);
+                s.count--;
+                s.mods++;
+            }
+
+            /** Reads slot {@code pos} without locking, returning whether it was live and leaving the value in {@code out[0]}. */
+            private static boolean read(Table t, int pos, long[] out) {
+                for(;;) {
+                    int s = (int) INTS.getAcquire(t.stamps, pos);
+                    if((s & 1) == 0) return false;
+                    long v = (long) LONGS.getAcquire(t.vals, pos);
+                    if((int) INTS.getAcquire(t.stamps, pos) == s) {
+                        out[0] = v;
+                        return true;
+                    }
+                }
+            }
+
+            ///////////// Query operations
+
+            /**
+             * Returns the number of mappings. Prefer this to {@link #size()}, as the count
+             * may exceed {@link Integer#MAX_VALUE}.
+             * @return the number of mappings
+             */
+            public long mappingCount() {
+                long n = 0;
+                for(Segment s : segments) n += s.count;
+                return n;
+            }
+
+            @Override
+            public int size() { return (int) Math.min(mappingCount(), Integer.MAX_VALUE); }
+
+            @Override
+            public boolean isEmpty() {
+                for(Segment s : segments) if(s.count != 0) return false;
+                return true;
+            }
+
+            @Override
+            public long getOrDefaultLong(long key, long defaultValue) {
+                int h = PrimitiveHashMap.mix(key);
+                final Table t = segmentFor(h).table;
+                int pos = t.locate(key, h);
+                if(pos < 0) return defaultValue;
+                for(;;) {
+                    int s = (int) INTS.getAcquire(t.stamps, pos);
+                    if((s & 1) == 0) return defaultValue;
+                    long v = (long) LONGS.getAcquire(t.vals, pos);
+                    if((int) INTS.getAcquire(t.stamps, pos) == s) return v;
+                }
+            }
+
+            @Override
+            public java.lang.Long getLong(long key) {
+                int h = PrimitiveHashMap.mix(key);
+                final Table t = segmentFor(h).table;
+                int pos = t.locate(key, h);
+                if(pos < 0) return null;
+                for(;;) {
+                    int s = (int) INTS.getAcquire(t.stamps, pos);
+                    if((s & 1) == 0) return null;
+                    long v = (long) LONGS.getAcquire(t.vals, pos);
+                    if((int) INTS.getAcquire(t.stamps, pos) == s) return v;
+                }
+            }
+
+            @Override
+            public java.lang.Long get(Object key) { return (key instanceof java.lang.Long k) ? getLong(k) : null; }
+
+            @Override
+            public java.lang.Long getOrDefault(Object key, java.lang.Long defaultValue) {
+                java.lang.Long v = get(key);
+                return v == null ? defaultValue : v;
+            }
+
+            @Override
+            public boolean containsKeyLong(long key) {
+                int h = PrimitiveHashMap.mix(key);
+                final Table t = segmentFor(h).table;
+                int pos = t.locate(key, h);
+                return pos >= 0 && ((int) INTS.getAcquire(t.stamps, pos) & 1) != 0;
+            }
+
+            @Override
+            public boolean containsKey(Object key) { return (key instanceof java.lang.Long k) && containsKeyLong(k); }
+
+            @Override
+            public boolean containsValueLong(long value) {
+                long[] v = new long[1];
+                for(Segment s : segments) {
+                    final Table t = s.table;
+                    for(int i = 0; i <= t.n; i++) if(read(t, i, v) && v[0] == value) return true;
+                }
+                return false;
+            }
+
+            @Override
+            public boolean containsValue(Object value) { return (value instanceof java.lang.Long v) && containsValueLong(v); }
+
+            ///////////// Modification operations
+
+            @Override
+            public long putLong(long key, long value) {
+                int h = PrimitiveHashMap.mix(key);
+                Segment s = segmentFor(h);
+                s.acquire();
+                try {
+                    Table t = s.table;
+                    int pos = t.find(key, h);
+                    if(pos >= 0 && t.live(pos)) {
+                        long old = t.vals[pos];
+                        LONGS.setRelease(t.vals, pos, value);
+                        return old;
+                    }
+                    insert(s, t, pos, key, h, value);
+                    return 0;
+                } finally {
+                    s.unlock();
+                }
+            }
+
+            @Override
+            public java.lang.Long putLong(long key, java.lang.Long value) {
+                int h = PrimitiveHashMap.mix(key);
+                long v = value;
+                Segment s = segmentFor(h);
+                s.acquire();
+                try {
+                    Table t = s.table;
+                    int pos = t.find(key, h);
+                    if(pos >= 0 && t.live(pos)) {
+                        long old = t.vals[pos];
+                        LONGS.setRelease(t.vals, pos, v);
+                        return old;
+                    }
+                    insert(s, t, pos, key, h, v);
+                    return null;
+                } finally {
+                    s.unlock();
+                }
+            }
+
+            /**
+             * Maps {@code key} to {@code value} unless it is already mapped.
+             * @param key the key
+             * @param value the value
+             * @return {@code true} if the mapping was added
+             * @see ConcurrentMap#putIfAbsent(Object, Object)
+             */
+            public boolean putIfAbsentLong(long key, long value) {
+                int h = PrimitiveHashMap.mix(key);
+                Segment s = segmentFor(h);
+                s.acquire();
+                try {
+                    Table t = s.table;
+                    int pos = t.find(key, h);
+                    if(pos >= 0 && t.live(pos)) return false;
+                    insert(s, t, pos, key, h, value);
+                    return true;
+                } finally {
+                    s.unlock();
+                }
+            }
+
+            /**
+             * Atomically adds {@code increment} to the value of {@code key}, treating a missing
+             * mapping as {@code 0L}.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value of {@code key} after the addition
+             */
+            @Override
+            public long addToLong(long key, long increment) {
+                int h = PrimitiveHashMap.mix(key);
+                Segment s = segmentFor(h);
+                s.acquire();
+                try {
+                    Table t = s.table;
+                    int pos = t.find(key, h);
+                    if(pos >= 0 && t.live(pos)) {
+                        long v = t.vals[pos] + increment;
+                        LONGS.setRelease(t.vals, pos, v);
+                        return v;
+                    }
+                    insert(s, t, pos, key, h, increment);
+                    return increment;
+                } finally {
+                    s.unlock();
+                }
+            }
+
+            /**
+             * Atomically maps {@code key} to {@code value} if it is not mapped, and otherwise to
+             * the result of applying the function to its current value and {@code value}. The
+             * function runs under the lock of the key's segment.
+             * @param key the key
+             * @param value the value to map, or to merge with the current one
+             * @param remappingFunction the function merging the current value with {@code value}
+             * @return the new value of {@code key}
+             * @see Map#merge(Object, Object, BiFunction)
+             */
+            public long mergeLong(long key, long value, LongBinaryOperator remappingFunction) {
+                Objects.requireNonNull(remappingFunction);
+                int h = PrimitiveHashMap.mix(key);
+                Segment s = segmentFor(h);
+                s.acquire();
+                try {
+                    Table t = s.table;
+                    int pos = t.find(key, h);
+                    if(pos >= 0 && t.live(pos)) {
+                        int mods = s.mods;
+                        long v = remappingFunction.applyAsLong(t.vals[pos], value);
+                        if(s.mods != mods) throw new IllegalStateException("Recursive update");
+                        LONGS.setRelease(t.vals, pos, v);
+                        return v;
+                    }
+                    insert(s, t, pos, key, h, value);
+                    return value;
+                } finally {
+                    s.unlock();
+                }
+            }
+
+            @Override
+            public long removeOrDefaultLong(long key, long defaultValue) {
+                int h = PrimitiveHashMap.mix(key);
+                Segment s = segmentFor(h);
+                s.acquire();
+                try {
+                    Table t = s.table;
+                    int pos = t.find(key, h);
+                    if(pos < 0 || !t.live(pos)) return defaultValue;
+                    long old = t.vals[pos];
+                    delete(s, t, pos);
+                    return old;
+                } finally {
+                    s.unlock();
+                }
+            }
+
+            @Override
+            public java.lang.Long removeLong(long key) {
+                int h = PrimitiveHashMap.mix(key);
+                Segment s = segmentFor(h);
+                s.acquire();
+                try {
+                    Table t = s.table;
+                    int pos = t.find(key, h);
+                    if(pos < 0 || !t.live(pos)) return null;
+                    long old = t.vals[pos];
+                    delete(s, t, pos);
+                    return old;
+                } finally {
+                    s.unlock();
+                }
+            }
+
+            /**
+             * Removes the mapping of {@code key} only if it is mapped to {@code value}.
+             * @param key the key
+             * @param value the value expected to be mapped to {@code key}
+             * @return {@code true} if the mapping was removed
+             * @see ConcurrentMap#remove(Object, Object)
+             */
+            public boolean removeLong(long key, long value) {
+                int h = PrimitiveHashMap.mix(key);
+                Segment s = segmentFor(h);
+                s.acquire();
+                try {
+                    Table t = s.table;
+                    int pos = t.find(key, h);
+                    if(pos < 0 || !t.live(pos) || t.vals[pos] != value) return false;
+                    delete(s, t, pos);
+                    return true;
+                } finally {
+                    s.unlock();
+                }
+            }
+
+            /**
+             * Replaces the value of {@code key} only if it is mapped to {@code oldValue}.
+             * @param key the key
+             * @param oldValue the value expected to be mapped to {@code key}
+             * @param newValue the new value
+             * @return {@code true} if the value was replaced
+             * @see ConcurrentMap#replace(Object, Object, Object)
+             */
+            public boolean replaceLong(long key, long oldValue, long newValue) {
+                int h = PrimitiveHashMap.mix(key);
+                Segment s = segmentFor(h);
+                s.acquire();
+                try {
+                    Table t = s.table;
+                    int pos = t.find(key, h);
+                    if(pos < 0 || !t.live(pos) || t.vals[pos] != oldValue) return false;
+                    LONGS.setRelease(t.vals, pos, newValue);
+                    return true;
+                } finally {
+                    s.unlock();
+                }
+            }
+
+            /**
+             * Returns the value of {@code key}, first computing it and mapping it if there is
+             * none. The function is applied at most once, under the lock of the key's segment.
+             * @param key the key
+             * @param mappingFunction the function computing a missing value
+             * @return the current or computed value, or {@code null} if the computed value is {@code null}
+             * @throws IllegalStateException if {@code mappingFunction} updated this map
+             */
+            @Override
+            public java.lang.Long computeIfAbsentLong(long key, PrimitiveFunction.OfLong<? extends java.lang.Long> mappingFunction) {
+                Objects.requireNonNull(mappingFunction);
+                java.lang.Long v = getLong(key);
+                if(v != null) return v;
+                int h = PrimitiveHashMap.mix(key);
+                Segment s = segmentFor(h);
+                s.acquire();
+                try {
+                    Table t = s.table;
+                    int pos = t.find(key, h);
+                    if(pos >= 0 && t.live(pos)) return t.vals[pos];
+                    int mods = s.mods;
+                    v = mappingFunction.apply(key);
+                    if(s.mods != mods) throw new IllegalStateException("Recursive update");
+                    if(v != null) insert(s, t, pos, key, h, v);
+                    return v;
+                } finally {
+                    s.unlock();
+                }
+            }
+
+            @Override
+            public java.lang.Long put(java.lang.Long key, java.lang.Long value) { return putLong((long) key, value); }
+
+            @Override
+            public java.lang.Long putIfAbsent(java.lang.Long key, java.lang.Long value) {
+                long k = key, v = value;
+                int h = PrimitiveHashMap.mix(k);
+                Segment s = segmentFor(h);
+                s.acquire();
+                try {
+                    Table t = s.table;
+                    int pos = t.find(k, h);
+                    if(pos >= 0 && t.live(pos)) return t.vals[pos];
+                    insert(s, t, pos, k, h, v);
+                    return null;
+                } finally {
+                    s.unlock();
+                }
+            }
+
+            @Override
+            public java.lang.Long remove(Object key) { return (key instanceof java.lang.Long k) ? removeLong(k) : null; }
+
+            @Override
+            public boolean remove(Object key, Object value) {
+                return key instanceof java.lang.Long k && value instanceof java.lang.Long v && removeLong(k, (long) v);
+            }
+
+            @Override
+            public java.lang.Long replace(java.lang.Long key, java.lang.Long value) {
+                long k = key, v = value;
+                int h = PrimitiveHashMap.mix(k);
+                Segment s = segmentFor(h);
+                s.acquire();
+                try {
+                    Table t = s.table;
+                    int pos = t.find(k, h);
+                    if(pos < 0 || !t.live(pos)) return null;
+                    long old = t.vals[pos];
+                    LONGS.setRelease(t.vals, pos, v);
+                    return old;
+                } finally {
+                    s.unlock();
+                }
+            }
+
+            @Override
+            public boolean replace(java.lang.Long key, java.lang.Long oldValue, java.lang.Long newValue) {
+                return replaceLong(key, oldValue, (long) newValue);
+            }
+
+            @Override
+            public java.lang.Long computeIfAbsent(java.lang.Long key, Function<? super java.lang.Long, ? extends java.lang.Long> mappingFunction) {
+                Objects.requireNonNull(mappingFunction);
+                return computeIfAbsentLong(key, (PrimitiveFunction.OfLong<? extends java.lang.Long>) mappingFunction::apply);
+            }
+
+            @Override
+            public java.lang.Long merge(java.lang.Long key, java.lang.Long value, BiFunction<? super java.lang.Long, ? super java.lang.Long, ? extends java.lang.Long> remappingFunction) {
+                Objects.requireNonNull(value);
+                Objects.requireNonNull(remappingFunction);
+                long k = key;
+                int h = PrimitiveHashMap.mix(k);
+                Segment s = segmentFor(h);
+                s.acquire();
+                try {
+                    Table t = s.table;
+                    int pos = t.find(k, h);
+                    if(pos < 0 || !t.live(pos)) {
+                        insert(s, t, pos, k, h, value);
+                        return value;
+                    }
+                    int mods = s.mods;
+                    java.lang.Long v = remappingFunction.apply(t.vals[pos], value);
+                    if(s.mods != mods) throw new IllegalStateException("Recursive update");
+                    if(v == null) delete(s, t, pos);
+                    else LONGS.setRelease(t.vals, pos, (long) v);
+                    return v;
+                } finally {
+                    s.unlock();
+                }
+            }
+
+            @Override
+            public void clear() {
+                for(Segment s : segments) {
+                    s.acquire();
+                    try {
+                        if(s.count == 0 && s.used == 0) continue;
+                        s.table = new Table(initialLength, loadFactor);
+                        s.count = 0;
+                        s.used = 0;
+                        s.mods++;
+                    } finally {
+                        s.unlock();
+                    }
+                }
+            }
+
+            ///////////// Bulk operations
+
+            private static void forEachIn(Segment s, PrimitiveBiConsumer.OfLong.AndLong action) {
+                final Table t = s.table;
+                long[] v = new long[1];
+                if(read(t, t.n, v)) action.acceptLong(0L, v[0]);
+                for(int i = 0; i < t.n; i++) if(read(t, i, v)) action.acceptLong((long) LONGS.getAcquire(t.keys, i), v[0]);
+            }
+
+            @Override
+            public void forEachLong(PrimitiveBiConsumer.OfLong.AndLong action) {
+                Objects.requireNonNull(action);
+                for(Segment s : segments) forEachIn(s, action);
+            }
+
+            /**
+             * Performs the given action for each mapping, processing segments in parallel in
+             * the common {@link ForkJoinPool} if this map holds at least
+             * {@code parallelismThreshold} mappings. The action may run concurrently in
+             * several threads.
+             * @param parallelismThreshold the number of mappings from which to run in parallel;
+             *        {@link java.lang.Long#MAX_VALUE} means never and {@code 1} means always
+             * @param action the action to be performed for each mapping
+             */
+            public void forEachLong(long parallelismThreshold, PrimitiveBiConsumer.OfLong.AndLong action) {
+                Objects.requireNonNull(action);
+                forEachSegment(segments.length, mappingCount(), parallelismThreshold, i -> forEachIn(segments[i], action));
+            }
+
+            @Override
+            public void forEach(BiConsumer<? super java.lang.Long, ? super java.lang.Long> action) {
+                Objects.requireNonNull(action);
+                forEachLong(action::accept);
+            }
+
+            /**
+             * Returns the result of reducing the transformations of all keys with the given
+             * reducer, starting from {@code basis}. Segments are reduced in parallel if this
+             * map holds at least {@code parallelismThreshold} mappings.
+             * @param parallelismThreshold the number of mappings from which to run in parallel
+             * @param transformer the function transforming each key
+             * @param basis the identity of the reduction
+             * @param reducer an associative function combining two results
+             * @return the reduction
+             */
+            public long reduceKeysToLong(long parallelismThreshold, LongUnaryOperator transformer, long basis, LongBinaryOperator reducer) {
+                Objects.requireNonNull(transformer);
+                Objects.requireNonNull(reducer);
+                final long[] partial = new long[segments.length];
+                forEachSegment(segments.length, mappingCount(), parallelismThreshold, i -> {
+                    long[] acc = { basis };
+                    forEachIn(segments[i], (k, v) -> acc[0] = reducer.applyAsLong(acc[0], transformer.applyAsLong(k)));
+                    partial[i] = acc[0];
+                });
+                long r = basis;
+                for(long p : partial) r = reducer.applyAsLong(r, p);
+                return r;
+            }
+
+            /**
+             * Returns the result of reducing the transformations of all values with the given
+             * reducer, starting from {@code basis}. Segments are reduced in parallel if this
+             * map holds at least {@code parallelismThreshold} mappings.
+             * @param parallelismThreshold the number of mappings from which to run in parallel
+             * @param transformer the function transforming each value
+             * @param basis the identity of the reduction
+             * @param reducer an associative function combining two results
+             * @return the reduction
+             */
+            public long reduceValuesToLong(long parallelismThreshold, LongUnaryOperator transformer, long basis, LongBinaryOperator reducer) {
+                Objects.requireNonNull(transformer);
+                Objects.requireNonNull(reducer);
+                final long[] partial = new long[segments.length];
+                forEachSegment(segments.length, mappingCount(), parallelismThreshold, i -> {
+                    long[] acc = { basis };
+                    forEachIn(segments[i], (k, v) -> acc[0] = reducer.applyAsLong(acc[0], transformer.applyAsLong(v)));
+                    partial[i] = acc[0];
+                });
+                long r = basis;
+                for(long p : partial) r = reducer.applyAsLong(r, p);
+                return r;
+            }
+
+            ///////////// Views
+
+            /**
+             * Returns a {@link PrimitiveSet.OfLong} view of the keys contained in this map.
+             * The set is backed by the map and supports element removal; its iterator is
+             * weakly consistent.
+             * @return a set view of the keys contained in this map
+             */
+            @Override
+            public PrimitiveSet.OfLong keySet() {
+                PrimitiveSet.OfLong ks;
+                return (ks = keySetView) == null ? (keySetView = new KeySet()) : ks;
+            }
+
+            @Override
+            public Collection<java.lang.Long> values() {
+                Collection<java.lang.Long> vs;
+                return (vs = valuesView) == null ? (valuesView = new Values()) : vs;
+            }
+
+            @Override
+            public Set<Map.Entry<java.lang.Long, java.lang.Long>> entrySet() {
+                Set<Map.Entry<java.lang.Long, java.lang.Long>> es;
+                return (es = entrySetView) == null ? (entrySetView = new EntrySet()) : es;
+            }
+
+            @Override
+            public Iterator<PrimitiveEntry.OfLong.AndLong> entryCursor() { return new CursorIterator(); }
+
+            private final class KeySet extends PrimitiveAbstractSet.OfLong {
+                public int size() { return PrimitiveConcurrentHashMap.OfLong.AndLong.this.size(); }
+                public boolean isEmpty() { return PrimitiveConcurrentHashMap.OfLong.AndLong.this.isEmpty(); }
+                public void clear() { PrimitiveConcurrentHashMap.OfLong.AndLong.this.clear(); }
+                public PrimitiveIterator.OfLong iteratorLong() { return new KeyIterator(); }
+                public boolean containsLong(long k) { return containsKeyLong(k); }
+                public boolean removeLong(long k) { return PrimitiveConcurrentHashMap.OfLong.AndLong.this.removeLong(k) != null; }
+            }
+
+            private final class Values extends AbstractCollection<java.lang.Long> {
+                public int size() { return PrimitiveConcurrentHashMap.OfLong.AndLong.this.size(); }
+                public boolean isEmpty() { return PrimitiveConcurrentHashMap.OfLong.AndLong.this.isEmpty(); }
+                public void clear() { PrimitiveConcurrentHashMap.OfLong.AndLong.this.clear(); }
+                public Iterator<java.lang.Long> iterator() { return new ValueIterator(); }
+                public boolean contains(Object o) { return containsValue(o); }
+            }
+
+            private final class EntrySet extends AbstractSet<Map.Entry<java.lang.Long, java.lang.Long>> {
+                public int size() { return PrimitiveConcurrentHashMap.OfLong.AndLong.this.size(); }
+                public boolean isEmpty() { return PrimitiveConcurrentHashMap.OfLong.AndLong.this.isEmpty(); }
+                public void clear() { PrimitiveConcurrentHashMap.OfLong.AndLong.this.clear(); }
+                public Iterator<Map.Entry<java.lang.Long, java.lang.Long>> iterator() { return new EntryIterator(); }
+                public boolean contains(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Long k) || !(e.getValue() instanceof java.lang.Long v)) return false;
+                    java.lang.Long c = getLong(k);
+                    return c != null && c.longValue() == v;
+                }
+                public boolean remove(Object o) { return o instanceof Map.Entry<?, ?> e && PrimitiveConcurrentHashMap.OfLong.AndLong.this.remove(e.getKey(), e.getValue()); }
+            }
+
+            /** A mapping seen by an iterator, whose {@code setValue} writes through to the map. */
+            private final class MapEntry implements PrimitiveEntry.OfLong.AndLong {
+                long key, value;
+                MapEntry at(long key, long value) {
+                    this.key = key;
+                    this.value = value;
+                    return this;
+                }
+                public long getKeyLong() { return key; }
+                public long getValueLong() { return value; }
+                public long setValueLong(long v) {
+                    long old = value;
+                    value = v;
+                    putLong(key, v);
+                    return old;
+                }
+                @Override
+                public boolean equals(Object o) {
+                    return o instanceof Map.Entry<?, ?> e && e.getKey() instanceof java.lang.Long k && k == key && e.getValue() instanceof java.lang.Long v && v == value;
+                }
+                @Override
+                public int hashCode() { return java.lang.Long.hashCode(key) ^ java.lang.Long.hashCode(value); }
+                @Override
+                public String toString() { return key + "=" + value; }
+            }
+
+            /** Walks the segments in order, each through the table it has when the walk reaches it. */
+            private abstract class Traverser {
+                private int segment = -1;
+                private Table table;
+                private int slot;
+                private boolean ready;
+                private final long[] buf = new long[1];
+                long nextKey, nextValue, lastKey, lastValue;
+                private boolean canRemove;
+
+                Traverser() { advance(); }
+
+                private void advance() {
+                    for(;;) {
+                        final Table t = table;
+                        if(t != null) {
+                            while(slot <= t.n) {
+                                int i = slot++;
+                                if(read(t, i, buf)) {
+                                    nextKey = i == t.n ? 0 : (long) LONGS.getAcquire(t.keys, i);
+                                    nextValue = buf[0];
+                                    ready = true;
+                                    return;
+                                }
+                            }
+                        }
+                        if(++segment == segments.length) {
+                            table = null;
+                            ready = false;
+                            return;
+                        }
+                        table = segments[segment].table;
+                        slot = 0;
+                    }
+                }
+
+                public boolean hasNext() { return ready; }
+
+                final void step() {
+                    if(!ready) throw new NoSuchElementException();
+                    lastKey = nextKey;
+                    lastValue = nextValue;
+                    canRemove = true;
+                    advance();
+                }
+
+                public void remove() {
+                    if(!canRemove) throw new IllegalStateException();
+                    canRemove = false;
+                    PrimitiveConcurrentHashMap.OfLong.AndLong.this.removeLong(lastKey);
+                }
+            }
+
+            private final class KeyIterator extends Traverser implements PrimitiveIterator.OfLong {
+                public long nextLong() {
+                    step();
+                    return lastKey;
+                }
+            }
+
+            private final class ValueIterator extends Traverser implements Iterator<java.lang.Long> {
+                public java.lang.Long next() {
+                    step();
+                    return lastValue;
+                }
+            }
+
+            private final class EntryIterator extends Traverser implements Iterator<Map.Entry<java.lang.Long, java.lang.Long>> {
+                public Map.Entry<java.lang.Long, java.lang.Long> next() {
+                    step();
+                    return new MapEntry().at(lastKey, lastValue);
+                }
+            }
+
+            private final class CursorIterator extends Traverser implements Iterator<PrimitiveEntry.OfLong.AndLong> {
+                private final MapEntry entry = new MapEntry();
+                public PrimitiveEntry.OfLong.AndLong next() {
+                    step();
+                    return entry.at(lastKey, lastValue);
+                }
+            }
+        }
+    }
+}
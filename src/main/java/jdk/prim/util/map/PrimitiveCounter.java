@@ -0,0 +1,569 @@
+package jdk.prim.util.map;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A pseudo-package for holding counters: multisets of primitive keys that map each key to
+ * its number of occurrences, stored unboxed in the maps of {@link PrimitiveHashMap}.
+ */
+public final class PrimitiveCounter {
+    private PrimitiveCounter() {}
+
+    /** Returns the number of stripes of a concurrent counter, a power of two near the processor count. */
+    static int stripeCount() {
+        int p = Math.min(64, Runtime.getRuntime().availableProcessors());
+        return Math.max(1, Integer.highestOneBit(p - 1) << 1);
+    }
+
+    /** Returns the stripe a thread tries first. */
+    static int homeStripe(int mask) { return PrimitiveHashMap.mix(Thread.currentThread().threadId()) & mask; }
+
+    /**
+     * A bounded min-heap of (key, count) pairs, kept in two parallel arrays, whose root is
+     * the pair of lowest rank: the smaller count, or on equal counts the larger key.
+     */
+    private static final class TopLong {
+        final long[] keys;
+        final long[] counts;
+        int size;
+
+        TopLong(int k) {
+            keys = new long[k];
+            counts = new long[k];
+        }
+
+        private static boolean below(long ka, long ca, long kb, long cb) { return ca < cb || (ca == cb && ka > kb); }
+
+        void offer(long key, long count) {
+            final int k = keys.length;
+            if(k == 0) return;
+            if(size < k) {
+                int i = size++;
+                while(i > 0) {
+                    int p = (i - 1) >>> 1;
+                    if(!below(key, count, keys[p], counts[p])) break;
+                    keys[i] = keys[p];
+                    counts[i] = counts[p];
+                    i = p;
+                }
+                keys[i] = key;
+                counts[i] = count;
+            } else if(below(keys[0], counts[0], key, count)) {
+                siftDown(key, count, size);
+            }
+        }
+
+        /** Places the pair at the root of the heap of length {@code n} and restores the heap order. */
+        private void siftDown(long key, long count, int n) {
+            int i = 0, c;
+            while((c = 2 * i + 1) < n) {
+                if(c + 1 < n && below(keys[c + 1], counts[c + 1], keys[c], counts[c])) c++;
+                if(!below(keys[c], counts[c], key, count)) break;
+                keys[i] = keys[c];
+                counts[i] = counts[c];
+                i = c;
+            }
+            keys[i] = key;
+            counts[i] = count;
+        }
+
+        /** Empties the heap into an array of its keys in descending rank. */
+        long[] drain() {
+            long[] r = new long[size];
+            for(int n = size; n > 0; n--) {
+                r[n - 1] = keys[0];
+                if(n > 1) siftDown(keys[n - 1], counts[n - 1], n - 1);
+            }
+            size = 0;
+            return r;
+        }
+    }
+
+    /** The {@code int} key counterpart of {@link TopLong}. */
+    private static final class TopInt {
+        final int[] keys;
+        final long[] counts;
+        int size;
+
+        TopInt(int k) {
+            keys = new int[k];
+            counts = new long[k];
+        }
+
+        private static boolean below(int ka, long ca, int kb, long cb) { return ca < cb || (ca == cb && ka > kb); }
+
+        void offer(int key, long count) {
+            final int k = keys.length;
+            if(k == 0) return;
+            if(size < k) {
+                int i = size++;
+                while(i > 0) {
+                    int p = (i - 1) >>> 1;
+                    if(!below(key, count, keys[p], counts[p])) break;
+                    keys[i] = keys[p];
+                    counts[i] = counts[p];
+                    i = p;
+                }
+                keys[i] = key;
+                counts[i] = count;
+            } else if(below(keys[0], counts[0], key, count)) {
+                siftDown(key, count, size);
+            }
+        }
+
+        private void siftDown(int key, long count, int n) {
+            int i = 0, c;
+            while((c = 2 * i + 1) < n) {
+                if(c + 1 < n && below(keys[c + 1], counts[c + 1], keys[c], counts[c])) c++;
+                if(!below(keys[c], counts[c], key, count)) break;
+                keys[i] = keys[c];
+                counts[i] = counts[c];
+                i = c;
+            }
+            keys[i] = key;
+            counts[i] = count;
+        }
+
+        int[] drain() {
+            int[] r = new int[size];
+            for(int n = size; n > 0; n--) {
+                r[n - 1] = keys[0];
+                if(n > 1) siftDown(keys[n - 1], counts[n - 1], n - 1);
+            }
+            size = 0;
+            return r;
+        }
+    }
+
+    /**
+     * A counter of {@code long} keys: a {@link PrimitiveHashMap.OfLong.AndLong} from each key
+     * to its count, with counting and top-k queries that never box. A key counted down to
+     * zero stays mapped until it is removed.
+     */
+    public static class OfLong extends PrimitiveHashMap.OfLong.AndLong {
+        /**
+         * Constructs an empty counter able to hold {@code expected} keys without rehashing.
+         * @param expected the expected number of distinct keys
+         * @throws IllegalArgumentException if {@code expected} is negative
+         */
+        public OfLong(int expected) { super(expected); }
+
+        /**
+         * Constructs an empty counter.
+         */
+        public OfLong() { super(); }
+
+        /**
+         * Counts one occurrence of {@code key}.
+         * @param key the key
+         * @return the count of {@code key} after the increment
+         */
+        public long incrementLong(long key) { return addToLong(key, 1); }
+
+        /**
+         * Returns the count of {@code key}, {@code 0} if it was never counted.
+         * @param key the key
+         * @return the count of {@code key}
+         */
+        public long countLong(long key) { return getOrDefaultLong(key, 0); }
+
+        /**
+         * Returns the sum of all counts.
+         * @return the total count
+         */
+        public long total() {
+            long[] t = new long[1];
+            forEachLong((k, c) -> t[0] += c);
+            return t[0];
+        }
+
+        /**
+         * Adds every count of {@code other} to the count of the same key in this counter.
+         * @param other the counts to add
+         */
+        public void mergeFrom(PrimitiveMap.OfLong.AndLong other) {
+            Objects.requireNonNull(other);
+            if(other == this) {
+                forEachLong((k, c) -> addToLong(k, c));
+                return;
+            }
+            if(other.size() > size()) ensureCapacity(size() + other.size());
+            var it = other.entryCursor();
+            while(it.hasNext()) {
+                var e = it.next();
+                addToLong(e.getKeyLong(), e.getValueLong());
+            }
+        }
+
+        /**
+         * Returns the {@code k} keys with the highest counts, in descending order of count
+         * and ascending order of key among equal counts, or all keys if there are fewer.
+         * The selection keeps a heap of {@code k} keys and counts in two primitive arrays,
+         * so it runs in O(n log k) time.
+         * @param k the number of keys to return
+         * @return the top keys
+         * @throws IllegalArgumentException if {@code k} is negative
+         */
+        public long[] topK(int k) {
+            if(k < 0) throw new IllegalArgumentException("Negative k: " + k);
+            TopLong heap = new TopLong(Math.min(k, size()));
+            forEachLong(heap::offer);
+            return heap.drain();
+        }
+
+        /**
+         * Returns a copy of this counter.
+         * @return a copy of this counter
+         */
+        @Override
+        public PrimitiveCounter.OfLong clone() { return (PrimitiveCounter.OfLong) super.clone(); }
+    }
+
+    /**
+     * A counter of {@code int} keys: a {@link PrimitiveHashMap.OfInt.AndLong} from each key
+     * to its count, with counting and top-k queries that never box. A key counted down to
+     * zero stays mapped until it is removed.
+     */
+    public static class OfInt extends PrimitiveHashMap.OfInt.AndLong {
+        /**
+         * Constructs an empty counter able to hold {@code expected} keys without rehashing.
+         * @param expected the expected number of distinct keys
+         * @throws IllegalArgumentException if {@code expected} is negative
+         */
+        public OfInt(int expected) { super(expected); }
+
+        /**
+         * Constructs an empty counter.
+         */
+        public OfInt() { super(); }
+
+        /**
+         * Counts one occurrence of {@code key}.
+         * @param key the key
+         * @return the count of {@code key} after the increment
+         */
+        public long incrementInt(int key) { return addToInt(key, 1); }
+
+        /**
+         * Returns the count of {@code key}, {@code 0} if it was never counted.
+         * @param key the key
+         * @return the count of {@code key}
+         */
+        public long countInt(int key) { return getOrDefaultInt(key, 0); }
+
+        /**
+         * Returns the sum of all counts.
+         * @return the total count
+         */
+        public long total() {
+            long[] t = new long[1];
+            forEachInt((k, c) -> t[0] += c);
+            return t[0];
+        }
+
+        /**
+         * Adds every count of {@code other} to the count of the same key in this counter.
+         * @param other the counts to add
+         */
+        public void mergeFrom(PrimitiveMap.OfInt.AndLong other) {
+            Objects.requireNonNull(other);
+            if(other == this) {
+                forEachInt((k, c) -> addToInt(k, c));
+                return;
+            }
+            if(other.size() > size()) ensureCapacity(size() + other.size());
+            var it = other.entryCursor();
+            while(it.hasNext()) {
+                var e = it.next();
+                addToInt(e.getKeyInt(), e.getValueLong());
+            }
+        }
+
+        /**
+         * Returns the {@code k} keys with the highest counts, in descending order of count
+         * and ascending order of key among equal counts, or all keys if there are fewer.
+         * The selection keeps a heap of {@code k} keys and counts in two primitive arrays,
+         * so it runs in O(n log k) time.
+         * @param k the number of keys to return
+         * @return the top keys
+         * @throws IllegalArgumentException if {@code k} is negative
+         */
+        public int[] topK(int k) {
+            if(k < 0) throw new IllegalArgumentException("Negative k: " + k);
+            TopInt heap = new TopInt(Math.min(k, size()));
+            forEachInt(heap::offer);
+            return heap.drain();
+        }
+
+        /**
+         * Returns a copy of this counter.
+         * @return a copy of this counter
+         */
+        @Override
+        public PrimitiveCounter.OfInt clone() { return (PrimitiveCounter.OfInt) super.clone(); }
+    }
+
+    /**
+     * A thread-safe counter of {@code long} keys, split into striped cells: a few
+     * {@link PrimitiveCounter.OfLong} counters, each behind its own lock. An update goes to
+     * the stripe of the calling thread, or to the next stripe that is free if that one is
+     * held, so concurrent writers rarely wait; a key's count is the sum of its counts in
+     * all stripes. Queries lock each stripe in turn, and are therefore consistent per
+     * stripe but only a snapshot overall while updates continue.
+     */
+    public static class StripedOfLong {
+        private final Stripe[] stripes;
+        private final int mask;
+
+        @SuppressWarnings("serial")
+        private static final class Stripe extends ReentrantLock {
+            final PrimitiveCounter.OfLong counts = new PrimitiveCounter.OfLong();
+        }
+
+        /**
+         * Constructs an empty counter with about one stripe per available processor.
+         */
+        public StripedOfLong() {
+            int n = stripeCount();
+            stripes = new Stripe[n];
+            for(int i = 0; i < n; i++) stripes[i] = new Stripe();
+            mask = n - 1;
+        }
+
+        /** Locks and returns the calling thread's stripe, or the first free one after it. */
+        private Stripe lock() {
+            final int h = homeStripe(mask);
+            for(int i = 0; i <= mask; i++) {
+                Stripe s = stripes[(h + i) & mask];
+                if(s.tryLock()) return s;
+            }
+            Stripe s = stripes[h];
+            s.lock();
+            return s;
+        }
+
+        /**
+         * Counts one occurrence of {@code key}.
+         * @param key the key
+         */
+        public void incrementLong(long key) { addToLong(key, 1); }
+
+        /**
+         * Adds {@code delta} to the count of {@code key}.
+         * @param key the key
+         * @param delta the amount to add
+         */
+        public void addToLong(long key, long delta) {
+            Stripe s = lock();
+            try {
+                s.counts.addToLong(key, delta);
+            } finally {
+                s.unlock();
+            }
+        }
+
+        /**
+         * Adds every count of {@code other} to the count of the same key in this counter.
+         * @param other the counts to add
+         */
+        public void mergeFrom(PrimitiveMap.OfLong.AndLong other) {
+            Objects.requireNonNull(other);
+            Stripe s = lock();
+            try {
+                s.counts.mergeFrom(other);
+            } finally {
+                s.unlock();
+            }
+        }
+
+        /**
+         * Returns the count of {@code key}, {@code 0} if it was never counted.
+         * @param key the key
+         * @return the count of {@code key}
+         */
+        public long countLong(long key) {
+            long c = 0;
+            for(Stripe s : stripes) {
+                s.lock();
+                try {
+                    c += s.counts.countLong(key);
+                } finally {
+                    s.unlock();
+                }
+            }
+            return c;
+        }
+
+        /**
+         * Returns a counter holding the sum of the stripes.
+         * @return a snapshot of the counts
+         */
+        public PrimitiveCounter.OfLong snapshot() {
+            PrimitiveCounter.OfLong r = new PrimitiveCounter.OfLong();
+            for(Stripe s : stripes) {
+                s.lock();
+                try {
+                    r.mergeFrom(s.counts);
+                } finally {
+                    s.unlock();
+                }
+            }
+            return r;
+        }
+
+        /**
+         * Returns the {@code k} keys with the highest counts in a {@link #snapshot()}.
+         * @param k the number of keys to return
+         * @return the top keys
+         * @throws IllegalArgumentException if {@code k} is negative
+         * @see PrimitiveCounter.OfLong#topK(int)
+         */
+        public long[] topK(int k) { return snapshot().topK(k); }
+
+        /**
+         * Removes all counts.
+         */
+        public void clear() {
+            for(Stripe s : stripes) {
+                s.lock();
+                try {
+                    s.counts.clear();
+                } finally {
+                    s.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * A thread-safe counter of {@code int} keys, split into striped cells: a few
+     * {@link PrimitiveCounter.OfInt} counters, each behind its own lock. An update goes to
+     * the stripe of the calling thread, or to the next stripe that is free if that one is
+     * held, so concurrent writers rarely wait; a key's count is the sum of its counts in
+     * all stripes. Queries lock each stripe in turn, and are therefore consistent per
+     * stripe but only a snapshot overall while updates continue.
+     */
+    public static class StripedOfInt {
+        private final Stripe[] stripes;
+        private final int mask;
+
+        @SuppressWarnings("serial")
+        private static final class Stripe extends ReentrantLock {
+            final PrimitiveCounter.OfInt counts = new PrimitiveCounter.OfInt();
+        }
+
+        /**
+         * Constructs an empty counter with about one stripe per available processor.
+         */
+        public StripedOfInt() {
+            int n = stripeCount();
+            stripes = new Stripe[n];
+            for(int i = 0; i < n; i++) stripes[i] = new Stripe();
+            mask = n - 1;
+        }
+
+        private Stripe lock() {
+            final int h = homeStripe(mask);
+            for(int i = 0; i <= mask; i++) {
+                Stripe s = stripes[(h + i) & mask];
+                if(s.tryLock()) return s;
+            }
+            Stripe s = stripes[h];
+            s.lock();
+            return s;
+        }
+
+        /**
+         * Counts one occurrence of {@code key}.
+         * @param key the key
+         */
+        public void incrementInt(int key) { addToInt(key, 1); }
+
+        /**
+         * Adds {@code delta} to the count of {@code key}.
+         * @param key the key
+         * @param delta the amount to add
+         */
+        public void addToInt(int key, long delta) {
+            Stripe s = lock();
+            try {
+                s.counts.addToInt(key, delta);
+            } finally {
+                s.unlock();
+            }
+        }
+
+        /**
+         * Adds every count of {@code other} to the count of the same key in this counter.
+         * @param other the counts to add
+         */
+        public void mergeFrom(PrimitiveMap.OfInt.AndLong other) {
+            Objects.requireNonNull(other);
+            Stripe s = lock();
+            try {
+                s.counts.mergeFrom(other);
+            } finally {
+                s.unlock();
+            }
+        }
+
+        /**
+         * Returns the count of {@code key}, {@code 0} if it was never counted.
+         * @param key the key
+         * @return the count of {@code key}
+         */
+        public long countInt(int key) {
+            long c = 0;
+            for(Stripe s : stripes) {
+                s.lock();
+                try {
+                    c += s.counts.countInt(key);
+                } finally {
+                    s.unlock();
+                }
+            }
+            return c;
+        }
+
+        /**
+         * Returns a counter holding the sum of the stripes.
+         * @return a snapshot of the counts
+         */
+        public PrimitiveCounter.OfInt snapshot() {
+            PrimitiveCounter.OfInt r = new PrimitiveCounter.OfInt();
+            for(Stripe s : stripes) {
+                s.lock();
+                try {
+                    r.mergeFrom(s.counts);
+                } finally {
+                    s.unlock();
+                }
+            }
+            return r;
+        }
+
+        /**
+         * Returns the {@code k} keys with the highest counts in a {@link #snapshot()}.
+         * @param k the number of keys to return
+         * @return the top keys
+         * @throws IllegalArgumentException if {@code k} is negative
+         * @see PrimitiveCounter.OfInt#topK(int)
+         */
+        public int[] topK(int k) { return snapshot().topK(k); }
+
+        /**
+         * Removes all counts.
+         */
+        public void clear() {
+            for(Stripe s : stripes) {
+                s.lock();
+                try {
+                    s.counts.clear();
+                } finally {
+                    s.unlock();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,5233 @@
+package jdk.prim.util.map;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import jdk.prim.util.PrimitiveAbstractSet;
+import jdk.prim.util.PrimitiveIterator;
+import jdk.prim.util.PrimitiveSet;
+import jdk.prim.util.function.PrimitiveBiConsumer;
+import jdk.prim.util.function.PrimitiveFunction;
+
+/**
+ * A pseudo-package for holding the primitive declaration with functionalities and syntax of {@link java.util.HashMap HashMap}
+ * for {@code double}, {@code long}, {@code int} and {@code float} keys
+ */
+public final class PrimitiveHashMap {
+    /** The load factor used when none is specified. */
+    static final float DEFAULT_LOAD_FACTOR = .75f;
+    /** The number of expected mappings used when none is specified. */
+    static final int DEFAULT_EXPECTED = 16;
+    /** The largest power-of-two table length. */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private PrimitiveHashMap() {}
+
+    /**
+     * Returns the power-of-two table length needed to hold {@code expected}
+     * mappings under the load factor {@code f}.
+     * @param expected the expected number of mappings
+     * @param f the load factor
+     * @return the table length
+     * @throws IllegalArgumentException if the table would be too large
+     */
+    static int tableSize(int expected, float f) {
+        long s = Math.max(2, Long.highestOneBit((long) Math.ceil(expected / f) - 1) << 1);
+        if(s > MAXIMUM_CAPACITY) throw new IllegalArgumentException("Too large (" + expected + " expected mappings with load factor " + f + ")");
+        return (int) s;
+    }
+
+    /**
+     * Returns the number of slots that may be occupied in a table of length
+     * {@code n} before it must grow. At least one slot is always left free so
+     * that probing terminates.
+     * @param n the table length
+     * @param f the load factor
+     * @return the maximum fill
+     */
+    static int maxFill(int n, float f) { return Math.min((int) Math.ceil(n * f), n - 1); }
+
+    /**
+     * Scrambles the bits of a {@code long} key so that keys differing only in
+     * their high bits still land in different slots of a power-of-two table.
+     * @param x the key
+     * @return a well-mixed hash of {@code x}
+     */
+    static int mix(long x) {
+        long h = x * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        return (int) (h ^ (h >>> 16));
+    }
+
+    /**
+     * Scrambles the bits of an {@code int} key so that keys differing only in
+     * their high bits still land in different slots of a power-of-two table.
+     * @param x the key
+     * @return a well-mixed hash of {@code x}
+     */
+    static int mix(int x) {
+        int h = x * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * An open-addressing hash map from {@code double} keys to object values.
+     * <p>
+     * Keys are stored unboxed in a flat {@code long[]} and values in a parallel
+     * {@code Object[]}; both tables have a power-of-two length plus one trailing
+     * slot. Collisions are resolved by linear probing and removals use
+     * backward-shift deletion. A key slot holding {@code 0} is free, and the key
+     * whose stored form is {@code 0} lives in the trailing slot. Keys are compared by
+     * {@link java.lang.Double#doubleToLongBits(double) bit pattern}, exactly as
+     * {@link java.lang.Double#equals(Object)} does, so every {@code NaN} is the same
+     * key while {@code 0.0} and {@code -0.0} are distinct; {@code 0.0} is the key held in
+     * the trailing slot.
+     * <p>
+     * {@link #getDouble(double)}, {@link #containsKeyDouble(double)}, {@link #removeDouble(double)} and
+     * {@link #putDouble(double, Object)} on an existing key do not allocate. The iterators
+     * of the views of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.HashMap}
+     * @param <V> the type of mapped values
+     */
+    public static class OfDouble<V> extends AbstractMap<java.lang.Double, V> implements PrimitiveMap.OfDouble<V>, Cloneable {
+        /** The key table; {@code 0} marks a free slot and slot {@code n} holds the zero key. */
+        private transient long[] keys;
+        /** The value table, parallel to {@link #keys}. */
+        private transient V[] values;
+        /** Whether the zero key is present. */
+        private transient boolean containsZero;
+        /** The table length {@code n}, a power of two. */
+        private transient int n;
+        /** {@code n - 1}. */
+        private transient int mask;
+        /** The number of mappings, including the one for the zero key if present. */
+        private int size;
+        /** The number of table slots that may be occupied before the table is doubled. */
+        private transient int maxFill;
+        /** The load factor of the table. */
+        private final float loadFactor;
+        /** The number of times this map has been structurally modified. */
+        private transient int modCount;
+
+        private transient PrimitiveSet.OfDouble keySetView;
+        private transient Collection<V> valuesView;
+        private transient Set<Map.Entry<java.lang.Double, V>> entrySetView;
+
+        /**
+         * Constructs an empty map able to hold {@code expected} mappings
+         * without rehashing, using the given load factor.
+         * @param expected the expected number of mappings
+         * @param loadFactor the load factor, in the range (0, 1)
+         * @throws IllegalArgumentException if {@code expected} is negative or
+         *         {@code loadFactor} is not in (0, 1)
+         */
+        @SuppressWarnings("unchecked")
+        public OfDouble(int expected, float loadFactor) {
+            if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+            if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+            this.loadFactor = loadFactor;
+            n = tableSize(expected, loadFactor);
+            mask = n - 1;
+            maxFill = maxFill(n, loadFactor);
+            keys = new long[n + 1];
+            values = (V[]) new Object[n + 1];
+        }
+
+        /**
+         * Constructs an empty map able to hold {@code expected} mappings
+         * without rehashing, using the default load factor.
+         * @param expected the expected number of mappings
+         */
+        public OfDouble(int expected) { this(expected, DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs an empty map with the default capacity and load factor.
+         */
+        public OfDouble() { this(DEFAULT_EXPECTED, DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs a map with the same mappings as the specified map.
+         * @param m the map whose mappings are to be placed in this map
+         */
+        public OfDouble(Map<? extends java.lang.Double, ? extends V> m) {
+            this(m.size(), DEFAULT_LOAD_FACTOR);
+            putAll(m);
+        }
+
+        ///////////// Probing
+
+        /**
+         * Returns the slot of the specified stored key, or {@code -(slot + 1)} for
+         * the free slot at which it would be inserted.
+         */
+        private int find(long k) {
+            if(k == 0) return containsZero ? n : -(n + 1);
+            final long[] key = keys;
+            long curr;
+            int pos;
+            if((curr = key[pos = mix(k) & mask]) == 0) return -(pos + 1);
+            if(k == curr) return pos;
+            while(true) {
+                if((curr = key[pos = (pos + 1) & mask]) == 0) return -(pos + 1);
+                if(k == curr) return pos;
+            }
+        }
+
+        private void insert(int pos, long k, V v) {
+            if(pos == n) containsZero = true;
+            keys[pos] = k;
+            values[pos] = v;
+            modCount++;
+            if(size++ >= maxFill) rehash(tableSize(size + 1, loadFactor));
+        }
+
+        private V removeEntry(int pos) {
+            V oldValue = values[pos];
+            modCount++;
+            size--;
+            if(pos == n) {
+                containsZero = false;
+                values[n] = null;
+            } else shiftKeys(pos);
+            return oldValue;
+        }
+
+        /**
+         * Closes the gap left at {@code pos} by moving back every following entry
+         * of the probe run that would otherwise become unreachable.
+         */
+        private void shiftKeys(int pos) {
+            final long[] key = keys;
+            final V[] value = values;
+            int last, slot;
+            long curr;
+            for(;;) {
+                pos = ((last = pos) + 1) & mask;
+                for(;;) {
+                    if((curr = key[pos]) == 0) {
+                        key[last] = 0;
+                        value[last] = null;
+                        return;
+                    }
+                    slot = mix(curr) & mask;
+                    // move curr back only if its home slot is not cyclically within (last, pos]
+                    if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                    pos = (pos + 1) & mask;
+                }
+                key[last] = curr;
+                value[last] = value[pos];
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void rehash(int newN) {
+            final long[] key = keys;
+            final V[] value = values;
+            final long[] newKey = new long[newN + 1];
+            final V[] newValue = (V[]) new Object[newN + 1];
+            final int newMask = newN - 1;
+            for(int i = n, j = containsZero ? size - 1 : size; j-- != 0;) {
+                while(key[--i] == 0);
+                int pos;
+                if(newKey[pos = mix(key[i]) & newMask] != 0) while(newKey[pos = (pos + 1) & newMask] != 0);
+                newKey[pos] = key[i];
+                newValue[pos] = value[i];
+            }
+            newValue[newN] = value[n];
+            n = newN;
+            mask = newMask;
+            maxFill = maxFill(newN, loadFactor);
+            keys = newKey;
+            values = newValue;
+        }
+
+        /**
+         * Ensures that this map can hold at least {@code expected} mappings
+         * without rehashing.
+         * @param expected the expected number of mappings
+         */
+        public void ensureCapacity(int expected) {
+            int newN = tableSize(expected, loadFactor);
+            if(newN > n) rehash(newN);
+        }
+
+        /**
+         * Shrinks the table to the smallest size able to hold the current
+         * mappings under the load factor.
+         */
+        public void trimToSize() {
+            int newN = tableSize(size, loadFactor);
+            if(newN < n) rehash(newN);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public V getDouble(double key) {
+            final long k = java.lang.Double.doubleToLongBits(key);
+            if(k == 0) return containsZero ? values[n] : null;
+            final long[] kk = keys;
+            long curr;
+            int pos;
+            if((curr = kk[pos = mix(k) & mask]) == 0) return null;
+            if(k == curr) return values[pos];
+            while(true) {
+                if((curr = kk[pos = (pos + 1) & mask]) == 0) return null;
+                if(k == curr) return values[pos];
+            }
+        }
+
+        @Override
+        public V get(Object key) { return (key instanceof java.lang.Double k) ? getDouble(k) : null; }
+
+        @Override
+        public V getOrDefault(Object key, V defaultValue) {
+            if(!(key instanceof java.lang.Double k)) return defaultValue;
+            int pos = find(java.lang.Double.doubleToLongBits(k));
+            return pos < 0 ? defaultValue : values[pos];
+        }
+
+        @Override
+        public boolean containsKeyDouble(double key) { return find(java.lang.Double.doubleToLongBits(key)) >= 0; }
+
+        @Override
+        public boolean containsKey(Object key) { return (key instanceof java.lang.Double k) ? containsKeyDouble(k) : false; }
+
+        @Override
+        public boolean containsValue(Object value) {
+            final long[] key = keys;
+            final V[] vals = values;
+            if(containsZero && Objects.equals(vals[n], value)) return true;
+            for(int i = n; i-- != 0;) if(key[i] != 0 && Objects.equals(vals[i], value)) return true;
+            return false;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public V putDouble(double key, V value) {
+            final long k = java.lang.Double.doubleToLongBits(key);
+            int pos = find(k);
+            if(pos < 0) {
+                insert(-pos - 1, k, value);
+                return null;
+            }
+            V oldValue = values[pos];
+            values[pos] = value;
+            return oldValue;
+        }
+
+        @Override
+        public V put(java.lang.Double key, V value) { return putDouble(key, value); }
+
+        @Override
+        public V removeDouble(double key) {
+            int pos = find(java.lang.Double.doubleToLongBits(key));
+            return pos < 0 ? null : removeEntry(pos);
+        }
+
+        @Override
+        public V remove(Object key) { return (key instanceof java.lang.Double k) ? removeDouble(k) : null; }
+
+        @Override
+        public V computeIfAbsentDouble(double key, PrimitiveFunction.OfDouble<? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            final long k = java.lang.Double.doubleToLongBits(key);
+            int pos = find(k);
+            V oldValue;
+            if(pos >= 0 && (oldValue = values[pos]) != null) return oldValue;
+            int mc = modCount;
+            V v = mappingFunction.apply(key);
+            if(mc != modCount) throw new ConcurrentModificationException();
+            if(v == null) return null;
+            if(pos >= 0) values[pos] = v;
+            else insert(-pos - 1, k, v);
+            return v;
+        }
+
+        @Override
+        public V computeIfAbsent(java.lang.Double key, Function<? super java.lang.Double, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            return computeIfAbsentDouble(key, (PrimitiveFunction.OfDouble<? extends V>) mappingFunction::apply);
+        }
+
+        @Override
+        public void putAll(Map<? extends java.lang.Double, ? extends V> m) {
+            if(loadFactor <= .5f) ensureCapacity(m.size());
+            else ensureCapacity(size + m.size());
+            super.putAll(m);
+        }
+
+        @Override
+        public void clear() {
+            if(size == 0) return;
+            modCount++;
+            size = 0;
+            containsZero = false;
+            Arrays.fill(keys, (long) 0);
+            Arrays.fill(values, null);
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super java.lang.Double, ? super V> action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final long[] key = keys;
+            final V[] value = values;
+            if(containsZero) action.accept(0.0, value[n]);
+            for(int i = n; i-- != 0 && modCount == expectedModCount;) if(key[i] != 0) action.accept(java.lang.Double.longBitsToDouble(key[i]), value[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Views
+
+        /**
+         * Returns a {@link PrimitiveSet.OfDouble} view of the keys contained in this map.
+         * The set is backed by the map and supports element removal.
+         * @return a set view of the keys contained in this map
+         */
+        @Override
+        public PrimitiveSet.OfDouble keySet() {
+            PrimitiveSet.OfDouble ks;
+            return (ks = keySetView) == null ? (keySetView = new KeySet()) : ks;
+        }
+
+        @Override
+        public Collection<V> values() {
+            Collection<V> vs;
+            return (vs = valuesView) == null ? (valuesView = new Values()) : vs;
+        }
+
+        @Override
+        public Set<Map.Entry<java.lang.Double, V>> entrySet() {
+            Set<Map.Entry<java.lang.Double, V>> es;
+            return (es = entrySetView) == null ? (entrySetView = new EntrySet()) : es;
+        }
+
+        private final class KeySet extends PrimitiveAbstractSet.OfDouble {
+            public int size() { return size; }
+            public void clear() { PrimitiveHashMap.OfDouble.this.clear(); }
+            public PrimitiveIterator.OfDouble iteratorDouble() { return new KeyIterator(); }
+            public boolean containsDouble(double k) { return containsKeyDouble(k); }
+            public boolean removeDouble(double k) {
+                int pos = find(java.lang.Double.doubleToLongBits(k));
+                if(pos < 0) return false;
+                removeEntry(pos);
+                return true;
+            }
+        }
+
+        private final class Values extends AbstractCollection<V> {
+            public int size() { return size; }
+            public void clear() { PrimitiveHashMap.OfDouble.this.clear(); }
+            public Iterator<V> iterator() { return new ValueIterator(); }
+            public boolean contains(Object o) { return containsValue(o); }
+        }
+
+        private final class EntrySet extends AbstractSet<Map.Entry<java.lang.Double, V>> {
+            public int size() { return size; }
+            public void clear() { PrimitiveHashMap.OfDouble.this.clear(); }
+            public Iterator<Map.Entry<java.lang.Double, V>> iterator() { return new EntryIterator(); }
+            public boolean contains(Object o) {
+                if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Double k)) return false;
+                int pos = find(java.lang.Double.doubleToLongBits(k));
+                return pos >= 0 && Objects.equals(values[pos], e.getValue());
+            }
+            public boolean remove(Object o) {
+                if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Double k)) return false;
+                int pos = find(java.lang.Double.doubleToLongBits(k));
+                if(pos < 0 || !Objects.equals(values[pos], e.getValue())) return false;
+                removeEntry(pos);
+                return true;
+            }
+        }
+
+        /**
+         * An entry bound to a table slot. The key is captured when the entry is
+         * created, the value is read and written through the map's value table.
+         */
+        private final class MapEntry implements PrimitiveEntry.OfDouble<V> {
+            private final int index;
+            private final double key;
+            MapEntry(int index) {
+                this.index = index;
+                this.key = java.lang.Double.longBitsToDouble(keys[index]);
+            }
+            public double getKeyDouble() { return key; }
+            public V getValue() { return values[index]; }
+            public V setValue(V v) {
+                V oldValue = values[index];
+                values[index] = v;
+                return oldValue;
+            }
+            @Override
+            public boolean equals(Object o) {
+                if(!(o instanceof Map.Entry<?, ?> e)) return false;
+                return getKey().equals(e.getKey()) && Objects.equals(values[index], e.getValue());
+            }
+            @Override
+            public int hashCode() { return java.lang.Double.hashCode(getKeyDouble()) ^ Objects.hashCode(values[index]); }
+            @Override
+            public String toString() { return getKeyDouble() + "=" + values[index]; }
+        }
+
+        /**
+         * Walks the table slots. The zero key comes first; the remaining slots are
+         * scanned starting just after a free slot, so no probe run straddles the
+         * starting point and backward shifts caused by {@link #remove()} only ever
+         * pull entries from slots not reached yet.
+         */
+        private abstract class SlotIterator {
+            final int start;
+            int remaining;
+            int cursor;
+            int lastRet = -1;
+            boolean zeroPending = containsZero;
+            int count = size;
+            int expectedModCount = modCount;
+
+            SlotIterator() {
+                final long[] key = keys;
+                int s = 0;
+                while(key[s] != 0) s++;
+                start = s;
+                remaining = n;
+            }
+
+            public boolean hasNext() { return count != 0; }
+
+            final int nextSlot() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(count == 0) throw new NoSuchElementException();
+                count--;
+                if(zeroPending) {
+                    zeroPending = false;
+                    return lastRet = n;
+                }
+                final long[] key = keys;
+                for(;;) {
+                    if(remaining-- == 0) throw new ConcurrentModificationException();
+                    int pos = (start + cursor++) & mask;
+                    if(key[pos] != 0) return lastRet = pos;
+                }
+            }
+
+            public void remove() {
+                if(lastRet == -1) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                removeEntry(lastRet);
+                // rescan the vacated slot, an unvisited entry may have been moved into it
+                if(lastRet != n && keys[lastRet] != 0) {
+                    cursor--;
+                    remaining++;
+                }
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfDouble {
+            public double nextDouble() { return java.lang.Double.longBitsToDouble(keys[nextSlot()]); }
+        }
+
+        private final class ValueIterator extends SlotIterator implements Iterator<V> {
+            public V next() { return values[nextSlot()]; }
+        }
+
+        private final class EntryIterator extends SlotIterator implements Iterator<Map.Entry<java.lang.Double, V>> {
+            public Map.Entry<java.lang.Double, V> next() { return new MapEntry(nextSlot()); }
+        }
+
+        ///////////// Copying
+
+        /**
+         * Returns a shallow copy of this map; the keys and values themselves are not cloned.
+         * @return a shallow copy of this map
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public PrimitiveHashMap.OfDouble<V> clone() {
+            try {
+                var c = (PrimitiveHashMap.OfDouble<V>) super.clone();
+                c.keys = keys.clone();
+                c.values = values.clone();
+                c.keySetView = null;
+                c.valuesView = null;
+                c.entrySetView = null;
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+    }
+
+    /**
+     * An open-addressing hash map from {@code long} keys to object values.
+     * <p>
+     * Keys are stored unboxed in a flat {@code long[]} and values in a parallel
+     * {@code Object[]}; both tables have a power-of-two length plus one trailing
+     * slot. Collisions are resolved by linear probing and removals use
+     * backward-shift deletion. A key slot holding {@code 0} is free, and the key
+     * whose stored form is {@code 0} lives in the trailing slot. That is the key {@code 0L}.
+     * <p>
+     * {@link #getLong(long)}, {@link #containsKeyLong(long)}, {@link #removeLong(long)} and
+     * {@link #putLong(long, Object)} on an existing key do not allocate. The iterators
+     * of the views of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.HashMap}
+     * @param <V> the type of mapped values
+     */
+    public static class OfLong<V> extends AbstractMap<java.lang.Long, V> implements PrimitiveMap.OfLong<V>, Cloneable {
+        /** The key table; {@code 0} marks a free slot and slot {@code n} holds the zero key. */
+        private transient long[] keys;
+        /** The value table, parallel to {@link #keys}. */
+        private transient V[] values;
+        /** Whether the zero key is present. */
+        private transient boolean containsZero;
+        /** The table length {@code n}, a power of two. */
+        private transient int n;
+        /** {@code n - 1}. */
+        private transient int mask;
+        /** The number of mappings, including the one for the zero key if present. */
+        private int size;
+        /** The number of table slots that may be occupied before the table is doubled. */
+        private transient int maxFill;
+        /** The load factor of the table. */
+        private final float loadFactor;
+        /** The number of times this map has been structurally modified. */
+        private transient int modCount;
+
+        private transient PrimitiveSet.OfLong keySetView;
+        private transient Collection<V> valuesView;
+        private transient Set<Map.Entry<java.lang.Long, V>> entrySetView;
+
+        /**
+         * Constructs an empty map able to hold {@code expected} mappings
+         * without rehashing, using the given load factor.
+         * @param expected the expected number of mappings
+         * @param loadFactor the load factor, in the range (0, 1)
+         * @throws IllegalArgumentException if {@code expected} is negative or
+         *         {@code loadFactor} is not in (0, 1)
+         */
+        @SuppressWarnings("unchecked")
+        public OfLong(int expected, float loadFactor) {
+            if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+            if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+            this.loadFactor = loadFactor;
+            n = tableSize(expected, loadFactor);
+            mask = n - 1;
+            maxFill = maxFill(n, loadFactor);
+            keys = new long[n + 1];
+            values = (V[]) new Object[n + 1];
+        }
+
+        /**
+         * Constructs an empty map able to hold {@code expected} mappings
+         * without rehashing, using the default load factor.
+         * @param expected the expected number of mappings
+         */
+        public OfLong(int expected) { this(expected, DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs an empty map with the default capacity and load factor.
+         */
+        public OfLong() { this(DEFAULT_EXPECTED, DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs a map with the same mappings as the specified map.
+         * @param m the map whose mappings are to be placed in this map
+         */
+        public OfLong(Map<? extends java.lang.Long, ? extends V> m) {
+            this(m.size(), DEFAULT_LOAD_FACTOR);
+            putAll(m);
+        }
+
+        ///////////// Probing
+
+        /**
+         * Returns the slot of the specified stored key, or {@code -(slot + 1)} for
+         * the free slot at which it would be inserted.
+         */
+        private int find(long k) {
+            if(k == 0) return containsZero ? n : -(n + 1);
+            final long[] key = keys;
+            long curr;
+            int pos;
+            if((curr = key[pos = mix(k) & mask]) == 0) return -(pos + 1);
+            if(k == curr) return pos;
+            while(true) {
+                if((curr = key[pos = (pos + 1) & mask]) == 0) return -(pos + 1);
+                if(k == curr) return pos;
+            }
+        }
+
+        private void insert(int pos, long k, V v) {
+            if(pos == n) containsZero = true;
+            keys[pos] = k;
+            values[pos] = v;
+            modCount++;
+            if(size++ >= maxFill) rehash(tableSize(size + 1, loadFactor));
+        }
+
+        private V removeEntry(int pos) {
+            V oldValue = values[pos];
+            modCount++;
+            size--;
+            if(pos == n) {
+                containsZero = false;
+                values[n] = null;
+            } else shiftKeys(pos);
+            return oldValue;
+        }
+
+        /**
+         * Closes the gap left at {@code pos} by moving back every following entry
+         * of the probe run that would otherwise become unreachable.
+         */
+        private void shiftKeys(int pos) {
+            final long[] key = keys;
+            final V[] value = values;
+            int last, slot;
+            long curr;
+            for(;;) {
+                pos = ((last = pos) + 1) & mask;
+                for(;;) {
+                    if((curr = key[pos]) == 0) {
+                        key[last] = 0;
+                        value[last] = null;
+                        return;
+                    }
+                    slot = mix(curr) & mask;
+                    // move curr back only if its home slot is not cyclically within (last, pos]
+                    if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                    pos = (pos + 1) & mask;
+                }
+                key[last] = curr;
+                value[last] = value[pos];
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void rehash(int newN) {
+            final long[] key = keys;
+            final V[] value = values;
+            final long[] newKey = new long[newN + 1];
+            final V[] newValue = (V[]) new Object[newN + 1];
+            final int newMask = newN - 1;
+            for(int i = n, j = containsZero ? size - 1 : size; j-- != 0;) {
+                while(key[--i] == 0);
+                int pos;
+                if(newKey[pos = mix(key[i]) & newMask] != 0) while(newKey[pos = (pos + 1) & newMask] != 0);
+                newKey[pos] = key[i];
+                newValue[pos] = value[i];
+            }
+            newValue[newN] = value[n];
+            n = newN;
+            mask = newMask;
+            maxFill = maxFill(newN, loadFactor);
+            keys = newKey;
+            values = newValue;
+        }
+
+        /**
+         * Ensures that this map can hold at least {@code expected} mappings
+         * without rehashing.
+         * @param expected the expected number of mappings
+         */
+        public void ensureCapacity(int expected) {
+            int newN = tableSize(expected, loadFactor);
+            if(newN > n) rehash(newN);
+        }
+
+        /**
+         * Shrinks the table to the smallest size able to hold the current
+         * mappings under the load factor.
+         */
+        public void trimToSize() {
+            int newN = tableSize(size, loadFactor);
+            if(newN < n) rehash(newN);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public V getLong(long key) {
+            final long k = key;
+            if(k == 0) return containsZero ? values[n] : null;
+            final long[] kk = keys;
+            long curr;
+            int pos;
+            if((curr = kk[pos = mix(k) & mask]) == 0) return null;
+            if(k == curr) return values[pos];
+            while(true) {
+                if((curr = kk[pos = (pos + 1) & mask]) == 0) return null;
+                if(k == curr) return values[pos];
+            }
+        }
+
+        @Override
+        public V get(Object key) { return (key instanceof java.lang.Long k) ? getLong(k) : null; }
+
+        @Override
+        public V getOrDefault(Object key, V defaultValue) {
+            if(!(key instanceof java.lang.Long k)) return defaultValue;
+            int pos = find(k);
+            return pos < 0 ? defaultValue : values[pos];
+        }
+
+        @Override
+        public boolean containsKeyLong(long key) { return find(key) >= 0; }
+
+        @Override
+        public boolean containsKey(Object key) { return (key instanceof java.lang.Long k) ? containsKeyLong(k) : false; }
+
+        @Override
+        public boolean containsValue(Object value) {
+            final long[] key = keys;
+            final V[] vals = values;
+            if(containsZero && Objects.equals(vals[n], value)) return true;
+            for(int i = n; i-- != 0;) if(key[i] != 0 && Objects.equals(vals[i], value)) return true;
+            return false;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public V putLong(long key, V value) {
+            final long k = key;
+            int pos = find(k);
+            if(pos < 0) {
+                insert(-pos - 1, k, value);
+                return null;
+            }
+            V oldValue = values[pos];
+            values[pos] = value;
+            return oldValue;
+        }
+
+        @Override
+        public V put(java.lang.Long key, V value) { return putLong(key, value); }
+
+        @Override
+        public V removeLong(long key) {
+            int pos = find(key);
+            return pos < 0 ? null : removeEntry(pos);
+        }
+
+        @Override
+        public V remove(Object key) { return (key instanceof java.lang.Long k) ? removeLong(k) : null; }
+
+        @Override
+        public V computeIfAbsentLong(long key, PrimitiveFunction.OfLong<? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            final long k = key;
+            int pos = find(k);
+            V oldValue;
+            if(pos >= 0 && (oldValue = values[pos]) != null) return oldValue;
+            int mc = modCount;
+            V v = mappingFunction.apply(key);
+            if(mc != modCount) throw new ConcurrentModificationException();
+            if(v == null) return null;
+            if(pos >= 0) values[pos] = v;
+            else insert(-pos - 1, k, v);
+            return v;
+        }
+
+        @Override
+        public V computeIfAbsent(java.lang.Long key, Function<? super java.lang.Long, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            return computeIfAbsentLong(key, (PrimitiveFunction.OfLong<? extends V>) mappingFunction::apply);
+        }
+
+        @Override
+        public void putAll(Map<? extends java.lang.Long, ? extends V> m) {
+            if(loadFactor <= .5f) ensureCapacity(m.size());
+            else ensureCapacity(size + m.size());
+            super.putAll(m);
+        }
+
+        @Override
+        public void clear() {
+            if(size == 0) return;
+            modCount++;
+            size = 0;
+            containsZero = false;
+            Arrays.fill(keys, (long) 0);
+            Arrays.fill(values, null);
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super java.lang.Long, ? super V> action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final long[] key = keys;
+            final V[] value = values;
+            if(containsZero) action.accept(0L, value[n]);
+            for(int i = n; i-- != 0 && modCount == expectedModCount;) if(key[i] != 0) action.accept(key[i], value[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Views
+
+        /**
+         * Returns a {@link PrimitiveSet.OfLong} view of the keys contained in this map.
+         * The set is backed by the map and supports element removal.
+         * @return a set view of the keys contained in this map
+         */
+        @Override
+        public PrimitiveSet.OfLong keySet() {
+            PrimitiveSet.OfLong ks;
+            return (ks = keySetView) == null ? (keySetView = new KeySet()) : ks;
+        }
+
+        @Override
+        public Collection<V> values() {
+            Collection<V> vs;
+            return (vs = valuesView) == null ? (valuesView = new Values()) : vs;
+        }
+
+        @Override
+        public Set<Map.Entry<java.lang.Long, V>> entrySet() {
+            Set<Map.Entry<java.lang.Long, V>> es;
+            return (es = entrySetView) == null ? (entrySetView = new EntrySet()) : es;
+        }
+
+        private final class KeySet extends PrimitiveAbstractSet.OfLong {
+            public int size() { return size; }
+            public void clear() { PrimitiveHashMap.OfLong.this.clear(); }
+            public PrimitiveIterator.OfLong iteratorLong() { return new KeyIterator(); }
+            public boolean containsLong(long k) { return containsKeyLong(k); }
+            public boolean removeLong(long k) {
+                int pos = find(k);
+                if(pos < 0) return false;
+                removeEntry(pos);
+                return true;
+            }
+        }
+
+        private final class Values extends AbstractCollection<V> {
+            public int size() { return size; }
+            public void clear() { PrimitiveHashMap.OfLong.this.clear(); }
+            public Iterator<V> iterator() { return new ValueIterator(); }
+            public boolean contains(Object o) { return containsValue(o); }
+        }
+
+        private final class EntrySet extends AbstractSet<Map.Entry<java.lang.Long, V>> {
+            public int size() { return size; }
+            public void clear() { PrimitiveHashMap.OfLong.this.clear(); }
+            public Iterator<Map.Entry<java.lang.Long, V>> iterator() { return new EntryIterator(); }
+            public boolean contains(Object o) {
+                if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Long k)) return false;
+                int pos = find(k);
+                return pos >= 0 && Objects.equals(values[pos], e.getValue());
+            }
+            public boolean remove(Object o) {
+                if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Long k)) return false;
+                int pos = find(k);
+                if(pos < 0 || !Objects.equals(values[pos], e.getValue())) return false;
+                removeEntry(pos);
+                return true;
+            }
+        }
+
+        /**
+         * An entry bound to a table slot. The key is captured when the entry is
+         * created, the value is read and written through the map's value table.
+         */
+        private final class MapEntry implements PrimitiveEntry.OfLong<V> {
+            private final int index;
+            private final long key;
+            MapEntry(int index) {
+                this.index = index;
+                this.key = keys[index];
+            }
+            public long getKeyLong() { return key; }
+            public V getValue() { return values[index]; }
+            public V setValue(V v) {
+                V oldValue = values[index];
+                values[index] = v;
+                return oldValue;
+            }
+            @Override
+            public boolean equals(Object o) {
+                if(!(o instanceof Map.Entry<?, ?> e)) return false;
+                return getKey().equals(e.getKey()) && Objects.equals(values[index], e.getValue());
+            }
+            @Override
+            public int hashCode() { return java.lang.Long.hashCode(getKeyLong()) ^ Objects.hashCode(values[index]); }
+            @Override
+            public String toString() { return getKeyLong() + "=" + values[index]; }
+        }
+
+        /**
+         * Walks the table slots. The zero key comes first; the remaining slots are
+         * scanned starting just after a free slot, so no probe run straddles the
+         * starting point and backward shifts caused by {@link #remove()} only ever
+         * pull entries from slots not reached yet.
+         */
+        private abstract class SlotIterator {
+            final int start;
+            int remaining;
+            int cursor;
+            int lastRet = -1;
+            boolean zeroPending = containsZero;
+            int count = size;
+            int expectedModCount = modCount;
+
+            SlotIterator() {
+                final long[] key = keys;
+                int s = 0;
+                while(key[s] != 0) s++;
+                start = s;
+                remaining = n;
+            }
+
+            public boolean hasNext() { return count != 0; }
+
+            final int nextSlot() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(count == 0) throw new NoSuchElementException();
+                count--;
+                if(zeroPending) {
+                    zeroPending = false;
+                    return lastRet = n;
+                }
+                final long[] key = keys;
+                for(;;) {
+                    if(remaining-- == 0) throw new ConcurrentModificationException();
+                    int pos = (start + cursor++) & mask;
+                    if(key[pos] != 0) return lastRet = pos;
+                }
+            }
+
+            public void remove() {
+                if(lastRet == -1) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                removeEntry(lastRet);
+                // rescan the vacated slot, an unvisited entry may have been moved into it
+                if(lastRet != n && keys[lastRet] != 0) {
+                    cursor--;
+                    remaining++;
+                }
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfLong {
+            public long nextLong() { return keys[nextSlot()]; }
+        }
+
+        private final class ValueIterator extends SlotIterator implements Iterator<V> {
+            public V next() { return values[nextSlot()]; }
+        }
+
+        private final class EntryIterator extends SlotIterator implements Iterator<Map.Entry<java.lang.Long, V>> {
+            public Map.Entry<java.lang.Long, V> next() { return new MapEntry(nextSlot()); }
+        }
+
+        ///////////// Copying
+
+        /**
+         * Returns a shallow copy of this map; the keys and values themselves are not cloned.
+         * @return a shallow copy of this map
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public PrimitiveHashMap.OfLong<V> clone() {
+            try {
+                var c = (PrimitiveHashMap.OfLong<V>) super.clone();
+                c.keys = keys.clone();
+                c.values = values.clone();
+                c.keySetView = null;
+                c.valuesView = null;
+                c.entrySetView = null;
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        /**
+         * An open-addressing hash map from {@code long} keys to {@code long} values.
+         * <p>
+         * Keys and values are stored unboxed in two flat parallel arrays of a
+         * power-of-two length plus one trailing slot. Collisions are resolved by
+         * linear probing and removals use backward-shift deletion. A key slot holding
+         * {@code 0} is free, and the key {@code 0} itself lives in the trailing slot.
+         * <p>
+         * {@link #getOrDefaultLong(long, long)}, {@link #putLong(long, long)}, {@link #addToLong(long, long)},
+         * {@link #removeOrDefaultLong(long, long)} and {@link #entryCursor()} never box. The
+         * iterators of the views of this class are <i>fail-fast</i>.
+         */
+        public static class AndLong extends AbstractMap<java.lang.Long, java.lang.Long> implements PrimitiveMap.OfLong.AndLong, Cloneable {
+            /** The key table; {@code 0} marks a free slot and slot {@code n} holds the key {@code 0}. */
+            private transient long[] keys;
+            /** The value table, parallel to {@link #keys}. */
+            private transient long[] vals;
+            /** Whether the key {@code 0} is present. */
+            private transient boolean containsZero;
+            /** The table length {@code n}, a power of two. */
+            private transient int n;
+            /** {@code n - 1}. */
+            private transient int mask;
+            /** The number of mappings, including the one for the key {@code 0} if present. */
+            private int size;
+            /** The number of table slots that may be occupied before the table is doubled. */
+            private transient int maxFill;
+            /** The load factor of the table. */
+            private final float loadFactor;
+            /** The number of times this map has been structurally modified. */
+            private transient int modCount;
+
+            private transient PrimitiveSet.OfLong keySetView;
+            private transient Collection<java.lang.Long> valuesView;
+            private transient Set<Map.Entry<java.lang.Long, java.lang.Long>> entrySetView;
+
+            /**
+             * Constructs an empty map able to hold {@code expected} mappings
+             * without rehashing, using the given load factor.
+             * @param expected the expected number of mappings
+             * @param loadFactor the load factor, in the range (0, 1)
+             * @throws IllegalArgumentException if {@code expected} is negative or
+             *         {@code loadFactor} is not in (0, 1)
+             */
+            public AndLong(int expected, float loadFactor) {
+                if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+                if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+                this.loadFactor = loadFactor;
+                n = tableSize(expected, loadFactor);
+                mask = n - 1;
+                maxFill = maxFill(n, loadFactor);
+                keys = new long[n + 1];
+                vals = new long[n + 1];
+            }
+
+            /**
+             * Constructs an empty map able to hold {@code expected} mappings
+             * without rehashing, using the default load factor.
+             * @param expected the expected number of mappings
+             */
+            public AndLong(int expected) { this(expected, DEFAULT_LOAD_FACTOR); }
+
+            /**
+             * Constructs an empty map with the default capacity and load factor.
+             */
+            public AndLong() { this(DEFAULT_EXPECTED, DEFAULT_LOAD_FACTOR); }
+
+            ///////////// Probing
+
+            /**
+             * Returns the slot of the specified key, or {@code -(slot + 1)} for
+             * the free slot at which it would be inserted.
+             */
+            private int find(long k) {
+                if(k == 0) return containsZero ? n : -(n + 1);
+                final long[] key = keys;
+                long curr;
+                int pos;
+                if((curr = key[pos = mix(k) & mask]) == 0) return -(pos + 1);
+                if(k == curr) return pos;
+                while(true) {
+                    if((curr = key[pos = (pos + 1) & mask]) == 0) return -(pos + 1);
+                    if(k == curr) return pos;
+                }
+            }
+
+            private void insert(int pos, long k, long v) {
+                if(pos == n) containsZero = true;
+                keys[pos] = k;
+                vals[pos] = v;
+                modCount++;
+                if(size++ >= maxFill) rehash(tableSize(size + 1, loadFactor));
+            }
+
+            private long removeEntry(int pos) {
+                long oldValue = vals[pos];
+                modCount++;
+                size--;
+                if(pos == n) containsZero = false;
+                else shiftKeys(pos);
+                return oldValue;
+            }
+
+            /**
+             * Closes the gap left at {@code pos} by moving back every following entry
+             * of the probe run that would otherwise become unreachable.
+             */
+            private void shiftKeys(int pos) {
+                final long[] key = keys;
+                final long[] value = vals;
+                int last, slot;
+                long curr;
+                for(;;) {
+                    pos = ((last = pos) + 1) & mask;
+                    for(;;) {
+                        if((curr = key[pos]) == 0) {
+                            key[last] = 0;
+                            return;
+                        }
+                        slot = mix(curr) & mask;
+                        // move curr back only if its home slot is not cyclically within (last, pos]
+                        if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                        pos = (pos + 1) & mask;
+                    }
+                    key[last] = curr;
+                    value[last] = value[pos];
+                }
+            }
+
+            private void rehash(int newN) {
+                final long[] key = keys;
+                final long[] value = vals;
+                final long[] newKey = new long[newN + 1];
+                final long[] newValue = new long[newN + 1];
+                final int newMask = newN - 1;
+                for(int i = n, j = containsZero ? size - 1 : size; j-- != 0;) {
+                    while(key[--i] == 0);
+                    int pos;
+                    if(newKey[pos = mix(key[i]) & newMask] != 0) while(newKey[pos = (pos + 1) & newMask] != 0);
+                    newKey[pos] = key[i];
+                    newValue[pos] = value[i];
+                }
+                newValue[newN] = value[n];
+                n = newN;
+                mask = newMask;
+                maxFill = maxFill(newN, loadFactor);
+                keys = newKey;
+                vals = newValue;
+            }
+
+            /**
+             * Ensures that this map can hold at least {@code expected} mappings
+             * without rehashing.
+             * @param expected the expected number of mappings
+             */
+            public void ensureCapacity(int expected) {
+                int newN = tableSize(expected, loadFactor);
+                if(newN > n) rehash(newN);
+            }
+
+            /**
+             * Shrinks the table to the smallest size able to hold the current
+             * mappings under the load factor.
+             */
+            public void trimToSize() {
+                int newN = tableSize(size, loadFactor);
+                if(newN < n) rehash(newN);
+            }
+
+            ///////////// Query operations
+
+            @Override
+            public int size() { return size; }
+
+            @Override
+            public boolean isEmpty() { return size == 0; }
+
+            @Override
+            public long getOrDefaultLong(long k, long defaultValue) {
+                if(k == 0) return containsZero ? vals[n] : defaultValue;
+                final long[] key = keys;
+                long curr;
+                int pos;
+                if((curr = key[pos = mix(k) & mask]) == 0) return defaultValue;
+                if(k == curr) return vals[pos];
+                while(true) {
+                    if((curr = key[pos = (pos + 1) & mask]) == 0) return defaultValue;
+                    if(k == curr) return vals[pos];
+                }
+            }
+
+            @Override
+            public java.lang.Long getLong(long key) {
+                int pos = find(key);
+                return pos < 0 ? null : vals[pos];
+            }
+
+            @Override
+            public java.lang.Long get(Object key) { return (key instanceof java.lang.Long k) ? getLong(k) : null; }
+
+            @Override
+            public java.lang.Long getOrDefault(Object key, java.lang.Long defaultValue) {
+                if(!(key instanceof java.lang.Long k)) return defaultValue;
+                int pos = find(k);
+                return pos < 0 ? defaultValue : vals[pos];
+            }
+
+            @Override
+            public boolean containsKeyLong(long key) { return find(key) >= 0; }
+
+            @Override
+            public boolean containsKey(Object key) { return (key instanceof java.lang.Long k) ? containsKeyLong(k) : false; }
+
+            @Override
+            public boolean containsValueLong(long value) {
+                final long[] key = keys;
+                final long[] value_ = vals;
+                if(containsZero && value_[n] == value) return true;
+                for(int i = n; i-- != 0;) if(key[i] != 0 && value_[i] == value) return true;
+                return false;
+            }
+
+            @Override
+            public boolean containsValue(Object value) { return (value instanceof java.lang.Long v) ? containsValueLong(v) : false; }
+
+            ///////////// Modification operations
+
+            @Override
+            public long putLong(long key, long value) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, value);
+                    return 0;
+                }
+                long oldValue = vals[pos];
+                vals[pos] = value;
+                return oldValue;
+            }
+
+            @Override
+            public java.lang.Long putLong(long key, java.lang.Long value) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, value);
+                    return null;
+                }
+                long oldValue = vals[pos];
+                vals[pos] = value;
+                return oldValue;
+            }
+
+            @Override
+            public java.lang.Long put(java.lang.Long key, java.lang.Long value) { return putLong((long) key, value); }
+
+            @Override
+            public long addToLong(long key, long increment) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, increment);
+                    return increment;
+                }
+                return vals[pos] += increment;
+            }
+
+            @Override
+            public long removeOrDefaultLong(long key, long defaultValue) {
+                int pos = find(key);
+                return pos < 0 ? defaultValue : removeEntry(pos);
+            }
+
+            @Override
+            public java.lang.Long removeLong(long key) {
+                int pos = find(key);
+                return pos < 0 ? null : removeEntry(pos);
+            }
+
+            @Override
+            public java.lang.Long remove(Object key) { return (key instanceof java.lang.Long k) ? removeLong(k) : null; }
+
+            @Override
+            public java.lang.Long computeIfAbsentLong(long key, PrimitiveFunction.OfLong<? extends java.lang.Long> mappingFunction) {
+                Objects.requireNonNull(mappingFunction);
+                int pos = find(key);
+                if(pos >= 0) return vals[pos];
+                int mc = modCount;
+                java.lang.Long v = mappingFunction.apply(key);
+                if(mc != modCount) throw new ConcurrentModificationException();
+                if(v == null) return null;
+                insert(-pos - 1, key, v);
+                return v;
+            }
+
+            @Override
+            public java.lang.Long computeIfAbsent(java.lang.Long key, Function<? super java.lang.Long, ? extends java.lang.Long> mappingFunction) {
+                Objects.requireNonNull(mappingFunction);
+                return computeIfAbsentLong(key, (PrimitiveFunction.OfLong<? extends java.lang.Long>) mappingFunction::apply);
+            }
+
+            @Override
+            public void putAll(Map<? extends java.lang.Long, ? extends java.lang.Long> m) {
+                if(loadFactor <= .5f) ensureCapacity(m.size());
+                else ensureCapacity(size + m.size());
+                super.putAll(m);
+            }
+
+            @Override
+            public void clear() {
+                if(size == 0) return;
+                modCount++;
+                size = 0;
+                containsZero = false;
+                Arrays.fill(keys, (long) 0);
+            }
+
+            @Override
+            public void forEachLong(PrimitiveBiConsumer.OfLong.AndLong action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final long[] key = keys;
+                final long[] value = vals;
+                if(containsZero) action.acceptLong((long) 0, value[n]);
+                for(int i = n; i-- != 0 && modCount == expectedModCount;) if(key[i] != 0) action.acceptLong(key[i], value[i]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public void forEach(BiConsumer<? super java.lang.Long, ? super java.lang.Long> action) {
+                Objects.requireNonNull(action);
+                forEachLong(action::accept);
+            }
+
+            ///////////// Views
+
+            /**
+             * Returns a {@link PrimitiveSet.OfLong} view of the keys contained in this map.
+             * The set is backed by the map and supports element removal.
+             * @return a set view of the keys contained in this map
+             */
+            @Override
+            public PrimitiveSet.OfLong keySet() {
+                PrimitiveSet.OfLong ks;
+                return (ks = keySetView) == null ? (keySetView = new KeySet()) : ks;
+            }
+
+            @Override
+            public Collection<java.lang.Long> values() {
+                Collection<java.lang.Long> vs;
+                return (vs = valuesView) == null ? (valuesView = new Values()) : vs;
+            }
+
+            @Override
+            public Set<Map.Entry<java.lang.Long, java.lang.Long>> entrySet() {
+                Set<Map.Entry<java.lang.Long, java.lang.Long>> es;
+                return (es = entrySetView) == null ? (entrySetView = new EntrySet()) : es;
+            }
+
+            @Override
+            public Iterator<PrimitiveEntry.OfLong.AndLong> entryCursor() { return new CursorIterator(); }
+
+            private final class KeySet extends PrimitiveAbstractSet.OfLong {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfLong.AndLong.this.clear(); }
+                public PrimitiveIterator.OfLong iteratorLong() { return new KeyIterator(); }
+                public boolean containsLong(long k) { return containsKeyLong(k); }
+                public boolean removeLong(long k) {
+                    int pos = find(k);
+                    if(pos < 0) return false;
+                    removeEntry(pos);
+                    return true;
+                }
+            }
+
+            private final class Values extends AbstractCollection<java.lang.Long> {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfLong.AndLong.this.clear(); }
+                public Iterator<java.lang.Long> iterator() { return new ValueIterator(); }
+                public boolean contains(Object o) { return containsValue(o); }
+            }
+
+            private final class EntrySet extends AbstractSet<Map.Entry<java.lang.Long, java.lang.Long>> {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfLong.AndLong.this.clear(); }
+                public Iterator<Map.Entry<java.lang.Long, java.lang.Long>> iterator() { return new EntryIterator(); }
+                public boolean contains(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Long k) || !(e.getValue() instanceof java.lang.Long v)) return false;
+                    int pos = find(k);
+                    return pos >= 0 && vals[pos] == v;
+                }
+                public boolean remove(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Long k) || !(e.getValue() instanceof java.lang.Long v)) return false;
+                    int pos = find(k);
+                    if(pos < 0 || !(vals[pos] == v)) return false;
+                    removeEntry(pos);
+                    return true;
+                }
+            }
+
+            /**
+             * An entry positioned on a table slot, reading and writing the map's arrays
+             * directly. Entries handed out by {@link #entrySet()} keep their slot, the
+             * one handed out by {@link #entryCursor()} is moved along by its iterator.
+             */
+            private final class MapEntry implements PrimitiveEntry.OfLong.AndLong {
+                int index;
+                long key;
+                MapEntry(int index) { at(index); }
+                MapEntry at(int index) {
+                    this.index = index;
+                    this.key = keys[index];
+                    return this;
+                }
+                public long getKeyLong() { return key; }
+                public long getValueLong() { return vals[index]; }
+                public long setValueLong(long v) {
+                    long oldValue = vals[index];
+                    vals[index] = v;
+                    return oldValue;
+                }
+                @Override
+                public boolean equals(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e)) return false;
+                    return e.getKey() instanceof java.lang.Long k && k == key && e.getValue() instanceof java.lang.Long v && vals[index] == v;
+                }
+                @Override
+                public int hashCode() { return java.lang.Long.hashCode(key) ^ java.lang.Long.hashCode(vals[index]); }
+                @Override
+                public String toString() { return key + "=" + vals[index]; }
+            }
+
+            /**
+             * Walks the table slots. The key {@code 0} comes first; the remaining slots
+             * are scanned starting just after a free slot, so no probe run straddles the
+             * starting point and backward shifts caused by {@link #remove()} only ever
+             * pull entries from slots not reached yet.
+             */
+            private abstract class SlotIterator {
+                final int start;
+                int remaining;
+                int cursor;
+                int lastRet = -1;
+                boolean zeroPending = containsZero;
+                int count = size;
+                int expectedModCount = modCount;
+
+                SlotIterator() {
+                    final long[] key = keys;
+                    int s = 0;
+                    while(key[s] != 0) s++;
+                    start = s;
+                    remaining = n;
+                }
+
+                public boolean hasNext() { return count != 0; }
+
+                final int nextSlot() {
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    if(count == 0) throw new NoSuchElementException();
+                    count--;
+                    if(zeroPending) {
+                        zeroPending = false;
+                        return lastRet = n;
+                    }
+                    final long[] key = keys;
+                    for(;;) {
+                        if(remaining-- == 0) throw new ConcurrentModificationException();
+                        int pos = (start + cursor++) & mask;
+                        if(key[pos] != 0) return lastRet = pos;
+                    }
+                }
+
+                public void remove() {
+                    if(lastRet == -1) throw new IllegalStateException();
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    removeEntry(lastRet);
+                    // rescan the vacated slot, an unvisited entry may have been moved into it
+                    if(lastRet != n && keys[lastRet] != 0) {
+                        cursor--;
+                        remaining++;
+                    }
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                }
+            }
+
+            private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfLong {
+                public long nextLong() { return keys[nextSlot()]; }
+            }
+
+            private final class ValueIterator extends SlotIterator implements Iterator<java.lang.Long> {
+                public java.lang.Long next() { return vals[nextSlot()]; }
+            }
+
+            private final class EntryIterator extends SlotIterator implements Iterator<Map.Entry<java.lang.Long, java.lang.Long>> {
+                public Map.Entry<java.lang.Long, java.lang.Long> next() { return new MapEntry(nextSlot()); }
+            }
+
+            private final class CursorIterator extends SlotIterator implements Iterator<PrimitiveEntry.OfLong.AndLong> {
+                private MapEntry entry;
+                public PrimitiveEntry.OfLong.AndLong next() {
+                    int slot = nextSlot();
+                    return entry == null ? (entry = new MapEntry(slot)) : entry.at(slot);
+                }
+            }
+
+            ///////////// Copying
+
+            /**
+             * Returns a copy of this map.
+             * @return a copy of this map
+             */
+            @Override
+            public PrimitiveHashMap.OfLong.AndLong clone() {
+                try {
+                    var c = (PrimitiveHashMap.OfLong.AndLong) super.clone();
+                    c.keys = keys.clone();
+                    c.vals = vals.clone();
+                    c.keySetView = null;
+                    c.valuesView = null;
+                    c.entrySetView = null;
+                    c.modCount = 0;
+                    return c;
+                } catch (CloneNotSupportedException e) {
+                    throw new InternalError(e);
+                }
+            }
+        }
+
+        /**
+         * An open-addressing hash map from {@code long} keys to {@code int} values.
+         * <p>
+         * Keys and values are stored unboxed in two flat parallel arrays of a
+         * power-of-two length plus one trailing slot. Collisions are resolved by
+         * linear probing and removals use backward-shift deletion. A key slot holding
+         * {@code 0} is free, and the key {@code 0} itself lives in the trailing slot.
+         * <p>
+         * {@link #getOrDefaultLong(long, int)}, {@link #putLong(long, int)}, {@link #addToLong(long, int)},
+         * {@link #removeOrDefaultLong(long, int)} and {@link #entryCursor()} never box. The
+         * iterators of the views of this class are <i>fail-fast</i>.
+         */
+        public static class AndInt extends AbstractMap<java.lang.Long, java.lang.Integer> implements PrimitiveMap.OfLong.AndInt, Cloneable {
+            /** The key table; {@code 0} marks a free slot and slot {@code n} holds the key {@code 0}. */
+            private transient long[] keys;
+            /** The value table, parallel to {@link #keys}. */
+            private transient int[] vals;
+            /** Whether the key {@code 0} is present. */
+            private transient boolean containsZero;
+            /** The table length {@code n}, a power of two. */
+            private transient int n;
+            /** {@code n - 1}. */
+            private transient int mask;
+            /** The number of mappings, including the one for the key {@code 0} if present. */
+            private int size;
+            /** The number of table slots that may be occupied before the table is doubled. */
+            private transient int maxFill;
+            /** The load factor of the table. */
+            private final float loadFactor;
+            /** The number of times this map has been structurally modified. */
+            private transient int modCount;
+
+            private transient PrimitiveSet.OfLong keySetView;
+            private transient Collection<java.lang.Integer> valuesView;
+            private transient Set<Map.Entry<java.lang.Long, java.lang.Integer>> entrySetView;
+
+            /**
+             * Constructs an empty map able to hold {@code expected} mappings
+             * without rehashing, using the given load factor.
+             * @param expected the expected number of mappings
+             * @param loadFactor the load factor, in the range (0, 1)
+             * @throws IllegalArgumentException if {@code expected} is negative or
+             *         {@code loadFactor} is not in (0, 1)
+             */
+            public AndInt(int expected, float loadFactor) {
+                if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+                if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+                this.loadFactor = loadFactor;
+                n = tableSize(expected, loadFactor);
+                mask = n - 1;
+                maxFill = maxFill(n, loadFactor);
+                keys = new long[n + 1];
+                vals = new int[n + 1];
+            }
+
+            /**
+             * Constructs an empty map able to hold {@code expected} mappings
+             * without rehashing, using the default load factor.
+             * @param expected the expected number of mappings
+             */
+            public AndInt(int expected) { this(expected, DEFAULT_LOAD_FACTOR); }
+
+            /**
+             * Constructs an empty map with the default capacity and load factor.
+             */
+            public AndInt() { this(DEFAULT_EXPECTED, DEFAULT_LOAD_FACTOR); }
+
+            ///////////// Probing
+
+            /**
+             * Returns the slot of the specified key, or {@code -(slot + 1)} for
+             * the free slot at which it would be inserted.
+             */
+            private int find(long k) {
+                if(k == 0) return containsZero ? n : -(n + 1);
+                final long[] key = keys;
+                long curr;
+                int pos;
+                if((curr = key[pos = mix(k) & mask]) == 0) return -(pos + 1);
+                if(k == curr) return pos;
+                while(true) {
+                    if((curr = key[pos = (pos + 1) & mask]) == 0) return -(pos + 1);
+                    if(k == curr) return pos;
+                }
+            }
+
+            private void insert(int pos, long k, int v) {
+                if(pos == n) containsZero = true;
+                keys[pos] = k;
+                vals[pos] = v;
+                modCount++;
+                if(size++ >= maxFill) rehash(tableSize(size + 1, loadFactor));
+            }
+
+            private int removeEntry(int pos) {
+                int oldValue = vals[pos];
+                modCount++;
+                size--;
+                if(pos == n) containsZero = false;
+                else shiftKeys(pos);
+                return oldValue;
+            }
+
+            /**
+             * Closes the gap left at {@code pos} by moving back every following entry
+             * of the probe run that would otherwise become unreachable.
+             */
+            private void shiftKeys(int pos) {
+                final long[] key = keys;
+                final int[] value = vals;
+                int last, slot;
+                long curr;
+                for(;;) {
+                    pos = ((last = pos) + 1) & mask;
+                    for(;;) {
+                        if((curr = key[pos]) == 0) {
+                            key[last] = 0;
+                            return;
+                        }
+                        slot = mix(curr) & mask;
+                        // move curr back only if its home slot is not cyclically within (last, pos]
+                        if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                        pos = (pos + 1) & mask;
+                    }
+                    key[last] = curr;
+                    value[last] = value[pos];
+                }
+            }
+
+            private void rehash(int newN) {
+                final long[] key = keys;
+                final int[] value = vals;
+                final long[] newKey = new long[newN + 1];
+                final int[] newValue = new int[newN + 1];
+                final int newMask = newN - 1;
+                for(int i = n, j = containsZero ? size - 1 : size; j-- != 0;) {
+                    while(key[--i] == 0);
+                    int pos;
+                    if(newKey[pos = mix(key[i]) & newMask] != 0) while(newKey[pos = (pos + 1) & newMask] != 0);
+                    newKey[pos] = key[i];
+                    newValue[pos] = value[i];
+                }
+                newValue[newN] = value[n];
+                n = newN;
+                mask = newMask;
+                maxFill = maxFill(newN, loadFactor);
+                keys = newKey;
+                vals = newValue;
+            }
+
+            /**
+             * Ensures that this map can hold at least {@code expected} mappings
+             * without rehashing.
+             * @param expected the expected number of mappings
+             */
+            public void ensureCapacity(int expected) {
+                int newN = tableSize(expected, loadFactor);
+                if(newN > n) rehash(newN);
+            }
+
+            /**
+             * Shrinks the table to the smallest size able to hold the current
+             * mappings under the load factor.
+             */
+            public void trimToSize() {
+                int newN = tableSize(size, loadFactor);
+                if(newN < n) rehash(newN);
+            }
+
+            ///////////// Query operations
+
+            @Override
+            public int size() { return size; }
+
+            @Override
+            public boolean isEmpty() { return size == 0; }
+
+            @Override
+            public int getOrDefaultLong(long k, int defaultValue) {
+                if(k == 0) return containsZero ? vals[n] : defaultValue;
+                final long[] key = keys;
+                long curr;
+                int pos;
+                if((curr = key[pos = mix(k) & mask]) == 0) return defaultValue;
+                if(k == curr) return vals[pos];
+                while(true) {
+                    if((curr = key[pos = (pos + 1) & mask]) == 0) return defaultValue;
+                    if(k == curr) return vals[pos];
+                }
+            }
+
+            @Override
+            public java.lang.Integer getLong(long key) {
+                int pos = find(key);
+                return pos < 0 ? null : vals[pos];
+            }
+
+            @Override
+            public java.lang.Integer get(Object key) { return (key instanceof java.lang.Long k) ? getLong(k) : null; }
+
+            @Override
+            public java.lang.Integer getOrDefault(Object key, java.lang.Integer defaultValue) {
+                if(!(key instanceof java.lang.Long k)) return defaultValue;
+                int pos = find(k);
+                return pos < 0 ? defaultValue : vals[pos];
+            }
+
+            @Override
+            public boolean containsKeyLong(long key) { return find(key) >= 0; }
+
+            @Override
+            public boolean containsKey(Object key) { return (key instanceof java.lang.Long k) ? containsKeyLong(k) : false; }
+
+            @Override
+            public boolean containsValueInt(int value) {
+                final long[] key = keys;
+                final int[] value_ = vals;
+                if(containsZero && value_[n] == value) return true;
+                for(int i = n; i-- != 0;) if(key[i] != 0 && value_[i] == value) return true;
+                return false;
+            }
+
+            @Override
+            public boolean containsValue(Object value) { return (value instanceof java.lang.Integer v) ? containsValueInt(v) : false; }
+
+            ///////////// Modification operations
+
+            @Override
+            public int putLong(long key, int value) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, value);
+                    return 0;
+                }
+                int oldValue = vals[pos];
+                vals[pos] = value;
+                return oldValue;
+            }
+
+            @Override
+            public java.lang.Integer putLong(long key, java.lang.Integer value) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, value);
+                    return null;
+                }
+                int oldValue = vals[pos];
+                vals[pos] = value;
+                return oldValue;
+            }
+
+            @Override
+            public java.lang.Integer put(java.lang.Long key, java.lang.Integer value) { return putLong((long) key, value); }
+
+            @Override
+            public int addToLong(long key, int increment) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, increment);
+                    return increment;
+                }
+                return vals[pos] += increment;
+            }
+
+            @Override
+            public int removeOrDefaultLong(long key, int defaultValue) {
+                int pos = find(key);
+                return pos < 0 ? defaultValue : removeEntry(pos);
+            }
+
+            @Override
+            public java.lang.Integer removeLong(long key) {
+                int pos = find(key);
+                return pos < 0 ? null : removeEntry(pos);
+            }
+
+            @Override
+            public java.lang.Integer remove(Object key) { return (key instanceof java.lang.Long k) ? removeLong(k) : null; }
+
+            @Override
+            public java.lang.Integer computeIfAbsentLong(long key, PrimitiveFunction.OfLong<? extends java.lang.Integer> mappingFunction) {
+                Objects.requireNonNull(mappingFunction);
+                int pos = find(key);
+                if(pos >= 0) return vals[pos];
+                int mc = modCount;
+                java.lang.Integer v = mappingFunction.apply(key);
+                if(mc != modCount) throw new ConcurrentModificationException();
+                if(v == null) return null;
+                insert(-pos - 1, key, v);
+                return v;
+            }
+
+            @Override
+            public java.lang.Integer computeIfAbsent(java.lang.Long key, Function<? super java.lang.Long, ? extends java.lang.Integer> mappingFunction) {
+                Objects.requireNonNull(mappingFunction);
+                return computeIfAbsentLong(key, (PrimitiveFunction.OfLong<? extends java.lang.Integer>) mappingFunction::apply);
+            }
+
+            @Override
+            public void putAll(Map<? extends java.lang.Long, ? extends java.lang.Integer> m) {
+                if(loadFactor <= .5f) ensureCapacity(m.size());
+                else ensureCapacity(size + m.size());
+                super.putAll(m);
+            }
+
+            @Override
+            public void clear() {
+                if(size == 0) return;
+                modCount++;
+                size = 0;
+                containsZero = false;
+                Arrays.fill(keys, (long) 0);
+            }
+
+            @Override
+            public void forEachLong(PrimitiveBiConsumer.OfLong.AndInt action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final long[] key = keys;
+                final int[] value = vals;
+                if(containsZero) action.acceptLong((long) 0, value[n]);
+                for(int i = n; i-- != 0 && modCount == expectedModCount;) if(key[i] != 0) action.acceptLong(key[i], value[i]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public void forEach(BiConsumer<? super java.lang.Long, ? super java.lang.Integer> action) {
+                Objects.requireNonNull(action);
+                forEachLong(action::accept);
+            }
+
+            ///////////// Views
+
+            /**
+             * Returns a {@link PrimitiveSet.OfLong} view of the keys contained in this map.
+             * The set is backed by the map and supports element removal.
+             * @return a set view of the keys contained in this map
+             */
+            @Override
+            public PrimitiveSet.OfLong keySet() {
+                PrimitiveSet.OfLong ks;
+                return (ks = keySetView) == null ? (keySetView = new KeySet()) : ks;
+            }
+
+            @Override
+            public Collection<java.lang.Integer> values() {
+                Collection<java.lang.Integer> vs;
+                return (vs = valuesView) == null ? (valuesView = new Values()) : vs;
+            }
+
+            @Override
+            public Set<Map.Entry<java.lang.Long, java.lang.Integer>> entrySet() {
+                Set<Map.Entry<java.lang.Long, java.lang.Integer>> es;
+                return (es = entrySetView) == null ? (entrySetView = new EntrySet()) : es;
+            }
+
+            @Override
+            public Iterator<PrimitiveEntry.OfLong.AndInt> entryCursor() { return new CursorIterator(); }
+
+            private final class KeySet extends PrimitiveAbstractSet.OfLong {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfLong.AndInt.this.clear(); }
+                public PrimitiveIterator.OfLong iteratorLong() { return new KeyIterator(); }
+                public boolean containsLong(long k) { return containsKeyLong(k); }
+                public boolean removeLong(long k) {
+                    int pos = find(k);
+                    if(pos < 0) return false;
+                    removeEntry(pos);
+                    return true;
+                }
+            }
+
+            private final class Values extends AbstractCollection<java.lang.Integer> {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfLong.AndInt.this.clear(); }
+                public Iterator<java.lang.Integer> iterator() { return new ValueIterator(); }
+                public boolean contains(Object o) { return containsValue(o); }
+            }
+
+            private final class EntrySet extends AbstractSet<Map.Entry<java.lang.Long, java.lang.Integer>> {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfLong.AndInt.this.clear(); }
+                public Iterator<Map.Entry<java.lang.Long, java.lang.Integer>> iterator() { return new EntryIterator(); }
+                public boolean contains(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Long k) || !(e.getValue() instanceof java.lang.Integer v)) return false;
+                    int pos = find(k);
+                    return pos >= 0 && vals[pos] == v;
+                }
+                public boolean remove(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Long k) || !(e.getValue() instanceof java.lang.Integer v)) return false;
+                    int pos = find(k);
+                    if(pos < 0 || !(vals[pos] == v)) return false;
+                    removeEntry(pos);
+                    return true;
+                }
+            }
+
+            /**
+             * An entry positioned on a table slot, reading and writing the map's arrays
+             * directly. Entries handed out by {@link #entrySet()} keep their slot, the
+             * one handed out by {@link #entryCursor()} is moved along by its iterator.
+             */
+            private final class MapEntry implements PrimitiveEntry.OfLong.AndInt {
+                int index;
+                long key;
+                MapEntry(int index) { at(index); }
+                MapEntry at(int index) {
+                    this.index = index;
+                    this.key = keys[index];
+                    return this;
+                }
+                public long getKeyLong() { return key; }
+                public int getValueInt() { return vals[index]; }
+                public int setValueInt(int v) {
+                    int oldValue = vals[index];
+                    vals[index] = v;
+                    return oldValue;
+                }
+                @Override
+                public boolean equals(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e)) return false;
+                    return e.getKey() instanceof java.lang.Long k && k == key && e.getValue() instanceof java.lang.Integer v && vals[index] == v;
+                }
+                @Override
+                public int hashCode() { return java.lang.Long.hashCode(key) ^ java.lang.Integer.hashCode(vals[index]); }
+                @Override
+                public String toString() { return key + "=" + vals[index]; }
+            }
+
+            /**
+             * Walks the table slots. The key {@code 0} comes first; the remaining slots
+             * are scanned starting just after a free slot, so no probe run straddles the
+             * starting point and backward shifts caused by {@link #remove()} only ever
+             * pull entries from slots not reached yet.
+             */
+            private abstract class SlotIterator {
+                final int start;
+                int remaining;
+                int cursor;
+                int lastRet = -1;
+                boolean zeroPending = containsZero;
+                int count = size;
+                int expectedModCount = modCount;
+
+                SlotIterator() {
+                    final long[] key = keys;
+                    int s = 0;
+                    while(key[s] != 0) s++;
+                    start = s;
+                    remaining = n;
+                }
+
+                public boolean hasNext() { return count != 0; }
+
+                final int nextSlot() {
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    if(count == 0) throw new NoSuchElementException();
+                    count--;
+                    if(zeroPending) {
+                        zeroPending = false;
+                        return lastRet = n;
+                    }
+                    final long[] key = keys;
+                    for(;;) {
+                        if(remaining-- == 0) throw new ConcurrentModificationException();
+                        int pos = (start + cursor++) & mask;
+                        if(key[pos] != 0) return lastRet = pos;
+                    }
+                }
+
+                public void remove() {
+                    if(lastRet == -1) throw new IllegalStateException();
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    removeEntry(lastRet);
+                    // rescan the vacated slot, an unvisited entry may have been moved into it
+                    if(lastRet != n && keys[lastRet] != 0) {
+                        cursor--;
+                        remaining++;
+                    }
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                }
+            }
+
+            private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfLong {
+                public long nextLong() { return keys[nextSlot()]; }
+            }
+
+            private final class ValueIterator extends SlotIterator implements Iterator<java.lang.Integer> {
+                public java.lang.Integer next() { return vals[nextSlot()]; }
+            }
+
+            private final class EntryIterator extends SlotIterator implements Iterator<Map.Entry<java.lang.Long, java.lang.Integer>> {
+                public Map.Entry<java.lang.Long, java.lang.Integer> next() { return new MapEntry(nextSlot()); }
+            }
+
+            private final class CursorIterator extends SlotIterator implements Iterator<PrimitiveEntry.OfLong.AndInt> {
+                private MapEntry entry;
+                public PrimitiveEntry.OfLong.AndInt next() {
+                    int slot = nextSlot();
+                    return entry == null ? (entry = new MapEntry(slot)) : entry.at(slot);
+                }
+            }
+
+            ///////////// Copying
+
+            /**
+             * Returns a copy of this map.
+             * @return a copy of this map
+             */
+            @Override
+            public PrimitiveHashMap.OfLong.AndInt clone() {
+                try {
+                    var c = (PrimitiveHashMap.OfLong.AndInt) super.clone();
+                    c.keys = keys.clone();
+                    c.vals = vals.clone();
+                    c.keySetView = null;
+                    c.valuesView = null;
+                    c.entrySetView = null;
+                    c.modCount = 0;
+                    return c;
+                } catch (CloneNotSupportedException e) {
+                    throw new InternalError(e);
+                }
+            }
+        }
+
+        /**
+         * An open-addressing hash map from {@code long} keys to {@code double} values.
+         * <p>
+         * Keys and values are stored unboxed in two flat parallel arrays of a
+         * power-of-two length plus one trailing slot. Collisions are resolved by
+         * linear probing and removals use backward-shift deletion. A key slot holding
+         * {@code 0} is free, and the key {@code 0} itself lives in the trailing slot.
+         * <p>
+         * {@link #getOrDefaultLong(long, double)}, {@link #putLong(long, double)}, {@link #addToLong(long, double)},
+         * {@link #removeOrDefaultLong(long, double)} and {@link #entryCursor()} never box. The
+         * iterators of the views of this class are <i>fail-fast</i>.
+         */
+        public static class AndDouble extends AbstractMap<java.lang.Long, java.lang.Double> implements PrimitiveMap.OfLong.AndDouble, Cloneable {
+            /** The key table; {@code 0} marks a free slot and slot {@code n} holds the key {@code 0}. */
+            private transient long[] keys;
+            /** The value table, parallel to {@link #keys}. */
+            private transient double[] vals;
+            /** Whether the key {@code 0} is present. */
+            private transient boolean containsZero;
+            /** The table length {@code n}, a power of two. */
+            private transient int n;
+            /** {@code n - 1}. */
+            private transient int mask;
+            /** The number of mappings, including the one for the key {@code 0} if present. */
+            private int size;
+            /** The number of table slots that may be occupied before the table is doubled. */
+            private transient int maxFill;
+            /** The load factor of the table. */
+            private final float loadFactor;
+            /** The number of times this map has been structurally modified. */
+            private transient int modCount;
+
+            private transient PrimitiveSet.OfLong keySetView;
+            private transient Collection<java.lang.Double> valuesView;
+            private transient Set<Map.Entry<java.lang.Long, java.lang.Double>> entrySetView;
+
+            /**
+             * Constructs an empty map able to hold {@code expected} mappings
+             * without rehashing, using the given load factor.
+             * @param expected the expected number of mappings
+             * @param loadFactor the load factor, in the range (0, 1)
+             * @throws IllegalArgumentException if {@code expected} is negative or
+             *         {@code loadFactor} is not in (0, 1)
+             */
+            public AndDouble(int expected, float loadFactor) {
+                if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+                if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+                this.loadFactor = loadFactor;
+                n = tableSize(expected, loadFactor);
+                mask = n - 1;
+                maxFill = maxFill(n, loadFactor);
+                keys = new long[n + 1];
+                vals = new double[n + 1];
+            }
+
+            /**
+             * Constructs an empty map able to hold {@code expected} mappings
+             * without rehashing, using the default load factor.
+             * @param expected the expected number of mappings
+             */
+            public AndDouble(int expected) { this(expected, DEFAULT_LOAD_FACTOR); }
+
+            /**
+             * Constructs an empty map with the default capacity and load factor.
+             */
+            public AndDouble() { this(DEFAULT_EXPECTED, DEFAULT_LOAD_FACTOR); }
+
+            ///////////// Probing
+
+            /**
+             * Returns the slot of the specified key, or {@code -(slot + 1)} for
+             * the free slot at which it would be inserted.
+             */
+            private int find(long k) {
+                if(k == 0) return containsZero ? n : -(n + 1);
+                final long[] key = keys;
+                long curr;
+                int pos;
+                if((curr = key[pos = mix(k) & mask]) == 0) return -(pos + 1);
+                if(k == curr) return pos;
+                while(true) {
+                    if((curr = key[pos = (pos + 1) & mask]) == 0) return -(pos + 1);
+                    if(k == curr) return pos;
+                }
+            }
+
+            private void insert(int pos, long k, double v) {
+                if(pos == n) containsZero = true;
+                keys[pos] = k;
+                vals[pos] = v;
+                modCount++;
+                if(size++ >= maxFill) rehash(tableSize(size + 1, loadFactor));
+            }
+
+            private double removeEntry(int pos) {
+                double oldValue = vals[pos];
+                modCount++;
+                size--;
+                if(pos == n) containsZero = false;
+                else shiftKeys(pos);
+                return oldValue;
+            }
+
+            /**
+             * Closes the gap left at {@code pos} by moving back every following entry
+             * of the probe run that would otherwise become unreachable.
+             */
+            private void shiftKeys(int pos) {
+                final long[] key = keys;
+                final double[] value = vals;
+                int last, slot;
+                long curr;
+                for(;;) {
+                    pos = ((last = pos) + 1) & mask;
+                    for(;;) {
+                        if((curr = key[pos]) == 0) {
+                            key[last] = 0;
+                            return;
+                        }
+                        slot = mix(curr) & mask;
+                        // move curr back only if its home slot is not cyclically within (last, pos]
+                        if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                        pos = (pos + 1) & mask;
+                    }
+                    key[last] = curr;
+                    value[last] = value[pos];
+                }
+            }
+
+            private void rehash(int newN) {
+                final long[] key = keys;
+                final double[] value = vals;
+                final long[] newKey = new long[newN + 1];
+                final double[] newValue = new double[newN + 1];
+                final int newMask = newN - 1;
+                for(int i = n, j = containsZero ? size - 1 : size; j-- != 0;) {
+                    while(key[--i] == 0);
+                    int pos;
+                    if(newKey[pos = mix(key[i]) & newMask] != 0) while(newKey[pos = (pos + 1) & newMask] != 0);
+                    newKey[pos] = key[i];
+                    newValue[pos] = value[i];
+                }
+                newValue[newN] = value[n];
+                n = newN;
+                mask = newMask;
+                maxFill = maxFill(newN, loadFactor);
+                keys = newKey;
+                vals = newValue;
+            }
+
+            /**
+             * Ensures that this map can hold at least {@code expected} mappings
+             * without rehashing.
+             * @param expected the expected number of mappings
+             */
+            public void ensureCapacity(int expected) {
+                int newN = tableSize(expected, loadFactor);
+                if(newN > n) rehash(newN);
+            }
+
+            /**
+             * Shrinks the table to the smallest size able to hold the current
+             * mappings under the load factor.
+             */
+            public void trimToSize() {
+                int newN = tableSize(size, loadFactor);
+                if(newN < n) rehash(newN);
+            }
+
+            ///////////// Query operations
+
+            @Override
+            public int size() { return size; }
+
+            @Override
+            public boolean isEmpty() { return size == 0; }
+
+            @Override
+            public double getOrDefaultLong(long k, double defaultValue) {
+                if(k == 0) return containsZero ? vals[n] : defaultValue;
+                final long[] key = keys;
+                long curr;
+                int pos;
+                if((curr = key[pos = mix(k) & mask]) == 0) return defaultValue;
+                if(k == curr) return vals[pos];
+                while(true) {
+                    if((curr = key[pos = (pos + 1) & mask]) == 0) return defaultValue;
+                    if(k == curr) return vals[pos];
+                }
+            }
+
+            @Override
+            public java.lang.Double getLong(long key) {
+                int pos = find(key);
+                return pos < 0 ? null : vals[pos];
+            }
+
+            @Override
+            public java.lang.Double get(Object key) { return (key instanceof java.lang.Long k) ? getLong(k) : null; }
+
+            @Override
+            public java.lang.Double getOrDefault(Object key, java.lang.Double defaultValue) {
+                if(!(key instanceof java.lang.Long k)) return defaultValue;
+                int pos = find(k);
+                return pos < 0 ? defaultValue : vals[pos];
+            }
+
+            @Override
+            public boolean containsKeyLong(long key) { return find(key) >= 0; }
+
+            @Override
+            public boolean containsKey(Object key) { return (key instanceof java.lang.Long k) ? containsKeyLong(k) : false; }
+
+            @Override
+            public boolean containsValueDouble(double value) {
+                final long[] key = keys;
+                final double[] value_ = vals;
+                if(containsZero && java.lang.Double.doubleToLongBits(value_[n]) == java.lang.Double.doubleToLongBits(value)) return true;
+                for(int i = n; i-- != 0;) if(key[i] != 0 && java.lang.Double.doubleToLongBits(value_[i]) == java.lang.Double.doubleToLongBits(value)) return true;
+                return false;
+            }
+
+            @Override
+            public boolean containsValue(Object value) { return (value instanceof java.lang.Double v) ? containsValueDouble(v) : false; }
+
+            ///////////// Modification operations
+
+            @Override
+            public double putLong(long key, double value) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, value);
+                    return 0;
+                }
+                double oldValue = vals[pos];
+                vals[pos] = value;
+                return oldValue;
+            }
+
+            @Override
+            public java.lang.Double putLong(long key, java.lang.Double value) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, value);
+                    return null;
+                }
+                double oldValue = vals[pos];
+                vals[pos] = value;
+                return oldValue;
+            }
+
+            @Override
+            public java.lang.Double put(java.lang.Long key, java.lang.Double value) { return putLong((long) key, value); }
+
+            @Override
+            public double addToLong(long key, double increment) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, increment);
+                    return increment;
+                }
+                return vals[pos] += increment;
+            }
+
+            @Override
+            public double removeOrDefaultLong(long key, double defaultValue) {
+                int pos = find(key);
+                return pos < 0 ? defaultValue : removeEntry(pos);
+            }
+
+            @Override
+            public java.lang.Double removeLong(long key) {
+                int pos = find(key);
+                return pos < 0 ? null : removeEntry(pos);
+            }
+
+            @Override
+            public java.lang.Double remove(Object key) { return (key instanceof java.lang.Long k) ? removeLong(k) : null; }
+
+            @Override
+            public java.lang.Double computeIfAbsentLong(long key, PrimitiveFunction.OfLong<? extends java.lang.Double> mappingFunction) {
+                Objects.requireNonNull(mappingFunction);
+                int pos = find(key);
+                if(pos >= 0) return vals[pos];
+                int mc = modCount;
+                java.lang.Double v = mappingFunction.apply(key);
+                if(mc != modCount) throw new ConcurrentModificationException();
+                if(v == null) return null;
+                insert(-pos - 1, key, v);
+                return v;
+            }
+
+            @Override
+            public java.lang.Double computeIfAbsent(java.lang.Long key, Function<? super java.lang.Long, ? extends java.lang.Double> mappingFunction) {
+                Objects.requireNonNull(mappingFunction);
+                return computeIfAbsentLong(key, (PrimitiveFunction.OfLong<? extends java.lang.Double>) mappingFunction::apply);
+            }
+
+            @Override
+            public void putAll(Map<? extends java.lang.Long, ? extends java.lang.Double> m) {
+                if(loadFactor <= .5f) ensureCapacity(m.size());
+                else ensureCapacity(size + m.size());
+                super.putAll(m);
+            }
+
+            @Override
+            public void clear() {
+                if(size == 0) return;
+                modCount++;
+                size = 0;
+                containsZero = false;
+                Arrays.fill(keys, (long) 0);
+            }
+
+            @Override
+            public void forEachLong(PrimitiveBiConsumer.OfLong.AndDouble action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final long[] key = keys;
+                final double[] value = vals;
+                if(containsZero) action.acceptLong((long) 0, value[n]);
+                for(int i = n; i-- != 0 && modCount == expectedModCount;) if(key[i] != 0) action.acceptLong(key[i], value[i]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public void forEach(BiConsumer<? super java.lang.Long, ? super java.lang.Double> action) {
+                Objects.requireNonNull(action);
+                forEachLong(action::accept);
+            }
+
+            ///////////// Views
+
+            /**
+             * Returns a {@link PrimitiveSet.OfLong} view of the keys contained in this map.
+             * The set is backed by the map and supports element removal.
+             * @return a set view of the keys contained in this map
+             */
+            @Override
+            public PrimitiveSet.OfLong keySet() {
+                PrimitiveSet.OfLong ks;
+                return (ks = keySetView) == null ? (keySetView = new KeySet()) : ks;
+            }
+
+            @Override
+            public Collection<java.lang.Double> values() {
+                Collection<java.lang.Double> vs;
+                return (vs = valuesView) == null ? (valuesView = new Values()) : vs;
+            }
+
+            @Override
+            public Set<Map.Entry<java.lang.Long, java.lang.Double>> entrySet() {
+                Set<Map.Entry<java.lang.Long, java.lang.Double>> es;
+                return (es = entrySetView) == null ? (entrySetView = new EntrySet()) : es;
+            }
+
+            @Override
+            public Iterator<PrimitiveEntry.OfLong.AndDouble> entryCursor() { return new CursorIterator(); }
+
+            private final class KeySet extends PrimitiveAbstractSet.OfLong {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfLong.AndDouble.this.clear(); }
+                public PrimitiveIterator.OfLong iteratorLong() { return new KeyIterator(); }
+                public boolean containsLong(long k) { return containsKeyLong(k); }
+                public boolean removeLong(long k) {
+                    int pos = find(k);
+                    if(pos < 0) return false;
+                    removeEntry(pos);
+                    return true;
+                }
+            }
+
+            private final class Values extends AbstractCollection<java.lang.Double> {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfLong.AndDouble.this.clear(); }
+                public Iterator<java.lang.Double> iterator() { return new ValueIterator(); }
+                public boolean contains(Object o) { return containsValue(o); }
+            }
+
+            private final class EntrySet extends AbstractSet<Map.Entry<java.lang.Long, java.lang.Double>> {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfLong.AndDouble.this.clear(); }
+                public Iterator<Map.Entry<java.lang.Long, java.lang.Double>> iterator() { return new EntryIterator(); }
+                public boolean contains(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Long k) || !(e.getValue() instanceof java.lang.Double v)) return false;
+                    int pos = find(k);
+                    return pos >= 0 && java.lang.Double.doubleToLongBits(vals[pos]) == java.lang.Double.doubleToLongBits(v);
+                }
+                public boolean remove(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Long k) || !(e.getValue() instanceof java.lang.Double v)) return false;
+                    int pos = find(k);
+                    if(pos < 0 || !(java.lang.Double.doubleToLongBits(vals[pos]) == java.lang.Double.doubleToLongBits(v))) return false;
+                    removeEntry(pos);
+                    return true;
+                }
+            }
+
+            /**
+             * An entry positioned on a table slot, reading and writing the map's arrays
+             * directly. Entries handed out by {@link #entrySet()} keep their slot, the
+             * one handed out by {@link #entryCursor()} is moved along by its iterator.
+             */
+            private final class MapEntry implements PrimitiveEntry.OfLong.AndDouble {
+                int index;
+                long key;
+                MapEntry(int index) { at(index); }
+                MapEntry at(int index) {
+                    this.index = index;
+                    this.key = keys[index];
+                    return this;
+                }
+                public long getKeyLong() { return key; }
+                public double getValueDouble() { return vals[index]; }
+                public double setValueDouble(double v) {
+                    double oldValue = vals[index];
+                    vals[index] = v;
+                    return oldValue;
+                }
+                @Override
+                public boolean equals(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e)) return false;
+                    return e.getKey() instanceof java.lang.Long k && k == key && e.getValue() instanceof java.lang.Double v && java.lang.Double.doubleToLongBits(vals[index]) == java.lang.Double.doubleToLongBits(v);
+                }
+                @Override
+                public int hashCode() { return java.lang.Long.hashCode(key) ^ java.lang.Double.hashCode(vals[index]); }
+                @Override
+                public String toString() { return key + "=" + vals[index]; }
+            }
+
+            /**
+             * Walks the table slots. The key {@code 0} comes first; the remaining slots
+             * are scanned starting just after a free slot, so no probe run straddles the
+             * starting point and backward shifts caused by {@link #remove()} only ever
+             * pull entries from slots not reached yet.
+             */
+            private abstract class SlotIterator {
+                final int start;
+                int remaining;
+                int cursor;
+                int lastRet = -1;
+                boolean zeroPending = containsZero;
+                int count = size;
+                int expectedModCount = modCount;
+
+                SlotIterator() {
+                    final long[] key = keys;
+                    int s = 0;
+                    while(key[s] != 0) s++;
+                    start = s;
+                    remaining = n;
+                }
+
+                public boolean hasNext() { return count != 0; }
+
+                final int nextSlot() {
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    if(count == 0) throw new NoSuchElementException();
+                    count--;
+                    if(zeroPending) {
+                        zeroPending = false;
+                        return lastRet = n;
+                    }
+                    final long[] key = keys;
+                    for(;;) {
+                        if(remaining-- == 0) throw new ConcurrentModificationException();
+                        int pos = (start + cursor++) & mask;
+                        if(key[pos] != 0) return lastRet = pos;
+                    }
+                }
+
+                public void remove() {
+                    if(lastRet == -1) throw new IllegalStateException();
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    removeEntry(lastRet);
+                    // rescan the vacated slot, an unvisited entry may have been moved into it
+                    if(lastRet != n && keys[lastRet] != 0) {
+                        cursor--;
+                        remaining++;
+                    }
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                }
+            }
+
+            private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfLong {
+                public long nextLong() { return keys[nextSlot()]; }
+            }
+
+            private final class ValueIterator extends SlotIterator implements Iterator<java.lang.Double> {
+                public java.lang.Double next() { return vals[nextSlot()]; }
+            }
+
+            private final class EntryIterator extends SlotIterator implements Iterator<Map.Entry<java.lang.Long, java.lang.Double>> {
+                public Map.Entry<java.lang.Long, java.lang.Double> next() { return new MapEntry(nextSlot()); }
+            }
+
+            private final class CursorIterator extends SlotIterator implements Iterator<PrimitiveEntry.OfLong.AndDouble> {
+                private MapEntry entry;
+                public PrimitiveEntry.OfLong.AndDouble next() {
+                    int slot = nextSlot();
+                    return entry == null ? (entry = new MapEntry(slot)) : entry.at(slot);
+                }
+            }
+
+            ///////////// Copying
+
+            /**
+             * Returns a copy of this map.
+             * @return a copy of this map
+             */
+            @Override
+            public PrimitiveHashMap.OfLong.AndDouble clone() {
+                try {
+                    var c = (PrimitiveHashMap.OfLong.AndDouble) super.clone();
+                    c.keys = keys.clone();
+                    c.vals = vals.clone();
+                    c.keySetView = null;
+                    c.valuesView = null;
+                    c.entrySetView = null;
+                    c.modCount = 0;
+                    return c;
+                } catch (CloneNotSupportedException e) {
+                    throw new InternalError(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * An open-addressing hash map from {@code int} keys to object values.
+     * <p>
+     * Keys are stored unboxed in a flat {@code int[]} and values in a parallel
+     * {@code Object[]}; both tables have a power-of-two length plus one trailing
+     * slot. Collisions are resolved by linear probing and removals use
+     * backward-shift deletion. A key slot holding {@code 0} is free, and the key
+     * whose stored form is {@code 0} lives in the trailing slot. That is the key {@code 0}.
+     * <p>
+     * {@link #getInt(int)}, {@link #containsKeyInt(int)}, {@link #removeInt(int)} and
+     * {@link #putInt(int, Object)} on an existing key do not allocate. The iterators
+     * of the views of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.HashMap}
+     * @param <V> the type of mapped values
+     */
+    public static class OfInt<V> extends AbstractMap<java.lang.Integer, V> implements PrimitiveMap.OfInt<V>, Cloneable {
+        /** The key table; {@code 0} marks a free slot and slot {@code n} holds the zero key. */
+        private transient int[] keys;
+        /** The value table, parallel to {@link #keys}. */
+        private transient V[] values;
+        /** Whether the zero key is present. */
+        private transient boolean containsZero;
+        /** The table length {@code n}, a power of two. */
+        private transient int n;
+        /** {@code n - 1}. */
+        private transient int mask;
+        /** The number of mappings, including the one for the zero key if present. */
+        private int size;
+        /** The number of table slots that may be occupied before the table is doubled. */
+        private transient int maxFill;
+        /** The load factor of the table. */
+        private final float loadFactor;
+        /** The number of times this map has been structurally modified. */
+        private transient int modCount;
+
+        private transient PrimitiveSet.OfInt keySetView;
+        private transient Collection<V> valuesView;
+        private transient Set<Map.Entry<java.lang.Integer, V>> entrySetView;
+
+        /**
+         * Constructs an empty map able to hold {@code expected} mappings
+         * without rehashing, using the given load factor.
+         * @param expected the expected number of mappings
+         * @param loadFactor the load factor, in the range (0, 1)
+         * @throws IllegalArgumentException if {@code expected} is negative or
+         *         {@code loadFactor} is not in (0, 1)
+         */
+        @SuppressWarnings("unchecked")
+        public OfInt(int expected, float loadFactor) {
+            if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+            if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+            this.loadFactor = loadFactor;
+            n = tableSize(expected, loadFactor);
+            mask = n - 1;
+            maxFill = maxFill(n, loadFactor);
+            keys = new int[n + 1];
+            values = (V[]) new Object[n + 1];
+        }
+
+        /**
+         * Constructs an empty map able to hold {@code expected} mappings
+         * without rehashing, using the default load factor.
+         * @param expected the expected number of mappings
+         */
+        public OfInt(int expected) { this(expected, DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs an empty map with the default capacity and load factor.
+         */
+        public OfInt() { this(DEFAULT_EXPECTED, DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs a map with the same mappings as the specified map.
+         * @param m the map whose mappings are to be placed in this map
+         */
+        public OfInt(Map<? extends java.lang.Integer, ? extends V> m) {
+            this(m.size(), DEFAULT_LOAD_FACTOR);
+            putAll(m);
+        }
+
+        ///////////// Probing
+
+        /**
+         * Returns the slot of the specified stored key, or {@code -(slot + 1)} for
+         * the free slot at which it would be inserted.
+         */
+        private int find(int k) {
+            if(k == 0) return containsZero ? n : -(n + 1);
+            final int[] key = keys;
+            int curr;
+            int pos;
+            if((curr = key[pos = mix(k) & mask]) == 0) return -(pos + 1);
+            if(k == curr) return pos;
+            while(true) {
+                if((curr = key[pos = (pos + 1) & mask]) == 0) return -(pos + 1);
+                if(k == curr) return pos;
+            }
+        }
+
+        private void insert(int pos, int k, V v) {
+            if(pos == n) containsZero = true;
+            keys[pos] = k;
+            values[pos] = v;
+            modCount++;
+            if(size++ >= maxFill) rehash(tableSize(size + 1, loadFactor));
+        }
+
+        private V removeEntry(int pos) {
+            V oldValue = values[pos];
+            modCount++;
+            size--;
+            if(pos == n) {
+                containsZero = false;
+                values[n] = null;
+            } else shiftKeys(pos);
+            return oldValue;
+        }
+
+        /**
+         * Closes the gap left at {@code pos} by moving back every following entry
+         * of the probe run that would otherwise become unreachable.
+         */
+        private void shiftKeys(int pos) {
+            final int[] key = keys;
+            final V[] value = values;
+            int last, slot;
+            int curr;
+            for(;;) {
+                pos = ((last = pos) + 1) & mask;
+                for(;;) {
+                    if((curr = key[pos]) == 0) {
+                        key[last] = 0;
+                        value[last] = null;
+                        return;
+                    }
+                    slot = mix(curr) & mask;
+                    // move curr back only if its home slot is not cyclically within (last, pos]
+                    if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                    pos = (pos + 1) & mask;
+                }
+                key[last] = curr;
+                value[last] = value[pos];
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void rehash(int newN) {
+            final int[] key = keys;
+            final V[] value = values;
+            final int[] newKey = new int[newN + 1];
+            final V[] newValue = (V[]) new Object[newN + 1];
+            final int newMask = newN - 1;
+            for(int i = n, j = containsZero ? size - 1 : size; j-- != 0;) {
+                while(key[--i] == 0);
+                int pos;
+                if(newKey[pos = mix(key[i]) & newMask] != 0) while(newKey[pos = (pos + 1) & newMask] != 0);
+                newKey[pos] = key[i];
+                newValue[pos] = value[i];
+            }
+            newValue[newN] = value[n];
+            n = newN;
+            mask = newMask;
+            maxFill = maxFill(newN, loadFactor);
+            keys = newKey;
+            values = newValue;
+        }
+
+        /**
+         * Ensures that this map can hold at least {@code expected} mappings
+         * without rehashing.
+         * @param expected the expected number of mappings
+         */
+        public void ensureCapacity(int expected) {
+            int newN = tableSize(expected, loadFactor);
+            if(newN > n) rehash(newN);
+        }
+
+        /**
+         * Shrinks the table to the smallest size able to hold the current
+         * mappings under the load factor.
+         */
+        public void trimToSize() {
+            int newN = tableSize(size, loadFactor);
+            if(newN < n) rehash(newN);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public V getInt(int key) {
+            final int k = key;
+            if(k == 0) return containsZero ? values[n] : null;
+            final int[] kk = keys;
+            int curr;
+            int pos;
+            if((curr = kk[pos = mix(k) & mask]) == 0) return null;
+            if(k == curr) return values[pos];
+            while(true) {
+                if((curr = kk[pos = (pos + 1) & mask]) == 0) return null;
+                if(k == curr) return values[pos];
+            }
+        }
+
+        @Override
+        public V get(Object key) { return (key instanceof java.lang.Integer k) ? getInt(k) : null; }
+
+        @Override
+        public V getOrDefault(Object key, V defaultValue) {
+            if(!(key instanceof java.lang.Integer k)) return defaultValue;
+            int pos = find(k);
+            return pos < 0 ? defaultValue : values[pos];
+        }
+
+        @Override
+        public boolean containsKeyInt(int key) { return find(key) >= 0; }
+
+        @Override
+        public boolean containsKey(Object key) { return (key instanceof java.lang.Integer k) ? containsKeyInt(k) : false; }
+
+        @Override
+        public boolean containsValue(Object value) {
+            final int[] key = keys;
+            final V[] vals = values;
+            if(containsZero && Objects.equals(vals[n], value)) return true;
+            for(int i = n; i-- != 0;) if(key[i] != 0 && Objects.equals(vals[i], value)) return true;
+            return false;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public V putInt(int key, V value) {
+            final int k = key;
+            int pos = find(k);
+            if(pos < 0) {
+                insert(-pos - 1, k, value);
+                return null;
+            }
+            V oldValue = values[pos];
+            values[pos] = value;
+            return oldValue;
+        }
+
+        @Override
+        public V put(java.lang.Integer key, V value) { return putInt(key, value); }
+
+        @Override
+        public V removeInt(int key) {
+            int pos = find(key);
+            return pos < 0 ? null : removeEntry(pos);
+        }
+
+        @Override
+        public V remove(Object key) { return (key instanceof java.lang.Integer k) ? removeInt(k) : null; }
+
+        @Override
+        public V computeIfAbsentInt(int key, PrimitiveFunction.OfInt<? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            final int k = key;
+            int pos = find(k);
+            V oldValue;
+            if(pos >= 0 && (oldValue = values[pos]) != null) return oldValue;
+            int mc = modCount;
+            V v = mappingFunction.apply(key);
+            if(mc != modCount) throw new ConcurrentModificationException();
+            if(v == null) return null;
+            if(pos >= 0) values[pos] = v;
+            else insert(-pos - 1, k, v);
+            return v;
+        }
+
+        @Override
+        public V computeIfAbsent(java.lang.Integer key, Function<? super java.lang.Integer, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            return computeIfAbsentInt(key, (PrimitiveFunction.OfInt<? extends V>) mappingFunction::apply);
+        }
+
+        @Override
+        public void putAll(Map<? extends java.lang.Integer, ? extends V> m) {
+            if(loadFactor <= .5f) ensureCapacity(m.size());
+            else ensureCapacity(size + m.size());
+            super.putAll(m);
+        }
+
+        @Override
+        public void clear() {
+            if(size == 0) return;
+            modCount++;
+            size = 0;
+            containsZero = false;
+            Arrays.fill(keys, 0);
+            Arrays.fill(values, null);
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super java.lang.Integer, ? super V> action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final int[] key = keys;
+            final V[] value = values;
+            if(containsZero) action.accept(0, value[n]);
+            for(int i = n; i-- != 0 && modCount == expectedModCount;) if(key[i] != 0) action.accept(key[i], value[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Views
+
+        /**
+         * Returns a {@link PrimitiveSet.OfInt} view of the keys contained in this map.
+         * The set is backed by the map and supports element removal.
+         * @return a set view of the keys contained in this map
+         */
+        @Override
+        public PrimitiveSet.OfInt keySet() {
+            PrimitiveSet.OfInt ks;
+            return (ks = keySetView) == null ? (keySetView = new KeySet()) : ks;
+        }
+
+        @Override
+        public Collection<V> values() {
+            Collection<V> vs;
+            return (vs = valuesView) == null ? (valuesView = new Values()) : vs;
+        }
+
+        @Override
+        public Set<Map.Entry<java.lang.Integer, V>> entrySet() {
+            Set<Map.Entry<java.lang.Integer, V>> es;
+            return (es = entrySetView) == null ? (entrySetView = new EntrySet()) : es;
+        }
+
+        private final class KeySet extends PrimitiveAbstractSet.OfInt {
+            public int size() { return size; }
+            public void clear() { PrimitiveHashMap.OfInt.this.clear(); }
+            public PrimitiveIterator.OfInt iteratorInt() { return new KeyIterator(); }
+            public boolean containsInt(int k) { return containsKeyInt(k); }
+            public boolean removeInt(int k) {
+                int pos = find(k);
+                if(pos < 0) return false;
+                removeEntry(pos);
+                return true;
+            }
+        }
+
+        private final class Values extends AbstractCollection<V> {
+            public int size() { return size; }
+            public void clear() { PrimitiveHashMap.OfInt.this.clear(); }
+            public Iterator<V> iterator() { return new ValueIterator(); }
+            public boolean contains(Object o) { return containsValue(o); }
+        }
+
+        private final class EntrySet extends AbstractSet<Map.Entry<java.lang.Integer, V>> {
+            public int size() { return size; }
+            public void clear() { PrimitiveHashMap.OfInt.this.clear(); }
+            public Iterator<Map.Entry<java.lang.Integer, V>> iterator() { return new EntryIterator(); }
+            public boolean contains(Object o) {
+                if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Integer k)) return false;
+                int pos = find(k);
+                return pos >= 0 && Objects.equals(values[pos], e.getValue());
+            }
+            public boolean remove(Object o) {
+                if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Integer k)) return false;
+                int pos = find(k);
+                if(pos < 0 || !Objects.equals(values[pos], e.getValue())) return false;
+                removeEntry(pos);
+                return true;
+            }
+        }
+
+        /**
+         * An entry bound to a table slot. The key is captured when the entry is
+         * created, the value is read and written through the map's value table.
+         */
+        private final class MapEntry implements PrimitiveEntry.OfInt<V> {
+            private final int index;
+            private final int key;
+            MapEntry(int index) {
+                this.index = index;
+                this.key = keys[index];
+            }
+            public int getKeyInt() { return key; }
+            public V getValue() { return values[index]; }
+            public V setValue(V v) {
+                V oldValue = values[index];
+                values[index] = v;
+                return oldValue;
+            }
+            @Override
+            public boolean equals(Object o) {
+                if(!(o instanceof Map.Entry<?, ?> e)) return false;
+                return getKey().equals(e.getKey()) && Objects.equals(values[index], e.getValue());
+            }
+            @Override
+            public int hashCode() { return java.lang.Integer.hashCode(getKeyInt()) ^ Objects.hashCode(values[index]); }
+            @Override
+            public String toString() { return getKeyInt() + "=" + values[index]; }
+        }
+
+        /**
+         * Walks the table slots. The zero key comes first; the remaining slots are
+         * scanned starting just after a free slot, so no probe run straddles the
+         * starting point and backward shifts caused by {@link #remove()} only ever
+         * pull entries from slots not reached yet.
+         */
+        private abstract class SlotIterator {
+            final int start;
+            int remaining;
+            int cursor;
+            int lastRet = -1;
+            boolean zeroPending = containsZero;
+            int count = size;
+            int expectedModCount = modCount;
+
+            SlotIterator() {
+                final int[] key = keys;
+                int s = 0;
+                while(key[s] != 0) s++;
+                start = s;
+                remaining = n;
+            }
+
+            public boolean hasNext() { return count != 0; }
+
+            final int nextSlot() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(count == 0) throw new NoSuchElementException();
+                count--;
+                if(zeroPending) {
+                    zeroPending = false;
+                    return lastRet = n;
+                }
+                final int[] key = keys;
+                for(;;) {
+                    if(remaining-- == 0) throw new ConcurrentModificationException();
+                    int pos = (start + cursor++) & mask;
+                    if(key[pos] != 0) return lastRet = pos;
+                }
+            }
+
+            public void remove() {
+                if(lastRet == -1) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                removeEntry(lastRet);
+                // rescan the vacated slot, an unvisited entry may have been moved into it
+                if(lastRet != n && keys[lastRet] != 0) {
+                    cursor--;
+                    remaining++;
+                }
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfInt {
+            public int nextInt() { return keys[nextSlot()]; }
+        }
+
+        private final class ValueIterator extends SlotIterator implements Iterator<V> {
+            public V next() { return values[nextSlot()]; }
+        }
+
+        private final class EntryIterator extends SlotIterator implements Iterator<Map.Entry<java.lang.Integer, V>> {
+            public Map.Entry<java.lang.Integer, V> next() { return new MapEntry(nextSlot()); }
+        }
+
+        ///////////// Copying
+
+        /**
+         * Returns a shallow copy of this map; the keys and values themselves are not cloned.
+         * @return a shallow copy of this map
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public PrimitiveHashMap.OfInt<V> clone() {
+            try {
+                var c = (PrimitiveHashMap.OfInt<V>) super.clone();
+                c.keys = keys.clone();
+                c.values = values.clone();
+                c.keySetView = null;
+                c.valuesView = null;
+                c.entrySetView = null;
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+
+        /**
+         * An open-addressing hash map from {@code int} keys to {@code long} values.
+         * <p>
+         * Keys and values are stored unboxed in two flat parallel arrays of a
+         * power-of-two length plus one trailing slot. Collisions are resolved by
+         * linear probing and removals use backward-shift deletion. A key slot holding
+         * {@code 0} is free, and the key {@code 0} itself lives in the trailing slot.
+         * <p>
+         * {@link #getOrDefaultInt(int, long)}, {@link #putInt(int, long)}, {@link #addToInt(int, long)},
+         * {@link #removeOrDefaultInt(int, long)} and {@link #entryCursor()} never box. The
+         * iterators of the views of this class are <i>fail-fast</i>.
+         */
+        public static class AndLong extends AbstractMap<java.lang.Integer, java.lang.Long> implements PrimitiveMap.OfInt.AndLong, Cloneable {
+            /** The key table; {@code 0} marks a free slot and slot {@code n} holds the key {@code 0}. */
+            private transient int[] keys;
+            /** The value table, parallel to {@link #keys}. */
+            private transient long[] vals;
+            /** Whether the key {@code 0} is present. */
+            private transient boolean containsZero;
+            /** The table length {@code n}, a power of two. */
+            private transient int n;
+            /** {@code n - 1}. */
+            private transient int mask;
+            /** The number of mappings, including the one for the key {@code 0} if present. */
+            private int size;
+            /** The number of table slots that may be occupied before the table is doubled. */
+            private transient int maxFill;
+            /** The load factor of the table. */
+            private final float loadFactor;
+            /** The number of times this map has been structurally modified. */
+            private transient int modCount;
+
+            private transient PrimitiveSet.OfInt keySetView;
+            private transient Collection<java.lang.Long> valuesView;
+            private transient Set<Map.Entry<java.lang.Integer, java.lang.Long>> entrySetView;
+
+            /**
+             * Constructs an empty map able to hold {@code expected} mappings
+             * without rehashing, using the given load factor.
+             * @param expected the expected number of mappings
+             * @param loadFactor the load factor, in the range (0, 1)
+             * @throws IllegalArgumentException if {@code expected} is negative or
+             *         {@code loadFactor} is not in (0, 1)
+             */
+            public AndLong(int expected, float loadFactor) {
+                if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+                if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+                this.loadFactor = loadFactor;
+                n = tableSize(expected, loadFactor);
+                mask = n - 1;
+                maxFill = maxFill(n, loadFactor);
+                keys = new int[n + 1];
+                vals = new long[n + 1];
+            }
+
+            /**
+             * Constructs an empty map able to hold {@code expected} mappings
+             * without rehashing, using the default load factor.
+             * @param expected the expected number of mappings
+             */
+            public AndLong(int expected) { this(expected, DEFAULT_LOAD_FACTOR); }
+
+            /**
+             * Constructs an empty map with the default capacity and load factor.
+             */
+            public AndLong() { this(DEFAULT_EXPECTED, DEFAULT_LOAD_FACTOR); }
+
+            ///////////// Probing
+
+            /**
+             * Returns the slot of the specified key, or {@code -(slot + 1)} for
+             * the free slot at which it would be inserted.
+             */
+            private int find(int k) {
+                if(k == 0) return containsZero ? n : -(n + 1);
+                final int[] key = keys;
+                int curr;
+                int pos;
+                if((curr = key[pos = mix(k) & mask]) == 0) return -(pos + 1);
+                if(k == curr) return pos;
+                while(true) {
+                    if((curr = key[pos = (pos + 1) & mask]) == 0) return -(pos + 1);
+                    if(k == curr) return pos;
+                }
+            }
+
+            private void insert(int pos, int k, long v) {
+                if(pos == n) containsZero = true;
+                keys[pos] = k;
+                vals[pos] = v;
+                modCount++;
+                if(size++ >= maxFill) rehash(tableSize(size + 1, loadFactor));
+            }
+
+            private long removeEntry(int pos) {
+                long oldValue = vals[pos];
+                modCount++;
+                size--;
+                if(pos == n) containsZero = false;
+                else shiftKeys(pos);
+                return oldValue;
+            }
+
+            /**
+             * Closes the gap left at {@code pos} by moving back every following entry
+             * of the probe run that would otherwise become unreachable.
+             */
+            private void shiftKeys(int pos) {
+                final int[] key = keys;
+                final long[] value = vals;
+                int last, slot;
+                int curr;
+                for(;;) {
+                    pos = ((last = pos) + 1) & mask;
+                    for(;;) {
+                        if((curr = key[pos]) == 0) {
+                            key[last] = 0;
+                            return;
+                        }
+                        slot = mix(curr) & mask;
+                        // move curr back only if its home slot is not cyclically within (last, pos]
+                        if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                        pos = (pos + 1) & mask;
+                    }
+                    key[last] = curr;
+                    value[last] = value[pos];
+                }
+            }
+
+            private void rehash(int newN) {
+                final int[] key = keys;
+                final long[] value = vals;
+                final int[] newKey = new int[newN + 1];
+                final long[] newValue = new long[newN + 1];
+                final int newMask = newN - 1;
+                for(int i = n, j = containsZero ? size - 1 : size; j-- != 0;) {
+                    while(key[--i] == 0);
+                    int pos;
+                    if(newKey[pos = mix(key[i]) & newMask] != 0) while(newKey[pos = (pos + 1) & newMask] != 0);
+                    newKey[pos] = key[i];
+                    newValue[pos] = value[i];
+                }
+                newValue[newN] = value[n];
+                n = newN;
+                mask = newMask;
+                maxFill = maxFill(newN, loadFactor);
+                keys = newKey;
+                vals = newValue;
+            }
+
+            /**
+             * Ensures that this map can hold at least {@code expected} mappings
+             * without rehashing.
+             * @param expected the expected number of mappings
+             */
+            public void ensureCapacity(int expected) {
+                int newN = tableSize(expected, loadFactor);
+                if(newN > n) rehash(newN);
+            }
+
+            /**
+             * Shrinks the table to the smallest size able to hold the current
+             * mappings under the load factor.
+             */
+            public void trimToSize() {
+                int newN = tableSize(size, loadFactor);
+                if(newN < n) rehash(newN);
+            }
+
+            ///////////// Query operations
+
+            @Override
+            public int size() { return size; }
+
+            @Override
+            public boolean isEmpty() { return size == 0; }
+
+            @Override
+            public long getOrDefaultInt(int k, long defaultValue) {
+                if(k == 0) return containsZero ? vals[n] : defaultValue;
+                final int[] key = keys;
+                int curr;
+                int pos;
+                if((curr = key[pos = mix(k) & mask]) == 0) return defaultValue;
+                if(k == curr) return vals[pos];
+                while(true) {
+                    if((curr = key[pos = (pos + 1) & mask]) == 0) return defaultValue;
+                    if(k == curr) return vals[pos];
+                }
+            }
+
+            @Override
+            public java.lang.Long getInt(int key) {
+                int pos = find(key);
+                return pos < 0 ? null : vals[pos];
+            }
+
+            @Override
+            public java.lang.Long get(Object key) { return (key instanceof java.lang.Integer k) ? getInt(k) : null; }
+
+            @Override
+            public java.lang.Long getOrDefault(Object key, java.lang.Long defaultValue) {
+                if(!(key instanceof java.lang.Integer k)) return defaultValue;
+                int pos = find(k);
+                return pos < 0 ? defaultValue : vals[pos];
+            }
+
+            @Override
+            public boolean containsKeyInt(int key) { return find(key) >= 0; }
+
+            @Override
+            public boolean containsKey(Object key) { return (key instanceof java.lang.Integer k) ? containsKeyInt(k) : false; }
+
+            @Override
+            public boolean containsValueLong(long value) {
+                final int[] key = keys;
+                final long[] value_ = vals;
+                if(containsZero && value_[n] == value) return true;
+                for(int i = n; i-- != 0;) if(key[i] != 0 && value_[i] == value) return true;
+                return false;
+            }
+
+            @Override
+            public boolean containsValue(Object value) { return (value instanceof java.lang.Long v) ? containsValueLong(v) : false; }
+
+            ///////////// Modification operations
+
+            @Override
+            public long putInt(int key, long value) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, value);
+                    return 0;
+                }
+                long oldValue = vals[pos];
+                vals[pos] = value;
+                return oldValue;
+            }
+
+            @Override
+            public java.lang.Long putInt(int key, java.lang.Long value) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, value);
+                    return null;
+                }
+                long oldValue = vals[pos];
+                vals[pos] = value;
+                return oldValue;
+            }
+
+            @Override
+            public java.lang.Long put(java.lang.Integer key, java.lang.Long value) { return putInt((int) key, value); }
+
+            @Override
+            public long addToInt(int key, long increment) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, increment);
+                    return increment;
+                }
+                return vals[pos] += increment;
+            }
+
+            @Override
+            public long removeOrDefaultInt(int key, long defaultValue) {
+                int pos = find(key);
+                return pos < 0 ? defaultValue : removeEntry(pos);
+            }
+
+            @Override
+            public java.lang.Long removeInt(int key) {
+                int pos = find(key);
+                return pos < 0 ? null : removeEntry(pos);
+            }
+
+            @Override
+            public java.lang.Long remove(Object key) { return (key instanceof java.lang.Integer k) ? removeInt(k) : null; }
+
+            @Override
+            public java.lang.Long computeIfAbsentInt(int key, PrimitiveFunction.OfInt<? extends java.lang.Long> mappingFunction) {
+                Objects.requireNonNull(mappingFunction);
+                int pos = find(key);
+                if(pos >= 0) return vals[pos];
+                int mc = modCount;
+                java.lang.Long v = mappingFunction.apply(key);
+                if(mc != modCount) throw new ConcurrentModificationException();
+                if(v == null) return null;
+                insert(-pos - 1, key, v);
+                return v;
+            }
+
+            @Override
+            public java.lang.Long computeIfAbsent(java.lang.Integer key, Function<? super java.lang.Integer, ? extends java.lang.Long> mappingFunction) {
+                Objects.requireNonNull(mappingFunction);
+                return computeIfAbsentInt(key, (PrimitiveFunction.OfInt<? extends java.lang.Long>) mappingFunction::apply);
+            }
+
+            @Override
+            public void putAll(Map<? extends java.lang.Integer, ? extends java.lang.Long> m) {
+                if(loadFactor <= .5f) ensureCapacity(m.size());
+                else ensureCapacity(size + m.size());
+                super.putAll(m);
+            }
+
+            @Override
+            public void clear() {
+                if(size == 0) return;
+                modCount++;
+                size = 0;
+                containsZero = false;
+                Arrays.fill(keys, 0);
+            }
+
+            @Override
+            public void forEachInt(PrimitiveBiConsumer.OfInt.AndLong action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final int[] key = keys;
+                final long[] value = vals;
+                if(containsZero) action.acceptInt(0, value[n]);
+                for(int i = n; i-- != 0 && modCount == expectedModCount;) if(key[i] != 0) action.acceptInt(key[i], value[i]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public void forEach(BiConsumer<? super java.lang.Integer, ? super java.lang.Long> action) {
+                Objects.requireNonNull(action);
+                forEachInt(action::accept);
+            }
+
+            ///////////// Views
+
+            /**
+             * Returns a {@link PrimitiveSet.OfInt} view of the keys contained in this map.
+             * The set is backed by the map and supports element removal.
+             * @return a set view of the keys contained in this map
+             */
+            @Override
+            public PrimitiveSet.OfInt keySet() {
+                PrimitiveSet.OfInt ks;
+                return (ks = keySetView) == null ? (keySetView = new KeySet()) : ks;
+            }
+
+            @Override
+            public Collection<java.lang.Long> values() {
+                Collection<java.lang.Long> vs;
+                return (vs = valuesView) == null ? (valuesView = new Values()) : vs;
+            }
+
+            @Override
+            public Set<Map.Entry<java.lang.Integer, java.lang.Long>> entrySet() {
+                Set<Map.Entry<java.lang.Integer, java.lang.Long>> es;
+                return (es = entrySetView) == null ? (entrySetView = new EntrySet()) : es;
+            }
+
+            @Override
+            public Iterator<PrimitiveEntry.OfInt.AndLong> entryCursor() { return new CursorIterator(); }
+
+            private final class KeySet extends PrimitiveAbstractSet.OfInt {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfInt.AndLong.this.clear(); }
+                public PrimitiveIterator.OfInt iteratorInt() { return new KeyIterator(); }
+                public boolean containsInt(int k) { return containsKeyInt(k); }
+                public boolean removeInt(int k) {
+                    int pos = find(k);
+                    if(pos < 0) return false;
+                    removeEntry(pos);
+                    return true;
+                }
+            }
+
+            private final class Values extends AbstractCollection<java.lang.Long> {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfInt.AndLong.this.clear(); }
+                public Iterator<java.lang.Long> iterator() { return new ValueIterator(); }
+                public boolean contains(Object o) { return containsValue(o); }
+            }
+
+            private final class EntrySet extends AbstractSet<Map.Entry<java.lang.Integer, java.lang.Long>> {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfInt.AndLong.this.clear(); }
+                public Iterator<Map.Entry<java.lang.Integer, java.lang.Long>> iterator() { return new EntryIterator(); }
+                public boolean contains(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Integer k) || !(e.getValue() instanceof java.lang.Long v)) return false;
+                    int pos = find(k);
+                    return pos >= 0 && vals[pos] == v;
+                }
+                public boolean remove(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Integer k) || !(e.getValue() instanceof java.lang.Long v)) return false;
+                    int pos = find(k);
+                    if(pos < 0 || !(vals[pos] == v)) return false;
+                    removeEntry(pos);
+                    return true;
+                }
+            }
+
+            /**
+             * An entry positioned on a table slot, reading and writing the map's arrays
+             * directly. Entries handed out by {@link #entrySet()} keep their slot, the
+             * one handed out by {@link #entryCursor()} is moved along by its iterator.
+             */
+            private final class MapEntry implements PrimitiveEntry.OfInt.AndLong {
+                int index;
+                int key;
+                MapEntry(int index) { at(index); }
+                MapEntry at(int index) {
+                    this.index = index;
+                    this.key = keys[index];
+                    return this;
+                }
+                public int getKeyInt() { return key; }
+                public long getValueLong() { return vals[index]; }
+                public long setValueLong(long v) {
+                    long oldValue = vals[index];
+                    vals[index] = v;
+                    return oldValue;
+                }
+                @Override
+                public boolean equals(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e)) return false;
+                    return e.getKey() instanceof java.lang.Integer k && k == key && e.getValue() instanceof java.lang.Long v && vals[index] == v;
+                }
+                @Override
+                public int hashCode() { return java.lang.Integer.hashCode(key) ^ java.lang.Long.hashCode(vals[index]); }
+                @Override
+                public String toString() { return key + "=" + vals[index]; }
+            }
+
+            /**
+             * Walks the table slots. The key {@code 0} comes first; the remaining slots
+             * are scanned starting just after a free slot, so no probe run straddles the
+             * starting point and backward shifts caused by {@link #remove()} only ever
+             * pull entries from slots not reached yet.
+             */
+            private abstract class SlotIterator {
+                final int start;
+                int remaining;
+                int cursor;
+                int lastRet = -1;
+                boolean zeroPending = containsZero;
+                int count = size;
+                int expectedModCount = modCount;
+
+                SlotIterator() {
+                    final int[] key = keys;
+                    int s = 0;
+                    while(key[s] != 0) s++;
+                    start = s;
+                    remaining = n;
+                }
+
+                public boolean hasNext() { return count != 0; }
+
+                final int nextSlot() {
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    if(count == 0) throw new NoSuchElementException();
+                    count--;
+                    if(zeroPending) {
+                        zeroPending = false;
+                        return lastRet = n;
+                    }
+                    final int[] key = keys;
+                    for(;;) {
+                        if(remaining-- == 0) throw new ConcurrentModificationException();
+                        int pos = (start + cursor++) & mask;
+                        if(key[pos] != 0) return lastRet = pos;
+                    }
+                }
+
+                public void remove() {
+                    if(lastRet == -1) throw new IllegalStateException();
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    removeEntry(lastRet);
+                    // rescan the vacated slot, an unvisited entry may have been moved into it
+                    if(lastRet != n && keys[lastRet] != 0) {
+                        cursor--;
+                        remaining++;
+                    }
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                }
+            }
+
+            private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfInt {
+                public int nextInt() { return keys[nextSlot()]; }
+            }
+
+            private final class ValueIterator extends SlotIterator implements Iterator<java.lang.Long> {
+                public java.lang.Long next() { return vals[nextSlot()]; }
+            }
+
+            private final class EntryIterator extends SlotIterator implements Iterator<Map.Entry<java.lang.Integer, java.lang.Long>> {
+                public Map.Entry<java.lang.Integer, java.lang.Long> next() { return new MapEntry(nextSlot()); }
+            }
+
+            private final class CursorIterator extends SlotIterator implements Iterator<PrimitiveEntry.OfInt.AndLong> {
+                private MapEntry entry;
+                public PrimitiveEntry.OfInt.AndLong next() {
+                    int slot = nextSlot();
+                    return entry == null ? (entry = new MapEntry(slot)) : entry.at(slot);
+                }
+            }
+
+            ///////////// Copying
+
+            /**
+             * Returns a copy of this map.
+             * @return a copy of this map
+             */
+            @Override
+            public PrimitiveHashMap.OfInt.AndLong clone() {
+                try {
+                    var c = (PrimitiveHashMap.OfInt.AndLong) super.clone();
+                    c.keys = keys.clone();
+                    c.vals = vals.clone();
+                    c.keySetView = null;
+                    c.valuesView = null;
+                    c.entrySetView = null;
+                    c.modCount = 0;
+                    return c;
+                } catch (CloneNotSupportedException e) {
+                    throw new InternalError(e);
+                }
+            }
+        }
+
+        /**
+         * An open-addressing hash map from {@code int} keys to {@code int} values.
+         * <p>
+         * Keys and values are stored unboxed in two flat parallel arrays of a
+         * power-of-two length plus one trailing slot. Collisions are resolved by
+         * linear probing and removals use backward-shift deletion. A key slot holding
+         * {@code 0} is free, and the key {@code 0} itself lives in the trailing slot.
+         * <p>
+         * {@link #getOrDefaultInt(int, int)}, {@link #putInt(int, int)}, {@link #addToInt(int, int)},
+         * {@link #removeOrDefaultInt(int, int)} and {@link #entryCursor()} never box. The
+         * iterators of the views of this class are <i>fail-fast</i>.
+         */
+        public static class AndInt extends AbstractMap<java.lang.Integer, java.lang.Integer> implements PrimitiveMap.OfInt.AndInt, Cloneable {
+            /** The key table; {@code 0} marks a free slot and slot {@code n} holds the key {@code 0}. */
+            private transient int[] keys;
+            /** The value table, parallel to {@link #keys}. */
+            private transient int[] vals;
+            /** Whether the key {@code 0} is present. */
+            private transient boolean containsZero;
+            /** The table length {@code n}, a power of two. */
+            private transient int n;
+            /** {@code n - 1}. */
+            private transient int mask;
+            /** The number of mappings, including the one for the key {@code 0} if present. */
+            private int size;
+            /** The number of table slots that may be occupied before the table is doubled. */
+            private transient int maxFill;
+            /** The load factor of the table. */
+            private final float loadFactor;
+            /** The number of times this map has been structurally modified. */
+            private transient int modCount;
+
+            private transient PrimitiveSet.OfInt keySetView;
+            private transient Collection<java.lang.Integer> valuesView;
+            private transient Set<Map.Entry<java.lang.Integer, java.lang.Integer>> entrySetView;
+
+            /**
+             * Constructs an empty map able to hold {@code expected} mappings
+             * without rehashing, using the given load factor.
+             * @param expected the expected number of mappings
+             * @param loadFactor the load factor, in the range (0, 1)
+             * @throws IllegalArgumentException if {@code expected} is negative or
+             *         {@code loadFactor} is not in (0, 1)
+             */
+            public AndInt(int expected, float loadFactor) {
+                if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+                if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+                this.loadFactor = loadFactor;
+                n = tableSize(expected, loadFactor);
+                mask = n - 1;
+                maxFill = maxFill(n, loadFactor);
+                keys = new int[n + 1];
+                vals = new int[n + 1];
+            }
+
+            /**
+             * Constructs an empty map able to hold {@code expected} mappings
+             * without rehashing, using the default load factor.
+             * @param expected the expected number of mappings
+             */
+            public AndInt(int expected) { this(expected, DEFAULT_LOAD_FACTOR); }
+
+            /**
+             * Constructs an empty map with the default capacity and load factor.
+             */
+            public AndInt() { this(DEFAULT_EXPECTED, DEFAULT_LOAD_FACTOR); }
+
+            ///////////// Probing
+
+            /**
+             * Returns the slot of the specified key, or {@code -(slot + 1)} for
+             * the free slot at which it would be inserted.
+             */
+            private int find(int k) {
+                if(k == 0) return containsZero ? n : -(n + 1);
+                final int[] key = keys;
+                int curr;
+                int pos;
+                if((curr = key[pos = mix(k) & mask]) == 0) return -(pos + 1);
+                if(k == curr) return pos;
+                while(true) {
+                    if((curr = key[pos = (pos + 1) & mask]) == 0) return -(pos + 1);
+                    if(k == curr) return pos;
+                }
+            }
+
+            private void insert(int pos, int k, int v) {
+                if(pos == n) containsZero = true;
+                keys[pos] = k;
+                vals[pos] = v;
+                modCount++;
+                if(size++ >= maxFill) rehash(tableSize(size + 1, loadFactor));
+            }
+
+            private int removeEntry(int pos) {
+                int oldValue = vals[pos];
+                modCount++;
+                size--;
+                if(pos == n) containsZero = false;
+                else shiftKeys(pos);
+                return oldValue;
+            }
+
+            /**
+             * Closes the gap left at {@code pos} by moving back every following entry
+             * of the probe run that would otherwise become unreachable.
+             */
+            private void shiftKeys(int pos) {
+                final int[] key = keys;
+                final int[] value = vals;
+                int last, slot;
+                int curr;
+                for(;;) {
+                    pos = ((last = pos) + 1) & mask;
+                    for(;;) {
+                        if((curr = key[pos]) == 0) {
+                            key[last] = 0;
+                            return;
+                        }
+                        slot = mix(curr) & mask;
+                        // move curr back only if its home slot is not cyclically within (last, pos]
+                        if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                        pos = (pos + 1) & mask;
+                    }
+                    key[last] = curr;
+                    value[last] = value[pos];
+                }
+            }
+
+            private void rehash(int newN) {
+                final int[] key = keys;
+                final int[] value = vals;
+                final int[] newKey = new int[newN + 1];
+                final int[] newValue = new int[newN + 1];
+                final int newMask = newN - 1;
+                for(int i = n, j = containsZero ? size - 1 : size; j-- != 0;) {
+                    while(key[--i] == 0);
+                    int pos;
+                    if(newKey[pos = mix(key[i]) & newMask] != 0) while(newKey[pos = (pos + 1) & newMask] != 0);
+                    newKey[pos] = key[i];
+                    newValue[pos] = value[i];
+                }
+                newValue[newN] = value[n];
+                n = newN;
+                mask = newMask;
+                maxFill = maxFill(newN, loadFactor);
+                keys = newKey;
+                vals = newValue;
+            }
+
+            /**
+             * Ensures that this map can hold at least {@code expected} mappings
+             * without rehashing.
+             * @param expected the expected number of mappings
+             */
+            public void ensureCapacity(int expected) {
+                int newN = tableSize(expected, loadFactor);
+                if(newN > n) rehash(newN);
+            }
+
+            /**
+             * Shrinks the table to the smallest size able to hold the current
+             * mappings under the load factor.
+             */
+            public void trimToSize() {
+                int newN = tableSize(size, loadFactor);
+                if(newN < n) rehash(newN);
+            }
+
+            ///////////// Query operations
+
+            @Override
+            public int size() { return size; }
+
+            @Override
+            public boolean isEmpty() { return size == 0; }
+
+            @Override
+            public int getOrDefaultInt(int k, int defaultValue) {
+                if(k == 0) return containsZero ? vals[n] : defaultValue;
+                final int[] key = keys;
+                int curr;
+                int pos;
+                if((curr = key[pos = mix(k) & mask]) == 0) return defaultValue;
+                if(k == curr) return vals[pos];
+                while(true) {
+                    if((curr = key[pos = (pos + 1) & mask]) == 0) return defaultValue;
+                    if(k == curr) return vals[pos];
+                }
+            }
+
+            @Override
+            public java.lang.Integer getInt(int key) {
+                int pos = find(key);
+                return pos < 0 ? null : vals[pos];
+            }
+
+            @Override
+            public java.lang.Integer get(Object key) { return (key instanceof java.lang.Integer k) ? getInt(k) : null; }
+
+            @Override
+            public java.lang.Integer getOrDefault(Object key, java.lang.Integer defaultValue) {
+                if(!(key instanceof java.lang.Integer k)) return defaultValue;
+                int pos = find(k);
+                return pos < 0 ? defaultValue : vals[pos];
+            }
+
+            @Override
+            public boolean containsKeyInt(int key) { return find(key) >= 0; }
+
+            @Override
+            public boolean containsKey(Object key) { return (key instanceof java.lang.Integer k) ? containsKeyInt(k) : false; }
+
+            @Override
+            public boolean containsValueInt(int value) {
+                final int[] key = keys;
+                final int[] value_ = vals;
+                if(containsZero && value_[n] == value) return true;
+                for(int i = n; i-- != 0;) if(key[i] != 0 && value_[i] == value) return true;
+                return false;
+            }
+
+            @Override
+            public boolean containsValue(Object value) { return (value instanceof java.lang.Integer v) ? containsValueInt(v) : false; }
+
+            ///////////// Modification operations
+
+            @Override
+            public int putInt(int key, int value) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, value);
+                    return 0;
+                }
+                int oldValue = vals[pos];
+                vals[pos] = value;
+                return oldValue;
+            }
+
+            @Override
+            public java.lang.Integer putInt(int key, java.lang.Integer value) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, value);
+                    return null;
+                }
+                int oldValue = vals[pos];
+                vals[pos] = value;
+                return oldValue;
+            }
+
+            @Override
+            public java.lang.Integer put(java.lang.Integer key, java.lang.Integer value) { return putInt((int) key, value); }
+
+            @Override
+            public int addToInt(int key, int increment) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, increment);
+                    return increment;
+                }
+                return vals[pos] += increment;
+            }
+
+            @Override
+            public int removeOrDefaultInt(int key, int defaultValue) {
+                int pos = find(key);
+                return pos < 0 ? defaultValue : removeEntry(pos);
+            }
+
+            @Override
+            public java.lang.Integer removeInt(int key) {
+                int pos = find(key);
+                return pos < 0 ? null : removeEntry(pos);
+            }
+
+            @Override
+            public java.lang.Integer remove(Object key) { return (key instanceof java.lang.Integer k) ? removeInt(k) : null; }
+
+            @Override
+            public java.lang.Integer computeIfAbsentInt(int key, PrimitiveFunction.OfInt<? extends java.lang.Integer> mappingFunction) {
+                Objects.requireNonNull(mappingFunction);
+                int pos = find(key);
+                if(pos >= 0) return vals[pos];
+                int mc = modCount;
+                java.lang.Integer v = mappingFunction.apply(key);
+                if(mc != modCount) throw new ConcurrentModificationException();
+                if(v == null) return null;
+                insert(-pos - 1, key, v);
+                return v;
+            }
+
+            @Override
+            public java.lang.Integer computeIfAbsent(java.lang.Integer key, Function<? super java.lang.Integer, ? extends java.lang.Integer> mappingFunction) {
+                Objects.requireNonNull(mappingFunction);
+                return computeIfAbsentInt(key, (PrimitiveFunction.OfInt<? extends java.lang.Integer>) mappingFunction::apply);
+            }
+
+            @Override
+            public void putAll(Map<? extends java.lang.Integer, ? extends java.lang.Integer> m) {
+                if(loadFactor <= .5f) ensureCapacity(m.size());
+                else ensureCapacity(size + m.size());
+                super.putAll(m);
+            }
+
+            @Override
+            public void clear() {
+                if(size == 0) return;
+                modCount++;
+                size = 0;
+                containsZero = false;
+                Arrays.fill(keys, 0);
+            }
+
+            @Override
+            public void forEachInt(PrimitiveBiConsumer.OfInt.AndInt action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final int[] key = keys;
+                final int[] value = vals;
+                if(containsZero) action.acceptInt(0, value[n]);
+                for(int i = n; i-- != 0 && modCount == expectedModCount;) if(key[i] != 0) action.acceptInt(key[i], value[i]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public void forEach(BiConsumer<? super java.lang.Integer, ? super java.lang.Integer> action) {
+                Objects.requireNonNull(action);
+                forEachInt(action::accept);
+            }
+
+            ///////////// Views
+
+            /**
+             * Returns a {@link PrimitiveSet.OfInt} view of the keys contained in this map.
+             * The set is backed by the map and supports element removal.
+             * @return a set view of the keys contained in this map
+             */
+            @Override
+            public PrimitiveSet.OfInt keySet() {
+                PrimitiveSet.OfInt ks;
+                return (ks = keySetView) == null ? (keySetView = new KeySet()) : ks;
+            }
+
+            @Override
+            public Collection<java.lang.Integer> values() {
+                Collection<java.lang.Integer> vs;
+                return (vs = valuesView) == null ? (valuesView = new Values()) : vs;
+            }
+
+            @Override
+            public Set<Map.Entry<java.lang.Integer, java.lang.Integer>> entrySet() {
+                Set<Map.Entry<java.lang.Integer, java.lang.Integer>> es;
+                return (es = entrySetView) == null ? (entrySetView = new EntrySet()) : es;
+            }
+
+            @Override
+            public Iterator<PrimitiveEntry.OfInt.AndInt> entryCursor() { return new CursorIterator(); }
+
+            private final class KeySet extends PrimitiveAbstractSet.OfInt {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfInt.AndInt.this.clear(); }
+                public PrimitiveIterator.OfInt iteratorInt() { return new KeyIterator(); }
+                public boolean containsInt(int k) { return containsKeyInt(k); }
+                public boolean removeInt(int k) {
+                    int pos = find(k);
+                    if(pos < 0) return false;
+                    removeEntry(pos);
+                    return true;
+                }
+            }
+
+            private final class Values extends AbstractCollection<java.lang.Integer> {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfInt.AndInt.this.clear(); }
+                public Iterator<java.lang.Integer> iterator() { return new ValueIterator(); }
+                public boolean contains(Object o) { return containsValue(o); }
+            }
+
+            private final class EntrySet extends AbstractSet<Map.Entry<java.lang.Integer, java.lang.Integer>> {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfInt.AndInt.this.clear(); }
+                public Iterator<Map.Entry<java.lang.Integer, java.lang.Integer>> iterator() { return new EntryIterator(); }
+                public boolean contains(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Integer k) || !(e.getValue() instanceof java.lang.Integer v)) return false;
+                    int pos = find(k);
+                    return pos >= 0 && vals[pos] == v;
+                }
+                public boolean remove(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Integer k) || !(e.getValue() instanceof java.lang.Integer v)) return false;
+                    int pos = find(k);
+                    if(pos < 0 || !(vals[pos] == v)) return false;
+                    removeEntry(pos);
+                    return true;
+                }
+            }
+
+            /**
+             * An entry positioned on a table slot, reading and writing the map's arrays
+             * directly. Entries handed out by {@link #entrySet()} keep their slot, the
+             * one handed out by {@link #entryCursor()} is moved along by its iterator.
+             */
+            private final class MapEntry implements PrimitiveEntry.OfInt.AndInt {
+                int index;
+                int key;
+                MapEntry(int index) { at(index); }
+                MapEntry at(int index) {
+                    this.index = index;
+                    this.key = keys[index];
+                    return this;
+                }
+                public int getKeyInt() { return key; }
+                public int getValueInt() { return vals[index]; }
+                public int setValueInt(int v) {
+                    int oldValue = vals[index];
+                    vals[index] = v;
+                    return oldValue;
+                }
+                @Override
+                public boolean equals(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e)) return false;
+                    return e.getKey() instanceof java.lang.Integer k && k == key && e.getValue() instanceof java.lang.Integer v && vals[index] == v;
+                }
+                @Override
+                public int hashCode() { return java.lang.Integer.hashCode(key) ^ java.lang.Integer.hashCode(vals[index]); }
+                @Override
+                public String toString() { return key + "=" + vals[index]; }
+            }
+
+            /**
+             * Walks the table slots. The key {@code 0} comes first; the remaining slots
+             * are scanned starting just after a free slot, so no probe run straddles the
+             * starting point and backward shifts caused by {@link #remove()} only ever
+             * pull entries from slots not reached yet.
+             */
+            private abstract class SlotIterator {
+                final int start;
+                int remaining;
+                int cursor;
+                int lastRet = -1;
+                boolean zeroPending = containsZero;
+                int count = size;
+                int expectedModCount = modCount;
+
+                SlotIterator() {
+                    final int[] key = keys;
+                    int s = 0;
+                    while(key[s] != 0) s++;
+                    start = s;
+                    remaining = n;
+                }
+
+                public boolean hasNext() { return count != 0; }
+
+                final int nextSlot() {
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    if(count == 0) throw new NoSuchElementException();
+                    count--;
+                    if(zeroPending) {
+                        zeroPending = false;
+                        return lastRet = n;
+                    }
+                    final int[] key = keys;
+                    for(;;) {
+                        if(remaining-- == 0) throw new ConcurrentModificationException();
+                        int pos = (start + cursor++) & mask;
+                        if(key[pos] != 0) return lastRet = pos;
+                    }
+                }
+
+                public void remove() {
+                    if(lastRet == -1) throw new IllegalStateException();
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    removeEntry(lastRet);
+                    // rescan the vacated slot, an unvisited entry may have been moved into it
+                    if(lastRet != n && keys[lastRet] != 0) {
+                        cursor--;
+                        remaining++;
+                    }
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                }
+            }
+
+            private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfInt {
+                public int nextInt() { return keys[nextSlot()]; }
+            }
+
+            private final class ValueIterator extends SlotIterator implements Iterator<java.lang.Integer> {
+                public java.lang.Integer next() { return vals[nextSlot()]; }
+            }
+
+            private final class EntryIterator extends SlotIterator implements Iterator<Map.Entry<java.lang.Integer, java.lang.Integer>> {
+                public Map.Entry<java.lang.Integer, java.lang.Integer> next() { return new MapEntry(nextSlot()); }
+            }
+
+            private final class CursorIterator extends SlotIterator implements Iterator<PrimitiveEntry.OfInt.AndInt> {
+                private MapEntry entry;
+                public PrimitiveEntry.OfInt.AndInt next() {
+                    int slot = nextSlot();
+                    return entry == null ? (entry = new MapEntry(slot)) : entry.at(slot);
+                }
+            }
+
+            ///////////// Copying
+
+            /**
+             * Returns a copy of this map.
+             * @return a copy of this map
+             */
+            @Override
+            public PrimitiveHashMap.OfInt.AndInt clone() {
+                try {
+                    var c = (PrimitiveHashMap.OfInt.AndInt) super.clone();
+                    c.keys = keys.clone();
+                    c.vals = vals.clone();
+                    c.keySetView = null;
+                    c.valuesView = null;
+                    c.entrySetView = null;
+                    c.modCount = 0;
+                    return c;
+                } catch (CloneNotSupportedException e) {
+                    throw new InternalError(e);
+                }
+            }
+        }
+
+        /**
+         * An open-addressing hash map from {@code int} keys to {@code double} values.
+         * <p>
+         * Keys and values are stored unboxed in two flat parallel arrays of a
+         * power-of-two length plus one trailing slot. Collisions are resolved by
+         * linear probing and removals use backward-shift deletion. A key slot holding
+         * {@code 0} is free, and the key {@code 0} itself lives in the trailing slot.
+         * <p>
+         * {@link #getOrDefaultInt(int, double)}, {@link #putInt(int, double)}, {@link #addToInt(int, double)},
+         * {@link #removeOrDefaultInt(int, double)} and {@link #entryCursor()} never box. The
+         * iterators of the views of this class are <i>fail-fast</i>.
+         */
+        public static class AndDouble extends AbstractMap<java.lang.Integer, java.lang.Double> implements PrimitiveMap.OfInt.AndDouble, Cloneable {
+            /** The key table; {@code 0} marks a free slot and slot {@code n} holds the key {@code 0}. */
+            private transient int[] keys;
+            /** The value table, parallel to {@link #keys}. */
+            private transient double[] vals;
+            /** Whether the key {@code 0} is present. */
+            private transient boolean containsZero;
+            /** The table length {@code n}, a power of two. */
+            private transient int n;
+            /** {@code n - 1}. */
+            private transient int mask;
+            /** The number of mappings, including the one for the key {@code 0} if present. */
+            private int size;
+            /** The number of table slots that may be occupied before the table is doubled. */
+            private transient int maxFill;
+            /** The load factor of the table. */
+            private final float loadFactor;
+            /** The number of times this map has been structurally modified. */
+            private transient int modCount;
+
+            private transient PrimitiveSet.OfInt keySetView;
+            private transient Collection<java.lang.Double> valuesView;
+            private transient Set<Map.Entry<java.lang.Integer, java.lang.Double>> entrySetView;
+
+            /**
+             * Constructs an empty map able to hold {@code expected} mappings
+             * without rehashing, using the given load factor.
+             * @param expected the expected number of mappings
+             * @param loadFactor the load factor, in the range (0, 1)
+             * @throws IllegalArgumentException if {@code expected} is negative or
+             *         {@code loadFactor} is not in (0, 1)
+             */
+            public AndDouble(int expected, float loadFactor) {
+                if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+                if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+                this.loadFactor = loadFactor;
+                n = tableSize(expected, loadFactor);
+                mask = n - 1;
+                maxFill = maxFill(n, loadFactor);
+                keys = new int[n + 1];
+                vals = new double[n + 1];
+            }
+
+            /**
+             * Constructs an empty map able to hold {@code expected} mappings
+             * without rehashing, using the default load factor.
+             * @param expected the expected number of mappings
+             */
+            public AndDouble(int expected) { this(expected, DEFAULT_LOAD_FACTOR); }
+
+            /**
+             * Constructs an empty map with the default capacity and load factor.
+             */
+            public AndDouble() { this(DEFAULT_EXPECTED, DEFAULT_LOAD_FACTOR); }
+
+            ///////////// Probing
+
+            /**
+             * Returns the slot of the specified key, or {@code -(slot + 1)} for
+             * the free slot at which it would be inserted.
+             */
+            private int find(int k) {
+                if(k == 0) return containsZero ? n : -(n + 1);
+                final int[] key = keys;
+                int curr;
+                int pos;
+                if((curr = key[pos = mix(k) & mask]) == 0) return -(pos + 1);
+                if(k == curr) return pos;
+                while(true) {
+                    if((curr = key[pos = (pos + 1) & mask]) == 0) return -(pos + 1);
+                    if(k == curr) return pos;
+                }
+            }
+
+            private void insert(int pos, int k, double v) {
+                if(pos == n) containsZero = true;
+                keys[pos] = k;
+                vals[pos] = v;
+                modCount++;
+                if(size++ >= maxFill) rehash(tableSize(size + 1, loadFactor));
+            }
+
+            private double removeEntry(int pos) {
+                double oldValue = vals[pos];
+                modCount++;
+                size--;
+                if(pos == n) containsZero = false;
+                else shiftKeys(pos);
+                return oldValue;
+            }
+
+            /**
+             * Closes the gap left at {@code pos} by moving back every following entry
+             * of the probe run that would otherwise become unreachable.
+             */
+            private void shiftKeys(int pos) {
+                final int[] key = keys;
+                final double[] value = vals;
+                int last, slot;
+                int curr;
+                for(;;) {
+                    pos = ((last = pos) + 1) & mask;
+                    for(;;) {
+                        if((curr = key[pos]) == 0) {
+                            key[last] = 0;
+                            return;
+                        }
+                        slot = mix(curr) & mask;
+                        // move curr back only if its home slot is not cyclically within (last, pos]
+                        if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                        pos = (pos + 1) & mask;
+                    }
+                    key[last] = curr;
+                    value[last] = value[pos];
+                }
+            }
+
+            private void rehash(int newN) {
+                final int[] key = keys;
+                final double[] value = vals;
+                final int[] newKey = new int[newN + 1];
+                final double[] newValue = new double[newN + 1];
+                final int newMask = newN - 1;
+                for(int i = n, j = containsZero ? size - 1 : size; j-- != 0;) {
+                    while(key[--i] == 0);
+                    int pos;
+                    if(newKey[pos = mix(key[i]) & newMask] != 0) while(newKey[pos = (pos + 1) & newMask] != 0);
+                    newKey[pos] = key[i];
+                    newValue[pos] = value[i];
+                }
+                newValue[newN] = value[n];
+                n = newN;
+                mask = newMask;
+                maxFill = maxFill(newN, loadFactor);
+                keys = newKey;
+                vals = newValue;
+            }
+
+            /**
+             * Ensures that this map can hold at least {@code expected} mappings
+             * without rehashing.
+             * @param expected the expected number of mappings
+             */
+            public void ensureCapacity(int expected) {
+                int newN = tableSize(expected, loadFactor);
+                if(newN > n) rehash(newN);
+            }
+
+            /**
+             * Shrinks the table to the smallest size able to hold the current
+             * mappings under the load factor.
+             */
+            public void trimToSize() {
+                int newN = tableSize(size, loadFactor);
+                if(newN < n) rehash(newN);
+            }
+
+            ///////////// Query operations
+
+            @Override
+            public int size() { return size; }
+
+            @Override
+            public boolean isEmpty() { return size == 0; }
+
+            @Override
+            public double getOrDefaultInt(int k, double defaultValue) {
+                if(k == 0) return containsZero ? vals[n] : defaultValue;
+                final int[] key = keys;
+                int curr;
+                int pos;
+                if((curr = key[pos = mix(k) & mask]) == 0) return defaultValue;
+                if(k == curr) return vals[pos];
+                while(true) {
+                    if((curr = key[pos = (pos + 1) & mask]) == 0) return defaultValue;
+                    if(k == curr) return vals[pos];
+                }
+            }
+
+            @Override
+            public java.lang.Double getInt(int key) {
+                int pos = find(key);
+                return pos < 0 ? null : vals[pos];
+            }
+
+            @Override
+            public java.lang.Double get(Object key) { return (key instanceof java.lang.Integer k) ? getInt(k) : null; }
+
+            @Override
+            public java.lang.Double getOrDefault(Object key, java.lang.Double defaultValue) {
+                if(!(key instanceof java.lang.Integer k)) return defaultValue;
+                int pos = find(k);
+                return pos < 0 ? defaultValue : vals[pos];
+            }
+
+            @Override
+            public boolean containsKeyInt(int key) { return find(key) >= 0; }
+
+            @Override
+            public boolean containsKey(Object key) { return (key instanceof java.lang.Integer k) ? containsKeyInt(k) : false; }
+
+            @Override
+            public boolean containsValueDouble(double value) {
+                final int[] key = keys;
+                final double[] value_ = vals;
+                if(containsZero && java.lang.Double.doubleToLongBits(value_[n]) == java.lang.Double.doubleToLongBits(value)) return true;
+                for(int i = n; i-- != 0;) if(key[i] != 0 && java.lang.Double.doubleToLongBits(value_[i]) == java.lang.Double.doubleToLongBits(value)) return true;
+                return false;
+            }
+
+            @Override
+            public boolean containsValue(Object value) { return (value instanceof java.lang.Double v) ? containsValueDouble(v) : false; }
+
+            ///////////// Modification operations
+
+            @Override
+            public double putInt(int key, double value) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, value);
+                    return 0;
+                }
+                double oldValue = vals[pos];
+                vals[pos] = value;
+                return oldValue;
+            }
+
+            @Override
+            public java.lang.Double putInt(int key, java.lang.Double value) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, value);
+                    return null;
+                }
+                double oldValue = vals[pos];
+                vals[pos] = value;
+                return oldValue;
+            }
+
+            @Override
+            public java.lang.Double put(java.lang.Integer key, java.lang.Double value) { return putInt((int) key, value); }
+
+            @Override
+            public double addToInt(int key, double increment) {
+                int pos = find(key);
+                if(pos < 0) {
+                    insert(-pos - 1, key, increment);
+                    return increment;
+                }
+                return vals[pos] += increment;
+            }
+
+            @Override
+            public double removeOrDefaultInt(int key, double defaultValue) {
+                int pos = find(key);
+                return pos < 0 ? defaultValue : removeEntry(pos);
+            }
+
+            @Override
+            public java.lang.Double removeInt(int key) {
+                int pos = find(key);
+                return pos < 0 ? null : removeEntry(pos);
+            }
+
+            @Override
+            public java.lang.Double remove(Object key) { return (key instanceof java.lang.Integer k) ? removeInt(k) : null; }
+
+            @Override
+            public java.lang.Double computeIfAbsentInt(int key, PrimitiveFunction.OfInt<? extends java.lang.Double> mappingFunction) {
+                Objects.requireNonNull(mappingFunction);
+                int pos = find(key);
+                if(pos >= 0) return vals[pos];
+                int mc = modCount;
+                java.lang.Double v = mappingFunction.apply(key);
+                if(mc != modCount) throw new ConcurrentModificationException();
+                if(v == null) return null;
+                insert(-pos - 1, key, v);
+                return v;
+            }
+
+            @Override
+            public java.lang.Double computeIfAbsent(java.lang.Integer key, Function<? super java.lang.Integer, ? extends java.lang.Double> mappingFunction) {
+                Objects.requireNonNull(mappingFunction);
+                return computeIfAbsentInt(key, (PrimitiveFunction.OfInt<? extends java.lang.Double>) mappingFunction::apply);
+            }
+
+            @Override
+            public void putAll(Map<? extends java.lang.Integer, ? extends java.lang.Double> m) {
+                if(loadFactor <= .5f) ensureCapacity(m.size());
+                else ensureCapacity(size + m.size());
+                super.putAll(m);
+            }
+
+            @Override
+            public void clear() {
+                if(size == 0) return;
+                modCount++;
+                size = 0;
+                containsZero = false;
+                Arrays.fill(keys, 0);
+            }
+
+            @Override
+            public void forEachInt(PrimitiveBiConsumer.OfInt.AndDouble action) {
+                Objects.requireNonNull(action);
+                final int expectedModCount = modCount;
+                final int[] key = keys;
+                final double[] value = vals;
+                if(containsZero) action.acceptInt(0, value[n]);
+                for(int i = n; i-- != 0 && modCount == expectedModCount;) if(key[i] != 0) action.acceptInt(key[i], value[i]);
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            public void forEach(BiConsumer<? super java.lang.Integer, ? super java.lang.Double> action) {
+                Objects.requireNonNull(action);
+                forEachInt(action::accept);
+            }
+
+            ///////////// Views
+
+            /**
+             * Returns a {@link PrimitiveSet.OfInt} view of the keys contained in this map.
+             * The set is backed by the map and supports element removal.
+             * @return a set view of the keys contained in this map
+             */
+            @Override
+            public PrimitiveSet.OfInt keySet() {
+                PrimitiveSet.OfInt ks;
+                return (ks = keySetView) == null ? (keySetView = new KeySet()) : ks;
+            }
+
+            @Override
+            public Collection<java.lang.Double> values() {
+                Collection<java.lang.Double> vs;
+                return (vs = valuesView) == null ? (valuesView = new Values()) : vs;
+            }
+
+            @Override
+            public Set<Map.Entry<java.lang.Integer, java.lang.Double>> entrySet() {
+                Set<Map.Entry<java.lang.Integer, java.lang.Double>> es;
+                return (es = entrySetView) == null ? (entrySetView = new EntrySet()) : es;
+            }
+
+            @Override
+            public Iterator<PrimitiveEntry.OfInt.AndDouble> entryCursor() { return new CursorIterator(); }
+
+            private final class KeySet extends PrimitiveAbstractSet.OfInt {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfInt.AndDouble.this.clear(); }
+                public PrimitiveIterator.OfInt iteratorInt() { return new KeyIterator(); }
+                public boolean containsInt(int k) { return containsKeyInt(k); }
+                public boolean removeInt(int k) {
+                    int pos = find(k);
+                    if(pos < 0) return false;
+                    removeEntry(pos);
+                    return true;
+                }
+            }
+
+            private final class Values extends AbstractCollection<java.lang.Double> {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfInt.AndDouble.this.clear(); }
+                public Iterator<java.lang.Double> iterator() { return new ValueIterator(); }
+                public boolean contains(Object o) { return containsValue(o); }
+            }
+
+            private final class EntrySet extends AbstractSet<Map.Entry<java.lang.Integer, java.lang.Double>> {
+                public int size() { return size; }
+                public void clear() { PrimitiveHashMap.OfInt.AndDouble.this.clear(); }
+                public Iterator<Map.Entry<java.lang.Integer, java.lang.Double>> iterator() { return new EntryIterator(); }
+                public boolean contains(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Integer k) || !(e.getValue() instanceof java.lang.Double v)) return false;
+                    int pos = find(k);
+                    return pos >= 0 && java.lang.Double.doubleToLongBits(vals[pos]) == java.lang.Double.doubleToLongBits(v);
+                }
+                public boolean remove(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Integer k) || !(e.getValue() instanceof java.lang.Double v)) return false;
+                    int pos = find(k);
+                    if(pos < 0 || !(java.lang.Double.doubleToLongBits(vals[pos]) == java.lang.Double.doubleToLongBits(v))) return false;
+                    removeEntry(pos);
+                    return true;
+                }
+            }
+
+            /**
+             * An entry positioned on a table slot, reading and writing the map's arrays
+             * directly. Entries handed out by {@link #entrySet()} keep their slot, the
+             * one handed out by {@link #entryCursor()} is moved along by its iterator.
+             */
+            private final class MapEntry implements PrimitiveEntry.OfInt.AndDouble {
+                int index;
+                int key;
+                MapEntry(int index) { at(index); }
+                MapEntry at(int index) {
+                    this.index = index;
+                    this.key = keys[index];
+                    return this;
+                }
+                public int getKeyInt() { return key; }
+                public double getValueDouble() { return vals[index]; }
+                public double setValueDouble(double v) {
+                    double oldValue = vals[index];
+                    vals[index] = v;
+                    return oldValue;
+                }
+                @Override
+                public boolean equals(Object o) {
+                    if(!(o instanceof Map.Entry<?, ?> e)) return false;
+                    return e.getKey() instanceof java.lang.Integer k && k == key && e.getValue() instanceof java.lang.Double v && java.lang.Double.doubleToLongBits(vals[index]) == java.lang.Double.doubleToLongBits(v);
+                }
+                @Override
+                public int hashCode() { return java.lang.Integer.hashCode(key) ^ java.lang.Double.hashCode(vals[index]); }
+                @Override
+                public String toString() { return key + "=" + vals[index]; }
+            }
+
+            /**
+             * Walks the table slots. The key {@code 0} comes first; the remaining slots
+             * are scanned starting just after a free slot, so no probe run straddles the
+             * starting point and backward shifts caused by {@link #remove()} only ever
+             * pull entries from slots not reached yet.
+             */
+            private abstract class SlotIterator {
+                final int start;
+                int remaining;
+                int cursor;
+                int lastRet = -1;
+                boolean zeroPending = containsZero;
+                int count = size;
+                int expectedModCount = modCount;
+
+                SlotIterator() {
+                    final int[] key = keys;
+                    int s = 0;
+                    while(key[s] != 0) s++;
+                    start = s;
+                    remaining = n;
+                }
+
+                public boolean hasNext() { return count != 0; }
+
+                final int nextSlot() {
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    if(count == 0) throw new NoSuchElementException();
+                    count--;
+                    if(zeroPending) {
+                        zeroPending = false;
+                        return lastRet = n;
+                    }
+                    final int[] key = keys;
+                    for(;;) {
+                        if(remaining-- == 0) throw new ConcurrentModificationException();
+                        int pos = (start + cursor++) & mask;
+                        if(key[pos] != 0) return lastRet = pos;
+                    }
+                }
+
+                public void remove() {
+                    if(lastRet == -1) throw new IllegalStateException();
+                    if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                    removeEntry(lastRet);
+                    // rescan the vacated slot, an unvisited entry may have been moved into it
+                    if(lastRet != n && keys[lastRet] != 0) {
+                        cursor--;
+                        remaining++;
+                    }
+                    lastRet = -1;
+                    expectedModCount = modCount;
+                }
+            }
+
+            private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfInt {
+                public int nextInt() { return keys[nextSlot()]; }
+            }
+
+            private final class ValueIterator extends SlotIterator implements Iterator<java.lang.Double> {
+                public java.lang.Double next() { return vals[nextSlot()]; }
+            }
+
+            private final class EntryIterator extends SlotIterator implements Iterator<Map.Entry<java.lang.Integer, java.lang.Double>> {
+                public Map.Entry<java.lang.Integer, java.lang.Double> next() { return new MapEntry(nextSlot()); }
+            }
+
+            private final class CursorIterator extends SlotIterator implements Iterator<PrimitiveEntry.OfInt.AndDouble> {
+                private MapEntry entry;
+                public PrimitiveEntry.OfInt.AndDouble next() {
+                    int slot = nextSlot();
+                    return entry == null ? (entry = new MapEntry(slot)) : entry.at(slot);
+                }
+            }
+
+            ///////////// Copying
+
+            /**
+             * Returns a copy of this map.
+             * @return a copy of this map
+             */
+            @Override
+            public PrimitiveHashMap.OfInt.AndDouble clone() {
+                try {
+                    var c = (PrimitiveHashMap.OfInt.AndDouble) super.clone();
+                    c.keys = keys.clone();
+                    c.vals = vals.clone();
+                    c.keySetView = null;
+                    c.valuesView = null;
+                    c.entrySetView = null;
+                    c.modCount = 0;
+                    return c;
+                } catch (CloneNotSupportedException e) {
+                    throw new InternalError(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * An open-addressing hash map from {@code float} keys to object values.
+     * <p>
+     * Keys are stored unboxed in a flat {@code int[]} and values in a parallel
+     * {@code Object[]}; both tables have a power-of-two length plus one trailing
+     * slot. Collisions are resolved by linear probing and removals use
+     * backward-shift deletion. A key slot holding {@code 0} is free, and the key
+     * whose stored form is {@code 0} lives in the trailing slot. Keys are compared by
+     * {@link java.lang.Float#floatToIntBits(float) bit pattern}, exactly as
+     * {@link java.lang.Float#equals(Object)} does, so every {@code NaN} is the same
+     * key while {@code 0.0f} and {@code -0.0f} are distinct; {@code 0.0f} is the key held in
+     * the trailing slot.
+     * <p>
+     * {@link #getFloat(float)}, {@link #containsKeyFloat(float)}, {@link #removeFloat(float)} and
+     * {@link #putFloat(float, Object)} on an existing key do not allocate. The iterators
+     * of the views of this class are <i>fail-fast</i>.
+     * <p>
+     * This is analogous to {@link java.util.HashMap}
+     * @param <V> the type of mapped values
+     */
+    public static class OfFloat<V> extends AbstractMap<java.lang.Float, V> implements PrimitiveMap.OfFloat<V>, Cloneable {
+        /** The key table; {@code 0} marks a free slot and slot {@code n} holds the zero key. */
+        private transient int[] keys;
+        /** The value table, parallel to {@link #keys}. */
+        private transient V[] values;
+        /** Whether the zero key is present. */
+        private transient boolean containsZero;
+        /** The table length {@code n}, a power of two. */
+        private transient int n;
+        /** {@code n - 1}. */
+        private transient int mask;
+        /** The number of mappings, including the one for the zero key if present. */
+        private int size;
+        /** The number of table slots that may be occupied before the table is doubled. */
+        private transient int maxFill;
+        /** The load factor of the table. */
+        private final float loadFactor;
+        /** The number of times this map has been structurally modified. */
+        private transient int modCount;
+
+        private transient PrimitiveSet.OfFloat keySetView;
+        private transient Collection<V> valuesView;
+        private transient Set<Map.Entry<java.lang.Float, V>> entrySetView;
+
+        /**
+         * Constructs an empty map able to hold {@code expected} mappings
+         * without rehashing, using the given load factor.
+         * @param expected the expected number of mappings
+         * @param loadFactor the load factor, in the range (0, 1)
+         * @throws IllegalArgumentException if {@code expected} is negative or
+         *         {@code loadFactor} is not in (0, 1)
+         */
+        @SuppressWarnings("unchecked")
+        public OfFloat(int expected, float loadFactor) {
+            if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+            if(!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+            this.loadFactor = loadFactor;
+            n = tableSize(expected, loadFactor);
+            mask = n - 1;
+            maxFill = maxFill(n, loadFactor);
+            keys = new int[n + 1];
+            values = (V[]) new Object[n + 1];
+        }
+
+        /**
+         * Constructs an empty map able to hold {@code expected} mappings
+         * without rehashing, using the default load factor.
+         * @param expected the expected number of mappings
+         */
+        public OfFloat(int expected) { this(expected, DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs an empty map with the default capacity and load factor.
+         */
+        public OfFloat() { this(DEFAULT_EXPECTED, DEFAULT_LOAD_FACTOR); }
+
+        /**
+         * Constructs a map with the same mappings as the specified map.
+         * @param m the map whose mappings are to be placed in this map
+         */
+        public OfFloat(Map<? extends java.lang.Float, ? extends V> m) {
+            this(m.size(), DEFAULT_LOAD_FACTOR);
+            putAll(m);
+        }
+
+        ///////////// Probing
+
+        /**
+         * Returns the slot of the specified stored key, or {@code -(slot + 1)} for
+         * the free slot at which it would be inserted.
+         */
+        private int find(int k) {
+            if(k == 0) return containsZero ? n : -(n + 1);
+            final int[] key = keys;
+            int curr;
+            int pos;
+            if((curr = key[pos = mix(k) & mask]) == 0) return -(pos + 1);
+            if(k == curr) return pos;
+            while(true) {
+                if((curr = key[pos = (pos + 1) & mask]) == 0) return -(pos + 1);
+                if(k == curr) return pos;
+            }
+        }
+
+        private void insert(int pos, int k, V v) {
+            if(pos == n) containsZero = true;
+            keys[pos] = k;
+            values[pos] = v;
+            modCount++;
+            if(size++ >= maxFill) rehash(tableSize(size + 1, loadFactor));
+        }
+
+        private V removeEntry(int pos) {
+            V oldValue = values[pos];
+            modCount++;
+            size--;
+            if(pos == n) {
+                containsZero = false;
+                values[n] = null;
+            } else shiftKeys(pos);
+            return oldValue;
+        }
+
+        /**
+         * Closes the gap left at {@code pos} by moving back every following entry
+         * of the probe run that would otherwise become unreachable.
+         */
+        private void shiftKeys(int pos) {
+            final int[] key = keys;
+            final V[] value = values;
+            int last, slot;
+            int curr;
+            for(;;) {
+                pos = ((last = pos) + 1) & mask;
+                for(;;) {
+                    if((curr = key[pos]) == 0) {
+                        key[last] = 0;
+                        value[last] = null;
+                        return;
+                    }
+                    slot = mix(curr) & mask;
+                    // move curr back only if its home slot is not cyclically within (last, pos]
+                    if(last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+                    pos = (pos + 1) & mask;
+                }
+                key[last] = curr;
+                value[last] = value[pos];
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void rehash(int newN) {
+            final int[] key = keys;
+            final V[] value = values;
+            final int[] newKey = new int[newN + 1];
+            final V[] newValue = (V[]) new Object[newN + 1];
+            final int newMask = newN - 1;
+            for(int i = n, j = containsZero ? size - 1 : size; j-- != 0;) {
+                while(key[--i] == 0);
+                int pos;
+                if(newKey[pos = mix(key[i]) & newMask] != 0) while(newKey[pos = (pos + 1) & newMask] != 0);
+                newKey[pos] = key[i];
+                newValue[pos] = value[i];
+            }
+            newValue[newN] = value[n];
+            n = newN;
+            mask = newMask;
+            maxFill = maxFill(newN, loadFactor);
+            keys = newKey;
+            values = newValue;
+        }
+
+        /**
+         * Ensures that this map can hold at least {@code expected} mappings
+         * without rehashing.
+         * @param expected the expected number of mappings
+         */
+        public void ensureCapacity(int expected) {
+            int newN = tableSize(expected, loadFactor);
+            if(newN > n) rehash(newN);
+        }
+
+        /**
+         * Shrinks the table to the smallest size able to hold the current
+         * mappings under the load factor.
+         */
+        public void trimToSize() {
+            int newN = tableSize(size, loadFactor);
+            if(newN < n) rehash(newN);
+        }
+
+        ///////////// Query operations
+
+        @Override
+        public int size() { return size; }
+
+        @Override
+        public boolean isEmpty() { return size == 0; }
+
+        @Override
+        public V getFloat(float key) {
+            final int k = java.lang.Float.floatToIntBits(key);
+            if(k == 0) return containsZero ? values[n] : null;
+            final int[] kk = keys;
+            int curr;
+            int pos;
+            if((curr = kk[pos = mix(k) & mask]) == 0) return null;
+            if(k == curr) return values[pos];
+            while(true) {
+                if((curr = kk[pos = (pos + 1) & mask]) == 0) return null;
+                if(k == curr) return values[pos];
+            }
+        }
+
+        @Override
+        public V get(Object key) { return (key instanceof java.lang.Float k) ? getFloat(k) : null; }
+
+        @Override
+        public V getOrDefault(Object key, V defaultValue) {
+            if(!(key instanceof java.lang.Float k)) return defaultValue;
+            int pos = find(java.lang.Float.floatToIntBits(k));
+            return pos < 0 ? defaultValue : values[pos];
+        }
+
+        @Override
+        public boolean containsKeyFloat(float key) { return find(java.lang.Float.floatToIntBits(key)) >= 0; }
+
+        @Override
+        public boolean containsKey(Object key) { return (key instanceof java.lang.Float k) ? containsKeyFloat(k) : false; }
+
+        @Override
+        public boolean containsValue(Object value) {
+            final int[] key = keys;
+            final V[] vals = values;
+            if(containsZero && Objects.equals(vals[n], value)) return true;
+            for(int i = n; i-- != 0;) if(key[i] != 0 && Objects.equals(vals[i], value)) return true;
+            return false;
+        }
+
+        ///////////// Modification operations
+
+        @Override
+        public V putFloat(float key, V value) {
+            final int k = java.lang.Float.floatToIntBits(key);
+            int pos = find(k);
+            if(pos < 0) {
+                insert(-pos - 1, k, value);
+                return null;
+            }
+            V oldValue = values[pos];
+            values[pos] = value;
+            return oldValue;
+        }
+
+        @Override
+        public V put(java.lang.Float key, V value) { return putFloat(key, value); }
+
+        @Override
+        public V removeFloat(float key) {
+            int pos = find(java.lang.Float.floatToIntBits(key));
+            return pos < 0 ? null : removeEntry(pos);
+        }
+
+        @Override
+        public V remove(Object key) { return (key instanceof java.lang.Float k) ? removeFloat(k) : null; }
+
+        @Override
+        public V computeIfAbsentFloat(float key, PrimitiveFunction.OfFloat<? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            final int k = java.lang.Float.floatToIntBits(key);
+            int pos = find(k);
+            V oldValue;
+            if(pos >= 0 && (oldValue = values[pos]) != null) return oldValue;
+            int mc = modCount;
+            V v = mappingFunction.apply(key);
+            if(mc != modCount) throw new ConcurrentModificationException();
+            if(v == null) return null;
+            if(pos >= 0) values[pos] = v;
+            else insert(-pos - 1, k, v);
+            return v;
+        }
+
+        @Override
+        public V computeIfAbsent(java.lang.Float key, Function<? super java.lang.Float, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            return computeIfAbsentFloat(key, (PrimitiveFunction.OfFloat<? extends V>) mappingFunction::apply);
+        }
+
+        @Override
+        public void putAll(Map<? extends java.lang.Float, ? extends V> m) {
+            if(loadFactor <= .5f) ensureCapacity(m.size());
+            else ensureCapacity(size + m.size());
+            super.putAll(m);
+        }
+
+        @Override
+        public void clear() {
+            if(size == 0) return;
+            modCount++;
+            size = 0;
+            containsZero = false;
+            Arrays.fill(keys, 0);
+            Arrays.fill(values, null);
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super java.lang.Float, ? super V> action) {
+            Objects.requireNonNull(action);
+            final int expectedModCount = modCount;
+            final int[] key = keys;
+            final V[] value = values;
+            if(containsZero) action.accept(0.0f, value[n]);
+            for(int i = n; i-- != 0 && modCount == expectedModCount;) if(key[i] != 0) action.accept(java.lang.Float.intBitsToFloat(key[i]), value[i]);
+            if(modCount != expectedModCount) throw new ConcurrentModificationException();
+        }
+
+        ///////////// Views
+
+        /**
+         * Returns a {@link PrimitiveSet.OfFloat} view of the keys contained in this map.
+         * The set is backed by the map and supports element removal.
+         * @return a set view of the keys contained in this map
+         */
+        @Override
+        public PrimitiveSet.OfFloat keySet() {
+            PrimitiveSet.OfFloat ks;
+            return (ks = keySetView) == null ? (keySetView = new KeySet()) : ks;
+        }
+
+        @Override
+        public Collection<V> values() {
+            Collection<V> vs;
+            return (vs = valuesView) == null ? (valuesView = new Values()) : vs;
+        }
+
+        @Override
+        public Set<Map.Entry<java.lang.Float, V>> entrySet() {
+            Set<Map.Entry<java.lang.Float, V>> es;
+            return (es = entrySetView) == null ? (entrySetView = new EntrySet()) : es;
+        }
+
+        private final class KeySet extends PrimitiveAbstractSet.OfFloat {
+            public int size() { return size; }
+            public void clear() { PrimitiveHashMap.OfFloat.this.clear(); }
+            public PrimitiveIterator.OfFloat iteratorFloat() { return new KeyIterator(); }
+            public boolean containsFloat(float k) { return containsKeyFloat(k); }
+            public boolean removeFloat(float k) {
+                int pos = find(java.lang.Float.floatToIntBits(k));
+                if(pos < 0) return false;
+                removeEntry(pos);
+                return true;
+            }
+        }
+
+        private final class Values extends AbstractCollection<V> {
+            public int size() { return size; }
+            public void clear() { PrimitiveHashMap.OfFloat.this.clear(); }
+            public Iterator<V> iterator() { return new ValueIterator(); }
+            public boolean contains(Object o) { return containsValue(o); }
+        }
+
+        private final class EntrySet extends AbstractSet<Map.Entry<java.lang.Float, V>> {
+            public int size() { return size; }
+            public void clear() { PrimitiveHashMap.OfFloat.this.clear(); }
+            public Iterator<Map.Entry<java.lang.Float, V>> iterator() { return new EntryIterator(); }
+            public boolean contains(Object o) {
+                if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Float k)) return false;
+                int pos = find(java.lang.Float.floatToIntBits(k));
+                return pos >= 0 && Objects.equals(values[pos], e.getValue());
+            }
+            public boolean remove(Object o) {
+                if(!(o instanceof Map.Entry<?, ?> e) || !(e.getKey() instanceof java.lang.Float k)) return false;
+                int pos = find(java.lang.Float.floatToIntBits(k));
+                if(pos < 0 || !Objects.equals(values[pos], e.getValue())) return false;
+                removeEntry(pos);
+                return true;
+            }
+        }
+
+        /**
+         * An entry bound to a table slot. The key is captured when the entry is
+         * created, the value is read and written through the map's value table.
+         */
+        private final class MapEntry implements PrimitiveEntry.OfFloat<V> {
+            private final int index;
+            private final float key;
+            MapEntry(int index) {
+                this.index = index;
+                this.key = java.lang.Float.intBitsToFloat(keys[index]);
+            }
+            public float getKeyFloat() { return key; }
+            public V getValue() { return values[index]; }
+            public V setValue(V v) {
+                V oldValue = values[index];
+                values[index] = v;
+                return oldValue;
+            }
+            @Override
+            public boolean equals(Object o) {
+                if(!(o instanceof Map.Entry<?, ?> e)) return false;
+                return getKey().equals(e.getKey()) && Objects.equals(values[index], e.getValue());
+            }
+            @Override
+            public int hashCode() { return java.lang.Float.hashCode(getKeyFloat()) ^ Objects.hashCode(values[index]); }
+            @Override
+            public String toString() { return getKeyFloat() + "=" + values[index]; }
+        }
+
+        /**
+         * Walks the table slots. The zero key comes first; the remaining slots are
+         * scanned starting just after a free slot, so no probe run straddles the
+         * starting point and backward shifts caused by {@link #remove()} only ever
+         * pull entries from slots not reached yet.
+         */
+        private abstract class SlotIterator {
+            final int start;
+            int remaining;
+            int cursor;
+            int lastRet = -1;
+            boolean zeroPending = containsZero;
+            int count = size;
+            int expectedModCount = modCount;
+
+            SlotIterator() {
+                final int[] key = keys;
+                int s = 0;
+                while(key[s] != 0) s++;
+                start = s;
+                remaining = n;
+            }
+
+            public boolean hasNext() { return count != 0; }
+
+            final int nextSlot() {
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                if(count == 0) throw new NoSuchElementException();
+                count--;
+                if(zeroPending) {
+                    zeroPending = false;
+                    return lastRet = n;
+                }
+                final int[] key = keys;
+                for(;;) {
+                    if(remaining-- == 0) throw new ConcurrentModificationException();
+                    int pos = (start + cursor++) & mask;
+                    if(key[pos] != 0) return lastRet = pos;
+                }
+            }
+
+            public void remove() {
+                if(lastRet == -1) throw new IllegalStateException();
+                if(modCount != expectedModCount) throw new ConcurrentModificationException();
+                removeEntry(lastRet);
+                // rescan the vacated slot, an unvisited entry may have been moved into it
+                if(lastRet != n && keys[lastRet] != 0) {
+                    cursor--;
+                    remaining++;
+                }
+                lastRet = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        private final class KeyIterator extends SlotIterator implements PrimitiveIterator.OfFloat {
+            public float nextFloat() { return java.lang.Float.intBitsToFloat(keys[nextSlot()]); }
+        }
+
+        private final class ValueIterator extends SlotIterator implements Iterator<V> {
+            public V next() { return values[nextSlot()]; }
+        }
+
+        private final class EntryIterator extends SlotIterator implements Iterator<Map.Entry<java.lang.Float, V>> {
+            public Map.Entry<java.lang.Float, V> next() { return new MapEntry(nextSlot()); }
+        }
+
+        ///////////// Copying
+
+        /**
+         * Returns a shallow copy of this map; the keys and values themselves are not cloned.
+         * @return a shallow copy of this map
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public PrimitiveHashMap.OfFloat<V> clone() {
+            try {
+                var c = (PrimitiveHashMap.OfFloat<V>) super.clone();
+                c.keys = keys.clone();
+                c.values = values.clone();
+                c.keySetView = null;
+                c.valuesView = null;
+                c.entrySetView = null;
+                c.modCount = 0;
+                return c;
+            } catch (CloneNotSupportedException e) {
+                throw new InternalError(e);
+            }
+        }
+    }
+}
@@ -1,20 +1,4857 @@
 package jdk.prim.util.map;
 
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
 import jdk.prim.Boxed;
+import jdk.prim.util.function.PrimitiveBiConsumer;
+import jdk.prim.util.function.PrimitiveFunction;
 /**
  * The primitive equivalent of {@link java.util.Map}
  */
 public interface PrimitiveMap<K, V> extends Map<K, V>, Boxed<Map<K, V>> {
-    interface OfDouble<V> extends PrimitiveMap<java.lang.Double, V> {}
-    interface OfLong<V> extends PrimitiveMap<java.lang.Long, V> {}
-    interface OfInt<V> extends PrimitiveMap<java.lang.Integer, V> {}
-    interface OfFloat<V> extends PrimitiveMap<java.lang.Float, V> {}
-    interface OfChar<V> extends PrimitiveMap<java.lang.Character, V> {}
-    interface OfShort<V> extends PrimitiveMap<java.lang.Short, V> {}
-    interface OfByte<V> extends PrimitiveMap<java.lang.Byte, V> {}
-    interface OfBoolean<V> extends PrimitiveMap<java.lang.Boolean, V> {}
+    /**
+     * A map whose keys are {@code double} values. The {@code *Double} accessors take the key
+     * unboxed, and the {@link Map} methods taking a key box it and delegate to them.
+     * @param <V> the type of mapped values
+     */
+    interface OfDouble<V> extends PrimitiveMap<java.lang.Double, V> {
+        /**
+         * Returns the value to which the specified key is mapped, or {@code null}
+         * if this map contains no mapping for the key.
+         * @param key the key whose associated value is to be returned
+         * @return the value to which the specified key is mapped, or {@code null}
+         * @see Map#get(Object)
+         */
+        V getDouble(double key);
+        /**
+         * Returns {@code true} if this map contains a mapping for the specified key.
+         * @param key the key whose presence in this map is to be tested
+         * @return {@code true} if this map contains a mapping for the specified key
+         * @see Map#containsKey(Object)
+         */
+        boolean containsKeyDouble(double key);
+        /**
+         * Associates the specified value with the specified key in this map.
+         * @param key the key with which the specified value is to be associated
+         * @param value the value to be associated with the specified key
+         * @return the previous value associated with {@code key}, or {@code null}
+         * @see Map#put(Object, Object)
+         */
+        V putDouble(double key, V value);
+        /**
+         * Removes the mapping for a key from this map if it is present.
+         * @param key the key whose mapping is to be removed from the map
+         * @return the previous value associated with {@code key}, or {@code null}
+         * @see Map#remove(Object)
+         */
+        V removeDouble(double key);
+        /**
+         * If the specified key is not already associated with a value (or is mapped
+         * to {@code null}), attempts to compute its value using the given mapping
+         * function and enters it into this map unless {@code null}.
+         * @param key the key with which the specified value is to be associated
+         * @param mappingFunction the mapping function to compute a value
+         * @return the current (existing or computed) value associated with the
+         *         specified key, or {@code null} if the computed value is {@code null}
+         * @see Map#computeIfAbsent(Object, Function)
+         */
+        default V computeIfAbsentDouble(double key, PrimitiveFunction.OfDouble<? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            V v;
+            if((v = getDouble(key)) == null) {
+                V newValue;
+                if((newValue = mappingFunction.apply(key)) != null) {
+                    putDouble(key, newValue);
+                    return newValue;
+                }
+            }
+            return v;
+        }
+        @Override default V get(Object key) { return (key instanceof java.lang.Double k) ? getDouble(k) : null; }
+        @Override default boolean containsKey(Object key) { return (key instanceof java.lang.Double k) ? containsKeyDouble(k) : false; }
+        @Override default V put(java.lang.Double key, V value) { return putDouble(key, value); }
+        @Override default V remove(Object key) { return (key instanceof java.lang.Double k) ? removeDouble(k) : null; }
+        @Override default V computeIfAbsent(java.lang.Double key, Function<? super java.lang.Double, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            return computeIfAbsentDouble(key, (PrimitiveFunction.OfDouble<? extends V>) mappingFunction::apply);
+        }
+        @Override default Map<java.lang.Double, V> boxed() { return this; }
+
+        /**
+         * A map from {@code double} keys to {@code double} values. The accessors declared
+         * here take and return {@code double} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfDouble} box the value.
+         */
+        interface AndDouble extends PrimitiveMap.OfDouble<java.lang.Double>, PrimitiveMap.AndDouble<java.lang.Double> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            double getOrDefaultDouble(double key, double defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0.0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            double putDouble(double key, double value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            double removeOrDefaultDouble(double key, double defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0.0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            double addToDouble(double key, double increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueDouble(double value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfDouble.AndDouble> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachDouble(PrimitiveBiConsumer.OfDouble.AndDouble action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptDouble(e.getKeyDouble(), e.getValueDouble());
+                }
+            }
+        }
+        /**
+         * A map from {@code double} keys to {@code long} values. The accessors declared
+         * here take and return {@code long} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfDouble} box the value.
+         */
+        interface AndLong extends PrimitiveMap.OfDouble<java.lang.Long>, PrimitiveMap.AndLong<java.lang.Double> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            long getOrDefaultDouble(double key, long defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0L}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            long putDouble(double key, long value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            long removeOrDefaultDouble(double key, long defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0L}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            long addToDouble(double key, long increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueLong(long value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfDouble.AndLong> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachDouble(PrimitiveBiConsumer.OfDouble.AndLong action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptDouble(e.getKeyDouble(), e.getValueLong());
+                }
+            }
+        }
+        /**
+         * A map from {@code double} keys to {@code int} values. The accessors declared
+         * here take and return {@code int} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfDouble} box the value.
+         */
+        interface AndInt extends PrimitiveMap.OfDouble<java.lang.Integer>, PrimitiveMap.AndInt<java.lang.Double> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            int getOrDefaultDouble(double key, int defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            int putDouble(double key, int value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            int removeOrDefaultDouble(double key, int defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            int addToDouble(double key, int increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueInt(int value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfDouble.AndInt> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachDouble(PrimitiveBiConsumer.OfDouble.AndInt action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptDouble(e.getKeyDouble(), e.getValueInt());
+                }
+            }
+        }
+        /**
+         * A map from {@code double} keys to {@code float} values. The accessors declared
+         * here take and return {@code float} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfDouble} box the value.
+         */
+        interface AndFloat extends PrimitiveMap.OfDouble<java.lang.Float>, PrimitiveMap.AndFloat<java.lang.Double> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            float getOrDefaultDouble(double key, float defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0.0f}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            float putDouble(double key, float value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            float removeOrDefaultDouble(double key, float defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0.0f}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            float addToDouble(double key, float increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueFloat(float value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfDouble.AndFloat> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachDouble(PrimitiveBiConsumer.OfDouble.AndFloat action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptDouble(e.getKeyDouble(), e.getValueFloat());
+                }
+            }
+        }
+        /**
+         * A map from {@code double} keys to {@code char} values. The accessors declared
+         * here take and return {@code char} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfDouble} box the value.
+         */
+        interface AndChar extends PrimitiveMap.OfDouble<java.lang.Character>, PrimitiveMap.AndChar<java.lang.Double> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            char getOrDefaultDouble(double key, char defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (char) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            char putDouble(double key, char value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            char removeOrDefaultDouble(double key, char defaultValue);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueChar(char value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfDouble.AndChar> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachDouble(PrimitiveBiConsumer.OfDouble.AndChar action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptDouble(e.getKeyDouble(), e.getValueChar());
+                }
+            }
+        }
+        /**
+         * A map from {@code double} keys to {@code short} values. The accessors declared
+         * here take and return {@code short} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfDouble} box the value.
+         */
+        interface AndShort extends PrimitiveMap.OfDouble<java.lang.Short>, PrimitiveMap.AndShort<java.lang.Double> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            short getOrDefaultDouble(double key, short defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (short) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            short putDouble(double key, short value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            short removeOrDefaultDouble(double key, short defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code (short) 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            short addToDouble(double key, short increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueShort(short value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfDouble.AndShort> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachDouble(PrimitiveBiConsumer.OfDouble.AndShort action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptDouble(e.getKeyDouble(), e.getValueShort());
+                }
+            }
+        }
+        /**
+         * A map from {@code double} keys to {@code byte} values. The accessors declared
+         * here take and return {@code byte} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfDouble} box the value.
+         */
+        interface AndByte extends PrimitiveMap.OfDouble<java.lang.Byte>, PrimitiveMap.AndByte<java.lang.Double> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            byte getOrDefaultDouble(double key, byte defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (byte) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            byte putDouble(double key, byte value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            byte removeOrDefaultDouble(double key, byte defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code (byte) 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            byte addToDouble(double key, byte increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueByte(byte value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfDouble.AndByte> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachDouble(PrimitiveBiConsumer.OfDouble.AndByte action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptDouble(e.getKeyDouble(), e.getValueByte());
+                }
+            }
+        }
+        /**
+         * A map from {@code double} keys to {@code boolean} values. The accessors declared
+         * here take and return {@code boolean} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfDouble} box the value.
+         */
+        interface AndBoolean extends PrimitiveMap.OfDouble<java.lang.Boolean>, PrimitiveMap.AndBoolean<java.lang.Double> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            boolean getOrDefaultDouble(double key, boolean defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code false}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            boolean putDouble(double key, boolean value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            boolean removeOrDefaultDouble(double key, boolean defaultValue);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueBoolean(boolean value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfDouble.AndBoolean> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachDouble(PrimitiveBiConsumer.OfDouble.AndBoolean action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptDouble(e.getKeyDouble(), e.getValueBoolean());
+                }
+            }
+        }
+    }
+    /**
+     * A map whose keys are {@code long} values. The {@code *Long} accessors take the key
+     * unboxed, and the {@link Map} methods taking a key box it and delegate to them.
+     * @param <V> the type of mapped values
+     */
+    interface OfLong<V> extends PrimitiveMap<java.lang.Long, V> {
+        /**
+         * Returns the value to which the specified key is mapped, or {@code null}
+         * if this map contains no mapping for the key.
+         * @param key the key whose associated value is to be returned
+         * @return the value to which the specified key is mapped, or {@code null}
+         * @see Map#get(Object)
+         */
+        V getLong(long key);
+        /**
+         * Returns {@code true} if this map contains a mapping for the specified key.
+         * @param key the key whose presence in this map is to be tested
+         * @return {@code true} if this map contains a mapping for the specified key
+         * @see Map#containsKey(Object)
+         */
+        boolean containsKeyLong(long key);
+        /**
+         * Associates the specified value with the specified key in this map.
+         * @param key the key with which the specified value is to be associated
+         * @param value the value to be associated with the specified key
+         * @return the previous value associated with {@code key}, or {@code null}
+         * @see Map#put(Object, Object)
+         */
+        V putLong(long key, V value);
+        /**
+         * Removes the mapping for a key from this map if it is present.
+         * @param key the key whose mapping is to be removed from the map
+         * @return the previous value associated with {@code key}, or {@code null}
+         * @see Map#remove(Object)
+         */
+        V removeLong(long key);
+        /**
+         * If the specified key is not already associated with a value (or is mapped
+         * to {@code null}), attempts to compute its value using the given mapping
+         * function and enters it into this map unless {@code null}.
+         * @param key the key with which the specified value is to be associated
+         * @param mappingFunction the mapping function to compute a value
+         * @return the current (existing or computed) value associated with the
+         *         specified key, or {@code null} if the computed value is {@code null}
+         * @see Map#computeIfAbsent(Object, Function)
+         */
+        default V computeIfAbsentLong(long key, PrimitiveFunction.OfLong<? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            V v;
+            if((v = getLong(key)) == null) {
+                V newValue;
+                if((newValue = mappingFunction.apply(key)) != null) {
+                    putLong(key, newValue);
+                    return newValue;
+                }
+            }
+            return v;
+        }
+        @Override default V get(Object key) { return (key instanceof java.lang.Long k) ? getLong(k) : null; }
+        @Override default boolean containsKey(Object key) { return (key instanceof java.lang.Long k) ? containsKeyLong(k) : false; }
+        @Override default V put(java.lang.Long key, V value) { return putLong(key, value); }
+        @Override default V remove(Object key) { return (key instanceof java.lang.Long k) ? removeLong(k) : null; }
+        @Override default V computeIfAbsent(java.lang.Long key, Function<? super java.lang.Long, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            return computeIfAbsentLong(key, (PrimitiveFunction.OfLong<? extends V>) mappingFunction::apply);
+        }
+        @Override default Map<java.lang.Long, V> boxed() { return this; }
+
+        /**
+         * A map from {@code long} keys to {@code double} values. The accessors declared
+         * here take and return {@code double} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfLong} box the value.
+         */
+        interface AndDouble extends PrimitiveMap.OfLong<java.lang.Double>, PrimitiveMap.AndDouble<java.lang.Long> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            double getOrDefaultLong(long key, double defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0.0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            double putLong(long key, double value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            double removeOrDefaultLong(long key, double defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0.0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            double addToLong(long key, double increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueDouble(double value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfLong.AndDouble> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachLong(PrimitiveBiConsumer.OfLong.AndDouble action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptLong(e.getKeyLong(), e.getValueDouble());
+                }
+            }
+        }
+        /**
+         * A map from {@code long} keys to {@code long} values. The accessors declared
+         * here take and return {@code long} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfLong} box the value.
+         */
+        interface AndLong extends PrimitiveMap.OfLong<java.lang.Long>, PrimitiveMap.AndLong<java.lang.Long> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            long getOrDefaultLong(long key, long defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0L}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            long putLong(long key, long value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            long removeOrDefaultLong(long key, long defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0L}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            long addToLong(long key, long increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueLong(long value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfLong.AndLong> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachLong(PrimitiveBiConsumer.OfLong.AndLong action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptLong(e.getKeyLong(), e.getValueLong());
+                }
+            }
+        }
+        /**
+         * A map from {@code long} keys to {@code int} values. The accessors declared
+         * here take and return {@code int} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfLong} box the value.
+         */
+        interface AndInt extends PrimitiveMap.OfLong<java.lang.Integer>, PrimitiveMap.AndInt<java.lang.Long> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            int getOrDefaultLong(long key, int defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            int putLong(long key, int value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            int removeOrDefaultLong(long key, int defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            int addToLong(long key, int increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueInt(int value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfLong.AndInt> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachLong(PrimitiveBiConsumer.OfLong.AndInt action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptLong(e.getKeyLong(), e.getValueInt());
+                }
+            }
+        }
+        /**
+         * A map from {@code long} keys to {@code float} values. The accessors declared
+         * here take and return {@code float} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfLong} box the value.
+         */
+        interface AndFloat extends PrimitiveMap.OfLong<java.lang.Float>, PrimitiveMap.AndFloat<java.lang.Long> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            float getOrDefaultLong(long key, float defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0.0f}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            float putLong(long key, float value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            float removeOrDefaultLong(long key, float defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0.0f}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            float addToLong(long key, float increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueFloat(float value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfLong.AndFloat> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachLong(PrimitiveBiConsumer.OfLong.AndFloat action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptLong(e.getKeyLong(), e.getValueFloat());
+                }
+            }
+        }
+        /**
+         * A map from {@code long} keys to {@code char} values. The accessors declared
+         * here take and return {@code char} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfLong} box the value.
+         */
+        interface AndChar extends PrimitiveMap.OfLong<java.lang.Character>, PrimitiveMap.AndChar<java.lang.Long> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            char getOrDefaultLong(long key, char defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (char) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            char putLong(long key, char value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            char removeOrDefaultLong(long key, char defaultValue);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueChar(char value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfLong.AndChar> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachLong(PrimitiveBiConsumer.OfLong.AndChar action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptLong(e.getKeyLong(), e.getValueChar());
+                }
+            }
+        }
+        /**
+         * A map from {@code long} keys to {@code short} values. The accessors declared
+         * here take and return {@code short} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfLong} box the value.
+         */
+        interface AndShort extends PrimitiveMap.OfLong<java.lang.Short>, PrimitiveMap.AndShort<java.lang.Long> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            short getOrDefaultLong(long key, short defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (short) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            short putLong(long key, short value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            short removeOrDefaultLong(long key, short defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code (short) 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            short addToLong(long key, short increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueShort(short value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfLong.AndShort> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachLong(PrimitiveBiConsumer.OfLong.AndShort action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptLong(e.getKeyLong(), e.getValueShort());
+                }
+            }
+        }
+        /**
+         * A map from {@code long} keys to {@code byte} values. The accessors declared
+         * here take and return {@code byte} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfLong} box the value.
+         */
+        interface AndByte extends PrimitiveMap.OfLong<java.lang.Byte>, PrimitiveMap.AndByte<java.lang.Long> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            byte getOrDefaultLong(long key, byte defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (byte) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            byte putLong(long key, byte value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            byte removeOrDefaultLong(long key, byte defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code (byte) 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            byte addToLong(long key, byte increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueByte(byte value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfLong.AndByte> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachLong(PrimitiveBiConsumer.OfLong.AndByte action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptLong(e.getKeyLong(), e.getValueByte());
+                }
+            }
+        }
+        /**
+         * A map from {@code long} keys to {@code boolean} values. The accessors declared
+         * here take and return {@code boolean} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfLong} box the value.
+         */
+        interface AndBoolean extends PrimitiveMap.OfLong<java.lang.Boolean>, PrimitiveMap.AndBoolean<java.lang.Long> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            boolean getOrDefaultLong(long key, boolean defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code false}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            boolean putLong(long key, boolean value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            boolean removeOrDefaultLong(long key, boolean defaultValue);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueBoolean(boolean value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfLong.AndBoolean> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachLong(PrimitiveBiConsumer.OfLong.AndBoolean action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptLong(e.getKeyLong(), e.getValueBoolean());
+                }
+            }
+        }
+    }
+    /**
+     * A map whose keys are {@code int} values. The {@code *Int} accessors take the key
+     * unboxed, and the {@link Map} methods taking a key box it and delegate to them.
+     * @param <V> the type of mapped values
+     */
+    interface OfInt<V> extends PrimitiveMap<java.lang.Integer, V> {
+        /**
+         * Returns the value to which the specified key is mapped, or {@code null}
+         * if this map contains no mapping for the key.
+         * @param key the key whose associated value is to be returned
+         * @return the value to which the specified key is mapped, or {@code null}
+         * @see Map#get(Object)
+         */
+        V getInt(int key);
+        /**
+         * Returns {@code true} if this map contains a mapping for the specified key.
+         * @param key the key whose presence in this map is to be tested
+         * @return {@code true} if this map contains a mapping for the specified key
+         * @see Map#containsKey(Object)
+         */
+        boolean containsKeyInt(int key);
+        /**
+         * Associates the specified value with the specified key in this map.
+         * @param key the key with which the specified value is to be associated
+         * @param value the value to be associated with the specified key
+         * @return the previous value associated with {@code key}, or {@code null}
+         * @see Map#put(Object, Object)
+         */
+        V putInt(int key, V value);
+        /**
+         * Removes the mapping for a key from this map if it is present.
+         * @param key the key whose mapping is to be removed from the map
+         * @return the previous value associated with {@code key}, or {@code null}
+         * @see Map#remove(Object)
+         */
+        V removeInt(int key);
+        /**
+         * If the specified key is not already associated with a value (or is mapped
+         * to {@code null}), attempts to compute its value using the given mapping
+         * function and enters it into this map unless {@code null}.
+         * @param key the key with which the specified value is to be associated
+         * @param mappingFunction the mapping function to compute a value
+         * @return the current (existing or computed) value associated with the
+         *         specified key, or {@code null} if the computed value is {@code null}
+         * @see Map#computeIfAbsent(Object, Function)
+         */
+        default V computeIfAbsentInt(int key, PrimitiveFunction.OfInt<? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            V v;
+            if((v = getInt(key)) == null) {
+                V newValue;
+                if((newValue = mappingFunction.apply(key)) != null) {
+                    putInt(key, newValue);
+                    return newValue;
+                }
+            }
+            return v;
+        }
+        @Override default V get(Object key) { return (key instanceof java.lang.Integer k) ? getInt(k) : null; }
+        @Override default boolean containsKey(Object key) { return (key instanceof java.lang.Integer k) ? containsKeyInt(k) : false; }
+        @Override default V put(java.lang.Integer key, V value) { return putInt(key, value); }
+        @Override default V remove(Object key) { return (key instanceof java.lang.Integer k) ? removeInt(k) : null; }
+        @Override default V computeIfAbsent(java.lang.Integer key, Function<? super java.lang.Integer, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            return computeIfAbsentInt(key, (PrimitiveFunction.OfInt<? extends V>) mappingFunction::apply);
+        }
+        @Override default Map<java.lang.Integer, V> boxed() { return this; }
+
+        /**
+         * A map from {@code int} keys to {@code double} values. The accessors declared
+         * here take and return {@code double} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfInt} box the value.
+         */
+        interface AndDouble extends PrimitiveMap.OfInt<java.lang.Double>, PrimitiveMap.AndDouble<java.lang.Integer> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            double getOrDefaultInt(int key, double defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0.0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            double putInt(int key, double value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            double removeOrDefaultInt(int key, double defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0.0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            double addToInt(int key, double increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueDouble(double value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfInt.AndDouble> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachInt(PrimitiveBiConsumer.OfInt.AndDouble action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptInt(e.getKeyInt(), e.getValueDouble());
+                }
+            }
+        }
+        /**
+         * A map from {@code int} keys to {@code long} values. The accessors declared
+         * here take and return {@code long} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfInt} box the value.
+         */
+        interface AndLong extends PrimitiveMap.OfInt<java.lang.Long>, PrimitiveMap.AndLong<java.lang.Integer> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            long getOrDefaultInt(int key, long defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0L}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            long putInt(int key, long value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            long removeOrDefaultInt(int key, long defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0L}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            long addToInt(int key, long increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueLong(long value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfInt.AndLong> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachInt(PrimitiveBiConsumer.OfInt.AndLong action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptInt(e.getKeyInt(), e.getValueLong());
+                }
+            }
+        }
+        /**
+         * A map from {@code int} keys to {@code int} values. The accessors declared
+         * here take and return {@code int} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfInt} box the value.
+         */
+        interface AndInt extends PrimitiveMap.OfInt<java.lang.Integer>, PrimitiveMap.AndInt<java.lang.Integer> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            int getOrDefaultInt(int key, int defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            int putInt(int key, int value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            int removeOrDefaultInt(int key, int defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            int addToInt(int key, int increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueInt(int value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfInt.AndInt> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachInt(PrimitiveBiConsumer.OfInt.AndInt action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptInt(e.getKeyInt(), e.getValueInt());
+                }
+            }
+        }
+        /**
+         * A map from {@code int} keys to {@code float} values. The accessors declared
+         * here take and return {@code float} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfInt} box the value.
+         */
+        interface AndFloat extends PrimitiveMap.OfInt<java.lang.Float>, PrimitiveMap.AndFloat<java.lang.Integer> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            float getOrDefaultInt(int key, float defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0.0f}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            float putInt(int key, float value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            float removeOrDefaultInt(int key, float defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0.0f}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            float addToInt(int key, float increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueFloat(float value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfInt.AndFloat> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachInt(PrimitiveBiConsumer.OfInt.AndFloat action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptInt(e.getKeyInt(), e.getValueFloat());
+                }
+            }
+        }
+        /**
+         * A map from {@code int} keys to {@code char} values. The accessors declared
+         * here take and return {@code char} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfInt} box the value.
+         */
+        interface AndChar extends PrimitiveMap.OfInt<java.lang.Character>, PrimitiveMap.AndChar<java.lang.Integer> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            char getOrDefaultInt(int key, char defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (char) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            char putInt(int key, char value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            char removeOrDefaultInt(int key, char defaultValue);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueChar(char value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfInt.AndChar> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachInt(PrimitiveBiConsumer.OfInt.AndChar action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptInt(e.getKeyInt(), e.getValueChar());
+                }
+            }
+        }
+        /**
+         * A map from {@code int} keys to {@code short} values. The accessors declared
+         * here take and return {@code short} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfInt} box the value.
+         */
+        interface AndShort extends PrimitiveMap.OfInt<java.lang.Short>, PrimitiveMap.AndShort<java.lang.Integer> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            short getOrDefaultInt(int key, short defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (short) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            short putInt(int key, short value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            short removeOrDefaultInt(int key, short defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code (short) 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            short addToInt(int key, short increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueShort(short value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfInt.AndShort> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachInt(PrimitiveBiConsumer.OfInt.AndShort action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptInt(e.getKeyInt(), e.getValueShort());
+                }
+            }
+        }
+        /**
+         * A map from {@code int} keys to {@code byte} values. The accessors declared
+         * here take and return {@code byte} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfInt} box the value.
+         */
+        interface AndByte extends PrimitiveMap.OfInt<java.lang.Byte>, PrimitiveMap.AndByte<java.lang.Integer> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            byte getOrDefaultInt(int key, byte defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (byte) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            byte putInt(int key, byte value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            byte removeOrDefaultInt(int key, byte defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code (byte) 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            byte addToInt(int key, byte increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueByte(byte value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfInt.AndByte> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachInt(PrimitiveBiConsumer.OfInt.AndByte action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptInt(e.getKeyInt(), e.getValueByte());
+                }
+            }
+        }
+        /**
+         * A map from {@code int} keys to {@code boolean} values. The accessors declared
+         * here take and return {@code boolean} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfInt} box the value.
+         */
+        interface AndBoolean extends PrimitiveMap.OfInt<java.lang.Boolean>, PrimitiveMap.AndBoolean<java.lang.Integer> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            boolean getOrDefaultInt(int key, boolean defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code false}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            boolean putInt(int key, boolean value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            boolean removeOrDefaultInt(int key, boolean defaultValue);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueBoolean(boolean value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfInt.AndBoolean> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachInt(PrimitiveBiConsumer.OfInt.AndBoolean action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptInt(e.getKeyInt(), e.getValueBoolean());
+                }
+            }
+        }
+    }
+    /**
+     * A map whose keys are {@code float} values. The {@code *Float} accessors take the key
+     * unboxed, and the {@link Map} methods taking a key box it and delegate to them.
+     * @param <V> the type of mapped values
+     */
+    interface OfFloat<V> extends PrimitiveMap<java.lang.Float, V> {
+        /**
+         * Returns the value to which the specified key is mapped, or {@code null}
+         * if this map contains no mapping for the key.
+         * @param key the key whose associated value is to be returned
+         * @return the value to which the specified key is mapped, or {@code null}
+         * @see Map#get(Object)
+         */
+        V getFloat(float key);
+        /**
+         * Returns {@code true} if this map contains a mapping for the specified key.
+         * @param key the key whose presence in this map is to be tested
+         * @return {@code true} if this map contains a mapping for the specified key
+         * @see Map#containsKey(Object)
+         */
+        boolean containsKeyFloat(float key);
+        /**
+         * Associates the specified value with the specified key in this map.
+         * @param key the key with which the specified value is to be associated
+         * @param value the value to be associated with the specified key
+         * @return the previous value associated with {@code key}, or {@code null}
+         * @see Map#put(Object, Object)
+         */
+        V putFloat(float key, V value);
+        /**
+         * Removes the mapping for a key from this map if it is present.
+         * @param key the key whose mapping is to be removed from the map
+         * @return the previous value associated with {@code key}, or {@code null}
+         * @see Map#remove(Object)
+         */
+        V removeFloat(float key);
+        /**
+         * If the specified key is not already associated with a value (or is mapped
+         * to {@code null}), attempts to compute its value using the given mapping
+         * function and enters it into this map unless {@code null}.
+         * @param key the key with which the specified value is to be associated
+         * @param mappingFunction the mapping function to compute a value
+         * @return the current (existing or computed) value associated with the
+         *         specified key, or {@code null} if the computed value is {@code null}
+         * @see Map#computeIfAbsent(Object, Function)
+         */
+        default V computeIfAbsentFloat(float key, PrimitiveFunction.OfFloat<? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            V v;
+            if((v = getFloat(key)) == null) {
+                V newValue;
+                if((newValue = mappingFunction.apply(key)) != null) {
+                    putFloat(key, newValue);
+                    return newValue;
+                }
+            }
+            return v;
+        }
+        @Override default V get(Object key) { return (key instanceof java.lang.Float k) ? getFloat(k) : null; }
+        @Override default boolean containsKey(Object key) { return (key instanceof java.lang.Float k) ? containsKeyFloat(k) : false; }
+        @Override default V put(java.lang.Float key, V value) { return putFloat(key, value); }
+        @Override default V remove(Object key) { return (key instanceof java.lang.Float k) ? removeFloat(k) : null; }
+        @Override default V computeIfAbsent(java.lang.Float key, Function<? super java.lang.Float, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            return computeIfAbsentFloat(key, (PrimitiveFunction.OfFloat<? extends V>) mappingFunction::apply);
+        }
+        @Override default Map<java.lang.Float, V> boxed() { return this; }
+
+        /**
+         * A map from {@code float} keys to {@code double} values. The accessors declared
+         * here take and return {@code double} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfFloat} box the value.
+         */
+        interface AndDouble extends PrimitiveMap.OfFloat<java.lang.Double>, PrimitiveMap.AndDouble<java.lang.Float> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            double getOrDefaultFloat(float key, double defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0.0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            double putFloat(float key, double value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            double removeOrDefaultFloat(float key, double defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0.0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            double addToFloat(float key, double increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueDouble(double value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfFloat.AndDouble> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachFloat(PrimitiveBiConsumer.OfFloat.AndDouble action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptFloat(e.getKeyFloat(), e.getValueDouble());
+                }
+            }
+        }
+        /**
+         * A map from {@code float} keys to {@code long} values. The accessors declared
+         * here take and return {@code long} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfFloat} box the value.
+         */
+        interface AndLong extends PrimitiveMap.OfFloat<java.lang.Long>, PrimitiveMap.AndLong<java.lang.Float> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            long getOrDefaultFloat(float key, long defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0L}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            long putFloat(float key, long value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            long removeOrDefaultFloat(float key, long defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0L}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            long addToFloat(float key, long increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueLong(long value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfFloat.AndLong> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachFloat(PrimitiveBiConsumer.OfFloat.AndLong action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptFloat(e.getKeyFloat(), e.getValueLong());
+                }
+            }
+        }
+        /**
+         * A map from {@code float} keys to {@code int} values. The accessors declared
+         * here take and return {@code int} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfFloat} box the value.
+         */
+        interface AndInt extends PrimitiveMap.OfFloat<java.lang.Integer>, PrimitiveMap.AndInt<java.lang.Float> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            int getOrDefaultFloat(float key, int defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            int putFloat(float key, int value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            int removeOrDefaultFloat(float key, int defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            int addToFloat(float key, int increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueInt(int value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfFloat.AndInt> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachFloat(PrimitiveBiConsumer.OfFloat.AndInt action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptFloat(e.getKeyFloat(), e.getValueInt());
+                }
+            }
+        }
+        /**
+         * A map from {@code float} keys to {@code float} values. The accessors declared
+         * here take and return {@code float} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfFloat} box the value.
+         */
+        interface AndFloat extends PrimitiveMap.OfFloat<java.lang.Float>, PrimitiveMap.AndFloat<java.lang.Float> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            float getOrDefaultFloat(float key, float defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0.0f}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            float putFloat(float key, float value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            float removeOrDefaultFloat(float key, float defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0.0f}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            float addToFloat(float key, float increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueFloat(float value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfFloat.AndFloat> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachFloat(PrimitiveBiConsumer.OfFloat.AndFloat action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptFloat(e.getKeyFloat(), e.getValueFloat());
+                }
+            }
+        }
+        /**
+         * A map from {@code float} keys to {@code char} values. The accessors declared
+         * here take and return {@code char} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfFloat} box the value.
+         */
+        interface AndChar extends PrimitiveMap.OfFloat<java.lang.Character>, PrimitiveMap.AndChar<java.lang.Float> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            char getOrDefaultFloat(float key, char defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (char) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            char putFloat(float key, char value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            char removeOrDefaultFloat(float key, char defaultValue);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueChar(char value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfFloat.AndChar> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachFloat(PrimitiveBiConsumer.OfFloat.AndChar action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptFloat(e.getKeyFloat(), e.getValueChar());
+                }
+            }
+        }
+        /**
+         * A map from {@code float} keys to {@code short} values. The accessors declared
+         * here take and return {@code short} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfFloat} box the value.
+         */
+        interface AndShort extends PrimitiveMap.OfFloat<java.lang.Short>, PrimitiveMap.AndShort<java.lang.Float> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            short getOrDefaultFloat(float key, short defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (short) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            short putFloat(float key, short value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            short removeOrDefaultFloat(float key, short defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code (short) 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            short addToFloat(float key, short increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueShort(short value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfFloat.AndShort> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachFloat(PrimitiveBiConsumer.OfFloat.AndShort action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptFloat(e.getKeyFloat(), e.getValueShort());
+                }
+            }
+        }
+        /**
+         * A map from {@code float} keys to {@code byte} values. The accessors declared
+         * here take and return {@code byte} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfFloat} box the value.
+         */
+        interface AndByte extends PrimitiveMap.OfFloat<java.lang.Byte>, PrimitiveMap.AndByte<java.lang.Float> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            byte getOrDefaultFloat(float key, byte defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (byte) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            byte putFloat(float key, byte value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            byte removeOrDefaultFloat(float key, byte defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code (byte) 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            byte addToFloat(float key, byte increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueByte(byte value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfFloat.AndByte> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachFloat(PrimitiveBiConsumer.OfFloat.AndByte action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptFloat(e.getKeyFloat(), e.getValueByte());
+                }
+            }
+        }
+        /**
+         * A map from {@code float} keys to {@code boolean} values. The accessors declared
+         * here take and return {@code boolean} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfFloat} box the value.
+         */
+        interface AndBoolean extends PrimitiveMap.OfFloat<java.lang.Boolean>, PrimitiveMap.AndBoolean<java.lang.Float> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            boolean getOrDefaultFloat(float key, boolean defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code false}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            boolean putFloat(float key, boolean value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            boolean removeOrDefaultFloat(float key, boolean defaultValue);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueBoolean(boolean value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfFloat.AndBoolean> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachFloat(PrimitiveBiConsumer.OfFloat.AndBoolean action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptFloat(e.getKeyFloat(), e.getValueBoolean());
+                }
+            }
+        }
+    }
+    /**
+     * A map whose keys are {@code char} values. The {@code *Char} accessors take the key
+     * unboxed, and the {@link Map} methods taking a key box it and delegate to them.
+     * @param <V> the type of mapped values
+     */
+    interface OfChar<V> extends PrimitiveMap<java.lang.Character, V> {
+        /**
+         * Returns the value to which the specified key is mapped, or {@code null}
+         * if this map contains no mapping for the key.
+         * @param key the key whose associated value is to be returned
+         * @return the value to which the specified key is mapped, or {@code null}
+         * @see Map#get(Object)
+         */
+        V getChar(char key);
+        /**
+         * Returns {@code true} if this map contains a mapping for the specified key.
+         * @param key the key whose presence in this map is to be tested
+         * @return {@code true} if this map contains a mapping for the specified key
+         * @see Map#containsKey(Object)
+         */
+        boolean containsKeyChar(char key);
+        /**
+         * Associates the specified value with the specified key in this map.
+         * @param key the key with which the specified value is to be associated
+         * @param value the value to be associated with the specified key
+         * @return the previous value associated with {@code key}, or {@code null}
+         * @see Map#put(Object, Object)
+         */
+        V putChar(char key, V value);
+        /**
+         * Removes the mapping for a key from this map if it is present.
+         * @param key the key whose mapping is to be removed from the map
+         * @return the previous value associated with {@code key}, or {@code null}
+         * @see Map#remove(Object)
+         */
+        V removeChar(char key);
+        /**
+         * If the specified key is not already associated with a value (or is mapped
+         * to {@code null}), attempts to compute its value using the given mapping
+         * function and enters it into this map unless {@code null}.
+         * @param key the key with which the specified value is to be associated
+         * @param mappingFunction the mapping function to compute a value
+         * @return the current (existing or computed) value associated with the
+         *         specified key, or {@code null} if the computed value is {@code null}
+         * @see Map#computeIfAbsent(Object, Function)
+         */
+        default V computeIfAbsentChar(char key, PrimitiveFunction.OfChar<? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            V v;
+            if((v = getChar(key)) == null) {
+                V newValue;
+                if((newValue = mappingFunction.apply(key)) != null) {
+                    putChar(key, newValue);
+                    return newValue;
+                }
+            }
+            return v;
+        }
+        @Override default V get(Object key) { return (key instanceof java.lang.Character k) ? getChar(k) : null; }
+        @Override default boolean containsKey(Object key) { return (key instanceof java.lang.Character k) ? containsKeyChar(k) : false; }
+        @Override default V put(java.lang.Character key, V value) { return putChar(key, value); }
+        @Override default V remove(Object key) { return (key instanceof java.lang.Character k) ? removeChar(k) : null; }
+        @Override default V computeIfAbsent(java.lang.Character key, Function<? super java.lang.Character, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            return computeIfAbsentChar(key, (PrimitiveFunction.OfChar<? extends V>) mappingFunction::apply);
+        }
+        @Override default Map<java.lang.Character, V> boxed() { return this; }
+
+        /**
+         * A map from {@code char} keys to {@code double} values. The accessors declared
+         * here take and return {@code double} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfChar} box the value.
+         */
+        interface AndDouble extends PrimitiveMap.OfChar<java.lang.Double>, PrimitiveMap.AndDouble<java.lang.Character> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            double getOrDefaultChar(char key, double defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0.0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            double putChar(char key, double value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            double removeOrDefaultChar(char key, double defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0.0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            double addToChar(char key, double increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueDouble(double value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfChar.AndDouble> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachChar(PrimitiveBiConsumer.OfChar.AndDouble action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptChar(e.getKeyChar(), e.getValueDouble());
+                }
+            }
+        }
+        /**
+         * A map from {@code char} keys to {@code long} values. The accessors declared
+         * here take and return {@code long} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfChar} box the value.
+         */
+        interface AndLong extends PrimitiveMap.OfChar<java.lang.Long>, PrimitiveMap.AndLong<java.lang.Character> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            long getOrDefaultChar(char key, long defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0L}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            long putChar(char key, long value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            long removeOrDefaultChar(char key, long defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0L}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            long addToChar(char key, long increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueLong(long value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfChar.AndLong> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachChar(PrimitiveBiConsumer.OfChar.AndLong action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptChar(e.getKeyChar(), e.getValueLong());
+                }
+            }
+        }
+        /**
+         * A map from {@code char} keys to {@code int} values. The accessors declared
+         * here take and return {@code int} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfChar} box the value.
+         */
+        interface AndInt extends PrimitiveMap.OfChar<java.lang.Integer>, PrimitiveMap.AndInt<java.lang.Character> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            int getOrDefaultChar(char key, int defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            int putChar(char key, int value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            int removeOrDefaultChar(char key, int defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            int addToChar(char key, int increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueInt(int value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfChar.AndInt> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachChar(PrimitiveBiConsumer.OfChar.AndInt action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptChar(e.getKeyChar(), e.getValueInt());
+                }
+            }
+        }
+        /**
+         * A map from {@code char} keys to {@code float} values. The accessors declared
+         * here take and return {@code float} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfChar} box the value.
+         */
+        interface AndFloat extends PrimitiveMap.OfChar<java.lang.Float>, PrimitiveMap.AndFloat<java.lang.Character> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            float getOrDefaultChar(char key, float defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0.0f}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            float putChar(char key, float value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            float removeOrDefaultChar(char key, float defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0.0f}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            float addToChar(char key, float increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueFloat(float value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfChar.AndFloat> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachChar(PrimitiveBiConsumer.OfChar.AndFloat action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptChar(e.getKeyChar(), e.getValueFloat());
+                }
+            }
+        }
+        /**
+         * A map from {@code char} keys to {@code char} values. The accessors declared
+         * here take and return {@code char} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfChar} box the value.
+         */
+        interface AndChar extends PrimitiveMap.OfChar<java.lang.Character>, PrimitiveMap.AndChar<java.lang.Character> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            char getOrDefaultChar(char key, char defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (char) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            char putChar(char key, char value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            char removeOrDefaultChar(char key, char defaultValue);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueChar(char value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfChar.AndChar> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachChar(PrimitiveBiConsumer.OfChar.AndChar action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptChar(e.getKeyChar(), e.getValueChar());
+                }
+            }
+        }
+        /**
+         * A map from {@code char} keys to {@code short} values. The accessors declared
+         * here take and return {@code short} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfChar} box the value.
+         */
+        interface AndShort extends PrimitiveMap.OfChar<java.lang.Short>, PrimitiveMap.AndShort<java.lang.Character> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            short getOrDefaultChar(char key, short defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (short) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            short putChar(char key, short value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            short removeOrDefaultChar(char key, short defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code (short) 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            short addToChar(char key, short increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueShort(short value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfChar.AndShort> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachChar(PrimitiveBiConsumer.OfChar.AndShort action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptChar(e.getKeyChar(), e.getValueShort());
+                }
+            }
+        }
+        /**
+         * A map from {@code char} keys to {@code byte} values. The accessors declared
+         * here take and return {@code byte} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfChar} box the value.
+         */
+        interface AndByte extends PrimitiveMap.OfChar<java.lang.Byte>, PrimitiveMap.AndByte<java.lang.Character> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            byte getOrDefaultChar(char key, byte defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (byte) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            byte putChar(char key, byte value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            byte removeOrDefaultChar(char key, byte defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code (byte) 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            byte addToChar(char key, byte increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueByte(byte value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfChar.AndByte> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachChar(PrimitiveBiConsumer.OfChar.AndByte action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptChar(e.getKeyChar(), e.getValueByte());
+                }
+            }
+        }
+        /**
+         * A map from {@code char} keys to {@code boolean} values. The accessors declared
+         * here take and return {@code boolean} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfChar} box the value.
+         */
+        interface AndBoolean extends PrimitiveMap.OfChar<java.lang.Boolean>, PrimitiveMap.AndBoolean<java.lang.Character> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            boolean getOrDefaultChar(char key, boolean defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code false}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            boolean putChar(char key, boolean value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            boolean removeOrDefaultChar(char key, boolean defaultValue);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueBoolean(boolean value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfChar.AndBoolean> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachChar(PrimitiveBiConsumer.OfChar.AndBoolean action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptChar(e.getKeyChar(), e.getValueBoolean());
+                }
+            }
+        }
+    }
+    /**
+     * A map whose keys are {@code short} values. The {@code *Short} accessors take the key
+     * unboxed, and the {@link Map} methods taking a key box it and delegate to them.
+     * @param <V> the type of mapped values
+     */
+    interface OfShort<V> extends PrimitiveMap<java.lang.Short, V> {
+        /**
+         * Returns the value to which the specified key is mapped, or {@code null}
+         * if this map contains no mapping for the key.
+         * @param key the key whose associated value is to be returned
+         * @return the value to which the specified key is mapped, or {@code null}
+         * @see Map#get(Object)
+         */
+        V getShort(short key);
+        /**
+         * Returns {@code true} if this map contains a mapping for the specified key.
+         * @param key the key whose presence in this map is to be tested
+         * @return {@code true} if this map contains a mapping for the specified key
+         * @see Map#containsKey(Object)
+         */
+        boolean containsKeyShort(short key);
+        /**
+         * Associates the specified value with the specified key in this map.
+         * @param key the key with which the specified value is to be associated
+         * @param value the value to be associated with the specified key
+         * @return the previous value associated with {@code key}, or {@code null}
+         * @see Map#put(Object, Object)
+         */
+        V putShort(short key, V value);
+        /**
+         * Removes the mapping for a key from this map if it is present.
+         * @param key the key whose mapping is to be removed from the map
+         * @return the previous value associated with {@code key}, or {@code null}
+         * @see Map#remove(Object)
+         */
+        V removeShort(short key);
+        /**
+         * If the specified key is not already associated with a value (or is mapped
+         * to {@code null}), attempts to compute its value using the given mapping
+         * function and enters it into this map unless {@code null}.
+         * @param key the key with which the specified value is to be associated
+         * @param mappingFunction the mapping function to compute a value
+         * @return the current (existing or computed) value associated with the
+         *         specified key, or {@code null} if the computed value is {@code null}
+         * @see Map#computeIfAbsent(Object, Function)
+         */
+        default V computeIfAbsentShort(short key, PrimitiveFunction.OfShort<? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            V v;
+            if((v = getShort(key)) == null) {
+                V newValue;
+                if((newValue = mappingFunction.apply(key)) != null) {
+                    putShort(key, newValue);
+                    return newValue;
+                }
+            }
+            return v;
+        }
+        @Override default V get(Object key) { return (key instanceof java.lang.Short k) ? getShort(k) : null; }
+        @Override default boolean containsKey(Object key) { return (key instanceof java.lang.Short k) ? containsKeyShort(k) : false; }
+        @Override default V put(java.lang.Short key, V value) { return putShort(key, value); }
+        @Override default V remove(Object key) { return (key instanceof java.lang.Short k) ? removeShort(k) : null; }
+        @Override default V computeIfAbsent(java.lang.Short key, Function<? super java.lang.Short, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            return computeIfAbsentShort(key, (PrimitiveFunction.OfShort<? extends V>) mappingFunction::apply);
+        }
+        @Override default Map<java.lang.Short, V> boxed() { return this; }
+
+        /**
+         * A map from {@code short} keys to {@code double} values. The accessors declared
+         * here take and return {@code double} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfShort} box the value.
+         */
+        interface AndDouble extends PrimitiveMap.OfShort<java.lang.Double>, PrimitiveMap.AndDouble<java.lang.Short> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            double getOrDefaultShort(short key, double defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0.0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            double putShort(short key, double value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            double removeOrDefaultShort(short key, double defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0.0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            double addToShort(short key, double increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueDouble(double value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfShort.AndDouble> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachShort(PrimitiveBiConsumer.OfShort.AndDouble action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptShort(e.getKeyShort(), e.getValueDouble());
+                }
+            }
+        }
+        /**
+         * A map from {@code short} keys to {@code long} values. The accessors declared
+         * here take and return {@code long} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfShort} box the value.
+         */
+        interface AndLong extends PrimitiveMap.OfShort<java.lang.Long>, PrimitiveMap.AndLong<java.lang.Short> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            long getOrDefaultShort(short key, long defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0L}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            long putShort(short key, long value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            long removeOrDefaultShort(short key, long defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0L}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            long addToShort(short key, long increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueLong(long value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfShort.AndLong> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachShort(PrimitiveBiConsumer.OfShort.AndLong action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptShort(e.getKeyShort(), e.getValueLong());
+                }
+            }
+        }
+        /**
+         * A map from {@code short} keys to {@code int} values. The accessors declared
+         * here take and return {@code int} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfShort} box the value.
+         */
+        interface AndInt extends PrimitiveMap.OfShort<java.lang.Integer>, PrimitiveMap.AndInt<java.lang.Short> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            int getOrDefaultShort(short key, int defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            int putShort(short key, int value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            int removeOrDefaultShort(short key, int defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            int addToShort(short key, int increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueInt(int value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfShort.AndInt> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachShort(PrimitiveBiConsumer.OfShort.AndInt action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptShort(e.getKeyShort(), e.getValueInt());
+                }
+            }
+        }
+        /**
+         * A map from {@code short} keys to {@code float} values. The accessors declared
+         * here take and return {@code float} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfShort} box the value.
+         */
+        interface AndFloat extends PrimitiveMap.OfShort<java.lang.Float>, PrimitiveMap.AndFloat<java.lang.Short> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            float getOrDefaultShort(short key, float defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0.0f}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            float putShort(short key, float value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            float removeOrDefaultShort(short key, float defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0.0f}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            float addToShort(short key, float increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueFloat(float value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfShort.AndFloat> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachShort(PrimitiveBiConsumer.OfShort.AndFloat action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptShort(e.getKeyShort(), e.getValueFloat());
+                }
+            }
+        }
+        /**
+         * A map from {@code short} keys to {@code char} values. The accessors declared
+         * here take and return {@code char} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfShort} box the value.
+         */
+        interface AndChar extends PrimitiveMap.OfShort<java.lang.Character>, PrimitiveMap.AndChar<java.lang.Short> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            char getOrDefaultShort(short key, char defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (char) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            char putShort(short key, char value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            char removeOrDefaultShort(short key, char defaultValue);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueChar(char value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfShort.AndChar> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachShort(PrimitiveBiConsumer.OfShort.AndChar action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptShort(e.getKeyShort(), e.getValueChar());
+                }
+            }
+        }
+        /**
+         * A map from {@code short} keys to {@code short} values. The accessors declared
+         * here take and return {@code short} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfShort} box the value.
+         */
+        interface AndShort extends PrimitiveMap.OfShort<java.lang.Short>, PrimitiveMap.AndShort<java.lang.Short> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            short getOrDefaultShort(short key, short defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (short) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            short putShort(short key, short value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            short removeOrDefaultShort(short key, short defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code (short) 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            short addToShort(short key, short increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueShort(short value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfShort.AndShort> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachShort(PrimitiveBiConsumer.OfShort.AndShort action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptShort(e.getKeyShort(), e.getValueShort());
+                }
+            }
+        }
+        /**
+         * A map from {@code short} keys to {@code byte} values. The accessors declared
+         * here take and return {@code byte} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfShort} box the value.
+         */
+        interface AndByte extends PrimitiveMap.OfShort<java.lang.Byte>, PrimitiveMap.AndByte<java.lang.Short> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            byte getOrDefaultShort(short key, byte defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (byte) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            byte putShort(short key, byte value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            byte removeOrDefaultShort(short key, byte defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code (byte) 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            byte addToShort(short key, byte increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueByte(byte value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfShort.AndByte> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachShort(PrimitiveBiConsumer.OfShort.AndByte action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptShort(e.getKeyShort(), e.getValueByte());
+                }
+            }
+        }
+        /**
+         * A map from {@code short} keys to {@code boolean} values. The accessors declared
+         * here take and return {@code boolean} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfShort} box the value.
+         */
+        interface AndBoolean extends PrimitiveMap.OfShort<java.lang.Boolean>, PrimitiveMap.AndBoolean<java.lang.Short> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            boolean getOrDefaultShort(short key, boolean defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code false}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            boolean putShort(short key, boolean value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            boolean removeOrDefaultShort(short key, boolean defaultValue);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueBoolean(boolean value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfShort.AndBoolean> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachShort(PrimitiveBiConsumer.OfShort.AndBoolean action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptShort(e.getKeyShort(), e.getValueBoolean());
+                }
+            }
+        }
+    }
+    /**
+     * A map whose keys are {@code byte} values. The {@code *Byte} accessors take the key
+     * unboxed, and the {@link Map} methods taking a key box it and delegate to them.
+     * @param <V> the type of mapped values
+     */
+    interface OfByte<V> extends PrimitiveMap<java.lang.Byte, V> {
+        /**
+         * Returns the value to which the specified key is mapped, or {@code null}
+         * if this map contains no mapping for the key.
+         * @param key the key whose associated value is to be returned
+         * @return the value to which the specified key is mapped, or {@code null}
+         * @see Map#get(Object)
+         */
+        V getByte(byte key);
+        /**
+         * Returns {@code true} if this map contains a mapping for the specified key.
+         * @param key the key whose presence in this map is to be tested
+         * @return {@code true} if this map contains a mapping for the specified key
+         * @see Map#containsKey(Object)
+         */
+        boolean containsKeyByte(byte key);
+        /**
+         * Associates the specified value with the specified key in this map.
+         * @param key the key with which the specified value is to be associated
+         * @param value the value to be associated with the specified key
+         * @return the previous value associated with {@code key}, or {@code null}
+         * @see Map#put(Object, Object)
+         */
+        V putByte(byte key, V value);
+        /**
+         * Removes the mapping for a key from this map if it is present.
+         * @param key the key whose mapping is to be removed from the map
+         * @return the previous value associated with {@code key}, or {@code null}
+         * @see Map#remove(Object)
+         */
+        V removeByte(byte key);
+        /**
+         * If the specified key is not already associated with a value (or is mapped
+         * to {@code null}), attempts to compute its value using the given mapping
+         * function and enters it into this map unless {@code null}.
+         * @param key the key with which the specified value is to be associated
+         * @param mappingFunction the mapping function to compute a value
+         * @return the current (existing or computed) value associated with the
+         *         specified key, or {@code null} if the computed value is {@code null}
+         * @see Map#computeIfAbsent(Object, Function)
+         */
+        default V computeIfAbsentByte(byte key, PrimitiveFunction.OfByte<? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            V v;
+            if((v = getByte(key)) == null) {
+                V newValue;
+                if((newValue = mappingFunction.apply(key)) != null) {
+                    putByte(key, newValue);
+                    return newValue;
+                }
+            }
+            return v;
+        }
+        @Override default V get(Object key) { return (key instanceof java.lang.Byte k) ? getByte(k) : null; }
+        @Override default boolean containsKey(Object key) { return (key instanceof java.lang.Byte k) ? containsKeyByte(k) : false; }
+        @Override default V put(java.lang.Byte key, V value) { return putByte(key, value); }
+        @Override default V remove(Object key) { return (key instanceof java.lang.Byte k) ? removeByte(k) : null; }
+        @Override default V computeIfAbsent(java.lang.Byte key, Function<? super java.lang.Byte, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            return computeIfAbsentByte(key, (PrimitiveFunction.OfByte<? extends V>) mappingFunction::apply);
+        }
+        @Override default Map<java.lang.Byte, V> boxed() { return this; }
+
+        /**
+         * A map from {@code byte} keys to {@code double} values. The accessors declared
+         * here take and return {@code double} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfByte} box the value.
+         */
+        interface AndDouble extends PrimitiveMap.OfByte<java.lang.Double>, PrimitiveMap.AndDouble<java.lang.Byte> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            double getOrDefaultByte(byte key, double defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0.0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            double putByte(byte key, double value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            double removeOrDefaultByte(byte key, double defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0.0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            double addToByte(byte key, double increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueDouble(double value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfByte.AndDouble> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachByte(PrimitiveBiConsumer.OfByte.AndDouble action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptByte(e.getKeyByte(), e.getValueDouble());
+                }
+            }
+        }
+        /**
+         * A map from {@code byte} keys to {@code long} values. The accessors declared
+         * here take and return {@code long} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfByte} box the value.
+         */
+        interface AndLong extends PrimitiveMap.OfByte<java.lang.Long>, PrimitiveMap.AndLong<java.lang.Byte> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            long getOrDefaultByte(byte key, long defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0L}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            long putByte(byte key, long value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            long removeOrDefaultByte(byte key, long defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0L}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            long addToByte(byte key, long increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueLong(long value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfByte.AndLong> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachByte(PrimitiveBiConsumer.OfByte.AndLong action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptByte(e.getKeyByte(), e.getValueLong());
+                }
+            }
+        }
+        /**
+         * A map from {@code byte} keys to {@code int} values. The accessors declared
+         * here take and return {@code int} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfByte} box the value.
+         */
+        interface AndInt extends PrimitiveMap.OfByte<java.lang.Integer>, PrimitiveMap.AndInt<java.lang.Byte> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            int getOrDefaultByte(byte key, int defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            int putByte(byte key, int value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            int removeOrDefaultByte(byte key, int defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            int addToByte(byte key, int increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueInt(int value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfByte.AndInt> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachByte(PrimitiveBiConsumer.OfByte.AndInt action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptByte(e.getKeyByte(), e.getValueInt());
+                }
+            }
+        }
+        /**
+         * A map from {@code byte} keys to {@code float} values. The accessors declared
+         * here take and return {@code float} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfByte} box the value.
+         */
+        interface AndFloat extends PrimitiveMap.OfByte<java.lang.Float>, PrimitiveMap.AndFloat<java.lang.Byte> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            float getOrDefaultByte(byte key, float defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0.0f}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            float putByte(byte key, float value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            float removeOrDefaultByte(byte key, float defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0.0f}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            float addToByte(byte key, float increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueFloat(float value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfByte.AndFloat> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachByte(PrimitiveBiConsumer.OfByte.AndFloat action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptByte(e.getKeyByte(), e.getValueFloat());
+                }
+            }
+        }
+        /**
+         * A map from {@code byte} keys to {@code char} values. The accessors declared
+         * here take and return {@code char} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfByte} box the value.
+         */
+        interface AndChar extends PrimitiveMap.OfByte<java.lang.Character>, PrimitiveMap.AndChar<java.lang.Byte> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            char getOrDefaultByte(byte key, char defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (char) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            char putByte(byte key, char value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            char removeOrDefaultByte(byte key, char defaultValue);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueChar(char value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfByte.AndChar> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachByte(PrimitiveBiConsumer.OfByte.AndChar action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptByte(e.getKeyByte(), e.getValueChar());
+                }
+            }
+        }
+        /**
+         * A map from {@code byte} keys to {@code short} values. The accessors declared
+         * here take and return {@code short} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfByte} box the value.
+         */
+        interface AndShort extends PrimitiveMap.OfByte<java.lang.Short>, PrimitiveMap.AndShort<java.lang.Byte> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            short getOrDefaultByte(byte key, short defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (short) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            short putByte(byte key, short value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            short removeOrDefaultByte(byte key, short defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code (short) 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            short addToByte(byte key, short increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueShort(short value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfByte.AndShort> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachByte(PrimitiveBiConsumer.OfByte.AndShort action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptByte(e.getKeyByte(), e.getValueShort());
+                }
+            }
+        }
+        /**
+         * A map from {@code byte} keys to {@code byte} values. The accessors declared
+         * here take and return {@code byte} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfByte} box the value.
+         */
+        interface AndByte extends PrimitiveMap.OfByte<java.lang.Byte>, PrimitiveMap.AndByte<java.lang.Byte> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            byte getOrDefaultByte(byte key, byte defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (byte) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            byte putByte(byte key, byte value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            byte removeOrDefaultByte(byte key, byte defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code (byte) 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            byte addToByte(byte key, byte increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueByte(byte value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfByte.AndByte> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachByte(PrimitiveBiConsumer.OfByte.AndByte action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptByte(e.getKeyByte(), e.getValueByte());
+                }
+            }
+        }
+        /**
+         * A map from {@code byte} keys to {@code boolean} values. The accessors declared
+         * here take and return {@code boolean} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfByte} box the value.
+         */
+        interface AndBoolean extends PrimitiveMap.OfByte<java.lang.Boolean>, PrimitiveMap.AndBoolean<java.lang.Byte> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            boolean getOrDefaultByte(byte key, boolean defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code false}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            boolean putByte(byte key, boolean value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            boolean removeOrDefaultByte(byte key, boolean defaultValue);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueBoolean(boolean value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfByte.AndBoolean> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachByte(PrimitiveBiConsumer.OfByte.AndBoolean action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptByte(e.getKeyByte(), e.getValueBoolean());
+                }
+            }
+        }
+    }
+    /**
+     * A map whose keys are {@code boolean} values. The {@code *Boolean} accessors take the key
+     * unboxed, and the {@link Map} methods taking a key box it and delegate to them.
+     * @param <V> the type of mapped values
+     */
+    interface OfBoolean<V> extends PrimitiveMap<java.lang.Boolean, V> {
+        /**
+         * Returns the value to which the specified key is mapped, or {@code null}
+         * if this map contains no mapping for the key.
+         * @param key the key whose associated value is to be returned
+         * @return the value to which the specified key is mapped, or {@code null}
+         * @see Map#get(Object)
+         */
+        V getBoolean(boolean key);
+        /**
+         * Returns {@code true} if this map contains a mapping for the specified key.
+         * @param key the key whose presence in this map is to be tested
+         * @return {@code true} if this map contains a mapping for the specified key
+         * @see Map#containsKey(Object)
+         */
+        boolean containsKeyBoolean(boolean key);
+        /**
+         * Associates the specified value with the specified key in this map.
+         * @param key the key with which the specified value is to be associated
+         * @param value the value to be associated with the specified key
+         * @return the previous value associated with {@code key}, or {@code null}
+         * @see Map#put(Object, Object)
+         */
+        V putBoolean(boolean key, V value);
+        /**
+         * Removes the mapping for a key from this map if it is present.
+         * @param key the key whose mapping is to be removed from the map
+         * @return the previous value associated with {@code key}, or {@code null}
+         * @see Map#remove(Object)
+         */
+        V removeBoolean(boolean key);
+        /**
+         * If the specified key is not already associated with a value (or is mapped
+         * to {@code null}), attempts to compute its value using the given mapping
+         * function and enters it into this map unless {@code null}.
+         * @param key the key with which the specified value is to be associated
+         * @param mappingFunction the mapping function to compute a value
+         * @return the current (existing or computed) value associated with the
+         *         specified key, or {@code null} if the computed value is {@code null}
+         * @see Map#computeIfAbsent(Object, Function)
+         */
+        default V computeIfAbsentBoolean(boolean key, PrimitiveFunction.OfBoolean<? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            V v;
+            if((v = getBoolean(key)) == null) {
+                V newValue;
+                if((newValue = mappingFunction.apply(key)) != null) {
+                    putBoolean(key, newValue);
+                    return newValue;
+                }
+            }
+            return v;
+        }
+        @Override default V get(Object key) { return (key instanceof java.lang.Boolean k) ? getBoolean(k) : null; }
+        @Override default boolean containsKey(Object key) { return (key instanceof java.lang.Boolean k) ? containsKeyBoolean(k) : false; }
+        @Override default V put(java.lang.Boolean key, V value) { return putBoolean(key, value); }
+        @Override default V remove(Object key) { return (key instanceof java.lang.Boolean k) ? removeBoolean(k) : null; }
+        @Override default V computeIfAbsent(java.lang.Boolean key, Function<? super java.lang.Boolean, ? extends V> mappingFunction) {
+            Objects.requireNonNull(mappingFunction);
+            return computeIfAbsentBoolean(key, (PrimitiveFunction.OfBoolean<? extends V>) mappingFunction::apply);
+        }
+        @Override default Map<java.lang.Boolean, V> boxed() { return this; }
+
+        /**
+         * A map from {@code boolean} keys to {@code double} values. The accessors declared
+         * here take and return {@code double} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfBoolean} box the value.
+         */
+        interface AndDouble extends PrimitiveMap.OfBoolean<java.lang.Double>, PrimitiveMap.AndDouble<java.lang.Boolean> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            double getOrDefaultBoolean(boolean key, double defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0.0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            double putBoolean(boolean key, double value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            double removeOrDefaultBoolean(boolean key, double defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0.0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            double addToBoolean(boolean key, double increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueDouble(double value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfBoolean.AndDouble> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachBoolean(PrimitiveBiConsumer.OfBoolean.AndDouble action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptBoolean(e.getKeyBoolean(), e.getValueDouble());
+                }
+            }
+        }
+        /**
+         * A map from {@code boolean} keys to {@code long} values. The accessors declared
+         * here take and return {@code long} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfBoolean} box the value.
+         */
+        interface AndLong extends PrimitiveMap.OfBoolean<java.lang.Long>, PrimitiveMap.AndLong<java.lang.Boolean> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            long getOrDefaultBoolean(boolean key, long defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0L}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            long putBoolean(boolean key, long value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            long removeOrDefaultBoolean(boolean key, long defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0L}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            long addToBoolean(boolean key, long increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueLong(long value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfBoolean.AndLong> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachBoolean(PrimitiveBiConsumer.OfBoolean.AndLong action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptBoolean(e.getKeyBoolean(), e.getValueLong());
+                }
+            }
+        }
+        /**
+         * A map from {@code boolean} keys to {@code int} values. The accessors declared
+         * here take and return {@code int} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfBoolean} box the value.
+         */
+        interface AndInt extends PrimitiveMap.OfBoolean<java.lang.Integer>, PrimitiveMap.AndInt<java.lang.Boolean> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            int getOrDefaultBoolean(boolean key, int defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            int putBoolean(boolean key, int value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            int removeOrDefaultBoolean(boolean key, int defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            int addToBoolean(boolean key, int increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueInt(int value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfBoolean.AndInt> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachBoolean(PrimitiveBiConsumer.OfBoolean.AndInt action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptBoolean(e.getKeyBoolean(), e.getValueInt());
+                }
+            }
+        }
+        /**
+         * A map from {@code boolean} keys to {@code float} values. The accessors declared
+         * here take and return {@code float} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfBoolean} box the value.
+         */
+        interface AndFloat extends PrimitiveMap.OfBoolean<java.lang.Float>, PrimitiveMap.AndFloat<java.lang.Boolean> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            float getOrDefaultBoolean(boolean key, float defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code 0.0f}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            float putBoolean(boolean key, float value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            float removeOrDefaultBoolean(boolean key, float defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code 0.0f}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            float addToBoolean(boolean key, float increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueFloat(float value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfBoolean.AndFloat> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachBoolean(PrimitiveBiConsumer.OfBoolean.AndFloat action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptBoolean(e.getKeyBoolean(), e.getValueFloat());
+                }
+            }
+        }
+        /**
+         * A map from {@code boolean} keys to {@code char} values. The accessors declared
+         * here take and return {@code char} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfBoolean} box the value.
+         */
+        interface AndChar extends PrimitiveMap.OfBoolean<java.lang.Character>, PrimitiveMap.AndChar<java.lang.Boolean> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            char getOrDefaultBoolean(boolean key, char defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (char) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            char putBoolean(boolean key, char value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            char removeOrDefaultBoolean(boolean key, char defaultValue);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueChar(char value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfBoolean.AndChar> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachBoolean(PrimitiveBiConsumer.OfBoolean.AndChar action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptBoolean(e.getKeyBoolean(), e.getValueChar());
+                }
+            }
+        }
+        /**
+         * A map from {@code boolean} keys to {@code short} values. The accessors declared
+         * here take and return {@code short} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfBoolean} box the value.
+         */
+        interface AndShort extends PrimitiveMap.OfBoolean<java.lang.Short>, PrimitiveMap.AndShort<java.lang.Boolean> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            short getOrDefaultBoolean(boolean key, short defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (short) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            short putBoolean(boolean key, short value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            short removeOrDefaultBoolean(boolean key, short defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code (short) 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            short addToBoolean(boolean key, short increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueShort(short value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfBoolean.AndShort> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachBoolean(PrimitiveBiConsumer.OfBoolean.AndShort action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptBoolean(e.getKeyBoolean(), e.getValueShort());
+                }
+            }
+        }
+        /**
+         * A map from {@code boolean} keys to {@code byte} values. The accessors declared
+         * here take and return {@code byte} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfBoolean} box the value.
+         */
+        interface AndByte extends PrimitiveMap.OfBoolean<java.lang.Byte>, PrimitiveMap.AndByte<java.lang.Boolean> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            byte getOrDefaultBoolean(boolean key, byte defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code (byte) 0}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            byte putBoolean(boolean key, byte value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            byte removeOrDefaultBoolean(boolean key, byte defaultValue);
+            /**
+             * Adds {@code increment} to the value associated with the specified key,
+             * treating a missing mapping as {@code (byte) 0}, and stores the sum.
+             * @param key the key whose value is to be incremented
+             * @param increment the amount to add
+             * @return the value associated with {@code key} after the addition
+             */
+            byte addToBoolean(boolean key, byte increment);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueByte(byte value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfBoolean.AndByte> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachBoolean(PrimitiveBiConsumer.OfBoolean.AndByte action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptBoolean(e.getKeyBoolean(), e.getValueByte());
+                }
+            }
+        }
+        /**
+         * A map from {@code boolean} keys to {@code boolean} values. The accessors declared
+         * here take and return {@code boolean} values unboxed; the ones inherited from
+         * {@link PrimitiveMap.OfBoolean} box the value.
+         */
+        interface AndBoolean extends PrimitiveMap.OfBoolean<java.lang.Boolean>, PrimitiveMap.AndBoolean<java.lang.Boolean> {
+            /**
+             * Returns the value to which the specified key is mapped, or
+             * {@code defaultValue} if this map contains no mapping for the key.
+             * @param key the key whose associated value is to be returned
+             * @param defaultValue the default mapping of the key
+             * @return the value to which the specified key is mapped, or {@code defaultValue}
+             * @see Map#getOrDefault(Object, Object)
+             */
+            boolean getOrDefaultBoolean(boolean key, boolean defaultValue);
+            /**
+             * Associates the specified value with the specified key in this map.
+             * @param key the key with which the specified value is to be associated
+             * @param value the value to be associated with the specified key
+             * @return the previous value associated with {@code key}, or {@code false}
+             *         if there was none
+             * @see Map#put(Object, Object)
+             */
+            boolean putBoolean(boolean key, boolean value);
+            /**
+             * Removes the mapping for a key from this map if it is present.
+             * @param key the key whose mapping is to be removed from the map
+             * @param defaultValue the value to return if there was no mapping
+             * @return the previous value associated with {@code key}, or {@code defaultValue}
+             * @see Map#remove(Object)
+             */
+            boolean removeOrDefaultBoolean(boolean key, boolean defaultValue);
+            /**
+             * Returns {@code true} if this map maps one or more keys to the specified value.
+             * @param value the value whose presence in this map is to be tested
+             * @return {@code true} if this map maps one or more keys to the specified value
+             * @see Map#containsValue(Object)
+             */
+            boolean containsValueBoolean(boolean value);
+            /**
+             * Returns an iterator over the mappings of this map that hands out the
+             * <em>same</em> entry object on every call to {@code next}, repositioned
+             * on the current mapping, so iteration does not allocate per mapping.
+             * The entry must not be retained past the next call to {@code next}.
+             * @return a cursor over the mappings of this map
+             */
+            Iterator<PrimitiveEntry.OfBoolean.AndBoolean> entryCursor();
+            /**
+             * Performs the given action for each mapping in this map.
+             * @param action the action to be performed for each mapping
+             * @see Map#forEach(java.util.function.BiConsumer)
+             */
+            default void forEachBoolean(PrimitiveBiConsumer.OfBoolean.AndBoolean action) {
+                Objects.requireNonNull(action);
+                var it = entryCursor();
+                while(it.hasNext()) {
+                    var e = it.next();
+                    action.acceptBoolean(e.getKeyBoolean(), e.getValueBoolean());
+                }
+            }
+        }
+    }
     
     interface AndDouble<K> extends PrimitiveMap<K, java.lang.Double> {}
     interface AndLong<K> extends PrimitiveMap<K, java.lang.Long> {}
@@ -0,0 +1,417 @@
+package jdk.prim.util.map;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+import jdk.prim.util.PrimitiveAbstractList;
+import jdk.prim.util.PrimitiveAbstractSet;
+import jdk.prim.util.PrimitiveCollection;
+import jdk.prim.util.PrimitiveIterator;
+import jdk.prim.util.PrimitiveList;
+import jdk.prim.util.PrimitiveSpliterator;
+import jdk.prim.util.PrimitiveSpliterators;
+import jdk.prim.util.function.PrimitiveConsumer;
+
+/**
+ * A pseudo-package for holding multimaps: maps from a key to a list of values, built
+ * mutably and then frozen into one flat array per role.
+ */
+public final class PrimitiveMultimap {
+    private PrimitiveMultimap() {}
+
+    /**
+     * An unmodifiable map from {@code int} keys to lists of {@code int} values, laid out in
+     * compressed sparse row form. The distinct keys are held sorted in one {@code int[]}, all
+     * values in a second {@code int[]} grouped by key, and a third array holds for each key
+     * the offset of its group, so that the values of the {@code i}-th key are
+     * {@code targets()[offsets()[i] .. offsets()[i + 1])}. For a graph the keys are the
+     * vertices, the groups are adjacency lists and the third array is the row index; for an
+     * inverted index they are the terms and their posting lists.
+     * <p>
+     * Instances are made by a {@link Builder}, which collects {@code (key, value)} pairs and
+     * freezes them. The values of a key keep the order in which they were added.
+     * <p>
+     * {@link #getInt(int)} finds the key by binary search, or directly when the keys are
+     * exactly {@code 0} to {@code n - 1}, and returns a {@link PrimitiveList.OfInt} view of its
+     * slice of the value array without copying. Traversing every group is a sequential scan
+     * of the value array.
+     */
+    public static final class OfInt extends AbstractMap<java.lang.Integer, PrimitiveList.OfInt> implements PrimitiveMap.OfInt<PrimitiveList.OfInt> {
+        private final int[] keys, offsets, targets;
+        /** Whether {@code keys[i] == i} for every {@code i}, so lookups need no search. */
+        private final boolean dense;
+
+        private transient Set<java.lang.Integer> keySetView;
+        private transient Set<Map.Entry<java.lang.Integer, PrimitiveList.OfInt>> entrySetView;
+
+        private OfInt(int[] keys, int[] offsets, int[] targets) {
+            this.keys = keys;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.dense = keys.length == 0 || keys[keys.length - 1] == keys.length - 1 && keys[0] == 0;
+        }
+
+        /** Returns the position of {@code key} in {@link #keys}, or a negative value. */
+        private int slot(int key) {
+            if(dense) return key >= 0 && key < keys.length ? key : -1;
+            return Arrays.binarySearch(keys, key);
+        }
+
+        ///////////// Query operations
+
+        /**
+         * Returns the number of distinct keys.
+         */
+        @Override
+        public int size() { return keys.length; }
+
+        @Override
+        public boolean isEmpty() { return keys.length == 0; }
+
+        /**
+         * Returns the number of values over all keys.
+         * @return the length of the value array
+         */
+        public int valueCount() { return targets.length; }
+
+        /**
+         * Returns an unmodifiable view of the values mapped to the specified key, in the
+         * order they were added, or {@code null} if the key has none. The view reads the
+         * shared value array and allocates nothing else.
+         * @param key the key whose values are to be returned
+         * @return the values of {@code key}, or {@code null}
+         */
+        @Override
+        public PrimitiveList.OfInt getInt(int key) {
+            int s = slot(key);
+            return s < 0 ? null : new Slice(offsets[s], offsets[s + 1]);
+        }
+
+        @Override
+        public PrimitiveList.OfInt get(Object key) { return (key instanceof java.lang.Integer k) ? getInt(k) : null; }
+
+        @Override
+        public boolean containsKeyInt(int key) { return slot(key) >= 0; }
+
+        @Override
+        public boolean containsKey(Object key) { return (key instanceof java.lang.Integer k) ? containsKeyInt(k) : false; }
+
+        /**
+         * Returns the number of values mapped to the specified key, which is the out-degree
+         * of a vertex in a graph.
+         * @param key the key whose values are to be counted
+         * @return the number of values of {@code key}, or {@code 0} if it has none
+         */
+        public int countInt(int key) {
+            int s = slot(key);
+            return s < 0 ? 0 : offsets[s + 1] - offsets[s];
+        }
+
+        /**
+         * Performs the given action on each value mapped to the specified key, in order,
+         * reading the value array directly.
+         * @param key the key whose values are to be visited
+         * @param action the action to be performed for each value
+         */
+        public void forEachValueInt(int key, PrimitiveConsumer.OfInt action) {
+            Objects.requireNonNull(action);
+            int s = slot(key);
+            if(s < 0) return;
+            final int[] ts = targets;
+            for(int i = offsets[s], end = offsets[s + 1]; i < end; i++) action.acceptInt(ts[i]);
+        }
+
+        /**
+         * Returns the sorted distinct keys. The array is shared with this map and must
+         * not be modified.
+         * @return the key array
+         */
+        public int[] keys() { return keys; }
+
+        /**
+         * Returns the offsets into {@link #targets()} of the groups of values, one per key
+         * in the order of {@link #keys()} followed by {@link #valueCount()}. The array is
+         * shared with this map and must not be modified.
+         * @return the offset array, of length {@code size() + 1}
+         */
+        public int[] offsets() { return offsets; }
+
+        /**
+         * Returns the values of all keys, grouped by key in the order of {@link #keys()}.
+         * The array is shared with this map and must not be modified.
+         * @return the value array
+         */
+        public int[] targets() { return targets; }
+
+        ///////////// Unsupported modification operations
+
+        @Override
+        public PrimitiveList.OfInt putInt(int key, PrimitiveList.OfInt value) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public PrimitiveList.OfInt put(java.lang.Integer key, PrimitiveList.OfInt value) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public PrimitiveList.OfInt removeInt(int key) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public PrimitiveList.OfInt remove(Object key) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public void putAll(Map<? extends java.lang.Integer, ? extends PrimitiveList.OfInt> m) { throw new UnsupportedOperationException(); }
+
+        @Override
+        public void clear() { throw new UnsupportedOperationException(); }
+
+        ///////////// Views
+
+        @Override
+        public void forEach(BiConsumer<? super java.lang.Integer, ? super PrimitiveList.OfInt> action) {
+            Objects.requireNonNull(action);
+            for(int s = 0; s < keys.length; s++) action.accept(keys[s], new Slice(offsets[s], offsets[s + 1]));
+        }
+
+        /**
+         * Returns an unmodifiable view of the keys, in ascending order.
+         */
+        @Override
+        public Set<java.lang.Integer> keySet() {
+            Set<java.lang.Integer> ks;
+            return (ks = keySetView) == null ? (keySetView = new KeySet()) : ks;
+        }
+
+        @Override
+        public Set<Map.Entry<java.lang.Integer, PrimitiveList.OfInt>> entrySet() {
+            Set<Map.Entry<java.lang.Integer, PrimitiveList.OfInt>> es;
+            return (es = entrySetView) == null ? (entrySetView = new EntrySet()) : es;
+        }
+
+        private final class KeySet extends PrimitiveAbstractSet.OfInt {
+            public int size() { return keys.length; }
+            public boolean containsInt(int k) { return containsKeyInt(k); }
+            public PrimitiveIterator.OfInt iteratorInt() {
+                return new PrimitiveIterator.OfInt() {
+                    private int next;
+
+                    public boolean hasNext() { return next < keys.length; }
+
+                    public int nextInt() {
+                        if(next >= keys.length) throw new NoSuchElementException();
+                        return keys[next++];
+                    }
+                };
+            }
+            public PrimitiveSpliterator.OfInt spliteratorInt() {
+                return PrimitiveSpliterators.spliterator(keys, 0, keys.length, Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.ORDERED | Spliterator.IMMUTABLE);
+            }
+        }
+
+        private final class EntrySet extends AbstractSet<Map.Entry<java.lang.Integer, PrimitiveList.OfInt>> {
+            public int size() { return keys.length; }
+            public Iterator<Map.Entry<java.lang.Integer, PrimitiveList.OfInt>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    public boolean hasNext() { return next < keys.length; }
+
+                    public Map.Entry<java.lang.Integer, PrimitiveList.OfInt> next() {
+                        int s = next;
+                        if(s >= keys.length) throw new NoSuchElementException();
+                        next = s + 1;
+                        return new AbstractMap.SimpleImmutableEntry<>(keys[s], new Slice(offsets[s], offsets[s + 1]));
+                    }
+                };
+            }
+        }
+
+        /** An unmodifiable view of {@code targets[from, to)}. */
+        private final class Slice extends PrimitiveAbstractList.OfInt implements RandomAccess {
+            private final int from, to;
+
+            Slice(int from, int to) {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            public int size() { return to - from; }
+
+            @Override
+            public boolean isEmpty() { return to == from; }
+
+            @Override
+            public int getInt(int index) { return targets[from + Objects.checkIndex(index, to - from)]; }
+
+            @Override
+            public int indexOfInt(int e) {
+                final int[] ts = targets;
+                for(int i = from; i < to; i++) if(ts[i] == e) return i - from;
+                return -1;
+            }
+
+            @Override
+            public int lastIndexOfInt(int e) {
+                final int[] ts = targets;
+                for(int i = to - 1; i >= from; i--) if(ts[i] == e) return i - from;
+                return -1;
+            }
+
+            @Override
+            public int[] toArrayInt() { return Arrays.copyOfRange(targets, from, to); }
+
+            @Override
+            public int[] toArrayInt(int[] array) {
+                if(array.length < to - from) return toArrayInt();
+                System.arraycopy(targets, from, array, 0, to - from);
+                return array;
+            }
+
+            @Override
+            public void forEach(PrimitiveConsumer.OfInt action) {
+                Objects.requireNonNull(action);
+                final int[] ts = targets;
+                for(int i = from; i < to; i++) action.acceptInt(ts[i]);
+            }
+
+            @Override
+            public PrimitiveSpliterator.OfInt spliteratorInt() { return PrimitiveSpliterators.spliterator(targets, from, to); }
+
+            /**
+             * Returns a view of the specified range of this slice, sharing the value array.
+             */
+            @Override
+            public PrimitiveList.OfInt subListInt(int fromIndex, int toIndex) {
+                Objects.checkFromToIndex(fromIndex, toIndex, to - from);
+                return new Slice(from + fromIndex, from + toIndex);
+            }
+        }
+
+        /**
+         * Collects {@code (key, value)} pairs for a {@link PrimitiveMultimap.OfInt}. The pairs
+         * are appended to two parallel growable arrays, so building allocates no object per
+         * key or per value, and {@link #freeze()} groups them in one pass over a parallel sort.
+         * <p>
+         * A builder is not thread-safe. It can keep being added to after a freeze, and later
+         * freezes include everything added so far.
+         */
+        public static final class Builder {
+            private static final int DEFAULT_CAPACITY = 16;
+
+            private int[] ks, vs;
+            private int size;
+
+            /**
+             * Constructs an empty builder.
+             */
+            public Builder() { this(DEFAULT_CAPACITY); }
+
+            /**
+             * Constructs an empty builder with room for the specified number of pairs.
+             * @param expected the expected number of pairs
+             * @throws IllegalArgumentException if {@code expected} is negative
+             */
+            public Builder(int expected) {
+                if(expected < 0) throw new IllegalArgumentException("Illegal Capacity: " + expected);
+                ks = new int[expected];
+                vs = new int[expected];
+            }
+
+            private void ensureCapacity(int minCapacity) {
+                if(minCapacity < 0) throw new OutOfMemoryError("Too many pairs");
+                if(minCapacity <= ks.length) return;
+                int n = Math.max(Math.max(minCapacity, DEFAULT_CAPACITY), ks.length + (ks.length >> 1));
+                if(n < 0) n = minCapacity; // growth by half overflowed
+                ks = Arrays.copyOf(ks, n);
+                vs = Arrays.copyOf(vs, n);
+            }
+
+            /**
+             * Adds a value to the specified key.
+             * @param key the key
+             * @param value the value to add to its list
+             * @return this builder
+             */
+            public Builder putInt(int key, int value) {
+                ensureCapacity(size + 1);
+                ks[size] = key;
+                vs[size++] = value;
+                return this;
+            }
+
+            /**
+             * Adds {@code len} values of the specified array, starting at {@code off}, to the
+             * specified key.
+             * @param key the key
+             * @param values the array holding the values
+             * @param off the index of the first value
+             * @param len the number of values
+             * @return this builder
+             * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code values}
+             */
+            public Builder putAllInt(int key, int[] values, int off, int len) {
+                Objects.checkFromIndexSize(off, len, values.length);
+                ensureCapacity(size + len);
+                Arrays.fill(ks, size, size + len, key);
+                System.arraycopy(values, off, vs, size, len);
+                size += len;
+                return this;
+            }
+
+            /**
+             * Adds the values of the specified collection to the specified key, in
+             * iteration order.
+             * @param key the key
+             * @param values the values to add
+             * @return this builder
+             */
+            public Builder putAllInt(int key, PrimitiveCollection.OfInt values) {
+                int[] a = values.toArrayInt();
+                return putAllInt(key, a, 0, a.length);
+            }
+
+            /**
+             * Returns the number of pairs added so far.
+             * @return the number of pairs
+             */
+            public int size() { return size; }
+
+            /**
+             * Removes every pair added so far.
+             */
+            public void clear() { size = 0; }
+
+            /**
+             * Groups the pairs added so far into a new {@link PrimitiveMultimap.OfInt}. Each
+             * pair is packed into a {@code long} as its key above its position, so that one
+             * {@link Arrays#parallelSort(long[]) parallel sort} orders the pairs by key while
+             * keeping the values of a key in insertion order. The values are then gathered
+             * and the group boundaries found in parallel. The pairs are left in the builder.
+             * @return the frozen multimap
+             */
+            public PrimitiveMultimap.OfInt freeze() {
+                final int n = size;
+                final int[] ks = this.ks, vs = this.vs;
+                final long[] p = new long[n];
+                Arrays.parallelSetAll(p, i -> (long) ks[i] << 32 | i);
+                Arrays.parallelSort(p);
+                int[] targets = new int[n];
+                Arrays.parallelSetAll(targets, i -> vs[(int) p[i]]);
+                int[] starts = IntStream.range(0, n).parallel().filter(i -> i == 0 || (p[i] >>> 32) != (p[i - 1] >>> 32)).toArray();
+                int[] keys = new int[starts.length], offsets = Arrays.copyOf(starts, starts.length + 1);
+                Arrays.parallelSetAll(keys, i -> (int) (p[starts[i]] >>> 32));
+                offsets[starts.length] = n;
+                return new PrimitiveMultimap.OfInt(keys, offsets, targets);
+            }
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package jdk.prim.util.sort;
+
+import java.util.concurrent.ForkJoinPool;
+
+import jdk.prim.util.PrimitiveComparator;
+
+/**
+ * A class that contains argsort operations for all primitive arrays. An argsort leaves
+ * the keys where they are and returns the permutation of indices that would sort them,
+ * so that {@code keys[p[0]], keys[p[1]], ...} is in order and several parallel arrays
+ * can be reordered the same way. The permutation is stable: the indices of keys that
+ * compare equal are in ascending order.
+ * <p>
+ * Keys of at most 32 bits ordered naturally or in reverse are packed with their index
+ * into a {@code long}, as {@code (key << 32) | index}, so that sorting the packed values
+ * with {@link PrimitiveRadixSort} sorts the pairs and breaks ties by index. Keys of
+ * {@code double} and {@code long} arrays and other comparators sort the indices themselves
+ * with {@link PrimitiveMergeSort}, comparing the keys they point to.
+ * <p>
+ * The {@code parallelArgsort} operations sort on the
+ * {@link ForkJoinPool#commonPool() common pool}. A {@code null} comparator stands for the
+ * natural order, and a {@code dst} that is {@code null} or of a different length than the
+ * keys is replaced by a new array.
+ */
+public final class PrimitiveArgSort {
+    private PrimitiveArgSort() {}
+
+    private static int[] indices(int[] dst, int n) {
+        return dst == null || dst.length != n ? new int[n] : dst;
+    }
+
+    /** Packs the key, complemented for the reverse order, above the index. */
+    private static long pack(int key, int index, boolean reverse) {
+        return (long) (reverse ? ~key : key) << 32 | index;
+    }
+
+    /** Sorts the packed pairs and writes their indices to {@code p}. */
+    private static int[] unpack(long[] packed, int[] p, int parallelism) {
+        PrimitiveRadixSort.sort(packed, 0, packed.length, parallelism);
+        for(int i = 0; i < p.length; i++) p[i] = (int) packed[i];
+        return p;
+    }
+
+    /** Fills {@code p} with the identity and stably sorts it by the given order of indices. */
+    private static int[] byComparator(int[] p, PrimitiveComparator.OfInt indexOrder, int parallelism) {
+        for(int i = 0; i < p.length; i++) p[i] = i;
+        PrimitiveMergeSort.ofInt(parallelism).sort(p, indexOrder, null);
+        return p;
+    }
+
+    /** Returns the bits of {@code x} arranged so that their signed order is that of {@link Float#compare(float, float)}. */
+    private static int sortableKey(float x) {
+        int b = Float.floatToIntBits(x);
+        return b ^ (b >> 31 & Integer.MAX_VALUE);
+    }
+
+    ///////////// double
+
+    /**
+     * Returns the permutation that sorts the keys into ascending order
+     * @param keys the keys to be sorted
+     * @return the indices of the keys in sorted order
+     */
+    public static int[] argsort(double[] keys) { return argsort(keys, null, null); }
+    /**
+     * Fills {@code dst} with the permutation that sorts the keys by the comparator
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param dst the array to fill, or {@code null}
+     * @return {@code dst}, or a new array if it is {@code null} or not as long as the keys
+     */
+    public static int[] argsort(double[] keys, PrimitiveComparator.OfDouble comparator, int[] dst) { return argsort(keys, comparator, dst, 1); }
+    /**
+     * Fills {@code dst} with the permutation that sorts the keys by the comparator, sorting on the common pool
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param dst the array to fill, or {@code null}
+     * @return {@code dst}, or a new array if it is {@code null} or not as long as the keys
+     */
+    public static int[] parallelArgsort(double[] keys, PrimitiveComparator.OfDouble comparator, int[] dst) {
+        return argsort(keys, comparator, dst, ForkJoinPool.getCommonPoolParallelism());
+    }
+    private static int[] argsort(double[] keys, PrimitiveComparator.OfDouble comparator, int[] dst, int parallelism) {
+        final PrimitiveComparator.OfDouble c = comparator == null ? PrimitiveComparator.naturalOrderDouble() : comparator;
+        return byComparator(indices(dst, keys.length), (i, j) -> c.compareDouble(keys[i], keys[j]), parallelism);
+    }
+
+    ///////////// long
+
+    /**
+     * Returns the permutation that sorts the keys into ascending order
+     * @param keys the keys to be sorted
+     * @return the indices of the keys in sorted order
+     */
+    public static int[] argsort(long[] keys) { return argsort(keys, null, null); }
+    /**
+     * Fills {@code dst} with the permutation that sorts the keys by the comparator
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param dst the array to fill, or {@code null}
+     * @return {@code dst}, or a new array if it is {@code null} or not as long as the keys
+     */
+    public static int[] argsort(long[] keys, PrimitiveComparator.OfLong comparator, int[] dst) { return argsort(keys, comparator, dst, 1); }
+    /**
+     * Fills {@code dst} with the permutation that sorts the keys by the comparator, sorting on the common pool
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param dst the array to fill, or {@code null}
+     * @return {@code dst}, or a new array if it is {@code null} or not as long as the keys
+     */
+    public static int[] parallelArgsort(long[] keys, PrimitiveComparator.OfLong comparator, int[] dst) {
+        return argsort(keys, comparator, dst, ForkJoinPool.getCommonPoolParallelism());
+    }
+    private static int[] argsort(long[] keys, PrimitiveComparator.OfLong comparator, int[] dst, int parallelism) {
+        final PrimitiveComparator.OfLong c = comparator == null ? PrimitiveComparator.naturalOrderLong() : comparator;
+        return byComparator(indices(dst, keys.length), (i, j) -> c.compareLong(keys[i], keys[j]), parallelism);
+    }
+
+    ///////////// int
+
+    /**
+     * Returns the permutation that sorts the keys into ascending order
+     * @param keys the keys to be sorted
+     * @return the indices of the keys in sorted order
+     */
+    public static int[] argsort(int[] keys) { return argsort(keys, null, null); }
+    /**
+     * Fills {@code dst} with the permutation that sorts the keys by the comparator
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param dst the array to fill, or {@code null}
+     * @return {@code dst}, or a new array if it is {@code null} or not as long as the keys
+     */
+    public static int[] argsort(int[] keys, PrimitiveComparator.OfInt comparator, int[] dst) { return argsort(keys, comparator, dst, 1); }
+    /**
+     * Fills {@code dst} with the permutation that sorts the keys by the comparator, sorting on the common pool
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param dst the array to fill, or {@code null}
+     * @return {@code dst}, or a new array if it is {@code null} or not as long as the keys
+     */
+    public static int[] parallelArgsort(int[] keys, PrimitiveComparator.OfInt comparator, int[] dst) {
+        return argsort(keys, comparator, dst, ForkJoinPool.getCommonPoolParallelism());
+    }
+    private static int[] argsort(int[] keys, PrimitiveComparator.OfInt c, int[] dst, int parallelism) {
+        final int[] p = indices(dst, keys.length);
+        final boolean reverse = c == PrimitiveComparator.reverseOrderInt();
+        if(!reverse && c != null && c != PrimitiveComparator.naturalOrderInt())
+            return byComparator(p, (i, j) -> c.compareInt(keys[i], keys[j]), parallelism);
+        final long[] packed = new long[keys.length];
+        for(int i = 0; i < packed.length; i++) packed[i] = pack(keys[i], i, reverse);
+        return unpack(packed, p, parallelism);
+    }
+
+    ///////////// float
+
+    /**
+     * Returns the permutation that sorts the keys into ascending order
+     * @param keys the keys to be sorted
+     * @return the indices of the keys in sorted order
+     */
+    public static int[] argsort(float[] keys) { return argsort(keys, null, null); }
+    /**
+     * Fills {@code dst} with the permutation that sorts the keys by the comparator
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param dst the array to fill, or {@code null}
+     * @return {@code dst}, or a new array if it is {@code null} or not as long as the keys
+     */
+    public static int[] argsort(float[] keys, PrimitiveComparator.OfFloat comparator, int[] dst) { return argsort(keys, comparator, dst, 1); }
+    /**
+     * Fills {@code dst} with the permutation that sorts the keys by the comparator, sorting on the common pool
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param dst the array to fill, or {@code null}
+     * @return {@code dst}, or a new array if it is {@code null} or not as long as the keys
+     */
+    public static int[] parallelArgsort(float[] keys, PrimitiveComparator.OfFloat comparator, int[] dst) {
+        return argsort(keys, comparator, dst, ForkJoinPool.getCommonPoolParallelism());
+    }
+    private static int[] argsort(float[] keys, PrimitiveComparator.OfFloat c, int[] dst, int parallelism) {
+        final int[] p = indices(dst, keys.length);
+        final boolean reverse = c == PrimitiveComparator.reverseOrderFloat();
+        if(!reverse && c != null && c != PrimitiveComparator.naturalOrderFloat())
+            return byComparator(p, (i, j) -> c.compareFloat(keys[i], keys[j]), parallelism);
+        final long[] packed = new long[keys.length];
+        for(int i = 0; i < packed.length; i++) packed[i] = pack(sortableKey(keys[i]), i, reverse);
+        return unpack(packed, p, parallelism);
+    }
+
+    ///////////// char
+
+    /**
+     * Returns the permutation that sorts the keys into ascending order
+     * @param keys the keys to be sorted
+     * @return the indices of the keys in sorted order
+     */
+    public static int[] argsort(char[] keys) { return argsort(keys, null, null); }
+    /**
+     * Fills {@code dst} with the permutation that sorts the keys by the comparator
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param dst the array to fill, or {@code null}
+     * @return {@code dst}, or a new array if it is {@code null} or not as long as the keys
+     */
+    public static int[] argsort(char[] keys, PrimitiveComparator.OfChar comparator, int[] dst) { return argsort(keys, comparator, dst, 1); }
+    /**
+     * Fills {@code dst} with the permutation that sorts the keys by the comparator, sorting on the common pool
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param dst the array to fill, or {@code null}
+     * @return {@code dst}, or a new array if it is {@code null} or not as long as the keys
+     */
+    public static int[] parallelArgsort(char[] keys, PrimitiveComparator.OfChar comparator, int[] dst) {
+        return argsort(keys, comparator, dst, ForkJoinPool.getCommonPoolParallelism());
+    }
+    private static int[] argsort(char[] keys, PrimitiveComparator.OfChar c, int[] dst, int parallelism) {
+        final int[] p = indices(dst, keys.length);
+        final boolean reverse = c == PrimitiveComparator.reverseOrderChar();
+        if(!reverse && c != null && c != PrimitiveComparator.naturalOrderChar())
+            return byComparator(p, (i, j) -> c.compareChar(keys[i], keys[j]), parallelism);
+        final long[] packed = new long[keys.length];
+        for(int i = 0; i < packed.length; i++) packed[i] = pack(keys[i], i, reverse);
+        return unpack(packed, p, parallelism);
+    }
+
+    ///////////// short
+
+    /**
+     * Returns the permutation that sorts the keys into ascending order
+     * @param keys the keys to be sorted
+     * @return the indices of the keys in sorted order
+     */
+    public static int[] argsort(short[] keys) { return argsort(keys, null, null); }
+    /**
+     * Fills {@code dst} with the permutation that sorts the keys by the comparator
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param dst the array to fill, or {@code null}
+     * @return {@code dst}, or a new array if it is {@code null} or not as long as the keys
+     */
+    public static int[] argsort(short[] keys, PrimitiveComparator.OfShort comparator, int[] dst) { return argsort(keys, comparator, dst, 1); }
+    /**
+     * Fills {@code dst} with the permutation that sorts the keys by the comparator, sorting on the common pool
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param dst the array to fill, or {@code null}
+     * @return {@code dst}, or a new array if it is {@code null} or not as long as the keys
+     */
+    public static int[] parallelArgsort(short[] keys, PrimitiveComparator.OfShort comparator, int[] dst) {
+        return argsort(keys, comparator, dst, ForkJoinPool.getCommonPoolParallelism());
+    }
+    private static int[] argsort(short[] keys, PrimitiveComparator.OfShort c, int[] dst, int parallelism) {
+        final int[] p = indices(dst, keys.length);
+        final boolean reverse = c == PrimitiveComparator.reverseOrderShort();
+        if(!reverse && c != null && c != PrimitiveComparator.naturalOrderShort())
+            return byComparator(p, (i, j) -> c.compareShort(keys[i], keys[j]), parallelism);
+        final long[] packed = new long[keys.length];
+        for(int i = 0; i < packed.length; i++) packed[i] = pack(keys[i], i, reverse);
+        return unpack(packed, p, parallelism);
+    }
+
+    ///////////// byte
+
+    /**
+     * Returns the permutation that sorts the keys into ascending order
+     * @param keys the keys to be sorted
+     * @return the indices of the keys in sorted order
+     */
+    public static int[] argsort(byte[] keys) { return argsort(keys, null, null); }
+    /**
+     * Fills {@code dst} with the permutation that sorts the keys by the comparator
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param dst the array to fill, or {@code null}
+     * @return {@code dst}, or a new array if it is {@code null} or not as long as the keys
+     */
+    public static int[] argsort(byte[] keys, PrimitiveComparator.OfByte comparator, int[] dst) { return argsort(keys, comparator, dst, 1); }
+    /**
+     * Fills {@code dst} with the permutation that sorts the keys by the comparator, sorting on the common pool
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param dst the array to fill, or {@code null}
+     * @return {@code dst}, or a new array if it is {@code null} or not as long as the keys
+     */
+    public static int[] parallelArgsort(byte[] keys, PrimitiveComparator.OfByte comparator, int[] dst) {
+        return argsort(keys, comparator, dst, ForkJoinPool.getCommonPoolParallelism());
+    }
+    private static int[] argsort(byte[] keys, PrimitiveComparator.OfByte c, int[] dst, int parallelism) {
+        final int[] p = indices(dst, keys.length);
+        final boolean reverse = c == PrimitiveComparator.reverseOrderByte();
+        if(!reverse && c != null && c != PrimitiveComparator.naturalOrderByte())
+            return byComparator(p, (i, j) -> c.compareByte(keys[i], keys[j]), parallelism);
+        final long[] packed = new long[keys.length];
+        for(int i = 0; i < packed.length; i++) packed[i] = pack(keys[i], i, reverse);
+        return unpack(packed, p, parallelism);
+    }
+
+    ///////////// boolean
+
+    /**
+     * Returns the permutation that sorts the keys into ascending order
+     * @param keys the keys to be sorted
+     * @return the indices of the keys in sorted order
+     */
+    public static int[] argsort(boolean[] keys) { return argsort(keys, null, null); }
+    /**
+     * Fills {@code dst} with the permutation that sorts the keys by the comparator
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param dst the array to fill, or {@code null}
+     * @return {@code dst}, or a new array if it is {@code null} or not as long as the keys
+     */
+    public static int[] argsort(boolean[] keys, PrimitiveComparator.OfBoolean comparator, int[] dst) { return argsort(keys, comparator, dst, 1); }
+    /**
+     * Fills {@code dst} with the permutation that sorts the keys by the comparator, sorting on the common pool
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param dst the array to fill, or {@code null}
+     * @return {@code dst}, or a new array if it is {@code null} or not as long as the keys
+     */
+    public static int[] parallelArgsort(boolean[] keys, PrimitiveComparator.OfBoolean comparator, int[] dst) {
+        return argsort(keys, comparator, dst, ForkJoinPool.getCommonPoolParallelism());
+    }
+    private static int[] argsort(boolean[] keys, PrimitiveComparator.OfBoolean c, int[] dst, int parallelism) {
+        final int[] p = indices(dst, keys.length);
+        final boolean reverse = c == PrimitiveComparator.reverseOrderBoolean();
+        if(!reverse && c != null && c != PrimitiveComparator.naturalOrderBoolean())
+            return byComparator(p, (i, j) -> c.compareBoolean(keys[i], keys[j]), parallelism);
+        final long[] packed = new long[keys.length];
+        for(int i = 0; i < packed.length; i++) packed[i] = pack(keys[i] ? 1 : 0, i, reverse);
+        return unpack(packed, p, parallelism);
+    }
+}
@@ -1,10 +1,11 @@
 package jdk.prim.util.sort;
 
 import java.util.ArrayList;
-import java.util.ConcurrentModificationException;
-import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
 
 import jdk.prim.util.PrimitiveArrays;
 import jdk.prim.util.PrimitiveComparator;
@@ -12,105 +13,216 @@ import jdk.prim.util.PrimitiveComparator;
 /**
  * A class that contains primitive implementations of a very basic
  * multi-threaded quick sort algorithm. It's main purpose is to serve as a
- * fallback for code on environments where modern multi-threading isn't possible
+ * fallback for code on environments where the dual pivot sorters aren't suitable.
  * <p>
- * This seems slower than {@link PrimitiveNaiveQuickSort} on multi-core processors
+ * Each range is split with a three-way partition around the median of its first,
+ * middle and last elements, so runs of equal elements are not partitioned again.
+ * The smaller side is handed to another worker if it holds more than
+ * {@value #SEQUENTIAL_THRESHOLD} elements and sorted in place otherwise, while the
+ * current worker carries on with the larger side, and ranges of at most
+ * {@value #INSERTION_SORT_THRESHOLD} elements are finished by insertion sort.
+ * <p>
+ * The workers are either the tasks of the {@link ForkJoinPool#commonPool() common pool},
+ * which steal partitions from one another, or virtual threads. Either way every
+ * worker waits for the partitions it handed off, so a sort returns only once the
+ * whole array is sorted, and an exception thrown by the comparator on any worker is
+ * rethrown by the sort.
  */
 public final class PrimitiveBasicQuickSort {
     private PrimitiveBasicQuickSort() {
     }
 
-    private static void waitForThreads(List<Thread> threads, Semaphore semaphore) {
-        for (int i = 0; i < threads.size(); i++) {
-            Thread thread = threads.get(i);
+    /** Ranges of at most this many elements are sorted by insertion sort. */
+    static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /** Ranges of at most this many elements are sorted by the worker that partitioned them. */
+    static final int SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    /**
+     * Hands partitions of one sort to other workers and waits for them. A failure of any
+     * partition is kept, and the first one is rethrown once every partition has finished.
+     * @param <T> the type of the handle of a handed off partition
+     */
+    private static abstract class Tasks<T> {
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        /** Runs the root of a sort and returns when it and all its partitions are done. */
+        final void run(Runnable root) {
             try {
-                thread.join(1000);
-                semaphore.release();
-            } catch(InterruptedException e) {
-                e.printStackTrace();
-            } catch(ConcurrentModificationException e) {
-                e.printStackTrace();
-            }
+                runRoot(root);
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            }
+            Throwable t = failure.get();
+            if (t instanceof Error e) throw e;
+            if (t instanceof RuntimeException e) throw e;
+            if (t != null) throw new CompletionException(t);
+        }
+
+        /** Wraps a partition so that its failure is kept rather than thrown. */
+        final Runnable guard(Runnable partition) {
+            return () -> {
+                try {
+                    partition.run();
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            };
         }
+
+        abstract void runRoot(Runnable root);
+        abstract T fork(Runnable partition);
+        /** Waits for the partition to finish, without throwing its failure. */
+        abstract void join(T partition);
     }
 
-    private static void runSortThread(Runnable task, List<Thread> threads, Semaphore semaphore) {
-        try {
-            semaphore.acquire();
+    private static final class ForkJoin extends Tasks<ForkJoinTask<?>> {
+        @Override
+        void runRoot(Runnable root) {
+            ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(root));
+        }
 
-            Thread t = new Thread(new Runnable() {
-                @Override public void run() {
-                    try {
-                        task.run();
-                    } finally {
-                        semaphore.release();
-                    }
+        @Override
+        ForkJoinTask<?> fork(Runnable partition) {
+            return ForkJoinTask.adapt(guard(partition)).fork();
+        }
+
+        @Override
+        void join(ForkJoinTask<?> partition) {
+            partition.quietlyJoin();
+        }
+    }
+
+    /** Starts a virtual thread per partition. */
+    private static final class VirtualThreads extends Tasks<Thread> {
+        @Override
+        void runRoot(Runnable root) {
+            root.run();
+        }
+
+        @Override
+        Thread fork(Runnable partition) {
+            return Thread.ofVirtual().start(guard(partition));
+        }
+
+        @Override
+        void join(Thread partition) {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    partition.join();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
                 }
-            });
-            threads.add(t);
-            t.start();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+            }
+            if (interrupted) Thread.currentThread().interrupt();
         }
     }
 
+    private static Tasks<?> tasks(boolean virtualThreads) {
+        return virtualThreads ? new VirtualThreads() : new ForkJoin();
+    }
+
     /**
-     * Retrieves a basic quick sort implementation which has limited multi-threading support
+     * Retrieves a basic quick sort implementation which sorts on the common fork join pool
      * @return a sorter of {@code double} arrays using the quick sort method
      */
-    public static PrimitiveSorter.OfDouble ofDouble() { return new OfDouble(); }
+    public static PrimitiveSorter.OfDouble ofDouble() { return new OfDouble(false); }
     /**
-     * Retrieves a basic quick sort implementation which has limited multi-threading support
+     * Retrieves a basic quick sort implementation
+     * @param virtualThreads check for sorting on virtual threads as opposed to the common fork join pool
+     * @return a sorter of {@code double} arrays using the quick sort method
+     */
+    public static PrimitiveSorter.OfDouble ofDouble(boolean virtualThreads) { return new OfDouble(virtualThreads); }
+    /**
+     * Retrieves a basic quick sort implementation which sorts on the common fork join pool
      * @return a sorter of {@code long} arrays using the quick sort method
      */
-    public static PrimitiveSorter.OfLong ofLong() { return new OfLong(); }
+    public static PrimitiveSorter.OfLong ofLong() { return new OfLong(false); }
+    /**
+     * Retrieves a basic quick sort implementation
+     * @param virtualThreads check for sorting on virtual threads as opposed to the common fork join pool
+     * @return a sorter of {@code long} arrays using the quick sort method
+     */
+    public static PrimitiveSorter.OfLong ofLong(boolean virtualThreads) { return new OfLong(virtualThreads); }
+    /**
+     * Retrieves a basic quick sort implementation which sorts on the common fork join pool
+     * @return a sorter of {@code int} arrays using the quick sort method
+     */
+    public static PrimitiveSorter.OfInt ofInt() { return new OfInt(false); }
     /**
-     * Retrieves a basic quick sort implementation which has limited multi-threading support
+     * Retrieves a basic quick sort implementation
+     * @param virtualThreads check for sorting on virtual threads as opposed to the common fork join pool
      * @return a sorter of {@code int} arrays using the quick sort method
      */
-    public static PrimitiveSorter.OfInt ofInt() { return new OfInt(); }
+    public static PrimitiveSorter.OfInt ofInt(boolean virtualThreads) { return new OfInt(virtualThreads); }
     /**
-     * Retrieves a basic quick sort implementation which has limited multi-threading support
+     * Retrieves a basic quick sort implementation which sorts on the common fork join pool
      * @return a sorter of {@code float} arrays using the quick sort method
      */
-    public static PrimitiveSorter.OfFloat ofFloat() { return new OfFloat(); }
+    public static PrimitiveSorter.OfFloat ofFloat() { return new OfFloat(false); }
     /**
-     * Retrieves a basic quick sort implementation which has limited multi-threading support
+     * Retrieves a basic quick sort implementation
+     * @param virtualThreads check for sorting on virtual threads as opposed to the common fork join pool
+     * @return a sorter of {@code float} arrays using the quick sort method
+     */
+    public static PrimitiveSorter.OfFloat ofFloat(boolean virtualThreads) { return new OfFloat(virtualThreads); }
+    /**
+     * Retrieves a basic quick sort implementation which sorts on the common fork join pool
+     * @return a sorter of {@code char} arrays using the quick sort method
+     */
+    public static PrimitiveSorter.OfChar ofChar() { return new OfChar(false); }
+    /**
+     * Retrieves a basic quick sort implementation
+     * @param virtualThreads check for sorting on virtual threads as opposed to the common fork join pool
      * @return a sorter of {@code char} arrays using the quick sort method
      */
-    public static PrimitiveSorter.OfChar ofChar() { return new OfChar(); }
+    public static PrimitiveSorter.OfChar ofChar(boolean virtualThreads) { return new OfChar(virtualThreads); }
     /**
-     * Retrieves a basic quick sort implementation which has limited multi-threading support
+     * Retrieves a basic quick sort implementation which sorts on the common fork join pool
      * @return a sorter of {@code short} arrays using the quick sort method
      */
-    public static PrimitiveSorter.OfShort ofShort() { return new OfShort(); }
+    public static PrimitiveSorter.OfShort ofShort() { return new OfShort(false); }
     /**
-     * Retrieves a basic quick sort implementation which has limited multi-threading support
+     * Retrieves a basic quick sort implementation
+     * @param virtualThreads check for sorting on virtual threads as opposed to the common fork join pool
+     * @return a sorter of {@code short} arrays using the quick sort method
+     */
+    public static PrimitiveSorter.OfShort ofShort(boolean virtualThreads) { return new OfShort(virtualThreads); }
+    /**
+     * Retrieves a basic quick sort implementation which sorts on the common fork join pool
      * @return a sorter of {@code byte} arrays using the quick sort method
      */
-    public static PrimitiveSorter.OfByte ofByte() { return new OfByte(); }
+    public static PrimitiveSorter.OfByte ofByte() { return new OfByte(false); }
     /**
-     * Retrieves a basic quick sort implementation which has limited multi-threading support
+     * Retrieves a basic quick sort implementation
+     * @param virtualThreads check for sorting on virtual threads as opposed to the common fork join pool
+     * @return a sorter of {@code byte} arrays using the quick sort method
+     */
+    public static PrimitiveSorter.OfByte ofByte(boolean virtualThreads) { return new OfByte(virtualThreads); }
+    /**
+     * Retrieves a basic quick sort implementation which sorts on the common fork join pool
+     * @return a sorter of {@code boolean} arrays using the quick sort method
+     */
+    public static PrimitiveSorter.OfBoolean ofBoolean() { return new OfBoolean(false); }
+    /**
+     * Retrieves a basic quick sort implementation
+     * @param virtualThreads check for sorting on virtual threads as opposed to the common fork join pool
      * @return a sorter of {@code boolean} arrays using the quick sort method
      */
-    public static PrimitiveSorter.OfBoolean ofBoolean() { return new OfBoolean(); }
+    public static PrimitiveSorter.OfBoolean ofBoolean(boolean virtualThreads) { return new OfBoolean(virtualThreads); }
 
     private static class OfDouble implements PrimitiveSorter.OfDouble {
-        private final List<Thread> threads;
-        private final Semaphore semaphore;
+        private final boolean virtualThreads;
 
-        OfDouble(int threads) {
-            this.threads = Collections.synchronizedList(new ArrayList<>(threads));
-            semaphore = new Semaphore(threads);
-        }
-
-        OfDouble() {
-            this(Runtime.getRuntime().availableProcessors());
+        OfDouble(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
         }
 
         @Override
         public List<Algorithm> getAlgorithms() {
-            return List.of(Algorithm.QUICK);
+            return List.of(Algorithm.QUICK, Algorithm.INSERTION);
         }
 
         @Override
@@ -122,99 +234,85 @@ public final class PrimitiveBasicQuickSort {
                 System.arraycopy(src, 0, dst, 0, src.length);
             }
 
-            applySort(dst, comparator, 0, dst.length - 1);
-            // System.out.println("Waiting for threads: ");
-            waitForThreads(threads, semaphore);
-        }
-
-        @Override
-        public void sort(double[] src, double[] dst) {
-            if (dst == null)
-                dst = src;
+            final double[] a = dst;
+            final PrimitiveComparator.OfDouble c = comparator == null ? PrimitiveComparator.naturalOrderDouble() : comparator;
+            if (a.length <= SEQUENTIAL_THRESHOLD)
+                sort(a, c, 0, a.length - 1, null);
             else {
-                if (dst.length != src.length) dst = new double[src.length];
-                System.arraycopy(src, 0, dst, 0, src.length);
+                final Tasks<?> tasks = tasks(virtualThreads);
+                tasks.run(() -> sort(a, c, 0, a.length - 1, tasks));
             }
-
-            applySort(dst, 0, dst.length - 1);
-
-            waitForThreads(threads, semaphore);
-
         }
 
-        private void applySort(double[] a, PrimitiveComparator.OfDouble c, int l, int h) {
-            if (l >= h)
-                return;
-            int p = partition(a, c, l, h);
-
-            runSortThread(() -> applySort(a, c, l, p - 1), threads, semaphore);
-            runSortThread(() -> applySort(a, c, p + 1, h), threads, semaphore);
-        }
-
-        private void applySort(double[] a, int l, int h) {
-            if (l >= h)
-                return;
-            int p = partition(a, l, h);
-
-            runSortThread(() -> applySort(a, l, p - 1), threads, semaphore);
-            runSortThread(() -> applySort(a, p + 1, h), threads, semaphore);
+        @Override
+        public void sort(double[] src, double[] dst) {
+            sort(src, null, dst);
         }
 
-        private int partition(double[] a, PrimitiveComparator.OfDouble c, int l, int h) {
-            int mid = (l + h) / 2;
-
-            double pivot = a[mid];
-
-            PrimitiveArrays.swap(a, mid, h);
-
-            int prev = l - 1;
-
-            for (int current = l; current < h; current++) {
-                if (c.compareDouble(a[current], pivot) <= 0) {
-                    prev++;
-                    PrimitiveArrays.swap(a, prev, current);
+        private static <T> void sort(double[] a, PrimitiveComparator.OfDouble c, int l, int h, Tasks<T> tasks) {
+            List<T> forked = null;
+            try {
+                while (h - l >= INSERTION_SORT_THRESHOLD) {
+                    int m = (l + h) >>> 1;
+                    if (c.compareDouble(a[m], a[l]) < 0) PrimitiveArrays.swap(a, l, m);
+                    if (c.compareDouble(a[h], a[l]) < 0) PrimitiveArrays.swap(a, l, h);
+                    if (c.compareDouble(a[h], a[m]) < 0) PrimitiveArrays.swap(a, m, h);
+                    double pivot = a[m];
+                    // [l, lt) is less than, [lt, i) equal to and (gt, h] greater than the pivot
+                    int lt = l, gt = h;
+                    for (int i = l; i <= gt;) {
+                        int r = c.compareDouble(a[i], pivot);
+                        if (r < 0) PrimitiveArrays.swap(a, lt++, i++);
+                        else if (r > 0) PrimitiveArrays.swap(a, i, gt--);
+                        else i++;
+                    }
+                    // hand off the smaller side and keep going with the larger one
+                    final int sl, sh;
+                    if (lt - l < h - gt) {
+                        sl = l;
+                        sh = lt - 1;
+                        l = gt + 1;
+                    } else {
+                        sl = gt + 1;
+                        sh = h;
+                        h = lt - 1;
+                    }
+                    if (tasks != null && sh - sl >= SEQUENTIAL_THRESHOLD) {
+                        if (forked == null) forked = new ArrayList<>();
+                        forked.add(tasks.fork(() -> sort(a, c, sl, sh, tasks)));
+                    } else sort(a, c, sl, sh, null);
                 }
+                insertionSort(a, c, l, h);
+            } finally {
+                // the handed off partitions still write into the array, so wait for them even on failure
+                if (forked != null)
+                    for (int i = forked.size() - 1; i >= 0; i--) tasks.join(forked.get(i));
             }
-
-            PrimitiveArrays.swap(a, prev + 1, h);
-
-            return prev + 1;
         }
 
-        private int partition(double[] a, int l, int h) {
-            int mid = (l + h) / 2;
-            double pivot = a[mid];
-            PrimitiveArrays.swap(a, mid, h);
-            int prev = l - 1;
-            for (int current = l; current < h; current++) {
-                if (a[current] <= pivot) {
-                    prev++;
-                    PrimitiveArrays.swap(a, prev, current);
+        private static void insertionSort(double[] a, PrimitiveComparator.OfDouble c, int l, int h) {
+            for (int i = l + 1; i <= h; i++) {
+                double x = a[i];
+                int j = i - 1;
+                while (j >= l && c.compareDouble(x, a[j]) < 0) {
+                    a[j + 1] = a[j];
+                    j--;
                 }
+                a[j + 1] = x;
             }
-
-            PrimitiveArrays.swap(a, prev + 1, h);
-
-            return prev + 1;
         }
     }
 
     private static class OfLong implements PrimitiveSorter.OfLong {
-        private final List<Thread> threads;
-        private final Semaphore semaphore;
-
-        OfLong(int threads) {
-            this.threads = Collections.synchronizedList(new ArrayList<>(threads));
-            semaphore = new Semaphore(threads);
-        }
+        private final boolean virtualThreads;
 
-        OfLong() {
-            this(Runtime.getRuntime().availableProcessors());
+        OfLong(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
         }
 
         @Override
         public List<Algorithm> getAlgorithms() {
-            return List.of(Algorithm.QUICK);
+            return List.of(Algorithm.QUICK, Algorithm.INSERTION);
         }
 
         @Override
@@ -226,99 +324,85 @@ public final class PrimitiveBasicQuickSort {
                 System.arraycopy(src, 0, dst, 0, src.length);
             }
 
-            applySort(dst, comparator, 0, dst.length - 1);
-
-            waitForThreads(threads, semaphore);
-        }
-
-        @Override
-        public void sort(long[] src, long[] dst) {
-            if (dst == null)
-                dst = src;
+            final long[] a = dst;
+            final PrimitiveComparator.OfLong c = comparator == null ? PrimitiveComparator.naturalOrderLong() : comparator;
+            if (a.length <= SEQUENTIAL_THRESHOLD)
+                sort(a, c, 0, a.length - 1, null);
             else {
-                if (dst.length != src.length) dst = new long[src.length];
-                System.arraycopy(src, 0, dst, 0, src.length);
+                final Tasks<?> tasks = tasks(virtualThreads);
+                tasks.run(() -> sort(a, c, 0, a.length - 1, tasks));
             }
-
-            applySort(dst, 0, dst.length - 1);
-
-            waitForThreads(threads, semaphore);
-
-        }
-
-        private void applySort(long[] a, PrimitiveComparator.OfLong c, int l, int h) {
-            if (l >= h)
-                return;
-            int p = partition(a, c, l, h);
-
-            runSortThread(() -> applySort(a, c, l, p - 1), threads, semaphore);
-            runSortThread(() -> applySort(a, c, p + 1, h), threads, semaphore);
         }
 
-        private void applySort(long[] a, int l, int h) {
-            if (l >= h)
-                return;
-            int p = partition(a, l, h);
-
-            runSortThread(() -> applySort(a, l, p - 1), threads, semaphore);
-            runSortThread(() -> applySort(a, p + 1, h), threads, semaphore);
+        @Override
+        public void sort(long[] src, long[] dst) {
+            sort(src, null, dst);
         }
 
-        private int partition(long[] a, PrimitiveComparator.OfLong c, int l, int h) {
-            int mid = (l + h) / 2;
-
-            long pivot = a[mid];
-
-            PrimitiveArrays.swap(a, mid, h);
-
-            int prev = l - 1;
-
-            for (int current = l; current < h; current++) {
-                if (c.compareLong(a[current], pivot) <= 0) {
-                    prev++;
-                    PrimitiveArrays.swap(a, prev, current);
+        private static <T> void sort(long[] a, PrimitiveComparator.OfLong c, int l, int h, Tasks<T> tasks) {
+            List<T> forked = null;
+            try {
+                while (h - l >= INSERTION_SORT_THRESHOLD) {
+                    int m = (l + h) >>> 1;
+                    if (c.compareLong(a[m], a[l]) < 0) PrimitiveArrays.swap(a, l, m);
+                    if (c.compareLong(a[h], a[l]) < 0) PrimitiveArrays.swap(a, l, h);
+                    if (c.compareLong(a[h], a[m]) < 0) PrimitiveArrays.swap(a, m, h);
+                    long pivot = a[m];
+                    // [l, lt) is less than, [lt, i) equal to and (gt, h] greater than the pivot
+                    int lt = l, gt = h;
+                    for (int i = l; i <= gt;) {
+                        int r = c.compareLong(a[i], pivot);
+                        if (r < 0) PrimitiveArrays.swap(a, lt++, i++);
+                        else if (r > 0) PrimitiveArrays.swap(a, i, gt--);
+                        else i++;
+                    }
+                    // hand off the smaller side and keep going with the larger one
+                    final int sl, sh;
+                    if (lt - l < h - gt) {
+                        sl = l;
+                        sh = lt - 1;
+                        l = gt + 1;
+                    } else {
+                        sl = gt + 1;
+                        sh = h;
+                        h = lt - 1;
+                    }
+                    if (tasks != null && sh - sl >= SEQUENTIAL_THRESHOLD) {
+                        if (forked == null) forked = new ArrayList<>();
+                        forked.add(tasks.fork(() -> sort(a, c, sl, sh, tasks)));
+                    } else sort(a, c, sl, sh, null);
                 }
+                insertionSort(a, c, l, h);
+            } finally {
+                // the handed off partitions still write into the array, so wait for them even on failure
+                if (forked != null)
+                    for (int i = forked.size() - 1; i >= 0; i--) tasks.join(forked.get(i));
             }
-
-            PrimitiveArrays.swap(a, prev + 1, h);
-
-            return prev + 1;
         }
 
-        private int partition(long[] a, int l, int h) {
-            int mid = (l + h) / 2;
-            long pivot = a[mid];
-            PrimitiveArrays.swap(a, mid, h);
-            int prev = l - 1;
-            for (int current = l; current < h; current++) {
-                if (a[current] <= pivot) {
-                    prev++;
-                    PrimitiveArrays.swap(a, prev, current);
+        private static void insertionSort(long[] a, PrimitiveComparator.OfLong c, int l, int h) {
+            for (int i = l + 1; i <= h; i++) {
+                long x = a[i];
+                int j = i - 1;
+                while (j >= l && c.compareLong(x, a[j]) < 0) {
+                    a[j + 1] = a[j];
+                    j--;
                 }
+                a[j + 1] = x;
             }
-
-            PrimitiveArrays.swap(a, prev + 1, h);
-
-            return prev + 1;
         }
     }
 
     private static class OfInt implements PrimitiveSorter.OfInt {
-        private final List<Thread> threads;
-        private final Semaphore semaphore;
-
-        OfInt(int threads) {
-            this.threads = Collections.synchronizedList(new ArrayList<>(threads));
-            semaphore = new Semaphore(threads);
-        }
+        private final boolean virtualThreads;
 
-        OfInt() {
-            this(Runtime.getRuntime().availableProcessors());
+        OfInt(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
         }
 
         @Override
         public List<Algorithm> getAlgorithms() {
-            return List.of(Algorithm.QUICK);
+            return List.of(Algorithm.QUICK, Algorithm.INSERTION);
         }
 
         @Override
@@ -330,99 +414,85 @@ public final class PrimitiveBasicQuickSort {
                 System.arraycopy(src, 0, dst, 0, src.length);
             }
 
-            applySort(dst, comparator, 0, dst.length - 1);
-
-            waitForThreads(threads, semaphore);
-        }
-
-        @Override
-        public void sort(int[] src, int[] dst) {
-            if (dst == null)
-                dst = src;
+            final int[] a = dst;
+            final PrimitiveComparator.OfInt c = comparator == null ? PrimitiveComparator.naturalOrderInt() : comparator;
+            if (a.length <= SEQUENTIAL_THRESHOLD)
+                sort(a, c, 0, a.length - 1, null);
             else {
-                if (dst.length != src.length) dst = new int[src.length];
-                System.arraycopy(src, 0, dst, 0, src.length);
+                final Tasks<?> tasks = tasks(virtualThreads);
+                tasks.run(() -> sort(a, c, 0, a.length - 1, tasks));
             }
-
-            applySort(dst, 0, dst.length - 1);
-
-            waitForThreads(threads, semaphore);
-
         }
 
-        private void applySort(int[] a, PrimitiveComparator.OfInt c, int l, int h) {
-            if (l >= h)
-                return;
-            int p = partition(a, c, l, h);
-
-            runSortThread(() -> applySort(a, c, l, p - 1), threads, semaphore);
-            runSortThread(() -> applySort(a, c, p + 1, h), threads, semaphore);
-        }
-
-        private void applySort(int[] a, int l, int h) {
-            if (l >= h)
-                return;
-            int p = partition(a, l, h);
-
-            runSortThread(() -> applySort(a, l, p - 1), threads, semaphore);
-            runSortThread(() -> applySort(a, p + 1, h), threads, semaphore);
+        @Override
+        public void sort(int[] src, int[] dst) {
+            sort(src, null, dst);
         }
 
-        private int partition(int[] a, PrimitiveComparator.OfInt c, int l, int h) {
-            int mid = (l + h) / 2;
-
-            int pivot = a[mid];
-
-            PrimitiveArrays.swap(a, mid, h);
-
-            int prev = l - 1;
-
-            for (int current = l; current < h; current++) {
-                if (c.compareInt(a[current], pivot) <= 0) {
-                    prev++;
-                    PrimitiveArrays.swap(a, prev, current);
+        private static <T> void sort(int[] a, PrimitiveComparator.OfInt c, int l, int h, Tasks<T> tasks) {
+            List<T> forked = null;
+            try {
+                while (h - l >= INSERTION_SORT_THRESHOLD) {
+                    int m = (l + h) >>> 1;
+                    if (c.compareInt(a[m], a[l]) < 0) PrimitiveArrays.swap(a, l, m);
+                    if (c.compareInt(a[h], a[l]) < 0) PrimitiveArrays.swap(a, l, h);
+                    if (c.compareInt(a[h], a[m]) < 0) PrimitiveArrays.swap(a, m, h);
+                    int pivot = a[m];
+                    // [l, lt) is less than, [lt, i) equal to and (gt, h] greater than the pivot
+                    int lt = l, gt = h;
+                    for (int i = l; i <= gt;) {
+                        int r = c.compareInt(a[i], pivot);
+                        if (r < 0) PrimitiveArrays.swap(a, lt++, i++);
+                        else if (r > 0) PrimitiveArrays.swap(a, i, gt--);
+                        else i++;
+                    }
+                    // hand off the smaller side and keep going with the larger one
+                    final int sl, sh;
+                    if (lt - l < h - gt) {
+                        sl = l;
+                        sh = lt - 1;
+                        l = gt + 1;
+                    } else {
+                        sl = gt + 1;
+                        sh = h;
+                        h = lt - 1;
+                    }
+                    if (tasks != null && sh - sl >= SEQUENTIAL_THRESHOLD) {
+                        if (forked == null) forked = new ArrayList<>();
+                        forked.add(tasks.fork(() -> sort(a, c, sl, sh, tasks)));
+                    } else sort(a, c, sl, sh, null);
                 }
+                insertionSort(a, c, l, h);
+            } finally {
+                // the handed off partitions still write into the array, so wait for them even on failure
+                if (forked != null)
+                    for (int i = forked.size() - 1; i >= 0; i--) tasks.join(forked.get(i));
             }
-
-            PrimitiveArrays.swap(a, prev + 1, h);
-
-            return prev + 1;
         }
 
-        private int partition(int[] a, int l, int h) {
-            int mid = (l + h) / 2;
-            int pivot = a[mid];
-            PrimitiveArrays.swap(a, mid, h);
-            int prev = l - 1;
-            for (int current = l; current < h; current++) {
-                if (a[current] <= pivot) {
-                    prev++;
-                    PrimitiveArrays.swap(a, prev, current);
+        private static void insertionSort(int[] a, PrimitiveComparator.OfInt c, int l, int h) {
+            for (int i = l + 1; i <= h; i++) {
+                int x = a[i];
+                int j = i - 1;
+                while (j >= l && c.compareInt(x, a[j]) < 0) {
+                    a[j + 1] = a[j];
+                    j--;
                 }
+                a[j + 1] = x;
             }
-
-            PrimitiveArrays.swap(a, prev + 1, h);
-
-            return prev + 1;
         }
     }
 
     private static class OfFloat implements PrimitiveSorter.OfFloat {
-        private final List<Thread> threads;
-        private final Semaphore semaphore;
+        private final boolean virtualThreads;
 
-        OfFloat(int threads) {
-            this.threads = Collections.synchronizedList(new ArrayList<>(threads));
-            semaphore = new Semaphore(threads);
-        }
-
-        OfFloat() {
-            this(Runtime.getRuntime().availableProcessors());
+        OfFloat(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
         }
 
         @Override
         public List<Algorithm> getAlgorithms() {
-            return List.of(Algorithm.QUICK);
+            return List.of(Algorithm.QUICK, Algorithm.INSERTION);
         }
 
         @Override
@@ -434,99 +504,85 @@ public final class PrimitiveBasicQuickSort {
                 System.arraycopy(src, 0, dst, 0, src.length);
             }
 
-            applySort(dst, comparator, 0, dst.length - 1);
-
-            waitForThreads(threads, semaphore);
-        }
-
-        @Override
-        public void sort(float[] src, float[] dst) {
-            if (dst == null)
-                dst = src;
+            final float[] a = dst;
+            final PrimitiveComparator.OfFloat c = comparator == null ? PrimitiveComparator.naturalOrderFloat() : comparator;
+            if (a.length <= SEQUENTIAL_THRESHOLD)
+                sort(a, c, 0, a.length - 1, null);
             else {
-                if (dst.length != src.length) dst = new float[src.length];
-                System.arraycopy(src, 0, dst, 0, src.length);
+                final Tasks<?> tasks = tasks(virtualThreads);
+                tasks.run(() -> sort(a, c, 0, a.length - 1, tasks));
             }
-
-            applySort(dst, 0, dst.length - 1);
-
-            waitForThreads(threads, semaphore);
-
         }
 
-        private void applySort(float[] a, PrimitiveComparator.OfFloat c, int l, int h) {
-            if (l >= h)
-                return;
-            int p = partition(a, c, l, h);
-
-            runSortThread(() -> applySort(a, c, l, p - 1), threads, semaphore);
-            runSortThread(() -> applySort(a, c, p + 1, h), threads, semaphore);
-        }
-
-        private void applySort(float[] a, int l, int h) {
-            if (l >= h)
-                return;
-            int p = partition(a, l, h);
-
-            runSortThread(() -> applySort(a, l, p - 1), threads, semaphore);
-            runSortThread(() -> applySort(a, p + 1, h), threads, semaphore);
+        @Override
+        public void sort(float[] src, float[] dst) {
+            sort(src, null, dst);
         }
 
-        private int partition(float[] a, PrimitiveComparator.OfFloat c, int l, int h) {
-            int mid = (l + h) / 2;
-
-            float pivot = a[mid];
-
-            PrimitiveArrays.swap(a, mid, h);
-
-            int prev = l - 1;
-
-            for (int current = l; current < h; current++) {
-                if (c.compareFloat(a[current], pivot) <= 0) {
-                    prev++;
-                    PrimitiveArrays.swap(a, prev, current);
+        private static <T> void sort(float[] a, PrimitiveComparator.OfFloat c, int l, int h, Tasks<T> tasks) {
+            List<T> forked = null;
+            try {
+                while (h - l >= INSERTION_SORT_THRESHOLD) {
+                    int m = (l + h) >>> 1;
+                    if (c.compareFloat(a[m], a[l]) < 0) PrimitiveArrays.swap(a, l, m);
+                    if (c.compareFloat(a[h], a[l]) < 0) PrimitiveArrays.swap(a, l, h);
+                    if (c.compareFloat(a[h], a[m]) < 0) PrimitiveArrays.swap(a, m, h);
+                    float pivot = a[m];
+                    // [l, lt) is less than, [lt, i) equal to and (gt, h] greater than the pivot
+                    int lt = l, gt = h;
+                    for (int i = l; i <= gt;) {
+                        int r = c.compareFloat(a[i], pivot);
+                        if (r < 0) PrimitiveArrays.swap(a, lt++, i++);
+                        else if (r > 0) PrimitiveArrays.swap(a, i, gt--);
+                        else i++;
+                    }
+                    // hand off the smaller side and keep going with the larger one
+                    final int sl, sh;
+                    if (lt - l < h - gt) {
+                        sl = l;
+                        sh = lt - 1;
+                        l = gt + 1;
+                    } else {
+                        sl = gt + 1;
+                        sh = h;
+                        h = lt - 1;
+                    }
+                    if (tasks != null && sh - sl >= SEQUENTIAL_THRESHOLD) {
+                        if (forked == null) forked = new ArrayList<>();
+                        forked.add(tasks.fork(() -> sort(a, c, sl, sh, tasks)));
+                    } else sort(a, c, sl, sh, null);
                 }
+                insertionSort(a, c, l, h);
+            } finally {
+                // the handed off partitions still write into the array, so wait for them even on failure
+                if (forked != null)
+                    for (int i = forked.size() - 1; i >= 0; i--) tasks.join(forked.get(i));
             }
-
-            PrimitiveArrays.swap(a, prev + 1, h);
-
-            return prev + 1;
         }
 
-        private int partition(float[] a, int l, int h) {
-            int mid = (l + h) / 2;
-            float pivot = a[mid];
-            PrimitiveArrays.swap(a, mid, h);
-            int prev = l - 1;
-            for (int current = l; current < h; current++) {
-                if (a[current] <= pivot) {
-                    prev++;
-                    PrimitiveArrays.swap(a, prev, current);
+        private static void insertionSort(float[] a, PrimitiveComparator.OfFloat c, int l, int h) {
+            for (int i = l + 1; i <= h; i++) {
+                float x = a[i];
+                int j = i - 1;
+                while (j >= l && c.compareFloat(x, a[j]) < 0) {
+                    a[j + 1] = a[j];
+                    j--;
                 }
+                a[j + 1] = x;
             }
-
-            PrimitiveArrays.swap(a, prev + 1, h);
-
-            return prev + 1;
         }
     }
 
     private static class OfChar implements PrimitiveSorter.OfChar {
-        private final List<Thread> threads;
-        private final Semaphore semaphore;
+        private final boolean virtualThreads;
 
-        OfChar(int threads) {
-            this.threads = Collections.synchronizedList(new ArrayList<>(threads));
-            semaphore = new Semaphore(threads);
-        }
-
-        OfChar() {
-            this(Runtime.getRuntime().availableProcessors());
+        OfChar(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
         }
 
         @Override
         public List<Algorithm> getAlgorithms() {
-            return List.of(Algorithm.QUICK);
+            return List.of(Algorithm.QUICK, Algorithm.INSERTION);
         }
 
         @Override
@@ -538,99 +594,85 @@ public final class PrimitiveBasicQuickSort {
                 System.arraycopy(src, 0, dst, 0, src.length);
             }
 
-            applySort(dst, comparator, 0, dst.length - 1);
-
-            waitForThreads(threads, semaphore);
-        }
-
-        @Override
-        public void sort(char[] src, char[] dst) {
-            if (dst == null)
-                dst = src;
+            final char[] a = dst;
+            final PrimitiveComparator.OfChar c = comparator == null ? PrimitiveComparator.naturalOrderChar() : comparator;
+            if (a.length <= SEQUENTIAL_THRESHOLD)
+                sort(a, c, 0, a.length - 1, null);
             else {
-                if (dst.length != src.length) dst = new char[src.length];
-                System.arraycopy(src, 0, dst, 0, src.length);
+                final Tasks<?> tasks = tasks(virtualThreads);
+                tasks.run(() -> sort(a, c, 0, a.length - 1, tasks));
             }
-
-            applySort(dst, 0, dst.length - 1);
-
-            waitForThreads(threads, semaphore);
-
-        }
-
-        private void applySort(char[] a, PrimitiveComparator.OfChar c, int l, int h) {
-            if (l >= h)
-                return;
-            int p = partition(a, c, l, h);
-
-            runSortThread(() -> applySort(a, c, l, p - 1), threads, semaphore);
-            runSortThread(() -> applySort(a, c, p + 1, h), threads, semaphore);
         }
 
-        private void applySort(char[] a, int l, int h) {
-            if (l >= h)
-                return;
-            int p = partition(a, l, h);
-
-            runSortThread(() -> applySort(a, l, p - 1), threads, semaphore);
-            runSortThread(() -> applySort(a, p + 1, h), threads, semaphore);
+        @Override
+        public void sort(char[] src, char[] dst) {
+            sort(src, null, dst);
         }
 
-        private int partition(char[] a, PrimitiveComparator.OfChar c, int l, int h) {
-            int mid = (l + h) / 2;
-
-            char pivot = a[mid];
-
-            PrimitiveArrays.swap(a, mid, h);
-
-            int prev = l - 1;
-
-            for (int current = l; current < h; current++) {
-                if (c.compareChar(a[current], pivot) <= 0) {
-                    prev++;
-                    PrimitiveArrays.swap(a, prev, current);
+        private static <T> void sort(char[] a, PrimitiveComparator.OfChar c, int l, int h, Tasks<T> tasks) {
+            List<T> forked = null;
+            try {
+                while (h - l >= INSERTION_SORT_THRESHOLD) {
+                    int m = (l + h) >>> 1;
+                    if (c.compareChar(a[m], a[l]) < 0) PrimitiveArrays.swap(a, l, m);
+                    if (c.compareChar(a[h], a[l]) < 0) PrimitiveArrays.swap(a, l, h);
+                    if (c.compareChar(a[h], a[m]) < 0) PrimitiveArrays.swap(a, m, h);
+                    char pivot = a[m];
+                    // [l, lt) is less than, [lt, i) equal to and (gt, h] greater than the pivot
+                    int lt = l, gt = h;
+                    for (int i = l; i <= gt;) {
+                        int r = c.compareChar(a[i], pivot);
+                        if (r < 0) PrimitiveArrays.swap(a, lt++, i++);
+                        else if (r > 0) PrimitiveArrays.swap(a, i, gt--);
+                        else i++;
+                    }
+                    // hand off the smaller side and keep going with the larger one
+                    final int sl, sh;
+                    if (lt - l < h - gt) {
+                        sl = l;
+                        sh = lt - 1;
+                        l = gt + 1;
+                    } else {
+                        sl = gt + 1;
+                        sh = h;
+                        h = lt - 1;
+                    }
+                    if (tasks != null && sh - sl >= SEQUENTIAL_THRESHOLD) {
+                        if (forked == null) forked = new ArrayList<>();
+                        forked.add(tasks.fork(() -> sort(a, c, sl, sh, tasks)));
+                    } else sort(a, c, sl, sh, null);
                 }
+                insertionSort(a, c, l, h);
+            } finally {
+                // the handed off partitions still write into the array, so wait for them even on failure
+                if (forked != null)
+                    for (int i = forked.size() - 1; i >= 0; i--) tasks.join(forked.get(i));
             }
-
-            PrimitiveArrays.swap(a, prev + 1, h);
-
-            return prev + 1;
         }
 
-        private int partition(char[] a, int l, int h) {
-            int mid = (l + h) / 2;
-            char pivot = a[mid];
-            PrimitiveArrays.swap(a, mid, h);
-            int prev = l - 1;
-            for (int current = l; current < h; current++) {
-                if (a[current] <= pivot) {
-                    prev++;
-                    PrimitiveArrays.swap(a, prev, current);
+        private static void insertionSort(char[] a, PrimitiveComparator.OfChar c, int l, int h) {
+            for (int i = l + 1; i <= h; i++) {
+                char x = a[i];
+                int j = i - 1;
+                while (j >= l && c.compareChar(x, a[j]) < 0) {
+                    a[j + 1] = a[j];
+                    j--;
                 }
+                a[j + 1] = x;
             }
-
-            PrimitiveArrays.swap(a, prev + 1, h);
-
-            return prev + 1;
         }
     }
 
     private static class OfShort implements PrimitiveSorter.OfShort {
-        private final List<Thread> threads;
-        private final Semaphore semaphore;
+        private final boolean virtualThreads;
 
-        OfShort(int threads) {
-            this.threads = Collections.synchronizedList(new ArrayList<>(threads));
-            semaphore = new Semaphore(threads);
-        }
-
-        OfShort() {
-            this(Runtime.getRuntime().availableProcessors());
+        OfShort(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
         }
 
         @Override
         public List<Algorithm> getAlgorithms() {
-            return List.of(Algorithm.QUICK);
+            return List.of(Algorithm.QUICK, Algorithm.INSERTION);
         }
 
         @Override
@@ -642,99 +684,85 @@ public final class PrimitiveBasicQuickSort {
                 System.arraycopy(src, 0, dst, 0, src.length);
             }
 
-            applySort(dst, comparator, 0, dst.length - 1);
-
-            waitForThreads(threads, semaphore);
-        }
-
-        @Override
-        public void sort(short[] src, short[] dst) {
-            if (dst == null)
-                dst = src;
+            final short[] a = dst;
+            final PrimitiveComparator.OfShort c = comparator == null ? PrimitiveComparator.naturalOrderShort() : comparator;
+            if (a.length <= SEQUENTIAL_THRESHOLD)
+                sort(a, c, 0, a.length - 1, null);
             else {
-                if (dst.length != src.length) dst = new short[src.length];
-                System.arraycopy(src, 0, dst, 0, src.length);
+                final Tasks<?> tasks = tasks(virtualThreads);
+                tasks.run(() -> sort(a, c, 0, a.length - 1, tasks));
             }
-
-            applySort(dst, 0, dst.length - 1);
-            
-            waitForThreads(threads, semaphore);
-
         }
 
-        private void applySort(short[] a, PrimitiveComparator.OfShort c, int l, int h) {
-            if (l >= h)
-                return;
-            int p = partition(a, c, l, h);
-
-            runSortThread(() -> applySort(a, c, l, p - 1), threads, semaphore);
-            runSortThread(() -> applySort(a, c, p + 1, h), threads, semaphore);
-        }
-
-        private void applySort(short[] a, int l, int h) {
-            if (l >= h)
-                return;
-            int p = partition(a, l, h);
-
-            runSortThread(() -> applySort(a, l, p - 1), threads, semaphore);
-            runSortThread(() -> applySort(a, p + 1, h), threads, semaphore);
+        @Override
+        public void sort(short[] src, short[] dst) {
+            sort(src, null, dst);
         }
 
-        private int partition(short[] a, PrimitiveComparator.OfShort c, int l, int h) {
-            int mid = (l + h) / 2;
-
-            short pivot = a[mid];
-
-            PrimitiveArrays.swap(a, mid, h);
-
-            int prev = l - 1;
-
-            for (int current = l; current < h; current++) {
-                if (c.compareShort(a[current], pivot) <= 0) {
-                    prev++;
-                    PrimitiveArrays.swap(a, prev, current);
+        private static <T> void sort(short[] a, PrimitiveComparator.OfShort c, int l, int h, Tasks<T> tasks) {
+            List<T> forked = null;
+            try {
+                while (h - l >= INSERTION_SORT_THRESHOLD) {
+                    int m = (l + h) >>> 1;
+                    if (c.compareShort(a[m], a[l]) < 0) PrimitiveArrays.swap(a, l, m);
+                    if (c.compareShort(a[h], a[l]) < 0) PrimitiveArrays.swap(a, l, h);
+                    if (c.compareShort(a[h], a[m]) < 0) PrimitiveArrays.swap(a, m, h);
+                    short pivot = a[m];
+                    // [l, lt) is less than, [lt, i) equal to and (gt, h] greater than the pivot
+                    int lt = l, gt = h;
+                    for (int i = l; i <= gt;) {
+                        int r = c.compareShort(a[i], pivot);
+                        if (r < 0) PrimitiveArrays.swap(a, lt++, i++);
+                        else if (r > 0) PrimitiveArrays.swap(a, i, gt--);
+                        else i++;
+                    }
+                    // hand off the smaller side and keep going with the larger one
+                    final int sl, sh;
+                    if (lt - l < h - gt) {
+                        sl = l;
+                        sh = lt - 1;
+                        l = gt + 1;
+                    } else {
+                        sl = gt + 1;
+                        sh = h;
+                        h = lt - 1;
+                    }
+                    if (tasks != null && sh - sl >= SEQUENTIAL_THRESHOLD) {
+                        if (forked == null) forked = new ArrayList<>();
+                        forked.add(tasks.fork(() -> sort(a, c, sl, sh, tasks)));
+                    } else sort(a, c, sl, sh, null);
                 }
+                insertionSort(a, c, l, h);
+            } finally {
+                // the handed off partitions still write into the array, so wait for them even on failure
+                if (forked != null)
+                    for (int i = forked.size() - 1; i >= 0; i--) tasks.join(forked.get(i));
             }
-
-            PrimitiveArrays.swap(a, prev + 1, h);
-
-            return prev + 1;
         }
 
-        private int partition(short[] a, int l, int h) {
-            int mid = (l + h) / 2;
-            short pivot = a[mid];
-            PrimitiveArrays.swap(a, mid, h);
-            int prev = l - 1;
-            for (int current = l; current < h; current++) {
-                if (a[current] <= pivot) {
-                    prev++;
-                    PrimitiveArrays.swap(a, prev, current);
+        private static void insertionSort(short[] a, PrimitiveComparator.OfShort c, int l, int h) {
+            for (int i = l + 1; i <= h; i++) {
+                short x = a[i];
+                int j = i - 1;
+                while (j >= l && c.compareShort(x, a[j]) < 0) {
+                    a[j + 1] = a[j];
+                    j--;
                 }
+                a[j + 1] = x;
             }
-
-            PrimitiveArrays.swap(a, prev + 1, h);
-
-            return prev + 1;
         }
     }
 
     private static class OfByte implements PrimitiveSorter.OfByte {
-        private final List<Thread> threads;
-        private final Semaphore semaphore;
+        private final boolean virtualThreads;
 
-        OfByte(int threads) {
-            this.threads = Collections.synchronizedList(new ArrayList<>(threads));
-            semaphore = new Semaphore(threads);
-        }
-
-        OfByte() {
-            this(Runtime.getRuntime().availableProcessors());
+        OfByte(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
         }
 
         @Override
         public List<Algorithm> getAlgorithms() {
-            return List.of(Algorithm.QUICK);
+            return List.of(Algorithm.QUICK, Algorithm.INSERTION);
         }
 
         @Override
@@ -746,99 +774,85 @@ public final class PrimitiveBasicQuickSort {
                 System.arraycopy(src, 0, dst, 0, src.length);
             }
 
-            applySort(dst, comparator, 0, dst.length - 1);
-
-            waitForThreads(threads, semaphore);
-        }
-
-        @Override
-        public void sort(byte[] src, byte[] dst) {
-            if (dst == null)
-                dst = src;
+            final byte[] a = dst;
+            final PrimitiveComparator.OfByte c = comparator == null ? PrimitiveComparator.naturalOrderByte() : comparator;
+            if (a.length <= SEQUENTIAL_THRESHOLD)
+                sort(a, c, 0, a.length - 1, null);
             else {
-                if (dst.length != src.length) dst = new byte[src.length];
-                System.arraycopy(src, 0, dst, 0, src.length);
+                final Tasks<?> tasks = tasks(virtualThreads);
+                tasks.run(() -> sort(a, c, 0, a.length - 1, tasks));
             }
-
-            applySort(dst, 0, dst.length - 1);
-
-            waitForThreads(threads, semaphore);
-
-        }
-
-        private void applySort(byte[] a, PrimitiveComparator.OfByte c, int l, int h) {
-            if (l >= h)
-                return;
-            int p = partition(a, c, l, h);
-
-            runSortThread(() -> applySort(a, c, l, p - 1), threads, semaphore);
-            runSortThread(() -> applySort(a, c, p + 1, h), threads, semaphore);
         }
 
-        private void applySort(byte[] a, int l, int h) {
-            if (l >= h)
-                return;
-            int p = partition(a, l, h);
-
-            runSortThread(() -> applySort(a, l, p - 1), threads, semaphore);
-            runSortThread(() -> applySort(a, p + 1, h), threads, semaphore);
+        @Override
+        public void sort(byte[] src, byte[] dst) {
+            sort(src, null, dst);
         }
 
-        private int partition(byte[] a, PrimitiveComparator.OfByte c, int l, int h) {
-            int mid = (l + h) / 2;
-
-            byte pivot = a[mid];
-
-            PrimitiveArrays.swap(a, mid, h);
-
-            int prev = l - 1;
-
-            for (int current = l; current < h; current++) {
-                if (c.compareByte(a[current], pivot) <= 0) {
-                    prev++;
-                    PrimitiveArrays.swap(a, prev, current);
+        private static <T> void sort(byte[] a, PrimitiveComparator.OfByte c, int l, int h, Tasks<T> tasks) {
+            List<T> forked = null;
+            try {
+                while (h - l >= INSERTION_SORT_THRESHOLD) {
+                    int m = (l + h) >>> 1;
+                    if (c.compareByte(a[m], a[l]) < 0) PrimitiveArrays.swap(a, l, m);
+                    if (c.compareByte(a[h], a[l]) < 0) PrimitiveArrays.swap(a, l, h);
+                    if (c.compareByte(a[h], a[m]) < 0) PrimitiveArrays.swap(a, m, h);
+                    byte pivot = a[m];
+                    // [l, lt) is less than, [lt, i) equal to and (gt, h] greater than the pivot
+                    int lt = l, gt = h;
+                    for (int i = l; i <= gt;) {
+                        int r = c.compareByte(a[i], pivot);
+                        if (r < 0) PrimitiveArrays.swap(a, lt++, i++);
+                        else if (r > 0) PrimitiveArrays.swap(a, i, gt--);
+                        else i++;
+                    }
+                    // hand off the smaller side and keep going with the larger one
+                    final int sl, sh;
+                    if (lt - l < h - gt) {
+                        sl = l;
+                        sh = lt - 1;
+                        l = gt + 1;
+                    } else {
+                        sl = gt + 1;
+                        sh = h;
+                        h = lt - 1;
+                    }
+                    if (tasks != null && sh - sl >= SEQUENTIAL_THRESHOLD) {
+                        if (forked == null) forked = new ArrayList<>();
+                        forked.add(tasks.fork(() -> sort(a, c, sl, sh, tasks)));
+                    } else sort(a, c, sl, sh, null);
                 }
+                insertionSort(a, c, l, h);
+            } finally {
+                // the handed off partitions still write into the array, so wait for them even on failure
+                if (forked != null)
+                    for (int i = forked.size() - 1; i >= 0; i--) tasks.join(forked.get(i));
             }
-
-            PrimitiveArrays.swap(a, prev + 1, h);
-
-            return prev + 1;
         }
 
-        private int partition(byte[] a, int l, int h) {
-            int mid = (l + h) / 2;
-            byte pivot = a[mid];
-            PrimitiveArrays.swap(a, mid, h);
-            int prev = l - 1;
-            for (int current = l; current < h; current++) {
-                if (a[current] <= pivot) {
-                    prev++;
-                    PrimitiveArrays.swap(a, prev, current);
+        private static void insertionSort(byte[] a, PrimitiveComparator.OfByte c, int l, int h) {
+            for (int i = l + 1; i <= h; i++) {
+                byte x = a[i];
+                int j = i - 1;
+                while (j >= l && c.compareByte(x, a[j]) < 0) {
+                    a[j + 1] = a[j];
+                    j--;
                 }
+                a[j + 1] = x;
             }
-
-            PrimitiveArrays.swap(a, prev + 1, h);
-
-            return prev + 1;
         }
     }
 
     private static class OfBoolean implements PrimitiveSorter.OfBoolean {
-        private final List<Thread> threads;
-        private final Semaphore semaphore;
-
-        OfBoolean(int threads) {
-            this.threads = Collections.synchronizedList(new ArrayList<>(threads));
-            semaphore = new Semaphore(threads);
-        }
+        private final boolean virtualThreads;
 
-        OfBoolean() {
-            this(Runtime.getRuntime().availableProcessors());
+        OfBoolean(boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
         }
 
         @Override
         public List<Algorithm> getAlgorithms() {
-            return List.of(Algorithm.QUICK);
+            return List.of(Algorithm.QUICK, Algorithm.INSERTION);
         }
 
         @Override
@@ -850,80 +864,72 @@ public final class PrimitiveBasicQuickSort {
                 System.arraycopy(src, 0, dst, 0, src.length);
             }
 
-            applySort(dst, comparator, 0, dst.length - 1);
-
-            waitForThreads(threads, semaphore);
-        }
-
-        @Override
-        public void sort(boolean[] src, boolean[] dst) {
-            if (dst == null)
-                dst = src;
+            final boolean[] a = dst;
+            final PrimitiveComparator.OfBoolean c = comparator == null ? PrimitiveComparator.naturalOrderBoolean() : comparator;
+            if (a.length <= SEQUENTIAL_THRESHOLD)
+                sort(a, c, 0, a.length - 1, null);
             else {
-                if (dst.length != src.length) dst = new boolean[src.length];
-                System.arraycopy(src, 0, dst, 0, src.length);
+                final Tasks<?> tasks = tasks(virtualThreads);
+                tasks.run(() -> sort(a, c, 0, a.length - 1, tasks));
             }
-
-            applySort(dst, 0, dst.length - 1);
-
-            waitForThreads(threads, semaphore);
-
         }
 
-        private void applySort(boolean[] a, PrimitiveComparator.OfBoolean c, int l, int h) {
-            if (l >= h)
-                return;
-            int p = partition(a, c, l, h);
-
-            runSortThread(() -> applySort(a, c, l, p - 1), threads, semaphore);
-            runSortThread(() -> applySort(a, c, p + 1, h), threads, semaphore);
-        }
-
-        private void applySort(boolean[] a, int l, int h) {
-            if (l >= h)
-                return;
-            int p = partition(a, l, h);
-
-            runSortThread(() -> applySort(a, l, p - 1), threads, semaphore);
-            runSortThread(() -> applySort(a, p + 1, h), threads, semaphore);
+        @Override
+        public void sort(boolean[] src, boolean[] dst) {
+            sort(src, null, dst);
         }
 
-        private int partition(boolean[] a, PrimitiveComparator.OfBoolean c, int l, int h) {
-            int mid = (l + h) / 2;
-
-            boolean pivot = a[mid];
-
-            PrimitiveArrays.swap(a, mid, h);
-
-            int prev = l - 1;
-
-            for (int current = l; current < h; current++) {
-                if (c.compareBoolean(a[current], pivot) <= 0) {
-                    prev++;
-                    PrimitiveArrays.swap(a, prev, current);
+        private static <T> void sort(boolean[] a, PrimitiveComparator.OfBoolean c, int l, int h, Tasks<T> tasks) {
+            List<T> forked = null;
+            try {
+                while (h - l >= INSERTION_SORT_THRESHOLD) {
+                    int m = (l + h) >>> 1;
+                    if (c.compareBoolean(a[m], a[l]) < 0) PrimitiveArrays.swap(a, l, m);
+                    if (c.compareBoolean(a[h], a[l]) < 0) PrimitiveArrays.swap(a, l, h);
+                    if (c.compareBoolean(a[h], a[m]) < 0) PrimitiveArrays.swap(a, m, h);
+                    boolean pivot = a[m];
+                    // [l, lt) is less than, [lt, i) equal to and (gt, h] greater than the pivot
+                    int lt = l, gt = h;
+                    for (int i = l; i <= gt;) {
+                        int r = c.compareBoolean(a[i], pivot);
+                        if (r < 0) PrimitiveArrays.swap(a, lt++, i++);
+                        else if (r > 0) PrimitiveArrays.swap(a, i, gt--);
+                        else i++;
+                    }
+                    // hand off the smaller side and keep going with the larger one
+                    final int sl, sh;
+                    if (lt - l < h - gt) {
+                        sl = l;
+                        sh = lt - 1;
+                        l = gt + 1;
+                    } else {
+                        sl = gt + 1;
+                        sh = h;
+                        h = lt - 1;
+                    }
+                    if (tasks != null && sh - sl >= SEQUENTIAL_THRESHOLD) {
+                        if (forked == null) forked = new ArrayList<>();
+                        forked.add(tasks.fork(() -> sort(a, c, sl, sh, tasks)));
+                    } else sort(a, c, sl, sh, null);
                 }
+                insertionSort(a, c, l, h);
+            } finally {
+                // the handed off partitions still write into the array, so wait for them even on failure
+                if (forked != null)
+                    for (int i = forked.size() - 1; i >= 0; i--) tasks.join(forked.get(i));
             }
-
-            PrimitiveArrays.swap(a, prev + 1, h);
-
-            return prev + 1;
         }
 
-        private int partition(boolean[] a, int l, int h) {
-            int mid = (l + h) / 2;
-            boolean pivot = a[mid];
-            PrimitiveArrays.swap(a, mid, h);
-            int prev = l - 1;
-            for (int current = l; current < h; current++) {
-                if (Boolean.compare(a[current], pivot) <= 0) {
-                    prev++;
-                    PrimitiveArrays.swap(a, prev, current);
+        private static void insertionSort(boolean[] a, PrimitiveComparator.OfBoolean c, int l, int h) {
+            for (int i = l + 1; i <= h; i++) {
+                boolean x = a[i];
+                int j = i - 1;
+                while (j >= l && c.compareBoolean(x, a[j]) < 0) {
+                    a[j + 1] = a[j];
+                    j--;
                 }
+                a[j + 1] = x;
             }
-
-            PrimitiveArrays.swap(a, prev + 1, h);
-
-            return prev + 1;
         }
     }
 }
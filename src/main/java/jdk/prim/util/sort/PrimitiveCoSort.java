@@ -0,0 +1,2584 @@
+package jdk.prim.util.sort;
+
+import java.util.concurrent.RecursiveAction;
+
+import jdk.prim.util.PrimitiveComparator;
+
+/**
+ * A class that contains operations which sort an array of keys and move a payload
+ * array along with them, so that {@code payload[i]} still belongs to {@code keys[i]}
+ * once sorted. This keeps key/value column pairs together without sorting a
+ * permutation and gathering the payload through it.
+ * <p>
+ * The keys are sorted with the dual pivot scheme of {@link jdk.prim.util.sort.dualpivot}:
+ * two pivots are taken from five sampled keys, or a single pivot when those compare
+ * equal, small parts are finished by insertion sort and parts partitioned too often are
+ * heap sorted. Every swap of two keys swaps their payload too. The sort is not stable.
+ * <p>
+ * The {@code parallelSort} operations hand off the parts of large arrays to the
+ * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}. Each worker waits
+ * for the parts it handed off even when the comparator throws, so by the time the
+ * exception reaches the caller nothing writes into the arrays any more. A {@code null}
+ * comparator stands for the natural order, and the payload must be exactly as long as
+ * the keys.
+ */
+public final class PrimitiveCoSort {
+    private PrimitiveCoSort() {}
+
+    /** Parts of at most this many keys are sorted by insertion sort. */
+    static final int MAX_INSERTION_SORT_SIZE = 44;
+
+    /** Parts of more than this many keys are handed off to other workers by a parallel sort. */
+    static final int MIN_PARALLEL_SORT_SIZE = 4 << 10;
+
+    private static void checkLengths(int keys, int payload) {
+        if(keys != payload) throw new IllegalArgumentException("payload length " + payload + " differs from keys length " + keys);
+    }
+
+    /** Returns the number of partitions of a part of {@code n} keys before it is heap sorted. */
+    private static int maxDepth(int n) { return 3 * (32 - Integer.numberOfLeadingZeros(n)); }
+
+    /**
+     * Sorts the keys into ascending order, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(double[] keys, int[] payload) { OfDouble.AndInt.sort(keys, payload, null, false); }
+    /**
+     * Sorts the keys by the comparator, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(double[] keys, PrimitiveComparator.OfDouble comparator, int[] payload) { OfDouble.AndInt.sort(keys, payload, comparator, false); }
+    /**
+     * Sorts the keys into ascending order on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(double[] keys, int[] payload) { OfDouble.AndInt.sort(keys, payload, null, true); }
+    /**
+     * Sorts the keys by the comparator on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(double[] keys, PrimitiveComparator.OfDouble comparator, int[] payload) { OfDouble.AndInt.sort(keys, payload, comparator, true); }
+
+    /**
+     * Sorts the keys into ascending order, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(double[] keys, long[] payload) { OfDouble.AndLong.sort(keys, payload, null, false); }
+    /**
+     * Sorts the keys by the comparator, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(double[] keys, PrimitiveComparator.OfDouble comparator, long[] payload) { OfDouble.AndLong.sort(keys, payload, comparator, false); }
+    /**
+     * Sorts the keys into ascending order on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(double[] keys, long[] payload) { OfDouble.AndLong.sort(keys, payload, null, true); }
+    /**
+     * Sorts the keys by the comparator on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(double[] keys, PrimitiveComparator.OfDouble comparator, long[] payload) { OfDouble.AndLong.sort(keys, payload, comparator, true); }
+
+    /**
+     * Sorts the keys into ascending order, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(double[] keys, double[] payload) { OfDouble.AndDouble.sort(keys, payload, null, false); }
+    /**
+     * Sorts the keys by the comparator, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(double[] keys, PrimitiveComparator.OfDouble comparator, double[] payload) { OfDouble.AndDouble.sort(keys, payload, comparator, false); }
+    /**
+     * Sorts the keys into ascending order on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(double[] keys, double[] payload) { OfDouble.AndDouble.sort(keys, payload, null, true); }
+    /**
+     * Sorts the keys by the comparator on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(double[] keys, PrimitiveComparator.OfDouble comparator, double[] payload) { OfDouble.AndDouble.sort(keys, payload, comparator, true); }
+
+    /**
+     * Sorts the keys into ascending order, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(long[] keys, int[] payload) { OfLong.AndInt.sort(keys, payload, null, false); }
+    /**
+     * Sorts the keys by the comparator, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(long[] keys, PrimitiveComparator.OfLong comparator, int[] payload) { OfLong.AndInt.sort(keys, payload, comparator, false); }
+    /**
+     * Sorts the keys into ascending order on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(long[] keys, int[] payload) { OfLong.AndInt.sort(keys, payload, null, true); }
+    /**
+     * Sorts the keys by the comparator on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(long[] keys, PrimitiveComparator.OfLong comparator, int[] payload) { OfLong.AndInt.sort(keys, payload, comparator, true); }
+
+    /**
+     * Sorts the keys into ascending order, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(long[] keys, long[] payload) { OfLong.AndLong.sort(keys, payload, null, false); }
+    /**
+     * Sorts the keys by the comparator, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(long[] keys, PrimitiveComparator.OfLong comparator, long[] payload) { OfLong.AndLong.sort(keys, payload, comparator, false); }
+    /**
+     * Sorts the keys into ascending order on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(long[] keys, long[] payload) { OfLong.AndLong.sort(keys, payload, null, true); }
+    /**
+     * Sorts the keys by the comparator on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(long[] keys, PrimitiveComparator.OfLong comparator, long[] payload) { OfLong.AndLong.sort(keys, payload, comparator, true); }
+
+    /**
+     * Sorts the keys into ascending order, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(long[] keys, double[] payload) { OfLong.AndDouble.sort(keys, payload, null, false); }
+    /**
+     * Sorts the keys by the comparator, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(long[] keys, PrimitiveComparator.OfLong comparator, double[] payload) { OfLong.AndDouble.sort(keys, payload, comparator, false); }
+    /**
+     * Sorts the keys into ascending order on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(long[] keys, double[] payload) { OfLong.AndDouble.sort(keys, payload, null, true); }
+    /**
+     * Sorts the keys by the comparator on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(long[] keys, PrimitiveComparator.OfLong comparator, double[] payload) { OfLong.AndDouble.sort(keys, payload, comparator, true); }
+
+    /**
+     * Sorts the keys into ascending order, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(int[] keys, int[] payload) { OfInt.AndInt.sort(keys, payload, null, false); }
+    /**
+     * Sorts the keys by the comparator, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(int[] keys, PrimitiveComparator.OfInt comparator, int[] payload) { OfInt.AndInt.sort(keys, payload, comparator, false); }
+    /**
+     * Sorts the keys into ascending order on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(int[] keys, int[] payload) { OfInt.AndInt.sort(keys, payload, null, true); }
+    /**
+     * Sorts the keys by the comparator on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(int[] keys, PrimitiveComparator.OfInt comparator, int[] payload) { OfInt.AndInt.sort(keys, payload, comparator, true); }
+
+    /**
+     * Sorts the keys into ascending order, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(int[] keys, long[] payload) { OfInt.AndLong.sort(keys, payload, null, false); }
+    /**
+     * Sorts the keys by the comparator, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(int[] keys, PrimitiveComparator.OfInt comparator, long[] payload) { OfInt.AndLong.sort(keys, payload, comparator, false); }
+    /**
+     * Sorts the keys into ascending order on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(int[] keys, long[] payload) { OfInt.AndLong.sort(keys, payload, null, true); }
+    /**
+     * Sorts the keys by the comparator on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(int[] keys, PrimitiveComparator.OfInt comparator, long[] payload) { OfInt.AndLong.sort(keys, payload, comparator, true); }
+
+    /**
+     * Sorts the keys into ascending order, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(int[] keys, double[] payload) { OfInt.AndDouble.sort(keys, payload, null, false); }
+    /**
+     * Sorts the keys by the comparator, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(int[] keys, PrimitiveComparator.OfInt comparator, double[] payload) { OfInt.AndDouble.sort(keys, payload, comparator, false); }
+    /**
+     * Sorts the keys into ascending order on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(int[] keys, double[] payload) { OfInt.AndDouble.sort(keys, payload, null, true); }
+    /**
+     * Sorts the keys by the comparator on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(int[] keys, PrimitiveComparator.OfInt comparator, double[] payload) { OfInt.AndDouble.sort(keys, payload, comparator, true); }
+
+    /**
+     * Sorts the keys into ascending order, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(float[] keys, int[] payload) { OfFloat.AndInt.sort(keys, payload, null, false); }
+    /**
+     * Sorts the keys by the comparator, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(float[] keys, PrimitiveComparator.OfFloat comparator, int[] payload) { OfFloat.AndInt.sort(keys, payload, comparator, false); }
+    /**
+     * Sorts the keys into ascending order on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(float[] keys, int[] payload) { OfFloat.AndInt.sort(keys, payload, null, true); }
+    /**
+     * Sorts the keys by the comparator on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(float[] keys, PrimitiveComparator.OfFloat comparator, int[] payload) { OfFloat.AndInt.sort(keys, payload, comparator, true); }
+
+    /**
+     * Sorts the keys into ascending order, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(float[] keys, long[] payload) { OfFloat.AndLong.sort(keys, payload, null, false); }
+    /**
+     * Sorts the keys by the comparator, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(float[] keys, PrimitiveComparator.OfFloat comparator, long[] payload) { OfFloat.AndLong.sort(keys, payload, comparator, false); }
+    /**
+     * Sorts the keys into ascending order on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(float[] keys, long[] payload) { OfFloat.AndLong.sort(keys, payload, null, true); }
+    /**
+     * Sorts the keys by the comparator on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(float[] keys, PrimitiveComparator.OfFloat comparator, long[] payload) { OfFloat.AndLong.sort(keys, payload, comparator, true); }
+
+    /**
+     * Sorts the keys into ascending order, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(float[] keys, double[] payload) { OfFloat.AndDouble.sort(keys, payload, null, false); }
+    /**
+     * Sorts the keys by the comparator, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void sort(float[] keys, PrimitiveComparator.OfFloat comparator, double[] payload) { OfFloat.AndDouble.sort(keys, payload, comparator, false); }
+    /**
+     * Sorts the keys into ascending order on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(float[] keys, double[] payload) { OfFloat.AndDouble.sort(keys, payload, null, true); }
+    /**
+     * Sorts the keys by the comparator on the common pool, moving the payload with them
+     * @param keys the keys to be sorted
+     * @param comparator the comparator that defines the ordering of the keys, or {@code null} for the natural order
+     * @param payload the values of the keys, in the same order
+     * @throws IllegalArgumentException if the lengths of the arrays differ
+     */
+    public static void parallelSort(float[] keys, PrimitiveComparator.OfFloat comparator, double[] payload) { OfFloat.AndDouble.sort(keys, payload, comparator, true); }
+
+    ///////////// double
+
+    private static final class OfDouble {
+        private OfDouble() {}
+
+        /** Sorts a range of {@code double} keys and the {@code int} payload alongside them. */
+        @SuppressWarnings("serial")
+        static final class AndInt extends RecursiveAction {
+            private final double[] k;
+            private final int[] v;
+            private final PrimitiveComparator.OfDouble c;
+            private final int low, high, depth;
+            private final AndInt next;
+
+            private AndInt(double[] k, int[] v, PrimitiveComparator.OfDouble c, int low, int high, int depth, AndInt next) {
+                this.k = k;
+                this.v = v;
+                this.c = c;
+                this.low = low;
+                this.high = high;
+                this.depth = depth;
+                this.next = next;
+            }
+
+            @Override
+            protected void compute() { sort(k, v, c, low, high, depth, true); }
+
+            static void sort(double[] k, int[] v, PrimitiveComparator.OfDouble c, boolean parallel) {
+                checkLengths(k.length, v.length);
+                if(c == null) c = PrimitiveComparator.naturalOrderDouble();
+                final int depth = maxDepth(k.length);
+                if(parallel && k.length > MIN_PARALLEL_SORT_SIZE) new AndInt(k, v, c, 0, k.length, depth, null).invoke();
+                else sort(k, v, c, 0, k.length, depth, false);
+            }
+
+            /** Sorts {@code [low, high)}, forking parts larger than {@value #MIN_PARALLEL_SORT_SIZE} when {@code parallel}. */
+            private static void sort(double[] k, int[] v, PrimitiveComparator.OfDouble c, int low, int high, int depth, boolean parallel) {
+                AndInt forked = null;
+                try {
+                    while(true) {
+                        final int size = high - low;
+                        if(size <= MAX_INSERTION_SORT_SIZE) {
+                            insertionSort(k, v, c, low, high);
+                            break;
+                        }
+                        if(--depth < 0) {
+                            heapSort(k, v, c, low, high);
+                            break;
+                        }
+                        final int end = high - 1, step = (size >> 3) * 3 + 3;
+                        final int e1 = low + step, e5 = end - step, e3 = (e1 + e5) >>> 1, e2 = (e1 + e3) >>> 1, e4 = (e3 + e5) >>> 1;
+                        order(k, v, c, e1, e2);
+                        order(k, v, c, e4, e5);
+                        order(k, v, c, e3, e5);
+                        order(k, v, c, e3, e4);
+                        order(k, v, c, e2, e5);
+                        order(k, v, c, e1, e4);
+                        order(k, v, c, e1, e3);
+                        order(k, v, c, e2, e4);
+                        order(k, v, c, e2, e3);
+                        int l1 = low, h1, l2, h2, l3, h3 = high;
+                        if(c.compareDouble(k[e2], k[e4]) < 0) {
+                            // [low, lt) < p1 <= [lt + 1, gt) <= p2 < [gt + 1, high)
+                            swap(k, v, low, e2);
+                            swap(k, v, end, e4);
+                            final double p1 = k[low], p2 = k[end];
+                            int lt = low + 1, gt = end - 1;
+                            for(int i = lt; i <= gt;) {
+                                if(c.compareDouble(k[i], p1) < 0) swap(k, v, i++, lt++);
+                                else if(c.compareDouble(k[i], p2) > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            swap(k, v, low, --lt);
+                            swap(k, v, end, ++gt);
+                            h1 = lt;
+                            l2 = lt + 1;
+                            h2 = gt;
+                            l3 = gt + 1;
+                            if(h2 - l2 > size >> 1) {
+                                // move the many elements equal to a pivot out of the middle part
+                                int a = l2, b = h2 - 1;
+                                for(int i = a; i <= b;) {
+                                    if(c.compareDouble(k[i], p1) == 0) swap(k, v, i++, a++);
+                                    else if(c.compareDouble(k[i], p2) == 0) swap(k, v, i, b--);
+                                    else i++;
+                                }
+                                l2 = a;
+                                h2 = b + 1;
+                            }
+                        } else {
+                            // [low, lt) < p == [lt, gt] < (gt, high)
+                            final double p = k[e3];
+                            int lt = low, gt = end;
+                            for(int i = low; i <= gt;) {
+                                int r = c.compareDouble(k[i], p);
+                                if(r < 0) swap(k, v, i++, lt++);
+                                else if(r > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            h1 = lt;
+                            l2 = h2 = lt;
+                            l3 = gt + 1;
+                        }
+                        // carry on with the largest part and hand off the others
+                        final int s1 = h1 - l1, s2 = h2 - l2, s3 = h3 - l3;
+                        if(s1 >= s2 && s1 >= s3) {
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l1;
+                            high = h1;
+                        } else if(s2 >= s3) {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l2;
+                            high = h2;
+                        } else {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            low = l3;
+                            high = h3;
+                        }
+                    }
+                } finally {
+                    // the handed off parts still write into the arrays, so wait for them even on failure
+                    for(AndInt f = forked; f != null; f = f.next) f.quietlyJoin();
+                }
+                for(; forked != null; forked = forked.next) forked.join();
+            }
+
+            private static AndInt handOff(double[] k, int[] v, PrimitiveComparator.OfDouble c, int low, int high, int depth, boolean parallel, AndInt forked) {
+                if(parallel && high - low > MIN_PARALLEL_SORT_SIZE) {
+                    forked = new AndInt(k, v, c, low, high, depth, forked);
+                    forked.fork();
+                } else if(high - low > 1) sort(k, v, c, low, high, depth, false);
+                return forked;
+            }
+
+            private static void swap(double[] k, int[] v, int i, int j) {
+                double x = k[i];
+                k[i] = k[j];
+                k[j] = x;
+                int y = v[i];
+                v[i] = v[j];
+                v[j] = y;
+            }
+
+            private static void order(double[] k, int[] v, PrimitiveComparator.OfDouble c, int i, int j) {
+                if(c.compareDouble(k[j], k[i]) < 0) swap(k, v, i, j);
+            }
+
+            private static void insertionSort(double[] k, int[] v, PrimitiveComparator.OfDouble c, int low, int high) {
+                for(int i = low + 1; i < high; i++) {
+                    double x = k[i];
+                    int y = v[i];
+                    int j = i - 1;
+                    while(j >= low && c.compareDouble(x, k[j]) < 0) {
+                        k[j + 1] = k[j];
+                        v[j + 1] = v[j];
+                        j--;
+                    }
+                    k[j + 1] = x;
+                    v[j + 1] = y;
+                }
+            }
+
+            private static void heapSort(double[] k, int[] v, PrimitiveComparator.OfDouble c, int low, int high) {
+                for(int i = low + ((high - low) >>> 1); i > low;) pushDown(k, v, c, --i, low, high);
+                while(--high > low) {
+                    swap(k, v, low, high);
+                    pushDown(k, v, c, low, low, high);
+                }
+            }
+
+            private static void pushDown(double[] k, int[] v, PrimitiveComparator.OfDouble c, int p, int low, int high) {
+                while(p - low < (high - low) >>> 1) {
+                    int child = low + ((p - low) << 1) + 1;
+                    if(child + 1 < high && c.compareDouble(k[child], k[child + 1]) < 0) child++;
+                    if(c.compareDouble(k[p], k[child]) >= 0) break;
+                    swap(k, v, p, child);
+                    p = child;
+                }
+            }
+        }
+
+        /** Sorts a range of {@code double} keys and the {@code long} payload alongside them. */
+        @SuppressWarnings("serial")
+        static final class AndLong extends RecursiveAction {
+            private final double[] k;
+            private final long[] v;
+            private final PrimitiveComparator.OfDouble c;
+            private final int low, high, depth;
+            private final AndLong next;
+
+            private AndLong(double[] k, long[] v, PrimitiveComparator.OfDouble c, int low, int high, int depth, AndLong next) {
+                this.k = k;
+                this.v = v;
+                this.c = c;
+                this.low = low;
+                this.high = high;
+                this.depth = depth;
+                this.next = next;
+            }
+
+            @Override
+            protected void compute() { sort(k, v, c, low, high, depth, true); }
+
+            static void sort(double[] k, long[] v, PrimitiveComparator.OfDouble c, boolean parallel) {
+                checkLengths(k.length, v.length);
+                if(c == null) c = PrimitiveComparator.naturalOrderDouble();
+                final int depth = maxDepth(k.length);
+                if(parallel && k.length > MIN_PARALLEL_SORT_SIZE) new AndLong(k, v, c, 0, k.length, depth, null).invoke();
+                else sort(k, v, c, 0, k.length, depth, false);
+            }
+
+            /** Sorts {@code [low, high)}, forking parts larger than {@value #MIN_PARALLEL_SORT_SIZE} when {@code parallel}. */
+            private static void sort(double[] k, long[] v, PrimitiveComparator.OfDouble c, int low, int high, int depth, boolean parallel) {
+                AndLong forked = null;
+                try {
+                    while(true) {
+                        final int size = high - low;
+                        if(size <= MAX_INSERTION_SORT_SIZE) {
+                            insertionSort(k, v, c, low, high);
+                            break;
+                        }
+                        if(--depth < 0) {
+                            heapSort(k, v, c, low, high);
+                            break;
+                        }
+                        final int end = high - 1, step = (size >> 3) * 3 + 3;
+                        final int e1 = low + step, e5 = end - step, e3 = (e1 + e5) >>> 1, e2 = (e1 + e3) >>> 1, e4 = (e3 + e5) >>> 1;
+                        order(k, v, c, e1, e2);
+                        order(k, v, c, e4, e5);
+                        order(k, v, c, e3, e5);
+                        order(k, v, c, e3, e4);
+                        order(k, v, c, e2, e5);
+                        order(k, v, c, e1, e4);
+                        order(k, v, c, e1, e3);
+                        order(k, v, c, e2, e4);
+                        order(k, v, c, e2, e3);
+                        int l1 = low, h1, l2, h2, l3, h3 = high;
+                        if(c.compareDouble(k[e2], k[e4]) < 0) {
+                            // [low, lt) < p1 <= [lt + 1, gt) <= p2 < [gt + 1, high)
+                            swap(k, v, low, e2);
+                            swap(k, v, end, e4);
+                            final double p1 = k[low], p2 = k[end];
+                            int lt = low + 1, gt = end - 1;
+                            for(int i = lt; i <= gt;) {
+                                if(c.compareDouble(k[i], p1) < 0) swap(k, v, i++, lt++);
+                                else if(c.compareDouble(k[i], p2) > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            swap(k, v, low, --lt);
+                            swap(k, v, end, ++gt);
+                            h1 = lt;
+                            l2 = lt + 1;
+                            h2 = gt;
+                            l3 = gt + 1;
+                            if(h2 - l2 > size >> 1) {
+                                // move the many elements equal to a pivot out of the middle part
+                                int a = l2, b = h2 - 1;
+                                for(int i = a; i <= b;) {
+                                    if(c.compareDouble(k[i], p1) == 0) swap(k, v, i++, a++);
+                                    else if(c.compareDouble(k[i], p2) == 0) swap(k, v, i, b--);
+                                    else i++;
+                                }
+                                l2 = a;
+                                h2 = b + 1;
+                            }
+                        } else {
+                            // [low, lt) < p == [lt, gt] < (gt, high)
+                            final double p = k[e3];
+                            int lt = low, gt = end;
+                            for(int i = low; i <= gt;) {
+                                int r = c.compareDouble(k[i], p);
+                                if(r < 0) swap(k, v, i++, lt++);
+                                else if(r > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            h1 = lt;
+                            l2 = h2 = lt;
+                            l3 = gt + 1;
+                        }
+                        // carry on with the largest part and hand off the others
+                        final int s1 = h1 - l1, s2 = h2 - l2, s3 = h3 - l3;
+                        if(s1 >= s2 && s1 >= s3) {
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l1;
+                            high = h1;
+                        } else if(s2 >= s3) {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l2;
+                            high = h2;
+                        } else {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            low = l3;
+                            high = h3;
+                        }
+                    }
+                } finally {
+                    // the handed off parts still write into the arrays, so wait for them even on failure
+                    for(AndLong f = forked; f != null; f = f.next) f.quietlyJoin();
+                }
+                for(; forked != null; forked = forked.next) forked.join();
+            }
+
+            private static AndLong handOff(double[] k, long[] v, PrimitiveComparator.OfDouble c, int low, int high, int depth, boolean parallel, AndLong forked) {
+                if(parallel && high - low > MIN_PARALLEL_SORT_SIZE) {
+                    forked = new AndLong(k, v, c, low, high, depth, forked);
+                    forked.fork();
+                } else if(high - low > 1) sort(k, v, c, low, high, depth, false);
+                return forked;
+            }
+
+            private static void swap(double[] k, long[] v, int i, int j) {
+                double x = k[i];
+                k[i] = k[j];
+                k[j] = x;
+                long y = v[i];
+                v[i] = v[j];
+                v[j] = y;
+            }
+
+            private static void order(double[] k, long[] v, PrimitiveComparator.OfDouble c, int i, int j) {
+                if(c.compareDouble(k[j], k[i]) < 0) swap(k, v, i, j);
+            }
+
+            private static void insertionSort(double[] k, long[] v, PrimitiveComparator.OfDouble c, int low, int high) {
+                for(int i = low + 1; i < high; i++) {
+                    double x = k[i];
+                    long y = v[i];
+                    int j = i - 1;
+                    while(j >= low && c.compareDouble(x, k[j]) < 0) {
+                        k[j + 1] = k[j];
+                        v[j + 1] = v[j];
+                        j--;
+                    }
+                    k[j + 1] = x;
+                    v[j + 1] = y;
+                }
+            }
+
+            private static void heapSort(double[] k, long[] v, PrimitiveComparator.OfDouble c, int low, int high) {
+                for(int i = low + ((high - low) >>> 1); i > low;) pushDown(k, v, c, --i, low, high);
+                while(--high > low) {
+                    swap(k, v, low, high);
+                    pushDown(k, v, c, low, low, high);
+                }
+            }
+
+            private static void pushDown(double[] k, long[] v, PrimitiveComparator.OfDouble c, int p, int low, int high) {
+                while(p - low < (high - low) >>> 1) {
+                    int child = low + ((p - low) << 1) + 1;
+                    if(child + 1 < high && c.compareDouble(k[child], k[child + 1]) < 0) child++;
+                    if(c.compareDouble(k[p], k[child]) >= 0) break;
+                    swap(k, v, p, child);
+                    p = child;
+                }
+            }
+        }
+
+        /** Sorts a range of {@code double} keys and the {@code double} payload alongside them. */
+        @SuppressWarnings("serial")
+        static final class AndDouble extends RecursiveAction {
+            private final double[] k;
+            private final double[] v;
+            private final PrimitiveComparator.OfDouble c;
+            private final int low, high, depth;
+            private final AndDouble next;
+
+            private AndDouble(double[] k, double[] v, PrimitiveComparator.OfDouble c, int low, int high, int depth, AndDouble next) {
+                this.k = k;
+                this.v = v;
+                this.c = c;
+                this.low = low;
+                this.high = high;
+                this.depth = depth;
+                this.next = next;
+            }
+
+            @Override
+            protected void compute() { sort(k, v, c, low, high, depth, true); }
+
+            static void sort(double[] k, double[] v, PrimitiveComparator.OfDouble c, boolean parallel) {
+                checkLengths(k.length, v.length);
+                if(c == null) c = PrimitiveComparator.naturalOrderDouble();
+                final int depth = maxDepth(k.length);
+                if(parallel && k.length > MIN_PARALLEL_SORT_SIZE) new AndDouble(k, v, c, 0, k.length, depth, null).invoke();
+                else sort(k, v, c, 0, k.length, depth, false);
+            }
+
+            /** Sorts {@code [low, high)}, forking parts larger than {@value #MIN_PARALLEL_SORT_SIZE} when {@code parallel}. */
+            private static void sort(double[] k, double[] v, PrimitiveComparator.OfDouble c, int low, int high, int depth, boolean parallel) {
+                AndDouble forked = null;
+                try {
+                    while(true) {
+                        final int size = high - low;
+                        if(size <= MAX_INSERTION_SORT_SIZE) {
+                            insertionSort(k, v, c, low, high);
+                            break;
+                        }
+                        if(--depth < 0) {
+                            heapSort(k, v, c, low, high);
+                            break;
+                        }
+                        final int end = high - 1, step = (size >> 3) * 3 + 3;
+                        final int e1 = low + step, e5 = end - step, e3 = (e1 + e5) >>> 1, e2 = (e1 + e3) >>> 1, e4 = (e3 + e5) >>> 1;
+                        order(k, v, c, e1, e2);
+                        order(k, v, c, e4, e5);
+                        order(k, v, c, e3, e5);
+                        order(k, v, c, e3, e4);
+                        order(k, v, c, e2, e5);
+                        order(k, v, c, e1, e4);
+                        order(k, v, c, e1, e3);
+                        order(k, v, c, e2, e4);
+                        order(k, v, c, e2, e3);
+                        int l1 = low, h1, l2, h2, l3, h3 = high;
+                        if(c.compareDouble(k[e2], k[e4]) < 0) {
+                            // [low, lt) < p1 <= [lt + 1, gt) <= p2 < [gt + 1, high)
+                            swap(k, v, low, e2);
+                            swap(k, v, end, e4);
+                            final double p1 = k[low], p2 = k[end];
+                            int lt = low + 1, gt = end - 1;
+                            for(int i = lt; i <= gt;) {
+                                if(c.compareDouble(k[i], p1) < 0) swap(k, v, i++, lt++);
+                                else if(c.compareDouble(k[i], p2) > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            swap(k, v, low, --lt);
+                            swap(k, v, end, ++gt);
+                            h1 = lt;
+                            l2 = lt + 1;
+                            h2 = gt;
+                            l3 = gt + 1;
+                            if(h2 - l2 > size >> 1) {
+                                // move the many elements equal to a pivot out of the middle part
+                                int a = l2, b = h2 - 1;
+                                for(int i = a; i <= b;) {
+                                    if(c.compareDouble(k[i], p1) == 0) swap(k, v, i++, a++);
+                                    else if(c.compareDouble(k[i], p2) == 0) swap(k, v, i, b--);
+                                    else i++;
+                                }
+                                l2 = a;
+                                h2 = b + 1;
+                            }
+                        } else {
+                            // [low, lt) < p == [lt, gt] < (gt, high)
+                            final double p = k[e3];
+                            int lt = low, gt = end;
+                            for(int i = low; i <= gt;) {
+                                int r = c.compareDouble(k[i], p);
+                                if(r < 0) swap(k, v, i++, lt++);
+                                else if(r > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            h1 = lt;
+                            l2 = h2 = lt;
+                            l3 = gt + 1;
+                        }
+                        // carry on with the largest part and hand off the others
+                        final int s1 = h1 - l1, s2 = h2 - l2, s3 = h3 - l3;
+                        if(s1 >= s2 && s1 >= s3) {
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l1;
+                            high = h1;
+                        } else if(s2 >= s3) {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l2;
+                            high = h2;
+                        } else {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            low = l3;
+                            high = h3;
+                        }
+                    }
+                } finally {
+                    // the handed off parts still write into the arrays, so wait for them even on failure
+                    for(AndDouble f = forked; f != null; f = f.next) f.quietlyJoin();
+                }
+                for(; forked != null; forked = forked.next) forked.join();
+            }
+
+            private static AndDouble handOff(double[] k, double[] v, PrimitiveComparator.OfDouble c, int low, int high, int depth, boolean parallel, AndDouble forked) {
+                if(parallel && high - low > MIN_PARALLEL_SORT_SIZE) {
+                    forked = new AndDouble(k, v, c, low, high, depth, forked);
+                    forked.fork();
+                } else if(high - low > 1) sort(k, v, c, low, high, depth, false);
+                return forked;
+            }
+
+            private static void swap(double[] k, double[] v, int i, int j) {
+                double x = k[i];
+                k[i] = k[j];
+                k[j] = x;
+                double y = v[i];
+                v[i] = v[j];
+                v[j] = y;
+            }
+
+            private static void order(double[] k, double[] v, PrimitiveComparator.OfDouble c, int i, int j) {
+                if(c.compareDouble(k[j], k[i]) < 0) swap(k, v, i, j);
+            }
+
+            private static void insertionSort(double[] k, double[] v, PrimitiveComparator.OfDouble c, int low, int high) {
+                for(int i = low + 1; i < high; i++) {
+                    double x = k[i];
+                    double y = v[i];
+                    int j = i - 1;
+                    while(j >= low && c.compareDouble(x, k[j]) < 0) {
+                        k[j + 1] = k[j];
+                        v[j + 1] = v[j];
+                        j--;
+                    }
+                    k[j + 1] = x;
+                    v[j + 1] = y;
+                }
+            }
+
+            private static void heapSort(double[] k, double[] v, PrimitiveComparator.OfDouble c, int low, int high) {
+                for(int i = low + ((high - low) >>> 1); i > low;) pushDown(k, v, c, --i, low, high);
+                while(--high > low) {
+                    swap(k, v, low, high);
+                    pushDown(k, v, c, low, low, high);
+                }
+            }
+
+            private static void pushDown(double[] k, double[] v, PrimitiveComparator.OfDouble c, int p, int low, int high) {
+                while(p - low < (high - low) >>> 1) {
+                    int child = low + ((p - low) << 1) + 1;
+                    if(child + 1 < high && c.compareDouble(k[child], k[child + 1]) < 0) child++;
+                    if(c.compareDouble(k[p], k[child]) >= 0) break;
+                    swap(k, v, p, child);
+                    p = child;
+                }
+            }
+        }
+    }
+
+    ///////////// long
+
+    private static final class OfLong {
+        private OfLong() {}
+
+        /** Sorts a range of {@code long} keys and the {@code int} payload alongside them. */
+        @SuppressWarnings("serial")
+        static final class AndInt extends RecursiveAction {
+            private final long[] k;
+            private final int[] v;
+            private final PrimitiveComparator.OfLong c;
+            private final int low, high, depth;
+            private final AndInt next;
+
+            private AndInt(long[] k, int[] v, PrimitiveComparator.OfLong c, int low, int high, int depth, AndInt next) {
+                this.k = k;
+                this.v = v;
+                this.c = c;
+                this.low = low;
+                this.high = high;
+                this.depth = depth;
+                this.next = next;
+            }
+
+            @Override
+            protected void compute() { sort(k, v, c, low, high, depth, true); }
+
+            static void sort(long[] k, int[] v, PrimitiveComparator.OfLong c, boolean parallel) {
+                checkLengths(k.length, v.length);
+                if(c == null) c = PrimitiveComparator.naturalOrderLong();
+                final int depth = maxDepth(k.length);
+                if(parallel && k.length > MIN_PARALLEL_SORT_SIZE) new AndInt(k, v, c, 0, k.length, depth, null).invoke();
+                else sort(k, v, c, 0, k.length, depth, false);
+            }
+
+            /** Sorts {@code [low, high)}, forking parts larger than {@value #MIN_PARALLEL_SORT_SIZE} when {@code parallel}. */
+            private static void sort(long[] k, int[] v, PrimitiveComparator.OfLong c, int low, int high, int depth, boolean parallel) {
+                AndInt forked = null;
+                try {
+                    while(true) {
+                        final int size = high - low;
+                        if(size <= MAX_INSERTION_SORT_SIZE) {
+                            insertionSort(k, v, c, low, high);
+                            break;
+                        }
+                        if(--depth < 0) {
+                            heapSort(k, v, c, low, high);
+                            break;
+                        }
+                        final int end = high - 1, step = (size >> 3) * 3 + 3;
+                        final int e1 = low + step, e5 = end - step, e3 = (e1 + e5) >>> 1, e2 = (e1 + e3) >>> 1, e4 = (e3 + e5) >>> 1;
+                        order(k, v, c, e1, e2);
+                        order(k, v, c, e4, e5);
+                        order(k, v, c, e3, e5);
+                        order(k, v, c, e3, e4);
+                        order(k, v, c, e2, e5);
+                        order(k, v, c, e1, e4);
+                        order(k, v, c, e1, e3);
+                        order(k, v, c, e2, e4);
+                        order(k, v, c, e2, e3);
+                        int l1 = low, h1, l2, h2, l3, h3 = high;
+                        if(c.compareLong(k[e2], k[e4]) < 0) {
+                            // [low, lt) < p1 <= [lt + 1, gt) <= p2 < [gt + 1, high)
+                            swap(k, v, low, e2);
+                            swap(k, v, end, e4);
+                            final long p1 = k[low], p2 = k[end];
+                            int lt = low + 1, gt = end - 1;
+                            for(int i = lt; i <= gt;) {
+                                if(c.compareLong(k[i], p1) < 0) swap(k, v, i++, lt++);
+                                else if(c.compareLong(k[i], p2) > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            swap(k, v, low, --lt);
+                            swap(k, v, end, ++gt);
+                            h1 = lt;
+                            l2 = lt + 1;
+                            h2 = gt;
+                            l3 = gt + 1;
+                            if(h2 - l2 > size >> 1) {
+                                // move the many elements equal to a pivot out of the middle part
+                                int a = l2, b = h2 - 1;
+                                for(int i = a; i <= b;) {
+                                    if(c.compareLong(k[i], p1) == 0) swap(k, v, i++, a++);
+                                    else if(c.compareLong(k[i], p2) == 0) swap(k, v, i, b--);
+                                    else i++;
+                                }
+                                l2 = a;
+                                h2 = b + 1;
+                            }
+                        } else {
+                            // [low, lt) < p == [lt, gt] < (gt, high)
+                            final long p = k[e3];
+                            int lt = low, gt = end;
+                            for(int i = low; i <= gt;) {
+                                int r = c.compareLong(k[i], p);
+                                if(r < 0) swap(k, v, i++, lt++);
+                                else if(r > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            h1 = lt;
+                            l2 = h2 = lt;
+                            l3 = gt + 1;
+                        }
+                        // carry on with the largest part and hand off the others
+                        final int s1 = h1 - l1, s2 = h2 - l2, s3 = h3 - l3;
+                        if(s1 >= s2 && s1 >= s3) {
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l1;
+                            high = h1;
+                        } else if(s2 >= s3) {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l2;
+                            high = h2;
+                        } else {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            low = l3;
+                            high = h3;
+                        }
+                    }
+                } finally {
+                    // the handed off parts still write into the arrays, so wait for them even on failure
+                    for(AndInt f = forked; f != null; f = f.next) f.quietlyJoin();
+                }
+                for(; forked != null; forked = forked.next) forked.join();
+            }
+
+            private static AndInt handOff(long[] k, int[] v, PrimitiveComparator.OfLong c, int low, int high, int depth, boolean parallel, AndInt forked) {
+                if(parallel && high - low > MIN_PARALLEL_SORT_SIZE) {
+                    forked = new AndInt(k, v, c, low, high, depth, forked);
+                    forked.fork();
+                } else if(high - low > 1) sort(k, v, c, low, high, depth, false);
+                return forked;
+            }
+
+            private static void swap(long[] k, int[] v, int i, int j) {
+                long x = k[i];
+                k[i] = k[j];
+                k[j] = x;
+                int y = v[i];
+                v[i] = v[j];
+                v[j] = y;
+            }
+
+            private static void order(long[] k, int[] v, PrimitiveComparator.OfLong c, int i, int j) {
+                if(c.compareLong(k[j], k[i]) < 0) swap(k, v, i, j);
+            }
+
+            private static void insertionSort(long[] k, int[] v, PrimitiveComparator.OfLong c, int low, int high) {
+                for(int i = low + 1; i < high; i++) {
+                    long x = k[i];
+                    int y = v[i];
+                    int j = i - 1;
+                    while(j >= low && c.compareLong(x, k[j]) < 0) {
+                        k[j + 1] = k[j];
+                        v[j + 1] = v[j];
+                        j--;
+                    }
+                    k[j + 1] = x;
+                    v[j + 1] = y;
+                }
+            }
+
+            private static void heapSort(long[] k, int[] v, PrimitiveComparator.OfLong c, int low, int high) {
+                for(int i = low + ((high - low) >>> 1); i > low;) pushDown(k, v, c, --i, low, high);
+                while(--high > low) {
+                    swap(k, v, low, high);
+                    pushDown(k, v, c, low, low, high);
+                }
+            }
+
+            private static void pushDown(long[] k, int[] v, PrimitiveComparator.OfLong c, int p, int low, int high) {
+                while(p - low < (high - low) >>> 1) {
+                    int child = low + ((p - low) << 1) + 1;
+                    if(child + 1 < high && c.compareLong(k[child], k[child + 1]) < 0) child++;
+                    if(c.compareLong(k[p], k[child]) >= 0) break;
+                    swap(k, v, p, child);
+                    p = child;
+                }
+            }
+        }
+
+        /** Sorts a range of {@code long} keys and the {@code long} payload alongside them. */
+        @SuppressWarnings("serial")
+        static final class AndLong extends RecursiveAction {
+            private final long[] k;
+            private final long[] v;
+            private final PrimitiveComparator.OfLong c;
+            private final int low, high, depth;
+            private final AndLong next;
+
+            private AndLong(long[] k, long[] v, PrimitiveComparator.OfLong c, int low, int high, int depth, AndLong next) {
+                this.k = k;
+                this.v = v;
+                this.c = c;
+                this.low = low;
+                this.high = high;
+                this.depth = depth;
+                this.next = next;
+            }
+
+            @Override
+            protected void compute() { sort(k, v, c, low, high, depth, true); }
+
+            static void sort(long[] k, long[] v, PrimitiveComparator.OfLong c, boolean parallel) {
+                checkLengths(k.length, v.length);
+                if(c == null) c = PrimitiveComparator.naturalOrderLong();
+                final int depth = maxDepth(k.length);
+                if(parallel && k.length > MIN_PARALLEL_SORT_SIZE) new AndLong(k, v, c, 0, k.length, depth, null).invoke();
+                else sort(k, v, c, 0, k.length, depth, false);
+            }
+
+            /** Sorts {@code [low, high)}, forking parts larger than {@value #MIN_PARALLEL_SORT_SIZE} when {@code parallel}. */
+            private static void sort(long[] k, long[] v, PrimitiveComparator.OfLong c, int low, int high, int depth, boolean parallel) {
+                AndLong forked = null;
+                try {
+                    while(true) {
+                        final int size = high - low;
+                        if(size <= MAX_INSERTION_SORT_SIZE) {
+                            insertionSort(k, v, c, low, high);
+                            break;
+                        }
+                        if(--depth < 0) {
+                            heapSort(k, v, c, low, high);
+                            break;
+                        }
+                        final int end = high - 1, step = (size >> 3) * 3 + 3;
+                        final int e1 = low + step, e5 = end - step, e3 = (e1 + e5) >>> 1, e2 = (e1 + e3) >>> 1, e4 = (e3 + e5) >>> 1;
+                        order(k, v, c, e1, e2);
+                        order(k, v, c, e4, e5);
+                        order(k, v, c, e3, e5);
+                        order(k, v, c, e3, e4);
+                        order(k, v, c, e2, e5);
+                        order(k, v, c, e1, e4);
+                        order(k, v, c, e1, e3);
+                        order(k, v, c, e2, e4);
+                        order(k, v, c, e2, e3);
+                        int l1 = low, h1, l2, h2, l3, h3 = high;
+                        if(c.compareLong(k[e2], k[e4]) < 0) {
+                            // [low, lt) < p1 <= [lt + 1, gt) <= p2 < [gt + 1, high)
+                            swap(k, v, low, e2);
+                            swap(k, v, end, e4);
+                            final long p1 = k[low], p2 = k[end];
+                            int lt = low + 1, gt = end - 1;
+                            for(int i = lt; i <= gt;) {
+                                if(c.compareLong(k[i], p1) < 0) swap(k, v, i++, lt++);
+                                else if(c.compareLong(k[i], p2) > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            swap(k, v, low, --lt);
+                            swap(k, v, end, ++gt);
+                            h1 = lt;
+                            l2 = lt + 1;
+                            h2 = gt;
+                            l3 = gt + 1;
+                            if(h2 - l2 > size >> 1) {
+                                // move the many elements equal to a pivot out of the middle part
+                                int a = l2, b = h2 - 1;
+                                for(int i = a; i <= b;) {
+                                    if(c.compareLong(k[i], p1) == 0) swap(k, v, i++, a++);
+                                    else if(c.compareLong(k[i], p2) == 0) swap(k, v, i, b--);
+                                    else i++;
+                                }
+                                l2 = a;
+                                h2 = b + 1;
+                            }
+                        } else {
+                            // [low, lt) < p == [lt, gt] < (gt, high)
+                            final long p = k[e3];
+                            int lt = low, gt = end;
+                            for(int i = low; i <= gt;) {
+                                int r = c.compareLong(k[i], p);
+                                if(r < 0) swap(k, v, i++, lt++);
+                                else if(r > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            h1 = lt;
+                            l2 = h2 = lt;
+                            l3 = gt + 1;
+                        }
+                        // carry on with the largest part and hand off the others
+                        final int s1 = h1 - l1, s2 = h2 - l2, s3 = h3 - l3;
+                        if(s1 >= s2 && s1 >= s3) {
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l1;
+                            high = h1;
+                        } else if(s2 >= s3) {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l2;
+                            high = h2;
+                        } else {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            low = l3;
+                            high = h3;
+                        }
+                    }
+                } finally {
+                    // the handed off parts still write into the arrays, so wait for them even on failure
+                    for(AndLong f = forked; f != null; f = f.next) f.quietlyJoin();
+                }
+                for(; forked != null; forked = forked.next) forked.join();
+            }
+
+            private static AndLong handOff(long[] k, long[] v, PrimitiveComparator.OfLong c, int low, int high, int depth, boolean parallel, AndLong forked) {
+                if(parallel && high - low > MIN_PARALLEL_SORT_SIZE) {
+                    forked = new AndLong(k, v, c, low, high, depth, forked);
+                    forked.fork();
+                } else if(high - low > 1) sort(k, v, c, low, high, depth, false);
+                return forked;
+            }
+
+            private static void swap(long[] k, long[] v, int i, int j) {
+                long x = k[i];
+                k[i] = k[j];
+                k[j] = x;
+                long y = v[i];
+                v[i] = v[j];
+                v[j] = y;
+            }
+
+            private static void order(long[] k, long[] v, PrimitiveComparator.OfLong c, int i, int j) {
+                if(c.compareLong(k[j], k[i]) < 0) swap(k, v, i, j);
+            }
+
+            private static void insertionSort(long[] k, long[] v, PrimitiveComparator.OfLong c, int low, int high) {
+                for(int i = low + 1; i < high; i++) {
+                    long x = k[i];
+                    long y = v[i];
+                    int j = i - 1;
+                    while(j >= low && c.compareLong(x, k[j]) < 0) {
+                        k[j + 1] = k[j];
+                        v[j + 1] = v[j];
+                        j--;
+                    }
+                    k[j + 1] = x;
+                    v[j + 1] = y;
+                }
+            }
+
+            private static void heapSort(long[] k, long[] v, PrimitiveComparator.OfLong c, int low, int high) {
+                for(int i = low + ((high - low) >>> 1); i > low;) pushDown(k, v, c, --i, low, high);
+                while(--high > low) {
+                    swap(k, v, low, high);
+                    pushDown(k, v, c, low, low, high);
+                }
+            }
+
+            private static void pushDown(long[] k, long[] v, PrimitiveComparator.OfLong c, int p, int low, int high) {
+                while(p - low < (high - low) >>> 1) {
+                    int child = low + ((p - low) << 1) + 1;
+                    if(child + 1 < high && c.compareLong(k[child], k[child + 1]) < 0) child++;
+                    if(c.compareLong(k[p], k[child]) >= 0) break;
+                    swap(k, v, p, child);
+                    p = child;
+                }
+            }
+        }
+
+        /** Sorts a range of {@code long} keys and the {@code double} payload alongside them. */
+        @SuppressWarnings("serial")
+        static final class AndDouble extends RecursiveAction {
+            private final long[] k;
+            private final double[] v;
+            private final PrimitiveComparator.OfLong c;
+            private final int low, high, depth;
+            private final AndDouble next;
+
+            private AndDouble(long[] k, double[] v, PrimitiveComparator.OfLong c, int low, int high, int depth, AndDouble next) {
+                this.k = k;
+                this.v = v;
+                this.c = c;
+                this.low = low;
+                this.high = high;
+                this.depth = depth;
+                this.next = next;
+            }
+
+            @Override
+            protected void compute() { sort(k, v, c, low, high, depth, true); }
+
+            static void sort(long[] k, double[] v, PrimitiveComparator.OfLong c, boolean parallel) {
+                checkLengths(k.length, v.length);
+                if(c == null) c = PrimitiveComparator.naturalOrderLong();
+                final int depth = maxDepth(k.length);
+                if(parallel && k.length > MIN_PARALLEL_SORT_SIZE) new AndDouble(k, v, c, 0, k.length, depth, null).invoke();
+                else sort(k, v, c, 0, k.length, depth, false);
+            }
+
+            /** Sorts {@code [low, high)}, forking parts larger than {@value #MIN_PARALLEL_SORT_SIZE} when {@code parallel}. */
+            private static void sort(long[] k, double[] v, PrimitiveComparator.OfLong c, int low, int high, int depth, boolean parallel) {
+                AndDouble forked = null;
+                try {
+                    while(true) {
+                        final int size = high - low;
+                        if(size <= MAX_INSERTION_SORT_SIZE) {
+                            insertionSort(k, v, c, low, high);
+                            break;
+                        }
+                        if(--depth < 0) {
+                            heapSort(k, v, c, low, high);
+                            break;
+                        }
+                        final int end = high - 1, step = (size >> 3) * 3 + 3;
+                        final int e1 = low + step, e5 = end - step, e3 = (e1 + e5) >>> 1, e2 = (e1 + e3) >>> 1, e4 = (e3 + e5) >>> 1;
+                        order(k, v, c, e1, e2);
+                        order(k, v, c, e4, e5);
+                        order(k, v, c, e3, e5);
+                        order(k, v, c, e3, e4);
+                        order(k, v, c, e2, e5);
+                        order(k, v, c, e1, e4);
+                        order(k, v, c, e1, e3);
+                        order(k, v, c, e2, e4);
+                        order(k, v, c, e2, e3);
+                        int l1 = low, h1, l2, h2, l3, h3 = high;
+                        if(c.compareLong(k[e2], k[e4]) < 0) {
+                            // [low, lt) < p1 <= [lt + 1, gt) <= p2 < [gt + 1, high)
+                            swap(k, v, low, e2);
+                            swap(k, v, end, e4);
+                            final long p1 = k[low], p2 = k[end];
+                            int lt = low + 1, gt = end - 1;
+                            for(int i = lt; i <= gt;) {
+                                if(c.compareLong(k[i], p1) < 0) swap(k, v, i++, lt++);
+                                else if(c.compareLong(k[i], p2) > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            swap(k, v, low, --lt);
+                            swap(k, v, end, ++gt);
+                            h1 = lt;
+                            l2 = lt + 1;
+                            h2 = gt;
+                            l3 = gt + 1;
+                            if(h2 - l2 > size >> 1) {
+                                // move the many elements equal to a pivot out of the middle part
+                                int a = l2, b = h2 - 1;
+                                for(int i = a; i <= b;) {
+                                    if(c.compareLong(k[i], p1) == 0) swap(k, v, i++, a++);
+                                    else if(c.compareLong(k[i], p2) == 0) swap(k, v, i, b--);
+                                    else i++;
+                                }
+                                l2 = a;
+                                h2 = b + 1;
+                            }
+                        } else {
+                            // [low, lt) < p == [lt, gt] < (gt, high)
+                            final long p = k[e3];
+                            int lt = low, gt = end;
+                            for(int i = low; i <= gt;) {
+                                int r = c.compareLong(k[i], p);
+                                if(r < 0) swap(k, v, i++, lt++);
+                                else if(r > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            h1 = lt;
+                            l2 = h2 = lt;
+                            l3 = gt + 1;
+                        }
+                        // carry on with the largest part and hand off the others
+                        final int s1 = h1 - l1, s2 = h2 - l2, s3 = h3 - l3;
+                        if(s1 >= s2 && s1 >= s3) {
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l1;
+                            high = h1;
+                        } else if(s2 >= s3) {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l2;
+                            high = h2;
+                        } else {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            low = l3;
+                            high = h3;
+                        }
+                    }
+                } finally {
+                    // the handed off parts still write into the arrays, so wait for them even on failure
+                    for(AndDouble f = forked; f != null; f = f.next) f.quietlyJoin();
+                }
+                for(; forked != null; forked = forked.next) forked.join();
+            }
+
+            private static AndDouble handOff(long[] k, double[] v, PrimitiveComparator.OfLong c, int low, int high, int depth, boolean parallel, AndDouble forked) {
+                if(parallel && high - low > MIN_PARALLEL_SORT_SIZE) {
+                    forked = new AndDouble(k, v, c, low, high, depth, forked);
+                    forked.fork();
+                } else if(high - low > 1) sort(k, v, c, low, high, depth, false);
+                return forked;
+            }
+
+            private static void swap(long[] k, double[] v, int i, int j) {
+                long x = k[i];
+                k[i] = k[j];
+                k[j] = x;
+                double y = v[i];
+                v[i] = v[j];
+                v[j] = y;
+            }
+
+            private static void order(long[] k, double[] v, PrimitiveComparator.OfLong c, int i, int j) {
+                if(c.compareLong(k[j], k[i]) < 0) swap(k, v, i, j);
+            }
+
+            private static void insertionSort(long[] k, double[] v, PrimitiveComparator.OfLong c, int low, int high) {
+                for(int i = low + 1; i < high; i++) {
+                    long x = k[i];
+                    double y = v[i];
+                    int j = i - 1;
+                    while(j >= low && c.compareLong(x, k[j]) < 0) {
+                        k[j + 1] = k[j];
+                        v[j + 1] = v[j];
+                        j--;
+                    }
+                    k[j + 1] = x;
+                    v[j + 1] = y;
+                }
+            }
+
+            private static void heapSort(long[] k, double[] v, PrimitiveComparator.OfLong c, int low, int high) {
+                for(int i = low + ((high - low) >>> 1); i > low;) pushDown(k, v, c, --i, low, high);
+                while(--high > low) {
+                    swap(k, v, low, high);
+                    pushDown(k, v, c, low, low, high);
+                }
+            }
+
+            private static void pushDown(long[] k, double[] v, PrimitiveComparator.OfLong c, int p, int low, int high) {
+                while(p - low < (high - low) >>> 1) {
+                    int child = low + ((p - low) << 1) + 1;
+                    if(child + 1 < high && c.compareLong(k[child], k[child + 1]) < 0) child++;
+                    if(c.compareLong(k[p], k[child]) >= 0) break;
+                    swap(k, v, p, child);
+                    p = child;
+                }
+            }
+        }
+    }
+
+    ///////////// int
+
+    private static final class OfInt {
+        private OfInt() {}
+
+        /** Sorts a range of {@code int} keys and the {@code int} payload alongside them. */
+        @SuppressWarnings("serial")
+        static final class AndInt extends RecursiveAction {
+            private final int[] k;
+            private final int[] v;
+            private final PrimitiveComparator.OfInt c;
+            private final int low, high, depth;
+            private final AndInt next;
+
+            private AndInt(int[] k, int[] v, PrimitiveComparator.OfInt c, int low, int high, int depth, AndInt next) {
+                this.k = k;
+                this.v = v;
+                this.c = c;
+                this.low = low;
+                this.high = high;
+                this.depth = depth;
+                this.next = next;
+            }
+
+            @Override
+            protected void compute() { sort(k, v, c, low, high, depth, true); }
+
+            static void sort(int[] k, int[] v, PrimitiveComparator.OfInt c, boolean parallel) {
+                checkLengths(k.length, v.length);
+                if(c == null) c = PrimitiveComparator.naturalOrderInt();
+                final int depth = maxDepth(k.length);
+                if(parallel && k.length > MIN_PARALLEL_SORT_SIZE) new AndInt(k, v, c, 0, k.length, depth, null).invoke();
+                else sort(k, v, c, 0, k.length, depth, false);
+            }
+
+            /** Sorts {@code [low, high)}, forking parts larger than {@value #MIN_PARALLEL_SORT_SIZE} when {@code parallel}. */
+            private static void sort(int[] k, int[] v, PrimitiveComparator.OfInt c, int low, int high, int depth, boolean parallel) {
+                AndInt forked = null;
+                try {
+                    while(true) {
+                        final int size = high - low;
+                        if(size <= MAX_INSERTION_SORT_SIZE) {
+                            insertionSort(k, v, c, low, high);
+                            break;
+                        }
+                        if(--depth < 0) {
+                            heapSort(k, v, c, low, high);
+                            break;
+                        }
+                        final int end = high - 1, step = (size >> 3) * 3 + 3;
+                        final int e1 = low + step, e5 = end - step, e3 = (e1 + e5) >>> 1, e2 = (e1 + e3) >>> 1, e4 = (e3 + e5) >>> 1;
+                        order(k, v, c, e1, e2);
+                        order(k, v, c, e4, e5);
+                        order(k, v, c, e3, e5);
+                        order(k, v, c, e3, e4);
+                        order(k, v, c, e2, e5);
+                        order(k, v, c, e1, e4);
+                        order(k, v, c, e1, e3);
+                        order(k, v, c, e2, e4);
+                        order(k, v, c, e2, e3);
+                        int l1 = low, h1, l2, h2, l3, h3 = high;
+                        if(c.compareInt(k[e2], k[e4]) < 0) {
+                            // [low, lt) < p1 <= [lt + 1, gt) <= p2 < [gt + 1, high)
+                            swap(k, v, low, e2);
+                            swap(k, v, end, e4);
+                            final int p1 = k[low], p2 = k[end];
+                            int lt = low + 1, gt = end - 1;
+                            for(int i = lt; i <= gt;) {
+                                if(c.compareInt(k[i], p1) < 0) swap(k, v, i++, lt++);
+                                else if(c.compareInt(k[i], p2) > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            swap(k, v, low, --lt);
+                            swap(k, v, end, ++gt);
+                            h1 = lt;
+                            l2 = lt + 1;
+                            h2 = gt;
+                            l3 = gt + 1;
+                            if(h2 - l2 > size >> 1) {
+                                // move the many elements equal to a pivot out of the middle part
+                                int a = l2, b = h2 - 1;
+                                for(int i = a; i <= b;) {
+                                    if(c.compareInt(k[i], p1) == 0) swap(k, v, i++, a++);
+                                    else if(c.compareInt(k[i], p2) == 0) swap(k, v, i, b--);
+                                    else i++;
+                                }
+                                l2 = a;
+                                h2 = b + 1;
+                            }
+                        } else {
+                            // [low, lt) < p == [lt, gt] < (gt, high)
+                            final int p = k[e3];
+                            int lt = low, gt = end;
+                            for(int i = low; i <= gt;) {
+                                int r = c.compareInt(k[i], p);
+                                if(r < 0) swap(k, v, i++, lt++);
+                                else if(r > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            h1 = lt;
+                            l2 = h2 = lt;
+                            l3 = gt + 1;
+                        }
+                        // carry on with the largest part and hand off the others
+                        final int s1 = h1 - l1, s2 = h2 - l2, s3 = h3 - l3;
+                        if(s1 >= s2 && s1 >= s3) {
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l1;
+                            high = h1;
+                        } else if(s2 >= s3) {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l2;
+                            high = h2;
+                        } else {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            low = l3;
+                            high = h3;
+                        }
+                    }
+                } finally {
+                    // the handed off parts still write into the arrays, so wait for them even on failure
+                    for(AndInt f = forked; f != null; f = f.next) f.quietlyJoin();
+                }
+                for(; forked != null; forked = forked.next) forked.join();
+            }
+
+            private static AndInt handOff(int[] k, int[] v, PrimitiveComparator.OfInt c, int low, int high, int depth, boolean parallel, AndInt forked) {
+                if(parallel && high - low > MIN_PARALLEL_SORT_SIZE) {
+                    forked = new AndInt(k, v, c, low, high, depth, forked);
+                    forked.fork();
+                } else if(high - low > 1) sort(k, v, c, low, high, depth, false);
+                return forked;
+            }
+
+            private static void swap(int[] k, int[] v, int i, int j) {
+                int x = k[i];
+                k[i] = k[j];
+                k[j] = x;
+                int y = v[i];
+                v[i] = v[j];
+                v[j] = y;
+            }
+
+            private static void order(int[] k, int[] v, PrimitiveComparator.OfInt c, int i, int j) {
+                if(c.compareInt(k[j], k[i]) < 0) swap(k, v, i, j);
+            }
+
+            private static void insertionSort(int[] k, int[] v, PrimitiveComparator.OfInt c, int low, int high) {
+                for(int i = low + 1; i < high; i++) {
+                    int x = k[i];
+                    int y = v[i];
+                    int j = i - 1;
+                    while(j >= low && c.compareInt(x, k[j]) < 0) {
+                        k[j + 1] = k[j];
+                        v[j + 1] = v[j];
+                        j--;
+                    }
+                    k[j + 1] = x;
+                    v[j + 1] = y;
+                }
+            }
+
+            private static void heapSort(int[] k, int[] v, PrimitiveComparator.OfInt c, int low, int high) {
+                for(int i = low + ((high - low) >>> 1); i > low;) pushDown(k, v, c, --i, low, high);
+                while(--high > low) {
+                    swap(k, v, low, high);
+                    pushDown(k, v, c, low, low, high);
+                }
+            }
+
+            private static void pushDown(int[] k, int[] v, PrimitiveComparator.OfInt c, int p, int low, int high) {
+                while(p - low < (high - low) >>> 1) {
+                    int child = low + ((p - low) << 1) + 1;
+                    if(child + 1 < high && c.compareInt(k[child], k[child + 1]) < 0) child++;
+                    if(c.compareInt(k[p], k[child]) >= 0) break;
+                    swap(k, v, p, child);
+                    p = child;
+                }
+            }
+        }
+
+        /** Sorts a range of {@code int} keys and the {@code long} payload alongside them. */
+        @SuppressWarnings("serial")
+        static final class AndLong extends RecursiveAction {
+            private final int[] k;
+            private final long[] v;
+            private final PrimitiveComparator.OfInt c;
+            private final int low, high, depth;
+            private final AndLong next;
+
+            private AndLong(int[] k, long[] v, PrimitiveComparator.OfInt c, int low, int high, int depth, AndLong next) {
+                this.k = k;
+                this.v = v;
+                this.c = c;
+                this.low = low;
+                this.high = high;
+                this.depth = depth;
+                this.next = next;
+            }
+
+            @Override
+            protected void compute() { sort(k, v, c, low, high, depth, true); }
+
+            static void sort(int[] k, long[] v, PrimitiveComparator.OfInt c, boolean parallel) {
+                checkLengths(k.length, v.length);
+                if(c == null) c = PrimitiveComparator.naturalOrderInt();
+                final int depth = maxDepth(k.length);
+                if(parallel && k.length > MIN_PARALLEL_SORT_SIZE) new AndLong(k, v, c, 0, k.length, depth, null).invoke();
+                else sort(k, v, c, 0, k.length, depth, false);
+            }
+
+            /** Sorts {@code [low, high)}, forking parts larger than {@value #MIN_PARALLEL_SORT_SIZE} when {@code parallel}. */
+            private static void sort(int[] k, long[] v, PrimitiveComparator.OfInt c, int low, int high, int depth, boolean parallel) {
+                AndLong forked = null;
+                try {
+                    while(true) {
+                        final int size = high - low;
+                        if(size <= MAX_INSERTION_SORT_SIZE) {
+                            insertionSort(k, v, c, low, high);
+                            break;
+                        }
+                        if(--depth < 0) {
+                            heapSort(k, v, c, low, high);
+                            break;
+                        }
+                        final int end = high - 1, step = (size >> 3) * 3 + 3;
+                        final int e1 = low + step, e5 = end - step, e3 = (e1 + e5) >>> 1, e2 = (e1 + e3) >>> 1, e4 = (e3 + e5) >>> 1;
+                        order(k, v, c, e1, e2);
+                        order(k, v, c, e4, e5);
+                        order(k, v, c, e3, e5);
+                        order(k, v, c, e3, e4);
+                        order(k, v, c, e2, e5);
+                        order(k, v, c, e1, e4);
+                        order(k, v, c, e1, e3);
+                        order(k, v, c, e2, e4);
+                        order(k, v, c, e2, e3);
+                        int l1 = low, h1, l2, h2, l3, h3 = high;
+                        if(c.compareInt(k[e2], k[e4]) < 0) {
+                            // [low, lt) < p1 <= [lt + 1, gt) <= p2 < [gt + 1, high)
+                            swap(k, v, low, e2);
+                            swap(k, v, end, e4);
+                            final int p1 = k[low], p2 = k[end];
+                            int lt = low + 1, gt = end - 1;
+                            for(int i = lt; i <= gt;) {
+                                if(c.compareInt(k[i], p1) < 0) swap(k, v, i++, lt++);
+                                else if(c.compareInt(k[i], p2) > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            swap(k, v, low, --lt);
+                            swap(k, v, end, ++gt);
+                            h1 = lt;
+                            l2 = lt + 1;
+                            h2 = gt;
+                            l3 = gt + 1;
+                            if(h2 - l2 > size >> 1) {
+                                // move the many elements equal to a pivot out of the middle part
+                                int a = l2, b = h2 - 1;
+                                for(int i = a; i <= b;) {
+                                    if(c.compareInt(k[i], p1) == 0) swap(k, v, i++, a++);
+                                    else if(c.compareInt(k[i], p2) == 0) swap(k, v, i, b--);
+                                    else i++;
+                                }
+                                l2 = a;
+                                h2 = b + 1;
+                            }
+                        } else {
+                            // [low, lt) < p == [lt, gt] < (gt, high)
+                            final int p = k[e3];
+                            int lt = low, gt = end;
+                            for(int i = low; i <= gt;) {
+                                int r = c.compareInt(k[i], p);
+                                if(r < 0) swap(k, v, i++, lt++);
+                                else if(r > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            h1 = lt;
+                            l2 = h2 = lt;
+                            l3 = gt + 1;
+                        }
+                        // carry on with the largest part and hand off the others
+                        final int s1 = h1 - l1, s2 = h2 - l2, s3 = h3 - l3;
+                        if(s1 >= s2 && s1 >= s3) {
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l1;
+                            high = h1;
+                        } else if(s2 >= s3) {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l2;
+                            high = h2;
+                        } else {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            low = l3;
+                            high = h3;
+                        }
+                    }
+                } finally {
+                    // the handed off parts still write into the arrays, so wait for them even on failure
+                    for(AndLong f = forked; f != null; f = f.next) f.quietlyJoin();
+                }
+                for(; forked != null; forked = forked.next) forked.join();
+            }
+
+            private static AndLong handOff(int[] k, long[] v, PrimitiveComparator.OfInt c, int low, int high, int depth, boolean parallel, AndLong forked) {
+                if(parallel && high - low > MIN_PARALLEL_SORT_SIZE) {
+                    forked = new AndLong(k, v, c, low, high, depth, forked);
+                    forked.fork();
+                } else if(high - low > 1) sort(k, v, c, low, high, depth, false);
+                return forked;
+            }
+
+            private static void swap(int[] k, long[] v, int i, int j) {
+                int x = k[i];
+                k[i] = k[j];
+                k[j] = x;
+                long y = v[i];
+                v[i] = v[j];
+                v[j] = y;
+            }
+
+            private static void order(int[] k, long[] v, PrimitiveComparator.OfInt c, int i, int j) {
+                if(c.compareInt(k[j], k[i]) < 0) swap(k, v, i, j);
+            }
+
+            private static void insertionSort(int[] k, long[] v, PrimitiveComparator.OfInt c, int low, int high) {
+                for(int i = low + 1; i < high; i++) {
+                    int x = k[i];
+                    long y = v[i];
+                    int j = i - 1;
+                    while(j >= low && c.compareInt(x, k[j]) < 0) {
+                        k[j + 1] = k[j];
+                        v[j + 1] = v[j];
+                        j--;
+                    }
+                    k[j + 1] = x;
+                    v[j + 1] = y;
+                }
+            }
+
+            private static void heapSort(int[] k, long[] v, PrimitiveComparator.OfInt c, int low, int high) {
+                for(int i = low + ((high - low) >>> 1); i > low;) pushDown(k, v, c, --i, low, high);
+                while(--high > low) {
+                    swap(k, v, low, high);
+                    pushDown(k, v, c, low, low, high);
+                }
+            }
+
+            private static void pushDown(int[] k, long[] v, PrimitiveComparator.OfInt c, int p, int low, int high) {
+                while(p - low < (high - low) >>> 1) {
+                    int child = low + ((p - low) << 1) + 1;
+                    if(child + 1 < high && c.compareInt(k[child], k[child + 1]) < 0) child++;
+                    if(c.compareInt(k[p], k[child]) >= 0) break;
+                    swap(k, v, p, child);
+                    p = child;
+                }
+            }
+        }
+
+        /** Sorts a range of {@code int} keys and the {@code double} payload alongside them. */
+        @SuppressWarnings("serial")
+        static final class AndDouble extends RecursiveAction {
+            private final int[] k;
+            private final double[] v;
+            private final PrimitiveComparator.OfInt c;
+            private final int low, high, depth;
+            private final AndDouble next;
+
+            private AndDouble(int[] k, double[] v, PrimitiveComparator.OfInt c, int low, int high, int depth, AndDouble next) {
+                this.k = k;
+                this.v = v;
+                this.c = c;
+                this.low = low;
+                this.high = high;
+                this.depth = depth;
+                this.next = next;
+            }
+
+            @Override
+            protected void compute() { sort(k, v, c, low, high, depth, true); }
+
+            static void sort(int[] k, double[] v, PrimitiveComparator.OfInt c, boolean parallel) {
+                checkLengths(k.length, v.length);
+                if(c == null) c = PrimitiveComparator.naturalOrderInt();
+                final int depth = maxDepth(k.length);
+                if(parallel && k.length > MIN_PARALLEL_SORT_SIZE) new AndDouble(k, v, c, 0, k.length, depth, null).invoke();
+                else sort(k, v, c, 0, k.length, depth, false);
+            }
+
+            /** Sorts {@code [low, high)}, forking parts larger than {@value #MIN_PARALLEL_SORT_SIZE} when {@code parallel}. */
+            private static void sort(int[] k, double[] v, PrimitiveComparator.OfInt c, int low, int high, int depth, boolean parallel) {
+                AndDouble forked = null;
+                try {
+                    while(true) {
+                        final int size = high - low;
+                        if(size <= MAX_INSERTION_SORT_SIZE) {
+                            insertionSort(k, v, c, low, high);
+                            break;
+                        }
+                        if(--depth < 0) {
+                            heapSort(k, v, c, low, high);
+                            break;
+                        }
+                        final int end = high - 1, step = (size >> 3) * 3 + 3;
+                        final int e1 = low + step, e5 = end - step, e3 = (e1 + e5) >>> 1, e2 = (e1 + e3) >>> 1, e4 = (e3 + e5) >>> 1;
+                        order(k, v, c, e1, e2);
+                        order(k, v, c, e4, e5);
+                        order(k, v, c, e3, e5);
+                        order(k, v, c, e3, e4);
+                        order(k, v, c, e2, e5);
+                        order(k, v, c, e1, e4);
+                        order(k, v, c, e1, e3);
+                        order(k, v, c, e2, e4);
+                        order(k, v, c, e2, e3);
+                        int l1 = low, h1, l2, h2, l3, h3 = high;
+                        if(c.compareInt(k[e2], k[e4]) < 0) {
+                            // [low, lt) < p1 <= [lt + 1, gt) <= p2 < [gt + 1, high)
+                            swap(k, v, low, e2);
+                            swap(k, v, end, e4);
+                            final int p1 = k[low], p2 = k[end];
+                            int lt = low + 1, gt = end - 1;
+                            for(int i = lt; i <= gt;) {
+                                if(c.compareInt(k[i], p1) < 0) swap(k, v, i++, lt++);
+                                else if(c.compareInt(k[i], p2) > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            swap(k, v, low, --lt);
+                            swap(k, v, end, ++gt);
+                            h1 = lt;
+                            l2 = lt + 1;
+                            h2 = gt;
+                            l3 = gt + 1;
+                            if(h2 - l2 > size >> 1) {
+                                // move the many elements equal to a pivot out of the middle part
+                                int a = l2, b = h2 - 1;
+                                for(int i = a; i <= b;) {
+                                    if(c.compareInt(k[i], p1) == 0) swap(k, v, i++, a++);
+                                    else if(c.compareInt(k[i], p2) == 0) swap(k, v, i, b--);
+                                    else i++;
+                                }
+                                l2 = a;
+                                h2 = b + 1;
+                            }
+                        } else {
+                            // [low, lt) < p == [lt, gt] < (gt, high)
+                            final int p = k[e3];
+                            int lt = low, gt = end;
+                            for(int i = low; i <= gt;) {
+                                int r = c.compareInt(k[i], p);
+                                if(r < 0) swap(k, v, i++, lt++);
+                                else if(r > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            h1 = lt;
+                            l2 = h2 = lt;
+                            l3 = gt + 1;
+                        }
+                        // carry on with the largest part and hand off the others
+                        final int s1 = h1 - l1, s2 = h2 - l2, s3 = h3 - l3;
+                        if(s1 >= s2 && s1 >= s3) {
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l1;
+                            high = h1;
+                        } else if(s2 >= s3) {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l2;
+                            high = h2;
+                        } else {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            low = l3;
+                            high = h3;
+                        }
+                    }
+                } finally {
+                    // the handed off parts still write into the arrays, so wait for them even on failure
+                    for(AndDouble f = forked; f != null; f = f.next) f.quietlyJoin();
+                }
+                for(; forked != null; forked = forked.next) forked.join();
+            }
+
+            private static AndDouble handOff(int[] k, double[] v, PrimitiveComparator.OfInt c, int low, int high, int depth, boolean parallel, AndDouble forked) {
+                if(parallel && high - low > MIN_PARALLEL_SORT_SIZE) {
+                    forked = new AndDouble(k, v, c, low, high, depth, forked);
+                    forked.fork();
+                } else if(high - low > 1) sort(k, v, c, low, high, depth, false);
+                return forked;
+            }
+
+            private static void swap(int[] k, double[] v, int i, int j) {
+                int x = k[i];
+                k[i] = k[j];
+                k[j] = x;
+                double y = v[i];
+                v[i] = v[j];
+                v[j] = y;
+            }
+
+            private static void order(int[] k, double[] v, PrimitiveComparator.OfInt c, int i, int j) {
+                if(c.compareInt(k[j], k[i]) < 0) swap(k, v, i, j);
+            }
+
+            private static void insertionSort(int[] k, double[] v, PrimitiveComparator.OfInt c, int low, int high) {
+                for(int i = low + 1; i < high; i++) {
+                    int x = k[i];
+                    double y = v[i];
+                    int j = i - 1;
+                    while(j >= low && c.compareInt(x, k[j]) < 0) {
+                        k[j + 1] = k[j];
+                        v[j + 1] = v[j];
+                        j--;
+                    }
+                    k[j + 1] = x;
+                    v[j + 1] = y;
+                }
+            }
+
+            private static void heapSort(int[] k, double[] v, PrimitiveComparator.OfInt c, int low, int high) {
+                for(int i = low + ((high - low) >>> 1); i > low;) pushDown(k, v, c, --i, low, high);
+                while(--high > low) {
+                    swap(k, v, low, high);
+                    pushDown(k, v, c, low, low, high);
+                }
+            }
+
+            private static void pushDown(int[] k, double[] v, PrimitiveComparator.OfInt c, int p, int low, int high) {
+                while(p - low < (high - low) >>> 1) {
+                    int child = low + ((p - low) << 1) + 1;
+                    if(child + 1 < high && c.compareInt(k[child], k[child + 1]) < 0) child++;
+                    if(c.compareInt(k[p], k[child]) >= 0) break;
+                    swap(k, v, p, child);
+                    p = child;
+                }
+            }
+        }
+    }
+
+    ///////////// float
+
+    private static final class OfFloat {
+        private OfFloat() {}
+
+        /** Sorts a range of {@code float} keys and the {@code int} payload alongside them. */
+        @SuppressWarnings("serial")
+        static final class AndInt extends RecursiveAction {
+            private final float[] k;
+            private final int[] v;
+            private final PrimitiveComparator.OfFloat c;
+            private final int low, high, depth;
+            private final AndInt next;
+
+            private AndInt(float[] k, int[] v, PrimitiveComparator.OfFloat c, int low, int high, int depth, AndInt next) {
+                this.k = k;
+                this.v = v;
+                this.c = c;
+                this.low = low;
+                this.high = high;
+                this.depth = depth;
+                this.next = next;
+            }
+
+            @Override
+            protected void compute() { sort(k, v, c, low, high, depth, true); }
+
+            static void sort(float[] k, int[] v, PrimitiveComparator.OfFloat c, boolean parallel) {
+                checkLengths(k.length, v.length);
+                if(c == null) c = PrimitiveComparator.naturalOrderFloat();
+                final int depth = maxDepth(k.length);
+                if(parallel && k.length > MIN_PARALLEL_SORT_SIZE) new AndInt(k, v, c, 0, k.length, depth, null).invoke();
+                else sort(k, v, c, 0, k.length, depth, false);
+            }
+
+            /** Sorts {@code [low, high)}, forking parts larger than {@value #MIN_PARALLEL_SORT_SIZE} when {@code parallel}. */
+            private static void sort(float[] k, int[] v, PrimitiveComparator.OfFloat c, int low, int high, int depth, boolean parallel) {
+                AndInt forked = null;
+                try {
+                    while(true) {
+                        final int size = high - low;
+                        if(size <= MAX_INSERTION_SORT_SIZE) {
+                            insertionSort(k, v, c, low, high);
+                            break;
+                        }
+                        if(--depth < 0) {
+                            heapSort(k, v, c, low, high);
+                            break;
+                        }
+                        final int end = high - 1, step = (size >> 3) * 3 + 3;
+                        final int e1 = low + step, e5 = end - step, e3 = (e1 + e5) >>> 1, e2 = (e1 + e3) >>> 1, e4 = (e3 + e5) >>> 1;
+                        order(k, v, c, e1, e2);
+                        order(k, v, c, e4, e5);
+                        order(k, v, c, e3, e5);
+                        order(k, v, c, e3, e4);
+                        order(k, v, c, e2, e5);
+                        order(k, v, c, e1, e4);
+                        order(k, v, c, e1, e3);
+                        order(k, v, c, e2, e4);
+                        order(k, v, c, e2, e3);
+                        int l1 = low, h1, l2, h2, l3, h3 = high;
+                        if(c.compareFloat(k[e2], k[e4]) < 0) {
+                            // [low, lt) < p1 <= [lt + 1, gt) <= p2 < [gt + 1, high)
+                            swap(k, v, low, e2);
+                            swap(k, v, end, e4);
+                            final float p1 = k[low], p2 = k[end];
+                            int lt = low + 1, gt = end - 1;
+                            for(int i = lt; i <= gt;) {
+                                if(c.compareFloat(k[i], p1) < 0) swap(k, v, i++, lt++);
+                                else if(c.compareFloat(k[i], p2) > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            swap(k, v, low, --lt);
+                            swap(k, v, end, ++gt);
+                            h1 = lt;
+                            l2 = lt + 1;
+                            h2 = gt;
+                            l3 = gt + 1;
+                            if(h2 - l2 > size >> 1) {
+                                // move the many elements equal to a pivot out of the middle part
+                                int a = l2, b = h2 - 1;
+                                for(int i = a; i <= b;) {
+                                    if(c.compareFloat(k[i], p1) == 0) swap(k, v, i++, a++);
+                                    else if(c.compareFloat(k[i], p2) == 0) swap(k, v, i, b--);
+                                    else i++;
+                                }
+                                l2 = a;
+                                h2 = b + 1;
+                            }
+                        } else {
+                            // [low, lt) < p == [lt, gt] < (gt, high)
+                            final float p = k[e3];
+                            int lt = low, gt = end;
+                            for(int i = low; i <= gt;) {
+                                int r = c.compareFloat(k[i], p);
+                                if(r < 0) swap(k, v, i++, lt++);
+                                else if(r > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            h1 = lt;
+                            l2 = h2 = lt;
+                            l3 = gt + 1;
+                        }
+                        // carry on with the largest part and hand off the others
+                        final int s1 = h1 - l1, s2 = h2 - l2, s3 = h3 - l3;
+                        if(s1 >= s2 && s1 >= s3) {
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l1;
+                            high = h1;
+                        } else if(s2 >= s3) {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l2;
+                            high = h2;
+                        } else {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            low = l3;
+                            high = h3;
+                        }
+                    }
+                } finally {
+                    // the handed off parts still write into the arrays, so wait for them even on failure
+                    for(AndInt f = forked; f != null; f = f.next) f.quietlyJoin();
+                }
+                for(; forked != null; forked = forked.next) forked.join();
+            }
+
+            private static AndInt handOff(float[] k, int[] v, PrimitiveComparator.OfFloat c, int low, int high, int depth, boolean parallel, AndInt forked) {
+                if(parallel && high - low > MIN_PARALLEL_SORT_SIZE) {
+                    forked = new AndInt(k, v, c, low, high, depth, forked);
+                    forked.fork();
+                } else if(high - low > 1) sort(k, v, c, low, high, depth, false);
+                return forked;
+            }
+
+            private static void swap(float[] k, int[] v, int i, int j) {
+                float x = k[i];
+                k[i] = k[j];
+                k[j] = x;
+                int y = v[i];
+                v[i] = v[j];
+                v[j] = y;
+            }
+
+            private static void order(float[] k, int[] v, PrimitiveComparator.OfFloat c, int i, int j) {
+                if(c.compareFloat(k[j], k[i]) < 0) swap(k, v, i, j);
+            }
+
+            private static void insertionSort(float[] k, int[] v, PrimitiveComparator.OfFloat c, int low, int high) {
+                for(int i = low + 1; i < high; i++) {
+                    float x = k[i];
+                    int y = v[i];
+                    int j = i - 1;
+                    while(j >= low && c.compareFloat(x, k[j]) < 0) {
+                        k[j + 1] = k[j];
+                        v[j + 1] = v[j];
+                        j--;
+                    }
+                    k[j + 1] = x;
+                    v[j + 1] = y;
+                }
+            }
+
+            private static void heapSort(float[] k, int[] v, PrimitiveComparator.OfFloat c, int low, int high) {
+                for(int i = low + ((high - low) >>> 1); i > low;) pushDown(k, v, c, --i, low, high);
+                while(--high > low) {
+                    swap(k, v, low, high);
+                    pushDown(k, v, c, low, low, high);
+                }
+            }
+
+            private static void pushDown(float[] k, int[] v, PrimitiveComparator.OfFloat c, int p, int low, int high) {
+                while(p - low < (high - low) >>> 1) {
+                    int child = low + ((p - low) << 1) + 1;
+                    if(child + 1 < high && c.compareFloat(k[child], k[child + 1]) < 0) child++;
+                    if(c.compareFloat(k[p], k[child]) >= 0) break;
+                    swap(k, v, p, child);
+                    p = child;
+                }
+            }
+        }
+
+        /** Sorts a range of {@code float} keys and the {@code long} payload alongside them. */
+        @SuppressWarnings("serial")
+        static final class AndLong extends RecursiveAction {
+            private final float[] k;
+            private final long[] v;
+            private final PrimitiveComparator.OfFloat c;
+            private final int low, high, depth;
+            private final AndLong next;
+
+            private AndLong(float[] k, long[] v, PrimitiveComparator.OfFloat c, int low, int high, int depth, AndLong next) {
+                this.k = k;
+                this.v = v;
+                this.c = c;
+                this.low = low;
+                this.high = high;
+                this.depth = depth;
+                this.next = next;
+            }
+
+            @Override
+            protected void compute() { sort(k, v, c, low, high, depth, true); }
+
+            static void sort(float[] k, long[] v, PrimitiveComparator.OfFloat c, boolean parallel) {
+                checkLengths(k.length, v.length);
+                if(c == null) c = PrimitiveComparator.naturalOrderFloat();
+                final int depth = maxDepth(k.length);
+                if(parallel && k.length > MIN_PARALLEL_SORT_SIZE) new AndLong(k, v, c, 0, k.length, depth, null).invoke();
+                else sort(k, v, c, 0, k.length, depth, false);
+            }
+
+            /** Sorts {@code [low, high)}, forking parts larger than {@value #MIN_PARALLEL_SORT_SIZE} when {@code parallel}. */
+            private static void sort(float[] k, long[] v, PrimitiveComparator.OfFloat c, int low, int high, int depth, boolean parallel) {
+                AndLong forked = null;
+                try {
+                    while(true) {
+                        final int size = high - low;
+                        if(size <= MAX_INSERTION_SORT_SIZE) {
+                            insertionSort(k, v, c, low, high);
+                            break;
+                        }
+                        if(--depth < 0) {
+                            heapSort(k, v, c, low, high);
+                            break;
+                        }
+                        final int end = high - 1, step = (size >> 3) * 3 + 3;
+                        final int e1 = low + step, e5 = end - step, e3 = (e1 + e5) >>> 1, e2 = (e1 + e3) >>> 1, e4 = (e3 + e5) >>> 1;
+                        order(k, v, c, e1, e2);
+                        order(k, v, c, e4, e5);
+                        order(k, v, c, e3, e5);
+                        order(k, v, c, e3, e4);
+                        order(k, v, c, e2, e5);
+                        order(k, v, c, e1, e4);
+                        order(k, v, c, e1, e3);
+                        order(k, v, c, e2, e4);
+                        order(k, v, c, e2, e3);
+                        int l1 = low, h1, l2, h2, l3, h3 = high;
+                        if(c.compareFloat(k[e2], k[e4]) < 0) {
+                            // [low, lt) < p1 <= [lt + 1, gt) <= p2 < [gt + 1, high)
+                            swap(k, v, low, e2);
+                            swap(k, v, end, e4);
+                            final float p1 = k[low], p2 = k[end];
+                            int lt = low + 1, gt = end - 1;
+                            for(int i = lt; i <= gt;) {
+                                if(c.compareFloat(k[i], p1) < 0) swap(k, v, i++, lt++);
+                                else if(c.compareFloat(k[i], p2) > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            swap(k, v, low, --lt);
+                            swap(k, v, end, ++gt);
+                            h1 = lt;
+                            l2 = lt + 1;
+                            h2 = gt;
+                            l3 = gt + 1;
+                            if(h2 - l2 > size >> 1) {
+                                // move the many elements equal to a pivot out of the middle part
+                                int a = l2, b = h2 - 1;
+                                for(int i = a; i <= b;) {
+                                    if(c.compareFloat(k[i], p1) == 0) swap(k, v, i++, a++);
+                                    else if(c.compareFloat(k[i], p2) == 0) swap(k, v, i, b--);
+                                    else i++;
+                                }
+                                l2 = a;
+                                h2 = b + 1;
+                            }
+                        } else {
+                            // [low, lt) < p == [lt, gt] < (gt, high)
+                            final float p = k[e3];
+                            int lt = low, gt = end;
+                            for(int i = low; i <= gt;) {
+                                int r = c.compareFloat(k[i], p);
+                                if(r < 0) swap(k, v, i++, lt++);
+                                else if(r > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            h1 = lt;
+                            l2 = h2 = lt;
+                            l3 = gt + 1;
+                        }
+                        // carry on with the largest part and hand off the others
+                        final int s1 = h1 - l1, s2 = h2 - l2, s3 = h3 - l3;
+                        if(s1 >= s2 && s1 >= s3) {
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l1;
+                            high = h1;
+                        } else if(s2 >= s3) {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l2;
+                            high = h2;
+                        } else {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            low = l3;
+                            high = h3;
+                        }
+                    }
+                } finally {
+                    // the handed off parts still write into the arrays, so wait for them even on failure
+                    for(AndLong f = forked; f != null; f = f.next) f.quietlyJoin();
+                }
+                for(; forked != null; forked = forked.next) forked.join();
+            }
+
+            private static AndLong handOff(float[] k, long[] v, PrimitiveComparator.OfFloat c, int low, int high, int depth, boolean parallel, AndLong forked) {
+                if(parallel && high - low > MIN_PARALLEL_SORT_SIZE) {
+                    forked = new AndLong(k, v, c, low, high, depth, forked);
+                    forked.fork();
+                } else if(high - low > 1) sort(k, v, c, low, high, depth, false);
+                return forked;
+            }
+
+            private static void swap(float[] k, long[] v, int i, int j) {
+                float x = k[i];
+                k[i] = k[j];
+                k[j] = x;
+                long y = v[i];
+                v[i] = v[j];
+                v[j] = y;
+            }
+
+            private static void order(float[] k, long[] v, PrimitiveComparator.OfFloat c, int i, int j) {
+                if(c.compareFloat(k[j], k[i]) < 0) swap(k, v, i, j);
+            }
+
+            private static void insertionSort(float[] k, long[] v, PrimitiveComparator.OfFloat c, int low, int high) {
+                for(int i = low + 1; i < high; i++) {
+                    float x = k[i];
+                    long y = v[i];
+                    int j = i - 1;
+                    while(j >= low && c.compareFloat(x, k[j]) < 0) {
+                        k[j + 1] = k[j];
+                        v[j + 1] = v[j];
+                        j--;
+                    }
+                    k[j + 1] = x;
+                    v[j + 1] = y;
+                }
+            }
+
+            private static void heapSort(float[] k, long[] v, PrimitiveComparator.OfFloat c, int low, int high) {
+                for(int i = low + ((high - low) >>> 1); i > low;) pushDown(k, v, c, --i, low, high);
+                while(--high > low) {
+                    swap(k, v, low, high);
+                    pushDown(k, v, c, low, low, high);
+                }
+            }
+
+            private static void pushDown(float[] k, long[] v, PrimitiveComparator.OfFloat c, int p, int low, int high) {
+                while(p - low < (high - low) >>> 1) {
+                    int child = low + ((p - low) << 1) + 1;
+                    if(child + 1 < high && c.compareFloat(k[child], k[child + 1]) < 0) child++;
+                    if(c.compareFloat(k[p], k[child]) >= 0) break;
+                    swap(k, v, p, child);
+                    p = child;
+                }
+            }
+        }
+
+        /** Sorts a range of {@code float} keys and the {@code double} payload alongside them. */
+        @SuppressWarnings("serial")
+        static final class AndDouble extends RecursiveAction {
+            private final float[] k;
+            private final double[] v;
+            private final PrimitiveComparator.OfFloat c;
+            private final int low, high, depth;
+            private final AndDouble next;
+
+            private AndDouble(float[] k, double[] v, PrimitiveComparator.OfFloat c, int low, int high, int depth, AndDouble next) {
+                this.k = k;
+                this.v = v;
+                this.c = c;
+                this.low = low;
+                this.high = high;
+                this.depth = depth;
+                this.next = next;
+            }
+
+            @Override
+            protected void compute() { sort(k, v, c, low, high, depth, true); }
+
+            static void sort(float[] k, double[] v, PrimitiveComparator.OfFloat c, boolean parallel) {
+                checkLengths(k.length, v.length);
+                if(c == null) c = PrimitiveComparator.naturalOrderFloat();
+                final int depth = maxDepth(k.length);
+                if(parallel && k.length > MIN_PARALLEL_SORT_SIZE) new AndDouble(k, v, c, 0, k.length, depth, null).invoke();
+                else sort(k, v, c, 0, k.length, depth, false);
+            }
+
+            /** Sorts {@code [low, high)}, forking parts larger than {@value #MIN_PARALLEL_SORT_SIZE} when {@code parallel}. */
+            private static void sort(float[] k, double[] v, PrimitiveComparator.OfFloat c, int low, int high, int depth, boolean parallel) {
+                AndDouble forked = null;
+                try {
+                    while(true) {
+                        final int size = high - low;
+                        if(size <= MAX_INSERTION_SORT_SIZE) {
+                            insertionSort(k, v, c, low, high);
+                            break;
+                        }
+                        if(--depth < 0) {
+                            heapSort(k, v, c, low, high);
+                            break;
+                        }
+                        final int end = high - 1, step = (size >> 3) * 3 + 3;
+                        final int e1 = low + step, e5 = end - step, e3 = (e1 + e5) >>> 1, e2 = (e1 + e3) >>> 1, e4 = (e3 + e5) >>> 1;
+                        order(k, v, c, e1, e2);
+                        order(k, v, c, e4, e5);
+                        order(k, v, c, e3, e5);
+                        order(k, v, c, e3, e4);
+                        order(k, v, c, e2, e5);
+                        order(k, v, c, e1, e4);
+                        order(k, v, c, e1, e3);
+                        order(k, v, c, e2, e4);
+                        order(k, v, c, e2, e3);
+                        int l1 = low, h1, l2, h2, l3, h3 = high;
+                        if(c.compareFloat(k[e2], k[e4]) < 0) {
+                            // [low, lt) < p1 <= [lt + 1, gt) <= p2 < [gt + 1, high)
+                            swap(k, v, low, e2);
+                            swap(k, v, end, e4);
+                            final float p1 = k[low], p2 = k[end];
+                            int lt = low + 1, gt = end - 1;
+                            for(int i = lt; i <= gt;) {
+                                if(c.compareFloat(k[i], p1) < 0) swap(k, v, i++, lt++);
+                                else if(c.compareFloat(k[i], p2) > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            swap(k, v, low, --lt);
+                            swap(k, v, end, ++gt);
+                            h1 = lt;
+                            l2 = lt + 1;
+                            h2 = gt;
+                            l3 = gt + 1;
+                            if(h2 - l2 > size >> 1) {
+                                // move the many elements equal to a pivot out of the middle part
+                                int a = l2, b = h2 - 1;
+                                for(int i = a; i <= b;) {
+                                    if(c.compareFloat(k[i], p1) == 0) swap(k, v, i++, a++);
+                                    else if(c.compareFloat(k[i], p2) == 0) swap(k, v, i, b--);
+                                    else i++;
+                                }
+                                l2 = a;
+                                h2 = b + 1;
+                            }
+                        } else {
+                            // [low, lt) < p == [lt, gt] < (gt, high)
+                            final float p = k[e3];
+                            int lt = low, gt = end;
+                            for(int i = low; i <= gt;) {
+                                int r = c.compareFloat(k[i], p);
+                                if(r < 0) swap(k, v, i++, lt++);
+                                else if(r > 0) swap(k, v, i, gt--);
+                                else i++;
+                            }
+                            h1 = lt;
+                            l2 = h2 = lt;
+                            l3 = gt + 1;
+                        }
+                        // carry on with the largest part and hand off the others
+                        final int s1 = h1 - l1, s2 = h2 - l2, s3 = h3 - l3;
+                        if(s1 >= s2 && s1 >= s3) {
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l1;
+                            high = h1;
+                        } else if(s2 >= s3) {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l3, h3, depth, parallel, forked);
+                            low = l2;
+                            high = h2;
+                        } else {
+                            forked = handOff(k, v, c, l1, h1, depth, parallel, forked);
+                            forked = handOff(k, v, c, l2, h2, depth, parallel, forked);
+                            low = l3;
+                            high = h3;
+                        }
+                    }
+                } finally {
+                    // the handed off parts still write into the arrays, so wait for them even on failure
+                    for(AndDouble f = forked; f != null; f = f.next) f.quietlyJoin();
+                }
+                for(; forked != null; forked = forked.next) forked.join();
+            }
+
+            private static AndDouble handOff(float[] k, double[] v, PrimitiveComparator.OfFloat c, int low, int high, int depth, boolean parallel, AndDouble forked) {
+                if(parallel && high - low > MIN_PARALLEL_SORT_SIZE) {
+                    forked = new AndDouble(k, v, c, low, high, depth, forked);
+                    forked.fork();
+                } else if(high - low > 1) sort(k, v, c, low, high, depth, false);
+                return forked;
+            }
+
+            private static void swap(float[] k, double[] v, int i, int j) {
+                float x = k[i];
+                k[i] = k[j];
+                k[j] = x;
+                double y = v[i];
+                v[i] = v[j];
+                v[j] = y;
+            }
+
+            private static void order(float[] k, double[] v, PrimitiveComparator.OfFloat c, int i, int j) {
+                if(c.compareFloat(k[j], k[i]) < 0) swap(k, v, i, j);
+            }
+
+            private static void insertionSort(float[] k, double[] v, PrimitiveComparator.OfFloat c, int low, int high) {
+                for(int i = low + 1; i < high; i++) {
+                    float x = k[i];
+                    double y = v[i];
+                    int j = i - 1;
+                    while(j >= low && c.compareFloat(x, k[j]) < 0) {
+                        k[j + 1] = k[j];
+                        v[j + 1] = v[j];
+                        j--;
+                    }
+                    k[j + 1] = x;
+                    v[j + 1] = y;
+                }
+            }
+
+            private static void heapSort(float[] k, double[] v, PrimitiveComparator.OfFloat c, int low, int high) {
+                for(int i = low + ((high - low) >>> 1); i > low;) pushDown(k, v, c, --i, low, high);
+                while(--high > low) {
+                    swap(k, v, low, high);
+                    pushDown(k, v, c, low, low, high);
+                }
+            }
+
+            private static void pushDown(float[] k, double[] v, PrimitiveComparator.OfFloat c, int p, int low, int high) {
+                while(p - low < (high - low) >>> 1) {
+                    int child = low + ((p - low) << 1) + 1;
+                    if(child + 1 < high && c.compareFloat(k[child], k[child + 1]) < 0) child++;
+                    if(c.compareFloat(k[p], k[child]) >= 0) break;
+                    swap(k, v, p, child);
+                    p = child;
+                }
+            }
+        }
+    }
+}
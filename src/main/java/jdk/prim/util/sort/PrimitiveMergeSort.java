@@ -0,0 +1,1707 @@
+package jdk.prim.util.sort;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+import jdk.prim.util.PrimitiveComparator;
+
+/**
+ * A class that contains stable merge sort implementations for all primitive arrays.
+ * Elements that compare equal keep their relative order, so an array may be sorted by a
+ * secondary key and then by a primary one.
+ * <p>
+ * Like {@link java.util.Arrays#sort(Object[]) TimSort}, a sort first walks the array for
+ * runs that are already ascending, or strictly descending and then reversed, extends runs
+ * shorter than {@value #MIN_RUN} elements by binary insertion sort and merges neighbouring
+ * runs pairwise until one is left. Two runs already in order are copied without being
+ * compared. All merges of a sort go through one scratch buffer of the array's length.
+ * <p>
+ * With a parallelism above one, large arrays are split in halves on the
+ * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool} down to about four
+ * pieces per worker, each sorted as above, and halves are merged in parallel by splitting
+ * them around the middle element of the longer one. Halves are sorted into the buffer
+ * and merged back, or the other way round, so no level copies its elements more than once.
+ * <p>
+ * A {@code null} comparator stands for the natural order.
+ */
+public final class PrimitiveMergeSort {
+    private PrimitiveMergeSort() {}
+
+    /** Runs shorter than this are extended by insertion sort before merging. */
+    static final int MIN_RUN = 32;
+
+    /** The fewest elements a parallel sort gives a worker to sort on its own. */
+    static final int MIN_PARALLEL_SORT_SIZE = 1 << 13;
+
+    /** Merges of fewer elements than this are not split any further. */
+    static final int MIN_PARALLEL_MERGE_SIZE = 1 << 13;
+
+    /** Returns the size below which a parallel sort of {@code n} elements sorts sequentially. */
+    private static int granularity(int n, int parallelism) { return Math.max(MIN_PARALLEL_SORT_SIZE, n / (parallelism << 2)); }
+
+    /**
+     * Retrieves a stable merge sorter of {@code double} arrays
+     * @param parallelism the number of workers to sort large arrays with, or at most one to sort sequentially
+     * @return a sorter of {@code double} arrays using the merge sort method
+     */
+    public static PrimitiveSorter.OfDouble ofDouble(int parallelism) { return new OfDouble(parallelism); }
+    /**
+     * Retrieves a stable merge sorter of {@code long} arrays
+     * @param parallelism the number of workers to sort large arrays with, or at most one to sort sequentially
+     * @return a sorter of {@code long} arrays using the merge sort method
+     */
+    public static PrimitiveSorter.OfLong ofLong(int parallelism) { return new OfLong(parallelism); }
+    /**
+     * Retrieves a stable merge sorter of {@code int} arrays
+     * @param parallelism the number of workers to sort large arrays with, or at most one to sort sequentially
+     * @return a sorter of {@code int} arrays using the merge sort method
+     */
+    public static PrimitiveSorter.OfInt ofInt(int parallelism) { return new OfInt(parallelism); }
+    /**
+     * Retrieves a stable merge sorter of {@code float} arrays
+     * @param parallelism the number of workers to sort large arrays with, or at most one to sort sequentially
+     * @return a sorter of {@code float} arrays using the merge sort method
+     */
+    public static PrimitiveSorter.OfFloat ofFloat(int parallelism) { return new OfFloat(parallelism); }
+    /**
+     * Retrieves a stable merge sorter of {@code char} arrays
+     * @param parallelism the number of workers to sort large arrays with, or at most one to sort sequentially
+     * @return a sorter of {@code char} arrays using the merge sort method
+     */
+    public static PrimitiveSorter.OfChar ofChar(int parallelism) { return new OfChar(parallelism); }
+    /**
+     * Retrieves a stable merge sorter of {@code short} arrays
+     * @param parallelism the number of workers to sort large arrays with, or at most one to sort sequentially
+     * @return a sorter of {@code short} arrays using the merge sort method
+     */
+    public static PrimitiveSorter.OfShort ofShort(int parallelism) { return new OfShort(parallelism); }
+    /**
+     * Retrieves a stable merge sorter of {@code byte} arrays
+     * @param parallelism the number of workers to sort large arrays with, or at most one to sort sequentially
+     * @return a sorter of {@code byte} arrays using the merge sort method
+     */
+    public static PrimitiveSorter.OfByte ofByte(int parallelism) { return new OfByte(parallelism); }
+    /**
+     * Retrieves a stable merge sorter of {@code boolean} arrays
+     * @param parallelism the number of workers to sort large arrays with, or at most one to sort sequentially
+     * @return a sorter of {@code boolean} arrays using the merge sort method
+     */
+    public static PrimitiveSorter.OfBoolean ofBoolean(int parallelism) { return new OfBoolean(parallelism); }
+
+    private static class OfDouble implements PrimitiveSorter.OfDouble {
+        private final int parallelism;
+        private OfDouble(int parallelism) {
+            this.parallelism = parallelism;
+        }
+        public List<Algorithm> getAlgorithms() { return List.of(Algorithm.MERGE, Algorithm.INSERTION); }
+        public void sort(double[] src, PrimitiveComparator.OfDouble comparator, double[] dst) {
+            if(dst == null) dst = src;
+            else {
+                if(dst.length != src.length) dst = new double[src.length];
+                System.arraycopy(src, 0, dst, 0, src.length);
+            }
+            sort(dst, 0, dst.length, comparator, parallelism);
+        }
+        public void sort(double[] src, double[] dst) { sort(src, null, dst); }
+
+        /**
+         * Stably sorts the range {@code [from, to)} of the array.
+         * @param a the array to be sorted
+         * @param from the index of the first element, inclusive, to be sorted
+         * @param to the index of the last element, exclusive, to be sorted
+         * @param c the comparator, or {@code null} for the natural order
+         * @param parallelism the number of workers to sort with
+         */
+        static void sort(double[] a, int from, int to, PrimitiveComparator.OfDouble c, int parallelism) {
+            if(c == null) c = PrimitiveComparator.naturalOrderDouble();
+            final int n = to - from;
+            if(n < 2) return;
+            double[] w = new double[n];
+            if(parallelism > 1 && n >= 2 * MIN_PARALLEL_SORT_SIZE) new Sorter(a, w, from, from, to, true, granularity(n, parallelism), c).invoke();
+            else sortSequential(a, w, from, from, to, c);
+        }
+
+        /** Sorts {@code a[lo, hi)} in runs merged through {@code w}, which holds index {@code i} at {@code i - wo}. */
+        private static void sortSequential(double[] a, double[] w, int wo, int lo, int hi, PrimitiveComparator.OfDouble c) {
+            final int[] runs = new int[(hi - lo) / MIN_RUN + 2];
+            int k = 0;
+            for(int i = lo; i < hi;) {
+                runs[k++] = i;
+                int j = i + 1;
+                if(j < hi) {
+                    if(c.compareDouble(a[j], a[i]) < 0) {
+                        while(++j < hi && c.compareDouble(a[j], a[j - 1]) < 0);
+                        // a strictly descending run has no equal elements to keep in order
+                        reverse(a, i, j);
+                    } else while(++j < hi && c.compareDouble(a[j], a[j - 1]) >= 0);
+                }
+                if(j - i < MIN_RUN && j < hi) {
+                    int e = Math.min(hi, i + MIN_RUN);
+                    insertionSort(a, i, j, e, c);
+                    j = e;
+                }
+                i = j;
+            }
+            runs[k] = hi;
+            double[] src = a, dst = w;
+            int so = 0, dO = wo;
+            while(k > 1) {
+                int m = 0;
+                for(int r = 0; r < k; r += 2) {
+                    if(r + 1 < k) merge(src, so, runs[r], runs[r + 1], runs[r + 1], runs[r + 2], dst, dO, runs[r], c);
+                    else System.arraycopy(src, runs[r] - so, dst, runs[r] - dO, runs[r + 1] - runs[r]);
+                    runs[m++] = runs[r];
+                }
+                runs[m] = hi;
+                k = m;
+                double[] t = src;
+                src = dst;
+                dst = t;
+                int o = so;
+                so = dO;
+                dO = o;
+            }
+            if(src != a) System.arraycopy(src, lo - so, a, lo, hi - lo);
+        }
+
+        private static void reverse(double[] a, int lo, int hi) {
+            for(int i = lo, j = hi - 1; i < j; i++, j--) {
+                double x = a[i];
+                a[i] = a[j];
+                a[j] = x;
+            }
+        }
+
+        /** Extends the sorted {@code a[lo, start)} to {@code a[lo, hi)}, placing each element after those equal to it. */
+        private static void insertionSort(double[] a, int lo, int start, int hi, PrimitiveComparator.OfDouble c) {
+            for(int i = start; i < hi; i++) {
+                double x = a[i];
+                int l = lo, h = i;
+                while(l < h) {
+                    int m = (l + h) >>> 1;
+                    if(c.compareDouble(x, a[m]) < 0) h = m;
+                    else l = m + 1;
+                }
+                System.arraycopy(a, l, a, l + 1, i - l);
+                a[l] = x;
+            }
+        }
+
+        /**
+         * Merges the sorted {@code src[lo1, hi1)} and {@code src[lo2, hi2)} into {@code dst}
+         * from index {@code k}, taking from the first on ties. The arrays hold index {@code i}
+         * at {@code i - so} and {@code i - dO}.
+         */
+        private static void merge(double[] src, int so, int lo1, int hi1, int lo2, int hi2, double[] dst, int dO, int k, PrimitiveComparator.OfDouble c) {
+            int i = lo1 - so, ie = hi1 - so, j = lo2 - so, je = hi2 - so;
+            k -= dO;
+            if(i < ie && j < je && c.compareDouble(src[ie - 1], src[j]) > 0) {
+                while(i < ie && j < je) dst[k++] = c.compareDouble(src[j], src[i]) < 0 ? src[j++] : src[i++];
+            }
+            System.arraycopy(src, i, dst, k, ie - i);
+            System.arraycopy(src, j, dst, k + ie - i, je - j);
+        }
+
+        /** Sorts {@code [lo, hi)} into {@code a}, or into {@code w} unless {@code intoA}, by sorting its halves into the other array and merging them back. */
+        @SuppressWarnings("serial")
+        private static final class Sorter extends RecursiveAction {
+            private final double[] a, w;
+            private final int wo, lo, hi, granularity;
+            private final boolean intoA;
+            private final PrimitiveComparator.OfDouble c;
+
+            Sorter(double[] a, double[] w, int wo, int lo, int hi, boolean intoA, int granularity, PrimitiveComparator.OfDouble c) {
+                this.a = a;
+                this.w = w;
+                this.wo = wo;
+                this.lo = lo;
+                this.hi = hi;
+                this.intoA = intoA;
+                this.granularity = granularity;
+                this.c = c;
+            }
+
+            @Override
+            protected void compute() {
+                if(hi - lo <= granularity) {
+                    sortSequential(a, w, wo, lo, hi, c);
+                    if(!intoA) System.arraycopy(a, lo, w, lo - wo, hi - lo);
+                    return;
+                }
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Sorter(a, w, wo, lo, mid, !intoA, granularity, c), new Sorter(a, w, wo, mid, hi, !intoA, granularity, c));
+                if(intoA) new Merger(w, wo, lo, mid, mid, hi, a, 0, lo, c).compute();
+                else new Merger(a, 0, lo, mid, mid, hi, w, wo, lo, c).compute();
+            }
+        }
+
+        /** Merges two sorted ranges by splitting them around the middle of the longer one and merging the halves in parallel. */
+        @SuppressWarnings("serial")
+        private static final class Merger extends RecursiveAction {
+            private final double[] src, dst;
+            private final int so, lo1, hi1, lo2, hi2, dO, k;
+            private final PrimitiveComparator.OfDouble c;
+
+            Merger(double[] src, int so, int lo1, int hi1, int lo2, int hi2, double[] dst, int dO, int k, PrimitiveComparator.OfDouble c) {
+                this.src = src;
+                this.so = so;
+                this.lo1 = lo1;
+                this.hi1 = hi1;
+                this.lo2 = lo2;
+                this.hi2 = hi2;
+                this.dst = dst;
+                this.dO = dO;
+                this.k = k;
+                this.c = c;
+            }
+
+            @Override
+            protected void compute() {
+                if(hi1 - lo1 + hi2 - lo2 <= MIN_PARALLEL_MERGE_SIZE) {
+                    merge(src, so, lo1, hi1, lo2, hi2, dst, dO, k, c);
+                    return;
+                }
+                int m1, m2;
+                if(hi1 - lo1 >= hi2 - lo2) {
+                    m1 = (lo1 + hi1) >>> 1;
+                    double x = src[m1 - so];
+                    // the elements of the second range less than x go to the left
+                    int l = lo2, h = hi2;
+                    while(l < h) {
+                        int m = (l + h) >>> 1;
+                        if(c.compareDouble(src[m - so], x) < 0) l = m + 1;
+                        else h = m;
+                    }
+                    m2 = l;
+                } else {
+                    m2 = (lo2 + hi2) >>> 1;
+                    double x = src[m2 - so];
+                    // the elements of the first range not greater than x go to the left
+                    int l = lo1, h = hi1;
+                    while(l < h) {
+                        int m = (l + h) >>> 1;
+                        if(c.compareDouble(src[m - so], x) <= 0) l = m + 1;
+                        else h = m;
+                    }
+                    m1 = l;
+                }
+                invokeAll(new Merger(src, so, lo1, m1, lo2, m2, dst, dO, k, c),
+                        new Merger(src, so, m1, hi1, m2, hi2, dst, dO, k + (m1 - lo1) + (m2 - lo2), c));
+            }
+        }
+    }
+    private static class OfLong implements PrimitiveSorter.OfLong {
+        private final int parallelism;
+        private OfLong(int parallelism) {
+            this.parallelism = parallelism;
+        }
+        public List<Algorithm> getAlgorithms() { return List.of(Algorithm.MERGE, Algorithm.INSERTION); }
+        public void sort(long[] src, PrimitiveComparator.OfLong comparator, long[] dst) {
+            if(dst == null) dst = src;
+            else {
+                if(dst.length != src.length) dst = new long[src.length];
+                System.arraycopy(src, 0, dst, 0, src.length);
+            }
+            sort(dst, 0, dst.length, comparator, parallelism);
+        }
+        public void sort(long[] src, long[] dst) { sort(src, null, dst); }
+
+        /**
+         * Stably sorts the range {@code [from, to)} of the array.
+         * @param a the array to be sorted
+         * @param from the index of the first element, inclusive, to be sorted
+         * @param to the index of the last element, exclusive, to be sorted
+         * @param c the comparator, or {@code null} for the natural order
+         * @param parallelism the number of workers to sort with
+         */
+        static void sort(long[] a, int from, int to, PrimitiveComparator.OfLong c, int parallelism) {
+            if(c == null) c = PrimitiveComparator.naturalOrderLong();
+            final int n = to - from;
+            if(n < 2) return;
+            long[] w = new long[n];
+            if(parallelism > 1 && n >= 2 * MIN_PARALLEL_SORT_SIZE) new Sorter(a, w, from, from, to, true, granularity(n, parallelism), c).invoke();
+            else sortSequential(a, w, from, from, to, c);
+        }
+
+        /** Sorts {@code a[lo, hi)} in runs merged through {@code w}, which holds index {@code i} at {@code i - wo}. */
+        private static void sortSequential(long[] a, long[] w, int wo, int lo, int hi, PrimitiveComparator.OfLong c) {
+            final int[] runs = new int[(hi - lo) / MIN_RUN + 2];
+            int k = 0;
+            for(int i = lo; i < hi;) {
+                runs[k++] = i;
+                int j = i + 1;
+                if(j < hi) {
+                    if(c.compareLong(a[j], a[i]) < 0) {
+                        while(++j < hi && c.compareLong(a[j], a[j - 1]) < 0);
+                        // a strictly descending run has no equal elements to keep in order
+                        reverse(a, i, j);
+                    } else while(++j < hi && c.compareLong(a[j], a[j - 1]) >= 0);
+                }
+                if(j - i < MIN_RUN && j < hi) {
+                    int e = Math.min(hi, i + MIN_RUN);
+                    insertionSort(a, i, j, e, c);
+                    j = e;
+                }
+                i = j;
+            }
+            runs[k] = hi;
+            long[] src = a, dst = w;
+            int so = 0, dO = wo;
+            while(k > 1) {
+                int m = 0;
+                for(int r = 0; r < k; r += 2) {
+                    if(r + 1 < k) merge(src, so, runs[r], runs[r + 1], runs[r + 1], runs[r + 2], dst, dO, runs[r], c);
+                    else System.arraycopy(src, runs[r] - so, dst, runs[r] - dO, runs[r + 1] - runs[r]);
+                    runs[m++] = runs[r];
+                }
+                runs[m] = hi;
+                k = m;
+                long[] t = src;
+                src = dst;
+                dst = t;
+                int o = so;
+                so = dO;
+                dO = o;
+            }
+            if(src != a) System.arraycopy(src, lo - so, a, lo, hi - lo);
+        }
+
+        private static void reverse(long[] a, int lo, int hi) {
+            for(int i = lo, j = hi - 1; i < j; i++, j--) {
+                long x = a[i];
+                a[i] = a[j];
+                a[j] = x;
+            }
+        }
+
+        /** Extends the sorted {@code a[lo, start)} to {@code a[lo, hi)}, placing each element after those equal to it. */
+        private static void insertionSort(long[] a, int lo, int start, int hi, PrimitiveComparator.OfLong c) {
+            for(int i = start; i < hi; i++) {
+                long x = a[i];
+                int l = lo, h = i;
+                while(l < h) {
+                    int m = (l + h) >>> 1;
+                    if(c.compareLong(x, a[m]) < 0) h = m;
+                    else l = m + 1;
+                }
+                System.arraycopy(a, l, a, l + 1, i - l);
+                a[l] = x;
+            }
+        }
+
+        /**
+         * Merges the sorted {@code src[lo1, hi1)} and {@code src[lo2, hi2)} into {@code dst}
+         * from index {@code k}, taking from the first on ties. The arrays hold index {@code i}
+         * at {@code i - so} and {@code i - dO}.
+         */
+        private static void merge(long[] src, int so, int lo1, int hi1, int lo2, int hi2, long[] dst, int dO, int k, PrimitiveComparator.OfLong c) {
+            int i = lo1 - so, ie = hi1 - so, j = lo2 - so, je = hi2 - so;
+            k -= dO;
+            if(i < ie && j < je && c.compareLong(src[ie - 1], src[j]) > 0) {
+                while(i < ie && j < je) dst[k++] = c.compareLong(src[j], src[i]) < 0 ? src[j++] : src[i++];
+            }
+            System.arraycopy(src, i, dst, k, ie - i);
+            System.arraycopy(src, j, dst, k + ie - i, je - j);
+        }
+
+        /** Sorts {@code [lo, hi)} into {@code a}, or into {@code w} unless {@code intoA}, by sorting its halves into the other array and merging them back. */
+        @SuppressWarnings("serial")
+        private static final class Sorter extends RecursiveAction {
+            private final long[] a, w;
+            private final int wo, lo, hi, granularity;
+            private final boolean intoA;
+            private final PrimitiveComparator.OfLong c;
+
+            Sorter(long[] a, long[] w, int wo, int lo, int hi, boolean intoA, int granularity, PrimitiveComparator.OfLong c) {
+                this.a = a;
+                this.w = w;
+                this.wo = wo;
+                this.lo = lo;
+                this.hi = hi;
+                this.intoA = intoA;
+                this.granularity = granularity;
+                this.c = c;
+            }
+
+            @Override
+            protected void compute() {
+                if(hi - lo <= granularity) {
+                    sortSequential(a, w, wo, lo, hi, c);
+                    if(!intoA) System.arraycopy(a, lo, w, lo - wo, hi - lo);
+                    return;
+                }
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Sorter(a, w, wo, lo, mid, !intoA, granularity, c), new Sorter(a, w, wo, mid, hi, !intoA, granularity, c));
+                if(intoA) new Merger(w, wo, lo, mid, mid, hi, a, 0, lo, c).compute();
+                else new Merger(a, 0, lo, mid, mid, hi, w, wo, lo, c).compute();
+            }
+        }
+
+        /** Merges two sorted ranges by splitting them around the middle of the longer one and merging the halves in parallel. */
+        @SuppressWarnings("serial")
+        private static final class Merger extends RecursiveAction {
+            private final long[] src, dst;
+            private final int so, lo1, hi1, lo2, hi2, dO, k;
+            private final PrimitiveComparator.OfLong c;
+
+            Merger(long[] src, int so, int lo1, int hi1, int lo2, int hi2, long[] dst, int dO, int k, PrimitiveComparator.OfLong c) {
+                this.src = src;
+                this.so = so;
+                this.lo1 = lo1;
+                this.hi1 = hi1;
+                this.lo2 = lo2;
+                this.hi2 = hi2;
+                this.dst = dst;
+                this.dO = dO;
+                this.k = k;
+                this.c = c;
+            }
+
+            @Override
+            protected void compute() {
+                if(hi1 - lo1 + hi2 - lo2 <= MIN_PARALLEL_MERGE_SIZE) {
+                    merge(src, so, lo1, hi1, lo2, hi2, dst, dO, k, c);
+                    return;
+                }
+                int m1, m2;
+                if(hi1 - lo1 >= hi2 - lo2) {
+                    m1 = (lo1 + hi1) >>> 1;
+                    long x = src[m1 - so];
+                    // the elements of the second range less than x go to the left
+                    int l = lo2, h = hi2;
+                    while(l < h) {
+                        int m = (l + h) >>> 1;
+                        if(c.compareLong(src[m - so], x) < 0) l = m + 1;
+                        else h = m;
+                    }
+                    m2 = l;
+                } else {
+                    m2 = (lo2 + hi2) >>> 1;
+                    long x = src[m2 - so];
+                    // the elements of the first range not greater than x go to the left
+                    int l = lo1, h = hi1;
+                    while(l < h) {
+                        int m = (l + h) >>> 1;
+                        if(c.compareLong(src[m - so], x) <= 0) l = m + 1;
+                        else h = m;
+                    }
+                    m1 = l;
+                }
+                invokeAll(new Merger(src, so, lo1, m1, lo2, m2, dst, dO, k, c),
+                        new Merger(src, so, m1, hi1, m2, hi2, dst, dO, k + (m1 - lo1) + (m2 - lo2), c));
+            }
+        }
+    }
+    private static class OfInt implements PrimitiveSorter.OfInt {
+        private final int parallelism;
+        private OfInt(int parallelism) {
+            this.parallelism = parallelism;
+        }
+        public List<Algorithm> getAlgorithms() { return List.of(Algorithm.MERGE, Algorithm.INSERTION); }
+        public void sort(int[] src, PrimitiveComparator.OfInt comparator, int[] dst) {
+            if(dst == null) dst = src;
+            else {
+                if(dst.length != src.length) dst = new int[src.length];
+                System.arraycopy(src, 0, dst, 0, src.length);
+            }
+            sort(dst, 0, dst.length, comparator, parallelism);
+        }
+        public void sort(int[] src, int[] dst) { sort(src, null, dst); }
+
+        /**
+         * Stably sorts the range {@code [from, to)} of the array.
+         * @param a the array to be sorted
+         * @param from the index of the first element, inclusive, to be sorted
+         * @param to the index of the last element, exclusive, to be sorted
+         * @param c the comparator, or {@code null} for the natural order
+         * @param parallelism the number of workers to sort with
+         */
+        static void sort(int[] a, int from, int to, PrimitiveComparator.OfInt c, int parallelism) {
+            if(c == null) c = PrimitiveComparator.naturalOrderInt();
+            final int n = to - from;
+            if(n < 2) return;
+            int[] w = new int[n];
+            if(parallelism > 1 && n >= 2 * MIN_PARALLEL_SORT_SIZE) new Sorter(a, w, from, from, to, true, granularity(n, parallelism), c).invoke();
+            else sortSequential(a, w, from, from, to, c);
+        }
+
+        /** Sorts {@code a[lo, hi)} in runs merged through {@code w}, which holds index {@code i} at {@code i - wo}. */
+        private static void sortSequential(int[] a, int[] w, int wo, int lo, int hi, PrimitiveComparator.OfInt c) {
+            final int[] runs = new int[(hi - lo) / MIN_RUN + 2];
+            int k = 0;
+            for(int i = lo; i < hi;) {
+                runs[k++] = i;
+                int j = i + 1;
+                if(j < hi) {
+                    if(c.compareInt(a[j], a[i]) < 0) {
+                        while(++j < hi && c.compareInt(a[j], a[j - 1]) < 0);
+                        // a strictly descending run has no equal elements to keep in order
+                        reverse(a, i, j);
+                    } else while(++j < hi && c.compareInt(a[j], a[j - 1]) >= 0);
+                }
+                if(j - i < MIN_RUN && j < hi) {
+                    int e = Math.min(hi, i + MIN_RUN);
+                    insertionSort(a, i, j, e, c);
+                    j = e;
+                }
+                i = j;
+            }
+            runs[k] = hi;
+            int[] src = a, dst = w;
+            int so = 0, dO = wo;
+            while(k > 1) {
+                int m = 0;
+                for(int r = 0; r < k; r += 2) {
+                    if(r + 1 < k) merge(src, so, runs[r], runs[r + 1], runs[r + 1], runs[r + 2], dst, dO, runs[r], c);
+                    else System.arraycopy(src, runs[r] - so, dst, runs[r] - dO, runs[r + 1] - runs[r]);
+                    runs[m++] = runs[r];
+                }
+                runs[m] = hi;
+                k = m;
+                int[] t = src;
+                src = dst;
+                dst = t;
+                int o = so;
+                so = dO;
+                dO = o;
+            }
+            if(src != a) System.arraycopy(src, lo - so, a, lo, hi - lo);
+        }
+
+        private static void reverse(int[] a, int lo, int hi) {
+            for(int i = lo, j = hi - 1; i < j; i++, j--) {
+                int x = a[i];
+                a[i] = a[j];
+                a[j] = x;
+            }
+        }
+
+        /** Extends the sorted {@code a[lo, start)} to {@code a[lo, hi)}, placing each element after those equal to it. */
+        private static void insertionSort(int[] a, int lo, int start, int hi, PrimitiveComparator.OfInt c) {
+            for(int i = start; i < hi; i++) {
+                int x = a[i];
+                int l = lo, h = i;
+                while(l < h) {
+                    int m = (l + h) >>> 1;
+                    if(c.compareInt(x, a[m]) < 0) h = m;
+                    else l = m + 1;
+                }
+                System.arraycopy(a, l, a, l + 1, i - l);
+                a[l] = x;
+            }
+        }
+
+        /**
+         * Merges the sorted {@code src[lo1, hi1)} and {@code src[lo2, hi2)} into {@code dst}
+         * from index {@code k}, taking from the first on ties. The arrays hold index {@code i}
+         * at {@code i - so} and {@code i - dO}.
+         */
+        private static void merge(int[] src, int so, int lo1, int hi1, int lo2, int hi2, int[] dst, int dO, int k, PrimitiveComparator.OfInt c) {
+            int i = lo1 - so, ie = hi1 - so, j = lo2 - so, je = hi2 - so;
+            k -= dO;
+            if(i < ie && j < je && c.compareInt(src[ie - 1], src[j]) > 0) {
+                while(i < ie && j < je) dst[k++] = c.compareInt(src[j], src[i]) < 0 ? src[j++] : src[i++];
+            }
+            System.arraycopy(src, i, dst, k, ie - i);
+            System.arraycopy(src, j, dst, k + ie - i, je - j);
+        }
+
+        /** Sorts {@code [lo, hi)} into {@code a}, or into {@code w} unless {@code intoA}, by sorting its halves into the other array and merging them back. */
+        @SuppressWarnings("serial")
+        private static final class Sorter extends RecursiveAction {
+            private final int[] a, w;
+            private final int wo, lo, hi, granularity;
+            private final boolean intoA;
+            private final PrimitiveComparator.OfInt c;
+
+            Sorter(int[] a, int[] w, int wo, int lo, int hi, boolean intoA, int granularity, PrimitiveComparator.OfInt c) {
+                this.a = a;
+                this.w = w;
+                this.wo = wo;
+                this.lo = lo;
+                this.hi = hi;
+                this.intoA = intoA;
+                this.granularity = granularity;
+                this.c = c;
+            }
+
+            @Override
+            protected void compute() {
+                if(hi - lo <= granularity) {
+                    sortSequential(a, w, wo, lo, hi, c);
+                    if(!intoA) System.arraycopy(a, lo, w, lo - wo, hi - lo);
+                    return;
+                }
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Sorter(a, w, wo, lo, mid, !intoA, granularity, c), new Sorter(a, w, wo, mid, hi, !intoA, granularity, c));
+                if(intoA) new Merger(w, wo, lo, mid, mid, hi, a, 0, lo, c).compute();
+                else new Merger(a, 0, lo, mid, mid, hi, w, wo, lo, c).compute();
+            }
+        }
+
+        /** Merges two sorted ranges by splitting them around the middle of the longer one and merging the halves in parallel. */
+        @SuppressWarnings("serial")
+        private static final class Merger extends RecursiveAction {
+            private final int[] src, dst;
+            private final int so, lo1, hi1, lo2, hi2, dO, k;
+            private final PrimitiveComparator.OfInt c;
+
+            Merger(int[] src, int so, int lo1, int hi1, int lo2, int hi2, int[] dst, int dO, int k, PrimitiveComparator.OfInt c) {
+                this.src = src;
+                this.so = so;
+                this.lo1 = lo1;
+                this.hi1 = hi1;
+                this.lo2 = lo2;
+                this.hi2 = hi2;
+                this.dst = dst;
+                this.dO = dO;
+                this.k = k;
+                this.c = c;
+            }
+
+            @Override
+            protected void compute() {
+                if(hi1 - lo1 + hi2 - lo2 <= MIN_PARALLEL_MERGE_SIZE) {
+                    merge(src, so, lo1, hi1, lo2, hi2, dst, dO, k, c);
+                    return;
+                }
+                int m1, m2;
+                if(hi1 - lo1 >= hi2 - lo2) {
+                    m1 = (lo1 + hi1) >>> 1;
+                    int x = src[m1 - so];
+                    // the elements of the second range less than x go to the left
+                    int l = lo2, h = hi2;
+                    while(l < h) {
+                        int m = (l + h) >>> 1;
+                        if(c.compareInt(src[m - so], x) < 0) l = m + 1;
+                        else h = m;
+                    }
+                    m2 = l;
+                } else {
+                    m2 = (lo2 + hi2) >>> 1;
+                    int x = src[m2 - so];
+                    // the elements of the first range not greater than x go to the left
+                    int l = lo1, h = hi1;
+                    while(l < h) {
+                        int m = (l + h) >>> 1;
+                        if(c.compareInt(src[m - so], x) <= 0) l = m + 1;
+                        else h = m;
+                    }
+                    m1 = l;
+                }
+                invokeAll(new Merger(src, so, lo1, m1, lo2, m2, dst, dO, k, c),
+                        new Merger(src, so, m1, hi1, m2, hi2, dst, dO, k + (m1 - lo1) + (m2 - lo2), c));
+            }
+        }
+    }
+    private static class OfFloat implements PrimitiveSorter.OfFloat {
+        private final int parallelism;
+        private OfFloat(int parallelism) {
+            this.parallelism = parallelism;
+        }
+        public List<Algorithm> getAlgorithms() { return List.of(Algorithm.MERGE, Algorithm.INSERTION); }
+        public void sort(float[] src, PrimitiveComparator.OfFloat comparator, float[] dst) {
+            if(dst == null) dst = src;
+            else {
+                if(dst.length != src.length) dst = new float[src.length];
+                System.arraycopy(src, 0, dst, 0, src.length);
+            }
+            sort(dst, 0, dst.length, comparator, parallelism);
+        }
+        public void sort(float[] src, float[] dst) { sort(src, null, dst); }
+
+        /**
+         * Stably sorts the range {@code [from, to)} of the array.
+         * @param a the array to be sorted
+         * @param from the index of the first element, inclusive, to be sorted
+         * @param to the index of the last element, exclusive, to be sorted
+         * @param c the comparator, or {@code null} for the natural order
+         * @param parallelism the number of workers to sort with
+         */
+        static void sort(float[] a, int from, int to, PrimitiveComparator.OfFloat c, int parallelism) {
+            if(c == null) c = PrimitiveComparator.naturalOrderFloat();
+            final int n = to - from;
+            if(n < 2) return;
+            float[] w = new float[n];
+            if(parallelism > 1 && n >= 2 * MIN_PARALLEL_SORT_SIZE) new Sorter(a, w, from, from, to, true, granularity(n, parallelism), c).invoke();
+            else sortSequential(a, w, from, from, to, c);
+        }
+
+        /** Sorts {@code a[lo, hi)} in runs merged through {@code w}, which holds index {@code i} at {@code i - wo}. */
+        private static void sortSequential(float[] a, float[] w, int wo, int lo, int hi, PrimitiveComparator.OfFloat c) {
+            final int[] runs = new int[(hi - lo) / MIN_RUN + 2];
+            int k = 0;
+            for(int i = lo; i < hi;) {
+                runs[k++] = i;
+                int j = i + 1;
+                if(j < hi) {
+                    if(c.compareFloat(a[j], a[i]) < 0) {
+                        while(++j < hi && c.compareFloat(a[j], a[j - 1]) < 0);
+                        // a strictly descending run has no equal elements to keep in order
+                        reverse(a, i, j);
+                    } else while(++j < hi && c.compareFloat(a[j], a[j - 1]) >= 0);
+                }
+                if(j - i < MIN_RUN && j < hi) {
+                    int e = Math.min(hi, i + MIN_RUN);
+                    insertionSort(a, i, j, e, c);
+                    j = e;
+                }
+                i = j;
+            }
+            runs[k] = hi;
+            float[] src = a, dst = w;
+            int so = 0, dO = wo;
+            while(k > 1) {
+                int m = 0;
+                for(int r = 0; r < k; r += 2) {
+                    if(r + 1 < k) merge(src, so, runs[r], runs[r + 1], runs[r + 1], runs[r + 2], dst, dO, runs[r], c);
+                    else System.arraycopy(src, runs[r] - so, dst, runs[r] - dO, runs[r + 1] - runs[r]);
+                    runs[m++] = runs[r];
+                }
+                runs[m] = hi;
+                k = m;
+                float[] t = src;
+                src = dst;
+                dst = t;
+                int o = so;
+                so = dO;
+                dO = o;
+            }
+            if(src != a) System.arraycopy(src, lo - so, a, lo, hi - lo);
+        }
+
+        private static void reverse(float[] a, int lo, int hi) {
+            for(int i = lo, j = hi - 1; i < j; i++, j--) {
+                float x = a[i];
+                a[i] = a[j];
+                a[j] = x;
+            }
+        }
+
+        /** Extends the sorted {@code a[lo, start)} to {@code a[lo, hi)}, placing each element after those equal to it. */
+        private static void insertionSort(float[] a, int lo, int start, int hi, PrimitiveComparator.OfFloat c) {
+            for(int i = start; i < hi; i++) {
+                float x = a[i];
+                int l = lo, h = i;
+                while(l < h) {
+                    int m = (l + h) >>> 1;
+                    if(c.compareFloat(x, a[m]) < 0) h = m;
+                    else l = m + 1;
+                }
+                System.arraycopy(a, l, a, l + 1, i - l);
+                a[l] = x;
+            }
+        }
+
+        /**
+         * Merges the sorted {@code src[lo1, hi1)} and {@code src[lo2, hi2)} into {@code dst}
+         * from index {@code k}, taking from the first on ties. The arrays hold index {@code i}
+         * at {@code i - so} and {@code i - dO}.
+         */
+        private static void merge(float[] src, int so, int lo1, int hi1, int lo2, int hi2, float[] dst, int dO, int k, PrimitiveComparator.OfFloat c) {
+            int i = lo1 - so, ie = hi1 - so, j = lo2 - so, je = hi2 - so;
+            k -= dO;
+            if(i < ie && j < je && c.compareFloat(src[ie - 1], src[j]) > 0) {
+                while(i < ie && j < je) dst[k++] = c.compareFloat(src[j], src[i]) < 0 ? src[j++] : src[i++];
+            }
+            System.arraycopy(src, i, dst, k, ie - i);
+            System.arraycopy(src, j, dst, k + ie - i, je - j);
+        }
+
+        /** Sorts {@code [lo, hi)} into {@code a}, or into {@code w} unless {@code intoA}, by sorting its halves into the other array and merging them back. */
+        @SuppressWarnings("serial")
+        private static final class Sorter extends RecursiveAction {
+            private final float[] a, w;
+            private final int wo, lo, hi, granularity;
+            private final boolean intoA;
+            private final PrimitiveComparator.OfFloat c;
+
+            Sorter(float[] a, float[] w, int wo, int lo, int hi, boolean intoA, int granularity, PrimitiveComparator.OfFloat c) {
+                this.a = a;
+                this.w = w;
+                this.wo = wo;
+                this.lo = lo;
+                this.hi = hi;
+                this.intoA = intoA;
+                this.granularity = granularity;
+                this.c = c;
+            }
+
+            @Override
+            protected void compute() {
+                if(hi - lo <= granularity) {
+                    sortSequential(a, w, wo, lo, hi, c);
+                    if(!intoA) System.arraycopy(a, lo, w, lo - wo, hi - lo);
+                    return;
+                }
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Sorter(a, w, wo, lo, mid, !intoA, granularity, c), new Sorter(a, w, wo, mid, hi, !intoA, granularity, c));
+                if(intoA) new Merger(w, wo, lo, mid, mid, hi, a, 0, lo, c).compute();
+                else new Merger(a, 0, lo, mid, mid, hi, w, wo, lo, c).compute();
+            }
+        }
+
+        /** Merges two sorted ranges by splitting them around the middle of the longer one and merging the halves in parallel. */
+        @SuppressWarnings("serial")
+        private static final class Merger extends RecursiveAction {
+            private final float[] src, dst;
+            private final int so, lo1, hi1, lo2, hi2, dO, k;
+            private final PrimitiveComparator.OfFloat c;
+
+            Merger(float[] src, int so, int lo1, int hi1, int lo2, int hi2, float[] dst, int dO, int k, PrimitiveComparator.OfFloat c) {
+                this.src = src;
+                this.so = so;
+                this.lo1 = lo1;
+                this.hi1 = hi1;
+                this.lo2 = lo2;
+                this.hi2 = hi2;
+                this.dst = dst;
+                this.dO = dO;
+                this.k = k;
+                this.c = c;
+            }
+
+            @Override
+            protected void compute() {
+                if(hi1 - lo1 + hi2 - lo2 <= MIN_PARALLEL_MERGE_SIZE) {
+                    merge(src, so, lo1, hi1, lo2, hi2, dst, dO, k, c);
+                    return;
+                }
+                int m1, m2;
+                if(hi1 - lo1 >= hi2 - lo2) {
+                    m1 = (lo1 + hi1) >>> 1;
+                    float x = src[m1 - so];
+                    // the elements of the second range less than x go to the left
+                    int l = lo2, h = hi2;
+                    while(l < h) {
+                        int m = (l + h) >>> 1;
+                        if(c.compareFloat(src[m - so], x) < 0) l = m + 1;
+                        else h = m;
+                    }
+                    m2 = l;
+                } else {
+                    m2 = (lo2 + hi2) >>> 1;
+                    float x = src[m2 - so];
+                    // the elements of the first range not greater than x go to the left
+                    int l = lo1, h = hi1;
+                    while(l < h) {
+                        int m = (l + h) >>> 1;
+                        if(c.compareFloat(src[m - so], x) <= 0) l = m + 1;
+                        else h = m;
+                    }
+                    m1 = l;
+                }
+                invokeAll(new Merger(src, so, lo1, m1, lo2, m2, dst, dO, k, c),
+                        new Merger(src, so, m1, hi1, m2, hi2, dst, dO, k + (m1 - lo1) + (m2 - lo2), c));
+            }
+        }
+    }
+    private static class OfChar implements PrimitiveSorter.OfChar {
+        private final int parallelism;
+        private OfChar(int parallelism) {
+            this.parallelism = parallelism;
+        }
+        public List<Algorithm> getAlgorithms() { return List.of(Algorithm.MERGE, Algorithm.INSERTION); }
+        public void sort(char[] src, PrimitiveComparator.OfChar comparator, char[] dst) {
+            if(dst == null) dst = src;
+            else {
+                if(dst.length != src.length) dst = new char[src.length];
+                System.arraycopy(src, 0, dst, 0, src.length);
+            }
+            sort(dst, 0, dst.length, comparator, parallelism);
+        }
+        public void sort(char[] src, char[] dst) { sort(src, null, dst); }
+
+        /**
+         * Stably sorts the range {@code [from, to)} of the array.
+         * @param a the array to be sorted
+         * @param from the index of the first element, inclusive, to be sorted
+         * @param to the index of the last element, exclusive, to be sorted
+         * @param c the comparator, or {@code null} for the natural order
+         * @param parallelism the number of workers to sort with
+         */
+        static void sort(char[] a, int from, int to, PrimitiveComparator.OfChar c, int parallelism) {
+            if(c == null) c = PrimitiveComparator.naturalOrderChar();
+            final int n = to - from;
+            if(n < 2) return;
+            char[] w = new char[n];
+            if(parallelism > 1 && n >= 2 * MIN_PARALLEL_SORT_SIZE) new Sorter(a, w, from, from, to, true, granularity(n, parallelism), c).invoke();
+            else sortSequential(a, w, from, from, to, c);
+        }
+
+        /** Sorts {@code a[lo, hi)} in runs merged through {@code w}, which holds index {@code i} at {@code i - wo}. */
+        private static void sortSequential(char[] a, char[] w, int wo, int lo, int hi, PrimitiveComparator.OfChar c) {
+            final int[] runs = new int[(hi - lo) / MIN_RUN + 2];
+            int k = 0;
+            for(int i = lo; i < hi;) {
+                runs[k++] = i;
+                int j = i + 1;
+                if(j < hi) {
+                    if(c.compareChar(a[j], a[i]) < 0) {
+                        while(++j < hi && c.compareChar(a[j], a[j - 1]) < 0);
+                        // a strictly descending run has no equal elements to keep in order
+                        reverse(a, i, j);
+                    } else while(++j < hi && c.compareChar(a[j], a[j - 1]) >= 0);
+                }
+                if(j - i < MIN_RUN && j < hi) {
+                    int e = Math.min(hi, i + MIN_RUN);
+                    insertionSort(a, i, j, e, c);
+                    j = e;
+                }
+                i = j;
+            }
+            runs[k] = hi;
+            char[] src = a, dst = w;
+            int so = 0, dO = wo;
+            while(k > 1) {
+                int m = 0;
+                for(int r = 0; r < k; r += 2) {
+                    if(r + 1 < k) merge(src, so, runs[r], runs[r + 1], runs[r + 1], runs[r + 2], dst, dO, runs[r], c);
+                    else System.arraycopy(src, runs[r] - so, dst, runs[r] - dO, runs[r + 1] - runs[r]);
+                    runs[m++] = runs[r];
+                }
+                runs[m] = hi;
+                k = m;
+                char[] t = src;
+                src = dst;
+                dst = t;
+                int o = so;
+                so = dO;
+                dO = o;
+            }
+            if(src != a) System.arraycopy(src, lo - so, a, lo, hi - lo);
+        }
+
+        private static void reverse(char[] a, int lo, int hi) {
+            for(int i = lo, j = hi - 1; i < j; i++, j--) {
+                char x = a[i];
+                a[i] = a[j];
+                a[j] = x;
+            }
+        }
+
+        /** Extends the sorted {@code a[lo, start)} to {@code a[lo, hi)}, placing each element after those equal to it. */
+        private static void insertionSort(char[] a, int lo, int start, int hi, PrimitiveComparator.OfChar c) {
+            for(int i = start; i < hi; i++) {
+                char x = a[i];
+                int l = lo, h = i;
+                while(l < h) {
+                    int m = (l + h) >>> 1;
+                    if(c.compareChar(x, a[m]) < 0) h = m;
+                    else l = m + 1;
+                }
+                System.arraycopy(a, l, a, l + 1, i - l);
+                a[l] = x;
+            }
+        }
+
+        /**
+         * Merges the sorted {@code src[lo1, hi1)} and {@code src[lo2, hi2)} into {@code dst}
+         * from index {@code k}, taking from the first on ties. The arrays hold index {@code i}
+         * at {@code i - so} and {@code i - dO}.
+         */
+        private static void merge(char[] src, int so, int lo1, int hi1, int lo2, int hi2, char[] dst, int dO, int k, PrimitiveComparator.OfChar c) {
+            int i = lo1 - so, ie = hi1 - so, j = lo2 - so, je = hi2 - so;
+            k -= dO;
+            if(i < ie && j < je && c.compareChar(src[ie - 1], src[j]) > 0) {
+                while(i < ie && j < je) dst[k++] = c.compareChar(src[j], src[i]) < 0 ? src[j++] : src[i++];
+            }
+            System.arraycopy(src, i, dst, k, ie - i);
+            System.arraycopy(src, j, dst, k + ie - i, je - j);
+        }
+
+        /** Sorts {@code [lo, hi)} into {@code a}, or into {@code w} unless {@code intoA}, by sorting its halves into the other array and merging them back. */
+        @SuppressWarnings("serial")
+        private static final class Sorter extends RecursiveAction {
+            private final char[] a, w;
+            private final int wo, lo, hi, granularity;
+            private final boolean intoA;
+            private final PrimitiveComparator.OfChar c;
+
+            Sorter(char[] a, char[] w, int wo, int lo, int hi, boolean intoA, int granularity, PrimitiveComparator.OfChar c) {
+                this.a = a;
+                this.w = w;
+                this.wo = wo;
+                this.lo = lo;
+                this.hi = hi;
+                this.intoA = intoA;
+                this.granularity = granularity;
+                this.c = c;
+            }
+
+            @Override
+            protected void compute() {
+                if(hi - lo <= granularity) {
+                    sortSequential(a, w, wo, lo, hi, c);
+                    if(!intoA) System.arraycopy(a, lo, w, lo - wo, hi - lo);
+                    return;
+                }
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Sorter(a, w, wo, lo, mid, !intoA, granularity, c), new Sorter(a, w, wo, mid, hi, !intoA, granularity, c));
+                if(intoA) new Merger(w, wo, lo, mid, mid, hi, a, 0, lo, c).compute();
+                else new Merger(a, 0, lo, mid, mid, hi, w, wo, lo, c).compute();
+            }
+        }
+
+        /** Merges two sorted ranges by splitting them around the middle of the longer one and merging the halves in parallel. */
+        @SuppressWarnings("serial")
+        private static final class Merger extends RecursiveAction {
+            private final char[] src, dst;
+            private final int so, lo1, hi1, lo2, hi2, dO, k;
+            private final PrimitiveComparator.OfChar c;
+
+            Merger(char[] src, int so, int lo1, int hi1, int lo2, int hi2, char[] dst, int dO, int k, PrimitiveComparator.OfChar c) {
+                this.src = src;
+                this.so = so;
+                this.lo1 = lo1;
+                this.hi1 = hi1;
+                this.lo2 = lo2;
+                this.hi2 = hi2;
+                this.dst = dst;
+                this.dO = dO;
+                this.k = k;
+                this.c = c;
+            }
+
+            @Override
+            protected void compute() {
+                if(hi1 - lo1 + hi2 - lo2 <= MIN_PARALLEL_MERGE_SIZE) {
+                    merge(src, so, lo1, hi1, lo2, hi2, dst, dO, k, c);
+                    return;
+                }
+                int m1, m2;
+                if(hi1 - lo1 >= hi2 - lo2) {
+                    m1 = (lo1 + hi1) >>> 1;
+                    char x = src[m1 - so];
+                    // the elements of the second range less than x go to the left
+                    int l = lo2, h = hi2;
+                    while(l < h) {
+                        int m = (l + h) >>> 1;
+                        if(c.compareChar(src[m - so], x) < 0) l = m + 1;
+                        else h = m;
+                    }
+                    m2 = l;
+                } else {
+                    m2 = (lo2 + hi2) >>> 1;
+                    char x = src[m2 - so];
+                    // the elements of the first range not greater than x go to the left
+                    int l = lo1, h = hi1;
+                    while(l < h) {
+                        int m = (l + h) >>> 1;
+                        if(c.compareChar(src[m - so], x) <= 0) l = m + 1;
+                        else h = m;
+                    }
+                    m1 = l;
+                }
+                invokeAll(new Merger(src, so, lo1, m1, lo2, m2, dst, dO, k, c),
+                        new Merger(src, so, m1, hi1, m2, hi2, dst, dO, k + (m1 - lo1) + (m2 - lo2), c));
+            }
+        }
+    }
+    private static class OfShort implements PrimitiveSorter.OfShort {
+        private final int parallelism;
+        private OfShort(int parallelism) {
+            this.parallelism = parallelism;
+        }
+        public List<Algorithm> getAlgorithms() { return List.of(Algorithm.MERGE, Algorithm.INSERTION); }
+        public void sort(short[] src, PrimitiveComparator.OfShort comparator, short[] dst) {
+            if(dst == null) dst = src;
+            else {
+                if(dst.length != src.length) dst = new short[src.length];
+                System.arraycopy(src, 0, dst, 0, src.length);
+            }
+            sort(dst, 0, dst.length, comparator, parallelism);
+        }
+        public void sort(short[] src, short[] dst) { sort(src, null, dst); }
+
+        /**
+         * Stably sorts the range {@code [from, to)} of the array.
+         * @param a the array to be sorted
+         * @param from the index of the first element, inclusive, to be sorted
+         * @param to the index of the last element, exclusive, to be sorted
+         * @param c the comparator, or {@code null} for the natural order
+         * @param parallelism the number of workers to sort with
+         */
+        static void sort(short[] a, int from, int to, PrimitiveComparator.OfShort c, int parallelism) {
+            if(c == null) c = PrimitiveComparator.naturalOrderShort();
+            final int n = to - from;
+            if(n < 2) return;
+            short[] w = new short[n];
+            if(parallelism > 1 && n >= 2 * MIN_PARALLEL_SORT_SIZE) new Sorter(a, w, from, from, to, true, granularity(n, parallelism), c).invoke();
+            else sortSequential(a, w, from, from, to, c);
+        }
+
+        /** Sorts {@code a[lo, hi)} in runs merged through {@code w}, which holds index {@code i} at {@code i - wo}. */
+        private static void sortSequential(short[] a, short[] w, int wo, int lo, int hi, PrimitiveComparator.OfShort c) {
+            final int[] runs = new int[(hi - lo) / MIN_RUN + 2];
+            int k = 0;
+            for(int i = lo; i < hi;) {
+                runs[k++] = i;
+                int j = i + 1;
+                if(j < hi) {
+                    if(c.compareShort(a[j], a[i]) < 0) {
+                        while(++j < hi && c.compareShort(a[j], a[j - 1]) < 0);
+                        // a strictly descending run has no equal elements to keep in order
+                        reverse(a, i, j);
+                    } else while(++j < hi && c.compareShort(a[j], a[j - 1]) >= 0);
+                }
+                if(j - i < MIN_RUN && j < hi) {
+                    int e = Math.min(hi, i + MIN_RUN);
+                    insertionSort(a, i, j, e, c);
+                    j = e;
+                }
+                i = j;
+            }
+            runs[k] = hi;
+            short[] src = a, dst = w;
+            int so = 0, dO = wo;
+            while(k > 1) {
+                int m = 0;
+                for(int r = 0; r < k; r += 2) {
+                    if(r + 1 < k) merge(src, so, runs[r], runs[r + 1], runs[r + 1], runs[r + 2], dst, dO, runs[r], c);
+                    else System.arraycopy(src, runs[r] - so, dst, runs[r] - dO, runs[r + 1] - runs[r]);
+                    runs[m++] = runs[r];
+                }
+                runs[m] = hi;
+                k = m;
+                short[] t = src;
+                src = dst;
+                dst = t;
+                int o = so;
+                so = dO;
+                dO = o;
+            }
+            if(src != a) System.arraycopy(src, lo - so, a, lo, hi - lo);
+        }
+
+        private static void reverse(short[] a, int lo, int hi) {
+            for(int i = lo, j = hi - 1; i < j; i++, j--) {
+                short x = a[i];
+                a[i] = a[j];
+                a[j] = x;
+            }
+        }
+
+        /** Extends the sorted {@code a[lo, start)} to {@code a[lo, hi)}, placing each element after those equal to it. */
+        private static void insertionSort(short[] a, int lo, int start, int hi, PrimitiveComparator.OfShort c) {
+            for(int i = start; i < hi; i++) {
+                short x = a[i];
+                int l = lo, h = i;
+                while(l < h) {
+                    int m = (l + h) >>> 1;
+                    if(c.compareShort(x, a[m]) < 0) h = m;
+                    else l = m + 1;
+                }
+                System.arraycopy(a, l, a, l + 1, i - l);
+                a[l] = x;
+            }
+        }
+
+        /**
+         * Merges the sorted {@code src[lo1, hi1)} and {@code src[lo2, hi2)} into {@code dst}
+         * from index {@code k}, taking from the first on ties. The arrays hold index {@code i}
+         * at {@code i - so} and {@code i - dO}.
+         */
+        private static void merge(short[] src, int so, int lo1, int hi1, int lo2, int hi2, short[] dst, int dO, int k, PrimitiveComparator.OfShort c) {
+            int i = lo1 - so, ie = hi1 - so, j = lo2 - so, je = hi2 - so;
+            k -= dO;
+            if(i < ie && j < je && c.compareShort(src[ie - 1], src[j]) > 0) {
+                while(i < ie && j < je) dst[k++] = c.compareShort(src[j], src[i]) < 0 ? src[j++] : src[i++];
+            }
+            System.arraycopy(src, i, dst, k, ie - i);
+            System.arraycopy(src, j, dst, k + ie - i, je - j);
+        }
+
+        /** Sorts {@code [lo, hi)} into {@code a}, or into {@code w} unless {@code intoA}, by sorting its halves into the other array and merging them back. */
+        @SuppressWarnings("serial")
+        private static final class Sorter extends RecursiveAction {
+            private final short[] a, w;
+            private final int wo, lo, hi, granularity;
+            private final boolean intoA;
+            private final PrimitiveComparator.OfShort c;
+
+            Sorter(short[] a, short[] w, int wo, int lo, int hi, boolean intoA, int granularity, PrimitiveComparator.OfShort c) {
+                this.a = a;
+                this.w = w;
+                this.wo = wo;
+                this.lo = lo;
+                this.hi = hi;
+                this.intoA = intoA;
+                this.granularity = granularity;
+                this.c = c;
+            }
+
+            @Override
+            protected void compute() {
+                if(hi - lo <= granularity) {
+                    sortSequential(a, w, wo, lo, hi, c);
+                    if(!intoA) System.arraycopy(a, lo, w, lo - wo, hi - lo);
+                    return;
+                }
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Sorter(a, w, wo, lo, mid, !intoA, granularity, c), new Sorter(a, w, wo, mid, hi, !intoA, granularity, c));
+                if(intoA) new Merger(w, wo, lo, mid, mid, hi, a, 0, lo, c).compute();
+                else new Merger(a, 0, lo, mid, mid, hi, w, wo, lo, c).compute();
+            }
+        }
+
+        /** Merges two sorted ranges by splitting them around the middle of the longer one and merging the halves in parallel. */
+        @SuppressWarnings("serial")
+        private static final class Merger extends RecursiveAction {
+            private final short[] src, dst;
+            private final int so, lo1, hi1, lo2, hi2, dO, k;
+            private final PrimitiveComparator.OfShort c;
+
+            Merger(short[] src, int so, int lo1, int hi1, int lo2, int hi2, short[] dst, int dO, int k, PrimitiveComparator.OfShort c) {
+                this.src = src;
+                this.so = so;
+                this.lo1 = lo1;
+                this.hi1 = hi1;
+                this.lo2 = lo2;
+                this.hi2 = hi2;
+                this.dst = dst;
+                this.dO = dO;
+                this.k = k;
+                this.c = c;
+            }
+
+            @Override
+            protected void compute() {
+                if(hi1 - lo1 + hi2 - lo2 <= MIN_PARALLEL_MERGE_SIZE) {
+                    merge(src, so, lo1, hi1, lo2, hi2, dst, dO, k, c);
+                    return;
+                }
+                int m1, m2;
+                if(hi1 - lo1 >= hi2 - lo2) {
+                    m1 = (lo1 + hi1) >>> 1;
+                    short x = src[m1 - so];
+                    // the elements of the second range less than x go to the left
+                    int l = lo2, h = hi2;
+                    while(l < h) {
+                        int m = (l + h) >>> 1;
+                        if(c.compareShort(src[m - so], x) < 0) l = m + 1;
+                        else h = m;
+                    }
+                    m2 = l;
+                } else {
+                    m2 = (lo2 + hi2) >>> 1;
+                    short x = src[m2 - so];
+                    // the elements of the first range not greater than x go to the left
+                    int l = lo1, h = hi1;
+                    while(l < h) {
+                        int m = (l + h) >>> 1;
+                        if(c.compareShort(src[m - so], x) <= 0) l = m + 1;
+                        else h = m;
+                    }
+                    m1 = l;
+                }
+                invokeAll(new Merger(src, so, lo1, m1, lo2, m2, dst, dO, k, c),
+                        new Merger(src, so, m1, hi1, m2, hi2, dst, dO, k + (m1 - lo1) + (m2 - lo2), c));
+            }
+        }
+    }
+    private static class OfByte implements PrimitiveSorter.OfByte {
+        private final int parallelism;
+        private OfByte(int parallelism) {
+            this.parallelism = parallelism;
+        }
+        public List<Algorithm> getAlgorithms() { return List.of(Algorithm.MERGE, Algorithm.INSERTION); }
+        public void sort(byte[] src, PrimitiveComparator.OfByte comparator, byte[] dst) {
+            if(dst == null) dst = src;
+            else {
+                if(dst.length != src.length) dst = new byte[src.length];
+                System.arraycopy(src, 0, dst, 0, src.length);
+            }
+            sort(dst, 0, dst.length, comparator, parallelism);
+        }
+        public void sort(byte[] src, byte[] dst) { sort(src, null, dst); }
+
+        /**
+         * Stably sorts the range {@code [from, to)} of the array.
+         * @param a the array to be sorted
+         * @param from the index of the first element, inclusive, to be sorted
+         * @param to the index of the last element, exclusive, to be sorted
+         * @param c the comparator, or {@code null} for the natural order
+         * @param parallelism the number of workers to sort with
+         */
+        static void sort(byte[] a, int from, int to, PrimitiveComparator.OfByte c, int parallelism) {
+            if(c == null) c = PrimitiveComparator.naturalOrderByte();
+            final int n = to - from;
+            if(n < 2) return;
+            byte[] w = new byte[n];
+            if(parallelism > 1 && n >= 2 * MIN_PARALLEL_SORT_SIZE) new Sorter(a, w, from, from, to, true, granularity(n, parallelism), c).invoke();
+            else sortSequential(a, w, from, from, to, c);
+        }
+
+        /** Sorts {@code a[lo, hi)} in runs merged through {@code w}, which holds index {@code i} at {@code i - wo}. */
+        private static void sortSequential(byte[] a, byte[] w, int wo, int lo, int hi, PrimitiveComparator.OfByte c) {
+            final int[] runs = new int[(hi - lo) / MIN_RUN + 2];
+            int k = 0;
+            for(int i = lo; i < hi;) {
+                runs[k++] = i;
+                int j = i + 1;
+                if(j < hi) {
+                    if(c.compareByte(a[j], a[i]) < 0) {
+                        while(++j < hi && c.compareByte(a[j], a[j - 1]) < 0);
+                        // a strictly descending run has no equal elements to keep in order
+                        reverse(a, i, j);
+                    } else while(++j < hi && c.compareByte(a[j], a[j - 1]) >= 0);
+                }
+                if(j - i < MIN_RUN && j < hi) {
+                    int e = Math.min(hi, i + MIN_RUN);
+                    insertionSort(a, i, j, e, c);
+                    j = e;
+                }
+                i = j;
+            }
+            runs[k] = hi;
+            byte[] src = a, dst = w;
+            int so = 0, dO = wo;
+            while(k > 1) {
+                int m = 0;
+                for(int r = 0; r < k; r += 2) {
+                    if(r + 1 < k) merge(src, so, runs[r], runs[r + 1], runs[r + 1], runs[r + 2], dst, dO, runs[r], c);
+                    else System.arraycopy(src, runs[r] - so, dst, runs[r] - dO, runs[r + 1] - runs[r]);
+                    runs[m++] = runs[r];
+                }
+                runs[m] = hi;
+                k = m;
+                byte[] t = src;
+                src = dst;
+                dst = t;
+                int o = so;
+                so = dO;
+                dO = o;
+            }
+            if(src != a) System.arraycopy(src, lo - so, a, lo, hi - lo);
+        }
+
+        private static void reverse(byte[] a, int lo, int hi) {
+            for(int i = lo, j = hi - 1; i < j; i++, j--) {
+                byte x = a[i];
+                a[i] = a[j];
+                a[j] = x;
+            }
+        }
+
+        /** Extends the sorted {@code a[lo, start)} to {@code a[lo, hi)}, placing each element after those equal to it. */
+        private static void insertionSort(byte[] a, int lo, int start, int hi, PrimitiveComparator.OfByte c) {
+            for(int i = start; i < hi; i++) {
+                byte x = a[i];
+                int l = lo, h = i;
+                while(l < h) {
+                    int m = (l + h) >>> 1;
+                    if(c.compareByte(x, a[m]) < 0) h = m;
+                    else l = m + 1;
+                }
+                System.arraycopy(a, l, a, l + 1, i - l);
+                a[l] = x;
+            }
+        }
+
+        /**
+         * Merges the sorted {@code src[lo1, hi1)} and {@code src[lo2, hi2)} into {@code dst}
+         * from index {@code k}, taking from the first on ties. The arrays hold index {@code i}
+         * at {@code i - so} and {@code i - dO}.
+         */
+        private static void merge(byte[] src, int so, int lo1, int hi1, int lo2, int hi2, byte[] dst, int dO, int k, PrimitiveComparator.OfByte c) {
+            int i = lo1 - so, ie = hi1 - so, j = lo2 - so, je = hi2 - so;
+            k -= dO;
+            if(i < ie && j < je && c.compareByte(src[ie - 1], src[j]) > 0) {
+                while(i < ie && j < je) dst[k++] = c.compareByte(src[j], src[i]) < 0 ? src[j++] : src[i++];
+            }
+            System.arraycopy(src, i, dst, k, ie - i);
+            System.arraycopy(src, j, dst, k + ie - i, je - j);
+        }
+
+        /** Sorts {@code [lo, hi)} into {@code a}, or into {@code w} unless {@code intoA}, by sorting its halves into the other array and merging them back. */
+        @SuppressWarnings("serial")
+        private static final class Sorter extends RecursiveAction {
+            private final byte[] a, w;
+            private final int wo, lo, hi, granularity;
+            private final boolean intoA;
+            private final PrimitiveComparator.OfByte c;
+
+            Sorter(byte[] a, byte[] w, int wo, int lo, int hi, boolean intoA, int granularity, PrimitiveComparator.OfByte c) {
+                this.a = a;
+                this.w = w;
+                this.wo = wo;
+                this.lo = lo;
+                this.hi = hi;
+                this.intoA = intoA;
+                this.granularity = granularity;
+                this.c = c;
+            }
+
+            @Override
+            protected void compute() {
+                if(hi - lo <= granularity) {
+                    sortSequential(a, w, wo, lo, hi, c);
+                    if(!intoA) System.arraycopy(a, lo, w, lo - wo, hi - lo);
+                    return;
+                }
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Sorter(a, w, wo, lo, mid, !intoA, granularity, c), new Sorter(a, w, wo, mid, hi, !intoA, granularity, c));
+                if(intoA) new Merger(w, wo, lo, mid, mid, hi, a, 0, lo, c).compute();
+                else new Merger(a, 0, lo, mid, mid, hi, w, wo, lo, c).compute();
+            }
+        }
+
+        /** Merges two sorted ranges by splitting them around the middle of the longer one and merging the halves in parallel. */
+        @SuppressWarnings("serial")
+        private static final class Merger extends RecursiveAction {
+            private final byte[] src, dst;
+            private final int so, lo1, hi1, lo2, hi2, dO, k;
+            private final PrimitiveComparator.OfByte c;
+
+            Merger(byte[] src, int so, int lo1, int hi1, int lo2, int hi2, byte[] dst, int dO, int k, PrimitiveComparator.OfByte c) {
+                this.src = src;
+                this.so = so;
+                this.lo1 = lo1;
+                this.hi1 = hi1;
+                this.lo2 = lo2;
+                this.hi2 = hi2;
+                this.dst = dst;
+                this.dO = dO;
+                this.k = k;
+                this.c = c;
+            }
+
+            @Override
+            protected void compute() {
+                if(hi1 - lo1 + hi2 - lo2 <= MIN_PARALLEL_MERGE_SIZE) {
+                    merge(src, so, lo1, hi1, lo2, hi2, dst, dO, k, c);
+                    return;
+                }
+                int m1, m2;
+                if(hi1 - lo1 >= hi2 - lo2) {
+                    m1 = (lo1 + hi1) >>> 1;
+                    byte x = src[m1 - so];
+                    // the elements of the second range less than x go to the left
+                    int l = lo2, h = hi2;
+                    while(l < h) {
+                        int m = (l + h) >>> 1;
+                        if(c.compareByte(src[m - so], x) < 0) l = m + 1;
+                        else h = m;
+                    }
+                    m2 = l;
+                } else {
+                    m2 = (lo2 + hi2) >>> 1;
+                    byte x = src[m2 - so];
+                    // the elements of the first range not greater than x go to the left
+                    int l = lo1, h = hi1;
+                    while(l < h) {
+                        int m = (l + h) >>> 1;
+                        if(c.compareByte(src[m - so], x) <= 0) l = m + 1;
+                        else h = m;
+                    }
+                    m1 = l;
+                }
+                invokeAll(new Merger(src, so, lo1, m1, lo2, m2, dst, dO, k, c),
+                        new Merger(src, so, m1, hi1, m2, hi2, dst, dO, k + (m1 - lo1) + (m2 - lo2), c));
+            }
+        }
+    }
+    private static class OfBoolean implements PrimitiveSorter.OfBoolean {
+        private final int parallelism;
+        private OfBoolean(int parallelism) {
+            this.parallelism = parallelism;
+        }
+        public List<Algorithm> getAlgorithms() { return List.of(Algorithm.MERGE, Algorithm.INSERTION); }
+        public void sort(boolean[] src, PrimitiveComparator.OfBoolean comparator, boolean[] dst) {
+            if(dst == null) dst = src;
+            else {
+                if(dst.length != src.length) dst = new boolean[src.length];
+                System.arraycopy(src, 0, dst, 0, src.length);
+            }
+            sort(dst, 0, dst.length, comparator, parallelism);
+        }
+        public void sort(boolean[] src, boolean[] dst) { sort(src, null, dst); }
+
+        /**
+         * Stably sorts the range {@code [from, to)} of the array.
+         * @param a the array to be sorted
+         * @param from the index of the first element, inclusive, to be sorted
+         * @param to the index of the last element, exclusive, to be sorted
+         * @param c the comparator, or {@code null} for the natural order
+         * @param parallelism the number of workers to sort with
+         */
+        static void sort(boolean[] a, int from, int to, PrimitiveComparator.OfBoolean c, int parallelism) {
+            if(c == null) c = PrimitiveComparator.naturalOrderBoolean();
+            final int n = to - from;
+            if(n < 2) return;
+            boolean[] w = new boolean[n];
+            if(parallelism > 1 && n >= 2 * MIN_PARALLEL_SORT_SIZE) new Sorter(a, w, from, from, to, true, granularity(n, parallelism), c).invoke();
+            else sortSequential(a, w, from, from, to, c);
+        }
+
+        /** Sorts {@code a[lo, hi)} in runs merged through {@code w}, which holds index {@code i} at {@code i - wo}. */
+        private static void sortSequential(boolean[] a, boolean[] w, int wo, int lo, int hi, PrimitiveComparator.OfBoolean c) {
+            final int[] runs = new int[(hi - lo) / MIN_RUN + 2];
+            int k = 0;
+            for(int i = lo; i < hi;) {
+                runs[k++] = i;
+                int j = i + 1;
+                if(j < hi) {
+                    if(c.compareBoolean(a[j], a[i]) < 0) {
+                        while(++j < hi && c.compareBoolean(a[j], a[j - 1]) < 0);
+                        // a strictly descending run has no equal elements to keep in order
+                        reverse(a, i, j);
+                    } else while(++j < hi && c.compareBoolean(a[j], a[j - 1]) >= 0);
+                }
+                if(j - i < MIN_RUN && j < hi) {
+                    int e = Math.min(hi, i + MIN_RUN);
+                    insertionSort(a, i, j, e, c);
+                    j = e;
+                }
+                i = j;
+            }
+            runs[k] = hi;
+            boolean[] src = a, dst = w;
+            int so = 0, dO = wo;
+            while(k > 1) {
+                int m = 0;
+                for(int r = 0; r < k; r += 2) {
+                    if(r + 1 < k) merge(src, so, runs[r], runs[r + 1], runs[r + 1], runs[r + 2], dst, dO, runs[r], c);
+                    else System.arraycopy(src, runs[r] - so, dst, runs[r] - dO, runs[r + 1] - runs[r]);
+                    runs[m++] = runs[r];
+                }
+                runs[m] = hi;
+                k = m;
+                boolean[] t = src;
+                src = dst;
+                dst = t;
+                int o = so;
+                so = dO;
+                dO = o;
+            }
+            if(src != a) System.arraycopy(src, lo - so, a, lo, hi - lo);
+        }
+
+        private static void reverse(boolean[] a, int lo, int hi) {
+            for(int i = lo, j = hi - 1; i < j; i++, j--) {
+                boolean x = a[i];
+                a[i] = a[j];
+                a[j] = x;
+            }
+        }
+
+        /** Extends the sorted {@code a[lo, start)} to {@code a[lo, hi)}, placing each element after those equal to it. */
+        private static void insertionSort(boolean[] a, int lo, int start, int hi, PrimitiveComparator.OfBoolean c) {
+            for(int i = start; i < hi; i++) {
+                boolean x = a[i];
+                int l = lo, h = i;
+                while(l < h) {
+                    int m = (l + h) >>> 1;
+                    if(c.compareBoolean(x, a[m]) < 0) h = m;
+                    else l = m + 1;
+                }
+                System.arraycopy(a, l, a, l + 1, i - l);
+                a[l] = x;
+            }
+        }
+
+        /**
+         * Merges the sorted {@code src[lo1, hi1)} and {@code src[lo2, hi2)} into {@code dst}
+         * from index {@code k}, taking from the first on ties. The arrays hold index {@code i}
+         * at {@code i - so} and {@code i - dO}.
+         */
+        private static void merge(boolean[] src, int so, int lo1, int hi1, int lo2, int hi2, boolean[] dst, int dO, int k, PrimitiveComparator.OfBoolean c) {
+            int i = lo1 - so, ie = hi1 - so, j = lo2 - so, je = hi2 - so;
+            k -= dO;
+            if(i < ie && j < je && c.compareBoolean(src[ie - 1], src[j]) > 0) {
+                while(i < ie && j < je) dst[k++] = c.compareBoolean(src[j], src[i]) < 0 ? src[j++] : src[i++];
+            }
+            System.arraycopy(src, i, dst, k, ie - i);
+            System.arraycopy(src, j, dst, k + ie - i, je - j);
+        }
+
+        /** Sorts {@code [lo, hi)} into {@code a}, or into {@code w} unless {@code intoA}, by sorting its halves into the other array and merging them back. */
+        @SuppressWarnings("serial")
+        private static final class Sorter extends RecursiveAction {
+            private final boolean[] a, w;
+            private final int wo, lo, hi, granularity;
+            private final boolean intoA;
+            private final PrimitiveComparator.OfBoolean c;
+
+            Sorter(boolean[] a, boolean[] w, int wo, int lo, int hi, boolean intoA, int granularity, PrimitiveComparator.OfBoolean c) {
+                this.a = a;
+                this.w = w;
+                this.wo = wo;
+                this.lo = lo;
+                this.hi = hi;
+                this.intoA = intoA;
+                this.granularity = granularity;
+                this.c = c;
+            }
+
+            @Override
+            protected void compute() {
+                if(hi - lo <= granularity) {
+                    sortSequential(a, w, wo, lo, hi, c);
+                    if(!intoA) System.arraycopy(a, lo, w, lo - wo, hi - lo);
+                    return;
+                }
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Sorter(a, w, wo, lo, mid, !intoA, granularity, c), new Sorter(a, w, wo, mid, hi, !intoA, granularity, c));
+                if(intoA) new Merger(w, wo, lo, mid, mid, hi, a, 0, lo, c).compute();
+                else new Merger(a, 0, lo, mid, mid, hi, w, wo, lo, c).compute();
+            }
+        }
+
+        /** Merges two sorted ranges by splitting them around the middle of the longer one and merging the halves in parallel. */
+        @SuppressWarnings("serial")
+        private static final class Merger extends RecursiveAction {
+            private final boolean[] src, dst;
+            private final int so, lo1, hi1, lo2, hi2, dO, k;
+            private final PrimitiveComparator.OfBoolean c;
+
+            Merger(boolean[] src, int so, int lo1, int hi1, int lo2, int hi2, boolean[] dst, int dO, int k, PrimitiveComparator.OfBoolean c) {
+                this.src = src;
+                this.so = so;
+                this.lo1 = lo1;
+                this.hi1 = hi1;
+                this.lo2 = lo2;
+                this.hi2 = hi2;
+                this.dst = dst;
+                this.dO = dO;
+                this.k = k;
+                this.c = c;
+            }
+
+            @Override
+            protected void compute() {
+                if(hi1 - lo1 + hi2 - lo2 <= MIN_PARALLEL_MERGE_SIZE) {
+                    merge(src, so, lo1, hi1, lo2, hi2, dst, dO, k, c);
+                    return;
+                }
+                int m1, m2;
+                if(hi1 - lo1 >= hi2 - lo2) {
+                    m1 = (lo1 + hi1) >>> 1;
+                    boolean x = src[m1 - so];
+                    // the elements of the second range less than x go to the left
+                    int l = lo2, h = hi2;
+                    while(l < h) {
+                        int m = (l + h) >>> 1;
+                        if(c.compareBoolean(src[m - so], x) < 0) l = m + 1;
+                        else h = m;
+                    }
+                    m2 = l;
+                } else {
+                    m2 = (lo2 + hi2) >>> 1;
+                    boolean x = src[m2 - so];
+                    // the elements of the first range not greater than x go to the left
+                    int l = lo1, h = hi1;
+                    while(l < h) {
+                        int m = (l + h) >>> 1;
+                        if(c.compareBoolean(src[m - so], x) <= 0) l = m + 1;
+                        else h = m;
+                    }
+                    m1 = l;
+                }
+                invokeAll(new Merger(src, so, lo1, m1, lo2, m2, dst, dO, k, c),
+                        new Merger(src, so, m1, hi1, m2, hi2, dst, dO, k + (m1 - lo1) + (m2 - lo2), c));
+            }
+        }
+    }
+}
@@ -0,0 +1,528 @@
+package jdk.prim.util.sort;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+import jdk.prim.util.PrimitiveArrays;
+import jdk.prim.util.PrimitiveComparator;
+
+/**
+ * A class that contains least-significant-digit radix sort implementations for
+ * {@code double}, {@code long}, {@code int} and {@code float} arrays.
+ * <p>
+ * Elements are mapped to keys whose unsigned order is their natural order: the sign bit
+ * of integers is flipped, and the bits of floating point values are flipped whole when
+ * negative and in the sign bit otherwise, so that {@code -0.0} sorts before {@code 0.0}
+ * as in {@link Double#compare(double, double)}. NaNs are moved to the end of the array
+ * first and keep their bits. The keys are then distributed one byte at a time, from the
+ * lowest, between the array and a buffer of the same length. The histograms of every
+ * byte are taken in a single read of the array up front, and a byte that is the same in
+ * every element is skipped, so for example {@code long} timestamps spanning a few days
+ * take four or five passes rather than eight.
+ * <p>
+ * With a parallelism above one, large arrays are cut into one chunk per worker; in each
+ * pass after the first the workers count their chunk's digits again, since the chunks then
+ * hold other elements, the counts are turned into per-chunk
+ * offsets, and the workers scatter their chunks in parallel on the
+ * {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+ * <p>
+ * Small arrays, and sorts with a comparator other than the natural or reverse natural
+ * one, are handed to {@link PrimitiveDualPivot}.
+ */
+public final class PrimitiveRadixSort {
+    private PrimitiveRadixSort() {}
+
+    /** Arrays shorter than this are sorted by the dual-pivot quick sort instead. */
+    static final int MIN_RADIX_SORT_SIZE = 1 << 8;
+
+    /** The fewest elements a parallel sort gives each worker. */
+    static final int MIN_PARALLEL_CHUNK_SIZE = 1 << 16;
+
+    /** The number of buckets of a digit. */
+    private static final int RADIX = 1 << 8;
+
+    /**
+     * Retrieves a radix sorter of {@code double} arrays
+     * @param parallelism the number of workers to sort large arrays with, or at most one to sort sequentially
+     * @return a sorter of {@code double} arrays using the radix sort method
+     */
+    public static PrimitiveSorter.OfDouble ofDouble(int parallelism) { return new OfDouble(parallelism); }
+    /**
+     * Retrieves a radix sorter of {@code long} arrays
+     * @param parallelism the number of workers to sort large arrays with, or at most one to sort sequentially
+     * @return a sorter of {@code long} arrays using the radix sort method
+     */
+    public static PrimitiveSorter.OfLong ofLong(int parallelism) { return new OfLong(parallelism); }
+    /**
+     * Retrieves a radix sorter of {@code int} arrays
+     * @param parallelism the number of workers to sort large arrays with, or at most one to sort sequentially
+     * @return a sorter of {@code int} arrays using the radix sort method
+     */
+    public static PrimitiveSorter.OfInt ofInt(int parallelism) { return new OfInt(parallelism); }
+    /**
+     * Retrieves a radix sorter of {@code float} arrays
+     * @param parallelism the number of workers to sort large arrays with, or at most one to sort sequentially
+     * @return a sorter of {@code float} arrays using the radix sort method
+     */
+    public static PrimitiveSorter.OfFloat ofFloat(int parallelism) { return new OfFloat(parallelism); }
+
+    ///////////// Workers
+
+    /** Runs a body for each chunk of {@code [lo, hi)}, halving the range across workers. */
+    @SuppressWarnings("serial")
+    private static final class Chunks extends RecursiveAction {
+        private final int lo, hi;
+        private final IntConsumer body;
+
+        Chunks(int lo, int hi, IntConsumer body) {
+            this.lo = lo;
+            this.hi = hi;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if(hi - lo == 1) body.accept(lo);
+            else {
+                int mid = (lo + hi) >>> 1;
+                invokeAll(new Chunks(lo, mid, body), new Chunks(mid, hi, body));
+            }
+        }
+    }
+
+    private static void forEachChunk(int chunks, IntConsumer body) { new Chunks(0, chunks, body).invoke(); }
+
+    /** Returns the number of chunks to sort {@code n} elements with. */
+    private static int chunks(int parallelism, int n) { return Math.max(1, Math.min(parallelism, n / MIN_PARALLEL_CHUNK_SIZE)); }
+
+    /** Returns the start of each of {@code chunks} near-equal chunks of {@code n} elements, and {@code n}. */
+    private static int[] bounds(int n, int chunks) {
+        int[] b = new int[chunks + 1];
+        for(int c = 0; c <= chunks; c++) b[c] = (int) ((long) n * c / chunks);
+        return b;
+    }
+
+    /**
+     * Turns the counts of one digit, kept per chunk, into the position each chunk writes
+     * its next element of each bucket to: buckets in order, and chunks in order within a bucket.
+     */
+    private static void offsets(int[][] count, int base) {
+        int sum = 0;
+        for(int b = base; b < base + RADIX; b++) for(int[] c : count) {
+            int k = c[b];
+            c[b] = sum;
+            sum += k;
+        }
+    }
+
+    ///////////// long
+
+    /** Returns the {@code shift}-bit digit of the sortable key of {@code x}. */
+    private static int digit(long x, int shift) { return (int) ((x ^ Long.MIN_VALUE) >>> shift) & 0xFF; }
+
+    /**
+     * Sorts the range {@code [from, to)} of the array into ascending order.
+     * @param a the array to be sorted
+     * @param from the index of the first element, inclusive, to be sorted
+     * @param to the index of the last element, exclusive, to be sorted
+     * @param parallelism the number of workers to sort with
+     */
+    static void sort(long[] a, int from, int to, int parallelism) {
+        final int n = to - from;
+        if(n < MIN_RADIX_SORT_SIZE) {
+            jdk.prim.util.sort.dualpivot.OfLong.sort(a, PrimitiveComparator.naturalOrderLong(), 0, from, to);
+            return;
+        }
+        final int chunks = chunks(parallelism, n);
+        final int[] bounds = bounds(n, chunks);
+        final int[][] count = new int[chunks][Long.BYTES * RADIX];
+        final long[] buf = new long[n];
+        IntConsumer histogram = c -> {
+            final int[] h = count[c];
+            for(int i = from + bounds[c], e = from + bounds[c + 1]; i < e; i++) {
+                long k = a[i] ^ Long.MIN_VALUE;
+                for(int d = 0; d < Long.BYTES; d++) h[d << 8 | (int) (k >>> (d << 3)) & 0xFF]++;
+            }
+        };
+        if(chunks == 1) histogram.accept(0);
+        else forEachChunk(chunks, histogram);
+
+        long[] src = a, dst = buf;
+        int srcOff = from, dstOff = 0;
+        boolean fresh = true;
+        for(int d = 0; d < Long.BYTES; d++) {
+            final int base = d << 8, shift = d << 3;
+            // the totals of a digit do not depend on the order of the elements
+            final int first = base | digit(src[srcOff], shift);
+            int total = 0;
+            for(int[] c : count) total += c[first];
+            if(total == n) continue;
+            final long[] s = src, t = dst;
+            final int sOff = srcOff, tOff = dstOff;
+            if(!fresh && chunks > 1) {
+                // the chunks hold other elements after a pass, so their counts of this digit are taken again;
+                // a single chunk holds the whole range, whose counts from the first read still hold
+                IntConsumer recount = c -> {
+                    final int[] h = count[c];
+                    Arrays.fill(h, base, base + RADIX, 0);
+                    for(int i = sOff + bounds[c], e = sOff + bounds[c + 1]; i < e; i++) h[base | digit(s[i], shift)]++;
+                };
+                forEachChunk(chunks, recount);
+            }
+            fresh = false;
+            offsets(count, base);
+            IntConsumer scatter = c -> {
+                final int[] h = count[c];
+                for(int i = sOff + bounds[c], e = sOff + bounds[c + 1]; i < e; i++) {
+                    long x = s[i];
+                    t[tOff + h[base | digit(x, shift)]++] = x;
+                }
+            };
+            if(chunks == 1) scatter.accept(0);
+            else forEachChunk(chunks, scatter);
+            src = t;
+            dst = s;
+            srcOff = tOff;
+            dstOff = sOff;
+        }
+        if(src != a) System.arraycopy(src, srcOff, a, from, n);
+    }
+
+    ///////////// int
+
+    private static int digit(int x, int shift) { return ((x ^ Integer.MIN_VALUE) >>> shift) & 0xFF; }
+
+    /**
+     * Sorts the range {@code [from, to)} of the array into ascending order.
+     * @param a the array to be sorted
+     * @param from the index of the first element, inclusive, to be sorted
+     * @param to the index of the last element, exclusive, to be sorted
+     * @param parallelism the number of workers to sort with
+     */
+    static void sort(int[] a, int from, int to, int parallelism) {
+        final int n = to - from;
+        if(n < MIN_RADIX_SORT_SIZE) {
+            jdk.prim.util.sort.dualpivot.OfInt.sort(a, PrimitiveComparator.naturalOrderInt(), 0, from, to);
+            return;
+        }
+        final int chunks = chunks(parallelism, n);
+        final int[] bounds = bounds(n, chunks);
+        final int[][] count = new int[chunks][Integer.BYTES * RADIX];
+        final int[] buf = new int[n];
+        IntConsumer histogram = c -> {
+            final int[] h = count[c];
+            for(int i = from + bounds[c], e = from + bounds[c + 1]; i < e; i++) {
+                int k = a[i] ^ Integer.MIN_VALUE;
+                h[k & 0xFF]++;
+                h[RADIX | (k >>> 8) & 0xFF]++;
+                h[2 * RADIX | (k >>> 16) & 0xFF]++;
+                h[3 * RADIX | k >>> 24]++;
+            }
+        };
+        if(chunks == 1) histogram.accept(0);
+        else forEachChunk(chunks, histogram);
+
+        int[] src = a, dst = buf;
+        int srcOff = from, dstOff = 0;
+        boolean fresh = true;
+        for(int d = 0; d < Integer.BYTES; d++) {
+            final int base = d << 8, shift = d << 3;
+            final int first = base | digit(src[srcOff], shift);
+            int total = 0;
+            for(int[] c : count) total += c[first];
+            if(total == n) continue;
+            final int[] s = src, t = dst;
+            final int sOff = srcOff, tOff = dstOff;
+            if(!fresh && chunks > 1) {
+                IntConsumer recount = c -> {
+                    final int[] h = count[c];
+                    Arrays.fill(h, base, base + RADIX, 0);
+                    for(int i = sOff + bounds[c], e = sOff + bounds[c + 1]; i < e; i++) h[base | digit(s[i], shift)]++;
+                };
+                forEachChunk(chunks, recount);
+            }
+            fresh = false;
+            offsets(count, base);
+            IntConsumer scatter = c -> {
+                final int[] h = count[c];
+                for(int i = sOff + bounds[c], e = sOff + bounds[c + 1]; i < e; i++) {
+                    int x = s[i];
+                    t[tOff + h[base | digit(x, shift)]++] = x;
+                }
+            };
+            if(chunks == 1) scatter.accept(0);
+            else forEachChunk(chunks, scatter);
+            src = t;
+            dst = s;
+            srcOff = tOff;
+            dstOff = sOff;
+        }
+        if(src != a) System.arraycopy(src, srcOff, a, from, n);
+    }
+
+    ///////////// double
+
+    /** Returns the bits of {@code x} arranged so that their unsigned order is that of {@link Double#compare(double, double)}. */
+    static long sortableBits(double x) {
+        long b = Double.doubleToRawLongBits(x);
+        return b ^ (b >> 63 | Long.MIN_VALUE);
+    }
+
+    private static int digit(double x, int shift) { return (int) (sortableBits(x) >>> shift) & 0xFF; }
+
+    /** Moves the NaNs of {@code [from, to)} to its end, returning where they start. */
+    private static int moveNaNsToEnd(double[] a, int from, int to) {
+        for(int i = to - 1; i >= from; i--) {
+            double x = a[i];
+            if(x != x) {
+                a[i] = a[--to];
+                a[to] = x;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * Sorts the range {@code [from, to)} of the array into the ascending order of
+     * {@link Double#compare(double, double)}.
+     * @param a the array to be sorted
+     * @param from the index of the first element, inclusive, to be sorted
+     * @param to the index of the last element, exclusive, to be sorted
+     * @param parallelism the number of workers to sort with
+     */
+    static void sort(double[] a, int from, int to, int parallelism) {
+        to = moveNaNsToEnd(a, from, to);
+        final int n = to - from;
+        if(n < MIN_RADIX_SORT_SIZE) {
+            jdk.prim.util.sort.dualpivot.OfDouble.sort(a, PrimitiveComparator.naturalOrderDouble(), 0, from, to);
+            return;
+        }
+        final int chunks = chunks(parallelism, n);
+        final int[] bounds = bounds(n, chunks);
+        final int[][] count = new int[chunks][Long.BYTES * RADIX];
+        final double[] buf = new double[n];
+        IntConsumer histogram = c -> {
+            final int[] h = count[c];
+            for(int i = from + bounds[c], e = from + bounds[c + 1]; i < e; i++) {
+                long k = sortableBits(a[i]);
+                for(int d = 0; d < Long.BYTES; d++) h[d << 8 | (int) (k >>> (d << 3)) & 0xFF]++;
+            }
+        };
+        if(chunks == 1) histogram.accept(0);
+        else forEachChunk(chunks, histogram);
+
+        double[] src = a, dst = buf;
+        int srcOff = from, dstOff = 0;
+        boolean fresh = true;
+        for(int d = 0; d < Long.BYTES; d++) {
+            final int base = d << 8, shift = d << 3;
+            final int first = base | digit(src[srcOff], shift);
+            int total = 0;
+            for(int[] c : count) total += c[first];
+            if(total == n) continue;
+            final double[] s = src, t = dst;
+            final int sOff = srcOff, tOff = dstOff;
+            if(!fresh && chunks > 1) {
+                IntConsumer recount = c -> {
+                    final int[] h = count[c];
+                    Arrays.fill(h, base, base + RADIX, 0);
+                    for(int i = sOff + bounds[c], e = sOff + bounds[c + 1]; i < e; i++) h[base | digit(s[i], shift)]++;
+                };
+                forEachChunk(chunks, recount);
+            }
+            fresh = false;
+            offsets(count, base);
+            IntConsumer scatter = c -> {
+                final int[] h = count[c];
+                for(int i = sOff + bounds[c], e = sOff + bounds[c + 1]; i < e; i++) {
+                    double x = s[i];
+                    t[tOff + h[base | digit(x, shift)]++] = x;
+                }
+            };
+            if(chunks == 1) scatter.accept(0);
+            else forEachChunk(chunks, scatter);
+            src = t;
+            dst = s;
+            srcOff = tOff;
+            dstOff = sOff;
+        }
+        if(src != a) System.arraycopy(src, srcOff, a, from, n);
+    }
+
+    ///////////// float
+
+    /** Returns the bits of {@code x} arranged so that their unsigned order is that of {@link Float#compare(float, float)}. */
+    static int sortableBits(float x) {
+        int b = Float.floatToRawIntBits(x);
+        return b ^ (b >> 31 | Integer.MIN_VALUE);
+    }
+
+    private static int digit(float x, int shift) { return (sortableBits(x) >>> shift) & 0xFF; }
+
+    /** Moves the NaNs of {@code [from, to)} to its end, returning where they start. */
+    private static int moveNaNsToEnd(float[] a, int from, int to) {
+        for(int i = to - 1; i >= from; i--) {
+            float x = a[i];
+            if(x != x) {
+                a[i] = a[--to];
+                a[to] = x;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * Sorts the range {@code [from, to)} of the array into the ascending order of
+     * {@link Float#compare(float, float)}.
+     * @param a the array to be sorted
+     * @param from the index of the first element, inclusive, to be sorted
+     * @param to the index of the last element, exclusive, to be sorted
+     * @param parallelism the number of workers to sort with
+     */
+    static void sort(float[] a, int from, int to, int parallelism) {
+        to = moveNaNsToEnd(a, from, to);
+        final int n = to - from;
+        if(n < MIN_RADIX_SORT_SIZE) {
+            jdk.prim.util.sort.dualpivot.OfFloat.sort(a, PrimitiveComparator.naturalOrderFloat(), 0, from, to);
+            return;
+        }
+        final int chunks = chunks(parallelism, n);
+        final int[] bounds = bounds(n, chunks);
+        final int[][] count = new int[chunks][Integer.BYTES * RADIX];
+        final float[] buf = new float[n];
+        IntConsumer histogram = c -> {
+            final int[] h = count[c];
+            for(int i = from + bounds[c], e = from + bounds[c + 1]; i < e; i++) {
+                int k = sortableBits(a[i]);
+                h[k & 0xFF]++;
+                h[RADIX | (k >>> 8) & 0xFF]++;
+                h[2 * RADIX | (k >>> 16) & 0xFF]++;
+                h[3 * RADIX | k >>> 24]++;
+            }
+        };
+        if(chunks == 1) histogram.accept(0);
+        else forEachChunk(chunks, histogram);
+
+        float[] src = a, dst = buf;
+        int srcOff = from, dstOff = 0;
+        boolean fresh = true;
+        for(int d = 0; d < Integer.BYTES; d++) {
+            final int base = d << 8, shift = d << 3;
+            final int first = base | digit(src[srcOff], shift);
+            int total = 0;
+            for(int[] c : count) total += c[first];
+            if(total == n) continue;
+            final float[] s = src, t = dst;
+            final int sOff = srcOff, tOff = dstOff;
+            if(!fresh && chunks > 1) {
+                IntConsumer recount = c -> {
+                    final int[] h = count[c];
+                    Arrays.fill(h, base, base + RADIX, 0);
+                    for(int i = sOff + bounds[c], e = sOff + bounds[c + 1]; i < e; i++) h[base | digit(s[i], shift)]++;
+                };
+                forEachChunk(chunks, recount);
+            }
+            fresh = false;
+            offsets(count, base);
+            IntConsumer scatter = c -> {
+                final int[] h = count[c];
+                for(int i = sOff + bounds[c], e = sOff + bounds[c + 1]; i < e; i++) {
+                    float x = s[i];
+                    t[tOff + h[base | digit(x, shift)]++] = x;
+                }
+            };
+            if(chunks == 1) scatter.accept(0);
+            else forEachChunk(chunks, scatter);
+            src = t;
+            dst = s;
+            srcOff = tOff;
+            dstOff = sOff;
+        }
+        if(src != a) System.arraycopy(src, srcOff, a, from, n);
+    }
+
+    ///////////// Sorters
+
+    private static class OfDouble implements PrimitiveSorter.OfDouble {
+        private final int parallelism;
+        private OfDouble(int parallelism) {
+            this.parallelism = parallelism;
+        }
+        public List<Algorithm> getAlgorithms() { return List.of(Algorithm.RADIX, Algorithm.QUICK); }
+        public void sort(double[] src, PrimitiveComparator.OfDouble comparator, double[] dst) {
+            if(dst == null) dst = src;
+            else {
+                if(dst.length != src.length) dst = new double[src.length];
+                System.arraycopy(src, 0, dst, 0, src.length);
+            }
+            if(comparator == null || comparator == PrimitiveComparator.naturalOrderDouble()) PrimitiveRadixSort.sort(dst, 0, dst.length, parallelism);
+            else if(comparator == PrimitiveComparator.reverseOrderDouble()) {
+                PrimitiveRadixSort.sort(dst, 0, dst.length, parallelism);
+                PrimitiveArrays.reverse(dst);
+            } else jdk.prim.util.sort.dualpivot.OfDouble.sort(dst, comparator, parallelism, 0, dst.length);
+        }
+        public void sort(double[] src, double[] dst) { sort(src, null, dst); }
+    }
+    private static class OfLong implements PrimitiveSorter.OfLong {
+        private final int parallelism;
+        private OfLong(int parallelism) {
+            this.parallelism = parallelism;
+        }
+        public List<Algorithm> getAlgorithms() { return List.of(Algorithm.RADIX, Algorithm.QUICK); }
+        public void sort(long[] src, PrimitiveComparator.OfLong comparator, long[] dst) {
+            if(dst == null) dst = src;
+            else {
+                if(dst.length != src.length) dst = new long[src.length];
+                System.arraycopy(src, 0, dst, 0, src.length);
+            }
+            if(comparator == null || comparator == PrimitiveComparator.naturalOrderLong()) PrimitiveRadixSort.sort(dst, 0, dst.length, parallelism);
+            else if(comparator == PrimitiveComparator.reverseOrderLong()) {
+                PrimitiveRadixSort.sort(dst, 0, dst.length, parallelism);
+                PrimitiveArrays.reverse(dst);
+            } else jdk.prim.util.sort.dualpivot.OfLong.sort(dst, comparator, parallelism, 0, dst.length);
+        }
+        public void sort(long[] src, long[] dst) { sort(src, null, dst); }
+    }
+    private static class OfInt implements PrimitiveSorter.OfInt {
+        private final int parallelism;
+        private OfInt(int parallelism) {
+            this.parallelism = parallelism;
+        }
+        public List<Algorithm> getAlgorithms() { return List.of(Algorithm.RADIX, Algorithm.QUICK); }
+        public void sort(int[] src, PrimitiveComparator.OfInt comparator, int[] dst) {
+            if(dst == null) dst = src;
+            else {
+                if(dst.length != src.length) dst = new int[src.length];
+                System.arraycopy(src, 0, dst, 0, src.length);
+            }
+            if(comparator == null || comparator == PrimitiveComparator.naturalOrderInt()) PrimitiveRadixSort.sort(dst, 0, dst.length, parallelism);
+            else if(comparator == PrimitiveComparator.reverseOrderInt()) {
+                PrimitiveRadixSort.sort(dst, 0, dst.length, parallelism);
+                PrimitiveArrays.reverse(dst);
+            } else jdk.prim.util.sort.dualpivot.OfInt.sort(dst, comparator, parallelism, 0, dst.length);
+        }
+        public void sort(int[] src, int[] dst) { sort(src, null, dst); }
+    }
+    private static class OfFloat implements PrimitiveSorter.OfFloat {
+        private final int parallelism;
+        private OfFloat(int parallelism) {
+            this.parallelism = parallelism;
+        }
+        public List<Algorithm> getAlgorithms() { return List.of(Algorithm.RADIX, Algorithm.QUICK); }
+        public void sort(float[] src, PrimitiveComparator.OfFloat comparator, float[] dst) {
+            if(dst == null) dst = src;
+            else {
+                if(dst.length != src.length) dst = new float[src.length];
+                System.arraycopy(src, 0, dst, 0, src.length);
+            }
+            if(comparator == null || comparator == PrimitiveComparator.naturalOrderFloat()) PrimitiveRadixSort.sort(dst, 0, dst.length, parallelism);
+            else if(comparator == PrimitiveComparator.reverseOrderFloat()) {
+                PrimitiveRadixSort.sort(dst, 0, dst.length, parallelism);
+                PrimitiveArrays.reverse(dst);
+            } else jdk.prim.util.sort.dualpivot.OfFloat.sort(dst, comparator, parallelism, 0, dst.length);
+        }
+        public void sort(float[] src, float[] dst) { sort(src, null, dst); }
+    }
+}
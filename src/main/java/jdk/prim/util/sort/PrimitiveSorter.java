@@ -51,54 +51,189 @@ public interface PrimitiveSorter<A, C extends PrimitiveComparator<?>> {
          *      sort</a>
          */
         BUBBLE,
+        /**
+         * Represents Radix sort algorithms
+         *
+         * @see <a href="https://en.wikipedia.org/wiki/Radix_sort">Wikipedia's Radix
+         *      sort</a>
+         */
+        RADIX,
     }
 
     /**
      * A {@link PrimitiveSorter} that sorts {@code double} arrays
      */
     interface OfDouble extends PrimitiveSorter<double[], PrimitiveComparator.OfDouble> {
+        /**
+         * Returns the permutation that stably sorts the given keys by the given
+         * comparator, leaving the keys as they are.
+         * 
+         * @param keys       the keys to be sorted
+         * @param comparator the comparator to be applied to provide ordering to the
+         *                   keys, or {@code null} for the natural order
+         * @param dst        the array in which to store the indices of the keys in
+         *                   sorted order, or {@code null}
+         * @return {@code dst}, or a new array if {@code dst} is {@code null} or not as
+         *         long as {@code keys}
+         * @see PrimitiveArgSort
+         */
+        default int[] argsort(double[] keys, PrimitiveComparator.OfDouble comparator, int[] dst) {
+            return PrimitiveArgSort.argsort(keys, comparator, dst);
+        }
     }
 
     /**
      * A {@link PrimitiveSorter} that sorts {@code long} arrays
      */
     interface OfLong extends PrimitiveSorter<long[], PrimitiveComparator.OfLong> {
+        /**
+         * Returns the permutation that stably sorts the given keys by the given
+         * comparator, leaving the keys as they are.
+         * 
+         * @param keys       the keys to be sorted
+         * @param comparator the comparator to be applied to provide ordering to the
+         *                   keys, or {@code null} for the natural order
+         * @param dst        the array in which to store the indices of the keys in
+         *                   sorted order, or {@code null}
+         * @return {@code dst}, or a new array if {@code dst} is {@code null} or not as
+         *         long as {@code keys}
+         * @see PrimitiveArgSort
+         */
+        default int[] argsort(long[] keys, PrimitiveComparator.OfLong comparator, int[] dst) {
+            return PrimitiveArgSort.argsort(keys, comparator, dst);
+        }
     }
 
     /**
      * A {@link PrimitiveSorter} that sorts {@code int} arrays
      */
     interface OfInt extends PrimitiveSorter<int[], PrimitiveComparator.OfInt> {
+        /**
+         * Returns the permutation that stably sorts the given keys by the given
+         * comparator, leaving the keys as they are.
+         * 
+         * @param keys       the keys to be sorted
+         * @param comparator the comparator to be applied to provide ordering to the
+         *                   keys, or {@code null} for the natural order
+         * @param dst        the array in which to store the indices of the keys in
+         *                   sorted order, or {@code null}
+         * @return {@code dst}, or a new array if {@code dst} is {@code null} or not as
+         *         long as {@code keys}
+         * @see PrimitiveArgSort
+         */
+        default int[] argsort(int[] keys, PrimitiveComparator.OfInt comparator, int[] dst) {
+            return PrimitiveArgSort.argsort(keys, comparator, dst);
+        }
     }
 
     /**
      * A {@link PrimitiveSorter} that sorts {@code float} arrays
      */
     interface OfFloat extends PrimitiveSorter<float[], PrimitiveComparator.OfFloat> {
+        /**
+         * Returns the permutation that stably sorts the given keys by the given
+         * comparator, leaving the keys as they are.
+         * 
+         * @param keys       the keys to be sorted
+         * @param comparator the comparator to be applied to provide ordering to the
+         *                   keys, or {@code null} for the natural order
+         * @param dst        the array in which to store the indices of the keys in
+         *                   sorted order, or {@code null}
+         * @return {@code dst}, or a new array if {@code dst} is {@code null} or not as
+         *         long as {@code keys}
+         * @see PrimitiveArgSort
+         */
+        default int[] argsort(float[] keys, PrimitiveComparator.OfFloat comparator, int[] dst) {
+            return PrimitiveArgSort.argsort(keys, comparator, dst);
+        }
     }
 
     /**
      * A {@link PrimitiveSorter} that sorts {@code char} arrays
      */
     interface OfChar extends PrimitiveSorter<char[], PrimitiveComparator.OfChar> {
+        /**
+         * Returns the permutation that stably sorts the given keys by the given
+         * comparator, leaving the keys as they are.
+         * 
+         * @param keys       the keys to be sorted
+         * @param comparator the comparator to be applied to provide ordering to the
+         *                   keys, or {@code null} for the natural order
+         * @param dst        the array in which to store the indices of the keys in
+         *                   sorted order, or {@code null}
+         * @return {@code dst}, or a new array if {@code dst} is {@code null} or not as
+         *         long as {@code keys}
+         * @see PrimitiveArgSort
+         */
+        default int[] argsort(char[] keys, PrimitiveComparator.OfChar comparator, int[] dst) {
+            return PrimitiveArgSort.argsort(keys, comparator, dst);
+        }
     }
 
     /**
      * A {@link PrimitiveSorter} that sorts {@code short} arrays
      */
     interface OfShort extends PrimitiveSorter<short[], PrimitiveComparator.OfShort> {
+        /**
+         * Returns the permutation that stably sorts the given keys by the given
+         * comparator, leaving the keys as they are.
+         * 
+         * @param keys       the keys to be sorted
+         * @param comparator the comparator to be applied to provide ordering to the
+         *                   keys, or {@code null} for the natural order
+         * @param dst        the array in which to store the indices of the keys in
+         *                   sorted order, or {@code null}
+         * @return {@code dst}, or a new array if {@code dst} is {@code null} or not as
+         *         long as {@code keys}
+         * @see PrimitiveArgSort
+         */
+        default int[] argsort(short[] keys, PrimitiveComparator.OfShort comparator, int[] dst) {
+            return PrimitiveArgSort.argsort(keys, comparator, dst);
+        }
     }
 
     /**
      * A {@link PrimitiveSorter} that sorts {@code byte} arrays
      */
     interface OfByte extends PrimitiveSorter<byte[], PrimitiveComparator.OfByte> {
+        /**
+         * Returns the permutation that stably sorts the given keys by the given
+         * comparator, leaving the keys as they are.
+         * 
+         * @param keys       the keys to be sorted
+         * @param comparator the comparator to be applied to provide ordering to the
+         *                   keys, or {@code null} for the natural order
+         * @param dst        the array in which to store the indices of the keys in
+         *                   sorted order, or {@code null}
+         * @return {@code dst}, or a new array if {@code dst} is {@code null} or not as
+         *         long as {@code keys}
+         * @see PrimitiveArgSort
+         */
+        default int[] argsort(byte[] keys, PrimitiveComparator.OfByte comparator, int[] dst) {
+            return PrimitiveArgSort.argsort(keys, comparator, dst);
+        }
     }
 
     /**
      * A {@link PrimitiveSorter} that sorts {@code boolean} arrays
      */
     interface OfBoolean extends PrimitiveSorter<boolean[], PrimitiveComparator.OfBoolean> {
+        /**
+         * Returns the permutation that stably sorts the given keys by the given
+         * comparator, leaving the keys as they are.
+         * 
+         * @param keys       the keys to be sorted
+         * @param comparator the comparator to be applied to provide ordering to the
+         *                   keys, or {@code null} for the natural order
+         * @param dst        the array in which to store the indices of the keys in
+         *                   sorted order, or {@code null}
+         * @return {@code dst}, or a new array if {@code dst} is {@code null} or not as
+         *         long as {@code keys}
+         * @see PrimitiveArgSort
+         */
+        default int[] argsort(boolean[] keys, PrimitiveComparator.OfBoolean comparator, int[] dst) {
+            return PrimitiveArgSort.argsort(keys, comparator, dst);
+        }
     }
 
     /**
@@ -86,6 +86,7 @@ module jdk.primitives {
     exports jdk.prim.util.concurrent;
     exports jdk.prim.util.function;
     exports jdk.prim.util.map;
+    exports jdk.prim.util.sort;
     exports jdk.prim.util.stream;
     requires jdk.unsupported;// Used by the jdk.prim.util.dualpivot package
     requires java.logging;//Only used by the test environment
@@ -1,11 +1,41 @@
 package prim.test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.random.RandomGenerator;
 import java.util.SplittableRandom;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
@@ -13,8 +43,36 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 
+import jdk.prim.util.PrimitiveArrayDeque;
+import jdk.prim.util.PrimitiveArrayList;
+import jdk.prim.util.PrimitiveBTreeSet;
+import jdk.prim.util.PrimitiveBitmapSet;
+import jdk.prim.util.PrimitiveComparator;
+import jdk.prim.util.PrimitiveGapBuffer;
+import jdk.prim.util.PrimitiveHashSet;
+import jdk.prim.util.PrimitiveIndexedPriorityQueue;
+import jdk.prim.util.PrimitiveIterator;
+import jdk.prim.util.PrimitiveLinkedHashSet;
+import jdk.prim.util.PrimitiveList;
+import jdk.prim.util.PrimitiveListIterator;
+import jdk.prim.util.PrimitivePriorityQueue;
+import jdk.prim.util.PrimitiveRangeSet;
+import jdk.prim.util.PrimitiveRoaringSet;
+import jdk.prim.util.PrimitiveRope;
+import jdk.prim.util.PrimitiveSet;
+import jdk.prim.util.PrimitiveSparseList;
+import jdk.prim.util.PrimitiveUnrolledLinkedList;
+import jdk.prim.util.map.PrimitiveCache;
+import jdk.prim.util.map.PrimitiveConcurrentHashMap;
+import jdk.prim.util.map.PrimitiveCounter;
+import jdk.prim.util.map.PrimitiveHashMap;
+import jdk.prim.util.map.PrimitiveMultimap;
+import jdk.prim.util.sort.PrimitiveArgSort;
 import jdk.prim.util.sort.PrimitiveBasicQuickSort;
+import jdk.prim.util.sort.PrimitiveCoSort;
+import jdk.prim.util.sort.PrimitiveMergeSort;
 import jdk.prim.util.sort.PrimitiveNaiveQuickSort;
+import jdk.prim.util.sort.PrimitiveRadixSort;
 
 // import jdk.prim.Main;
 
@@ -289,9 +347,1128 @@ public class MainTest {
     void basicBooleanQuickSort() {
         LOGGER.info("Starting basic quick sort for booleans");
         final boolean[] expected = new boolean[BOOLEAN.length];
-        System.arraycopy(BOOLEAN, 0, expected, 0, BOOLEAN.length);
+        int falses = 0;
+        for (boolean b : BOOLEAN) if (!b) falses++;
+        Arrays.fill(expected, falses, expected.length, true);
         PrimitiveBasicQuickSort.ofBoolean().sort(BOOLEAN, Boolean::compare, null);
         assertArrayEquals(expected, BOOLEAN);
     }
 
+    /**Length of the arrays given to the radix sorts, above the size at which they give way to quick sort*/
+    static final int RADIX_LENGTH = 1 << 12;
+    /**Length of the arrays given to the parallel radix sorts, several chunks of uneven size each*/
+    static final int PARALLEL_RADIX_LENGTH = (1 << 18) + 12345;
+
+    @Test
+    @Order(16)
+    @DisplayName("Radix sort for double arrays")
+    void radixDoubleSort() {
+        LOGGER.info("Starting radix sort for doubles");
+        RandomGenerator random = new SplittableRandom();
+        final double[] actual = new double[RADIX_LENGTH];
+        for (int i = 0; i < actual.length; i++) actual[i] = random.nextInt(8) == 0 ? -0.0 : random.nextInt(8) == 0 ? Double.NaN : random.nextGaussian();
+        final double[] expected = Arrays.copyOf(actual, actual.length);
+        Arrays.sort(expected);
+        PrimitiveRadixSort.ofDouble(4).sort(actual, null);
+        assertArrayEquals(expected, actual);
+    }
+    @Test
+    @Order(17)
+    @DisplayName("Radix sort for long arrays")
+    void radixLongSort() {
+        LOGGER.info("Starting radix sort for longs");
+        RandomGenerator random = new SplittableRandom();
+        final long[] actual = new long[RADIX_LENGTH];
+        for (int i = 0; i < actual.length; i++) actual[i] = random.nextBoolean() ? random.nextLong() : random.nextLong(-1000, 1000);
+        final long[] expected = Arrays.copyOf(actual, actual.length);
+        Arrays.sort(expected);
+        PrimitiveRadixSort.ofLong(4).sort(actual, null);
+        assertArrayEquals(expected, actual);
+    }
+    @Test
+    @Order(18)
+    @DisplayName("Radix sort for int arrays")
+    void radixIntSort() {
+        LOGGER.info("Starting radix sort for ints");
+        RandomGenerator random = new SplittableRandom();
+        final int[] actual = new int[RADIX_LENGTH];
+        for (int i = 0; i < actual.length; i++) actual[i] = random.nextInt();
+        final int[] expected = Arrays.copyOf(actual, actual.length);
+        Arrays.sort(expected);
+        PrimitiveRadixSort.ofInt(4).sort(actual, null);
+        assertArrayEquals(expected, actual);
+    }
+    @Test
+    @Order(19)
+    @DisplayName("Radix sort for float arrays")
+    void radixFloatSort() {
+        LOGGER.info("Starting radix sort for floats");
+        RandomGenerator random = new SplittableRandom();
+        final float[] actual = new float[RADIX_LENGTH];
+        for (int i = 0; i < actual.length; i++) actual[i] = random.nextInt(8) == 0 ? Float.NaN : (float) random.nextGaussian();
+        final float[] expected = Arrays.copyOf(actual, actual.length);
+        Arrays.sort(expected);
+        PrimitiveRadixSort.ofFloat(4).sort(actual, null);
+        assertArrayEquals(expected, actual);
+    }
+    @Test
+    @Order(20)
+    @DisplayName("Stable merge sort for long arrays")
+    void mergeLongSort() {
+        LOGGER.info("Starting merge sort for longs");
+        RandomGenerator random = new SplittableRandom();
+        // the sort key is in the high half and the original index in the low half
+        final long[] actual = new long[1 << 16];
+        for (int i = 0; i < actual.length; i++) actual[i] = ((long) random.nextInt(64) << 32) | i;
+        final long[] expected = Arrays.stream(actual).boxed()
+                .sorted((x, y) -> Long.compare(x >> 32, y >> 32)).mapToLong(Long::longValue).toArray();
+        PrimitiveMergeSort.ofLong(4).sort(actual, (x, y) -> Long.compare(x >> 32, y >> 32), null);
+        assertArrayEquals(expected, actual);
+    }
+    @Test
+    @Order(21)
+    @DisplayName("Argsort for float arrays")
+    void argsortFloat() {
+        LOGGER.info("Starting argsort for floats");
+        RandomGenerator random = new SplittableRandom();
+        final float[] keys = new float[RADIX_LENGTH];
+        for (int i = 0; i < keys.length; i++) keys[i] = random.nextInt(8) == 0 ? Float.NaN : random.nextInt(64) - 32;
+        final int[] expected = IntStream.range(0, keys.length).boxed()
+                .sorted((x, y) -> Float.compare(keys[x], keys[y])).mapToInt(Integer::intValue).toArray();
+        assertArrayEquals(expected, PrimitiveArgSort.parallelArgsort(keys, null, null));
+    }
+    @Test
+    @Order(22)
+    @DisplayName("Co-sort of long keys with an int payload")
+    void coSortLongInt() {
+        LOGGER.info("Starting co-sort of longs with ints");
+        RandomGenerator random = new SplittableRandom();
+        final long[] keys = new long[RADIX_LENGTH];
+        final int[] payload = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong(keys.length);
+            payload[i] = i;
+        }
+        final long[] original = Arrays.copyOf(keys, keys.length);
+        final long[] expected = Arrays.copyOf(keys, keys.length);
+        Arrays.sort(expected);
+        PrimitiveCoSort.parallelSort(keys, payload);
+        assertArrayEquals(expected, keys);
+        final long[] carried = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) carried[i] = original[payload[i]];
+        assertArrayEquals(keys, carried);
+    }
+    @Test
+    @Order(23)
+    @DisplayName("Array list of ints against java.util.ArrayList")
+    void arrayListInt() {
+        LOGGER.info("Starting array list for ints");
+        RandomGenerator random = new SplittableRandom();
+        final PrimitiveArrayList.OfInt actual = new PrimitiveArrayList.OfInt();
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 4096; i++) {
+            final int e = random.nextInt(64);
+            switch (random.nextInt(4)) {
+                case 0 -> assertEquals(expected.add(e), actual.addInt(e));
+                case 1 -> {
+                    final int at = random.nextInt(expected.size() + 1);
+                    expected.add(at, e);
+                    actual.addInt(at, e);
+                }
+                case 2 -> {
+                    if (!expected.isEmpty()) {
+                        final int at = random.nextInt(expected.size());
+                        assertEquals((long) expected.remove(at), actual.removeElementAtIndex(at));
+                    }
+                }
+                default -> assertEquals(expected.remove((Integer) e), actual.removeInt(e));
+            }
+        }
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual.toArrayInt());
+        assertEquals(expected.indexOf(7), actual.indexOfInt(7));
+        assertEquals(expected.lastIndexOf(7), actual.lastIndexOfInt(7));
+        assertEquals(expected.removeIf(e -> e % 3 == 0), actual.removeIfInt(e -> e % 3 == 0));
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual.toArrayInt());
+        expected.subList(8, 24).removeIf(e -> e % 2 == 0);
+        actual.subListInt(8, 24).removeIfInt(e -> e % 2 == 0);
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual.toArrayInt());
+    }
+    @Test
+    @Order(24)
+    @DisplayName("Bulk removal from an array list with a throwing predicate")
+    void arrayListRemoveIfThrowing() {
+        LOGGER.info("Starting array list bulk removal with a throwing predicate");
+        final int[] values = IntStream.range(0, 256).toArray();
+        final PrimitiveArrayList.OfInt list = new PrimitiveArrayList.OfInt(values, 0, values.length);
+        assertThrows(IllegalStateException.class, () -> list.removeIfInt(e -> {
+            if (e == 200) throw new IllegalStateException();
+            return e % 2 == 0;
+        }));
+        assertArrayEquals(values, list.toArrayInt());
+    }
+    @Test
+    @Order(25)
+    @DisplayName("Hash sets of longs and doubles against java.util.HashSet")
+    void hashSetLongDouble() {
+        LOGGER.info("Starting hash sets for longs and doubles");
+        RandomGenerator random = new SplittableRandom();
+        final PrimitiveHashSet.OfLong actual = new PrimitiveHashSet.OfLong();
+        final Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 1 << 14; i++) {
+            // keep zero in the mix, it lives outside the table
+            final long e = random.nextLong(-512, 512) << 40;
+            if (random.nextBoolean()) assertEquals(expected.add(e), actual.addLong(e));
+            else assertEquals(expected.remove(e), actual.removeLong(e));
+            assertEquals(expected.size(), actual.size());
+        }
+        for (PrimitiveIterator.OfLong it = actual.iteratorLong(); it.hasNext();) {
+            final long e = it.nextLong();
+            assertTrue(expected.contains(e));
+            if (e % 3 == 0) it.remove();
+        }
+        expected.removeIf(e -> e % 3 == 0);
+        assertEquals(expected.removeIf(e -> e < 0), actual.removeIfLong(e -> e < 0));
+        final long[] sorted = actual.toArrayLong();
+        Arrays.sort(sorted);
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).sorted().toArray(), sorted);
+
+        // NaNs are one element, the two zeros are not, as in Double.equals
+        final double[] specials = {0.0, -0.0, Double.NaN, Double.longBitsToDouble(0x7ff8000000000001L), 1.0};
+        final PrimitiveHashSet.OfDouble doubles = new PrimitiveHashSet.OfDouble();
+        final Set<Double> boxed = new HashSet<>();
+        for (double e : specials) assertEquals(boxed.add(e), doubles.addDouble(e));
+        assertEquals(boxed.size(), doubles.size());
+        assertEquals(boxed.remove(-0.0), doubles.removeDouble(-0.0));
+        assertTrue(doubles.containsDouble(0.0));
+        assertFalse(doubles.containsDouble(-0.0));
+        assertEquals(boxed.size(), doubles.size());
+    }
+    @Test
+    @Order(26)
+    @DisplayName("Long-keyed hash map against java.util.HashMap")
+    void hashMapLong() {
+        LOGGER.info("Starting hash map for long keys");
+        RandomGenerator random = new SplittableRandom();
+        final PrimitiveHashMap.OfLong<String> actual = new PrimitiveHashMap.OfLong<>();
+        final Map<Long, String> expected = new HashMap<>();
+        for (int i = 0; i < 1 << 14; i++) {
+            final long k = random.nextLong(-256, 256);
+            switch (random.nextInt(4)) {
+                case 0 -> assertEquals(expected.put(k, "v" + i), actual.putLong(k, "v" + i));
+                case 1 -> assertEquals(expected.remove(k), actual.removeLong(k));
+                case 2 -> assertEquals(expected.computeIfAbsent(k, x -> "c" + x), actual.computeIfAbsentLong(k, x -> "c" + x));
+                default -> {
+                    assertEquals(expected.containsKey(k), actual.containsKeyLong(k));
+                    assertEquals(expected.get(k), actual.getLong(k));
+                }
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        // the boxed views see the same mappings
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        assertEquals(expected.hashCode(), actual.hashCode());
+        actual.entrySet().removeIf(en -> en.getKey() % 2 == 0);
+        expected.entrySet().removeIf(en -> en.getKey() % 2 == 0);
+        assertEquals(expected, actual);
+    }
+    @Test
+    @Order(27)
+    @DisplayName("Primitive-valued hash maps against java.util.HashMap")
+    void hashMapLongLongIntDouble() {
+        LOGGER.info("Starting hash maps with primitive values");
+        RandomGenerator random = new SplittableRandom();
+        final PrimitiveHashMap.OfLong.AndLong actual = new PrimitiveHashMap.OfLong.AndLong();
+        final Map<Long, Long> expected = new HashMap<>();
+        for (int i = 0; i < 1 << 14; i++) {
+            final long k = random.nextLong(-256, 256), v = random.nextLong();
+            switch (random.nextInt(4)) {
+                case 0 -> assertEquals(Objects.requireNonNullElse(expected.put(k, v), 0L), (Long) actual.putLong(k, v));
+                case 1 -> assertEquals(Objects.requireNonNullElse(expected.remove(k), -1L), (Long) actual.removeOrDefaultLong(k, -1));
+                case 2 -> assertEquals(expected.merge(k, v, Long::sum), (Long) actual.addToLong(k, v));
+                default -> assertEquals(expected.getOrDefault(k, -1L), (Long) actual.getOrDefaultLong(k, -1));
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertEquals(expected, actual);
+        final Map<Long, Long> seen = new HashMap<>();
+        actual.forEachLong((k, v) -> assertNull(seen.put(k, v)));
+        assertEquals(expected, seen);
+
+        final PrimitiveHashMap.OfInt.AndDouble sums = new PrimitiveHashMap.OfInt.AndDouble();
+        final Map<Integer, Double> boxed = new HashMap<>();
+        for (int i = 0; i < 1 << 12; i++) {
+            final int k = random.nextInt(64);
+            final double v = random.nextInt(16);
+            assertEquals(boxed.merge(k, v, Double::sum), (Double) sums.addToInt(k, v));
+        }
+        assertEquals(boxed, sums);
+        for (int k : sums.keySet()) assertEquals(boxed.get(k), (Double) sums.getOrDefaultInt(k, Double.NaN));
+    }
+    @Test
+    @Order(28)
+    @DisplayName("Array deque of ints against java.util.ArrayDeque")
+    void arrayDequeInt() {
+        LOGGER.info("Starting array deque for ints");
+        RandomGenerator random = new SplittableRandom();
+        final PrimitiveArrayDeque.OfInt actual = new PrimitiveArrayDeque.OfInt();
+        final Deque<Integer> expected = new ArrayDeque<>();
+        for (int i = 0; i < 1 << 14; i++) {
+            final int e = random.nextInt(64);
+            switch (random.nextInt(5)) {
+                case 0 -> { expected.addFirst(e); actual.addFirstInt(e); }
+                case 1 -> { expected.addLast(e); actual.addLastInt(e); }
+                case 2 -> { if (!expected.isEmpty()) assertEquals((long) expected.pollFirst(), actual.pollFirstInt()); }
+                case 3 -> { if (!expected.isEmpty()) assertEquals((long) expected.pollLast(), actual.pollLastInt()); }
+                default -> assertEquals(expected.removeLastOccurrence(e), actual.removeLastOccurrenceInt(e));
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual.toArrayInt());
+        assertEquals(expected.removeIf(e -> e % 3 == 0), actual.removeIfInt(e -> e % 3 == 0));
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual.toArrayInt());
+
+        // a throwing predicate leaves a wrapped-around deque as it was
+        final PrimitiveArrayDeque.OfInt deque = new PrimitiveArrayDeque.OfInt();
+        for (int i = 0; i < 100; i++) deque.addLastInt(i);
+        for (int i = -1; i >= -50; i--) deque.addFirstInt(i);
+        final int[] before = deque.toArrayInt();
+        assertThrows(IllegalStateException.class, () -> deque.removeIfInt(e -> {
+            if (e == 75) throw new IllegalStateException();
+            return e % 2 == 0;
+        }));
+        assertArrayEquals(before, deque.toArrayInt());
+        assertThrows(IllegalStateException.class, () -> deque.reversedInt().removeIfInt(e -> {
+            if (e == 75) throw new IllegalStateException();
+            return e % 2 == 0;
+        }));
+        assertArrayEquals(before, deque.toArrayInt());
+    }
+    @Test
+    @Order(29)
+    @DisplayName("Priority queue of ints against java.util.PriorityQueue")
+    void priorityQueueInt() {
+        LOGGER.info("Starting priority queue for ints");
+        RandomGenerator random = new SplittableRandom();
+        final PrimitivePriorityQueue.OfInt actual = new PrimitivePriorityQueue.OfInt((x, y) -> Integer.compare(y, x));
+        final PriorityQueue<Integer> expected = new PriorityQueue<>(Comparator.reverseOrder());
+        for (int i = 0; i < 1 << 14; i++) {
+            final int e = random.nextInt(1024);
+            if (random.nextInt(3) != 0) assertEquals(expected.offer(e), actual.offerInt(e));
+            else if (!expected.isEmpty()) assertEquals((long) expected.poll(), actual.pollInt());
+            if (!expected.isEmpty()) assertEquals((long) expected.peek(), actual.peekInt());
+        }
+        assertEquals(expected.removeIf(e -> e % 3 == 0), actual.removeIfInt(e -> e % 3 == 0));
+        while (!expected.isEmpty()) assertEquals((long) expected.poll(), actual.pollInt());
+        assertTrue(actual.isEmpty());
+
+        // a throwing predicate leaves the heap as it was
+        final PrimitivePriorityQueue.OfInt queue = new PrimitivePriorityQueue.OfInt();
+        for (int i = 0; i < 256; i++) queue.offerInt(random.nextInt(1024));
+        final int[] before = queue.toArrayInt();
+        assertThrows(IllegalStateException.class, () -> queue.removeIfInt(e -> {
+            if (e > 900) throw new IllegalStateException();
+            return e % 2 == 0;
+        }));
+        assertArrayEquals(before, queue.toArrayInt());
+    }
+    @Test
+    @Order(30)
+    @DisplayName("Indexed priority queue with long priorities against a map of ids")
+    void indexedPriorityQueueLong() {
+        LOGGER.info("Starting indexed priority queue for longs");
+        RandomGenerator random = new SplittableRandom();
+        final int capacity = 512;
+        final PrimitiveIndexedPriorityQueue.OfLong actual = new PrimitiveIndexedPriorityQueue.OfLong(capacity);
+        final Map<Integer, Long> expected = new HashMap<>();
+        for (int i = 0; i < 1 << 14; i++) {
+            final int id = random.nextInt(capacity);
+            final long priority = random.nextLong(1 << 20);
+            final Long current = expected.get(id);
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    assertEquals(current == null || priority < current, actual.insertOrDecrease(id, priority));
+                    if (current == null || priority < current) expected.put(id, priority);
+                }
+                case 1 -> {
+                    if (current == null) assertThrows(NoSuchElementException.class, () -> actual.increaseKey(id, priority));
+                    else if (priority < current) assertThrows(IllegalArgumentException.class, () -> actual.increaseKey(id, priority));
+                    else {
+                        actual.increaseKey(id, priority);
+                        expected.put(id, priority);
+                    }
+                }
+                case 2 -> assertEquals(expected.remove(id) != null, actual.remove(id));
+                default -> {
+                    if (expected.isEmpty()) assertThrows(NoSuchElementException.class, actual::pollMinId);
+                    else {
+                        final long min = Collections.min(expected.values());
+                        assertEquals(min, actual.peekMinPriority());
+                        final int polled = actual.pollMinId();
+                        assertEquals((Long) min, expected.remove(polled));
+                    }
+                }
+            }
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expected.containsKey(id), actual.contains(id));
+            if (expected.containsKey(id)) assertEquals((long) expected.get(id), actual.priorityOf(id));
+        }
+        long last = Long.MIN_VALUE;
+        while (!actual.isEmpty()) {
+            final long priority = actual.peekMinPriority();
+            assertTrue(last <= priority);
+            expected.remove(actual.pollMinId());
+            last = priority;
+        }
+        assertTrue(expected.isEmpty());
+    }
+    @Test
+    @Order(31)
+    @DisplayName("B+-tree set of longs against java.util.TreeSet")
+    void bTreeSetLong() {
+        LOGGER.info("Starting B+-tree set for longs");
+        RandomGenerator random = new SplittableRandom();
+        final PrimitiveBTreeSet.OfLong actual = new PrimitiveBTreeSet.OfLong();
+        final TreeSet<Long> expected = new TreeSet<>();
+        for (int i = 0; i < 1 << 15; i++) {
+            final long e = random.nextLong(1 << 14);
+            if (random.nextInt(3) != 0) assertEquals(expected.add(e), actual.addLong(e));
+            else assertEquals(expected.remove(e), actual.removeLong(e));
+        }
+        assertEquals(expected.size(), actual.size());
+        final long[] elements = new long[actual.size()];
+        int n = 0;
+        for (PrimitiveIterator.OfLong it = actual.iteratorLong(); it.hasNext();) elements[n++] = it.nextLong();
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).toArray(), elements);
+        for (int i = 0; i < 1024; i++) {
+            final long e = random.nextLong(-16, (1 << 14) + 16);
+            assertEquals(expected.ceiling(e), actual.ceiling(e));
+            assertEquals(expected.floor(e), actual.floor(e));
+            assertEquals(expected.higher(e), actual.higher(e));
+            assertEquals(expected.lower(e), actual.lower(e));
+            final long to = e + random.nextInt(512);
+            assertEquals(expected.subSet(e, true, to, false).size(), actual.subSetLong(e, true, to, false).size());
+            assertEquals(expected.headSet(e, true).size(), actual.headSetLong(e, true).size());
+        }
+
+        // past either end the unboxed navigation throws while the boxed one returns null
+        final long first = actual.firstLong(), last = actual.lastLong();
+        assertNull(actual.lower(first));
+        assertNull(actual.higher(last));
+        assertThrows(NoSuchElementException.class, () -> actual.lowerLong(first));
+        assertThrows(NoSuchElementException.class, () -> actual.floorLong(first - 1));
+        assertThrows(NoSuchElementException.class, () -> actual.higherLong(last));
+        assertThrows(NoSuchElementException.class, () -> actual.ceilingLong(last + 1));
+        actual.clear();
+        assertEquals(0L, actual.pollFirstLong());
+        assertEquals(0L, actual.pollLastLong());
+        assertNull(actual.pollFirst());
+    }
+    @Test
+    @Order(32)
+    @DisplayName("Bitmap set of shorts against java.util.BitSet")
+    void bitmapSetShort() {
+        LOGGER.info("Starting bitmap set for shorts");
+        RandomGenerator random = new SplittableRandom();
+        final PrimitiveBitmapSet.OfShort actual = new PrimitiveBitmapSet.OfShort();
+        final BitSet expected = new BitSet(1 << 16);
+        for (int i = 0; i < 1 << 12; i++) {
+            final short e = (short) random.nextInt();
+            final int at = e - Short.MIN_VALUE;
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    assertEquals(!expected.get(at), actual.addShort(e));
+                    expected.set(at);
+                }
+                case 1 -> {
+                    assertEquals(expected.get(at), actual.removeShort(e));
+                    expected.clear(at);
+                }
+                default -> {
+                    // half-open like BitSet.set(from, to)
+                    final short to = (short) Math.min(e + random.nextInt(200), Short.MAX_VALUE);
+                    final int before = expected.cardinality();
+                    expected.set(at, to - Short.MIN_VALUE);
+                    assertEquals(before != expected.cardinality(), actual.addRangeShort(e, to));
+                }
+            }
+            assertEquals(expected.cardinality(), actual.size());
+        }
+        for (int v = Short.MIN_VALUE; v <= Short.MAX_VALUE; v++) assertEquals(expected.get(v - Short.MIN_VALUE), actual.containsShort((short) v));
+        assertFalse(actual.addRangeShort((short) 5, (short) 5));
+        assertThrows(IllegalArgumentException.class, () -> actual.addRangeShort((short) 5, (short) 4));
+        final PrimitiveBitmapSet.OfShort range = new PrimitiveBitmapSet.OfShort();
+        range.addRangeShort(Short.MIN_VALUE, Short.MAX_VALUE);
+        assertEquals((1 << 16) - 1, range.size());
+        assertFalse(range.containsShort(Short.MAX_VALUE));
+        assertTrue(range.addShort(Short.MAX_VALUE));
+
+        final short[] sorted = actual.toArrayShort();
+        Arrays.sort(sorted);
+        final short[] bits = new short[expected.cardinality()];
+        int n = 0;
+        for (int i = expected.nextSetBit(0); i >= 0; i = expected.nextSetBit(i + 1)) bits[n++] = (short) (i + Short.MIN_VALUE);
+        assertArrayEquals(bits, sorted);
+        actual.removeIfShort(e -> e % 2 == 0);
+        for (int i = expected.nextSetBit(0); i >= 0; i = expected.nextSetBit(i + 1)) if ((i + Short.MIN_VALUE) % 2 == 0) expected.clear(i);
+        assertEquals(expected.cardinality(), actual.size());
+    }
+    @Test
+    @Order(33)
+    @DisplayName("Roaring set of ints against java.util.TreeSet")
+    void roaringSetInt() {
+        LOGGER.info("Starting roaring set for ints");
+        RandomGenerator random = new SplittableRandom();
+        final PrimitiveRoaringSet.OfInt[] actual = {new PrimitiveRoaringSet.OfInt(), new PrimitiveRoaringSet.OfInt()};
+        final List<TreeSet<Integer>> expected = List.of(new TreeSet<>(), new TreeSet<>());
+        for (int s = 0; s < 2; s++) {
+            for (int i = 0; i < 1 << 14; i++) {
+                // a few chunks around zero, dense enough to turn some containers into bitmaps
+                final int e = random.nextInt(-3 << 16, 3 << 16);
+                switch (random.nextInt(8)) {
+                    case 0 -> assertEquals(expected.get(s).remove(e), actual[s].removeInt(e));
+                    case 1 -> {
+                        // half-open like BitSet.set(from, to)
+                        final int to = e + random.nextInt(1 << 12);
+                        final int before = expected.get(s).size();
+                        for (int v = e; v < to; v++) expected.get(s).add(v);
+                        assertEquals(before != expected.get(s).size(), actual[s].addRangeInt(e, to));
+                    }
+                    default -> assertEquals(expected.get(s).add(e), actual[s].addInt(e));
+                }
+            }
+            assertArrayEquals(expected.get(s).stream().mapToInt(Integer::intValue).toArray(), actual[s].toArrayInt());
+        }
+        final TreeSet<Integer> a = expected.get(0), b = expected.get(1);
+        final TreeSet<Integer> and = new TreeSet<>(a), or = new TreeSet<>(a), andNot = new TreeSet<>(a), xor = new TreeSet<>(a);
+        and.retainAll(b);
+        or.addAll(b);
+        andNot.removeAll(b);
+        xor.addAll(b);
+        xor.removeAll(and);
+        assertArrayEquals(and.stream().mapToInt(Integer::intValue).toArray(), PrimitiveRoaringSet.OfInt.and(actual[0], actual[1]).toArrayInt());
+        assertArrayEquals(or.stream().mapToInt(Integer::intValue).toArray(), PrimitiveRoaringSet.OfInt.or(actual[0], actual[1]).toArrayInt());
+        assertArrayEquals(andNot.stream().mapToInt(Integer::intValue).toArray(), PrimitiveRoaringSet.OfInt.andNot(actual[0], actual[1]).toArrayInt());
+        assertArrayEquals(xor.stream().mapToInt(Integer::intValue).toArray(), PrimitiveRoaringSet.OfInt.xor(actual[0], actual[1]).toArrayInt());
+        for (int i = 0; i < 256; i++) {
+            final int e = random.nextInt(-4 << 16, 4 << 16);
+            assertEquals(a.headSet(e, true).size(), actual[0].rank(e));
+            final int j = random.nextInt(a.size());
+            assertEquals(actual[0].rank(actual[0].select(j)), j + 1);
+        }
+        actual[0].runOptimize();
+        final int[] batched = new int[a.size()], buffer = new int[100];
+        int n = 0;
+        final PrimitiveRoaringSet.OfInt.BatchIterator it = actual[0].batchIterator();
+        for (int m; (m = it.nextBatch(buffer)) > 0; n += m) System.arraycopy(buffer, 0, batched, n, m);
+        assertArrayEquals(a.stream().mapToInt(Integer::intValue).toArray(), batched);
+        final PrimitiveRoaringSet.OfInt full = new PrimitiveRoaringSet.OfInt();
+        full.addRangeInt(Integer.MIN_VALUE, Integer.MAX_VALUE);
+        assertEquals((1L << 32) - 1, full.cardinality());
+        assertFalse(full.containsInt(Integer.MAX_VALUE));
+    }
+    @Test
+    @Order(34)
+    @DisplayName("Linked hash set of ints against java.util.LinkedHashSet")
+    void linkedHashSetInt() {
+        LOGGER.info("Starting linked hash set for ints");
+        RandomGenerator random = new SplittableRandom();
+        final PrimitiveLinkedHashSet.OfInt actual = new PrimitiveLinkedHashSet.OfInt();
+        final LinkedHashSet<Integer> expected = new LinkedHashSet<>();
+        for (int i = 0; i < 1 << 14; i++) {
+            final int e = random.nextInt(512);
+            switch (random.nextInt(6)) {
+                case 0 -> { expected.addFirst(e); actual.addFirstInt(e); }
+                case 1 -> { expected.addLast(e); actual.addLastInt(e); }
+                case 2 -> assertEquals(expected.remove(e), actual.removeInt(e));
+                case 3 -> { if (!expected.isEmpty()) assertEquals((long) expected.removeFirst(), actual.removeFirstInt()); }
+                case 4 -> { if (!expected.isEmpty()) assertEquals((long) expected.reversed().removeFirst(), actual.reversedInt().removeFirstInt()); }
+                default -> assertEquals(expected.add(e), actual.addInt(e));
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual.toArrayInt());
+        assertArrayEquals(expected.reversed().stream().mapToInt(Integer::intValue).toArray(), actual.reversedInt().toArrayInt());
+        assertEquals(expected.removeIf(e -> e % 3 == 0), actual.removeIfInt(e -> e % 3 == 0));
+        for (PrimitiveIterator.OfInt it = actual.iteratorInt(); it.hasNext();) if (it.nextInt() % 2 == 0) it.remove();
+        expected.removeIf(e -> e % 2 == 0);
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual.toArrayInt());
+        assertEquals(expected, actual);
+    }
+    @Test
+    @Order(35)
+    @DisplayName("Immutable int lists and sets against List.of and Set.of")
+    void immutableListSetInt() {
+        LOGGER.info("Starting immutable lists and sets for ints");
+        RandomGenerator random = new SplittableRandom();
+        final int[] values = random.ints(256, -64, 64).toArray();
+        final PrimitiveList.OfInt list = PrimitiveList.OfInt.copyOf(values);
+        final List<Integer> expected = List.of(Arrays.stream(values).boxed().toArray(Integer[]::new));
+        values[0]++;
+        assertEquals(expected, list);
+        assertEquals(list, expected);
+        assertEquals(expected.hashCode(), list.hashCode());
+        assertEquals(expected.subList(10, 100), list.subListInt(10, 100));
+        assertEquals(expected.indexOf(7), list.indexOfInt(7));
+        assertEquals(expected.lastIndexOf(7), list.lastIndexOfInt(7));
+        assertSame(list, PrimitiveList.OfInt.copyOf(list));
+        assertThrows(UnsupportedOperationException.class, () -> list.addInt(1));
+        assertThrows(UnsupportedOperationException.class, () -> list.setInt(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> list.removeElementAtIndex(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.removeIfInt(e -> true));
+        assertThrows(UnsupportedOperationException.class, () -> list.subListInt(0, 2).clear());
+
+        final PrimitiveSet.OfInt set = PrimitiveSet.OfInt.copyOf(values);
+        final Set<Integer> distinct = Arrays.stream(values).boxed().collect(Collectors.toSet());
+        assertEquals(distinct, set);
+        assertEquals(set, distinct);
+        assertEquals(distinct.hashCode(), set.hashCode());
+        for (int e = -66; e < 66; e++) assertEquals(distinct.contains(e), set.containsInt(e));
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveSet.OfInt.of(1, 2, 1));
+        assertThrows(UnsupportedOperationException.class, () -> set.addInt(1));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeInt(values[1]));
+        assertTrue(PrimitiveSet.OfInt.of().isEmpty());
+    }
+    @Test
+    @Order(36)
+    @DisplayName("Unrolled linked list of ints against java.util.LinkedList")
+    void unrolledLinkedListInt() {
+        LOGGER.info("Starting unrolled linked list for ints");
+        RandomGenerator random = new SplittableRandom();
+        final PrimitiveUnrolledLinkedList.OfInt actual = new PrimitiveUnrolledLinkedList.OfInt();
+        final List<Integer> expected = new LinkedList<>();
+        for (int i = 0; i < 1 << 13; i++) {
+            final int e = random.nextInt(64);
+            switch (random.nextInt(4)) {
+                case 0 -> assertEquals(expected.add(e), actual.addInt(e));
+                case 1 -> {
+                    final int at = random.nextInt(expected.size() + 1);
+                    expected.add(at, e);
+                    actual.addInt(at, e);
+                }
+                case 2 -> {
+                    if (!expected.isEmpty()) {
+                        final int at = random.nextInt(expected.size());
+                        assertEquals((long) expected.remove(at), actual.removeElementAtIndex(at));
+                    }
+                }
+                default -> assertEquals(expected.remove((Integer) e), actual.removeInt(e));
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual.toArrayInt());
+        final ListIterator<Integer> eit = expected.listIterator();
+        final PrimitiveListIterator.OfInt ait = actual.listIteratorInt();
+        while (eit.hasNext()) {
+            final int e = eit.next();
+            assertEquals(e, ait.nextInt());
+            if (e % 5 == 0) {
+                eit.remove();
+                ait.remove();
+            } else if (e % 5 == 1) {
+                eit.add(-e);
+                ait.addInt(-e);
+            } else if (e % 5 == 2) {
+                eit.set(e * 2);
+                ait.setInt(e * 2);
+            }
+        }
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual.toArrayInt());
+        assertEquals(expected.removeIf(e -> e % 3 == 0), actual.removeIfInt(e -> e % 3 == 0));
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual.toArrayInt());
+
+        // a throwing predicate in a later node leaves the earlier nodes as they were
+        final int[] values = IntStream.range(0, 1024).toArray();
+        final PrimitiveUnrolledLinkedList.OfInt list = new PrimitiveUnrolledLinkedList.OfInt(values, 0, values.length);
+        assertThrows(IllegalStateException.class, () -> list.removeIfInt(e -> {
+            if (e == 1000) throw new IllegalStateException();
+            return e % 2 == 0;
+        }));
+        assertArrayEquals(values, list.toArrayInt());
+        assertEquals(values.length, list.size());
+    }
+    @Test
+    @Order(37)
+    @DisplayName("Gap buffer and rope of chars against java.lang.StringBuilder")
+    void gapBufferRopeChar() {
+        LOGGER.info("Starting gap buffer and rope for chars");
+        RandomGenerator random = new SplittableRandom();
+        final PrimitiveGapBuffer.OfChar gap = new PrimitiveGapBuffer.OfChar("seed");
+        final PrimitiveRope.OfChar rope = new PrimitiveRope.OfChar("seed");
+        final StringBuilder expected = new StringBuilder("seed");
+        // long enough for the rope to split into many leaves, with edits clustered like typing
+        int cursor = 0;
+        for (int i = 0; i < 1 << 13; i++) {
+            cursor = random.nextInt(8) == 0 ? random.nextInt(expected.length() + 1) : Math.min(cursor, expected.length());
+            switch (random.nextInt(5)) {
+                case 0, 1 -> {
+                    final char e = (char) ('a' + random.nextInt(26));
+                    expected.insert(cursor, e);
+                    gap.addChar(cursor, e);
+                    rope.addChar(cursor, e);
+                    cursor++;
+                }
+                case 2 -> {
+                    final char[] src = new char[random.nextInt(1, 3000)];
+                    for (int j = 0; j < src.length; j++) src[j] = (char) ('A' + random.nextInt(26));
+                    final int off = random.nextInt(src.length), len = random.nextInt(src.length - off + 1);
+                    expected.insert(cursor, src, off, len);
+                    gap.insertChars(cursor, src, off, len);
+                    rope.insertChars(cursor, src, off, len);
+                }
+                case 3 -> {
+                    if (cursor > 0) {
+                        cursor--;
+                        final char e = expected.charAt(cursor);
+                        expected.deleteCharAt(cursor);
+                        assertEquals(e, gap.removeElementAtIndex(cursor));
+                        assertEquals(e, rope.removeElementAtIndex(cursor));
+                    }
+                }
+                default -> {
+                    if (cursor < expected.length()) {
+                        final char e = expected.charAt(cursor);
+                        expected.setCharAt(cursor, '#');
+                        assertEquals(e, gap.setChar(cursor, '#'));
+                        assertEquals(e, rope.setChar(cursor, '#'));
+                    }
+                }
+            }
+            assertEquals(expected.length(), gap.size());
+            assertEquals(expected.length(), rope.size());
+        }
+        final String text = expected.toString();
+        assertEquals(text, gap.asCharSequence().toString());
+        assertEquals(text, rope.asCharSequence().toString());
+        assertArrayEquals(text.toCharArray(), gap.toArrayChar());
+        assertArrayEquals(text.toCharArray(), rope.toArrayChar());
+        final int from = text.length() / 3, to = 2 * text.length() / 3;
+        assertEquals(text.substring(from, to), rope.asCharSequence().subSequence(from, to).toString());
+        assertArrayEquals(text.substring(from, to).toCharArray(), gap.toArrayChar(from, to, new char[to - from]));
+        assertEquals(gap, rope);
+        assertEquals(gap.hashCode(), rope.hashCode());
+    }
+    @Test
+    @Order(38)
+    @DisplayName("Sparse list of doubles against dense arrays")
+    void sparseListDouble() {
+        LOGGER.info("Starting sparse list for doubles");
+        RandomGenerator random = new SplittableRandom();
+        // small integers keep every sum exact, whatever order it is taken in
+        final double[] a = new double[1 << 12], b = new double[a.length];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextInt(16) == 0 ? random.nextInt(-8, 8) : 0.0;
+            b[i] = random.nextInt(8) == 0 ? random.nextInt(-8, 8) : 3.0;
+        }
+        final PrimitiveSparseList.OfDouble x = new PrimitiveSparseList.OfDouble(a, 0.0);
+        final PrimitiveSparseList.OfDouble y = new PrimitiveSparseList.OfDouble(b, 3.0);
+        assertArrayEquals(a, x.toArrayDouble());
+        assertArrayEquals(b, y.toArrayDouble());
+        double dot = 0;
+        for (int i = 0; i < a.length; i++) dot += a[i] * b[i];
+        assertEquals(dot, x.dot(b));
+        assertEquals(dot, x.dot(y));
+        assertEquals(dot, y.dot(x));
+
+        // axpy writes into its argument and leaves the receiver alone
+        final double[] dense = Arrays.copyOf(b, b.length);
+        y.axpy(-2.0, dense);
+        for (int i = 0; i < b.length; i++) assertEquals(b[i] - 2.0 * b[i], dense[i]);
+        assertArrayEquals(b, y.toArrayDouble());
+        y.axpy(2.0, x);
+        assertArrayEquals(b, y.toArrayDouble());
+        final double[] sum = new double[a.length];
+        for (int i = 0; i < a.length; i++) sum[i] = 2.0 * b[i] + a[i];
+        assertArrayEquals(sum, x.toArrayDouble());
+        assertEquals(6.0, x.defaultValue());
+        int stored = 0;
+        for (double e : sum) if (e != 6.0) stored++;
+        assertEquals(stored, x.nonDefaultCount());
+
+        final List<Double> expected = new ArrayList<>(Arrays.stream(sum).boxed().toList());
+        for (int i = 0; i < 1 << 12; i++) {
+            final double e = random.nextInt(4) == 0 ? 6.0 : random.nextInt(-8, 8);
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    final int at = random.nextInt(expected.size() + 1);
+                    expected.add(at, e);
+                    x.addDouble(at, e);
+                }
+                case 1 -> {
+                    final int at = random.nextInt(expected.size());
+                    assertEquals((double) expected.remove(at), x.removeElementAtIndex(at));
+                }
+                default -> {
+                    final int at = random.nextInt(expected.size());
+                    assertEquals((double) expected.set(at, e), x.setDouble(at, e));
+                }
+            }
+        }
+        assertArrayEquals(expected.stream().mapToDouble(Double::doubleValue).toArray(), x.toArrayDouble());
+        assertEquals(expected.indexOf(5.0), x.indexOfDouble(5.0));
+        assertEquals(expected.lastIndexOf(6.0), x.lastIndexOfDouble(6.0));
+    }
+    @Test
+    @Order(39)
+    @DisplayName("Frozen int multimap against a map of lists")
+    void multimapInt() {
+        LOGGER.info("Starting multimap for ints");
+        RandomGenerator random = new SplittableRandom();
+        for (boolean dense : new boolean[] {true, false}) {
+            final PrimitiveMultimap.OfInt.Builder builder = new PrimitiveMultimap.OfInt.Builder();
+            final Map<Integer, List<Integer>> expected = new TreeMap<>();
+            // dense keys are exactly 0 to n - 1, which the map looks up without a search
+            for (int k = 0; dense && k < 64; k++) {
+                builder.putInt(k, -k);
+                expected.computeIfAbsent(k, x -> new ArrayList<>()).add(-k);
+            }
+            for (int i = 0; i < 1 << 12; i++) {
+                final int k = dense ? random.nextInt(64) : random.nextInt(-1 << 20, 1 << 20) & ~0xff;
+                final int v = random.nextInt();
+                builder.putInt(k, v);
+                expected.computeIfAbsent(k, x -> new ArrayList<>()).add(v);
+            }
+            final int[] batch = random.ints(100).toArray();
+            builder.putAllInt(7, batch, 10, 50);
+            for (int i = 10; i < 60; i++) expected.computeIfAbsent(7, x -> new ArrayList<>()).add(batch[i]);
+            final PrimitiveMultimap.OfInt actual = builder.freeze();
+
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expected, actual);
+            assertArrayEquals(expected.keySet().stream().mapToInt(Integer::intValue).toArray(), actual.keys());
+            int values = 0;
+            for (Map.Entry<Integer, List<Integer>> en : expected.entrySet()) {
+                final int k = en.getKey();
+                final int[] group = en.getValue().stream().mapToInt(Integer::intValue).toArray();
+                assertArrayEquals(group, actual.getInt(k).toArrayInt());
+                assertEquals(group.length, actual.countInt(k));
+                final int i = Arrays.binarySearch(actual.keys(), k);
+                assertArrayEquals(group, Arrays.copyOfRange(actual.targets(), actual.offsets()[i], actual.offsets()[i + 1]));
+                values += group.length;
+            }
+            assertEquals(values, actual.valueCount());
+            assertNull(actual.getInt(Integer.MAX_VALUE));
+            assertEquals(0, actual.countInt(Integer.MAX_VALUE));
+            assertThrows(UnsupportedOperationException.class, () -> actual.putInt(1, PrimitiveList.OfInt.of()));
+            assertThrows(UnsupportedOperationException.class, () -> actual.getInt(7).setInt(0, 1));
+        }
+    }
+    @Test
+    @Order(40)
+    @DisplayName("W-TinyLFU cache of long keys")
+    void cacheLong() {
+        LOGGER.info("Starting cache for long keys");
+        RandomGenerator random = new SplittableRandom();
+        final int maximumSize = 1000;
+        final Map<Long, String> evicted = new HashMap<>();
+        final PrimitiveCache.OfLong<String> actual = new PrimitiveCache.OfLong<>(maximumSize, (k, v) -> assertNull(evicted.put(k, v)));
+        // every key ever put is either still cached with its last value or was reported evicted
+        final Map<Long, String> written = new HashMap<>();
+        long hits = 0, misses = 0;
+        for (int i = 0; i < 1 << 15; i++) {
+            final long k = random.nextLong(4 * maximumSize);
+            if (random.nextBoolean()) {
+                evicted.remove(k);
+                actual.putLong(k, "v" + i);
+                written.put(k, "v" + i);
+            } else {
+                final String v = actual.getLong(k);
+                if (v == null) misses++;
+                else {
+                    hits++;
+                    assertEquals(written.get(k), v);
+                }
+            }
+            assertTrue(actual.size() <= maximumSize);
+        }
+        assertEquals(hits, actual.hitCount());
+        assertEquals(misses, actual.missCount());
+        for (Map.Entry<Long, String> en : written.entrySet()) {
+            final String cached = actual.peekLong(en.getKey());
+            if (cached == null) assertEquals(en.getValue(), evicted.get(en.getKey()));
+            else {
+                assertEquals(en.getValue(), cached);
+                assertFalse(evicted.containsKey(en.getKey()));
+            }
+        }
+        assertEquals(written.size(), actual.size() + evicted.size());
+
+        // a hot working set survives a scan of keys that are used once
+        actual.clear();
+        evicted.clear();
+        for (int round = 0; round < 8; round++) for (long k = 0; k < maximumSize / 2; k++) actual.computeIfAbsentLong(k, x -> "hot");
+        for (long k = 1 << 20; k < (1 << 20) + 20 * maximumSize; k++) actual.putLong(k, "cold");
+        int resident = 0;
+        for (long k = 0; k < maximumSize / 2; k++) if (actual.containsKeyLong(k)) resident++;
+        assertTrue(resident > maximumSize * 2 / 5);
+    }
+    @Test
+    @Order(41)
+    @DisplayName("Concurrent hash map of long keys against java.util.concurrent.ConcurrentHashMap")
+    void concurrentHashMapLong() throws InterruptedException {
+        LOGGER.info("Starting concurrent hash map for long keys");
+        RandomGenerator random = new SplittableRandom();
+        final PrimitiveConcurrentHashMap.OfLong.AndLong actual = new PrimitiveConcurrentHashMap.OfLong.AndLong(0, 0.75f, 4);
+        final ConcurrentMap<Long, Long> expected = new ConcurrentHashMap<>();
+        for (int i = 0; i < 1 << 14; i++) {
+            final long k = random.nextLong(-512, 512), v = random.nextLong(4);
+            switch (random.nextInt(6)) {
+                case 0 -> assertEquals(expected.putIfAbsent(k, v) == null, actual.putIfAbsentLong(k, v));
+                case 1 -> assertEquals(expected.replace(k, v, v + 1), actual.replaceLong(k, v, v + 1));
+                case 2 -> assertEquals(expected.remove(k, v), actual.removeLong(k, v));
+                case 3 -> assertEquals(expected.merge(k, v, Long::sum), (Long) actual.mergeLong(k, v, Long::sum));
+                case 4 -> assertEquals(expected.remove(k), actual.removeLong(k));
+                default -> assertEquals(expected.put(k, v), actual.putLong(k, (Long) v));
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertEquals(expected, actual);
+
+        // segments are rebuilt while several threads insert and count at once
+        final int threads = 4, perThread = 1 << 15, counters = 1024;
+        final PrimitiveConcurrentHashMap.OfLong.AndLong shared = new PrimitiveConcurrentHashMap.OfLong.AndLong(0, 0.75f, threads);
+        final Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            final long base = (long) (t + 1) << 32;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    shared.addToLong(i % counters, 1);
+                    shared.putIfAbsentLong(base + i, i);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) worker.join();
+        assertEquals(counters + threads * perThread, shared.size());
+        for (long k = 0; k < counters; k++) assertEquals((long) threads * perThread / counters, shared.getOrDefaultLong(k, -1));
+        for (int t = 0; t < threads; t++) {
+            final long base = (long) (t + 1) << 32;
+            for (int i = 0; i < perThread; i++) assertEquals(i, shared.getOrDefaultLong(base + i, -1));
+        }
+    }
+    @Test
+    @Order(42)
+    @DisplayName("Int counters against a map of counts")
+    void counterInt() throws InterruptedException {
+        LOGGER.info("Starting counters for ints");
+        RandomGenerator random = new SplittableRandom();
+        final PrimitiveCounter.OfInt actual = new PrimitiveCounter.OfInt();
+        final Map<Integer, Long> expected = new HashMap<>();
+        for (int i = 0; i < 1 << 15; i++) {
+            // a skewed distribution, so the top keys stand out
+            final int k = (int) Math.abs(random.nextGaussian() * 200);
+            assertEquals((long) expected.merge(k, 1L, Long::sum), actual.incrementInt(k));
+        }
+        assertEquals(1L << 15, actual.total());
+        for (int k = -10; k < 2000; k++) assertEquals((long) expected.getOrDefault(k, 0L), actual.countInt(k));
+        final Comparator<Map.Entry<Integer, Long>> byCount = Map.Entry.<Integer, Long>comparingByValue().reversed();
+        final int[] top = expected.entrySet().stream().sorted(byCount.thenComparing(Map.Entry.comparingByKey()))
+                .limit(20).mapToInt(Map.Entry::getKey).toArray();
+        assertArrayEquals(top, actual.topK(20));
+        assertEquals(expected.size(), actual.topK(Integer.MAX_VALUE).length);
+        final PrimitiveCounter.OfInt merged = actual.clone();
+        merged.mergeFrom(actual);
+        assertEquals(2 * actual.total(), merged.total());
+        assertArrayEquals(top, merged.topK(20));
+
+        // the striped counter sums what several threads count at once
+        final PrimitiveCounter.StripedOfInt striped = new PrimitiveCounter.StripedOfInt();
+        final Thread[] workers = new Thread[4];
+        for (int t = 0; t < workers.length; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < 1 << 15; i++) striped.incrementInt(i % 100);
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) worker.join();
+        for (int k = 0; k < 100; k++) assertEquals((long) workers.length * ((1 << 15) / 100 + (k < (1 << 15) % 100 ? 1 : 0)), striped.countInt(k));
+        assertEquals((long) workers.length << 15, striped.snapshot().total());
+    }
+    @Test
+    @Order(43)
+    @DisplayName("Range set of longs against java.util.BitSet")
+    void rangeSetLong() {
+        LOGGER.info("Starting range set for longs");
+        RandomGenerator random = new SplittableRandom();
+        final int bits = 1 << 12;
+        final PrimitiveRangeSet.OfLong[] actual = {new PrimitiveRangeSet.OfLong(), new PrimitiveRangeSet.OfLong()};
+        final BitSet[] expected = {new BitSet(bits), new BitSet(bits)};
+        for (int s = 0; s < 2; s++) {
+            for (int i = 0; i < 1 << 10; i++) {
+                final int from = random.nextInt(bits), to = Math.min(bits, from + random.nextInt(64));
+                final BitSet before = (BitSet) expected[s].clone();
+                if (random.nextInt(3) != 0) {
+                    expected[s].set(from, to);
+                    assertEquals(!before.equals(expected[s]), actual[s].addRange(from, to));
+                } else {
+                    expected[s].clear(from, to);
+                    assertEquals(!before.equals(expected[s]), actual[s].removeRange(from, to));
+                }
+                assertEquals(expected[s].cardinality(), actual[s].size());
+            }
+            // stored ranges are the maximal runs, so no two of them touch
+            int r = 0;
+            for (int i = expected[s].nextSetBit(0); i >= 0; i = expected[s].nextSetBit(expected[s].nextClearBit(i)), r++) {
+                assertEquals(i, actual[s].rangeFirstLong(r));
+                assertEquals(expected[s].nextClearBit(i) - 1, actual[s].rangeLastLong(r));
+            }
+            assertEquals(r, actual[s].rangeCount());
+            for (int i = 0; i < 256; i++) {
+                final int from = random.nextInt(bits), to = Math.min(bits, from + random.nextInt(64));
+                assertEquals(expected[s].get(from, to).cardinality() == to - from, actual[s].containsRange(from, to));
+                assertEquals(!expected[s].get(from, to).isEmpty(), actual[s].intersectsRange(from, to));
+            }
+        }
+        final BitSet and = (BitSet) expected[0].clone(), or = (BitSet) expected[0].clone(), andNot = (BitSet) expected[0].clone();
+        and.and(expected[1]);
+        or.or(expected[1]);
+        andNot.andNot(expected[1]);
+        assertArrayEquals(and.stream().asLongStream().toArray(), actual[0].intersection(actual[1]).toArrayLong());
+        assertArrayEquals(or.stream().asLongStream().toArray(), actual[0].union(actual[1]).toArrayLong());
+        assertArrayEquals(andNot.stream().asLongStream().toArray(), actual[0].difference(actual[1]).toArrayLong());
+        final PrimitiveRangeSet.OfLong complement = actual[0].complement();
+        assertTrue(complement.containsLong(Long.MIN_VALUE) && complement.containsLong(Long.MAX_VALUE));
+        for (int i = -1; i <= bits; i++) assertEquals(i < 0 || !expected[0].get(i), complement.containsLong(i));
+        assertEquals(expected[0].stream().asLongStream().boxed().collect(Collectors.toSet()).hashCode(), actual[0].hashCode());
+
+        // ranges are half-open here as in PrimitiveRoaringSet and PrimitiveBitmapSet
+        final PrimitiveRangeSet.OfLong range = PrimitiveRangeSet.OfLong.ofRange(10, 20);
+        final PrimitiveRoaringSet.OfInt roaring = new PrimitiveRoaringSet.OfInt();
+        roaring.addRangeInt(10, 20);
+        final PrimitiveBitmapSet.OfShort bitmap = new PrimitiveBitmapSet.OfShort();
+        bitmap.addRangeShort((short) 10, (short) 20);
+        assertEquals(10, range.size());
+        assertEquals(roaring.size(), range.size());
+        assertEquals(bitmap.size(), range.size());
+        assertEquals(19L, range.lastLong());
+        assertFalse(range.containsLong(20));
+        assertFalse(range.addRange(15, 15));
+        assertThrows(IllegalArgumentException.class, () -> range.addRange(20, 10));
+        final PrimitiveRangeSet.OfLong top = PrimitiveRangeSet.OfLong.ofRange(Long.MAX_VALUE - 1, Long.MAX_VALUE);
+        assertTrue(top.addLong(Long.MAX_VALUE));
+        assertEquals(2, top.size());
+
+        // past either end the unboxed navigation throws while the boxed one returns null
+        assertNull(range.higher(19L));
+        assertNull(range.lower(10L));
+        assertThrows(NoSuchElementException.class, () -> range.higherLong(19));
+        assertThrows(NoSuchElementException.class, () -> range.ceilingLong(20));
+        assertThrows(NoSuchElementException.class, () -> range.lowerLong(10));
+        assertThrows(NoSuchElementException.class, () -> range.floorLong(9));
+        assertEquals(15L, range.ceilingLong(15));
+        range.clear();
+        assertEquals(0L, range.pollFirstLong());
+    }
+    @Test
+    @Order(44)
+    @DisplayName("Searching sub-lists of doubles against java.util.ArrayList")
+    void arrayListDoubleSubList() {
+        LOGGER.info("Starting sub-list searches for doubles");
+        RandomGenerator random = new SplittableRandom();
+        final double[] values = new double[256];
+        for (int i = 0; i < values.length; i++) values[i] = random.nextInt(16) == 0 ? Double.NaN : random.nextInt(32);
+        final PrimitiveArrayList.OfDouble actual = new PrimitiveArrayList.OfDouble(values, 0, values.length);
+        final List<Double> expected = new ArrayList<>(Arrays.stream(values).boxed().toList());
+        // the sub-lists search through the inherited list iterator
+        for (int i = 0; i < 256; i++) {
+            final int from = random.nextInt(values.length), to = random.nextInt(from, values.length + 1);
+            final List<Double> sub = expected.subList(from, to);
+            final PrimitiveList.OfDouble subActual = actual.subListDouble(from, to);
+            for (double e : new double[] {random.nextInt(34), Double.NaN}) {
+                assertEquals(sub.indexOf(e), subActual.indexOfDouble(e));
+                assertEquals(sub.lastIndexOf(e), subActual.lastIndexOfDouble(e));
+                assertEquals(sub.contains(e), subActual.containsDouble(e));
+            }
+        }
+        final PrimitiveArrayList.OfDouble small = new PrimitiveArrayList.OfDouble(new double[] {1, 2, 3, 4, 5, 6}, 0, 6);
+        assertEquals(1, small.subListDouble(0, 6).indexOfDouble(2));
+        assertEquals(1, small.subListDouble(0, 5).lastIndexOfDouble(2));
+        assertTrue(small.subListDouble(0, 5).containsDouble(4));
+    }
+    @Test
+    @Order(45)
+    @DisplayName("Parallel co-sort with a throwing comparator")
+    void coSortThrowing() throws InterruptedException {
+        LOGGER.info("Starting parallel co-sort with a throwing comparator");
+        RandomGenerator random = new SplittableRandom();
+        final long[] keys = new long[1 << 18];
+        final int[] payload = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong(keys.length);
+            payload[i] = i;
+        }
+        final long[] original = Arrays.copyOf(keys, keys.length);
+        final AtomicInteger calls = new AtomicInteger();
+        final PrimitiveComparator.OfLong failing = (x, y) -> {
+            if (calls.incrementAndGet() == 1 << 20) throw new IllegalStateException();
+            return Long.compare(x, y);
+        };
+        assertThrows(IllegalStateException.class, () -> PrimitiveCoSort.parallelSort(keys, failing, payload));
+        // every worker has stopped, so the arrays no longer change and still agree
+        final long[] seen = Arrays.copyOf(keys, keys.length);
+        Thread.sleep(50);
+        assertArrayEquals(seen, keys);
+        final long[] carried = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) carried[i] = original[payload[i]];
+        assertArrayEquals(keys, carried);
+    }
+    @Test
+    @Order(46)
+    @DisplayName("Parallel radix sort for double arrays")
+    void parallelRadixDoubleSort() {
+        LOGGER.info("Starting parallel radix sort for doubles");
+        RandomGenerator random = new SplittableRandom();
+        final double[] actual = new double[PARALLEL_RADIX_LENGTH];
+        for (int i = 0; i < actual.length; i++) actual[i] = random.nextInt(8) == 0 ? -0.0 : random.nextInt(8) == 0 ? Double.NaN : random.nextInt(8) == 0 ? 0.0 : random.nextGaussian();
+        final double[] expected = Arrays.copyOf(actual, actual.length);
+        Arrays.sort(expected);
+        PrimitiveRadixSort.ofDouble(4).sort(actual, null);
+        assertArrayEquals(expected, actual);
+    }
+    @Test
+    @Order(47)
+    @DisplayName("Parallel radix sort for long arrays")
+    void parallelRadixLongSort() {
+        LOGGER.info("Starting parallel radix sort for longs");
+        RandomGenerator random = new SplittableRandom();
+        // small keys leave the high bytes equal, so those passes are skipped
+        final long[] actual = new long[PARALLEL_RADIX_LENGTH];
+        for (int i = 0; i < actual.length; i++) actual[i] = random.nextBoolean() ? random.nextLong() : random.nextLong(-1000, 1000);
+        final long[] expected = Arrays.copyOf(actual, actual.length);
+        Arrays.sort(expected);
+        PrimitiveRadixSort.ofLong(4).sort(actual, null);
+        assertArrayEquals(expected, actual);
+        for (int i = 0; i < actual.length; i++) actual[i] = random.nextLong(1 << 12);
+        final long[] small = Arrays.copyOf(actual, actual.length);
+        Arrays.sort(small);
+        PrimitiveRadixSort.ofLong(4).sort(actual, null);
+        assertArrayEquals(small, actual);
+    }
+    @Test
+    @Order(48)
+    @DisplayName("Parallel radix sort for int arrays")
+    void parallelRadixIntSort() {
+        LOGGER.info("Starting parallel radix sort for ints");
+        RandomGenerator random = new SplittableRandom();
+        final int[] actual = new int[PARALLEL_RADIX_LENGTH];
+        for (int i = 0; i < actual.length; i++) actual[i] = random.nextBoolean() ? random.nextInt() : random.nextInt(-1000, 1000);
+        final int[] expected = Arrays.copyOf(actual, actual.length);
+        Arrays.sort(expected);
+        PrimitiveRadixSort.ofInt(4).sort(actual, null);
+        assertArrayEquals(expected, actual);
+    }
+    @Test
+    @Order(49)
+    @DisplayName("Parallel radix sort for float arrays")
+    void parallelRadixFloatSort() {
+        LOGGER.info("Starting parallel radix sort for floats");
+        RandomGenerator random = new SplittableRandom();
+        final float[] actual = new float[PARALLEL_RADIX_LENGTH];
+        for (int i = 0; i < actual.length; i++) actual[i] = random.nextInt(8) == 0 ? -0.0f : random.nextInt(8) == 0 ? Float.NaN : random.nextInt(8) == 0 ? 0.0f : (float) random.nextGaussian();
+        final float[] expected = Arrays.copyOf(actual, actual.length);
+        Arrays.sort(expected);
+        PrimitiveRadixSort.ofFloat(4).sort(actual, null);
+        assertArrayEquals(expected, actual);
+    }
+
 }